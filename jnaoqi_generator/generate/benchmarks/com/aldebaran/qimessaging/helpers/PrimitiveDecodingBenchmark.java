@@ -0,0 +1,153 @@
+package com.aldebaran.qimessaging.helpers;
+
+import com.aldebaran.qimessaging.CallError;
+import com.aldebaran.qimessaging.DynamicObjectBuilder;
+import com.aldebaran.qimessaging.QimessagingService;
+import com.aldebaran.qimessaging.ServiceDirectory;
+import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.al.ALMotion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the boxed and primitive variants of a generated method
+ * returning a numeric list, ALMotion.getAngles for every body joint.
+ *
+ * The ALMotion service is faked in process: a local ServiceDirectory, a
+ * session registering an object advertising getAngles, and a second
+ * session the wrapper calls through, so each variant runs the generated
+ * code and the JNI conversion of the answer into an ArrayList of Float.
+ * The decode benchmarks leave the transport out: each builds that list
+ * the way the bindings do, then reads it like the matching wrapper method.
+ * Run with -prof gc to compare the allocation rates. Run from the generate
+ * directory with jmh-core and jmh-generator-annprocess on the classpath,
+ * the qimessaging jar of the platform carries the native libraries:
+ * <pre>
+ * javac -cp src:$QI:$JMH -d bench-out $(find src benchmarks -name '*.java')
+ * java -cp bench-out:$QI:$JMH org.openjdk.jmh.Main PrimitiveDecodingBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PrimitiveDecodingBenchmark {
+
+    @Param({"26"})
+    public int joints;
+
+    private ServiceDirectory directory;
+    private Session server;
+    private Session client;
+    private ALMotion motion;
+    private float[] angles;
+
+    @Setup
+    public void setUp() throws Exception {
+        directory = new ServiceDirectory();
+        server = new Session();
+        server.connect(directory.listenUrl()).get();
+        DynamicObjectBuilder builder = new DynamicObjectBuilder();
+        builder.advertiseMethod("getAngles::[f](mb)", new FakeMotion(joints), "Angles of the fake joints");
+        server.registerService("ALMotion", builder.object());
+        client = new Session();
+        client.connect(directory.listenUrl()).get();
+        motion = new ALMotion(client);
+        angles = new float[joints];
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+        server.close();
+        directory.close();
+    }
+
+    @Benchmark
+    public float boxed() throws CallError, InterruptedException {
+        return sum(motion.getAngles("Body", true));
+    }
+
+    @Benchmark
+    public float toArray() throws CallError, InterruptedException {
+        return sum(motion.getAnglesF("Body", true));
+    }
+
+    @Benchmark
+    public float into() throws CallError, InterruptedException {
+        return sum(angles, motion.getAnglesInto(angles, "Body", true));
+    }
+
+    @Benchmark
+    public float decodeBoxed() {
+        return sum(answer());
+    }
+
+    @Benchmark
+    public float decodeToArray() {
+        return sum(ALModule.toFloatArray(answer()));
+    }
+
+    @Benchmark
+    public float decodeInto() {
+        return sum(angles, ALModule.copyInto(answer(), angles));
+    }
+
+    /**
+     * Builds the list the bindings hand to the wrapper, boxing every value.
+     */
+    private List<Float> answer() {
+        ArrayList<Float> answer = new ArrayList<Float>(joints);
+        for (int i = 0; i < joints; i++)
+            answer.add(i * 0.01f);
+        return answer;
+    }
+
+    private static float sum(List<Float> values) {
+        float sum = 0;
+        for (Float value : values)
+            sum += value;
+        return sum;
+    }
+
+    private static float sum(float[] values) {
+        return sum(values, values.length);
+    }
+
+    private static float sum(float[] values, int count) {
+        float sum = 0;
+        for (int i = 0; i < count; i++)
+            sum += values[i];
+        return sum;
+    }
+
+    /**
+     * ALMotion service answering getAngles with fixed values. Public so
+     * that qimessaging can reach it.
+     */
+    public static class FakeMotion extends QimessagingService {
+
+        private final int joints;
+
+        public FakeMotion(int joints) {
+            this.joints = joints;
+        }
+
+        public ArrayList<Float> getAngles(java.lang.Object names, Boolean useSensors) {
+            ArrayList<Float> angles = new ArrayList<Float>(joints);
+            for (int i = 0; i < joints; i++)
+                angles.add(i * 0.01f);
+            return angles;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.aldebaran.qimessaging.helpers.video;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of {@link ColorConverter} on one kVGA image held in a
+ * direct buffer, as filled by a {@link FrameGrabber}.
+ *
+ * convert runs for every supported colorspace, on the calling thread and
+ * split in four parts. perPixelRgb is the loop of the desktop examples,
+ * copying a kRGB image to a byte array and reading three bytes per pixel,
+ * to compare with convert at kRGB and one part. Run from the generate
+ * directory with jmh-core and jmh-generator-annprocess on the classpath:
+ * <pre>
+ * javac -cp src:$JMH -d bench-out $(find src benchmarks -name '*.java')
+ * java -cp bench-out:$JMH org.openjdk.jmh.Main ColorConverterBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ColorConverterBenchmark {
+
+    private static final int WIDTH = 640;
+    private static final int HEIGHT = 480;
+
+    @State(Scope.Thread)
+    public static class Conversion {
+
+        @Param({"9", "10", "11", "12", "13"})
+        public int colorSpace;
+
+        @Param({"1", "4"})
+        public int parts;
+
+        ByteBuffer image;
+        int[] pixels;
+        ExecutorService executor;
+        ColorConverter converter;
+
+        @Setup
+        public void setUp() {
+            image = image(colorSpace);
+            pixels = new int[WIDTH * HEIGHT];
+            if (parts > 1) {
+                executor = Executors.newFixedThreadPool(parts);
+                converter = new ColorConverter(executor, parts);
+            } else {
+                converter = new ColorConverter();
+            }
+        }
+
+        @TearDown
+        public void tearDown() {
+            if (executor != null)
+                executor.shutdownNow();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Baseline {
+
+        ByteBuffer image;
+        int[] pixels;
+        byte[] copy;
+
+        @Setup
+        public void setUp() {
+            image = image(ColorSpace.kRGB);
+            pixels = new int[WIDTH * HEIGHT];
+            copy = new byte[WIDTH * HEIGHT * 3];
+        }
+    }
+
+    @Benchmark
+    public int[] convert(Conversion state) {
+        return state.converter.toArgb(state.image, WIDTH, HEIGHT, state.colorSpace, state.pixels);
+    }
+
+    @Benchmark
+    public int[] perPixelRgb(Baseline state) {
+        byte[] copy = state.copy;
+        int[] pixels = state.pixels;
+        state.image.duplicate().get(copy);
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = 0xFF000000
+                    | ((copy[i * 3] & 0xFF) << 16)
+                    | ((copy[i * 3 + 1] & 0xFF) << 8)
+                    | (copy[i * 3 + 2] & 0xFF);
+        }
+        return pixels;
+    }
+
+    /**
+     * @return a direct buffer holding one image of random pixels
+     */
+    static ByteBuffer image(int colorSpace) {
+        byte[] bytes = new byte[WIDTH * HEIGHT * ColorSpace.layers(colorSpace)];
+        new Random(42).nextBytes(bytes);
+        ByteBuffer image = ByteBuffer.allocateDirect(bytes.length);
+        image.put(bytes).flip();
+        return image;
+    }
+}
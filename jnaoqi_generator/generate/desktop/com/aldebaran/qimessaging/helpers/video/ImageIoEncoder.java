@@ -0,0 +1,73 @@
+package com.aldebaran.qimessaging.helpers.video;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Writes frames as PNG or JPEG images through javax.imageio.
+ *
+ * Pixels are converted by a {@link ColorConverter} straight into the raster
+ * of a TYPE_INT_RGB image kept per worker thread, reallocated only when the
+ * frame size changes. javax.imageio and java.awt are not available on
+ * Android, so this encoder lives in the jnaoqi-desktop module and is left
+ * out of the library jars; an Android FrameEncoder would wrap
+ * Bitmap.compress instead.
+ *
+ * <pre>
+ * FrameWriter writer = new FrameWriter(ImageIoEncoder.png(), 2, 8);
+ * </pre>
+ */
+public class ImageIoEncoder implements FrameEncoder {
+
+    private final String format;
+    private final ThreadLocal<Scratch> scratch = new ThreadLocal<Scratch>() {
+        @Override
+        protected Scratch initialValue() {
+            return new Scratch();
+        }
+    };
+
+    /**
+     * @param format  informal name of an ImageIO writer, such as "png" or "jpg"
+     */
+    public ImageIoEncoder(String format) {
+        if (!ImageIO.getImageWritersByFormatName(format).hasNext())
+            throw new IllegalArgumentException("No ImageIO writer for " + format);
+        this.format = format;
+    }
+
+    public static ImageIoEncoder png() {
+        return new ImageIoEncoder("png");
+    }
+
+    public static ImageIoEncoder jpeg() {
+        return new ImageIoEncoder("jpg");
+    }
+
+    public String getExtension() {
+        return format;
+    }
+
+    public void encode(Frame frame, WritableByteChannel channel) throws IOException {
+        Scratch local = scratch.get();
+        BufferedImage image = local.image;
+        if (image == null || image.getWidth() != frame.getWidth() || image.getHeight() != frame.getHeight()) {
+            image = new BufferedImage(frame.getWidth(), frame.getHeight(), BufferedImage.TYPE_INT_RGB);
+            local.image = image;
+        }
+        int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        local.converter.toArgb(frame, pixels);
+        if (!ImageIO.write(image, format, Channels.newOutputStream(channel)))
+            throw new IOException("No ImageIO writer for " + format);
+    }
+
+    private static class Scratch {
+
+        final ColorConverter converter = new ColorConverter();
+        BufferedImage image;
+    }
+}
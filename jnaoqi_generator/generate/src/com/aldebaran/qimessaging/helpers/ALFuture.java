@@ -0,0 +1,248 @@
+package com.aldebaran.qimessaging.helpers;
+
+import com.aldebaran.qimessaging.Callback;
+import com.aldebaran.qimessaging.CallError;
+import com.aldebaran.qimessaging.Future;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Result of an asynchronous call made through a generated wrapper.
+ *
+ * The future is completed from the qimessaging callback thread, so no caller
+ * thread is parked while the call is in flight. Listeners registered with
+ * {@link #addListener(ALFutureListener)} run on the completing thread, use
+ * {@link #addListener(ALFutureListener, Executor)} to move slow work elsewhere.
+ */
+public class ALFuture<T> implements java.util.concurrent.Future<T> {
+
+    private final CountDownLatch latch = new CountDownLatch(1);
+    private final List<Runnable> listeners = new ArrayList<Runnable>();
+    private Future<T> source;
+    private boolean done;
+    private boolean cancelled;
+    private T value;
+    private Throwable error;
+
+    public ALFuture() {
+    }
+
+    /**
+     * Bridges a qimessaging future. The returned future completes when the
+     * remote call returns, without blocking any thread.
+     */
+    public static <T> ALFuture<T> of(Future<T> future) {
+        ALFuture<T> result = new ALFuture<T>();
+        result.source = future;
+        if (!future.addCallback(new Bridge<T>(result))) {
+            if (future.isDone())
+                Bridge.complete(future, result);
+            else
+                result.setException(new CallError("Unable to watch call result"));
+        }
+        return result;
+    }
+
+    /**
+     * @return a future already completed with the given value
+     */
+    public static <T> ALFuture<T> completed(T value) {
+        ALFuture<T> result = new ALFuture<T>();
+        result.set(value);
+        return result;
+    }
+
+    /**
+     * @return a future already failed with the given error
+     */
+    public static <T> ALFuture<T> failed(Throwable error) {
+        ALFuture<T> result = new ALFuture<T>();
+        result.setException(error);
+        return result;
+    }
+
+    /**
+     * Combines several futures into one holding their results in the same
+     * order. Fails as soon as one of them fails.
+     */
+    public static ALFuture<List<Object>> all(List<? extends ALFuture<?>> futures) {
+        final ALFuture<List<Object>> result = new ALFuture<List<Object>>();
+        final Object[] values = new Object[futures.size()];
+        final AtomicInteger remaining = new AtomicInteger(values.length);
+        if (values.length == 0)
+            result.set(new ArrayList<Object>());
+        for (int i = 0; i < values.length; i++) {
+            final int index = i;
+            futures.get(i).addListener(new ALFutureListener<Object>() {
+                public void onSuccess(Object value) {
+                    values[index] = value;
+                    if (remaining.decrementAndGet() == 0)
+                        result.set(Arrays.asList(values));
+                }
+
+                public void onFailure(Throwable error) {
+                    result.setException(error);
+                }
+            });
+        }
+        return result;
+    }
+
+    /**
+     * Completes the future with a value.
+     * @return false if the future was already done
+     */
+    public boolean set(T value) {
+        return complete(value, null, false);
+    }
+
+    /**
+     * Completes the future with an error.
+     * @return false if the future was already done
+     */
+    public boolean setException(Throwable error) {
+        return complete(null, error, false);
+    }
+
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        if (!complete(null, new CancellationException(), true))
+            return false;
+        if (source != null)
+            source.cancel();
+        return true;
+    }
+
+    public synchronized boolean isCancelled() {
+        return cancelled;
+    }
+
+    public synchronized boolean isDone() {
+        return done;
+    }
+
+    public T get() throws InterruptedException, ExecutionException {
+        latch.await();
+        return result();
+    }
+
+    public T get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        if (!latch.await(timeout, unit))
+            throw new TimeoutException();
+        return result();
+    }
+
+    /**
+     * Registers a listener run on the thread that completes the future, or
+     * immediately on the caller thread if the future is already done.
+     */
+    public void addListener(ALFutureListener<? super T> listener) {
+        addListener(listener, null);
+    }
+
+    /**
+     * Registers a listener run through the given executor once the future is done.
+     */
+    public void addListener(final ALFutureListener<? super T> listener, final Executor executor) {
+        final Runnable notify = new Runnable() {
+            public void run() {
+                Throwable failure;
+                T result;
+                synchronized (ALFuture.this) {
+                    failure = error;
+                    result = value;
+                }
+                if (failure == null)
+                    listener.onSuccess(result);
+                else
+                    listener.onFailure(failure);
+            }
+        };
+        Runnable task = notify;
+        if (executor != null) {
+            task = new Runnable() {
+                public void run() {
+                    executor.execute(notify);
+                }
+            };
+        }
+        synchronized (this) {
+            if (!done) {
+                listeners.add(task);
+                return;
+            }
+        }
+        task.run();
+    }
+
+    private synchronized T result() throws ExecutionException {
+        if (cancelled)
+            throw (CancellationException) error;
+        if (error != null)
+            throw new ExecutionException(error);
+        return value;
+    }
+
+    private boolean complete(T value, Throwable error, boolean cancelled) {
+        List<Runnable> toRun;
+        synchronized (this) {
+            if (done)
+                return false;
+            this.done = true;
+            this.value = value;
+            this.error = error;
+            this.cancelled = cancelled;
+            toRun = new ArrayList<Runnable>(listeners);
+            listeners.clear();
+        }
+        latch.countDown();
+        for (Runnable listener : toRun)
+            listener.run();
+        return true;
+    }
+
+    /**
+     * Native callback registered on the qimessaging future. Kept as a named
+     * class because the JNI layer resolves it by class name.
+     */
+    private static class Bridge<T> implements Callback<T> {
+
+        private final ALFuture<T> target;
+
+        Bridge(ALFuture<T> target) {
+            this.target = target;
+        }
+
+        static <T> void complete(Future<T> future, ALFuture<T> target) {
+            if (future.isCancelled()) {
+                target.cancel(false);
+                return;
+            }
+            try {
+                target.set(future.get());
+            } catch (Exception e) {
+                target.setException(e);
+            }
+        }
+
+        public void onSuccess(Future<T> future, Object[] args) {
+            complete(future, target);
+        }
+
+        public void onFailure(Future<T> future, Object[] args) {
+            complete(future, target);
+        }
+
+        public void onComplete(Future<T> future, Object[] args) {
+            complete(future, target);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.aldebaran.qimessaging.helpers;
+
+/**
+ * Receives the outcome of an {@link ALFuture} once it is done.
+ */
+public interface ALFutureListener<T> {
+
+    public void onSuccess(T result);
+
+    public void onFailure(Throwable error);
+}
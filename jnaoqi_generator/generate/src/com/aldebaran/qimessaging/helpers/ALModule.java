@@ -2,27 +2,177 @@ package com.aldebaran.qimessaging.helpers;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.event.ALEvent;
+import com.aldebaran.qimessaging.helpers.event.EventConsumer;
+import com.aldebaran.qimessaging.helpers.event.EventSubscription;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Created by erwan on 01/05/2014.
  */
 public class ALModule {
 
+    /**
+     * @deprecated null until the first call, the proxy is now resolved
+     * lazily, use {@link #service()}
+     */
+    @Deprecated
     protected com.aldebaran.qimessaging.Object service;
     protected boolean isAsynchronous = false;
+
+    /**
+     * Notified from the constructor of every wrapper, which looks up its
+     * service right away when this is set, as it always did.
+     * @deprecated shared by every wrapper of every session, register a
+     * {@link ServiceListener} on the module or on its {@link ServiceRegistry} instead
+     */
+    @Deprecated
     public static ALInterface alInterface;
 
+    private final ServiceRegistry registry;
+    private final String serviceName;
+    private final List<ServiceListener> listeners = new CopyOnWriteArrayList<ServiceListener>();
+    /** Whether the last lookup succeeded, null before the first one */
+    private final AtomicReference<Boolean> ready = new AtomicReference<Boolean>();
+
+    /**
+     * Creates the wrapper without contacting the robot, the service is
+     * looked up on first call and shared with the other wrappers of the
+     * same service on this session. When {@link #alInterface} is set the
+     * service is looked up before returning, so that it is notified.
+     */
     public ALModule(Session session) {
+        registry = ServiceRegistry.of(session);
+        serviceName = getClass().getSimpleName();
+        if (alInterface != null) {
+            try {
+                service();
+            } catch (CallError e) {
+                // Reported to alInterface
+            }
+        }
+    }
+
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    /**
+     * @return the registry sharing service proxies on the session of this wrapper
+     */
+    public ServiceRegistry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * Registers a listener notified when the service of this wrapper becomes
+     * available or unavailable, on the first call and whenever a call
+     * changes that state.
+     */
+    public void addServiceListener(ServiceListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeServiceListener(ServiceListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * @return the proxy of the service, resolved through the session registry
+     */
+    protected com.aldebaran.qimessaging.Object service() throws CallError {
         try {
-            service = session.service(getClass().getSimpleName());
-            if(alInterface != null)
+            com.aldebaran.qimessaging.Object service = registry.get(serviceName);
+            this.service = service;
+            if (!Boolean.TRUE.equals(ready.getAndSet(true)))
+                notifyListeners(null);
+            return service;
+        } catch (CallError e) {
+            // Only the first failure after a success, or ever, is reported
+            if (!Boolean.FALSE.equals(ready.getAndSet(false)))
+                notifyListeners(e);
+            throw e;
+        }
+    }
+
+    private void notifyListeners(Exception error) {
+        ServiceEvent event = registry.getLastEvent(serviceName);
+        if (event == null || event.isReady() != (error == null))
+            event = new ServiceEvent(registry.getSession(), serviceName, 0, 0, error);
+        registry.dispatch(listeners, event);
+        if(alInterface != null) {
+            if (error == null)
                 alInterface.onALModuleReady();
-        } catch (Exception e) {
-            if(alInterface != null)
-                alInterface.onALModuleException(e);
+            else
+                alInterface.onALModuleException(error);
         }
     }
 
+    /**
+     * Records a subscription in the open {@link SubscriptionScope}s of the
+     * session, along with the call undoing it.
+     */
+    protected void recordSubscription(String undoMethod, Object... undoArguments) {
+        registry.recordSubscription(serviceName, undoMethod, undoArguments);
+    }
+
+    /**
+     * Records a subscription once the asynchronous call subscribing succeeds.
+     */
+    protected <T> ALFuture<T> recordSubscription(ALFuture<T> call, final String undoMethod, final Object... undoArguments) {
+        call.addListener(new ALFutureListener<T>() {
+            public void onSuccess(T result) {
+                recordSubscription(undoMethod, undoArguments);
+            }
+
+            public void onFailure(Throwable error) {
+            }
+        });
+        return call;
+    }
+
+    /**
+     * Records a subscription undone by passing its handle, the result of
+     * the asynchronous call subscribing, to the undo method.
+     */
+    protected <T> ALFuture<T> recordSubscriptionHandle(ALFuture<T> call, final String undoMethod) {
+        call.addListener(new ALFutureListener<T>() {
+            public void onSuccess(T handle) {
+                recordSubscription(undoMethod, handle);
+            }
+
+            public void onFailure(Throwable error) {
+            }
+        });
+        return call;
+    }
+
+    /**
+     * Forgets a subscription once the call undoing it succeeds.
+     */
+    protected void forgetSubscription(String undoMethod, Object... undoArguments) {
+        registry.forgetSubscription(serviceName, undoMethod, undoArguments);
+    }
+
+    /**
+     * Forgets a subscription once the asynchronous call undoing it succeeds.
+     */
+    protected <T> ALFuture<T> forgetSubscription(ALFuture<T> call, final String undoMethod, final Object... undoArguments) {
+        call.addListener(new ALFutureListener<T>() {
+            public void onSuccess(T result) {
+                forgetSubscription(undoMethod, undoArguments);
+            }
+
+            public void onFailure(Throwable error) {
+            }
+        });
+        return call;
+    }
+
     public boolean isAsynchronous() {
         return isAsynchronous;
     }
@@ -31,11 +181,74 @@ public class ALModule {
         this.isAsynchronous = isAsynchronous;
     }
 
+    /**
+     * Unboxes a numeric list returned by a call into a new float array.
+     */
+    protected static float[] toFloatArray(List<? extends Number> values) {
+        float[] result = new float[values.size()];
+        copyInto(values, result);
+        return result;
+    }
+
+    /**
+     * Unboxes a numeric list returned by a call into a new int array.
+     */
+    protected static int[] toIntArray(List<? extends Number> values) {
+        int[] result = new int[values.size()];
+        copyInto(values, result);
+        return result;
+    }
+
+    /**
+     * Unboxes a numeric list into a caller supplied buffer.
+     * @return number of values written
+     */
+    protected static int copyInto(List<? extends Number> values, float[] dst) {
+        int size = values.size();
+        if (dst.length < size)
+            throw new IllegalArgumentException("Buffer too small: " + dst.length + " < " + size);
+        for (int i = 0; i < size; i++)
+            dst[i] = values.get(i).floatValue();
+        return size;
+    }
+
+    /**
+     * Unboxes a numeric list into a caller supplied buffer.
+     * @return number of values written
+     */
+    protected static int copyInto(List<? extends Number> values, int[] dst) {
+        int size = values.size();
+        if (dst.length < size)
+            throw new IllegalArgumentException("Buffer too small: " + dst.length + " < " + size);
+        for (int i = 0; i < size; i++)
+            dst[i] = values.get(i).intValue();
+        return size;
+    }
+
 	public void subscribeToEvent(String event, String signature, Object callback) throws Exception {
 		subscriber(event).connect("signal", signature, callback);
 	}
 
+	/**
+	 * Subscribes to a typed event, its values being decoded before reaching the consumer.
+	 * @return the subscription, to unsubscribe
+	 */
+	public <T> EventSubscription<T> subscribeToEvent(ALEvent<T> event, EventConsumer<? super T> consumer) throws Exception {
+		return EventSubscription.connect(subscriber(event.getName()), event, consumer);
+	}
+
+	/**
+	 * Subscribes to a typed event, the consumer receiving at most one value per interval.
+	 * ALMemory skips the values in between on the robot when it accepts a time policy,
+	 * they are coalesced locally otherwise.
+	 * @return the subscription, to unsubscribe
+	 */
+	public <T> EventSubscription<T> subscribeToEvent(ALEvent<T> event, EventConsumer<? super T> consumer,
+			long minInterval, TimeUnit unit) throws Exception {
+		return EventSubscription.connect(registry, event, consumer, minInterval, unit);
+	}
+
 	public com.aldebaran.qimessaging.Object subscriber(String eventName) throws CallError, InterruptedException {
-		return (com.aldebaran.qimessaging.Object)service.call("subscriber", eventName).get();
+		return (com.aldebaran.qimessaging.Object)service().call("subscriber", eventName).get();
 	}
 }
@@ -0,0 +1,65 @@
+package com.aldebaran.qimessaging.helpers;
+
+import com.aldebaran.qimessaging.CallError;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects the futures returned by the generated Async methods of several
+ * modules, so a run of independent calls is sent back to back and awaited
+ * together, costing roughly one round trip instead of one per call.
+ *
+ * <pre>
+ * CallBatch batch = new CallBatch(tts, motion, awareness);
+ * batch.add(tts.sayAsync("hello"));
+ * batch.add(motion.wakeUpAsync());
+ * batch.add(awareness.setEngagementModeAsync("SemiEngaged"));
+ * batch.all().get();
+ * </pre>
+ *
+ * Creating the batch looks up the services of the given modules in
+ * parallel, so that the Async methods afterwards only send their request.
+ * Each call is sent when its Async method is called, and the calls of one
+ * session share its connection, so a service receives them in the order
+ * they were made. Whether it also runs them in that order depends on the
+ * service: a call that must wait for the end of another one has to be made
+ * from a listener of the other future, at the cost of one more round trip.
+ */
+public class CallBatch {
+
+    private final List<ALFuture<?>> calls = new ArrayList<ALFuture<?>>();
+
+    /**
+     * Resolves the services of the modules the batch will call, waiting for
+     * the lookups to complete.
+     * @throws CallError if one of the services is not available
+     */
+    public CallBatch(ALModule... modules) throws CallError {
+        for (ALModule module : modules)
+            module.getRegistry().prefetch(module.getServiceName());
+        for (ALModule module : modules)
+            module.service();
+    }
+
+    /**
+     * Adds a call made through a generated Async method.
+     * @return the future of the call, for chaining
+     */
+    public synchronized <T> ALFuture<T> add(ALFuture<T> call) {
+        calls.add(call);
+        return call;
+    }
+
+    public synchronized int size() {
+        return calls.size();
+    }
+
+    /**
+     * @return future holding the results of the calls added so far, in the
+     * order they were added, failed as soon as one call fails
+     */
+    public synchronized ALFuture<List<Object>> all() {
+        return ALFuture.all(new ArrayList<ALFuture<?>>(calls));
+    }
+}
@@ -0,0 +1,77 @@
+package com.aldebaran.qimessaging.helpers;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock free histogram of durations, with power of two buckets in
+ * microseconds. Percentiles are reported as the upper bound of their
+ * bucket, so they are accurate within a factor of two.
+ */
+public class LatencyHistogram {
+
+    private static final int BUCKETS = 40;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    public void record(long duration, TimeUnit unit) {
+        long micros = Math.max(0, unit.toMicros(duration));
+        int bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+        counts.incrementAndGet(bucket);
+        total.addAndGet(micros);
+        long previous;
+        while (micros > (previous = max.get()) && !max.compareAndSet(previous, micros))
+            ;
+    }
+
+    public long getCount() {
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++)
+            count += counts.get(i);
+        return count;
+    }
+
+    public long getMean(TimeUnit unit) {
+        long count = getCount();
+        return count == 0 ? 0 : unit.convert(total.get() / count, TimeUnit.MICROSECONDS);
+    }
+
+    public long getMax(TimeUnit unit) {
+        return unit.convert(max.get(), TimeUnit.MICROSECONDS);
+    }
+
+    /**
+     * @param percentile  between 0 and 100
+     * @return duration under which the given share of the samples fall, 0 when empty
+     */
+    public long getPercentile(double percentile, TimeUnit unit) {
+        long count = getCount();
+        if (count == 0)
+            return 0;
+        long rank = (long) Math.ceil(count * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank && seen > 0)
+                return unit.convert(Math.min(1L << i, max.get()), TimeUnit.MICROSECONDS);
+        }
+        return getMax(unit);
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++)
+            counts.set(i, 0);
+        total.set(0);
+        max.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return "count=" + getCount() + " mean=" + getMean(TimeUnit.MICROSECONDS) + "us p50="
+                + getPercentile(50, TimeUnit.MICROSECONDS) + "us p99=" + getPercentile(99, TimeUnit.MICROSECONDS)
+                + "us max=" + getMax(TimeUnit.MICROSECONDS) + "us";
+    }
+}
@@ -0,0 +1,70 @@
+package com.aldebaran.qimessaging.helpers;
+
+import com.aldebaran.qimessaging.Session;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outcome of a service lookup, with the time it took and the number of
+ * failed attempts that preceded it.
+ */
+public class ServiceEvent {
+
+    private final WeakReference<Session> session;
+    private final String serviceName;
+    private final long lookupNanos;
+    private final int retries;
+    private final Exception exception;
+
+    public ServiceEvent(Session session, String serviceName, long lookupNanos, int retries, Exception exception) {
+        this.session = new WeakReference<Session>(session);
+        this.serviceName = serviceName;
+        this.lookupNanos = lookupNanos;
+        this.retries = retries;
+        this.exception = exception;
+    }
+
+    /**
+     * @return the session of the lookup, null once it was collected, the
+     * registry keeping the last event of every service
+     */
+    public Session getSession() {
+        return session.get();
+    }
+
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    /**
+     * @return duration of the lookup that produced this event
+     */
+    public long getLookupTime(TimeUnit unit) {
+        return unit.convert(lookupNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return number of failed lookups of this service before this one
+     */
+    public int getRetries() {
+        return retries;
+    }
+
+    /**
+     * @return the lookup error, null when the service is ready
+     */
+    public Exception getException() {
+        return exception;
+    }
+
+    public boolean isReady() {
+        return exception == null;
+    }
+
+    @Override
+    public String toString() {
+        return serviceName + (isReady() ? " ready" : " failed") + " in "
+                + getLookupTime(TimeUnit.MILLISECONDS) + "ms after " + retries + " retries";
+    }
+}
@@ -0,0 +1,13 @@
+package com.aldebaran.qimessaging.helpers;
+
+/**
+ * Notified when a service proxy becomes available or fails to resolve.
+ * Can be registered on a {@link ServiceRegistry} for every service of a
+ * session, or on a single {@link ALModule}.
+ */
+public interface ServiceListener {
+
+    public void onServiceReady(ServiceEvent event);
+
+    public void onServiceException(ServiceEvent event);
+}
@@ -0,0 +1,296 @@
+package com.aldebaran.qimessaging.helpers;
+
+import com.aldebaran.qimessaging.CallError;
+import com.aldebaran.qimessaging.Session;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per session cache of service proxies.
+ *
+ * A service is looked up once and the resulting proxy is shared by every
+ * wrapper of that service. Entries are dropped when the service directory
+ * reports the service as removed, the next call then resolves it again.
+ *
+ * Listeners registered here are notified of every lookup made on this
+ * session, on the executor set with {@link #setListenerExecutor(Executor)}
+ * or on the looking up thread by default.
+ *
+ * The registry only holds its session weakly, so that the registry and
+ * its proxies go away with the session once the application drops it.
+ */
+public class ServiceRegistry {
+
+    private static final Map<Session, ServiceRegistry> registries = new WeakHashMap<Session, ServiceRegistry>();
+
+    private final WeakReference<Session> session;
+    private final ConcurrentHashMap<String, ALFuture<com.aldebaran.qimessaging.Object>> services =
+            new ConcurrentHashMap<String, ALFuture<com.aldebaran.qimessaging.Object>>();
+    private final ConcurrentHashMap<String, ServiceEvent> events = new ConcurrentHashMap<String, ServiceEvent>();
+    private final ConcurrentHashMap<String, AtomicInteger> failures = new ConcurrentHashMap<String, AtomicInteger>();
+    private final List<ServiceListener> listeners = new CopyOnWriteArrayList<ServiceListener>();
+    private final List<SubscriptionScope> scopes = new CopyOnWriteArrayList<SubscriptionScope>();
+    private volatile Executor listenerExecutor;
+    private com.aldebaran.qimessaging.Object directory;
+
+    private ServiceRegistry(Session session) {
+        this.session = new WeakReference<Session>(session);
+    }
+
+    /**
+     * @return the registry shared by every wrapper created on this session
+     */
+    public static ServiceRegistry of(Session session) {
+        synchronized (registries) {
+            ServiceRegistry registry = registries.get(session);
+            if (registry == null) {
+                registry = new ServiceRegistry(session);
+                registries.put(session, registry);
+            }
+            return registry;
+        }
+    }
+
+    /**
+     * @return the session of this registry, null once it was collected
+     */
+    public Session getSession() {
+        return session.get();
+    }
+
+    public void addServiceListener(ServiceListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeServiceListener(ServiceListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Sets the executor delivering service events, for this registry and the
+     * wrappers of its session. Events are delivered on the thread that made
+     * the lookup when null.
+     */
+    public void setListenerExecutor(Executor executor) {
+        listenerExecutor = executor;
+    }
+
+    /**
+     * @return the outcome of the latest lookup of a service, null if it was never looked up
+     */
+    public ServiceEvent getLastEvent(String name) {
+        return events.get(name);
+    }
+
+    /**
+     * Returns the proxy of a service, looking it up on first use. Concurrent
+     * callers asking for the same service share a single lookup.
+     */
+    public com.aldebaran.qimessaging.Object get(String name) throws CallError {
+        ALFuture<com.aldebaran.qimessaging.Object> entry = services.get(name);
+        if (entry == null)
+            entry = resolve(name);
+        try {
+            return entry.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CallError("Interrupted while resolving " + name);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CallError)
+                throw (CallError) cause;
+            throw new CallError("Unable to resolve " + name + ": " + cause.getMessage());
+        }
+    }
+
+    /**
+     * @return true if the proxy of this service is already available
+     */
+    public boolean isResolved(String name) {
+        ALFuture<com.aldebaran.qimessaging.Object> entry = services.get(name);
+        return entry != null && entry.isDone();
+    }
+
+    /**
+     * Looks up several services in parallel, one thread per service not
+     * already cached.
+     * @return future completed once every service is resolved
+     */
+    public ALFuture<List<Object>> prefetch(String... names) {
+        return prefetch(null, names);
+    }
+
+    /**
+     * Looks up the services backing the given wrapper classes in parallel.
+     */
+    public ALFuture<List<Object>> prefetch(Class<?>... modules) {
+        String[] names = new String[modules.length];
+        for (int i = 0; i < modules.length; i++)
+            names[i] = modules[i].getSimpleName();
+        return prefetch(null, names);
+    }
+
+    /**
+     * Looks up several services in parallel on the given executor.
+     * @param executor  runs the lookups, a new thread per lookup when null
+     */
+    public ALFuture<List<Object>> prefetch(Executor executor, String... names) {
+        List<ALFuture<com.aldebaran.qimessaging.Object>> results = new ArrayList<ALFuture<com.aldebaran.qimessaging.Object>>();
+        for (final String name : names) {
+            ALFuture<com.aldebaran.qimessaging.Object> entry = services.get(name);
+            if (entry == null) {
+                final ALFuture<com.aldebaran.qimessaging.Object> pending = new ALFuture<com.aldebaran.qimessaging.Object>();
+                entry = services.putIfAbsent(name, pending);
+                if (entry == null) {
+                    entry = pending;
+                    Runnable lookup = new Runnable() {
+                        public void run() {
+                            lookup(name, pending);
+                        }
+                    };
+                    if (executor != null)
+                        executor.execute(lookup);
+                    else
+                        new Thread(lookup, "ServiceRegistry-" + name).start();
+                }
+            }
+            results.add(entry);
+        }
+        return ALFuture.all(results);
+    }
+
+    /**
+     * Drops the cached proxy of a service.
+     */
+    public void invalidate(String name) {
+        services.remove(name);
+    }
+
+    /**
+     * Drops every cached proxy, for instance after the session reconnected.
+     */
+    public void clear() {
+        services.clear();
+    }
+
+    void addScope(SubscriptionScope scope) {
+        scopes.add(scope);
+    }
+
+    void removeScope(SubscriptionScope scope) {
+        scopes.remove(scope);
+    }
+
+    /**
+     * Records a subscription made on a service in the open scopes.
+     */
+    void recordSubscription(String service, String undoMethod, Object[] undoArguments) {
+        for (SubscriptionScope scope : scopes)
+            scope.record(service, undoMethod, undoArguments);
+    }
+
+    void forgetSubscription(String service, String undoMethod, Object[] undoArguments) {
+        for (SubscriptionScope scope : scopes)
+            scope.forget(service, undoMethod, undoArguments);
+    }
+
+    private ALFuture<com.aldebaran.qimessaging.Object> resolve(String name) {
+        ALFuture<com.aldebaran.qimessaging.Object> pending = new ALFuture<com.aldebaran.qimessaging.Object>();
+        ALFuture<com.aldebaran.qimessaging.Object> entry = services.putIfAbsent(name, pending);
+        if (entry != null)
+            return entry;
+        lookup(name, pending);
+        return pending;
+    }
+
+    private void lookup(String name, ALFuture<com.aldebaran.qimessaging.Object> entry) {
+        AtomicInteger failed = failures.get(name);
+        if (failed == null) {
+            failures.putIfAbsent(name, new AtomicInteger());
+            failed = failures.get(name);
+        }
+        long start = System.nanoTime();
+        Session session = this.session.get();
+        try {
+            if (session == null)
+                throw new CallError("Session of " + name + " was closed");
+            com.aldebaran.qimessaging.Object service = session.service(name);
+            ServiceEvent event = new ServiceEvent(session, name, System.nanoTime() - start, failed.getAndSet(0), null);
+            events.put(name, event);
+            entry.set(service);
+            dispatch(listeners, event);
+            watchDirectory();
+        } catch (Exception e) {
+            ServiceEvent event = new ServiceEvent(session, name, System.nanoTime() - start, failed.getAndIncrement(), e);
+            events.put(name, event);
+            // Do not keep failures around so that the next call retries
+            services.remove(name, entry);
+            entry.setException(e);
+            dispatch(listeners, event);
+        }
+    }
+
+    /**
+     * Delivers an event to the given listeners on the listener executor.
+     */
+    void dispatch(final List<ServiceListener> targets, final ServiceEvent event) {
+        if (targets.isEmpty())
+            return;
+        Runnable delivery = new Runnable() {
+            public void run() {
+                for (ServiceListener listener : targets) {
+                    if (event.isReady())
+                        listener.onServiceReady(event);
+                    else
+                        listener.onServiceException(event);
+                }
+            }
+        };
+        Executor executor = listenerExecutor;
+        if (executor != null)
+            executor.execute(delivery);
+        else
+            delivery.run();
+    }
+
+    private synchronized void watchDirectory() {
+        if (directory != null)
+            return;
+        Session session = this.session.get();
+        if (session == null)
+            return;
+        try {
+            com.aldebaran.qimessaging.Object serviceDirectory = session.service("ServiceDirectory");
+            serviceDirectory.connect("serviceRemoved", "onServiceRemoved::(Is)", new DirectoryWatcher(this));
+            directory = serviceDirectory;
+        } catch (Exception e) {
+            // Entries then live until invalidated by hand, retried on next lookup
+        }
+    }
+
+    /**
+     * Receives the service directory signals. Public so that qimessaging can
+     * reach the callback method.
+     */
+    public static class DirectoryWatcher {
+
+        private final ServiceRegistry registry;
+
+        DirectoryWatcher(ServiceRegistry registry) {
+            this.registry = registry;
+        }
+
+        public void onServiceRemoved(Integer id, String name) {
+            registry.invalidate(name);
+        }
+    }
+}
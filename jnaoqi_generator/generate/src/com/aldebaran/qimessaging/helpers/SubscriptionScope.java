@@ -0,0 +1,298 @@
+package com.aldebaran.qimessaging.helpers;
+
+import com.aldebaran.qimessaging.CallError;
+import com.aldebaran.qimessaging.Session;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Records the subscriptions made through the wrappers of a session, to
+ * undo them all at once.
+ *
+ * While the scope is open, every extractor subscribe, camera subscription
+ * and ALMemory event subscription made by a generated wrapper of the
+ * session is recorded along with the call undoing it, and forgotten when
+ * the matching unsubscribe is called. {@link #close()} sends every undo
+ * call at once and waits for them, so that no extractor keeps running on
+ * the robot after the application is done.
+ *
+ * Subscriptions left by a previous run that died before closing its
+ * scope can be found with {@link #reap} and {@link #reapEvent}, provided
+ * the application names its subscribers with a common prefix.
+ *
+ * <b>Reaping removes every subscriber matching the prefix that this scope
+ * did not record, live ones included.</b> When several instances of an
+ * application may run against the same robot at once, each must use a
+ * prefix of its own, such as the application name followed by the host
+ * name, otherwise one instance unsubscribes the others. A prefix stable
+ * across runs on the same host still finds the leftovers of its previous
+ * runs.
+ *
+ * <pre>
+ * SubscriptionScope scope = SubscriptionScope.open(session);
+ * scope.closeOnShutdown();
+ * String prefix = "MyApp_" + InetAddress.getLocalHost().getHostName();
+ * scope.reap(sonar, prefix, 2, TimeUnit.SECONDS);
+ * sonar.subscribe(prefix);
+ * ...
+ * scope.close();
+ * </pre>
+ */
+public class SubscriptionScope implements Closeable {
+
+    /**
+     * A recorded subscription and the call undoing it.
+     */
+    public static class Entry {
+
+        private final String service;
+        private final String method;
+        private final List<Object> arguments;
+
+        Entry(String service, String method, Object[] arguments) {
+            this.service = service;
+            this.method = method;
+            this.arguments = Collections.unmodifiableList(Arrays.asList(arguments.clone()));
+        }
+
+        public String getService() {
+            return service;
+        }
+
+        /**
+         * @return method undoing the subscription
+         */
+        public String getMethod() {
+            return method;
+        }
+
+        public List<Object> getArguments() {
+            return arguments;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Entry))
+                return false;
+            Entry entry = (Entry) other;
+            return service.equals(entry.service) && method.equals(entry.method) && arguments.equals(entry.arguments);
+        }
+
+        @Override
+        public int hashCode() {
+            return (service.hashCode() * 31 + method.hashCode()) * 31 + arguments.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return service + "." + method + arguments;
+        }
+    }
+
+    private final ServiceRegistry registry;
+    private final Set<Entry> entries = new LinkedHashSet<Entry>();
+    private long closeTimeout = TimeUnit.SECONDS.toNanos(5);
+    private Thread shutdownHook;
+
+    /**
+     * Creates a scope recording the subscriptions made from now on.
+     */
+    public SubscriptionScope(Session session) {
+        registry = ServiceRegistry.of(session);
+        registry.addScope(this);
+    }
+
+    public static SubscriptionScope open(Session session) {
+        return new SubscriptionScope(session);
+    }
+
+    /**
+     * Sets how long {@link #close()} waits for the undo calls, 5 s by default.
+     */
+    public synchronized void setCloseTimeout(long timeout, TimeUnit unit) {
+        closeTimeout = unit.toNanos(timeout);
+    }
+
+    /**
+     * Closes the scope when the JVM exits, including after an uncaught
+     * exception.
+     */
+    public synchronized void closeOnShutdown() {
+        if (shutdownHook != null)
+            return;
+        shutdownHook = new Thread(new Runnable() {
+            public void run() {
+                close();
+            }
+        }, "SubscriptionScope");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    /**
+     * @return the subscriptions recorded and not undone yet
+     */
+    public synchronized List<Entry> getEntries() {
+        return new ArrayList<Entry>(entries);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Stops recording and undoes every recorded subscription. Undo calls
+     * that failed or timed out stay in {@link #getEntries()} and can be
+     * retried with {@link #teardown}.
+     */
+    public void close() {
+        registry.removeScope(this);
+        long timeout;
+        synchronized (this) {
+            timeout = closeTimeout;
+            if (shutdownHook != null && Thread.currentThread() != shutdownHook) {
+                try {
+                    Runtime.getRuntime().removeShutdownHook(shutdownHook);
+                } catch (IllegalStateException e) {
+                    // Already shutting down
+                }
+            }
+            shutdownHook = null;
+        }
+        try {
+            teardown(timeout, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Sends the undo call of every recorded subscription at once and waits
+     * for them.
+     * @return the subscriptions that could not be undone, kept recorded
+     */
+    public List<Entry> teardown(long timeout, TimeUnit unit) throws InterruptedException {
+        List<Entry> pending;
+        synchronized (this) {
+            pending = new ArrayList<Entry>(entries);
+            entries.clear();
+        }
+        List<Entry> failed = undo(pending, System.nanoTime() + unit.toNanos(timeout));
+        synchronized (this) {
+            entries.addAll(failed);
+        }
+        return failed;
+    }
+
+    /**
+     * Unsubscribes from an extractor the subscribers named with the given
+     * prefix that this scope did not record, as listed by getSubscribersInfo.
+     * Subscribers of other running clients using the same prefix are
+     * removed as well.
+     * @return names of the subscribers removed
+     */
+    public List<String> reap(ALModule extractor, String prefix, long timeout, TimeUnit unit) throws CallError, InterruptedException {
+        String service = extractor.getServiceName();
+        Object info = registry.get(service).call("getSubscribersInfo").get();
+        List<String> names = new ArrayList<String>();
+        if (info instanceof List) {
+            for (Object subscriber : (List<?>) info) {
+                if (subscriber instanceof List && !((List<?>) subscriber).isEmpty() && ((List<?>) subscriber).get(0) instanceof String)
+                    names.add((String) ((List<?>) subscriber).get(0));
+            }
+        }
+        List<Entry> stale = new ArrayList<Entry>();
+        for (String name : names) {
+            Entry entry = new Entry(service, "unsubscribe", new Object[] {name});
+            if (name.startsWith(prefix) && !isRecorded(entry))
+                stale.add(entry);
+        }
+        return reaped(stale, undo(stale, System.nanoTime() + unit.toNanos(timeout)));
+    }
+
+    /**
+     * Unsubscribes from an ALMemory event the modules named with the given
+     * prefix that this scope did not record, as listed by getSubscribers.
+     * Modules of other running clients using the same prefix are removed
+     * as well.
+     * @return names of the modules removed
+     */
+    public List<String> reapEvent(String event, String prefix, long timeout, TimeUnit unit) throws CallError, InterruptedException {
+        Object subscribers = registry.get("ALMemory").call("getSubscribers", event).get();
+        List<Entry> stale = new ArrayList<Entry>();
+        if (subscribers instanceof List) {
+            for (Object name : (List<?>) subscribers) {
+                if (!(name instanceof String) || !((String) name).startsWith(prefix))
+                    continue;
+                Entry entry = new Entry("ALMemory", "unsubscribeToEvent", new Object[] {event, name});
+                if (!isRecorded(entry))
+                    stale.add(entry);
+            }
+        }
+        return reaped(stale, undo(stale, System.nanoTime() + unit.toNanos(timeout)));
+    }
+
+    void record(String service, String method, Object[] arguments) {
+        Entry entry = new Entry(service, method, arguments);
+        synchronized (this) {
+            entries.add(entry);
+        }
+    }
+
+    void forget(String service, String method, Object[] arguments) {
+        Entry entry = new Entry(service, method, arguments);
+        synchronized (this) {
+            entries.remove(entry);
+        }
+    }
+
+    private synchronized boolean isRecorded(Entry entry) {
+        return entries.contains(entry);
+    }
+
+    /**
+     * Sends every undo call before waiting for any of them.
+     * @return the entries whose call failed or did not return by the deadline
+     */
+    private List<Entry> undo(List<Entry> pending, long deadline) throws InterruptedException {
+        List<ALFuture<Object>> calls = new ArrayList<ALFuture<Object>>(pending.size());
+        for (Entry entry : pending) {
+            try {
+                calls.add(ALFuture.of(registry.get(entry.service).<Object>call(entry.method, entry.arguments.toArray())));
+            } catch (CallError e) {
+                calls.add(ALFuture.<Object>failed(e));
+            }
+        }
+        List<Entry> failed = new ArrayList<Entry>();
+        for (int i = 0; i < calls.size(); i++) {
+            try {
+                calls.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (ExecutionException e) {
+                failed.add(pending.get(i));
+            } catch (TimeoutException e) {
+                failed.add(pending.get(i));
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * @return the subscriber names of the stale entries that were undone
+     */
+    private static List<String> reaped(List<Entry> stale, List<Entry> failed) {
+        List<String> names = new ArrayList<String>();
+        for (Entry entry : stale) {
+            if (!failed.contains(entry))
+                names.add(String.valueOf(entry.arguments.get(entry.arguments.size() - 1)));
+        }
+        return names;
+    }
+}
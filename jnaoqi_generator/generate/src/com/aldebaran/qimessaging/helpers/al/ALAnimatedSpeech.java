@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -24,7 +25,17 @@ public class ALAnimatedSpeech extends ALModule {
     * @return The boolean value: true means it is enabled, false means it is disabled.
     */
     public Boolean isBodyTalkEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isBodyTalkEnabled").get();
+        return (Boolean)service().call("isBodyTalkEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isBodyTalkEnabled}.
+    * DEPRECATED since 1.18: use getBodyLanguageMode instead.Indicate if the body talk is enabled or not.
+    * 
+    * @return The boolean value: true means it is enabled, false means it is disabled.
+    */
+    public ALFuture<Boolean> isBodyTalkEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isBodyTalkEnabled"));
     }
 
     /**
@@ -34,9 +45,19 @@ public class ALAnimatedSpeech extends ALModule {
     */
     public void _mrkpauseCallback(Integer pBookmark) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_mrkpauseCallback", pBookmark);
+            service().call("_mrkpauseCallback", pBookmark);
         else
-            service.call("_mrkpauseCallback", pBookmark).get();
+            service().call("_mrkpauseCallback", pBookmark).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_mrkpauseCallback}.
+    * Method called by the tts when "mrkpause" bookmark is reached.This method is blocking until the action is finish.
+    * 
+    * @param pBookmark  Id of the bookmark.
+    */
+    public ALFuture<Void> _mrkpauseCallbackAsync(Integer pBookmark) throws CallError {
+        return ALFuture.of(service().<Void>call("_mrkpauseCallback", pBookmark));
     }
 
     /**
@@ -46,9 +67,19 @@ public class ALAnimatedSpeech extends ALModule {
     */
     public void _setCheckExecutionTimes(Boolean pause) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setCheckExecutionTimes", pause);
+            service().call("_setCheckExecutionTimes", pause);
         else
-            service.call("_setCheckExecutionTimes", pause).get();
+            service().call("_setCheckExecutionTimes", pause).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setCheckExecutionTimes}.
+    * Set if we need to check the execution times.
+    * 
+    * @param pause  If we need to check the execution times.
+    */
+    public ALFuture<Void> _setCheckExecutionTimesAsync(Boolean pause) throws CallError {
+        return ALFuture.of(service().<Void>call("_setCheckExecutionTimes", pause));
     }
 
     /**
@@ -60,9 +91,21 @@ public class ALAnimatedSpeech extends ALModule {
     */
     public void _postureFamilyChangedCallback(String memoryKey, java.lang.Object value, String message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_postureFamilyChangedCallback", memoryKey, value, message);
+            service().call("_postureFamilyChangedCallback", memoryKey, value, message);
         else
-            service.call("_postureFamilyChangedCallback", memoryKey, value, message).get();
+            service().call("_postureFamilyChangedCallback", memoryKey, value, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_postureFamilyChangedCallback}.
+    * Callback for ALMemory subscription to postureFamilyChanged.
+    * 
+    * @param memoryKey  The subscribed memory key which changed.
+    * @param value  The new value of the memory key.
+    * @param message  The message that comes with the callback.
+    */
+    public ALFuture<Void> _postureFamilyChangedCallbackAsync(String memoryKey, java.lang.Object value, String message) throws CallError {
+        return ALFuture.of(service().<Void>call("_postureFamilyChangedCallback", memoryKey, value, message));
     }
 
     /**
@@ -74,9 +117,21 @@ public class ALAnimatedSpeech extends ALModule {
     */
     public void _updateRepresentations(String memoryKey, java.lang.Object value, String message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_updateRepresentations", memoryKey, value, message);
+            service().call("_updateRepresentations", memoryKey, value, message);
         else
-            service.call("_updateRepresentations", memoryKey, value, message).get();
+            service().call("_updateRepresentations", memoryKey, value, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_updateRepresentations}.
+    * Callback for ALMemory subscription when the behavior list of the Behavior Manager is updated.
+    * 
+    * @param memoryKey  The subscribed memory key which changed.
+    * @param value  The new value of the memory key.
+    * @param message  The message that comes with the callback.
+    */
+    public ALFuture<Void> _updateRepresentationsAsync(String memoryKey, java.lang.Object value, String message) throws CallError {
+        return ALFuture.of(service().<Void>call("_updateRepresentations", memoryKey, value, message));
     }
 
     /**
@@ -86,9 +141,19 @@ public class ALAnimatedSpeech extends ALModule {
     */
     public void declareTagForAnimations(java.lang.Object tagsToAnimations) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("declareTagForAnimations", tagsToAnimations);
+            service().call("declareTagForAnimations", tagsToAnimations);
         else
-            service.call("declareTagForAnimations", tagsToAnimations).get();
+            service().call("declareTagForAnimations", tagsToAnimations).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #declareTagForAnimations}.
+    * Declare some tags with the associated animations.
+    * 
+    * @param tagsToAnimations  Map of Tags to Animations.
+    */
+    public ALFuture<Void> declareTagForAnimationsAsync(java.lang.Object tagsToAnimations) throws CallError {
+        return ALFuture.of(service().<Void>call("declareTagForAnimations", tagsToAnimations));
     }
 
     /**
@@ -97,9 +162,18 @@ public class ALAnimatedSpeech extends ALModule {
     */
     public void _diagnosis() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_diagnosis");
+            service().call("_diagnosis");
         else
-            service.call("_diagnosis").get();
+            service().call("_diagnosis").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_diagnosis}.
+    * Print many debug informations about the current state of animated speech.
+    * 
+    */
+    public ALFuture<Void> _diagnosisAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_diagnosis"));
     }
 
     /**
@@ -108,7 +182,17 @@ public class ALAnimatedSpeech extends ALModule {
     * @return The boolean value: true means it is enabled, false means it is disabled.
     */
     public Boolean isBodyLanguageEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isBodyLanguageEnabled").get();
+        return (Boolean)service().call("isBodyLanguageEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isBodyLanguageEnabled}.
+    * DEPRECATED since 1.22: use getBodyLanguageMode instead.Indicate if the body language is enabled or not.
+    * 
+    * @return The boolean value: true means it is enabled, false means it is disabled.
+    */
+    public ALFuture<Boolean> isBodyLanguageEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isBodyLanguageEnabled"));
     }
 
     /**
@@ -117,7 +201,17 @@ public class ALAnimatedSpeech extends ALModule {
     * @return The list of tags found.
     */
     public List<String> _getTagList() throws CallError, InterruptedException {
-        return (List<String>)service.call("_getTagList").get();
+        return (List<String>)service().call("_getTagList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getTagList}.
+    * Get tags found on installed animations which are in "animation library".
+    * 
+    * @return The list of tags found.
+    */
+    public ALFuture<List<String>> _getTagListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("_getTagList"));
     }
 
     /**
@@ -127,9 +221,19 @@ public class ALAnimatedSpeech extends ALModule {
     */
     public void addTagsToWords(java.lang.Object tagsToWords) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("addTagsToWords", tagsToWords);
+            service().call("addTagsToWords", tagsToWords);
         else
-            service.call("addTagsToWords", tagsToWords).get();
+            service().call("addTagsToWords", tagsToWords).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #addTagsToWords}.
+    * Add some new links between tags and words.
+    * 
+    * @param tagsToWords  Map of tags to words.
+    */
+    public ALFuture<Void> addTagsToWordsAsync(java.lang.Object tagsToWords) throws CallError {
+        return ALFuture.of(service().<Void>call("addTagsToWords", tagsToWords));
     }
 
     /**
@@ -139,7 +243,18 @@ public class ALAnimatedSpeech extends ALModule {
     * @return The animation list.
     */
     public List<String> _getAnimationsByTag(String tag) throws CallError, InterruptedException {
-        return (List<String>)service.call("_getAnimationsByTag", tag).get();
+        return (List<String>)service().call("_getAnimationsByTag", tag).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getAnimationsByTag}.
+    * Get all installed animations for a tag. Currently: animations = "behaviors of the animation library."
+    * 
+    * @param tag  A tag to filter the list of animations with.
+    * @return The animation list.
+    */
+    public ALFuture<List<String>> _getAnimationsByTagAsync(String tag) throws CallError {
+        return ALFuture.of(service().<List<String>>call("_getAnimationsByTag", tag));
     }
 
     /**
@@ -151,9 +266,21 @@ public class ALAnimatedSpeech extends ALModule {
     */
     public void _speechBookMarkCallback(String memoryKey, java.lang.Object value, String message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_speechBookMarkCallback", memoryKey, value, message);
+            service().call("_speechBookMarkCallback", memoryKey, value, message);
         else
-            service.call("_speechBookMarkCallback", memoryKey, value, message).get();
+            service().call("_speechBookMarkCallback", memoryKey, value, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_speechBookMarkCallback}.
+    * Callback for ALMemory subscription for speech bookmark tracking.
+    * 
+    * @param memoryKey  The subscribed memory key which changed.
+    * @param value  The new value of the memory key.
+    * @param message  The message that comes with the callback.
+    */
+    public ALFuture<Void> _speechBookMarkCallbackAsync(String memoryKey, java.lang.Object value, String message) throws CallError {
+        return ALFuture.of(service().<Void>call("_speechBookMarkCallback", memoryKey, value, message));
     }
 
     /**
@@ -165,9 +292,21 @@ public class ALAnimatedSpeech extends ALModule {
     */
     public void _speechStatusCallback(String memoryKey, java.lang.Object value, String message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_speechStatusCallback", memoryKey, value, message);
+            service().call("_speechStatusCallback", memoryKey, value, message);
         else
-            service.call("_speechStatusCallback", memoryKey, value, message).get();
+            service().call("_speechStatusCallback", memoryKey, value, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_speechStatusCallback}.
+    * Callback for ALMemory subscription for speech status tracking.
+    * 
+    * @param memoryKey  The subscribed memory key which changed.
+    * @param value  The new value of the memory key.
+    * @param message  The message that comes with the callback.
+    */
+    public ALFuture<Void> _speechStatusCallbackAsync(String memoryKey, java.lang.Object value, String message) throws CallError {
+        return ALFuture.of(service().<Void>call("_speechStatusCallback", memoryKey, value, message));
     }
 
     /**
@@ -179,9 +318,21 @@ public class ALAnimatedSpeech extends ALModule {
     */
     public void _dialogMatchedInputCallback(String memoryKey, java.lang.Object value, String message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_dialogMatchedInputCallback", memoryKey, value, message);
+            service().call("_dialogMatchedInputCallback", memoryKey, value, message);
         else
-            service.call("_dialogMatchedInputCallback", memoryKey, value, message).get();
+            service().call("_dialogMatchedInputCallback", memoryKey, value, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_dialogMatchedInputCallback}.
+    * Get the emotions from a text.
+    * 
+    * @param memoryKey  The subscribed memory key which changed.
+    * @param value  The new value of the memory key.
+    * @param message  The message that comes with the callback.
+    */
+    public ALFuture<Void> _dialogMatchedInputCallbackAsync(String memoryKey, java.lang.Object value, String message) throws CallError {
+        return ALFuture.of(service().<Void>call("_dialogMatchedInputCallback", memoryKey, value, message));
     }
 
     /**
@@ -189,7 +340,16 @@ public class ALAnimatedSpeech extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -198,9 +358,18 @@ public class ALAnimatedSpeech extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -208,7 +377,16 @@ public class ALAnimatedSpeech extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -217,9 +395,18 @@ public class ALAnimatedSpeech extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -228,7 +415,17 @@ public class ALAnimatedSpeech extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -237,7 +434,17 @@ public class ALAnimatedSpeech extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -246,7 +453,17 @@ public class ALAnimatedSpeech extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -256,7 +473,18 @@ public class ALAnimatedSpeech extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -265,7 +493,17 @@ public class ALAnimatedSpeech extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -276,7 +514,19 @@ public class ALAnimatedSpeech extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -286,7 +536,18 @@ public class ALAnimatedSpeech extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -296,9 +557,19 @@ public class ALAnimatedSpeech extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -307,7 +578,17 @@ public class ALAnimatedSpeech extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -317,7 +598,18 @@ public class ALAnimatedSpeech extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -327,9 +619,19 @@ public class ALAnimatedSpeech extends ALModule {
     */
     public void say(String text) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("say", text);
+            service().call("say", text);
         else
-            service.call("say", text).get();
+            service().call("say", text).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #say}.
+    * Say the annotated text given in parameter and animate it with animations inserted in the text.
+    * 
+    * @param text  An annotated text (for example: "Hello. ^start(Hey_1) My name is NAO").
+    */
+    public ALFuture<Void> sayAsync(String text) throws CallError {
+        return ALFuture.of(service().<Void>call("say", text));
     }
 
     /**
@@ -340,9 +642,20 @@ public class ALAnimatedSpeech extends ALModule {
     */
     public void say(String text, java.lang.Object configuration) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("say", text, configuration);
+            service().call("say", text, configuration);
         else
-            service.call("say", text, configuration).get();
+            service().call("say", text, configuration).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #say}.
+    * Say the annotated text given in parameter and animate it with animations inserted in the text.
+    * 
+    * @param text  An annotated text (for example: "Hello. ^start(Hey_1) My name is NAO").
+    * @param configuration  The animated speech configuration.
+    */
+    public ALFuture<Void> sayAsync(String text, java.lang.Object configuration) throws CallError {
+        return ALFuture.of(service().<Void>call("say", text, configuration));
     }
 
     /**
@@ -351,9 +664,18 @@ public class ALAnimatedSpeech extends ALModule {
     */
     public void _reset() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_reset");
+            service().call("_reset");
         else
-            service.call("_reset").get();
+            service().call("_reset").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_reset}.
+    * Reset the Animated Speech configuration.
+    * 
+    */
+    public ALFuture<Void> _resetAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_reset"));
     }
 
     /**
@@ -363,9 +685,19 @@ public class ALAnimatedSpeech extends ALModule {
     */
     public void _stopAll(Boolean blocking) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_stopAll", blocking);
+            service().call("_stopAll", blocking);
         else
-            service.call("_stopAll", blocking).get();
+            service().call("_stopAll", blocking).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_stopAll}.
+    * Stop all the speeches.
+    * 
+    * @param blocking  If this method wait for the end of the speeches.
+    */
+    public ALFuture<Void> _stopAllAsync(Boolean blocking) throws CallError {
+        return ALFuture.of(service().<Void>call("_stopAll", blocking));
     }
 
     /**
@@ -374,7 +706,17 @@ public class ALAnimatedSpeech extends ALModule {
     * @return True, if animated speech is running, False otherwise.
     */
     public Boolean _isRunning() throws CallError, InterruptedException {
-        return (Boolean)service.call("_isRunning").get();
+        return (Boolean)service().call("_isRunning").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_isRunning}.
+    * Know if animated speech is running.
+    * 
+    * @return True, if animated speech is running, False otherwise.
+    */
+    public ALFuture<Boolean> _isRunningAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("_isRunning"));
     }
 
     /**
@@ -384,9 +726,19 @@ public class ALAnimatedSpeech extends ALModule {
     */
     public void setBodyTalkEnabled(Boolean enable) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setBodyTalkEnabled", enable);
+            service().call("setBodyTalkEnabled", enable);
         else
-            service.call("setBodyTalkEnabled", enable).get();
+            service().call("setBodyTalkEnabled", enable).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setBodyTalkEnabled}.
+    * DEPRECATED since 1.18: use setBodyLanguageMode instead.Enable or disable the automatic body talk on the speech.If it is enabled, anywhere you have not annotate your text with animation,the robot will fill the gap with automatically calculated gestures.If it is disabled, the robot will move only where you annotate it withanimations.
+    * 
+    * @param enable  The boolean value: true to enable, false to disable.
+    */
+    public ALFuture<Void> setBodyTalkEnabledAsync(Boolean enable) throws CallError {
+        return ALFuture.of(service().<Void>call("setBodyTalkEnabled", enable));
     }
 
     /**
@@ -396,9 +748,19 @@ public class ALAnimatedSpeech extends ALModule {
     */
     public void setBodyLanguageEnabled(Boolean enable) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setBodyLanguageEnabled", enable);
+            service().call("setBodyLanguageEnabled", enable);
         else
-            service.call("setBodyLanguageEnabled", enable).get();
+            service().call("setBodyLanguageEnabled", enable).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setBodyLanguageEnabled}.
+    * DEPRECATED since 1.22: use setBodyLanguageMode instead.Enable or disable the automatic body language on the speech.If it is enabled, anywhere you have not annotate your text with animation,the robot will fill the gap with automatically calculated gestures.If it is disabled, the robot will move only where you annotate it withanimations.
+    * 
+    * @param enable  The boolean value: true to enable, false to disable.
+    */
+    public ALFuture<Void> setBodyLanguageEnabledAsync(Boolean enable) throws CallError {
+        return ALFuture.of(service().<Void>call("setBodyLanguageEnabled", enable));
     }
 
     /**
@@ -410,9 +772,21 @@ public class ALAnimatedSpeech extends ALModule {
     */
     public void setBodyLanguageModeFromStr(String stringBodyLanguageMode) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setBodyLanguageModeFromStr", stringBodyLanguageMode);
+            service().call("setBodyLanguageModeFromStr", stringBodyLanguageMode);
         else
-            service.call("setBodyLanguageModeFromStr", stringBodyLanguageMode).get();
+            service().call("setBodyLanguageModeFromStr", stringBodyLanguageMode).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setBodyLanguageModeFromStr}.
+    * Set the current body language mode.
+3 modes exist: "disabled", "random" and "contextual"
+(see BodyLanguageMode enum for more details)
+    * 
+    * @param stringBodyLanguageMode  The choosen body language mode.
+    */
+    public ALFuture<Void> setBodyLanguageModeFromStrAsync(String stringBodyLanguageMode) throws CallError {
+        return ALFuture.of(service().<Void>call("setBodyLanguageModeFromStr", stringBodyLanguageMode));
     }
 
     /**
@@ -424,9 +798,21 @@ public class ALAnimatedSpeech extends ALModule {
     */
     public void setBodyLanguageMode(Integer bodyLanguageMode) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setBodyLanguageMode", bodyLanguageMode);
+            service().call("setBodyLanguageMode", bodyLanguageMode);
         else
-            service.call("setBodyLanguageMode", bodyLanguageMode).get();
+            service().call("setBodyLanguageMode", bodyLanguageMode).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setBodyLanguageMode}.
+    * Set the current body language mode.
+3 modes exist: BODY_LANGUAGE_MODE_DISABLED,BODY_LANGUAGE_MODE_RANDOM and BODY_LANGUAGE_MODE_CONTEXTUAL
+(see BodyLanguageMode enum for more details)
+    * 
+    * @param bodyLanguageMode  The choosen body language mode.
+    */
+    public ALFuture<Void> setBodyLanguageModeAsync(Integer bodyLanguageMode) throws CallError {
+        return ALFuture.of(service().<Void>call("setBodyLanguageMode", bodyLanguageMode));
     }
 
     /**
@@ -437,7 +823,19 @@ public class ALAnimatedSpeech extends ALModule {
     * @return The current body language mode.
     */
     public String getBodyLanguageModeToStr() throws CallError, InterruptedException {
-        return (String)service.call("getBodyLanguageModeToStr").get();
+        return (String)service().call("getBodyLanguageModeToStr").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBodyLanguageModeToStr}.
+    * Set the current body language mode.
+3 modes exist: "disabled", "random" and "contextual"
+(see BodyLanguageMode enum for more details)
+    * 
+    * @return The current body language mode.
+    */
+    public ALFuture<String> getBodyLanguageModeToStrAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBodyLanguageModeToStr"));
     }
 
     /**
@@ -448,7 +846,19 @@ public class ALAnimatedSpeech extends ALModule {
     * @return The current body language mode.
     */
     public Integer getBodyLanguageMode() throws CallError, InterruptedException {
-        return (Integer)service.call("getBodyLanguageMode").get();
+        return (Integer)service().call("getBodyLanguageMode").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBodyLanguageMode}.
+    * Set the current body language mode.
+3 modes exist: BODY_LANGUAGE_MODE_DISABLED,BODY_LANGUAGE_MODE_RANDOM and BODY_LANGUAGE_MODE_CONTEXTUAL
+(see BodyLanguageMode enum for more details)
+    * 
+    * @return The current body language mode.
+    */
+    public ALFuture<Integer> getBodyLanguageModeAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("getBodyLanguageMode"));
     }
 
     /**
@@ -458,9 +868,19 @@ public class ALAnimatedSpeech extends ALModule {
     */
     public void declareAnimationsPackage(String animationsPackage) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("declareAnimationsPackage", animationsPackage);
+            service().call("declareAnimationsPackage", animationsPackage);
         else
-            service.call("declareAnimationsPackage", animationsPackage).get();
+            service().call("declareAnimationsPackage", animationsPackage).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #declareAnimationsPackage}.
+    * Add a new package that contains animations.
+    * 
+    * @param animationsPackage  The new package that contains animations.
+    */
+    public ALFuture<Void> declareAnimationsPackageAsync(String animationsPackage) throws CallError {
+        return ALFuture.of(service().<Void>call("declareAnimationsPackage", animationsPackage));
     }
 
     /**
@@ -470,9 +890,19 @@ public class ALAnimatedSpeech extends ALModule {
     */
     public void _setMSPauseBeforeSpeech(Integer pause) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setMSPauseBeforeSpeech", pause);
+            service().call("_setMSPauseBeforeSpeech", pause);
         else
-            service.call("_setMSPauseBeforeSpeech", pause).get();
+            service().call("_setMSPauseBeforeSpeech", pause).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setMSPauseBeforeSpeech}.
+    * Change the pause's time before the speech.
+    * 
+    * @param pause  The pause's time in milliseconds before the speech.
+    */
+    public ALFuture<Void> _setMSPauseBeforeSpeechAsync(Integer pause) throws CallError {
+        return ALFuture.of(service().<Void>call("_setMSPauseBeforeSpeech", pause));
     }
 
     /**
@@ -481,7 +911,17 @@ public class ALAnimatedSpeech extends ALModule {
     * @return The pause's time in milliseconds before the speech.
     */
     public Integer _getMSPauseBeforeSpeech() throws CallError, InterruptedException {
-        return (Integer)service.call("_getMSPauseBeforeSpeech").get();
+        return (Integer)service().call("_getMSPauseBeforeSpeech").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getMSPauseBeforeSpeech}.
+    * Get the pause's time before the speech.
+    * 
+    * @return The pause's time in milliseconds before the speech.
+    */
+    public ALFuture<Integer> _getMSPauseBeforeSpeechAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("_getMSPauseBeforeSpeech"));
     }
 
     /**
@@ -490,7 +930,17 @@ public class ALAnimatedSpeech extends ALModule {
     * @return True, if we need to check the execution times, False otherwise.
     */
     public Boolean _isCheckExecutionTimesEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("_isCheckExecutionTimesEnabled").get();
+        return (Boolean)service().call("_isCheckExecutionTimesEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_isCheckExecutionTimesEnabled}.
+    * If we need to check the execution times.
+    * 
+    * @return True, if we need to check the execution times, False otherwise.
+    */
+    public ALFuture<Boolean> _isCheckExecutionTimesEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("_isCheckExecutionTimesEnabled"));
     }
 
 }
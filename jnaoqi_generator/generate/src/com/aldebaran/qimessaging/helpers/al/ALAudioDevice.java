@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -25,7 +26,18 @@ public class ALAudioDevice extends ALModule {
     * @return An AudioDeviceInfo
     */
     public java.lang.Object _output(Integer index) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_output", index).get();
+        return (java.lang.Object)service().call("_output", index).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_output}.
+    * return the output matching the index
+    * 
+    * @param index  The output index
+    * @return An AudioDeviceInfo
+    */
+    public ALFuture<java.lang.Object> _outputAsync(Integer index) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_output", index));
     }
 
     /**
@@ -34,7 +46,17 @@ public class ALAudioDevice extends ALModule {
     * @return The default input index
     */
     public Integer _defaultInput() throws CallError, InterruptedException {
-        return (Integer)service.call("_defaultInput").get();
+        return (Integer)service().call("_defaultInput").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_defaultInput}.
+    * return the default input
+    * 
+    * @return The default input index
+    */
+    public ALFuture<Integer> _defaultInputAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("_defaultInput"));
     }
 
     /**
@@ -43,9 +65,18 @@ public class ALAudioDevice extends ALModule {
     */
     public void flushAudioOutputs() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("flushAudioOutputs");
+            service().call("flushAudioOutputs");
         else
-            service.call("flushAudioOutputs").get();
+            service().call("flushAudioOutputs").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #flushAudioOutputs}.
+    * Flush the audio device for playback. close the audio device for capture. You can call this method if you want to send sound to alsa in another program than naoqi while naoqi is running (with aplay for example)
+    * 
+    */
+    public ALFuture<Void> flushAudioOutputsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("flushAudioOutputs"));
     }
 
     /**
@@ -58,9 +89,22 @@ public class ALAudioDevice extends ALModule {
     */
     public void playSine(Integer frequence, Integer gain, Integer pan, Float duration) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("playSine", frequence, gain, pan, duration);
+            service().call("playSine", frequence, gain, pan, duration);
         else
-            service.call("playSine", frequence, gain, pan, duration).get();
+            service().call("playSine", frequence, gain, pan, duration).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #playSine}.
+    * Play a sine wave which specified caracteristics.
+    * 
+    * @param frequence  Frequence in Hertz
+    * @param gain  Volume Gain between 0 and 100
+    * @param pan  Stereo Pan set to either {-1,0,+1}
+    * @param duration  Duration of the sine wave in seconds
+    */
+    public ALFuture<Void> playSineAsync(Integer frequence, Integer gain, Integer pan, Float duration) throws CallError {
+        return ALFuture.of(service().<Void>call("playSine", frequence, gain, pan, duration));
     }
 
     /**
@@ -69,9 +113,18 @@ public class ALAudioDevice extends ALModule {
     */
     public void enableEnergyComputation() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("enableEnergyComputation");
+            service().call("enableEnergyComputation");
         else
-            service.call("enableEnergyComputation").get();
+            service().call("enableEnergyComputation").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #enableEnergyComputation}.
+    * Enables the computation of the energy of each microphone signal
+    * 
+    */
+    public ALFuture<Void> enableEnergyComputationAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("enableEnergyComputation"));
     }
 
     /**
@@ -80,7 +133,17 @@ public class ALAudioDevice extends ALModule {
     * @return True if audio inputs are closed / False otherwise
     */
     public Boolean isInputClosed() throws CallError, InterruptedException {
-        return (Boolean)service.call("isInputClosed").get();
+        return (Boolean)service().call("isInputClosed").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isInputClosed}.
+    * Allows to know if audio inputs are closed or not
+    * 
+    * @return True if audio inputs are closed / False otherwise
+    */
+    public ALFuture<Boolean> isInputClosedAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isInputClosed"));
     }
 
     /**
@@ -89,7 +152,17 @@ public class ALAudioDevice extends ALModule {
     * @return energy of the left microphone signal
     */
     public Float getLeftMicEnergy() throws CallError, InterruptedException {
-        return (Float)service.call("getLeftMicEnergy").get();
+        return (Float)service().call("getLeftMicEnergy").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getLeftMicEnergy}.
+    * Returns the energy of the left microphone signal
+    * 
+    * @return energy of the left microphone signal
+    */
+    public ALFuture<Float> getLeftMicEnergyAsync() throws CallError {
+        return ALFuture.of(service().<Float>call("getLeftMicEnergy"));
     }
 
     /**
@@ -98,7 +171,17 @@ public class ALAudioDevice extends ALModule {
     * @return energy of the right microphone signal
     */
     public Float getRightMicEnergy() throws CallError, InterruptedException {
-        return (Float)service.call("getRightMicEnergy").get();
+        return (Float)service().call("getRightMicEnergy").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getRightMicEnergy}.
+    * Returns the energy of the right microphone signal
+    * 
+    * @return energy of the right microphone signal
+    */
+    public ALFuture<Float> getRightMicEnergyAsync() throws CallError {
+        return ALFuture.of(service().<Float>call("getRightMicEnergy"));
     }
 
     /**
@@ -107,7 +190,17 @@ public class ALAudioDevice extends ALModule {
     * @return energy of the front microphone signal
     */
     public Float getFrontMicEnergy() throws CallError, InterruptedException {
-        return (Float)service.call("getFrontMicEnergy").get();
+        return (Float)service().call("getFrontMicEnergy").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getFrontMicEnergy}.
+    * Returns the energy of the front microphone signal
+    * 
+    * @return energy of the front microphone signal
+    */
+    public ALFuture<Float> getFrontMicEnergyAsync() throws CallError {
+        return ALFuture.of(service().<Float>call("getFrontMicEnergy"));
     }
 
     /**
@@ -116,7 +209,17 @@ public class ALAudioDevice extends ALModule {
     * @return energy of the rear microphone signal
     */
     public Float getRearMicEnergy() throws CallError, InterruptedException {
-        return (Float)service.call("getRearMicEnergy").get();
+        return (Float)service().call("getRearMicEnergy").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getRearMicEnergy}.
+    * Returns the energy of the rear microphone signal
+    * 
+    * @return energy of the rear microphone signal
+    */
+    public ALFuture<Float> getRearMicEnergyAsync() throws CallError {
+        return ALFuture.of(service().<Float>call("getRearMicEnergy"));
     }
 
     /**
@@ -126,9 +229,19 @@ public class ALAudioDevice extends ALModule {
     */
     public void _setInputVolume(Integer volume) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setInputVolume", volume);
+            service().call("_setInputVolume", volume);
         else
-            service.call("_setInputVolume", volume).get();
+            service().call("_setInputVolume", volume).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setInputVolume}.
+    * Sets the input level of Nao's microphones.
+    * 
+    * @param volume  Volume [0-100].
+    */
+    public ALFuture<Void> _setInputVolumeAsync(Integer volume) throws CallError {
+        return ALFuture.of(service().<Void>call("_setInputVolume", volume));
     }
 
     /**
@@ -137,7 +250,17 @@ public class ALAudioDevice extends ALModule {
     * @return A list of AudioDeviceInfo
     */
     public java.lang.Object _listOutputs() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_listOutputs").get();
+        return (java.lang.Object)service().call("_listOutputs").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_listOutputs}.
+    * return the list of available outputs
+    * 
+    * @return A list of AudioDeviceInfo
+    */
+    public ALFuture<java.lang.Object> _listOutputsAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_listOutputs"));
     }
 
     /**
@@ -151,9 +274,23 @@ public class ALAudioDevice extends ALModule {
     */
     public void setClientPreferences(String name, Integer sampleRate, java.lang.Object channelsVector, Integer deinterleaved, Integer timeStamp) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setClientPreferences", name, sampleRate, channelsVector, deinterleaved, timeStamp);
+            service().call("setClientPreferences", name, sampleRate, channelsVector, deinterleaved, timeStamp);
         else
-            service.call("setClientPreferences", name, sampleRate, channelsVector, deinterleaved, timeStamp).get();
+            service().call("setClientPreferences", name, sampleRate, channelsVector, deinterleaved, timeStamp).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setClientPreferences}.
+    * Set AudioDevice Client preferences. This function is deprecated, the use of the alternate 4 arguments setClientPreferences() is now prefered.
+    * 
+    * @param name  name of the client
+    * @param sampleRate  sample rate of the microphones data sent to the processSound or processSoundRemote functions - must be 16000 or 48000
+    * @param channelsVector  ALValue containing a vector of int indicating which microphones data will be send to the processSound or processSoundRemote functions
+    * @param deinterleaved  indicates if the microphones data sent to the processSound or processSoundRemote functions are interleaved or not - 0 : interleaved - 1 : deinterleaved 
+    * @param timeStamp  parameter indicating if audio timestamps are sent to the processSound or processSoundRemote functions - 0 : no - 1 : yes 
+    */
+    public ALFuture<Void> setClientPreferencesAsync(String name, Integer sampleRate, java.lang.Object channelsVector, Integer deinterleaved, Integer timeStamp) throws CallError {
+        return ALFuture.of(service().<Void>call("setClientPreferences", name, sampleRate, channelsVector, deinterleaved, timeStamp));
     }
 
     /**
@@ -162,9 +299,18 @@ public class ALAudioDevice extends ALModule {
     */
     public void muteAudioOut(Boolean param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("muteAudioOut", param1);
+            service().call("muteAudioOut", param1);
         else
-            service.call("muteAudioOut", param1).get();
+            service().call("muteAudioOut", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #muteAudioOut}.
+    * mute the loudspeakers
+    * 
+    */
+    public ALFuture<Void> muteAudioOutAsync(Boolean param1) throws CallError {
+        return ALFuture.of(service().<Void>call("muteAudioOut", param1));
     }
 
     /**
@@ -173,9 +319,18 @@ public class ALAudioDevice extends ALModule {
     */
     public void _muteAudioIn(Boolean param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_muteAudioIn", param1);
+            service().call("_muteAudioIn", param1);
         else
-            service.call("_muteAudioIn", param1).get();
+            service().call("_muteAudioIn", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_muteAudioIn}.
+    * mute the microphones
+    * 
+    */
+    public ALFuture<Void> _muteAudioInAsync(Boolean param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_muteAudioIn", param1));
     }
 
     /**
@@ -184,7 +339,17 @@ public class ALAudioDevice extends ALModule {
     * @return 1 if true / 0 otherwise
     */
     public Boolean isAudioOutMuted() throws CallError, InterruptedException {
-        return (Boolean)service.call("isAudioOutMuted").get();
+        return (Boolean)service().call("isAudioOutMuted").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isAudioOutMuted}.
+    * check if loudspeakers are muted
+    * 
+    * @return 1 if true / 0 otherwise
+    */
+    public ALFuture<Boolean> isAudioOutMutedAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isAudioOutMuted"));
     }
 
     /**
@@ -192,7 +357,16 @@ public class ALAudioDevice extends ALModule {
     * 
     */
     public Integer _getNbOfMicrophones() throws CallError, InterruptedException {
-        return (Integer)service.call("_getNbOfMicrophones").get();
+        return (Integer)service().call("_getNbOfMicrophones").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getNbOfMicrophones}.
+    * get the number of microphones
+    * 
+    */
+    public ALFuture<Integer> _getNbOfMicrophonesAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("_getNbOfMicrophones"));
     }
 
     /**
@@ -201,7 +375,17 @@ public class ALAudioDevice extends ALModule {
     * @return The default output index
     */
     public Integer _defaultOutput() throws CallError, InterruptedException {
-        return (Integer)service.call("_defaultOutput").get();
+        return (Integer)service().call("_defaultOutput").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_defaultOutput}.
+    * return the default output
+    * 
+    * @return The default output index
+    */
+    public ALFuture<Integer> _defaultOutputAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("_defaultOutput"));
     }
 
     /**
@@ -211,9 +395,19 @@ public class ALAudioDevice extends ALModule {
     */
     public void _setDefaultOutput(Integer index) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setDefaultOutput", index);
+            service().call("_setDefaultOutput", index);
         else
-            service.call("_setDefaultOutput", index).get();
+            service().call("_setDefaultOutput", index).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setDefaultOutput}.
+    * set the default output
+    * 
+    * @param index  The output index
+    */
+    public ALFuture<Void> _setDefaultOutputAsync(Integer index) throws CallError {
+        return ALFuture.of(service().<Void>call("_setDefaultOutput", index));
     }
 
     /**
@@ -222,7 +416,17 @@ public class ALAudioDevice extends ALModule {
     * @return True if audio outputs are closed / False otherwise
     */
     public Boolean isOutputClosed() throws CallError, InterruptedException {
-        return (Boolean)service.call("isOutputClosed").get();
+        return (Boolean)service().call("isOutputClosed").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isOutputClosed}.
+    * Allows to know if audio ouputs are closed or not
+    * 
+    * @return True if audio outputs are closed / False otherwise
+    */
+    public ALFuture<Boolean> isOutputClosedAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isOutputClosed"));
     }
 
     /**
@@ -231,7 +435,17 @@ public class ALAudioDevice extends ALModule {
     * @return A list of AudioDeviceInfo
     */
     public java.lang.Object _listInputs() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_listInputs").get();
+        return (java.lang.Object)service().call("_listInputs").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_listInputs}.
+    * return the list of available inputs
+    * 
+    * @return A list of AudioDeviceInfo
+    */
+    public ALFuture<java.lang.Object> _listInputsAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_listInputs"));
     }
 
     /**
@@ -241,7 +455,18 @@ public class ALAudioDevice extends ALModule {
     * @return An AudioDeviceInfo
     */
     public java.lang.Object _input(Integer index) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_input", index).get();
+        return (java.lang.Object)service().call("_input", index).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_input}.
+    * return the input matching the index
+    * 
+    * @param index  The input index
+    * @return An AudioDeviceInfo
+    */
+    public ALFuture<java.lang.Object> _inputAsync(Integer index) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_input", index));
     }
 
     /**
@@ -251,9 +476,19 @@ public class ALAudioDevice extends ALModule {
     */
     public void _setDefaultInput(Integer index) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setDefaultInput", index);
+            service().call("_setDefaultInput", index);
         else
-            service.call("_setDefaultInput", index).get();
+            service().call("_setDefaultInput", index).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setDefaultInput}.
+    * set the default input
+    * 
+    * @param index  The input index
+    */
+    public ALFuture<Void> _setDefaultInputAsync(Integer index) throws CallError {
+        return ALFuture.of(service().<Void>call("_setDefaultInput", index));
     }
 
     /**
@@ -266,9 +501,22 @@ public class ALAudioDevice extends ALModule {
     */
     public void setClientPreferences(String name, Integer sampleRate, Integer channelsConfiguration, Integer deinterleaved) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setClientPreferences", name, sampleRate, channelsConfiguration, deinterleaved);
+            service().call("setClientPreferences", name, sampleRate, channelsConfiguration, deinterleaved);
         else
-            service.call("setClientPreferences", name, sampleRate, channelsConfiguration, deinterleaved).get();
+            service().call("setClientPreferences", name, sampleRate, channelsConfiguration, deinterleaved).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setClientPreferences}.
+    * Set AudioDevice Client preferences
+    * 
+    * @param name  name of the client
+    * @param sampleRate  sample rate of the microphones data sent to the process function - must be 16000 or 48000
+    * @param channelsConfiguration  An int (defined in ALSoundExtractor) indicating which microphones data will be send to the process function. ALLCHANNELS, LEFTCHANNEL, RIGHTCHANNEL, FRONTCHANNEL, REARCHANNEL are the configuration currently supported.
+    * @param deinterleaved  indicates if the microphones data sent to the process function are interleaved or not - 0 : interleaved - 1 : deinterleaved 
+    */
+    public ALFuture<Void> setClientPreferencesAsync(String name, Integer sampleRate, Integer channelsConfiguration, Integer deinterleaved) throws CallError {
+        return ALFuture.of(service().<Void>call("setClientPreferences", name, sampleRate, channelsConfiguration, deinterleaved));
     }
 
     /**
@@ -277,9 +525,18 @@ public class ALAudioDevice extends ALModule {
     */
     public void disableEnergyComputation() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("disableEnergyComputation");
+            service().call("disableEnergyComputation");
         else
-            service.call("disableEnergyComputation").get();
+            service().call("disableEnergyComputation").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #disableEnergyComputation}.
+    * Disables the computation of the energy of each microphone signal
+    * 
+    */
+    public ALFuture<Void> disableEnergyComputationAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("disableEnergyComputation"));
     }
 
     /**
@@ -287,7 +544,16 @@ public class ALAudioDevice extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -296,9 +562,18 @@ public class ALAudioDevice extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -306,7 +581,16 @@ public class ALAudioDevice extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -315,9 +599,18 @@ public class ALAudioDevice extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -326,7 +619,17 @@ public class ALAudioDevice extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -335,7 +638,17 @@ public class ALAudioDevice extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -344,7 +657,17 @@ public class ALAudioDevice extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -354,7 +677,18 @@ public class ALAudioDevice extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -363,7 +697,17 @@ public class ALAudioDevice extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -374,7 +718,19 @@ public class ALAudioDevice extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -384,7 +740,18 @@ public class ALAudioDevice extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -394,9 +761,19 @@ public class ALAudioDevice extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -405,7 +782,17 @@ public class ALAudioDevice extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -415,7 +802,18 @@ public class ALAudioDevice extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -424,10 +822,22 @@ public class ALAudioDevice extends ALModule {
     * @param pModule  Name of the module
     */
     public void subscribe(String pModule) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("subscribe", pModule);
-        else
-            service.call("subscribe", pModule).get();
+        if (isAsynchronous) {
+            recordSubscription(ALFuture.of(service().<Void>call("subscribe", pModule)), "unsubscribe", pModule);
+            return;
+        }
+        service().call("subscribe", pModule).get();
+        recordSubscription("unsubscribe", pModule);
+    }
+
+    /**
+    * Asynchronous version of {@link #subscribe}.
+    * This function allows a module to subscribe to the ALAudioDevice module.For more informations see the audio part of the red documentation
+    * 
+    * @param pModule  Name of the module
+    */
+    public ALFuture<Void> subscribeAsync(String pModule) throws CallError {
+        return recordSubscription(ALFuture.of(service().<Void>call("subscribe", pModule)), "unsubscribe", pModule);
     }
 
     /**
@@ -436,10 +846,22 @@ public class ALAudioDevice extends ALModule {
     * @param pModule  Name of the module
     */
     public void unsubscribe(String pModule) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("unsubscribe", pModule);
-        else
-            service.call("unsubscribe", pModule).get();
+        if (isAsynchronous) {
+            forgetSubscription(ALFuture.of(service().<Void>call("unsubscribe", pModule)), "unsubscribe", pModule);
+            return;
+        }
+        service().call("unsubscribe", pModule).get();
+        forgetSubscription("unsubscribe", pModule);
+    }
+
+    /**
+    * Asynchronous version of {@link #unsubscribe}.
+    * This function allows a module to subscribe to the ALAudioDevice module.For more informations see the audio part of the red documentation
+    * 
+    * @param pModule  Name of the module
+    */
+    public ALFuture<Void> unsubscribeAsync(String pModule) throws CallError {
+        return forgetSubscription(ALFuture.of(service().<Void>call("unsubscribe", pModule)), "unsubscribe", pModule);
     }
 
     /**
@@ -451,7 +873,20 @@ You must pass to this function a pointer to the stereo buffer to send, and the n
     * @return True if the operation is successfull - False otherwise
     */
     public Boolean sendLocalBufferToOutput(Integer nbOfFrames, Integer pBuffer) throws CallError, InterruptedException {
-        return (Boolean)service.call("sendLocalBufferToOutput", nbOfFrames, pBuffer).get();
+        return (Boolean)service().call("sendLocalBufferToOutput", nbOfFrames, pBuffer).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #sendLocalBufferToOutput}.
+    * This function allows a local module to send sound onto the nao's loudpseakers
+You must pass to this function a pointer to the stereo buffer to send, and the number of frames per channel. The buffer must contain 16bits stereo interleaved samples, and the number of frames does not exceed 16384
+    * 
+    * @param nbOfFrames  Number of 16 bits samples per channel to send.
+    * @param pBuffer  Buffer to send
+    * @return True if the operation is successfull - False otherwise
+    */
+    public ALFuture<Boolean> sendLocalBufferToOutputAsync(Integer nbOfFrames, Integer pBuffer) throws CallError {
+        return ALFuture.of(service().<Boolean>call("sendLocalBufferToOutput", nbOfFrames, pBuffer));
     }
 
     /**
@@ -463,7 +898,20 @@ You must pass to this function the stereo buffer you want to send as an ALValue
     * @return True if the operation is successfull - False otherwise
     */
     public Boolean sendRemoteBufferToOutput(Integer nbOfFrames, java.lang.Object pBuffer) throws CallError, InterruptedException {
-        return (Boolean)service.call("sendRemoteBufferToOutput", nbOfFrames, pBuffer).get();
+        return (Boolean)service().call("sendRemoteBufferToOutput", nbOfFrames, pBuffer).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #sendRemoteBufferToOutput}.
+    * This function allows a remote module to send sound onto the nao's loudpseakers
+You must pass to this function the stereo buffer you want to send as an ALValue converted to binary, and the number of frames per channel. The number of frames does not exceed 16384. For more information please see the red documentation
+    * 
+    * @param nbOfFrames  Number of 16 bits samples per channel to send.
+    * @param pBuffer  Buffer to send
+    * @return True if the operation is successfull - False otherwise
+    */
+    public ALFuture<Boolean> sendRemoteBufferToOutputAsync(Integer nbOfFrames, java.lang.Object pBuffer) throws CallError {
+        return ALFuture.of(service().<Boolean>call("sendRemoteBufferToOutput", nbOfFrames, pBuffer));
     }
 
     /**
@@ -473,9 +921,19 @@ You must pass to this function the stereo buffer you want to send as an ALValue
     */
     public void setFileAsInput(String pFileName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setFileAsInput", pFileName);
+            service().call("setFileAsInput", pFileName);
         else
-            service.call("setFileAsInput", pFileName).get();
+            service().call("setFileAsInput", pFileName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setFileAsInput}.
+    * This method allows to send sound samples contained in a sound file at the input of ALAudioDevice, instead of the nao's microphones sound data. The sound file must be a .wav file containing 16bits / 4 channels / interleaved samples. Once the file has been read, microphones sound data will again taken as input
+    * 
+    * @param pFileName  Name of the input file.
+    */
+    public ALFuture<Void> setFileAsInputAsync(String pFileName) throws CallError {
+        return ALFuture.of(service().<Void>call("setFileAsInput", pFileName));
     }
 
     /**
@@ -488,9 +946,22 @@ outputSampleRate can bet set to 16000 Hz, 22050 Hz, 44100 Hz or 48000 Hz. Warnin
     */
     public void setParameter(String pParamName, Integer pParamValue) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setParameter", pParamName, pParamValue);
+            service().call("setParameter", pParamName, pParamValue);
         else
-            service.call("setParameter", pParamName, pParamValue).get();
+            service().call("setParameter", pParamName, pParamValue).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setParameter}.
+    * This method sets the specified internal parameter ('outputSampleRate' or 'inputBufferSize')
+inputBufferSize can bet set to 8192 or 16384. Warning: when speech recognition is running, a buffer size of 8192 is used. Don't change it during the recognition process.
+outputSampleRate can bet set to 16000 Hz, 22050 Hz, 44100 Hz or 48000 Hz. Warning: if speech synthesis is running, a sample rate of 16000 Hz or 22050 Hz is used (depending of the language). Don't change it during the synthesis process
+    * 
+    * @param pParamName  Name of the parameter to set ('outputSampleRate' or 'inputBufferSize').
+    * @param pParamValue  The value to which the specified parameter should be set.
+    */
+    public ALFuture<Void> setParameterAsync(String pParamName, Integer pParamValue) throws CallError {
+        return ALFuture.of(service().<Void>call("setParameter", pParamName, pParamValue));
     }
 
     /**
@@ -500,7 +971,18 @@ outputSampleRate can bet set to 16000 Hz, 22050 Hz, 44100 Hz or 48000 Hz. Warnin
     * @return value of the specified parameter
     */
     public Integer getParameter(String pParamName) throws CallError, InterruptedException {
-        return (Integer)service.call("getParameter", pParamName).get();
+        return (Integer)service().call("getParameter", pParamName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getParameter}.
+    * This method returns the specified internal parameter ('outputSampleRate' or 'inputBufferSize'). The value -1 is returned if the specified parameter is not valid.
+    * 
+    * @param pParamName  Name of the parameter to get ('outputSampleRate' or 'inputBufferSize').
+    * @return value of the specified parameter
+    */
+    public ALFuture<Integer> getParameterAsync(String pParamName) throws CallError {
+        return ALFuture.of(service().<Integer>call("getParameter", pParamName));
     }
 
     /**
@@ -510,9 +992,19 @@ outputSampleRate can bet set to 16000 Hz, 22050 Hz, 44100 Hz or 48000 Hz. Warnin
     */
     public void startMicrophonesRecording(String pFileName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("startMicrophonesRecording", pFileName);
+            service().call("startMicrophonesRecording", pFileName);
         else
-            service.call("startMicrophonesRecording", pFileName).get();
+            service().call("startMicrophonesRecording", pFileName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #startMicrophonesRecording}.
+    * This method allows to record the signal collected on the nao's microphones. You can choose to record only the front microphone in a ogg file, or the 4 microphones in a wav file. In this last case the format of the file is 4 channels, 16 bits little endian, 48 KHz
+    * 
+    * @param pFileName  Name of the file where to record the sound.
+    */
+    public ALFuture<Void> startMicrophonesRecordingAsync(String pFileName) throws CallError {
+        return ALFuture.of(service().<Void>call("startMicrophonesRecording", pFileName));
     }
 
     /**
@@ -521,9 +1013,18 @@ outputSampleRate can bet set to 16000 Hz, 22050 Hz, 44100 Hz or 48000 Hz. Warnin
     */
     public void stopMicrophonesRecording() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stopMicrophonesRecording");
+            service().call("stopMicrophonesRecording");
         else
-            service.call("stopMicrophonesRecording").get();
+            service().call("stopMicrophonesRecording").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stopMicrophonesRecording}.
+    * This method stops the recording of the sound collected by the microphones.
+    * 
+    */
+    public ALFuture<Void> stopMicrophonesRecordingAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("stopMicrophonesRecording"));
     }
 
     /**
@@ -533,9 +1034,19 @@ outputSampleRate can bet set to 16000 Hz, 22050 Hz, 44100 Hz or 48000 Hz. Warnin
     */
     public void setOutputVolume(Integer volume) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setOutputVolume", volume);
+            service().call("setOutputVolume", volume);
         else
-            service.call("setOutputVolume", volume).get();
+            service().call("setOutputVolume", volume).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setOutputVolume}.
+    * Sets the output sound level of the system.
+    * 
+    * @param volume  Volume [0-100].
+    */
+    public ALFuture<Void> setOutputVolumeAsync(Integer volume) throws CallError {
+        return ALFuture.of(service().<Void>call("setOutputVolume", volume));
     }
 
     /**
@@ -544,7 +1055,17 @@ outputSampleRate can bet set to 16000 Hz, 22050 Hz, 44100 Hz or 48000 Hz. Warnin
     * @return outputVolume of the system
     */
     public Integer getOutputVolume() throws CallError, InterruptedException {
-        return (Integer)service.call("getOutputVolume").get();
+        return (Integer)service().call("getOutputVolume").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getOutputVolume}.
+    * Gets the output sound level of the system.
+    * 
+    * @return outputVolume of the system
+    */
+    public ALFuture<Integer> getOutputVolumeAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("getOutputVolume"));
     }
 
     /**
@@ -553,9 +1074,18 @@ outputSampleRate can bet set to 16000 Hz, 22050 Hz, 44100 Hz or 48000 Hz. Warnin
     */
     public void openAudioInputs() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("openAudioInputs");
+            service().call("openAudioInputs");
         else
-            service.call("openAudioInputs").get();
+            service().call("openAudioInputs").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #openAudioInputs}.
+    * Opens the audio device for capture. If you closed the audio inputs with the closeAudioInputs method, you must call this method to be able to access to the sound data of the nao's microphones. 
+    * 
+    */
+    public ALFuture<Void> openAudioInputsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("openAudioInputs"));
     }
 
     /**
@@ -564,9 +1094,18 @@ outputSampleRate can bet set to 16000 Hz, 22050 Hz, 44100 Hz or 48000 Hz. Warnin
     */
     public void openAudioOutputs() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("openAudioOutputs");
+            service().call("openAudioOutputs");
         else
-            service.call("openAudioOutputs").get();
+            service().call("openAudioOutputs").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #openAudioOutputs}.
+    * Opens the audio device for playback. If you closed the audio outputs with the closeAudioOutputs method, you must call this method to ear or send sound onto the nao's loudspeakers.
+    * 
+    */
+    public ALFuture<Void> openAudioOutputsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("openAudioOutputs"));
     }
 
     /**
@@ -575,9 +1114,18 @@ outputSampleRate can bet set to 16000 Hz, 22050 Hz, 44100 Hz or 48000 Hz. Warnin
     */
     public void closeAudioInputs() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("closeAudioInputs");
+            service().call("closeAudioInputs");
         else
-            service.call("closeAudioInputs").get();
+            service().call("closeAudioInputs").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #closeAudioInputs}.
+    * Closes the audio device for capture. You can call this method if you want to have access to the alsa input buffers in another program than naoqi while naoqi is running (with arecord for example)
+    * 
+    */
+    public ALFuture<Void> closeAudioInputsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("closeAudioInputs"));
     }
 
     /**
@@ -586,9 +1134,18 @@ outputSampleRate can bet set to 16000 Hz, 22050 Hz, 44100 Hz or 48000 Hz. Warnin
     */
     public void closeAudioOutputs() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("closeAudioOutputs");
+            service().call("closeAudioOutputs");
         else
-            service.call("closeAudioOutputs").get();
+            service().call("closeAudioOutputs").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #closeAudioOutputs}.
+    * Closes the audio device for playback. close the audio device for capture. You can call this method if you want to send sound to alsa in another program than naoqi while naoqi is running (with aplay for example)
+    * 
+    */
+    public ALFuture<Void> closeAudioOutputsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("closeAudioOutputs"));
     }
 
 }
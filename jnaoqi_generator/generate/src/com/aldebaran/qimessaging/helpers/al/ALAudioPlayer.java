@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -23,7 +24,16 @@ public class ALAudioPlayer extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -32,9 +42,18 @@ public class ALAudioPlayer extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -42,7 +61,16 @@ public class ALAudioPlayer extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -51,9 +79,18 @@ public class ALAudioPlayer extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -62,7 +99,17 @@ public class ALAudioPlayer extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -71,7 +118,17 @@ public class ALAudioPlayer extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -80,7 +137,17 @@ public class ALAudioPlayer extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -90,7 +157,18 @@ public class ALAudioPlayer extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -99,7 +177,17 @@ public class ALAudioPlayer extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -110,7 +198,19 @@ public class ALAudioPlayer extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -120,7 +220,18 @@ public class ALAudioPlayer extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -130,9 +241,19 @@ public class ALAudioPlayer extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -141,7 +262,17 @@ public class ALAudioPlayer extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -151,7 +282,18 @@ public class ALAudioPlayer extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -161,9 +303,19 @@ public class ALAudioPlayer extends ALModule {
     */
     public void playFile(String fileName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("playFile", fileName);
+            service().call("playFile", fileName);
         else
-            service.call("playFile", fileName).get();
+            service().call("playFile", fileName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #playFile}.
+    * Plays a wav or mp3 file
+    * 
+    * @param fileName  Path of the sound file
+    */
+    public ALFuture<Void> playFileAsync(String fileName) throws CallError {
+        return ALFuture.of(service().<Void>call("playFile", fileName));
     }
 
     /**
@@ -175,9 +327,21 @@ public class ALAudioPlayer extends ALModule {
     */
     public void playFile(String fileName, Float volume, Float pan) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("playFile", fileName, volume, pan);
+            service().call("playFile", fileName, volume, pan);
         else
-            service.call("playFile", fileName, volume, pan).get();
+            service().call("playFile", fileName, volume, pan).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #playFile}.
+    * Plays a wav or mp3 file, with specific volume and audio balance
+    * 
+    * @param fileName  Path of the sound file
+    * @param volume  volume of the sound file (must be between 0.0 and 1.0)
+    * @param pan  audio balance of the sound file (-1.0 : left / 1.0 : right / 0.0 : centered)
+    */
+    public ALFuture<Void> playFileAsync(String fileName, Float volume, Float pan) throws CallError {
+        return ALFuture.of(service().<Void>call("playFile", fileName, volume, pan));
     }
 
     /**
@@ -187,9 +351,19 @@ public class ALAudioPlayer extends ALModule {
     */
     public void _playSoundSetFile(String fileName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_playSoundSetFile", fileName);
+            service().call("_playSoundSetFile", fileName);
         else
-            service.call("_playSoundSetFile", fileName).get();
+            service().call("_playSoundSetFile", fileName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_playSoundSetFile}.
+    * Plays a file contained in one of the sound sets loaded
+    * 
+    * @param fileName  Name of the file without extension
+    */
+    public ALFuture<Void> _playSoundSetFileAsync(String fileName) throws CallError {
+        return ALFuture.of(service().<Void>call("_playSoundSetFile", fileName));
     }
 
     /**
@@ -199,9 +373,19 @@ public class ALAudioPlayer extends ALModule {
     */
     public void playSoundSetFile(String fileName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("playSoundSetFile", fileName);
+            service().call("playSoundSetFile", fileName);
         else
-            service.call("playSoundSetFile", fileName).get();
+            service().call("playSoundSetFile", fileName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #playSoundSetFile}.
+    * Plays a file contained in one of the sound sets loaded
+    * 
+    * @param fileName  Name of the file without extension
+    */
+    public ALFuture<Void> playSoundSetFileAsync(String fileName) throws CallError {
+        return ALFuture.of(service().<Void>call("playSoundSetFile", fileName));
     }
 
     /**
@@ -211,9 +395,19 @@ public class ALAudioPlayer extends ALModule {
     */
     public void _playSystemSoundSetFile(String fileName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_playSystemSoundSetFile", fileName);
+            service().call("_playSystemSoundSetFile", fileName);
         else
-            service.call("_playSystemSoundSetFile", fileName).get();
+            service().call("_playSystemSoundSetFile", fileName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_playSystemSoundSetFile}.
+    * Plays a file contained in one of the sound sets loaded
+    * 
+    * @param fileName  Name of the file without extension
+    */
+    public ALFuture<Void> _playSystemSoundSetFileAsync(String fileName) throws CallError {
+        return ALFuture.of(service().<Void>call("_playSystemSoundSetFile", fileName));
     }
 
     /**
@@ -224,9 +418,20 @@ public class ALAudioPlayer extends ALModule {
     */
     public void _playSoundSetFile(String soundSetName, String fileName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_playSoundSetFile", soundSetName, fileName);
+            service().call("_playSoundSetFile", soundSetName, fileName);
         else
-            service.call("_playSoundSetFile", soundSetName, fileName).get();
+            service().call("_playSoundSetFile", soundSetName, fileName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_playSoundSetFile}.
+    * Plays a file contained in a given sound set
+    * 
+    * @param soundSetName  Name of the soundset
+    * @param fileName  Name of the file without extension
+    */
+    public ALFuture<Void> _playSoundSetFileAsync(String soundSetName, String fileName) throws CallError {
+        return ALFuture.of(service().<Void>call("_playSoundSetFile", soundSetName, fileName));
     }
 
     /**
@@ -237,9 +442,20 @@ public class ALAudioPlayer extends ALModule {
     */
     public void playSoundSetFile(String soundSetName, String fileName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("playSoundSetFile", soundSetName, fileName);
+            service().call("playSoundSetFile", soundSetName, fileName);
         else
-            service.call("playSoundSetFile", soundSetName, fileName).get();
+            service().call("playSoundSetFile", soundSetName, fileName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #playSoundSetFile}.
+    * Plays a file contained in a given sound set
+    * 
+    * @param soundSetName  Name of the soundset
+    * @param fileName  Name of the file without extension
+    */
+    public ALFuture<Void> playSoundSetFileAsync(String soundSetName, String fileName) throws CallError {
+        return ALFuture.of(service().<Void>call("playSoundSetFile", soundSetName, fileName));
     }
 
     /**
@@ -254,9 +470,24 @@ public class ALAudioPlayer extends ALModule {
     */
     public void _playSoundSetFile(String soundSetName, String fileName, Float position, Float volume, Float pan, Boolean loop) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_playSoundSetFile", soundSetName, fileName, position, volume, pan, loop);
+            service().call("_playSoundSetFile", soundSetName, fileName, position, volume, pan, loop);
         else
-            service.call("_playSoundSetFile", soundSetName, fileName, position, volume, pan, loop).get();
+            service().call("_playSoundSetFile", soundSetName, fileName, position, volume, pan, loop).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_playSoundSetFile}.
+    * Plays a file contained in a given sound set
+    * 
+    * @param soundSetName  Name of the soundset
+    * @param fileName  Name of the file without extension
+    * @param position  Position in second where the playing has to begin
+    * @param volume  volume of the sound file (must be between 0.0 and 1.0)
+    * @param pan  audio balance of the sound file (-1.0 : left / 1.0 : right)
+    * @param loop  specify if the file must be played in loop
+    */
+    public ALFuture<Void> _playSoundSetFileAsync(String soundSetName, String fileName, Float position, Float volume, Float pan, Boolean loop) throws CallError {
+        return ALFuture.of(service().<Void>call("_playSoundSetFile", soundSetName, fileName, position, volume, pan, loop));
     }
 
     /**
@@ -271,9 +502,24 @@ public class ALAudioPlayer extends ALModule {
     */
     public void playSoundSetFile(String soundSetName, String fileName, Float position, Float volume, Float pan, Boolean loop) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("playSoundSetFile", soundSetName, fileName, position, volume, pan, loop);
+            service().call("playSoundSetFile", soundSetName, fileName, position, volume, pan, loop);
         else
-            service.call("playSoundSetFile", soundSetName, fileName, position, volume, pan, loop).get();
+            service().call("playSoundSetFile", soundSetName, fileName, position, volume, pan, loop).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #playSoundSetFile}.
+    * Plays a file contained in a given sound set
+    * 
+    * @param soundSetName  Name of the soundset
+    * @param fileName  Name of the file without extension
+    * @param position  Position in second where the playing has to begin
+    * @param volume  volume of the sound file (must be between 0.0 and 1.0)
+    * @param pan  audio balance of the sound file (-1.0 : left / 1.0 : right)
+    * @param loop  specify if the file must be played in loop
+    */
+    public ALFuture<Void> playSoundSetFileAsync(String soundSetName, String fileName, Float position, Float volume, Float pan, Boolean loop) throws CallError {
+        return ALFuture.of(service().<Void>call("playSoundSetFile", soundSetName, fileName, position, volume, pan, loop));
     }
 
     /**
@@ -287,9 +533,23 @@ public class ALAudioPlayer extends ALModule {
     */
     public void _playSoundSetFile(String fileName, Float position, Float volume, Float pan, Boolean loop) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_playSoundSetFile", fileName, position, volume, pan, loop);
+            service().call("_playSoundSetFile", fileName, position, volume, pan, loop);
         else
-            service.call("_playSoundSetFile", fileName, position, volume, pan, loop).get();
+            service().call("_playSoundSetFile", fileName, position, volume, pan, loop).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_playSoundSetFile}.
+    * Plays a file contained in a given sound set
+    * 
+    * @param fileName  Name of the file without extension
+    * @param position  Position in second where the playing has to begin
+    * @param volume  volume of the sound file (must be between 0.0 and 1.0)
+    * @param pan  audio balance of the sound file (-1.0 : left / 1.0 : right)
+    * @param loop  specify if the file must be played in loop
+    */
+    public ALFuture<Void> _playSoundSetFileAsync(String fileName, Float position, Float volume, Float pan, Boolean loop) throws CallError {
+        return ALFuture.of(service().<Void>call("_playSoundSetFile", fileName, position, volume, pan, loop));
     }
 
     /**
@@ -303,9 +563,23 @@ public class ALAudioPlayer extends ALModule {
     */
     public void playSoundSetFile(String fileName, Float position, Float volume, Float pan, Boolean loop) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("playSoundSetFile", fileName, position, volume, pan, loop);
+            service().call("playSoundSetFile", fileName, position, volume, pan, loop);
         else
-            service.call("playSoundSetFile", fileName, position, volume, pan, loop).get();
+            service().call("playSoundSetFile", fileName, position, volume, pan, loop).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #playSoundSetFile}.
+    * Plays a file contained in a given sound set
+    * 
+    * @param fileName  Name of the file without extension
+    * @param position  Position in second where the playing has to begin
+    * @param volume  volume of the sound file (must be between 0.0 and 1.0)
+    * @param pan  audio balance of the sound file (-1.0 : left / 1.0 : right)
+    * @param loop  specify if the file must be played in loop
+    */
+    public ALFuture<Void> playSoundSetFileAsync(String fileName, Float position, Float volume, Float pan, Boolean loop) throws CallError {
+        return ALFuture.of(service().<Void>call("playSoundSetFile", fileName, position, volume, pan, loop));
     }
 
     /**
@@ -315,9 +589,19 @@ public class ALAudioPlayer extends ALModule {
     */
     public void _loadSoundSet(String setName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_loadSoundSet", setName);
+            service().call("_loadSoundSet", setName);
         else
-            service.call("_loadSoundSet", setName).get();
+            service().call("_loadSoundSet", setName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_loadSoundSet}.
+    * Load a sound set
+    * 
+    * @param setName  name of the set
+    */
+    public ALFuture<Void> _loadSoundSetAsync(String setName) throws CallError {
+        return ALFuture.of(service().<Void>call("_loadSoundSet", setName));
     }
 
     /**
@@ -327,9 +611,19 @@ public class ALAudioPlayer extends ALModule {
     */
     public void loadSoundSet(String setName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("loadSoundSet", setName);
+            service().call("loadSoundSet", setName);
         else
-            service.call("loadSoundSet", setName).get();
+            service().call("loadSoundSet", setName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #loadSoundSet}.
+    * Load a sound set
+    * 
+    * @param setName  name of the set
+    */
+    public ALFuture<Void> loadSoundSetAsync(String setName) throws CallError {
+        return ALFuture.of(service().<Void>call("loadSoundSet", setName));
     }
 
     /**
@@ -339,9 +633,19 @@ public class ALAudioPlayer extends ALModule {
     */
     public void _unloadSoundSet(String setName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_unloadSoundSet", setName);
+            service().call("_unloadSoundSet", setName);
         else
-            service.call("_unloadSoundSet", setName).get();
+            service().call("_unloadSoundSet", setName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_unloadSoundSet}.
+    * Unload a sound set
+    * 
+    * @param setName  name of the set
+    */
+    public ALFuture<Void> _unloadSoundSetAsync(String setName) throws CallError {
+        return ALFuture.of(service().<Void>call("_unloadSoundSet", setName));
     }
 
     /**
@@ -351,9 +655,19 @@ public class ALAudioPlayer extends ALModule {
     */
     public void unloadSoundSet(String setName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("unloadSoundSet", setName);
+            service().call("unloadSoundSet", setName);
         else
-            service.call("unloadSoundSet", setName).get();
+            service().call("unloadSoundSet", setName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #unloadSoundSet}.
+    * Unload a sound set
+    * 
+    * @param setName  name of the set
+    */
+    public ALFuture<Void> unloadSoundSetAsync(String setName) throws CallError {
+        return ALFuture.of(service().<Void>call("unloadSoundSet", setName));
     }
 
     /**
@@ -363,9 +677,19 @@ public class ALAudioPlayer extends ALModule {
     */
     public void _loadSystemSoundSet(String setName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_loadSystemSoundSet", setName);
+            service().call("_loadSystemSoundSet", setName);
         else
-            service.call("_loadSystemSoundSet", setName).get();
+            service().call("_loadSystemSoundSet", setName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_loadSystemSoundSet}.
+    * Load a system sound set
+    * 
+    * @param setName  name of the set
+    */
+    public ALFuture<Void> _loadSystemSoundSetAsync(String setName) throws CallError {
+        return ALFuture.of(service().<Void>call("_loadSystemSoundSet", setName));
     }
 
     /**
@@ -375,9 +699,19 @@ public class ALAudioPlayer extends ALModule {
     */
     public void _setDefaultSystemSoundSet(String setName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setDefaultSystemSoundSet", setName);
+            service().call("_setDefaultSystemSoundSet", setName);
         else
-            service.call("_setDefaultSystemSoundSet", setName).get();
+            service().call("_setDefaultSystemSoundSet", setName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setDefaultSystemSoundSet}.
+    * Sets the default soundset used for system sounds
+    * 
+    * @param setName  name of the set
+    */
+    public ALFuture<Void> _setDefaultSystemSoundSetAsync(String setName) throws CallError {
+        return ALFuture.of(service().<Void>call("_setDefaultSystemSoundSet", setName));
     }
 
     /**
@@ -386,7 +720,17 @@ public class ALAudioPlayer extends ALModule {
     * @param setName  name of the set
     */
     public List<String> _getSoundSetFileNames(String setName) throws CallError, InterruptedException {
-        return (List<String>)service.call("_getSoundSetFileNames", setName).get();
+        return (List<String>)service().call("_getSoundSetFileNames", setName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getSoundSetFileNames}.
+    * Return the list of files contained in a sound set
+    * 
+    * @param setName  name of the set
+    */
+    public ALFuture<List<String>> _getSoundSetFileNamesAsync(String setName) throws CallError {
+        return ALFuture.of(service().<List<String>>call("_getSoundSetFileNames", setName));
     }
 
     /**
@@ -395,7 +739,17 @@ public class ALAudioPlayer extends ALModule {
     * @param setName  name of the set
     */
     public List<String> getSoundSetFileNames(String setName) throws CallError, InterruptedException {
-        return (List<String>)service.call("getSoundSetFileNames", setName).get();
+        return (List<String>)service().call("getSoundSetFileNames", setName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getSoundSetFileNames}.
+    * Return the list of files contained in a sound set
+    * 
+    * @param setName  name of the set
+    */
+    public ALFuture<List<String>> getSoundSetFileNamesAsync(String setName) throws CallError {
+        return ALFuture.of(service().<List<String>>call("getSoundSetFileNames", setName));
     }
 
     /**
@@ -403,7 +757,16 @@ public class ALAudioPlayer extends ALModule {
     * 
     */
     public String _getCurrentSystemSoundSet() throws CallError, InterruptedException {
-        return (String)service.call("_getCurrentSystemSoundSet").get();
+        return (String)service().call("_getCurrentSystemSoundSet").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getCurrentSystemSoundSet}.
+    * Return the current sound set loaded
+    * 
+    */
+    public ALFuture<String> _getCurrentSystemSoundSetAsync() throws CallError {
+        return ALFuture.of(service().<String>call("_getCurrentSystemSoundSet"));
     }
 
     /**
@@ -411,7 +774,16 @@ public class ALAudioPlayer extends ALModule {
     * 
     */
     public List<String> _getLoadedSoundSetsList() throws CallError, InterruptedException {
-        return (List<String>)service.call("_getLoadedSoundSetsList").get();
+        return (List<String>)service().call("_getLoadedSoundSetsList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getLoadedSoundSetsList}.
+    * 
+    * 
+    */
+    public ALFuture<List<String>> _getLoadedSoundSetsListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("_getLoadedSoundSetsList"));
     }
 
     /**
@@ -419,61 +791,149 @@ public class ALAudioPlayer extends ALModule {
     * 
     */
     public List<String> getLoadedSoundSetsList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getLoadedSoundSetsList").get();
+        return (List<String>)service().call("getLoadedSoundSetsList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getLoadedSoundSetsList}.
+    * 
+    * 
+    */
+    public ALFuture<List<String>> getLoadedSoundSetsListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getLoadedSoundSetsList"));
+    }
+
+    /**
+    * 
+    * 
+    */
+    public List<String> _getInstalledSoundSetsList() throws CallError, InterruptedException {
+        return (List<String>)service().call("_getInstalledSoundSetsList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getInstalledSoundSetsList}.
+    * 
+    * 
+    */
+    public ALFuture<List<String>> _getInstalledSoundSetsListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("_getInstalledSoundSetsList"));
+    }
+
+    /**
+    * 
+    * 
+    */
+    public List<String> getInstalledSoundSetsList() throws CallError, InterruptedException {
+        return (List<String>)service().call("getInstalledSoundSetsList").get();
     }
 
     /**
+    * Asynchronous version of {@link #getInstalledSoundSetsList}.
     * 
     * 
     */
-    public List<String> _getInstalledSoundSetsList() throws CallError, InterruptedException {
-        return (List<String>)service.call("_getInstalledSoundSetsList").get();
+    public ALFuture<List<String>> getInstalledSoundSetsListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getInstalledSoundSetsList"));
+    }
+
+    /**
+    * 
+    * 
+    * @param setName  name of the set
+    */
+    public Boolean _isSoundSetInstalled(String setName) throws CallError, InterruptedException {
+        return (Boolean)service().call("_isSoundSetInstalled", setName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_isSoundSetInstalled}.
+    * 
+    * 
+    * @param setName  name of the set
+    */
+    public ALFuture<Boolean> _isSoundSetInstalledAsync(String setName) throws CallError {
+        return ALFuture.of(service().<Boolean>call("_isSoundSetInstalled", setName));
+    }
+
+    /**
+    * 
+    * 
+    * @param setName  name of the set
+    */
+    public Boolean isSoundSetInstalled(String setName) throws CallError, InterruptedException {
+        return (Boolean)service().call("isSoundSetInstalled", setName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isSoundSetInstalled}.
+    * 
+    * 
+    * @param setName  name of the set
+    */
+    public ALFuture<Boolean> isSoundSetInstalledAsync(String setName) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isSoundSetInstalled", setName));
+    }
+
+    /**
+    * 
+    * 
+    * @param setName  name of the set
+    * @param soundName  name of the sound
+    */
+    public Boolean _isSoundSetFileInstalled(String setName, String soundName) throws CallError, InterruptedException {
+        return (Boolean)service().call("_isSoundSetFileInstalled", setName, soundName).get();
     }
 
     /**
+    * Asynchronous version of {@link #_isSoundSetFileInstalled}.
     * 
     * 
+    * @param setName  name of the set
+    * @param soundName  name of the sound
     */
-    public List<String> getInstalledSoundSetsList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getInstalledSoundSetsList").get();
+    public ALFuture<Boolean> _isSoundSetFileInstalledAsync(String setName, String soundName) throws CallError {
+        return ALFuture.of(service().<Boolean>call("_isSoundSetFileInstalled", setName, soundName));
     }
 
     /**
     * 
     * 
     * @param setName  name of the set
+    * @param soundName  name of the sound
     */
-    public Boolean _isSoundSetInstalled(String setName) throws CallError, InterruptedException {
-        return (Boolean)service.call("_isSoundSetInstalled", setName).get();
+    public Boolean isSoundSetFileInstalled(String setName, String soundName) throws CallError, InterruptedException {
+        return (Boolean)service().call("isSoundSetFileInstalled", setName, soundName).get();
     }
 
     /**
+    * Asynchronous version of {@link #isSoundSetFileInstalled}.
     * 
     * 
     * @param setName  name of the set
+    * @param soundName  name of the sound
     */
-    public Boolean isSoundSetInstalled(String setName) throws CallError, InterruptedException {
-        return (Boolean)service.call("isSoundSetInstalled", setName).get();
+    public ALFuture<Boolean> isSoundSetFileInstalledAsync(String setName, String soundName) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isSoundSetFileInstalled", setName, soundName));
     }
 
     /**
     * 
     * 
-    * @param setName  name of the set
     * @param soundName  name of the sound
     */
-    public Boolean _isSoundSetFileInstalled(String setName, String soundName) throws CallError, InterruptedException {
-        return (Boolean)service.call("_isSoundSetFileInstalled", setName, soundName).get();
+    public Float _getSystemSoundSetFileDuration(String soundName) throws CallError, InterruptedException {
+        return (Float)service().call("_getSystemSoundSetFileDuration", soundName).get();
     }
 
     /**
+    * Asynchronous version of {@link #_getSystemSoundSetFileDuration}.
     * 
     * 
-    * @param setName  name of the set
     * @param soundName  name of the sound
     */
-    public Boolean isSoundSetFileInstalled(String setName, String soundName) throws CallError, InterruptedException {
-        return (Boolean)service.call("isSoundSetFileInstalled", setName, soundName).get();
+    public ALFuture<Float> _getSystemSoundSetFileDurationAsync(String soundName) throws CallError {
+        return ALFuture.of(service().<Float>call("_getSystemSoundSetFileDuration", soundName));
     }
 
     /**
@@ -481,17 +941,18 @@ public class ALAudioPlayer extends ALModule {
     * 
     * @param soundName  name of the sound
     */
-    public Float _getSystemSoundSetFileDuration(String soundName) throws CallError, InterruptedException {
-        return (Float)service.call("_getSystemSoundSetFileDuration", soundName).get();
+    public String _getSystemSoundSetFilePath(String soundName) throws CallError, InterruptedException {
+        return (String)service().call("_getSystemSoundSetFilePath", soundName).get();
     }
 
     /**
+    * Asynchronous version of {@link #_getSystemSoundSetFilePath}.
     * 
     * 
     * @param soundName  name of the sound
     */
-    public String _getSystemSoundSetFilePath(String soundName) throws CallError, InterruptedException {
-        return (String)service.call("_getSystemSoundSetFilePath", soundName).get();
+    public ALFuture<String> _getSystemSoundSetFilePathAsync(String soundName) throws CallError {
+        return ALFuture.of(service().<String>call("_getSystemSoundSetFilePath", soundName));
     }
 
     /**
@@ -501,9 +962,19 @@ public class ALAudioPlayer extends ALModule {
     */
     public void playFileInLoop(String fileName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("playFileInLoop", fileName);
+            service().call("playFileInLoop", fileName);
         else
-            service.call("playFileInLoop", fileName).get();
+            service().call("playFileInLoop", fileName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #playFileInLoop}.
+    * Plays a wav or mp3 file in loop
+    * 
+    * @param fileName  Path of the sound file
+    */
+    public ALFuture<Void> playFileInLoopAsync(String fileName) throws CallError {
+        return ALFuture.of(service().<Void>call("playFileInLoop", fileName));
     }
 
     /**
@@ -515,9 +986,21 @@ public class ALAudioPlayer extends ALModule {
     */
     public void playFileInLoop(String fileName, Float volume, Float pan) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("playFileInLoop", fileName, volume, pan);
+            service().call("playFileInLoop", fileName, volume, pan);
         else
-            service.call("playFileInLoop", fileName, volume, pan).get();
+            service().call("playFileInLoop", fileName, volume, pan).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #playFileInLoop}.
+    * Plays a wav or mp3 file in loop, with specific volume and audio balance
+    * 
+    * @param fileName  Path of the sound file
+    * @param volume  volume of the sound file (must be between 0.0 and 1.0)
+    * @param pan  audio balance of the sound file (-1.0 : left / 1.0 : right)
+    */
+    public ALFuture<Void> playFileInLoopAsync(String fileName, Float volume, Float pan) throws CallError {
+        return ALFuture.of(service().<Void>call("playFileInLoop", fileName, volume, pan));
     }
 
     /**
@@ -528,9 +1011,20 @@ public class ALAudioPlayer extends ALModule {
     */
     public void playFileFromPosition(String fileName, Float position) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("playFileFromPosition", fileName, position);
+            service().call("playFileFromPosition", fileName, position);
         else
-            service.call("playFileFromPosition", fileName, position).get();
+            service().call("playFileFromPosition", fileName, position).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #playFileFromPosition}.
+    * Plays a wav or mp3 file from a given position in the file.
+    * 
+    * @param fileName  Name of the sound file
+    * @param position  Position in second where the playing has to begin
+    */
+    public ALFuture<Void> playFileFromPositionAsync(String fileName, Float position) throws CallError {
+        return ALFuture.of(service().<Void>call("playFileFromPosition", fileName, position));
     }
 
     /**
@@ -543,9 +1037,22 @@ public class ALAudioPlayer extends ALModule {
     */
     public void playFileFromPosition(String fileName, Float position, Float volume, Float pan) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("playFileFromPosition", fileName, position, volume, pan);
+            service().call("playFileFromPosition", fileName, position, volume, pan);
         else
-            service.call("playFileFromPosition", fileName, position, volume, pan).get();
+            service().call("playFileFromPosition", fileName, position, volume, pan).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #playFileFromPosition}.
+    * Plays a wav or mp3 file from a given position in the file, with specific volume and audio balance
+    * 
+    * @param fileName  Name of the sound file
+    * @param position  Position in second where the playing has to begin
+    * @param volume  volume of the sound file (must be between 0.0 and 1.0)
+    * @param pan  audio balance of the sound file (-1.0 : left / 1.0 : right)
+    */
+    public ALFuture<Void> playFileFromPositionAsync(String fileName, Float position, Float volume, Float pan) throws CallError {
+        return ALFuture.of(service().<Void>call("playFileFromPosition", fileName, position, volume, pan));
     }
 
     /**
@@ -556,9 +1063,20 @@ public class ALAudioPlayer extends ALModule {
     */
     public void goTo(Integer playId, Float position) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("goTo", playId, position);
+            service().call("goTo", playId, position);
         else
-            service.call("goTo", playId, position).get();
+            service().call("goTo", playId, position).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #goTo}.
+    * Goes to a given position in a file which is playing.
+    * 
+    * @param playId  Id of the process which is playing the file
+    * @param position  Position in the file (in second)
+    */
+    public ALFuture<Void> goToAsync(Integer playId, Float position) throws CallError {
+        return ALFuture.of(service().<Void>call("goTo", playId, position));
     }
 
     /**
@@ -567,9 +1085,18 @@ public class ALAudioPlayer extends ALModule {
     */
     public void stopAll() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stopAll");
+            service().call("stopAll");
         else
-            service.call("stopAll").get();
+            service().call("stopAll").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stopAll}.
+    * Stops all the files that are currently playing.
+    * 
+    */
+    public ALFuture<Void> stopAllAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("stopAll"));
     }
 
     /**
@@ -579,9 +1106,19 @@ public class ALAudioPlayer extends ALModule {
     */
     public void pause(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("pause", id);
+            service().call("pause", id);
         else
-            service.call("pause", id).get();
+            service().call("pause", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #pause}.
+    * Pause a play back
+    * 
+    * @param id  Id of the process that is playing the file you want to put in pause
+    */
+    public ALFuture<Void> pauseAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("pause", id));
     }
 
     /**
@@ -592,9 +1129,20 @@ public class ALAudioPlayer extends ALModule {
     */
     public void setVolume(Integer id, Float volume) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setVolume", id, volume);
+            service().call("setVolume", id, volume);
         else
-            service.call("setVolume", id, volume).get();
+            service().call("setVolume", id, volume).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setVolume}.
+    * Sets the volume of the player
+    * 
+    * @param id  Id of the process that is playing the file you want to put louder or less loud
+    * @param volume  Volume - range 0.0 to 1.0
+    */
+    public ALFuture<Void> setVolumeAsync(Integer id, Float volume) throws CallError {
+        return ALFuture.of(service().<Void>call("setVolume", id, volume));
     }
 
     /**
@@ -604,9 +1152,19 @@ public class ALAudioPlayer extends ALModule {
     */
     public void setMasterVolume(Float volume) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setMasterVolume", volume);
+            service().call("setMasterVolume", volume);
         else
-            service.call("setMasterVolume", volume).get();
+            service().call("setMasterVolume", volume).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setMasterVolume}.
+    * Sets the master volume of the player
+    * 
+    * @param volume  Volume - range 0.0 to 1.0
+    */
+    public ALFuture<Void> setMasterVolumeAsync(Float volume) throws CallError {
+        return ALFuture.of(service().<Void>call("setMasterVolume", volume));
     }
 
     /**
@@ -616,7 +1174,18 @@ public class ALAudioPlayer extends ALModule {
     * @return Volume of the player - range 0.0 to 1.0.
     */
     public Float getVolume(Integer playId) throws CallError, InterruptedException {
-        return (Float)service.call("getVolume", playId).get();
+        return (Float)service().call("getVolume", playId).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getVolume}.
+    * Returns the volume of the player
+    * 
+    * @param playId  Id of the process which is playing the file
+    * @return Volume of the player - range 0.0 to 1.0.
+    */
+    public ALFuture<Float> getVolumeAsync(Integer playId) throws CallError {
+        return ALFuture.of(service().<Float>call("getVolume", playId));
     }
 
     /**
@@ -625,7 +1194,17 @@ public class ALAudioPlayer extends ALModule {
     * @return Volume of the master - range 0.0 to 1.0.
     */
     public Float getMasterVolume() throws CallError, InterruptedException {
-        return (Float)service.call("getMasterVolume").get();
+        return (Float)service().call("getMasterVolume").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMasterVolume}.
+    * Returns the master volume of the player
+    * 
+    * @return Volume of the master - range 0.0 to 1.0.
+    */
+    public ALFuture<Float> getMasterVolumeAsync() throws CallError {
+        return ALFuture.of(service().<Float>call("getMasterVolume"));
     }
 
     /**
@@ -634,9 +1213,18 @@ public class ALAudioPlayer extends ALModule {
     */
     public void setPanorama(Float param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setPanorama", param1);
+            service().call("setPanorama", param1);
         else
-            service.call("setPanorama", param1).get();
+            service().call("setPanorama", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setPanorama}.
+    * sets the audio panorama : -1 for left speaker / 1 for right speaker
+    * 
+    */
+    public ALFuture<Void> setPanoramaAsync(Float param1) throws CallError {
+        return ALFuture.of(service().<Void>call("setPanorama", param1));
     }
 
     /**
@@ -646,7 +1234,18 @@ public class ALAudioPlayer extends ALModule {
     * @return Id of the file which has been loaded. This file can then be played with the play function
     */
     public Integer loadFile(String fileName) throws CallError, InterruptedException {
-        return (Integer)service.call("loadFile", fileName).get();
+        return (Integer)service().call("loadFile", fileName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #loadFile}.
+    * Loads a file for ulterior playback
+    * 
+    * @param fileName  Path of the sound file (either mp3 or wav)
+    * @return Id of the file which has been loaded. This file can then be played with the play function
+    */
+    public ALFuture<Integer> loadFileAsync(String fileName) throws CallError {
+        return ALFuture.of(service().<Integer>call("loadFile", fileName));
     }
 
     /**
@@ -656,9 +1255,19 @@ public class ALAudioPlayer extends ALModule {
     */
     public void unloadFile(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("unloadFile", id);
+            service().call("unloadFile", id);
         else
-            service.call("unloadFile", id).get();
+            service().call("unloadFile", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #unloadFile}.
+    * unloads a file previously loaded with the loadFile function
+    * 
+    * @param id  Id returned by the loadFile function
+    */
+    public ALFuture<Void> unloadFileAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("unloadFile", id));
     }
 
     /**
@@ -667,9 +1276,18 @@ public class ALAudioPlayer extends ALModule {
     */
     public void unloadAllFiles() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("unloadAllFiles");
+            service().call("unloadAllFiles");
         else
-            service.call("unloadAllFiles").get();
+            service().call("unloadAllFiles").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #unloadAllFiles}.
+    * unloads all the files already loaded.
+    * 
+    */
+    public ALFuture<Void> unloadAllFilesAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("unloadAllFiles"));
     }
 
     /**
@@ -678,7 +1296,17 @@ public class ALAudioPlayer extends ALModule {
     * @return Array containing the names of the files which has been loaded
     */
     public List<String> getLoadedFilesNames() throws CallError, InterruptedException {
-        return (List<String>)service.call("getLoadedFilesNames").get();
+        return (List<String>)service().call("getLoadedFilesNames").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getLoadedFilesNames}.
+    * returns an array containing the names of the currently loaded files
+    * 
+    * @return Array containing the names of the files which has been loaded
+    */
+    public ALFuture<List<String>> getLoadedFilesNamesAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getLoadedFilesNames"));
     }
 
     /**
@@ -687,7 +1315,17 @@ public class ALAudioPlayer extends ALModule {
     * @return Array containing the Ids of the files which has been loaded
     */
     public List<String> getLoadedFilesIds() throws CallError, InterruptedException {
-        return (List<String>)service.call("getLoadedFilesIds").get();
+        return (List<String>)service().call("getLoadedFilesIds").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getLoadedFilesIds}.
+    * returns an array containing the Ids of the currently loaded files
+    * 
+    * @return Array containing the Ids of the files which has been loaded
+    */
+    public ALFuture<List<String>> getLoadedFilesIdsAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getLoadedFilesIds"));
     }
 
     /**
@@ -697,9 +1335,19 @@ public class ALAudioPlayer extends ALModule {
     */
     public void play(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("play", id);
+            service().call("play", id);
         else
-            service.call("play", id).get();
+            service().call("play", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #play}.
+    * Starts the playback of a file preloaded with the loadFile function.
+    * 
+    * @param id  Id returned by the loadFile function
+    */
+    public ALFuture<Void> playAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("play", id));
     }
 
     /**
@@ -711,9 +1359,21 @@ public class ALAudioPlayer extends ALModule {
     */
     public void play(Integer id, Float volume, Float pan) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("play", id, volume, pan);
+            service().call("play", id, volume, pan);
         else
-            service.call("play", id, volume, pan).get();
+            service().call("play", id, volume, pan).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #play}.
+    * Starts the playback of a file preloaded with the loadFile function, with specific volume and audio balance
+    * 
+    * @param id  Id returned by the loadFile function
+    * @param volume  volume of the sound file (must be between 0.0 and 1.0)
+    * @param pan  audio balance of the sound file (-1.0 : left / 1.0 : right)
+    */
+    public ALFuture<Void> playAsync(Integer id, Float volume, Float pan) throws CallError {
+        return ALFuture.of(service().<Void>call("play", id, volume, pan));
     }
 
     /**
@@ -723,9 +1383,19 @@ public class ALAudioPlayer extends ALModule {
     */
     public void playInLoop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("playInLoop", id);
+            service().call("playInLoop", id);
         else
-            service.call("playInLoop", id).get();
+            service().call("playInLoop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #playInLoop}.
+    * Starts the playback in loop of a file preloaded with the loadFile function
+    * 
+    * @param id  Id returned by the loadFile function
+    */
+    public ALFuture<Void> playInLoopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("playInLoop", id));
     }
 
     /**
@@ -737,9 +1407,21 @@ public class ALAudioPlayer extends ALModule {
     */
     public void playInLoop(Integer id, Float volume, Float pan) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("playInLoop", id, volume, pan);
+            service().call("playInLoop", id, volume, pan);
         else
-            service.call("playInLoop", id, volume, pan).get();
+            service().call("playInLoop", id, volume, pan).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #playInLoop}.
+    * Plays a wav or mp3 file in loop, with specific volume and audio balance
+    * 
+    * @param id  Id returned by the loadFile function
+    * @param volume  volume of the sound file (must be between 0.0 and 1.0)
+    * @param pan  audio balance of the sound file (-1.0 : left / 1.0 : right)
+    */
+    public ALFuture<Void> playInLoopAsync(Integer id, Float volume, Float pan) throws CallError {
+        return ALFuture.of(service().<Void>call("playInLoop", id, volume, pan));
     }
 
     /**
@@ -749,9 +1431,19 @@ public class ALAudioPlayer extends ALModule {
     */
     public void playWebStream(String streamName, Float param1, Float param2) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("playWebStream", streamName, param1, param2);
+            service().call("playWebStream", streamName, param1, param2);
         else
-            service.call("playWebStream", streamName, param1, param2).get();
+            service().call("playWebStream", streamName, param1, param2).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #playWebStream}.
+    * Starts the playback of a wab audio stream
+    * 
+    * @param streamName  Path of the web audio stream
+    */
+    public ALFuture<Void> playWebStreamAsync(String streamName, Float param1, Float param2) throws CallError {
+        return ALFuture.of(service().<Void>call("playWebStream", streamName, param1, param2));
     }
 
     /**
@@ -761,7 +1453,18 @@ public class ALAudioPlayer extends ALModule {
     * @return Length of the file in seconds
     */
     public Float getFileLength(Integer playId) throws CallError, InterruptedException {
-        return (Float)service.call("getFileLength", playId).get();
+        return (Float)service().call("getFileLength", playId).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getFileLength}.
+    * Returns the length of the file played
+    * 
+    * @param playId  Id of the process which is playing the file
+    * @return Length of the file in seconds
+    */
+    public ALFuture<Float> getFileLengthAsync(Integer playId) throws CallError {
+        return ALFuture.of(service().<Float>call("getFileLength", playId));
     }
 
     /**
@@ -771,7 +1474,18 @@ public class ALAudioPlayer extends ALModule {
     * @return Position in the file in seconds
     */
     public Float getCurrentPosition(Integer playId) throws CallError, InterruptedException {
-        return (Float)service.call("getCurrentPosition", playId).get();
+        return (Float)service().call("getCurrentPosition", playId).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getCurrentPosition}.
+    * Returns the position in the file which is currently played
+    * 
+    * @param playId  Id of the process which is playing the file
+    * @return Position in the file in seconds
+    */
+    public ALFuture<Float> getCurrentPositionAsync(Integer playId) throws CallError {
+        return ALFuture.of(service().<Float>call("getCurrentPosition", playId));
     }
 
     /**
@@ -784,9 +1498,22 @@ public class ALAudioPlayer extends ALModule {
     */
     public void playSine(Integer frequence, Integer gain, Integer pan, Float duration) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("playSine", frequence, gain, pan, duration);
+            service().call("playSine", frequence, gain, pan, duration);
         else
-            service.call("playSine", frequence, gain, pan, duration).get();
+            service().call("playSine", frequence, gain, pan, duration).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #playSine}.
+    * Play a sine wave which specified caracteristics.
+    * 
+    * @param frequence  Frequence in Hertz
+    * @param gain  Volume Gain between 0 and 100
+    * @param pan  Stereo Pan set to either {-1,0,+1}
+    * @param duration  Duration of the sine wave in seconds
+    */
+    public ALFuture<Void> playSineAsync(Integer frequence, Integer gain, Integer pan, Float duration) throws CallError {
+        return ALFuture.of(service().<Void>call("playSine", frequence, gain, pan, duration));
     }
 
     /**
@@ -795,9 +1522,18 @@ public class ALAudioPlayer extends ALModule {
     */
     public void _launchSinePlaying(Integer param1, Integer param2, Integer param3, Float param4) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_launchSinePlaying", param1, param2, param3, param4);
+            service().call("_launchSinePlaying", param1, param2, param3, param4);
         else
-            service.call("_launchSinePlaying", param1, param2, param3, param4).get();
+            service().call("_launchSinePlaying", param1, param2, param3, param4).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_launchSinePlaying}.
+    * launch the thread to play sine
+    * 
+    */
+    public ALFuture<Void> _launchSinePlayingAsync(Integer param1, Integer param2, Integer param3, Float param4) throws CallError {
+        return ALFuture.of(service().<Void>call("_launchSinePlaying", param1, param2, param3, param4));
     }
 
     /**
@@ -807,7 +1543,18 @@ public class ALAudioPlayer extends ALModule {
     * @return 1 if the file is currently beeing playing / 0 otherwise
     */
     public Boolean _isPlayingThisFile(String fileName) throws CallError, InterruptedException {
-        return (Boolean)service.call("_isPlayingThisFile", fileName).get();
+        return (Boolean)service().call("_isPlayingThisFile", fileName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_isPlayingThisFile}.
+    * This function allows to know if the ALAudioPlayer module is currently playing the file you give in argument
+    * 
+    * @param fileName  file name of the file you want to test
+    * @return 1 if the file is currently beeing playing / 0 otherwise
+    */
+    public ALFuture<Boolean> _isPlayingThisFileAsync(String fileName) throws CallError {
+        return ALFuture.of(service().<Boolean>call("_isPlayingThisFile", fileName));
     }
 
     /**
@@ -816,9 +1563,18 @@ public class ALAudioPlayer extends ALModule {
     */
     public void _saySOSIP() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_saySOSIP");
+            service().call("_saySOSIP");
         else
-            service.call("_saySOSIP").get();
+            service().call("_saySOSIP").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_saySOSIP}.
+    * Say ip if there is no tts or behavior manager enable (internal use).
+    * 
+    */
+    public ALFuture<Void> _saySOSIPAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_saySOSIP"));
     }
 
     /**
@@ -827,9 +1583,18 @@ public class ALAudioPlayer extends ALModule {
     */
     public void _applicationInstalled(String param1, java.lang.Object param2, String param3) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_applicationInstalled", param1, param2, param3);
+            service().call("_applicationInstalled", param1, param2, param3);
         else
-            service.call("_applicationInstalled", param1, param2, param3).get();
+            service().call("_applicationInstalled", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_applicationInstalled}.
+    * 
+    * 
+    */
+    public ALFuture<Void> _applicationInstalledAsync(String param1, java.lang.Object param2, String param3) throws CallError {
+        return ALFuture.of(service().<Void>call("_applicationInstalled", param1, param2, param3));
     }
 
     /**
@@ -838,9 +1603,18 @@ public class ALAudioPlayer extends ALModule {
     */
     public void _applicationUninstalled(String param1, java.lang.Object param2, String param3) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_applicationUninstalled", param1, param2, param3);
+            service().call("_applicationUninstalled", param1, param2, param3);
         else
-            service.call("_applicationUninstalled", param1, param2, param3).get();
+            service().call("_applicationUninstalled", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_applicationUninstalled}.
+    * 
+    * 
+    */
+    public ALFuture<Void> _applicationUninstalledAsync(String param1, java.lang.Object param2, String param3) throws CallError {
+        return ALFuture.of(service().<Void>call("_applicationUninstalled", param1, param2, param3));
     }
 
     /**
@@ -850,9 +1624,19 @@ public class ALAudioPlayer extends ALModule {
     */
     public void disablePitch(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("disablePitch", id);
+            service().call("disablePitch", id);
         else
-            service.call("disablePitch", id).get();
+            service().call("disablePitch", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #disablePitch}.
+    * Remove pitch on the current file
+    * 
+    * @param id  Id returned by the loadFile function
+    */
+    public ALFuture<Void> disablePitchAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("disablePitch", id));
     }
 
     /**
@@ -863,9 +1647,20 @@ public class ALAudioPlayer extends ALModule {
     */
     public void setPitch(Integer id, Float level) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setPitch", id, level);
+            service().call("setPitch", id, level);
         else
-            service.call("setPitch", id, level).get();
+            service().call("setPitch", id, level).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setPitch}.
+    * Set a pith on the current playing file
+    * 
+    * @param id  Id returned by the loadFile function
+    * @param level  Pitch shifting to apply
+    */
+    public ALFuture<Void> setPitchAsync(Integer id, Float level) throws CallError {
+        return ALFuture.of(service().<Void>call("setPitch", id, level));
     }
 
 }
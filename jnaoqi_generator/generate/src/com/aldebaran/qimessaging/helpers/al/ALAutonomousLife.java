@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -24,9 +25,18 @@ public class ALAutonomousLife extends ALModule {
     */
     public void stopAll() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stopAll");
+            service().call("stopAll");
         else
-            service.call("stopAll").get();
+            service().call("stopAll").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stopAll}.
+    * Stops the focused activity and clears stack of activities
+    * 
+    */
+    public ALFuture<Void> stopAllAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("stopAll"));
     }
 
     /**
@@ -35,7 +45,17 @@ public class ALAutonomousLife extends ALModule {
     * @return A list of pairs, each pair is StateName/PreviousEnteredTime
     */
     public List<Tuple2<String, Integer>> getStateHistory() throws CallError, InterruptedException {
-        return (List<Tuple2<String, Integer>>)service.call("getStateHistory").get();
+        return (List<Tuple2<String, Integer>>)service().call("getStateHistory").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getStateHistory}.
+    * Get a list of the order that states that have been entered, and their time entered.
+    * 
+    * @return A list of pairs, each pair is StateName/PreviousEnteredTime
+    */
+    public ALFuture<List<Tuple2<String, Integer>>> getStateHistoryAsync() throws CallError {
+        return ALFuture.of(service().<List<Tuple2<String, Integer>>>call("getStateHistory"));
     }
 
     /**
@@ -44,7 +64,17 @@ public class ALAutonomousLife extends ALModule {
     * @return The name of the focused activity
     */
     public String focusedActivity() throws CallError, InterruptedException {
-        return (String)service.call("focusedActivity").get();
+        return (String)service().call("focusedActivity").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #focusedActivity}.
+    * Returns the currently focused activity
+    * 
+    * @return The name of the focused activity
+    */
+    public ALFuture<String> focusedActivityAsync() throws CallError {
+        return ALFuture.of(service().<String>call("focusedActivity"));
     }
 
     /**
@@ -54,7 +84,18 @@ public class ALAutonomousLife extends ALModule {
     * @return A list of pairs, each pair is StateName/PreviousEnteredTime
     */
     public List<Tuple2<String, Integer>> getStateHistory(Integer depth) throws CallError, InterruptedException {
-        return (List<Tuple2<String, Integer>>)service.call("getStateHistory", depth).get();
+        return (List<Tuple2<String, Integer>>)service().call("getStateHistory", depth).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getStateHistory}.
+    * Get a list of the order that states that have been entered, and their time entered.
+    * 
+    * @param depth  How many items of history to report, starting from most recent.
+    * @return A list of pairs, each pair is StateName/PreviousEnteredTime
+    */
+    public ALFuture<List<Tuple2<String, Integer>>> getStateHistoryAsync(Integer depth) throws CallError {
+        return ALFuture.of(service().<List<Tuple2<String, Integer>>>call("getStateHistory", depth));
     }
 
     /**
@@ -63,7 +104,17 @@ public class ALAutonomousLife extends ALModule {
     * @return The int time in seconds as Autonomous Life sees it
     */
     public Integer getLifeTime() throws CallError, InterruptedException {
-        return (Integer)service.call("getLifeTime").get();
+        return (Integer)service().call("getLifeTime").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getLifeTime}.
+    * Get the time in seconds as life sees it.  Based on gettimeofday()
+    * 
+    * @return The int time in seconds as Autonomous Life sees it
+    */
+    public ALFuture<Integer> getLifeTimeAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("getLifeTime"));
     }
 
     /**
@@ -74,9 +125,20 @@ public class ALAutonomousLife extends ALModule {
     */
     public void switchFocus(String activity_name, Integer flags) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("switchFocus", activity_name, flags);
+            service().call("switchFocus", activity_name, flags);
         else
-            service.call("switchFocus", activity_name, flags).get();
+            service().call("switchFocus", activity_name, flags).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #switchFocus}.
+    * Set an activity as running with user focus
+    * 
+    * @param activity_name  The package_name/activity_name to run
+    * @param flags  Flags for focus changing. STOP_CURRENT or STOP_AND_STACK_CURRENT
+    */
+    public ALFuture<Void> switchFocusAsync(String activity_name, Integer flags) throws CallError {
+        return ALFuture.of(service().<Void>call("switchFocus", activity_name, flags));
     }
 
     /**
@@ -85,9 +147,18 @@ public class ALAutonomousLife extends ALModule {
     */
     public void stopMonitoringLaunchpadConditions() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stopMonitoringLaunchpadConditions");
+            service().call("stopMonitoringLaunchpadConditions");
         else
-            service.call("stopMonitoringLaunchpadConditions").get();
+            service().call("stopMonitoringLaunchpadConditions").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stopMonitoringLaunchpadConditions}.
+    * Stop monitoring ALMemory and reporting conditional triggers with AutonomousLaunchpad.
+    * 
+    */
+    public ALFuture<Void> stopMonitoringLaunchpadConditionsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("stopMonitoringLaunchpadConditions"));
     }
 
     /**
@@ -96,7 +167,17 @@ public class ALAutonomousLife extends ALModule {
     * @return True if AutonomousLaunchpad is monitoring ALMemory and reporting conditional triggers.
     */
     public Boolean isMonitoringLaunchpadConditions() throws CallError, InterruptedException {
-        return (Boolean)service.call("isMonitoringLaunchpadConditions").get();
+        return (Boolean)service().call("isMonitoringLaunchpadConditions").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isMonitoringLaunchpadConditions}.
+    * Gets running status of AutonomousLaunchpad
+    * 
+    * @return True if AutonomousLaunchpad is monitoring ALMemory and reporting conditional triggers.
+    */
+    public ALFuture<Boolean> isMonitoringLaunchpadConditionsAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isMonitoringLaunchpadConditions"));
     }
 
     /**
@@ -107,9 +188,20 @@ public class ALAutonomousLife extends ALModule {
     */
     public void setLaunchpadPluginEnabled(String plugin_name, Boolean enabled) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setLaunchpadPluginEnabled", plugin_name, enabled);
+            service().call("setLaunchpadPluginEnabled", plugin_name, enabled);
         else
-            service.call("setLaunchpadPluginEnabled", plugin_name, enabled).get();
+            service().call("setLaunchpadPluginEnabled", plugin_name, enabled).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setLaunchpadPluginEnabled}.
+    * Temporarily enables/disables AutonomousLaunchpad Plugins
+    * 
+    * @param plugin_name  The name of the plugin to enable/disable
+    * @param enabled  Whether or not to enable this plugin
+    */
+    public ALFuture<Void> setLaunchpadPluginEnabledAsync(String plugin_name, Boolean enabled) throws CallError {
+        return ALFuture.of(service().<Void>call("setLaunchpadPluginEnabled", plugin_name, enabled));
     }
 
     /**
@@ -118,7 +210,17 @@ public class ALAutonomousLife extends ALModule {
     * @return A list of strings of enabled plugins.
     */
     public List<String> getEnabledLaunchpadPlugins() throws CallError, InterruptedException {
-        return (List<String>)service.call("getEnabledLaunchpadPlugins").get();
+        return (List<String>)service().call("getEnabledLaunchpadPlugins").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getEnabledLaunchpadPlugins}.
+    * Get a list of enabled AutonomousLaunchpad Plugins.  Enabled plugins will run when AutonomousLaunchpad is started
+    * 
+    * @return A list of strings of enabled plugins.
+    */
+    public ALFuture<List<String>> getEnabledLaunchpadPluginsAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getEnabledLaunchpadPlugins"));
     }
 
     /**
@@ -128,9 +230,19 @@ public class ALAutonomousLife extends ALModule {
     */
     public void _setMovedSafeguardInstantaneous(Boolean instantaneous) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setMovedSafeguardInstantaneous", instantaneous);
+            service().call("_setMovedSafeguardInstantaneous", instantaneous);
         else
-            service.call("_setMovedSafeguardInstantaneous", instantaneous).get();
+            service().call("_setMovedSafeguardInstantaneous", instantaneous).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setMovedSafeguardInstantaneous}.
+    * Set if the movedsafeguard will be instantaneous, or end when move is stopped
+    * 
+    * @param instantaneous  True if safeguard is instantaneous, false if safeguard exited after move stopped.
+    */
+    public ALFuture<Void> _setMovedSafeguardInstantaneousAsync(Boolean instantaneous) throws CallError {
+        return ALFuture.of(service().<Void>call("_setMovedSafeguardInstantaneous", instantaneous));
     }
 
     /**
@@ -139,9 +251,18 @@ public class ALAutonomousLife extends ALModule {
     */
     public void stopFocus() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stopFocus");
+            service().call("stopFocus");
         else
-            service.call("stopFocus").get();
+            service().call("stopFocus").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stopFocus}.
+    * Stops the focused activity. If another activity is stacked it will be started.
+    * 
+    */
+    public ALFuture<Void> stopFocusAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("stopFocus"));
     }
 
     /**
@@ -151,7 +272,18 @@ public class ALAutonomousLife extends ALModule {
     * @return A list of strings of the plugins belonging to the group.
     */
     public List<String> getLaunchpadPluginsForGroup(String group) throws CallError, InterruptedException {
-        return (List<String>)service.call("getLaunchpadPluginsForGroup", group).get();
+        return (List<String>)service().call("getLaunchpadPluginsForGroup", group).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getLaunchpadPluginsForGroup}.
+    * Get a list of AutonomousLaunchpad Plugins that belong to specified group
+    * 
+    * @param group  The group to search for the plugins
+    * @return A list of strings of the plugins belonging to the group.
+    */
+    public ALFuture<List<String>> getLaunchpadPluginsForGroupAsync(String group) throws CallError {
+        return ALFuture.of(service().<List<String>>call("getLaunchpadPluginsForGroup", group));
     }
 
     /**
@@ -161,9 +293,19 @@ public class ALAutonomousLife extends ALModule {
     */
     public void setRobotOffsetFromFloor(Float offset) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setRobotOffsetFromFloor", offset);
+            service().call("setRobotOffsetFromFloor", offset);
         else
-            service.call("setRobotOffsetFromFloor", offset).get();
+            service().call("setRobotOffsetFromFloor", offset).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setRobotOffsetFromFloor}.
+    * Set the vertical offset (in meters) of the base of the robot with respect to the floor
+    * 
+    * @param offset  The new vertical offset (in meters)
+    */
+    public ALFuture<Void> setRobotOffsetFromFloorAsync(Float offset) throws CallError {
+        return ALFuture.of(service().<Void>call("setRobotOffsetFromFloor", offset));
     }
 
     /**
@@ -172,7 +314,17 @@ public class ALAutonomousLife extends ALModule {
     * @return Current vertical offset (in meters)
     */
     public Float getRobotOffsetFromFloor() throws CallError, InterruptedException {
-        return (Float)service.call("getRobotOffsetFromFloor").get();
+        return (Float)service().call("getRobotOffsetFromFloor").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getRobotOffsetFromFloor}.
+    * Get the vertical offset (in meters) of the base of the robot with respect to the floor
+    * 
+    * @return Current vertical offset (in meters)
+    */
+    public ALFuture<Float> getRobotOffsetFromFloorAsync() throws CallError {
+        return ALFuture.of(service().<Float>call("getRobotOffsetFromFloor"));
     }
 
     /**
@@ -182,9 +334,19 @@ public class ALAutonomousLife extends ALModule {
     */
     public void _forbidAutonomousInteractiveStateChange(Boolean is_forbidden) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_forbidAutonomousInteractiveStateChange", is_forbidden);
+            service().call("_forbidAutonomousInteractiveStateChange", is_forbidden);
         else
-            service.call("_forbidAutonomousInteractiveStateChange", is_forbidden).get();
+            service().call("_forbidAutonomousInteractiveStateChange", is_forbidden).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_forbidAutonomousInteractiveStateChange}.
+    * 
+    * 
+    * @param is_forbidden  
+    */
+    public ALFuture<Void> _forbidAutonomousInteractiveStateChangeAsync(Boolean is_forbidden) throws CallError {
+        return ALFuture.of(service().<Void>call("_forbidAutonomousInteractiveStateChange", is_forbidden));
     }
 
     /**
@@ -194,9 +356,19 @@ public class ALAutonomousLife extends ALModule {
     */
     public void _forbidAutonomousActivityFocusSwitch(Boolean is_forbidden) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_forbidAutonomousActivityFocusSwitch", is_forbidden);
+            service().call("_forbidAutonomousActivityFocusSwitch", is_forbidden);
         else
-            service.call("_forbidAutonomousActivityFocusSwitch", is_forbidden).get();
+            service().call("_forbidAutonomousActivityFocusSwitch", is_forbidden).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_forbidAutonomousActivityFocusSwitch}.
+    * 
+    * 
+    * @param is_forbidden  
+    */
+    public ALFuture<Void> _forbidAutonomousActivityFocusSwitchAsync(Boolean is_forbidden) throws CallError {
+        return ALFuture.of(service().<Void>call("_forbidAutonomousActivityFocusSwitch", is_forbidden));
     }
 
     /**
@@ -206,9 +378,19 @@ public class ALAutonomousLife extends ALModule {
     */
     public void _setPushRecoverySafeguardDuration(Integer duration_ms) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setPushRecoverySafeguardDuration", duration_ms);
+            service().call("_setPushRecoverySafeguardDuration", duration_ms);
         else
-            service.call("_setPushRecoverySafeguardDuration", duration_ms).get();
+            service().call("_setPushRecoverySafeguardDuration", duration_ms).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setPushRecoverySafeguardDuration}.
+    * Set how long to stay in safeguard state if robot pushed.
+    * 
+    * @param duration_ms  Time in milliseconds to stay in safeguard state.
+    */
+    public ALFuture<Void> _setPushRecoverySafeguardDurationAsync(Integer duration_ms) throws CallError {
+        return ALFuture.of(service().<Void>call("_setPushRecoverySafeguardDuration", duration_ms));
     }
 
     /**
@@ -217,7 +399,17 @@ public class ALAutonomousLife extends ALModule {
     * @return Time in milliseconds to stay in safeguard state.
     */
     public Integer _getPushRecoverySafeguardDuration() throws CallError, InterruptedException {
-        return (Integer)service.call("_getPushRecoverySafeguardDuration").get();
+        return (Integer)service().call("_getPushRecoverySafeguardDuration").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getPushRecoverySafeguardDuration}.
+    * Get how long to stay in safeguard state if robot pushed.
+    * 
+    * @return Time in milliseconds to stay in safeguard state.
+    */
+    public ALFuture<Integer> _getPushRecoverySafeguardDurationAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("_getPushRecoverySafeguardDuration"));
     }
 
     /**
@@ -228,9 +420,20 @@ public class ALAutonomousLife extends ALModule {
     */
     public void setSafeguardEnabled(String name, Boolean enabled) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setSafeguardEnabled", name, enabled);
+            service().call("setSafeguardEnabled", name, enabled);
         else
-            service.call("setSafeguardEnabled", name, enabled).get();
+            service().call("setSafeguardEnabled", name, enabled).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setSafeguardEnabled}.
+    * Set if a given safeguard will be handled by Autonomous Life or not.
+    * 
+    * @param name  Name of the safeguard to consider: RobotPushed, RobotFell,CriticalDiagnosis, CriticalTemperature
+    * @param enabled  True if life handles the safeguard.
+    */
+    public ALFuture<Void> setSafeguardEnabledAsync(String name, Boolean enabled) throws CallError {
+        return ALFuture.of(service().<Void>call("setSafeguardEnabled", name, enabled));
     }
 
     /**
@@ -240,7 +443,18 @@ public class ALAutonomousLife extends ALModule {
     * @return True if life handles the safeguard.
     */
     public Boolean isSafeguardEnabled(String name) throws CallError, InterruptedException {
-        return (Boolean)service.call("isSafeguardEnabled", name).get();
+        return (Boolean)service().call("isSafeguardEnabled", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isSafeguardEnabled}.
+    * Get if a given safeguard will be handled by Autonomous Life or not.
+    * 
+    * @param name  Name of the safeguard to consider: RobotPushed, RobotFell,CriticalDiagnosis, CriticalTemperature
+    * @return True if life handles the safeguard.
+    */
+    public ALFuture<Boolean> isSafeguardEnabledAsync(String name) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isSafeguardEnabled", name));
     }
 
     /**
@@ -250,9 +464,19 @@ public class ALAutonomousLife extends ALModule {
     */
     public void _setChestButtonDoubleClickEnabled(Boolean enable) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setChestButtonDoubleClickEnabled", enable);
+            service().call("_setChestButtonDoubleClickEnabled", enable);
         else
-            service.call("_setChestButtonDoubleClickEnabled", enable).get();
+            service().call("_setChestButtonDoubleClickEnabled", enable).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setChestButtonDoubleClickEnabled}.
+    * Enables / Disables handling of double click to set life state and stiffness. Default is false but when boot-config completes it sets to true.
+    * 
+    * @param enable  If True enable double clicking interaction. If False disable double clicking interaction.
+    */
+    public ALFuture<Void> _setChestButtonDoubleClickEnabledAsync(Boolean enable) throws CallError {
+        return ALFuture.of(service().<Void>call("_setChestButtonDoubleClickEnabled", enable));
     }
 
     /**
@@ -261,7 +485,17 @@ public class ALAutonomousLife extends ALModule {
     * @return Return True if double clicking interaction is enabled.
     */
     public Boolean _isChestButtonDoubleClickEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("_isChestButtonDoubleClickEnabled").get();
+        return (Boolean)service().call("_isChestButtonDoubleClickEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_isChestButtonDoubleClickEnabled}.
+    * Return True if double clicking interaction enabled. Default is false but when boot-config completes it sets to true.
+    * 
+    * @return Return True if double clicking interaction is enabled.
+    */
+    public ALFuture<Boolean> _isChestButtonDoubleClickEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("_isChestButtonDoubleClickEnabled"));
     }
 
     /**
@@ -271,7 +505,18 @@ public class ALAutonomousLife extends ALModule {
     * @return Possible values are: solitary, interactive
     */
     public String getActivityNature(String activity_name) throws CallError, InterruptedException {
-        return (String)service.call("getActivityNature", activity_name).get();
+        return (String)service().call("getActivityNature", activity_name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getActivityNature}.
+    * Returns the nature of an activity
+    * 
+    * @param activity_name  The package_name/activity_name to check
+    * @return Possible values are: solitary, interactive
+    */
+    public ALFuture<String> getActivityNatureAsync(String activity_name) throws CallError {
+        return ALFuture.of(service().<String>call("getActivityNature", activity_name));
     }
 
     /**
@@ -280,7 +525,17 @@ public class ALAutonomousLife extends ALModule {
     * @return A map of activity names, with a cooresponding map of  "prevStartTime", "prevCompletionTime", "startCount", "totalDuration". Times are 0 for unlaunched Activities
     */
     public Map<String, Map<String, Integer>> getActivityStatistics() throws CallError, InterruptedException {
-        return (Map<String, Map<String, Integer>>)service.call("getActivityStatistics").get();
+        return (Map<String, Map<String, Integer>>)service().call("getActivityStatistics").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getActivityStatistics}.
+    * Get launch count, last completion time, etc for activities.
+    * 
+    * @return A map of activity names, with a cooresponding map of  "prevStartTime", "prevCompletionTime", "startCount", "totalDuration". Times are 0 for unlaunched Activities
+    */
+    public ALFuture<Map<String, Map<String, Integer>>> getActivityStatisticsAsync() throws CallError {
+        return ALFuture.of(service().<Map<String, Map<String, Integer>>>call("getActivityStatistics"));
     }
 
     /**
@@ -290,9 +545,19 @@ public class ALAutonomousLife extends ALModule {
     */
     public void switchFocus(String activity_name) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("switchFocus", activity_name);
+            service().call("switchFocus", activity_name);
         else
-            service.call("switchFocus", activity_name).get();
+            service().call("switchFocus", activity_name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #switchFocus}.
+    * Set an activity as running with user focus
+    * 
+    * @param activity_name  The package_name/activity_name to run
+    */
+    public ALFuture<Void> switchFocusAsync(String activity_name) throws CallError {
+        return ALFuture.of(service().<Void>call("switchFocus", activity_name));
     }
 
     /**
@@ -301,7 +566,17 @@ public class ALAutonomousLife extends ALModule {
     * @return A map of activity names, with a cooresponding map of  "prevStartTime", "prevCompletionTime", "startCount", "totalDuration". Times are 0 for unlaunched Activities
     */
     public Map<String, Map<String, Integer>> getAutonomousActivityStatistics() throws CallError, InterruptedException {
-        return (Map<String, Map<String, Integer>>)service.call("getAutonomousActivityStatistics").get();
+        return (Map<String, Map<String, Integer>>)service().call("getAutonomousActivityStatistics").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getAutonomousActivityStatistics}.
+    * Get launch count, last completion time, etc for activities with autonomous launch trigger conditions.
+    * 
+    * @return A map of activity names, with a cooresponding map of  "prevStartTime", "prevCompletionTime", "startCount", "totalDuration". Times are 0 for unlaunched Activities
+    */
+    public ALFuture<Map<String, Map<String, Integer>>> getAutonomousActivityStatisticsAsync() throws CallError {
+        return ALFuture.of(service().<Map<String, Map<String, Integer>>>call("getAutonomousActivityStatistics"));
     }
 
     /**
@@ -310,7 +585,17 @@ public class ALAutonomousLife extends ALModule {
     * @return A list of pairs, each pair is ActivityName/PreviousFocusedTime
     */
     public List<Tuple2<String, Integer>> getFocusHistory() throws CallError, InterruptedException {
-        return (List<Tuple2<String, Integer>>)service.call("getFocusHistory").get();
+        return (List<Tuple2<String, Integer>>)service().call("getFocusHistory").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getFocusHistory}.
+    * Get a list of the order that activities that have been focused, and their time focused.
+    * 
+    * @return A list of pairs, each pair is ActivityName/PreviousFocusedTime
+    */
+    public ALFuture<List<Tuple2<String, Integer>>> getFocusHistoryAsync() throws CallError {
+        return ALFuture.of(service().<List<Tuple2<String, Integer>>>call("getFocusHistory"));
     }
 
     /**
@@ -320,7 +605,18 @@ public class ALAutonomousLife extends ALModule {
     * @return An array of the ALValue of the memory key and timestamp of when it was set: [seconds, microseconds, value]
     */
     public java.lang.Object getFocusContext(String name) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getFocusContext", name).get();
+        return (java.lang.Object)service().call("getFocusContext", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getFocusContext}.
+    * Get a value of an ALMemory key that is used in a condition, which is the value at the previous autonomous activity focus.
+    * 
+    * @param name  Name of the ALMemory key to get.  Will throw if key is not used in any activity conditions.
+    * @return An array of the ALValue of the memory key and timestamp of when it was set: [seconds, microseconds, value]
+    */
+    public ALFuture<java.lang.Object> getFocusContextAsync(String name) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getFocusContext", name));
     }
 
     /**
@@ -330,7 +626,18 @@ public class ALAutonomousLife extends ALModule {
     * @return A list of pairs, each pair is ActivityName/PreviousFocusedTime
     */
     public List<Tuple2<String, Integer>> getFocusHistory(Integer depth) throws CallError, InterruptedException {
-        return (List<Tuple2<String, Integer>>)service.call("getFocusHistory", depth).get();
+        return (List<Tuple2<String, Integer>>)service().call("getFocusHistory", depth).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getFocusHistory}.
+    * Get a list of the order that activities that have been focused, and their time focused.
+    * 
+    * @param depth  How many items of history to report, starting from most recent.
+    * @return A list of pairs, each pair is ActivityName/PreviousFocusedTime
+    */
+    public ALFuture<List<Tuple2<String, Integer>>> getFocusHistoryAsync(Integer depth) throws CallError {
+        return ALFuture.of(service().<List<Tuple2<String, Integer>>>call("getFocusHistory", depth));
     }
 
     /**
@@ -339,7 +646,17 @@ public class ALAutonomousLife extends ALModule {
     * @return True if safeguard is instantaneous, false if safeguard exited after move stopped.
     */
     public Boolean _isMovedSafeguardInstantaneous() throws CallError, InterruptedException {
-        return (Boolean)service.call("_isMovedSafeguardInstantaneous").get();
+        return (Boolean)service().call("_isMovedSafeguardInstantaneous").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_isMovedSafeguardInstantaneous}.
+    * Get if the movedsafeguard will be instantaneous, or end when move is stopped
+    * 
+    * @return True if safeguard is instantaneous, false if safeguard exited after move stopped.
+    */
+    public ALFuture<Boolean> _isMovedSafeguardInstantaneousAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("_isMovedSafeguardInstantaneous"));
     }
 
     /**
@@ -348,9 +665,18 @@ public class ALAutonomousLife extends ALModule {
     */
     public void startMonitoringLaunchpadConditions() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("startMonitoringLaunchpadConditions");
+            service().call("startMonitoringLaunchpadConditions");
         else
-            service.call("startMonitoringLaunchpadConditions").get();
+            service().call("startMonitoringLaunchpadConditions").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #startMonitoringLaunchpadConditions}.
+    * Start monitoring ALMemory and reporting conditional triggers with AutonomousLaunchpad.
+    * 
+    */
+    public ALFuture<Void> startMonitoringLaunchpadConditionsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("startMonitoringLaunchpadConditions"));
     }
 
     /**
@@ -358,7 +684,16 @@ public class ALAutonomousLife extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -367,9 +702,18 @@ public class ALAutonomousLife extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -377,7 +721,16 @@ public class ALAutonomousLife extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -386,9 +739,18 @@ public class ALAutonomousLife extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -397,7 +759,17 @@ public class ALAutonomousLife extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -406,7 +778,17 @@ public class ALAutonomousLife extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -415,7 +797,17 @@ public class ALAutonomousLife extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -425,7 +817,18 @@ public class ALAutonomousLife extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -434,7 +837,17 @@ public class ALAutonomousLife extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -445,7 +858,19 @@ public class ALAutonomousLife extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -455,7 +880,18 @@ public class ALAutonomousLife extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -465,9 +901,19 @@ public class ALAutonomousLife extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -476,7 +922,17 @@ public class ALAutonomousLife extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -486,7 +942,18 @@ public class ALAutonomousLife extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -496,9 +963,19 @@ public class ALAutonomousLife extends ALModule {
     */
     public void _onLaunchSuggestions(List<String> param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onLaunchSuggestions", param1);
+            service().call("_onLaunchSuggestions", param1);
         else
-            service.call("_onLaunchSuggestions", param1).get();
+            service().call("_onLaunchSuggestions", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onLaunchSuggestions}.
+    * 
+    * 
+    * @param   
+    */
+    public ALFuture<Void> _onLaunchSuggestionsAsync(List<String> param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_onLaunchSuggestions", param1));
     }
 
     /**
@@ -510,9 +987,21 @@ public class ALAutonomousLife extends ALModule {
     */
     public void _onHeadTapEvents(String param1, java.lang.Object param2, String param3) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onHeadTapEvents", param1, param2, param3);
+            service().call("_onHeadTapEvents", param1, param2, param3);
         else
-            service.call("_onHeadTapEvents", param1, param2, param3).get();
+            service().call("_onHeadTapEvents", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onHeadTapEvents}.
+    * 
+    * 
+    * @param   
+    * @param   
+    * @param   
+    */
+    public ALFuture<Void> _onHeadTapEventsAsync(String param1, java.lang.Object param2, String param3) throws CallError {
+        return ALFuture.of(service().<Void>call("_onHeadTapEvents", param1, param2, param3));
     }
 
     /**
@@ -524,9 +1013,21 @@ public class ALAutonomousLife extends ALModule {
     */
     public void _onChestButtonClicked(String param1, java.lang.Object param2, String param3) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onChestButtonClicked", param1, param2, param3);
+            service().call("_onChestButtonClicked", param1, param2, param3);
         else
-            service.call("_onChestButtonClicked", param1, param2, param3).get();
+            service().call("_onChestButtonClicked", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onChestButtonClicked}.
+    * 
+    * 
+    * @param   
+    * @param   
+    * @param   
+    */
+    public ALFuture<Void> _onChestButtonClickedAsync(String param1, java.lang.Object param2, String param3) throws CallError {
+        return ALFuture.of(service().<Void>call("_onChestButtonClicked", param1, param2, param3));
     }
 
     /**
@@ -538,9 +1039,21 @@ public class ALAutonomousLife extends ALModule {
     */
     public void _onPackagesChanged(String param1, java.lang.Object param2, String param3) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onPackagesChanged", param1, param2, param3);
+            service().call("_onPackagesChanged", param1, param2, param3);
         else
-            service.call("_onPackagesChanged", param1, param2, param3).get();
+            service().call("_onPackagesChanged", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onPackagesChanged}.
+    * 
+    * 
+    * @param   
+    * @param   
+    * @param   
+    */
+    public ALFuture<Void> _onPackagesChangedAsync(String param1, java.lang.Object param2, String param3) throws CallError {
+        return ALFuture.of(service().<Void>call("_onPackagesChanged", param1, param2, param3));
     }
 
     /**
@@ -552,9 +1065,21 @@ public class ALAutonomousLife extends ALModule {
     */
     public void _onFocusedActivityChanged(String param1, java.lang.Object param2, String param3) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onFocusedActivityChanged", param1, param2, param3);
+            service().call("_onFocusedActivityChanged", param1, param2, param3);
         else
-            service.call("_onFocusedActivityChanged", param1, param2, param3).get();
+            service().call("_onFocusedActivityChanged", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onFocusedActivityChanged}.
+    * 
+    * 
+    * @param   
+    * @param   
+    * @param   
+    */
+    public ALFuture<Void> _onFocusedActivityChangedAsync(String param1, java.lang.Object param2, String param3) throws CallError {
+        return ALFuture.of(service().<Void>call("_onFocusedActivityChanged", param1, param2, param3));
     }
 
     /**
@@ -566,9 +1091,21 @@ public class ALAutonomousLife extends ALModule {
     */
     public void _onCompletedActivity(String param1, java.lang.Object param2, String param3) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onCompletedActivity", param1, param2, param3);
+            service().call("_onCompletedActivity", param1, param2, param3);
         else
-            service.call("_onCompletedActivity", param1, param2, param3).get();
+            service().call("_onCompletedActivity", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onCompletedActivity}.
+    * 
+    * 
+    * @param   
+    * @param   
+    * @param   
+    */
+    public ALFuture<Void> _onCompletedActivityAsync(String param1, java.lang.Object param2, String param3) throws CallError {
+        return ALFuture.of(service().<Void>call("_onCompletedActivity", param1, param2, param3));
     }
 
     /**
@@ -580,9 +1117,21 @@ public class ALAutonomousLife extends ALModule {
     */
     public void _onNextActivity(String param1, java.lang.Object param2, String param3) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onNextActivity", param1, param2, param3);
+            service().call("_onNextActivity", param1, param2, param3);
         else
-            service.call("_onNextActivity", param1, param2, param3).get();
+            service().call("_onNextActivity", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onNextActivity}.
+    * 
+    * 
+    * @param   
+    * @param   
+    * @param   
+    */
+    public ALFuture<Void> _onNextActivityAsync(String param1, java.lang.Object param2, String param3) throws CallError {
+        return ALFuture.of(service().<Void>call("_onNextActivity", param1, param2, param3));
     }
 
     /**
@@ -594,9 +1143,21 @@ public class ALAutonomousLife extends ALModule {
     */
     public void _onRobotHealthChanged(String param1, java.lang.Object param2, String param3) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onRobotHealthChanged", param1, param2, param3);
+            service().call("_onRobotHealthChanged", param1, param2, param3);
         else
-            service.call("_onRobotHealthChanged", param1, param2, param3).get();
+            service().call("_onRobotHealthChanged", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onRobotHealthChanged}.
+    * 
+    * 
+    * @param   
+    * @param   
+    * @param   
+    */
+    public ALFuture<Void> _onRobotHealthChangedAsync(String param1, java.lang.Object param2, String param3) throws CallError {
+        return ALFuture.of(service().<Void>call("_onRobotHealthChanged", param1, param2, param3));
     }
 
     /**
@@ -608,9 +1169,21 @@ public class ALAutonomousLife extends ALModule {
     */
     public void _onPushRecovery(String param1, java.lang.Object param2, String param3) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onPushRecovery", param1, param2, param3);
+            service().call("_onPushRecovery", param1, param2, param3);
         else
-            service.call("_onPushRecovery", param1, param2, param3).get();
+            service().call("_onPushRecovery", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onPushRecovery}.
+    * 
+    * 
+    * @param   
+    * @param   
+    * @param   
+    */
+    public ALFuture<Void> _onPushRecoveryAsync(String param1, java.lang.Object param2, String param3) throws CallError {
+        return ALFuture.of(service().<Void>call("_onPushRecovery", param1, param2, param3));
     }
 
     /**
@@ -622,9 +1195,21 @@ public class ALAutonomousLife extends ALModule {
     */
     public void _onFallRecovery(String param1, java.lang.Object param2, String param3) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onFallRecovery", param1, param2, param3);
+            service().call("_onFallRecovery", param1, param2, param3);
         else
-            service.call("_onFallRecovery", param1, param2, param3).get();
+            service().call("_onFallRecovery", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onFallRecovery}.
+    * 
+    * 
+    * @param   
+    * @param   
+    * @param   
+    */
+    public ALFuture<Void> _onFallRecoveryAsync(String param1, java.lang.Object param2, String param3) throws CallError {
+        return ALFuture.of(service().<Void>call("_onFallRecovery", param1, param2, param3));
     }
 
     /**
@@ -636,9 +1221,21 @@ public class ALAutonomousLife extends ALModule {
     */
     public void _onRobotMoved(String param1, java.lang.Object param2, String param3) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onRobotMoved", param1, param2, param3);
+            service().call("_onRobotMoved", param1, param2, param3);
         else
-            service.call("_onRobotMoved", param1, param2, param3).get();
+            service().call("_onRobotMoved", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onRobotMoved}.
+    * 
+    * 
+    * @param   
+    * @param   
+    * @param   
+    */
+    public ALFuture<Void> _onRobotMovedAsync(String param1, java.lang.Object param2, String param3) throws CallError {
+        return ALFuture.of(service().<Void>call("_onRobotMoved", param1, param2, param3));
     }
 
     /**
@@ -650,9 +1247,21 @@ public class ALAutonomousLife extends ALModule {
     */
     public void _onPreferenceUpdated(String param1, java.lang.Object param2, String param3) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onPreferenceUpdated", param1, param2, param3);
+            service().call("_onPreferenceUpdated", param1, param2, param3);
         else
-            service.call("_onPreferenceUpdated", param1, param2, param3).get();
+            service().call("_onPreferenceUpdated", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onPreferenceUpdated}.
+    * 
+    * 
+    * @param   
+    * @param   
+    * @param   
+    */
+    public ALFuture<Void> _onPreferenceUpdatedAsync(String param1, java.lang.Object param2, String param3) throws CallError {
+        return ALFuture.of(service().<Void>call("_onPreferenceUpdated", param1, param2, param3));
     }
 
     /**
@@ -664,9 +1273,21 @@ public class ALAutonomousLife extends ALModule {
     */
     public void _onPreferenceSynchronized(String param1, java.lang.Object param2, String param3) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onPreferenceSynchronized", param1, param2, param3);
+            service().call("_onPreferenceSynchronized", param1, param2, param3);
         else
-            service.call("_onPreferenceSynchronized", param1, param2, param3).get();
+            service().call("_onPreferenceSynchronized", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onPreferenceSynchronized}.
+    * 
+    * 
+    * @param   
+    * @param   
+    * @param   
+    */
+    public ALFuture<Void> _onPreferenceSynchronizedAsync(String param1, java.lang.Object param2, String param3) throws CallError {
+        return ALFuture.of(service().<Void>call("_onPreferenceSynchronized", param1, param2, param3));
     }
 
     /**
@@ -676,9 +1297,19 @@ public class ALAutonomousLife extends ALModule {
     */
     public void setState(String state) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setState", state);
+            service().call("setState", state);
         else
-            service.call("setState", state).get();
+            service().call("setState", state).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setState}.
+    * Programatically control the state of Autonomous Life
+    * 
+    * @param state  The possible states of AutonomousLife are: interactive, solitary, safeguard, disabled
+    */
+    public ALFuture<Void> setStateAsync(String state) throws CallError {
+        return ALFuture.of(service().<Void>call("setState", state));
     }
 
     /**
@@ -687,7 +1318,17 @@ public class ALAutonomousLife extends ALModule {
     * @return Can be: solitary, interactive, safeguard, disabled
     */
     public String getState() throws CallError, InterruptedException {
-        return (String)service.call("getState").get();
+        return (String)service().call("getState").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getState}.
+    * Returns the current state of AutonomousLife
+    * 
+    * @return Can be: solitary, interactive, safeguard, disabled
+    */
+    public ALFuture<String> getStateAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getState"));
     }
 
 }
@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -24,9 +25,18 @@ public class ALAutonomousMoves extends ALModule {
     */
     public void _disableBackgroundPosture() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_disableBackgroundPosture");
+            service().call("_disableBackgroundPosture");
         else
-            service.call("_disableBackgroundPosture").get();
+            service().call("_disableBackgroundPosture").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_disableBackgroundPosture}.
+    * Apply a new reset posture.
+    * 
+    */
+    public ALFuture<Void> _disableBackgroundPostureAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_disableBackgroundPosture"));
     }
 
     /**
@@ -38,9 +48,21 @@ public class ALAutonomousMoves extends ALModule {
     */
     public void _activeListeningCallback(String memoryKey, java.lang.Object value, String message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_activeListeningCallback", memoryKey, value, message);
+            service().call("_activeListeningCallback", memoryKey, value, message);
         else
-            service.call("_activeListeningCallback", memoryKey, value, message).get();
+            service().call("_activeListeningCallback", memoryKey, value, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_activeListeningCallback}.
+    * Callback for asr status ALMemory event.
+    * 
+    * @param memoryKey  The subscribed memory key which changed.
+    * @param value  The new value of the memory key.
+    * @param message  The message that comes with the callback.
+    */
+    public ALFuture<Void> _activeListeningCallbackAsync(String memoryKey, java.lang.Object value, String message) throws CallError {
+        return ALFuture.of(service().<Void>call("_activeListeningCallback", memoryKey, value, message));
     }
 
     /**
@@ -52,9 +74,21 @@ public class ALAutonomousMoves extends ALModule {
     */
     public void _postureFamilyChangedCallback(String memoryKey, java.lang.Object value, String message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_postureFamilyChangedCallback", memoryKey, value, message);
+            service().call("_postureFamilyChangedCallback", memoryKey, value, message);
         else
-            service.call("_postureFamilyChangedCallback", memoryKey, value, message).get();
+            service().call("_postureFamilyChangedCallback", memoryKey, value, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_postureFamilyChangedCallback}.
+    * Callback for asr status ALMemory event.
+    * 
+    * @param memoryKey  The subscribed memory key which changed.
+    * @param value  The new value of the memory key.
+    * @param message  The message that comes with the callback.
+    */
+    public ALFuture<Void> _postureFamilyChangedCallbackAsync(String memoryKey, java.lang.Object value, String message) throws CallError {
+        return ALFuture.of(service().<Void>call("_postureFamilyChangedCallback", memoryKey, value, message));
     }
 
     /**
@@ -66,9 +100,21 @@ public class ALAutonomousMoves extends ALModule {
     */
     public void _asrStatusCallback(String memoryKey, java.lang.Object value, String message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_asrStatusCallback", memoryKey, value, message);
+            service().call("_asrStatusCallback", memoryKey, value, message);
         else
-            service.call("_asrStatusCallback", memoryKey, value, message).get();
+            service().call("_asrStatusCallback", memoryKey, value, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_asrStatusCallback}.
+    * Callback for asr status ALMemory event.
+    * 
+    * @param memoryKey  The subscribed memory key which changed.
+    * @param value  The new value of the memory key.
+    * @param message  The message that comes with the callback.
+    */
+    public ALFuture<Void> _asrStatusCallbackAsync(String memoryKey, java.lang.Object value, String message) throws CallError {
+        return ALFuture.of(service().<Void>call("_asrStatusCallback", memoryKey, value, message));
     }
 
     /**
@@ -76,7 +122,16 @@ public class ALAutonomousMoves extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -85,9 +140,18 @@ public class ALAutonomousMoves extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -95,7 +159,16 @@ public class ALAutonomousMoves extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -104,9 +177,18 @@ public class ALAutonomousMoves extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -115,7 +197,17 @@ public class ALAutonomousMoves extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -124,7 +216,17 @@ public class ALAutonomousMoves extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -133,7 +235,17 @@ public class ALAutonomousMoves extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -143,7 +255,18 @@ public class ALAutonomousMoves extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -152,7 +275,17 @@ public class ALAutonomousMoves extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -163,7 +296,19 @@ public class ALAutonomousMoves extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -173,7 +318,18 @@ public class ALAutonomousMoves extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -183,9 +339,19 @@ public class ALAutonomousMoves extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -194,7 +360,17 @@ public class ALAutonomousMoves extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -204,7 +380,18 @@ public class ALAutonomousMoves extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -213,9 +400,18 @@ public class ALAutonomousMoves extends ALModule {
     */
     public void startSmallDisplacements() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("startSmallDisplacements");
+            service().call("startSmallDisplacements");
         else
-            service.call("startSmallDisplacements").get();
+            service().call("startSmallDisplacements").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #startSmallDisplacements}.
+    * DEPRECATED since 2.0: do ALBasicAwareness.setTrackingMode("MoveContextually") instead.Start small base moves.
+    * 
+    */
+    public ALFuture<Void> startSmallDisplacementsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("startSmallDisplacements"));
     }
 
     /**
@@ -224,9 +420,18 @@ public class ALAutonomousMoves extends ALModule {
     */
     public void stopSmallDisplacements() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stopSmallDisplacements");
+            service().call("stopSmallDisplacements");
         else
-            service.call("stopSmallDisplacements").get();
+            service().call("stopSmallDisplacements").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stopSmallDisplacements}.
+    * DEPRECATED since 2.0: do ALBasicAwareness.setTrackingMode instead.Stop small base moves.
+    * 
+    */
+    public ALFuture<Void> stopSmallDisplacementsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("stopSmallDisplacements"));
     }
 
     /**
@@ -235,9 +440,18 @@ public class ALAutonomousMoves extends ALModule {
     */
     public void _moveForward() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_moveForward");
+            service().call("_moveForward");
         else
-            service.call("_moveForward").get();
+            service().call("_moveForward").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_moveForward}.
+    * Move forward.
+    * 
+    */
+    public ALFuture<Void> _moveForwardAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_moveForward"));
     }
 
     /**
@@ -246,9 +460,18 @@ public class ALAutonomousMoves extends ALModule {
     */
     public void _moveBackward() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_moveBackward");
+            service().call("_moveBackward");
         else
-            service.call("_moveBackward").get();
+            service().call("_moveBackward").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_moveBackward}.
+    * Move backward.
+    * 
+    */
+    public ALFuture<Void> _moveBackwardAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_moveBackward"));
     }
 
     /**
@@ -257,9 +480,18 @@ public class ALAutonomousMoves extends ALModule {
     */
     public void _moveSides() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_moveSides");
+            service().call("_moveSides");
         else
-            service.call("_moveSides").get();
+            service().call("_moveSides").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_moveSides}.
+    * Move sides.
+    * 
+    */
+    public ALFuture<Void> _moveSidesAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_moveSides"));
     }
 
     /**
@@ -268,9 +500,18 @@ public class ALAutonomousMoves extends ALModule {
     */
     public void _moveRandomly() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_moveRandomly");
+            service().call("_moveRandomly");
         else
-            service.call("_moveRandomly").get();
+            service().call("_moveRandomly").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_moveRandomly}.
+    * Move randomly.
+    * 
+    */
+    public ALFuture<Void> _moveRandomlyAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_moveRandomly"));
     }
 
     /**
@@ -280,9 +521,19 @@ public class ALAutonomousMoves extends ALModule {
     */
     public void setExpressiveListeningEnabled(Boolean enable) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setExpressiveListeningEnabled", enable);
+            service().call("setExpressiveListeningEnabled", enable);
         else
-            service.call("setExpressiveListeningEnabled", enable).get();
+            service().call("setExpressiveListeningEnabled", enable).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setExpressiveListeningEnabled}.
+    * Enable or disable expressive listening.
+    * 
+    * @param enable  The boolean value: true to enable, false to disable.
+    */
+    public ALFuture<Void> setExpressiveListeningEnabledAsync(Boolean enable) throws CallError {
+        return ALFuture.of(service().<Void>call("setExpressiveListeningEnabled", enable));
     }
 
     /**
@@ -293,9 +544,20 @@ public class ALAutonomousMoves extends ALModule {
     */
     public void _setExpressiveListeningEnabled(Boolean enable, String bodypart) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setExpressiveListeningEnabled", enable, bodypart);
+            service().call("_setExpressiveListeningEnabled", enable, bodypart);
         else
-            service.call("_setExpressiveListeningEnabled", enable, bodypart).get();
+            service().call("_setExpressiveListeningEnabled", enable, bodypart).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setExpressiveListeningEnabled}.
+    * Enable or disable expressive listening.
+    * 
+    * @param enable  The boolean value: true to enable, false to disable.
+    * @param bodypart  What body part is concerned (can be All, Arms or Head).
+    */
+    public ALFuture<Void> _setExpressiveListeningEnabledAsync(Boolean enable, String bodypart) throws CallError {
+        return ALFuture.of(service().<Void>call("_setExpressiveListeningEnabled", enable, bodypart));
     }
 
     /**
@@ -304,7 +566,17 @@ public class ALAutonomousMoves extends ALModule {
     * @return The boolean value: true means it is enabled, false means it is disabled.
     */
     public Boolean getExpressiveListeningEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("getExpressiveListeningEnabled").get();
+        return (Boolean)service().call("getExpressiveListeningEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getExpressiveListeningEnabled}.
+    * If expressive listening is enabled.
+    * 
+    * @return The boolean value: true means it is enabled, false means it is disabled.
+    */
+    public ALFuture<Boolean> getExpressiveListeningEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("getExpressiveListeningEnabled"));
     }
 
     /**
@@ -314,7 +586,18 @@ public class ALAutonomousMoves extends ALModule {
     * @return The boolean value: true means it is enabled, false means it is disabled.
     */
     public Boolean _getExpressiveListeningEnabled(String bodypart) throws CallError, InterruptedException {
-        return (Boolean)service.call("_getExpressiveListeningEnabled", bodypart).get();
+        return (Boolean)service().call("_getExpressiveListeningEnabled", bodypart).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getExpressiveListeningEnabled}.
+    * If expressive listening is enabled.
+    * 
+    * @param bodypart  What body part is concerned (can be All, Arms or Head).
+    * @return The boolean value: true means it is enabled, false means it is disabled.
+    */
+    public ALFuture<Boolean> _getExpressiveListeningEnabledAsync(String bodypart) throws CallError {
+        return ALFuture.of(service().<Boolean>call("_getExpressiveListeningEnabled", bodypart));
     }
 
     /**
@@ -323,9 +606,18 @@ public class ALAutonomousMoves extends ALModule {
     */
     public void _startExpressiveListening() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_startExpressiveListening");
+            service().call("_startExpressiveListening");
         else
-            service.call("_startExpressiveListening").get();
+            service().call("_startExpressiveListening").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_startExpressiveListening}.
+    * Enable or disable expressive listening.
+    * 
+    */
+    public ALFuture<Void> _startExpressiveListeningAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_startExpressiveListening"));
     }
 
     /**
@@ -334,9 +626,18 @@ public class ALAutonomousMoves extends ALModule {
     */
     public void _expressiveListeningHeadNode() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_expressiveListeningHeadNode");
+            service().call("_expressiveListeningHeadNode");
         else
-            service.call("_expressiveListeningHeadNode").get();
+            service().call("_expressiveListeningHeadNode").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_expressiveListeningHeadNode}.
+    * Enable or disable expressive listening.
+    * 
+    */
+    public ALFuture<Void> _expressiveListeningHeadNodeAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_expressiveListeningHeadNode"));
     }
 
     /**
@@ -345,9 +646,18 @@ public class ALAutonomousMoves extends ALModule {
     */
     public void _stopExpressiveListening() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_stopExpressiveListening");
+            service().call("_stopExpressiveListening");
         else
-            service.call("_stopExpressiveListening").get();
+            service().call("_stopExpressiveListening").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_stopExpressiveListening}.
+    * Enable or disable expressive listening.
+    * 
+    */
+    public ALFuture<Void> _stopExpressiveListeningAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_stopExpressiveListening"));
     }
 
     /**
@@ -356,9 +666,18 @@ public class ALAutonomousMoves extends ALModule {
     */
     public void _enableJapaneseBackgroundPosture() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_enableJapaneseBackgroundPosture");
+            service().call("_enableJapaneseBackgroundPosture");
         else
-            service.call("_enableJapaneseBackgroundPosture").get();
+            service().call("_enableJapaneseBackgroundPosture").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_enableJapaneseBackgroundPosture}.
+    * Apply a new reset posture.
+    * 
+    */
+    public ALFuture<Void> _enableJapaneseBackgroundPostureAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_enableJapaneseBackgroundPosture"));
     }
 
     /**
@@ -367,9 +686,18 @@ public class ALAutonomousMoves extends ALModule {
     */
     public void _enableDefaultBackgroundPosture() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_enableDefaultBackgroundPosture");
+            service().call("_enableDefaultBackgroundPosture");
         else
-            service.call("_enableDefaultBackgroundPosture").get();
+            service().call("_enableDefaultBackgroundPosture").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_enableDefaultBackgroundPosture}.
+    * Apply a new reset posture.
+    * 
+    */
+    public ALFuture<Void> _enableDefaultBackgroundPostureAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_enableDefaultBackgroundPosture"));
     }
 
 }
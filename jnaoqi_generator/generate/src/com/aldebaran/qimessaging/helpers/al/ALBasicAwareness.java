@@ -2,7 +2,10 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
+import com.aldebaran.qimessaging.helpers.event.ALEvent;
+import com.aldebaran.qimessaging.helpers.event.EventDecoders;
 import java.util.List;
 import java.util.Map;
 import com.aldebaran.qimessaging.*;
@@ -14,6 +17,11 @@ import java.util.List;
  */
 public class ALBasicAwareness extends ALModule {
 
+    /**
+    * Raised when a human is tracked, with its people id, or -1 when none is.
+    */
+    public static final ALEvent<Integer> HUMAN_TRACKED = new ALEvent<Integer>("ALBasicAwareness/HumanTracked", EventDecoders.INTEGER);
+
     public ALBasicAwareness(Session session) {
         super(session);
     }
@@ -24,7 +32,17 @@ public class ALBasicAwareness extends ALModule {
     * @return Name of current engagement mode as a string
     */
     public String getEngagementMode() throws CallError, InterruptedException {
-        return (String)service.call("getEngagementMode").get();
+        return (String)service().call("getEngagementMode").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getEngagementMode}.
+    * Set engagement mode.
+    * 
+    * @return Name of current engagement mode as a string
+    */
+    public ALFuture<String> getEngagementModeAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getEngagementMode"));
     }
 
     /**
@@ -34,9 +52,19 @@ public class ALBasicAwareness extends ALModule {
     */
     public void _setContextualMoveType(String contextualMove) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setContextualMoveType", contextualMove);
+            service().call("_setContextualMoveType", contextualMove);
         else
-            service.call("_setContextualMoveType", contextualMove).get();
+            service().call("_setContextualMoveType", contextualMove).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setContextualMoveType}.
+    * Set a new contextual moves type.
+    * 
+    * @param contextualMove  The contextual move, can be 'forward', 'backward', 'sides' and 'random'.
+    */
+    public ALFuture<Void> _setContextualMoveTypeAsync(String contextualMove) throws CallError {
+        return ALFuture.of(service().<Void>call("_setContextualMoveType", contextualMove));
     }
 
     /**
@@ -117,9 +145,90 @@ public class ALBasicAwareness extends ALModule {
     */
     public void setParameter(String paramName, java.lang.Object newVal) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setParameter", paramName, newVal);
+            service().call("setParameter", paramName, newVal);
         else
-            service.call("setParameter", paramName, newVal).get();
+            service().call("setParameter", paramName, newVal).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setParameter}.
+    * Set the specified parameter 
+    * 
+    * @param paramName  "ServoingSpeed" : Speed of servoing head moves, as fraction of max speed
+ "LookStimulusSpeed" : Speed of head moves when looking at a stimulus, as fraction of max speed
+ "LookBackSpeed" : Speed of head moves when looking back to previous position, as fraction of max speed
+ "LookDownSpeed" : Speed of head moves when looking down to check for children, as fraction of max speed
+ "TrackingSpeed" : Tracking speed
+ "NobodyFoundTimeOut" : timeout to send HumanLost event when no blob is found, in seconds
+ "MinTimeTracking" : Minimum Time for the robot to be focused on someone, without listening to other stimuli, in seconds
+ "TimeSleepBeforeResumeMS" : Slept time before automatically resuming BasicAwareness when an automatic pause has been made, in milliseconds
+ "TimeOutResetHead" : Timeout to reset the head, in seconds
+ "AmplitudeYawTracking" : max absolute value for head yaw in tracking, in degrees
+ "PeoplePerceptionPeriod" : Period for people perception, in milliseconds
+ "SlowPeoplePerceptionPeriod" : Period for people perception in FullyEngaged mode, in milliseconds
+ "HeadThreshold" : Yaw threshold for tracking, in degrees
+ "BodyRotationThreshold" : Angular threshold for BodyRotation tracking mode, in degrees
+ "BodyRotationThresholdNao" : Angular threshold for BodyRotation tracking mode on Nao, in degrees
+ "MoveDistanceX" : X Distance for the Move tracking mode, in meters
+ "MoveDistanceY" : Y Distance for the Move tracking mode, in meters
+ "MoveAngleTheta" : Angle for the Move tracking mode, in degrees
+ "MoveThresholdX" : Threshold for the Move tracking mode, in meters
+ "MoveThresholdY" : Threshold for the Move tracking mode, in meters
+ "MoveThresholdTheta" : Theta Threshold for the Move tracking mode, in degrees
+ "MaxDistanceFullyEngaged" : Maximum distance for someone to be tracked for FullyEngaged mode, in meters
+ "MaxDistanceNotFullyEngaged" : Maximum distance for someone to be tracked for modes different from FullyEngaged, in meters
+ "MaxHumanSearchTime" : Maximum time to find a human after observing stimulous, in seconds
+ "DeltaPitchComfortZone" : Pitch width of the comfort zone, in degree
+ "CenterPitchComfortZone" : Pitch center of the confort zone, in degree
+ "SoundHeight" : Default Height for sound detection, in meters
+ "MoveSpeed" : Speed of the robot moves
+ "MC_Interactive_MinTime" : Minimum time between 2 contextual moves (when the robot is tracking somebody)
+ "MC_Interactive_MaxOffsetTime" : Maximum time that we can add to MC_Interactive_MinTime (when the robot is tracking somebody)
+ "MC_Interactive_DistanceXY" : Maximum offset distance in X and Y that the robot can apply when he tracks somebody
+ "MC_Interactive_MinTheta" : Minimum theta that the robot can apply when he tracks somebody
+ "MC_Interactive_MaxTheta" : Maximum theta that the robot can apply when he tracks somebody
+ "MC_Interactive_DistanceHumanRobot" : Distance between the human and the robot
+ "MC_Interactive_MaxDistanceHumanRobot" : Maximum distance human robot to allow the robot to move (in MoveContextually mode)
+ 
+    * @param newVal  "ServoingSpeed" : Float in range [0.01;1]
+ "LookStimulusSpeed" : Float in range [0.01;1]
+ "LookBackSpeed" : Float in range [0.01;1]
+ "LookDownSpeed" : Float in range [0.01;1]
+ "TrackingSpeed" : Float in range [0.01;10]
+ "NobodyFoundTimeOut" : Float > 0
+ "MinTimeTracking" : Float in range [0;20]
+ "TimeSleepBeforeResumeMS" : Int > 0
+ "TimeOutResetHead" : Float in range [0;30]
+ "AmplitudeYawTracking" : Float in range [10;120]
+ "PeoplePerceptionPeriod" : Int > 1
+ "SlowPeoplePerceptionPeriod" : Int > 1
+ "HeadThreshold" : Float in range [0;180]
+ "BodyRotationThreshold" : Float in range [-180;180]
+ "BodyRotationThresholdNao" : Float in range [-180;180]
+ "MoveDistanceX" : Float in range [-5;5]
+ "MoveDistanceY" : Float in range [-5;5]
+ "MoveAngleTheta" : Float in range [-180;180]
+ "MoveThresholdX" : Float in range [0;5]
+ "MoveThresholdY" : Float in range [0;5]
+ "MoveThresholdTheta" : Float in range [-180;180]
+ "MaxDistanceFullyEngaged" : Float in range [0.5;5]
+ "MaxDistanceNotFullyEngaged" : Float in range [0.5;5]
+ "MaxHumanSearchTime" : Float in range [0.1;10]
+ "DeltaPitchComfortZone" : Float in range [0;90]
+ "CenterPitchComfortZone" : Float in range [-90;90]
+ "SoundHeight" : Float in range [0;2]
+ "MoveSpeed" : Float in range [0.1;0.55]
+ "MC_Interactive_MinTime" : Int in range [0;100]
+ "MC_Interactive_MaxOffsetTime" : Int in range [0;100]
+ "MC_Interactive_DistanceXY" : Float in range [0;1]
+ "MC_Interactive_MinTheta" : Float in range [-40;0]
+ "MC_Interactive_MaxTheta" : Float in range [0;40]
+ "MC_Interactive_DistanceHumanRobot" : Float in range [0.1;2]
+ "MC_Interactive_MaxDistanceHumanRobot" : Float in range [0.1;3]
+ 
+    */
+    public ALFuture<Void> setParameterAsync(String paramName, java.lang.Object newVal) throws CallError {
+        return ALFuture.of(service().<Void>call("setParameter", paramName, newVal));
     }
 
     /**
@@ -127,7 +236,16 @@ public class ALBasicAwareness extends ALModule {
     * 
     */
     public Boolean _pauseAwareness() throws CallError, InterruptedException {
-        return (Boolean)service.call("_pauseAwareness").get();
+        return (Boolean)service().call("_pauseAwareness").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_pauseAwareness}.
+    * Pause BasicAwareness.
+    * 
+    */
+    public ALFuture<Boolean> _pauseAwarenessAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("_pauseAwareness"));
     }
 
     /**
@@ -135,7 +253,16 @@ public class ALBasicAwareness extends ALModule {
     * 
     */
     public Boolean _resumeAwareness() throws CallError, InterruptedException {
-        return (Boolean)service.call("_resumeAwareness").get();
+        return (Boolean)service().call("_resumeAwareness").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_resumeAwareness}.
+    * Resume BasicAwareness.
+    * 
+    */
+    public ALFuture<Boolean> _resumeAwarenessAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("_resumeAwareness"));
     }
 
     /**
@@ -180,7 +307,53 @@ public class ALBasicAwareness extends ALModule {
     * @return ALValue format for required parameter
     */
     public java.lang.Object getParameter(String paramName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getParameter", paramName).get();
+        return (java.lang.Object)service().call("getParameter", paramName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getParameter}.
+    * Get the specified parameter.
+    * 
+    * @param paramName  "ServoingSpeed" : Speed of servoing head moves, as fraction of max speed
+ "LookStimulusSpeed" : Speed of head moves when looking at a stimulus, as fraction of max speed
+ "LookBackSpeed" : Speed of head moves when looking back to previous position, as fraction of max speed
+ "LookDownSpeed" : Speed of head moves when looking down to check for children, as fraction of max speed
+ "TrackingSpeed" : Tracking speed
+ "NobodyFoundTimeOut" : timeout to send HumanLost event when no blob is found, in seconds
+ "MinTimeTracking" : Minimum Time for the robot to be focused on someone, without listening to other stimuli, in seconds
+ "TimeSleepBeforeResumeMS" : Slept time before automatically resuming BasicAwareness when an automatic pause has been made, in milliseconds
+ "TimeOutResetHead" : Timeout to reset the head, in seconds
+ "AmplitudeYawTracking" : max absolute value for head yaw in tracking, in degrees
+ "PeoplePerceptionPeriod" : Period for people perception, in milliseconds
+ "SlowPeoplePerceptionPeriod" : Period for people perception in FullyEngaged mode, in milliseconds
+ "HeadThreshold" : Yaw threshold for tracking, in degrees
+ "BodyRotationThreshold" : Angular threshold for BodyRotation tracking mode, in degrees
+ "BodyRotationThresholdNao" : Angular threshold for BodyRotation tracking mode on Nao, in degrees
+ "MoveDistanceX" : X Distance for the Move tracking mode, in meters
+ "MoveDistanceY" : Y Distance for the Move tracking mode, in meters
+ "MoveAngleTheta" : Angle for the Move tracking mode, in degrees
+ "MoveThresholdX" : Threshold for the Move tracking mode, in meters
+ "MoveThresholdY" : Threshold for the Move tracking mode, in meters
+ "MoveThresholdTheta" : Theta Threshold for the Move tracking mode, in degrees
+ "MaxDistanceFullyEngaged" : Maximum distance for someone to be tracked for FullyEngaged mode, in meters
+ "MaxDistanceNotFullyEngaged" : Maximum distance for someone to be tracked for modes different from FullyEngaged, in meters
+ "MaxHumanSearchTime" : Maximum time to find a human after observing stimulous, in seconds
+ "DeltaPitchComfortZone" : Pitch width of the comfort zone, in degree
+ "CenterPitchComfortZone" : Pitch center of the confort zone, in degree
+ "SoundHeight" : Default Height for sound detection, in meters
+ "MoveSpeed" : Speed of the robot moves
+ "MC_Interactive_MinTime" : Minimum time between 2 contextual moves (when the robot is tracking somebody)
+ "MC_Interactive_MaxOffsetTime" : Maximum time that we can add to MC_Interactive_MinTime (when the robot is tracking somebody)
+ "MC_Interactive_DistanceXY" : Maximum offset distance in X and Y that the robot can apply when he tracks somebody
+ "MC_Interactive_MinTheta" : Minimum theta that the robot can apply when he tracks somebody
+ "MC_Interactive_MaxTheta" : Maximum theta that the robot can apply when he tracks somebody
+ "MC_Interactive_DistanceHumanRobot" : Distance between the human and the robot
+ "MC_Interactive_MaxDistanceHumanRobot" : Maximum distance human robot to allow the robot to move (in MoveContextually mode)
+ 
+    * @return ALValue format for required parameter
+    */
+    public ALFuture<java.lang.Object> getParameterAsync(String paramName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getParameter", paramName));
     }
 
     /**
@@ -190,9 +363,19 @@ public class ALBasicAwareness extends ALModule {
     */
     public void _useLedDebug(Boolean useLeds) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_useLedDebug", useLeds);
+            service().call("_useLedDebug", useLeds);
         else
-            service.call("_useLedDebug", useLeds).get();
+            service().call("_useLedDebug", useLeds).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_useLedDebug}.
+    * Use leds for debug
+    * 
+    * @param useLeds  Boolean value: true to use leds.
+    */
+    public ALFuture<Void> _useLedDebugAsync(Boolean useLeds) throws CallError {
+        return ALFuture.of(service().<Void>call("_useLedDebug", useLeds));
     }
 
     /**
@@ -202,9 +385,19 @@ public class ALBasicAwareness extends ALModule {
     */
     public void _setLedGroup(String ledGroupName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setLedGroup", ledGroupName);
+            service().call("_setLedGroup", ledGroupName);
         else
-            service.call("_setLedGroup", ledGroupName).get();
+            service().call("_setLedGroup", ledGroupName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setLedGroup}.
+    * Set Led group
+    * 
+    * @param ledGroupName  Name of the led group.
+    */
+    public ALFuture<Void> _setLedGroupAsync(String ledGroupName) throws CallError {
+        return ALFuture.of(service().<Void>call("_setLedGroup", ledGroupName));
     }
 
     /**
@@ -214,9 +407,19 @@ public class ALBasicAwareness extends ALModule {
     */
     public void _displayRobotViewDebug(Boolean useDisplay) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_displayRobotViewDebug", useDisplay);
+            service().call("_displayRobotViewDebug", useDisplay);
         else
-            service.call("_displayRobotViewDebug", useDisplay).get();
+            service().call("_displayRobotViewDebug", useDisplay).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_displayRobotViewDebug}.
+    * Use debug display in robot view
+    * 
+    * @param useDisplay  Boolean value: true to use debug display in robot view.
+    */
+    public ALFuture<Void> _displayRobotViewDebugAsync(Boolean useDisplay) throws CallError {
+        return ALFuture.of(service().<Void>call("_displayRobotViewDebug", useDisplay));
     }
 
     /**
@@ -225,7 +428,17 @@ public class ALBasicAwareness extends ALModule {
     * @return Parameters info as string
     */
     public String _getParametersInfo() throws CallError, InterruptedException {
-        return (String)service.call("_getParametersInfo").get();
+        return (String)service().call("_getParametersInfo").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getParametersInfo}.
+    * Get parameters documentation
+    * 
+    * @return Parameters info as string
+    */
+    public ALFuture<String> _getParametersInfoAsync() throws CallError {
+        return ALFuture.of(service().<String>call("_getParametersInfo"));
     }
 
     /**
@@ -235,9 +448,19 @@ public class ALBasicAwareness extends ALModule {
     */
     public void _setEnableStimuliFromBehind(Boolean enable) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setEnableStimuliFromBehind", enable);
+            service().call("_setEnableStimuliFromBehind", enable);
         else
-            service.call("_setEnableStimuliFromBehind", enable).get();
+            service().call("_setEnableStimuliFromBehind", enable).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setEnableStimuliFromBehind}.
+    * Allow the robot to detect stimuli coming from behind and to turnthe base up to 180 degrees to watch them. If it's disabled, thestimuli from behind won't be taken into account.
+    * 
+    * @param enable  true to enable, false to disable
+    */
+    public ALFuture<Void> _setEnableStimuliFromBehindAsync(Boolean enable) throws CallError {
+        return ALFuture.of(service().<Void>call("_setEnableStimuliFromBehind", enable));
     }
 
     /**
@@ -247,9 +470,19 @@ public class ALBasicAwareness extends ALModule {
     */
     public void setEngagementMode(String modeName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setEngagementMode", modeName);
+            service().call("setEngagementMode", modeName);
         else
-            service.call("setEngagementMode", modeName).get();
+            service().call("setEngagementMode", modeName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setEngagementMode}.
+    * Set engagement mode.
+    * 
+    * @param modeName  Name of the mode
+    */
+    public ALFuture<Void> setEngagementModeAsync(String modeName) throws CallError {
+        return ALFuture.of(service().<Void>call("setEngagementMode", modeName));
     }
 
     /**
@@ -259,9 +492,19 @@ public class ALBasicAwareness extends ALModule {
     */
     public void _setEnableCheckLowStimuli(Boolean enable) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setEnableCheckLowStimuli", enable);
+            service().call("_setEnableCheckLowStimuli", enable);
         else
-            service.call("_setEnableCheckLowStimuli", enable).get();
+            service().call("_setEnableCheckLowStimuli", enable).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setEnableCheckLowStimuli}.
+    * Allow the robot to check downwards for low stimuli if nobody's found.
+    * 
+    * @param enable  true to enable, false to disable
+    */
+    public ALFuture<Void> _setEnableCheckLowStimuliAsync(Boolean enable) throws CallError {
+        return ALFuture.of(service().<Void>call("_setEnableCheckLowStimuli", enable));
     }
 
     /**
@@ -270,7 +513,17 @@ public class ALBasicAwareness extends ALModule {
     * @return Boolean value: true if low stimuli are enabled, else false.
     */
     public Boolean _getEnableCheckLowStimuli() throws CallError, InterruptedException {
-        return (Boolean)service.call("_getEnableCheckLowStimuli").get();
+        return (Boolean)service().call("_getEnableCheckLowStimuli").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getEnableCheckLowStimuli}.
+    * To know if the robot can detect stimuli from behind
+    * 
+    * @return Boolean value: true if low stimuli are enabled, else false.
+    */
+    public ALFuture<Boolean> _getEnableCheckLowStimuliAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("_getEnableCheckLowStimuli"));
     }
 
     /**
@@ -279,7 +532,37 @@ public class ALBasicAwareness extends ALModule {
     * @return Pose2D as vector: Pose2D of home.
     */
     public List<Float> _getHomeReferencePosition() throws CallError, InterruptedException {
-        return (List<Float>)service.call("_getHomeReferencePosition").get();
+        return (List<Float>)service().call("_getHomeReferencePosition").get();
+    }
+
+    /**
+    * Primitive version of {@link #_getHomeReferencePosition}, values are returned unboxed.
+    * Get the position of home
+    * 
+    * @return Pose2D as vector: Pose2D of home.
+    */
+    public float[] _getHomeReferencePositionF() throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("_getHomeReferencePosition").get());
+    }
+
+    /**
+    * Primitive version of {@link #_getHomeReferencePosition}, values are written into dst and their count is returned.
+    * Get the position of home
+    * 
+    * @return Pose2D as vector: Pose2D of home.
+    */
+    public int _getHomeReferencePositionInto(float[] dst) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("_getHomeReferencePosition").get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #_getHomeReferencePosition}.
+    * Get the position of home
+    * 
+    * @return Pose2D as vector: Pose2D of home.
+    */
+    public ALFuture<List<Float>> _getHomeReferencePositionAsync() throws CallError {
+        return ALFuture.of(service().<List<Float>>call("_getHomeReferencePosition"));
     }
 
     /**
@@ -291,9 +574,21 @@ public class ALBasicAwareness extends ALModule {
     */
     public void _onPreferenceUpdated(String param1, java.lang.Object param2, String param3) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onPreferenceUpdated", param1, param2, param3);
+            service().call("_onPreferenceUpdated", param1, param2, param3);
         else
-            service.call("_onPreferenceUpdated", param1, param2, param3).get();
+            service().call("_onPreferenceUpdated", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onPreferenceUpdated}.
+    * 
+    * 
+    * @param   
+    * @param   
+    * @param   
+    */
+    public ALFuture<Void> _onPreferenceUpdatedAsync(String param1, java.lang.Object param2, String param3) throws CallError {
+        return ALFuture.of(service().<Void>call("_onPreferenceUpdated", param1, param2, param3));
     }
 
     /**
@@ -305,9 +600,21 @@ public class ALBasicAwareness extends ALModule {
     */
     public void _onPreferenceSynchronized(String param1, java.lang.Object param2, String param3) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onPreferenceSynchronized", param1, param2, param3);
+            service().call("_onPreferenceSynchronized", param1, param2, param3);
         else
-            service.call("_onPreferenceSynchronized", param1, param2, param3).get();
+            service().call("_onPreferenceSynchronized", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onPreferenceSynchronized}.
+    * 
+    * 
+    * @param   
+    * @param   
+    * @param   
+    */
+    public ALFuture<Void> _onPreferenceSynchronizedAsync(String param1, java.lang.Object param2, String param3) throws CallError {
+        return ALFuture.of(service().<Void>call("_onPreferenceSynchronized", param1, param2, param3));
     }
 
     /**
@@ -319,9 +626,21 @@ public class ALBasicAwareness extends ALModule {
     */
     public void _setCustomEngagementMode(Boolean checkStimWhenFocused, List<String> stimuliWhenNotTracking, List<String> stimuliWhenTracking) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setCustomEngagementMode", checkStimWhenFocused, stimuliWhenNotTracking, stimuliWhenTracking);
+            service().call("_setCustomEngagementMode", checkStimWhenFocused, stimuliWhenNotTracking, stimuliWhenTracking);
         else
-            service.call("_setCustomEngagementMode", checkStimWhenFocused, stimuliWhenNotTracking, stimuliWhenTracking).get();
+            service().call("_setCustomEngagementMode", checkStimWhenFocused, stimuliWhenNotTracking, stimuliWhenTracking).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setCustomEngagementMode}.
+    * Set engagement mode.
+    * 
+    * @param checkStimWhenFocused  when it is tracking someone, true makes the robot check a stimulus to see if it corresponds to a human, false makes it go back to the current track human just after watching in the stim direction (as in SemiEngaged mode)
+    * @param stimuliWhenNotTracking  stimuli enabled when the robot is tracking, as a stimuli names list
+    * @param stimuliWhenTracking  stimuli enabled when the robot is not tracking, as a stimuli names list
+    */
+    public ALFuture<Void> _setCustomEngagementModeAsync(Boolean checkStimWhenFocused, List<String> stimuliWhenNotTracking, List<String> stimuliWhenTracking) throws CallError {
+        return ALFuture.of(service().<Void>call("_setCustomEngagementMode", checkStimWhenFocused, stimuliWhenNotTracking, stimuliWhenTracking));
     }
 
     /**
@@ -331,9 +650,19 @@ public class ALBasicAwareness extends ALModule {
     */
     public void setTrackingMode(String modeName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setTrackingMode", modeName);
+            service().call("setTrackingMode", modeName);
         else
-            service.call("setTrackingMode", modeName).get();
+            service().call("setTrackingMode", modeName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setTrackingMode}.
+    * Set tracking mode.
+    * 
+    * @param modeName  Name of the mode
+    */
+    public ALFuture<Void> setTrackingModeAsync(String modeName) throws CallError {
+        return ALFuture.of(service().<Void>call("setTrackingMode", modeName));
     }
 
     /**
@@ -342,18 +671,37 @@ public class ALBasicAwareness extends ALModule {
     */
     public void resetAllParameters() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("resetAllParameters");
+            service().call("resetAllParameters");
         else
-            service.call("resetAllParameters").get();
+            service().call("resetAllParameters").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #resetAllParameters}.
+    * Reset all parameters, including enabled/disabled stimulus.
+    * 
+    */
+    public ALFuture<Void> resetAllParametersAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("resetAllParameters"));
+    }
+
+    /**
+    * Set tracking mode.
+    * 
+    * @return Name of current tracking mode as a string
+    */
+    public String getTrackingMode() throws CallError, InterruptedException {
+        return (String)service().call("getTrackingMode").get();
     }
 
     /**
+    * Asynchronous version of {@link #getTrackingMode}.
     * Set tracking mode.
     * 
     * @return Name of current tracking mode as a string
     */
-    public String getTrackingMode() throws CallError, InterruptedException {
-        return (String)service.call("getTrackingMode").get();
+    public ALFuture<String> getTrackingModeAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getTrackingMode"));
     }
 
     /**
@@ -363,7 +711,18 @@ public class ALBasicAwareness extends ALModule {
     * @return true if the robot succeeded to engage the person, else false.
     */
     public Boolean engagePerson(Integer engagePerson) throws CallError, InterruptedException {
-        return (Boolean)service.call("engagePerson", engagePerson).get();
+        return (Boolean)service().call("engagePerson", engagePerson).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #engagePerson}.
+    * Force Engage Person.
+    * 
+    * @param engagePerson  ID of the person as found in PeoplePerception.
+    * @return true if the robot succeeded to engage the person, else false.
+    */
+    public ALFuture<Boolean> engagePersonAsync(Integer engagePerson) throws CallError {
+        return ALFuture.of(service().<Boolean>call("engagePerson", engagePerson));
     }
 
     /**
@@ -373,7 +732,18 @@ public class ALBasicAwareness extends ALModule {
     * @return If someone was found, return value is its ID, else it's -1
     */
     public Integer triggerStimulus(List<Float> stimulusPosition) throws CallError, InterruptedException {
-        return (Integer)service.call("triggerStimulus", stimulusPosition).get();
+        return (Integer)service().call("triggerStimulus", stimulusPosition).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #triggerStimulus}.
+    * Trigger a custom stimulus.
+    * 
+    * @param stimulusPosition  Position of the stimulus, in Frame World
+    * @return If someone was found, return value is its ID, else it's -1
+    */
+    public ALFuture<Integer> triggerStimulusAsync(List<Float> stimulusPosition) throws CallError {
+        return ALFuture.of(service().<Integer>call("triggerStimulus", stimulusPosition));
     }
 
     /**
@@ -382,7 +752,17 @@ public class ALBasicAwareness extends ALModule {
     * @return Boolean value: true if stimuli from behind are enabled, else false.
     */
     public Boolean _getEnableStimuliFromBehind() throws CallError, InterruptedException {
-        return (Boolean)service.call("_getEnableStimuliFromBehind").get();
+        return (Boolean)service().call("_getEnableStimuliFromBehind").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getEnableStimuliFromBehind}.
+    * To know if the robot can detect stimuli from behind
+    * 
+    * @return Boolean value: true if stimuli from behind are enabled, else false.
+    */
+    public ALFuture<Boolean> _getEnableStimuliFromBehindAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("_getEnableStimuliFromBehind"));
     }
 
     /**
@@ -390,7 +770,16 @@ public class ALBasicAwareness extends ALModule {
     * 
     */
     public Boolean _isAwarenessPaused() throws CallError, InterruptedException {
-        return (Boolean)service.call("_isAwarenessPaused").get();
+        return (Boolean)service().call("_isAwarenessPaused").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_isAwarenessPaused}.
+    * Get the pause status of the module.
+    * 
+    */
+    public ALFuture<Boolean> _isAwarenessPausedAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("_isAwarenessPaused"));
     }
 
     /**
@@ -398,7 +787,16 @@ public class ALBasicAwareness extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -407,9 +805,18 @@ public class ALBasicAwareness extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -417,7 +824,16 @@ public class ALBasicAwareness extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -426,9 +842,18 @@ public class ALBasicAwareness extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -437,7 +862,17 @@ public class ALBasicAwareness extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -446,7 +881,17 @@ public class ALBasicAwareness extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -455,7 +900,17 @@ public class ALBasicAwareness extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -465,7 +920,18 @@ public class ALBasicAwareness extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -474,7 +940,17 @@ public class ALBasicAwareness extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -485,7 +961,19 @@ public class ALBasicAwareness extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -495,7 +983,18 @@ public class ALBasicAwareness extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -505,9 +1004,19 @@ public class ALBasicAwareness extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -516,7 +1025,17 @@ public class ALBasicAwareness extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -526,7 +1045,18 @@ public class ALBasicAwareness extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -538,9 +1068,21 @@ public class ALBasicAwareness extends ALModule {
     */
     public void _onPeopleDetected(String name, java.lang.Object populationUpdated, String message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onPeopleDetected", name, populationUpdated, message);
+            service().call("_onPeopleDetected", name, populationUpdated, message);
         else
-            service.call("_onPeopleDetected", name, populationUpdated, message).get();
+            service().call("_onPeopleDetected", name, populationUpdated, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onPeopleDetected}.
+    * Population Updated (event: PeoplePerception/PopulationUpdated)
+    * 
+    * @param name  Name of the event
+    * @param populationUpdated  Boolean value for people detection event
+    * @param message  Event message
+    */
+    public ALFuture<Void> _onPeopleDetectedAsync(String name, java.lang.Object populationUpdated, String message) throws CallError {
+        return ALFuture.of(service().<Void>call("_onPeopleDetected", name, populationUpdated, message));
     }
 
     /**
@@ -552,9 +1094,21 @@ public class ALBasicAwareness extends ALModule {
     */
     public void _onMovementDetected(String name, java.lang.Object movementDetected, String message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onMovementDetected", name, movementDetected, message);
+            service().call("_onMovementDetected", name, movementDetected, message);
         else
-            service.call("_onMovementDetected", name, movementDetected, message).get();
+            service().call("_onMovementDetected", name, movementDetected, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onMovementDetected}.
+    * Movement Detected (event: MovementDetection3D/MovementDetected)
+    * 
+    * @param name  Name of the event
+    * @param movementDetected  Boolean value for movement event
+    * @param message  Event message
+    */
+    public ALFuture<Void> _onMovementDetectedAsync(String name, java.lang.Object movementDetected, String message) throws CallError {
+        return ALFuture.of(service().<Void>call("_onMovementDetected", name, movementDetected, message));
     }
 
     /**
@@ -566,9 +1120,21 @@ public class ALBasicAwareness extends ALModule {
     */
     public void _onSoundDetected(String name, java.lang.Object SoundLocated, String message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onSoundDetected", name, SoundLocated, message);
+            service().call("_onSoundDetected", name, SoundLocated, message);
         else
-            service.call("_onSoundDetected", name, SoundLocated, message).get();
+            service().call("_onSoundDetected", name, SoundLocated, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onSoundDetected}.
+    * Sound Detected (event: SoundLocated)
+    * 
+    * @param name  Name of the event
+    * @param SoundLocated  Boolean value for movement event
+    * @param message  Event message
+    */
+    public ALFuture<Void> _onSoundDetectedAsync(String name, java.lang.Object SoundLocated, String message) throws CallError {
+        return ALFuture.of(service().<Void>call("_onSoundDetected", name, SoundLocated, message));
     }
 
     /**
@@ -580,9 +1146,21 @@ public class ALBasicAwareness extends ALModule {
     */
     public void _onTouchDetected(String name, java.lang.Object touchDetected, String message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onTouchDetected", name, touchDetected, message);
+            service().call("_onTouchDetected", name, touchDetected, message);
         else
-            service.call("_onTouchDetected", name, touchDetected, message).get();
+            service().call("_onTouchDetected", name, touchDetected, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onTouchDetected}.
+    * Touch Detected (event: TouchDetection3D/TouchDetected)
+    * 
+    * @param name  Name of the event
+    * @param touchDetected  Boolean value for touch event
+    * @param message  Event message
+    */
+    public ALFuture<Void> _onTouchDetectedAsync(String name, java.lang.Object touchDetected, String message) throws CallError {
+        return ALFuture.of(service().<Void>call("_onTouchDetected", name, touchDetected, message));
     }
 
     /**
@@ -594,9 +1172,21 @@ public class ALBasicAwareness extends ALModule {
     */
     public void _onFastPersonTracking(String name, java.lang.Object tackerValue, String message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onFastPersonTracking", name, tackerValue, message);
+            service().call("_onFastPersonTracking", name, tackerValue, message);
         else
-            service.call("_onFastPersonTracking", name, tackerValue, message).get();
+            service().call("_onFastPersonTracking", name, tackerValue, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onFastPersonTracking}.
+    * Servoing event callback (event:ALTracker/FastPersonTracking)
+    * 
+    * @param name  Name of the event
+    * @param tackerValue  Position to track.
+    * @param message  Event message
+    */
+    public ALFuture<Void> _onFastPersonTrackingAsync(String name, java.lang.Object tackerValue, String message) throws CallError {
+        return ALFuture.of(service().<Void>call("_onFastPersonTracking", name, tackerValue, message));
     }
 
     /**
@@ -608,9 +1198,21 @@ public class ALBasicAwareness extends ALModule {
     */
     public void _onNoFastPersonFound(String name, java.lang.Object val, String message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onNoFastPersonFound", name, val, message);
+            service().call("_onNoFastPersonFound", name, val, message);
         else
-            service.call("_onNoFastPersonFound", name, val, message).get();
+            service().call("_onNoFastPersonFound", name, val, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onNoFastPersonFound}.
+    * No person found by fast tracking callback (event:ALFastPersonTracking/TrackedPersonNotFound)
+    * 
+    * @param name  Name of the event
+    * @param val  Content of the event.
+    * @param message  Event message
+    */
+    public ALFuture<Void> _onNoFastPersonFoundAsync(String name, java.lang.Object val, String message) throws CallError {
+        return ALFuture.of(service().<Void>call("_onNoFastPersonFound", name, val, message));
     }
 
     /**
@@ -622,9 +1224,21 @@ public class ALBasicAwareness extends ALModule {
     */
     public void _onHeadTracking(String name, java.lang.Object tackerValue, String message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onHeadTracking", name, tackerValue, message);
+            service().call("_onHeadTracking", name, tackerValue, message);
         else
-            service.call("_onHeadTracking", name, tackerValue, message).get();
+            service().call("_onHeadTracking", name, tackerValue, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onHeadTracking}.
+    * Servoing event callback (event:ALTracker/FindPersonHead)
+    * 
+    * @param name  Name of the event
+    * @param tackerValue  Position to track.
+    * @param message  Event message
+    */
+    public ALFuture<Void> _onHeadTrackingAsync(String name, java.lang.Object tackerValue, String message) throws CallError {
+        return ALFuture.of(service().<Void>call("_onHeadTracking", name, tackerValue, message));
     }
 
     /**
@@ -636,9 +1250,21 @@ public class ALBasicAwareness extends ALModule {
     */
     public void _onHeadNotFound(String name, java.lang.Object val, String message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onHeadNotFound", name, val, message);
+            service().call("_onHeadNotFound", name, val, message);
         else
-            service.call("_onHeadNotFound", name, val, message).get();
+            service().call("_onHeadNotFound", name, val, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onHeadNotFound}.
+    * HeadNotFound event callback (event:ALFindPersonHead/HeadNotFound)
+    * 
+    * @param name  Name of the event
+    * @param val  Content of the event.
+    * @param message  Event message
+    */
+    public ALFuture<Void> _onHeadNotFoundAsync(String name, java.lang.Object val, String message) throws CallError {
+        return ALFuture.of(service().<Void>call("_onHeadNotFound", name, val, message));
     }
 
     /**
@@ -650,9 +1276,21 @@ public class ALBasicAwareness extends ALModule {
     */
     public void _onHeadReached(String name, java.lang.Object val, String message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onHeadReached", name, val, message);
+            service().call("_onHeadReached", name, val, message);
         else
-            service.call("_onHeadReached", name, val, message).get();
+            service().call("_onHeadReached", name, val, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onHeadReached}.
+    * HeadReached event callback (event:ALFindPersonHead/HeadReached)
+    * 
+    * @param name  Name of the event
+    * @param val  Content of the event.
+    * @param message  Event message
+    */
+    public ALFuture<Void> _onHeadReachedAsync(String name, java.lang.Object val, String message) throws CallError {
+        return ALFuture.of(service().<Void>call("_onHeadReached", name, val, message));
     }
 
     /**
@@ -664,9 +1302,21 @@ public class ALBasicAwareness extends ALModule {
     */
     public void _onHeadTrackingStopped(String name, java.lang.Object val, String message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onHeadTrackingStopped", name, val, message);
+            service().call("_onHeadTrackingStopped", name, val, message);
         else
-            service.call("_onHeadTrackingStopped", name, val, message).get();
+            service().call("_onHeadTrackingStopped", name, val, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onHeadTrackingStopped}.
+    * tracking interruption
+    * 
+    * @param name  Name of the event
+    * @param val  Content of the event.
+    * @param message  Event message
+    */
+    public ALFuture<Void> _onHeadTrackingStoppedAsync(String name, java.lang.Object val, String message) throws CallError {
+        return ALFuture.of(service().<Void>call("_onHeadTrackingStopped", name, val, message));
     }
 
     /**
@@ -675,9 +1325,18 @@ public class ALBasicAwareness extends ALModule {
     */
     public void startAwareness() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("startAwareness");
+            service().call("startAwareness");
         else
-            service.call("startAwareness").get();
+            service().call("startAwareness").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #startAwareness}.
+    * Start Basic Awareness.
+    * 
+    */
+    public ALFuture<Void> startAwarenessAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("startAwareness"));
     }
 
     /**
@@ -686,9 +1345,18 @@ public class ALBasicAwareness extends ALModule {
     */
     public void stopAwareness() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stopAwareness");
+            service().call("stopAwareness");
         else
-            service.call("stopAwareness").get();
+            service().call("stopAwareness").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stopAwareness}.
+    * Stop Basic Awareness.
+    * 
+    */
+    public ALFuture<Void> stopAwarenessAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("stopAwareness"));
     }
 
     /**
@@ -697,7 +1365,17 @@ public class ALBasicAwareness extends ALModule {
     * @return Boolean value, true if running else false
     */
     public Boolean isAwarenessRunning() throws CallError, InterruptedException {
-        return (Boolean)service.call("isAwarenessRunning").get();
+        return (Boolean)service().call("isAwarenessRunning").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isAwarenessRunning}.
+    * Get the status (started or not) of the module.
+    * 
+    * @return Boolean value, true if running else false
+    */
+    public ALFuture<Boolean> isAwarenessRunningAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isAwarenessRunning"));
     }
 
     /**
@@ -708,9 +1386,20 @@ public class ALBasicAwareness extends ALModule {
     */
     public void setStimulusDetectionEnabled(String stimulusName, Boolean isStimulusDetectionEnabled) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setStimulusDetectionEnabled", stimulusName, isStimulusDetectionEnabled);
+            service().call("setStimulusDetectionEnabled", stimulusName, isStimulusDetectionEnabled);
         else
-            service.call("setStimulusDetectionEnabled", stimulusName, isStimulusDetectionEnabled).get();
+            service().call("setStimulusDetectionEnabled", stimulusName, isStimulusDetectionEnabled).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setStimulusDetectionEnabled}.
+    * Enable/Disable Stimulus Detection.
+    * 
+    * @param stimulusName  Name of the stimulus to enable/disable
+    * @param isStimulusDetectionEnabled  Boolean value: true to enable, false to disable.
+    */
+    public ALFuture<Void> setStimulusDetectionEnabledAsync(String stimulusName, Boolean isStimulusDetectionEnabled) throws CallError {
+        return ALFuture.of(service().<Void>call("setStimulusDetectionEnabled", stimulusName, isStimulusDetectionEnabled));
     }
 
     /**
@@ -720,7 +1409,18 @@ public class ALBasicAwareness extends ALModule {
     * @return Boolean value for status enabled/disabled
     */
     public Boolean isStimulusDetectionEnabled(String stimulusName) throws CallError, InterruptedException {
-        return (Boolean)service.call("isStimulusDetectionEnabled", stimulusName).get();
+        return (Boolean)service().call("isStimulusDetectionEnabled", stimulusName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStimulusDetectionEnabled}.
+    * Get status enabled/disabled for Stimulus Detection.
+    * 
+    * @param stimulusName  Name of the stimulus to check
+    * @return Boolean value for status enabled/disabled
+    */
+    public ALFuture<Boolean> isStimulusDetectionEnabledAsync(String stimulusName) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStimulusDetectionEnabled", stimulusName));
     }
 
 }
@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -23,7 +24,16 @@ public class ALBattery extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -32,9 +42,18 @@ public class ALBattery extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -42,7 +61,16 @@ public class ALBattery extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -51,9 +79,18 @@ public class ALBattery extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -62,7 +99,17 @@ public class ALBattery extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -71,7 +118,17 @@ public class ALBattery extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -80,7 +137,17 @@ public class ALBattery extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -90,7 +157,18 @@ public class ALBattery extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -99,7 +177,17 @@ public class ALBattery extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -110,7 +198,19 @@ public class ALBattery extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -120,7 +220,18 @@ public class ALBattery extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -130,9 +241,19 @@ public class ALBattery extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -141,7 +262,17 @@ public class ALBattery extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -151,7 +282,18 @@ public class ALBattery extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -161,9 +303,19 @@ public class ALBattery extends ALModule {
     */
     public void enablePowerMonitoring(Boolean Enable) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("enablePowerMonitoring", Enable);
+            service().call("enablePowerMonitoring", Enable);
         else
-            service.call("enablePowerMonitoring", Enable).get();
+            service().call("enablePowerMonitoring", Enable).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #enablePowerMonitoring}.
+    * Enable power monitoring
+    * 
+    * @param Enable  True activate power monitoring
+    */
+    public ALFuture<Void> enablePowerMonitoringAsync(Boolean Enable) throws CallError {
+        return ALFuture.of(service().<Void>call("enablePowerMonitoring", Enable));
     }
 
     /**
@@ -172,7 +324,17 @@ public class ALBattery extends ALModule {
     * @return the percentage of remaining power
     */
     public Integer getBatteryCharge() throws CallError, InterruptedException {
-        return (Integer)service.call("getBatteryCharge").get();
+        return (Integer)service().call("getBatteryCharge").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBatteryCharge}.
+    * Get the battery charge in percents
+    * 
+    * @return the percentage of remaining power
+    */
+    public ALFuture<Integer> getBatteryChargeAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("getBatteryCharge"));
     }
 
     /**
@@ -182,9 +344,19 @@ public class ALBattery extends ALModule {
     */
     public void _setFirstWarningPercent(Integer Percent) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setFirstWarningPercent", Percent);
+            service().call("_setFirstWarningPercent", Percent);
         else
-            service.call("_setFirstWarningPercent", Percent).get();
+            service().call("_setFirstWarningPercent", Percent).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setFirstWarningPercent}.
+    * Internal set the battery level for the first warning.
+    * 
+    * @param Percent  Percentage of battery.
+    */
+    public ALFuture<Void> _setFirstWarningPercentAsync(Integer Percent) throws CallError {
+        return ALFuture.of(service().<Void>call("_setFirstWarningPercent", Percent));
     }
 
     /**
@@ -194,9 +366,19 @@ public class ALBattery extends ALModule {
     */
     public void _setWarningPercent(Integer Percent) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setWarningPercent", Percent);
+            service().call("_setWarningPercent", Percent);
         else
-            service.call("_setWarningPercent", Percent).get();
+            service().call("_setWarningPercent", Percent).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setWarningPercent}.
+    * Internal set the battery level for the second warning.
+    * 
+    * @param Percent  Percentage of battery.
+    */
+    public ALFuture<Void> _setWarningPercentAsync(Integer Percent) throws CallError {
+        return ALFuture.of(service().<Void>call("_setWarningPercent", Percent));
     }
 
     /**
@@ -206,9 +388,19 @@ public class ALBattery extends ALModule {
     */
     public void _setLastWarningPercent(Integer Percent) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setLastWarningPercent", Percent);
+            service().call("_setLastWarningPercent", Percent);
         else
-            service.call("_setLastWarningPercent", Percent).get();
+            service().call("_setLastWarningPercent", Percent).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setLastWarningPercent}.
+    * Internal set the battery level for the last warning.
+    * 
+    * @param Percent  Percentage of battery.
+    */
+    public ALFuture<Void> _setLastWarningPercentAsync(Integer Percent) throws CallError {
+        return ALFuture.of(service().<Void>call("_setLastWarningPercent", Percent));
     }
 
     /**
@@ -217,7 +409,17 @@ public class ALBattery extends ALModule {
     * @return Return true if battery is detected.
     */
     public Boolean _hasBattery() throws CallError, InterruptedException {
-        return (Boolean)service.call("_hasBattery").get();
+        return (Boolean)service().call("_hasBattery").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_hasBattery}.
+    * Is battery detected.
+    * 
+    * @return Return true if battery is detected.
+    */
+    public ALFuture<Boolean> _hasBatteryAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("_hasBattery"));
     }
 
     /**
@@ -226,7 +428,17 @@ public class ALBattery extends ALModule {
     * @return Return the current battery mode. (Local = 0, robot = 1, simulation = 2)
     */
     public Integer _getBatteryMode() throws CallError, InterruptedException {
-        return (Integer)service.call("_getBatteryMode").get();
+        return (Integer)service().call("_getBatteryMode").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getBatteryMode}.
+    * Get current battery mode.
+    * 
+    * @return Return the current battery mode. (Local = 0, robot = 1, simulation = 2)
+    */
+    public ALFuture<Integer> _getBatteryModeAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("_getBatteryMode"));
     }
 
     /**
@@ -235,7 +447,17 @@ public class ALBattery extends ALModule {
     * @return the percentage of threshold for fully charged event.
     */
     public Integer _getFullyChargedThreshold() throws CallError, InterruptedException {
-        return (Integer)service.call("_getFullyChargedThreshold").get();
+        return (Integer)service().call("_getFullyChargedThreshold").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getFullyChargedThreshold}.
+    * Get current battery fully charged threshold.
+    * 
+    * @return the percentage of threshold for fully charged event.
+    */
+    public ALFuture<Integer> _getFullyChargedThresholdAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("_getFullyChargedThreshold"));
     }
 
     /**
@@ -245,9 +467,19 @@ public class ALBattery extends ALModule {
     */
     public void _setFullyChargedThreshold(Integer threshold) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setFullyChargedThreshold", threshold);
+            service().call("_setFullyChargedThreshold", threshold);
         else
-            service.call("_setFullyChargedThreshold", threshold).get();
+            service().call("_setFullyChargedThreshold", threshold).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setFullyChargedThreshold}.
+    * Set battery fully charged threshold.
+    * 
+    * @param threshold  the percentage of threshold for fully charged event.
+    */
+    public ALFuture<Void> _setFullyChargedThresholdAsync(Integer threshold) throws CallError {
+        return ALFuture.of(service().<Void>call("_setFullyChargedThreshold", threshold));
     }
 
     /**
@@ -257,9 +489,19 @@ public class ALBattery extends ALModule {
     */
     public void _setModeSlave(Boolean status) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setModeSlave", status);
+            service().call("_setModeSlave", status);
         else
-            service.call("_setModeSlave", status).get();
+            service().call("_setModeSlave", status).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setModeSlave}.
+    * Set mode slave status.
+    * 
+    * @param status  Enables or disables mode slave.
+    */
+    public ALFuture<Void> _setModeSlaveAsync(Boolean status) throws CallError {
+        return ALFuture.of(service().<Void>call("_setModeSlave", status));
     }
 
 }
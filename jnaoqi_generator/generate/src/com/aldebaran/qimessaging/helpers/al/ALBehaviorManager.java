@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -24,7 +25,17 @@ public class ALBehaviorManager extends ALModule {
     * @return The list of tags found.
     */
     public List<String> getTagList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getTagList").get();
+        return (List<String>)service().call("getTagList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getTagList}.
+    * Get tags found on installed behaviors.
+    * 
+    * @return The list of tags found.
+    */
+    public ALFuture<List<String>> getTagListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getTagList"));
     }
 
     /**
@@ -34,9 +45,19 @@ public class ALBehaviorManager extends ALModule {
     */
     public void addDefaultBehavior(String behavior) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("addDefaultBehavior", behavior);
+            service().call("addDefaultBehavior", behavior);
         else
-            service.call("addDefaultBehavior", behavior).get();
+            service().call("addDefaultBehavior", behavior).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #addDefaultBehavior}.
+    * Set the given behavior as default
+    * 
+    * @param behavior  Behavior name 
+    */
+    public ALFuture<Void> addDefaultBehaviorAsync(String behavior) throws CallError {
+        return ALFuture.of(service().<Void>call("addDefaultBehavior", behavior));
     }
 
     /**
@@ -46,7 +67,18 @@ public class ALBehaviorManager extends ALModule {
     * @return Returns true if it is a running behavior
     */
     public Boolean isBehaviorRunning(String behavior) throws CallError, InterruptedException {
-        return (Boolean)service.call("isBehaviorRunning", behavior).get();
+        return (Boolean)service().call("isBehaviorRunning", behavior).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isBehaviorRunning}.
+    * Tell if supplied name corresponds to a running behavior
+    * 
+    * @param behavior  Behavior name 
+    * @return Returns true if it is a running behavior
+    */
+    public ALFuture<Boolean> isBehaviorRunningAsync(String behavior) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isBehaviorRunning", behavior));
     }
 
     /**
@@ -55,7 +87,17 @@ public class ALBehaviorManager extends ALModule {
     * @return Return default behaviors
     */
     public List<String> getDefaultBehaviors() throws CallError, InterruptedException {
-        return (List<String>)service.call("getDefaultBehaviors").get();
+        return (List<String>)service().call("getDefaultBehaviors").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getDefaultBehaviors}.
+    * Get default behaviors
+    * 
+    * @return Return default behaviors
+    */
+    public ALFuture<List<String>> getDefaultBehaviorsAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getDefaultBehaviors"));
     }
 
     /**
@@ -64,9 +106,18 @@ public class ALBehaviorManager extends ALModule {
     */
     public void playDefaultProject() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("playDefaultProject");
+            service().call("playDefaultProject");
         else
-            service.call("playDefaultProject").get();
+            service().call("playDefaultProject").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #playDefaultProject}.
+    * Play default behaviors
+    * 
+    */
+    public ALFuture<Void> playDefaultProjectAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("playDefaultProject"));
     }
 
     /**
@@ -75,7 +126,17 @@ public class ALBehaviorManager extends ALModule {
     * @return Return running behaviors
     */
     public List<String> getRunningBehaviors() throws CallError, InterruptedException {
-        return (List<String>)service.call("getRunningBehaviors").get();
+        return (List<String>)service().call("getRunningBehaviors").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getRunningBehaviors}.
+    * Get running behaviors
+    * 
+    * @return Return running behaviors
+    */
+    public ALFuture<List<String>> getRunningBehaviorsAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getRunningBehaviors"));
     }
 
     /**
@@ -84,7 +145,17 @@ public class ALBehaviorManager extends ALModule {
     * @param name  name of choregraphe project
     */
     public String _getBehaviorFrameManagerId(String name) throws CallError, InterruptedException {
-        return (String)service.call("_getBehaviorFrameManagerId", name).get();
+        return (String)service().call("_getBehaviorFrameManagerId", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getBehaviorFrameManagerId}.
+    * get the FrameManagerID. INTERNAL
+    * 
+    * @param name  name of choregraphe project
+    */
+    public ALFuture<String> _getBehaviorFrameManagerIdAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("_getBehaviorFrameManagerId", name));
     }
 
     /**
@@ -94,7 +165,18 @@ public class ALBehaviorManager extends ALModule {
     * @return The actual <package>/<behavior> path if found, else an empty string. Throws an ALERROR if two behavior names conflicted.
     */
     public String resolveBehaviorName(String name) throws CallError, InterruptedException {
-        return (String)service.call("resolveBehaviorName", name).get();
+        return (String)service().call("resolveBehaviorName", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #resolveBehaviorName}.
+    * Find out the actual <package>/<behavior> path behind a behavior name.
+    * 
+    * @param name  name of a behavior
+    * @return The actual <package>/<behavior> path if found, else an empty string. Throws an ALERROR if two behavior names conflicted.
+    */
+    public ALFuture<String> resolveBehaviorNameAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("resolveBehaviorName", name));
     }
 
     /**
@@ -103,7 +185,17 @@ public class ALBehaviorManager extends ALModule {
     * @return Return loaded behaviors
     */
     public List<String> getLoadedBehaviors() throws CallError, InterruptedException {
-        return (List<String>)service.call("getLoadedBehaviors").get();
+        return (List<String>)service().call("getLoadedBehaviors").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getLoadedBehaviors}.
+    * Get loaded behaviors
+    * 
+    * @return Return loaded behaviors
+    */
+    public ALFuture<List<String>> getLoadedBehaviorsAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getLoadedBehaviors"));
     }
 
     /**
@@ -113,7 +205,18 @@ public class ALBehaviorManager extends ALModule {
     * @return The list of tags found.
     */
     public List<String> getBehaviorTags(String behavior) throws CallError, InterruptedException {
-        return (List<String>)service.call("getBehaviorTags", behavior).get();
+        return (List<String>)service().call("getBehaviorTags", behavior).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBehaviorTags}.
+    * Get tags found on the given behavior.
+    * 
+    * @param behavior  The local path towards a behavior or a directory.
+    * @return The list of tags found.
+    */
+    public ALFuture<List<String>> getBehaviorTagsAsync(String behavior) throws CallError {
+        return ALFuture.of(service().<List<String>>call("getBehaviorTags", behavior));
     }
 
     /**
@@ -123,7 +226,18 @@ public class ALBehaviorManager extends ALModule {
     * @return The nature of the behavior.
     */
     public String getBehaviorNature(String behavior) throws CallError, InterruptedException {
-        return (String)service.call("getBehaviorNature", behavior).get();
+        return (String)service().call("getBehaviorNature", behavior).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBehaviorNature}.
+    * Get the nature of the given behavior.
+    * 
+    * @param behavior  The local path towards a behavior or a directory.
+    * @return The nature of the behavior.
+    */
+    public ALFuture<String> getBehaviorNatureAsync(String behavior) throws CallError {
+        return ALFuture.of(service().<String>call("getBehaviorNature", behavior));
     }
 
     /**
@@ -133,7 +247,18 @@ public class ALBehaviorManager extends ALModule {
     * @return Returns true if it is a loaded behavior
     */
     public Boolean isBehaviorLoaded(String behavior) throws CallError, InterruptedException {
-        return (Boolean)service.call("isBehaviorLoaded", behavior).get();
+        return (Boolean)service().call("isBehaviorLoaded", behavior).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isBehaviorLoaded}.
+    * Tell if supplied name corresponds to a loaded behavior
+    * 
+    * @param behavior  Behavior name 
+    * @return Returns true if it is a loaded behavior
+    */
+    public ALFuture<Boolean> isBehaviorLoadedAsync(String behavior) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isBehaviorLoaded", behavior));
     }
 
     /**
@@ -143,7 +268,18 @@ public class ALBehaviorManager extends ALModule {
     * @return The relative path of the behavior.
     */
     public String _getBehaviorRelativePath(String behaviorId) throws CallError, InterruptedException {
-        return (String)service.call("_getBehaviorRelativePath", behaviorId).get();
+        return (String)service().call("_getBehaviorRelativePath", behaviorId).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getBehaviorRelativePath}.
+    * Get the relative path of a running behavior inside its package.
+    * 
+    * @param behaviorId  The ID of the behavior.
+    * @return The relative path of the behavior.
+    */
+    public ALFuture<String> _getBehaviorRelativePathAsync(String behaviorId) throws CallError {
+        return ALFuture.of(service().<String>call("_getBehaviorRelativePath", behaviorId));
     }
 
     /**
@@ -153,7 +289,18 @@ public class ALBehaviorManager extends ALModule {
     * @return The package UID of the behavior.
     */
     public String _getPackageUid(String behaviorId) throws CallError, InterruptedException {
-        return (String)service.call("_getPackageUid", behaviorId).get();
+        return (String)service().call("_getPackageUid", behaviorId).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getPackageUid}.
+    * Get the package UID of a running behavior.
+    * 
+    * @param behaviorId  The ID of the behavior.
+    * @return The package UID of the behavior.
+    */
+    public ALFuture<String> _getPackageUidAsync(String behaviorId) throws CallError {
+        return ALFuture.of(service().<String>call("_getPackageUid", behaviorId));
     }
 
     /**
@@ -163,9 +310,19 @@ public class ALBehaviorManager extends ALModule {
     */
     public void removeDefaultBehavior(String behavior) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("removeDefaultBehavior", behavior);
+            service().call("removeDefaultBehavior", behavior);
         else
-            service.call("removeDefaultBehavior", behavior).get();
+            service().call("removeDefaultBehavior", behavior).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #removeDefaultBehavior}.
+    * Remove the given behavior from the default behaviors
+    * 
+    * @param behavior  Behavior name 
+    */
+    public ALFuture<Void> removeDefaultBehaviorAsync(String behavior) throws CallError {
+        return ALFuture.of(service().<Void>call("removeDefaultBehavior", behavior));
     }
 
     /**
@@ -177,9 +334,21 @@ public class ALBehaviorManager extends ALModule {
     */
     public void _onDataChanged(String dataName, java.lang.Object dataValue, String message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onDataChanged", dataName, dataValue, message);
+            service().call("_onDataChanged", dataName, dataValue, message);
         else
-            service.call("_onDataChanged", dataName, dataValue, message).get();
+            service().call("_onDataChanged", dataName, dataValue, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onDataChanged}.
+    * Be notified when something we have subscribe to has changed in ALMemory
+    * 
+    * @param dataName  name of the data
+    * @param dataValue  value of the data
+    * @param message  callback message
+    */
+    public ALFuture<Void> _onDataChangedAsync(String dataName, java.lang.Object dataValue, String message) throws CallError {
+        return ALFuture.of(service().<Void>call("_onDataChanged", dataName, dataValue, message));
     }
 
     /**
@@ -187,7 +356,16 @@ public class ALBehaviorManager extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -196,9 +374,18 @@ public class ALBehaviorManager extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -206,7 +393,16 @@ public class ALBehaviorManager extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -215,9 +411,18 @@ public class ALBehaviorManager extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -226,7 +431,17 @@ public class ALBehaviorManager extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -235,7 +450,17 @@ public class ALBehaviorManager extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -244,7 +469,17 @@ public class ALBehaviorManager extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -254,7 +489,18 @@ public class ALBehaviorManager extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -263,7 +509,17 @@ public class ALBehaviorManager extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -274,7 +530,19 @@ public class ALBehaviorManager extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -284,7 +552,18 @@ public class ALBehaviorManager extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -294,9 +573,19 @@ public class ALBehaviorManager extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -305,7 +594,17 @@ public class ALBehaviorManager extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -315,7 +614,18 @@ public class ALBehaviorManager extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -328,7 +638,21 @@ DEPRECATED in favor of PackageManager.install.
     * @return true on success, false on failure.
     */
     public Boolean installBehavior(String localPath) throws CallError, InterruptedException {
-        return (Boolean)service.call("installBehavior", localPath).get();
+        return (Boolean)service().call("installBehavior", localPath).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #installBehavior}.
+    * Install a behavior.
+Check the given local path for a valid behavior or package.
+On success, behavior added or updated signal is emitted.
+DEPRECATED in favor of PackageManager.install.
+    * 
+    * @param localPath  the relative destination path.
+    * @return true on success, false on failure.
+    */
+    public ALFuture<Boolean> installBehaviorAsync(String localPath) throws CallError {
+        return ALFuture.of(service().<Boolean>call("installBehavior", localPath));
     }
 
     /**
@@ -342,7 +666,22 @@ On success, behavior added signal is emitted before returning.DEPRECATED in favo
     * @return true on success, false on failure.
     */
     public Boolean installBehavior(String absolutePath, String localPath, Boolean overwrite) throws CallError, InterruptedException {
-        return (Boolean)service.call("installBehavior", absolutePath, localPath, overwrite).get();
+        return (Boolean)service().call("installBehavior", absolutePath, localPath, overwrite).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #installBehavior}.
+    * Install a behavior.
+Check and take the behavior found at the given absolute path andimport it to the given local path, relative to behaviors path.
+On success, behavior added signal is emitted before returning.DEPRECATED in favor of PackageManager.install.
+    * 
+    * @param absolutePath  a behavior on the local file system to install.
+    * @param localPath  the relative destination path.
+    * @param overwrite  whether to replace existing behavior if present.
+    * @return true on success, false on failure.
+    */
+    public ALFuture<Boolean> installBehaviorAsync(String absolutePath, String localPath, Boolean overwrite) throws CallError {
+        return ALFuture.of(service().<Boolean>call("installBehavior", absolutePath, localPath, overwrite));
     }
 
     /**
@@ -352,7 +691,18 @@ On success, behavior added signal is emitted before returning.DEPRECATED in favo
     * @return Returns true if it was successfully loaded.
     */
     public Boolean preloadBehavior(String behavior) throws CallError, InterruptedException {
-        return (Boolean)service.call("preloadBehavior", behavior).get();
+        return (Boolean)service().call("preloadBehavior", behavior).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #preloadBehavior}.
+    * Load a behavior
+    * 
+    * @param behavior  Behavior name 
+    * @return Returns true if it was successfully loaded.
+    */
+    public ALFuture<Boolean> preloadBehaviorAsync(String behavior) throws CallError {
+        return ALFuture.of(service().<Boolean>call("preloadBehavior", behavior));
     }
 
     /**
@@ -362,9 +712,19 @@ On success, behavior added signal is emitted before returning.DEPRECATED in favo
     */
     public void startBehavior(String behavior) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("startBehavior", behavior);
+            service().call("startBehavior", behavior);
         else
-            service.call("startBehavior", behavior).get();
+            service().call("startBehavior", behavior).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #startBehavior}.
+    * Starts a behavior, returns when started.
+    * 
+    * @param behavior  Behavior name 
+    */
+    public ALFuture<Void> startBehaviorAsync(String behavior) throws CallError {
+        return ALFuture.of(service().<Void>call("startBehavior", behavior));
     }
 
     /**
@@ -374,9 +734,19 @@ On success, behavior added signal is emitted before returning.DEPRECATED in favo
     */
     public void runBehavior(String behavior) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("runBehavior", behavior);
+            service().call("runBehavior", behavior);
         else
-            service.call("runBehavior", behavior).get();
+            service().call("runBehavior", behavior).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #runBehavior}.
+    * Runs a behavior, returns when finished
+    * 
+    * @param behavior  Behavior name 
+    */
+    public ALFuture<Void> runBehaviorAsync(String behavior) throws CallError {
+        return ALFuture.of(service().<Void>call("runBehavior", behavior));
     }
 
     /**
@@ -386,9 +756,19 @@ On success, behavior added signal is emitted before returning.DEPRECATED in favo
     */
     public void stopBehavior(String behavior) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stopBehavior", behavior);
+            service().call("stopBehavior", behavior);
         else
-            service.call("stopBehavior", behavior).get();
+            service().call("stopBehavior", behavior).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stopBehavior}.
+    * Stop a behavior
+    * 
+    * @param behavior  Behavior name 
+    */
+    public ALFuture<Void> stopBehaviorAsync(String behavior) throws CallError {
+        return ALFuture.of(service().<Void>call("stopBehavior", behavior));
     }
 
     /**
@@ -397,9 +777,18 @@ On success, behavior added signal is emitted before returning.DEPRECATED in favo
     */
     public void stopAllBehaviors() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stopAllBehaviors");
+            service().call("stopAllBehaviors");
         else
-            service.call("stopAllBehaviors").get();
+            service().call("stopAllBehaviors").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stopAllBehaviors}.
+    * Stop all behaviors
+    * 
+    */
+    public ALFuture<Void> stopAllBehaviorsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("stopAllBehaviors"));
     }
 
     /**
@@ -408,7 +797,17 @@ On success, behavior added signal is emitted before returning.DEPRECATED in favo
     * @param behavior  Behavior name 
     */
     public Boolean removeBehavior(String behavior) throws CallError, InterruptedException {
-        return (Boolean)service.call("removeBehavior", behavior).get();
+        return (Boolean)service().call("removeBehavior", behavior).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #removeBehavior}.
+    * Remove a behavior from the filesystem. DEPRECATED in favor of PackageManager.remove.
+    * 
+    * @param behavior  Behavior name 
+    */
+    public ALFuture<Boolean> removeBehaviorAsync(String behavior) throws CallError {
+        return ALFuture.of(service().<Boolean>call("removeBehavior", behavior));
     }
 
     /**
@@ -418,7 +817,18 @@ On success, behavior added signal is emitted before returning.DEPRECATED in favo
     * @return Returns true if it is a valid behavior
     */
     public Boolean isBehaviorInstalled(String name) throws CallError, InterruptedException {
-        return (Boolean)service.call("isBehaviorInstalled", name).get();
+        return (Boolean)service().call("isBehaviorInstalled", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isBehaviorInstalled}.
+    * Tell if supplied name corresponds to a behavior that has been installed
+    * 
+    * @param name  The behavior directory name
+    * @return Returns true if it is a valid behavior
+    */
+    public ALFuture<Boolean> isBehaviorInstalledAsync(String name) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isBehaviorInstalled", name));
     }
 
     /**
@@ -428,7 +838,18 @@ On success, behavior added signal is emitted before returning.DEPRECATED in favo
     * @return Returns true if it is an existing behavior
     */
     public Boolean isBehaviorPresent(String prefixedBehavior) throws CallError, InterruptedException {
-        return (Boolean)service.call("isBehaviorPresent", prefixedBehavior).get();
+        return (Boolean)service().call("isBehaviorPresent", prefixedBehavior).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isBehaviorPresent}.
+    * Tell if the supplied namecorresponds to an existing behavior.
+    * 
+    * @param prefixedBehavior  Prefixed behavior or just behavior's name (latter usage deprecated, in this case the behavior is searched for amongst user's behaviors, then in system behaviors) DEPRECATED in favor of ALBehaviorManager.isBehaviorInstalled.
+    * @return Returns true if it is an existing behavior
+    */
+    public ALFuture<Boolean> isBehaviorPresentAsync(String prefixedBehavior) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isBehaviorPresent", prefixedBehavior));
     }
 
     /**
@@ -437,7 +858,17 @@ On success, behavior added signal is emitted before returning.DEPRECATED in favo
     * @return Returns the list of behaviors prefixed by their type (User/ or System/). DEPRECATED in favor of ALBehaviorManager.getInstalledBehaviors.
     */
     public List<String> getBehaviorNames() throws CallError, InterruptedException {
-        return (List<String>)service.call("getBehaviorNames").get();
+        return (List<String>)service().call("getBehaviorNames").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBehaviorNames}.
+    * Get behaviors
+    * 
+    * @return Returns the list of behaviors prefixed by their type (User/ or System/). DEPRECATED in favor of ALBehaviorManager.getInstalledBehaviors.
+    */
+    public ALFuture<List<String>> getBehaviorNamesAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getBehaviorNames"));
     }
 
     /**
@@ -446,7 +877,17 @@ On success, behavior added signal is emitted before returning.DEPRECATED in favo
     * @return Returns the list of user's behaviors prefixed by User/. DEPRECATED in favor of ALBehaviorManager.getInstalledBehaviors.
     */
     public List<String> getUserBehaviorNames() throws CallError, InterruptedException {
-        return (List<String>)service.call("getUserBehaviorNames").get();
+        return (List<String>)service().call("getUserBehaviorNames").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUserBehaviorNames}.
+    * Get user's behaviors
+    * 
+    * @return Returns the list of user's behaviors prefixed by User/. DEPRECATED in favor of ALBehaviorManager.getInstalledBehaviors.
+    */
+    public ALFuture<List<String>> getUserBehaviorNamesAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getUserBehaviorNames"));
     }
 
     /**
@@ -455,7 +896,17 @@ On success, behavior added signal is emitted before returning.DEPRECATED in favo
     * @return Returns the list of system behaviors prefixed by System/. DEPRECATED in favor of ALBehaviorManager.getInstalledBehaviors.
     */
     public List<String> getSystemBehaviorNames() throws CallError, InterruptedException {
-        return (List<String>)service.call("getSystemBehaviorNames").get();
+        return (List<String>)service().call("getSystemBehaviorNames").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getSystemBehaviorNames}.
+    * Get system behaviors
+    * 
+    * @return Returns the list of system behaviors prefixed by System/. DEPRECATED in favor of ALBehaviorManager.getInstalledBehaviors.
+    */
+    public ALFuture<List<String>> getSystemBehaviorNamesAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getSystemBehaviorNames"));
     }
 
     /**
@@ -464,7 +915,17 @@ On success, behavior added signal is emitted before returning.DEPRECATED in favo
     * @return Returns the behaviors list
     */
     public List<String> getInstalledBehaviors() throws CallError, InterruptedException {
-        return (List<String>)service.call("getInstalledBehaviors").get();
+        return (List<String>)service().call("getInstalledBehaviors").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getInstalledBehaviors}.
+    * Get installed behaviors directories names
+    * 
+    * @return Returns the behaviors list
+    */
+    public ALFuture<List<String>> getInstalledBehaviorsAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getInstalledBehaviors"));
     }
 
     /**
@@ -474,7 +935,18 @@ On success, behavior added signal is emitted before returning.DEPRECATED in favo
     * @return Returns the behaviors list
     */
     public List<String> getBehaviorsByTag(String tag) throws CallError, InterruptedException {
-        return (List<String>)service.call("getBehaviorsByTag", tag).get();
+        return (List<String>)service().call("getBehaviorsByTag", tag).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBehaviorsByTag}.
+    * Get installed behaviors directories names and filter it by tag.
+    * 
+    * @param tag  A tag to filter the list with.
+    * @return Returns the behaviors list
+    */
+    public ALFuture<List<String>> getBehaviorsByTagAsync(String tag) throws CallError {
+        return ALFuture.of(service().<List<String>>call("getBehaviorsByTag", tag));
     }
 
 }
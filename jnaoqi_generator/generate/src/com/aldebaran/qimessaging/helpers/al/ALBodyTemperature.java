@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -23,7 +24,16 @@ public class ALBodyTemperature extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -32,9 +42,18 @@ public class ALBodyTemperature extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -42,7 +61,16 @@ public class ALBodyTemperature extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -51,9 +79,18 @@ public class ALBodyTemperature extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -62,7 +99,17 @@ public class ALBodyTemperature extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -71,7 +118,17 @@ public class ALBodyTemperature extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -80,7 +137,17 @@ public class ALBodyTemperature extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -90,7 +157,18 @@ public class ALBodyTemperature extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -99,7 +177,17 @@ public class ALBodyTemperature extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -110,7 +198,19 @@ public class ALBodyTemperature extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -120,7 +220,18 @@ public class ALBodyTemperature extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -130,9 +241,19 @@ public class ALBodyTemperature extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -141,7 +262,17 @@ public class ALBodyTemperature extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -151,7 +282,18 @@ public class ALBodyTemperature extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -160,7 +302,17 @@ public class ALBodyTemperature extends ALModule {
     * @return Return the current temperature diagnosis.
     */
     public java.lang.Object getTemperatureDiagnosis() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getTemperatureDiagnosis").get();
+        return (java.lang.Object)service().call("getTemperatureDiagnosis").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getTemperatureDiagnosis}.
+    * The actual state of the temperature diagnosis.
+    * 
+    * @return Return the current temperature diagnosis.
+    */
+    public ALFuture<java.lang.Object> getTemperatureDiagnosisAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getTemperatureDiagnosis"));
     }
 
     /**
@@ -170,9 +322,19 @@ public class ALBodyTemperature extends ALModule {
     */
     public void setEnableNotifications(Boolean enable) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setEnableNotifications", enable);
+            service().call("setEnableNotifications", enable);
         else
-            service.call("setEnableNotifications", enable).get();
+            service().call("setEnableNotifications", enable).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setEnableNotifications}.
+    * Enables / Disables temperature notifications.
+    * 
+    * @param enable  If True enable temperature notifications. If False disable temperature notifications.
+    */
+    public ALFuture<Void> setEnableNotificationsAsync(Boolean enable) throws CallError {
+        return ALFuture.of(service().<Void>call("setEnableNotifications", enable));
     }
 
     /**
@@ -181,7 +343,17 @@ public class ALBodyTemperature extends ALModule {
     * @return Return True if notifications are active.
     */
     public Boolean areNotificationsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("areNotificationsEnabled").get();
+        return (Boolean)service().call("areNotificationsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #areNotificationsEnabled}.
+    * Return true if notifications are active.
+    * 
+    * @return Return True if notifications are active.
+    */
+    public ALFuture<Boolean> areNotificationsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("areNotificationsEnabled"));
     }
 
     /**
@@ -191,7 +363,18 @@ public class ALBodyTemperature extends ALModule {
     * @return Return the current temperature in degree celsius.
     */
     public Integer _getDeviceTemperature(String deviceName) throws CallError, InterruptedException {
-        return (Integer)service.call("_getDeviceTemperature", deviceName).get();
+        return (Integer)service().call("_getDeviceTemperature", deviceName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getDeviceTemperature}.
+    * Return the current temperature of deviceName.
+    * 
+    * @param deviceName  A joint, actuator or sensor name.
+    * @return Return the current temperature in degree celsius.
+    */
+    public ALFuture<Integer> _getDeviceTemperatureAsync(String deviceName) throws CallError {
+        return ALFuture.of(service().<Integer>call("_getDeviceTemperature", deviceName));
     }
 
     /**
@@ -201,7 +384,18 @@ public class ALBodyTemperature extends ALModule {
     * @return Return the current temperature status.
     */
     public Integer _getDeviceStatus(String deviceName) throws CallError, InterruptedException {
-        return (Integer)service.call("_getDeviceStatus", deviceName).get();
+        return (Integer)service().call("_getDeviceStatus", deviceName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getDeviceStatus}.
+    * Return the current temperature status of deviceName.
+    * 
+    * @param deviceName  A joint, actuator or sensor name.
+    * @return Return the current temperature status.
+    */
+    public ALFuture<Integer> _getDeviceStatusAsync(String deviceName) throws CallError {
+        return ALFuture.of(service().<Integer>call("_getDeviceStatus", deviceName));
     }
 
     /**
@@ -210,7 +404,17 @@ public class ALBodyTemperature extends ALModule {
     * @return Return the current temperature status.
     */
     public java.lang.Object _getTemperatureStatus() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_getTemperatureStatus").get();
+        return (java.lang.Object)service().call("_getTemperatureStatus").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getTemperatureStatus}.
+    * The actual state of the temperature status.
+    * 
+    * @return Return the current temperature status.
+    */
+    public ALFuture<java.lang.Object> _getTemperatureStatusAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_getTemperatureStatus"));
     }
 
 }
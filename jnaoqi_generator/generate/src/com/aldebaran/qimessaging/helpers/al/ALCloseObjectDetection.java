@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -24,7 +25,17 @@ public class ALCloseObjectDetection extends ALModule {
     * @return True if the extractor is currently processing images, False if not
     */
     public Boolean isProcessing() throws CallError, InterruptedException {
-        return (Boolean)service.call("isProcessing").get();
+        return (Boolean)service().call("isProcessing").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isProcessing}.
+    * Gets extractor running status
+    * 
+    * @return True if the extractor is currently processing images, False if not
+    */
+    public ALFuture<Boolean> isProcessingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isProcessing"));
     }
 
     /**
@@ -32,7 +43,16 @@ public class ALCloseObjectDetection extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -41,9 +61,18 @@ public class ALCloseObjectDetection extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -51,7 +80,16 @@ public class ALCloseObjectDetection extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -60,9 +98,18 @@ public class ALCloseObjectDetection extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -71,7 +118,17 @@ public class ALCloseObjectDetection extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -80,7 +137,17 @@ public class ALCloseObjectDetection extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -89,7 +156,17 @@ public class ALCloseObjectDetection extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -99,7 +176,18 @@ public class ALCloseObjectDetection extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -108,7 +196,17 @@ public class ALCloseObjectDetection extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -119,7 +217,19 @@ public class ALCloseObjectDetection extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -129,7 +239,18 @@ public class ALCloseObjectDetection extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -139,9 +260,19 @@ public class ALCloseObjectDetection extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -150,7 +281,17 @@ public class ALCloseObjectDetection extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -160,7 +301,18 @@ public class ALCloseObjectDetection extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -171,10 +323,24 @@ public class ALCloseObjectDetection extends ALModule {
     * @param precision  Precision of the extractor if relevant.
     */
     public void subscribe(String name, Integer period, Float precision) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("subscribe", name, period, precision);
-        else
-            service.call("subscribe", name, period, precision).get();
+        if (isAsynchronous) {
+            recordSubscription(ALFuture.of(service().<Void>call("subscribe", name, period, precision)), "unsubscribe", name);
+            return;
+        }
+        service().call("subscribe", name, period, precision).get();
+        recordSubscription("unsubscribe", name);
+    }
+
+    /**
+    * Asynchronous version of {@link #subscribe}.
+    * Subscribes to the extractor. This causes the extractor to start writing information to memory using the keys described by getOutputNames(). These can be accessed in memory using ALMemory.getData("keyName"). In many cases you can avoid calling subscribe on the extractor by just calling ALMemory.subscribeToEvent() supplying a callback method. This will automatically subscribe to the extractor for you.
+    * 
+    * @param name  Name of the module which subscribes.
+    * @param period  Refresh period (in milliseconds) if relevant.
+    * @param precision  Precision of the extractor if relevant.
+    */
+    public ALFuture<Void> subscribeAsync(String name, Integer period, Float precision) throws CallError {
+        return recordSubscription(ALFuture.of(service().<Void>call("subscribe", name, period, precision)), "unsubscribe", name);
     }
 
     /**
@@ -183,10 +349,22 @@ public class ALCloseObjectDetection extends ALModule {
     * @param name  Name of the module which subscribes.
     */
     public void subscribe(String name) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("subscribe", name);
-        else
-            service.call("subscribe", name).get();
+        if (isAsynchronous) {
+            recordSubscription(ALFuture.of(service().<Void>call("subscribe", name)), "unsubscribe", name);
+            return;
+        }
+        service().call("subscribe", name).get();
+        recordSubscription("unsubscribe", name);
+    }
+
+    /**
+    * Asynchronous version of {@link #subscribe}.
+    * Subscribes to the extractor. This causes the extractor to start writing information to memory using the keys described by getOutputNames(). These can be accessed in memory using ALMemory.getData("keyName"). In many cases you can avoid calling subscribe on the extractor by just calling ALMemory.subscribeToEvent() supplying a callback method. This will automatically subscribe to the extractor for you.
+    * 
+    * @param name  Name of the module which subscribes.
+    */
+    public ALFuture<Void> subscribeAsync(String name) throws CallError {
+        return recordSubscription(ALFuture.of(service().<Void>call("subscribe", name)), "unsubscribe", name);
     }
 
     /**
@@ -195,10 +373,22 @@ public class ALCloseObjectDetection extends ALModule {
     * @param name  Name of the module which had subscribed.
     */
     public void unsubscribe(String name) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("unsubscribe", name);
-        else
-            service.call("unsubscribe", name).get();
+        if (isAsynchronous) {
+            forgetSubscription(ALFuture.of(service().<Void>call("unsubscribe", name)), "unsubscribe", name);
+            return;
+        }
+        service().call("unsubscribe", name).get();
+        forgetSubscription("unsubscribe", name);
+    }
+
+    /**
+    * Asynchronous version of {@link #unsubscribe}.
+    * Unsubscribes from the extractor.
+    * 
+    * @param name  Name of the module which had subscribed.
+    */
+    public ALFuture<Void> unsubscribeAsync(String name) throws CallError {
+        return forgetSubscription(ALFuture.of(service().<Void>call("unsubscribe", name)), "unsubscribe", name);
     }
 
     /**
@@ -209,9 +399,20 @@ public class ALCloseObjectDetection extends ALModule {
     */
     public void updatePeriod(String name, Integer period) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("updatePeriod", name, period);
+            service().call("updatePeriod", name, period);
         else
-            service.call("updatePeriod", name, period).get();
+            service().call("updatePeriod", name, period).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #updatePeriod}.
+    * Updates the period if relevant.
+    * 
+    * @param name  Name of the module which has subscribed.
+    * @param period  Refresh period (in milliseconds).
+    */
+    public ALFuture<Void> updatePeriodAsync(String name, Integer period) throws CallError {
+        return ALFuture.of(service().<Void>call("updatePeriod", name, period));
     }
 
     /**
@@ -222,9 +423,20 @@ public class ALCloseObjectDetection extends ALModule {
     */
     public void updatePrecision(String name, Float precision) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("updatePrecision", name, precision);
+            service().call("updatePrecision", name, precision);
         else
-            service.call("updatePrecision", name, precision).get();
+            service().call("updatePrecision", name, precision).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #updatePrecision}.
+    * Updates the precision if relevant.
+    * 
+    * @param name  Name of the module which has subscribed.
+    * @param precision  Precision of the extractor.
+    */
+    public ALFuture<Void> updatePrecisionAsync(String name, Float precision) throws CallError {
+        return ALFuture.of(service().<Void>call("updatePrecision", name, precision));
     }
 
     /**
@@ -233,7 +445,17 @@ public class ALCloseObjectDetection extends ALModule {
     * @return Refresh period (in milliseconds).
     */
     public Integer getCurrentPeriod() throws CallError, InterruptedException {
-        return (Integer)service.call("getCurrentPeriod").get();
+        return (Integer)service().call("getCurrentPeriod").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getCurrentPeriod}.
+    * Gets the current period.
+    * 
+    * @return Refresh period (in milliseconds).
+    */
+    public ALFuture<Integer> getCurrentPeriodAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("getCurrentPeriod"));
     }
 
     /**
@@ -242,7 +464,17 @@ public class ALCloseObjectDetection extends ALModule {
     * @return Precision of the extractor.
     */
     public Float getCurrentPrecision() throws CallError, InterruptedException {
-        return (Float)service.call("getCurrentPrecision").get();
+        return (Float)service().call("getCurrentPrecision").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getCurrentPrecision}.
+    * Gets the current precision.
+    * 
+    * @return Precision of the extractor.
+    */
+    public ALFuture<Float> getCurrentPrecisionAsync() throws CallError {
+        return ALFuture.of(service().<Float>call("getCurrentPrecision"));
     }
 
     /**
@@ -252,7 +484,18 @@ public class ALCloseObjectDetection extends ALModule {
     * @return Refresh period (in milliseconds).
     */
     public Integer getMyPeriod(String name) throws CallError, InterruptedException {
-        return (Integer)service.call("getMyPeriod", name).get();
+        return (Integer)service().call("getMyPeriod", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMyPeriod}.
+    * Gets the period for a specific subscription.
+    * 
+    * @param name  Name of the module which has subscribed.
+    * @return Refresh period (in milliseconds).
+    */
+    public ALFuture<Integer> getMyPeriodAsync(String name) throws CallError {
+        return ALFuture.of(service().<Integer>call("getMyPeriod", name));
     }
 
     /**
@@ -262,7 +505,18 @@ public class ALCloseObjectDetection extends ALModule {
     * @return precision of the extractor
     */
     public Float getMyPrecision(String name) throws CallError, InterruptedException {
-        return (Float)service.call("getMyPrecision", name).get();
+        return (Float)service().call("getMyPrecision", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMyPrecision}.
+    * Gets the precision for a specific subscription.
+    * 
+    * @param name  name of the module which has subscribed
+    * @return precision of the extractor
+    */
+    public ALFuture<Float> getMyPrecisionAsync(String name) throws CallError {
+        return ALFuture.of(service().<Float>call("getMyPrecision", name));
     }
 
     /**
@@ -271,7 +525,17 @@ public class ALCloseObjectDetection extends ALModule {
     * @return Array of names and parameters of all subscribers.
     */
     public java.lang.Object getSubscribersInfo() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getSubscribersInfo").get();
+        return (java.lang.Object)service().call("getSubscribersInfo").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getSubscribersInfo}.
+    * Gets the parameters given by the module.
+    * 
+    * @return Array of names and parameters of all subscribers.
+    */
+    public ALFuture<java.lang.Object> getSubscribersInfoAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getSubscribersInfo"));
     }
 
     /**
@@ -280,7 +544,17 @@ public class ALCloseObjectDetection extends ALModule {
     * @return Array of values updated by this extractor in ALMemory
     */
     public List<String> getOutputNames() throws CallError, InterruptedException {
-        return (List<String>)service.call("getOutputNames").get();
+        return (List<String>)service().call("getOutputNames").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getOutputNames}.
+    * Get the list of values updated in ALMemory.
+    * 
+    * @return Array of values updated by this extractor in ALMemory
+    */
+    public ALFuture<List<String>> getOutputNamesAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getOutputNames"));
     }
 
     /**
@@ -289,7 +563,17 @@ public class ALCloseObjectDetection extends ALModule {
     * @return Array of events updated by this extractor in ALMemory
     */
     public List<String> getEventList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getEventList").get();
+        return (List<String>)service().call("getEventList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getEventList}.
+    * Get the list of events updated in ALMemory.
+    * 
+    * @return Array of events updated by this extractor in ALMemory
+    */
+    public ALFuture<List<String>> getEventListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getEventList"));
     }
 
     /**
@@ -298,7 +582,17 @@ public class ALCloseObjectDetection extends ALModule {
     * @return Array of events updated by this extractor in ALMemory
     */
     public List<String> getMemoryKeyList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMemoryKeyList").get();
+        return (List<String>)service().call("getMemoryKeyList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMemoryKeyList}.
+    * Get the list of events updated in ALMemory.
+    * 
+    * @return Array of events updated by this extractor in ALMemory
+    */
+    public ALFuture<List<String>> getMemoryKeyListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMemoryKeyList"));
     }
 
     /**
@@ -307,7 +601,17 @@ public class ALCloseObjectDetection extends ALModule {
     * @return True if the extractor is paused, False if not
     */
     public Boolean isPaused() throws CallError, InterruptedException {
-        return (Boolean)service.call("isPaused").get();
+        return (Boolean)service().call("isPaused").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isPaused}.
+    * Gets extractor pause status
+    * 
+    * @return True if the extractor is paused, False if not
+    */
+    public ALFuture<Boolean> isPausedAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isPaused"));
     }
 
     /**
@@ -317,9 +621,19 @@ public class ALCloseObjectDetection extends ALModule {
     */
     public void pause(Boolean status) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("pause", status);
+            service().call("pause", status);
         else
-            service.call("pause", status).get();
+            service().call("pause", status).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #pause}.
+    * Changes the pause status of the extractor
+    * 
+    * @param status  New pause satus
+    */
+    public ALFuture<Void> pauseAsync(Boolean status) throws CallError {
+        return ALFuture.of(service().<Void>call("pause", status));
     }
 
 }
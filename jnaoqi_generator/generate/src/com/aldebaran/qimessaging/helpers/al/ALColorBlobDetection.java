@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -24,7 +25,17 @@ public class ALColorBlobDetection extends ALModule {
     * @return Current value of the resolution of the extractor
     */
     public Integer getResolution() throws CallError, InterruptedException {
-        return (Integer)service.call("getResolution").get();
+        return (Integer)service().call("getResolution").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getResolution}.
+    * Gets extractor resolution
+    * 
+    * @return Current value of the resolution of the extractor
+    */
+    public ALFuture<Integer> getResolutionAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("getResolution"));
     }
 
     /**
@@ -33,9 +44,18 @@ public class ALColorBlobDetection extends ALModule {
     */
     public void _run() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_run");
+            service().call("_run");
         else
-            service.call("_run").get();
+            service().call("_run").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_run}.
+    * 
+    * 
+    */
+    public ALFuture<Void> _runAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_run"));
     }
 
     /**
@@ -45,7 +65,18 @@ public class ALColorBlobDetection extends ALModule {
     * @return True if the update succeeded, False if not
     */
     public Boolean setResolution(Integer resolution) throws CallError, InterruptedException {
-        return (Boolean)service.call("setResolution", resolution).get();
+        return (Boolean)service().call("setResolution", resolution).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setResolution}.
+    * Sets extractor resolution
+    * 
+    * @param resolution  New resolution
+    * @return True if the update succeeded, False if not
+    */
+    public ALFuture<Boolean> setResolutionAsync(Integer resolution) throws CallError {
+        return ALFuture.of(service().<Boolean>call("setResolution", resolution));
     }
 
     /**
@@ -56,9 +87,20 @@ public class ALColorBlobDetection extends ALModule {
     */
     public void setObjectProperties(Integer minSize, Float span) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setObjectProperties", minSize, span);
+            service().call("setObjectProperties", minSize, span);
         else
-            service.call("setObjectProperties", minSize, span).get();
+            service().call("setObjectProperties", minSize, span).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setObjectProperties}.
+    * Object parameter setting
+    * 
+    * @param minSize  The minimum size of the cluster to find
+    * @param span  The span of the object in meters
+    */
+    public ALFuture<Void> setObjectPropertiesAsync(Integer minSize, Float span) throws CallError {
+        return ALFuture.of(service().<Void>call("setObjectProperties", minSize, span));
     }
 
     /**
@@ -70,9 +112,21 @@ public class ALColorBlobDetection extends ALModule {
     */
     public void setObjectProperties(Integer minSize, Float span, String shape) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setObjectProperties", minSize, span, shape);
+            service().call("setObjectProperties", minSize, span, shape);
         else
-            service.call("setObjectProperties", minSize, span, shape).get();
+            service().call("setObjectProperties", minSize, span, shape).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setObjectProperties}.
+    * Object parameter setting
+    * 
+    * @param minSize  The minimum size of the cluster to find
+    * @param span  The span of the object in meters
+    * @param shape  The shape of the object
+    */
+    public ALFuture<Void> setObjectPropertiesAsync(Integer minSize, Float span, String shape) throws CallError {
+        return ALFuture.of(service().<Void>call("setObjectProperties", minSize, span, shape));
     }
 
     /**
@@ -83,9 +137,20 @@ public class ALColorBlobDetection extends ALModule {
     */
     public void setParameter(String paramName, java.lang.Object value) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setParameter", paramName, value);
+            service().call("setParameter", paramName, value);
         else
-            service.call("setParameter", paramName, value).get();
+            service().call("setParameter", paramName, value).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setParameter}.
+    * DEPRECATED: Sets pause and resolution
+    * 
+    * @param paramName  Name of the parameter to set
+    * @param value  New value
+    */
+    public ALFuture<Void> setParameterAsync(String paramName, java.lang.Object value) throws CallError {
+        return ALFuture.of(service().<Void>call("setParameter", paramName, value));
     }
 
     /**
@@ -94,7 +159,17 @@ public class ALColorBlobDetection extends ALModule {
     * @return A flag saying the exposure is auto or not
     */
     public Boolean getAutoExposure() throws CallError, InterruptedException {
-        return (Boolean)service.call("getAutoExposure").get();
+        return (Boolean)service().call("getAutoExposure").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getAutoExposure}.
+    * Get the camera auto exposure mode
+    * 
+    * @return A flag saying the exposure is auto or not
+    */
+    public ALFuture<Boolean> getAutoExposureAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("getAutoExposure"));
     }
 
     /**
@@ -104,9 +179,19 @@ public class ALColorBlobDetection extends ALModule {
     */
     public void setAutoExposure(Boolean mode) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setAutoExposure", mode);
+            service().call("setAutoExposure", mode);
         else
-            service.call("setAutoExposure", mode).get();
+            service().call("setAutoExposure", mode).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setAutoExposure}.
+    * Set the camera auto exposure to on
+    * 
+    * @param mode  Whether the exposure is auto or not
+    */
+    public ALFuture<Void> setAutoExposureAsync(Boolean mode) throws CallError {
+        return ALFuture.of(service().<Void>call("setAutoExposure", mode));
     }
 
     /**
@@ -115,7 +200,17 @@ public class ALColorBlobDetection extends ALModule {
     * @return Current value of the framerate of the extractor
     */
     public Integer getFrameRate() throws CallError, InterruptedException {
-        return (Integer)service.call("getFrameRate").get();
+        return (Integer)service().call("getFrameRate").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getFrameRate}.
+    * Gets extractor framerate
+    * 
+    * @return Current value of the framerate of the extractor
+    */
+    public ALFuture<Integer> getFrameRateAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("getFrameRate"));
     }
 
     /**
@@ -124,7 +219,17 @@ public class ALColorBlobDetection extends ALModule {
     * @return Id of the current active camera of the extractor
     */
     public Integer getActiveCamera() throws CallError, InterruptedException {
-        return (Integer)service.call("getActiveCamera").get();
+        return (Integer)service().call("getActiveCamera").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getActiveCamera}.
+    * Gets extractor active camera
+    * 
+    * @return Id of the current active camera of the extractor
+    */
+    public ALFuture<Integer> getActiveCameraAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("getActiveCamera"));
     }
 
     /**
@@ -133,7 +238,17 @@ public class ALColorBlobDetection extends ALModule {
     * @return True if the extractor is paused, False if not
     */
     public Boolean isPaused() throws CallError, InterruptedException {
-        return (Boolean)service.call("isPaused").get();
+        return (Boolean)service().call("isPaused").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isPaused}.
+    * Gets extractor pause status
+    * 
+    * @return True if the extractor is paused, False if not
+    */
+    public ALFuture<Boolean> isPausedAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isPaused"));
     }
 
     /**
@@ -143,7 +258,18 @@ public class ALColorBlobDetection extends ALModule {
     * @return True if the update succeeded, False if not
     */
     public Boolean setActiveCamera(Integer cameraId) throws CallError, InterruptedException {
-        return (Boolean)service.call("setActiveCamera", cameraId).get();
+        return (Boolean)service().call("setActiveCamera", cameraId).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setActiveCamera}.
+    * Sets extractor active camera
+    * 
+    * @param cameraId  Id of the camera that will become the active camera
+    * @return True if the update succeeded, False if not
+    */
+    public ALFuture<Boolean> setActiveCameraAsync(Integer cameraId) throws CallError {
+        return ALFuture.of(service().<Boolean>call("setActiveCamera", cameraId));
     }
 
     /**
@@ -152,7 +278,17 @@ public class ALColorBlobDetection extends ALModule {
     * @return True if the extractor is currently processing images, False if not
     */
     public Boolean isProcessing() throws CallError, InterruptedException {
-        return (Boolean)service.call("isProcessing").get();
+        return (Boolean)service().call("isProcessing").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isProcessing}.
+    * Gets extractor running status
+    * 
+    * @return True if the extractor is currently processing images, False if not
+    */
+    public ALFuture<Boolean> isProcessingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isProcessing"));
     }
 
     /**
@@ -162,9 +298,19 @@ public class ALColorBlobDetection extends ALModule {
     */
     public void pause(Boolean paused) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("pause", paused);
+            service().call("pause", paused);
         else
-            service.call("pause", paused).get();
+            service().call("pause", paused).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #pause}.
+    * Changes the pause status of the extractor
+    * 
+    * @param paused  New pause satus
+    */
+    public ALFuture<Void> pauseAsync(Boolean paused) throws CallError {
+        return ALFuture.of(service().<Void>call("pause", paused));
     }
 
     /**
@@ -177,9 +323,22 @@ public class ALColorBlobDetection extends ALModule {
     */
     public void setColor(Integer r, Integer g, Integer b, Integer colorThres) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setColor", r, g, b, colorThres);
+            service().call("setColor", r, g, b, colorThres);
         else
-            service.call("setColor", r, g, b, colorThres).get();
+            service().call("setColor", r, g, b, colorThres).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setColor}.
+    * Color parameter setting
+    * 
+    * @param r  The R component in RGB of the color to find
+    * @param g  The G component in RGB of the color to find
+    * @param b  The B component in RGB of the color to find
+    * @param colorThres  The color threshold
+    */
+    public ALFuture<Void> setColorAsync(Integer r, Integer g, Integer b, Integer colorThres) throws CallError {
+        return ALFuture.of(service().<Void>call("setColor", r, g, b, colorThres));
     }
 
     /**
@@ -188,7 +347,17 @@ public class ALColorBlobDetection extends ALModule {
     * @return The circle as x,y,radius in image relative coordinates (x,radius divided by rows and y by cols)
     */
     public java.lang.Object getCircle() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getCircle").get();
+        return (java.lang.Object)service().call("getCircle").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getCircle}.
+    * Send back the x,y,radius of the circle if any
+    * 
+    * @return The circle as x,y,radius in image relative coordinates (x,radius divided by rows and y by cols)
+    */
+    public ALFuture<java.lang.Object> getCircleAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getCircle"));
     }
 
     /**
@@ -196,7 +365,16 @@ public class ALColorBlobDetection extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -205,9 +383,18 @@ public class ALColorBlobDetection extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -215,7 +402,16 @@ public class ALColorBlobDetection extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -224,9 +420,18 @@ public class ALColorBlobDetection extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -235,7 +440,17 @@ public class ALColorBlobDetection extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -244,7 +459,17 @@ public class ALColorBlobDetection extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -253,7 +478,17 @@ public class ALColorBlobDetection extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -263,7 +498,18 @@ public class ALColorBlobDetection extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -272,7 +518,17 @@ public class ALColorBlobDetection extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -283,7 +539,19 @@ public class ALColorBlobDetection extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -293,7 +561,18 @@ public class ALColorBlobDetection extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -303,9 +582,19 @@ public class ALColorBlobDetection extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -314,7 +603,17 @@ public class ALColorBlobDetection extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -324,7 +623,18 @@ public class ALColorBlobDetection extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -335,10 +645,24 @@ public class ALColorBlobDetection extends ALModule {
     * @param precision  Precision of the extractor if relevant.
     */
     public void subscribe(String name, Integer period, Float precision) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("subscribe", name, period, precision);
-        else
-            service.call("subscribe", name, period, precision).get();
+        if (isAsynchronous) {
+            recordSubscription(ALFuture.of(service().<Void>call("subscribe", name, period, precision)), "unsubscribe", name);
+            return;
+        }
+        service().call("subscribe", name, period, precision).get();
+        recordSubscription("unsubscribe", name);
+    }
+
+    /**
+    * Asynchronous version of {@link #subscribe}.
+    * Subscribes to the extractor. This causes the extractor to start writing information to memory using the keys described by getOutputNames(). These can be accessed in memory using ALMemory.getData("keyName"). In many cases you can avoid calling subscribe on the extractor by just calling ALMemory.subscribeToEvent() supplying a callback method. This will automatically subscribe to the extractor for you.
+    * 
+    * @param name  Name of the module which subscribes.
+    * @param period  Refresh period (in milliseconds) if relevant.
+    * @param precision  Precision of the extractor if relevant.
+    */
+    public ALFuture<Void> subscribeAsync(String name, Integer period, Float precision) throws CallError {
+        return recordSubscription(ALFuture.of(service().<Void>call("subscribe", name, period, precision)), "unsubscribe", name);
     }
 
     /**
@@ -347,10 +671,22 @@ public class ALColorBlobDetection extends ALModule {
     * @param name  Name of the module which subscribes.
     */
     public void subscribe(String name) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("subscribe", name);
-        else
-            service.call("subscribe", name).get();
+        if (isAsynchronous) {
+            recordSubscription(ALFuture.of(service().<Void>call("subscribe", name)), "unsubscribe", name);
+            return;
+        }
+        service().call("subscribe", name).get();
+        recordSubscription("unsubscribe", name);
+    }
+
+    /**
+    * Asynchronous version of {@link #subscribe}.
+    * Subscribes to the extractor. This causes the extractor to start writing information to memory using the keys described by getOutputNames(). These can be accessed in memory using ALMemory.getData("keyName"). In many cases you can avoid calling subscribe on the extractor by just calling ALMemory.subscribeToEvent() supplying a callback method. This will automatically subscribe to the extractor for you.
+    * 
+    * @param name  Name of the module which subscribes.
+    */
+    public ALFuture<Void> subscribeAsync(String name) throws CallError {
+        return recordSubscription(ALFuture.of(service().<Void>call("subscribe", name)), "unsubscribe", name);
     }
 
     /**
@@ -359,10 +695,22 @@ public class ALColorBlobDetection extends ALModule {
     * @param name  Name of the module which had subscribed.
     */
     public void unsubscribe(String name) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("unsubscribe", name);
-        else
-            service.call("unsubscribe", name).get();
+        if (isAsynchronous) {
+            forgetSubscription(ALFuture.of(service().<Void>call("unsubscribe", name)), "unsubscribe", name);
+            return;
+        }
+        service().call("unsubscribe", name).get();
+        forgetSubscription("unsubscribe", name);
+    }
+
+    /**
+    * Asynchronous version of {@link #unsubscribe}.
+    * Unsubscribes from the extractor.
+    * 
+    * @param name  Name of the module which had subscribed.
+    */
+    public ALFuture<Void> unsubscribeAsync(String name) throws CallError {
+        return forgetSubscription(ALFuture.of(service().<Void>call("unsubscribe", name)), "unsubscribe", name);
     }
 
     /**
@@ -373,9 +721,20 @@ public class ALColorBlobDetection extends ALModule {
     */
     public void updatePeriod(String name, Integer period) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("updatePeriod", name, period);
+            service().call("updatePeriod", name, period);
         else
-            service.call("updatePeriod", name, period).get();
+            service().call("updatePeriod", name, period).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #updatePeriod}.
+    * Updates the period if relevant.
+    * 
+    * @param name  Name of the module which has subscribed.
+    * @param period  Refresh period (in milliseconds).
+    */
+    public ALFuture<Void> updatePeriodAsync(String name, Integer period) throws CallError {
+        return ALFuture.of(service().<Void>call("updatePeriod", name, period));
     }
 
     /**
@@ -386,9 +745,20 @@ public class ALColorBlobDetection extends ALModule {
     */
     public void updatePrecision(String name, Float precision) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("updatePrecision", name, precision);
+            service().call("updatePrecision", name, precision);
         else
-            service.call("updatePrecision", name, precision).get();
+            service().call("updatePrecision", name, precision).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #updatePrecision}.
+    * Updates the precision if relevant.
+    * 
+    * @param name  Name of the module which has subscribed.
+    * @param precision  Precision of the extractor.
+    */
+    public ALFuture<Void> updatePrecisionAsync(String name, Float precision) throws CallError {
+        return ALFuture.of(service().<Void>call("updatePrecision", name, precision));
     }
 
     /**
@@ -397,7 +767,17 @@ public class ALColorBlobDetection extends ALModule {
     * @return Refresh period (in milliseconds).
     */
     public Integer getCurrentPeriod() throws CallError, InterruptedException {
-        return (Integer)service.call("getCurrentPeriod").get();
+        return (Integer)service().call("getCurrentPeriod").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getCurrentPeriod}.
+    * Gets the current period.
+    * 
+    * @return Refresh period (in milliseconds).
+    */
+    public ALFuture<Integer> getCurrentPeriodAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("getCurrentPeriod"));
     }
 
     /**
@@ -406,7 +786,17 @@ public class ALColorBlobDetection extends ALModule {
     * @return Precision of the extractor.
     */
     public Float getCurrentPrecision() throws CallError, InterruptedException {
-        return (Float)service.call("getCurrentPrecision").get();
+        return (Float)service().call("getCurrentPrecision").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getCurrentPrecision}.
+    * Gets the current precision.
+    * 
+    * @return Precision of the extractor.
+    */
+    public ALFuture<Float> getCurrentPrecisionAsync() throws CallError {
+        return ALFuture.of(service().<Float>call("getCurrentPrecision"));
     }
 
     /**
@@ -416,7 +806,18 @@ public class ALColorBlobDetection extends ALModule {
     * @return Refresh period (in milliseconds).
     */
     public Integer getMyPeriod(String name) throws CallError, InterruptedException {
-        return (Integer)service.call("getMyPeriod", name).get();
+        return (Integer)service().call("getMyPeriod", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMyPeriod}.
+    * Gets the period for a specific subscription.
+    * 
+    * @param name  Name of the module which has subscribed.
+    * @return Refresh period (in milliseconds).
+    */
+    public ALFuture<Integer> getMyPeriodAsync(String name) throws CallError {
+        return ALFuture.of(service().<Integer>call("getMyPeriod", name));
     }
 
     /**
@@ -426,7 +827,18 @@ public class ALColorBlobDetection extends ALModule {
     * @return precision of the extractor
     */
     public Float getMyPrecision(String name) throws CallError, InterruptedException {
-        return (Float)service.call("getMyPrecision", name).get();
+        return (Float)service().call("getMyPrecision", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMyPrecision}.
+    * Gets the precision for a specific subscription.
+    * 
+    * @param name  name of the module which has subscribed
+    * @return precision of the extractor
+    */
+    public ALFuture<Float> getMyPrecisionAsync(String name) throws CallError {
+        return ALFuture.of(service().<Float>call("getMyPrecision", name));
     }
 
     /**
@@ -435,7 +847,17 @@ public class ALColorBlobDetection extends ALModule {
     * @return Array of names and parameters of all subscribers.
     */
     public java.lang.Object getSubscribersInfo() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getSubscribersInfo").get();
+        return (java.lang.Object)service().call("getSubscribersInfo").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getSubscribersInfo}.
+    * Gets the parameters given by the module.
+    * 
+    * @return Array of names and parameters of all subscribers.
+    */
+    public ALFuture<java.lang.Object> getSubscribersInfoAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getSubscribersInfo"));
     }
 
     /**
@@ -444,7 +866,17 @@ public class ALColorBlobDetection extends ALModule {
     * @return Array of values updated by this extractor in ALMemory
     */
     public List<String> getOutputNames() throws CallError, InterruptedException {
-        return (List<String>)service.call("getOutputNames").get();
+        return (List<String>)service().call("getOutputNames").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getOutputNames}.
+    * Get the list of values updated in ALMemory.
+    * 
+    * @return Array of values updated by this extractor in ALMemory
+    */
+    public ALFuture<List<String>> getOutputNamesAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getOutputNames"));
     }
 
     /**
@@ -453,7 +885,17 @@ public class ALColorBlobDetection extends ALModule {
     * @return Array of events updated by this extractor in ALMemory
     */
     public List<String> getEventList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getEventList").get();
+        return (List<String>)service().call("getEventList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getEventList}.
+    * Get the list of events updated in ALMemory.
+    * 
+    * @return Array of events updated by this extractor in ALMemory
+    */
+    public ALFuture<List<String>> getEventListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getEventList"));
     }
 
     /**
@@ -462,7 +904,17 @@ public class ALColorBlobDetection extends ALModule {
     * @return Array of events updated by this extractor in ALMemory
     */
     public List<String> getMemoryKeyList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMemoryKeyList").get();
+        return (List<String>)service().call("getMemoryKeyList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMemoryKeyList}.
+    * Get the list of events updated in ALMemory.
+    * 
+    * @return Array of events updated by this extractor in ALMemory
+    */
+    public ALFuture<List<String>> getMemoryKeyListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMemoryKeyList"));
     }
 
     /**
@@ -473,7 +925,19 @@ public class ALColorBlobDetection extends ALModule {
     * @return True if the update succeeded, False if not
     */
     public Boolean setFrameRate(String subscriberName, Integer framerate) throws CallError, InterruptedException {
-        return (Boolean)service.call("setFrameRate", subscriberName, framerate).get();
+        return (Boolean)service().call("setFrameRate", subscriberName, framerate).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setFrameRate}.
+    * Sets the extractor framerate for a chosen subscriber
+    * 
+    * @param subscriberName  Name of the subcriber
+    * @param framerate  New framerate
+    * @return True if the update succeeded, False if not
+    */
+    public ALFuture<Boolean> setFrameRateAsync(String subscriberName, Integer framerate) throws CallError {
+        return ALFuture.of(service().<Boolean>call("setFrameRate", subscriberName, framerate));
     }
 
     /**
@@ -483,7 +947,18 @@ public class ALColorBlobDetection extends ALModule {
     * @return True if the update succeeded, False if not
     */
     public Boolean setFrameRate(Integer framerate) throws CallError, InterruptedException {
-        return (Boolean)service.call("setFrameRate", framerate).get();
+        return (Boolean)service().call("setFrameRate", framerate).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setFrameRate}.
+    * Sets the extractor framerate for all the subscribers
+    * 
+    * @param framerate  New framerate
+    * @return True if the update succeeded, False if not
+    */
+    public ALFuture<Boolean> setFrameRateAsync(Integer framerate) throws CallError {
+        return ALFuture.of(service().<Boolean>call("setFrameRate", framerate));
     }
 
 }
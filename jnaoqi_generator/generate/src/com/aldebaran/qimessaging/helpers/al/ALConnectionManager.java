@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -23,7 +24,16 @@ public class ALConnectionManager extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -32,9 +42,18 @@ public class ALConnectionManager extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -42,7 +61,16 @@ public class ALConnectionManager extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -50,7 +78,16 @@ public class ALConnectionManager extends ALModule {
     * 
     */
     public java.lang.Object services() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("services").get();
+        return (java.lang.Object)service().call("services").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #services}.
+    * 
+    * 
+    */
+    public ALFuture<java.lang.Object> servicesAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("services"));
     }
 
     /**
@@ -58,7 +95,16 @@ public class ALConnectionManager extends ALModule {
     * 
     */
     public java.lang.Object serviceName(String param1) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("service", param1).get();
+        return (java.lang.Object)service().call("service", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #serviceName}.
+    * 
+    * 
+    */
+    public ALFuture<java.lang.Object> serviceNameAsync(String param1) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("service", param1));
     }
 
     /**
@@ -67,9 +113,18 @@ public class ALConnectionManager extends ALModule {
     */
     public void scan(String param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("scan", param1);
+            service().call("scan", param1);
         else
-            service.call("scan", param1).get();
+            service().call("scan", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #scan}.
+    * 
+    * 
+    */
+    public ALFuture<Void> scanAsync(String param1) throws CallError {
+        return ALFuture.of(service().<Void>call("scan", param1));
     }
 
     /**
@@ -78,9 +133,18 @@ public class ALConnectionManager extends ALModule {
     */
     public void scan() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("scan");
+            service().call("scan");
         else
-            service.call("scan").get();
+            service().call("scan").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #scan}.
+    * 
+    * 
+    */
+    public ALFuture<Void> scanAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("scan"));
     }
 
     /**
@@ -89,9 +153,18 @@ public class ALConnectionManager extends ALModule {
     */
     public void setServiceConfiguration(java.lang.Object param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setServiceConfiguration", param1);
+            service().call("setServiceConfiguration", param1);
         else
-            service.call("setServiceConfiguration", param1).get();
+            service().call("setServiceConfiguration", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setServiceConfiguration}.
+    * 
+    * 
+    */
+    public ALFuture<Void> setServiceConfigurationAsync(java.lang.Object param1) throws CallError {
+        return ALFuture.of(service().<Void>call("setServiceConfiguration", param1));
     }
 
     /**
@@ -100,9 +173,18 @@ public class ALConnectionManager extends ALModule {
     */
     public void setServiceInput(java.lang.Object param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setServiceInput", param1);
+            service().call("setServiceInput", param1);
         else
-            service.call("setServiceInput", param1).get();
+            service().call("setServiceInput", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setServiceInput}.
+    * 
+    * 
+    */
+    public ALFuture<Void> setServiceInputAsync(java.lang.Object param1) throws CallError {
+        return ALFuture.of(service().<Void>call("setServiceInput", param1));
     }
 
     /**
@@ -110,7 +192,16 @@ public class ALConnectionManager extends ALModule {
     * 
     */
     public String state() throws CallError, InterruptedException {
-        return (String)service.call("state").get();
+        return (String)service().call("state").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #state}.
+    * 
+    * 
+    */
+    public ALFuture<String> stateAsync() throws CallError {
+        return ALFuture.of(service().<String>call("state"));
     }
 
     /**
@@ -119,9 +210,18 @@ public class ALConnectionManager extends ALModule {
     */
     public void forget(String param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("forget", param1);
+            service().call("forget", param1);
         else
-            service.call("forget", param1).get();
+            service().call("forget", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #forget}.
+    * 
+    * 
+    */
+    public ALFuture<Void> forgetAsync(String param1) throws CallError {
+        return ALFuture.of(service().<Void>call("forget", param1));
     }
 
     /**
@@ -130,9 +230,18 @@ public class ALConnectionManager extends ALModule {
     */
     public void connect(String param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("connect", param1);
+            service().call("connect", param1);
         else
-            service.call("connect", param1).get();
+            service().call("connect", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #connect}.
+    * 
+    * 
+    */
+    public ALFuture<Void> connectAsync(String param1) throws CallError {
+        return ALFuture.of(service().<Void>call("connect", param1));
     }
 
     /**
@@ -141,9 +250,18 @@ public class ALConnectionManager extends ALModule {
     */
     public void disconnect(String param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("disconnect", param1);
+            service().call("disconnect", param1);
         else
-            service.call("disconnect", param1).get();
+            service().call("disconnect", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #disconnect}.
+    * 
+    * 
+    */
+    public ALFuture<Void> disconnectAsync(String param1) throws CallError {
+        return ALFuture.of(service().<Void>call("disconnect", param1));
     }
 
     /**
@@ -151,7 +269,16 @@ public class ALConnectionManager extends ALModule {
     * 
     */
     public java.lang.Object technologies() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("technologies").get();
+        return (java.lang.Object)service().call("technologies").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #technologies}.
+    * 
+    * 
+    */
+    public ALFuture<java.lang.Object> technologiesAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("technologies"));
     }
 
     /**
@@ -160,9 +287,18 @@ public class ALConnectionManager extends ALModule {
     */
     public void enableTethering(String param1, String param2, String param3) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("enableTethering", param1, param2, param3);
+            service().call("enableTethering", param1, param2, param3);
         else
-            service.call("enableTethering", param1, param2, param3).get();
+            service().call("enableTethering", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #enableTethering}.
+    * 
+    * 
+    */
+    public ALFuture<Void> enableTetheringAsync(String param1, String param2, String param3) throws CallError {
+        return ALFuture.of(service().<Void>call("enableTethering", param1, param2, param3));
     }
 
     /**
@@ -171,9 +307,18 @@ public class ALConnectionManager extends ALModule {
     */
     public void enableTethering(String param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("enableTethering", param1);
+            service().call("enableTethering", param1);
         else
-            service.call("enableTethering", param1).get();
+            service().call("enableTethering", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #enableTethering}.
+    * 
+    * 
+    */
+    public ALFuture<Void> enableTetheringAsync(String param1) throws CallError {
+        return ALFuture.of(service().<Void>call("enableTethering", param1));
     }
 
     /**
@@ -182,9 +327,18 @@ public class ALConnectionManager extends ALModule {
     */
     public void disableTethering(String param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("disableTethering", param1);
+            service().call("disableTethering", param1);
         else
-            service.call("disableTethering", param1).get();
+            service().call("disableTethering", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #disableTethering}.
+    * 
+    * 
+    */
+    public ALFuture<Void> disableTetheringAsync(String param1) throws CallError {
+        return ALFuture.of(service().<Void>call("disableTethering", param1));
     }
 
     /**
@@ -192,7 +346,16 @@ public class ALConnectionManager extends ALModule {
     * 
     */
     public Boolean getTetheringEnable(String param1) throws CallError, InterruptedException {
-        return (Boolean)service.call("getTetheringEnable", param1).get();
+        return (Boolean)service().call("getTetheringEnable", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getTetheringEnable}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> getTetheringEnableAsync(String param1) throws CallError {
+        return ALFuture.of(service().<Boolean>call("getTetheringEnable", param1));
     }
 
     /**
@@ -200,7 +363,16 @@ public class ALConnectionManager extends ALModule {
     * 
     */
     public String tetheringName(String param1) throws CallError, InterruptedException {
-        return (String)service.call("tetheringName", param1).get();
+        return (String)service().call("tetheringName", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #tetheringName}.
+    * 
+    * 
+    */
+    public ALFuture<String> tetheringNameAsync(String param1) throws CallError {
+        return ALFuture.of(service().<String>call("tetheringName", param1));
     }
 
     /**
@@ -208,7 +380,16 @@ public class ALConnectionManager extends ALModule {
     * 
     */
     public String tetheringPassphrase(String param1) throws CallError, InterruptedException {
-        return (String)service.call("tetheringPassphrase", param1).get();
+        return (String)service().call("tetheringPassphrase", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #tetheringPassphrase}.
+    * 
+    * 
+    */
+    public ALFuture<String> tetheringPassphraseAsync(String param1) throws CallError {
+        return ALFuture.of(service().<String>call("tetheringPassphrase", param1));
     }
 
     /**
@@ -216,7 +397,16 @@ public class ALConnectionManager extends ALModule {
     * 
     */
     public List<String> countries() throws CallError, InterruptedException {
-        return (List<String>)service.call("countries").get();
+        return (List<String>)service().call("countries").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #countries}.
+    * 
+    * 
+    */
+    public ALFuture<List<String>> countriesAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("countries"));
     }
 
     /**
@@ -225,9 +415,18 @@ public class ALConnectionManager extends ALModule {
     */
     public void setCountry(String param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setCountry", param1);
+            service().call("setCountry", param1);
         else
-            service.call("setCountry", param1).get();
+            service().call("setCountry", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setCountry}.
+    * 
+    * 
+    */
+    public ALFuture<Void> setCountryAsync(String param1) throws CallError {
+        return ALFuture.of(service().<Void>call("setCountry", param1));
     }
 
     /**
@@ -235,7 +434,16 @@ public class ALConnectionManager extends ALModule {
     * 
     */
     public String country() throws CallError, InterruptedException {
-        return (String)service.call("country").get();
+        return (String)service().call("country").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #country}.
+    * 
+    * 
+    */
+    public ALFuture<String> countryAsync() throws CallError {
+        return ALFuture.of(service().<String>call("country"));
     }
 
     /**
@@ -243,7 +451,16 @@ public class ALConnectionManager extends ALModule {
     * 
     */
     public java.lang.Object interfaces() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("interfaces").get();
+        return (java.lang.Object)service().call("interfaces").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #interfaces}.
+    * 
+    * 
+    */
+    public ALFuture<java.lang.Object> interfacesAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("interfaces"));
     }
 
 }
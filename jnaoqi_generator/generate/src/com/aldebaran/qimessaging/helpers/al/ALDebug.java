@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -23,7 +24,16 @@ public class ALDebug extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -32,9 +42,18 @@ public class ALDebug extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -42,7 +61,16 @@ public class ALDebug extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -51,9 +79,18 @@ public class ALDebug extends ALModule {
     */
     public void _stopOneThread() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_stopOneThread");
+            service().call("_stopOneThread");
         else
-            service.call("_stopOneThread").get();
+            service().call("_stopOneThread").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_stopOneThread}.
+    * 
+    * 
+    */
+    public ALFuture<Void> _stopOneThreadAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_stopOneThread"));
     }
 
     /**
@@ -61,7 +98,16 @@ public class ALDebug extends ALModule {
     * 
     */
     public String _dumpPythonTraces() throws CallError, InterruptedException {
-        return (String)service.call("_dumpPythonTraces").get();
+        return (String)service().call("_dumpPythonTraces").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_dumpPythonTraces}.
+    * 
+    * 
+    */
+    public ALFuture<String> _dumpPythonTracesAsync() throws CallError {
+        return ALFuture.of(service().<String>call("_dumpPythonTraces"));
     }
 
     /**
@@ -70,9 +116,18 @@ public class ALDebug extends ALModule {
     */
     public void _makeMinidump() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_makeMinidump");
+            service().call("_makeMinidump");
         else
-            service.call("_makeMinidump").get();
+            service().call("_makeMinidump").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_makeMinidump}.
+    * 
+    * 
+    */
+    public ALFuture<Void> _makeMinidumpAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_makeMinidump"));
     }
 
     /**
@@ -81,9 +136,18 @@ public class ALDebug extends ALModule {
     */
     public void _probesInit(Boolean param1, Integer param2) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_probesInit", param1, param2);
+            service().call("_probesInit", param1, param2);
         else
-            service.call("_probesInit", param1, param2).get();
+            service().call("_probesInit", param1, param2).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_probesInit}.
+    * 
+    * 
+    */
+    public ALFuture<Void> _probesInitAsync(Boolean param1, Integer param2) throws CallError {
+        return ALFuture.of(service().<Void>call("_probesInit", param1, param2));
     }
 
     /**
@@ -91,7 +155,16 @@ public class ALDebug extends ALModule {
     * 
     */
     public Boolean _probesRecordSnapshot() throws CallError, InterruptedException {
-        return (Boolean)service.call("_probesRecordSnapshot").get();
+        return (Boolean)service().call("_probesRecordSnapshot").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_probesRecordSnapshot}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> _probesRecordSnapshotAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("_probesRecordSnapshot"));
     }
 
     /**
@@ -100,9 +173,18 @@ public class ALDebug extends ALModule {
     */
     public void _probesSetTrigger(String param1, String param2, String param3) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_probesSetTrigger", param1, param2, param3);
+            service().call("_probesSetTrigger", param1, param2, param3);
         else
-            service.call("_probesSetTrigger", param1, param2, param3).get();
+            service().call("_probesSetTrigger", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_probesSetTrigger}.
+    * 
+    * 
+    */
+    public ALFuture<Void> _probesSetTriggerAsync(String param1, String param2, String param3) throws CallError {
+        return ALFuture.of(service().<Void>call("_probesSetTrigger", param1, param2, param3));
     }
 
     /**
@@ -111,9 +193,18 @@ public class ALDebug extends ALModule {
     */
     public void _probesRemoveTrigger(String param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_probesRemoveTrigger", param1);
+            service().call("_probesRemoveTrigger", param1);
         else
-            service.call("_probesRemoveTrigger", param1).get();
+            service().call("_probesRemoveTrigger", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_probesRemoveTrigger}.
+    * 
+    * 
+    */
+    public ALFuture<Void> _probesRemoveTriggerAsync(String param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_probesRemoveTrigger", param1));
     }
 
     /**
@@ -122,9 +213,18 @@ public class ALDebug extends ALModule {
     */
     public void _probesStartTrigger() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_probesStartTrigger");
+            service().call("_probesStartTrigger");
         else
-            service.call("_probesStartTrigger").get();
+            service().call("_probesStartTrigger").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_probesStartTrigger}.
+    * 
+    * 
+    */
+    public ALFuture<Void> _probesStartTriggerAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_probesStartTrigger"));
     }
 
     /**
@@ -133,9 +233,18 @@ public class ALDebug extends ALModule {
     */
     public void _probesStopTrigger() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_probesStopTrigger");
+            service().call("_probesStopTrigger");
         else
-            service.call("_probesStopTrigger").get();
+            service().call("_probesStopTrigger").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_probesStopTrigger}.
+    * 
+    * 
+    */
+    public ALFuture<Void> _probesStopTriggerAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_probesStopTrigger"));
     }
 
 }
@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -24,9 +25,18 @@ public class ALDiagnosis extends ALModule {
     */
     public void _clearActiveDiagnosis() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_clearActiveDiagnosis");
+            service().call("_clearActiveDiagnosis");
         else
-            service.call("_clearActiveDiagnosis").get();
+            service().call("_clearActiveDiagnosis").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_clearActiveDiagnosis}.
+    * Clear all active diagnosis.
+    * 
+    */
+    public ALFuture<Void> _clearActiveDiagnosisAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_clearActiveDiagnosis"));
     }
 
     /**
@@ -35,9 +45,18 @@ public class ALDiagnosis extends ALModule {
     */
     public void _setLogToFileEnabled(Boolean param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setLogToFileEnabled", param1);
+            service().call("_setLogToFileEnabled", param1);
         else
-            service.call("_setLogToFileEnabled", param1).get();
+            service().call("_setLogToFileEnabled", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setLogToFileEnabled}.
+    * Enables/Disables file logging active diagnosis.
+    * 
+    */
+    public ALFuture<Void> _setLogToFileEnabledAsync(Boolean param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_setLogToFileEnabled", param1));
     }
 
     /**
@@ -45,7 +64,16 @@ public class ALDiagnosis extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -54,9 +82,18 @@ public class ALDiagnosis extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -64,7 +101,16 @@ public class ALDiagnosis extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -73,9 +119,18 @@ public class ALDiagnosis extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -84,7 +139,17 @@ public class ALDiagnosis extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -93,7 +158,17 @@ public class ALDiagnosis extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -102,7 +177,17 @@ public class ALDiagnosis extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -112,7 +197,18 @@ public class ALDiagnosis extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -121,7 +217,17 @@ public class ALDiagnosis extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -132,7 +238,19 @@ public class ALDiagnosis extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -142,7 +260,18 @@ public class ALDiagnosis extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -152,9 +281,19 @@ public class ALDiagnosis extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -163,7 +302,17 @@ public class ALDiagnosis extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -173,7 +322,18 @@ public class ALDiagnosis extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -181,7 +341,16 @@ public class ALDiagnosis extends ALModule {
     * 
     */
     public java.lang.Object getPassiveDiagnosis() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getPassiveDiagnosis").get();
+        return (java.lang.Object)service().call("getPassiveDiagnosis").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getPassiveDiagnosis}.
+    * The actual state of the passive diagnosis.
+    * 
+    */
+    public ALFuture<java.lang.Object> getPassiveDiagnosisAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getPassiveDiagnosis"));
     }
 
     /**
@@ -189,7 +358,16 @@ public class ALDiagnosis extends ALModule {
     * 
     */
     public java.lang.Object getActiveDiagnosis() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getActiveDiagnosis").get();
+        return (java.lang.Object)service().call("getActiveDiagnosis").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getActiveDiagnosis}.
+    * The actual state of the active diagnosis.
+    * 
+    */
+    public ALFuture<java.lang.Object> getActiveDiagnosisAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getActiveDiagnosis"));
     }
 
     /**
@@ -199,9 +377,19 @@ public class ALDiagnosis extends ALModule {
     */
     public void setEnableNotification(Boolean enable) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setEnableNotification", enable);
+            service().call("setEnableNotification", enable);
         else
-            service.call("setEnableNotification", enable).get();
+            service().call("setEnableNotification", enable).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setEnableNotification}.
+    * Enable / Disable diagnosis notification.
+    * 
+    * @param enable  If True enable diagnosis notification. If False disable diagnosis notification.
+    */
+    public ALFuture<Void> setEnableNotificationAsync(Boolean enable) throws CallError {
+        return ALFuture.of(service().<Void>call("setEnableNotification", enable));
     }
 
     /**
@@ -210,7 +398,17 @@ public class ALDiagnosis extends ALModule {
     * @return Return True if notifications is active.
     */
     public Boolean isNotificationEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isNotificationEnabled").get();
+        return (Boolean)service().call("isNotificationEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isNotificationEnabled}.
+    * Return true if notification is active.
+    * 
+    * @return Return True if notifications is active.
+    */
+    public ALFuture<Boolean> isNotificationEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isNotificationEnabled"));
     }
 
     /**
@@ -218,7 +416,16 @@ public class ALDiagnosis extends ALModule {
     * 
     */
     public Boolean _run() throws CallError, InterruptedException {
-        return (Boolean)service.call("_run").get();
+        return (Boolean)service().call("_run").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_run}.
+    * This function runs the diagnosis.
+    * 
+    */
+    public ALFuture<Boolean> _runAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("_run"));
     }
 
     /**
@@ -227,7 +434,17 @@ public class ALDiagnosis extends ALModule {
     * @param diagnosisFamily  The family of tests to be run by the diagnosis.
     */
     public Boolean _run(String diagnosisFamily) throws CallError, InterruptedException {
-        return (Boolean)service.call("_run", diagnosisFamily).get();
+        return (Boolean)service().call("_run", diagnosisFamily).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_run}.
+    * This function runs the diagnosis.
+    * 
+    * @param diagnosisFamily  The family of tests to be run by the diagnosis.
+    */
+    public ALFuture<Boolean> _runAsync(String diagnosisFamily) throws CallError {
+        return ALFuture.of(service().<Boolean>call("_run", diagnosisFamily));
     }
 
     /**
@@ -235,7 +452,16 @@ public class ALDiagnosis extends ALModule {
     * 
     */
     public List<String> _getFamilyNames() throws CallError, InterruptedException {
-        return (List<String>)service.call("_getFamilyNames").get();
+        return (List<String>)service().call("_getFamilyNames").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getFamilyNames}.
+    * Returns a vector of available diagnosis families
+    * 
+    */
+    public ALFuture<List<String>> _getFamilyNamesAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("_getFamilyNames"));
     }
 
     /**
@@ -243,7 +469,16 @@ public class ALDiagnosis extends ALModule {
     * 
     */
     public java.lang.Object _getActiveDiagnosisSummary() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_getActiveDiagnosisSummary").get();
+        return (java.lang.Object)service().call("_getActiveDiagnosisSummary").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getActiveDiagnosisSummary}.
+    * The summary of the active diagnosis.This Hide API is dedicated for RhM.
+    * 
+    */
+    public ALFuture<java.lang.Object> _getActiveDiagnosisSummaryAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_getActiveDiagnosisSummary"));
     }
 
     /**
@@ -252,7 +487,17 @@ public class ALDiagnosis extends ALModule {
     * @param clearBuffers  If True buffers are cleared.
     */
     public java.lang.Object _getPassiveDiagnosisSummary(Boolean clearBuffers) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_getPassiveDiagnosisSummary", clearBuffers).get();
+        return (java.lang.Object)service().call("_getPassiveDiagnosisSummary", clearBuffers).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getPassiveDiagnosisSummary}.
+    * The summary of the passive diagnosis.This Hide API is dedicated for RhM.
+    * 
+    * @param clearBuffers  If True buffers are cleared.
+    */
+    public ALFuture<java.lang.Object> _getPassiveDiagnosisSummaryAsync(Boolean clearBuffers) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_getPassiveDiagnosisSummary", clearBuffers));
     }
 
     /**
@@ -261,9 +506,18 @@ public class ALDiagnosis extends ALModule {
     */
     public void _wakeUpStartedCallBack() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_wakeUpStartedCallBack");
+            service().call("_wakeUpStartedCallBack");
         else
-            service.call("_wakeUpStartedCallBack").get();
+            service().call("_wakeUpStartedCallBack").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_wakeUpStartedCallBack}.
+    * Callback method at wakeUp started.
+    * 
+    */
+    public ALFuture<Void> _wakeUpStartedCallBackAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_wakeUpStartedCallBack"));
     }
 
     /**
@@ -272,9 +526,18 @@ public class ALDiagnosis extends ALModule {
     */
     public void _wakeUpFinishedCallBack() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_wakeUpFinishedCallBack");
+            service().call("_wakeUpFinishedCallBack");
         else
-            service.call("_wakeUpFinishedCallBack").get();
+            service().call("_wakeUpFinishedCallBack").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_wakeUpFinishedCallBack}.
+    * Callback method at wakeUp finished.
+    * 
+    */
+    public ALFuture<Void> _wakeUpFinishedCallBackAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_wakeUpFinishedCallBack"));
     }
 
     /**
@@ -283,9 +546,18 @@ public class ALDiagnosis extends ALModule {
     */
     public void _restStartedCallBack() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_restStartedCallBack");
+            service().call("_restStartedCallBack");
         else
-            service.call("_restStartedCallBack").get();
+            service().call("_restStartedCallBack").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_restStartedCallBack}.
+    * Callback method at rest started.
+    * 
+    */
+    public ALFuture<Void> _restStartedCallBackAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_restStartedCallBack"));
     }
 
     /**
@@ -294,9 +566,18 @@ public class ALDiagnosis extends ALModule {
     */
     public void _restFinishedCallBack() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_restFinishedCallBack");
+            service().call("_restFinishedCallBack");
         else
-            service.call("_restFinishedCallBack").get();
+            service().call("_restFinishedCallBack").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_restFinishedCallBack}.
+    * Callback method at rest finished.
+    * 
+    */
+    public ALFuture<Void> _restFinishedCallBackAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_restFinishedCallBack"));
     }
 
     /**
@@ -305,9 +586,18 @@ public class ALDiagnosis extends ALModule {
     */
     public void _naoqiReadyCallBack() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_naoqiReadyCallBack");
+            service().call("_naoqiReadyCallBack");
         else
-            service.call("_naoqiReadyCallBack").get();
+            service().call("_naoqiReadyCallBack").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_naoqiReadyCallBack}.
+    * Callback method at naoqi ready.
+    * 
+    */
+    public ALFuture<Void> _naoqiReadyCallBackAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_naoqiReadyCallBack"));
     }
 
     /**
@@ -316,9 +606,18 @@ public class ALDiagnosis extends ALModule {
     */
     public void _robotIsFallingCallBack() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_robotIsFallingCallBack");
+            service().call("_robotIsFallingCallBack");
         else
-            service.call("_robotIsFallingCallBack").get();
+            service().call("_robotIsFallingCallBack").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_robotIsFallingCallBack}.
+    * Callback method at robot is falling.
+    * 
+    */
+    public ALFuture<Void> _robotIsFallingCallBackAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_robotIsFallingCallBack"));
     }
 
 }
@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -23,7 +24,16 @@ public class ALDialog extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -32,9 +42,18 @@ public class ALDialog extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -42,7 +61,16 @@ public class ALDialog extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -51,9 +79,18 @@ public class ALDialog extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -62,7 +99,17 @@ public class ALDialog extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -71,7 +118,17 @@ public class ALDialog extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -80,7 +137,17 @@ public class ALDialog extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -90,7 +157,18 @@ public class ALDialog extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -99,7 +177,17 @@ public class ALDialog extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -110,7 +198,19 @@ public class ALDialog extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -120,7 +220,18 @@ public class ALDialog extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -130,9 +241,19 @@ public class ALDialog extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -141,7 +262,17 @@ public class ALDialog extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -151,7 +282,18 @@ public class ALDialog extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -162,10 +304,24 @@ public class ALDialog extends ALModule {
     * @param precision  Precision of the extractor if relevant.
     */
     public void subscribe(String name, Integer period, Float precision) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("subscribe", name, period, precision);
-        else
-            service.call("subscribe", name, period, precision).get();
+        if (isAsynchronous) {
+            recordSubscription(ALFuture.of(service().<Void>call("subscribe", name, period, precision)), "unsubscribe", name);
+            return;
+        }
+        service().call("subscribe", name, period, precision).get();
+        recordSubscription("unsubscribe", name);
+    }
+
+    /**
+    * Asynchronous version of {@link #subscribe}.
+    * Subscribes to the extractor. This causes the extractor to start writing information to memory using the keys described by getOutputNames(). These can be accessed in memory using ALMemory.getData("keyName"). In many cases you can avoid calling subscribe on the extractor by just calling ALMemory.subscribeToEvent() supplying a callback method. This will automatically subscribe to the extractor for you.
+    * 
+    * @param name  Name of the module which subscribes.
+    * @param period  Refresh period (in milliseconds) if relevant.
+    * @param precision  Precision of the extractor if relevant.
+    */
+    public ALFuture<Void> subscribeAsync(String name, Integer period, Float precision) throws CallError {
+        return recordSubscription(ALFuture.of(service().<Void>call("subscribe", name, period, precision)), "unsubscribe", name);
     }
 
     /**
@@ -174,10 +330,22 @@ public class ALDialog extends ALModule {
     * @param name  Name of the module which subscribes.
     */
     public void subscribe(String name) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("subscribe", name);
-        else
-            service.call("subscribe", name).get();
+        if (isAsynchronous) {
+            recordSubscription(ALFuture.of(service().<Void>call("subscribe", name)), "unsubscribe", name);
+            return;
+        }
+        service().call("subscribe", name).get();
+        recordSubscription("unsubscribe", name);
+    }
+
+    /**
+    * Asynchronous version of {@link #subscribe}.
+    * Subscribes to the extractor. This causes the extractor to start writing information to memory using the keys described by getOutputNames(). These can be accessed in memory using ALMemory.getData("keyName"). In many cases you can avoid calling subscribe on the extractor by just calling ALMemory.subscribeToEvent() supplying a callback method. This will automatically subscribe to the extractor for you.
+    * 
+    * @param name  Name of the module which subscribes.
+    */
+    public ALFuture<Void> subscribeAsync(String name) throws CallError {
+        return recordSubscription(ALFuture.of(service().<Void>call("subscribe", name)), "unsubscribe", name);
     }
 
     /**
@@ -186,10 +354,22 @@ public class ALDialog extends ALModule {
     * @param name  Name of the module which had subscribed.
     */
     public void unsubscribe(String name) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("unsubscribe", name);
-        else
-            service.call("unsubscribe", name).get();
+        if (isAsynchronous) {
+            forgetSubscription(ALFuture.of(service().<Void>call("unsubscribe", name)), "unsubscribe", name);
+            return;
+        }
+        service().call("unsubscribe", name).get();
+        forgetSubscription("unsubscribe", name);
+    }
+
+    /**
+    * Asynchronous version of {@link #unsubscribe}.
+    * Unsubscribes from the extractor.
+    * 
+    * @param name  Name of the module which had subscribed.
+    */
+    public ALFuture<Void> unsubscribeAsync(String name) throws CallError {
+        return forgetSubscription(ALFuture.of(service().<Void>call("unsubscribe", name)), "unsubscribe", name);
     }
 
     /**
@@ -200,9 +380,20 @@ public class ALDialog extends ALModule {
     */
     public void updatePeriod(String name, Integer period) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("updatePeriod", name, period);
+            service().call("updatePeriod", name, period);
         else
-            service.call("updatePeriod", name, period).get();
+            service().call("updatePeriod", name, period).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #updatePeriod}.
+    * Updates the period if relevant.
+    * 
+    * @param name  Name of the module which has subscribed.
+    * @param period  Refresh period (in milliseconds).
+    */
+    public ALFuture<Void> updatePeriodAsync(String name, Integer period) throws CallError {
+        return ALFuture.of(service().<Void>call("updatePeriod", name, period));
     }
 
     /**
@@ -213,9 +404,20 @@ public class ALDialog extends ALModule {
     */
     public void updatePrecision(String name, Float precision) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("updatePrecision", name, precision);
+            service().call("updatePrecision", name, precision);
         else
-            service.call("updatePrecision", name, precision).get();
+            service().call("updatePrecision", name, precision).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #updatePrecision}.
+    * Updates the precision if relevant.
+    * 
+    * @param name  Name of the module which has subscribed.
+    * @param precision  Precision of the extractor.
+    */
+    public ALFuture<Void> updatePrecisionAsync(String name, Float precision) throws CallError {
+        return ALFuture.of(service().<Void>call("updatePrecision", name, precision));
     }
 
     /**
@@ -224,7 +426,17 @@ public class ALDialog extends ALModule {
     * @return Refresh period (in milliseconds).
     */
     public Integer getCurrentPeriod() throws CallError, InterruptedException {
-        return (Integer)service.call("getCurrentPeriod").get();
+        return (Integer)service().call("getCurrentPeriod").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getCurrentPeriod}.
+    * Gets the current period.
+    * 
+    * @return Refresh period (in milliseconds).
+    */
+    public ALFuture<Integer> getCurrentPeriodAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("getCurrentPeriod"));
     }
 
     /**
@@ -233,7 +445,17 @@ public class ALDialog extends ALModule {
     * @return Precision of the extractor.
     */
     public Float getCurrentPrecision() throws CallError, InterruptedException {
-        return (Float)service.call("getCurrentPrecision").get();
+        return (Float)service().call("getCurrentPrecision").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getCurrentPrecision}.
+    * Gets the current precision.
+    * 
+    * @return Precision of the extractor.
+    */
+    public ALFuture<Float> getCurrentPrecisionAsync() throws CallError {
+        return ALFuture.of(service().<Float>call("getCurrentPrecision"));
     }
 
     /**
@@ -243,7 +465,18 @@ public class ALDialog extends ALModule {
     * @return Refresh period (in milliseconds).
     */
     public Integer getMyPeriod(String name) throws CallError, InterruptedException {
-        return (Integer)service.call("getMyPeriod", name).get();
+        return (Integer)service().call("getMyPeriod", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMyPeriod}.
+    * Gets the period for a specific subscription.
+    * 
+    * @param name  Name of the module which has subscribed.
+    * @return Refresh period (in milliseconds).
+    */
+    public ALFuture<Integer> getMyPeriodAsync(String name) throws CallError {
+        return ALFuture.of(service().<Integer>call("getMyPeriod", name));
     }
 
     /**
@@ -253,7 +486,18 @@ public class ALDialog extends ALModule {
     * @return precision of the extractor
     */
     public Float getMyPrecision(String name) throws CallError, InterruptedException {
-        return (Float)service.call("getMyPrecision", name).get();
+        return (Float)service().call("getMyPrecision", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMyPrecision}.
+    * Gets the precision for a specific subscription.
+    * 
+    * @param name  name of the module which has subscribed
+    * @return precision of the extractor
+    */
+    public ALFuture<Float> getMyPrecisionAsync(String name) throws CallError {
+        return ALFuture.of(service().<Float>call("getMyPrecision", name));
     }
 
     /**
@@ -262,7 +506,17 @@ public class ALDialog extends ALModule {
     * @return Array of names and parameters of all subscribers.
     */
     public java.lang.Object getSubscribersInfo() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getSubscribersInfo").get();
+        return (java.lang.Object)service().call("getSubscribersInfo").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getSubscribersInfo}.
+    * Gets the parameters given by the module.
+    * 
+    * @return Array of names and parameters of all subscribers.
+    */
+    public ALFuture<java.lang.Object> getSubscribersInfoAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getSubscribersInfo"));
     }
 
     /**
@@ -271,7 +525,17 @@ public class ALDialog extends ALModule {
     * @return Array of values updated by this extractor in ALMemory
     */
     public List<String> getOutputNames() throws CallError, InterruptedException {
-        return (List<String>)service.call("getOutputNames").get();
+        return (List<String>)service().call("getOutputNames").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getOutputNames}.
+    * Get the list of values updated in ALMemory.
+    * 
+    * @return Array of values updated by this extractor in ALMemory
+    */
+    public ALFuture<List<String>> getOutputNamesAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getOutputNames"));
     }
 
     /**
@@ -280,7 +544,17 @@ public class ALDialog extends ALModule {
     * @return Array of events updated by this extractor in ALMemory
     */
     public List<String> getEventList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getEventList").get();
+        return (List<String>)service().call("getEventList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getEventList}.
+    * Get the list of events updated in ALMemory.
+    * 
+    * @return Array of events updated by this extractor in ALMemory
+    */
+    public ALFuture<List<String>> getEventListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getEventList"));
     }
 
     /**
@@ -289,7 +563,17 @@ public class ALDialog extends ALModule {
     * @return Array of events updated by this extractor in ALMemory
     */
     public List<String> getMemoryKeyList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMemoryKeyList").get();
+        return (List<String>)service().call("getMemoryKeyList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMemoryKeyList}.
+    * Get the list of events updated in ALMemory.
+    * 
+    * @return Array of events updated by this extractor in ALMemory
+    */
+    public ALFuture<List<String>> getMemoryKeyListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMemoryKeyList"));
     }
 
     /**
@@ -301,9 +585,21 @@ public class ALDialog extends ALModule {
     */
     public void wordRecognized(String unsuned, java.lang.Object value, String message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("wordRecognized", unsuned, value, message);
+            service().call("wordRecognized", unsuned, value, message);
         else
-            service.call("wordRecognized", unsuned, value, message).get();
+            service().call("wordRecognized", unsuned, value, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wordRecognized}.
+    * Callback when speech recognition recognized a word
+    * 
+    * @param unsuned  callback unused parameter
+    * @param value  word recognized value
+    * @param message  unused message
+    */
+    public ALFuture<Void> wordRecognizedAsync(String unsuned, java.lang.Object value, String message) throws CallError {
+        return ALFuture.of(service().<Void>call("wordRecognized", unsuned, value, message));
     }
 
     /**
@@ -313,9 +609,19 @@ public class ALDialog extends ALModule {
     */
     public void addBlockingEvent(String eventName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("addBlockingEvent", eventName);
+            service().call("addBlockingEvent", eventName);
         else
-            service.call("addBlockingEvent", eventName).get();
+            service().call("addBlockingEvent", eventName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #addBlockingEvent}.
+    * The event will stop current TSS
+    * 
+    * @param eventName  Event name
+    */
+    public ALFuture<Void> addBlockingEventAsync(String eventName) throws CallError {
+        return ALFuture.of(service().<Void>call("addBlockingEvent", eventName));
     }
 
     /**
@@ -326,9 +632,20 @@ public class ALDialog extends ALModule {
     */
     public void wordsRecognizedCallback(java.lang.Object grammar, Integer utteranceSize) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("wordsRecognizedCallback", grammar, utteranceSize);
+            service().call("wordsRecognizedCallback", grammar, utteranceSize);
         else
-            service.call("wordsRecognizedCallback", grammar, utteranceSize).get();
+            service().call("wordsRecognizedCallback", grammar, utteranceSize).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wordsRecognizedCallback}.
+    * Asr callback for recognized words
+    * 
+    * @param grammar  recognized grammar
+    * @param utterance Size  Utterance size
+    */
+    public ALFuture<Void> wordsRecognizedCallbackAsync(java.lang.Object grammar, Integer utteranceSize) throws CallError {
+        return ALFuture.of(service().<Void>call("wordsRecognizedCallback", grammar, utteranceSize));
     }
 
     /**
@@ -337,7 +654,17 @@ public class ALDialog extends ALModule {
     * @return true if reprocess buffer
     */
     public Boolean endOfUtteranceCallback() throws CallError, InterruptedException {
-        return (Boolean)service.call("endOfUtteranceCallback").get();
+        return (Boolean)service().call("endOfUtteranceCallback").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #endOfUtteranceCallback}.
+    * End of utterance asr callback
+    * 
+    * @return true if reprocess buffer
+    */
+    public ALFuture<Boolean> endOfUtteranceCallbackAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("endOfUtteranceCallback"));
     }
 
     /**
@@ -346,9 +673,18 @@ public class ALDialog extends ALModule {
     */
     public void releaseEngine() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("releaseEngine");
+            service().call("releaseEngine");
         else
-            service.call("releaseEngine").get();
+            service().call("releaseEngine").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #releaseEngine}.
+    * Experimental: release engine after call of controlEngine
+    * 
+    */
+    public ALFuture<Void> releaseEngineAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("releaseEngine"));
     }
 
     /**
@@ -359,7 +695,19 @@ public class ALDialog extends ALModule {
     * @return Robot answer list
     */
     public List<String> controlEngine(String topicName, String tagName) throws CallError, InterruptedException {
-        return (List<String>)service.call("controlEngine", topicName, tagName).get();
+        return (List<String>)service().call("controlEngine", topicName, tagName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #controlEngine}.
+    * Experimental: controlEngine and say a tag
+    * 
+    * @param topicName  topic name
+    * @param tagName  tag name
+    * @return Robot answer list
+    */
+    public ALFuture<List<String>> controlEngineAsync(String topicName, String tagName) throws CallError {
+        return ALFuture.of(service().<List<String>>call("controlEngine", topicName, tagName));
     }
 
     /**
@@ -368,7 +716,17 @@ public class ALDialog extends ALModule {
     * @return true if has preference
     */
     public Boolean _hasPreference() throws CallError, InterruptedException {
-        return (Boolean)service.call("_hasPreference").get();
+        return (Boolean)service().call("_hasPreference").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_hasPreference}.
+    * hasPreference
+    * 
+    * @return true if has preference
+    */
+    public ALFuture<Boolean> _hasPreferenceAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("_hasPreference"));
     }
 
     /**
@@ -380,13 +738,25 @@ public class ALDialog extends ALModule {
     */
     public void eventReceived(String eventName, java.lang.Object eventValue, String message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("eventReceived", eventName, eventValue, message);
+            service().call("eventReceived", eventName, eventValue, message);
         else
-            service.call("eventReceived", eventName, eventValue, message).get();
+            service().call("eventReceived", eventName, eventValue, message).get();
     }
 
     /**
-    * Callback when ASR status changes
+    * Asynchronous version of {@link #eventReceived}.
+    * Callback when dialog received a event
+    * 
+    * @param eventName  event name received
+    * @param eventValue  event value
+    * @param message  unused event message
+    */
+    public ALFuture<Void> eventReceivedAsync(String eventName, java.lang.Object eventValue, String message) throws CallError {
+        return ALFuture.of(service().<Void>call("eventReceived", eventName, eventValue, message));
+    }
+
+    /**
+    * Callback when ASR status changes
     * 
     * @param internalCallBackEvent  unused
     * @param internalCallbackValue  unused
@@ -394,9 +764,21 @@ public class ALDialog extends ALModule {
     */
     public void statusChanged(String internalCallBackEvent, java.lang.Object internalCallbackValue, String message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("statusChanged", internalCallBackEvent, internalCallbackValue, message);
+            service().call("statusChanged", internalCallBackEvent, internalCallbackValue, message);
         else
-            service.call("statusChanged", internalCallBackEvent, internalCallbackValue, message).get();
+            service().call("statusChanged", internalCallBackEvent, internalCallbackValue, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #statusChanged}.
+    * Callback when ASR status changes
+    * 
+    * @param internalCallBackEvent  unused
+    * @param internalCallbackValue  unused
+    * @param message  unused
+    */
+    public ALFuture<Void> statusChangedAsync(String internalCallBackEvent, java.lang.Object internalCallbackValue, String message) throws CallError {
+        return ALFuture.of(service().<Void>call("statusChanged", internalCallBackEvent, internalCallbackValue, message));
     }
 
     /**
@@ -407,9 +789,20 @@ public class ALDialog extends ALModule {
     */
     public void gotoTag(String topicName, String tagName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("gotoTag", topicName, tagName);
+            service().call("gotoTag", topicName, tagName);
         else
-            service.call("gotoTag", topicName, tagName).get();
+            service().call("gotoTag", topicName, tagName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #gotoTag}.
+    * Callback when ASR status changes
+    * 
+    * @param topicName  topic name
+    * @param tagName  tag name
+    */
+    public ALFuture<Void> gotoTagAsync(String topicName, String tagName) throws CallError {
+        return ALFuture.of(service().<Void>call("gotoTag", topicName, tagName));
     }
 
     /**
@@ -419,9 +812,19 @@ public class ALDialog extends ALModule {
     */
     public void noPick(String topicName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("noPick", topicName);
+            service().call("noPick", topicName);
         else
-            service.call("noPick", topicName).get();
+            service().call("noPick", topicName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #noPick}.
+    * noPick
+    * 
+    * @param topicName  Topic name
+    */
+    public ALFuture<Void> noPickAsync(String topicName) throws CallError {
+        return ALFuture.of(service().<Void>call("noPick", topicName));
     }
 
     /**
@@ -433,9 +836,21 @@ public class ALDialog extends ALModule {
     */
     public void connectionChanged(String internalCallBackEvent, java.lang.Object internalCallbackValue, String message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("connectionChanged", internalCallBackEvent, internalCallbackValue, message);
+            service().call("connectionChanged", internalCallBackEvent, internalCallbackValue, message);
         else
-            service.call("connectionChanged", internalCallBackEvent, internalCallbackValue, message).get();
+            service().call("connectionChanged", internalCallBackEvent, internalCallbackValue, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #connectionChanged}.
+    * Callback when remote connection changes
+    * 
+    * @param internalCallBackEvent  unused
+    * @param internalCallbackValue  unused
+    * @param message  unused
+    */
+    public ALFuture<Void> connectionChangedAsync(String internalCallBackEvent, java.lang.Object internalCallbackValue, String message) throws CallError {
+        return ALFuture.of(service().<Void>call("connectionChanged", internalCallBackEvent, internalCallbackValue, message));
     }
 
     /**
@@ -444,9 +859,18 @@ public class ALDialog extends ALModule {
     */
     public void compileAll() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("compileAll");
+            service().call("compileAll");
         else
-            service.call("compileAll").get();
+            service().call("compileAll").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #compileAll}.
+    * compile all for ASR
+    * 
+    */
+    public ALFuture<Void> compileAllAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("compileAll"));
     }
 
     /**
@@ -456,7 +880,18 @@ public class ALDialog extends ALModule {
     * @return Topic path and filename
     */
     public String loadTopic(String topicPath) throws CallError, InterruptedException {
-        return (String)service.call("loadTopic", topicPath).get();
+        return (String)service().call("loadTopic", topicPath).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #loadTopic}.
+    * Load a topic
+    * 
+    * @param topicPath  topic full path and filename
+    * @return Topic path and filename
+    */
+    public ALFuture<String> loadTopicAsync(String topicPath) throws CallError {
+        return ALFuture.of(service().<String>call("loadTopic", topicPath));
     }
 
     /**
@@ -466,9 +901,19 @@ public class ALDialog extends ALModule {
     */
     public void deactivateTopic(String topicName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("deactivateTopic", topicName);
+            service().call("deactivateTopic", topicName);
         else
-            service.call("deactivateTopic", topicName).get();
+            service().call("deactivateTopic", topicName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #deactivateTopic}.
+    * Activate a topic
+    * 
+    * @param topicName  topic name
+    */
+    public ALFuture<Void> deactivateTopicAsync(String topicName) throws CallError {
+        return ALFuture.of(service().<Void>call("deactivateTopic", topicName));
     }
 
     /**
@@ -478,9 +923,19 @@ public class ALDialog extends ALModule {
     */
     public void activateTopic(String topicName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("activateTopic", topicName);
+            service().call("activateTopic", topicName);
         else
-            service.call("activateTopic", topicName).get();
+            service().call("activateTopic", topicName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #activateTopic}.
+    * Activate a topic
+    * 
+    * @param topicName  topic name
+    */
+    public ALFuture<Void> activateTopicAsync(String topicName) throws CallError {
+        return ALFuture.of(service().<Void>call("activateTopic", topicName));
     }
 
     /**
@@ -490,9 +945,19 @@ public class ALDialog extends ALModule {
     */
     public void unloadTopic(String topicName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("unloadTopic", topicName);
+            service().call("unloadTopic", topicName);
         else
-            service.call("unloadTopic", topicName).get();
+            service().call("unloadTopic", topicName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #unloadTopic}.
+    * unload a dialog
+    * 
+    * @param topicName  topic name
+    */
+    public ALFuture<Void> unloadTopicAsync(String topicName) throws CallError {
+        return ALFuture.of(service().<Void>call("unloadTopic", topicName));
     }
 
     /**
@@ -501,9 +966,18 @@ public class ALDialog extends ALModule {
     */
     public void forceOutput() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("forceOutput");
+            service().call("forceOutput");
         else
-            service.call("forceOutput").get();
+            service().call("forceOutput").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #forceOutput}.
+    * Get a proposal
+    * 
+    */
+    public ALFuture<Void> forceOutputAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("forceOutput"));
     }
 
     /**
@@ -513,9 +987,19 @@ public class ALDialog extends ALModule {
     */
     public void forceInput(String input) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("forceInput", input);
+            service().call("forceInput", input);
         else
-            service.call("forceInput", input).get();
+            service().call("forceInput", input).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #forceInput}.
+    * Give a sentence to the dialog and get the answer
+    * 
+    * @param input  input string that simulate humain sentence
+    */
+    public ALFuture<Void> forceInputAsync(String input) throws CallError {
+        return ALFuture.of(service().<Void>call("forceInput", input));
     }
 
     /**
@@ -525,9 +1009,19 @@ public class ALDialog extends ALModule {
     */
     public void tell(String input) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("tell", input);
+            service().call("tell", input);
         else
-            service.call("tell", input).get();
+            service().call("tell", input).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #tell}.
+    * Give a sentence to the dialog and get the answer
+    * 
+    * @param input  input string that simulate humain sentence
+    */
+    public ALFuture<Void> tellAsync(String input) throws CallError {
+        return ALFuture.of(service().<Void>call("tell", input));
     }
 
     /**
@@ -537,9 +1031,19 @@ public class ALDialog extends ALModule {
     */
     public void setASRConfidenceThreshold(Float threshold) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setASRConfidenceThreshold", threshold);
+            service().call("setASRConfidenceThreshold", threshold);
         else
-            service.call("setASRConfidenceThreshold", threshold).get();
+            service().call("setASRConfidenceThreshold", threshold).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setASRConfidenceThreshold}.
+    * Set the minimum confidence required to recognize words. Better to use confidence by asr model
+    * 
+    * @param threshold  input string that simulate humain sentence
+    */
+    public ALFuture<Void> setASRConfidenceThresholdAsync(Float threshold) throws CallError {
+        return ALFuture.of(service().<Void>call("setASRConfidenceThreshold", threshold));
     }
 
     /**
@@ -548,7 +1052,17 @@ public class ALDialog extends ALModule {
     * @return current asr confidence
     */
     public Float getASRConfidenceThreshold() throws CallError, InterruptedException {
-        return (Float)service.call("getASRConfidenceThreshold").get();
+        return (Float)service().call("getASRConfidenceThreshold").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getASRConfidenceThreshold}.
+    * Get the minimum confidence required to recognize words
+    * 
+    * @return current asr confidence
+    */
+    public ALFuture<Float> getASRConfidenceThresholdAsync() throws CallError {
+        return ALFuture.of(service().<Float>call("getASRConfidenceThreshold"));
     }
 
     /**
@@ -559,9 +1073,20 @@ public class ALDialog extends ALModule {
     */
     public void _setConfidence(String strategy, Float threshold) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setConfidence", strategy, threshold);
+            service().call("_setConfidence", strategy, threshold);
         else
-            service.call("_setConfidence", strategy, threshold).get();
+            service().call("_setConfidence", strategy, threshold).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setConfidence}.
+    * Set the minimum confidence required to recognize words for a strategy
+    * 
+    * @param strategy  BNF or SLM
+    * @param threshold  threshold [0,1]
+    */
+    public ALFuture<Void> _setConfidenceAsync(String strategy, Float threshold) throws CallError {
+        return ALFuture.of(service().<Void>call("_setConfidence", strategy, threshold));
     }
 
     /**
@@ -571,7 +1096,18 @@ public class ALDialog extends ALModule {
     * @return current asr confidence for model
     */
     public Float _getConfidence(String strategy) throws CallError, InterruptedException {
-        return (Float)service.call("_getConfidence", strategy).get();
+        return (Float)service().call("_getConfidence", strategy).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getConfidence}.
+    * Get the minimum confidence required to recognize words of a strategy
+    * 
+    * @param strategy  BNF or SLM
+    * @return current asr confidence for model
+    */
+    public ALFuture<Float> _getConfidenceAsync(String strategy) throws CallError {
+        return ALFuture.of(service().<Float>call("_getConfidence", strategy));
     }
 
     /**
@@ -581,9 +1117,19 @@ public class ALDialog extends ALModule {
     */
     public void _enableStrategy(String strategy) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_enableStrategy", strategy);
+            service().call("_enableStrategy", strategy);
         else
-            service.call("_enableStrategy", strategy).get();
+            service().call("_enableStrategy", strategy).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_enableStrategy}.
+    * Enable a secret strategy
+    * 
+    * @param strategy  strategy file
+    */
+    public ALFuture<Void> _enableStrategyAsync(String strategy) throws CallError {
+        return ALFuture.of(service().<Void>call("_enableStrategy", strategy));
     }
 
     /**
@@ -593,9 +1139,19 @@ public class ALDialog extends ALModule {
     */
     public void openSession(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("openSession", id);
+            service().call("openSession", id);
         else
-            service.call("openSession", id).get();
+            service().call("openSession", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #openSession}.
+    * Open a session
+    * 
+    * @param id  user id
+    */
+    public ALFuture<Void> openSessionAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("openSession", id));
     }
 
     /**
@@ -604,9 +1160,18 @@ public class ALDialog extends ALModule {
     */
     public void closeSession() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("closeSession");
+            service().call("closeSession");
         else
-            service.call("closeSession").get();
+            service().call("closeSession").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #closeSession}.
+    * Close the current session
+    * 
+    */
+    public ALFuture<Void> closeSessionAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("closeSession"));
     }
 
     /**
@@ -619,9 +1184,22 @@ public class ALDialog extends ALModule {
     */
     public void _generateBNF(String name, String topic, String language, String destination) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_generateBNF", name, topic, language, destination);
+            service().call("_generateBNF", name, topic, language, destination);
         else
-            service.call("_generateBNF", name, topic, language, destination).get();
+            service().call("_generateBNF", name, topic, language, destination).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_generateBNF}.
+    * deprecated
+    * 
+    * @param name  name
+    * @param topic  topic
+    * @param language  language
+    * @param destination  destination
+    */
+    public ALFuture<Void> _generateBNFAsync(String name, String topic, String language, String destination) throws CallError {
+        return ALFuture.of(service().<Void>call("_generateBNF", name, topic, language, destination));
     }
 
     /**
@@ -632,9 +1210,20 @@ public class ALDialog extends ALModule {
     */
     public void setDelay(String eventName, Integer Delay) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setDelay", eventName, Delay);
+            service().call("setDelay", eventName, Delay);
         else
-            service.call("setDelay", eventName, Delay).get();
+            service().call("setDelay", eventName, Delay).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setDelay}.
+    * change event's delay
+    * 
+    * @param eventName  Event name
+    * @param Delay  Delay in second
+    */
+    public ALFuture<Void> setDelayAsync(String eventName, Integer Delay) throws CallError {
+        return ALFuture.of(service().<Void>call("setDelay", eventName, Delay));
     }
 
     /**
@@ -644,9 +1233,19 @@ public class ALDialog extends ALModule {
     */
     public void setNumberOfScopes(Integer numberOfScope) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setNumberOfScopes", numberOfScope);
+            service().call("setNumberOfScopes", numberOfScope);
         else
-            service.call("setNumberOfScopes", numberOfScope).get();
+            service().call("setNumberOfScopes", numberOfScope).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setNumberOfScopes}.
+    * Set how many scopes remains open
+    * 
+    * @param numberOfScope  number of scope
+    */
+    public ALFuture<Void> setNumberOfScopesAsync(Integer numberOfScope) throws CallError {
+        return ALFuture.of(service().<Void>call("setNumberOfScopes", numberOfScope));
     }
 
     /**
@@ -659,9 +1258,22 @@ public class ALDialog extends ALModule {
     */
     public void setConcept(String conceptName, String language, List<String> content) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setConcept", conceptName, language, content);
+            service().call("setConcept", conceptName, language, content);
         else
-            service.call("setConcept", conceptName, language, content).get();
+            service().call("setConcept", conceptName, language, content).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setConcept}.
+    * Set the content of a dynamic concept
+    * 
+    * @param conceptName  Name of the concept
+    * @param language  Language of the concept
+    * @param content  content of the concept
+    * @param store  Store concept in database if true
+    */
+    public ALFuture<Void> setConceptAsync(String conceptName, String language, List<String> content) throws CallError {
+        return ALFuture.of(service().<Void>call("setConcept", conceptName, language, content));
     }
 
     /**
@@ -674,9 +1286,22 @@ public class ALDialog extends ALModule {
     */
     public void setConcept(String conceptName, String language, List<String> content, Boolean store) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setConcept", conceptName, language, content, store);
+            service().call("setConcept", conceptName, language, content, store);
         else
-            service.call("setConcept", conceptName, language, content, store).get();
+            service().call("setConcept", conceptName, language, content, store).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setConcept}.
+    * Set the content of a dynamic concept
+    * 
+    * @param conceptName  Name of the concept
+    * @param language  Language of the concept
+    * @param content  content of the concept
+    * @param store  determine if the concept will be save in the database
+    */
+    public ALFuture<Void> setConceptAsync(String conceptName, String language, List<String> content, Boolean store) throws CallError {
+        return ALFuture.of(service().<Void>call("setConcept", conceptName, language, content, store));
     }
 
     /**
@@ -685,9 +1310,18 @@ public class ALDialog extends ALModule {
     */
     public void resetKnowledge() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("resetKnowledge");
+            service().call("resetKnowledge");
         else
-            service.call("resetKnowledge").get();
+            service().call("resetKnowledge").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #resetKnowledge}.
+    * Reset robot knowledge
+    * 
+    */
+    public ALFuture<Void> resetKnowledgeAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("resetKnowledge"));
     }
 
     /**
@@ -699,9 +1333,21 @@ public class ALDialog extends ALModule {
     */
     public void setConceptKeepInCache(String conceptName, String language, List<String> content) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setConceptKeepInCache", conceptName, language, content);
+            service().call("setConceptKeepInCache", conceptName, language, content);
         else
-            service.call("setConceptKeepInCache", conceptName, language, content).get();
+            service().call("setConceptKeepInCache", conceptName, language, content).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setConceptKeepInCache}.
+    * set the content of a dynamic concept
+    * 
+    * @param conceptName  concept name
+    * @param language  language
+    * @param content  concept content
+    */
+    public ALFuture<Void> setConceptKeepInCacheAsync(String conceptName, String language, List<String> content) throws CallError {
+        return ALFuture.of(service().<Void>call("setConceptKeepInCache", conceptName, language, content));
     }
 
     /**
@@ -711,9 +1357,19 @@ public class ALDialog extends ALModule {
     */
     public void setPushMode(Integer pushMode) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setPushMode", pushMode);
+            service().call("setPushMode", pushMode);
         else
-            service.call("setPushMode", pushMode).get();
+            service().call("setPushMode", pushMode).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setPushMode}.
+    * Set push mode. Frequence of robot question
+    * 
+    * @param pushMode  Push mode from 0 to 4
+    */
+    public ALFuture<Void> setPushModeAsync(Integer pushMode) throws CallError {
+        return ALFuture.of(service().<Void>call("setPushMode", pushMode));
     }
 
     /**
@@ -723,9 +1379,19 @@ public class ALDialog extends ALModule {
     */
     public void enableTriggerSentences(Boolean enableTriggerSentences) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("enableTriggerSentences", enableTriggerSentences);
+            service().call("enableTriggerSentences", enableTriggerSentences);
         else
-            service.call("enableTriggerSentences", enableTriggerSentences).get();
+            service().call("enableTriggerSentences", enableTriggerSentences).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #enableTriggerSentences}.
+    * enableTriggerSentences
+    * 
+    * @param enableTriggerSentences  Enable trigger sentences if true
+    */
+    public ALFuture<Void> enableTriggerSentencesAsync(Boolean enableTriggerSentences) throws CallError {
+        return ALFuture.of(service().<Void>call("enableTriggerSentences", enableTriggerSentences));
     }
 
     /**
@@ -735,9 +1401,19 @@ public class ALDialog extends ALModule {
     */
     public void enableCategory(Boolean enableCategory) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("enableCategory", enableCategory);
+            service().call("enableCategory", enableCategory);
         else
-            service.call("enableCategory", enableCategory).get();
+            service().call("enableCategory", enableCategory).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #enableCategory}.
+    * enableCategory
+    * 
+    * @param enableCategory  Enable category if true
+    */
+    public ALFuture<Void> enableCategoryAsync(Boolean enableCategory) throws CallError {
+        return ALFuture.of(service().<Void>call("enableCategory", enableCategory));
     }
 
     /**
@@ -746,9 +1422,18 @@ public class ALDialog extends ALModule {
     */
     public void startPush() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("startPush");
+            service().call("startPush");
         else
-            service.call("startPush").get();
+            service().call("startPush").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #startPush}.
+    * Start push mode
+    * 
+    */
+    public ALFuture<Void> startPushAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("startPush"));
     }
 
     /**
@@ -757,9 +1442,18 @@ public class ALDialog extends ALModule {
     */
     public void stopPush() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stopPush");
+            service().call("stopPush");
         else
-            service.call("stopPush").get();
+            service().call("stopPush").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stopPush}.
+    * Stop push mode
+    * 
+    */
+    public ALFuture<Void> stopPushAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("stopPush"));
     }
 
     /**
@@ -769,9 +1463,19 @@ public class ALDialog extends ALModule {
     */
     public void setAnimatedSpeechConfiguration(java.lang.Object animatedSpeechConfiguration) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setAnimatedSpeechConfiguration", animatedSpeechConfiguration);
+            service().call("setAnimatedSpeechConfiguration", animatedSpeechConfiguration);
         else
-            service.call("setAnimatedSpeechConfiguration", animatedSpeechConfiguration).get();
+            service().call("setAnimatedSpeechConfiguration", animatedSpeechConfiguration).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setAnimatedSpeechConfiguration}.
+    * Set the configuration of animated speech for the current dialog.
+    * 
+    * @param animatedSpeechConfiguration  See animated speech documentation
+    */
+    public ALFuture<Void> setAnimatedSpeechConfigurationAsync(java.lang.Object animatedSpeechConfiguration) throws CallError {
+        return ALFuture.of(service().<Void>call("setAnimatedSpeechConfiguration", animatedSpeechConfiguration));
     }
 
     /**
@@ -781,9 +1485,19 @@ public class ALDialog extends ALModule {
     */
     public void applicationBlackList(List<String> applicationList) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("applicationBlackList", applicationList);
+            service().call("applicationBlackList", applicationList);
         else
-            service.call("applicationBlackList", applicationList).get();
+            service().call("applicationBlackList", applicationList).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #applicationBlackList}.
+    * Black list a list of application
+    * 
+    * @param applicationList  List of applications that cannot be launched by dialog
+    */
+    public ALFuture<Void> applicationBlackListAsync(List<String> applicationList) throws CallError {
+        return ALFuture.of(service().<Void>call("applicationBlackList", applicationList));
     }
 
     /**
@@ -792,7 +1506,17 @@ public class ALDialog extends ALModule {
     * @return True if content was updated since last compilation
     */
     public Boolean isContentNeedsUpdate() throws CallError, InterruptedException {
-        return (Boolean)service.call("isContentNeedsUpdate").get();
+        return (Boolean)service().call("isContentNeedsUpdate").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isContentNeedsUpdate}.
+    * True if new content was installed
+    * 
+    * @return True if content was updated since last compilation
+    */
+    public ALFuture<Boolean> isContentNeedsUpdateAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isContentNeedsUpdate"));
     }
 
     /**
@@ -803,7 +1527,19 @@ public class ALDialog extends ALModule {
     * @return Topic name (not filename)
     */
     public String _addDialogFromTopicBox(String topicPathName, String includeDirectory) throws CallError, InterruptedException {
-        return (String)service.call("_addDialogFromTopicBox", topicPathName, includeDirectory).get();
+        return (String)service().call("_addDialogFromTopicBox", topicPathName, includeDirectory).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_addDialogFromTopicBox}.
+    * private method to be able to set in specific include dir
+    * 
+    * @param topicPathName  Topic path and filename
+    * @param includeDirectory  Root of the behavior
+    * @return Topic name (not filename)
+    */
+    public ALFuture<String> _addDialogFromTopicBoxAsync(String topicPathName, String includeDirectory) throws CallError {
+        return ALFuture.of(service().<String>call("_addDialogFromTopicBox", topicPathName, includeDirectory));
     }
 
     /**
@@ -812,9 +1548,18 @@ public class ALDialog extends ALModule {
     */
     public void _cleanEventStack() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_cleanEventStack");
+            service().call("_cleanEventStack");
         else
-            service.call("_cleanEventStack").get();
+            service().call("_cleanEventStack").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_cleanEventStack}.
+    * Clean event stack
+    * 
+    */
+    public ALFuture<Void> _cleanEventStackAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_cleanEventStack"));
     }
 
     /**
@@ -824,9 +1569,19 @@ public class ALDialog extends ALModule {
     */
     public void _updateAIClient(String libraryPath) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_updateAIClient", libraryPath);
+            service().call("_updateAIClient", libraryPath);
         else
-            service.call("_updateAIClient", libraryPath).get();
+            service().call("_updateAIClient", libraryPath).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_updateAIClient}.
+    * Connect to custom AI client
+    * 
+    * @param libraryPath  library path
+    */
+    public ALFuture<Void> _updateAIClientAsync(String libraryPath) throws CallError {
+        return ALFuture.of(service().<Void>call("_updateAIClient", libraryPath));
     }
 
     /**
@@ -837,9 +1592,20 @@ public class ALDialog extends ALModule {
     */
     public void _addTopicsInGroup(String groupName, List<String> topicNameList) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_addTopicsInGroup", groupName, topicNameList);
+            service().call("_addTopicsInGroup", groupName, topicNameList);
         else
-            service.call("_addTopicsInGroup", groupName, topicNameList).get();
+            service().call("_addTopicsInGroup", groupName, topicNameList).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_addTopicsInGroup}.
+    * Create a user group
+    * 
+    * @param groupName  User group name
+    * @param topicNameList  Topic to add in group
+    */
+    public ALFuture<Void> _addTopicsInGroupAsync(String groupName, List<String> topicNameList) throws CallError {
+        return ALFuture.of(service().<Void>call("_addTopicsInGroup", groupName, topicNameList));
     }
 
     /**
@@ -849,9 +1615,19 @@ public class ALDialog extends ALModule {
     */
     public void _activateGroup(String groupName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_activateGroup", groupName);
+            service().call("_activateGroup", groupName);
         else
-            service.call("_activateGroup", groupName).get();
+            service().call("_activateGroup", groupName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_activateGroup}.
+    * Group to activate
+    * 
+    * @param groupName  group name
+    */
+    public ALFuture<Void> _activateGroupAsync(String groupName) throws CallError {
+        return ALFuture.of(service().<Void>call("_activateGroup", groupName));
     }
 
     /**
@@ -861,9 +1637,19 @@ public class ALDialog extends ALModule {
     */
     public void _deactivateGroup(String groupName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_deactivateGroup", groupName);
+            service().call("_deactivateGroup", groupName);
         else
-            service.call("_deactivateGroup", groupName).get();
+            service().call("_deactivateGroup", groupName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_deactivateGroup}.
+    * private method to be able to set in specific include dir
+    * 
+    * @param groupName  group name
+    */
+    public ALFuture<Void> _deactivateGroupAsync(String groupName) throws CallError {
+        return ALFuture.of(service().<Void>call("_deactivateGroup", groupName));
     }
 
     /**
@@ -874,9 +1660,20 @@ public class ALDialog extends ALModule {
     */
     public void _suggestNextTopic(String topicName, Integer suggestionValidity) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_suggestNextTopic", topicName, suggestionValidity);
+            service().call("_suggestNextTopic", topicName, suggestionValidity);
         else
-            service.call("_suggestNextTopic", topicName, suggestionValidity).get();
+            service().call("_suggestNextTopic", topicName, suggestionValidity).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_suggestNextTopic}.
+    * suggest next topic
+    * 
+    * @param topicName  group name
+    * @param suggestionValidity  Suggestion validity in second
+    */
+    public ALFuture<Void> _suggestNextTopicAsync(String topicName, Integer suggestionValidity) throws CallError {
+        return ALFuture.of(service().<Void>call("_suggestNextTopic", topicName, suggestionValidity));
     }
 
     /**
@@ -888,9 +1685,21 @@ public class ALDialog extends ALModule {
     */
     public void _suggestUserNextTopic(String topicName, Integer suggestionValidity, Integer userID) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_suggestUserNextTopic", topicName, suggestionValidity, userID);
+            service().call("_suggestUserNextTopic", topicName, suggestionValidity, userID);
         else
-            service.call("_suggestUserNextTopic", topicName, suggestionValidity, userID).get();
+            service().call("_suggestUserNextTopic", topicName, suggestionValidity, userID).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_suggestUserNextTopic}.
+    * suggest next topic
+    * 
+    * @param topicName  group name
+    * @param suggestionValidity  Suggestion validity in second
+    * @param userID  Suggestion validity for userID
+    */
+    public ALFuture<Void> _suggestUserNextTopicAsync(String topicName, Integer suggestionValidity, Integer userID) throws CallError {
+        return ALFuture.of(service().<Void>call("_suggestUserNextTopic", topicName, suggestionValidity, userID));
     }
 
     /**
@@ -901,78 +1710,146 @@ public class ALDialog extends ALModule {
     */
     public void _suggestNextTopicNoPause(String topicName, Integer suggestionValidity) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_suggestNextTopicNoPause", topicName, suggestionValidity);
+            service().call("_suggestNextTopicNoPause", topicName, suggestionValidity);
+        else
+            service().call("_suggestNextTopicNoPause", topicName, suggestionValidity).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_suggestNextTopicNoPause}.
+    * suggest next topic not thread safe
+    * 
+    * @param topicName  group name
+    * @param suggestionValidity  Suggestion validity in second
+    */
+    public ALFuture<Void> _suggestNextTopicNoPauseAsync(String topicName, Integer suggestionValidity) throws CallError {
+        return ALFuture.of(service().<Void>call("_suggestNextTopicNoPause", topicName, suggestionValidity));
+    }
+
+    /**
+    * preload main dialog
+    * 
+    */
+    public void _preloadMain() throws CallError, InterruptedException{
+        if (isAsynchronous)
+            service().call("_preloadMain");
         else
-            service.call("_suggestNextTopicNoPause", topicName, suggestionValidity).get();
+            service().call("_preloadMain").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_preloadMain}.
+    * preload main dialog
+    * 
+    */
+    public ALFuture<Void> _preloadMainAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_preloadMain"));
+    }
+
+    /**
+    * Define only language to use
+    * 
+    * @param languageName  monoLanguageName
+    */
+    public void _mainLanguage(String languageName) throws CallError, InterruptedException{
+        if (isAsynchronous)
+            service().call("_mainLanguage", languageName);
+        else
+            service().call("_mainLanguage", languageName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_mainLanguage}.
+    * Define only language to use
+    * 
+    * @param languageName  monoLanguageName
+    */
+    public ALFuture<Void> _mainLanguageAsync(String languageName) throws CallError {
+        return ALFuture.of(service().<Void>call("_mainLanguage", languageName));
+    }
+
+    /**
+    * run main dialog without speaking
+    * 
+    */
+    public void _runMainNoActivation() throws CallError, InterruptedException{
+        if (isAsynchronous)
+            service().call("_runMainNoActivation");
+        else
+            service().call("_runMainNoActivation").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_runMainNoActivation}.
+    * run main dialog without speaking
+    * 
+    */
+    public ALFuture<Void> _runMainNoActivationAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_runMainNoActivation"));
     }
 
     /**
-    * preload main dialog
+    * run main dialog
     * 
     */
-    public void _preloadMain() throws CallError, InterruptedException{
+    public void _runMain() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_preloadMain");
+            service().call("_runMain");
         else
-            service.call("_preloadMain").get();
+            service().call("_runMain").get();
     }
 
     /**
-    * Define only language to use
+    * Asynchronous version of {@link #_runMain}.
+    * run main dialog
     * 
-    * @param languageName  monoLanguageName
     */
-    public void _mainLanguage(String languageName) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("_mainLanguage", languageName);
-        else
-            service.call("_mainLanguage", languageName).get();
+    public ALFuture<Void> _runMainAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_runMain"));
     }
 
     /**
-    * run main dialog without speaking
+    * run main dialog
     * 
+    * @param engagementMode  engagementMode
     */
-    public void _runMainNoActivation() throws CallError, InterruptedException{
+    public void _startDialog(String engagementMode) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_runMainNoActivation");
+            service().call("_startDialog", engagementMode);
         else
-            service.call("_runMainNoActivation").get();
+            service().call("_startDialog", engagementMode).get();
     }
 
     /**
+    * Asynchronous version of {@link #_startDialog}.
     * run main dialog
     * 
+    * @param engagementMode  engagementMode
     */
-    public void _runMain() throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("_runMain");
-        else
-            service.call("_runMain").get();
+    public ALFuture<Void> _startDialogAsync(String engagementMode) throws CallError {
+        return ALFuture.of(service().<Void>call("_startDialog", engagementMode));
     }
 
     /**
-    * run main dialog
+    * change engagement mode
     * 
     * @param engagementMode  engagementMode
     */
-    public void _startDialog(String engagementMode) throws CallError, InterruptedException{
+    public void _setEngagementMode(String engagementMode) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_startDialog", engagementMode);
+            service().call("_setEngagementMode", engagementMode);
         else
-            service.call("_startDialog", engagementMode).get();
+            service().call("_setEngagementMode", engagementMode).get();
     }
 
     /**
+    * Asynchronous version of {@link #_setEngagementMode}.
     * change engagement mode
     * 
     * @param engagementMode  engagementMode
     */
-    public void _setEngagementMode(String engagementMode) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("_setEngagementMode", engagementMode);
-        else
-            service.call("_setEngagementMode", engagementMode).get();
+    public ALFuture<Void> _setEngagementModeAsync(String engagementMode) throws CallError {
+        return ALFuture.of(service().<Void>call("_setEngagementMode", engagementMode));
     }
 
     /**
@@ -981,9 +1858,18 @@ public class ALDialog extends ALModule {
     */
     public void pause() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("pause");
+            service().call("pause");
         else
-            service.call("pause").get();
+            service().call("pause").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #pause}.
+    * change engagement mode
+    * 
+    */
+    public ALFuture<Void> pauseAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("pause"));
     }
 
     /**
@@ -992,9 +1878,18 @@ public class ALDialog extends ALModule {
     */
     public void endPause() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("endPause");
+            service().call("endPause");
         else
-            service.call("endPause").get();
+            service().call("endPause").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #endPause}.
+    * change engagement mode
+    * 
+    */
+    public ALFuture<Void> endPauseAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("endPause"));
     }
 
     /**
@@ -1003,9 +1898,18 @@ public class ALDialog extends ALModule {
     */
     public void runDialog() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("runDialog");
+            service().call("runDialog");
         else
-            service.call("runDialog").get();
+            service().call("runDialog").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #runDialog}.
+    * run main dialog
+    * 
+    */
+    public ALFuture<Void> runDialogAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("runDialog"));
     }
 
     /**
@@ -1014,9 +1918,18 @@ public class ALDialog extends ALModule {
     */
     public void _resetPreload() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_resetPreload");
+            service().call("_resetPreload");
         else
-            service.call("_resetPreload").get();
+            service().call("_resetPreload").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_resetPreload}.
+    * reset preload settings
+    * 
+    */
+    public ALFuture<Void> _resetPreloadAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_resetPreload"));
     }
 
     /**
@@ -1025,9 +1938,18 @@ public class ALDialog extends ALModule {
     */
     public void _stopMain() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_stopMain");
+            service().call("_stopMain");
         else
-            service.call("_stopMain").get();
+            service().call("_stopMain").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_stopMain}.
+    * stop main dialog
+    * 
+    */
+    public ALFuture<Void> _stopMainAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_stopMain"));
     }
 
     /**
@@ -1036,9 +1958,18 @@ public class ALDialog extends ALModule {
     */
     public void stopDialog() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stopDialog");
+            service().call("stopDialog");
         else
-            service.call("stopDialog").get();
+            service().call("stopDialog").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stopDialog}.
+    * stop main dialog
+    * 
+    */
+    public ALFuture<Void> stopDialogAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("stopDialog"));
     }
 
     /**
@@ -1048,9 +1979,19 @@ public class ALDialog extends ALModule {
     */
     public void _loadStrategyConfiguration(String strategyFile) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_loadStrategyConfiguration", strategyFile);
+            service().call("_loadStrategyConfiguration", strategyFile);
         else
-            service.call("_loadStrategyConfiguration", strategyFile).get();
+            service().call("_loadStrategyConfiguration", strategyFile).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_loadStrategyConfiguration}.
+    * load a strategy configuration
+    * 
+    * @param strategyFile  Strategy path and filename
+    */
+    public ALFuture<Void> _loadStrategyConfigurationAsync(String strategyFile) throws CallError {
+        return ALFuture.of(service().<Void>call("_loadStrategyConfiguration", strategyFile));
     }
 
     /**
@@ -1062,9 +2003,21 @@ public class ALDialog extends ALModule {
     */
     public void setVariablePath(String topic, String event, String path) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setVariablePath", topic, event, path);
+            service().call("setVariablePath", topic, event, path);
         else
-            service.call("setVariablePath", topic, event, path).get();
+            service().call("setVariablePath", topic, event, path).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setVariablePath}.
+    * setVariablePath redifine a variable name on the fly
+    * 
+    * @param topic  Source topic name
+    * @param event  Event name
+    * @param path  New event name
+    */
+    public ALFuture<Void> setVariablePathAsync(String topic, String event, String path) throws CallError {
+        return ALFuture.of(service().<Void>call("setVariablePath", topic, event, path));
     }
 
     /**
@@ -1074,9 +2027,19 @@ public class ALDialog extends ALModule {
     */
     public void setLanguage(String Language) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setLanguage", Language);
+            service().call("setLanguage", Language);
         else
-            service.call("setLanguage", Language).get();
+            service().call("setLanguage", Language).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setLanguage}.
+    * setLanguage
+    * 
+    * @param Language  Set dialog language (frf, enu, jpj...)
+    */
+    public ALFuture<Void> setLanguageAsync(String Language) throws CallError {
+        return ALFuture.of(service().<Void>call("setLanguage", Language));
     }
 
     /**
@@ -1088,9 +2051,21 @@ public class ALDialog extends ALModule {
     */
     public void startUpdate(String variableName, java.lang.Object variableValue, String message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("startUpdate", variableName, variableValue, message);
+            service().call("startUpdate", variableName, variableValue, message);
         else
-            service.call("startUpdate", variableName, variableValue, message).get();
+            service().call("startUpdate", variableName, variableValue, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #startUpdate}.
+    * startUpdate
+    * 
+    * @param variableName  variable name
+    * @param variableValue  variable value
+    * @param message  message
+    */
+    public ALFuture<Void> startUpdateAsync(String variableName, java.lang.Object variableValue, String message) throws CallError {
+        return ALFuture.of(service().<Void>call("startUpdate", variableName, variableValue, message));
     }
 
     /**
@@ -1102,9 +2077,21 @@ public class ALDialog extends ALModule {
     */
     public void startApp(String variableName, java.lang.Object variableValue, String message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("startApp", variableName, variableValue, message);
+            service().call("startApp", variableName, variableValue, message);
         else
-            service.call("startApp", variableName, variableValue, message).get();
+            service().call("startApp", variableName, variableValue, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #startApp}.
+    * startUpdate
+    * 
+    * @param variableName  variable name
+    * @param variableValue  variable value
+    * @param message  message
+    */
+    public ALFuture<Void> startAppAsync(String variableName, java.lang.Object variableValue, String message) throws CallError {
+        return ALFuture.of(service().<Void>call("startApp", variableName, variableValue, message));
     }
 
     /**
@@ -1116,9 +2103,21 @@ public class ALDialog extends ALModule {
     */
     public void packageInstalled(String variableName, java.lang.Object variableValue, String message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("packageInstalled", variableName, variableValue, message);
+            service().call("packageInstalled", variableName, variableValue, message);
         else
-            service.call("packageInstalled", variableName, variableValue, message).get();
+            service().call("packageInstalled", variableName, variableValue, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #packageInstalled}.
+    * packageInstalled
+    * 
+    * @param variableName  variable name
+    * @param variableValue  variable value
+    * @param message  message
+    */
+    public ALFuture<Void> packageInstalledAsync(String variableName, java.lang.Object variableValue, String message) throws CallError {
+        return ALFuture.of(service().<Void>call("packageInstalled", variableName, variableValue, message));
     }
 
     /**
@@ -1130,9 +2129,21 @@ public class ALDialog extends ALModule {
     */
     public void compilationFinished(String variableName, java.lang.Object variableValue, String message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("compilationFinished", variableName, variableValue, message);
+            service().call("compilationFinished", variableName, variableValue, message);
         else
-            service.call("compilationFinished", variableName, variableValue, message).get();
+            service().call("compilationFinished", variableName, variableValue, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #compilationFinished}.
+    * compilationFinished
+    * 
+    * @param variableName  variable name
+    * @param variableValue  variable value
+    * @param message  message
+    */
+    public ALFuture<Void> compilationFinishedAsync(String variableName, java.lang.Object variableValue, String message) throws CallError {
+        return ALFuture.of(service().<Void>call("compilationFinished", variableName, variableValue, message));
     }
 
     /**
@@ -1142,9 +2153,19 @@ public class ALDialog extends ALModule {
     */
     public void setFocus(String topicName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setFocus", topicName);
+            service().call("setFocus", topicName);
         else
-            service.call("setFocus", topicName).get();
+            service().call("setFocus", topicName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setFocus}.
+    * Give focus to a dialog
+    * 
+    * @param topicName  Topic name
+    */
+    public ALFuture<Void> setFocusAsync(String topicName) throws CallError {
+        return ALFuture.of(service().<Void>call("setFocus", topicName));
     }
 
     /**
@@ -1153,7 +2174,17 @@ public class ALDialog extends ALModule {
     * @return Current focus name
     */
     public String getFocus() throws CallError, InterruptedException {
-        return (String)service.call("getFocus").get();
+        return (String)service().call("getFocus").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getFocus}.
+    * Give focus to a dialog
+    * 
+    * @return Current focus name
+    */
+    public ALFuture<String> getFocusAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getFocus"));
     }
 
     /**
@@ -1163,9 +2194,19 @@ public class ALDialog extends ALModule {
     */
     public void gotoTopic(String topicName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("gotoTopic", topicName);
+            service().call("gotoTopic", topicName);
         else
-            service.call("gotoTopic", topicName).get();
+            service().call("gotoTopic", topicName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #gotoTopic}.
+    * Set the focus to a topic and make a proposal
+    * 
+    * @param topicName  Topic name
+    */
+    public ALFuture<Void> gotoTopicAsync(String topicName) throws CallError {
+        return ALFuture.of(service().<Void>call("gotoTopic", topicName));
     }
 
     /**
@@ -1175,9 +2216,19 @@ public class ALDialog extends ALModule {
     */
     public void _enableOneBNFActivated(Boolean enableFullBNF) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_enableOneBNFActivated", enableFullBNF);
+            service().call("_enableOneBNFActivated", enableFullBNF);
         else
-            service.call("_enableOneBNFActivated", enableFullBNF).get();
+            service().call("_enableOneBNFActivated", enableFullBNF).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_enableOneBNFActivated}.
+    * Enable AI System
+    * 
+    * @param enableFullBNF  Add all possible sentences in speech recognition
+    */
+    public ALFuture<Void> _enableOneBNFActivatedAsync(Boolean enableFullBNF) throws CallError {
+        return ALFuture.of(service().<Void>call("_enableOneBNFActivated", enableFullBNF));
     }
 
     /**
@@ -1187,9 +2238,19 @@ public class ALDialog extends ALModule {
     */
     public void _enableAISystem(Boolean enableAISystem) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_enableAISystem", enableAISystem);
+            service().call("_enableAISystem", enableAISystem);
         else
-            service.call("_enableAISystem", enableAISystem).get();
+            service().call("_enableAISystem", enableAISystem).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_enableAISystem}.
+    * Enable AI System
+    * 
+    * @param enableAISystem  Enable AI system
+    */
+    public ALFuture<Void> _enableAISystemAsync(Boolean enableAISystem) throws CallError {
+        return ALFuture.of(service().<Void>call("_enableAISystem", enableAISystem));
     }
 
     /**
@@ -1199,9 +2260,19 @@ public class ALDialog extends ALModule {
     */
     public void _enableStrategySwitch(Boolean enableSwitch) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_enableStrategySwitch", enableSwitch);
+            service().call("_enableStrategySwitch", enableSwitch);
         else
-            service.call("_enableStrategySwitch", enableSwitch).get();
+            service().call("_enableStrategySwitch", enableSwitch).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_enableStrategySwitch}.
+    * Enable Strategy Switch when loose internet connection
+    * 
+    * @param enableSwitch  enable switch
+    */
+    public ALFuture<Void> _enableStrategySwitchAsync(Boolean enableSwitch) throws CallError {
+        return ALFuture.of(service().<Void>call("_enableStrategySwitch", enableSwitch));
     }
 
     /**
@@ -1213,9 +2284,21 @@ public class ALDialog extends ALModule {
     */
     public void _loadPrecompiledFile(String filepath, String bundleName, String language) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_loadPrecompiledFile", filepath, bundleName, language);
+            service().call("_loadPrecompiledFile", filepath, bundleName, language);
         else
-            service.call("_loadPrecompiledFile", filepath, bundleName, language).get();
+            service().call("_loadPrecompiledFile", filepath, bundleName, language).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_loadPrecompiledFile}.
+    * Load precompiled file
+    * 
+    * @param filepath  File path and filename
+    * @param bundleName  Bundle name
+    * @param language  Language name
+    */
+    public ALFuture<Void> _loadPrecompiledFileAsync(String filepath, String bundleName, String language) throws CallError {
+        return ALFuture.of(service().<Void>call("_loadPrecompiledFile", filepath, bundleName, language));
     }
 
     /**
@@ -1226,9 +2309,20 @@ public class ALDialog extends ALModule {
     */
     public void _loadSLM(String SLMFile, String language) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_loadSLM", SLMFile, language);
+            service().call("_loadSLM", SLMFile, language);
         else
-            service.call("_loadSLM", SLMFile, language).get();
+            service().call("_loadSLM", SLMFile, language).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_loadSLM}.
+    * Load SLM
+    * 
+    * @param SLMFile  SLM path and filename
+    * @param language  Language name
+    */
+    public ALFuture<Void> _loadSLMAsync(String SLMFile, String language) throws CallError {
+        return ALFuture.of(service().<Void>call("_loadSLM", SLMFile, language));
     }
 
     /**
@@ -1238,7 +2332,18 @@ public class ALDialog extends ALModule {
     * @return List of loaded topics
     */
     public List<String> getLoadedTopics(String language) throws CallError, InterruptedException {
-        return (List<String>)service.call("getLoadedTopics", language).get();
+        return (List<String>)service().call("getLoadedTopics", language).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getLoadedTopics}.
+    * List loaded topics
+    * 
+    * @param language  Language name
+    * @return List of loaded topics
+    */
+    public ALFuture<List<String>> getLoadedTopicsAsync(String language) throws CallError {
+        return ALFuture.of(service().<List<String>>call("getLoadedTopics", language));
     }
 
     /**
@@ -1247,7 +2352,17 @@ public class ALDialog extends ALModule {
     * @return List of loaded topics
     */
     public List<String> getAllLoadedTopics() throws CallError, InterruptedException {
-        return (List<String>)service.call("getAllLoadedTopics").get();
+        return (List<String>)service().call("getAllLoadedTopics").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getAllLoadedTopics}.
+    * List loaded topics independent of language
+    * 
+    * @return List of loaded topics
+    */
+    public ALFuture<List<String>> getAllLoadedTopicsAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getAllLoadedTopics"));
     }
 
     /**
@@ -1256,7 +2371,17 @@ public class ALDialog extends ALModule {
     * @return List of activated topics
     */
     public List<String> getActivatedTopics() throws CallError, InterruptedException {
-        return (List<String>)service.call("getActivatedTopics").get();
+        return (List<String>)service().call("getActivatedTopics").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getActivatedTopics}.
+    * Get activated topics
+    * 
+    * @return List of activated topics
+    */
+    public ALFuture<List<String>> getActivatedTopicsAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getActivatedTopics"));
     }
 
     /**
@@ -1266,9 +2391,19 @@ public class ALDialog extends ALModule {
     */
     public void _setBehaviorEvent(String Event) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setBehaviorEvent", Event);
+            service().call("_setBehaviorEvent", Event);
         else
-            service.call("_setBehaviorEvent", Event).get();
+            service().call("_setBehaviorEvent", Event).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setBehaviorEvent}.
+    * fast behavior start
+    * 
+    * @param Event  Event name
+    */
+    public ALFuture<Void> _setBehaviorEventAsync(String Event) throws CallError {
+        return ALFuture.of(service().<Void>call("_setBehaviorEvent", Event));
     }
 
     /**
@@ -1278,9 +2413,19 @@ public class ALDialog extends ALModule {
     */
     public void _fastModelActivation(Boolean enable) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_fastModelActivation", enable);
+            service().call("_fastModelActivation", enable);
         else
-            service.call("_fastModelActivation", enable).get();
+            service().call("_fastModelActivation", enable).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_fastModelActivation}.
+    * triggers and proposal are activated in the model at compilation time
+    * 
+    * @param enable  Enable fast activation
+    */
+    public ALFuture<Void> _fastModelActivationAsync(Boolean enable) throws CallError {
+        return ALFuture.of(service().<Void>call("_fastModelActivation", enable));
     }
 
     /**
@@ -1290,9 +2435,19 @@ public class ALDialog extends ALModule {
     */
     public void _byPassFastApproximateMatching(Boolean fastApproximative) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_byPassFastApproximateMatching", fastApproximative);
+            service().call("_byPassFastApproximateMatching", fastApproximative);
         else
-            service.call("_byPassFastApproximateMatching", fastApproximative).get();
+            service().call("_byPassFastApproximateMatching", fastApproximative).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_byPassFastApproximateMatching}.
+    * byPass fast approximative matching
+    * 
+    * @param fastApproximative  enable fast approximative matching
+    */
+    public ALFuture<Void> _byPassFastApproximateMatchingAsync(Boolean fastApproximative) throws CallError {
+        return ALFuture.of(service().<Void>call("_byPassFastApproximateMatching", fastApproximative));
     }
 
     /**
@@ -1303,9 +2458,20 @@ public class ALDialog extends ALModule {
     */
     public void activateTag(String tagName, String topicName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("activateTag", tagName, topicName);
+            service().call("activateTag", tagName, topicName);
         else
-            service.call("activateTag", tagName, topicName).get();
+            service().call("activateTag", tagName, topicName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #activateTag}.
+    * activate a tag
+    * 
+    * @param tagName  tag name
+    * @param topicName  topic name
+    */
+    public ALFuture<Void> activateTagAsync(String tagName, String topicName) throws CallError {
+        return ALFuture.of(service().<Void>call("activateTag", tagName, topicName));
     }
 
     /**
@@ -1316,9 +2482,20 @@ public class ALDialog extends ALModule {
     */
     public void deactivateTag(String tagName, String topicName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("deactivateTag", tagName, topicName);
+            service().call("deactivateTag", tagName, topicName);
         else
-            service.call("deactivateTag", tagName, topicName).get();
+            service().call("deactivateTag", tagName, topicName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #deactivateTag}.
+    * deactivate a tag
+    * 
+    * @param tagName  tag name
+    * @param topicName  topic name
+    */
+    public ALFuture<Void> deactivateTagAsync(String tagName, String topicName) throws CallError {
+        return ALFuture.of(service().<Void>call("deactivateTag", tagName, topicName));
     }
 
     /**
@@ -1328,18 +2505,38 @@ public class ALDialog extends ALModule {
     * @param Language  Language
     */
     public String _fallback(String Question, String Language) throws CallError, InterruptedException {
-        return (String)service.call("_fallback", Question, Language).get();
+        return (String)service().call("_fallback", Question, Language).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_fallback}.
+    * fallback (experimentatl)
+    * 
+    * @param Question  User question
+    * @param Language  Language
+    */
+    public ALFuture<String> _fallbackAsync(String Question, String Language) throws CallError {
+        return ALFuture.of(service().<String>call("_fallback", Question, Language));
+    }
+
+    /**
+    * Reset all engine
+    * 
+    */
+    public void resetAll() throws CallError, InterruptedException{
+        if (isAsynchronous)
+            service().call("resetAll");
+        else
+            service().call("resetAll").get();
     }
 
     /**
+    * Asynchronous version of {@link #resetAll}.
     * Reset all engine
     * 
     */
-    public void resetAll() throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("resetAll");
-        else
-            service.call("resetAll").get();
+    public ALFuture<Void> resetAllAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("resetAll"));
     }
 
     /**
@@ -1351,9 +2548,21 @@ public class ALDialog extends ALModule {
     */
     public void insertUserData(String variableName, String variableValue, Integer UserID) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("insertUserData", variableName, variableValue, UserID);
+            service().call("insertUserData", variableName, variableValue, UserID);
         else
-            service.call("insertUserData", variableName, variableValue, UserID).get();
+            service().call("insertUserData", variableName, variableValue, UserID).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #insertUserData}.
+    * insert user data into dialog database
+    * 
+    * @param variableName  Variable name
+    * @param variableValue  Variable value
+    * @param UserID  User ID
+    */
+    public ALFuture<Void> insertUserDataAsync(String variableName, String variableValue, Integer UserID) throws CallError {
+        return ALFuture.of(service().<Void>call("insertUserData", variableName, variableValue, UserID));
     }
 
     /**
@@ -1364,7 +2573,19 @@ public class ALDialog extends ALModule {
     * @return Value
     */
     public String getUserData(String variableName, Integer UserID) throws CallError, InterruptedException {
-        return (String)service.call("getUserData", variableName, UserID).get();
+        return (String)service().call("getUserData", variableName, UserID).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUserData}.
+    * get user data from dialog database
+    * 
+    * @param variableName  Variable name
+    * @param UserID  User ID
+    * @return Value
+    */
+    public ALFuture<String> getUserDataAsync(String variableName, Integer UserID) throws CallError {
+        return ALFuture.of(service().<String>call("getUserData", variableName, UserID));
     }
 
     /**
@@ -1374,7 +2595,18 @@ public class ALDialog extends ALModule {
     * @return Variable list
     */
     public List<String> getUserDataList(Integer UserID) throws CallError, InterruptedException {
-        return (List<String>)service.call("getUserDataList", UserID).get();
+        return (List<String>)service().call("getUserDataList", UserID).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUserDataList}.
+    * get user data list from dialog database
+    * 
+    * @param UserID  User ID
+    * @return Variable list
+    */
+    public ALFuture<List<String>> getUserDataListAsync(Integer UserID) throws CallError {
+        return ALFuture.of(service().<List<String>>call("getUserDataList", UserID));
     }
 
     /**
@@ -1383,7 +2615,37 @@ public class ALDialog extends ALModule {
     * @return User list
     */
     public List<Integer> getUserList() throws CallError, InterruptedException {
-        return (List<Integer>)service.call("getUserList").get();
+        return (List<Integer>)service().call("getUserList").get();
+    }
+
+    /**
+    * Primitive version of {@link #getUserList}, values are returned unboxed.
+    * get user list from dialog database
+    * 
+    * @return User list
+    */
+    public int[] getUserListI() throws CallError, InterruptedException {
+        return toIntArray((List<Integer>)service().call("getUserList").get());
+    }
+
+    /**
+    * Primitive version of {@link #getUserList}, values are written into dst and their count is returned.
+    * get user list from dialog database
+    * 
+    * @return User list
+    */
+    public int getUserListInto(int[] dst) throws CallError, InterruptedException {
+        return copyInto((List<Integer>)service().call("getUserList").get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #getUserList}.
+    * get user list from dialog database
+    * 
+    * @return User list
+    */
+    public ALFuture<List<Integer>> getUserListAsync() throws CallError {
+        return ALFuture.of(service().<List<Integer>>call("getUserList"));
     }
 
     /**
@@ -1393,9 +2655,19 @@ public class ALDialog extends ALModule {
     */
     public void removeUserData(Integer UserID) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("removeUserData", UserID);
+            service().call("removeUserData", UserID);
         else
-            service.call("removeUserData", UserID).get();
+            service().call("removeUserData", UserID).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #removeUserData}.
+    * remove a user from the database
+    * 
+    * @param UserID  User ID
+    */
+    public ALFuture<Void> removeUserDataAsync(Integer UserID) throws CallError {
+        return ALFuture.of(service().<Void>call("removeUserData", UserID));
     }
 
     /**
@@ -1404,9 +2676,18 @@ public class ALDialog extends ALModule {
     */
     public void clearConcepts() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearConcepts");
+            service().call("clearConcepts");
         else
-            service.call("clearConcepts").get();
+            service().call("clearConcepts").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearConcepts}.
+    * clear concepts in DB
+    * 
+    */
+    public ALFuture<Void> clearConceptsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearConcepts"));
     }
 
     /**
@@ -1416,9 +2697,19 @@ public class ALDialog extends ALModule {
     */
     public void enableSendingLogToCloud(Boolean EnableLog) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("enableSendingLogToCloud", EnableLog);
+            service().call("enableSendingLogToCloud", EnableLog);
         else
-            service.call("enableSendingLogToCloud", EnableLog).get();
+            service().call("enableSendingLogToCloud", EnableLog).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #enableSendingLogToCloud}.
+    * let the robot send log the cloud
+    * 
+    * @param EnableLog  Enable log
+    */
+    public ALFuture<Void> enableSendingLogToCloudAsync(Boolean EnableLog) throws CallError {
+        return ALFuture.of(service().<Void>call("enableSendingLogToCloud", EnableLog));
     }
 
     /**
@@ -1428,9 +2719,19 @@ public class ALDialog extends ALModule {
     */
     public void _encryptLog(Boolean EnableLog) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_encryptLog", EnableLog);
+            service().call("_encryptLog", EnableLog);
         else
-            service.call("_encryptLog", EnableLog).get();
+            service().call("_encryptLog", EnableLog).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_encryptLog}.
+    * encrypt the logs sent tothe cloud
+    * 
+    * @param EnableLog  Remove user log
+    */
+    public ALFuture<Void> _encryptLogAsync(Boolean EnableLog) throws CallError {
+        return ALFuture.of(service().<Void>call("_encryptLog", EnableLog));
     }
 
     /**
@@ -1439,7 +2740,17 @@ public class ALDialog extends ALModule {
     * @return True if currently logging
     */
     public Boolean isSendingLogToCloud() throws CallError, InterruptedException {
-        return (Boolean)service.call("isSendingLogToCloud").get();
+        return (Boolean)service().call("isSendingLogToCloud").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isSendingLogToCloud}.
+    * check if the robot is sending the log to the cloud
+    * 
+    * @return True if currently logging
+    */
+    public ALFuture<Boolean> isSendingLogToCloudAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isSendingLogToCloud"));
     }
 
     /**
@@ -1448,7 +2759,17 @@ public class ALDialog extends ALModule {
     * @return True if currently encrypt logging
     */
     public Boolean _isEncryptingLog() throws CallError, InterruptedException {
-        return (Boolean)service.call("_isEncryptingLog").get();
+        return (Boolean)service().call("_isEncryptingLog").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_isEncryptingLog}.
+    * check if the robot is encrypting the log sent to the cloud
+    * 
+    * @return True if currently encrypt logging
+    */
+    public ALFuture<Boolean> _isEncryptingLogAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("_isEncryptingLog"));
     }
 
     /**
@@ -1457,9 +2778,18 @@ public class ALDialog extends ALModule {
     */
     public void enableLogAudio(Boolean param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("enableLogAudio", param1);
+            service().call("enableLogAudio", param1);
         else
-            service.call("enableLogAudio", param1).get();
+            service().call("enableLogAudio", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #enableLogAudio}.
+    * enable sending log audio (recorded conversation) to the cloud
+    * 
+    */
+    public ALFuture<Void> enableLogAudioAsync(Boolean param1) throws CallError {
+        return ALFuture.of(service().<Void>call("enableLogAudio", param1));
     }
 
     /**
@@ -1469,9 +2799,19 @@ public class ALDialog extends ALModule {
     */
     public void _setDeletionCost(Float MatchingDeletionCost) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setDeletionCost", MatchingDeletionCost);
+            service().call("_setDeletionCost", MatchingDeletionCost);
         else
-            service.call("_setDeletionCost", MatchingDeletionCost).get();
+            service().call("_setDeletionCost", MatchingDeletionCost).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setDeletionCost}.
+    * The deletion cost (deleting from the sentence to match the model)
+    * 
+    * @param MatchingDeletionCost  Deletion cost
+    */
+    public ALFuture<Void> _setDeletionCostAsync(Float MatchingDeletionCost) throws CallError {
+        return ALFuture.of(service().<Void>call("_setDeletionCost", MatchingDeletionCost));
     }
 
     /**
@@ -1481,9 +2821,19 @@ public class ALDialog extends ALModule {
     */
     public void _setInsertionCost(Float MatchingInsertCost) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setInsertionCost", MatchingInsertCost);
+            service().call("_setInsertionCost", MatchingInsertCost);
         else
-            service.call("_setInsertionCost", MatchingInsertCost).get();
+            service().call("_setInsertionCost", MatchingInsertCost).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setInsertionCost}.
+    * The insertion cost (inserting in the sentence to match the model)
+    * 
+    * @param MatchingInsertCost  Insert cost
+    */
+    public ALFuture<Void> _setInsertionCostAsync(Float MatchingInsertCost) throws CallError {
+        return ALFuture.of(service().<Void>call("_setInsertionCost", MatchingInsertCost));
     }
 
     /**
@@ -1493,9 +2843,19 @@ public class ALDialog extends ALModule {
     */
     public void _setSubstitutionCost(Float MatchingSubstitutionCost) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setSubstitutionCost", MatchingSubstitutionCost);
+            service().call("_setSubstitutionCost", MatchingSubstitutionCost);
         else
-            service.call("_setSubstitutionCost", MatchingSubstitutionCost).get();
+            service().call("_setSubstitutionCost", MatchingSubstitutionCost).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setSubstitutionCost}.
+    * The substitution cost
+    * 
+    * @param MatchingSubstitutionCost  Substitution cost
+    */
+    public ALFuture<Void> _setSubstitutionCostAsync(Float MatchingSubstitutionCost) throws CallError {
+        return ALFuture.of(service().<Void>call("_setSubstitutionCost", MatchingSubstitutionCost));
     }
 
     /**
@@ -1505,9 +2865,19 @@ public class ALDialog extends ALModule {
     */
     public void _setStarCost(Float MatchingStarCost) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setStarCost", MatchingStarCost);
+            service().call("_setStarCost", MatchingStarCost);
         else
-            service.call("_setStarCost", MatchingStarCost).get();
+            service().call("_setStarCost", MatchingStarCost).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setStarCost}.
+    * The cost of matching an open element (such as _*)
+    * 
+    * @param MatchingStarCost  Wildcard cost
+    */
+    public ALFuture<Void> _setStarCostAsync(Float MatchingStarCost) throws CallError {
+        return ALFuture.of(service().<Void>call("_setStarCost", MatchingStarCost));
     }
 
     /**
@@ -1517,9 +2887,19 @@ public class ALDialog extends ALModule {
     */
     public void _setApproximateMatchingThreshold(Float MatchingThreshold) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setApproximateMatchingThreshold", MatchingThreshold);
+            service().call("_setApproximateMatchingThreshold", MatchingThreshold);
         else
-            service.call("_setApproximateMatchingThreshold", MatchingThreshold).get();
+            service().call("_setApproximateMatchingThreshold", MatchingThreshold).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setApproximateMatchingThreshold}.
+    * The approximate matching threshold
+    * 
+    * @param MatchingThreshold  Matching threshold
+    */
+    public ALFuture<Void> _setApproximateMatchingThresholdAsync(Float MatchingThreshold) throws CallError {
+        return ALFuture.of(service().<Void>call("_setApproximateMatchingThreshold", MatchingThreshold));
     }
 
     /**
@@ -1529,9 +2909,19 @@ public class ALDialog extends ALModule {
     */
     public void _useAcrobaticMatching(Boolean EnableAccrobatic) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_useAcrobaticMatching", EnableAccrobatic);
+            service().call("_useAcrobaticMatching", EnableAccrobatic);
         else
-            service.call("_useAcrobaticMatching", EnableAccrobatic).get();
+            service().call("_useAcrobaticMatching", EnableAccrobatic).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_useAcrobaticMatching}.
+    * Tell to the model to use acrobatic matching
+    * 
+    * @param EnableAccrobatic  Enable accrobatic matching
+    */
+    public ALFuture<Void> _useAcrobaticMatchingAsync(Boolean EnableAccrobatic) throws CallError {
+        return ALFuture.of(service().<Void>call("_useAcrobaticMatching", EnableAccrobatic));
     }
 
     /**
@@ -1541,9 +2931,19 @@ public class ALDialog extends ALModule {
     */
     public void _enableStatisticalMatching(Boolean EnableSemantic) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_enableStatisticalMatching", EnableSemantic);
+            service().call("_enableStatisticalMatching", EnableSemantic);
         else
-            service.call("_enableStatisticalMatching", EnableSemantic).get();
+            service().call("_enableStatisticalMatching", EnableSemantic).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_enableStatisticalMatching}.
+    * Tell to the model to use statistical matching
+    * 
+    * @param EnableSemantic  Enable semantic matching
+    */
+    public ALFuture<Void> _enableStatisticalMatchingAsync(Boolean EnableSemantic) throws CallError {
+        return ALFuture.of(service().<Void>call("_enableStatisticalMatching", EnableSemantic));
     }
 
     /**
@@ -1553,9 +2953,19 @@ public class ALDialog extends ALModule {
     */
     public void _enablePhoneticMatching(Boolean EnablePhonetic) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_enablePhoneticMatching", EnablePhonetic);
+            service().call("_enablePhoneticMatching", EnablePhonetic);
         else
-            service.call("_enablePhoneticMatching", EnablePhonetic).get();
+            service().call("_enablePhoneticMatching", EnablePhonetic).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_enablePhoneticMatching}.
+    * Tell to the model to use phonetic matching
+    * 
+    * @param EnablePhonetic  Enable phonetic matching
+    */
+    public ALFuture<Void> _enablePhoneticMatchingAsync(Boolean EnablePhonetic) throws CallError {
+        return ALFuture.of(service().<Void>call("_enablePhoneticMatching", EnablePhonetic));
     }
 
     /**
@@ -1565,9 +2975,19 @@ public class ALDialog extends ALModule {
     */
     public void _setSemanticModel(String semanticPath, String param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setSemanticModel", semanticPath, param1);
+            service().call("_setSemanticModel", semanticPath, param1);
         else
-            service.call("_setSemanticModel", semanticPath, param1).get();
+            service().call("_setSemanticModel", semanticPath, param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setSemanticModel}.
+    * Specify the directory and language of the statistical model
+    * 
+    * @param semanticPath  Semantic matching data path
+    */
+    public ALFuture<Void> _setSemanticModelAsync(String semanticPath, String param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_setSemanticModel", semanticPath, param1));
     }
 
     /**
@@ -1576,7 +2996,17 @@ public class ALDialog extends ALModule {
     * @return Enable only one speech recognition
     */
     public Boolean _isOnePassEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("_isOnePassEnabled").get();
+        return (Boolean)service().call("_isOnePassEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_isOnePassEnabled}.
+    * Is one pass enabled
+    * 
+    * @return Enable only one speech recognition
+    */
+    public ALFuture<Boolean> _isOnePassEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("_isOnePassEnabled"));
     }
 
     /**
@@ -1586,9 +3016,19 @@ public class ALDialog extends ALModule {
     */
     public void _setSLMUpperThreshold(Float SLMUpper) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setSLMUpperThreshold", SLMUpper);
+            service().call("_setSLMUpperThreshold", SLMUpper);
         else
-            service.call("_setSLMUpperThreshold", SLMUpper).get();
+            service().call("_setSLMUpperThreshold", SLMUpper).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setSLMUpperThreshold}.
+    * set SLM High treshold
+    * 
+    * @param SLMUpper  SLM Upper Threshold
+    */
+    public ALFuture<Void> _setSLMUpperThresholdAsync(Float SLMUpper) throws CallError {
+        return ALFuture.of(service().<Void>call("_setSLMUpperThreshold", SLMUpper));
     }
 
     /**
@@ -1598,9 +3038,19 @@ public class ALDialog extends ALModule {
     */
     public void _enableSerialization(Boolean enableSerialization) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_enableSerialization", enableSerialization);
+            service().call("_enableSerialization", enableSerialization);
         else
-            service.call("_enableSerialization", enableSerialization).get();
+            service().call("_enableSerialization", enableSerialization).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_enableSerialization}.
+    * enable use of serialized models
+    * 
+    * @param enableSerialization  Enable serialization
+    */
+    public ALFuture<Void> _enableSerializationAsync(Boolean enableSerialization) throws CallError {
+        return ALFuture.of(service().<Void>call("_enableSerialization", enableSerialization));
     }
 
     /**
@@ -1609,9 +3059,18 @@ public class ALDialog extends ALModule {
     */
     public void deleteSerializationFiles() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("deleteSerializationFiles");
+            service().call("deleteSerializationFiles");
         else
-            service.call("deleteSerializationFiles").get();
+            service().call("deleteSerializationFiles").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #deleteSerializationFiles}.
+    * delete serializations files .ser .ini .bnf .lcf
+    * 
+    */
+    public ALFuture<Void> deleteSerializationFilesAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("deleteSerializationFiles"));
     }
 
     /**
@@ -1621,9 +3080,19 @@ public class ALDialog extends ALModule {
     */
     public void _copyInputConcepts(Boolean copyInput) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_copyInputConcepts", copyInput);
+            service().call("_copyInputConcepts", copyInput);
         else
-            service.call("_copyInputConcepts", copyInput).get();
+            service().call("_copyInputConcepts", copyInput).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_copyInputConcepts}.
+    * Set if the input concepts are copied
+    * 
+    * @param copyInput  False to optimize
+    */
+    public ALFuture<Void> _copyInputConceptsAsync(Boolean copyInput) throws CallError {
+        return ALFuture.of(service().<Void>call("_copyInputConcepts", copyInput));
     }
 
     /**
@@ -1633,9 +3102,19 @@ public class ALDialog extends ALModule {
     */
     public void _copyOutputConcepts(Boolean copyOutput) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_copyOutputConcepts", copyOutput);
+            service().call("_copyOutputConcepts", copyOutput);
         else
-            service.call("_copyOutputConcepts", copyOutput).get();
+            service().call("_copyOutputConcepts", copyOutput).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_copyOutputConcepts}.
+    * Set if the input concepts are copied
+    * 
+    * @param copyOutput  False to optimize
+    */
+    public ALFuture<Void> _copyOutputConceptsAsync(Boolean copyOutput) throws CallError {
+        return ALFuture.of(service().<Void>call("_copyOutputConcepts", copyOutput));
     }
 
     /**
@@ -1647,9 +3126,21 @@ public class ALDialog extends ALModule {
     */
     public void generateSentences(String destination, String topic, String language) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("generateSentences", destination, topic, language);
+            service().call("generateSentences", destination, topic, language);
         else
-            service.call("generateSentences", destination, topic, language).get();
+            service().call("generateSentences", destination, topic, language).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #generateSentences}.
+    * Generate sentences
+    * 
+    * @param destination  file destination
+    * @param topic  source topic
+    * @param language  source language
+    */
+    public ALFuture<Void> generateSentencesAsync(String destination, String topic, String language) throws CallError {
+        return ALFuture.of(service().<Void>call("generateSentences", destination, topic, language));
     }
 
     /**
@@ -1659,9 +3150,19 @@ public class ALDialog extends ALModule {
     */
     public void _setLengthForAfterStarOptimization(Integer length) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setLengthForAfterStarOptimization", length);
+            service().call("_setLengthForAfterStarOptimization", length);
         else
-            service.call("_setLengthForAfterStarOptimization", length).get();
+            service().call("_setLengthForAfterStarOptimization", length).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setLengthForAfterStarOptimization}.
+    * Set the sentence length to apply -after star optimization- in matching
+    * 
+    * @param length  set length
+    */
+    public ALFuture<Void> _setLengthForAfterStarOptimizationAsync(Integer length) throws CallError {
+        return ALFuture.of(service().<Void>call("_setLengthForAfterStarOptimization", length));
     }
 
     /**
@@ -1671,9 +3172,19 @@ public class ALDialog extends ALModule {
     */
     public void _setLengthForBeforeStarOptimization(Integer length) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setLengthForBeforeStarOptimization", length);
+            service().call("_setLengthForBeforeStarOptimization", length);
         else
-            service.call("_setLengthForBeforeStarOptimization", length).get();
+            service().call("_setLengthForBeforeStarOptimization", length).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setLengthForBeforeStarOptimization}.
+    * Set the sentence length to apply -before star optimization- in matching
+    * 
+    * @param length  set length
+    */
+    public ALFuture<Void> _setLengthForBeforeStarOptimizationAsync(Integer length) throws CallError {
+        return ALFuture.of(service().<Void>call("_setLengthForBeforeStarOptimization", length));
     }
 
     /**
@@ -1685,9 +3196,21 @@ public class ALDialog extends ALModule {
     */
     public void _onUserSessionFocused(String param1, java.lang.Object param2, String param3) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onUserSessionFocused", param1, param2, param3);
+            service().call("_onUserSessionFocused", param1, param2, param3);
         else
-            service.call("_onUserSessionFocused", param1, param2, param3).get();
+            service().call("_onUserSessionFocused", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onUserSessionFocused}.
+    * 
+    * 
+    * @param   
+    * @param   
+    * @param   
+    */
+    public ALFuture<Void> _onUserSessionFocusedAsync(String param1, java.lang.Object param2, String param3) throws CallError {
+        return ALFuture.of(service().<Void>call("_onUserSessionFocused", param1, param2, param3));
     }
 
     /**
@@ -1698,7 +3221,19 @@ public class ALDialog extends ALModule {
     * @param   
     */
     public java.lang.Object _us_getUserData(String param1, String param2, String param3) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_us_getUserData", param1, param2, param3).get();
+        return (java.lang.Object)service().call("_us_getUserData", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_us_getUserData}.
+    * 
+    * 
+    * @param   
+    * @param   
+    * @param   
+    */
+    public ALFuture<java.lang.Object> _us_getUserDataAsync(String param1, String param2, String param3) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_us_getUserData", param1, param2, param3));
     }
 
     /**
@@ -1708,9 +3243,19 @@ public class ALDialog extends ALModule {
     */
     public void _setUserSessionObeyed(Boolean is_obeyed) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setUserSessionObeyed", is_obeyed);
+            service().call("_setUserSessionObeyed", is_obeyed);
         else
-            service.call("_setUserSessionObeyed", is_obeyed).get();
+            service().call("_setUserSessionObeyed", is_obeyed).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setUserSessionObeyed}.
+    * Query if dialog sessions are controlled by ALUserSession
+    * 
+    * @param is_obeyed  Bool. True if dialog should open/close sessions according to ALUserSession
+    */
+    public ALFuture<Void> _setUserSessionObeyedAsync(Boolean is_obeyed) throws CallError {
+        return ALFuture.of(service().<Void>call("_setUserSessionObeyed", is_obeyed));
     }
 
     /**
@@ -1719,7 +3264,17 @@ public class ALDialog extends ALModule {
     * @return Bool. True if dialog will open/close sessions according to ALUserSession
     */
     public Boolean _isUserSessionObeyed() throws CallError, InterruptedException {
-        return (Boolean)service.call("_isUserSessionObeyed").get();
+        return (Boolean)service().call("_isUserSessionObeyed").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_isUserSessionObeyed}.
+    * Query if dialog sessions are controlled by ALUserSession
+    * 
+    * @return Bool. True if dialog will open/close sessions according to ALUserSession
+    */
+    public ALFuture<Boolean> _isUserSessionObeyedAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("_isUserSessionObeyed"));
     }
 
 }
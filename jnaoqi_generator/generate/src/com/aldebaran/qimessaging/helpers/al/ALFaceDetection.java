@@ -2,7 +2,10 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
+import com.aldebaran.qimessaging.helpers.event.ALEvent;
+import com.aldebaran.qimessaging.helpers.event.FaceDetected;
 import java.util.List;
 import java.util.Map;
 import com.aldebaran.qimessaging.*;
@@ -14,6 +17,11 @@ import java.util.List;
  */
 public class ALFaceDetection extends ALModule {
 
+    /**
+    * Raised for every processed image holding faces, then once empty when they are lost.
+    */
+    public static final ALEvent<FaceDetected> FACE_DETECTED = new ALEvent<FaceDetected>("FaceDetected", FaceDetected.DECODER);
+
     public ALFaceDetection(Session session) {
         super(session);
     }
@@ -24,7 +32,17 @@ public class ALFaceDetection extends ALModule {
     * @return Current value of the resolution of the extractor
     */
     public Integer getResolution() throws CallError, InterruptedException {
-        return (Integer)service.call("getResolution").get();
+        return (Integer)service().call("getResolution").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getResolution}.
+    * Gets extractor resolution
+    * 
+    * @return Current value of the resolution of the extractor
+    */
+    public ALFuture<Integer> getResolutionAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("getResolution"));
     }
 
     /**
@@ -33,9 +51,18 @@ public class ALFaceDetection extends ALModule {
     */
     public void _run() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_run");
+            service().call("_run");
         else
-            service.call("_run").get();
+            service().call("_run").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_run}.
+    * 
+    * 
+    */
+    public ALFuture<Void> _runAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_run"));
     }
 
     /**
@@ -45,7 +72,18 @@ public class ALFaceDetection extends ALModule {
     * @return True if the update succeeded, False if not
     */
     public Boolean setResolution(Integer resolution) throws CallError, InterruptedException {
-        return (Boolean)service.call("setResolution", resolution).get();
+        return (Boolean)service().call("setResolution", resolution).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setResolution}.
+    * Sets extractor resolution
+    * 
+    * @param resolution  New resolution
+    * @return True if the update succeeded, False if not
+    */
+    public ALFuture<Boolean> setResolutionAsync(Integer resolution) throws CallError {
+        return ALFuture.of(service().<Boolean>call("setResolution", resolution));
     }
 
     /**
@@ -55,9 +93,19 @@ public class ALFaceDetection extends ALModule {
     */
     public void setRecognitionEnabled(Boolean enable) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setRecognitionEnabled", enable);
+            service().call("setRecognitionEnabled", enable);
         else
-            service.call("setRecognitionEnabled", enable).get();
+            service().call("setRecognitionEnabled", enable).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setRecognitionEnabled}.
+    * enable/disable the recognition stageProcess will be faster when disabled when you don't need to recognize people
+    * 
+    * @param enable  True/False
+    */
+    public ALFuture<Void> setRecognitionEnabledAsync(Boolean enable) throws CallError {
+        return ALFuture.of(service().<Void>call("setRecognitionEnabled", enable));
     }
 
     /**
@@ -66,7 +114,17 @@ public class ALFaceDetection extends ALModule {
     * @return True/False
     */
     public Boolean isRecognitionEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isRecognitionEnabled").get();
+        return (Boolean)service().call("isRecognitionEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRecognitionEnabled}.
+    * Returns if recognition is enabled.
+    * 
+    * @return True/False
+    */
+    public ALFuture<Boolean> isRecognitionEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRecognitionEnabled"));
     }
 
     /**
@@ -77,9 +135,20 @@ public class ALFaceDetection extends ALModule {
     */
     public void setParameter(String paramName, java.lang.Object value) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setParameter", paramName, value);
+            service().call("setParameter", paramName, value);
         else
-            service.call("setParameter", paramName, value).get();
+            service().call("setParameter", paramName, value).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setParameter}.
+    * DEPRECATED: Sets pause and resolution
+    * 
+    * @param paramName  Name of the parameter to set
+    * @param value  New value
+    */
+    public ALFuture<Void> setParameterAsync(String paramName, java.lang.Object value) throws CallError {
+        return ALFuture.of(service().<Void>call("setParameter", paramName, value));
     }
 
     /**
@@ -89,9 +158,19 @@ public class ALFaceDetection extends ALModule {
     */
     public void setTrackingEnabled(Boolean enable) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setTrackingEnabled", enable);
+            service().call("setTrackingEnabled", enable);
         else
-            service.call("setTrackingEnabled", enable).get();
+            service().call("setTrackingEnabled", enable).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setTrackingEnabled}.
+    * (BETA) Choose to enable or disable tracking. Enabling tracking usually allows you to follow a face for a longer period of time. However, it can lead to more false detections. 
+    * 
+    * @param enable  True/False
+    */
+    public ALFuture<Void> setTrackingEnabledAsync(Boolean enable) throws CallError {
+        return ALFuture.of(service().<Void>call("setTrackingEnabled", enable));
     }
 
     /**
@@ -100,7 +179,17 @@ public class ALFaceDetection extends ALModule {
     * @return True/False
     */
     public Boolean isTrackingEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTrackingEnabled").get();
+        return (Boolean)service().call("isTrackingEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTrackingEnabled}.
+    * (BETA) Returns if tracking is enabled.
+    * 
+    * @return True/False
+    */
+    public ALFuture<Boolean> isTrackingEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTrackingEnabled"));
     }
 
     /**
@@ -110,7 +199,18 @@ public class ALFaceDetection extends ALModule {
     * @return true if the operation succeeds
     */
     public Boolean learnFace(String pId) throws CallError, InterruptedException {
-        return (Boolean)service.call("learnFace", pId).get();
+        return (Boolean)service().call("learnFace", pId).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #learnFace}.
+    * Add a new face in the database.
+    * 
+    * @param pId  The name of the person to save
+    * @return true if the operation succeeds
+    */
+    public ALFuture<Boolean> learnFaceAsync(String pId) throws CallError {
+        return ALFuture.of(service().<Boolean>call("learnFace", pId));
     }
 
     /**
@@ -120,7 +220,18 @@ public class ALFaceDetection extends ALModule {
     * @return true if the operation succeeds
     */
     public Boolean reLearnFace(String pId) throws CallError, InterruptedException {
-        return (Boolean)service.call("reLearnFace", pId).get();
+        return (Boolean)service().call("reLearnFace", pId).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #reLearnFace}.
+    * use in a new learning process the latest images where a face has been wrongly recognized 
+    * 
+    * @param pId  The name of the person to save
+    * @return true if the operation succeeds
+    */
+    public ALFuture<Boolean> reLearnFaceAsync(String pId) throws CallError {
+        return ALFuture.of(service().<Boolean>call("reLearnFace", pId));
     }
 
     /**
@@ -130,7 +241,18 @@ public class ALFaceDetection extends ALModule {
     * @return true if the operation succeeds
     */
     public Boolean forgetPerson(String pId) throws CallError, InterruptedException {
-        return (Boolean)service.call("forgetPerson", pId).get();
+        return (Boolean)service().call("forgetPerson", pId).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #forgetPerson}.
+    * Delete from the database all faces instances of a person.
+    * 
+    * @param pId  The name of the person to forget
+    * @return true if the operation succeeds
+    */
+    public ALFuture<Boolean> forgetPersonAsync(String pId) throws CallError {
+        return ALFuture.of(service().<Boolean>call("forgetPerson", pId));
     }
 
     /**
@@ -139,7 +261,17 @@ public class ALFaceDetection extends ALModule {
     * @return Current value of the framerate of the extractor
     */
     public Integer getFrameRate() throws CallError, InterruptedException {
-        return (Integer)service.call("getFrameRate").get();
+        return (Integer)service().call("getFrameRate").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getFrameRate}.
+    * Gets extractor framerate
+    * 
+    * @return Current value of the framerate of the extractor
+    */
+    public ALFuture<Integer> getFrameRateAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("getFrameRate"));
     }
 
     /**
@@ -148,7 +280,17 @@ public class ALFaceDetection extends ALModule {
     * @return current mode of deteciton (0, 1, 2 or 3)
     */
     public Integer _getDetectionMode() throws CallError, InterruptedException {
-        return (Integer)service.call("_getDetectionMode").get();
+        return (Integer)service().call("_getDetectionMode").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getDetectionMode}.
+    * Returns the current mode of detection
+    * 
+    * @return current mode of deteciton (0, 1, 2 or 3)
+    */
+    public ALFuture<Integer> _getDetectionModeAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("_getDetectionMode"));
     }
 
     /**
@@ -157,7 +299,17 @@ public class ALFaceDetection extends ALModule {
     * @return True/False
     */
     public Boolean _isFaceAnalysisEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("_isFaceAnalysisEnabled").get();
+        return (Boolean)service().call("_isFaceAnalysisEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_isFaceAnalysisEnabled}.
+    * Returns the current face analysis state
+    * 
+    * @return True/False
+    */
+    public ALFuture<Boolean> _isFaceAnalysisEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("_isFaceAnalysisEnabled"));
     }
 
     /**
@@ -167,9 +319,19 @@ public class ALFaceDetection extends ALModule {
     */
     public void _setFaceAnalysisEnabled(Boolean enabled) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setFaceAnalysisEnabled", enabled);
+            service().call("_setFaceAnalysisEnabled", enabled);
         else
-            service.call("_setFaceAnalysisEnabled", enabled).get();
+            service().call("_setFaceAnalysisEnabled", enabled).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setFaceAnalysisEnabled}.
+    * Enables or disables the full face analysis
+    * 
+    * @param enabled  True to enable, False to disable
+    */
+    public ALFuture<Void> _setFaceAnalysisEnabledAsync(Boolean enabled) throws CallError {
+        return ALFuture.of(service().<Void>call("_setFaceAnalysisEnabled", enabled));
     }
 
     /**
@@ -183,7 +345,22 @@ It can be either:
     * @return True if the import succeeded, false otherwise.
     */
     public Boolean importOldDatabase(String policy) throws CallError, InterruptedException {
-        return (Boolean)service.call("importOldDatabase", policy).get();
+        return (Boolean)service().call("importOldDatabase", policy).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #importOldDatabase}.
+    * Imports the content of an old face reco DB
+    * 
+    * @param policy  Merging policy if an imported entry has the same name as an existing one.
+It can be either:
+"overwrite" to replace the existing entry by the imported one,
+"merge" to merge data from both entries (if they don't relate to the same person, face recognition may fail),
+"keep" to keep the existing entry and skip the imported one.
+    * @return True if the import succeeded, false otherwise.
+    */
+    public ALFuture<Boolean> importOldDatabaseAsync(String policy) throws CallError {
+        return ALFuture.of(service().<Boolean>call("importOldDatabase", policy));
     }
 
     /**
@@ -192,7 +369,17 @@ It can be either:
     * @return List of names
     */
     public java.lang.Object getLearnedFacesList() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getLearnedFacesList").get();
+        return (java.lang.Object)service().call("getLearnedFacesList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getLearnedFacesList}.
+    * Returns the list of learned faces.
+    * 
+    * @return List of names
+    */
+    public ALFuture<java.lang.Object> getLearnedFacesListAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getLearnedFacesList"));
     }
 
     /**
@@ -201,7 +388,17 @@ It can be either:
     * @return Id of the current active camera of the extractor
     */
     public Integer getActiveCamera() throws CallError, InterruptedException {
-        return (Integer)service.call("getActiveCamera").get();
+        return (Integer)service().call("getActiveCamera").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getActiveCamera}.
+    * Gets extractor active camera
+    * 
+    * @return Id of the current active camera of the extractor
+    */
+    public ALFuture<Integer> getActiveCameraAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("getActiveCamera"));
     }
 
     /**
@@ -210,7 +407,17 @@ It can be either:
     * @return True if the extractor is paused, False if not
     */
     public Boolean isPaused() throws CallError, InterruptedException {
-        return (Boolean)service.call("isPaused").get();
+        return (Boolean)service().call("isPaused").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isPaused}.
+    * Gets extractor pause status
+    * 
+    * @return True if the extractor is paused, False if not
+    */
+    public ALFuture<Boolean> isPausedAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isPaused"));
     }
 
     /**
@@ -220,7 +427,18 @@ It can be either:
     * @return True if the update succeeded, False if not
     */
     public Boolean setActiveCamera(Integer cameraId) throws CallError, InterruptedException {
-        return (Boolean)service.call("setActiveCamera", cameraId).get();
+        return (Boolean)service().call("setActiveCamera", cameraId).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setActiveCamera}.
+    * Sets extractor active camera
+    * 
+    * @param cameraId  Id of the camera that will become the active camera
+    * @return True if the update succeeded, False if not
+    */
+    public ALFuture<Boolean> setActiveCameraAsync(Integer cameraId) throws CallError {
+        return ALFuture.of(service().<Boolean>call("setActiveCamera", cameraId));
     }
 
     /**
@@ -229,7 +447,17 @@ It can be either:
     * @return True if the extractor is currently processing images, False if not
     */
     public Boolean isProcessing() throws CallError, InterruptedException {
-        return (Boolean)service.call("isProcessing").get();
+        return (Boolean)service().call("isProcessing").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isProcessing}.
+    * Gets extractor running status
+    * 
+    * @return True if the extractor is currently processing images, False if not
+    */
+    public ALFuture<Boolean> isProcessingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isProcessing"));
     }
 
     /**
@@ -239,9 +467,19 @@ It can be either:
     */
     public void pause(Boolean paused) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("pause", paused);
+            service().call("pause", paused);
         else
-            service.call("pause", paused).get();
+            service().call("pause", paused).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #pause}.
+    * Changes the pause status of the extractor
+    * 
+    * @param paused  New pause satus
+    */
+    public ALFuture<Void> pauseAsync(Boolean paused) throws CallError {
+        return ALFuture.of(service().<Void>call("pause", paused));
     }
 
     /**
@@ -250,9 +488,18 @@ It can be either:
     */
     public void enableRecognition(Boolean param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("enableRecognition", param1);
+            service().call("enableRecognition", param1);
         else
-            service.call("enableRecognition", param1).get();
+            service().call("enableRecognition", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #enableRecognition}.
+    * deprecated
+    * 
+    */
+    public ALFuture<Void> enableRecognitionAsync(Boolean param1) throws CallError {
+        return ALFuture.of(service().<Void>call("enableRecognition", param1));
     }
 
     /**
@@ -261,7 +508,17 @@ It can be either:
     * @return true if the operation succeeds
     */
     public Boolean clearDatabase() throws CallError, InterruptedException {
-        return (Boolean)service.call("clearDatabase").get();
+        return (Boolean)service().call("clearDatabase").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearDatabase}.
+    * Remove all faces from the database.
+    * 
+    * @return true if the operation succeeds
+    */
+    public ALFuture<Boolean> clearDatabaseAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("clearDatabase"));
     }
 
     /**
@@ -270,9 +527,18 @@ It can be either:
     */
     public void enableTracking(Boolean param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("enableTracking", param1);
+            service().call("enableTracking", param1);
         else
-            service.call("enableTracking", param1).get();
+            service().call("enableTracking", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #enableTracking}.
+    * deprecated
+    * 
+    */
+    public ALFuture<Void> enableTrackingAsync(Boolean param1) throws CallError {
+        return ALFuture.of(service().<Void>call("enableTracking", param1));
     }
 
     /**
@@ -280,7 +546,16 @@ It can be either:
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -289,9 +564,18 @@ It can be either:
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -299,7 +583,16 @@ It can be either:
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -308,9 +601,18 @@ It can be either:
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -319,7 +621,17 @@ It can be either:
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -328,7 +640,17 @@ It can be either:
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -337,7 +659,17 @@ It can be either:
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -347,7 +679,18 @@ It can be either:
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -356,7 +699,17 @@ It can be either:
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -367,7 +720,19 @@ It can be either:
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -377,7 +742,18 @@ It can be either:
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -387,9 +763,19 @@ It can be either:
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -398,7 +784,17 @@ It can be either:
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -408,7 +804,18 @@ It can be either:
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -419,10 +826,24 @@ It can be either:
     * @param precision  Precision of the extractor if relevant.
     */
     public void subscribe(String name, Integer period, Float precision) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("subscribe", name, period, precision);
-        else
-            service.call("subscribe", name, period, precision).get();
+        if (isAsynchronous) {
+            recordSubscription(ALFuture.of(service().<Void>call("subscribe", name, period, precision)), "unsubscribe", name);
+            return;
+        }
+        service().call("subscribe", name, period, precision).get();
+        recordSubscription("unsubscribe", name);
+    }
+
+    /**
+    * Asynchronous version of {@link #subscribe}.
+    * Subscribes to the extractor. This causes the extractor to start writing information to memory using the keys described by getOutputNames(). These can be accessed in memory using ALMemory.getData("keyName"). In many cases you can avoid calling subscribe on the extractor by just calling ALMemory.subscribeToEvent() supplying a callback method. This will automatically subscribe to the extractor for you.
+    * 
+    * @param name  Name of the module which subscribes.
+    * @param period  Refresh period (in milliseconds) if relevant.
+    * @param precision  Precision of the extractor if relevant.
+    */
+    public ALFuture<Void> subscribeAsync(String name, Integer period, Float precision) throws CallError {
+        return recordSubscription(ALFuture.of(service().<Void>call("subscribe", name, period, precision)), "unsubscribe", name);
     }
 
     /**
@@ -431,10 +852,22 @@ It can be either:
     * @param name  Name of the module which subscribes.
     */
     public void subscribe(String name) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("subscribe", name);
-        else
-            service.call("subscribe", name).get();
+        if (isAsynchronous) {
+            recordSubscription(ALFuture.of(service().<Void>call("subscribe", name)), "unsubscribe", name);
+            return;
+        }
+        service().call("subscribe", name).get();
+        recordSubscription("unsubscribe", name);
+    }
+
+    /**
+    * Asynchronous version of {@link #subscribe}.
+    * Subscribes to the extractor. This causes the extractor to start writing information to memory using the keys described by getOutputNames(). These can be accessed in memory using ALMemory.getData("keyName"). In many cases you can avoid calling subscribe on the extractor by just calling ALMemory.subscribeToEvent() supplying a callback method. This will automatically subscribe to the extractor for you.
+    * 
+    * @param name  Name of the module which subscribes.
+    */
+    public ALFuture<Void> subscribeAsync(String name) throws CallError {
+        return recordSubscription(ALFuture.of(service().<Void>call("subscribe", name)), "unsubscribe", name);
     }
 
     /**
@@ -443,10 +876,22 @@ It can be either:
     * @param name  Name of the module which had subscribed.
     */
     public void unsubscribe(String name) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("unsubscribe", name);
-        else
-            service.call("unsubscribe", name).get();
+        if (isAsynchronous) {
+            forgetSubscription(ALFuture.of(service().<Void>call("unsubscribe", name)), "unsubscribe", name);
+            return;
+        }
+        service().call("unsubscribe", name).get();
+        forgetSubscription("unsubscribe", name);
+    }
+
+    /**
+    * Asynchronous version of {@link #unsubscribe}.
+    * Unsubscribes from the extractor.
+    * 
+    * @param name  Name of the module which had subscribed.
+    */
+    public ALFuture<Void> unsubscribeAsync(String name) throws CallError {
+        return forgetSubscription(ALFuture.of(service().<Void>call("unsubscribe", name)), "unsubscribe", name);
     }
 
     /**
@@ -457,9 +902,20 @@ It can be either:
     */
     public void updatePeriod(String name, Integer period) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("updatePeriod", name, period);
+            service().call("updatePeriod", name, period);
         else
-            service.call("updatePeriod", name, period).get();
+            service().call("updatePeriod", name, period).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #updatePeriod}.
+    * Updates the period if relevant.
+    * 
+    * @param name  Name of the module which has subscribed.
+    * @param period  Refresh period (in milliseconds).
+    */
+    public ALFuture<Void> updatePeriodAsync(String name, Integer period) throws CallError {
+        return ALFuture.of(service().<Void>call("updatePeriod", name, period));
     }
 
     /**
@@ -470,9 +926,20 @@ It can be either:
     */
     public void updatePrecision(String name, Float precision) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("updatePrecision", name, precision);
+            service().call("updatePrecision", name, precision);
         else
-            service.call("updatePrecision", name, precision).get();
+            service().call("updatePrecision", name, precision).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #updatePrecision}.
+    * Updates the precision if relevant.
+    * 
+    * @param name  Name of the module which has subscribed.
+    * @param precision  Precision of the extractor.
+    */
+    public ALFuture<Void> updatePrecisionAsync(String name, Float precision) throws CallError {
+        return ALFuture.of(service().<Void>call("updatePrecision", name, precision));
     }
 
     /**
@@ -481,7 +948,17 @@ It can be either:
     * @return Refresh period (in milliseconds).
     */
     public Integer getCurrentPeriod() throws CallError, InterruptedException {
-        return (Integer)service.call("getCurrentPeriod").get();
+        return (Integer)service().call("getCurrentPeriod").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getCurrentPeriod}.
+    * Gets the current period.
+    * 
+    * @return Refresh period (in milliseconds).
+    */
+    public ALFuture<Integer> getCurrentPeriodAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("getCurrentPeriod"));
     }
 
     /**
@@ -490,7 +967,17 @@ It can be either:
     * @return Precision of the extractor.
     */
     public Float getCurrentPrecision() throws CallError, InterruptedException {
-        return (Float)service.call("getCurrentPrecision").get();
+        return (Float)service().call("getCurrentPrecision").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getCurrentPrecision}.
+    * Gets the current precision.
+    * 
+    * @return Precision of the extractor.
+    */
+    public ALFuture<Float> getCurrentPrecisionAsync() throws CallError {
+        return ALFuture.of(service().<Float>call("getCurrentPrecision"));
     }
 
     /**
@@ -500,7 +987,18 @@ It can be either:
     * @return Refresh period (in milliseconds).
     */
     public Integer getMyPeriod(String name) throws CallError, InterruptedException {
-        return (Integer)service.call("getMyPeriod", name).get();
+        return (Integer)service().call("getMyPeriod", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMyPeriod}.
+    * Gets the period for a specific subscription.
+    * 
+    * @param name  Name of the module which has subscribed.
+    * @return Refresh period (in milliseconds).
+    */
+    public ALFuture<Integer> getMyPeriodAsync(String name) throws CallError {
+        return ALFuture.of(service().<Integer>call("getMyPeriod", name));
     }
 
     /**
@@ -510,7 +1008,18 @@ It can be either:
     * @return precision of the extractor
     */
     public Float getMyPrecision(String name) throws CallError, InterruptedException {
-        return (Float)service.call("getMyPrecision", name).get();
+        return (Float)service().call("getMyPrecision", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMyPrecision}.
+    * Gets the precision for a specific subscription.
+    * 
+    * @param name  name of the module which has subscribed
+    * @return precision of the extractor
+    */
+    public ALFuture<Float> getMyPrecisionAsync(String name) throws CallError {
+        return ALFuture.of(service().<Float>call("getMyPrecision", name));
     }
 
     /**
@@ -519,7 +1028,17 @@ It can be either:
     * @return Array of names and parameters of all subscribers.
     */
     public java.lang.Object getSubscribersInfo() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getSubscribersInfo").get();
+        return (java.lang.Object)service().call("getSubscribersInfo").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getSubscribersInfo}.
+    * Gets the parameters given by the module.
+    * 
+    * @return Array of names and parameters of all subscribers.
+    */
+    public ALFuture<java.lang.Object> getSubscribersInfoAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getSubscribersInfo"));
     }
 
     /**
@@ -528,7 +1047,17 @@ It can be either:
     * @return Array of values updated by this extractor in ALMemory
     */
     public List<String> getOutputNames() throws CallError, InterruptedException {
-        return (List<String>)service.call("getOutputNames").get();
+        return (List<String>)service().call("getOutputNames").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getOutputNames}.
+    * Get the list of values updated in ALMemory.
+    * 
+    * @return Array of values updated by this extractor in ALMemory
+    */
+    public ALFuture<List<String>> getOutputNamesAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getOutputNames"));
     }
 
     /**
@@ -537,7 +1066,17 @@ It can be either:
     * @return Array of events updated by this extractor in ALMemory
     */
     public List<String> getEventList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getEventList").get();
+        return (List<String>)service().call("getEventList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getEventList}.
+    * Get the list of events updated in ALMemory.
+    * 
+    * @return Array of events updated by this extractor in ALMemory
+    */
+    public ALFuture<List<String>> getEventListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getEventList"));
     }
 
     /**
@@ -546,7 +1085,17 @@ It can be either:
     * @return Array of events updated by this extractor in ALMemory
     */
     public List<String> getMemoryKeyList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMemoryKeyList").get();
+        return (List<String>)service().call("getMemoryKeyList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMemoryKeyList}.
+    * Get the list of events updated in ALMemory.
+    * 
+    * @return Array of events updated by this extractor in ALMemory
+    */
+    public ALFuture<List<String>> getMemoryKeyListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMemoryKeyList"));
     }
 
     /**
@@ -557,7 +1106,19 @@ It can be either:
     * @return True if the update succeeded, False if not
     */
     public Boolean setFrameRate(String subscriberName, Integer framerate) throws CallError, InterruptedException {
-        return (Boolean)service.call("setFrameRate", subscriberName, framerate).get();
+        return (Boolean)service().call("setFrameRate", subscriberName, framerate).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setFrameRate}.
+    * Sets the extractor framerate for a chosen subscriber
+    * 
+    * @param subscriberName  Name of the subcriber
+    * @param framerate  New framerate
+    * @return True if the update succeeded, False if not
+    */
+    public ALFuture<Boolean> setFrameRateAsync(String subscriberName, Integer framerate) throws CallError {
+        return ALFuture.of(service().<Boolean>call("setFrameRate", subscriberName, framerate));
     }
 
     /**
@@ -567,7 +1128,18 @@ It can be either:
     * @return True if the update succeeded, False if not
     */
     public Boolean setFrameRate(Integer framerate) throws CallError, InterruptedException {
-        return (Boolean)service.call("setFrameRate", framerate).get();
+        return (Boolean)service().call("setFrameRate", framerate).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setFrameRate}.
+    * Sets the extractor framerate for all the subscribers
+    * 
+    * @param framerate  New framerate
+    * @return True if the update succeeded, False if not
+    */
+    public ALFuture<Boolean> setFrameRateAsync(Integer framerate) throws CallError {
+        return ALFuture.of(service().<Boolean>call("setFrameRate", framerate));
     }
 
 }
@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -23,7 +24,16 @@ public class ALFaceTracker extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -32,9 +42,18 @@ public class ALFaceTracker extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -42,7 +61,16 @@ public class ALFaceTracker extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -51,9 +79,18 @@ public class ALFaceTracker extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -62,7 +99,17 @@ public class ALFaceTracker extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -71,7 +118,17 @@ public class ALFaceTracker extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -80,7 +137,17 @@ public class ALFaceTracker extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -90,7 +157,18 @@ public class ALFaceTracker extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -99,7 +177,17 @@ public class ALFaceTracker extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -110,7 +198,19 @@ public class ALFaceTracker extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -120,7 +220,18 @@ public class ALFaceTracker extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -130,9 +241,19 @@ public class ALFaceTracker extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -141,7 +262,17 @@ public class ALFaceTracker extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -151,7 +282,18 @@ public class ALFaceTracker extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -164,9 +306,22 @@ NOTE: Stiffness of Head must be set to 1.0 to move!
     */
     public void startTracker() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("startTracker");
+            service().call("startTracker");
         else
-            service.call("startTracker").get();
+            service().call("startTracker").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #startTracker}.
+    * Start the tracker by Subscribing to Event FaceDetected from ALFaceDetection module.
+Then Wait Event FaceDetected from ALFaceDetection module.
+And finally send information to motion for head tracking.
+NOTE: Stiffness of Head must be set to 1.0 to move! 
+
+    * 
+    */
+    public ALFuture<Void> startTrackerAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("startTracker"));
     }
 
     /**
@@ -176,9 +331,19 @@ NOTE: Stiffness of Head must be set to 1.0 to move!
     */
     public void stopTracker() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stopTracker");
+            service().call("stopTracker");
         else
-            service.call("stopTracker").get();
+            service().call("stopTracker").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stopTracker}.
+    * Stop the tracker by Unsubscribing to Event FaceDetected from ALFaceDetection module.
+
+    * 
+    */
+    public ALFuture<Void> stopTrackerAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("stopTracker"));
     }
 
     /**
@@ -188,7 +353,40 @@ NOTE: Stiffness of Head must be set to 1.0 to move!
     * @return An Array containing the face position [x, y, z].
     */
     public List<Float> getPosition() throws CallError, InterruptedException {
-        return (List<Float>)service.call("getPosition").get();
+        return (List<Float>)service().call("getPosition").get();
+    }
+
+    /**
+    * Primitive version of {@link #getPosition}, values are returned unboxed.
+    * Return the [x, y, z] position of the face in FRAME_TORSO. This is done assuming an average face size, so it might not be very accurate.
+ This invalidates the isNewData field of the tracker. See isNewData()) for more details.
+    * 
+    * @return An Array containing the face position [x, y, z].
+    */
+    public float[] getPositionF() throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("getPosition").get());
+    }
+
+    /**
+    * Primitive version of {@link #getPosition}, values are written into dst and their count is returned.
+    * Return the [x, y, z] position of the face in FRAME_TORSO. This is done assuming an average face size, so it might not be very accurate.
+ This invalidates the isNewData field of the tracker. See isNewData()) for more details.
+    * 
+    * @return An Array containing the face position [x, y, z].
+    */
+    public int getPositionInto(float[] dst) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("getPosition").get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #getPosition}.
+    * Return the [x, y, z] position of the face in FRAME_TORSO. This is done assuming an average face size, so it might not be very accurate.
+ This invalidates the isNewData field of the tracker. See isNewData()) for more details.
+    * 
+    * @return An Array containing the face position [x, y, z].
+    */
+    public ALFuture<List<Float>> getPositionAsync() throws CallError {
+        return ALFuture.of(service().<List<Float>>call("getPosition"));
     }
 
     /**
@@ -198,7 +396,18 @@ NOTE: Stiffness of Head must be set to 1.0 to move!
     * @return true if a new face was detected since the last getPosition().
     */
     public Boolean isNewData() throws CallError, InterruptedException {
-        return (Boolean)service.call("isNewData").get();
+        return (Boolean)service().call("isNewData").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isNewData}.
+    * Return true if a new face was detected since the last getPosition().
+
+    * 
+    * @return true if a new face was detected since the last getPosition().
+    */
+    public ALFuture<Boolean> isNewDataAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isNewData"));
     }
 
     /**
@@ -208,7 +417,18 @@ NOTE: Stiffness of Head must be set to 1.0 to move!
     * @return true if the face Tracker is running.
     */
     public Boolean isActive() throws CallError, InterruptedException {
-        return (Boolean)service.call("isActive").get();
+        return (Boolean)service().call("isActive").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isActive}.
+    * Return true if the face Tracker is running.
+
+    * 
+    * @return true if the face Tracker is running.
+    */
+    public ALFuture<Boolean> isActiveAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isActive"));
     }
 
     /**
@@ -219,9 +439,20 @@ NOTE: Stiffness of Head must be set to 1.0 to move!
     */
     public void setWholeBodyOn(Boolean pWholeBodyOn) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setWholeBodyOn", pWholeBodyOn);
+            service().call("setWholeBodyOn", pWholeBodyOn);
         else
-            service.call("setWholeBodyOn", pWholeBodyOn).get();
+            service().call("setWholeBodyOn", pWholeBodyOn).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setWholeBodyOn}.
+    * if true, the tracking will be through a Whole Body Process.
+
+    * 
+    * @param pWholeBodyOn  The whole Body state
+    */
+    public ALFuture<Void> setWholeBodyOnAsync(Boolean pWholeBodyOn) throws CallError {
+        return ALFuture.of(service().<Void>call("setWholeBodyOn", pWholeBodyOn));
     }
 
     /**
@@ -230,9 +461,18 @@ NOTE: Stiffness of Head must be set to 1.0 to move!
     */
     public void _onFaceDetected(String param1, java.lang.Object param2, String param3) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onFaceDetected", param1, param2, param3);
+            service().call("_onFaceDetected", param1, param2, param3);
         else
-            service.call("_onFaceDetected", param1, param2, param3).get();
+            service().call("_onFaceDetected", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onFaceDetected}.
+    * Called by Memory when a face is detected
+    * 
+    */
+    public ALFuture<Void> _onFaceDetectedAsync(String param1, java.lang.Object param2, String param3) throws CallError {
+        return ALFuture.of(service().<Void>call("_onFaceDetected", param1, param2, param3));
     }
 
 }
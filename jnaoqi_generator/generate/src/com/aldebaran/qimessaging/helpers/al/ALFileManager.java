@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -23,7 +24,16 @@ public class ALFileManager extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -32,9 +42,18 @@ public class ALFileManager extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -42,7 +61,16 @@ public class ALFileManager extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -51,9 +79,18 @@ public class ALFileManager extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -62,7 +99,17 @@ public class ALFileManager extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -71,7 +118,17 @@ public class ALFileManager extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -80,7 +137,17 @@ public class ALFileManager extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -90,7 +157,18 @@ public class ALFileManager extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -99,7 +177,17 @@ public class ALFileManager extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -110,7 +198,19 @@ public class ALFileManager extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -120,7 +220,18 @@ public class ALFileManager extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -130,9 +241,19 @@ public class ALFileManager extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -141,7 +262,17 @@ public class ALFileManager extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -151,7 +282,18 @@ public class ALFileManager extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -161,9 +303,19 @@ public class ALFileManager extends ALModule {
     */
     public void setUserSharedFolderPath(String fileName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setUserSharedFolderPath", fileName);
+            service().call("setUserSharedFolderPath", fileName);
         else
-            service.call("setUserSharedFolderPath", fileName).get();
+            service().call("setUserSharedFolderPath", fileName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setUserSharedFolderPath}.
+    * Set a new value of the user shared folder path.
+    * 
+    * @param fileName  Name of the module associate to the preference.
+    */
+    public ALFuture<Void> setUserSharedFolderPathAsync(String fileName) throws CallError {
+        return ALFuture.of(service().<Void>call("setUserSharedFolderPath", fileName));
     }
 
     /**
@@ -172,7 +324,17 @@ public class ALFileManager extends ALModule {
     * @return User shared folder path string.
     */
     public String getUserSharedFolderPath() throws CallError, InterruptedException {
-        return (String)service.call("getUserSharedFolderPath").get();
+        return (String)service().call("getUserSharedFolderPath").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUserSharedFolderPath}.
+    * Get the current user shared folder path.
+    * 
+    * @return User shared folder path string.
+    */
+    public ALFuture<String> getUserSharedFolderPathAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getUserSharedFolderPath"));
     }
 
     /**
@@ -181,7 +343,17 @@ public class ALFileManager extends ALModule {
     * @return System shared folder path string.
     */
     public String getSystemSharedFolderPath() throws CallError, InterruptedException {
-        return (String)service.call("getSystemSharedFolderPath").get();
+        return (String)service().call("getSystemSharedFolderPath").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getSystemSharedFolderPath}.
+    * Get the current system shared folder path.
+    * 
+    * @return System shared folder path string.
+    */
+    public ALFuture<String> getSystemSharedFolderPathAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getSystemSharedFolderPath"));
     }
 
     /**
@@ -191,7 +363,18 @@ public class ALFileManager extends ALModule {
     * @return True upon success
     */
     public Boolean fileExists(String fileName) throws CallError, InterruptedException {
-        return (Boolean)service.call("fileExists", fileName).get();
+        return (Boolean)service().call("fileExists", fileName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #fileExists}.
+    * Try to find if this file does exist on robot or not.
+    * 
+    * @param fileName  Name of the module associate to the preference.
+    * @return True upon success
+    */
+    public ALFuture<Boolean> fileExistsAsync(String fileName) throws CallError {
+        return ALFuture.of(service().<Boolean>call("fileExists", fileName));
     }
 
     /**
@@ -201,7 +384,18 @@ public class ALFileManager extends ALModule {
     * @return True upon success
     */
     public Boolean dataFileExists(String fileName) throws CallError, InterruptedException {
-        return (Boolean)service.call("dataFileExists", fileName).get();
+        return (Boolean)service().call("dataFileExists", fileName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #dataFileExists}.
+    * Try to find if this file does exist on robot or not.
+    * 
+    * @param fileName  Name of the module associate to the preference.
+    * @return True upon success
+    */
+    public ALFuture<Boolean> dataFileExistsAsync(String fileName) throws CallError {
+        return ALFuture.of(service().<Boolean>call("dataFileExists", fileName));
     }
 
     /**
@@ -211,7 +405,18 @@ public class ALFileManager extends ALModule {
     * @return True upon success
     */
     public String getFileCompletePath(String prefs) throws CallError, InterruptedException {
-        return (String)service.call("getFileCompletePath", prefs).get();
+        return (String)service().call("getFileCompletePath", prefs).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getFileCompletePath}.
+    * Returns the complete path of the file if it does exist. Starts by looking in user's shared folder, then in system folder.
+    * 
+    * @param prefs  array reprenting the whole file.
+    * @return True upon success
+    */
+    public ALFuture<String> getFileCompletePathAsync(String prefs) throws CallError {
+        return ALFuture.of(service().<String>call("getFileCompletePath", prefs));
     }
 
     /**
@@ -221,7 +426,18 @@ public class ALFileManager extends ALModule {
     * @return True upon success
     */
     public java.lang.Object getFileContents(String prefs) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getFileContents", prefs).get();
+        return (java.lang.Object)service().call("getFileContents", prefs).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getFileContents}.
+    * Returns the complete path of the file if it does exist. Starts by looking in user's shared folder, then in system folder.
+    * 
+    * @param prefs  array reprenting the whole file.
+    * @return True upon success
+    */
+    public ALFuture<java.lang.Object> getFileContentsAsync(String prefs) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getFileContents", prefs));
     }
 
     /**
@@ -230,7 +446,17 @@ public class ALFileManager extends ALModule {
     * @return The behaviors path, as an UTF-8 encoded string.
     */
     public String _getBehaviorsPath() throws CallError, InterruptedException {
-        return (String)service.call("_getBehaviorsPath").get();
+        return (String)service().call("_getBehaviorsPath").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getBehaviorsPath}.
+    * Returns the path to the directory where behaviors are stored on the robot.
+    * 
+    * @return The behaviors path, as an UTF-8 encoded string.
+    */
+    public ALFuture<String> _getBehaviorsPathAsync() throws CallError {
+        return ALFuture.of(service().<String>call("_getBehaviorsPath"));
     }
 
     /**
@@ -239,7 +465,17 @@ public class ALFileManager extends ALModule {
     * @return The box libraries path, as an UTF-8 encoded string.
     */
     public String _getBoxLibrariesPath() throws CallError, InterruptedException {
-        return (String)service.call("_getBoxLibrariesPath").get();
+        return (String)service().call("_getBoxLibrariesPath").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getBoxLibrariesPath}.
+    * Returns the path to the directory where box libraries are stored on the robot.
+    * 
+    * @return The box libraries path, as an UTF-8 encoded string.
+    */
+    public ALFuture<String> _getBoxLibrariesPathAsync() throws CallError {
+        return ALFuture.of(service().<String>call("_getBoxLibrariesPath"));
     }
 
 }
@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -26,9 +27,20 @@ public class ALFrameManager extends ALModule {
     */
     public void gotoAndPlay(String id, String frame) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("gotoAndPlay", id, frame);
+            service().call("gotoAndPlay", id, frame);
         else
-            service.call("gotoAndPlay", id, frame).get();
+            service().call("gotoAndPlay", id, frame).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #gotoAndPlay}.
+    * Goes to a certain frame and continue playing. DEPRECATED since 1.14
+    * 
+    * @param id  The id of the box containing the box.
+    * @param frame  The behavior frame name we want the timeline to go to. If will jump to the starting index of the name given.
+    */
+    public ALFuture<Void> gotoAndPlayAsync(String id, String frame) throws CallError {
+        return ALFuture.of(service().<Void>call("gotoAndPlay", id, frame));
     }
 
     /**
@@ -39,7 +51,19 @@ public class ALFrameManager extends ALModule {
     * @return return a unique identifier for the created box, that can be used by playBehavior
     */
     public String _newBoxFromFile(String xmlFilePath, String path) throws CallError, InterruptedException {
-        return (String)service.call("_newBoxFromFile", xmlFilePath, path).get();
+        return (String)service().call("_newBoxFromFile", xmlFilePath, path).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_newBoxFromFile}.
+    * Creates a new box found in an xml file stored in the robot, without loading it, and without auto-delete on stop. (used by link box)
+    * 
+    * @param xmlFilePath  Path to Xml file, ex : "/home/youhou/mybehavior.xar".
+    * @param path  The path to reach the box to instantiate in the project ("" if root).
+    * @return return a unique identifier for the created box, that can be used by playBehavior
+    */
+    public ALFuture<String> _newBoxFromFileAsync(String xmlFilePath, String path) throws CallError {
+        return ALFuture.of(service().<String>call("_newBoxFromFile", xmlFilePath, path));
     }
 
     /**
@@ -49,7 +73,18 @@ public class ALFrameManager extends ALModule {
     * @return Returns the time in seconds.
     */
     public Float getMotionLength(String id) throws CallError, InterruptedException {
-        return (Float)service.call("getMotionLength", id).get();
+        return (Float)service().call("getMotionLength", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMotionLength}.
+    * Returns in seconds, the duration of a given movement stored in a box. Returns 0 if the behavior has no motion layers.  DEPRECATED since 1.14
+    * 
+    * @param id  The id of the box.
+    * @return Returns the time in seconds.
+    */
+    public ALFuture<Float> getMotionLengthAsync(String id) throws CallError {
+        return ALFuture.of(service().<Float>call("getMotionLength", id));
     }
 
     /**
@@ -61,9 +96,21 @@ public class ALFrameManager extends ALModule {
     */
     public void _onPreferenceUpdated(String key, java.lang.Object value, String message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onPreferenceUpdated", key, value, message);
+            service().call("_onPreferenceUpdated", key, value, message);
         else
-            service.call("_onPreferenceUpdated", key, value, message).get();
+            service().call("_onPreferenceUpdated", key, value, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onPreferenceUpdated}.
+    * callback for changes in the preference manager
+    * 
+    * @param key  ignored, used by ALMemory
+    * @param value  the domain and the key of the preference that changed
+    * @param message  ignored, used by ALMemory
+    */
+    public ALFuture<Void> _onPreferenceUpdatedAsync(String key, java.lang.Object value, String message) throws CallError {
+        return ALFuture.of(service().<Void>call("_onPreferenceUpdated", key, value, message));
     }
 
     /**
@@ -75,9 +122,21 @@ public class ALFrameManager extends ALModule {
     */
     public void _onPreferencesSynchronized(String key, java.lang.Object value, String message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onPreferencesSynchronized", key, value, message);
+            service().call("_onPreferencesSynchronized", key, value, message);
         else
-            service.call("_onPreferencesSynchronized", key, value, message).get();
+            service().call("_onPreferencesSynchronized", key, value, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onPreferencesSynchronized}.
+    * callback for changes in the preference manager
+    * 
+    * @param key  ignored, used by ALMemory
+    * @param value  the domain and the key of the preference that changed
+    * @param message  ignored, used by ALMemory
+    */
+    public ALFuture<Void> _onPreferencesSynchronizedAsync(String key, java.lang.Object value, String message) throws CallError {
+        return ALFuture.of(service().<Void>call("_onPreferencesSynchronized", key, value, message));
     }
 
     /**
@@ -88,9 +147,20 @@ public class ALFrameManager extends ALModule {
     */
     public void gotoAndStop(String id, String frame) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("gotoAndStop", id, frame);
+            service().call("gotoAndStop", id, frame);
         else
-            service.call("gotoAndStop", id, frame).get();
+            service().call("gotoAndStop", id, frame).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #gotoAndStop}.
+    * Goes to a certain frame and pause. DEPRECATED since 1.14
+    * 
+    * @param id  The id of the box containing the box.
+    * @param frame  The behavior frame name we want the timeline to go to. If will jump to the starting index of the name given.
+    */
+    public ALFuture<Void> gotoAndStopAsync(String id, String frame) throws CallError {
+        return ALFuture.of(service().<Void>call("gotoAndStop", id, frame));
     }
 
     /**
@@ -101,9 +171,20 @@ public class ALFrameManager extends ALModule {
     */
     public void gotoAndStop(String id, Integer frame) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("gotoAndStop", id, frame);
+            service().call("gotoAndStop", id, frame);
         else
-            service.call("gotoAndStop", id, frame).get();
+            service().call("gotoAndStop", id, frame).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #gotoAndStop}.
+    * Goes to a certain frame and pause. DEPRECATED since 1.14
+    * 
+    * @param id  The id of the box containing the box.
+    * @param frame  The frame we want the timeline to go to.
+    */
+    public ALFuture<Void> gotoAndStopAsync(String id, Integer frame) throws CallError {
+        return ALFuture.of(service().<Void>call("gotoAndStop", id, frame));
     }
 
     /**
@@ -114,9 +195,20 @@ public class ALFrameManager extends ALModule {
     */
     public void gotoAndPlay(String id, Integer frame) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("gotoAndPlay", id, frame);
+            service().call("gotoAndPlay", id, frame);
         else
-            service.call("gotoAndPlay", id, frame).get();
+            service().call("gotoAndPlay", id, frame).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #gotoAndPlay}.
+    * Goes to a certain frame and continue playing. DEPRECATED since 1.14
+    * 
+    * @param id  The id of the box containing the box.
+    * @param frame  The frame we want the timeline to go to.
+    */
+    public ALFuture<Void> gotoAndPlayAsync(String id, Integer frame) throws CallError {
+        return ALFuture.of(service().<Void>call("gotoAndPlay", id, frame));
     }
 
     /**
@@ -128,9 +220,21 @@ public class ALFrameManager extends ALModule {
     */
     public void _dataChanged(String dataName, java.lang.Object data, String message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_dataChanged", dataName, data, message);
+            service().call("_dataChanged", dataName, data, message);
         else
-            service.call("_dataChanged", dataName, data, message).get();
+            service().call("_dataChanged", dataName, data, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_dataChanged}.
+    * Called by ALMemory when subcription data is updated. INTERNAL
+    * 
+    * @param dataName  Name of the subscribed data.
+    * @param data  Value of the the subscribed data
+    * @param message  The message give when subscribing.
+    */
+    public ALFuture<Void> _dataChangedAsync(String dataName, java.lang.Object data, String message) throws CallError {
+        return ALFuture.of(service().<Void>call("_dataChanged", dataName, data, message));
     }
 
     /**
@@ -139,7 +243,17 @@ public class ALFrameManager extends ALModule {
     * @return a set listing all behavior ids
     */
     public List<String> behaviors() throws CallError, InterruptedException {
-        return (List<String>)service.call("behaviors").get();
+        return (List<String>)service().call("behaviors").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #behaviors}.
+    * List all behaviors currently handled by the frame manager.
+    * 
+    * @return a set listing all behavior ids
+    */
+    public ALFuture<List<String>> behaviorsAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("behaviors"));
     }
 
     /**
@@ -148,9 +262,18 @@ public class ALFrameManager extends ALModule {
     */
     public void _startBenchmark() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_startBenchmark");
+            service().call("_startBenchmark");
         else
-            service.call("_startBenchmark").get();
+            service().call("_startBenchmark").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_startBenchmark}.
+    * Start recording some performance data.
+    * 
+    */
+    public ALFuture<Void> _startBenchmarkAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_startBenchmark"));
     }
 
     /**
@@ -159,7 +282,17 @@ public class ALFrameManager extends ALModule {
     * @return Returns a textual report of the recorded performance data.
     */
     public String _stopBenchmark() throws CallError, InterruptedException {
-        return (String)service.call("_stopBenchmark").get();
+        return (String)service().call("_stopBenchmark").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_stopBenchmark}.
+    * Stop performance data recording, and return a summary.
+    * 
+    * @return Returns a textual report of the recorded performance data.
+    */
+    public ALFuture<String> _stopBenchmarkAsync() throws CallError {
+        return ALFuture.of(service().<String>call("_stopBenchmark"));
     }
 
     /**
@@ -169,9 +302,19 @@ public class ALFrameManager extends ALModule {
     */
     public void _waitForStopped(String fmid) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_waitForStopped", fmid);
+            service().call("_waitForStopped", fmid);
         else
-            service.call("_waitForStopped", fmid).get();
+            service().call("_waitForStopped", fmid).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_waitForStopped}.
+    * wait for a previously started behavior is stopped
+    * 
+    * @param fmid  the unique identifier of the behavior to wait for
+    */
+    public ALFuture<Void> _waitForStoppedAsync(String fmid) throws CallError {
+        return ALFuture.of(service().<Void>call("_waitForStopped", fmid));
     }
 
     /**
@@ -183,9 +326,21 @@ public class ALFrameManager extends ALModule {
     */
     public void _reportError(String fmid, String boxid, String error) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_reportError", fmid, boxid, error);
+            service().call("_reportError", fmid, boxid, error);
         else
-            service.call("_reportError", fmid, boxid, error).get();
+            service().call("_reportError", fmid, boxid, error).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_reportError}.
+    * called by behaviors when an error occured
+    * 
+    * @param fmid  the unique identifier of the behavior that failed
+    * @param boxid  the identifier of the box that failed
+    * @param error  the error message
+    */
+    public ALFuture<Void> _reportErrorAsync(String fmid, String boxid, String error) throws CallError {
+        return ALFuture.of(service().<Void>call("_reportError", fmid, boxid, error));
     }
 
     /**
@@ -193,7 +348,16 @@ public class ALFrameManager extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -202,9 +366,18 @@ public class ALFrameManager extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -212,7 +385,16 @@ public class ALFrameManager extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -221,9 +403,18 @@ public class ALFrameManager extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -232,7 +423,17 @@ public class ALFrameManager extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -241,7 +442,17 @@ public class ALFrameManager extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -250,7 +461,17 @@ public class ALFrameManager extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -260,7 +481,18 @@ public class ALFrameManager extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -269,7 +501,17 @@ public class ALFrameManager extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -280,7 +522,19 @@ public class ALFrameManager extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -290,7 +544,18 @@ public class ALFrameManager extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -300,9 +565,19 @@ public class ALFrameManager extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -311,7 +586,17 @@ public class ALFrameManager extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -321,7 +606,18 @@ public class ALFrameManager extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -332,7 +628,19 @@ public class ALFrameManager extends ALModule {
     * @return return a unique identifier for the created box, that can be used by playBehavior
     */
     public String newBehaviorFromFile(String xmlFilePath, String behName) throws CallError, InterruptedException {
-        return (String)service.call("newBehaviorFromFile", xmlFilePath, behName).get();
+        return (String)service().call("newBehaviorFromFile", xmlFilePath, behName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #newBehaviorFromFile}.
+    * Creates a new behavior, from a box found in an xml file stored in the robot.
+    * 
+    * @param xmlFilePath  Path to Xml file, ex : "/home/youhou/mybehavior.xar".
+    * @param behName  
+    * @return return a unique identifier for the created box, that can be used by playBehavior
+    */
+    public ALFuture<String> newBehaviorFromFileAsync(String xmlFilePath, String behName) throws CallError {
+        return ALFuture.of(service().<String>call("newBehaviorFromFile", xmlFilePath, behName));
     }
 
     /**
@@ -343,7 +651,19 @@ public class ALFrameManager extends ALModule {
     * @return return a unique identifier for the created box.
     */
     public String newBehavior(String path, String xmlFile) throws CallError, InterruptedException {
-        return (String)service.call("newBehavior", path, xmlFile).get();
+        return (String)service().call("newBehavior", path, xmlFile).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #newBehavior}.
+    * Creates a new behavior, from a box found in an xml file. Note that you have to give the xml file contents, so this method is not very user friendly. You have to open the file, and send the string that matches the file contents if you are working from a file. You probably want to use newBehaviorFromFile instead. DEPRECATED since 1.14
+    * 
+    * @param path  The path to reach the box to instantiate in the project ("" if root).
+    * @param xmlFile  The choregraphe project (in plain text for the moment).
+    * @return return a unique identifier for the created box.
+    */
+    public ALFuture<String> newBehaviorAsync(String path, String xmlFile) throws CallError {
+        return ALFuture.of(service().<String>call("newBehavior", path, xmlFile));
     }
 
     /**
@@ -352,7 +672,17 @@ public class ALFrameManager extends ALModule {
     * @return return a unique identifier for the created behavior
     */
     public String newBehaviorFromChoregraphe() throws CallError, InterruptedException {
-        return (String)service.call("newBehaviorFromChoregraphe").get();
+        return (String)service().call("newBehaviorFromChoregraphe").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #newBehaviorFromChoregraphe}.
+    * Creates a new behavior, from the current Choregraphe behavior 0(uploaded to /tmp/currentChoregrapheBehavior/behavior.xar). DEPRECATED since 1.14
+    * 
+    * @return return a unique identifier for the created behavior
+    */
+    public ALFuture<String> newBehaviorFromChoregrapheAsync() throws CallError {
+        return ALFuture.of(service().<String>call("newBehaviorFromChoregraphe"));
     }
 
     /**
@@ -362,9 +692,19 @@ public class ALFrameManager extends ALModule {
     */
     public void completeBehavior(String id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("completeBehavior", id);
+            service().call("completeBehavior", id);
         else
-            service.call("completeBehavior", id).get();
+            service().call("completeBehavior", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #completeBehavior}.
+    * It will play a behavior and block until the behavior is finished. Note that it can block forever if the behavior output is never called.
+    * 
+    * @param id  The id of the box.
+    */
+    public ALFuture<Void> completeBehaviorAsync(String id) throws CallError {
+        return ALFuture.of(service().<Void>call("completeBehavior", id));
     }
 
     /**
@@ -374,9 +714,19 @@ public class ALFrameManager extends ALModule {
     */
     public void deleteBehavior(String id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("deleteBehavior", id);
+            service().call("deleteBehavior", id);
         else
-            service.call("deleteBehavior", id).get();
+            service().call("deleteBehavior", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #deleteBehavior}.
+    * Deletes a behavior (meaning a box). Stop the whole behavior contained in this box first.
+    * 
+    * @param id  The id of the box to delete.
+    */
+    public ALFuture<Void> deleteBehaviorAsync(String id) throws CallError {
+        return ALFuture.of(service().<Void>call("deleteBehavior", id));
     }
 
     /**
@@ -386,9 +736,19 @@ public class ALFrameManager extends ALModule {
     */
     public void playBehavior(String id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("playBehavior", id);
+            service().call("playBehavior", id);
         else
-            service.call("playBehavior", id).get();
+            service().call("playBehavior", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #playBehavior}.
+    * Starts a behavior
+    * 
+    * @param id  The id of the box.
+    */
+    public ALFuture<Void> playBehaviorAsync(String id) throws CallError {
+        return ALFuture.of(service().<Void>call("playBehavior", id));
     }
 
     /**
@@ -398,9 +758,19 @@ public class ALFrameManager extends ALModule {
     */
     public void exitBehavior(String id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exitBehavior", id);
+            service().call("exitBehavior", id);
         else
-            service.call("exitBehavior", id).get();
+            service().call("exitBehavior", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exitBehavior}.
+    * Exit the reading of a timeline contained in a given box
+    * 
+    * @param id  The id of the box.
+    */
+    public ALFuture<Void> exitBehaviorAsync(String id) throws CallError {
+        return ALFuture.of(service().<Void>call("exitBehavior", id));
     }
 
     /**
@@ -410,7 +780,18 @@ public class ALFrameManager extends ALModule {
     * @return True if the behavior is running, false otherwise
     */
     public Boolean isBehaviorRunning(String id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isBehaviorRunning", id).get();
+        return (Boolean)service().call("isBehaviorRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isBehaviorRunning}.
+    * Tells whether the behavior is running
+    * 
+    * @param id  The id of the behavior to check
+    * @return True if the behavior is running, false otherwise
+    */
+    public ALFuture<Boolean> isBehaviorRunningAsync(String id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isBehaviorRunning", id));
     }
 
     /**
@@ -419,9 +800,18 @@ public class ALFrameManager extends ALModule {
     */
     public void cleanBehaviors() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("cleanBehaviors");
+            service().call("cleanBehaviors");
         else
-            service.call("cleanBehaviors").get();
+            service().call("cleanBehaviors").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #cleanBehaviors}.
+    * Stop playing any behavior in FrameManager, and delete all of them.
+    * 
+    */
+    public ALFuture<Void> cleanBehaviorsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("cleanBehaviors"));
     }
 
     /**
@@ -431,7 +821,18 @@ public class ALFrameManager extends ALModule {
     * @return Returns the absolute path of given behavior.
     */
     public String getBehaviorPath(String id) throws CallError, InterruptedException {
-        return (String)service.call("getBehaviorPath", id).get();
+        return (String)service().call("getBehaviorPath", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBehaviorPath}.
+    * Returns a playing behavior absolute path.
+    * 
+    * @param id  The id of the behavior.
+    * @return Returns the absolute path of given behavior.
+    */
+    public ALFuture<String> getBehaviorPathAsync(String id) throws CallError {
+        return ALFuture.of(service().<String>call("getBehaviorPath", id));
     }
 
     /**
@@ -441,7 +842,18 @@ public class ALFrameManager extends ALModule {
     * @return return a unique identifier for the created box that contains the timeline. You must call deleteBehavior on it at some point. DEPRECATED since 1.14
     */
     public String createTimeline(String timelineContent) throws CallError, InterruptedException {
-        return (String)service.call("createTimeline", timelineContent).get();
+        return (String)service().call("createTimeline", timelineContent).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #createTimeline}.
+    * Creates a timeline.
+    * 
+    * @param timelineContent  The timeline content (in XML format).
+    * @return return a unique identifier for the created box that contains the timeline. You must call deleteBehavior on it at some point. DEPRECATED since 1.14
+    */
+    public ALFuture<String> createTimelineAsync(String timelineContent) throws CallError {
+        return ALFuture.of(service().<String>call("createTimeline", timelineContent));
     }
 
     /**
@@ -451,9 +863,19 @@ public class ALFrameManager extends ALModule {
     */
     public void playTimeline(String id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("playTimeline", id);
+            service().call("playTimeline", id);
         else
-            service.call("playTimeline", id).get();
+            service().call("playTimeline", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #playTimeline}.
+    * Starts playing a timeline contained in a given box. If the box is a flow diagram, it will look for the first onStart input of type Bang, and stimulate it ! DEPRECATED since 1.14
+    * 
+    * @param id  The id of the box.
+    */
+    public ALFuture<Void> playTimelineAsync(String id) throws CallError {
+        return ALFuture.of(service().<Void>call("playTimeline", id));
     }
 
     /**
@@ -463,9 +885,19 @@ public class ALFrameManager extends ALModule {
     */
     public void stopTimeline(String id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stopTimeline", id);
+            service().call("stopTimeline", id);
         else
-            service.call("stopTimeline", id).get();
+            service().call("stopTimeline", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stopTimeline}.
+    * Stops playing a timeline contained in a given box, at the current frame. DEPRECATED since 1.14
+    * 
+    * @param id  The id of the box.
+    */
+    public ALFuture<Void> stopTimelineAsync(String id) throws CallError {
+        return ALFuture.of(service().<Void>call("stopTimeline", id));
     }
 
     /**
@@ -476,9 +908,20 @@ public class ALFrameManager extends ALModule {
     */
     public void setTimelineFps(String id, Integer fps) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setTimelineFps", id, fps);
+            service().call("setTimelineFps", id, fps);
         else
-            service.call("setTimelineFps", id, fps).get();
+            service().call("setTimelineFps", id, fps).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setTimelineFps}.
+    * Sets the FPS of a given timeline. DEPRECATED since 1.14
+    * 
+    * @param id  The id of the timeline.
+    * @param fps  The FPS to set.
+    */
+    public ALFuture<Void> setTimelineFpsAsync(String id, Integer fps) throws CallError {
+        return ALFuture.of(service().<Void>call("setTimelineFps", id, fps));
     }
 
     /**
@@ -488,7 +931,18 @@ public class ALFrameManager extends ALModule {
     * @return Returns the timeline's FPS.
     */
     public Integer getTimelineFps(String id) throws CallError, InterruptedException {
-        return (Integer)service.call("getTimelineFps", id).get();
+        return (Integer)service().call("getTimelineFps", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getTimelineFps}.
+    * Gets the FPS of a given timeline. DEPRECATED since 1.14
+    * 
+    * @param id  The id of the timeline.
+    * @return Returns the timeline's FPS.
+    */
+    public ALFuture<Integer> getTimelineFpsAsync(String id) throws CallError {
+        return ALFuture.of(service().<Integer>call("getTimelineFps", id));
     }
 
 }
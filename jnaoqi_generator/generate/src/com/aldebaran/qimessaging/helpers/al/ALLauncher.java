@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -23,7 +24,16 @@ public class ALLauncher extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -32,9 +42,18 @@ public class ALLauncher extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -42,7 +61,16 @@ public class ALLauncher extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -51,9 +79,18 @@ public class ALLauncher extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -62,7 +99,17 @@ public class ALLauncher extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -71,7 +118,17 @@ public class ALLauncher extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -80,7 +137,17 @@ public class ALLauncher extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -90,7 +157,18 @@ public class ALLauncher extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -99,7 +177,17 @@ public class ALLauncher extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -110,7 +198,19 @@ public class ALLauncher extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -120,7 +220,18 @@ public class ALLauncher extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -130,9 +241,19 @@ public class ALLauncher extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -141,7 +262,17 @@ public class ALLauncher extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -151,7 +282,18 @@ public class ALLauncher extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -161,7 +303,18 @@ public class ALLauncher extends ALModule {
     * @return list of modules loaded
     */
     public List<String> launchLocal(String moduleName) throws CallError, InterruptedException {
-        return (List<String>)service.call("launchLocal", moduleName).get();
+        return (List<String>)service().call("launchLocal", moduleName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #launchLocal}.
+    * Loads dynamicaly a module
+    * 
+    * @param moduleName  the name of the module to launch or the name of the python script to evaluate
+    * @return list of modules loaded
+    */
+    public ALFuture<List<String>> launchLocalAsync(String moduleName) throws CallError {
+        return ALFuture.of(service().<List<String>>call("launchLocal", moduleName));
     }
 
     /**
@@ -171,7 +324,18 @@ public class ALLauncher extends ALModule {
     * @return true if ok
     */
     public Boolean launchExecutable(String moduleName) throws CallError, InterruptedException {
-        return (Boolean)service.call("launchExecutable", moduleName).get();
+        return (Boolean)service().call("launchExecutable", moduleName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #launchExecutable}.
+    * runs an executable and connect it to current broker (executable)
+    * 
+    * @param moduleName  the name of the module to launch or the name of the script file to execute
+    * @return true if ok
+    */
+    public ALFuture<Boolean> launchExecutableAsync(String moduleName) throws CallError {
+        return ALFuture.of(service().<Boolean>call("launchExecutable", moduleName));
     }
 
     /**
@@ -182,7 +346,19 @@ public class ALLauncher extends ALModule {
     * @return the pid of the process spawned
     */
     public Integer _launch(String executablePath, List<String> arguments) throws CallError, InterruptedException {
-        return (Integer)service.call("_launch", executablePath, arguments).get();
+        return (Integer)service().call("_launch", executablePath, arguments).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_launch}.
+    * runs an executable and connect it to current broker (executable)
+    * 
+    * @param executablePath  the name of the module to launch or the name of the script file to execute
+    * @param arguments  any optional argument to be passed to the executable.
+    * @return the pid of the process spawned
+    */
+    public ALFuture<Integer> _launchAsync(String executablePath, List<String> arguments) throws CallError {
+        return ALFuture.of(service().<Integer>call("_launch", executablePath, arguments));
     }
 
     /**
@@ -193,7 +369,19 @@ public class ALLauncher extends ALModule {
     * @return the exit code of the program launched
     */
     public Integer _launchWait(String executablePath, List<String> arguments) throws CallError, InterruptedException {
-        return (Integer)service.call("_launchWait", executablePath, arguments).get();
+        return (Integer)service().call("_launchWait", executablePath, arguments).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_launchWait}.
+    * Runs an executable with custom arguments, and waits for it to end.
+    * 
+    * @param executablePath  the name of the module to launch or the name of the script file to execute
+    * @param arguments  any optional argument to be passed to the executable.
+    * @return the exit code of the program launched
+    */
+    public ALFuture<Integer> _launchWaitAsync(String executablePath, List<String> arguments) throws CallError {
+        return ALFuture.of(service().<Integer>call("_launchWait", executablePath, arguments));
     }
 
     /**
@@ -203,7 +391,18 @@ public class ALLauncher extends ALModule {
     * @return true if ok
     */
     public Boolean launchScript(String moduleName) throws CallError, InterruptedException {
-        return (Boolean)service.call("launchScript", moduleName).get();
+        return (Boolean)service().call("launchScript", moduleName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #launchScript}.
+    * runs a script connected the current broker
+    * 
+    * @param moduleName  the name of the script to launch (python)
+    * @return true if ok
+    */
+    public ALFuture<Boolean> launchScriptAsync(String moduleName) throws CallError {
+        return ALFuture.of(service().<Boolean>call("launchScript", moduleName));
     }
 
     /**
@@ -213,7 +412,18 @@ public class ALLauncher extends ALModule {
     * @return true if ok
     */
     public Boolean launchPythonModule(String moduleName) throws CallError, InterruptedException {
-        return (Boolean)service.call("launchPythonModule", moduleName).get();
+        return (Boolean)service().call("launchPythonModule", moduleName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #launchPythonModule}.
+    * Import a python module
+    * 
+    * @param moduleName  the name of the module to launch
+    * @return true if ok
+    */
+    public ALFuture<Boolean> launchPythonModuleAsync(String moduleName) throws CallError {
+        return ALFuture.of(service().<Boolean>call("launchPythonModule", moduleName));
     }
 
     /**
@@ -223,7 +433,18 @@ public class ALLauncher extends ALModule {
     * @return the returned value is true if this module is present
     */
     public Boolean isModulePresent(String strPartOfModuleName) throws CallError, InterruptedException {
-        return (Boolean)service.call("isModulePresent", strPartOfModuleName).get();
+        return (Boolean)service().call("isModulePresent", strPartOfModuleName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isModulePresent}.
+    * Tests the existence of an active module in the global system (in same executable or in another executable of the distributed system)
+    * 
+    * @param strPartOfModuleName  a part of the name of the module to test existence
+    * @return the returned value is true if this module is present
+    */
+    public ALFuture<Boolean> isModulePresentAsync(String strPartOfModuleName) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isModulePresent", strPartOfModuleName));
     }
 
     /**
@@ -232,7 +453,17 @@ public class ALLauncher extends ALModule {
     * @return array of present modules
     */
     public List<String> getGlobalModuleList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getGlobalModuleList").get();
+        return (List<String>)service().call("getGlobalModuleList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getGlobalModuleList}.
+    * get the list of modules loaded on the robot and connected on the robot
+    * 
+    * @return array of present modules
+    */
+    public ALFuture<List<String>> getGlobalModuleListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getGlobalModuleList"));
     }
 
 }
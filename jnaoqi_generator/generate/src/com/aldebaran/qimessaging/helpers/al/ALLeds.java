@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -26,9 +27,20 @@ public class ALLeds extends ALModule {
     */
     public void setIntensity(String name, Float intensity) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setIntensity", name, intensity);
+            service().call("setIntensity", name, intensity);
         else
-            service.call("setIntensity", name, intensity).get();
+            service().call("setIntensity", name, intensity).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setIntensity}.
+    * Sets the intensity of a LED or Group of LEDs.
+    * 
+    * @param name  The name of the LED or Group.
+    * @param intensity  The intensity of the LED or Group (a value between 0 and 1).
+    */
+    public ALFuture<Void> setIntensityAsync(String name, Float intensity) throws CallError {
+        return ALFuture.of(service().<Void>call("setIntensity", name, intensity));
     }
 
     /**
@@ -38,9 +50,19 @@ public class ALLeds extends ALModule {
     */
     public void _startPassiveBlinking(Integer eyeShadow) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_startPassiveBlinking", eyeShadow);
+            service().call("_startPassiveBlinking", eyeShadow);
         else
-            service.call("_startPassiveBlinking", eyeShadow).get();
+            service().call("_startPassiveBlinking", eyeShadow).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_startPassiveBlinking}.
+    * Start passive blinking with a eyeshadow color.
+    * 
+    * @param eyeShadow  The color of the eye shadow during and after the blink.
+    */
+    public ALFuture<Void> _startPassiveBlinkingAsync(Integer eyeShadow) throws CallError {
+        return ALFuture.of(service().<Void>call("_startPassiveBlinking", eyeShadow));
     }
 
     /**
@@ -50,9 +72,19 @@ public class ALLeds extends ALModule {
     */
     public void on(String name) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("on", name);
+            service().call("on", name);
         else
-            service.call("on", name).get();
+            service().call("on", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #on}.
+    * Switch to a maximum intensity a LED or Group of LEDs.
+    * 
+    * @param name  The name of the LED or Group.
+    */
+    public ALFuture<Void> onAsync(String name) throws CallError {
+        return ALFuture.of(service().<Void>call("on", name));
     }
 
     /**
@@ -63,9 +95,20 @@ public class ALLeds extends ALModule {
     */
     public void _setTimeBetweenTwoBlinks(Float min, Float max) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setTimeBetweenTwoBlinks", min, max);
+            service().call("_setTimeBetweenTwoBlinks", min, max);
         else
-            service.call("_setTimeBetweenTwoBlinks", min, max).get();
+            service().call("_setTimeBetweenTwoBlinks", min, max).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setTimeBetweenTwoBlinks}.
+    * Set values for minimum and maximum time waited between two passive blinks.
+    * 
+    * @param min  The minimum (should be >= 0)
+    * @param max  The maximum (should be >= min)
+    */
+    public ALFuture<Void> _setTimeBetweenTwoBlinksAsync(Float min, Float max) throws CallError {
+        return ALFuture.of(service().<Void>call("_setTimeBetweenTwoBlinks", min, max));
     }
 
     /**
@@ -77,9 +120,21 @@ public class ALLeds extends ALModule {
     */
     public void rotateEyes(Integer rgb, Float timeForRotation, Float totalDuration) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("rotateEyes", rgb, timeForRotation, totalDuration);
+            service().call("rotateEyes", rgb, timeForRotation, totalDuration);
         else
-            service.call("rotateEyes", rgb, timeForRotation, totalDuration).get();
+            service().call("rotateEyes", rgb, timeForRotation, totalDuration).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #rotateEyes}.
+    * Launch a rotation using the leds of the eyes.
+    * 
+    * @param rgb  the RGB value led, RGB as seen in hexa-decimal: 0x00RRGGBB.
+    * @param timeForRotation  Approximate time to make one turn.
+    * @param totalDuration  Approximate duration of the animation in seconds.
+    */
+    public ALFuture<Void> rotateEyesAsync(Integer rgb, Float timeForRotation, Float totalDuration) throws CallError {
+        return ALFuture.of(service().<Void>call("rotateEyes", rgb, timeForRotation, totalDuration));
     }
 
     /**
@@ -89,9 +144,19 @@ public class ALLeds extends ALModule {
     */
     public void randomEyes(Float duration) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("randomEyes", duration);
+            service().call("randomEyes", duration);
         else
-            service.call("randomEyes", duration).get();
+            service().call("randomEyes", duration).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #randomEyes}.
+    * Launch a random animation in eyes
+    * 
+    * @param duration  Approximate duration of the animation in seconds.
+    */
+    public ALFuture<Void> randomEyesAsync(Float duration) throws CallError {
+        return ALFuture.of(service().<Void>call("randomEyes", duration));
     }
 
     /**
@@ -100,9 +165,18 @@ public class ALLeds extends ALModule {
     */
     public void _blink() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_blink");
+            service().call("_blink");
         else
-            service.call("_blink").get();
+            service().call("_blink").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_blink}.
+    * Make the eyes blink once.
+    * 
+    */
+    public ALFuture<Void> _blinkAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_blink"));
     }
 
     /**
@@ -111,9 +185,18 @@ public class ALLeds extends ALModule {
     */
     public void _blink(Integer param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_blink", param1);
+            service().call("_blink", param1);
         else
-            service.call("_blink", param1).get();
+            service().call("_blink", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_blink}.
+    * Make the eyes blink once with a eyeshadow color.
+    * 
+    */
+    public ALFuture<Void> _blinkAsync(Integer param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_blink", param1));
     }
 
     /**
@@ -123,9 +206,19 @@ public class ALLeds extends ALModule {
     */
     public void rasta(Float duration) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("rasta", duration);
+            service().call("rasta", duration);
         else
-            service.call("rasta", duration).get();
+            service().call("rasta", duration).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #rasta}.
+    * Launch a green/yellow/red rasta animation on all body.
+    * 
+    * @param duration  Approximate duration of the animation in seconds.
+    */
+    public ALFuture<Void> rastaAsync(Float duration) throws CallError {
+        return ALFuture.of(service().<Void>call("rasta", duration));
     }
 
     /**
@@ -136,9 +229,20 @@ public class ALLeds extends ALModule {
     */
     public void _setAnyLedIntensity(String name, Float intensity) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setAnyLedIntensity", name, intensity);
+            service().call("_setAnyLedIntensity", name, intensity);
         else
-            service.call("_setAnyLedIntensity", name, intensity).get();
+            service().call("_setAnyLedIntensity", name, intensity).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setAnyLedIntensity}.
+    * Sets the intensity of a LED or Group of LEDs (even chest LED).
+    * 
+    * @param name  The name of the LED or Group.
+    * @param intensity  The intensity of the LED or Group (a value between 0 and 1).
+    */
+    public ALFuture<Void> _setAnyLedIntensityAsync(String name, Float intensity) throws CallError {
+        return ALFuture.of(service().<Void>call("_setAnyLedIntensity", name, intensity));
     }
 
     /**
@@ -147,9 +251,18 @@ public class ALLeds extends ALModule {
     */
     public void _startPassiveBlinking() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_startPassiveBlinking");
+            service().call("_startPassiveBlinking");
         else
-            service.call("_startPassiveBlinking").get();
+            service().call("_startPassiveBlinking").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_startPassiveBlinking}.
+    * Start passive blinking.
+    * 
+    */
+    public ALFuture<Void> _startPassiveBlinkingAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_startPassiveBlinking"));
     }
 
     /**
@@ -158,9 +271,18 @@ public class ALLeds extends ALModule {
     */
     public void _stopPassiveBlinking() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_stopPassiveBlinking");
+            service().call("_stopPassiveBlinking");
         else
-            service.call("_stopPassiveBlinking").get();
+            service().call("_stopPassiveBlinking").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_stopPassiveBlinking}.
+    * Stop passive blinking.
+    * 
+    */
+    public ALFuture<Void> _stopPassiveBlinkingAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_stopPassiveBlinking"));
     }
 
     /**
@@ -168,7 +290,16 @@ public class ALLeds extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -177,9 +308,18 @@ public class ALLeds extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -187,7 +327,16 @@ public class ALLeds extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -196,9 +345,18 @@ public class ALLeds extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -207,7 +365,17 @@ public class ALLeds extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -216,7 +384,17 @@ public class ALLeds extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -225,7 +403,17 @@ public class ALLeds extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -235,7 +423,18 @@ public class ALLeds extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -244,7 +443,17 @@ public class ALLeds extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -255,7 +464,19 @@ public class ALLeds extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -265,7 +486,18 @@ public class ALLeds extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -275,9 +507,19 @@ public class ALLeds extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -286,7 +528,17 @@ public class ALLeds extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -296,7 +548,18 @@ public class ALLeds extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -307,9 +570,20 @@ public class ALLeds extends ALModule {
     */
     public void createGroup(String groupName, List<String> ledNames) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("createGroup", groupName, ledNames);
+            service().call("createGroup", groupName, ledNames);
         else
-            service.call("createGroup", groupName, ledNames).get();
+            service().call("createGroup", groupName, ledNames).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #createGroup}.
+    * Makes a group name for ease of setting multiple LEDs.
+    * 
+    * @param groupName  The name of the group.
+    * @param ledNames  A vector of the names of the LEDs in the group.
+    */
+    public ALFuture<Void> createGroupAsync(String groupName, List<String> ledNames) throws CallError {
+        return ALFuture.of(service().<Void>call("createGroup", groupName, ledNames));
     }
 
     /**
@@ -321,9 +595,21 @@ public class ALLeds extends ALModule {
     */
     public void earLedsSetAngle(Integer degrees, Float duration, Boolean leaveOnAtEnd) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("earLedsSetAngle", degrees, duration, leaveOnAtEnd);
+            service().call("earLedsSetAngle", degrees, duration, leaveOnAtEnd);
         else
-            service.call("earLedsSetAngle", degrees, duration, leaveOnAtEnd).get();
+            service().call("earLedsSetAngle", degrees, duration, leaveOnAtEnd).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #earLedsSetAngle}.
+    * An animation to show a direction with the ears.
+    * 
+    * @param degrees  The angle you want to show in degrees (int). 0 is up, 90 is forwards, 180 is down and 270 is back.
+    * @param duration  The duration in seconds of the animation.
+    * @param leaveOnAtEnd  If true the last led is left on at the end of the animation.
+    */
+    public ALFuture<Void> earLedsSetAngleAsync(Integer degrees, Float duration, Boolean leaveOnAtEnd) throws CallError {
+        return ALFuture.of(service().<Void>call("earLedsSetAngle", degrees, duration, leaveOnAtEnd));
     }
 
     /**
@@ -335,9 +621,21 @@ public class ALLeds extends ALModule {
     */
     public void fade(String name, Float intensity, Float duration) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("fade", name, intensity, duration);
+            service().call("fade", name, intensity, duration);
         else
-            service.call("fade", name, intensity, duration).get();
+            service().call("fade", name, intensity, duration).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #fade}.
+    * Sets the intensity of a LED or Group of LEDs within a given time.
+    * 
+    * @param name  The name of the LED or Group.
+    * @param intensity  The intensity of the LED or Group (a value between 0 and 1).
+    * @param duration  The duration of the fade in seconds
+    */
+    public ALFuture<Void> fadeAsync(String name, Float intensity, Float duration) throws CallError {
+        return ALFuture.of(service().<Void>call("fade", name, intensity, duration));
     }
 
     /**
@@ -349,9 +647,21 @@ public class ALLeds extends ALModule {
     */
     public void fadeListRGB(String name, java.lang.Object rgbList, java.lang.Object timeList) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("fadeListRGB", name, rgbList, timeList);
+            service().call("fadeListRGB", name, rgbList, timeList);
         else
-            service.call("fadeListRGB", name, rgbList, timeList).get();
+            service().call("fadeListRGB", name, rgbList, timeList).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #fadeListRGB}.
+    * Chain a list of color for a device, as the motion.doMove command.
+    * 
+    * @param name  The name of the LED or Group.
+    * @param rgbList  List of RGB led value, RGB as seen in hexa-decimal: 0x00RRGGBB.
+    * @param timeList  List of time to go to given intensity.
+    */
+    public ALFuture<Void> fadeListRGBAsync(String name, java.lang.Object rgbList, java.lang.Object timeList) throws CallError {
+        return ALFuture.of(service().<Void>call("fadeListRGB", name, rgbList, timeList));
     }
 
     /**
@@ -365,9 +675,23 @@ public class ALLeds extends ALModule {
     */
     public void fadeRGB(String name, Float red, Float green, Float blue, Float duration) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("fadeRGB", name, red, green, blue, duration);
+            service().call("fadeRGB", name, red, green, blue, duration);
         else
-            service.call("fadeRGB", name, red, green, blue, duration).get();
+            service().call("fadeRGB", name, red, green, blue, duration).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #fadeRGB}.
+    * Sets the color of an RGB led.
+    * 
+    * @param name  The name of the LED or Group.
+    * @param red  the intensity of red channel (0-1).
+    * @param green  the intensity of green channel (0-1).
+    * @param blue  the intensity of blue channel (0-1).
+    * @param duration  Time used to fade in seconds.
+    */
+    public ALFuture<Void> fadeRGBAsync(String name, Float red, Float green, Float blue, Float duration) throws CallError {
+        return ALFuture.of(service().<Void>call("fadeRGB", name, red, green, blue, duration));
     }
 
     /**
@@ -379,9 +703,21 @@ public class ALLeds extends ALModule {
     */
     public void fadeRGB(String name, String colorName, Float duration) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("fadeRGB", name, colorName, duration);
+            service().call("fadeRGB", name, colorName, duration);
         else
-            service.call("fadeRGB", name, colorName, duration).get();
+            service().call("fadeRGB", name, colorName, duration).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #fadeRGB}.
+    * Sets the color of an RGB led.
+    * 
+    * @param name  The name of the LED or Group.
+    * @param colorName  the name of the color (supported colors: "white", "red", "green", "blue", "yellow", "magenta", "cyan")
+    * @param duration  Time used to fade in seconds.
+    */
+    public ALFuture<Void> fadeRGBAsync(String name, String colorName, Float duration) throws CallError {
+        return ALFuture.of(service().<Void>call("fadeRGB", name, colorName, duration));
     }
 
     /**
@@ -393,9 +729,21 @@ public class ALLeds extends ALModule {
     */
     public void fadeRGB(String name, Integer rgb, Float duration) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("fadeRGB", name, rgb, duration);
+            service().call("fadeRGB", name, rgb, duration);
         else
-            service.call("fadeRGB", name, rgb, duration).get();
+            service().call("fadeRGB", name, rgb, duration).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #fadeRGB}.
+    * Sets the color of an RGB led.
+    * 
+    * @param name  The name of the LED or Group.
+    * @param rgb  The RGB value led, RGB as seen in hexa-decimal: 0x00RRGGBB.
+    * @param duration  Time used to fade in seconds.
+    */
+    public ALFuture<Void> fadeRGBAsync(String name, Integer rgb, Float duration) throws CallError {
+        return ALFuture.of(service().<Void>call("fadeRGB", name, rgb, duration));
     }
 
     /**
@@ -405,9 +753,19 @@ public class ALLeds extends ALModule {
     */
     public void reset(String name) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("reset", name);
+            service().call("reset", name);
         else
-            service.call("reset", name).get();
+            service().call("reset", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #reset}.
+    * Resets the state of the leds to default (for ex, eye LEDs are white and fully on by default).
+    * 
+    * @param name  The name of the LED or Group (for now, only "AllLeds" are implemented).
+    */
+    public ALFuture<Void> resetAsync(String name) throws CallError {
+        return ALFuture.of(service().<Void>call("reset", name));
     }
 
     /**
@@ -418,9 +776,20 @@ public class ALLeds extends ALModule {
     */
     public void _setIntensityRatio(String name, Float intensity) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setIntensityRatio", name, intensity);
+            service().call("_setIntensityRatio", name, intensity);
         else
-            service.call("_setIntensityRatio", name, intensity).get();
+            service().call("_setIntensityRatio", name, intensity).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setIntensityRatio}.
+    * Sets an intensity ratio for the leds. If the leds are asked to be set to a specific intensity, the real intensity applied on the leds will be the specific intensity multiplied by this ratio.
+    * 
+    * @param name  The name of the LED or Group.
+    * @param intensity  The intensity ratio between 0.6 and 1.
+    */
+    public ALFuture<Void> _setIntensityRatioAsync(String name, Float intensity) throws CallError {
+        return ALFuture.of(service().<Void>call("_setIntensityRatio", name, intensity));
     }
 
     /**
@@ -430,7 +799,18 @@ public class ALLeds extends ALModule {
     * @return The intensity of the LED or Group.
     */
     public java.lang.Object getIntensity(String name) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getIntensity", name).get();
+        return (java.lang.Object)service().call("getIntensity", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getIntensity}.
+    * Gets the intensity of a LED or device
+    * 
+    * @param name  The name of the LED or Group.
+    * @return The intensity of the LED or Group.
+    */
+    public ALFuture<java.lang.Object> getIntensityAsync(String name) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getIntensity", name));
     }
 
     /**
@@ -439,7 +819,17 @@ public class ALLeds extends ALModule {
     * @return A vector of LED names.
     */
     public List<String> listLEDs() throws CallError, InterruptedException {
-        return (List<String>)service.call("listLEDs").get();
+        return (List<String>)service().call("listLEDs").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #listLEDs}.
+    * Lists the short LED names.
+    * 
+    * @return A vector of LED names.
+    */
+    public ALFuture<List<String>> listLEDsAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("listLEDs"));
     }
 
     /**
@@ -449,7 +839,18 @@ public class ALLeds extends ALModule {
     * @return A vector of device names.
     */
     public List<String> listLED(String name) throws CallError, InterruptedException {
-        return (List<String>)service.call("listLED", name).get();
+        return (List<String>)service().call("listLED", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #listLED}.
+    * Lists the devices aliased by a short LED name.
+    * 
+    * @param name  The name of the LED to list
+    * @return A vector of device names.
+    */
+    public ALFuture<List<String>> listLEDAsync(String name) throws CallError {
+        return ALFuture.of(service().<List<String>>call("listLED", name));
     }
 
     /**
@@ -459,7 +860,18 @@ public class ALLeds extends ALModule {
     * @return A vector of string device names.
     */
     public List<String> listGroup(String groupName) throws CallError, InterruptedException {
-        return (List<String>)service.call("listGroup", groupName).get();
+        return (List<String>)service().call("listGroup", groupName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #listGroup}.
+    * Lists the devices in the group.
+    * 
+    * @param groupName  The name of the Group.
+    * @return A vector of string device names.
+    */
+    public ALFuture<List<String>> listGroupAsync(String groupName) throws CallError {
+        return ALFuture.of(service().<List<String>>call("listGroup", groupName));
     }
 
     /**
@@ -468,7 +880,17 @@ public class ALLeds extends ALModule {
     * @return A vector of group names.
     */
     public List<String> listGroups() throws CallError, InterruptedException {
-        return (List<String>)service.call("listGroups").get();
+        return (List<String>)service().call("listGroups").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #listGroups}.
+    * Lists available group names.
+    * 
+    * @return A vector of group names.
+    */
+    public ALFuture<List<String>> listGroupsAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("listGroups"));
     }
 
     /**
@@ -478,9 +900,19 @@ public class ALLeds extends ALModule {
     */
     public void off(String name) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("off", name);
+            service().call("off", name);
         else
-            service.call("off", name).get();
+            service().call("off", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #off}.
+    * Switch to a minimum intensity a LED or Group of LEDs.
+    * 
+    * @param name  The name of the LED or Group.
+    */
+    public ALFuture<Void> offAsync(String name) throws CallError {
+        return ALFuture.of(service().<Void>call("off", name));
     }
 
 }
@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -23,7 +24,16 @@ public class ALLocalization extends ALModule {
     * 
     */
     public Integer goToPosition(List<Float> param1) throws CallError, InterruptedException {
-        return (Integer)service.call("goToPosition", param1).get();
+        return (Integer)service().call("goToPosition", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #goToPosition}.
+    * Go to a given position.
+    * 
+    */
+    public ALFuture<Integer> goToPositionAsync(List<Float> param1) throws CallError {
+        return ALFuture.of(service().<Integer>call("goToPosition", param1));
     }
 
     /**
@@ -31,7 +41,16 @@ public class ALLocalization extends ALModule {
     * 
     */
     public java.lang.Object getRobotOrientation() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getRobotOrientation").get();
+        return (java.lang.Object)service().call("getRobotOrientation").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getRobotOrientation}.
+    * Get the robot orientation.
+    * 
+    */
+    public ALFuture<java.lang.Object> getRobotOrientationAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getRobotOrientation"));
     }
 
     /**
@@ -39,7 +58,34 @@ public class ALLocalization extends ALModule {
     * 
     */
     public List<Float> _launchLocalization() throws CallError, InterruptedException {
-        return (List<Float>)service.call("_launchLocalization").get();
+        return (List<Float>)service().call("_launchLocalization").get();
+    }
+
+    /**
+    * Primitive version of {@link #_launchLocalization}, values are returned unboxed.
+    * 
+    * 
+    */
+    public float[] _launchLocalizationF() throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("_launchLocalization").get());
+    }
+
+    /**
+    * Primitive version of {@link #_launchLocalization}, values are written into dst and their count is returned.
+    * 
+    * 
+    */
+    public int _launchLocalizationInto(float[] dst) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("_launchLocalization").get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #_launchLocalization}.
+    * 
+    * 
+    */
+    public ALFuture<List<Float>> _launchLocalizationAsync() throws CallError {
+        return ALFuture.of(service().<List<Float>>call("_launchLocalization"));
     }
 
     /**
@@ -47,7 +93,16 @@ public class ALLocalization extends ALModule {
     * 
     */
     public Integer goToHome() throws CallError, InterruptedException {
-        return (Integer)service.call("goToHome").get();
+        return (Integer)service().call("goToHome").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #goToHome}.
+    * Go to the robot home.
+    * 
+    */
+    public ALFuture<Integer> goToHomeAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("goToHome"));
     }
 
     /**
@@ -55,7 +110,16 @@ public class ALLocalization extends ALModule {
     * 
     */
     public List<String> _getSavingDirectories() throws CallError, InterruptedException {
-        return (List<String>)service.call("_getSavingDirectories").get();
+        return (List<String>)service().call("_getSavingDirectories").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getSavingDirectories}.
+    * Return the list of saving directories
+    * 
+    */
+    public ALFuture<List<String>> _getSavingDirectoriesAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("_getSavingDirectories"));
     }
 
     /**
@@ -63,7 +127,16 @@ public class ALLocalization extends ALModule {
     * 
     */
     public String _getLoadedDirectory() throws CallError, InterruptedException {
-        return (String)service.call("_getLoadedDirectory").get();
+        return (String)service().call("_getLoadedDirectory").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getLoadedDirectory}.
+    * Return the current loaded directory name. Will be empty if there is no active panorama or if it has not been saved to a directory yet
+    * 
+    */
+    public ALFuture<String> _getLoadedDirectoryAsync() throws CallError {
+        return ALFuture.of(service().<String>call("_getLoadedDirectory"));
     }
 
     /**
@@ -71,7 +144,16 @@ public class ALLocalization extends ALModule {
     * 
     */
     public java.lang.Object isInGivenZone(Float param1, Float param2, Float param3, Float param4) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("isInGivenZone", param1, param2, param3, param4).get();
+        return (java.lang.Object)service().call("isInGivenZone", param1, param2, param3, param4).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isInGivenZone}.
+    * 
+    * 
+    */
+    public ALFuture<java.lang.Object> isInGivenZoneAsync(Float param1, Float param2, Float param3, Float param4) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("isInGivenZone", param1, param2, param3, param4));
     }
 
     /**
@@ -80,9 +162,18 @@ public class ALLocalization extends ALModule {
     */
     public void _handlePush() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_handlePush");
+            service().call("_handlePush");
         else
-            service.call("_handlePush").get();
+            service().call("_handlePush").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_handlePush}.
+    * 
+    * 
+    */
+    public ALFuture<Void> _handlePushAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_handlePush"));
     }
 
     /**
@@ -90,7 +181,16 @@ public class ALLocalization extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -99,9 +199,18 @@ public class ALLocalization extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -109,7 +218,16 @@ public class ALLocalization extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -118,9 +236,18 @@ public class ALLocalization extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -129,7 +256,17 @@ public class ALLocalization extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -138,7 +275,17 @@ public class ALLocalization extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -147,7 +294,17 @@ public class ALLocalization extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -157,7 +314,18 @@ public class ALLocalization extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -166,7 +334,17 @@ public class ALLocalization extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -177,7 +355,19 @@ public class ALLocalization extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -187,7 +377,18 @@ public class ALLocalization extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -197,9 +398,19 @@ public class ALLocalization extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -208,7 +419,17 @@ public class ALLocalization extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -218,7 +439,18 @@ public class ALLocalization extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -226,7 +458,16 @@ public class ALLocalization extends ALModule {
     * 
     */
     public String getMessageFromErrorCode(Integer param1) throws CallError, InterruptedException {
-        return (String)service.call("getMessageFromErrorCode", param1).get();
+        return (String)service().call("getMessageFromErrorCode", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMessageFromErrorCode}.
+    * 
+    * 
+    */
+    public ALFuture<String> getMessageFromErrorCodeAsync(Integer param1) throws CallError {
+        return ALFuture.of(service().<String>call("getMessageFromErrorCode", param1));
     }
 
     /**
@@ -235,9 +476,18 @@ public class ALLocalization extends ALModule {
     */
     public void stopAll() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stopAll");
+            service().call("stopAll");
         else
-            service.call("stopAll").get();
+            service().call("stopAll").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stopAll}.
+    * Stop all robot movements.
+    * 
+    */
+    public ALFuture<Void> stopAllAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("stopAll"));
     }
 
     /**
@@ -246,9 +496,18 @@ public class ALLocalization extends ALModule {
     */
     public void _safetyStop() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_safetyStop");
+            service().call("_safetyStop");
         else
-            service.call("_safetyStop").get();
+            service().call("_safetyStop").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_safetyStop}.
+    * 
+    * 
+    */
+    public ALFuture<Void> _safetyStopAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_safetyStop"));
     }
 
     /**
@@ -256,7 +515,16 @@ public class ALLocalization extends ALModule {
     * 
     */
     public Integer learnHome() throws CallError, InterruptedException {
-        return (Integer)service.call("learnHome").get();
+        return (Integer)service().call("learnHome").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #learnHome}.
+    * Learn the robot home.
+    * 
+    */
+    public ALFuture<Integer> learnHomeAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("learnHome"));
     }
 
     /**
@@ -264,7 +532,16 @@ public class ALLocalization extends ALModule {
     * 
     */
     public Boolean isInCurrentHome() throws CallError, InterruptedException {
-        return (Boolean)service.call("isInCurrentHome").get();
+        return (Boolean)service().call("isInCurrentHome").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isInCurrentHome}.
+    * Is the robot in its home?
+    * 
+    */
+    public ALFuture<Boolean> isInCurrentHomeAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isInCurrentHome"));
     }
 
     /**
@@ -272,7 +549,16 @@ public class ALLocalization extends ALModule {
     * 
     */
     public java.lang.Object getCurrentPanoramaDescriptor() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getCurrentPanoramaDescriptor").get();
+        return (java.lang.Object)service().call("getCurrentPanoramaDescriptor").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getCurrentPanoramaDescriptor}.
+    * Get some information about the current panorama.
+    * 
+    */
+    public ALFuture<java.lang.Object> getCurrentPanoramaDescriptorAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getCurrentPanoramaDescriptor"));
     }
 
     /**
@@ -280,7 +566,16 @@ public class ALLocalization extends ALModule {
     * 
     */
     public java.lang.Object getFrame(Integer param1, String param2) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getFrame", param1, param2).get();
+        return (java.lang.Object)service().call("getFrame", param1, param2).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getFrame}.
+    * Get a frame buffer.
+    * 
+    */
+    public ALFuture<java.lang.Object> getFrameAsync(Integer param1, String param2) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getFrame", param1, param2));
     }
 
     /**
@@ -289,7 +584,17 @@ public class ALLocalization extends ALModule {
     * @param pDirectory  Name of the directory
     */
     public Integer clear(String pDirectory) throws CallError, InterruptedException {
-        return (Integer)service.call("clear", pDirectory).get();
+        return (Integer)service().call("clear", pDirectory).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clear}.
+    * Delete all panoramas in a directory.
+    * 
+    * @param pDirectory  Name of the directory
+    */
+    public ALFuture<Integer> clearAsync(String pDirectory) throws CallError {
+        return ALFuture.of(service().<Integer>call("clear", pDirectory));
     }
 
     /**
@@ -298,7 +603,17 @@ public class ALLocalization extends ALModule {
     * @param pDirectory  Name of the directory
     */
     public Integer load(String pDirectory) throws CallError, InterruptedException {
-        return (Integer)service.call("load", pDirectory).get();
+        return (Integer)service().call("load", pDirectory).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #load}.
+    * Loads panoramas from a directory in the default one.
+    * 
+    * @param pDirectory  Name of the directory
+    */
+    public ALFuture<Integer> loadAsync(String pDirectory) throws CallError {
+        return ALFuture.of(service().<Integer>call("load", pDirectory));
     }
 
     /**
@@ -307,7 +622,17 @@ public class ALLocalization extends ALModule {
     * @param pDirectory  Name of the directory
     */
     public Integer save(String pDirectory) throws CallError, InterruptedException {
-        return (Integer)service.call("save", pDirectory).get();
+        return (Integer)service().call("save", pDirectory).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #save}.
+    * Save the temporary panoramas in a directory from the default one.
+    * 
+    * @param pDirectory  Name of the directory
+    */
+    public ALFuture<Integer> saveAsync(String pDirectory) throws CallError {
+        return ALFuture.of(service().<Integer>call("save", pDirectory));
     }
 
     /**
@@ -315,7 +640,16 @@ public class ALLocalization extends ALModule {
     * 
     */
     public Boolean isRelocalizationRequired() throws CallError, InterruptedException {
-        return (Boolean)service.call("isRelocalizationRequired").get();
+        return (Boolean)service().call("isRelocalizationRequired").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRelocalizationRequired}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isRelocalizationRequiredAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRelocalizationRequired"));
     }
 
     /**
@@ -323,7 +657,16 @@ public class ALLocalization extends ALModule {
     * 
     */
     public Boolean isDataAvailable() throws CallError, InterruptedException {
-        return (Boolean)service.call("isDataAvailable").get();
+        return (Boolean)service().call("isDataAvailable").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isDataAvailable}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isDataAvailableAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isDataAvailable"));
     }
 
     /**
@@ -331,7 +674,34 @@ public class ALLocalization extends ALModule {
     * 
     */
     public List<Float> getRobotPosition() throws CallError, InterruptedException {
-        return (List<Float>)service.call("getRobotPosition").get();
+        return (List<Float>)service().call("getRobotPosition").get();
+    }
+
+    /**
+    * Primitive version of {@link #getRobotPosition}, values are returned unboxed.
+    * Get the robot position in world navigation.
+    * 
+    */
+    public float[] getRobotPositionF() throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("getRobotPosition").get());
+    }
+
+    /**
+    * Primitive version of {@link #getRobotPosition}, values are written into dst and their count is returned.
+    * Get the robot position in world navigation.
+    * 
+    */
+    public int getRobotPositionInto(float[] dst) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("getRobotPosition").get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #getRobotPosition}.
+    * Get the robot position in world navigation.
+    * 
+    */
+    public ALFuture<List<Float>> getRobotPositionAsync() throws CallError {
+        return ALFuture.of(service().<List<Float>>call("getRobotPosition"));
     }
 
     /**
@@ -339,7 +709,34 @@ public class ALLocalization extends ALModule {
     * 
     */
     public List<Float> getRobotPosition(Boolean param1) throws CallError, InterruptedException {
-        return (List<Float>)service.call("getRobotPosition", param1).get();
+        return (List<Float>)service().call("getRobotPosition", param1).get();
+    }
+
+    /**
+    * Primitive version of {@link #getRobotPosition}, values are returned unboxed.
+    * Get the robot position in world navigation.
+    * 
+    */
+    public float[] getRobotPositionF(Boolean param1) throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("getRobotPosition", param1).get());
+    }
+
+    /**
+    * Primitive version of {@link #getRobotPosition}, values are written into dst and their count is returned.
+    * Get the robot position in world navigation.
+    * 
+    */
+    public int getRobotPositionInto(float[] dst, Boolean param1) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("getRobotPosition", param1).get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #getRobotPosition}.
+    * Get the robot position in world navigation.
+    * 
+    */
+    public ALFuture<List<Float>> getRobotPositionAsync(Boolean param1) throws CallError {
+        return ALFuture.of(service().<List<Float>>call("getRobotPosition", param1));
     }
 
     /**
@@ -347,7 +744,16 @@ public class ALLocalization extends ALModule {
     * 
     */
     public java.lang.Object getRobotOrientation(Boolean param1) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getRobotOrientation", param1).get();
+        return (java.lang.Object)service().call("getRobotOrientation", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getRobotOrientation}.
+    * Get the robot orientation.
+    * 
+    */
+    public ALFuture<java.lang.Object> getRobotOrientationAsync(Boolean param1) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getRobotOrientation", param1));
     }
 
 }
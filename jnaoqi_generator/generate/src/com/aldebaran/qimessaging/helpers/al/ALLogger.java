@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -23,7 +24,16 @@ public class ALLogger extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -32,9 +42,18 @@ public class ALLogger extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -42,7 +61,16 @@ public class ALLogger extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -51,9 +79,18 @@ public class ALLogger extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -62,7 +99,17 @@ public class ALLogger extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -71,7 +118,17 @@ public class ALLogger extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -80,7 +137,17 @@ public class ALLogger extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -90,7 +157,18 @@ public class ALLogger extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -99,7 +177,17 @@ public class ALLogger extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -110,7 +198,19 @@ public class ALLogger extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -120,7 +220,18 @@ public class ALLogger extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -130,9 +241,19 @@ public class ALLogger extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -141,7 +262,17 @@ public class ALLogger extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -151,7 +282,18 @@ public class ALLogger extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -163,9 +305,21 @@ public class ALLogger extends ALModule {
     */
     public void fatal(String moduleName, String message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("fatal", moduleName, message);
+            service().call("fatal", moduleName, message);
         else
-            service.call("fatal", moduleName, message).get();
+            service().call("fatal", moduleName, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #fatal}.
+    * DEPRECATED. Use qiLogFatal instead. 
+ Log a fatal error.
+    * 
+    * @param moduleName  Name of the module.
+    * @param message  Log Message.
+    */
+    public ALFuture<Void> fatalAsync(String moduleName, String message) throws CallError {
+        return ALFuture.of(service().<Void>call("fatal", moduleName, message));
     }
 
     /**
@@ -177,9 +331,21 @@ public class ALLogger extends ALModule {
     */
     public void error(String moduleName, String message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("error", moduleName, message);
+            service().call("error", moduleName, message);
         else
-            service.call("error", moduleName, message).get();
+            service().call("error", moduleName, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #error}.
+    * DEPRECATED. Use qiLogError instead. 
+ Log an error.
+    * 
+    * @param moduleName  Name of the module.
+    * @param message  Log Message.
+    */
+    public ALFuture<Void> errorAsync(String moduleName, String message) throws CallError {
+        return ALFuture.of(service().<Void>call("error", moduleName, message));
     }
 
     /**
@@ -190,9 +356,20 @@ public class ALLogger extends ALModule {
     */
     public void warn(String moduleName, String message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("warn", moduleName, message);
+            service().call("warn", moduleName, message);
         else
-            service.call("warn", moduleName, message).get();
+            service().call("warn", moduleName, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #warn}.
+    * DEPRECATED: use qiLogWarning instead. Log a warning.
+    * 
+    * @param moduleName  Name of the module.
+    * @param message  Log Message.
+    */
+    public ALFuture<Void> warnAsync(String moduleName, String message) throws CallError {
+        return ALFuture.of(service().<Void>call("warn", moduleName, message));
     }
 
     /**
@@ -204,9 +381,21 @@ public class ALLogger extends ALModule {
     */
     public void info(String moduleName, String message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("info", moduleName, message);
+            service().call("info", moduleName, message);
         else
-            service.call("info", moduleName, message).get();
+            service().call("info", moduleName, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #info}.
+    * DEPRECATED. Use qiLogInfo instead. 
+ Log a info message.
+    * 
+    * @param moduleName  Name of the module.
+    * @param message  Log Message.
+    */
+    public ALFuture<Void> infoAsync(String moduleName, String message) throws CallError {
+        return ALFuture.of(service().<Void>call("info", moduleName, message));
     }
 
     /**
@@ -218,9 +407,21 @@ public class ALLogger extends ALModule {
     */
     public void debug(String moduleName, String message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("debug", moduleName, message);
+            service().call("debug", moduleName, message);
         else
-            service.call("debug", moduleName, message).get();
+            service().call("debug", moduleName, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #debug}.
+    * DEPRECATED. Use qiLogDebug instead. 
+ Log a debug message.
+    * 
+    * @param moduleName  Name of the module.
+    * @param message  Log Message.
+    */
+    public ALFuture<Void> debugAsync(String moduleName, String message) throws CallError {
+        return ALFuture.of(service().<Void>call("debug", moduleName, message));
     }
 
     /**
@@ -229,9 +430,18 @@ public class ALLogger extends ALModule {
     */
     public void setVerbosity(String param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setVerbosity", param1);
+            service().call("setVerbosity", param1);
         else
-            service.call("setVerbosity", param1).get();
+            service().call("setVerbosity", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setVerbosity}.
+    * Removed: not implemented anymore.
+    * 
+    */
+    public ALFuture<Void> setVerbosityAsync(String param1) throws CallError {
+        return ALFuture.of(service().<Void>call("setVerbosity", param1));
     }
 
     /**
@@ -239,7 +449,16 @@ public class ALLogger extends ALModule {
     * 
     */
     public Integer verbosity() throws CallError, InterruptedException {
-        return (Integer)service.call("verbosity").get();
+        return (Integer)service().call("verbosity").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #verbosity}.
+    * Removed: not implemented anymore.
+    * 
+    */
+    public ALFuture<Integer> verbosityAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("verbosity"));
     }
 
     /**
@@ -248,9 +467,18 @@ public class ALLogger extends ALModule {
     */
     public void logInFile(String param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("logInFile", param1);
+            service().call("logInFile", param1);
         else
-            service.call("logInFile", param1).get();
+            service().call("logInFile", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #logInFile}.
+    * Removed: not implemented anymore.
+    * 
+    */
+    public ALFuture<Void> logInFileAsync(String param1) throws CallError {
+        return ALFuture.of(service().<Void>call("logInFile", param1));
     }
 
     /**
@@ -259,9 +487,18 @@ public class ALLogger extends ALModule {
     */
     public void logInForwarder(String param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("logInForwarder", param1);
+            service().call("logInForwarder", param1);
         else
-            service.call("logInForwarder", param1).get();
+            service().call("logInForwarder", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #logInForwarder}.
+    * Removed: not implemented anymore.
+    * 
+    */
+    public ALFuture<Void> logInForwarderAsync(String param1) throws CallError {
+        return ALFuture.of(service().<Void>call("logInForwarder", param1));
     }
 
     /**
@@ -270,9 +507,18 @@ public class ALLogger extends ALModule {
     */
     public void removeHandler(String param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("removeHandler", param1);
+            service().call("removeHandler", param1);
         else
-            service.call("removeHandler", param1).get();
+            service().call("removeHandler", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #removeHandler}.
+    * Removed: not implemented anymore.
+    * 
+    */
+    public ALFuture<Void> removeHandlerAsync(String param1) throws CallError {
+        return ALFuture.of(service().<Void>call("removeHandler", param1));
     }
 
 }
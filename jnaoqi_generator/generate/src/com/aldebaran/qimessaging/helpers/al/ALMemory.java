@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -26,9 +27,20 @@ public class ALMemory extends ALModule {
     */
     public void insertData(String key, String value) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("insertData", key, value);
+            service().call("insertData", key, value);
         else
-            service.call("insertData", key, value).get();
+            service().call("insertData", key, value).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #insertData}.
+    * Inserts a key-value pair into memory, where value is a string
+    * 
+    * @param key  Name of the value to be inserted.
+    * @param value  The string to be inserted
+    */
+    public ALFuture<Void> insertDataAsync(String key, String value) throws CallError {
+        return ALFuture.of(service().<Void>call("insertData", key, value));
     }
 
     /**
@@ -38,9 +50,19 @@ public class ALMemory extends ALModule {
     */
     public void removeData(String key) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("removeData", key);
+            service().call("removeData", key);
         else
-            service.call("removeData", key).get();
+            service().call("removeData", key).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #removeData}.
+    * Removes a key-value pair from memory
+    * 
+    * @param key  Name of the data to be removed.
+    */
+    public ALFuture<Void> removeDataAsync(String key) throws CallError {
+        return ALFuture.of(service().<Void>call("removeData", key));
     }
 
     /**
@@ -50,7 +72,18 @@ public class ALMemory extends ALModule {
     * @return List of subscriber names
     */
     public List<String> getSubscribers(String name) throws CallError, InterruptedException {
-        return (List<String>)service.call("getSubscribers", name).get();
+        return (List<String>)service().call("getSubscribers", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getSubscribers}.
+    * Gets a list containing the names of subscribers to an event.
+    * 
+    * @param name  Name of the event or micro-event
+    * @return List of subscriber names
+    */
+    public ALFuture<List<String>> getSubscribersAsync(String name) throws CallError {
+        return ALFuture.of(service().<List<String>>call("getSubscribers", name));
     }
 
     /**
@@ -60,9 +93,19 @@ public class ALMemory extends ALModule {
     */
     public void removeMicroEvent(String name) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("removeMicroEvent", name);
+            service().call("removeMicroEvent", name);
         else
-            service.call("removeMicroEvent", name).get();
+            service().call("removeMicroEvent", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #removeMicroEvent}.
+    * Removes a micro event from memory and unsubscribes any exiting subscribers.
+    * 
+    * @param name  Name of the event to remove.
+    */
+    public ALFuture<Void> removeMicroEventAsync(String name) throws CallError {
+        return ALFuture.of(service().<Void>call("removeMicroEvent", name));
     }
 
     /**
@@ -73,10 +116,24 @@ public class ALMemory extends ALModule {
     * @param callbackMethod  Name of the module's method to call when a data is changed
     */
     public void subscribeToEvent(String name, String callbackModule, String callbackMethod) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("subscribeToEvent", name, callbackModule, callbackMethod);
-        else
-            service.call("subscribeToEvent", name, callbackModule, callbackMethod).get();
+        if (isAsynchronous) {
+            recordSubscription(ALFuture.of(service().<Void>call("subscribeToEvent", name, callbackModule, callbackMethod)), "unsubscribeToEvent", name, callbackModule);
+            return;
+        }
+        service().call("subscribeToEvent", name, callbackModule, callbackMethod).get();
+        recordSubscription("unsubscribeToEvent", name, callbackModule);
+    }
+
+    /**
+    * Asynchronous version of {@link #subscribeToEvent}.
+    * Subscribes to an event and automaticaly launches the module that declared itself as the generator of the event if required.
+    * 
+    * @param name  The name of the event to subscribe to
+    * @param callbackModule  Name of the module to call with notifications
+    * @param callbackMethod  Name of the module's method to call when a data is changed
+    */
+    public ALFuture<Void> subscribeToEventAsync(String name, String callbackModule, String callbackMethod) throws CallError {
+        return recordSubscription(ALFuture.of(service().<Void>call("subscribeToEvent", name, callbackModule, callbackMethod)), "unsubscribeToEvent", name, callbackModule);
     }
 
     /**
@@ -87,9 +144,20 @@ public class ALMemory extends ALModule {
     */
     public void insertData(String key, Integer value) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("insertData", key, value);
+            service().call("insertData", key, value);
         else
-            service.call("insertData", key, value).get();
+            service().call("insertData", key, value).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #insertData}.
+    * Inserts a key-value pair into memory, where value is an int
+    * 
+    * @param key  Name of the value to be inserted.
+    * @param value  The int to be inserted
+    */
+    public ALFuture<Void> insertDataAsync(String key, Integer value) throws CallError {
+        return ALFuture.of(service().<Void>call("insertData", key, value));
     }
 
     /**
@@ -101,10 +169,25 @@ public class ALMemory extends ALModule {
     * @param callbackMethod  Name of the module's method to call when a data is changed
     */
     public void subscribeToMicroEvent(String name, String callbackModule, String callbackMessage, String callbackMethod) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("subscribeToMicroEvent", name, callbackModule, callbackMessage, callbackMethod);
-        else
-            service.call("subscribeToMicroEvent", name, callbackModule, callbackMessage, callbackMethod).get();
+        if (isAsynchronous) {
+            recordSubscription(ALFuture.of(service().<Void>call("subscribeToMicroEvent", name, callbackModule, callbackMessage, callbackMethod)), "unsubscribeToMicroEvent", name, callbackModule);
+            return;
+        }
+        service().call("subscribeToMicroEvent", name, callbackModule, callbackMessage, callbackMethod).get();
+        recordSubscription("unsubscribeToMicroEvent", name, callbackModule);
+    }
+
+    /**
+    * Asynchronous version of {@link #subscribeToMicroEvent}.
+    * Subscribes to a microEvent. Subscribed modules are notified on theircallback method whenever the data is updated, even if the new value is the same as the old value.
+    * 
+    * @param name  Name of the data.
+    * @param callbackModule  Name of the module to call with notifications
+    * @param callbackMessage  Message included in the notification. This can be used to disambiguate multiple subscriptions.
+    * @param callbackMethod  Name of the module's method to call when a data is changed
+    */
+    public ALFuture<Void> subscribeToMicroEventAsync(String name, String callbackModule, String callbackMessage, String callbackMethod) throws CallError {
+        return recordSubscription(ALFuture.of(service().<Void>call("subscribeToMicroEvent", name, callbackModule, callbackMessage, callbackMethod)), "unsubscribeToMicroEvent", name, callbackModule);
     }
 
     /**
@@ -114,9 +197,19 @@ public class ALMemory extends ALModule {
     */
     public void unregisterModuleReference(String moduleName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("unregisterModuleReference", moduleName);
+            service().call("unregisterModuleReference", moduleName);
         else
-            service.call("unregisterModuleReference", moduleName).get();
+            service().call("unregisterModuleReference", moduleName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #unregisterModuleReference}.
+    * Informs ALMemory that a module doesn't exist anymore.
+    * 
+    * @param moduleName  Name of the departing module.
+    */
+    public ALFuture<Void> unregisterModuleReferenceAsync(String moduleName) throws CallError {
+        return ALFuture.of(service().<Void>call("unregisterModuleReference", moduleName));
     }
 
     /**
@@ -125,9 +218,18 @@ public class ALMemory extends ALModule {
     */
     public void _perf() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_perf");
+            service().call("_perf");
         else
-            service.call("_perf").get();
+            service().call("_perf").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_perf}.
+    * ALMemory performance
+    * 
+    */
+    public ALFuture<Void> _perfAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_perf"));
     }
 
     /**
@@ -137,10 +239,23 @@ public class ALMemory extends ALModule {
     * @param callbackModule  The name of the module that was given when subscribing.
     */
     public void unsubscribeToEvent(String name, String callbackModule) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("unsubscribeToEvent", name, callbackModule);
-        else
-            service.call("unsubscribeToEvent", name, callbackModule).get();
+        if (isAsynchronous) {
+            forgetSubscription(ALFuture.of(service().<Void>call("unsubscribeToEvent", name, callbackModule)), "unsubscribeToEvent", name, callbackModule);
+            return;
+        }
+        service().call("unsubscribeToEvent", name, callbackModule).get();
+        forgetSubscription("unsubscribeToEvent", name, callbackModule);
+    }
+
+    /**
+    * Asynchronous version of {@link #unsubscribeToEvent}.
+    * Unsubscribes a module from the given event. No further notifications will be received.
+    * 
+    * @param name  The name of the event
+    * @param callbackModule  The name of the module that was given when subscribing.
+    */
+    public ALFuture<Void> unsubscribeToEventAsync(String name, String callbackModule) throws CallError {
+        return forgetSubscription(ALFuture.of(service().<Void>call("unsubscribeToEvent", name, callbackModule)), "unsubscribeToEvent", name, callbackModule);
     }
 
     /**
@@ -150,10 +265,23 @@ public class ALMemory extends ALModule {
     * @param callbackModule  The name of the module that was given when subscribing.
     */
     public void unsubscribeToMicroEvent(String name, String callbackModule) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("unsubscribeToMicroEvent", name, callbackModule);
-        else
-            service.call("unsubscribeToMicroEvent", name, callbackModule).get();
+        if (isAsynchronous) {
+            forgetSubscription(ALFuture.of(service().<Void>call("unsubscribeToMicroEvent", name, callbackModule)), "unsubscribeToMicroEvent", name, callbackModule);
+            return;
+        }
+        service().call("unsubscribeToMicroEvent", name, callbackModule).get();
+        forgetSubscription("unsubscribeToMicroEvent", name, callbackModule);
+    }
+
+    /**
+    * Asynchronous version of {@link #unsubscribeToMicroEvent}.
+    * Unsubscribes from the given event. No further notifications will be received.
+    * 
+    * @param name  Name of the event.
+    * @param callbackModule  The name of the module that was given when subscribing.
+    */
+    public ALFuture<Void> unsubscribeToMicroEventAsync(String name, String callbackModule) throws CallError {
+        return forgetSubscription(ALFuture.of(service().<Void>call("unsubscribeToMicroEvent", name, callbackModule)), "unsubscribeToMicroEvent", name, callbackModule);
     }
 
     /**
@@ -164,9 +292,20 @@ public class ALMemory extends ALModule {
     */
     public void insertData(String key, Float value) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("insertData", key, value);
+            service().call("insertData", key, value);
         else
-            service.call("insertData", key, value).get();
+            service().call("insertData", key, value).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #insertData}.
+    * Inserts a key-value pair into memory, where value is a float
+    * 
+    * @param key  Name of the value to be inserted.
+    * @param value  The float to be inserted
+    */
+    public ALFuture<Void> insertDataAsync(String key, Float value) throws CallError {
+        return ALFuture.of(service().<Void>call("insertData", key, value));
     }
 
     /**
@@ -178,9 +317,21 @@ public class ALMemory extends ALModule {
     */
     public void _subscribeOnDataSetTimePolicy(String name, String callbackModule, Integer nTimePolicy) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_subscribeOnDataSetTimePolicy", name, callbackModule, nTimePolicy);
+            service().call("_subscribeOnDataSetTimePolicy", name, callbackModule, nTimePolicy);
         else
-            service.call("_subscribeOnDataSetTimePolicy", name, callbackModule, nTimePolicy).get();
+            service().call("_subscribeOnDataSetTimePolicy", name, callbackModule, nTimePolicy).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_subscribeOnDataSetTimePolicy}.
+    * Allows modules to change time policy of already subscribed data.
+    * 
+    * @param name  Name of the data.
+    * @param callbackModule  Name of the module.
+    * @param nTimePolicy  time of new policy in ms. Default is 0: no time policy: called at every change/insert. If timepolicy > 0, we will not notifiy under timepolicy even if data change under timepolicy frequency
+    */
+    public ALFuture<Void> _subscribeOnDataSetTimePolicyAsync(String name, String callbackModule, Integer nTimePolicy) throws CallError {
+        return ALFuture.of(service().<Void>call("_subscribeOnDataSetTimePolicy", name, callbackModule, nTimePolicy));
     }
 
     /**
@@ -192,9 +343,21 @@ public class ALMemory extends ALModule {
     */
     public void _subscribeOnDataSetSynchronizeResponse(String name, String callbackModule, Boolean synchronizedResponse) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_subscribeOnDataSetSynchronizeResponse", name, callbackModule, synchronizedResponse);
+            service().call("_subscribeOnDataSetSynchronizeResponse", name, callbackModule, synchronizedResponse);
         else
-            service.call("_subscribeOnDataSetSynchronizeResponse", name, callbackModule, synchronizedResponse).get();
+            service().call("_subscribeOnDataSetSynchronizeResponse", name, callbackModule, synchronizedResponse).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_subscribeOnDataSetSynchronizeResponse}.
+    * Receives notifications in the same order that the event were sent. This is slower than
+    * 
+    * @param name  Name of the data.
+    * @param callbackModule  Name of the module.
+    * @param synchronizedResponse  True to receive notifications in the same order as events are sent
+    */
+    public ALFuture<Void> _subscribeOnDataSetSynchronizeResponseAsync(String name, String callbackModule, Boolean synchronizedResponse) throws CallError {
+        return ALFuture.of(service().<Void>call("_subscribeOnDataSetSynchronizeResponse", name, callbackModule, synchronizedResponse));
     }
 
     /**
@@ -205,9 +368,20 @@ public class ALMemory extends ALModule {
     */
     public void setDescription(String name, String description) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setDescription", name, description);
+            service().call("setDescription", name, description);
         else
-            service.call("setDescription", name, description).get();
+            service().call("setDescription", name, description).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setDescription}.
+    * Describe a key
+    * 
+    * @param name  Name of the key.
+    * @param description  The description of the event (text format).
+    */
+    public ALFuture<Void> setDescriptionAsync(String name, String description) throws CallError {
+        return ALFuture.of(service().<Void>call("setDescription", name, description));
     }
 
     /**
@@ -217,7 +391,18 @@ public class ALMemory extends ALModule {
     * @return an array of tuple (name, type, description) describing all keys.
     */
     public java.lang.Object getDescriptionList(List<String> keylist) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getDescriptionList", keylist).get();
+        return (java.lang.Object)service().call("getDescriptionList", keylist).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getDescriptionList}.
+    * Descriptions of all given keys
+    * 
+    * @param keylist  List of keys. (empty to get all descriptions)
+    * @return an array of tuple (name, type, description) describing all keys.
+    */
+    public ALFuture<java.lang.Object> getDescriptionListAsync(List<String> keylist) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getDescriptionList", keylist));
     }
 
     /**
@@ -229,9 +414,21 @@ public class ALMemory extends ALModule {
     */
     public void addMapping(String serviceName, String signal, String event) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("addMapping", serviceName, signal, event);
+            service().call("addMapping", serviceName, signal, event);
         else
-            service.call("addMapping", serviceName, signal, event).get();
+            service().call("addMapping", serviceName, signal, event).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #addMapping}.
+    * Add a mapping between signal and event
+    * 
+    * @param service  Name of the service
+    * @param signal  Name of the signal
+    * @param event  Name of the event
+    */
+    public ALFuture<Void> addMappingAsync(String serviceName, String signal, String event) throws CallError {
+        return ALFuture.of(service().<Void>call("addMapping", serviceName, signal, event));
     }
 
     /**
@@ -242,9 +439,20 @@ public class ALMemory extends ALModule {
     */
     public void addMapping(String serviceName, Map<String, String> signalEvent) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("addMapping", serviceName, signalEvent);
+            service().call("addMapping", serviceName, signalEvent);
         else
-            service.call("addMapping", serviceName, signalEvent).get();
+            service().call("addMapping", serviceName, signalEvent).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #addMapping}.
+    * Add a mapping between signal and event
+    * 
+    * @param service  Name of the service
+    * @param signalEvent  A map of signal corresponding to event
+    */
+    public ALFuture<Void> addMappingAsync(String serviceName, Map<String, String> signalEvent) throws CallError {
+        return ALFuture.of(service().<Void>call("addMapping", serviceName, signalEvent));
     }
 
     /**
@@ -255,9 +463,20 @@ public class ALMemory extends ALModule {
     */
     public void insertData(String key, java.lang.Object data) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("insertData", key, data);
+            service().call("insertData", key, data);
         else
-            service.call("insertData", key, data).get();
+            service().call("insertData", key, data).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #insertData}.
+    * Inserts a key-value pair into memory, where value is an ALValue
+    * 
+    * @param key  Name of the value to be inserted.
+    * @param data  The ALValue to be inserted. This could contain a basic type, or a more complex array. See the ALValue documentation for more information.
+    */
+    public ALFuture<Void> insertDataAsync(String key, java.lang.Object data) throws CallError {
+        return ALFuture.of(service().<Void>call("insertData", key, data));
     }
 
     /**
@@ -267,9 +486,19 @@ public class ALMemory extends ALModule {
     */
     public void insertListData(java.lang.Object list) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("insertListData", list);
+            service().call("insertListData", list);
         else
-            service.call("insertListData", list).get();
+            service().call("insertListData", list).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #insertListData}.
+    * Inserts a list of key-value pairs into memory.
+    * 
+    * @param list  An ALValue list of the form [[Key, Value],...]. Each item will be inserted.
+    */
+    public ALFuture<Void> insertListDataAsync(java.lang.Object list) throws CallError {
+        return ALFuture.of(service().<Void>call("insertListData", list));
     }
 
     /**
@@ -279,7 +508,18 @@ public class ALMemory extends ALModule {
     * @return String type: Data, Event, MicroEvent
     */
     public String getType(String key) throws CallError, InterruptedException {
-        return (String)service.call("getType", key).get();
+        return (String)service().call("getType", key).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getType}.
+    * Gets the storage class of the stored data. This is not the underlying POD type.
+    * 
+    * @param key  Name of the variable
+    * @return String type: Data, Event, MicroEvent
+    */
+    public ALFuture<String> getTypeAsync(String key) throws CallError {
+        return ALFuture.of(service().<String>call("getType", key));
     }
 
     /**
@@ -290,9 +530,20 @@ public class ALMemory extends ALModule {
     */
     public void raiseEvent(String name, java.lang.Object value) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("raiseEvent", name, value);
+            service().call("raiseEvent", name, value);
         else
-            service.call("raiseEvent", name, value).get();
+            service().call("raiseEvent", name, value).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #raiseEvent}.
+    * Publishes the given data to all subscribers.
+    * 
+    * @param name  Name of the event to raise.
+    * @param value  The data associated with the event. This could contain a basic type, or a more complex array. See the ALValue documentation for more information.
+    */
+    public ALFuture<Void> raiseEventAsync(String name, java.lang.Object value) throws CallError {
+        return ALFuture.of(service().<Void>call("raiseEvent", name, value));
     }
 
     /**
@@ -303,9 +554,20 @@ public class ALMemory extends ALModule {
     */
     public void raiseMicroEvent(String name, java.lang.Object value) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("raiseMicroEvent", name, value);
+            service().call("raiseMicroEvent", name, value);
         else
-            service.call("raiseMicroEvent", name, value).get();
+            service().call("raiseMicroEvent", name, value).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #raiseMicroEvent}.
+    * Publishes the given data to all subscribers.
+    * 
+    * @param name  Name of the event to raise.
+    * @param value  The data associated with the event. This could contain a basic type, or a more complex array. See the ALValue documentation for more information.
+    */
+    public ALFuture<Void> raiseMicroEventAsync(String name, java.lang.Object value) throws CallError {
+        return ALFuture.of(service().<Void>call("raiseMicroEvent", name, value));
     }
 
     /**
@@ -315,9 +577,19 @@ public class ALMemory extends ALModule {
     */
     public void removeEvent(String name) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("removeEvent", name);
+            service().call("removeEvent", name);
         else
-            service.call("removeEvent", name).get();
+            service().call("removeEvent", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #removeEvent}.
+    * Removes a event from memory and unsubscribes any exiting subscribers.
+    * 
+    * @param name  Name of the event to remove.
+    */
+    public ALFuture<Void> removeEventAsync(String name) throws CallError {
+        return ALFuture.of(service().<Void>call("removeEvent", name));
     }
 
     /**
@@ -329,9 +601,21 @@ public class ALMemory extends ALModule {
     */
     public void _insertObject(String name, java.lang.Object buffer, Integer bufferSize) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_insertObject", name, buffer, bufferSize);
+            service().call("_insertObject", name, buffer, bufferSize);
         else
-            service.call("_insertObject", name, buffer, bufferSize).get();
+            service().call("_insertObject", name, buffer, bufferSize).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_insertObject}.
+    * Insert object in ALMemory. Please use ALMemoryFastAccess
+    * 
+    * @param name  ALMemory data name
+    * @param buffer  buffer in ALValue
+    * @param bufferSize  buffer size
+    */
+    public ALFuture<Void> _insertObjectAsync(String name, java.lang.Object buffer, Integer bufferSize) throws CallError {
+        return ALFuture.of(service().<Void>call("_insertObject", name, buffer, bufferSize));
     }
 
     /**
@@ -343,10 +627,25 @@ public class ALMemory extends ALModule {
     * @param callbacMethod  Name of the module's method to call when a data is changed
     */
     public void subscribeToEvent(String name, String callbackModule, String callbackMessage, String callbacMethod) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("subscribeToEvent", name, callbackModule, callbackMessage, callbacMethod);
-        else
-            service.call("subscribeToEvent", name, callbackModule, callbackMessage, callbacMethod).get();
+        if (isAsynchronous) {
+            recordSubscription(ALFuture.of(service().<Void>call("subscribeToEvent", name, callbackModule, callbackMessage, callbacMethod)), "unsubscribeToEvent", name, callbackModule);
+            return;
+        }
+        service().call("subscribeToEvent", name, callbackModule, callbackMessage, callbacMethod).get();
+        recordSubscription("unsubscribeToEvent", name, callbackModule);
+    }
+
+    /**
+    * Asynchronous version of {@link #subscribeToEvent}.
+    * DEPRECATED Subscribes to event and automaticaly launches the module capable of generating the event if it is not already running. Please use the version without the callbackMessage parameter.
+    * 
+    * @param name  The name of the event to subscribe to
+    * @param callbackModule  Name of the module to call with notifications
+    * @param callbackMessage  DEPRECATED Message included in the notification.
+    * @param callbacMethod  Name of the module's method to call when a data is changed
+    */
+    public ALFuture<Void> subscribeToEventAsync(String name, String callbackModule, String callbackMessage, String callbacMethod) throws CallError {
+        return recordSubscription(ALFuture.of(service().<Void>call("subscribeToEvent", name, callbackModule, callbackMessage, callbacMethod)), "unsubscribeToEvent", name, callbackModule);
     }
 
     /**
@@ -354,7 +653,16 @@ public class ALMemory extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -363,9 +671,18 @@ public class ALMemory extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -373,7 +690,16 @@ public class ALMemory extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -382,9 +708,18 @@ public class ALMemory extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -393,7 +728,17 @@ public class ALMemory extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -402,7 +747,17 @@ public class ALMemory extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -411,7 +766,17 @@ public class ALMemory extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -421,7 +786,18 @@ public class ALMemory extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -430,7 +806,17 @@ public class ALMemory extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -441,7 +827,19 @@ public class ALMemory extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -451,7 +849,18 @@ public class ALMemory extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -461,9 +870,19 @@ public class ALMemory extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -472,7 +891,17 @@ public class ALMemory extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -482,7 +911,18 @@ public class ALMemory extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -492,9 +932,19 @@ public class ALMemory extends ALModule {
     */
     public void declareEvent(String eventName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("declareEvent", eventName);
+            service().call("declareEvent", eventName);
         else
-            service.call("declareEvent", eventName).get();
+            service().call("declareEvent", eventName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #declareEvent}.
+    * Declares an event to allow future subscriptions to the event
+    * 
+    * @param eventName  The name of the event
+    */
+    public ALFuture<Void> declareEventAsync(String eventName) throws CallError {
+        return ALFuture.of(service().<Void>call("declareEvent", eventName));
     }
 
     /**
@@ -505,9 +955,20 @@ public class ALMemory extends ALModule {
     */
     public void declareEvent(String eventName, String extractorName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("declareEvent", eventName, extractorName);
+            service().call("declareEvent", eventName, extractorName);
         else
-            service.call("declareEvent", eventName, extractorName).get();
+            service().call("declareEvent", eventName, extractorName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #declareEvent}.
+    * Declares an event to allow future subscriptions to the event
+    * 
+    * @param eventName  The name of the event
+    * @param extractorName  The name of the extractor capable of creating the event
+    */
+    public ALFuture<Void> declareEventAsync(String eventName, String extractorName) throws CallError {
+        return ALFuture.of(service().<Void>call("declareEvent", eventName, extractorName));
     }
 
     /**
@@ -517,7 +978,18 @@ public class ALMemory extends ALModule {
     * @return The data as an ALValue. This can often be cast transparently into the original type.
     */
     public java.lang.Object getData(String key) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getData", key).get();
+        return (java.lang.Object)service().call("getData", key).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getData}.
+    * Gets the value of a key-value pair stored in memory
+    * 
+    * @param key  Name of the value.
+    * @return The data as an ALValue. This can often be cast transparently into the original type.
+    */
+    public ALFuture<java.lang.Object> getDataAsync(String key) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getData", key));
     }
 
     /**
@@ -528,7 +1000,19 @@ public class ALMemory extends ALModule {
     * @return The data as an ALValue
     */
     public java.lang.Object getData(String key, Integer deprecatedParameter) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getData", key, deprecatedParameter).get();
+        return (java.lang.Object)service().call("getData", key, deprecatedParameter).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getData}.
+    * DEPRECATED - Gets the value of a key-value pair stored in memory. Please use the version of this method with no second parameter.
+    * 
+    * @param key  Name of the value.
+    * @param deprecatedParameter  DEPRECATED - This parameter has no effect, but is left for compatibility reason.
+    * @return The data as an ALValue
+    */
+    public ALFuture<java.lang.Object> getDataAsync(String key, Integer deprecatedParameter) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getData", key, deprecatedParameter));
     }
 
     /**
@@ -538,7 +1022,18 @@ public class ALMemory extends ALModule {
     * @return An AnyObject with a signal named "signal"
     */
     public com.aldebaran.qimessaging.Object subscriber(String eventName) throws CallError, InterruptedException {
-        return (com.aldebaran.qimessaging.Object)service.call("subscriber", eventName).get();
+        return (com.aldebaran.qimessaging.Object)service().call("subscriber", eventName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #subscriber}.
+    * Get an object wrapping a signal bound to the given ALMemory event. Throw if the event does not exist or if it is invalid.
+    * 
+    * @param eventName  Name of the ALMemory event
+    * @return An AnyObject with a signal named "signal"
+    */
+    public ALFuture<com.aldebaran.qimessaging.Object> subscriberAsync(String eventName) throws CallError {
+        return ALFuture.of(service().<com.aldebaran.qimessaging.Object>call("subscriber", eventName));
     }
 
     /**
@@ -548,7 +1043,18 @@ public class ALMemory extends ALModule {
     * @return A list of all the data key names that contain the given string.
     */
     public java.lang.Object getTimestamp(String key) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getTimestamp", key).get();
+        return (java.lang.Object)service().call("getTimestamp", key).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getTimestamp}.
+    * Get data value and timestamp
+    * 
+    * @param key  Name of the variable
+    * @return A list of all the data key names that contain the given string.
+    */
+    public ALFuture<java.lang.Object> getTimestampAsync(String key) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getTimestamp", key));
     }
 
     /**
@@ -558,7 +1064,18 @@ public class ALMemory extends ALModule {
     * @return A list of all the data key names that contain the given string.
     */
     public java.lang.Object getEventHistory(String key) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getEventHistory", key).get();
+        return (java.lang.Object)service().call("getEventHistory", key).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getEventHistory}.
+    * Get data value and timestamp
+    * 
+    * @param key  Name of the variable
+    * @return A list of all the data key names that contain the given string.
+    */
+    public ALFuture<java.lang.Object> getEventHistoryAsync(String key) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getEventHistory", key));
     }
 
     /**
@@ -568,7 +1085,18 @@ public class ALMemory extends ALModule {
     * @return A list of all the data key names that contain the given string.
     */
     public List<String> getDataList(String filter) throws CallError, InterruptedException {
-        return (List<String>)service.call("getDataList", filter).get();
+        return (List<String>)service().call("getDataList", filter).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getDataList}.
+    * Gets a list of all key names that contain a given string
+    * 
+    * @param filter  A string used as the search term
+    * @return A list of all the data key names that contain the given string.
+    */
+    public ALFuture<List<String>> getDataListAsync(String filter) throws CallError {
+        return ALFuture.of(service().<List<String>>call("getDataList", filter));
     }
 
     /**
@@ -577,7 +1105,17 @@ public class ALMemory extends ALModule {
     * @return A list containing the keys in memory
     */
     public List<String> getDataListName() throws CallError, InterruptedException {
-        return (List<String>)service.call("getDataListName").get();
+        return (List<String>)service().call("getDataListName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getDataListName}.
+    * Gets the key names for all the key-value pairs in memory
+    * 
+    * @return A list containing the keys in memory
+    */
+    public ALFuture<List<String>> getDataListNameAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getDataListName"));
     }
 
     /**
@@ -588,7 +1126,19 @@ public class ALMemory extends ALModule {
     * @return an array containing all the retrieved data
     */
     public java.lang.Object getDataOnChange(String key, Integer deprecatedParameter) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getDataOnChange", key, deprecatedParameter).get();
+        return (java.lang.Object)service().call("getDataOnChange", key, deprecatedParameter).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getDataOnChange}.
+    * DEPRECATED - Blocks the caller until the value of a key changes
+    * 
+    * @param key  Name of the data.
+    * @param deprecatedParameter  DEPRECATED - this parameter has no effect
+    * @return an array containing all the retrieved data
+    */
+    public ALFuture<java.lang.Object> getDataOnChangeAsync(String key, Integer deprecatedParameter) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getDataOnChange", key, deprecatedParameter));
     }
 
     /**
@@ -598,7 +1148,18 @@ public class ALMemory extends ALModule {
     * @return A pointer converted to int
     */
     public java.lang.Object getDataPtr(String key) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getDataPtr", key).get();
+        return (java.lang.Object)service().call("getDataPtr", key).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getDataPtr}.
+    * Gets a pointer to 32 a bit data item. Beware, the pointer will only be valid during the lifetime of the ALMemory object. Use with care, at initialization, not every loop.
+    * 
+    * @param key  Name of the data.
+    * @return A pointer converted to int
+    */
+    public ALFuture<java.lang.Object> getDataPtrAsync(String key) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getDataPtr", key));
     }
 
     /**
@@ -607,7 +1168,17 @@ public class ALMemory extends ALModule {
     * @return A list containing the names of all events
     */
     public List<String> getEventList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getEventList").get();
+        return (List<String>)service().call("getEventList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getEventList}.
+    * Gets a list containing the names of all the declared events
+    * 
+    * @return A list containing the names of all events
+    */
+    public ALFuture<List<String>> getEventListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getEventList"));
     }
 
     /**
@@ -617,7 +1188,18 @@ public class ALMemory extends ALModule {
     * @return A list containing the names of the events associated with the given extractor
     */
     public List<String> getExtractorEvent(String extractorName) throws CallError, InterruptedException {
-        return (List<String>)service.call("getExtractorEvent", extractorName).get();
+        return (List<String>)service().call("getExtractorEvent", extractorName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getExtractorEvent}.
+    * Gets the list of all events generated by a given extractor
+    * 
+    * @param extractorName  The name of the extractor
+    * @return A list containing the names of the events associated with the given extractor
+    */
+    public ALFuture<List<String>> getExtractorEventAsync(String extractorName) throws CallError {
+        return ALFuture.of(service().<List<String>>call("getExtractorEvent", extractorName));
     }
 
     /**
@@ -627,7 +1209,18 @@ public class ALMemory extends ALModule {
     * @return An array containing all the values corresponding to the given keys.
     */
     public java.lang.Object getListData(java.lang.Object keyList) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getListData", keyList).get();
+        return (java.lang.Object)service().call("getListData", keyList).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getListData}.
+    * Gets the values associated with the given list of keys. This is more efficient than calling getData many times, especially over the network.
+    * 
+    * @param keyList  An array containing the key names.
+    * @return An array containing all the values corresponding to the given keys.
+    */
+    public ALFuture<java.lang.Object> getListDataAsync(java.lang.Object keyList) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getListData", keyList));
     }
 
     /**
@@ -636,7 +1229,17 @@ public class ALMemory extends ALModule {
     * @return A list containing the names of all the microEvents
     */
     public List<String> getMicroEventList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMicroEventList").get();
+        return (List<String>)service().call("getMicroEventList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMicroEventList}.
+    * Gets a list containing the names of all the declared micro events
+    * 
+    * @return A list containing the names of all the microEvents
+    */
+    public ALFuture<List<String>> getMicroEventListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMicroEventList"));
     }
 
 }
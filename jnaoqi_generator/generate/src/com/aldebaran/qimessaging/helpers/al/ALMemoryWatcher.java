@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -27,9 +28,21 @@ public class ALMemoryWatcher extends ALModule {
     */
     public void _onEventNotify(String dataName, java.lang.Object dataValue, java.lang.Object message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onEventNotify", dataName, dataValue, message);
+            service().call("_onEventNotify", dataName, dataValue, message);
         else
-            service.call("_onEventNotify", dataName, dataValue, message).get();
+            service().call("_onEventNotify", dataName, dataValue, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onEventNotify}.
+    * Be notified when an event we have subscribe to has changed in ALMemory
+    * 
+    * @param dataName  name of the data
+    * @param dataValue  value of the data
+    * @param message  callback message
+    */
+    public ALFuture<Void> _onEventNotifyAsync(String dataName, java.lang.Object dataValue, java.lang.Object message) throws CallError {
+        return ALFuture.of(service().<Void>call("_onEventNotify", dataName, dataValue, message));
     }
 
     /**
@@ -41,9 +54,21 @@ public class ALMemoryWatcher extends ALModule {
     */
     public void _onKeyRemoved(String dataName, java.lang.Object dataValue, java.lang.Object message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onKeyRemoved", dataName, dataValue, message);
+            service().call("_onKeyRemoved", dataName, dataValue, message);
         else
-            service.call("_onKeyRemoved", dataName, dataValue, message).get();
+            service().call("_onKeyRemoved", dataName, dataValue, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onKeyRemoved}.
+    * Be notified when a key is removed in ALMemory
+    * 
+    * @param dataName  name of the data
+    * @param dataValue  value of the data
+    * @param message  callback message
+    */
+    public ALFuture<Void> _onKeyRemovedAsync(String dataName, java.lang.Object dataValue, java.lang.Object message) throws CallError {
+        return ALFuture.of(service().<Void>call("_onKeyRemoved", dataName, dataValue, message));
     }
 
     /**
@@ -55,9 +80,21 @@ public class ALMemoryWatcher extends ALModule {
     */
     public void _onKeyTypeChanged(String dataName, java.lang.Object dataValue, java.lang.Object message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onKeyTypeChanged", dataName, dataValue, message);
+            service().call("_onKeyTypeChanged", dataName, dataValue, message);
         else
-            service.call("_onKeyTypeChanged", dataName, dataValue, message).get();
+            service().call("_onKeyTypeChanged", dataName, dataValue, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onKeyTypeChanged}.
+    * Be notified when the type of a key is changed in ALMemory
+    * 
+    * @param dataName  name of the data
+    * @param dataValue  value of the data
+    * @param message  callback message
+    */
+    public ALFuture<Void> _onKeyTypeChangedAsync(String dataName, java.lang.Object dataValue, java.lang.Object message) throws CallError {
+        return ALFuture.of(service().<Void>call("_onKeyTypeChanged", dataName, dataValue, message));
     }
 
     /**
@@ -69,9 +106,21 @@ public class ALMemoryWatcher extends ALModule {
     */
     public void _onKeyAdded(String dataName, java.lang.Object dataValue, java.lang.Object message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onKeyAdded", dataName, dataValue, message);
+            service().call("_onKeyAdded", dataName, dataValue, message);
         else
-            service.call("_onKeyAdded", dataName, dataValue, message).get();
+            service().call("_onKeyAdded", dataName, dataValue, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onKeyAdded}.
+    * Be notified when a key is removed in ALMemory
+    * 
+    * @param dataName  name of the data
+    * @param dataValue  value of the data
+    * @param message  callback message
+    */
+    public ALFuture<Void> _onKeyAddedAsync(String dataName, java.lang.Object dataValue, java.lang.Object message) throws CallError {
+        return ALFuture.of(service().<Void>call("_onKeyAdded", dataName, dataValue, message));
     }
 
     /**
@@ -79,7 +128,16 @@ public class ALMemoryWatcher extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -88,9 +146,18 @@ public class ALMemoryWatcher extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -98,7 +165,16 @@ public class ALMemoryWatcher extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -107,9 +183,18 @@ public class ALMemoryWatcher extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -118,7 +203,17 @@ public class ALMemoryWatcher extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -127,7 +222,17 @@ public class ALMemoryWatcher extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -136,7 +241,17 @@ public class ALMemoryWatcher extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -146,7 +261,18 @@ public class ALMemoryWatcher extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -155,7 +281,17 @@ public class ALMemoryWatcher extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -166,7 +302,19 @@ public class ALMemoryWatcher extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -176,7 +324,18 @@ public class ALMemoryWatcher extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -186,9 +345,19 @@ public class ALMemoryWatcher extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -197,7 +366,17 @@ public class ALMemoryWatcher extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -207,7 +386,18 @@ public class ALMemoryWatcher extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -216,7 +406,17 @@ public class ALMemoryWatcher extends ALModule {
     * @return a list of ALMemory keys
     */
     public List<String> listeners() throws CallError, InterruptedException {
-        return (List<String>)service.call("listeners").get();
+        return (List<String>)service().call("listeners").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #listeners}.
+    * get the list of listened ALMemory keys
+    * 
+    * @return a list of ALMemory keys
+    */
+    public ALFuture<List<String>> listenersAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("listeners"));
     }
 
     /**
@@ -227,9 +427,20 @@ public class ALMemoryWatcher extends ALModule {
     */
     public void addListener(String name, Integer interval) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("addListener", name, interval);
+            service().call("addListener", name, interval);
         else
-            service.call("addListener", name, interval).get();
+            service().call("addListener", name, interval).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #addListener}.
+    * add an ALMemory key to the list of keys to listen to
+    * 
+    * @param name  the complete name of the ALMemory key
+    * @param interval  interval of time the system should wait before retrieving this key value again
+    */
+    public ALFuture<Void> addListenerAsync(String name, Integer interval) throws CallError {
+        return ALFuture.of(service().<Void>call("addListener", name, interval));
     }
 
     /**
@@ -239,9 +450,19 @@ public class ALMemoryWatcher extends ALModule {
     */
     public void addListener(String name) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("addListener", name);
+            service().call("addListener", name);
         else
-            service.call("addListener", name).get();
+            service().call("addListener", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #addListener}.
+    * add an ALMemory key to the list of keys to listen to
+    * 
+    * @param name  the complete name of the ALMemory key
+    */
+    public ALFuture<Void> addListenerAsync(String name) throws CallError {
+        return ALFuture.of(service().<Void>call("addListener", name));
     }
 
     /**
@@ -252,9 +473,20 @@ public class ALMemoryWatcher extends ALModule {
     */
     public void addListeners(List<String> listNames, Integer interval) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("addListeners", listNames, interval);
+            service().call("addListeners", listNames, interval);
         else
-            service.call("addListeners", listNames, interval).get();
+            service().call("addListeners", listNames, interval).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #addListeners}.
+    * add a list of ALMemory keys to the list of keys to listen
+    * 
+    * @param listNames  the vector of complete names of ALMemory keys
+    * @param interval  interval of time the system should wait before retrieving this key value again
+    */
+    public ALFuture<Void> addListenersAsync(List<String> listNames, Integer interval) throws CallError {
+        return ALFuture.of(service().<Void>call("addListeners", listNames, interval));
     }
 
     /**
@@ -264,9 +496,19 @@ public class ALMemoryWatcher extends ALModule {
     */
     public void addListeners(List<String> listNames) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("addListeners", listNames);
+            service().call("addListeners", listNames);
         else
-            service.call("addListeners", listNames).get();
+            service().call("addListeners", listNames).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #addListeners}.
+    * add a list of ALMemory keys to the list of keys to listen
+    * 
+    * @param listNames  the vector of complete names of ALMemory keys
+    */
+    public ALFuture<Void> addListenersAsync(List<String> listNames) throws CallError {
+        return ALFuture.of(service().<Void>call("addListeners", listNames));
     }
 
     /**
@@ -275,9 +517,18 @@ public class ALMemoryWatcher extends ALModule {
     */
     public void removeAllListeners() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("removeAllListeners");
+            service().call("removeAllListeners");
         else
-            service.call("removeAllListeners").get();
+            service().call("removeAllListeners").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #removeAllListeners}.
+    * remove all keys listened to
+    * 
+    */
+    public ALFuture<Void> removeAllListenersAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("removeAllListeners"));
     }
 
     /**
@@ -287,9 +538,19 @@ public class ALMemoryWatcher extends ALModule {
     */
     public void removeListener(String name) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("removeListener", name);
+            service().call("removeListener", name);
         else
-            service.call("removeListener", name).get();
+            service().call("removeListener", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #removeListener}.
+    * remove a key from the list to listen to
+    * 
+    * @param name  the name of the key to stop to listen
+    */
+    public ALFuture<Void> removeListenerAsync(String name) throws CallError {
+        return ALFuture.of(service().<Void>call("removeListener", name));
     }
 
     /**
@@ -299,9 +560,19 @@ public class ALMemoryWatcher extends ALModule {
     */
     public void removeListeners(List<String> listNames) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("removeListeners", listNames);
+            service().call("removeListeners", listNames);
         else
-            service.call("removeListeners", listNames).get();
+            service().call("removeListeners", listNames).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #removeListeners}.
+    * remove a list of key from the list to listen
+    * 
+    * @param listNames  the vector of names of key to stop to listen
+    */
+    public ALFuture<Void> removeListenersAsync(List<String> listNames) throws CallError {
+        return ALFuture.of(service().<Void>call("removeListeners", listNames));
     }
 
     /**
@@ -310,7 +581,17 @@ public class ALMemoryWatcher extends ALModule {
     * @return The complete array of all buffered data
     */
     public java.lang.Object getData() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getData").get();
+        return (java.lang.Object)service().call("getData").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getData}.
+    * return an ALValue containing all buffered data                                       since the last call of getData().
+    * 
+    * @return The complete array of all buffered data
+    */
+    public ALFuture<java.lang.Object> getDataAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getData"));
     }
 
     /**
@@ -319,9 +600,18 @@ public class ALMemoryWatcher extends ALModule {
     */
     public void clearBuffer() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearBuffer");
+            service().call("clearBuffer");
         else
-            service.call("clearBuffer").get();
+            service().call("clearBuffer").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearBuffer}.
+    * remove all buffered data.                                           The list of keys listened to keeps unchanged.
+    * 
+    */
+    public ALFuture<Void> clearBufferAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearBuffer"));
     }
 
     /**
@@ -330,7 +620,17 @@ public class ALMemoryWatcher extends ALModule {
     * @return true if keys are being watched.
     */
     public Boolean isWatching() throws CallError, InterruptedException {
-        return (Boolean)service.call("isWatching").get();
+        return (Boolean)service().call("isWatching").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isWatching}.
+    * tells whether keys are watched and data being gathered.
+    * 
+    * @return true if keys are being watched.
+    */
+    public ALFuture<Boolean> isWatchingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isWatching"));
     }
 
     /**
@@ -340,9 +640,19 @@ public class ALMemoryWatcher extends ALModule {
     */
     public void startWatching(Integer period) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("startWatching", period);
+            service().call("startWatching", period);
         else
-            service.call("startWatching", period).get();
+            service().call("startWatching", period).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #startWatching}.
+    * start listening to selected keys from ALMemory
+    * 
+    * @param period  the time between two listen of ALMemory keys, in milliseconds.
+    */
+    public ALFuture<Void> startWatchingAsync(Integer period) throws CallError {
+        return ALFuture.of(service().<Void>call("startWatching", period));
     }
 
     /**
@@ -351,9 +661,18 @@ public class ALMemoryWatcher extends ALModule {
     */
     public void stopWatching() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stopWatching");
+            service().call("stopWatching");
         else
-            service.call("stopWatching").get();
+            service().call("stopWatching").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stopWatching}.
+    * stop listening selected keys from ALMemory.                                    List of listened keys and associated buffers keep unchanged.
+    * 
+    */
+    public ALFuture<Void> stopWatchingAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("stopWatching"));
     }
 
     /**
@@ -362,9 +681,18 @@ public class ALMemoryWatcher extends ALModule {
     */
     public void _mainThread() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_mainThread");
+            service().call("_mainThread");
         else
-            service.call("_mainThread").get();
+            service().call("_mainThread").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_mainThread}.
+    * simple loop calling buffer update every "period" milliseconds
+    * 
+    */
+    public ALFuture<Void> _mainThreadAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_mainThread"));
     }
 
     /**
@@ -374,9 +702,19 @@ public class ALMemoryWatcher extends ALModule {
     */
     public void setPeriodMs(Integer period) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setPeriodMs", period);
+            service().call("setPeriodMs", period);
         else
-            service.call("setPeriodMs", period).get();
+            service().call("setPeriodMs", period).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setPeriodMs}.
+    * edit "period" value between two buffering.
+    * 
+    * @param period  the new period (in ms) to apply.
+    */
+    public ALFuture<Void> setPeriodMsAsync(Integer period) throws CallError {
+        return ALFuture.of(service().<Void>call("setPeriodMs", period));
     }
 
 }
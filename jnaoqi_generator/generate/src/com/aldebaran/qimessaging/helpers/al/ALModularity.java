@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -24,7 +25,17 @@ public class ALModularity extends ALModule {
     * @param name  The name of the process.
     */
     public Boolean isProcesses(String name) throws CallError, InterruptedException {
-        return (Boolean)service.call("isProcesses", name).get();
+        return (Boolean)service().call("isProcesses", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isProcesses}.
+    * 
+    * 
+    * @param name  The name of the process.
+    */
+    public ALFuture<Boolean> isProcessesAsync(String name) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isProcesses", name));
     }
 
     /**
@@ -33,7 +44,17 @@ public class ALModularity extends ALModule {
     * @param name  The name of the process.
     */
     public Integer getProcessPriority(String name) throws CallError, InterruptedException {
-        return (Integer)service.call("getProcessPriority", name).get();
+        return (Integer)service().call("getProcessPriority", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getProcessPriority}.
+    * 
+    * 
+    * @param name  The name of the process.
+    */
+    public ALFuture<Integer> getProcessPriorityAsync(String name) throws CallError {
+        return ALFuture.of(service().<Integer>call("getProcessPriority", name));
     }
 
     /**
@@ -42,7 +63,17 @@ public class ALModularity extends ALModule {
     * @param name  The name of the source.
     */
     public Boolean deleteSource(String name) throws CallError, InterruptedException {
-        return (Boolean)service.call("deleteSource", name).get();
+        return (Boolean)service().call("deleteSource", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #deleteSource}.
+    * 
+    * 
+    * @param name  The name of the source.
+    */
+    public ALFuture<Boolean> deleteSourceAsync(String name) throws CallError {
+        return ALFuture.of(service().<Boolean>call("deleteSource", name));
     }
 
     /**
@@ -52,7 +83,18 @@ public class ALModularity extends ALModule {
     * @param priority  The new priority of the process.
     */
     public Boolean setProcessPriority(String name, Integer priority) throws CallError, InterruptedException {
-        return (Boolean)service.call("setProcessPriority", name, priority).get();
+        return (Boolean)service().call("setProcessPriority", name, priority).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setProcessPriority}.
+    * 
+    * 
+    * @param name  The name of the process.
+    * @param priority  The new priority of the process.
+    */
+    public ALFuture<Boolean> setProcessPriorityAsync(String name, Integer priority) throws CallError {
+        return ALFuture.of(service().<Boolean>call("setProcessPriority", name, priority));
     }
 
     /**
@@ -62,7 +104,18 @@ public class ALModularity extends ALModule {
     * @param priority  The new frequency of the process.
     */
     public Boolean setProcessFrequency(String name, Float priority) throws CallError, InterruptedException {
-        return (Boolean)service.call("setProcessFrequency", name, priority).get();
+        return (Boolean)service().call("setProcessFrequency", name, priority).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setProcessFrequency}.
+    * 
+    * 
+    * @param name  The name of the process.
+    * @param priority  The new frequency of the process.
+    */
+    public ALFuture<Boolean> setProcessFrequencyAsync(String name, Float priority) throws CallError {
+        return ALFuture.of(service().<Boolean>call("setProcessFrequency", name, priority));
     }
 
     /**
@@ -71,7 +124,17 @@ public class ALModularity extends ALModule {
     * @param heightOffset  Height Offset of the robot from the ground.
     */
     public Boolean setRobotHeightOffset(Float heightOffset) throws CallError, InterruptedException {
-        return (Boolean)service.call("setRobotHeightOffset", heightOffset).get();
+        return (Boolean)service().call("setRobotHeightOffset", heightOffset).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setRobotHeightOffset}.
+    * 
+    * 
+    * @param heightOffset  Height Offset of the robot from the ground.
+    */
+    public ALFuture<Boolean> setRobotHeightOffsetAsync(Float heightOffset) throws CallError {
+        return ALFuture.of(service().<Boolean>call("setRobotHeightOffset", heightOffset));
     }
 
     /**
@@ -80,7 +143,17 @@ public class ALModularity extends ALModule {
     * @param name  The name of the process.
     */
     public Boolean isProcessEnable(String name) throws CallError, InterruptedException {
-        return (Boolean)service.call("isProcessEnable", name).get();
+        return (Boolean)service().call("isProcessEnable", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isProcessEnable}.
+    * 
+    * 
+    * @param name  The name of the process.
+    */
+    public ALFuture<Boolean> isProcessEnableAsync(String name) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isProcessEnable", name));
     }
 
     /**
@@ -89,7 +162,17 @@ public class ALModularity extends ALModule {
     * @param name  The name of the process.
     */
     public Boolean isProcessZombie(String name) throws CallError, InterruptedException {
-        return (Boolean)service.call("isProcessZombie", name).get();
+        return (Boolean)service().call("isProcessZombie", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isProcessZombie}.
+    * 
+    * 
+    * @param name  The name of the process.
+    */
+    public ALFuture<Boolean> isProcessZombieAsync(String name) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isProcessZombie", name));
     }
 
     /**
@@ -98,7 +181,17 @@ public class ALModularity extends ALModule {
     * @param name  The name of the process.
     */
     public Boolean enableProcess(String name) throws CallError, InterruptedException {
-        return (Boolean)service.call("enableProcess", name).get();
+        return (Boolean)service().call("enableProcess", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #enableProcess}.
+    * 
+    * 
+    * @param name  The name of the process.
+    */
+    public ALFuture<Boolean> enableProcessAsync(String name) throws CallError {
+        return ALFuture.of(service().<Boolean>call("enableProcess", name));
     }
 
     /**
@@ -107,7 +200,17 @@ public class ALModularity extends ALModule {
     * @param name  The name of the process.
     */
     public Boolean disableProcess(String name) throws CallError, InterruptedException {
-        return (Boolean)service.call("disableProcess", name).get();
+        return (Boolean)service().call("disableProcess", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #disableProcess}.
+    * 
+    * 
+    * @param name  The name of the process.
+    */
+    public ALFuture<Boolean> disableProcessAsync(String name) throws CallError {
+        return ALFuture.of(service().<Boolean>call("disableProcess", name));
     }
 
     /**
@@ -116,7 +219,17 @@ public class ALModularity extends ALModule {
     * @param name  The name of the process.
     */
     public Boolean deleteProcess(String name) throws CallError, InterruptedException {
-        return (Boolean)service.call("deleteProcess", name).get();
+        return (Boolean)service().call("deleteProcess", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #deleteProcess}.
+    * 
+    * 
+    * @param name  The name of the process.
+    */
+    public ALFuture<Boolean> deleteProcessAsync(String name) throws CallError {
+        return ALFuture.of(service().<Boolean>call("deleteProcess", name));
     }
 
     /**
@@ -124,7 +237,16 @@ public class ALModularity extends ALModule {
     * 
     */
     public List<String> getProcesses() throws CallError, InterruptedException {
-        return (List<String>)service.call("getProcesses").get();
+        return (List<String>)service().call("getProcesses").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getProcesses}.
+    * 
+    * 
+    */
+    public ALFuture<List<String>> getProcessesAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getProcesses"));
     }
 
     /**
@@ -132,7 +254,16 @@ public class ALModularity extends ALModule {
     * 
     */
     public Boolean startScheduler() throws CallError, InterruptedException {
-        return (Boolean)service.call("startScheduler").get();
+        return (Boolean)service().call("startScheduler").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #startScheduler}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> startSchedulerAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("startScheduler"));
     }
 
     /**
@@ -140,7 +271,16 @@ public class ALModularity extends ALModule {
     * 
     */
     public Boolean stopScheduler() throws CallError, InterruptedException {
-        return (Boolean)service.call("stopScheduler").get();
+        return (Boolean)service().call("stopScheduler").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stopScheduler}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> stopSchedulerAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("stopScheduler"));
     }
 
     /**
@@ -148,7 +288,16 @@ public class ALModularity extends ALModule {
     * 
     */
     public String getInstrumentationResult() throws CallError, InterruptedException {
-        return (String)service.call("getInstrumentationResult").get();
+        return (String)service().call("getInstrumentationResult").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getInstrumentationResult}.
+    * 
+    * 
+    */
+    public ALFuture<String> getInstrumentationResultAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getInstrumentationResult"));
     }
 
     /**
@@ -158,7 +307,18 @@ public class ALModularity extends ALModule {
     * @param level  Maximum depth (-1 for unlimited depth)
     */
     public java.lang.Object getDotGraph(String filter, Integer level) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getDotGraph", filter, level).get();
+        return (java.lang.Object)service().call("getDotGraph", filter, level).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getDotGraph}.
+    * 
+    * 
+    * @param filter  The name of the filter to dump.
+    * @param level  Maximum depth (-1 for unlimited depth)
+    */
+    public ALFuture<java.lang.Object> getDotGraphAsync(String filter, Integer level) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getDotGraph", filter, level));
     }
 
     /**
@@ -167,7 +327,17 @@ public class ALModularity extends ALModule {
     * @param name  The name of the process.
     */
     public String getProcessDescription(String name) throws CallError, InterruptedException {
-        return (String)service.call("getProcessDescription", name).get();
+        return (String)service().call("getProcessDescription", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getProcessDescription}.
+    * 
+    * 
+    * @param name  The name of the process.
+    */
+    public ALFuture<String> getProcessDescriptionAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getProcessDescription", name));
     }
 
     /**
@@ -176,7 +346,17 @@ public class ALModularity extends ALModule {
     * @param name  The name of the process.
     */
     public List<String> getProcessSources(String name) throws CallError, InterruptedException {
-        return (List<String>)service.call("getProcessSources", name).get();
+        return (List<String>)service().call("getProcessSources", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getProcessSources}.
+    * 
+    * 
+    * @param name  The name of the process.
+    */
+    public ALFuture<List<String>> getProcessSourcesAsync(String name) throws CallError {
+        return ALFuture.of(service().<List<String>>call("getProcessSources", name));
     }
 
     /**
@@ -184,7 +364,16 @@ public class ALModularity extends ALModule {
     * 
     */
     public Float getRobotHeightOffset() throws CallError, InterruptedException {
-        return (Float)service.call("getRobotHeightOffset").get();
+        return (Float)service().call("getRobotHeightOffset").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getRobotHeightOffset}.
+    * 
+    * 
+    */
+    public ALFuture<Float> getRobotHeightOffsetAsync() throws CallError {
+        return ALFuture.of(service().<Float>call("getRobotHeightOffset"));
     }
 
     /**
@@ -193,7 +382,17 @@ public class ALModularity extends ALModule {
     * @param name  The name of the process.
     */
     public List<String> getProcessSinks(String name) throws CallError, InterruptedException {
-        return (List<String>)service.call("getProcessSinks", name).get();
+        return (List<String>)service().call("getProcessSinks", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getProcessSinks}.
+    * 
+    * 
+    * @param name  The name of the process.
+    */
+    public ALFuture<List<String>> getProcessSinksAsync(String name) throws CallError {
+        return ALFuture.of(service().<List<String>>call("getProcessSinks", name));
     }
 
     /**
@@ -202,7 +401,17 @@ public class ALModularity extends ALModule {
     * @param name  The name of the process.
     */
     public List<String> getProcessAggregatedSinks(String name) throws CallError, InterruptedException {
-        return (List<String>)service.call("getProcessAggregatedSinks", name).get();
+        return (List<String>)service().call("getProcessAggregatedSinks", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getProcessAggregatedSinks}.
+    * 
+    * 
+    * @param name  The name of the process.
+    */
+    public ALFuture<List<String>> getProcessAggregatedSinksAsync(String name) throws CallError {
+        return ALFuture.of(service().<List<String>>call("getProcessAggregatedSinks", name));
     }
 
     /**
@@ -211,7 +420,17 @@ public class ALModularity extends ALModule {
     * @param name  The name of the process.
     */
     public Float getProcessFrequency(String name) throws CallError, InterruptedException {
-        return (Float)service.call("getProcessFrequency", name).get();
+        return (Float)service().call("getProcessFrequency", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getProcessFrequency}.
+    * 
+    * 
+    * @param name  The name of the process.
+    */
+    public ALFuture<Float> getProcessFrequencyAsync(String name) throws CallError {
+        return ALFuture.of(service().<Float>call("getProcessFrequency", name));
     }
 
     /**
@@ -219,7 +438,16 @@ public class ALModularity extends ALModule {
     * 
     */
     public List<String> getScheduledJobs() throws CallError, InterruptedException {
-        return (List<String>)service.call("getScheduledJobs").get();
+        return (List<String>)service().call("getScheduledJobs").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getScheduledJobs}.
+    * 
+    * 
+    */
+    public ALFuture<List<String>> getScheduledJobsAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getScheduledJobs"));
     }
 
     /**
@@ -228,7 +456,17 @@ public class ALModularity extends ALModule {
     * @param name  The name of the process to reset.
     */
     public Boolean resetProcess(String name) throws CallError, InterruptedException {
-        return (Boolean)service.call("resetProcess", name).get();
+        return (Boolean)service().call("resetProcess", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #resetProcess}.
+    * 
+    * 
+    * @param name  The name of the process to reset.
+    */
+    public ALFuture<Boolean> resetProcessAsync(String name) throws CallError {
+        return ALFuture.of(service().<Boolean>call("resetProcess", name));
     }
 
     /**
@@ -236,7 +474,16 @@ public class ALModularity extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -245,9 +492,18 @@ public class ALModularity extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -255,7 +511,16 @@ public class ALModularity extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -264,9 +529,18 @@ public class ALModularity extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -275,7 +549,17 @@ public class ALModularity extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -284,7 +568,17 @@ public class ALModularity extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -293,7 +587,17 @@ public class ALModularity extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -303,7 +607,18 @@ public class ALModularity extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -312,7 +627,17 @@ public class ALModularity extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -323,7 +648,19 @@ public class ALModularity extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -333,7 +670,18 @@ public class ALModularity extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -343,9 +691,19 @@ public class ALModularity extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -354,7 +712,17 @@ public class ALModularity extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -364,7 +732,18 @@ public class ALModularity extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -372,7 +751,16 @@ public class ALModularity extends ALModule {
     * 
     */
     public java.lang.Object getModularity() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModularity").get();
+        return (java.lang.Object)service().call("getModularity").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModularity}.
+    * 
+    * 
+    */
+    public ALFuture<java.lang.Object> getModularityAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModularity"));
     }
 
     /**
@@ -381,7 +769,17 @@ public class ALModularity extends ALModule {
     * @param program  The code that will be used by Modularity to generate a part of the graph.
     */
     public Boolean loadProgram(String program) throws CallError, InterruptedException {
-        return (Boolean)service.call("loadProgram", program).get();
+        return (Boolean)service().call("loadProgram", program).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #loadProgram}.
+    * 
+    * 
+    * @param program  The code that will be used by Modularity to generate a part of the graph.
+    */
+    public ALFuture<Boolean> loadProgramAsync(String program) throws CallError {
+        return ALFuture.of(service().<Boolean>call("loadProgram", program));
     }
 
     /**
@@ -389,7 +787,16 @@ public class ALModularity extends ALModule {
     * 
     */
     public Boolean loadProgramFromFile(String param1) throws CallError, InterruptedException {
-        return (Boolean)service.call("loadProgramFromFile", param1).get();
+        return (Boolean)service().call("loadProgramFromFile", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #loadProgramFromFile}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> loadProgramFromFileAsync(String param1) throws CallError {
+        return ALFuture.of(service().<Boolean>call("loadProgramFromFile", param1));
     }
 
     /**
@@ -398,7 +805,17 @@ public class ALModularity extends ALModule {
     * @param sink  The name of the sink from where data must be extracted.
     */
     public java.lang.Object getData(String sink) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getData", sink).get();
+        return (java.lang.Object)service().call("getData", sink).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getData}.
+    * 
+    * 
+    * @param sink  The name of the sink from where data must be extracted.
+    */
+    public ALFuture<java.lang.Object> getDataAsync(String sink) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getData", sink));
     }
 
     /**
@@ -407,7 +824,17 @@ public class ALModularity extends ALModule {
     * @param sink  The name of the sink from where data must be extracted.
     */
     public java.lang.Object getLastData(String sink) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getLastData", sink).get();
+        return (java.lang.Object)service().call("getLastData", sink).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getLastData}.
+    * 
+    * 
+    * @param sink  The name of the sink from where data must be extracted.
+    */
+    public ALFuture<java.lang.Object> getLastDataAsync(String sink) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getLastData", sink));
     }
 
     /**
@@ -416,7 +843,17 @@ public class ALModularity extends ALModule {
     * @param sink  The name of the sink from where data must be extracted.
     */
     public java.lang.Object getImageLocal(String sink) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getImageLocal", sink).get();
+        return (java.lang.Object)service().call("getImageLocal", sink).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getImageLocal}.
+    * 
+    * 
+    * @param sink  The name of the sink from where data must be extracted.
+    */
+    public ALFuture<java.lang.Object> getImageLocalAsync(String sink) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getImageLocal", sink));
     }
 
     /**
@@ -425,7 +862,17 @@ public class ALModularity extends ALModule {
     * @param sink  The name of the sink from where data must be extracted.
     */
     public java.lang.Object getImageRemote(String sink) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getImageRemote", sink).get();
+        return (java.lang.Object)service().call("getImageRemote", sink).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getImageRemote}.
+    * 
+    * 
+    * @param sink  The name of the sink from where data must be extracted.
+    */
+    public ALFuture<java.lang.Object> getImageRemoteAsync(String sink) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getImageRemote", sink));
     }
 
     /**
@@ -433,7 +880,16 @@ public class ALModularity extends ALModule {
     * 
     */
     public java.lang.Object getFilters() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getFilters").get();
+        return (java.lang.Object)service().call("getFilters").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getFilters}.
+    * 
+    * 
+    */
+    public ALFuture<java.lang.Object> getFiltersAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getFilters"));
     }
 
     /**
@@ -442,7 +898,17 @@ public class ALModularity extends ALModule {
     * @param name  The name of the filter.
     */
     public String getFilterDescription(String name) throws CallError, InterruptedException {
-        return (String)service.call("getFilterDescription", name).get();
+        return (String)service().call("getFilterDescription", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getFilterDescription}.
+    * 
+    * 
+    * @param name  The name of the filter.
+    */
+    public ALFuture<String> getFilterDescriptionAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getFilterDescription", name));
     }
 
     /**
@@ -451,7 +917,17 @@ public class ALModularity extends ALModule {
     * @param name  The name of the filter.
     */
     public java.lang.Object getFilterInputs(String name) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getFilterInputs", name).get();
+        return (java.lang.Object)service().call("getFilterInputs", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getFilterInputs}.
+    * 
+    * 
+    * @param name  The name of the filter.
+    */
+    public ALFuture<java.lang.Object> getFilterInputsAsync(String name) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getFilterInputs", name));
     }
 
     /**
@@ -460,7 +936,17 @@ public class ALModularity extends ALModule {
     * @param name  The name of the filter.
     */
     public java.lang.Object getFilterOutputs(String name) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getFilterOutputs", name).get();
+        return (java.lang.Object)service().call("getFilterOutputs", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getFilterOutputs}.
+    * 
+    * 
+    * @param name  The name of the filter.
+    */
+    public ALFuture<java.lang.Object> getFilterOutputsAsync(String name) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getFilterOutputs", name));
     }
 
     /**
@@ -469,7 +955,17 @@ public class ALModularity extends ALModule {
     * @param name  The name of the filter.
     */
     public Boolean deleteFilter(String name) throws CallError, InterruptedException {
-        return (Boolean)service.call("deleteFilter", name).get();
+        return (Boolean)service().call("deleteFilter", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #deleteFilter}.
+    * 
+    * 
+    * @param name  The name of the filter.
+    */
+    public ALFuture<Boolean> deleteFilterAsync(String name) throws CallError {
+        return ALFuture.of(service().<Boolean>call("deleteFilter", name));
     }
 
     /**
@@ -477,7 +973,16 @@ public class ALModularity extends ALModule {
     * 
     */
     public List<String> getSources() throws CallError, InterruptedException {
-        return (List<String>)service.call("getSources").get();
+        return (List<String>)service().call("getSources").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getSources}.
+    * 
+    * 
+    */
+    public ALFuture<List<String>> getSourcesAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getSources"));
     }
 
     /**
@@ -486,7 +991,17 @@ public class ALModularity extends ALModule {
     * @param name  The name of the source.
     */
     public Boolean isSourceBinded(String name) throws CallError, InterruptedException {
-        return (Boolean)service.call("isSourceBinded", name).get();
+        return (Boolean)service().call("isSourceBinded", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isSourceBinded}.
+    * 
+    * 
+    * @param name  The name of the source.
+    */
+    public ALFuture<Boolean> isSourceBindedAsync(String name) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isSourceBinded", name));
     }
 
     /**
@@ -495,7 +1010,17 @@ public class ALModularity extends ALModule {
     * @param name  The name of the source.
     */
     public Float getSourceFrequency(String name) throws CallError, InterruptedException {
-        return (Float)service.call("getSourceFrequency", name).get();
+        return (Float)service().call("getSourceFrequency", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getSourceFrequency}.
+    * 
+    * 
+    * @param name  The name of the source.
+    */
+    public ALFuture<Float> getSourceFrequencyAsync(String name) throws CallError {
+        return ALFuture.of(service().<Float>call("getSourceFrequency", name));
     }
 
 }
@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -23,7 +24,16 @@ public class ALMotion extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -32,9 +42,18 @@ public class ALMotion extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -42,7 +61,16 @@ public class ALMotion extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -51,9 +79,18 @@ public class ALMotion extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -62,7 +99,17 @@ public class ALMotion extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -71,7 +118,17 @@ public class ALMotion extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -80,7 +137,17 @@ public class ALMotion extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -90,7 +157,18 @@ public class ALMotion extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -99,7 +177,17 @@ public class ALMotion extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -110,7 +198,19 @@ public class ALMotion extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -120,7 +220,18 @@ public class ALMotion extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -130,9 +241,19 @@ public class ALMotion extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -141,7 +262,17 @@ public class ALMotion extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -151,7 +282,18 @@ public class ALMotion extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -160,9 +302,18 @@ public class ALMotion extends ALModule {
     */
     public void wakeUp() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("wakeUp");
+            service().call("wakeUp");
         else
-            service.call("wakeUp").get();
+            service().call("wakeUp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wakeUp}.
+    * The robot will wake up: set Motor ON and go to initial position if needed
+    * 
+    */
+    public ALFuture<Void> wakeUpAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("wakeUp"));
     }
 
     /**
@@ -171,9 +322,18 @@ public class ALMotion extends ALModule {
     */
     public void rest() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("rest");
+            service().call("rest");
         else
-            service.call("rest").get();
+            service().call("rest").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #rest}.
+    * The robot will rest: go to a relax and safe position and set Motor OFF
+    * 
+    */
+    public ALFuture<Void> restAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("rest"));
     }
 
     /**
@@ -182,9 +342,18 @@ public class ALMotion extends ALModule {
     */
     public void rest(String param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("rest", param1);
+            service().call("rest", param1);
         else
-            service.call("rest", param1).get();
+            service().call("rest", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #rest}.
+    * The robot will rest: go to a relax and safe position on the chain and set Motor OFF
+    * 
+    */
+    public ALFuture<Void> restAsync(String param1) throws CallError {
+        return ALFuture.of(service().<Void>call("rest", param1));
     }
 
     /**
@@ -194,9 +363,19 @@ public class ALMotion extends ALModule {
     */
     public void _rest(String chainName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_rest", chainName);
+            service().call("_rest", chainName);
         else
-            service.call("_rest", chainName).get();
+            service().call("_rest", chainName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_rest}.
+    * The robot will rest: go to a relax and safe position on the chain and set Motor OFF
+    * 
+    * @param chainName  The name of the chain to rest.
+    */
+    public ALFuture<Void> _restAsync(String chainName) throws CallError {
+        return ALFuture.of(service().<Void>call("_rest", chainName));
     }
 
     /**
@@ -206,9 +385,19 @@ public class ALMotion extends ALModule {
     */
     public void _stopChain(String chainName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_stopChain", chainName);
+            service().call("_stopChain", chainName);
         else
-            service.call("_stopChain", chainName).get();
+            service().call("_stopChain", chainName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_stopChain}.
+    * The robot will immediately unstiffness the chain.
+    * 
+    * @param chainName  The name of the chain to rest. Can be "LArm", "RArm", or "Arms".
+    */
+    public ALFuture<Void> _stopChainAsync(String chainName) throws CallError {
+        return ALFuture.of(service().<Void>call("_stopChain", chainName));
     }
 
     /**
@@ -217,9 +406,18 @@ public class ALMotion extends ALModule {
     */
     public void _shutdown() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_shutdown");
+            service().call("_shutdown");
         else
-            service.call("_shutdown").get();
+            service().call("_shutdown").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_shutdown}.
+    * The robot will rest: wakeUp is not allowed anymore.
+    * 
+    */
+    public ALFuture<Void> _shutdownAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_shutdown"));
     }
 
     /**
@@ -228,7 +426,17 @@ public class ALMotion extends ALModule {
     * @param chainName  The chain name
     */
     public Boolean _isChainGoToOrInRest(String chainName) throws CallError, InterruptedException {
-        return (Boolean)service.call("_isChainGoToOrInRest", chainName).get();
+        return (Boolean)service().call("_isChainGoToOrInRest", chainName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_isChainGoToOrInRest}.
+    * Returns true if the chain is going to rest or is already in rest
+    * 
+    * @param chainName  The chain name
+    */
+    public ALFuture<Boolean> _isChainGoToOrInRestAsync(String chainName) throws CallError {
+        return ALFuture.of(service().<Boolean>call("_isChainGoToOrInRest", chainName));
     }
 
     /**
@@ -239,7 +447,19 @@ public class ALMotion extends ALModule {
     * @return Success to set the desired motion posture.
     */
     public Boolean _setMotionPosture(String postureName, List<Float> bodyAngles) throws CallError, InterruptedException {
-        return (Boolean)service.call("_setMotionPosture", postureName, bodyAngles).get();
+        return (Boolean)service().call("_setMotionPosture", postureName, bodyAngles).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setMotionPosture}.
+    * Set the reference posture for fallmanager, stand init, idle posture, breath, etc.
+    * 
+    * @param postureName  The posture name
+    * @param bodyAngles  The body angles. Use getBodyNames api with parameter JointActuators.
+    * @return Success to set the desired motion posture.
+    */
+    public ALFuture<Boolean> _setMotionPostureAsync(String postureName, List<Float> bodyAngles) throws CallError {
+        return ALFuture.of(service().<Boolean>call("_setMotionPosture", postureName, bodyAngles));
     }
 
     /**
@@ -249,7 +469,40 @@ public class ALMotion extends ALModule {
     * @return Use getBodyNames api with parameter JointActuators.
     */
     public List<Float> _getMotionPosture(String postureName) throws CallError, InterruptedException {
-        return (List<Float>)service.call("_getMotionPosture", postureName).get();
+        return (List<Float>)service().call("_getMotionPosture", postureName).get();
+    }
+
+    /**
+    * Primitive version of {@link #_getMotionPosture}, values are returned unboxed.
+    * 
+    * 
+    * @param postureName  The posture name
+    * @return Use getBodyNames api with parameter JointActuators.
+    */
+    public float[] _getMotionPostureF(String postureName) throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("_getMotionPosture", postureName).get());
+    }
+
+    /**
+    * Primitive version of {@link #_getMotionPosture}, values are written into dst and their count is returned.
+    * 
+    * 
+    * @param postureName  The posture name
+    * @return Use getBodyNames api with parameter JointActuators.
+    */
+    public int _getMotionPostureInto(float[] dst, String postureName) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("_getMotionPosture", postureName).get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #_getMotionPosture}.
+    * 
+    * 
+    * @param postureName  The posture name
+    * @return Use getBodyNames api with parameter JointActuators.
+    */
+    public ALFuture<List<Float>> _getMotionPostureAsync(String postureName) throws CallError {
+        return ALFuture.of(service().<List<Float>>call("_getMotionPosture", postureName));
     }
 
     /**
@@ -258,7 +511,17 @@ public class ALMotion extends ALModule {
     * @return All the postures in motion posture library
     */
     public List<String> _getMotionPostureList() throws CallError, InterruptedException {
-        return (List<String>)service.call("_getMotionPostureList").get();
+        return (List<String>)service().call("_getMotionPostureList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getMotionPostureList}.
+    * 
+    * 
+    * @return All the postures in motion posture library
+    */
+    public ALFuture<List<String>> _getMotionPostureListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("_getMotionPostureList"));
     }
 
     /**
@@ -267,7 +530,17 @@ public class ALMotion extends ALModule {
     * @return True if the robot is already wakeUp.
     */
     public Boolean robotIsWakeUp() throws CallError, InterruptedException {
-        return (Boolean)service.call("robotIsWakeUp").get();
+        return (Boolean)service().call("robotIsWakeUp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #robotIsWakeUp}.
+    * return true if the robot is already wakeUp
+    * 
+    * @return True if the robot is already wakeUp.
+    */
+    public ALFuture<Boolean> robotIsWakeUpAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("robotIsWakeUp"));
     }
 
     /**
@@ -279,9 +552,21 @@ public class ALMotion extends ALModule {
     */
     public void stiffnessInterpolation(java.lang.Object names, java.lang.Object stiffnessLists, java.lang.Object timeLists) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stiffnessInterpolation", names, stiffnessLists, timeLists);
+            service().call("stiffnessInterpolation", names, stiffnessLists, timeLists);
         else
-            service.call("stiffnessInterpolation", names, stiffnessLists, timeLists).get();
+            service().call("stiffnessInterpolation", names, stiffnessLists, timeLists).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stiffnessInterpolation}.
+    * Interpolates one or multiple joints to a target stiffness or along timed trajectories of stiffness. This is a blocking call.
+    * 
+    * @param names  Name or names of joints, chains, "Body", "JointActuators", "Joints" or "Actuators".
+    * @param stiffnessLists  An stiffness, list of stiffnesses or list of list of stiffnesses
+    * @param timeLists  A time, list of times or list of list of times.
+    */
+    public ALFuture<Void> stiffnessInterpolationAsync(java.lang.Object names, java.lang.Object stiffnessLists, java.lang.Object timeLists) throws CallError {
+        return ALFuture.of(service().<Void>call("stiffnessInterpolation", names, stiffnessLists, timeLists));
     }
 
     /**
@@ -292,9 +577,20 @@ public class ALMotion extends ALModule {
     */
     public void setStiffnesses(java.lang.Object names, java.lang.Object stiffnesses) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setStiffnesses", names, stiffnesses);
+            service().call("setStiffnesses", names, stiffnesses);
         else
-            service.call("setStiffnesses", names, stiffnesses).get();
+            service().call("setStiffnesses", names, stiffnesses).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setStiffnesses}.
+    * Sets the stiffness of one or more joints. This is a non-blocking call.
+    * 
+    * @param names  Names of joints, chains, "Body", "JointActuators", "Joints" or "Actuators".
+    * @param stiffnesses  One or more stiffnesses between zero and one.
+    */
+    public ALFuture<Void> setStiffnessesAsync(java.lang.Object names, java.lang.Object stiffnesses) throws CallError {
+        return ALFuture.of(service().<Void>call("setStiffnesses", names, stiffnesses));
     }
 
     /**
@@ -305,9 +601,20 @@ public class ALMotion extends ALModule {
     */
     public void _setStiffnesses(java.lang.Object names, java.lang.Object stiffnesses) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setStiffnesses", names, stiffnesses);
+            service().call("_setStiffnesses", names, stiffnesses);
         else
-            service.call("_setStiffnesses", names, stiffnesses).get();
+            service().call("_setStiffnesses", names, stiffnesses).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setStiffnesses}.
+    * Sets the stiffness of one or more joints. This is a non-blocking call.
+    * 
+    * @param names  Names of joints, chains, "Body", "JointActuators", "Joints" or "Actuators".
+    * @param stiffnesses  One or more stiffnesses between zero and one.
+    */
+    public ALFuture<Void> _setStiffnessesAsync(java.lang.Object names, java.lang.Object stiffnesses) throws CallError {
+        return ALFuture.of(service().<Void>call("_setStiffnesses", names, stiffnesses));
     }
 
     /**
@@ -317,7 +624,40 @@ public class ALMotion extends ALModule {
     * @return One or more stiffnesses. 1.0 indicates maximum stiffness. 0.0 indicated minimum stiffness
     */
     public List<Float> getStiffnesses(java.lang.Object jointName) throws CallError, InterruptedException {
-        return (List<Float>)service.call("getStiffnesses", jointName).get();
+        return (List<Float>)service().call("getStiffnesses", jointName).get();
+    }
+
+    /**
+    * Primitive version of {@link #getStiffnesses}, values are returned unboxed.
+    * Gets stiffness of a joint or group of joints
+    * 
+    * @param jointName  Name of the joints, chains, "Body", "Joints" or "Actuators".
+    * @return One or more stiffnesses. 1.0 indicates maximum stiffness. 0.0 indicated minimum stiffness
+    */
+    public float[] getStiffnessesF(java.lang.Object jointName) throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("getStiffnesses", jointName).get());
+    }
+
+    /**
+    * Primitive version of {@link #getStiffnesses}, values are written into dst and their count is returned.
+    * Gets stiffness of a joint or group of joints
+    * 
+    * @param jointName  Name of the joints, chains, "Body", "Joints" or "Actuators".
+    * @return One or more stiffnesses. 1.0 indicates maximum stiffness. 0.0 indicated minimum stiffness
+    */
+    public int getStiffnessesInto(float[] dst, java.lang.Object jointName) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("getStiffnesses", jointName).get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #getStiffnesses}.
+    * Gets stiffness of a joint or group of joints
+    * 
+    * @param jointName  Name of the joints, chains, "Body", "Joints" or "Actuators".
+    * @return One or more stiffnesses. 1.0 indicates maximum stiffness. 0.0 indicated minimum stiffness
+    */
+    public ALFuture<List<Float>> getStiffnessesAsync(java.lang.Object jointName) throws CallError {
+        return ALFuture.of(service().<List<Float>>call("getStiffnesses", jointName));
     }
 
     /**
@@ -330,9 +670,22 @@ public class ALMotion extends ALModule {
     */
     public void angleInterpolation(java.lang.Object names, java.lang.Object angleLists, java.lang.Object timeLists, Boolean isAbsolute) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("angleInterpolation", names, angleLists, timeLists, isAbsolute);
+            service().call("angleInterpolation", names, angleLists, timeLists, isAbsolute);
         else
-            service.call("angleInterpolation", names, angleLists, timeLists, isAbsolute).get();
+            service().call("angleInterpolation", names, angleLists, timeLists, isAbsolute).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #angleInterpolation}.
+    * Interpolates one or multiple joints to a target angle or along timed trajectories. This is a blocking call.
+    * 
+    * @param names  Name or names of joints, chains, "Body", "JointActuators", "Joints" or "Actuators". 
+    * @param angleLists  An angle, list of angles or list of list of angles in radians
+    * @param timeLists  A time, list of times or list of list of times in seconds
+    * @param isAbsolute  If true, the movement is described in absolute angles, else the angles are relative to the current angle.
+    */
+    public ALFuture<Void> angleInterpolationAsync(java.lang.Object names, java.lang.Object angleLists, java.lang.Object timeLists, Boolean isAbsolute) throws CallError {
+        return ALFuture.of(service().<Void>call("angleInterpolation", names, angleLists, timeLists, isAbsolute));
     }
 
     /**
@@ -344,23 +697,47 @@ public class ALMotion extends ALModule {
     */
     public void angleInterpolationWithSpeed(java.lang.Object names, java.lang.Object targetAngles, Float maxSpeedFraction) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("angleInterpolationWithSpeed", names, targetAngles, maxSpeedFraction);
+            service().call("angleInterpolationWithSpeed", names, targetAngles, maxSpeedFraction);
         else
-            service.call("angleInterpolationWithSpeed", names, targetAngles, maxSpeedFraction).get();
+            service().call("angleInterpolationWithSpeed", names, targetAngles, maxSpeedFraction).get();
     }
 
     /**
-    * Interpolates a sequence of timed angles for several motors using bezier control points. This is a blocking call.
+    * Asynchronous version of {@link #angleInterpolationWithSpeed}.
+    * Interpolates one or multiple joints to a target angle, using a fraction of max speed. Only one target angle is allowed for each joint. This is a blocking call.
     * 
-    * @param jointNames  A vector of joint names
-    * @param times  An ragged ALValue matrix of floats. Each line corresponding to a motor, and column element to a control point.
-    * @param controlPoints  An ALValue array of arrays each containing [float angle, Handle1, Handle2], where Handle is [int InterpolationType, float dAngle, float dTime] descibing the handle offsets relative to the angle and time of the point. The first bezier param describes the handle that controls the curve preceeding the point, the second describes the curve following the point.
-    */
+    * @param names  Name or names of joints, chains, "Body", "JointActuators", "Joints" or "Actuators".
+    * @param targetAngles  An angle, or list of angles in radians
+    * @param maxSpeedFraction  A fraction.
+    */
+    public ALFuture<Void> angleInterpolationWithSpeedAsync(java.lang.Object names, java.lang.Object targetAngles, Float maxSpeedFraction) throws CallError {
+        return ALFuture.of(service().<Void>call("angleInterpolationWithSpeed", names, targetAngles, maxSpeedFraction));
+    }
+
+    /**
+    * Interpolates a sequence of timed angles for several motors using bezier control points. This is a blocking call.
+    * 
+    * @param jointNames  A vector of joint names
+    * @param times  An ragged ALValue matrix of floats. Each line corresponding to a motor, and column element to a control point.
+    * @param controlPoints  An ALValue array of arrays each containing [float angle, Handle1, Handle2], where Handle is [int InterpolationType, float dAngle, float dTime] descibing the handle offsets relative to the angle and time of the point. The first bezier param describes the handle that controls the curve preceeding the point, the second describes the curve following the point.
+    */
     public void angleInterpolationBezier(List<String> jointNames, java.lang.Object times, java.lang.Object controlPoints) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("angleInterpolationBezier", jointNames, times, controlPoints);
+            service().call("angleInterpolationBezier", jointNames, times, controlPoints);
         else
-            service.call("angleInterpolationBezier", jointNames, times, controlPoints).get();
+            service().call("angleInterpolationBezier", jointNames, times, controlPoints).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #angleInterpolationBezier}.
+    * Interpolates a sequence of timed angles for several motors using bezier control points. This is a blocking call.
+    * 
+    * @param jointNames  A vector of joint names
+    * @param times  An ragged ALValue matrix of floats. Each line corresponding to a motor, and column element to a control point.
+    * @param controlPoints  An ALValue array of arrays each containing [float angle, Handle1, Handle2], where Handle is [int InterpolationType, float dAngle, float dTime] descibing the handle offsets relative to the angle and time of the point. The first bezier param describes the handle that controls the curve preceeding the point, the second describes the curve following the point.
+    */
+    public ALFuture<Void> angleInterpolationBezierAsync(List<String> jointNames, java.lang.Object times, java.lang.Object controlPoints) throws CallError {
+        return ALFuture.of(service().<Void>call("angleInterpolationBezier", jointNames, times, controlPoints));
     }
 
     /**
@@ -374,9 +751,23 @@ public class ALMotion extends ALModule {
     */
     public void animation(List<String> jointNames, java.lang.Object times, java.lang.Object controlPoints, java.lang.Object isAbsolute, java.lang.Object supportSequence) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("animation", jointNames, times, controlPoints, isAbsolute, supportSequence);
+            service().call("animation", jointNames, times, controlPoints, isAbsolute, supportSequence);
         else
-            service.call("animation", jointNames, times, controlPoints, isAbsolute, supportSequence).get();
+            service().call("animation", jointNames, times, controlPoints, isAbsolute, supportSequence).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #animation}.
+    * Interpolates a sequence of timed angles for several motors using bezier control points. This is a blocking call.
+    * 
+    * @param jointNames  A vector of joint names
+    * @param times  An ragged ALValue matrix of floats. Each line corresponding to a motor, and column element to a control point.
+    * @param controlPoints  An ALValue array of arrays each containing [float angle, Handle1, Handle2], where Handle is [int InterpolationType, float dAngle, float dTime] descibing the handle offsets relative to the angle and time of the point. The first bezier param describes the handle that controls the curve preceeding the point, the second describes the curve following the point.
+    * @param isAbsolute  A bool or a vector of bool. If true, the movement is described in absolute angles, else the angles are relative to the current angle.
+    * @param supportSequence  An alvalue containing a list of [nameEffector, timeList, isActiveList].
+    */
+    public ALFuture<Void> animationAsync(List<String> jointNames, java.lang.Object times, java.lang.Object controlPoints, java.lang.Object isAbsolute, java.lang.Object supportSequence) throws CallError {
+        return ALFuture.of(service().<Void>call("animation", jointNames, times, controlPoints, isAbsolute, supportSequence));
     }
 
     /**
@@ -388,9 +779,21 @@ public class ALMotion extends ALModule {
     */
     public void setAngles(java.lang.Object names, java.lang.Object angles, Float fractionMaxSpeed) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setAngles", names, angles, fractionMaxSpeed);
+            service().call("setAngles", names, angles, fractionMaxSpeed);
         else
-            service.call("setAngles", names, angles, fractionMaxSpeed).get();
+            service().call("setAngles", names, angles, fractionMaxSpeed).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setAngles}.
+    * Sets angles. This is a non-blocking call.
+    * 
+    * @param names  The name or names of joints, chains, "Body", "JointActuators", "Joints" or "Actuators". 
+    * @param angles  One or more angles in radians
+    * @param fractionMaxSpeed  The fraction of maximum speed to use
+    */
+    public ALFuture<Void> setAnglesAsync(java.lang.Object names, java.lang.Object angles, Float fractionMaxSpeed) throws CallError {
+        return ALFuture.of(service().<Void>call("setAngles", names, angles, fractionMaxSpeed));
     }
 
     /**
@@ -402,9 +805,21 @@ public class ALMotion extends ALModule {
     */
     public void setAngles(java.lang.Object names, java.lang.Object angles, List<Float> fractionMaxSpeeds) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setAngles", names, angles, fractionMaxSpeeds);
+            service().call("setAngles", names, angles, fractionMaxSpeeds);
         else
-            service.call("setAngles", names, angles, fractionMaxSpeeds).get();
+            service().call("setAngles", names, angles, fractionMaxSpeeds).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setAngles}.
+    * Sets angles. This is a non-blocking call.
+    * 
+    * @param names  The name or names of joints, chains, "Body", "JointActuators", "Joints" or "Actuators". 
+    * @param angles  One or more angles in radians
+    * @param fractionMaxSpeeds  The vector of fraction of maximum speed to use
+    */
+    public ALFuture<Void> setAnglesAsync(java.lang.Object names, java.lang.Object angles, List<Float> fractionMaxSpeeds) throws CallError {
+        return ALFuture.of(service().<Void>call("setAngles", names, angles, fractionMaxSpeeds));
     }
 
     /**
@@ -416,9 +831,21 @@ public class ALMotion extends ALModule {
     */
     public void changeAngles(java.lang.Object names, java.lang.Object changes, Float fractionMaxSpeed) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("changeAngles", names, changes, fractionMaxSpeed);
+            service().call("changeAngles", names, changes, fractionMaxSpeed);
         else
-            service.call("changeAngles", names, changes, fractionMaxSpeed).get();
+            service().call("changeAngles", names, changes, fractionMaxSpeed).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #changeAngles}.
+    * Changes Angles. This is a non-blocking call.
+    * 
+    * @param names  The name or names of joints, chains, "Body", "JointActuators", "Joints" or "Actuators".
+    * @param changes  One or more changes in radians
+    * @param fractionMaxSpeed  The fraction of maximum speed to use
+    */
+    public ALFuture<Void> changeAnglesAsync(java.lang.Object names, java.lang.Object changes, Float fractionMaxSpeed) throws CallError {
+        return ALFuture.of(service().<Void>call("changeAngles", names, changes, fractionMaxSpeed));
     }
 
     /**
@@ -429,7 +856,43 @@ public class ALMotion extends ALModule {
     * @return Joint angles in radians.
     */
     public List<Float> getAngles(java.lang.Object names, Boolean useSensors) throws CallError, InterruptedException {
-        return (List<Float>)service.call("getAngles", names, useSensors).get();
+        return (List<Float>)service().call("getAngles", names, useSensors).get();
+    }
+
+    /**
+    * Primitive version of {@link #getAngles}, values are returned unboxed.
+    * Gets the angles of the joints
+    * 
+    * @param names  Names the joints, chains, "Body", "JointActuators", "Joints" or "Actuators". 
+    * @param useSensors  If true, sensor angles will be returned
+    * @return Joint angles in radians.
+    */
+    public float[] getAnglesF(java.lang.Object names, Boolean useSensors) throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("getAngles", names, useSensors).get());
+    }
+
+    /**
+    * Primitive version of {@link #getAngles}, values are written into dst and their count is returned.
+    * Gets the angles of the joints
+    * 
+    * @param names  Names the joints, chains, "Body", "JointActuators", "Joints" or "Actuators". 
+    * @param useSensors  If true, sensor angles will be returned
+    * @return Joint angles in radians.
+    */
+    public int getAnglesInto(float[] dst, java.lang.Object names, Boolean useSensors) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("getAngles", names, useSensors).get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #getAngles}.
+    * Gets the angles of the joints
+    * 
+    * @param names  Names the joints, chains, "Body", "JointActuators", "Joints" or "Actuators". 
+    * @param useSensors  If true, sensor angles will be returned
+    * @return Joint angles in radians.
+    */
+    public ALFuture<List<Float>> getAnglesAsync(java.lang.Object names, Boolean useSensors) throws CallError {
+        return ALFuture.of(service().<List<Float>>call("getAngles", names, useSensors));
     }
 
     /**
@@ -439,9 +902,19 @@ public class ALMotion extends ALModule {
     */
     public void openHand(String handName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("openHand", handName);
+            service().call("openHand", handName);
         else
-            service.call("openHand", handName).get();
+            service().call("openHand", handName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #openHand}.
+    * NAO stiffens the motors of desired hand. Then, he opens the hand, then cuts motor current to conserve energy. This is a blocking call.
+    * 
+    * @param handName  The name of the hand. Could be: "RHand or "LHand"
+    */
+    public ALFuture<Void> openHandAsync(String handName) throws CallError {
+        return ALFuture.of(service().<Void>call("openHand", handName));
     }
 
     /**
@@ -451,9 +924,19 @@ public class ALMotion extends ALModule {
     */
     public void closeHand(String handName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("closeHand", handName);
+            service().call("closeHand", handName);
         else
-            service.call("closeHand", handName).get();
+            service().call("closeHand", handName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #closeHand}.
+    * NAO stiffens the motors of desired hand. Then, he closes the hand, then cuts motor current to conserve energy. This is a blocking call.
+    * 
+    * @param handName  The name of the hand. Could be: "RHand" or "LHand"
+    */
+    public ALFuture<Void> closeHandAsync(String handName) throws CallError {
+        return ALFuture.of(service().<Void>call("closeHand", handName));
     }
 
     /**
@@ -465,9 +948,21 @@ public class ALMotion extends ALModule {
     */
     public void move(Float x, Float y, Float theta) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("move", x, y, theta);
+            service().call("move", x, y, theta);
         else
-            service.call("move", x, y, theta).get();
+            service().call("move", x, y, theta).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #move}.
+    * Makes the robot move at the given velocity. This is a non-blocking call.
+    * 
+    * @param x  The velocity along x axis [m.s-1].
+    * @param y  The velocity along y axis [m.s-1].
+    * @param theta  The velocity around z axis [rd.s-1].
+    */
+    public ALFuture<Void> moveAsync(Float x, Float y, Float theta) throws CallError {
+        return ALFuture.of(service().<Void>call("move", x, y, theta));
     }
 
     /**
@@ -480,9 +975,22 @@ public class ALMotion extends ALModule {
     */
     public void move(Float x, Float y, Float theta, java.lang.Object moveConfig) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("move", x, y, theta, moveConfig);
+            service().call("move", x, y, theta, moveConfig);
         else
-            service.call("move", x, y, theta, moveConfig).get();
+            service().call("move", x, y, theta, moveConfig).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #move}.
+    * Makes the robot move at the given velocity. This is a non-blocking call.
+    * 
+    * @param x  The velocity along x axis [m.s-1].
+    * @param y  The velocity along y axis [m.s-1].
+    * @param theta  The velocity around z axis [rd.s-1].
+    * @param moveConfig  An ALValue with custom move configuration.
+    */
+    public ALFuture<Void> moveAsync(Float x, Float y, Float theta, java.lang.Object moveConfig) throws CallError {
+        return ALFuture.of(service().<Void>call("move", x, y, theta, moveConfig));
     }
 
     /**
@@ -494,9 +1002,21 @@ public class ALMotion extends ALModule {
     */
     public void moveToward(Float x, Float y, Float theta) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("moveToward", x, y, theta);
+            service().call("moveToward", x, y, theta);
         else
-            service.call("moveToward", x, y, theta).get();
+            service().call("moveToward", x, y, theta).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #moveToward}.
+    * Makes the robot move at the given normalized velocity. This is a non-blocking call.
+    * 
+    * @param x  The normalized velocity along x axis (between -1 and 1).
+    * @param y  The normalized velocity along y axis (between -1 and 1).
+    * @param theta  The normalized velocity around z axis (between -1 and 1).
+    */
+    public ALFuture<Void> moveTowardAsync(Float x, Float y, Float theta) throws CallError {
+        return ALFuture.of(service().<Void>call("moveToward", x, y, theta));
     }
 
     /**
@@ -509,9 +1029,22 @@ public class ALMotion extends ALModule {
     */
     public void moveToward(Float x, Float y, Float theta, java.lang.Object moveConfig) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("moveToward", x, y, theta, moveConfig);
+            service().call("moveToward", x, y, theta, moveConfig);
         else
-            service.call("moveToward", x, y, theta, moveConfig).get();
+            service().call("moveToward", x, y, theta, moveConfig).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #moveToward}.
+    * Makes the robot move at the given normalized velocity. This is a non-blocking call.
+    * 
+    * @param x  The normalized velocity along x axis (between -1 and 1).
+    * @param y  The normalized velocity along y axis (between -1 and 1).
+    * @param theta  The normalized velocity around z axis (between -1 and 1).
+    * @param moveConfig  An ALValue with custom move configuration.
+    */
+    public ALFuture<Void> moveTowardAsync(Float x, Float y, Float theta, java.lang.Object moveConfig) throws CallError {
+        return ALFuture.of(service().<Void>call("moveToward", x, y, theta, moveConfig));
     }
 
     /**
@@ -524,9 +1057,22 @@ public class ALMotion extends ALModule {
     */
     public void setWalkTargetVelocity(Float x, Float y, Float theta, Float frequency) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setWalkTargetVelocity", x, y, theta, frequency);
+            service().call("setWalkTargetVelocity", x, y, theta, frequency);
         else
-            service.call("setWalkTargetVelocity", x, y, theta, frequency).get();
+            service().call("setWalkTargetVelocity", x, y, theta, frequency).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setWalkTargetVelocity}.
+    * DEPRECATED. Use moveToward() function instead.
+    * 
+    * @param x  Fraction of MaxStepX. Use negative for backwards. [-1.0 to 1.0]
+    * @param y  Fraction of MaxStepY. Use negative for right. [-1.0 to 1.0]
+    * @param theta  Fraction of MaxStepTheta. Use negative for clockwise [-1.0 to 1.0]
+    * @param frequency  Fraction of MaxStepFrequency [0.0 to 1.0]
+    */
+    public ALFuture<Void> setWalkTargetVelocityAsync(Float x, Float y, Float theta, Float frequency) throws CallError {
+        return ALFuture.of(service().<Void>call("setWalkTargetVelocity", x, y, theta, frequency));
     }
 
     /**
@@ -540,9 +1086,23 @@ public class ALMotion extends ALModule {
     */
     public void setWalkTargetVelocity(Float x, Float y, Float theta, Float frequency, java.lang.Object feetGaitConfig) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setWalkTargetVelocity", x, y, theta, frequency, feetGaitConfig);
+            service().call("setWalkTargetVelocity", x, y, theta, frequency, feetGaitConfig);
         else
-            service.call("setWalkTargetVelocity", x, y, theta, frequency, feetGaitConfig).get();
+            service().call("setWalkTargetVelocity", x, y, theta, frequency, feetGaitConfig).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setWalkTargetVelocity}.
+    * DEPRECATED. Use moveToward() function instead.
+    * 
+    * @param x  Fraction of MaxStepX. Use negative for backwards. [-1.0 to 1.0]
+    * @param y  Fraction of MaxStepY. Use negative for right. [-1.0 to 1.0]
+    * @param theta  Fraction of MaxStepTheta. Use negative for clockwise [-1.0 to 1.0]
+    * @param frequency  Fraction of MaxStepFrequency [0.0 to 1.0]
+    * @param feetGaitConfig  An ALValue with the custom gait configuration for both feet
+    */
+    public ALFuture<Void> setWalkTargetVelocityAsync(Float x, Float y, Float theta, Float frequency, java.lang.Object feetGaitConfig) throws CallError {
+        return ALFuture.of(service().<Void>call("setWalkTargetVelocity", x, y, theta, frequency, feetGaitConfig));
     }
 
     /**
@@ -557,9 +1117,24 @@ public class ALMotion extends ALModule {
     */
     public void setWalkTargetVelocity(Float x, Float y, Float theta, Float frequency, java.lang.Object leftFootMoveConfig, java.lang.Object rightFootMoveConfig) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setWalkTargetVelocity", x, y, theta, frequency, leftFootMoveConfig, rightFootMoveConfig);
+            service().call("setWalkTargetVelocity", x, y, theta, frequency, leftFootMoveConfig, rightFootMoveConfig);
         else
-            service.call("setWalkTargetVelocity", x, y, theta, frequency, leftFootMoveConfig, rightFootMoveConfig).get();
+            service().call("setWalkTargetVelocity", x, y, theta, frequency, leftFootMoveConfig, rightFootMoveConfig).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setWalkTargetVelocity}.
+    * DEPRECATED. Use moveToward() function instead.
+    * 
+    * @param x  Fraction of MaxStepX. Use negative for backwards. [-1.0 to 1.0]
+    * @param y  Fraction of MaxStepY. Use negative for right. [-1.0 to 1.0]
+    * @param theta  Fraction of MaxStepTheta. Use negative for clockwise [-1.0 to 1.0]
+    * @param frequency  Fraction of MaxStepFrequency [0.0 to 1.0]
+    * @param leftFootMoveConfig  An ALValue with custom move configuration for the left foot
+    * @param rightFootMoveConfig  An ALValue with custom move configuration for the right foot
+    */
+    public ALFuture<Void> setWalkTargetVelocityAsync(Float x, Float y, Float theta, Float frequency, java.lang.Object leftFootMoveConfig, java.lang.Object rightFootMoveConfig) throws CallError {
+        return ALFuture.of(service().<Void>call("setWalkTargetVelocity", x, y, theta, frequency, leftFootMoveConfig, rightFootMoveConfig));
     }
 
     /**
@@ -572,9 +1147,22 @@ public class ALMotion extends ALModule {
     */
     public void _setMpcWalkTargetVelocity(Float x, Float y, Float theta, Float frequency) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setMpcWalkTargetVelocity", x, y, theta, frequency);
+            service().call("_setMpcWalkTargetVelocity", x, y, theta, frequency);
         else
-            service.call("_setMpcWalkTargetVelocity", x, y, theta, frequency).get();
+            service().call("_setMpcWalkTargetVelocity", x, y, theta, frequency).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setMpcWalkTargetVelocity}.
+    * Makes Nao walk at the given velocity using a MPC walking generator.This is a non-blocking call.
+    * 
+    * @param x  Fraction of MaxStepX. Use negative for backwards. [-1.0 to 1.0]
+    * @param y  Fraction of MaxStepY. Use negative for right. [-1.0 to 1.0]
+    * @param theta  Fraction of MaxStepTheta. Use negative for clockwise [-1.0 to 1.0]
+    * @param frequency  Fraction of MaxStepFrequency [0.0 to 1.0]
+    */
+    public ALFuture<Void> _setMpcWalkTargetVelocityAsync(Float x, Float y, Float theta, Float frequency) throws CallError {
+        return ALFuture.of(service().<Void>call("_setMpcWalkTargetVelocity", x, y, theta, frequency));
     }
 
     /**
@@ -586,9 +1174,21 @@ public class ALMotion extends ALModule {
     */
     public void moveTo(Float x, Float y, Float theta) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("moveTo", x, y, theta);
+            service().call("moveTo", x, y, theta);
         else
-            service.call("moveTo", x, y, theta).get();
+            service().call("moveTo", x, y, theta).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #moveTo}.
+    * Makes the robot move at the given position. This is a non-blocking call.
+    * 
+    * @param x  The position along x axis [m].
+    * @param y  The position along y axis [m].
+    * @param theta  The position around z axis [rd].
+    */
+    public ALFuture<Void> moveToAsync(Float x, Float y, Float theta) throws CallError {
+        return ALFuture.of(service().<Void>call("moveTo", x, y, theta));
     }
 
     /**
@@ -601,9 +1201,22 @@ public class ALMotion extends ALModule {
     */
     public void moveTo(Float x, Float y, Float theta, Float time) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("moveTo", x, y, theta, time);
+            service().call("moveTo", x, y, theta, time);
         else
-            service.call("moveTo", x, y, theta, time).get();
+            service().call("moveTo", x, y, theta, time).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #moveTo}.
+    * Makes the robot move at the given position in fixed time. This is a non-blocking call.
+    * 
+    * @param x  The position along x axis [m].
+    * @param y  The position along y axis [m].
+    * @param theta  The position around z axis [rd].
+    * @param time  The time to reach the target position [s].
+    */
+    public ALFuture<Void> moveToAsync(Float x, Float y, Float theta, Float time) throws CallError {
+        return ALFuture.of(service().<Void>call("moveTo", x, y, theta, time));
     }
 
     /**
@@ -616,9 +1229,22 @@ public class ALMotion extends ALModule {
     */
     public void moveTo(Float x, Float y, Float theta, java.lang.Object moveConfig) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("moveTo", x, y, theta, moveConfig);
+            service().call("moveTo", x, y, theta, moveConfig);
         else
-            service.call("moveTo", x, y, theta, moveConfig).get();
+            service().call("moveTo", x, y, theta, moveConfig).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #moveTo}.
+    * Makes the robot move at the given position. This is a non-blocking call.
+    * 
+    * @param x  The position along x axis [m].
+    * @param y  The position along y axis [m].
+    * @param theta  The position around z axis [rd].
+    * @param moveConfig  An ALValue with custom move configuration.
+    */
+    public ALFuture<Void> moveToAsync(Float x, Float y, Float theta, java.lang.Object moveConfig) throws CallError {
+        return ALFuture.of(service().<Void>call("moveTo", x, y, theta, moveConfig));
     }
 
     /**
@@ -632,9 +1258,23 @@ public class ALMotion extends ALModule {
     */
     public void moveTo(Float x, Float y, Float theta, Float time, java.lang.Object moveConfig) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("moveTo", x, y, theta, time, moveConfig);
+            service().call("moveTo", x, y, theta, time, moveConfig);
         else
-            service.call("moveTo", x, y, theta, time, moveConfig).get();
+            service().call("moveTo", x, y, theta, time, moveConfig).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #moveTo}.
+    * Makes the robot move at the given position in fixed time. This is a non-blocking call.
+    * 
+    * @param x  The position along x axis [m].
+    * @param y  The position along y axis [m].
+    * @param theta  The position around z axis [rd].
+    * @param time  The time to reach the target position [s].
+    * @param moveConfig  An ALValue with custom move configuration.
+    */
+    public ALFuture<Void> moveToAsync(Float x, Float y, Float theta, Float time, java.lang.Object moveConfig) throws CallError {
+        return ALFuture.of(service().<Void>call("moveTo", x, y, theta, time, moveConfig));
     }
 
     /**
@@ -645,9 +1285,20 @@ Each control point is relative to the previous one. [[x1, y1, theta1], ..., [xN,
     */
     public void moveTo(java.lang.Object controlPoint) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("moveTo", controlPoint);
+            service().call("moveTo", controlPoint);
         else
-            service.call("moveTo", controlPoint).get();
+            service().call("moveTo", controlPoint).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #moveTo}.
+    * Makes the robot move to the given relative positions. This is a blocking call.
+    * 
+    * @param controlPoint  An ALValue with the control points in FRAME_ROBOT.
+Each control point is relative to the previous one. [[x1, y1, theta1], ..., [xN, yN, thetaN]
+    */
+    public ALFuture<Void> moveToAsync(java.lang.Object controlPoint) throws CallError {
+        return ALFuture.of(service().<Void>call("moveTo", controlPoint));
     }
 
     /**
@@ -659,9 +1310,21 @@ Each control point is relative to the previous one. [[x1, y1, theta1], ..., [xN,
     */
     public void moveTo(java.lang.Object controlPoint, java.lang.Object moveConfig) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("moveTo", controlPoint, moveConfig);
+            service().call("moveTo", controlPoint, moveConfig);
         else
-            service.call("moveTo", controlPoint, moveConfig).get();
+            service().call("moveTo", controlPoint, moveConfig).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #moveTo}.
+    * Makes the robot move to the given relative positions. This is a blocking call.
+    * 
+    * @param controlPoint  An ALValue with all the control points in FRAME_ROBOT.
+Each control point is relative to the previous one. [[x1, y1, theta1], ..., [xN, yN, thetaN]
+    * @param moveConfig  An ALValue with custom move configuration.
+    */
+    public ALFuture<Void> moveToAsync(java.lang.Object controlPoint, java.lang.Object moveConfig) throws CallError {
+        return ALFuture.of(service().<Void>call("moveTo", controlPoint, moveConfig));
     }
 
     /**
@@ -673,49 +1336,95 @@ Each control point is relative to the previous one. [[x1, y1, theta1], ..., [xN,
     */
     public void _moveToPod(Float x, Float y, Float theta) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_moveToPod", x, y, theta);
+            service().call("_moveToPod", x, y, theta);
         else
-            service.call("_moveToPod", x, y, theta).get();
+            service().call("_moveToPod", x, y, theta).get();
     }
 
     /**
+    * Asynchronous version of {@link #_moveToPod}.
     * Makes the robot move at the given position, without taking into account ENABLE_MOVE_PROTECTION config
     * 
     * @param x  The position along x axis [m].
     * @param y  The position along y axis [m].
     * @param theta  The position around z axis [rd].
-    * @param moveConfig  An ALValue with custom move configuration.
     */
-    public void _moveToPod(Float x, Float y, Float theta, java.lang.Object moveConfig) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("_moveToPod", x, y, theta, moveConfig);
-        else
-            service.call("_moveToPod", x, y, theta, moveConfig).get();
+    public ALFuture<Void> _moveToPodAsync(Float x, Float y, Float theta) throws CallError {
+        return ALFuture.of(service().<Void>call("_moveToPod", x, y, theta));
     }
 
     /**
-    * Makes the robot follow a given path. This is a non-blocking call.
+    * Makes the robot move at the given position, without taking into account ENABLE_MOVE_PROTECTION config
     * 
-    * @param path  An ALValue describing a 2D path.
+    * @param x  The position along x axis [m].
+    * @param y  The position along y axis [m].
+    * @param theta  The position around z axis [rd].
     * @param moveConfig  An ALValue with custom move configuration.
     */
-    public void _followPath(java.lang.Object path, java.lang.Object moveConfig) throws CallError, InterruptedException{
+    public void _moveToPod(Float x, Float y, Float theta, java.lang.Object moveConfig) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_followPath", path, moveConfig);
+            service().call("_moveToPod", x, y, theta, moveConfig);
         else
-            service.call("_followPath", path, moveConfig).get();
+            service().call("_moveToPod", x, y, theta, moveConfig).get();
     }
 
     /**
-    * Makes the robot follow a given path. This is a non-blocking call.
+    * Asynchronous version of {@link #_moveToPod}.
+    * Makes the robot move at the given position, without taking into account ENABLE_MOVE_PROTECTION config
     * 
-    * @param path  An ALValue describing a 2D path.
-    */
-    public void _followPath(java.lang.Object path) throws CallError, InterruptedException{
+    * @param x  The position along x axis [m].
+    * @param y  The position along y axis [m].
+    * @param theta  The position around z axis [rd].
+    * @param moveConfig  An ALValue with custom move configuration.
+    */
+    public ALFuture<Void> _moveToPodAsync(Float x, Float y, Float theta, java.lang.Object moveConfig) throws CallError {
+        return ALFuture.of(service().<Void>call("_moveToPod", x, y, theta, moveConfig));
+    }
+
+    /**
+    * Makes the robot follow a given path. This is a non-blocking call.
+    * 
+    * @param path  An ALValue describing a 2D path.
+    * @param moveConfig  An ALValue with custom move configuration.
+    */
+    public void _followPath(java.lang.Object path, java.lang.Object moveConfig) throws CallError, InterruptedException{
+        if (isAsynchronous)
+            service().call("_followPath", path, moveConfig);
+        else
+            service().call("_followPath", path, moveConfig).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_followPath}.
+    * Makes the robot follow a given path. This is a non-blocking call.
+    * 
+    * @param path  An ALValue describing a 2D path.
+    * @param moveConfig  An ALValue with custom move configuration.
+    */
+    public ALFuture<Void> _followPathAsync(java.lang.Object path, java.lang.Object moveConfig) throws CallError {
+        return ALFuture.of(service().<Void>call("_followPath", path, moveConfig));
+    }
+
+    /**
+    * Makes the robot follow a given path. This is a non-blocking call.
+    * 
+    * @param path  An ALValue describing a 2D path.
+    */
+    public void _followPath(java.lang.Object path) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_followPath", path);
+            service().call("_followPath", path);
         else
-            service.call("_followPath", path).get();
+            service().call("_followPath", path).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_followPath}.
+    * Makes the robot follow a given path. This is a non-blocking call.
+    * 
+    * @param path  An ALValue describing a 2D path.
+    */
+    public ALFuture<Void> _followPathAsync(java.lang.Object path) throws CallError {
+        return ALFuture.of(service().<Void>call("_followPath", path));
     }
 
     /**
@@ -727,9 +1436,21 @@ Each control point is relative to the previous one. [[x1, y1, theta1], ..., [xN,
     */
     public void _followPathInWorld(java.lang.Object poseStart, java.lang.Object path, java.lang.Object moveConfig) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_followPathInWorld", poseStart, path, moveConfig);
+            service().call("_followPathInWorld", poseStart, path, moveConfig);
         else
-            service.call("_followPathInWorld", poseStart, path, moveConfig).get();
+            service().call("_followPathInWorld", poseStart, path, moveConfig).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_followPathInWorld}.
+    * Makes the robot follow a given path, in world frame. This is a non-blocking call.
+    * 
+    * @param poseStart  A Pose2D setting the start frame of the path, in World.
+    * @param path  An ALValue describing a 2D Path.
+    * @param moveConfig  An ALValue with custom move configuration.
+    */
+    public ALFuture<Void> _followPathInWorldAsync(java.lang.Object poseStart, java.lang.Object path, java.lang.Object moveConfig) throws CallError {
+        return ALFuture.of(service().<Void>call("_followPathInWorld", poseStart, path, moveConfig));
     }
 
     /**
@@ -740,9 +1461,20 @@ Each control point is relative to the previous one. [[x1, y1, theta1], ..., [xN,
     */
     public void _followPathInWorld(java.lang.Object poseStart, java.lang.Object path) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_followPathInWorld", poseStart, path);
+            service().call("_followPathInWorld", poseStart, path);
         else
-            service.call("_followPathInWorld", poseStart, path).get();
+            service().call("_followPathInWorld", poseStart, path).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_followPathInWorld}.
+    * Makes the robot follow a given path, in world frame. This is a non-blocking call.
+    * 
+    * @param poseStart  A Pose2D setting the start frame of the path, in World.
+    * @param path  An ALValue describing a 2D Path.
+    */
+    public ALFuture<Void> _followPathInWorldAsync(java.lang.Object poseStart, java.lang.Object path) throws CallError {
+        return ALFuture.of(service().<Void>call("_followPathInWorld", poseStart, path));
     }
 
     /**
@@ -752,9 +1484,19 @@ Each control point is relative to the previous one. [[x1, y1, theta1], ..., [xN,
     */
     public void _setFollowPathSpeedFactor(Float speedFactor) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setFollowPathSpeedFactor", speedFactor);
+            service().call("_setFollowPathSpeedFactor", speedFactor);
         else
-            service.call("_setFollowPathSpeedFactor", speedFactor).get();
+            service().call("_setFollowPathSpeedFactor", speedFactor).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setFollowPathSpeedFactor}.
+    * Changes the reference speed for trajectory following
+    * 
+    * @param speedFactor  Between 0 and 1, relative to max speed
+    */
+    public ALFuture<Void> _setFollowPathSpeedFactorAsync(Float speedFactor) throws CallError {
+        return ALFuture.of(service().<Void>call("_setFollowPathSpeedFactor", speedFactor));
     }
 
     /**
@@ -764,7 +1506,18 @@ Each control point is relative to the previous one. [[x1, y1, theta1], ..., [xN,
     * @return The id of the trajectory that was started, as an int
     */
     public Integer _moveAlong(java.lang.Object trajectory) throws CallError, InterruptedException {
-        return (Integer)service.call("_moveAlong", trajectory).get();
+        return (Integer)service().call("_moveAlong", trajectory).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_moveAlong}.
+    * Move along a trajectory
+    * 
+    * @param trajectory  An ALValue describing a trajectory.
+    * @return The id of the trajectory that was started, as an int
+    */
+    public ALFuture<Integer> _moveAlongAsync(java.lang.Object trajectory) throws CallError {
+        return ALFuture.of(service().<Integer>call("_moveAlong", trajectory));
     }
 
     /**
@@ -775,7 +1528,19 @@ Each control point is relative to the previous one. [[x1, y1, theta1], ..., [xN,
     * @return The id of the trajectory that was started, as an int
     */
     public Integer _moveAlong(java.lang.Object trajectory, Float scaleFactor) throws CallError, InterruptedException {
-        return (Integer)service.call("_moveAlong", trajectory, scaleFactor).get();
+        return (Integer)service().call("_moveAlong", trajectory, scaleFactor).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_moveAlong}.
+    * Move along a trajectory
+    * 
+    * @param trajectory  An ALValue describing a trajectory.
+    * @param scaleFactor  A float between 0 and 1 scaling the trajectory.
+    * @return The id of the trajectory that was started, as an int
+    */
+    public ALFuture<Integer> _moveAlongAsync(java.lang.Object trajectory, Float scaleFactor) throws CallError {
+        return ALFuture.of(service().<Integer>call("_moveAlong", trajectory, scaleFactor));
     }
 
     /**
@@ -783,7 +1548,16 @@ Each control point is relative to the previous one. [[x1, y1, theta1], ..., [xN,
     * 
     */
     public Integer _getTrajectoryId() throws CallError, InterruptedException {
-        return (Integer)service.call("_getTrajectoryId").get();
+        return (Integer)service().call("_getTrajectoryId").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getTrajectoryId}.
+    * Get the id of the current trajectory, if any
+    * 
+    */
+    public ALFuture<Integer> _getTrajectoryIdAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("_getTrajectoryId"));
     }
 
     /**
@@ -792,9 +1566,18 @@ Each control point is relative to the previous one. [[x1, y1, theta1], ..., [xN,
     */
     public void _stopAndStitchMoveAlong() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_stopAndStitchMoveAlong");
+            service().call("_stopAndStitchMoveAlong");
         else
-            service.call("_stopAndStitchMoveAlong").get();
+            service().call("_stopAndStitchMoveAlong").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_stopAndStitchMoveAlong}.
+    * Stop current trajectory, then resync
+    * 
+    */
+    public ALFuture<Void> _stopAndStitchMoveAlongAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_stopAndStitchMoveAlong"));
     }
 
     /**
@@ -804,7 +1587,18 @@ Each control point is relative to the previous one. [[x1, y1, theta1], ..., [xN,
     * @return vector of samples along trajectory
     */
     public java.lang.Object _getRemainingPath(Float sampleStep) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_getRemainingPath", sampleStep).get();
+        return (java.lang.Object)service().call("_getRemainingPath", sampleStep).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getRemainingPath}.
+    * Get a vector of samples along the current path
+    * 
+    * @param sampleStep  Distance between two samples, in m
+    * @return vector of samples along trajectory
+    */
+    public ALFuture<java.lang.Object> _getRemainingPathAsync(Float sampleStep) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_getRemainingPath", sampleStep));
     }
 
     /**
@@ -815,7 +1609,19 @@ Each control point is relative to the previous one. [[x1, y1, theta1], ..., [xN,
     * @return vector of samples along trajectory
     */
     public java.lang.Object _getRemainingTrajectory(Float timeStep, Float preview) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_getRemainingTrajectory", timeStep, preview).get();
+        return (java.lang.Object)service().call("_getRemainingTrajectory", timeStep, preview).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getRemainingTrajectory}.
+    * Get a vector of samples along the current trajectory
+    * 
+    * @param timeStep  Time between two samples, in s
+    * @param preview  Duration of the preview, in s
+    * @return vector of samples along trajectory
+    */
+    public ALFuture<java.lang.Object> _getRemainingTrajectoryAsync(Float timeStep, Float preview) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_getRemainingTrajectory", timeStep, preview));
     }
 
     /**
@@ -824,7 +1630,17 @@ Each control point is relative to the previous one. [[x1, y1, theta1], ..., [xN,
     * @return float between 0 and 1
     */
     public Float _getTrajectoryCompletion() throws CallError, InterruptedException {
-        return (Float)service.call("_getTrajectoryCompletion").get();
+        return (Float)service().call("_getTrajectoryCompletion").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getTrajectoryCompletion}.
+    * Get the ratio of executed trajectory, between 0 and 1
+    * 
+    * @return float between 0 and 1
+    */
+    public ALFuture<Float> _getTrajectoryCompletionAsync() throws CallError {
+        return ALFuture.of(service().<Float>call("_getTrajectoryCompletion"));
     }
 
     /**
@@ -836,9 +1652,21 @@ Each control point is relative to the previous one. [[x1, y1, theta1], ..., [xN,
     */
     public void walkTo(Float x, Float y, Float theta) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("walkTo", x, y, theta);
+            service().call("walkTo", x, y, theta);
         else
-            service.call("walkTo", x, y, theta).get();
+            service().call("walkTo", x, y, theta).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #walkTo}.
+    * DEPRECATED. Use moveTo() function instead.
+    * 
+    * @param x  Distance along the X axis in meters.
+    * @param y  Distance along the Y axis in meters.
+    * @param theta  Rotation around the Z axis in radians [-3.1415 to 3.1415].
+    */
+    public ALFuture<Void> walkToAsync(Float x, Float y, Float theta) throws CallError {
+        return ALFuture.of(service().<Void>call("walkTo", x, y, theta));
     }
 
     /**
@@ -851,9 +1679,22 @@ Each control point is relative to the previous one. [[x1, y1, theta1], ..., [xN,
     */
     public void walkTo(Float x, Float y, Float theta, java.lang.Object feetGaitConfig) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("walkTo", x, y, theta, feetGaitConfig);
+            service().call("walkTo", x, y, theta, feetGaitConfig);
         else
-            service.call("walkTo", x, y, theta, feetGaitConfig).get();
+            service().call("walkTo", x, y, theta, feetGaitConfig).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #walkTo}.
+    * DEPRECATED. Use moveTo() function instead.
+    * 
+    * @param x  Distance along the X axis in meters.
+    * @param y  Distance along the Y axis in meters.
+    * @param theta  Rotation around the Z axis in radians [-3.1415 to 3.1415].
+    * @param feetGaitConfig  An ALValue with the custom gait configuration for both feet.
+    */
+    public ALFuture<Void> walkToAsync(Float x, Float y, Float theta, java.lang.Object feetGaitConfig) throws CallError {
+        return ALFuture.of(service().<Void>call("walkTo", x, y, theta, feetGaitConfig));
     }
 
     /**
@@ -863,9 +1704,19 @@ Each control point is relative to the previous one. [[x1, y1, theta1], ..., [xN,
     */
     public void walkTo(java.lang.Object controlPoint) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("walkTo", controlPoint);
+            service().call("walkTo", controlPoint);
         else
-            service.call("walkTo", controlPoint).get();
+            service().call("walkTo", controlPoint).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #walkTo}.
+    * DEPRECATED. Use moveTo() function instead.
+    * 
+    * @param controlPoint  An ALValue with all the control point in NAO SPACE[[x1,y1,theta1], ..., [xN,yN,thetaN]
+    */
+    public ALFuture<Void> walkToAsync(java.lang.Object controlPoint) throws CallError {
+        return ALFuture.of(service().<Void>call("walkTo", controlPoint));
     }
 
     /**
@@ -876,9 +1727,20 @@ Each control point is relative to the previous one. [[x1, y1, theta1], ..., [xN,
     */
     public void walkTo(java.lang.Object controlPoint, java.lang.Object feetGaitConfig) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("walkTo", controlPoint, feetGaitConfig);
+            service().call("walkTo", controlPoint, feetGaitConfig);
         else
-            service.call("walkTo", controlPoint, feetGaitConfig).get();
+            service().call("walkTo", controlPoint, feetGaitConfig).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #walkTo}.
+    * DEPRECATED. Use moveTo() function instead.
+    * 
+    * @param controlPoint  An ALValue with all the control point in NAO SPACE[[x1,y1,theta1], ..., [xN,yN,thetaN]
+    * @param feetGaitConfig  An ALValue with the custom gait configuration for both feet
+    */
+    public ALFuture<Void> walkToAsync(java.lang.Object controlPoint, java.lang.Object feetGaitConfig) throws CallError {
+        return ALFuture.of(service().<Void>call("walkTo", controlPoint, feetGaitConfig));
     }
 
     /**
@@ -891,9 +1753,22 @@ Each control point is relative to the previous one. [[x1, y1, theta1], ..., [xN,
     */
     public void setFootSteps(List<String> legName, java.lang.Object footSteps, List<Float> timeList, Boolean clearExisting) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setFootSteps", legName, footSteps, timeList, clearExisting);
+            service().call("setFootSteps", legName, footSteps, timeList, clearExisting);
         else
-            service.call("setFootSteps", legName, footSteps, timeList, clearExisting).get();
+            service().call("setFootSteps", legName, footSteps, timeList, clearExisting).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setFootSteps}.
+    * Makes Nao do foot step planner. This is a non-blocking call.
+    * 
+    * @param legName  name of the leg to move('LLeg'or 'RLeg')
+    * @param footSteps  [x, y, theta], [Position along X/Y, Orientation round Z axis] of the leg relative to the other Leg in [meters, meters, radians]. Must be less than [MaxStepX, MaxStepY, MaxStepTheta]
+    * @param timeList  time list of each foot step
+    * @param clearExisting  Clear existing foot steps.
+    */
+    public ALFuture<Void> setFootStepsAsync(List<String> legName, java.lang.Object footSteps, List<Float> timeList, Boolean clearExisting) throws CallError {
+        return ALFuture.of(service().<Void>call("setFootSteps", legName, footSteps, timeList, clearExisting));
     }
 
     /**
@@ -906,9 +1781,22 @@ Each control point is relative to the previous one. [[x1, y1, theta1], ..., [xN,
     */
     public void setFootStepsWithSpeed(List<String> legName, java.lang.Object footSteps, List<Float> fractionMaxSpeed, Boolean clearExisting) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setFootStepsWithSpeed", legName, footSteps, fractionMaxSpeed, clearExisting);
+            service().call("setFootStepsWithSpeed", legName, footSteps, fractionMaxSpeed, clearExisting);
         else
-            service.call("setFootStepsWithSpeed", legName, footSteps, fractionMaxSpeed, clearExisting).get();
+            service().call("setFootStepsWithSpeed", legName, footSteps, fractionMaxSpeed, clearExisting).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setFootStepsWithSpeed}.
+    * Makes Nao do foot step planner with speed. This is a blocking call.
+    * 
+    * @param legName  name of the leg to move('LLeg'or 'RLeg')
+    * @param footSteps  [x, y, theta], [Position along X/Y, Orientation round Z axis] of the leg relative to the other Leg in [meters, meters, radians]. Must be less than [MaxStepX, MaxStepY, MaxStepTheta]
+    * @param fractionMaxSpeed  speed of each foot step. Must be between 0 and 1.
+    * @param clearExisting  Clear existing foot steps.
+    */
+    public ALFuture<Void> setFootStepsWithSpeedAsync(List<String> legName, java.lang.Object footSteps, List<Float> fractionMaxSpeed, Boolean clearExisting) throws CallError {
+        return ALFuture.of(service().<Void>call("setFootStepsWithSpeed", legName, footSteps, fractionMaxSpeed, clearExisting));
     }
 
     /**
@@ -917,7 +1805,17 @@ Each control point is relative to the previous one. [[x1, y1, theta1], ..., [xN,
     * @return Give two list of foot steps. The first one give the unchangeable foot step. The second list give the changeable foot steps. Il you use setFootSteps or setFootStepsWithSpeed with clearExisting parmater equal true, walk engine execute unchangeable foot step and remove the other.
     */
     public java.lang.Object getFootSteps() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getFootSteps").get();
+        return (java.lang.Object)service().call("getFootSteps").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getFootSteps}.
+    * Get the foot steps. This is a non-blocking call.
+    * 
+    * @return Give two list of foot steps. The first one give the unchangeable foot step. The second list give the changeable foot steps. Il you use setFootSteps or setFootStepsWithSpeed with clearExisting parmater equal true, walk engine execute unchangeable foot step and remove the other.
+    */
+    public ALFuture<java.lang.Object> getFootStepsAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getFootSteps"));
     }
 
     /**
@@ -926,9 +1824,18 @@ Each control point is relative to the previous one. [[x1, y1, theta1], ..., [xN,
     */
     public void walkInit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("walkInit");
+            service().call("walkInit");
         else
-            service.call("walkInit").get();
+            service().call("walkInit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #walkInit}.
+    * DEPRECATED. Use moveInit function instead.
+    * 
+    */
+    public ALFuture<Void> walkInitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("walkInit"));
     }
 
     /**
@@ -937,9 +1844,18 @@ Each control point is relative to the previous one. [[x1, y1, theta1], ..., [xN,
     */
     public void moveInit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("moveInit");
+            service().call("moveInit");
         else
-            service.call("moveInit").get();
+            service().call("moveInit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #moveInit}.
+    * Initialize the move process. Check the robot pose and take a right posture. This is blocking called.
+    * 
+    */
+    public ALFuture<Void> moveInitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("moveInit"));
     }
 
     /**
@@ -948,9 +1864,18 @@ Each control point is relative to the previous one. [[x1, y1, theta1], ..., [xN,
     */
     public void waitUntilWalkIsFinished() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("waitUntilWalkIsFinished");
+            service().call("waitUntilWalkIsFinished");
         else
-            service.call("waitUntilWalkIsFinished").get();
+            service().call("waitUntilWalkIsFinished").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #waitUntilWalkIsFinished}.
+    * DEPRECATED. Use waitUntilMoveIsFinished function instead.
+    * 
+    */
+    public ALFuture<Void> waitUntilWalkIsFinishedAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("waitUntilWalkIsFinished"));
     }
 
     /**
@@ -959,9 +1884,18 @@ Each control point is relative to the previous one. [[x1, y1, theta1], ..., [xN,
     */
     public void waitUntilMoveIsFinished() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("waitUntilMoveIsFinished");
+            service().call("waitUntilMoveIsFinished");
         else
-            service.call("waitUntilMoveIsFinished").get();
+            service().call("waitUntilMoveIsFinished").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #waitUntilMoveIsFinished}.
+    * Waits until the move process is finished: This method can be used to block your script/code execution until the move task is totally finished.
+    * 
+    */
+    public ALFuture<Void> waitUntilMoveIsFinishedAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("waitUntilMoveIsFinished"));
     }
 
     /**
@@ -969,7 +1903,16 @@ Each control point is relative to the previous one. [[x1, y1, theta1], ..., [xN,
     * 
     */
     public Boolean walkIsActive() throws CallError, InterruptedException {
-        return (Boolean)service.call("walkIsActive").get();
+        return (Boolean)service().call("walkIsActive").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #walkIsActive}.
+    * DEPRECATED. Use moveIsActive function instead.
+    * 
+    */
+    public ALFuture<Boolean> walkIsActiveAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("walkIsActive"));
     }
 
     /**
@@ -978,7 +1921,17 @@ Each control point is relative to the previous one. [[x1, y1, theta1], ..., [xN,
     * @return True if move is active
     */
     public Boolean moveIsActive() throws CallError, InterruptedException {
-        return (Boolean)service.call("moveIsActive").get();
+        return (Boolean)service().call("moveIsActive").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #moveIsActive}.
+    * Check if the move process is actif.
+    * 
+    * @return True if move is active
+    */
+    public ALFuture<Boolean> moveIsActiveAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("moveIsActive"));
     }
 
     /**
@@ -987,9 +1940,18 @@ Each control point is relative to the previous one. [[x1, y1, theta1], ..., [xN,
     */
     public void stopWalk() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stopWalk");
+            service().call("stopWalk");
         else
-            service.call("stopWalk").get();
+            service().call("stopWalk").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stopWalk}.
+    * DEPRECATED. Use stopMove function instead.
+    * 
+    */
+    public ALFuture<Void> stopWalkAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("stopWalk"));
     }
 
     /**
@@ -999,9 +1961,19 @@ This is a blocking call.
     */
     public void stopMove() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stopMove");
+            service().call("stopMove");
         else
-            service.call("stopMove").get();
+            service().call("stopMove").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stopMove}.
+    * Stop Move task safely as fast as possible. The move task is ended less brutally than killMove but more quickly than move(0.0, 0.0, 0.0).
+This is a blocking call.
+    * 
+    */
+    public ALFuture<Void> stopMoveAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("stopMove"));
     }
 
     /**
@@ -1019,7 +1991,26 @@ Gets the foot Gait config ("MaxStepX", "MaxStepY", "MaxStepTheta",  "MaxStepFreq
 
     */
     public java.lang.Object getFootGaitConfig(String config) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getFootGaitConfig", config).get();
+        return (java.lang.Object)service().call("getFootGaitConfig", config).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getFootGaitConfig}.
+    * DEPRECATED. Use getMoveConfig function instead.
+Gets the foot Gait config ("MaxStepX", "MaxStepY", "MaxStepTheta",  "MaxStepFrequency", "StepHeight", "TorsoWx", "TorsoWy") 
+    * 
+    * @param config  a string should be "Max", "Min", "Default"
+    * @return An ALvalue with the following form :[["MaxStepX", value],
+ ["MaxStepY", value],
+ ["MaxStepTheta", value],
+ ["MaxStepFrequency", value],
+ ["StepHeight", value],
+ ["TorsoWx", value],
+ ["TorsoWy", value]]
+
+    */
+    public ALFuture<java.lang.Object> getFootGaitConfigAsync(String config) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getFootGaitConfig", config));
     }
 
     /**
@@ -1029,7 +2020,18 @@ Gets the foot Gait config ("MaxStepX", "MaxStepY", "MaxStepTheta",  "MaxStepFreq
     * @return An ALvalue with the move config
     */
     public java.lang.Object getMoveConfig(String config) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMoveConfig", config).get();
+        return (java.lang.Object)service().call("getMoveConfig", config).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMoveConfig}.
+    * Gets the move config.
+    * 
+    * @param config  a string should be "Max", "Min", "Default"
+    * @return An ALvalue with the move config
+    */
+    public ALFuture<java.lang.Object> getMoveConfigAsync(String config) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMoveConfig", config));
     }
 
     /**
@@ -1039,19 +2041,91 @@ Gets the foot Gait config ("MaxStepX", "MaxStepY", "MaxStepTheta",  "MaxStepFreq
     * @return A vector containing the World Absolute Robot Position. (Absolute Position X, Absolute Position Y, Absolute Angle Z)
     */
     public List<Float> getRobotPosition(Boolean useSensors) throws CallError, InterruptedException {
-        return (List<Float>)service.call("getRobotPosition", useSensors).get();
+        return (List<Float>)service().call("getRobotPosition", useSensors).get();
     }
 
     /**
-    * Gets the World Absolute next Robot Position.
-In fact in the walk algorithm some foot futur foot step are incompressible due to preview control, so this function give the next robot position which is incompressible.
-If the robot doesn't walk this function is equivalent to getRobotPosition(false)
-
+    * Primitive version of {@link #getRobotPosition}, values are returned unboxed.
+    * Gets the World Absolute Robot Position.
+    * 
+    * @param useSensors  If true, use the sensor values
+    * @return A vector containing the World Absolute Robot Position. (Absolute Position X, Absolute Position Y, Absolute Angle Z)
+    */
+    public float[] getRobotPositionF(Boolean useSensors) throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("getRobotPosition", useSensors).get());
+    }
+
+    /**
+    * Primitive version of {@link #getRobotPosition}, values are written into dst and their count is returned.
+    * Gets the World Absolute Robot Position.
+    * 
+    * @param useSensors  If true, use the sensor values
+    * @return A vector containing the World Absolute Robot Position. (Absolute Position X, Absolute Position Y, Absolute Angle Z)
+    */
+    public int getRobotPositionInto(float[] dst, Boolean useSensors) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("getRobotPosition", useSensors).get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #getRobotPosition}.
+    * Gets the World Absolute Robot Position.
+    * 
+    * @param useSensors  If true, use the sensor values
+    * @return A vector containing the World Absolute Robot Position. (Absolute Position X, Absolute Position Y, Absolute Angle Z)
+    */
+    public ALFuture<List<Float>> getRobotPositionAsync(Boolean useSensors) throws CallError {
+        return ALFuture.of(service().<List<Float>>call("getRobotPosition", useSensors));
+    }
+
+    /**
+    * Gets the World Absolute next Robot Position.
+In fact in the walk algorithm some foot futur foot step are incompressible due to preview control, so this function give the next robot position which is incompressible.
+If the robot doesn't walk this function is equivalent to getRobotPosition(false)
+
     * 
     * @return A vector containing the World Absolute next Robot position.(Absolute Position X, Absolute Position Y, Absolute Angle Z)
     */
     public List<Float> getNextRobotPosition() throws CallError, InterruptedException {
-        return (List<Float>)service.call("getNextRobotPosition").get();
+        return (List<Float>)service().call("getNextRobotPosition").get();
+    }
+
+    /**
+    * Primitive version of {@link #getNextRobotPosition}, values are returned unboxed.
+    * Gets the World Absolute next Robot Position.
+In fact in the walk algorithm some foot futur foot step are incompressible due to preview control, so this function give the next robot position which is incompressible.
+If the robot doesn't walk this function is equivalent to getRobotPosition(false)
+
+    * 
+    * @return A vector containing the World Absolute next Robot position.(Absolute Position X, Absolute Position Y, Absolute Angle Z)
+    */
+    public float[] getNextRobotPositionF() throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("getNextRobotPosition").get());
+    }
+
+    /**
+    * Primitive version of {@link #getNextRobotPosition}, values are written into dst and their count is returned.
+    * Gets the World Absolute next Robot Position.
+In fact in the walk algorithm some foot futur foot step are incompressible due to preview control, so this function give the next robot position which is incompressible.
+If the robot doesn't walk this function is equivalent to getRobotPosition(false)
+
+    * 
+    * @return A vector containing the World Absolute next Robot position.(Absolute Position X, Absolute Position Y, Absolute Angle Z)
+    */
+    public int getNextRobotPositionInto(float[] dst) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("getNextRobotPosition").get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #getNextRobotPosition}.
+    * Gets the World Absolute next Robot Position.
+In fact in the walk algorithm some foot futur foot step are incompressible due to preview control, so this function give the next robot position which is incompressible.
+If the robot doesn't walk this function is equivalent to getRobotPosition(false)
+
+    * 
+    * @return A vector containing the World Absolute next Robot position.(Absolute Position X, Absolute Position Y, Absolute Angle Z)
+    */
+    public ALFuture<List<Float>> getNextRobotPositionAsync() throws CallError {
+        return ALFuture.of(service().<List<Float>>call("getNextRobotPosition"));
     }
 
     /**
@@ -1060,7 +2134,37 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     * @return A vector containing the Relative Position. (Position X, Position Y, Angle Z)
     */
     public List<Float> _getStopMovePosition() throws CallError, InterruptedException {
-        return (List<Float>)service.call("_getStopMovePosition").get();
+        return (List<Float>)service().call("_getStopMovePosition").get();
+    }
+
+    /**
+    * Primitive version of {@link #_getStopMovePosition}, values are returned unboxed.
+    * Get the relative position of the robot if stop move is called now.
+    * 
+    * @return A vector containing the Relative Position. (Position X, Position Y, Angle Z)
+    */
+    public float[] _getStopMovePositionF() throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("_getStopMovePosition").get());
+    }
+
+    /**
+    * Primitive version of {@link #_getStopMovePosition}, values are written into dst and their count is returned.
+    * Get the relative position of the robot if stop move is called now.
+    * 
+    * @return A vector containing the Relative Position. (Position X, Position Y, Angle Z)
+    */
+    public int _getStopMovePositionInto(float[] dst) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("_getStopMovePosition").get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #_getStopMovePosition}.
+    * Get the relative position of the robot if stop move is called now.
+    * 
+    * @return A vector containing the Relative Position. (Position X, Position Y, Angle Z)
+    */
+    public ALFuture<List<Float>> _getStopMovePositionAsync() throws CallError {
+        return ALFuture.of(service().<List<Float>>call("_getStopMovePosition"));
     }
 
     /**
@@ -1069,7 +2173,37 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     * @return A vector containing the World Absolute Robot Velocity. (Absolute Velocity Translation X [m.s-1], Absolute Velocity Translation Y[m.s-1], Absolute Velocity Rotation WZ [rd.s-1])
     */
     public List<Float> getRobotVelocity() throws CallError, InterruptedException {
-        return (List<Float>)service.call("getRobotVelocity").get();
+        return (List<Float>)service().call("getRobotVelocity").get();
+    }
+
+    /**
+    * Primitive version of {@link #getRobotVelocity}, values are returned unboxed.
+    * Gets the World Absolute Robot Velocity.
+    * 
+    * @return A vector containing the World Absolute Robot Velocity. (Absolute Velocity Translation X [m.s-1], Absolute Velocity Translation Y[m.s-1], Absolute Velocity Rotation WZ [rd.s-1])
+    */
+    public float[] getRobotVelocityF() throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("getRobotVelocity").get());
+    }
+
+    /**
+    * Primitive version of {@link #getRobotVelocity}, values are written into dst and their count is returned.
+    * Gets the World Absolute Robot Velocity.
+    * 
+    * @return A vector containing the World Absolute Robot Velocity. (Absolute Velocity Translation X [m.s-1], Absolute Velocity Translation Y[m.s-1], Absolute Velocity Rotation WZ [rd.s-1])
+    */
+    public int getRobotVelocityInto(float[] dst) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("getRobotVelocity").get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #getRobotVelocity}.
+    * Gets the World Absolute Robot Velocity.
+    * 
+    * @return A vector containing the World Absolute Robot Velocity. (Absolute Velocity Translation X [m.s-1], Absolute Velocity Translation Y[m.s-1], Absolute Velocity Rotation WZ [rd.s-1])
+    */
+    public ALFuture<List<Float>> getRobotVelocityAsync() throws CallError {
+        return ALFuture.of(service().<List<Float>>call("getRobotVelocity"));
     }
 
     /**
@@ -1078,7 +2212,37 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     * @return A vector containing the absolute cumulated displacement, in robot frame. (Absolute Displacement X [m], Absolute Displacement Y[m], Absolute Displacement Theta [rd])
     */
     public List<Float> _getCumulatedDisplacement() throws CallError, InterruptedException {
-        return (List<Float>)service.call("_getCumulatedDisplacement").get();
+        return (List<Float>)service().call("_getCumulatedDisplacement").get();
+    }
+
+    /**
+    * Primitive version of {@link #_getCumulatedDisplacement}, values are returned unboxed.
+    * Get the absolute cumulated displacement since robot is up, in robot frame.
+    * 
+    * @return A vector containing the absolute cumulated displacement, in robot frame. (Absolute Displacement X [m], Absolute Displacement Y[m], Absolute Displacement Theta [rd])
+    */
+    public float[] _getCumulatedDisplacementF() throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("_getCumulatedDisplacement").get());
+    }
+
+    /**
+    * Primitive version of {@link #_getCumulatedDisplacement}, values are written into dst and their count is returned.
+    * Get the absolute cumulated displacement since robot is up, in robot frame.
+    * 
+    * @return A vector containing the absolute cumulated displacement, in robot frame. (Absolute Displacement X [m], Absolute Displacement Y[m], Absolute Displacement Theta [rd])
+    */
+    public int _getCumulatedDisplacementInto(float[] dst) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("_getCumulatedDisplacement").get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #_getCumulatedDisplacement}.
+    * Get the absolute cumulated displacement since robot is up, in robot frame.
+    * 
+    * @return A vector containing the absolute cumulated displacement, in robot frame. (Absolute Displacement X [m], Absolute Displacement Y[m], Absolute Displacement Theta [rd])
+    */
+    public ALFuture<List<Float>> _getCumulatedDisplacementAsync() throws CallError {
+        return ALFuture.of(service().<List<Float>>call("_getCumulatedDisplacement"));
     }
 
     /**
@@ -1087,7 +2251,17 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     * @return True Arm Motions are controlled by the Walk Task.
     */
     public java.lang.Object getWalkArmsEnabled() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getWalkArmsEnabled").get();
+        return (java.lang.Object)service().call("getWalkArmsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getWalkArmsEnabled}.
+    * DEPRECATED. Gets if Arms Motions are enabled during the Walk Process.
+    * 
+    * @return True Arm Motions are controlled by the Walk Task.
+    */
+    public ALFuture<java.lang.Object> getWalkArmsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getWalkArmsEnabled"));
     }
 
     /**
@@ -1098,9 +2272,20 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     */
     public void setWalkArmsEnabled(Boolean leftArmEnabled, Boolean rightArmEnabled) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setWalkArmsEnabled", leftArmEnabled, rightArmEnabled);
+            service().call("setWalkArmsEnabled", leftArmEnabled, rightArmEnabled);
         else
-            service.call("setWalkArmsEnabled", leftArmEnabled, rightArmEnabled).get();
+            service().call("setWalkArmsEnabled", leftArmEnabled, rightArmEnabled).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setWalkArmsEnabled}.
+    * DEPRECATED. Sets if Arms Motions are enabled during the Walk Process.
+    * 
+    * @param leftArmEnabled  if true Left Arm motions are controlled by the Walk Task
+    * @param rightArmEnabled  if true Right Arm mMotions are controlled by the Walk Task
+    */
+    public ALFuture<Void> setWalkArmsEnabledAsync(Boolean leftArmEnabled, Boolean rightArmEnabled) throws CallError {
+        return ALFuture.of(service().<Void>call("setWalkArmsEnabled", leftArmEnabled, rightArmEnabled));
     }
 
     /**
@@ -1110,7 +2295,18 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     * @return For LArm and RArm true if the corresponding arm is enabled. For Arms, true if both are enabled. False otherwise.
     */
     public Boolean getMoveArmsEnabled(String chainName) throws CallError, InterruptedException {
-        return (Boolean)service.call("getMoveArmsEnabled", chainName).get();
+        return (Boolean)service().call("getMoveArmsEnabled", chainName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMoveArmsEnabled}.
+    * Gets if Arms Motions are enabled during the Move Process.
+    * 
+    * @param chainName  Name of the chain. Could be: "LArm", "RArm" or "Arms"
+    * @return For LArm and RArm true if the corresponding arm is enabled. For Arms, true if both are enabled. False otherwise.
+    */
+    public ALFuture<Boolean> getMoveArmsEnabledAsync(String chainName) throws CallError {
+        return ALFuture.of(service().<Boolean>call("getMoveArmsEnabled", chainName));
     }
 
     /**
@@ -1121,9 +2317,20 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     */
     public void setMoveArmsEnabled(Boolean leftArmEnabled, Boolean rightArmEnabled) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setMoveArmsEnabled", leftArmEnabled, rightArmEnabled);
+            service().call("setMoveArmsEnabled", leftArmEnabled, rightArmEnabled);
         else
-            service.call("setMoveArmsEnabled", leftArmEnabled, rightArmEnabled).get();
+            service().call("setMoveArmsEnabled", leftArmEnabled, rightArmEnabled).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setMoveArmsEnabled}.
+    * Sets if Arms Motions are enabled during the Move Process.
+    * 
+    * @param leftArmEnabled  if true Left Arm motions are controlled by the Move Task
+    * @param rightArmEnabled  if true Right Arm mMotions are controlled by the Move Task
+    */
+    public ALFuture<Void> setMoveArmsEnabledAsync(Boolean leftArmEnabled, Boolean rightArmEnabled) throws CallError {
+        return ALFuture.of(service().<Void>call("setMoveArmsEnabled", leftArmEnabled, rightArmEnabled));
     }
 
     /**
@@ -1138,9 +2345,24 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     */
     public void positionInterpolation(String chainName, Integer space, java.lang.Object path, Integer axisMask, java.lang.Object durations, Boolean isAbsolute) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("positionInterpolation", chainName, space, path, axisMask, durations, isAbsolute);
+            service().call("positionInterpolation", chainName, space, path, axisMask, durations, isAbsolute);
         else
-            service.call("positionInterpolation", chainName, space, path, axisMask, durations, isAbsolute).get();
+            service().call("positionInterpolation", chainName, space, path, axisMask, durations, isAbsolute).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #positionInterpolation}.
+    * DEPRECATED. Use positionInterpolations function instead.
+    * 
+    * @param chainName  Name of the chain. Could be: "Head", "LArm", "RArm", "LLeg", "RLeg", "Torso" 
+    * @param space  Task frame {FRAME_TORSO = 0, FRAME_WORLD = 1, FRAME_ROBOT = 2}.
+    * @param path  Vector of 6D position arrays (x,y,z,wx,wy,wz) in meters and radians
+    * @param axisMask  Axis mask. True for axes that you wish to control. e.g. 7 for position only, 56 for rotation only and 63 for both 
+    * @param durations  Vector of times in seconds corresponding to the path points
+    * @param isAbsolute  If true, the movement is absolute else relative
+    */
+    public ALFuture<Void> positionInterpolationAsync(String chainName, Integer space, java.lang.Object path, Integer axisMask, java.lang.Object durations, Boolean isAbsolute) throws CallError {
+        return ALFuture.of(service().<Void>call("positionInterpolation", chainName, space, path, axisMask, durations, isAbsolute));
     }
 
     /**
@@ -1155,9 +2377,24 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     */
     public void positionInterpolations(List<String> effectorNames, Integer taskSpaceForAllPaths, java.lang.Object paths, java.lang.Object axisMasks, java.lang.Object relativeTimes, Boolean isAbsolute) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("positionInterpolations", effectorNames, taskSpaceForAllPaths, paths, axisMasks, relativeTimes, isAbsolute);
+            service().call("positionInterpolations", effectorNames, taskSpaceForAllPaths, paths, axisMasks, relativeTimes, isAbsolute);
         else
-            service.call("positionInterpolations", effectorNames, taskSpaceForAllPaths, paths, axisMasks, relativeTimes, isAbsolute).get();
+            service().call("positionInterpolations", effectorNames, taskSpaceForAllPaths, paths, axisMasks, relativeTimes, isAbsolute).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #positionInterpolations}.
+    * DEPRECATED. Use the other positionInterpolations function instead.
+    * 
+    * @param effectorNames  Vector of chain names. Could be: "Head", "LArm", "RArm", "LLeg", "RLeg", "Torso" 
+    * @param taskSpaceForAllPaths  Task frame {FRAME_TORSO = 0, FRAME_WORLD = 1, FRAME_ROBOT = 2}.
+    * @param paths  Vector of 6D position arrays (x,y,z,wx,wy,wz) in meters and radians
+    * @param axisMasks  Vector of Axis Masks. True for axes that you wish to control. e.g. 7 for position only, 56 for rotation only and 63 for both 
+    * @param relativeTimes  Vector of times in seconds corresponding to the path points
+    * @param isAbsolute  If true, the movement is absolute else relative
+    */
+    public ALFuture<Void> positionInterpolationsAsync(List<String> effectorNames, Integer taskSpaceForAllPaths, java.lang.Object paths, java.lang.Object axisMasks, java.lang.Object relativeTimes, Boolean isAbsolute) throws CallError {
+        return ALFuture.of(service().<Void>call("positionInterpolations", effectorNames, taskSpaceForAllPaths, paths, axisMasks, relativeTimes, isAbsolute));
     }
 
     /**
@@ -1171,9 +2408,23 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     */
     public void positionInterpolations(java.lang.Object effectorNames, java.lang.Object taskSpaceForAllPaths, java.lang.Object paths, java.lang.Object axisMasks, java.lang.Object relativeTimes) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("positionInterpolations", effectorNames, taskSpaceForAllPaths, paths, axisMasks, relativeTimes);
+            service().call("positionInterpolations", effectorNames, taskSpaceForAllPaths, paths, axisMasks, relativeTimes);
         else
-            service.call("positionInterpolations", effectorNames, taskSpaceForAllPaths, paths, axisMasks, relativeTimes).get();
+            service().call("positionInterpolations", effectorNames, taskSpaceForAllPaths, paths, axisMasks, relativeTimes).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #positionInterpolations}.
+    * Moves end-effectors to the given positions and orientations over time. This is a blocking call.
+    * 
+    * @param effectorNames  Vector of chain names. Could be: "Head", "LArm", "RArm", "LLeg", "RLeg", "Torso" 
+    * @param taskSpaceForAllPaths  Task frame {FRAME_TORSO = 0, FRAME_WORLD = 1, FRAME_ROBOT = 2}.
+    * @param paths  Vector of 6D position arrays (x,y,z,wx,wy,wz) in meters and radians
+    * @param axisMasks  Vector of Axis Masks. True for axes that you wish to control. e.g. 7 for position only, 56 for rotation only and 63 for both 
+    * @param relativeTimes  Vector of times in seconds corresponding to the path points
+    */
+    public ALFuture<Void> positionInterpolationsAsync(java.lang.Object effectorNames, java.lang.Object taskSpaceForAllPaths, java.lang.Object paths, java.lang.Object axisMasks, java.lang.Object relativeTimes) throws CallError {
+        return ALFuture.of(service().<Void>call("positionInterpolations", effectorNames, taskSpaceForAllPaths, paths, axisMasks, relativeTimes));
     }
 
     /**
@@ -1187,9 +2438,23 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     */
     public void setPosition(String chainName, Integer space, List<Float> position, Float fractionMaxSpeed, Integer axisMask) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setPosition", chainName, space, position, fractionMaxSpeed, axisMask);
+            service().call("setPosition", chainName, space, position, fractionMaxSpeed, axisMask);
         else
-            service.call("setPosition", chainName, space, position, fractionMaxSpeed, axisMask).get();
+            service().call("setPosition", chainName, space, position, fractionMaxSpeed, axisMask).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setPosition}.
+    * Moves an end-effector to DEPRECATED. Use setPositions function instead.
+    * 
+    * @param chainName  Name of the chain. Could be: "Head", "LArm","RArm", "LLeg", "RLeg", "Torso"
+    * @param space  Task frame {FRAME_TORSO = 0, FRAME_WORLD = 1, FRAME_ROBOT = 2}.
+    * @param position  6D position array (x,y,z,wx,wy,wz) in meters and radians
+    * @param fractionMaxSpeed  The fraction of maximum speed to use
+    * @param axisMask  Axis mask. True for axes that you wish to control. e.g. 7 for position only, 56 for rotation only and 63 for both 
+    */
+    public ALFuture<Void> setPositionAsync(String chainName, Integer space, List<Float> position, Float fractionMaxSpeed, Integer axisMask) throws CallError {
+        return ALFuture.of(service().<Void>call("setPosition", chainName, space, position, fractionMaxSpeed, axisMask));
     }
 
     /**
@@ -1203,9 +2468,23 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     */
     public void setPositions(java.lang.Object names, java.lang.Object spaces, java.lang.Object positions, Float fractionMaxSpeed, java.lang.Object axisMask) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setPositions", names, spaces, positions, fractionMaxSpeed, axisMask);
+            service().call("setPositions", names, spaces, positions, fractionMaxSpeed, axisMask);
         else
-            service.call("setPositions", names, spaces, positions, fractionMaxSpeed, axisMask).get();
+            service().call("setPositions", names, spaces, positions, fractionMaxSpeed, axisMask).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setPositions}.
+    * Moves multiple end-effectors to the given position and orientation position6d. This is a non-blocking call.
+    * 
+    * @param names  The name or names of effector.
+    * @param spaces  The task frame or task frames {FRAME_TORSO = 0, FRAME_WORLD = 1, FRAME_ROBOT = 2}.
+    * @param positions  Position6D arrays
+    * @param fractionMaxSpeed  The fraction of maximum speed to use
+    * @param axisMask  Axis mask. True for axes that you wish to control. e.g. 7 for position only, 56 for rotation only and 63 for both 
+    */
+    public ALFuture<Void> setPositionsAsync(java.lang.Object names, java.lang.Object spaces, java.lang.Object positions, Float fractionMaxSpeed, java.lang.Object axisMask) throws CallError {
+        return ALFuture.of(service().<Void>call("setPositions", names, spaces, positions, fractionMaxSpeed, axisMask));
     }
 
     /**
@@ -1219,9 +2498,23 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     */
     public void changePosition(String effectorName, Integer space, List<Float> positionChange, Float fractionMaxSpeed, Integer axisMask) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("changePosition", effectorName, space, positionChange, fractionMaxSpeed, axisMask);
+            service().call("changePosition", effectorName, space, positionChange, fractionMaxSpeed, axisMask);
         else
-            service.call("changePosition", effectorName, space, positionChange, fractionMaxSpeed, axisMask).get();
+            service().call("changePosition", effectorName, space, positionChange, fractionMaxSpeed, axisMask).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #changePosition}.
+    * DEPRECATED. Use setPositions function instead.
+    * 
+    * @param effectorName  Name of the effector.
+    * @param space  Task frame {FRAME_TORSO = 0, FRAME_WORLD = 1, FRAME_ROBOT = 2}.
+    * @param positionChange  6D position change array (xd, yd, zd, wxd, wyd, wzd) in meters and radians
+    * @param fractionMaxSpeed  The fraction of maximum speed to use
+    * @param axisMask  Axis mask. True for axes that you wish to control. e.g. 7 for position only, 56 for rotation only and 63 for both 
+    */
+    public ALFuture<Void> changePositionAsync(String effectorName, Integer space, List<Float> positionChange, Float fractionMaxSpeed, Integer axisMask) throws CallError {
+        return ALFuture.of(service().<Void>call("changePosition", effectorName, space, positionChange, fractionMaxSpeed, axisMask));
     }
 
     /**
@@ -1233,7 +2526,46 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     * @return Vector containing the Position6D using meters and radians (x, y, z, wx, wy, wz)
     */
     public List<Float> getPosition(String name, Integer space, Boolean useSensorValues) throws CallError, InterruptedException {
-        return (List<Float>)service.call("getPosition", name, space, useSensorValues).get();
+        return (List<Float>)service().call("getPosition", name, space, useSensorValues).get();
+    }
+
+    /**
+    * Primitive version of {@link #getPosition}, values are returned unboxed.
+    * Gets a Position relative to the FRAME. Axis definition: the x axis is positive toward Nao's front, the y from right to left and the z is vertical. The angle convention of Position6D is Rot_z(wz).Rot_y(wy).Rot_x(wx).
+    * 
+    * @param name  Name of the item. Could be: Head, LArm, RArm, LLeg, RLeg, Torso, CameraTop, CameraBottom, MicroFront, MicroRear, MicroLeft, MicroRight, Accelerometer, Gyrometer, Laser, LFsrFR, LFsrFL, LFsrRR, LFsrRL, RFsrFR, RFsrFL, RFsrRR, RFsrRL, USSensor1, USSensor2, USSensor3, USSensor4. Use getSensorNames for the list of sensors supported on your robot.
+    * @param space  Task frame {FRAME_TORSO = 0, FRAME_WORLD = 1, FRAME_ROBOT = 2}.
+    * @param useSensorValues  If true, the sensor values will be used to determine the position.
+    * @return Vector containing the Position6D using meters and radians (x, y, z, wx, wy, wz)
+    */
+    public float[] getPositionF(String name, Integer space, Boolean useSensorValues) throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("getPosition", name, space, useSensorValues).get());
+    }
+
+    /**
+    * Primitive version of {@link #getPosition}, values are written into dst and their count is returned.
+    * Gets a Position relative to the FRAME. Axis definition: the x axis is positive toward Nao's front, the y from right to left and the z is vertical. The angle convention of Position6D is Rot_z(wz).Rot_y(wy).Rot_x(wx).
+    * 
+    * @param name  Name of the item. Could be: Head, LArm, RArm, LLeg, RLeg, Torso, CameraTop, CameraBottom, MicroFront, MicroRear, MicroLeft, MicroRight, Accelerometer, Gyrometer, Laser, LFsrFR, LFsrFL, LFsrRR, LFsrRL, RFsrFR, RFsrFL, RFsrRR, RFsrRL, USSensor1, USSensor2, USSensor3, USSensor4. Use getSensorNames for the list of sensors supported on your robot.
+    * @param space  Task frame {FRAME_TORSO = 0, FRAME_WORLD = 1, FRAME_ROBOT = 2}.
+    * @param useSensorValues  If true, the sensor values will be used to determine the position.
+    * @return Vector containing the Position6D using meters and radians (x, y, z, wx, wy, wz)
+    */
+    public int getPositionInto(float[] dst, String name, Integer space, Boolean useSensorValues) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("getPosition", name, space, useSensorValues).get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #getPosition}.
+    * Gets a Position relative to the FRAME. Axis definition: the x axis is positive toward Nao's front, the y from right to left and the z is vertical. The angle convention of Position6D is Rot_z(wz).Rot_y(wy).Rot_x(wx).
+    * 
+    * @param name  Name of the item. Could be: Head, LArm, RArm, LLeg, RLeg, Torso, CameraTop, CameraBottom, MicroFront, MicroRear, MicroLeft, MicroRight, Accelerometer, Gyrometer, Laser, LFsrFR, LFsrFL, LFsrRR, LFsrRL, RFsrFR, RFsrFL, RFsrRR, RFsrRL, USSensor1, USSensor2, USSensor3, USSensor4. Use getSensorNames for the list of sensors supported on your robot.
+    * @param space  Task frame {FRAME_TORSO = 0, FRAME_WORLD = 1, FRAME_ROBOT = 2}.
+    * @param useSensorValues  If true, the sensor values will be used to determine the position.
+    * @return Vector containing the Position6D using meters and radians (x, y, z, wx, wy, wz)
+    */
+    public ALFuture<List<Float>> getPositionAsync(String name, Integer space, Boolean useSensorValues) throws CallError {
+        return ALFuture.of(service().<List<Float>>call("getPosition", name, space, useSensorValues));
     }
 
     /**
@@ -1248,26 +2580,56 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     */
     public void transformInterpolation(String chainName, Integer space, java.lang.Object path, Integer axisMask, java.lang.Object duration, Boolean isAbsolute) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("transformInterpolation", chainName, space, path, axisMask, duration, isAbsolute);
+            service().call("transformInterpolation", chainName, space, path, axisMask, duration, isAbsolute);
         else
-            service.call("transformInterpolation", chainName, space, path, axisMask, duration, isAbsolute).get();
+            service().call("transformInterpolation", chainName, space, path, axisMask, duration, isAbsolute).get();
     }
 
     /**
+    * Asynchronous version of {@link #transformInterpolation}.
     * DEPRECATED. Use the other transformInterpolations function instead.
     * 
-    * @param effectorNames  Vector of chain names. Could be: "Head", "LArm", "RArm", "LLeg", "RLeg", "Torso" 
-    * @param taskSpaceForAllPaths  Task frame {FRAME_TORSO = 0, FRAME_WORLD = 1, FRAME_ROBOT = 2}.
-    * @param paths  Vector of transforms arrays.
-    * @param axisMasks  Vector of Axis Masks. True for axes that you wish to control. e.g. 7 for position only, 56 for rotation only and 63 for both 
-    * @param relativeTimes  Vector of times in seconds corresponding to the path points
-    * @param isAbsolute  If true, the movement is absolute else relative
-    */
+    * @param chainName  Name of the chain. Could be: "Head", "LArm","RArm", "LLeg", "RLeg", "Torso"
+    * @param space  Task frame {FRAME_TORSO = 0, FRAME_WORLD = 1, FRAME_ROBOT = 2}.
+    * @param path  Vector of Transform arrays
+    * @param axisMask  Axis mask. True for axes that you wish to control. e.g. 7 for position only, 56 for rotation only and 63 for both 
+    * @param duration  Vector of times in seconds corresponding to the path points
+    * @param isAbsolute  If true, the movement is absolute else relative
+    */
+    public ALFuture<Void> transformInterpolationAsync(String chainName, Integer space, java.lang.Object path, Integer axisMask, java.lang.Object duration, Boolean isAbsolute) throws CallError {
+        return ALFuture.of(service().<Void>call("transformInterpolation", chainName, space, path, axisMask, duration, isAbsolute));
+    }
+
+    /**
+    * DEPRECATED. Use the other transformInterpolations function instead.
+    * 
+    * @param effectorNames  Vector of chain names. Could be: "Head", "LArm", "RArm", "LLeg", "RLeg", "Torso" 
+    * @param taskSpaceForAllPaths  Task frame {FRAME_TORSO = 0, FRAME_WORLD = 1, FRAME_ROBOT = 2}.
+    * @param paths  Vector of transforms arrays.
+    * @param axisMasks  Vector of Axis Masks. True for axes that you wish to control. e.g. 7 for position only, 56 for rotation only and 63 for both 
+    * @param relativeTimes  Vector of times in seconds corresponding to the path points
+    * @param isAbsolute  If true, the movement is absolute else relative
+    */
     public void transformInterpolations(List<String> effectorNames, Integer taskSpaceForAllPaths, java.lang.Object paths, java.lang.Object axisMasks, java.lang.Object relativeTimes, Boolean isAbsolute) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("transformInterpolations", effectorNames, taskSpaceForAllPaths, paths, axisMasks, relativeTimes, isAbsolute);
+            service().call("transformInterpolations", effectorNames, taskSpaceForAllPaths, paths, axisMasks, relativeTimes, isAbsolute);
         else
-            service.call("transformInterpolations", effectorNames, taskSpaceForAllPaths, paths, axisMasks, relativeTimes, isAbsolute).get();
+            service().call("transformInterpolations", effectorNames, taskSpaceForAllPaths, paths, axisMasks, relativeTimes, isAbsolute).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #transformInterpolations}.
+    * DEPRECATED. Use the other transformInterpolations function instead.
+    * 
+    * @param effectorNames  Vector of chain names. Could be: "Head", "LArm", "RArm", "LLeg", "RLeg", "Torso" 
+    * @param taskSpaceForAllPaths  Task frame {FRAME_TORSO = 0, FRAME_WORLD = 1, FRAME_ROBOT = 2}.
+    * @param paths  Vector of transforms arrays.
+    * @param axisMasks  Vector of Axis Masks. True for axes that you wish to control. e.g. 7 for position only, 56 for rotation only and 63 for both 
+    * @param relativeTimes  Vector of times in seconds corresponding to the path points
+    * @param isAbsolute  If true, the movement is absolute else relative
+    */
+    public ALFuture<Void> transformInterpolationsAsync(List<String> effectorNames, Integer taskSpaceForAllPaths, java.lang.Object paths, java.lang.Object axisMasks, java.lang.Object relativeTimes, Boolean isAbsolute) throws CallError {
+        return ALFuture.of(service().<Void>call("transformInterpolations", effectorNames, taskSpaceForAllPaths, paths, axisMasks, relativeTimes, isAbsolute));
     }
 
     /**
@@ -1281,9 +2643,23 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     */
     public void transformInterpolations(java.lang.Object effectorNames, java.lang.Object taskSpaceForAllPaths, java.lang.Object paths, java.lang.Object axisMasks, java.lang.Object relativeTimes) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("transformInterpolations", effectorNames, taskSpaceForAllPaths, paths, axisMasks, relativeTimes);
+            service().call("transformInterpolations", effectorNames, taskSpaceForAllPaths, paths, axisMasks, relativeTimes);
         else
-            service.call("transformInterpolations", effectorNames, taskSpaceForAllPaths, paths, axisMasks, relativeTimes).get();
+            service().call("transformInterpolations", effectorNames, taskSpaceForAllPaths, paths, axisMasks, relativeTimes).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #transformInterpolations}.
+    * Moves end-effectors to the given positions and orientations over time. This is a blocking call.
+    * 
+    * @param effectorNames  Vector of chain names. Could be: "Head", "LArm", "RArm", "LLeg", "RLeg", "Torso" 
+    * @param taskSpaceForAllPaths  Task frame {FRAME_TORSO = 0, FRAME_WORLD = 1, FRAME_ROBOT = 2}.
+    * @param paths  Vector of 6D position arrays (x,y,z,wx,wy,wz) in meters and radians
+    * @param axisMasks  Vector of Axis Masks. True for axes that you wish to control. e.g. 7 for position only, 56 for rotation only and 63 for both 
+    * @param relativeTimes  Vector of times in seconds corresponding to the path points
+    */
+    public ALFuture<Void> transformInterpolationsAsync(java.lang.Object effectorNames, java.lang.Object taskSpaceForAllPaths, java.lang.Object paths, java.lang.Object axisMasks, java.lang.Object relativeTimes) throws CallError {
+        return ALFuture.of(service().<Void>call("transformInterpolations", effectorNames, taskSpaceForAllPaths, paths, axisMasks, relativeTimes));
     }
 
     /**
@@ -1297,9 +2673,23 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     */
     public void setTransform(String chainName, Integer space, List<Float> transform, Float fractionMaxSpeed, Integer axisMask) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setTransform", chainName, space, transform, fractionMaxSpeed, axisMask);
+            service().call("setTransform", chainName, space, transform, fractionMaxSpeed, axisMask);
         else
-            service.call("setTransform", chainName, space, transform, fractionMaxSpeed, axisMask).get();
+            service().call("setTransform", chainName, space, transform, fractionMaxSpeed, axisMask).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setTransform}.
+    * Moves an end-effector to DEPRECATED. Use setTransforms function instead.
+    * 
+    * @param chainName  Name of the chain. Could be: "Head", "LArm","RArm", "LLeg", "RLeg", "Torso"
+    * @param space  Task frame {FRAME_TORSO = 0, FRAME_WORLD = 1, FRAME_ROBOT = 2}.
+    * @param transform  Transform arrays
+    * @param fractionMaxSpeed  The fraction of maximum speed to use
+    * @param axisMask  Axis mask. True for axes that you wish to control. e.g. 7 for position only, 56 for rotation only and 63 for both 
+    */
+    public ALFuture<Void> setTransformAsync(String chainName, Integer space, List<Float> transform, Float fractionMaxSpeed, Integer axisMask) throws CallError {
+        return ALFuture.of(service().<Void>call("setTransform", chainName, space, transform, fractionMaxSpeed, axisMask));
     }
 
     /**
@@ -1313,9 +2703,23 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     */
     public void setTransforms(java.lang.Object names, java.lang.Object spaces, java.lang.Object transforms, Float fractionMaxSpeed, java.lang.Object axisMask) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setTransforms", names, spaces, transforms, fractionMaxSpeed, axisMask);
+            service().call("setTransforms", names, spaces, transforms, fractionMaxSpeed, axisMask);
         else
-            service.call("setTransforms", names, spaces, transforms, fractionMaxSpeed, axisMask).get();
+            service().call("setTransforms", names, spaces, transforms, fractionMaxSpeed, axisMask).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setTransforms}.
+    * Moves multiple end-effectors to the given position and orientation transforms. This is a non-blocking call.
+    * 
+    * @param names  The name or names of effector.
+    * @param spaces  The task frame or task frames {FRAME_TORSO = 0, FRAME_WORLD = 1, FRAME_ROBOT = 2}.
+    * @param transforms  Transform arrays
+    * @param fractionMaxSpeed  The fraction of maximum speed to use
+    * @param axisMask  Axis mask. True for axes that you wish to control. e.g. 7 for position only, 56 for rotation only and 63 for both 
+    */
+    public ALFuture<Void> setTransformsAsync(java.lang.Object names, java.lang.Object spaces, java.lang.Object transforms, Float fractionMaxSpeed, java.lang.Object axisMask) throws CallError {
+        return ALFuture.of(service().<Void>call("setTransforms", names, spaces, transforms, fractionMaxSpeed, axisMask));
     }
 
     /**
@@ -1329,9 +2733,23 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     */
     public void changeTransform(String chainName, Integer space, List<Float> transform, Float fractionMaxSpeed, Integer axisMask) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("changeTransform", chainName, space, transform, fractionMaxSpeed, axisMask);
+            service().call("changeTransform", chainName, space, transform, fractionMaxSpeed, axisMask);
         else
-            service.call("changeTransform", chainName, space, transform, fractionMaxSpeed, axisMask).get();
+            service().call("changeTransform", chainName, space, transform, fractionMaxSpeed, axisMask).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #changeTransform}.
+    * DEPRECATED. Use setTransforms function instead.
+    * 
+    * @param chainName  Name of the chain. Could be: "Head", "LArm","RArm", "LLeg", "RLeg", "Torso"
+    * @param space  Task frame {FRAME_TORSO = 0, FRAME_WORLD = 1, FRAME_ROBOT = 2}.
+    * @param transform  Transform arrays
+    * @param fractionMaxSpeed  The fraction of maximum speed to use
+    * @param axisMask  Axis mask. True for axes that you wish to control. e.g. 7 for position only, 56 for rotation only and 63 for both 
+    */
+    public ALFuture<Void> changeTransformAsync(String chainName, Integer space, List<Float> transform, Float fractionMaxSpeed, Integer axisMask) throws CallError {
+        return ALFuture.of(service().<Void>call("changeTransform", chainName, space, transform, fractionMaxSpeed, axisMask));
     }
 
     /**
@@ -1343,7 +2761,46 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     * @return Vector of 16 floats corresponding to the values of the matrix, line by line.
     */
     public List<Float> getTransform(String name, Integer space, Boolean useSensorValues) throws CallError, InterruptedException {
-        return (List<Float>)service.call("getTransform", name, space, useSensorValues).get();
+        return (List<Float>)service().call("getTransform", name, space, useSensorValues).get();
+    }
+
+    /**
+    * Primitive version of {@link #getTransform}, values are returned unboxed.
+    * Gets an Homogenous Transform relative to the FRAME. Axis definition: the x axis is positive toward Nao's front, the y from right to left and the z is vertical.
+    * 
+    * @param name  Name of the item. Could be: any joint or chain or sensor (Head, LArm, RArm, LLeg, RLeg, Torso, HeadYaw, ..., CameraTop, CameraBottom, MicroFront, MicroRear, MicroLeft, MicroRight, Accelerometer, Gyrometer, Laser, LFsrFR, LFsrFL, LFsrRR, LFsrRL, RFsrFR, RFsrFL, RFsrRR, RFsrRL, USSensor1, USSensor2, USSensor3, USSensor4. Use getSensorNames for the list of sensors supported on your robot.
+    * @param space  Task frame {FRAME_TORSO = 0, FRAME_WORLD = 1, FRAME_ROBOT = 2}.
+    * @param useSensorValues  If true, the sensor values will be used to determine the position.
+    * @return Vector of 16 floats corresponding to the values of the matrix, line by line.
+    */
+    public float[] getTransformF(String name, Integer space, Boolean useSensorValues) throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("getTransform", name, space, useSensorValues).get());
+    }
+
+    /**
+    * Primitive version of {@link #getTransform}, values are written into dst and their count is returned.
+    * Gets an Homogenous Transform relative to the FRAME. Axis definition: the x axis is positive toward Nao's front, the y from right to left and the z is vertical.
+    * 
+    * @param name  Name of the item. Could be: any joint or chain or sensor (Head, LArm, RArm, LLeg, RLeg, Torso, HeadYaw, ..., CameraTop, CameraBottom, MicroFront, MicroRear, MicroLeft, MicroRight, Accelerometer, Gyrometer, Laser, LFsrFR, LFsrFL, LFsrRR, LFsrRL, RFsrFR, RFsrFL, RFsrRR, RFsrRL, USSensor1, USSensor2, USSensor3, USSensor4. Use getSensorNames for the list of sensors supported on your robot.
+    * @param space  Task frame {FRAME_TORSO = 0, FRAME_WORLD = 1, FRAME_ROBOT = 2}.
+    * @param useSensorValues  If true, the sensor values will be used to determine the position.
+    * @return Vector of 16 floats corresponding to the values of the matrix, line by line.
+    */
+    public int getTransformInto(float[] dst, String name, Integer space, Boolean useSensorValues) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("getTransform", name, space, useSensorValues).get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #getTransform}.
+    * Gets an Homogenous Transform relative to the FRAME. Axis definition: the x axis is positive toward Nao's front, the y from right to left and the z is vertical.
+    * 
+    * @param name  Name of the item. Could be: any joint or chain or sensor (Head, LArm, RArm, LLeg, RLeg, Torso, HeadYaw, ..., CameraTop, CameraBottom, MicroFront, MicroRear, MicroLeft, MicroRight, Accelerometer, Gyrometer, Laser, LFsrFR, LFsrFL, LFsrRR, LFsrRL, RFsrFR, RFsrFL, RFsrRR, RFsrRL, USSensor1, USSensor2, USSensor3, USSensor4. Use getSensorNames for the list of sensors supported on your robot.
+    * @param space  Task frame {FRAME_TORSO = 0, FRAME_WORLD = 1, FRAME_ROBOT = 2}.
+    * @param useSensorValues  If true, the sensor values will be used to determine the position.
+    * @return Vector of 16 floats corresponding to the values of the matrix, line by line.
+    */
+    public ALFuture<List<Float>> getTransformAsync(String name, Integer space, Boolean useSensorValues) throws CallError {
+        return ALFuture.of(service().<List<Float>>call("getTransform", name, space, useSensorValues));
     }
 
     /**
@@ -1354,7 +2811,43 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     * @return Vector of 16 floats corresponding to the values of the matrix, line by line.
     */
     public List<Float> _getSensorTransformAtTime(String sensorName, Tuple2<Long, Long> timestamp) throws CallError, InterruptedException {
-        return (List<Float>)service.call("_getSensorTransformAtTime", sensorName, timestamp).get();
+        return (List<Float>)service().call("_getSensorTransformAtTime", sensorName, timestamp).get();
+    }
+
+    /**
+    * Primitive version of {@link #_getSensorTransformAtTime}, values are returned unboxed.
+    * Gets an Homogenous Transform in World. 
+    * 
+    * @param sensorName  Name of the sensor
+    * @param timestamp  A qi::os::timeval timestamp
+    * @return Vector of 16 floats corresponding to the values of the matrix, line by line.
+    */
+    public float[] _getSensorTransformAtTimeF(String sensorName, Tuple2<Long, Long> timestamp) throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("_getSensorTransformAtTime", sensorName, timestamp).get());
+    }
+
+    /**
+    * Primitive version of {@link #_getSensorTransformAtTime}, values are written into dst and their count is returned.
+    * Gets an Homogenous Transform in World. 
+    * 
+    * @param sensorName  Name of the sensor
+    * @param timestamp  A qi::os::timeval timestamp
+    * @return Vector of 16 floats corresponding to the values of the matrix, line by line.
+    */
+    public int _getSensorTransformAtTimeInto(float[] dst, String sensorName, Tuple2<Long, Long> timestamp) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("_getSensorTransformAtTime", sensorName, timestamp).get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #_getSensorTransformAtTime}.
+    * Gets an Homogenous Transform in World. 
+    * 
+    * @param sensorName  Name of the sensor
+    * @param timestamp  A qi::os::timeval timestamp
+    * @return Vector of 16 floats corresponding to the values of the matrix, line by line.
+    */
+    public ALFuture<List<Float>> _getSensorTransformAtTimeAsync(String sensorName, Tuple2<Long, Long> timestamp) throws CallError {
+        return ALFuture.of(service().<List<Float>>call("_getSensorTransformAtTime", sensorName, timestamp));
     }
 
     /**
@@ -1364,9 +2857,19 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     */
     public void wbEnable(Boolean isEnabled) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("wbEnable", isEnabled);
+            service().call("wbEnable", isEnabled);
         else
-            service.call("wbEnable", isEnabled).get();
+            service().call("wbEnable", isEnabled).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wbEnable}.
+    * UserFriendly Whole Body API: enable Whole Body Balancer. It's a Generalized Inverse Kinematics which deals with cartesian control, balance, redundancy and task priority. The main goal is to generate and stabilized consistent motions without precomputed trajectories and adapt nao's behaviour to the situation. The generalized inverse kinematic problem takes in account equality constraints (keep foot fix), inequality constraints (joint limits, balance, ...) and quadratic minimization (cartesian / articular desired trajectories). We solve each step a quadratic programming on the robot.
+    * 
+    * @param isEnabled  Active / Disactive Whole Body Balancer.
+    */
+    public ALFuture<Void> wbEnableAsync(Boolean isEnabled) throws CallError {
+        return ALFuture.of(service().<Void>call("wbEnable", isEnabled));
     }
 
     /**
@@ -1377,9 +2880,20 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     */
     public void wbFootState(String stateName, String supportLeg) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("wbFootState", stateName, supportLeg);
+            service().call("wbFootState", stateName, supportLeg);
         else
-            service.call("wbFootState", stateName, supportLeg).get();
+            service().call("wbFootState", stateName, supportLeg).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wbFootState}.
+    * UserFriendly Whole Body API: set the foot state: fixed foot, constrained in a plane or free.
+    * 
+    * @param stateName  Name of the foot state. "Fixed" set the foot fixed. "Plane" constrained the Foot in the plane. "Free" set the foot free.
+    * @param supportLeg  Name of the foot. "LLeg", "RLeg" or "Legs".
+    */
+    public ALFuture<Void> wbFootStateAsync(String stateName, String supportLeg) throws CallError {
+        return ALFuture.of(service().<Void>call("wbFootState", stateName, supportLeg));
     }
 
     /**
@@ -1390,9 +2904,20 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     */
     public void wbEnableBalanceConstraint(Boolean isEnable, String supportLeg) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("wbEnableBalanceConstraint", isEnable, supportLeg);
+            service().call("wbEnableBalanceConstraint", isEnable, supportLeg);
         else
-            service.call("wbEnableBalanceConstraint", isEnable, supportLeg).get();
+            service().call("wbEnableBalanceConstraint", isEnable, supportLeg).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wbEnableBalanceConstraint}.
+    * UserFriendly Whole Body API: enable to keep balance in support polygon.
+    * 
+    * @param isEnable  Enable Nao to keep balance.
+    * @param supportLeg  Name of the support leg: "Legs", "LLeg", "RLeg".
+    */
+    public ALFuture<Void> wbEnableBalanceConstraintAsync(Boolean isEnable, String supportLeg) throws CallError {
+        return ALFuture.of(service().<Void>call("wbEnableBalanceConstraint", isEnable, supportLeg));
     }
 
     /**
@@ -1403,9 +2928,20 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     */
     public void wbGoToBalance(String supportLeg, Float duration) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("wbGoToBalance", supportLeg, duration);
+            service().call("wbGoToBalance", supportLeg, duration);
         else
-            service.call("wbGoToBalance", supportLeg, duration).get();
+            service().call("wbGoToBalance", supportLeg, duration).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wbGoToBalance}.
+    * Advanced Whole Body API: "Com" go to a desired support polygon. This is a blocking call.
+    * 
+    * @param supportLeg  Name of the support leg: "Legs", "LLeg", "RLeg".
+    * @param duration  Time in seconds. Must be upper 0.5 s.
+    */
+    public ALFuture<Void> wbGoToBalanceAsync(String supportLeg, Float duration) throws CallError {
+        return ALFuture.of(service().<Void>call("wbGoToBalance", supportLeg, duration));
     }
 
     /**
@@ -1416,9 +2952,20 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     */
     public void wbEnableEffectorControl(String effectorName, Boolean isEnabled) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("wbEnableEffectorControl", effectorName, isEnabled);
+            service().call("wbEnableEffectorControl", effectorName, isEnabled);
         else
-            service.call("wbEnableEffectorControl", effectorName, isEnabled).get();
+            service().call("wbEnableEffectorControl", effectorName, isEnabled).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wbEnableEffectorControl}.
+    * UserFriendly Whole Body API: enable whole body cartesian control of an effector.
+    * 
+    * @param effectorName  Name of the effector : "Head", "LArm" or "RArm". Nao goes to posture init. He manages his balance and keep foot fix. "Head" is controlled in rotation. "LArm" and "RArm" are controlled in position.
+    * @param isEnabled  Active / Disactive Effector Control.
+    */
+    public ALFuture<Void> wbEnableEffectorControlAsync(String effectorName, Boolean isEnabled) throws CallError {
+        return ALFuture.of(service().<Void>call("wbEnableEffectorControl", effectorName, isEnabled));
     }
 
     /**
@@ -1429,9 +2976,20 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     */
     public void wbSetEffectorControl(String effectorName, java.lang.Object targetCoordinate) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("wbSetEffectorControl", effectorName, targetCoordinate);
+            service().call("wbSetEffectorControl", effectorName, targetCoordinate);
         else
-            service.call("wbSetEffectorControl", effectorName, targetCoordinate).get();
+            service().call("wbSetEffectorControl", effectorName, targetCoordinate).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wbSetEffectorControl}.
+    * UserFriendly Whole Body API: set new target for controlled effector. This is a non-blocking call.
+    * 
+    * @param effectorName  Name of the effector : "Head", "LArm" or "RArm". Nao goes to posture init. He manages his balance and keep foot fix. "Head" is controlled in rotation. "LArm" and "RArm" are controlled in position.
+    * @param targetCoordinate  "Head" is controlled in rotation (WX, WY, WZ). "LArm" and "RArm" are controlled in position (X, Y, Z). TargetCoordinate must be absolute and expressed in FRAME_ROBOT. If the desired position/orientation is unfeasible, target is resize to the nearest feasible motion.
+    */
+    public ALFuture<Void> wbSetEffectorControlAsync(String effectorName, java.lang.Object targetCoordinate) throws CallError {
+        return ALFuture.of(service().<Void>call("wbSetEffectorControl", effectorName, targetCoordinate));
     }
 
     /**
@@ -1442,9 +3000,20 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     */
     public void wbEnableEffectorOptimization(String effectorName, Boolean isActive) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("wbEnableEffectorOptimization", effectorName, isActive);
+            service().call("wbEnableEffectorOptimization", effectorName, isActive);
         else
-            service.call("wbEnableEffectorOptimization", effectorName, isActive).get();
+            service().call("wbEnableEffectorOptimization", effectorName, isActive).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wbEnableEffectorOptimization}.
+    * Advanced Whole Body API: enable to control an effector as an optimization.
+    * 
+    * @param effectorName  Name of the effector : "All", "Arms", "Legs", "Head", "LArm", "RArm", "LLeg", "RLeg", "Torso", "Com".
+    * @param isActive  if true, the effector control is taken in acount in the optimization criteria.
+    */
+    public ALFuture<Void> wbEnableEffectorOptimizationAsync(String effectorName, Boolean isActive) throws CallError {
+        return ALFuture.of(service().<Void>call("wbEnableEffectorOptimization", effectorName, isActive));
     }
 
     /**
@@ -1453,7 +3022,17 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     * @return Name of the Whole Body Balance State ("None", "LLeg", "RLeg" or "Legs"). 
     */
     public String _wbGetBalanceState() throws CallError, InterruptedException {
-        return (String)service.call("_wbGetBalanceState").get();
+        return (String)service().call("_wbGetBalanceState").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_wbGetBalanceState}.
+    * UserFriendly Whole Body API: get Whole Body Balance State.
+    * 
+    * @return Name of the Whole Body Balance State ("None", "LLeg", "RLeg" or "Legs"). 
+    */
+    public ALFuture<String> _wbGetBalanceStateAsync() throws CallError {
+        return ALFuture.of(service().<String>call("_wbGetBalanceState"));
     }
 
     /**
@@ -1462,7 +3041,17 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     * @return Get Whole Body is active.
     */
     public Boolean _wbIsActive() throws CallError, InterruptedException {
-        return (Boolean)service.call("_wbIsActive").get();
+        return (Boolean)service().call("_wbIsActive").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_wbIsActive}.
+    * UserFriendly Whole Body API: get Whole Body is active.
+    * 
+    * @return Get Whole Body is active.
+    */
+    public ALFuture<Boolean> _wbIsActiveAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("_wbIsActive"));
     }
 
     /**
@@ -1471,9 +3060,18 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     */
     public void _wbDefaultConfiguration() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_wbDefaultConfiguration");
+            service().call("_wbDefaultConfiguration");
         else
-            service.call("_wbDefaultConfiguration").get();
+            service().call("_wbDefaultConfiguration").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_wbDefaultConfiguration}.
+    * UserFriendly Whole Body API: reset the default Whole Body Configuration.
+    * 
+    */
+    public ALFuture<Void> _wbDefaultConfigurationAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_wbDefaultConfiguration"));
     }
 
     /**
@@ -1483,7 +3081,18 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     * @return Name of the foot state. "Fixed" set the foot fixed. "Plane" constrained the Foot in the plane. "Free" set the foot free.
     */
     public String _wbGetFootState(String supportLeg) throws CallError, InterruptedException {
-        return (String)service.call("_wbGetFootState", supportLeg).get();
+        return (String)service().call("_wbGetFootState", supportLeg).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_wbGetFootState}.
+    * UserFriendly Whole Body API: get the foot state: fixed foot, constrained in a plane or free.
+    * 
+    * @param supportLeg  Name of the foot. "LLeg", "RLeg" or "Legs".
+    * @return Name of the foot state. "Fixed" set the foot fixed. "Plane" constrained the Foot in the plane. "Free" set the foot free.
+    */
+    public ALFuture<String> _wbGetFootStateAsync(String supportLeg) throws CallError {
+        return ALFuture.of(service().<String>call("_wbGetFootState", supportLeg));
     }
 
     /**
@@ -1493,9 +3102,19 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     */
     public void _wbSetReferencePosture(String postureName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_wbSetReferencePosture", postureName);
+            service().call("_wbSetReferencePosture", postureName);
         else
-            service.call("_wbSetReferencePosture", postureName).get();
+            service().call("_wbSetReferencePosture", postureName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_wbSetReferencePosture}.
+    * Advanced Whole Body API: set the Reference Posture to specified possible redundancy.
+    * 
+    * @param postureName  Name of the posture. "PoseCurrent" set the Current Posture. "PoseInit" set the Posture Init as a reference Posture.
+    */
+    public ALFuture<Void> _wbSetReferencePostureAsync(String postureName) throws CallError {
+        return ALFuture.of(service().<Void>call("_wbSetReferencePosture", postureName));
     }
 
     /**
@@ -1506,9 +3125,20 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     */
     public void _wbSetBalanceSecurityMargin(Float percentForwards, Float percentSideways) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_wbSetBalanceSecurityMargin", percentForwards, percentSideways);
+            service().call("_wbSetBalanceSecurityMargin", percentForwards, percentSideways);
         else
-            service.call("_wbSetBalanceSecurityMargin", percentForwards, percentSideways).get();
+            service().call("_wbSetBalanceSecurityMargin", percentForwards, percentSideways).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_wbSetBalanceSecurityMargin}.
+    * Advanced Whole Body API: percent of the Support Polygon Dimensions used by "wbEnableBalanceConstraint".
+    * 
+    * @param percentForwards  percent of support polygone forwards. Between [0.0, 1.0].
+    * @param percentSideways  percent of support polygone sideways. Between [0.0, 1.0].
+    */
+    public ALFuture<Void> _wbSetBalanceSecurityMarginAsync(Float percentForwards, Float percentSideways) throws CallError {
+        return ALFuture.of(service().<Void>call("_wbSetBalanceSecurityMargin", percentForwards, percentSideways));
     }
 
     /**
@@ -1519,9 +3149,20 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     */
     public void _wbSetJointWeighting(String jointNames, Float weightings) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_wbSetJointWeighting", jointNames, weightings);
+            service().call("_wbSetJointWeighting", jointNames, weightings);
         else
-            service.call("_wbSetJointWeighting", jointNames, weightings).get();
+            service().call("_wbSetJointWeighting", jointNames, weightings).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_wbSetJointWeighting}.
+    * Advanced Whole Body API: weighting of Joint used in Whole Body Optimization criteria. It is the priority of Joint motion in front of all the other motion task in the quadratic programming optimization.
+    * 
+    * @param jointNames  Name or names of joints, chains, "Body" or "Joints".
+    * @param weightings  Weight used in the Whole Body Articular Optimization.Limits : 0 &lt; weighting &lt;= 1000.0. "referencePosture"  default value : 1.0. "articularControl" default value : 1000.0.
+    */
+    public ALFuture<Void> _wbSetJointWeightingAsync(String jointNames, Float weightings) throws CallError {
+        return ALFuture.of(service().<Void>call("_wbSetJointWeighting", jointNames, weightings));
     }
 
     /**
@@ -1533,9 +3174,21 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     */
     public void _wbSetJointStiffness(String jointName, Float stateName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_wbSetJointStiffness", jointName, stateName);
+            service().call("_wbSetJointStiffness", jointName, stateName);
         else
-            service.call("_wbSetJointStiffness", jointName, stateName).get();
+            service().call("_wbSetJointStiffness", jointName, stateName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_wbSetJointStiffness}.
+    * Advanced Whole Body API: stiffness of Joint used in Whole Body Optimization criteria. It is the stiffness of Joint motion control used in the quadratic programming optimization.
+    * 
+    * @param jointName  Name or names of joints, chains, "Body" or "Joints".
+    * @param stateName  "referencePosture" : the reference posture specified possibleredundancy or "articularControl" : for joint motion(angleInterpolation for example). "All", the both.
+    * @param stiffness  Stiffness used in the Whole Body Articular Optimization.Limits : 0 &lt; stiffness &lt;= 100.0. "referencePosture" default value : 1.0."articularControl" default value : 30.0.
+    */
+    public ALFuture<Void> _wbSetJointStiffnessAsync(String jointName, Float stateName) throws CallError {
+        return ALFuture.of(service().<Void>call("_wbSetJointStiffness", jointName, stateName));
     }
 
     /**
@@ -1547,9 +3200,21 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     */
     public void _wbSetArticularLimitPreview(String jointName, Integer stateName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_wbSetArticularLimitPreview", jointName, stateName);
+            service().call("_wbSetArticularLimitPreview", jointName, stateName);
         else
-            service.call("_wbSetArticularLimitPreview", jointName, stateName).get();
+            service().call("_wbSetArticularLimitPreview", jointName, stateName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_wbSetArticularLimitPreview}.
+    * Advanced Whole Body API: preview of Joint Inequality Constraint. It constraint the max joint velocity computed by the quadratic programming. If preview = 1, joint limits can be achieved in 1 step. If preview = 5, joint limits can be achieved in 5 steps. The more preview is, the less desired motion is realised. But the more preview is, the motion safety is increased.
+    * 
+    * @param jointName  Name or names of joints, chains, "Body" or "Joints".
+    * @param stateName  "referencePosture" : the reference posture specified possibleredundancy or "articularControl" : for joint edition (angleInterpolation for example)."All", the both.
+    * @param preview  Preview used in the Whole Body Inequality Constraints. Between [1 50]."referencePosture" default value : 1. "articularControl" default value : 1.
+    */
+    public ALFuture<Void> _wbSetArticularLimitPreviewAsync(String jointName, Integer stateName) throws CallError {
+        return ALFuture.of(service().<Void>call("_wbSetArticularLimitPreview", jointName, stateName));
     }
 
     /**
@@ -1561,9 +3226,21 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     */
     public void _wbEnableEffectorConstraint(String effectorName, Boolean isActive, Integer axisMask) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_wbEnableEffectorConstraint", effectorName, isActive, axisMask);
+            service().call("_wbEnableEffectorConstraint", effectorName, isActive, axisMask);
         else
-            service.call("_wbEnableEffectorConstraint", effectorName, isActive, axisMask).get();
+            service().call("_wbEnableEffectorConstraint", effectorName, isActive, axisMask).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_wbEnableEffectorConstraint}.
+    * Advanced Whole Body API: enable to control an effector as a constraint.
+    * 
+    * @param effectorName  Name of the effector : "All", "Arms", "Legs", "Head", "LArm", "RArm", "LLeg", "RLeg", "Torso", "Com".
+    * @param isActive  if true, the effector control is taken in acount in the optimization criteria.
+    * @param axisMask  True for axes that you wish to control. e.g. 7 for position only, 56 for rotation only and 63 for both.
+    */
+    public ALFuture<Void> _wbEnableEffectorConstraintAsync(String effectorName, Boolean isActive, Integer axisMask) throws CallError {
+        return ALFuture.of(service().<Void>call("_wbEnableEffectorConstraint", effectorName, isActive, axisMask));
     }
 
     /**
@@ -1573,7 +3250,18 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     * @return [isActive, axisMask].
     */
     public java.lang.Object _wbGetEffectorConstraint(String effectorName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_wbGetEffectorConstraint", effectorName).get();
+        return (java.lang.Object)service().call("_wbGetEffectorConstraint", effectorName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_wbGetEffectorConstraint}.
+    * Advanced Whole Body API: get effector constraint state.
+    * 
+    * @param effectorName  Name of the effector : "Head", "LArm", "RArm", "LLeg", "RLeg", "Torso", "Com".
+    * @return [isActive, axisMask].
+    */
+    public ALFuture<java.lang.Object> _wbGetEffectorConstraintAsync(String effectorName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_wbGetEffectorConstraint", effectorName));
     }
 
     /**
@@ -1585,9 +3273,21 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     */
     public void _wbAxisMaskEffector(String effectorName, Boolean isOptimized, Integer axisMask) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_wbAxisMaskEffector", effectorName, isOptimized, axisMask);
+            service().call("_wbAxisMaskEffector", effectorName, isOptimized, axisMask);
         else
-            service.call("_wbAxisMaskEffector", effectorName, isOptimized, axisMask).get();
+            service().call("_wbAxisMaskEffector", effectorName, isOptimized, axisMask).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_wbAxisMaskEffector}.
+    * Advanced Whole Body API: enable to set the axis mask of an effector.
+    * 
+    * @param effectorName  Name of the effector : "All", "Arms", "Legs", "Head", "LArm", "RArm", "LLeg", "RLeg", "Torso", "Com".
+    * @param isOptimized  if true, the optimized effector axis mask is setting, else it is the constrained effector axis mask.
+    * @param axisMask  Axes that you wish to control. e.g. 7 for position only, 56 for rotation only and 63 for both.
+    */
+    public ALFuture<Void> _wbAxisMaskEffectorAsync(String effectorName, Boolean isOptimized, Integer axisMask) throws CallError {
+        return ALFuture.of(service().<Void>call("_wbAxisMaskEffector", effectorName, isOptimized, axisMask));
     }
 
     /**
@@ -1598,9 +3298,20 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     */
     public void _wbEnableJointOptimization(String jointName, Boolean isActive) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_wbEnableJointOptimization", jointName, isActive);
+            service().call("_wbEnableJointOptimization", jointName, isActive);
         else
-            service.call("_wbEnableJointOptimization", jointName, isActive).get();
+            service().call("_wbEnableJointOptimization", jointName, isActive).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_wbEnableJointOptimization}.
+    * Advanced Whole Body API: enable to control a joint as an optimization.
+    * 
+    * @param jointName   "Body", name of the chain ("LLeg",...) or name of the joint : "HeadYaw", "LKneePitch".
+    * @param isActive  if true, the joint control is taken in acount in the optimization criteria.
+    */
+    public ALFuture<Void> _wbEnableJointOptimizationAsync(String jointName, Boolean isActive) throws CallError {
+        return ALFuture.of(service().<Void>call("_wbEnableJointOptimization", jointName, isActive));
     }
 
     /**
@@ -1610,7 +3321,18 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     * @return [isActive, axisMask].
     */
     public java.lang.Object _wbGetEffectorOptimization(String effectorName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_wbGetEffectorOptimization", effectorName).get();
+        return (java.lang.Object)service().call("_wbGetEffectorOptimization", effectorName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_wbGetEffectorOptimization}.
+    * Advanced Whole Body API: get effector constraint state.
+    * 
+    * @param effectorName  Name of the effector : "Head", "LArm", "RArm", "LLeg", "RLeg", "Torso", "Com".
+    * @return [isActive, axisMask].
+    */
+    public ALFuture<java.lang.Object> _wbGetEffectorOptimizationAsync(String effectorName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_wbGetEffectorOptimization", effectorName));
     }
 
     /**
@@ -1621,9 +3343,20 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     */
     public void _wbSetEffectorWeight(String effectorName, java.lang.Object weightingList) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_wbSetEffectorWeight", effectorName, weightingList);
+            service().call("_wbSetEffectorWeight", effectorName, weightingList);
         else
-            service.call("_wbSetEffectorWeight", effectorName, weightingList).get();
+            service().call("_wbSetEffectorWeight", effectorName, weightingList).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_wbSetEffectorWeight}.
+    * Advanced Whole Body API: set Effector Weighting in the Whole Body Optimization. It is the priority of Effector motion in front of all the other motion task in the quadratic programming optimization.
+    * 
+    * @param effectorName  "All", "Arms", "Legs", "Head", "LArm", "RArm", "LLeg", "RLeg", "Torso", "Com".
+    * @param weightingList  Weighting used in the Whole Body Cartesian Optimization. Limits : 0 &lt; weighting &lt;= 1000.0. Default value is 1000.0. We can give the 6 weights corresponding to the 6 degree of freedom of cartesian motion. (WeightX, WeightY, WeightZ, WeightWX, WeightWY, WeightWZ). We can give 2 weights corresponding to translation and rotation axis (WeightTranslation, WeightTranslation, WeightTranslation, WeightRotation, WeightRotation, WeightRotation). We can give 1 weight, it is the same weight for all the axis (Weight, Weight, Weight, Weight, Weight, Weight).
+    */
+    public ALFuture<Void> _wbSetEffectorWeightAsync(String effectorName, java.lang.Object weightingList) throws CallError {
+        return ALFuture.of(service().<Void>call("_wbSetEffectorWeight", effectorName, weightingList));
     }
 
     /**
@@ -1634,9 +3367,20 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     */
     public void _wbSetEffectorStiffness(String effectorName, java.lang.Object stiffnessList) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_wbSetEffectorStiffness", effectorName, stiffnessList);
+            service().call("_wbSetEffectorStiffness", effectorName, stiffnessList);
         else
-            service.call("_wbSetEffectorStiffness", effectorName, stiffnessList).get();
+            service().call("_wbSetEffectorStiffness", effectorName, stiffnessList).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_wbSetEffectorStiffness}.
+    * Advanced Whole Body API: set Effector Stiffness in Cartesian Control.
+    * 
+    * @param effectorName  "All", "Arms", "Legs", "Head", "LArm", "RArm", "LLeg", "RLeg", "Torso", "Com".
+    * @param stiffnessList  Stiffness used in the Whole Body Cartesian Optimization. Limits : 0 &lt; stiffness &lt;= 100.0. Default value is 10.0. We can give the 6 stiffnesses corresponding to the 6 degree of freedom of cartesian motion. (StiffnessX, StiffnessY, StiffnessZ, StiffnessWX, StiffnessWY, StiffnessWZ). We can give 2 weights corresponding to translation and rotation axis (StiffnessTranslation, StiffnessTranslation, StiffnessTranslation, StiffnessRotation, StiffnessRotation, StiffnessRotation). We can give 1 stiffness, it is the same stiffness for all the axis (Stiffness, Stiffness, Stiffness, Stiffness, Stiffness, Stiffness).
+    */
+    public ALFuture<Void> _wbSetEffectorStiffnessAsync(String effectorName, java.lang.Object stiffnessList) throws CallError {
+        return ALFuture.of(service().<Void>call("_wbSetEffectorStiffness", effectorName, stiffnessList));
     }
 
     /**
@@ -1647,7 +3391,19 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     * @return A bool which return always true.
     */
     public Boolean setCollisionProtectionEnabled(String pChainName, Boolean pEnable) throws CallError, InterruptedException {
-        return (Boolean)service.call("setCollisionProtectionEnabled", pChainName, pEnable).get();
+        return (Boolean)service().call("setCollisionProtectionEnabled", pChainName, pEnable).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setCollisionProtectionEnabled}.
+    * Enable Anticollision protection of the arms of the robot. Use api isCollision to know if a chain is in collision and can be disactivated.
+    * 
+    * @param pChainName  The chain name {"Arms", "LArm" or "RArm"}.
+    * @param pEnable  Activate or disactivate the anticollision of the desired Chain.
+    * @return A bool which return always true.
+    */
+    public ALFuture<Boolean> setCollisionProtectionEnabledAsync(String pChainName, Boolean pEnable) throws CallError {
+        return ALFuture.of(service().<Boolean>call("setCollisionProtectionEnabled", pChainName, pEnable));
     }
 
     /**
@@ -1657,7 +3413,18 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     * @return Return true is the collision protection of the given Arm is activated.
     */
     public Boolean getCollisionProtectionEnabled(String pChainName) throws CallError, InterruptedException {
-        return (Boolean)service.call("getCollisionProtectionEnabled", pChainName).get();
+        return (Boolean)service().call("getCollisionProtectionEnabled", pChainName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getCollisionProtectionEnabled}.
+    * Allow to know if the collision protection is activated on the given chain.
+    * 
+    * @param pChainName  The chain name {"LArm" or "RArm"}.
+    * @return Return true is the collision protection of the given Arm is activated.
+    */
+    public ALFuture<Boolean> getCollisionProtectionEnabledAsync(String pChainName) throws CallError {
+        return ALFuture.of(service().<Boolean>call("getCollisionProtectionEnabled", pChainName));
     }
 
     /**
@@ -1668,9 +3435,20 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     */
     public void setExternalCollisionProtectionEnabled(String pName, Boolean pEnable) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setExternalCollisionProtectionEnabled", pName, pEnable);
+            service().call("setExternalCollisionProtectionEnabled", pName, pEnable);
         else
-            service.call("setExternalCollisionProtectionEnabled", pName, pEnable).get();
+            service().call("setExternalCollisionProtectionEnabled", pName, pEnable).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setExternalCollisionProtectionEnabled}.
+    * Enable Anticollision protection of the arms and base move  of the robot with external environment.
+    * 
+    * @param pName  The name {"All", "Move", "Arms", "LArm" or "RArm"}.
+    * @param pEnable  Activate or disactivate the anticollision of the desired name.
+    */
+    public ALFuture<Void> setExternalCollisionProtectionEnabledAsync(String pName, Boolean pEnable) throws CallError {
+        return ALFuture.of(service().<Void>call("setExternalCollisionProtectionEnabled", pName, pEnable));
     }
 
     /**
@@ -1681,9 +3459,20 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     */
     public void _enablePhysicalInteractionForChain(String pChain, Boolean pEnabled) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_enablePhysicalInteractionForChain", pChain, pEnabled);
+            service().call("_enablePhysicalInteractionForChain", pChain, pEnabled);
         else
-            service.call("_enablePhysicalInteractionForChain", pChain, pEnabled).get();
+            service().call("_enablePhysicalInteractionForChain", pChain, pEnabled).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_enablePhysicalInteractionForChain}.
+    * Enable/Disable physical interaction on a chain without disabling safety completely
+    * 
+    * @param pChain  The chain name {"LArm", "RArm", "Arms"}
+    * @param pEnabled  True/False
+    */
+    public ALFuture<Void> _enablePhysicalInteractionForChainAsync(String pChain, Boolean pEnabled) throws CallError {
+        return ALFuture.of(service().<Void>call("_enablePhysicalInteractionForChain", pChain, pEnabled));
     }
 
     /**
@@ -1694,7 +3483,43 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     * @return Vector containing the Position3D in meters (x, y, z)
     */
     public List<Float> getChainClosestObstaclePosition(String pName, Integer space) throws CallError, InterruptedException {
-        return (List<Float>)service.call("getChainClosestObstaclePosition", pName, space).get();
+        return (List<Float>)service().call("getChainClosestObstaclePosition", pName, space).get();
+    }
+
+    /**
+    * Primitive version of {@link #getChainClosestObstaclePosition}, values are returned unboxed.
+    * Gets chain closest obstacle Position .
+    * 
+    * @param pName  The Chain name {"LArm" or "RArm"}.
+    * @param space  Task frame {FRAME_TORSO = 0, FRAME_WORLD = 1, FRAME_ROBOT = 2}.
+    * @return Vector containing the Position3D in meters (x, y, z)
+    */
+    public float[] getChainClosestObstaclePositionF(String pName, Integer space) throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("getChainClosestObstaclePosition", pName, space).get());
+    }
+
+    /**
+    * Primitive version of {@link #getChainClosestObstaclePosition}, values are written into dst and their count is returned.
+    * Gets chain closest obstacle Position .
+    * 
+    * @param pName  The Chain name {"LArm" or "RArm"}.
+    * @param space  Task frame {FRAME_TORSO = 0, FRAME_WORLD = 1, FRAME_ROBOT = 2}.
+    * @return Vector containing the Position3D in meters (x, y, z)
+    */
+    public int getChainClosestObstaclePositionInto(float[] dst, String pName, Integer space) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("getChainClosestObstaclePosition", pName, space).get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #getChainClosestObstaclePosition}.
+    * Gets chain closest obstacle Position .
+    * 
+    * @param pName  The Chain name {"LArm" or "RArm"}.
+    * @param space  Task frame {FRAME_TORSO = 0, FRAME_WORLD = 1, FRAME_ROBOT = 2}.
+    * @return Vector containing the Position3D in meters (x, y, z)
+    */
+    public ALFuture<List<Float>> getChainClosestObstaclePositionAsync(String pName, Integer space) throws CallError {
+        return ALFuture.of(service().<List<Float>>call("getChainClosestObstaclePosition", pName, space));
     }
 
     /**
@@ -1704,7 +3529,18 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     * @return Return true is the external collision protection of the given name is activated.
     */
     public Boolean getExternalCollisionProtectionEnabled(String pName) throws CallError, InterruptedException {
-        return (Boolean)service.call("getExternalCollisionProtectionEnabled", pName).get();
+        return (Boolean)service().call("getExternalCollisionProtectionEnabled", pName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getExternalCollisionProtectionEnabled}.
+    * Allow to know if the external collision protection is activated on the given name.
+    * 
+    * @param pName  The name {"All", "Move", "Arms", "LArm" or "RArm"}.
+    * @return Return true is the external collision protection of the given name is activated.
+    */
+    public ALFuture<Boolean> getExternalCollisionProtectionEnabledAsync(String pName) throws CallError {
+        return ALFuture.of(service().<Boolean>call("getExternalCollisionProtectionEnabled", pName));
     }
 
     /**
@@ -1714,9 +3550,19 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     */
     public void setOrthogonalSecurityDistance(Float securityDistance) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setOrthogonalSecurityDistance", securityDistance);
+            service().call("setOrthogonalSecurityDistance", securityDistance);
         else
-            service.call("setOrthogonalSecurityDistance", securityDistance).get();
+            service().call("setOrthogonalSecurityDistance", securityDistance).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setOrthogonalSecurityDistance}.
+    * Defines the orthogonal security distance used with external collision protection "Move".
+    * 
+    * @param securityDistance  The orthogonal security distance.
+    */
+    public ALFuture<Void> setOrthogonalSecurityDistanceAsync(Float securityDistance) throws CallError {
+        return ALFuture.of(service().<Void>call("setOrthogonalSecurityDistance", securityDistance));
     }
 
     /**
@@ -1725,7 +3571,17 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     * @return The current orthogonal security distance.
     */
     public Float getOrthogonalSecurityDistance() throws CallError, InterruptedException {
-        return (Float)service.call("getOrthogonalSecurityDistance").get();
+        return (Float)service().call("getOrthogonalSecurityDistance").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getOrthogonalSecurityDistance}.
+    * Gets the current orthogonal security distance.
+    * 
+    * @return The current orthogonal security distance.
+    */
+    public ALFuture<Float> getOrthogonalSecurityDistanceAsync() throws CallError {
+        return ALFuture.of(service().<Float>call("getOrthogonalSecurityDistance"));
     }
 
     /**
@@ -1735,9 +3591,19 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     */
     public void setTangentialSecurityDistance(Float securityDistance) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setTangentialSecurityDistance", securityDistance);
+            service().call("setTangentialSecurityDistance", securityDistance);
         else
-            service.call("setTangentialSecurityDistance", securityDistance).get();
+            service().call("setTangentialSecurityDistance", securityDistance).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setTangentialSecurityDistance}.
+    * Defines the tangential security distance used with external collision protection "Move".
+    * 
+    * @param securityDistance  The tangential security distance.
+    */
+    public ALFuture<Void> setTangentialSecurityDistanceAsync(Float securityDistance) throws CallError {
+        return ALFuture.of(service().<Void>call("setTangentialSecurityDistance", securityDistance));
     }
 
     /**
@@ -1746,7 +3612,17 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     * @return The current tangential security distance.
     */
     public Float getTangentialSecurityDistance() throws CallError, InterruptedException {
-        return (Float)service.call("getTangentialSecurityDistance").get();
+        return (Float)service().call("getTangentialSecurityDistance").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getTangentialSecurityDistance}.
+    * Gets the current tangential security distance.
+    * 
+    * @return The current tangential security distance.
+    */
+    public ALFuture<Float> getTangentialSecurityDistanceAsync() throws CallError {
+        return ALFuture.of(service().<Float>call("getTangentialSecurityDistance"));
     }
 
     /**
@@ -1757,7 +3633,19 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
 
     */
     public String isCollision(String pChainName) throws CallError, InterruptedException {
-        return (String)service.call("isCollision", pChainName).get();
+        return (String)service().call("isCollision", pChainName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isCollision}.
+    * Give the collision state of a chain. If a chain has a collision state "none" or "near", it could be desactivated. 
+    * 
+    * @param pChainName  The chain name {"Arms", "LArm" or "RArm"}.
+    * @return A string which notice the collision state: "none" there are no collision, "near" the collision is taking in account in the anti-collision algorithm, "collision" the chain is in contact with an other body. If the chain asked is "Arms" the most unfavorable result is given. 
+
+    */
+    public ALFuture<String> isCollisionAsync(String pChainName) throws CallError {
+        return ALFuture.of(service().<String>call("isCollision", pChainName));
     }
 
     /**
@@ -1767,7 +3655,18 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     * @return Return true is the collision protection of the given Arm is activated.
     */
     public Boolean _getCollisionStateForObstacleSummary(String pChainName) throws CallError, InterruptedException {
-        return (Boolean)service.call("_getCollisionStateForObstacleSummary", pChainName).get();
+        return (Boolean)service().call("_getCollisionStateForObstacleSummary", pChainName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getCollisionStateForObstacleSummary}.
+    * Allow to know if the collision protection is activated on the given chain  and if stiffness of all chain joint is stricly positif.
+    * 
+    * @param pChainName  The chain name {"LArm" or "RArm"}.
+    * @return Return true is the collision protection of the given Arm is activated.
+    */
+    public ALFuture<Boolean> _getCollisionStateForObstacleSummaryAsync(String pChainName) throws CallError {
+        return ALFuture.of(service().<Boolean>call("_getCollisionStateForObstacleSummary", pChainName));
     }
 
     /**
@@ -1777,7 +3676,18 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     * @return Vector of collision names, radius, parent joint name and parentjoint position.
     */
     public java.lang.Object _getCollisionNames() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_getCollisionNames").get();
+        return (java.lang.Object)service().call("_getCollisionNames").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getCollisionNames}.
+    * DEPRECATED: use _getCollisionShapes. Gets the list of collision supported on your robot.
+    * 
+    * @param pName  The name {"static" or "dynamic"}.
+    * @return Vector of collision names, radius, parent joint name and parentjoint position.
+    */
+    public ALFuture<java.lang.Object> _getCollisionNamesAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_getCollisionNames"));
     }
 
     /**
@@ -1787,7 +3697,18 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     * @return Vector of collisions name, radius, parent joint name andparent joint position.
     */
     public java.lang.Object _getCollisionShapes(String pName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_getCollisionShapes", pName).get();
+        return (java.lang.Object)service().call("_getCollisionShapes", pName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getCollisionShapes}.
+    * Gets the list of dynamic collisions in torso frame.
+    * 
+    * @param pName  The name {"static" or "dynamic"}.
+    * @return Vector of collisions name, radius, parent joint name andparent joint position.
+    */
+    public ALFuture<java.lang.Object> _getCollisionShapesAsync(String pName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_getCollisionShapes", pName));
     }
 
     /**
@@ -1802,9 +3723,24 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     */
     public void _setCollisionShapes(List<String> pNameList, List<String> pPairList, List<String> pBodyList, List<String> pTypeList, java.lang.Object pShapeList, java.lang.Object pPositionList) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setCollisionShapes", pNameList, pPairList, pBodyList, pTypeList, pShapeList, pPositionList);
+            service().call("_setCollisionShapes", pNameList, pPairList, pBodyList, pTypeList, pShapeList, pPositionList);
         else
-            service.call("_setCollisionShapes", pNameList, pPairList, pBodyList, pTypeList, pShapeList, pPositionList).get();
+            service().call("_setCollisionShapes", pNameList, pPairList, pBodyList, pTypeList, pShapeList, pPositionList).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setCollisionShapes}.
+    * Set dynamic collision shape for people collision avoidance
+    * 
+    * @param pNameList  A vector of names.
+    * @param pPairList  A vector of names. "All", "Sphere", "Pill" or the collision nameof LArm or RArm.
+    * @param pBodyList  A vector of body names. Dynamic collision is attached to this body.
+    * @param pTypeList  A vector of names. "Sphere", "Plan", "Pill" or "Tab".
+    * @param pShapeList  A vector of shape data.
+    * @param pPositionList  An ALValue containing a list of position of the shape.
+    */
+    public ALFuture<Void> _setCollisionShapesAsync(List<String> pNameList, List<String> pPairList, List<String> pBodyList, List<String> pTypeList, java.lang.Object pShapeList, java.lang.Object pPositionList) throws CallError {
+        return ALFuture.of(service().<Void>call("_setCollisionShapes", pNameList, pPairList, pBodyList, pTypeList, pShapeList, pPositionList));
     }
 
     /**
@@ -1817,9 +3753,22 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     */
     public void _setCollisionShapes(List<String> pNameList, List<String> pPairList, java.lang.Object pShapeList, java.lang.Object pPositionList) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setCollisionShapes", pNameList, pPairList, pShapeList, pPositionList);
+            service().call("_setCollisionShapes", pNameList, pPairList, pShapeList, pPositionList);
         else
-            service.call("_setCollisionShapes", pNameList, pPairList, pShapeList, pPositionList).get();
+            service().call("_setCollisionShapes", pNameList, pPairList, pShapeList, pPositionList).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setCollisionShapes}.
+    * Deprecated: Use setCollisionShapes with typeList. Set dynamic collision shape for people collision avoidance
+    * 
+    * @param pNameList  A vector of names.
+    * @param pPairList  A vector of names. "All", "Sphere", "Pill" or the collision nameof LArm or RArm.
+    * @param pShapeList  A vector of shape data.
+    * @param pPositionList  An ALValue containing a list of position of the shape.
+    */
+    public ALFuture<Void> _setCollisionShapesAsync(List<String> pNameList, List<String> pPairList, java.lang.Object pShapeList, java.lang.Object pPositionList) throws CallError {
+        return ALFuture.of(service().<Void>call("_setCollisionShapes", pNameList, pPairList, pShapeList, pPositionList));
     }
 
     /**
@@ -1829,7 +3778,18 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     * @return Vector of collisions: [nameShape1, nameShape2, distance].
     */
     public java.lang.Object _getDetectedCollisions(Float pMinimumDistance) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_getDetectedCollisions", pMinimumDistance).get();
+        return (java.lang.Object)service().call("_getDetectedCollisions", pMinimumDistance).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getDetectedCollisions}.
+    * Gets the list of detected collisions supported on your robot.
+    * 
+    * @param pMinimumDistance  Distance to take into account collision pair.
+    * @return Vector of collisions: [nameShape1, nameShape2, distance].
+    */
+    public ALFuture<java.lang.Object> _getDetectedCollisionsAsync(Float pMinimumDistance) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_getDetectedCollisions", pMinimumDistance));
     }
 
     /**
@@ -1838,7 +3798,17 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     * @return A vector of Position2D.
     */
     public java.lang.Object _getDangerousRegion() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_getDangerousRegion").get();
+        return (java.lang.Object)service().call("_getDangerousRegion").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getDangerousRegion}.
+    * Gets the polygon checked for safety during move.
+    * 
+    * @return A vector of Position2D.
+    */
+    public ALFuture<java.lang.Object> _getDangerousRegionAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_getDangerousRegion"));
     }
 
     /**
@@ -1849,9 +3819,20 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     */
     public void setFallManagerEnabled(Boolean pEnable) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setFallManagerEnabled", pEnable);
+            service().call("setFallManagerEnabled", pEnable);
         else
-            service.call("setFallManagerEnabled", pEnable).get();
+            service().call("setFallManagerEnabled", pEnable).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setFallManagerEnabled}.
+    * Enable The fall manager protection for the robot. When a fall is detected the robot adopt a joint configuration to protect himself and cut the stiffness.
+. An memory event called "robotHasFallen" is generated when the fallManager have been activated.
+    * 
+    * @param pEnable  Activate or disactivate the smart stiffness.
+    */
+    public ALFuture<Void> setFallManagerEnabledAsync(Boolean pEnable) throws CallError {
+        return ALFuture.of(service().<Void>call("setFallManagerEnabled", pEnable));
     }
 
     /**
@@ -1861,7 +3842,18 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
 
     */
     public Boolean getFallManagerEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("getFallManagerEnabled").get();
+        return (Boolean)service().call("getFallManagerEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getFallManagerEnabled}.
+    * Give the state of the fall manager.
+    * 
+    * @return Return true is the fall manager is activated. 
+
+    */
+    public ALFuture<Boolean> getFallManagerEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("getFallManagerEnabled"));
     }
 
     /**
@@ -1871,9 +3863,19 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     */
     public void setPushRecoveryEnabled(Boolean pEnable) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setPushRecoveryEnabled", pEnable);
+            service().call("setPushRecoveryEnabled", pEnable);
         else
-            service.call("setPushRecoveryEnabled", pEnable).get();
+            service().call("setPushRecoveryEnabled", pEnable).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setPushRecoveryEnabled}.
+    * Enable The push recovery protection for the robot. 
+    * 
+    * @param pEnable  Enable the push recovery.
+    */
+    public ALFuture<Void> setPushRecoveryEnabledAsync(Boolean pEnable) throws CallError {
+        return ALFuture.of(service().<Void>call("setPushRecoveryEnabled", pEnable));
     }
 
     /**
@@ -1883,9 +3885,19 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     */
     public void _setPushRecoveryEnabled(Boolean pEnable) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setPushRecoveryEnabled", pEnable);
+            service().call("_setPushRecoveryEnabled", pEnable);
         else
-            service.call("_setPushRecoveryEnabled", pEnable).get();
+            service().call("_setPushRecoveryEnabled", pEnable).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setPushRecoveryEnabled}.
+    * Enable The push recovery protection for the robot. 
+    * 
+    * @param pEnable  Enable the push recovery.
+    */
+    public ALFuture<Void> _setPushRecoveryEnabledAsync(Boolean pEnable) throws CallError {
+        return ALFuture.of(service().<Void>call("_setPushRecoveryEnabled", pEnable));
     }
 
     /**
@@ -1895,19 +3907,40 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
 
     */
     public Boolean getPushRecoveryEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("getPushRecoveryEnabled").get();
+        return (Boolean)service().call("getPushRecoveryEnabled").get();
     }
 
     /**
-    * Enable Smart Stiffness for all the joints (True by default), the update take one motion cycle for updating. The smart Stiffness is a gestion of joint maximum torque. More description is available on the red documentation of ALMotion module.
+    * Asynchronous version of {@link #getPushRecoveryEnabled}.
+    * Give the state of the push recovery.
+    * 
+    * @return Return true is the push recovery is activated. 
+
+    */
+    public ALFuture<Boolean> getPushRecoveryEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("getPushRecoveryEnabled"));
+    }
+
+    /**
+    * Enable Smart Stiffness for all the joints (True by default), the update take one motion cycle for updating. The smart Stiffness is a gestion of joint maximum torque. More description is available on the red documentation of ALMotion module.
     * 
     * @param pEnable  Activate or disactivate the smart stiffness.
     */
     public void setSmartStiffnessEnabled(Boolean pEnable) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setSmartStiffnessEnabled", pEnable);
+            service().call("setSmartStiffnessEnabled", pEnable);
         else
-            service.call("setSmartStiffnessEnabled", pEnable).get();
+            service().call("setSmartStiffnessEnabled", pEnable).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setSmartStiffnessEnabled}.
+    * Enable Smart Stiffness for all the joints (True by default), the update take one motion cycle for updating. The smart Stiffness is a gestion of joint maximum torque. More description is available on the red documentation of ALMotion module.
+    * 
+    * @param pEnable  Activate or disactivate the smart stiffness.
+    */
+    public ALFuture<Void> setSmartStiffnessEnabledAsync(Boolean pEnable) throws CallError {
+        return ALFuture.of(service().<Void>call("setSmartStiffnessEnabled", pEnable));
     }
 
     /**
@@ -1917,7 +3950,18 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
 
     */
     public Boolean getSmartStiffnessEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("getSmartStiffnessEnabled").get();
+        return (Boolean)service().call("getSmartStiffnessEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getSmartStiffnessEnabled}.
+    * Give the state of the smart Stiffness.
+    * 
+    * @return Return true is the smart Stiffnes is activated. 
+
+    */
+    public ALFuture<Boolean> getSmartStiffnessEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("getSmartStiffnessEnabled"));
     }
 
     /**
@@ -1927,9 +3971,19 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     */
     public void setDiagnosisEffectEnabled(Boolean pEnable) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setDiagnosisEffectEnabled", pEnable);
+            service().call("setDiagnosisEffectEnabled", pEnable);
         else
-            service.call("setDiagnosisEffectEnabled", pEnable).get();
+            service().call("setDiagnosisEffectEnabled", pEnable).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setDiagnosisEffectEnabled}.
+    * Enable or disable the diagnosis effect into ALMotion
+    * 
+    * @param pEnable  Enable or disable the diagnosis effect.
+    */
+    public ALFuture<Void> setDiagnosisEffectEnabledAsync(Boolean pEnable) throws CallError {
+        return ALFuture.of(service().<Void>call("setDiagnosisEffectEnabled", pEnable));
     }
 
     /**
@@ -1939,7 +3993,18 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
 
     */
     public Boolean getDiagnosisEffectEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("getDiagnosisEffectEnabled").get();
+        return (Boolean)service().call("getDiagnosisEffectEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getDiagnosisEffectEnabled}.
+    * Give the state of the diagnosis effect.
+    * 
+    * @return Return true is the diagnosis reflex is activated. 
+
+    */
+    public ALFuture<Boolean> getDiagnosisEffectEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("getDiagnosisEffectEnabled"));
     }
 
     /**
@@ -1949,7 +4014,18 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     * @return Vector of strings, one for each joint in the collection
     */
     public List<String> getJointNames(String name) throws CallError, InterruptedException {
-        return (List<String>)service.call("getJointNames", name).get();
+        return (List<String>)service().call("getJointNames", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getJointNames}.
+    * DEPRECATED. Use getBodyNames function instead.
+    * 
+    * @param name  Name of a chain, "Arms", "Legs", "Body", "Chains", "JointActuators", "Joints" or "Actuators".
+    * @return Vector of strings, one for each joint in the collection
+    */
+    public ALFuture<List<String>> getJointNamesAsync(String name) throws CallError {
+        return ALFuture.of(service().<List<String>>call("getJointNames", name));
     }
 
     /**
@@ -1959,7 +4035,18 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     * @return Vector of strings, one for each joint and actuator in the collection
     */
     public List<String> getBodyNames(String name) throws CallError, InterruptedException {
-        return (List<String>)service.call("getBodyNames", name).get();
+        return (List<String>)service().call("getBodyNames", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBodyNames}.
+    * Gets the names of all the joints and actuators in the collection.
+    * 
+    * @param name  Name of a chain, "Arms", "Legs", "Body", "Chains", "JointActuators", "Joints" or "Actuators".
+    * @return Vector of strings, one for each joint and actuator in the collection
+    */
+    public ALFuture<List<String>> getBodyNamesAsync(String name) throws CallError {
+        return ALFuture.of(service().<List<String>>call("getBodyNames", name));
     }
 
     /**
@@ -1968,7 +4055,17 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     * @return Vector of sensor names
     */
     public List<String> getSensorNames() throws CallError, InterruptedException {
-        return (List<String>)service.call("getSensorNames").get();
+        return (List<String>)service().call("getSensorNames").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getSensorNames}.
+    * Gets the list of sensors supported on your robot.
+    * 
+    * @return Vector of sensor names
+    */
+    public ALFuture<List<String>> getSensorNamesAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getSensorNames"));
     }
 
     /**
@@ -1978,7 +4075,18 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     * @return Array of ALValue arrays containing the minAngle, maxAngle, maxVelocity and maxTorque for all the bodies specified.
     */
     public java.lang.Object getLimits(String name) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getLimits", name).get();
+        return (java.lang.Object)service().call("getLimits", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getLimits}.
+    * Get the minAngle (rad), maxAngle (rad), and maxVelocity (rad.s-1) for a given joint or actuator in the body.
+    * 
+    * @param name  Name of a joint, chain, "Body", "JointActuators", "Joints" or "Actuators". 
+    * @return Array of ALValue arrays containing the minAngle, maxAngle, maxVelocity and maxTorque for all the bodies specified.
+    */
+    public ALFuture<java.lang.Object> getLimitsAsync(String name) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getLimits", name));
     }
 
     /**
@@ -1988,7 +4096,18 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     * @return Array of ALValue arrays containing the minAngle, maxAngle, maxVelocity, maxTorque, Kc, reduction, efficiency and maxCurrent for all the bodies specified.
     */
     public java.lang.Object _getFullLimits(String name) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_getFullLimits", name).get();
+        return (java.lang.Object)service().call("_getFullLimits", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getFullLimits}.
+    * Get the minAngle (rad), maxAngle (rad), and maxVelocity (rad.s-1) for a given joint or actuator in the body.
+    * 
+    * @param name  Name of a joint, chain, "Body", "JointActuators", "Joints" or "Actuators". 
+    * @return Array of ALValue arrays containing the minAngle, maxAngle, maxVelocity, maxTorque, Kc, reduction, efficiency and maxCurrent for all the bodies specified.
+    */
+    public ALFuture<java.lang.Object> _getFullLimitsAsync(String name) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_getFullLimits", name));
     }
 
     /**
@@ -1997,7 +4116,17 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     * @return Expressed in milliseconds
     */
     public Integer getMotionCycleTime() throws CallError, InterruptedException {
-        return (Integer)service.call("getMotionCycleTime").get();
+        return (Integer)service().call("getMotionCycleTime").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMotionCycleTime}.
+    * Get the motion cycle time in milliseconds.
+    * 
+    * @return Expressed in milliseconds
+    */
+    public ALFuture<Integer> getMotionCycleTimeAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("getMotionCycleTime"));
     }
 
     /**
@@ -2006,7 +4135,17 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     * @return Expressed in int.
     */
     public Integer _getMotionCycleNumber() throws CallError, InterruptedException {
-        return (Integer)service.call("_getMotionCycleNumber").get();
+        return (Integer)service().call("_getMotionCycleNumber").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getMotionCycleNumber}.
+    * Get the motion cycle number in int.
+    * 
+    * @return Expressed in int.
+    */
+    public ALFuture<Integer> _getMotionCycleNumberAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("_getMotionCycleNumber"));
     }
 
     /**
@@ -2015,7 +4154,17 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     * @return ALValue arrays containing the robot parameter names and the robot parameter values.
     */
     public java.lang.Object getRobotConfig() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getRobotConfig").get();
+        return (java.lang.Object)service().call("getRobotConfig").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getRobotConfig}.
+    * Get the robot configuration.
+    * 
+    * @return ALValue arrays containing the robot parameter names and the robot parameter values.
+    */
+    public ALFuture<java.lang.Object> getRobotConfigAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getRobotConfig"));
     }
 
     /**
@@ -2024,7 +4173,17 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     * @return A formated string
     */
     public String getSummary() throws CallError, InterruptedException {
-        return (String)service.call("getSummary").get();
+        return (String)service().call("getSummary").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getSummary}.
+    * Returns a string representation of the Model's state
+    * 
+    * @return A formated string
+    */
+    public ALFuture<String> getSummaryAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getSummary"));
     }
 
     /**
@@ -2034,7 +4193,18 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     * @return The mass in kg.
     */
     public Float getMass(String pName) throws CallError, InterruptedException {
-        return (Float)service.call("getMass", pName).get();
+        return (Float)service().call("getMass", pName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMass}.
+    * Gets the mass of a joint, chain, "Body" or "Joints".
+    * 
+    * @param pName  Name of the body which we want the mass. "Body", "Joints" and "Com" give the total mass of nao. For the chain, it gives the total mass of the chain.
+    * @return The mass in kg.
+    */
+    public ALFuture<Float> getMassAsync(String pName) throws CallError {
+        return ALFuture.of(service().<Float>call("getMass", pName));
     }
 
     /**
@@ -2046,7 +4216,46 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     * @return The COM position (meter).
     */
     public List<Float> getCOM(String pName, Integer pSpace, Boolean pUseSensorValues) throws CallError, InterruptedException {
-        return (List<Float>)service.call("getCOM", pName, pSpace, pUseSensorValues).get();
+        return (List<Float>)service().call("getCOM", pName, pSpace, pUseSensorValues).get();
+    }
+
+    /**
+    * Primitive version of {@link #getCOM}, values are returned unboxed.
+    * Gets the COM of a joint, chain, "Body" or "Joints".
+    * 
+    * @param pName  Name of the body which we want the mass. In chain name case, this function give the com of the chain.
+    * @param pSpace  Task frame {FRAME_TORSO = 0, FRAME_WORLD = 1, FRAME_ROBOT = 2}.
+    * @param pUseSensorValues  If true, the sensor values will be used to determine the position.
+    * @return The COM position (meter).
+    */
+    public float[] getCOMF(String pName, Integer pSpace, Boolean pUseSensorValues) throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("getCOM", pName, pSpace, pUseSensorValues).get());
+    }
+
+    /**
+    * Primitive version of {@link #getCOM}, values are written into dst and their count is returned.
+    * Gets the COM of a joint, chain, "Body" or "Joints".
+    * 
+    * @param pName  Name of the body which we want the mass. In chain name case, this function give the com of the chain.
+    * @param pSpace  Task frame {FRAME_TORSO = 0, FRAME_WORLD = 1, FRAME_ROBOT = 2}.
+    * @param pUseSensorValues  If true, the sensor values will be used to determine the position.
+    * @return The COM position (meter).
+    */
+    public int getCOMInto(float[] dst, String pName, Integer pSpace, Boolean pUseSensorValues) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("getCOM", pName, pSpace, pUseSensorValues).get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #getCOM}.
+    * Gets the COM of a joint, chain, "Body" or "Joints".
+    * 
+    * @param pName  Name of the body which we want the mass. In chain name case, this function give the com of the chain.
+    * @param pSpace  Task frame {FRAME_TORSO = 0, FRAME_WORLD = 1, FRAME_ROBOT = 2}.
+    * @param pUseSensorValues  If true, the sensor values will be used to determine the position.
+    * @return The COM position (meter).
+    */
+    public ALFuture<List<Float>> getCOMAsync(String pName, Integer pSpace, Boolean pUseSensorValues) throws CallError {
+        return ALFuture.of(service().<List<Float>>call("getCOM", pName, pSpace, pUseSensorValues));
     }
 
     /**
@@ -2057,7 +4266,19 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     * @return A vector containing the x,y coordinates of each of the outer points of the support polygon in specified frame.
     */
     public List<List<Float>> getSupportPolygon(Integer pSpace, Boolean pUseSensorValues) throws CallError, InterruptedException {
-        return (List<List<Float>>)service.call("getSupportPolygon", pSpace, pUseSensorValues).get();
+        return (List<List<Float>>)service().call("getSupportPolygon", pSpace, pUseSensorValues).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getSupportPolygon}.
+    * Gets the support polygon
+    * 
+    * @param pSpace  Task frame {FRAME_TORSO = 0, FRAME_WORLD = 1, FRAME_ROBOT = 2}.
+    * @param pUseSensorValues  If true, the sensor values will be used to determine the position.
+    * @return A vector containing the x,y coordinates of each of the outer points of the support polygon in specified frame.
+    */
+    public ALFuture<List<List<Float>>> getSupportPolygonAsync(Integer pSpace, Boolean pUseSensorValues) throws CallError {
+        return ALFuture.of(service().<List<List<Float>>>call("getSupportPolygon", pSpace, pUseSensorValues));
     }
 
     /**
@@ -2068,7 +4289,43 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     * @return Torques in N.m.
     */
     public List<Float> _getTorque(java.lang.Object names, Boolean useSensor) throws CallError, InterruptedException {
-        return (List<Float>)service.call("_getTorque", names, useSensor).get();
+        return (List<Float>)service().call("_getTorque", names, useSensor).get();
+    }
+
+    /**
+    * Primitive version of {@link #_getTorque}, values are returned unboxed.
+    * Gets the torque of the joints
+    * 
+    * @param names  Names the joints, chains, "Body", "Joints". 
+    * @param useSensor  If true, return the sensor torque.
+    * @return Torques in N.m.
+    */
+    public float[] _getTorqueF(java.lang.Object names, Boolean useSensor) throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("_getTorque", names, useSensor).get());
+    }
+
+    /**
+    * Primitive version of {@link #_getTorque}, values are written into dst and their count is returned.
+    * Gets the torque of the joints
+    * 
+    * @param names  Names the joints, chains, "Body", "Joints". 
+    * @param useSensor  If true, return the sensor torque.
+    * @return Torques in N.m.
+    */
+    public int _getTorqueInto(float[] dst, java.lang.Object names, Boolean useSensor) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("_getTorque", names, useSensor).get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #_getTorque}.
+    * Gets the torque of the joints
+    * 
+    * @param names  Names the joints, chains, "Body", "Joints". 
+    * @param useSensor  If true, return the sensor torque.
+    * @return Torques in N.m.
+    */
+    public ALFuture<List<Float>> _getTorqueAsync(java.lang.Object names, Boolean useSensor) throws CallError {
+        return ALFuture.of(service().<List<Float>>call("_getTorque", names, useSensor));
     }
 
     /**
@@ -2078,7 +4335,40 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     * @return The inertia matrix (kg.m2).
     */
     public List<Float> _getInertia(String pName) throws CallError, InterruptedException {
-        return (List<Float>)service.call("_getInertia", pName).get();
+        return (List<Float>)service().call("_getInertia", pName).get();
+    }
+
+    /**
+    * Primitive version of {@link #_getInertia}, values are returned unboxed.
+    * Gets the inertia matrice of a joint or "Torso".
+    * 
+    * @param pName  Name of the joint or "Torso". Inertia is given in the COM of the body, in poseZero orientation.
+    * @return The inertia matrix (kg.m2).
+    */
+    public float[] _getInertiaF(String pName) throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("_getInertia", pName).get());
+    }
+
+    /**
+    * Primitive version of {@link #_getInertia}, values are written into dst and their count is returned.
+    * Gets the inertia matrice of a joint or "Torso".
+    * 
+    * @param pName  Name of the joint or "Torso". Inertia is given in the COM of the body, in poseZero orientation.
+    * @return The inertia matrix (kg.m2).
+    */
+    public int _getInertiaInto(float[] dst, String pName) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("_getInertia", pName).get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #_getInertia}.
+    * Gets the inertia matrice of a joint or "Torso".
+    * 
+    * @param pName  Name of the joint or "Torso". Inertia is given in the COM of the body, in poseZero orientation.
+    * @return The inertia matrix (kg.m2).
+    */
+    public ALFuture<List<Float>> _getInertiaAsync(String pName) throws CallError {
+        return ALFuture.of(service().<List<Float>>call("_getInertia", pName));
     }
 
     /**
@@ -2088,9 +4378,19 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     */
     public void setMotionConfig(java.lang.Object config) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setMotionConfig", config);
+            service().call("setMotionConfig", config);
         else
-            service.call("setMotionConfig", config).get();
+            service().call("setMotionConfig", config).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setMotionConfig}.
+    * Internal Use.
+    * 
+    * @param config  Internal: An array of ALValues [i][0]: name, [i][1]: value
+    */
+    public ALFuture<Void> setMotionConfigAsync(java.lang.Object config) throws CallError {
+        return ALFuture.of(service().<Void>call("setMotionConfig", config));
     }
 
     /**
@@ -2099,9 +4399,18 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     */
     public void _naoqiIsReadyCallback() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_naoqiIsReadyCallback");
+            service().call("_naoqiIsReadyCallback");
         else
-            service.call("_naoqiIsReadyCallback").get();
+            service().call("_naoqiIsReadyCallback").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_naoqiIsReadyCallback}.
+    * Callback naoqi is ready.
+    * 
+    */
+    public ALFuture<Void> _naoqiIsReadyCallbackAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_naoqiIsReadyCallback"));
     }
 
     /**
@@ -2110,9 +4419,18 @@ If the robot doesn't walk this function is equivalent to getRobotPosition(false)
     */
     public void _preferenceUpdatedCallback(String param1, java.lang.Object param2, String param3) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_preferenceUpdatedCallback", param1, param2, param3);
+            service().call("_preferenceUpdatedCallback", param1, param2, param3);
         else
-            service.call("_preferenceUpdatedCallback", param1, param2, param3).get();
+            service().call("_preferenceUpdatedCallback", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_preferenceUpdatedCallback}.
+    * Callback preferences changed.
+    * 
+    */
+    public ALFuture<Void> _preferenceUpdatedCallbackAsync(String param1, java.lang.Object param2, String param3) throws CallError {
+        return ALFuture.of(service().<Void>call("_preferenceUpdatedCallback", param1, param2, param3));
     }
 
     /**
@@ -2127,9 +4445,24 @@ DEPRECATED Function. Please use ALTracker::lookAt.
     */
     public void updateTrackerTarget(Float pTargetPositionWy, Float pTargetPositionWz, Integer pTimeSinceDetectionMs, Boolean pUseOfWholeBody) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("updateTrackerTarget", pTargetPositionWy, pTargetPositionWz, pTimeSinceDetectionMs, pUseOfWholeBody);
+            service().call("updateTrackerTarget", pTargetPositionWy, pTargetPositionWz, pTimeSinceDetectionMs, pUseOfWholeBody);
         else
-            service.call("updateTrackerTarget", pTargetPositionWy, pTargetPositionWz, pTimeSinceDetectionMs, pUseOfWholeBody).get();
+            service().call("updateTrackerTarget", pTargetPositionWy, pTargetPositionWz, pTimeSinceDetectionMs, pUseOfWholeBody).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #updateTrackerTarget}.
+    * Update the target to follow by the head of NAO.
+DEPRECATED Function. Please use ALTracker::lookAt.
+
+    * 
+    * @param pTargetPositionWy  The target position wy in FRAME_ROBOT
+    * @param pTargetPositionWz  The target position wz in  FRAME_ROBOT
+    * @param pTimeSinceDetectionMs  The time in Ms since the target was detected
+    * @param pUseOfWholeBody  If true, the target is follow in cartesian space by the Head with whole Body constraints.
+    */
+    public ALFuture<Void> updateTrackerTargetAsync(Float pTargetPositionWy, Float pTargetPositionWz, Integer pTimeSinceDetectionMs, Boolean pUseOfWholeBody) throws CallError {
+        return ALFuture.of(service().<Void>call("updateTrackerTarget", pTargetPositionWy, pTargetPositionWz, pTimeSinceDetectionMs, pUseOfWholeBody));
     }
 
     /**
@@ -2145,44 +4478,87 @@ This function is mainly use by the tracker modules.
     */
     public void _trackerAnticipation(List<String> pNames, List<Float> pTargetPositions, Integer pTimeSinceDetectionMs, Boolean pUseOfWholeBody, Boolean pIsPointAt) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_trackerAnticipation", pNames, pTargetPositions, pTimeSinceDetectionMs, pUseOfWholeBody, pIsPointAt);
+            service().call("_trackerAnticipation", pNames, pTargetPositions, pTimeSinceDetectionMs, pUseOfWholeBody, pIsPointAt);
         else
-            service.call("_trackerAnticipation", pNames, pTargetPositions, pTimeSinceDetectionMs, pUseOfWholeBody, pIsPointAt).get();
+            service().call("_trackerAnticipation", pNames, pTargetPositions, pTimeSinceDetectionMs, pUseOfWholeBody, pIsPointAt).get();
     }
 
     /**
-    * Interpolate with speed without prediction.
+    * Asynchronous version of {@link #_trackerAnticipation}.
+    * Interpolate with hands or head with prediction.
+This function is mainly use by the tracker modules.
+
     * 
     * @param pNames  list of Joints Names.
     * @param pTargetPositions  list of Joints angles.
     * @param pTimeSinceDetectionMs  The time in Ms since the target was detected
-    * @param pMaxSpeedFraction  fraction max speed list.
     * @param pUseOfWholeBody  If true, the target is follow in cartesian space by the Head with whole Body constraints.
     * @param pIsPointAt  if true use pointAt task else lookAt task.
     */
-    public void _trackerWithSpeed(List<String> pNames, List<Float> pTargetPositions, List<Float> pTimeSinceDetectionMs, Boolean pMaxSpeedFraction, Boolean pUseOfWholeBody) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("_trackerWithSpeed", pNames, pTargetPositions, pTimeSinceDetectionMs, pMaxSpeedFraction, pUseOfWholeBody);
-        else
-            service.call("_trackerWithSpeed", pNames, pTargetPositions, pTimeSinceDetectionMs, pMaxSpeedFraction, pUseOfWholeBody).get();
+    public ALFuture<Void> _trackerAnticipationAsync(List<String> pNames, List<Float> pTargetPositions, Integer pTimeSinceDetectionMs, Boolean pUseOfWholeBody, Boolean pIsPointAt) throws CallError {
+        return ALFuture.of(service().<Void>call("_trackerAnticipation", pNames, pTargetPositions, pTimeSinceDetectionMs, pUseOfWholeBody, pIsPointAt));
     }
 
     /**
-    * lookAt
+    * Interpolate with speed without prediction.
     * 
-    * @param pTargetPosition  position 3D to look at.
-    * @param pFrame  Target frame {FRAME_TORSO = 0, FRAME_WORLD = 1, FRAME_ROBOT = 2}.
-    * @param pMaxSpeedFraction  fraction max speed.
+    * @param pNames  list of Joints Names.
+    * @param pTargetPositions  list of Joints angles.
+    * @param pTimeSinceDetectionMs  The time in Ms since the target was detected
+    * @param pMaxSpeedFraction  fraction max speed list.
+    * @param pUseOfWholeBody  If true, the target is follow in cartesian space by the Head with whole Body constraints.
+    * @param pIsPointAt  if true use pointAt task else lookAt task.
     */
-    public void _lookAt(List<Float> pTargetPosition, Integer pFrame, Float pMaxSpeedFraction) throws CallError, InterruptedException{
+    public void _trackerWithSpeed(List<String> pNames, List<Float> pTargetPositions, List<Float> pTimeSinceDetectionMs, Boolean pMaxSpeedFraction, Boolean pUseOfWholeBody) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_lookAt", pTargetPosition, pFrame, pMaxSpeedFraction);
+            service().call("_trackerWithSpeed", pNames, pTargetPositions, pTimeSinceDetectionMs, pMaxSpeedFraction, pUseOfWholeBody);
         else
-            service.call("_lookAt", pTargetPosition, pFrame, pMaxSpeedFraction).get();
+            service().call("_trackerWithSpeed", pNames, pTargetPositions, pTimeSinceDetectionMs, pMaxSpeedFraction, pUseOfWholeBody).get();
     }
 
     /**
-    * lookAt
+    * Asynchronous version of {@link #_trackerWithSpeed}.
+    * Interpolate with speed without prediction.
+    * 
+    * @param pNames  list of Joints Names.
+    * @param pTargetPositions  list of Joints angles.
+    * @param pTimeSinceDetectionMs  The time in Ms since the target was detected
+    * @param pMaxSpeedFraction  fraction max speed list.
+    * @param pUseOfWholeBody  If true, the target is follow in cartesian space by the Head with whole Body constraints.
+    * @param pIsPointAt  if true use pointAt task else lookAt task.
+    */
+    public ALFuture<Void> _trackerWithSpeedAsync(List<String> pNames, List<Float> pTargetPositions, List<Float> pTimeSinceDetectionMs, Boolean pMaxSpeedFraction, Boolean pUseOfWholeBody) throws CallError {
+        return ALFuture.of(service().<Void>call("_trackerWithSpeed", pNames, pTargetPositions, pTimeSinceDetectionMs, pMaxSpeedFraction, pUseOfWholeBody));
+    }
+
+    /**
+    * lookAt
+    * 
+    * @param pTargetPosition  position 3D to look at.
+    * @param pFrame  Target frame {FRAME_TORSO = 0, FRAME_WORLD = 1, FRAME_ROBOT = 2}.
+    * @param pMaxSpeedFraction  fraction max speed.
+    */
+    public void _lookAt(List<Float> pTargetPosition, Integer pFrame, Float pMaxSpeedFraction) throws CallError, InterruptedException{
+        if (isAsynchronous)
+            service().call("_lookAt", pTargetPosition, pFrame, pMaxSpeedFraction);
+        else
+            service().call("_lookAt", pTargetPosition, pFrame, pMaxSpeedFraction).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_lookAt}.
+    * lookAt
+    * 
+    * @param pTargetPosition  position 3D to look at.
+    * @param pFrame  Target frame {FRAME_TORSO = 0, FRAME_WORLD = 1, FRAME_ROBOT = 2}.
+    * @param pMaxSpeedFraction  fraction max speed.
+    */
+    public ALFuture<Void> _lookAtAsync(List<Float> pTargetPosition, Integer pFrame, Float pMaxSpeedFraction) throws CallError {
+        return ALFuture.of(service().<Void>call("_lookAt", pTargetPosition, pFrame, pMaxSpeedFraction));
+    }
+
+    /**
+    * lookAt
     * 
     * @param pTargetPosition  position 3D to look at.
     * @param pFrame  Target frame {FRAME_TORSO = 0, FRAME_WORLD = 1, FRAME_ROBOT = 2}.
@@ -2191,9 +4567,22 @@ This function is mainly use by the tracker modules.
     */
     public void _lookAt(List<Float> pTargetPosition, Integer pFrame, Integer pEffectorId, Float pMaxSpeedFraction) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_lookAt", pTargetPosition, pFrame, pEffectorId, pMaxSpeedFraction);
+            service().call("_lookAt", pTargetPosition, pFrame, pEffectorId, pMaxSpeedFraction);
         else
-            service.call("_lookAt", pTargetPosition, pFrame, pEffectorId, pMaxSpeedFraction).get();
+            service().call("_lookAt", pTargetPosition, pFrame, pEffectorId, pMaxSpeedFraction).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_lookAt}.
+    * lookAt
+    * 
+    * @param pTargetPosition  position 3D to look at.
+    * @param pFrame  Target frame {FRAME_TORSO = 0, FRAME_WORLD = 1, FRAME_ROBOT = 2}.
+    * @param pEffectorId  effector id {Middle of eyes = 0, Camera Top = 1, Camera Bottom = 2}.
+    * @param pMaxSpeedFraction  fraction max speed.
+    */
+    public ALFuture<Void> _lookAtAsync(List<Float> pTargetPosition, Integer pFrame, Integer pEffectorId, Float pMaxSpeedFraction) throws CallError {
+        return ALFuture.of(service().<Void>call("_lookAt", pTargetPosition, pFrame, pEffectorId, pMaxSpeedFraction));
     }
 
     /**
@@ -2205,9 +4594,21 @@ This function is mainly use by the tracker modules.
     */
     public void _stopLookAt(Boolean pWithSpeed) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_stopLookAt", pWithSpeed);
+            service().call("_stopLookAt", pWithSpeed);
         else
-            service.call("_stopLookAt", pWithSpeed).get();
+            service().call("_stopLookAt", pWithSpeed).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_stopLookAt}.
+    * Stop lookAt task
+This function is mainly use by the tracker modules.
+
+    * 
+    * @param pWithSpeed  if True stop lookAtWithSpeed task.
+    */
+    public ALFuture<Void> _stopLookAtAsync(Boolean pWithSpeed) throws CallError {
+        return ALFuture.of(service().<Void>call("_stopLookAt", pWithSpeed));
     }
 
     /**
@@ -2219,9 +4620,21 @@ This function is mainly use by the tracker modules.
     */
     public void _stopPointAt(Boolean pWithSpeed) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_stopPointAt", pWithSpeed);
+            service().call("_stopPointAt", pWithSpeed);
         else
-            service.call("_stopPointAt", pWithSpeed).get();
+            service().call("_stopPointAt", pWithSpeed).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_stopPointAt}.
+    * Stop PointAt task
+This function is mainly use by the tracker modules.
+
+    * 
+    * @param pWithSpeed  if True stop pointAtWithSpeed task.
+    */
+    public ALFuture<Void> _stopPointAtAsync(Boolean pWithSpeed) throws CallError {
+        return ALFuture.of(service().<Void>call("_stopPointAt", pWithSpeed));
     }
 
     /**
@@ -2231,9 +4644,19 @@ This function is mainly use by the tracker modules.
     */
     public void _updateObstacles(List<List<Float>> obstacles) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_updateObstacles", obstacles);
+            service().call("_updateObstacles", obstacles);
         else
-            service.call("_updateObstacles", obstacles).get();
+            service().call("_updateObstacles", obstacles).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_updateObstacles}.
+    * Update obstacles
+    * 
+    * @param obstacles  List of closest obstacles [[x, y, z]...]
+    */
+    public ALFuture<Void> _updateObstaclesAsync(List<List<Float>> obstacles) throws CallError {
+        return ALFuture.of(service().<Void>call("_updateObstacles", obstacles));
     }
 
     /**
@@ -2246,9 +4669,22 @@ Head breathing animation will work only if Leg animation is active.
     */
     public void setBreathEnabled(String pChain, Boolean pIsEnabled) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setBreathEnabled", pChain, pIsEnabled);
+            service().call("setBreathEnabled", pChain, pIsEnabled);
         else
-            service.call("setBreathEnabled", pChain, pIsEnabled).get();
+            service().call("setBreathEnabled", pChain, pIsEnabled).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setBreathEnabled}.
+    * This function starts or stops breathing animation on a chain.
+Chain name can be "Body", "Arms", "LArm", "RArm", "Legs" or "Head".
+Head breathing animation will work only if Leg animation is active.
+    * 
+    * @param pChain  Chain name.
+    * @param pIsEnabled  Enables / disables the chain.
+    */
+    public ALFuture<Void> setBreathEnabledAsync(String pChain, Boolean pIsEnabled) throws CallError {
+        return ALFuture.of(service().<Void>call("setBreathEnabled", pChain, pIsEnabled));
     }
 
     /**
@@ -2260,7 +4696,20 @@ Chain name can be "Body", "Arms", "LArm", "RArm", "Legs" or "Head".
     * @return True if breathing animation is enabled on the chain.
     */
     public Boolean getBreathEnabled(String pChain) throws CallError, InterruptedException {
-        return (Boolean)service.call("getBreathEnabled", pChain).get();
+        return (Boolean)service().call("getBreathEnabled", pChain).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBreathEnabled}.
+    * This function gets the status of breathing animation on a chain.
+Chain name can be "Body", "Arms", "LArm", "RArm", "Legs" or "Head".
+
+    * 
+    * @param pChain  Chain name.
+    * @return True if breathing animation is enabled on the chain.
+    */
+    public ALFuture<Boolean> getBreathEnabledAsync(String pChain) throws CallError {
+        return ALFuture.of(service().<Boolean>call("getBreathEnabled", pChain));
     }
 
     /**
@@ -2273,9 +4722,22 @@ pAmplitude is a float between 0 and 1 setting the amplitude of the breathing ani
     */
     public void setBreathConfig(java.lang.Object pConfig) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setBreathConfig", pConfig);
+            service().call("setBreathConfig", pConfig);
         else
-            service.call("setBreathConfig", pConfig).get();
+            service().call("setBreathConfig", pConfig).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setBreathConfig}.
+    * This function configures the breathing animation.
+    * 
+    * @param pConfig  Breath configuration.
+An ALValue of the form [["Bpm", pBpm], ["Amplitude", pAmplitude]].
+pBpm is a float between 10 and 50 setting the breathing frequency in beats per minute.
+pAmplitude is a float between 0 and 1 setting the amplitude of the breathing animation.
+    */
+    public ALFuture<Void> setBreathConfigAsync(java.lang.Object pConfig) throws CallError {
+        return ALFuture.of(service().<Void>call("setBreathConfig", pConfig));
     }
 
     /**
@@ -2286,7 +4748,19 @@ bpm is the breathing frequency in beats per minute.
 amplitude is the normalized amplitude of the breathing animation, between 0 and 1.
     */
     public java.lang.Object getBreathConfig() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getBreathConfig").get();
+        return (java.lang.Object)service().call("getBreathConfig").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBreathConfig}.
+    * This function gets the current breathing configuration.
+    * 
+    * @return An ALValue of the form [["Bpm", bpm], ["Amplitude", amplitude]].
+bpm is the breathing frequency in beats per minute.
+amplitude is the normalized amplitude of the breathing animation, between 0 and 1.
+    */
+    public ALFuture<java.lang.Object> getBreathConfigAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getBreathConfig"));
     }
 
     /**
@@ -2298,9 +4772,21 @@ Chain name can be "Body", "Arms", "LArm", "RArm", "Legs" or "Head".
     */
     public void setIdlePostureEnabled(String pChain, Boolean pIsEnabled) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setIdlePostureEnabled", pChain, pIsEnabled);
+            service().call("setIdlePostureEnabled", pChain, pIsEnabled);
         else
-            service.call("setIdlePostureEnabled", pChain, pIsEnabled).get();
+            service().call("setIdlePostureEnabled", pChain, pIsEnabled).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setIdlePostureEnabled}.
+    * Starts or stops idle posture management on a chain.
+Chain name can be "Body", "Arms", "LArm", "RArm", "Legs" or "Head".
+    * 
+    * @param pChain  Chain name.
+    * @param pIsEnabled  Enables / disables the chain.
+    */
+    public ALFuture<Void> setIdlePostureEnabledAsync(String pChain, Boolean pIsEnabled) throws CallError {
+        return ALFuture.of(service().<Void>call("setIdlePostureEnabled", pChain, pIsEnabled));
     }
 
     /**
@@ -2312,7 +4798,20 @@ Chain name can be "Body", "Arms", "LArm", "RArm", "Legs" or "Head".
     * @return True if breathing animation is enabled on the chain.
     */
     public Boolean getIdlePostureEnabled(String pChain) throws CallError, InterruptedException {
-        return (Boolean)service.call("getIdlePostureEnabled", pChain).get();
+        return (Boolean)service().call("getIdlePostureEnabled", pChain).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getIdlePostureEnabled}.
+    * This function gets the status of idle posture management on a chain.
+Chain name can be "Body", "Arms", "LArm", "RArm", "Legs" or "Head".
+
+    * 
+    * @param pChain  Chain name.
+    * @return True if breathing animation is enabled on the chain.
+    */
+    public ALFuture<Boolean> getIdlePostureEnabledAsync(String pChain) throws CallError {
+        return ALFuture.of(service().<Boolean>call("getIdlePostureEnabled", pChain));
     }
 
     /**
@@ -2321,7 +4820,17 @@ Chain name can be "Body", "Arms", "LArm", "RArm", "Legs" or "Head".
     * @return An ALValue containing an ALValue for each task. The inner ALValue contains: Name, MotionID
     */
     public java.lang.Object getTaskList() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getTaskList").get();
+        return (java.lang.Object)service().call("getTaskList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getTaskList}.
+    * Gets an ALValue structure describing the tasks in the Task List
+    * 
+    * @return An ALValue containing an ALValue for each task. The inner ALValue contains: Name, MotionID
+    */
+    public ALFuture<java.lang.Object> getTaskListAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getTaskList"));
     }
 
     /**
@@ -2331,233 +4840,659 @@ Chain name can be "Body", "Arms", "LArm", "RArm", "Legs" or "Head".
     * @return True if the resources are available
     */
     public Boolean areResourcesAvailable(List<String> resourceNames) throws CallError, InterruptedException {
-        return (Boolean)service.call("areResourcesAvailable", resourceNames).get();
+        return (Boolean)service().call("areResourcesAvailable", resourceNames).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #areResourcesAvailable}.
+    * Returns true if all the desired resources are available. Only motion API's' blocking call takes resources.
+    * 
+    * @param resourceNames  A vector of resource names such as joints. Use getBodyNames("Body") to have the list of the available joint for your robot.
+    * @return True if the resources are available
+    */
+    public ALFuture<Boolean> areResourcesAvailableAsync(List<String> resourceNames) throws CallError {
+        return ALFuture.of(service().<Boolean>call("areResourcesAvailable", resourceNames));
     }
 
     /**
     * Kills a motion task.
     * 
-    * @param motionTaskID  TaskID of the motion task you want to kill.
-    * @return Return true if the specified motionTaskId has been killed.
+    * @param motionTaskID  TaskID of the motion task you want to kill.
+    * @return Return true if the specified motionTaskId has been killed.
+    */
+    public Boolean killTask(Integer motionTaskID) throws CallError, InterruptedException {
+        return (Boolean)service().call("killTask", motionTaskID).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #killTask}.
+    * Kills a motion task.
+    * 
+    * @param motionTaskID  TaskID of the motion task you want to kill.
+    * @return Return true if the specified motionTaskId has been killed.
+    */
+    public ALFuture<Boolean> killTaskAsync(Integer motionTaskID) throws CallError {
+        return ALFuture.of(service().<Boolean>call("killTask", motionTaskID));
+    }
+
+    /**
+    * Kills all tasks that use any of the resources given. Only motion API's' blocking call takes resources and can be killed. Use getBodyNames("Body") to have the list of the available joint for your robot.
+    * 
+    * @param resourceNames  A vector of resource joint names
+    */
+    public void killTasksUsingResources(List<String> resourceNames) throws CallError, InterruptedException{
+        if (isAsynchronous)
+            service().call("killTasksUsingResources", resourceNames);
+        else
+            service().call("killTasksUsingResources", resourceNames).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #killTasksUsingResources}.
+    * Kills all tasks that use any of the resources given. Only motion API's' blocking call takes resources and can be killed. Use getBodyNames("Body") to have the list of the available joint for your robot.
+    * 
+    * @param resourceNames  A vector of resource joint names
+    */
+    public ALFuture<Void> killTasksUsingResourcesAsync(List<String> resourceNames) throws CallError {
+        return ALFuture.of(service().<Void>call("killTasksUsingResources", resourceNames));
+    }
+
+    /**
+    * DEPRECATED. Use killMove function instead.
+    * 
+    */
+    public void killWalk() throws CallError, InterruptedException{
+        if (isAsynchronous)
+            service().call("killWalk");
+        else
+            service().call("killWalk").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #killWalk}.
+    * DEPRECATED. Use killMove function instead.
+    * 
+    */
+    public ALFuture<Void> killWalkAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("killWalk"));
+    }
+
+    /**
+    * Emergency Stop on Move task: This method will end the move task brutally, without attempting to return to a balanced state. The robot could easily fall.
+    * 
+    */
+    public void killMove() throws CallError, InterruptedException{
+        if (isAsynchronous)
+            service().call("killMove");
+        else
+            service().call("killMove").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #killMove}.
+    * Emergency Stop on Move task: This method will end the move task brutally, without attempting to return to a balanced state. The robot could easily fall.
+    * 
+    */
+    public ALFuture<Void> killMoveAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("killMove"));
+    }
+
+    /**
+    * Kills all tasks.
+    * 
+    */
+    public void killAll() throws CallError, InterruptedException{
+        if (isAsynchronous)
+            service().call("killAll");
+        else
+            service().call("killAll").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #killAll}.
+    * Kills all tasks.
+    * 
+    */
+    public ALFuture<Void> killAllAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("killAll"));
+    }
+
+    /**
+    * Enable / Disable notifications.
+    * 
+    * @param enable  If True enable notifications. If False disable notifications.
+    */
+    public void setEnableNotifications(Boolean enable) throws CallError, InterruptedException{
+        if (isAsynchronous)
+            service().call("setEnableNotifications", enable);
+        else
+            service().call("setEnableNotifications", enable).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setEnableNotifications}.
+    * Enable / Disable notifications.
+    * 
+    * @param enable  If True enable notifications. If False disable notifications.
+    */
+    public ALFuture<Void> setEnableNotificationsAsync(Boolean enable) throws CallError {
+        return ALFuture.of(service().<Void>call("setEnableNotifications", enable));
+    }
+
+    /**
+    * Return true if notifications are active.
+    * 
+    * @return Return True if notifications are active.
+    */
+    public Boolean areNotificationsEnabled() throws CallError, InterruptedException {
+        return (Boolean)service().call("areNotificationsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #areNotificationsEnabled}.
+    * Return true if notifications are active.
+    * 
+    * @return Return True if notifications are active.
+    */
+    public ALFuture<Boolean> areNotificationsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("areNotificationsEnabled"));
+    }
+
+    /**
+    * Gets the list of collision with the ground.
+    * 
+    * @return Vector of collision names and position in torso frame
+    */
+    public java.lang.Object _getGroundCollision() throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("_getGroundCollision").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getGroundCollision}.
+    * Gets the list of collision with the ground.
+    * 
+    * @return Vector of collision names and position in torso frame
+    */
+    public ALFuture<java.lang.Object> _getGroundCollisionAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_getGroundCollision"));
+    }
+
+    /**
+    * Gets the list of collision with the ground.
+    * 
+    * @return Vector of collision names and position in torso frame
+    */
+    public java.lang.Object _getGroundCollisionForForceContact() throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("_getGroundCollisionForForceContact").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getGroundCollisionForForceContact}.
+    * Gets the list of collision with the ground.
+    * 
+    * @return Vector of collision names and position in torso frame
+    */
+    public ALFuture<java.lang.Object> _getGroundCollisionForForceContactAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_getGroundCollisionForForceContact"));
+    }
+
+    /**
+    * Gets the list of collision with the ground.
+    * 
+    * @return Vector of collision names and position in torso frame
+    */
+    public java.lang.Object _getGroundCollisionForFallManager() throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("_getGroundCollisionForFallManager").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getGroundCollisionForFallManager}.
+    * Gets the list of collision with the ground.
+    * 
+    * @return Vector of collision names and position in torso frame
+    */
+    public ALFuture<java.lang.Object> _getGroundCollisionForFallManagerAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_getGroundCollisionForFallManager"));
+    }
+
+    /**
+    * Gets the ground plane transform in torso frame.
+    * 
+    * @return the ground plane transform in torso frame
+    */
+    public List<Float> _getGroundPlaneTf() throws CallError, InterruptedException {
+        return (List<Float>)service().call("_getGroundPlaneTf").get();
+    }
+
+    /**
+    * Primitive version of {@link #_getGroundPlaneTf}, values are returned unboxed.
+    * Gets the ground plane transform in torso frame.
+    * 
+    * @return the ground plane transform in torso frame
+    */
+    public float[] _getGroundPlaneTfF() throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("_getGroundPlaneTf").get());
+    }
+
+    /**
+    * Primitive version of {@link #_getGroundPlaneTf}, values are written into dst and their count is returned.
+    * Gets the ground plane transform in torso frame.
+    * 
+    * @return the ground plane transform in torso frame
+    */
+    public int _getGroundPlaneTfInto(float[] dst) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("_getGroundPlaneTf").get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #_getGroundPlaneTf}.
+    * Gets the ground plane transform in torso frame.
+    * 
+    * @return the ground plane transform in torso frame
+    */
+    public ALFuture<List<Float>> _getGroundPlaneTfAsync() throws CallError {
+        return ALFuture.of(service().<List<Float>>call("_getGroundPlaneTf"));
+    }
+
+    /**
+    * Gets the Normal Force Contact.
+    * 
+    * @return Vector of normal Force contact
+    */
+    public List<Float> _getNormalForceContact() throws CallError, InterruptedException {
+        return (List<Float>)service().call("_getNormalForceContact").get();
+    }
+
+    /**
+    * Primitive version of {@link #_getNormalForceContact}, values are returned unboxed.
+    * Gets the Normal Force Contact.
+    * 
+    * @return Vector of normal Force contact
+    */
+    public float[] _getNormalForceContactF() throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("_getNormalForceContact").get());
+    }
+
+    /**
+    * Primitive version of {@link #_getNormalForceContact}, values are written into dst and their count is returned.
+    * Gets the Normal Force Contact.
+    * 
+    * @return Vector of normal Force contact
+    */
+    public int _getNormalForceContactInto(float[] dst) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("_getNormalForceContact").get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #_getNormalForceContact}.
+    * Gets the Normal Force Contact.
+    * 
+    * @return Vector of normal Force contact
+    */
+    public ALFuture<List<Float>> _getNormalForceContactAsync() throws CallError {
+        return ALFuture.of(service().<List<Float>>call("_getNormalForceContact"));
+    }
+
+    /**
+    * It's a getPosition on Torso with inertial Information.This function is used in chorgraphe in 3D View
+    * 
+    * @return a transform of the Torso position
+    */
+    public List<Float> _getRealTorsoInWorld() throws CallError, InterruptedException {
+        return (List<Float>)service().call("_getRealTorsoInWorld").get();
+    }
+
+    /**
+    * Primitive version of {@link #_getRealTorsoInWorld}, values are returned unboxed.
+    * It's a getPosition on Torso with inertial Information.This function is used in chorgraphe in 3D View
+    * 
+    * @return a transform of the Torso position
+    */
+    public float[] _getRealTorsoInWorldF() throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("_getRealTorsoInWorld").get());
+    }
+
+    /**
+    * Primitive version of {@link #_getRealTorsoInWorld}, values are written into dst and their count is returned.
+    * It's a getPosition on Torso with inertial Information.This function is used in chorgraphe in 3D View
+    * 
+    * @return a transform of the Torso position
+    */
+    public int _getRealTorsoInWorldInto(float[] dst) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("_getRealTorsoInWorld").get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #_getRealTorsoInWorld}.
+    * It's a getPosition on Torso with inertial Information.This function is used in chorgraphe in 3D View
+    * 
+    * @return a transform of the Torso position
+    */
+    public ALFuture<List<Float>> _getRealTorsoInWorldAsync() throws CallError {
+        return ALFuture.of(service().<List<Float>>call("_getRealTorsoInWorld"));
+    }
+
+    /**
+    * 
+    * 
+    * @return Array of ALValue arrays containing the sphere position2D and radius.
+    */
+    public java.lang.Object _getRobotGroundConvexHullDebug() throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("_getRobotGroundConvexHullDebug").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getRobotGroundConvexHullDebug}.
+    * 
+    * 
+    * @return Array of ALValue arrays containing the sphere position2D and radius.
+    */
+    public ALFuture<java.lang.Object> _getRobotGroundConvexHullDebugAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_getRobotGroundConvexHullDebug"));
+    }
+
+    /**
+    * Get the robot convex hull projected on the ground in the ROBOT_FRAME.
+    * 
+    * @return Array of ALValue arrays containing the position2D of each convex hull points.
+    */
+    public java.lang.Object _getRobotGroundConvexHull() throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("_getRobotGroundConvexHull").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getRobotGroundConvexHull}.
+    * Get the robot convex hull projected on the ground in the ROBOT_FRAME.
+    * 
+    * @return Array of ALValue arrays containing the position2D of each convex hull points.
+    */
+    public ALFuture<java.lang.Object> _getRobotGroundConvexHullAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_getRobotGroundConvexHull"));
+    }
+
+    /**
+    * Gets if the joints is moving
+    * 
+    * @param useSensors  If true, sensor information will be returned
+    * @return a vector of boolean.
+    */
+    public List<Integer> _getJointIsMoving(Boolean useSensors) throws CallError, InterruptedException {
+        return (List<Integer>)service().call("_getJointIsMoving", useSensors).get();
+    }
+
+    /**
+    * Primitive version of {@link #_getJointIsMoving}, values are returned unboxed.
+    * Gets if the joints is moving
+    * 
+    * @param useSensors  If true, sensor information will be returned
+    * @return a vector of boolean.
+    */
+    public int[] _getJointIsMovingI(Boolean useSensors) throws CallError, InterruptedException {
+        return toIntArray((List<Integer>)service().call("_getJointIsMoving", useSensors).get());
+    }
+
+    /**
+    * Primitive version of {@link #_getJointIsMoving}, values are written into dst and their count is returned.
+    * Gets if the joints is moving
+    * 
+    * @param useSensors  If true, sensor information will be returned
+    * @return a vector of boolean.
+    */
+    public int _getJointIsMovingInto(int[] dst, Boolean useSensors) throws CallError, InterruptedException {
+        return copyInto((List<Integer>)service().call("_getJointIsMoving", useSensors).get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #_getJointIsMoving}.
+    * Gets if the joints is moving
+    * 
+    * @param useSensors  If true, sensor information will be returned
+    * @return a vector of boolean.
+    */
+    public ALFuture<List<Integer>> _getJointIsMovingAsync(Boolean useSensors) throws CallError {
+        return ALFuture.of(service().<List<Integer>>call("_getJointIsMoving", useSensors));
+    }
+
+    /**
+    * Gets if the chain is moving
+    * 
+    * @param useSensors  If true, sensor information will be returned
+    * @return a vector of boolean.
+    */
+    public List<Integer> _getChainIsMoving(Boolean useSensors) throws CallError, InterruptedException {
+        return (List<Integer>)service().call("_getChainIsMoving", useSensors).get();
+    }
+
+    /**
+    * Primitive version of {@link #_getChainIsMoving}, values are returned unboxed.
+    * Gets if the chain is moving
+    * 
+    * @param useSensors  If true, sensor information will be returned
+    * @return a vector of boolean.
     */
-    public Boolean killTask(Integer motionTaskID) throws CallError, InterruptedException {
-        return (Boolean)service.call("killTask", motionTaskID).get();
+    public int[] _getChainIsMovingI(Boolean useSensors) throws CallError, InterruptedException {
+        return toIntArray((List<Integer>)service().call("_getChainIsMoving", useSensors).get());
     }
 
     /**
-    * Kills all tasks that use any of the resources given. Only motion API's' blocking call takes resources and can be killed. Use getBodyNames("Body") to have the list of the available joint for your robot.
+    * Primitive version of {@link #_getChainIsMoving}, values are written into dst and their count is returned.
+    * Gets if the chain is moving
     * 
-    * @param resourceNames  A vector of resource joint names
+    * @param useSensors  If true, sensor information will be returned
+    * @return a vector of boolean.
     */
-    public void killTasksUsingResources(List<String> resourceNames) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("killTasksUsingResources", resourceNames);
-        else
-            service.call("killTasksUsingResources", resourceNames).get();
+    public int _getChainIsMovingInto(int[] dst, Boolean useSensors) throws CallError, InterruptedException {
+        return copyInto((List<Integer>)service().call("_getChainIsMoving", useSensors).get(), dst);
     }
 
     /**
-    * DEPRECATED. Use killMove function instead.
+    * Asynchronous version of {@link #_getChainIsMoving}.
+    * Gets if the chain is moving
     * 
+    * @param useSensors  If true, sensor information will be returned
+    * @return a vector of boolean.
     */
-    public void killWalk() throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("killWalk");
-        else
-            service.call("killWalk").get();
+    public ALFuture<List<Integer>> _getChainIsMovingAsync(Boolean useSensors) throws CallError {
+        return ALFuture.of(service().<List<Integer>>call("_getChainIsMoving", useSensors));
     }
 
     /**
-    * Emergency Stop on Move task: This method will end the move task brutally, without attempting to return to a balanced state. The robot could easily fall.
+    * In fact, it's an hide way to allow the fall manager to disable the fall manager. Note, it's inverse (true set fall to false)
     * 
+    * @param pEnable  Activate or disactivate the animation Mode.
     */
-    public void killMove() throws CallError, InterruptedException{
+    public void _setAnimationModeEnabled(Boolean pEnable) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("killMove");
+            service().call("_setAnimationModeEnabled", pEnable);
         else
-            service.call("killMove").get();
+            service().call("_setAnimationModeEnabled", pEnable).get();
     }
 
     /**
-    * Kills all tasks.
+    * Asynchronous version of {@link #_setAnimationModeEnabled}.
+    * In fact, it's an hide way to allow the fall manager to disable the fall manager. Note, it's inverse (true set fall to false)
     * 
+    * @param pEnable  Activate or disactivate the animation Mode.
     */
-    public void killAll() throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("killAll");
-        else
-            service.call("killAll").get();
+    public ALFuture<Void> _setAnimationModeEnabledAsync(Boolean pEnable) throws CallError {
+        return ALFuture.of(service().<Void>call("_setAnimationModeEnabled", pEnable));
     }
 
     /**
-    * Enable / Disable notifications.
+    * Get the motion configuration.
     * 
-    * @param enable  If True enable notifications. If False disable notifications.
+    * @param pName  "All", "State", "Mode", "Protection", "Collision", "Basic", "Move", "Tracker", "Walk", "OmniWheel", "Log", "RobotState", "Duration", "Control", "SmartStiffness","WB", "FallManager".
+    * @return string contraining all the information.
     */
-    public void setEnableNotifications(Boolean enable) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("setEnableNotifications", enable);
-        else
-            service.call("setEnableNotifications", enable).get();
+    public String _getMotionConfig(String pName) throws CallError, InterruptedException {
+        return (String)service().call("_getMotionConfig", pName).get();
     }
 
     /**
-    * Return true if notifications are active.
+    * Asynchronous version of {@link #_getMotionConfig}.
+    * Get the motion configuration.
     * 
-    * @return Return True if notifications are active.
+    * @param pName  "All", "State", "Mode", "Protection", "Collision", "Basic", "Move", "Tracker", "Walk", "OmniWheel", "Log", "RobotState", "Duration", "Control", "SmartStiffness","WB", "FallManager".
+    * @return string contraining all the information.
     */
-    public Boolean areNotificationsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("areNotificationsEnabled").get();
+    public ALFuture<String> _getMotionConfigAsync(String pName) throws CallError {
+        return ALFuture.of(service().<String>call("_getMotionConfig", pName));
     }
 
     /**
-    * Gets the list of collision with the ground.
+    * Gets the support polygon
     * 
-    * @return Vector of collision names and position in torso frame
+    * @return A vector containing the x,y coordinates of each of the outer points of the support polygon in frame robot.
     */
-    public java.lang.Object _getGroundCollision() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_getGroundCollision").get();
+    public List<Float> _getSupportPolygon() throws CallError, InterruptedException {
+        return (List<Float>)service().call("_getSupportPolygon").get();
     }
 
     /**
-    * Gets the list of collision with the ground.
+    * Primitive version of {@link #_getSupportPolygon}, values are returned unboxed.
+    * Gets the support polygon
     * 
-    * @return Vector of collision names and position in torso frame
+    * @return A vector containing the x,y coordinates of each of the outer points of the support polygon in frame robot.
     */
-    public java.lang.Object _getGroundCollisionForForceContact() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_getGroundCollisionForForceContact").get();
+    public float[] _getSupportPolygonF() throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("_getSupportPolygon").get());
     }
 
     /**
-    * Gets the list of collision with the ground.
+    * Primitive version of {@link #_getSupportPolygon}, values are written into dst and their count is returned.
+    * Gets the support polygon
     * 
-    * @return Vector of collision names and position in torso frame
+    * @return A vector containing the x,y coordinates of each of the outer points of the support polygon in frame robot.
     */
-    public java.lang.Object _getGroundCollisionForFallManager() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_getGroundCollisionForFallManager").get();
+    public int _getSupportPolygonInto(float[] dst) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("_getSupportPolygon").get(), dst);
     }
 
     /**
-    * Gets the ground plane transform in torso frame.
+    * Asynchronous version of {@link #_getSupportPolygon}.
+    * Gets the support polygon
     * 
-    * @return the ground plane transform in torso frame
+    * @return A vector containing the x,y coordinates of each of the outer points of the support polygon in frame robot.
     */
-    public List<Float> _getGroundPlaneTf() throws CallError, InterruptedException {
-        return (List<Float>)service.call("_getGroundPlaneTf").get();
+    public ALFuture<List<Float>> _getSupportPolygonAsync() throws CallError {
+        return ALFuture.of(service().<List<Float>>call("_getSupportPolygon"));
     }
 
     /**
-    * Gets the Normal Force Contact.
+    * Gets the center of the support polygon in frame robot.
     * 
-    * @return Vector of normal Force contact
+    * @return A vector containing the x,y coordinates of the center of the support polygon
     */
-    public List<Float> _getNormalForceContact() throws CallError, InterruptedException {
-        return (List<Float>)service.call("_getNormalForceContact").get();
+    public List<Float> _getSupportPolygonCenter() throws CallError, InterruptedException {
+        return (List<Float>)service().call("_getSupportPolygonCenter").get();
     }
 
     /**
-    * It's a getPosition on Torso with inertial Information.This function is used in chorgraphe in 3D View
+    * Primitive version of {@link #_getSupportPolygonCenter}, values are returned unboxed.
+    * Gets the center of the support polygon in frame robot.
     * 
-    * @return a transform of the Torso position
+    * @return A vector containing the x,y coordinates of the center of the support polygon
     */
-    public List<Float> _getRealTorsoInWorld() throws CallError, InterruptedException {
-        return (List<Float>)service.call("_getRealTorsoInWorld").get();
+    public float[] _getSupportPolygonCenterF() throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("_getSupportPolygonCenter").get());
     }
 
     /**
+    * Primitive version of {@link #_getSupportPolygonCenter}, values are written into dst and their count is returned.
+    * Gets the center of the support polygon in frame robot.
     * 
-    * 
-    * @return Array of ALValue arrays containing the sphere position2D and radius.
+    * @return A vector containing the x,y coordinates of the center of the support polygon
     */
-    public java.lang.Object _getRobotGroundConvexHullDebug() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_getRobotGroundConvexHullDebug").get();
+    public int _getSupportPolygonCenterInto(float[] dst) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("_getSupportPolygonCenter").get(), dst);
     }
 
     /**
-    * Get the robot convex hull projected on the ground in the ROBOT_FRAME.
+    * Asynchronous version of {@link #_getSupportPolygonCenter}.
+    * Gets the center of the support polygon in frame robot.
     * 
-    * @return Array of ALValue arrays containing the position2D of each convex hull points.
+    * @return A vector containing the x,y coordinates of the center of the support polygon
     */
-    public java.lang.Object _getRobotGroundConvexHull() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_getRobotGroundConvexHull").get();
+    public ALFuture<List<Float>> _getSupportPolygonCenterAsync() throws CallError {
+        return ALFuture.of(service().<List<Float>>call("_getSupportPolygonCenter"));
     }
 
     /**
-    * Gets if the joints is moving
+    * Gets the support polygon
     * 
-    * @param useSensors  If true, sensor information will be returned
-    * @return a vector of boolean.
+    * @return A Position3D (x,y,z) coordinates of com in World Space
     */
-    public List<Integer> _getJointIsMoving(Boolean useSensors) throws CallError, InterruptedException {
-        return (List<Integer>)service.call("_getJointIsMoving", useSensors).get();
+    public List<Float> _getComWorld() throws CallError, InterruptedException {
+        return (List<Float>)service().call("_getComWorld").get();
     }
 
     /**
-    * Gets if the chain is moving
+    * Primitive version of {@link #_getComWorld}, values are returned unboxed.
+    * Gets the support polygon
     * 
-    * @param useSensors  If true, sensor information will be returned
-    * @return a vector of boolean.
+    * @return A Position3D (x,y,z) coordinates of com in World Space
     */
-    public List<Integer> _getChainIsMoving(Boolean useSensors) throws CallError, InterruptedException {
-        return (List<Integer>)service.call("_getChainIsMoving", useSensors).get();
+    public float[] _getComWorldF() throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("_getComWorld").get());
     }
 
     /**
-    * In fact, it's an hide way to allow the fall manager to disable the fall manager. Note, it's inverse (true set fall to false)
+    * Primitive version of {@link #_getComWorld}, values are written into dst and their count is returned.
+    * Gets the support polygon
     * 
-    * @param pEnable  Activate or disactivate the animation Mode.
+    * @return A Position3D (x,y,z) coordinates of com in World Space
     */
-    public void _setAnimationModeEnabled(Boolean pEnable) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("_setAnimationModeEnabled", pEnable);
-        else
-            service.call("_setAnimationModeEnabled", pEnable).get();
+    public int _getComWorldInto(float[] dst) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("_getComWorld").get(), dst);
     }
 
     /**
-    * Get the motion configuration.
+    * Asynchronous version of {@link #_getComWorld}.
+    * Gets the support polygon
     * 
-    * @param pName  "All", "State", "Mode", "Protection", "Collision", "Basic", "Move", "Tracker", "Walk", "OmniWheel", "Log", "RobotState", "Duration", "Control", "SmartStiffness","WB", "FallManager".
-    * @return string contraining all the information.
+    * @return A Position3D (x,y,z) coordinates of com in World Space
     */
-    public String _getMotionConfig(String pName) throws CallError, InterruptedException {
-        return (String)service.call("_getMotionConfig", pName).get();
+    public ALFuture<List<Float>> _getComWorldAsync() throws CallError {
+        return ALFuture.of(service().<List<Float>>call("_getComWorld"));
     }
 
     /**
     * Gets the support polygon
     * 
-    * @return A vector containing the x,y coordinates of each of the outer points of the support polygon in frame robot.
+    * @return A Rotation3D (wx,wy,0) coresponding to world rotation
     */
-    public List<Float> _getSupportPolygon() throws CallError, InterruptedException {
-        return (List<Float>)service.call("_getSupportPolygon").get();
+    public List<Float> _getWorldRotation() throws CallError, InterruptedException {
+        return (List<Float>)service().call("_getWorldRotation").get();
     }
 
     /**
-    * Gets the center of the support polygon in frame robot.
+    * Primitive version of {@link #_getWorldRotation}, values are returned unboxed.
+    * Gets the support polygon
     * 
-    * @return A vector containing the x,y coordinates of the center of the support polygon
+    * @return A Rotation3D (wx,wy,0) coresponding to world rotation
     */
-    public List<Float> _getSupportPolygonCenter() throws CallError, InterruptedException {
-        return (List<Float>)service.call("_getSupportPolygonCenter").get();
+    public float[] _getWorldRotationF() throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("_getWorldRotation").get());
     }
 
     /**
+    * Primitive version of {@link #_getWorldRotation}, values are written into dst and their count is returned.
     * Gets the support polygon
     * 
-    * @return A Position3D (x,y,z) coordinates of com in World Space
+    * @return A Rotation3D (wx,wy,0) coresponding to world rotation
     */
-    public List<Float> _getComWorld() throws CallError, InterruptedException {
-        return (List<Float>)service.call("_getComWorld").get();
+    public int _getWorldRotationInto(float[] dst) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("_getWorldRotation").get(), dst);
     }
 
     /**
+    * Asynchronous version of {@link #_getWorldRotation}.
     * Gets the support polygon
     * 
     * @return A Rotation3D (wx,wy,0) coresponding to world rotation
     */
-    public List<Float> _getWorldRotation() throws CallError, InterruptedException {
-        return (List<Float>)service.call("_getWorldRotation").get();
+    public ALFuture<List<Float>> _getWorldRotationAsync() throws CallError {
+        return ALFuture.of(service().<List<Float>>call("_getWorldRotation"));
     }
 
     /**
@@ -2567,9 +5502,19 @@ Chain name can be "Body", "Arms", "LArm", "RArm", "Legs" or "Head".
     */
     public void _fall(Float pFallAngle) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_fall", pFallAngle);
+            service().call("_fall", pFallAngle);
         else
-            service.call("_fall", pFallAngle).get();
+            service().call("_fall", pFallAngle).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_fall}.
+    * Activate the fall task
+    * 
+    * @param pFallAngle  The fall angle in degree.
+    */
+    public ALFuture<Void> _fallAsync(Float pFallAngle) throws CallError {
+        return ALFuture.of(service().<Void>call("_fall", pFallAngle));
     }
 
     /**
@@ -2578,9 +5523,18 @@ Chain name can be "Body", "Arms", "LArm", "RArm", "Legs" or "Head".
     */
     public void _balanceRecovery() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_balanceRecovery");
+            service().call("_balanceRecovery");
         else
-            service.call("_balanceRecovery").get();
+            service().call("_balanceRecovery").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_balanceRecovery}.
+    * Activate the omniwheel task to recover balance.
+    * 
+    */
+    public ALFuture<Void> _balanceRecoveryAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_balanceRecovery"));
     }
 
     /**
@@ -2589,9 +5543,18 @@ Chain name can be "Body", "Arms", "LArm", "RArm", "Legs" or "Head".
     */
     public void _relaxMotorsWhenSitting() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_relaxMotorsWhenSitting");
+            service().call("_relaxMotorsWhenSitting");
         else
-            service.call("_relaxMotorsWhenSitting").get();
+            service().call("_relaxMotorsWhenSitting").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_relaxMotorsWhenSitting}.
+    * A patch to avoid to consume too much current after a SitDown.
+    * 
+    */
+    public ALFuture<Void> _relaxMotorsWhenSittingAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_relaxMotorsWhenSitting"));
     }
 
     /**
@@ -2601,9 +5564,19 @@ Chain name can be "Body", "Arms", "LArm", "RArm", "Legs" or "Head".
     */
     public void _relax(String chainName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_relax", chainName);
+            service().call("_relax", chainName);
         else
-            service.call("_relax", chainName).get();
+            service().call("_relax", chainName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_relax}.
+    * Relax a chain.
+    * 
+    * @param chainName  The name of the chain to relax.
+    */
+    public ALFuture<Void> _relaxAsync(String chainName) throws CallError {
+        return ALFuture.of(service().<Void>call("_relax", chainName));
     }
 
     /**
@@ -2612,9 +5585,18 @@ Chain name can be "Body", "Arms", "LArm", "RArm", "Legs" or "Head".
     */
     public void _resetCartesianUnfeasible() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_resetCartesianUnfeasible");
+            service().call("_resetCartesianUnfeasible");
         else
-            service.call("_resetCartesianUnfeasible").get();
+            service().call("_resetCartesianUnfeasible").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_resetCartesianUnfeasible}.
+    * Reset to false the bool Cartesian Unfeasible: used for testing motion.
+    * 
+    */
+    public ALFuture<Void> _resetCartesianUnfeasibleAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_resetCartesianUnfeasible"));
     }
 
     /**
@@ -2623,9 +5605,18 @@ Chain name can be "Body", "Arms", "LArm", "RArm", "Legs" or "Head".
     */
     public void _setCartesianUnfeasible() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setCartesianUnfeasible");
+            service().call("_setCartesianUnfeasible");
         else
-            service.call("_setCartesianUnfeasible").get();
+            service().call("_setCartesianUnfeasible").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setCartesianUnfeasible}.
+    * et to true the bool Cartesian Unfeasible: used for testing motion.
+    * 
+    */
+    public ALFuture<Void> _setCartesianUnfeasibleAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_setCartesianUnfeasible"));
     }
 
     /**
@@ -2634,7 +5625,17 @@ Chain name can be "Body", "Arms", "LArm", "RArm", "Legs" or "Head".
     * @return True if there are one cartesian unfeasible during one motion cycle since last reset.
     */
     public Integer _getCartesianUnfeasible() throws CallError, InterruptedException {
-        return (Integer)service.call("_getCartesianUnfeasible").get();
+        return (Integer)service().call("_getCartesianUnfeasible").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getCartesianUnfeasible}.
+    * Get the Cartesian Unfeasible state since last reset: used for testing motion.
+    * 
+    * @return True if there are one cartesian unfeasible during one motion cycle since last reset.
+    */
+    public ALFuture<Integer> _getCartesianUnfeasibleAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("_getCartesianUnfeasible"));
     }
 
     /**
@@ -2643,9 +5644,18 @@ Chain name can be "Body", "Arms", "LArm", "RArm", "Legs" or "Head".
     */
     public void _saveWholeBodyDump() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_saveWholeBodyDump");
+            service().call("_saveWholeBodyDump");
         else
-            service.call("_saveWholeBodyDump").get();
+            service().call("_saveWholeBodyDump").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_saveWholeBodyDump}.
+    * Save current whole body dump
+    * 
+    */
+    public ALFuture<Void> _saveWholeBodyDumpAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_saveWholeBodyDump"));
     }
 
     /**
@@ -2654,9 +5664,18 @@ Chain name can be "Body", "Arms", "LArm", "RArm", "Legs" or "Head".
     */
     public void _resetNumJointCommandDiscontinuities() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_resetNumJointCommandDiscontinuities");
+            service().call("_resetNumJointCommandDiscontinuities");
         else
-            service.call("_resetNumJointCommandDiscontinuities").get();
+            service().call("_resetNumJointCommandDiscontinuities").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_resetNumJointCommandDiscontinuities}.
+    * Reset the number of joint command discontinuous updates.
+    * 
+    */
+    public ALFuture<Void> _resetNumJointCommandDiscontinuitiesAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_resetNumJointCommandDiscontinuities"));
     }
 
     /**
@@ -2665,7 +5684,17 @@ Chain name can be "Body", "Arms", "LArm", "RArm", "Legs" or "Head".
     * @return The number of discontinuities since last reset.
     */
     public Integer _getNumJointCommandDiscontinuities() throws CallError, InterruptedException {
-        return (Integer)service.call("_getNumJointCommandDiscontinuities").get();
+        return (Integer)service().call("_getNumJointCommandDiscontinuities").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getNumJointCommandDiscontinuities}.
+    * Get the number of joint command discontinuous updates since last reset.
+    * 
+    * @return The number of discontinuities since last reset.
+    */
+    public ALFuture<Integer> _getNumJointCommandDiscontinuitiesAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("_getNumJointCommandDiscontinuities"));
     }
 
     /**
@@ -2676,9 +5705,20 @@ In fact we set motion command model with sensors information
     */
     public void _resetMotionCommandModelToSensors(java.lang.Object pName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_resetMotionCommandModelToSensors", pName);
+            service().call("_resetMotionCommandModelToSensors", pName);
         else
-            service.call("_resetMotionCommandModelToSensors", pName).get();
+            service().call("_resetMotionCommandModelToSensors", pName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_resetMotionCommandModelToSensors}.
+    * Usefull function to resynchronize ALMotion and DCM 
+In fact we set motion command model with sensors information
+    * 
+    * @param pName  Names the joints, chains, "Body", "JointActuators", "Joints" or "Actuators". 
+    */
+    public ALFuture<Void> _resetMotionCommandModelToSensorsAsync(java.lang.Object pName) throws CallError {
+        return ALFuture.of(service().<Void>call("_resetMotionCommandModelToSensors", pName));
     }
 
     /**
@@ -2688,9 +5728,19 @@ In fact we set motion command model with sensors information
     */
     public void _setSimulationModeEnabled(Boolean pEnable) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setSimulationModeEnabled", pEnable);
+            service().call("_setSimulationModeEnabled", pEnable);
         else
-            service.call("_setSimulationModeEnabled", pEnable).get();
+            service().call("_setSimulationModeEnabled", pEnable).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setSimulationModeEnabled}.
+    * Usefull function to change motion mode to simulation
+    * 
+    * @param pEnable  Enable or Disable motion simulation mode.
+    */
+    public ALFuture<Void> _setSimulationModeEnabledAsync(Boolean pEnable) throws CallError {
+        return ALFuture.of(service().<Void>call("_setSimulationModeEnabled", pEnable));
     }
 
     /**
@@ -2698,7 +5748,16 @@ In fact we set motion command model with sensors information
     * 
     */
     public java.lang.Object _getMotionToDCM() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_getMotionToDCM").get();
+        return (java.lang.Object)service().call("_getMotionToDCM").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getMotionToDCM}.
+    * Get motion to dcm commands
+    * 
+    */
+    public ALFuture<java.lang.Object> _getMotionToDCMAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_getMotionToDCM"));
     }
 
     /**
@@ -2708,7 +5767,18 @@ In fact we set motion command model with sensors information
     * @return offset
     */
     public Float _getBlindZoneOffset(String Name) throws CallError, InterruptedException {
-        return (Float)service.call("_getBlindZoneOffset", Name).get();
+        return (Float)service().call("_getBlindZoneOffset", Name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getBlindZoneOffset}.
+    * Get blind zone offset.
+    * 
+    * @param Name  Blind Zone name. Could be FrontLeft, FrontRight, BackLeft or BackRight
+    * @return offset
+    */
+    public ALFuture<Float> _getBlindZoneOffsetAsync(String Name) throws CallError {
+        return ALFuture.of(service().<Float>call("_getBlindZoneOffset", Name));
     }
 
     /**
@@ -2719,9 +5789,20 @@ In fact we set motion command model with sensors information
     */
     public void _setBlindZoneOffset(String Name, Float Offset) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setBlindZoneOffset", Name, Offset);
+            service().call("_setBlindZoneOffset", Name, Offset);
         else
-            service.call("_setBlindZoneOffset", Name, Offset).get();
+            service().call("_setBlindZoneOffset", Name, Offset).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setBlindZoneOffset}.
+    * Set the blind zone offset.
+    * 
+    * @param Name  Blind Zone name. Could be FrontLeft, FrontRight, BackLeft or BackRight
+    * @param Offset  offset
+    */
+    public ALFuture<Void> _setBlindZoneOffsetAsync(String Name, Float Offset) throws CallError {
+        return ALFuture.of(service().<Void>call("_setBlindZoneOffset", Name, Offset));
     }
 
     /**
@@ -2730,7 +5811,17 @@ In fact we set motion command model with sensors information
     * @return offset
     */
     public Float _getBlindZoneDistance() throws CallError, InterruptedException {
-        return (Float)service.call("_getBlindZoneDistance").get();
+        return (Float)service().call("_getBlindZoneDistance").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getBlindZoneDistance}.
+    * Get the blind zone distance.
+    * 
+    * @return offset
+    */
+    public ALFuture<Float> _getBlindZoneDistanceAsync() throws CallError {
+        return ALFuture.of(service().<Float>call("_getBlindZoneDistance"));
     }
 
     /**
@@ -2740,9 +5831,19 @@ In fact we set motion command model with sensors information
     */
     public void _setBlindZoneDistance(Float Distance) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setBlindZoneDistance", Distance);
+            service().call("_setBlindZoneDistance", Distance);
         else
-            service.call("_setBlindZoneDistance", Distance).get();
+            service().call("_setBlindZoneDistance", Distance).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setBlindZoneDistance}.
+    * Set the blind zone distance.
+    * 
+    * @param Distance  The disatance of the second point of blind zone segments
+    */
+    public ALFuture<Void> _setBlindZoneDistanceAsync(Float Distance) throws CallError {
+        return ALFuture.of(service().<Void>call("_setBlindZoneDistance", Distance));
     }
 
     /**
@@ -2751,7 +5852,17 @@ In fact we set motion command model with sensors information
     * @return the blind zones [[[x, y], ..., [x, y]]...]
     */
     public java.lang.Object _getBlindZones() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_getBlindZones").get();
+        return (java.lang.Object)service().call("_getBlindZones").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getBlindZones}.
+    * Get the blind zones convex polygon.
+    * 
+    * @return the blind zones [[[x, y], ..., [x, y]]...]
+    */
+    public ALFuture<java.lang.Object> _getBlindZonesAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_getBlindZones"));
     }
 
     /**
@@ -2760,7 +5871,17 @@ In fact we set motion command model with sensors information
     * @return the blind zones [[name, [[x1, y1]...[x2, y2]]], ...]
     */
     public java.lang.Object _getBlindZonesWithNames() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_getBlindZonesWithNames").get();
+        return (java.lang.Object)service().call("_getBlindZonesWithNames").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getBlindZonesWithNames}.
+    * Get the blind zones convex polygon with the corresponding names.
+    * 
+    * @return the blind zones [[name, [[x1, y1]...[x2, y2]]], ...]
+    */
+    public ALFuture<java.lang.Object> _getBlindZonesWithNamesAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_getBlindZonesWithNames"));
     }
 
 }
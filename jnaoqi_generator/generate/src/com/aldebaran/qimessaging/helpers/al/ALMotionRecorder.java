@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -23,7 +24,16 @@ public class ALMotionRecorder extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -32,9 +42,18 @@ public class ALMotionRecorder extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -42,7 +61,16 @@ public class ALMotionRecorder extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -51,9 +79,18 @@ public class ALMotionRecorder extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -62,7 +99,17 @@ public class ALMotionRecorder extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -71,7 +118,17 @@ public class ALMotionRecorder extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -80,7 +137,17 @@ public class ALMotionRecorder extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -90,7 +157,18 @@ public class ALMotionRecorder extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -99,7 +177,17 @@ public class ALMotionRecorder extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -110,7 +198,19 @@ public class ALMotionRecorder extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -120,7 +220,18 @@ public class ALMotionRecorder extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -130,9 +241,19 @@ public class ALMotionRecorder extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -141,7 +262,17 @@ public class ALMotionRecorder extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -151,7 +282,18 @@ public class ALMotionRecorder extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -164,9 +306,22 @@ public class ALMotionRecorder extends ALModule {
     */
     public void startInteractiveRecording(List<String> jointsToRecord, Integer nbPoses, Boolean extensionAllowed, Integer mode) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("startInteractiveRecording", jointsToRecord, nbPoses, extensionAllowed, mode);
+            service().call("startInteractiveRecording", jointsToRecord, nbPoses, extensionAllowed, mode);
         else
-            service.call("startInteractiveRecording", jointsToRecord, nbPoses, extensionAllowed, mode).get();
+            service().call("startInteractiveRecording", jointsToRecord, nbPoses, extensionAllowed, mode).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #startInteractiveRecording}.
+    * Start recording the motion in an interactive mode
+    * 
+    * @param jointsToRecord  Names of joints that must be recorded
+    * @param nbPoses  Default number of poses to record
+    * @param extensionAllowed  Set to true to ignore nbPoses and keep recording new poses as long as record is not manually stopped
+    * @param mode  Indicates which interactive mode must be used. 1 : Use right bumper to enslave and left bumper to store the pose  (deprecated); 2 : Use head tap to store the pose
+    */
+    public ALFuture<Void> startInteractiveRecordingAsync(List<String> jointsToRecord, Integer nbPoses, Boolean extensionAllowed, Integer mode) throws CallError {
+        return ALFuture.of(service().<Void>call("startInteractiveRecording", jointsToRecord, nbPoses, extensionAllowed, mode));
     }
 
     /**
@@ -181,9 +336,24 @@ public class ALMotionRecorder extends ALModule {
     */
     public void startPeriodicRecording(List<String> jointsToRecord, Integer nbPoses, Boolean extensionAllowed, Float timeStep, List<String> jointsToReplay, java.lang.Object replayData) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("startPeriodicRecording", jointsToRecord, nbPoses, extensionAllowed, timeStep, jointsToReplay, replayData);
+            service().call("startPeriodicRecording", jointsToRecord, nbPoses, extensionAllowed, timeStep, jointsToReplay, replayData);
         else
-            service.call("startPeriodicRecording", jointsToRecord, nbPoses, extensionAllowed, timeStep, jointsToReplay, replayData).get();
+            service().call("startPeriodicRecording", jointsToRecord, nbPoses, extensionAllowed, timeStep, jointsToReplay, replayData).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #startPeriodicRecording}.
+    * Start recording the motion in a periodic mode
+    * 
+    * @param jointsToRecord  Names of joints that must be recorded
+    * @param nbPoses  Default number of poses to record
+    * @param extensionAllowed  set to true to ignore nbPoses and keep recording new poses as long as record is not manually stopped
+    * @param timeStep  Time in seconds to wait between two poses
+    * @param jointsToReplay  Names of joints that must be replayed
+    * @param replayData  An ALValue holding data for replayed joints. It holds two ALValues. The first one is an ALValue where each line corresponds to a joint, and column elements are times of control points The second one is also an ALValue where each line corresponds to a joint, but column elements are arrays containing [float angle, Handle1, Handle2] elements, where Handle is [int InterpolationType, float dAngle, float dTime] describing the handle offsets relative to the angle and time of the point. The first bezier param describes the handle that controls the curve preceding the point, the second describes the curve following the point.
+    */
+    public ALFuture<Void> startPeriodicRecordingAsync(List<String> jointsToRecord, Integer nbPoses, Boolean extensionAllowed, Float timeStep, List<String> jointsToReplay, java.lang.Object replayData) throws CallError {
+        return ALFuture.of(service().<Void>call("startPeriodicRecording", jointsToRecord, nbPoses, extensionAllowed, timeStep, jointsToReplay, replayData));
     }
 
     /**
@@ -192,7 +362,17 @@ public class ALMotionRecorder extends ALModule {
     * @return Returns the recorded data as an ALValue: [[JointName1,[pos1, pos2, ...]], [JointName2,[pos1, pos2, ...]], ...]
     */
     public java.lang.Object stopAndGetRecording() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("stopAndGetRecording").get();
+        return (java.lang.Object)service().call("stopAndGetRecording").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stopAndGetRecording}.
+    * Stop recording the motion and return data
+    * 
+    * @return Returns the recorded data as an ALValue: [[JointName1,[pos1, pos2, ...]], [JointName2,[pos1, pos2, ...]], ...]
+    */
+    public ALFuture<java.lang.Object> stopAndGetRecordingAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("stopAndGetRecording"));
     }
 
     /**
@@ -204,9 +384,21 @@ public class ALMotionRecorder extends ALModule {
     */
     public void dataChanged(String dataName, java.lang.Object data, String message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("dataChanged", dataName, data, message);
+            service().call("dataChanged", dataName, data, message);
         else
-            service.call("dataChanged", dataName, data, message).get();
+            service().call("dataChanged", dataName, data, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #dataChanged}.
+    * Called by ALMemory when subcription data is updated. INTERNAL
+    * 
+    * @param dataName  Name of the subscribed data.
+    * @param data  Value of the the subscribed data
+    * @param message  The message give when subscribing.
+    */
+    public ALFuture<Void> dataChangedAsync(String dataName, java.lang.Object data, String message) throws CallError {
+        return ALFuture.of(service().<Void>call("dataChanged", dataName, data, message));
     }
 
 }
@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -23,7 +24,16 @@ public class ALNavigation extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -32,9 +42,18 @@ public class ALNavigation extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -42,7 +61,16 @@ public class ALNavigation extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -51,9 +79,18 @@ public class ALNavigation extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -62,7 +99,17 @@ public class ALNavigation extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -71,7 +118,17 @@ public class ALNavigation extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -80,7 +137,17 @@ public class ALNavigation extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -90,7 +157,18 @@ public class ALNavigation extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -99,7 +177,17 @@ public class ALNavigation extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -110,7 +198,19 @@ public class ALNavigation extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -120,7 +220,18 @@ public class ALNavigation extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -130,9 +241,19 @@ public class ALNavigation extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -141,7 +262,17 @@ public class ALNavigation extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -151,7 +282,18 @@ public class ALNavigation extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -161,7 +303,18 @@ public class ALNavigation extends ALModule {
     * @param y  The position along y axis [m].
     */
     public Boolean navigateTo(Float x, Float y) throws CallError, InterruptedException {
-        return (Boolean)service.call("navigateTo", x, y).get();
+        return (Boolean)service().call("navigateTo", x, y).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #navigateTo}.
+    * Makes the robot navigate to a relative metrical target pose2D expressed in FRAME_ROBOT. The robot computes a path to avoid obstacles.
+    * 
+    * @param x  The position along x axis [m].
+    * @param y  The position along y axis [m].
+    */
+    public ALFuture<Boolean> navigateToAsync(Float x, Float y) throws CallError {
+        return ALFuture.of(service().<Boolean>call("navigateTo", x, y));
     }
 
     /**
@@ -172,7 +325,19 @@ public class ALNavigation extends ALModule {
     * @param config  Configuration ALValue. For example, [["SpeedFactor", 0.5]] sets speedFactor to 0.5
     */
     public Boolean navigateTo(Float x, Float y, java.lang.Object config) throws CallError, InterruptedException {
-        return (Boolean)service.call("navigateTo", x, y, config).get();
+        return (Boolean)service().call("navigateTo", x, y, config).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #navigateTo}.
+    * Makes the robot navigate to a relative metrical target pose2D expressed in FRAME_ROBOT. The robot computes a path to avoid obstacles.
+    * 
+    * @param x  The position along x axis [m].
+    * @param y  The position along y axis [m].
+    * @param config  Configuration ALValue. For example, [["SpeedFactor", 0.5]] sets speedFactor to 0.5
+    */
+    public ALFuture<Boolean> navigateToAsync(Float x, Float y, java.lang.Object config) throws CallError {
+        return ALFuture.of(service().<Boolean>call("navigateTo", x, y, config));
     }
 
     /**
@@ -183,7 +348,19 @@ public class ALNavigation extends ALModule {
     * @param theta  Orientation of the robot (rad).
     */
     public Boolean navigateTo(Float x, Float y, Float theta) throws CallError, InterruptedException {
-        return (Boolean)service.call("navigateTo", x, y, theta).get();
+        return (Boolean)service().call("navigateTo", x, y, theta).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #navigateTo}.
+    * Makes the robot navigate to a relative metrical target pose2D expressed in FRAME_ROBOT. The robot computes a path to avoid obstacles.
+    * 
+    * @param x  The position along x axis [m].
+    * @param y  The position along y axis [m].
+    * @param theta  Orientation of the robot (rad).
+    */
+    public ALFuture<Boolean> navigateToAsync(Float x, Float y, Float theta) throws CallError {
+        return ALFuture.of(service().<Boolean>call("navigateTo", x, y, theta));
     }
 
     /**
@@ -195,7 +372,20 @@ public class ALNavigation extends ALModule {
     * @param config  Configuration ALValue. For example, [["SpeedFactor", 0.5]] sets speedFactor to 0.5
     */
     public Boolean navigateTo(Float x, Float y, Float theta, java.lang.Object config) throws CallError, InterruptedException {
-        return (Boolean)service.call("navigateTo", x, y, theta, config).get();
+        return (Boolean)service().call("navigateTo", x, y, theta, config).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #navigateTo}.
+    * Makes the robot navigate to a relative metrical target pose2D expressed in FRAME_ROBOT. The robot computes a path to avoid obstacles.
+    * 
+    * @param x  The position along x axis [m].
+    * @param y  The position along y axis [m].
+    * @param theta  Orientation of the robot (rad).
+    * @param config  Configuration ALValue. For example, [["SpeedFactor", 0.5]] sets speedFactor to 0.5
+    */
+    public ALFuture<Boolean> navigateToAsync(Float x, Float y, Float theta, java.lang.Object config) throws CallError {
+        return ALFuture.of(service().<Boolean>call("navigateTo", x, y, theta, config));
     }
 
     /**
@@ -207,9 +397,21 @@ public class ALNavigation extends ALModule {
     */
     public void moveTo(Float x, Float y, Float theta) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("moveTo", x, y, theta);
+            service().call("moveTo", x, y, theta);
         else
-            service.call("moveTo", x, y, theta).get();
+            service().call("moveTo", x, y, theta).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #moveTo}.
+    * Makes the robot move at the given position.This is a blocking call.
+    * 
+    * @param x  The position along x axis [m].
+    * @param y  The position along y axis [m].
+    * @param theta  The angle around z axis [rad].
+    */
+    public ALFuture<Void> moveToAsync(Float x, Float y, Float theta) throws CallError {
+        return ALFuture.of(service().<Void>call("moveTo", x, y, theta));
     }
 
     /**
@@ -222,9 +424,22 @@ public class ALNavigation extends ALModule {
     */
     public void moveTo(Float x, Float y, Float theta, java.lang.Object moveConfig) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("moveTo", x, y, theta, moveConfig);
+            service().call("moveTo", x, y, theta, moveConfig);
         else
-            service.call("moveTo", x, y, theta, moveConfig).get();
+            service().call("moveTo", x, y, theta, moveConfig).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #moveTo}.
+    * Makes the robot move at the given position.This is a blocking call.
+    * 
+    * @param x  The position along x axis [m].
+    * @param y  The position along y axis [m].
+    * @param theta  The angle around z axis [rad].
+    * @param moveConfig  An ALValue with custom move configuration.
+    */
+    public ALFuture<Void> moveToAsync(Float x, Float y, Float theta, java.lang.Object moveConfig) throws CallError {
+        return ALFuture.of(service().<Void>call("moveTo", x, y, theta, moveConfig));
     }
 
     /**
@@ -236,9 +451,21 @@ public class ALNavigation extends ALModule {
     */
     public void move(Float x, Float y, Float theta) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("move", x, y, theta);
+            service().call("move", x, y, theta);
         else
-            service.call("move", x, y, theta).get();
+            service().call("move", x, y, theta).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #move}.
+    * Makes the robot move at the given speed in S.I. units. This is a blocking call.
+    * 
+    * @param x  The speed along x axis [m.s-1].
+    * @param y  The speed along y axis [m.s-1].
+    * @param theta  The anglular speed around z axis [rad.s-1].
+    */
+    public ALFuture<Void> moveAsync(Float x, Float y, Float theta) throws CallError {
+        return ALFuture.of(service().<Void>call("move", x, y, theta));
     }
 
     /**
@@ -251,9 +478,22 @@ public class ALNavigation extends ALModule {
     */
     public void move(Float x, Float y, Float theta, java.lang.Object moveConfig) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("move", x, y, theta, moveConfig);
+            service().call("move", x, y, theta, moveConfig);
         else
-            service.call("move", x, y, theta, moveConfig).get();
+            service().call("move", x, y, theta, moveConfig).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #move}.
+    * Makes the robot move at the given speed in S.I. units. This is a blocking call.
+    * 
+    * @param x  The speed along x axis [m.s-1].
+    * @param y  The speed along y axis [m.s-1].
+    * @param theta  The anglular speed around z axis [rad.s-1].
+    * @param moveConfig  An ALValue with custom move configuration.
+    */
+    public ALFuture<Void> moveAsync(Float x, Float y, Float theta, java.lang.Object moveConfig) throws CallError {
+        return ALFuture.of(service().<Void>call("move", x, y, theta, moveConfig));
     }
 
     /**
@@ -265,9 +505,21 @@ public class ALNavigation extends ALModule {
     */
     public void moveToward(Float x, Float y, Float theta) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("moveToward", x, y, theta);
+            service().call("moveToward", x, y, theta);
         else
-            service.call("moveToward", x, y, theta).get();
+            service().call("moveToward", x, y, theta).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #moveToward}.
+    * Makes the robot move at the given speed in normalized speed fraction. This is a blocking call.
+    * 
+    * @param x  The speed along x axis [0.0-1.0].
+    * @param y  The speed along y axis [0.0-1.0].
+    * @param theta  The anglular speed around z axis [0.0-1.0].
+    */
+    public ALFuture<Void> moveTowardAsync(Float x, Float y, Float theta) throws CallError {
+        return ALFuture.of(service().<Void>call("moveToward", x, y, theta));
     }
 
     /**
@@ -280,9 +532,22 @@ public class ALNavigation extends ALModule {
     */
     public void moveToward(Float x, Float y, Float theta, java.lang.Object moveConfig) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("moveToward", x, y, theta, moveConfig);
+            service().call("moveToward", x, y, theta, moveConfig);
         else
-            service.call("moveToward", x, y, theta, moveConfig).get();
+            service().call("moveToward", x, y, theta, moveConfig).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #moveToward}.
+    * Makes the robot move at the given speed in normalized speed fraction. This is a blocking call.
+    * 
+    * @param x  The speed along x axis [0.0-1.0].
+    * @param y  The speed along y axis [0.0-1.0].
+    * @param theta  The anglular speed around z axis [0.0-1.0].
+    * @param moveConfig  An ALValue with custom move configuration.
+    */
+    public ALFuture<Void> moveTowardAsync(Float x, Float y, Float theta, java.lang.Object moveConfig) throws CallError {
+        return ALFuture.of(service().<Void>call("moveToward", x, y, theta, moveConfig));
     }
 
     /**
@@ -292,9 +557,19 @@ public class ALNavigation extends ALModule {
     */
     public void _setNavigationConfig(java.lang.Object config) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setNavigationConfig", config);
+            service().call("_setNavigationConfig", config);
         else
-            service.call("_setNavigationConfig", config).get();
+            service().call("_setNavigationConfig", config).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setNavigationConfig}.
+    * Internal Use.
+    * 
+    * @param config  Internal: An array of ALValues [i][0]: name, [i][1]: value
+    */
+    public ALFuture<Void> _setNavigationConfigAsync(java.lang.Object config) throws CallError {
+        return ALFuture.of(service().<Void>call("_setNavigationConfig", config));
     }
 
     /**
@@ -303,9 +578,18 @@ public class ALNavigation extends ALModule {
     */
     public void setSecurityDistance(Float param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setSecurityDistance", param1);
+            service().call("setSecurityDistance", param1);
         else
-            service.call("setSecurityDistance", param1).get();
+            service().call("setSecurityDistance", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setSecurityDistance}.
+    * Distance in meters fromwhich the robot should stop if there is an obstacle.
+    * 
+    */
+    public ALFuture<Void> setSecurityDistanceAsync(Float param1) throws CallError {
+        return ALFuture.of(service().<Void>call("setSecurityDistance", param1));
     }
 
     /**
@@ -313,7 +597,16 @@ public class ALNavigation extends ALModule {
     * 
     */
     public Float getSecurityDistance() throws CallError, InterruptedException {
-        return (Float)service.call("getSecurityDistance").get();
+        return (Float)service().call("getSecurityDistance").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getSecurityDistance}.
+    * Distance in meters fromwhich the robot should stop if there is an obstacle.
+    * 
+    */
+    public ALFuture<Float> getSecurityDistanceAsync() throws CallError {
+        return ALFuture.of(service().<Float>call("getSecurityDistance"));
     }
 
     /**
@@ -322,9 +615,18 @@ public class ALNavigation extends ALModule {
     */
     public void stopNavigateTo() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stopNavigateTo");
+            service().call("stopNavigateTo");
         else
-            service.call("stopNavigateTo").get();
+            service().call("stopNavigateTo").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stopNavigateTo}.
+    * Stops the navigateTo.
+    * 
+    */
+    public ALFuture<Void> stopNavigateToAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("stopNavigateTo"));
     }
 
     /**
@@ -333,9 +635,18 @@ public class ALNavigation extends ALModule {
     */
     public void _setTangentialSecurityDistance(Float param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setTangentialSecurityDistance", param1);
+            service().call("_setTangentialSecurityDistance", param1);
         else
-            service.call("_setTangentialSecurityDistance", param1).get();
+            service().call("_setTangentialSecurityDistance", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setTangentialSecurityDistance}.
+    * Distance in meters fromwhich the robot should stop if there is an obstacle.
+    * 
+    */
+    public ALFuture<Void> _setTangentialSecurityDistanceAsync(Float param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_setTangentialSecurityDistance", param1));
     }
 
     /**
@@ -343,843 +654,1667 @@ public class ALNavigation extends ALModule {
     * 
     */
     public Float _getTangentialSecurityDistance() throws CallError, InterruptedException {
-        return (Float)service.call("_getTangentialSecurityDistance").get();
+        return (Float)service().call("_getTangentialSecurityDistance").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getTangentialSecurityDistance}.
+    * Distance in meters fromwhich the robot should stop if there is an obstacle.
+    * 
+    */
+    public ALFuture<Float> _getTangentialSecurityDistanceAsync() throws CallError {
+        return ALFuture.of(service().<Float>call("_getTangentialSecurityDistance"));
+    }
+
+    /**
+    * Distance in meters fromwhich the robot should stop if there is an obstacle.
+    * 
+    */
+    public Integer _getNavigateToStatus() throws CallError, InterruptedException {
+        return (Integer)service().call("_getNavigateToStatus").get();
     }
 
     /**
+    * Asynchronous version of {@link #_getNavigateToStatus}.
     * Distance in meters fromwhich the robot should stop if there is an obstacle.
     * 
     */
-    public Integer _getNavigateToStatus() throws CallError, InterruptedException {
-        return (Integer)service.call("_getNavigateToStatus").get();
+    public ALFuture<Integer> _getNavigateToStatusAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("_getNavigateToStatus"));
+    }
+
+    /**
+    * Obstacles data.ALArray formatted as follow for each ALValue : [0]:familyName[1]:name[2]:Array containing [x, y] arrays of points in robot frame.Those obstacles are the one used by the secure navigator
+    * 
+    */
+    public java.lang.Object _getObstacleData() throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("_getObstacleData").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getObstacleData}.
+    * Obstacles data.ALArray formatted as follow for each ALValue : [0]:familyName[1]:name[2]:Array containing [x, y] arrays of points in robot frame.Those obstacles are the one used by the secure navigator
+    * 
+    */
+    public ALFuture<java.lang.Object> _getObstacleDataAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_getObstacleData"));
+    }
+
+    /**
+    * Obstacles data.ALArray formatted as follow for each ALValue : [0]:familyName[1]:name[2]:Array containing [x, y] arrays of points in robot frame.Those obstacles are taken from sensors
+    * 
+    */
+    public java.lang.Object _getSensorData() throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("_getSensorData").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getSensorData}.
+    * Obstacles data.ALArray formatted as follow for each ALValue : [0]:familyName[1]:name[2]:Array containing [x, y] arrays of points in robot frame.Those obstacles are taken from sensors
+    * 
+    */
+    public ALFuture<java.lang.Object> _getSensorDataAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_getSensorData"));
+    }
+
+    /**
+    * Obstacles data.ALArray formatted as follow for each ALValue : [0]:familyName[1]:name[2]:Array containing [x, y] arrays of points in robot frame.Those obstacles are taken from sensors
+    * 
+    */
+    public java.lang.Object _getSensorData(String param1) throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("_getSensorData", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getSensorData}.
+    * Obstacles data.ALArray formatted as follow for each ALValue : [0]:familyName[1]:name[2]:Array containing [x, y] arrays of points in robot frame.Those obstacles are taken from sensors
+    * 
+    */
+    public ALFuture<java.lang.Object> _getSensorDataAsync(String param1) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_getSensorData", param1));
+    }
+
+    /**
+    * Obstacles data.ALArray formatted as follow for each ALValue : [0]:familyName[1]:name[2]:Array containing [x, y] arrays of points in robot frame.Those obstacles are taken from sensors
+    * 
+    */
+    public java.lang.Object _getSensorData(List<String> param1) throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("_getSensorData", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getSensorData}.
+    * Obstacles data.ALArray formatted as follow for each ALValue : [0]:familyName[1]:name[2]:Array containing [x, y] arrays of points in robot frame.Those obstacles are taken from sensors
+    * 
+    */
+    public ALFuture<java.lang.Object> _getSensorDataAsync(List<String> param1) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_getSensorData", param1));
+    }
+
+    /**
+    * .
+    * 
+    */
+    public Boolean _subscribeToAll(String param1) throws CallError, InterruptedException {
+        return (Boolean)service().call("_subscribeToAll", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_subscribeToAll}.
+    * .
+    * 
+    */
+    public ALFuture<Boolean> _subscribeToAllAsync(String param1) throws CallError {
+        return ALFuture.of(service().<Boolean>call("_subscribeToAll", param1));
+    }
+
+    /**
+    * Start active sensors.The client needs to specify its name to register.If the client is the only one to register, the sensors are turned on, otherwise they are already started.
+    * 
+    * @param clientName  The client name.
+    */
+    public Boolean _subscribe(String clientName, List<String> param1) throws CallError, InterruptedException {
+        return (Boolean)service().call("_subscribe", clientName, param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_subscribe}.
+    * Start active sensors.The client needs to specify its name to register.If the client is the only one to register, the sensors are turned on, otherwise they are already started.
+    * 
+    * @param clientName  The client name.
+    */
+    public ALFuture<Boolean> _subscribeAsync(String clientName, List<String> param1) throws CallError {
+        return ALFuture.of(service().<Boolean>call("_subscribe", clientName, param1));
+    }
+
+    /**
+    * .
+    * 
+    */
+    public Boolean _unsubscribeFromAll(String param1) throws CallError, InterruptedException {
+        return (Boolean)service().call("_unsubscribeFromAll", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_unsubscribeFromAll}.
+    * .
+    * 
+    */
+    public ALFuture<Boolean> _unsubscribeFromAllAsync(String param1) throws CallError {
+        return ALFuture.of(service().<Boolean>call("_unsubscribeFromAll", param1));
+    }
+
+    /**
+    * Stop active sensors.The client needs to specify its name to unregister.The active sensors are actually stopped if not client is registered anymore.
+    * 
+    * @param clientName  The client name.
+    */
+    public Boolean _unsubscribe(String clientName, List<String> param1) throws CallError, InterruptedException {
+        return (Boolean)service().call("_unsubscribe", clientName, param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_unsubscribe}.
+    * Stop active sensors.The client needs to specify its name to unregister.The active sensors are actually stopped if not client is registered anymore.
+    * 
+    * @param clientName  The client name.
+    */
+    public ALFuture<Boolean> _unsubscribeAsync(String clientName, List<String> param1) throws CallError {
+        return ALFuture.of(service().<Boolean>call("_unsubscribe", clientName, param1));
+    }
+
+    /**
+    * Add a sensor family or a sensor.
+    * 
+    * @param sensor  The sensor family name or name.
+    */
+    public Boolean _addSensor(String sensor) throws CallError, InterruptedException {
+        return (Boolean)service().call("_addSensor", sensor).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_addSensor}.
+    * Add a sensor family or a sensor.
+    * 
+    * @param sensor  The sensor family name or name.
+    */
+    public ALFuture<Boolean> _addSensorAsync(String sensor) throws CallError {
+        return ALFuture.of(service().<Boolean>call("_addSensor", sensor));
+    }
+
+    /**
+    * Remove a sensor family or a sensor.
+    * 
+    * @param sensor  The sensor family name or name.
+    */
+    public Boolean _removeSensor(String sensor) throws CallError, InterruptedException {
+        return (Boolean)service().call("_removeSensor", sensor).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_removeSensor}.
+    * Remove a sensor family or a sensor.
+    * 
+    * @param sensor  The sensor family name or name.
+    */
+    public ALFuture<Boolean> _removeSensorAsync(String sensor) throws CallError {
+        return ALFuture.of(service().<Boolean>call("_removeSensor", sensor));
+    }
+
+    /**
+    * Get trajectory from local navigator.ALArray containing successively x, y and theta coordinates.
+    * 
+    */
+    public java.lang.Object _getTrajectory() throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("_getTrajectory").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getTrajectory}.
+    * Get trajectory from local navigator.ALArray containing successively x, y and theta coordinates.
+    * 
+    */
+    public ALFuture<java.lang.Object> _getTrajectoryAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_getTrajectory"));
+    }
+
+    /**
+    * Set speed factor for local navigator
+    * 
+    */
+    public void _setSpeedFactor(Float param1) throws CallError, InterruptedException{
+        if (isAsynchronous)
+            service().call("_setSpeedFactor", param1);
+        else
+            service().call("_setSpeedFactor", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setSpeedFactor}.
+    * Set speed factor for local navigator
+    * 
+    */
+    public ALFuture<Void> _setSpeedFactorAsync(Float param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_setSpeedFactor", param1));
+    }
+
+    /**
+    * Get obstacle Map from localnavigator. ALValue formatted as follow for each sensor :[[SensorName1 [[x1 y1] [x2 y2] [x3 y3] ...]] [SensorName2 [[x1 y1] [x2 y2] [x3 y3] ...]] ... ]
+    * 
+    */
+    public java.lang.Object _getObstacleMap() throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("_getObstacleMap").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getObstacleMap}.
+    * Get obstacle Map from localnavigator. ALValue formatted as follow for each sensor :[[SensorName1 [[x1 y1] [x2 y2] [x3 y3] ...]] [SensorName2 [[x1 y1] [x2 y2] [x3 y3] ...]] ... ]
+    * 
+    */
+    public ALFuture<java.lang.Object> _getObstacleMapAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_getObstacleMap"));
+    }
+
+    /**
+    * .
+    * 
+    */
+    public void _enableSensorDebug(Boolean param1) throws CallError, InterruptedException{
+        if (isAsynchronous)
+            service().call("_enableSensorDebug", param1);
+        else
+            service().call("_enableSensorDebug", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_enableSensorDebug}.
+    * .
+    * 
+    */
+    public ALFuture<Void> _enableSensorDebugAsync(Boolean param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_enableSensorDebug", param1));
+    }
+
+    /**
+    * .
+    * 
+    */
+    public void _useHeadChecking(Boolean param1) throws CallError, InterruptedException{
+        if (isAsynchronous)
+            service().call("_useHeadChecking", param1);
+        else
+            service().call("_useHeadChecking", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_useHeadChecking}.
+    * .
+    * 
+    */
+    public ALFuture<Void> _useHeadCheckingAsync(Boolean param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_useHeadChecking", param1));
+    }
+
+    /**
+    * .
+    * 
+    */
+    public void _usePathChecking(Boolean param1) throws CallError, InterruptedException{
+        if (isAsynchronous)
+            service().call("_usePathChecking", param1);
+        else
+            service().call("_usePathChecking", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_usePathChecking}.
+    * .
+    * 
+    */
+    public ALFuture<Void> _usePathCheckingAsync(Boolean param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_usePathChecking", param1));
+    }
+
+    /**
+    * .
+    * 
+    */
+    public void _enableClearMap(Boolean param1) throws CallError, InterruptedException{
+        if (isAsynchronous)
+            service().call("_enableClearMap", param1);
+        else
+            service().call("_enableClearMap", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_enableClearMap}.
+    * .
+    * 
+    */
+    public ALFuture<Void> _enableClearMapAsync(Boolean param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_enableClearMap", param1));
+    }
+
+    /**
+    * .
+    * 
+    */
+    public void _clearObstacleMap() throws CallError, InterruptedException{
+        if (isAsynchronous)
+            service().call("_clearObstacleMap");
+        else
+            service().call("_clearObstacleMap").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_clearObstacleMap}.
+    * .
+    * 
+    */
+    public ALFuture<Void> _clearObstacleMapAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_clearObstacleMap"));
+    }
+
+    /**
+    * .
+    * 
+    */
+    public java.lang.Object _getSensorSubscribers() throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("_getSensorSubscribers").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getSensorSubscribers}.
+    * .
+    * 
+    */
+    public ALFuture<java.lang.Object> _getSensorSubscribersAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_getSensorSubscribers"));
+    }
+
+    /**
+    * .
+    * 
+    */
+    public java.lang.Object _getSensorList() throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("_getSensorList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getSensorList}.
+    * .
+    * 
+    */
+    public ALFuture<java.lang.Object> _getSensorListAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_getSensorList"));
+    }
+
+    /**
+    * .
+    * 
+    */
+    public java.lang.Object _getSensorListBySubscriber(String param1) throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("_getSensorListBySubscriber", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getSensorListBySubscriber}.
+    * .
+    * 
+    */
+    public ALFuture<java.lang.Object> _getSensorListBySubscriberAsync(String param1) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_getSensorListBySubscriber", param1));
+    }
+
+    /**
+    * .
+    * 
+    */
+    public java.lang.Object _getActiveSensorList() throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("_getActiveSensorList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getActiveSensorList}.
+    * .
+    * 
+    */
+    public ALFuture<java.lang.Object> _getActiveSensorListAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_getActiveSensorList"));
+    }
+
+    /**
+    * .
+    * 
+    */
+    public Boolean _isSensorEnabled(String param1) throws CallError, InterruptedException {
+        return (Boolean)service().call("_isSensorEnabled", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_isSensorEnabled}.
+    * .
+    * 
+    */
+    public ALFuture<Boolean> _isSensorEnabledAsync(String param1) throws CallError {
+        return ALFuture.of(service().<Boolean>call("_isSensorEnabled", param1));
+    }
+
+    /**
+    * .
+    * 
+    */
+    public java.lang.Object _getSecureNavSensors() throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("_getSecureNavSensors").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getSecureNavSensors}.
+    * .
+    * 
+    */
+    public ALFuture<java.lang.Object> _getSecureNavSensorsAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_getSecureNavSensors"));
+    }
+
+    /**
+    * .
+    * 
+    */
+    public void _enableLogger(Boolean param1) throws CallError, InterruptedException{
+        if (isAsynchronous)
+            service().call("_enableLogger", param1);
+        else
+            service().call("_enableLogger", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_enableLogger}.
+    * .
+    * 
+    */
+    public ALFuture<Void> _enableLoggerAsync(Boolean param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_enableLogger", param1));
+    }
+
+    /**
+    * .
+    * 
+    */
+    public void _setController(Integer param1) throws CallError, InterruptedException{
+        if (isAsynchronous)
+            service().call("_setController", param1);
+        else
+            service().call("_setController", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setController}.
+    * .
+    * 
+    */
+    public ALFuture<Void> _setControllerAsync(Integer param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_setController", param1));
+    }
+
+    /**
+    * .
+    * 
+    */
+    public void _writeTree() throws CallError, InterruptedException{
+        if (isAsynchronous)
+            service().call("_writeTree");
+        else
+            service().call("_writeTree").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_writeTree}.
+    * .
+    * 
+    */
+    public ALFuture<Void> _writeTreeAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_writeTree"));
+    }
+
+    /**
+    * .
+    * 
+    * @param trajectory  An ALValue describing a trajectory.
+    */
+    public Boolean moveAlong(java.lang.Object trajectory) throws CallError, InterruptedException {
+        return (Boolean)service().call("moveAlong", trajectory).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #moveAlong}.
+    * .
+    * 
+    * @param trajectory  An ALValue describing a trajectory.
+    */
+    public ALFuture<Boolean> moveAlongAsync(java.lang.Object trajectory) throws CallError {
+        return ALFuture.of(service().<Boolean>call("moveAlong", trajectory));
+    }
+
+    /**
+    * .
+    * 
+    * @param moveAlongScale  a scale factor
+    * @param allowMove  true if the robot should do any move at all
+    * @param trajectory  An ALValue describing a trajectory.
+    */
+    public Boolean _moveAlong(Float moveAlongScale, Boolean allowMove, java.lang.Object trajectory) throws CallError, InterruptedException {
+        return (Boolean)service().call("_moveAlong", moveAlongScale, allowMove, trajectory).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_moveAlong}.
+    * .
+    * 
+    * @param moveAlongScale  a scale factor
+    * @param allowMove  true if the robot should do any move at all
+    * @param trajectory  An ALValue describing a trajectory.
+    */
+    public ALFuture<Boolean> _moveAlongAsync(Float moveAlongScale, Boolean allowMove, java.lang.Object trajectory) throws CallError {
+        return ALFuture.of(service().<Boolean>call("_moveAlong", moveAlongScale, allowMove, trajectory));
+    }
+
+    /**
+    * .
+    * 
+    */
+    public void _enableSafety(Boolean param1) throws CallError, InterruptedException{
+        if (isAsynchronous)
+            service().call("_enableSafety", param1);
+        else
+            service().call("_enableSafety", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_enableSafety}.
+    * .
+    * 
+    */
+    public ALFuture<Void> _enableSafetyAsync(Boolean param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_enableSafety", param1));
+    }
+
+    /**
+    * .
+    * 
+    */
+    public Boolean _isSafetyEnabled() throws CallError, InterruptedException {
+        return (Boolean)service().call("_isSafetyEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_isSafetyEnabled}.
+    * .
+    * 
+    */
+    public ALFuture<Boolean> _isSafetyEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("_isSafetyEnabled"));
+    }
+
+    /**
+    * .
+    * 
+    */
+    public Boolean _isSafetyLoopRunning() throws CallError, InterruptedException {
+        return (Boolean)service().call("_isSafetyLoopRunning").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_isSafetyLoopRunning}.
+    * .
+    * 
+    */
+    public ALFuture<Boolean> _isSafetyLoopRunningAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("_isSafetyLoopRunning"));
+    }
+
+    /**
+    * .
+    * 
+    */
+    public void _wakeUpCallBack() throws CallError, InterruptedException{
+        if (isAsynchronous)
+            service().call("_wakeUpCallBack");
+        else
+            service().call("_wakeUpCallBack").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_wakeUpCallBack}.
+    * .
+    * 
+    */
+    public ALFuture<Void> _wakeUpCallBackAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_wakeUpCallBack"));
+    }
+
+    /**
+    * .
+    * 
+    */
+    public void _restCallBack(String param1, java.lang.Object param2, String param3) throws CallError, InterruptedException{
+        if (isAsynchronous)
+            service().call("_restCallBack", param1, param2, param3);
+        else
+            service().call("_restCallBack", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_restCallBack}.
+    * .
+    * 
+    */
+    public ALFuture<Void> _restCallBackAsync(String param1, java.lang.Object param2, String param3) throws CallError {
+        return ALFuture.of(service().<Void>call("_restCallBack", param1, param2, param3));
+    }
+
+    /**
+    * .
+    * 
+    */
+    public java.lang.Object _getFreeZoneCenter(Double param1) throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("_getFreeZoneCenter", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getFreeZoneCenter}.
+    * .
+    * 
+    */
+    public ALFuture<java.lang.Object> _getFreeZoneCenterAsync(Double param1) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_getFreeZoneCenter", param1));
+    }
+
+    /**
+    * .
+    * 
+    */
+    public java.lang.Object _getFreeZoneWithConstraints(Float param1) throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("_getFreeZoneWithConstraints", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getFreeZoneWithConstraints}.
+    * .
+    * 
+    */
+    public ALFuture<java.lang.Object> _getFreeZoneWithConstraintsAsync(Float param1) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_getFreeZoneWithConstraints", param1));
+    }
+
+    /**
+    * .
+    * 
+    */
+    public Integer _updateFreeZone() throws CallError, InterruptedException {
+        return (Integer)service().call("_updateFreeZone").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_updateFreeZone}.
+    * .
+    * 
+    */
+    public ALFuture<Integer> _updateFreeZoneAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("_updateFreeZone"));
+    }
+
+    /**
+    *  Starts a loop to update the mapping of the free space around the robot. 
+    * 
+    */
+    public void startFreeZoneUpdate() throws CallError, InterruptedException{
+        if (isAsynchronous)
+            service().call("startFreeZoneUpdate");
+        else
+            service().call("startFreeZoneUpdate").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #startFreeZoneUpdate}.
+    *  Starts a loop to update the mapping of the free space around the robot. 
+    * 
+    */
+    public ALFuture<Void> startFreeZoneUpdateAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("startFreeZoneUpdate"));
+    }
+
+    /**
+    * .
+    * 
+    */
+    public void _startFreeZoneUpdateWithTimeout(Integer param1) throws CallError, InterruptedException{
+        if (isAsynchronous)
+            service().call("_startFreeZoneUpdateWithTimeout", param1);
+        else
+            service().call("_startFreeZoneUpdateWithTimeout", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_startFreeZoneUpdateWithTimeout}.
+    * .
+    * 
+    */
+    public ALFuture<Void> _startFreeZoneUpdateWithTimeoutAsync(Integer param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_startFreeZoneUpdateWithTimeout", param1));
+    }
+
+    /**
+    * Stops and returns free zone.
+    * 
+    * @param desiredRadius  The radius of the space we want in meters [m].
+    * @param maximumDisplacement  The max distance we accept to move toreach the found place [m].
+    * @return Returns [errorCode, result radius (m), [worldMotionToRobotCenterX (m), worldMotionToRobotCenterY (m)]]
+    */
+    public java.lang.Object stopAndComputeFreeZone(Float desiredRadius, Float maximumDisplacement) throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("stopAndComputeFreeZone", desiredRadius, maximumDisplacement).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stopAndComputeFreeZone}.
+    * Stops and returns free zone.
+    * 
+    * @param desiredRadius  The radius of the space we want in meters [m].
+    * @param maximumDisplacement  The max distance we accept to move toreach the found place [m].
+    * @return Returns [errorCode, result radius (m), [worldMotionToRobotCenterX (m), worldMotionToRobotCenterY (m)]]
+    */
+    public ALFuture<java.lang.Object> stopAndComputeFreeZoneAsync(Float desiredRadius, Float maximumDisplacement) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("stopAndComputeFreeZone", desiredRadius, maximumDisplacement));
+    }
+
+    /**
+    * .
+    * 
+    */
+    public void _writeFreeZone() throws CallError, InterruptedException{
+        if (isAsynchronous)
+            service().call("_writeFreeZone");
+        else
+            service().call("_writeFreeZone").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_writeFreeZone}.
+    * .
+    * 
+    */
+    public ALFuture<Void> _writeFreeZoneAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_writeFreeZone"));
+    }
+
+    /**
+    * .
+    * 
+    */
+    public void _clearFreeZone() throws CallError, InterruptedException{
+        if (isAsynchronous)
+            service().call("_clearFreeZone");
+        else
+            service().call("_clearFreeZone").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_clearFreeZone}.
+    * .
+    * 
+    */
+    public ALFuture<Void> _clearFreeZoneAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_clearFreeZone"));
+    }
+
+    /**
+    * .
+    * 
+    */
+    public java.lang.Object _getFreeZoneMap() throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("_getFreeZoneMap").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getFreeZoneMap}.
+    * .
+    * 
+    */
+    public ALFuture<java.lang.Object> _getFreeZoneMapAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_getFreeZoneMap"));
+    }
+
+    /**
+    * .
+    * 
+    */
+    public java.lang.Object _computeFreeZone(Float param1, Float param2) throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("_computeFreeZone", param1, param2).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_computeFreeZone}.
+    * .
+    * 
+    */
+    public ALFuture<java.lang.Object> _computeFreeZoneAsync(Float param1, Float param2) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_computeFreeZone", param1, param2));
+    }
+
+    /**
+    * Returns [errorCode, result radius[centerWorldMotionX, centerWorldMotionY]]
+    * 
+    * @param desiredRadius  The radius of the space we want in meters [m].
+    * @param maximumDisplacement  The max distance we accept to move toreach the found place [m].
+    * @return Returns [errorCode, result radius (m), [worldMotionToRobotCenterX (m), worldMotionToRobotCenterY (m)]]
+    */
+    public java.lang.Object findFreeZone(Float desiredRadius, Float maximumDisplacement) throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("findFreeZone", desiredRadius, maximumDisplacement).get();
     }
 
     /**
-    * Obstacles data.ALArray formatted as follow for each ALValue : [0]:familyName[1]:name[2]:Array containing [x, y] arrays of points in robot frame.Those obstacles are the one used by the secure navigator
+    * Asynchronous version of {@link #findFreeZone}.
+    * Returns [errorCode, result radius[centerWorldMotionX, centerWorldMotionY]]
     * 
+    * @param desiredRadius  The radius of the space we want in meters [m].
+    * @param maximumDisplacement  The max distance we accept to move toreach the found place [m].
+    * @return Returns [errorCode, result radius (m), [worldMotionToRobotCenterX (m), worldMotionToRobotCenterY (m)]]
     */
-    public java.lang.Object _getObstacleData() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_getObstacleData").get();
+    public ALFuture<java.lang.Object> findFreeZoneAsync(Float desiredRadius, Float maximumDisplacement) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("findFreeZone", desiredRadius, maximumDisplacement));
     }
 
     /**
-    * Obstacles data.ALArray formatted as follow for each ALValue : [0]:familyName[1]:name[2]:Array containing [x, y] arrays of points in robot frame.Those obstacles are taken from sensors
+    * .
     * 
     */
-    public java.lang.Object _getSensorData() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_getSensorData").get();
+    public void _moveToFreeZoneCenter() throws CallError, InterruptedException{
+        if (isAsynchronous)
+            service().call("_moveToFreeZoneCenter");
+        else
+            service().call("_moveToFreeZoneCenter").get();
     }
 
     /**
-    * Obstacles data.ALArray formatted as follow for each ALValue : [0]:familyName[1]:name[2]:Array containing [x, y] arrays of points in robot frame.Those obstacles are taken from sensors
+    * Asynchronous version of {@link #_moveToFreeZoneCenter}.
+    * .
     * 
     */
-    public java.lang.Object _getSensorData(String param1) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_getSensorData", param1).get();
+    public ALFuture<Void> _moveToFreeZoneCenterAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_moveToFreeZoneCenter"));
     }
 
     /**
-    * Obstacles data.ALArray formatted as follow for each ALValue : [0]:familyName[1]:name[2]:Array containing [x, y] arrays of points in robot frame.Those obstacles are taken from sensors
+    * .
     * 
     */
-    public java.lang.Object _getSensorData(List<String> param1) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_getSensorData", param1).get();
+    public void _stopFreeZoneTasks() throws CallError, InterruptedException{
+        if (isAsynchronous)
+            service().call("_stopFreeZoneTasks");
+        else
+            service().call("_stopFreeZoneTasks").get();
     }
 
     /**
+    * Asynchronous version of {@link #_stopFreeZoneTasks}.
     * .
     * 
     */
-    public Boolean _subscribeToAll(String param1) throws CallError, InterruptedException {
-        return (Boolean)service.call("_subscribeToAll", param1).get();
+    public ALFuture<Void> _stopFreeZoneTasksAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_stopFreeZoneTasks"));
     }
 
     /**
-    * Start active sensors.The client needs to specify its name to register.If the client is the only one to register, the sensors are turned on, otherwise they are already started.
+    * .
     * 
-    * @param clientName  The client name.
     */
-    public Boolean _subscribe(String clientName, List<String> param1) throws CallError, InterruptedException {
-        return (Boolean)service.call("_subscribe", clientName, param1).get();
+    public void _writeDilatedMaps() throws CallError, InterruptedException{
+        if (isAsynchronous)
+            service().call("_writeDilatedMaps");
+        else
+            service().call("_writeDilatedMaps").get();
     }
 
     /**
+    * Asynchronous version of {@link #_writeDilatedMaps}.
     * .
     * 
     */
-    public Boolean _unsubscribeFromAll(String param1) throws CallError, InterruptedException {
-        return (Boolean)service.call("_unsubscribeFromAll", param1).get();
+    public ALFuture<Void> _writeDilatedMapsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_writeDilatedMaps"));
     }
 
     /**
-    * Stop active sensors.The client needs to specify its name to unregister.The active sensors are actually stopped if not client is registered anymore.
+    * .
     * 
-    * @param clientName  The client name.
     */
-    public Boolean _unsubscribe(String clientName, List<String> param1) throws CallError, InterruptedException {
-        return (Boolean)service.call("_unsubscribe", clientName, param1).get();
+    public void _startDiagnosis(List<String> param1) throws CallError, InterruptedException{
+        if (isAsynchronous)
+            service().call("_startDiagnosis", param1);
+        else
+            service().call("_startDiagnosis", param1).get();
     }
 
     /**
-    * Add a sensor family or a sensor.
+    * Asynchronous version of {@link #_startDiagnosis}.
+    * .
     * 
-    * @param sensor  The sensor family name or name.
     */
-    public Boolean _addSensor(String sensor) throws CallError, InterruptedException {
-        return (Boolean)service.call("_addSensor", sensor).get();
+    public ALFuture<Void> _startDiagnosisAsync(List<String> param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_startDiagnosis", param1));
     }
 
     /**
-    * Remove a sensor family or a sensor.
+    * .
     * 
-    * @param sensor  The sensor family name or name.
     */
-    public Boolean _removeSensor(String sensor) throws CallError, InterruptedException {
-        return (Boolean)service.call("_removeSensor", sensor).get();
+    public java.lang.Object _stopDiagnosis() throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("_stopDiagnosis").get();
     }
 
     /**
-    * Get trajectory from local navigator.ALArray containing successively x, y and theta coordinates.
+    * Asynchronous version of {@link #_stopDiagnosis}.
+    * .
     * 
     */
-    public java.lang.Object _getTrajectory() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_getTrajectory").get();
+    public ALFuture<java.lang.Object> _stopDiagnosisAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_stopDiagnosis"));
     }
 
     /**
-    * Set speed factor for local navigator
+    * .
     * 
     */
-    public void _setSpeedFactor(Float param1) throws CallError, InterruptedException{
+    public void _passiveDiagnosisCallBack(String param1, java.lang.Object param2, String param3) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setSpeedFactor", param1);
+            service().call("_passiveDiagnosisCallBack", param1, param2, param3);
         else
-            service.call("_setSpeedFactor", param1).get();
+            service().call("_passiveDiagnosisCallBack", param1, param2, param3).get();
     }
 
     /**
-    * Get obstacle Map from localnavigator. ALValue formatted as follow for each sensor :[[SensorName1 [[x1 y1] [x2 y2] [x3 y3] ...]] [SensorName2 [[x1 y1] [x2 y2] [x3 y3] ...]] ... ]
+    * Asynchronous version of {@link #_passiveDiagnosisCallBack}.
+    * .
     * 
     */
-    public java.lang.Object _getObstacleMap() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_getObstacleMap").get();
+    public ALFuture<Void> _passiveDiagnosisCallBackAsync(String param1, java.lang.Object param2, String param3) throws CallError {
+        return ALFuture.of(service().<Void>call("_passiveDiagnosisCallBack", param1, param2, param3));
     }
 
     /**
     * .
     * 
     */
-    public void _enableSensorDebug(Boolean param1) throws CallError, InterruptedException{
+    public void _activeDiagnosisCallBack(String param1, java.lang.Object param2, String param3) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_enableSensorDebug", param1);
+            service().call("_activeDiagnosisCallBack", param1, param2, param3);
         else
-            service.call("_enableSensorDebug", param1).get();
+            service().call("_activeDiagnosisCallBack", param1, param2, param3).get();
     }
 
     /**
+    * Asynchronous version of {@link #_activeDiagnosisCallBack}.
     * .
     * 
     */
-    public void _useHeadChecking(Boolean param1) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("_useHeadChecking", param1);
-        else
-            service.call("_useHeadChecking", param1).get();
+    public ALFuture<Void> _activeDiagnosisCallBackAsync(String param1, java.lang.Object param2, String param3) throws CallError {
+        return ALFuture.of(service().<Void>call("_activeDiagnosisCallBack", param1, param2, param3));
     }
 
     /**
     * .
     * 
     */
-    public void _usePathChecking(Boolean param1) throws CallError, InterruptedException{
+    public void _setObstacleModeForSafety(Integer param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_usePathChecking", param1);
+            service().call("_setObstacleModeForSafety", param1);
         else
-            service.call("_usePathChecking", param1).get();
+            service().call("_setObstacleModeForSafety", param1).get();
     }
 
     /**
+    * Asynchronous version of {@link #_setObstacleModeForSafety}.
     * .
     * 
     */
-    public void _enableClearMap(Boolean param1) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("_enableClearMap", param1);
-        else
-            service.call("_enableClearMap", param1).get();
+    public ALFuture<Void> _setObstacleModeForSafetyAsync(Integer param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_setObstacleModeForSafety", param1));
     }
 
     /**
     * .
     * 
     */
-    public void _clearObstacleMap() throws CallError, InterruptedException{
+    public void _setTimeChecking(Boolean param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_clearObstacleMap");
+            service().call("_setTimeChecking", param1);
         else
-            service.call("_clearObstacleMap").get();
+            service().call("_setTimeChecking", param1).get();
     }
 
     /**
+    * Asynchronous version of {@link #_setTimeChecking}.
     * .
     * 
     */
-    public java.lang.Object _getSensorSubscribers() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_getSensorSubscribers").get();
+    public ALFuture<Void> _setTimeCheckingAsync(Boolean param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_setTimeChecking", param1));
     }
 
     /**
     * .
     * 
     */
-    public java.lang.Object _getSensorList() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_getSensorList").get();
+    public void _onTouchChanged(String param1, java.lang.Object param2, String param3) throws CallError, InterruptedException{
+        if (isAsynchronous)
+            service().call("_onTouchChanged", param1, param2, param3);
+        else
+            service().call("_onTouchChanged", param1, param2, param3).get();
     }
 
     /**
+    * Asynchronous version of {@link #_onTouchChanged}.
     * .
     * 
     */
-    public java.lang.Object _getSensorListBySubscriber(String param1) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_getSensorListBySubscriber", param1).get();
+    public ALFuture<Void> _onTouchChangedAsync(String param1, java.lang.Object param2, String param3) throws CallError {
+        return ALFuture.of(service().<Void>call("_onTouchChanged", param1, param2, param3));
     }
 
     /**
     * .
     * 
     */
-    public java.lang.Object _getActiveSensorList() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_getActiveSensorList").get();
+    public void _setSafetyMemoryTime(Integer param1) throws CallError, InterruptedException{
+        if (isAsynchronous)
+            service().call("_setSafetyMemoryTime", param1);
+        else
+            service().call("_setSafetyMemoryTime", param1).get();
     }
 
     /**
+    * Asynchronous version of {@link #_setSafetyMemoryTime}.
     * .
     * 
     */
-    public Boolean _isSensorEnabled(String param1) throws CallError, InterruptedException {
-        return (Boolean)service.call("_isSensorEnabled", param1).get();
+    public ALFuture<Void> _setSafetyMemoryTimeAsync(Integer param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_setSafetyMemoryTime", param1));
     }
 
     /**
     * .
     * 
     */
-    public java.lang.Object _getSecureNavSensors() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_getSecureNavSensors").get();
+    public Integer _getSafetyMemoryTime() throws CallError, InterruptedException {
+        return (Integer)service().call("_getSafetyMemoryTime").get();
     }
 
     /**
+    * Asynchronous version of {@link #_getSafetyMemoryTime}.
     * .
     * 
     */
-    public void _enableLogger(Boolean param1) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("_enableLogger", param1);
-        else
-            service.call("_enableLogger", param1).get();
+    public ALFuture<Integer> _getSafetyMemoryTimeAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("_getSafetyMemoryTime"));
     }
 
     /**
     * .
     * 
     */
-    public void _setController(Integer param1) throws CallError, InterruptedException{
+    public void _setPublishBlindZones(Boolean param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setController", param1);
+            service().call("_setPublishBlindZones", param1);
         else
-            service.call("_setController", param1).get();
+            service().call("_setPublishBlindZones", param1).get();
     }
 
     /**
+    * Asynchronous version of {@link #_setPublishBlindZones}.
     * .
     * 
     */
-    public void _writeTree() throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("_writeTree");
-        else
-            service.call("_writeTree").get();
+    public ALFuture<Void> _setPublishBlindZonesAsync(Boolean param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_setPublishBlindZones", param1));
     }
 
     /**
     * .
     * 
-    * @param trajectory  An ALValue describing a trajectory.
     */
-    public Boolean moveAlong(java.lang.Object trajectory) throws CallError, InterruptedException {
-        return (Boolean)service.call("moveAlong", trajectory).get();
+    public Boolean _getPublishBlindZones() throws CallError, InterruptedException {
+        return (Boolean)service().call("_getPublishBlindZones").get();
     }
 
     /**
+    * Asynchronous version of {@link #_getPublishBlindZones}.
     * .
     * 
-    * @param moveAlongScale  a scale factor
-    * @param allowMove  true if the robot should do any move at all
-    * @param trajectory  An ALValue describing a trajectory.
     */
-    public Boolean _moveAlong(Float moveAlongScale, Boolean allowMove, java.lang.Object trajectory) throws CallError, InterruptedException {
-        return (Boolean)service.call("_moveAlong", moveAlongScale, allowMove, trajectory).get();
+    public ALFuture<Boolean> _getPublishBlindZonesAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("_getPublishBlindZones"));
     }
 
     /**
     * .
     * 
     */
-    public void _enableSafety(Boolean param1) throws CallError, InterruptedException{
+    public void _setPublishCollisionObstacle(Boolean param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_enableSafety", param1);
+            service().call("_setPublishCollisionObstacle", param1);
         else
-            service.call("_enableSafety", param1).get();
+            service().call("_setPublishCollisionObstacle", param1).get();
     }
 
     /**
+    * Asynchronous version of {@link #_setPublishCollisionObstacle}.
     * .
     * 
     */
-    public Boolean _isSafetyEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("_isSafetyEnabled").get();
+    public ALFuture<Void> _setPublishCollisionObstacleAsync(Boolean param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_setPublishCollisionObstacle", param1));
     }
 
     /**
     * .
     * 
     */
-    public Boolean _isSafetyLoopRunning() throws CallError, InterruptedException {
-        return (Boolean)service.call("_isSafetyLoopRunning").get();
+    public Boolean _getPublishCollisionObstacle() throws CallError, InterruptedException {
+        return (Boolean)service().call("_getPublishCollisionObstacle").get();
     }
 
     /**
+    * Asynchronous version of {@link #_getPublishCollisionObstacle}.
     * .
     * 
     */
-    public void _wakeUpCallBack() throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("_wakeUpCallBack");
-        else
-            service.call("_wakeUpCallBack").get();
+    public ALFuture<Boolean> _getPublishCollisionObstacleAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("_getPublishCollisionObstacle"));
     }
 
     /**
     * .
     * 
     */
-    public void _restCallBack(String param1, java.lang.Object param2, String param3) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("_restCallBack", param1, param2, param3);
-        else
-            service.call("_restCallBack", param1, param2, param3).get();
+    public Float _getKnownZoneOffset() throws CallError, InterruptedException {
+        return (Float)service().call("_getKnownZoneOffset").get();
     }
 
     /**
+    * Asynchronous version of {@link #_getKnownZoneOffset}.
     * .
     * 
     */
-    public java.lang.Object _getFreeZoneCenter(Double param1) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_getFreeZoneCenter", param1).get();
+    public ALFuture<Float> _getKnownZoneOffsetAsync() throws CallError {
+        return ALFuture.of(service().<Float>call("_getKnownZoneOffset"));
     }
 
     /**
     * .
     * 
     */
-    public java.lang.Object _getFreeZoneWithConstraints(Float param1) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_getFreeZoneWithConstraints", param1).get();
+    public void _setKnownZoneOffset(Float param1) throws CallError, InterruptedException{
+        if (isAsynchronous)
+            service().call("_setKnownZoneOffset", param1);
+        else
+            service().call("_setKnownZoneOffset", param1).get();
     }
 
     /**
+    * Asynchronous version of {@link #_setKnownZoneOffset}.
     * .
     * 
     */
-    public Integer _updateFreeZone() throws CallError, InterruptedException {
-        return (Integer)service.call("_updateFreeZone").get();
-    }
-
-    /**
-    *  Starts a loop to update the mapping of the free space around the robot. 
-    * 
-    */
-    public void startFreeZoneUpdate() throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("startFreeZoneUpdate");
-        else
-            service.call("startFreeZoneUpdate").get();
+    public ALFuture<Void> _setKnownZoneOffsetAsync(Float param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_setKnownZoneOffset", param1));
     }
 
     /**
     * .
     * 
     */
-    public void _startFreeZoneUpdateWithTimeout(Integer param1) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("_startFreeZoneUpdateWithTimeout", param1);
-        else
-            service.call("_startFreeZoneUpdateWithTimeout", param1).get();
+    public Float _getUnknownZoneOffset() throws CallError, InterruptedException {
+        return (Float)service().call("_getUnknownZoneOffset").get();
     }
 
     /**
-    * Stops and returns free zone.
+    * Asynchronous version of {@link #_getUnknownZoneOffset}.
+    * .
     * 
-    * @param desiredRadius  The radius of the space we want in meters [m].
-    * @param maximumDisplacement  The max distance we accept to move toreach the found place [m].
-    * @return Returns [errorCode, result radius (m), [worldMotionToRobotCenterX (m), worldMotionToRobotCenterY (m)]]
     */
-    public java.lang.Object stopAndComputeFreeZone(Float desiredRadius, Float maximumDisplacement) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("stopAndComputeFreeZone", desiredRadius, maximumDisplacement).get();
+    public ALFuture<Float> _getUnknownZoneOffsetAsync() throws CallError {
+        return ALFuture.of(service().<Float>call("_getUnknownZoneOffset"));
     }
 
     /**
     * .
     * 
     */
-    public void _writeFreeZone() throws CallError, InterruptedException{
+    public void _setUnknownZoneOffset(Float param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_writeFreeZone");
+            service().call("_setUnknownZoneOffset", param1);
         else
-            service.call("_writeFreeZone").get();
+            service().call("_setUnknownZoneOffset", param1).get();
     }
 
     /**
+    * Asynchronous version of {@link #_setUnknownZoneOffset}.
     * .
     * 
     */
-    public void _clearFreeZone() throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("_clearFreeZone");
-        else
-            service.call("_clearFreeZone").get();
+    public ALFuture<Void> _setUnknownZoneOffsetAsync(Float param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_setUnknownZoneOffset", param1));
     }
 
     /**
     * .
     * 
     */
-    public java.lang.Object _getFreeZoneMap() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_getFreeZoneMap").get();
+    public Float _getCollisionObstacleDistance() throws CallError, InterruptedException {
+        return (Float)service().call("_getCollisionObstacleDistance").get();
     }
 
     /**
+    * Asynchronous version of {@link #_getCollisionObstacleDistance}.
     * .
     * 
     */
-    public java.lang.Object _computeFreeZone(Float param1, Float param2) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_computeFreeZone", param1, param2).get();
+    public ALFuture<Float> _getCollisionObstacleDistanceAsync() throws CallError {
+        return ALFuture.of(service().<Float>call("_getCollisionObstacleDistance"));
     }
 
     /**
-    * Returns [errorCode, result radius[centerWorldMotionX, centerWorldMotionY]]
+    * .
     * 
-    * @param desiredRadius  The radius of the space we want in meters [m].
-    * @param maximumDisplacement  The max distance we accept to move toreach the found place [m].
-    * @return Returns [errorCode, result radius (m), [worldMotionToRobotCenterX (m), worldMotionToRobotCenterY (m)]]
     */
-    public java.lang.Object findFreeZone(Float desiredRadius, Float maximumDisplacement) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("findFreeZone", desiredRadius, maximumDisplacement).get();
+    public void _setCollisionObstacleDistance(Float param1) throws CallError, InterruptedException{
+        if (isAsynchronous)
+            service().call("_setCollisionObstacleDistance", param1);
+        else
+            service().call("_setCollisionObstacleDistance", param1).get();
     }
 
     /**
+    * Asynchronous version of {@link #_setCollisionObstacleDistance}.
     * .
     * 
     */
-    public void _moveToFreeZoneCenter() throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("_moveToFreeZoneCenter");
-        else
-            service.call("_moveToFreeZoneCenter").get();
+    public ALFuture<Void> _setCollisionObstacleDistanceAsync(Float param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_setCollisionObstacleDistance", param1));
     }
 
     /**
     * .
     * 
     */
-    public void _stopFreeZoneTasks() throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("_stopFreeZoneTasks");
-        else
-            service.call("_stopFreeZoneTasks").get();
+    public Float _getCollisionObstacleRadius() throws CallError, InterruptedException {
+        return (Float)service().call("_getCollisionObstacleRadius").get();
     }
 
     /**
+    * Asynchronous version of {@link #_getCollisionObstacleRadius}.
     * .
     * 
     */
-    public void _writeDilatedMaps() throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("_writeDilatedMaps");
-        else
-            service.call("_writeDilatedMaps").get();
+    public ALFuture<Float> _getCollisionObstacleRadiusAsync() throws CallError {
+        return ALFuture.of(service().<Float>call("_getCollisionObstacleRadius"));
     }
 
     /**
     * .
     * 
     */
-    public void _startDiagnosis(List<String> param1) throws CallError, InterruptedException{
+    public void _setCollisionObstacleRadius(Float param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_startDiagnosis", param1);
+            service().call("_setCollisionObstacleRadius", param1);
         else
-            service.call("_startDiagnosis", param1).get();
+            service().call("_setCollisionObstacleRadius", param1).get();
     }
 
     /**
+    * Asynchronous version of {@link #_setCollisionObstacleRadius}.
     * .
     * 
     */
-    public java.lang.Object _stopDiagnosis() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_stopDiagnosis").get();
+    public ALFuture<Void> _setCollisionObstacleRadiusAsync(Float param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_setCollisionObstacleRadius", param1));
     }
 
     /**
     * .
     * 
     */
-    public void _passiveDiagnosisCallBack(String param1, java.lang.Object param2, String param3) throws CallError, InterruptedException{
+    public void _setBlindZoneMode(Integer param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_passiveDiagnosisCallBack", param1, param2, param3);
+            service().call("_setBlindZoneMode", param1);
         else
-            service.call("_passiveDiagnosisCallBack", param1, param2, param3).get();
+            service().call("_setBlindZoneMode", param1).get();
     }
 
     /**
+    * Asynchronous version of {@link #_setBlindZoneMode}.
     * .
     * 
     */
-    public void _activeDiagnosisCallBack(String param1, java.lang.Object param2, String param3) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("_activeDiagnosisCallBack", param1, param2, param3);
-        else
-            service.call("_activeDiagnosisCallBack", param1, param2, param3).get();
+    public ALFuture<Void> _setBlindZoneModeAsync(Integer param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_setBlindZoneMode", param1));
     }
 
     /**
     * .
     * 
     */
-    public void _setObstacleModeForSafety(Integer param1) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("_setObstacleModeForSafety", param1);
-        else
-            service.call("_setObstacleModeForSafety", param1).get();
+    public Integer _getBlindZoneMode() throws CallError, InterruptedException {
+        return (Integer)service().call("_getBlindZoneMode").get();
     }
 
     /**
+    * Asynchronous version of {@link #_getBlindZoneMode}.
     * .
     * 
     */
-    public void _setTimeChecking(Boolean param1) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("_setTimeChecking", param1);
-        else
-            service.call("_setTimeChecking", param1).get();
+    public ALFuture<Integer> _getBlindZoneModeAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("_getBlindZoneMode"));
     }
 
     /**
     * .
     * 
     */
-    public void _onTouchChanged(String param1, java.lang.Object param2, String param3) throws CallError, InterruptedException{
+    public void _setUseHardwareBlindZoneSensor(Boolean param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onTouchChanged", param1, param2, param3);
+            service().call("_setUseHardwareBlindZoneSensor", param1);
         else
-            service.call("_onTouchChanged", param1, param2, param3).get();
+            service().call("_setUseHardwareBlindZoneSensor", param1).get();
     }
 
     /**
+    * Asynchronous version of {@link #_setUseHardwareBlindZoneSensor}.
     * .
     * 
     */
-    public void _setSafetyMemoryTime(Integer param1) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("_setSafetyMemoryTime", param1);
-        else
-            service.call("_setSafetyMemoryTime", param1).get();
+    public ALFuture<Void> _setUseHardwareBlindZoneSensorAsync(Boolean param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_setUseHardwareBlindZoneSensor", param1));
     }
 
     /**
     * .
     * 
     */
-    public Integer _getSafetyMemoryTime() throws CallError, InterruptedException {
-        return (Integer)service.call("_getSafetyMemoryTime").get();
+    public Boolean _getUseHardwareBlindZoneSensor() throws CallError, InterruptedException {
+        return (Boolean)service().call("_getUseHardwareBlindZoneSensor").get();
     }
 
     /**
+    * Asynchronous version of {@link #_getUseHardwareBlindZoneSensor}.
     * .
     * 
     */
-    public void _setPublishBlindZones(Boolean param1) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("_setPublishBlindZones", param1);
-        else
-            service.call("_setPublishBlindZones", param1).get();
+    public ALFuture<Boolean> _getUseHardwareBlindZoneSensorAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("_getUseHardwareBlindZoneSensor"));
     }
 
     /**
     * .
     * 
     */
-    public Boolean _getPublishBlindZones() throws CallError, InterruptedException {
-        return (Boolean)service.call("_getPublishBlindZones").get();
+    public void _setBlindZoneObstacleMaxDist(Float param1) throws CallError, InterruptedException{
+        if (isAsynchronous)
+            service().call("_setBlindZoneObstacleMaxDist", param1);
+        else
+            service().call("_setBlindZoneObstacleMaxDist", param1).get();
     }
 
     /**
+    * Asynchronous version of {@link #_setBlindZoneObstacleMaxDist}.
     * .
     * 
     */
-    public void _setPublishCollisionObstacle(Boolean param1) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("_setPublishCollisionObstacle", param1);
-        else
-            service.call("_setPublishCollisionObstacle", param1).get();
+    public ALFuture<Void> _setBlindZoneObstacleMaxDistAsync(Float param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_setBlindZoneObstacleMaxDist", param1));
     }
 
     /**
     * .
     * 
     */
-    public Boolean _getPublishCollisionObstacle() throws CallError, InterruptedException {
-        return (Boolean)service.call("_getPublishCollisionObstacle").get();
+    public Float _getBlindZoneObstacleMaxDist() throws CallError, InterruptedException {
+        return (Float)service().call("_getBlindZoneObstacleMaxDist").get();
     }
 
     /**
+    * Asynchronous version of {@link #_getBlindZoneObstacleMaxDist}.
     * .
     * 
     */
-    public Float _getKnownZoneOffset() throws CallError, InterruptedException {
-        return (Float)service.call("_getKnownZoneOffset").get();
+    public ALFuture<Float> _getBlindZoneObstacleMaxDistAsync() throws CallError {
+        return ALFuture.of(service().<Float>call("_getBlindZoneObstacleMaxDist"));
     }
 
     /**
     * .
     * 
     */
-    public void _setKnownZoneOffset(Float param1) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("_setKnownZoneOffset", param1);
-        else
-            service.call("_setKnownZoneOffset", param1).get();
+    public String _get3DMap() throws CallError, InterruptedException {
+        return (String)service().call("_get3DMap").get();
     }
 
     /**
+    * Asynchronous version of {@link #_get3DMap}.
     * .
     * 
     */
-    public Float _getUnknownZoneOffset() throws CallError, InterruptedException {
-        return (Float)service.call("_getUnknownZoneOffset").get();
+    public ALFuture<String> _get3DMapAsync() throws CallError {
+        return ALFuture.of(service().<String>call("_get3DMap"));
     }
 
     /**
     * .
     * 
     */
-    public void _setUnknownZoneOffset(Float param1) throws CallError, InterruptedException{
+    public void _eventMoveFailedCallback() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setUnknownZoneOffset", param1);
+            service().call("_eventMoveFailedCallback");
         else
-            service.call("_setUnknownZoneOffset", param1).get();
+            service().call("_eventMoveFailedCallback").get();
     }
 
     /**
+    * Asynchronous version of {@link #_eventMoveFailedCallback}.
     * .
     * 
     */
-    public Float _getCollisionObstacleDistance() throws CallError, InterruptedException {
-        return (Float)service.call("_getCollisionObstacleDistance").get();
+    public ALFuture<Void> _eventMoveFailedCallbackAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_eventMoveFailedCallback"));
     }
 
     /**
     * .
     * 
     */
-    public void _setCollisionObstacleDistance(Float param1) throws CallError, InterruptedException{
+    public void _setFreeZoneTimeout(Integer param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setCollisionObstacleDistance", param1);
+            service().call("_setFreeZoneTimeout", param1);
         else
-            service.call("_setCollisionObstacleDistance", param1).get();
+            service().call("_setFreeZoneTimeout", param1).get();
     }
 
     /**
+    * Asynchronous version of {@link #_setFreeZoneTimeout}.
     * .
     * 
     */
-    public Float _getCollisionObstacleRadius() throws CallError, InterruptedException {
-        return (Float)service.call("_getCollisionObstacleRadius").get();
+    public ALFuture<Void> _setFreeZoneTimeoutAsync(Integer param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_setFreeZoneTimeout", param1));
     }
 
     /**
     * .
     * 
     */
-    public void _setCollisionObstacleRadius(Float param1) throws CallError, InterruptedException{
+    public void _setFreeZoneThreshold(Float param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setCollisionObstacleRadius", param1);
+            service().call("_setFreeZoneThreshold", param1);
         else
-            service.call("_setCollisionObstacleRadius", param1).get();
+            service().call("_setFreeZoneThreshold", param1).get();
     }
 
     /**
+    * Asynchronous version of {@link #_setFreeZoneThreshold}.
     * .
     * 
     */
-    public void _setBlindZoneMode(Integer param1) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("_setBlindZoneMode", param1);
-        else
-            service.call("_setBlindZoneMode", param1).get();
+    public ALFuture<Void> _setFreeZoneThresholdAsync(Float param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_setFreeZoneThreshold", param1));
     }
 
     /**
     * .
     * 
     */
-    public Integer _getBlindZoneMode() throws CallError, InterruptedException {
-        return (Integer)service.call("_getBlindZoneMode").get();
+    public void _setObstaclesNumber(Integer param1) throws CallError, InterruptedException{
+        if (isAsynchronous)
+            service().call("_setObstaclesNumber", param1);
+        else
+            service().call("_setObstaclesNumber", param1).get();
     }
 
     /**
+    * Asynchronous version of {@link #_setObstaclesNumber}.
     * .
     * 
     */
-    public void _setUseHardwareBlindZoneSensor(Boolean param1) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("_setUseHardwareBlindZoneSensor", param1);
-        else
-            service.call("_setUseHardwareBlindZoneSensor", param1).get();
+    public ALFuture<Void> _setObstaclesNumberAsync(Integer param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_setObstaclesNumber", param1));
     }
 
     /**
     * .
     * 
     */
-    public Boolean _getUseHardwareBlindZoneSensor() throws CallError, InterruptedException {
-        return (Boolean)service.call("_getUseHardwareBlindZoneSensor").get();
+    public Integer _getObstaclesNumber() throws CallError, InterruptedException {
+        return (Integer)service().call("_getObstaclesNumber").get();
     }
 
     /**
+    * Asynchronous version of {@link #_getObstaclesNumber}.
     * .
     * 
     */
-    public void _setBlindZoneObstacleMaxDist(Float param1) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("_setBlindZoneObstacleMaxDist", param1);
-        else
-            service.call("_setBlindZoneObstacleMaxDist", param1).get();
+    public ALFuture<Integer> _getObstaclesNumberAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("_getObstaclesNumber"));
     }
 
     /**
     * .
     * 
     */
-    public Float _getBlindZoneObstacleMaxDist() throws CallError, InterruptedException {
-        return (Float)service.call("_getBlindZoneObstacleMaxDist").get();
+    public void _enableTouchType(Integer param1) throws CallError, InterruptedException{
+        if (isAsynchronous)
+            service().call("_enableTouchType", param1);
+        else
+            service().call("_enableTouchType", param1).get();
     }
 
     /**
+    * Asynchronous version of {@link #_enableTouchType}.
     * .
     * 
     */
-    public String _get3DMap() throws CallError, InterruptedException {
-        return (String)service.call("_get3DMap").get();
+    public ALFuture<Void> _enableTouchTypeAsync(Integer param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_enableTouchType", param1));
     }
 
     /**
     * .
     * 
     */
-    public void _eventMoveFailedCallback() throws CallError, InterruptedException{
+    public void _disableTouchType(Integer param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_eventMoveFailedCallback");
+            service().call("_disableTouchType", param1);
         else
-            service.call("_eventMoveFailedCallback").get();
+            service().call("_disableTouchType", param1).get();
     }
 
     /**
+    * Asynchronous version of {@link #_disableTouchType}.
     * .
     * 
     */
-    public void _setFreeZoneTimeout(Integer param1) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("_setFreeZoneTimeout", param1);
-        else
-            service.call("_setFreeZoneTimeout", param1).get();
+    public ALFuture<Void> _disableTouchTypeAsync(Integer param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_disableTouchType", param1));
     }
 
     /**
     * .
     * 
     */
-    public void _setFreeZoneThreshold(Float param1) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("_setFreeZoneThreshold", param1);
-        else
-            service.call("_setFreeZoneThreshold", param1).get();
+    public List<Integer> _getEnabledTouchTypes() throws CallError, InterruptedException {
+        return (List<Integer>)service().call("_getEnabledTouchTypes").get();
     }
 
     /**
+    * Primitive version of {@link #_getEnabledTouchTypes}, values are returned unboxed.
     * .
     * 
     */
-    public void _setObstaclesNumber(Integer param1) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("_setObstaclesNumber", param1);
-        else
-            service.call("_setObstaclesNumber", param1).get();
+    public int[] _getEnabledTouchTypesI() throws CallError, InterruptedException {
+        return toIntArray((List<Integer>)service().call("_getEnabledTouchTypes").get());
     }
 
     /**
+    * Primitive version of {@link #_getEnabledTouchTypes}, values are written into dst and their count is returned.
     * .
     * 
     */
-    public Integer _getObstaclesNumber() throws CallError, InterruptedException {
-        return (Integer)service.call("_getObstaclesNumber").get();
+    public int _getEnabledTouchTypesInto(int[] dst) throws CallError, InterruptedException {
+        return copyInto((List<Integer>)service().call("_getEnabledTouchTypes").get(), dst);
     }
 
     /**
+    * Asynchronous version of {@link #_getEnabledTouchTypes}.
     * .
     * 
     */
-    public void _enableTouchType(Integer param1) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("_enableTouchType", param1);
-        else
-            service.call("_enableTouchType", param1).get();
+    public ALFuture<List<Integer>> _getEnabledTouchTypesAsync() throws CallError {
+        return ALFuture.of(service().<List<Integer>>call("_getEnabledTouchTypes"));
     }
 
     /**
     * .
     * 
     */
-    public void _disableTouchType(Integer param1) throws CallError, InterruptedException{
+    public void _setDataTooOldThresholdMs(Integer param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_disableTouchType", param1);
+            service().call("_setDataTooOldThresholdMs", param1);
         else
-            service.call("_disableTouchType", param1).get();
+            service().call("_setDataTooOldThresholdMs", param1).get();
     }
 
     /**
+    * Asynchronous version of {@link #_setDataTooOldThresholdMs}.
     * .
     * 
     */
-    public List<Integer> _getEnabledTouchTypes() throws CallError, InterruptedException {
-        return (List<Integer>)service.call("_getEnabledTouchTypes").get();
+    public ALFuture<Void> _setDataTooOldThresholdMsAsync(Integer param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_setDataTooOldThresholdMs", param1));
     }
 
     /**
     * .
     * 
     */
-    public void _setDataTooOldThresholdMs(Integer param1) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("_setDataTooOldThresholdMs", param1);
-        else
-            service.call("_setDataTooOldThresholdMs", param1).get();
+    public Integer _getDataTooOldThresholdMs() throws CallError, InterruptedException {
+        return (Integer)service().call("_getDataTooOldThresholdMs").get();
     }
 
     /**
+    * Asynchronous version of {@link #_getDataTooOldThresholdMs}.
     * .
     * 
     */
-    public Integer _getDataTooOldThresholdMs() throws CallError, InterruptedException {
-        return (Integer)service.call("_getDataTooOldThresholdMs").get();
+    public ALFuture<Integer> _getDataTooOldThresholdMsAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("_getDataTooOldThresholdMs"));
     }
 
 }
@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -23,7 +24,16 @@ public class ALPanoramaCompass extends ALModule {
     * 
     */
     public Integer clearAllPanoramas(Boolean param1) throws CallError, InterruptedException {
-        return (Integer)service.call("clearAllPanoramas", param1).get();
+        return (Integer)service().call("clearAllPanoramas", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearAllPanoramas}.
+    * 
+    * 
+    */
+    public ALFuture<Integer> clearAllPanoramasAsync(Boolean param1) throws CallError {
+        return ALFuture.of(service().<Integer>call("clearAllPanoramas", param1));
     }
 
     /**
@@ -31,7 +41,34 @@ public class ALPanoramaCompass extends ALModule {
     * 
     */
     public List<Float> _launchLocalization() throws CallError, InterruptedException {
-        return (List<Float>)service.call("_launchLocalization").get();
+        return (List<Float>)service().call("_launchLocalization").get();
+    }
+
+    /**
+    * Primitive version of {@link #_launchLocalization}, values are returned unboxed.
+    * Forces the robot to localize using the scan.
+    * 
+    */
+    public float[] _launchLocalizationF() throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("_launchLocalization").get());
+    }
+
+    /**
+    * Primitive version of {@link #_launchLocalization}, values are written into dst and their count is returned.
+    * Forces the robot to localize using the scan.
+    * 
+    */
+    public int _launchLocalizationInto(float[] dst) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("_launchLocalization").get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #_launchLocalization}.
+    * Forces the robot to localize using the scan.
+    * 
+    */
+    public ALFuture<List<Float>> _launchLocalizationAsync() throws CallError {
+        return ALFuture.of(service().<List<Float>>call("_launchLocalization"));
     }
 
     /**
@@ -40,7 +77,17 @@ public class ALPanoramaCompass extends ALModule {
     * @param pIdentity  Panorama identity
     */
     public Integer clearPanorama(Integer pIdentity) throws CallError, InterruptedException {
-        return (Integer)service.call("clearPanorama", pIdentity).get();
+        return (Integer)service().call("clearPanorama", pIdentity).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearPanorama}.
+    * Delete all files related to a given panorama in the current working directory
+    * 
+    * @param pIdentity  Panorama identity
+    */
+    public ALFuture<Integer> clearPanoramaAsync(Integer pIdentity) throws CallError {
+        return ALFuture.of(service().<Integer>call("clearPanorama", pIdentity));
     }
 
     /**
@@ -48,7 +95,16 @@ public class ALPanoramaCompass extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -57,9 +113,18 @@ public class ALPanoramaCompass extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -67,7 +132,16 @@ public class ALPanoramaCompass extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -76,9 +150,18 @@ public class ALPanoramaCompass extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -87,7 +170,17 @@ public class ALPanoramaCompass extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -96,7 +189,17 @@ public class ALPanoramaCompass extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -105,7 +208,17 @@ public class ALPanoramaCompass extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -115,7 +228,18 @@ public class ALPanoramaCompass extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -124,7 +248,17 @@ public class ALPanoramaCompass extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -135,7 +269,19 @@ public class ALPanoramaCompass extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -145,7 +291,18 @@ public class ALPanoramaCompass extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -155,9 +312,19 @@ public class ALPanoramaCompass extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -166,7 +333,17 @@ public class ALPanoramaCompass extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -176,7 +353,18 @@ public class ALPanoramaCompass extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -184,7 +372,16 @@ public class ALPanoramaCompass extends ALModule {
     * 
     */
     public Integer setupPanorama() throws CallError, InterruptedException {
-        return (Integer)service.call("setupPanorama").get();
+        return (Integer)service().call("setupPanorama").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setupPanorama}.
+    * Shoot a panorama at the current position.
+    * 
+    */
+    public ALFuture<Integer> setupPanoramaAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("setupPanorama"));
     }
 
     /**
@@ -192,7 +389,16 @@ public class ALPanoramaCompass extends ALModule {
     * 
     */
     public Boolean isDataAvailable() throws CallError, InterruptedException {
-        return (Boolean)service.call("isDataAvailable").get();
+        return (Boolean)service().call("isDataAvailable").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isDataAvailable}.
+    * Returns true if there is some panorama data
+    * 
+    */
+    public ALFuture<Boolean> isDataAvailableAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isDataAvailable"));
     }
 
     /**
@@ -200,7 +406,16 @@ public class ALPanoramaCompass extends ALModule {
     * 
     */
     public java.lang.Object getCurrentPosition() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getCurrentPosition").get();
+        return (java.lang.Object)service().call("getCurrentPosition").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getCurrentPosition}.
+    * Return the current orientation of the robot in the current panorama.
+    * 
+    */
+    public ALFuture<java.lang.Object> getCurrentPositionAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getCurrentPosition"));
     }
 
     /**
@@ -208,7 +423,34 @@ public class ALPanoramaCompass extends ALModule {
     * 
     */
     public List<Float> localizeNoHint() throws CallError, InterruptedException {
-        return (List<Float>)service.call("localizeNoHint").get();
+        return (List<Float>)service().call("localizeNoHint").get();
+    }
+
+    /**
+    * Primitive version of {@link #localizeNoHint}, values are returned unboxed.
+    * Localize the robot using the scan,without hint.
+    * 
+    */
+    public float[] localizeNoHintF() throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("localizeNoHint").get());
+    }
+
+    /**
+    * Primitive version of {@link #localizeNoHint}, values are written into dst and their count is returned.
+    * Localize the robot using the scan,without hint.
+    * 
+    */
+    public int localizeNoHintInto(float[] dst) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("localizeNoHint").get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #localizeNoHint}.
+    * Localize the robot using the scan,without hint.
+    * 
+    */
+    public ALFuture<List<Float>> localizeNoHintAsync() throws CallError {
+        return ALFuture.of(service().<List<Float>>call("localizeNoHint"));
     }
 
     /**
@@ -217,7 +459,37 @@ public class ALPanoramaCompass extends ALModule {
     * @param pMode  Localization mode
     */
     public List<Float> localize() throws CallError, InterruptedException {
-        return (List<Float>)service.call("localize").get();
+        return (List<Float>)service().call("localize").get();
+    }
+
+    /**
+    * Primitive version of {@link #localize}, values are returned unboxed.
+    * Localize the robot using the scan.
+    * 
+    * @param pMode  Localization mode
+    */
+    public float[] localizeF() throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("localize").get());
+    }
+
+    /**
+    * Primitive version of {@link #localize}, values are written into dst and their count is returned.
+    * Localize the robot using the scan.
+    * 
+    * @param pMode  Localization mode
+    */
+    public int localizeInto(float[] dst) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("localize").get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #localize}.
+    * Localize the robot using the scan.
+    * 
+    * @param pMode  Localization mode
+    */
+    public ALFuture<List<Float>> localizeAsync() throws CallError {
+        return ALFuture.of(service().<List<Float>>call("localize"));
     }
 
     /**
@@ -226,7 +498,37 @@ public class ALPanoramaCompass extends ALModule {
     * @param pMode  Localization mode
     */
     public List<Float> localize(Boolean pMode) throws CallError, InterruptedException {
-        return (List<Float>)service.call("localize", pMode).get();
+        return (List<Float>)service().call("localize", pMode).get();
+    }
+
+    /**
+    * Primitive version of {@link #localize}, values are returned unboxed.
+    * Localize the robot using the scan.
+    * 
+    * @param pMode  Localization mode
+    */
+    public float[] localizeF(Boolean pMode) throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("localize", pMode).get());
+    }
+
+    /**
+    * Primitive version of {@link #localize}, values are written into dst and their count is returned.
+    * Localize the robot using the scan.
+    * 
+    * @param pMode  Localization mode
+    */
+    public int localizeInto(float[] dst, Boolean pMode) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("localize", pMode).get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #localize}.
+    * Localize the robot using the scan.
+    * 
+    * @param pMode  Localization mode
+    */
+    public ALFuture<List<Float>> localizeAsync(Boolean pMode) throws CallError {
+        return ALFuture.of(service().<List<Float>>call("localize", pMode));
     }
 
     /**
@@ -235,7 +537,37 @@ public class ALPanoramaCompass extends ALModule {
     * @param pMode  Localization mode
     */
     public List<Float> localize(Integer pMode) throws CallError, InterruptedException {
-        return (List<Float>)service.call("localize", pMode).get();
+        return (List<Float>)service().call("localize", pMode).get();
+    }
+
+    /**
+    * Primitive version of {@link #localize}, values are returned unboxed.
+    * Localize the robot using the scan.
+    * 
+    * @param pMode  Localization mode
+    */
+    public float[] localizeF(Integer pMode) throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("localize", pMode).get());
+    }
+
+    /**
+    * Primitive version of {@link #localize}, values are written into dst and their count is returned.
+    * Localize the robot using the scan.
+    * 
+    * @param pMode  Localization mode
+    */
+    public int localizeInto(float[] dst, Integer pMode) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("localize", pMode).get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #localize}.
+    * Localize the robot using the scan.
+    * 
+    * @param pMode  Localization mode
+    */
+    public ALFuture<List<Float>> localizeAsync(Integer pMode) throws CallError {
+        return ALFuture.of(service().<List<Float>>call("localize", pMode));
     }
 
     /**
@@ -244,7 +576,37 @@ public class ALPanoramaCompass extends ALModule {
     * @param pMode  Localization mode
     */
     public List<Float> localize(Integer pMode, Boolean param1) throws CallError, InterruptedException {
-        return (List<Float>)service.call("localize", pMode, param1).get();
+        return (List<Float>)service().call("localize", pMode, param1).get();
+    }
+
+    /**
+    * Primitive version of {@link #localize}, values are returned unboxed.
+    * Localize the robot using the scan.
+    * 
+    * @param pMode  Localization mode
+    */
+    public float[] localizeF(Integer pMode, Boolean param1) throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("localize", pMode, param1).get());
+    }
+
+    /**
+    * Primitive version of {@link #localize}, values are written into dst and their count is returned.
+    * Localize the robot using the scan.
+    * 
+    * @param pMode  Localization mode
+    */
+    public int localizeInto(float[] dst, Integer pMode, Boolean param1) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("localize", pMode, param1).get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #localize}.
+    * Localize the robot using the scan.
+    * 
+    * @param pMode  Localization mode
+    */
+    public ALFuture<List<Float>> localizeAsync(Integer pMode, Boolean param1) throws CallError {
+        return ALFuture.of(service().<List<Float>>call("localize", pMode, param1));
     }
 
     /**
@@ -253,7 +615,17 @@ public class ALPanoramaCompass extends ALModule {
     * @return Error status.
     */
     public Integer isInPanorama() throws CallError, InterruptedException {
-        return (Integer)service.call("isInPanorama").get();
+        return (Integer)service().call("isInPanorama").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isInPanorama}.
+    * Check if the robot is in the current Panorama.
+    * 
+    * @return Error status.
+    */
+    public ALFuture<Integer> isInPanoramaAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("isInPanorama"));
     }
 
     /**
@@ -261,7 +633,16 @@ public class ALPanoramaCompass extends ALModule {
     * 
     */
     public Boolean isRelocalizationRequired() throws CallError, InterruptedException {
-        return (Boolean)service.call("isRelocalizationRequired").get();
+        return (Boolean)service().call("isRelocalizationRequired").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRelocalizationRequired}.
+    * Is a relocalization movement required.
+    * 
+    */
+    public ALFuture<Boolean> isRelocalizationRequiredAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRelocalizationRequired"));
     }
 
     /**
@@ -271,7 +652,18 @@ public class ALPanoramaCompass extends ALModule {
     * @return Error status.
     */
     public Integer loadPanorama(Integer id) throws CallError, InterruptedException {
-        return (Integer)service.call("loadPanorama", id).get();
+        return (Integer)service().call("loadPanorama", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #loadPanorama}.
+    * Load the panorama corresponding to the input identity from the hard drive. It has to exist.
+    * 
+    * @param id  Identity of the requested Panorama.
+    * @return Error status.
+    */
+    public ALFuture<Integer> loadPanoramaAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Integer>call("loadPanorama", id));
     }
 
     /**
@@ -280,7 +672,17 @@ public class ALPanoramaCompass extends ALModule {
     * @return Return an ALValue containing Panorama identity and contained Frames identity.
     */
     public java.lang.Object getCurrentPanoramaDescriptor() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getCurrentPanoramaDescriptor").get();
+        return (java.lang.Object)service().call("getCurrentPanoramaDescriptor").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getCurrentPanoramaDescriptor}.
+    * 
+    * 
+    * @return Return an ALValue containing Panorama identity and contained Frames identity.
+    */
+    public ALFuture<java.lang.Object> getCurrentPanoramaDescriptorAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getCurrentPanoramaDescriptor"));
     }
 
     /**
@@ -290,7 +692,18 @@ public class ALPanoramaCompass extends ALModule {
     * @return ALValue containing the Frame image part.
     */
     public java.lang.Object getFrame(Integer id, String param1) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getFrame", id, param1).get();
+        return (java.lang.Object)service().call("getFrame", id, param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getFrame}.
+    * Return the Frame corresponding to the input identity. It have to be in the current Panorama
+    * 
+    * @param id  Identity of the resquested Frame.
+    * @return ALValue containing the Frame image part.
+    */
+    public ALFuture<java.lang.Object> getFrameAsync(Integer id, String param1) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getFrame", id, param1));
     }
 
     /**
@@ -299,7 +712,17 @@ public class ALPanoramaCompass extends ALModule {
     * @return Error status.
     */
     public Integer isInPanorama(Integer param1) throws CallError, InterruptedException {
-        return (Integer)service.call("isInPanorama", param1).get();
+        return (Integer)service().call("isInPanorama", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isInPanorama}.
+    * Check if the robot is in the current Panorama.
+    * 
+    * @return Error status.
+    */
+    public ALFuture<Integer> isInPanoramaAsync(Integer param1) throws CallError {
+        return ALFuture.of(service().<Integer>call("isInPanorama", param1));
     }
 
     /**
@@ -307,7 +730,16 @@ public class ALPanoramaCompass extends ALModule {
     * 
     */
     public Integer clearAllPanoramas() throws CallError, InterruptedException {
-        return (Integer)service.call("clearAllPanoramas").get();
+        return (Integer)service().call("clearAllPanoramas").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearAllPanoramas}.
+    * Delete all panorama files in the current working directory
+    * 
+    */
+    public ALFuture<Integer> clearAllPanoramasAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("clearAllPanoramas"));
     }
 
 }
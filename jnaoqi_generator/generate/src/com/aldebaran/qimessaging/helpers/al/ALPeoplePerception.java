@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -24,7 +25,17 @@ public class ALPeoplePerception extends ALModule {
     * @return Time in seconds.
     */
     public Float getTimeBeforePersonDisappears() throws CallError, InterruptedException {
-        return (Float)service.call("getTimeBeforePersonDisappears").get();
+        return (Float)service().call("getTimeBeforePersonDisappears").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getTimeBeforePersonDisappears}.
+    * Gets the time after which a person, supposed not to be in the field of view of the camera disappears if it has not been detected.
+    * 
+    * @return Time in seconds.
+    */
+    public ALFuture<Float> getTimeBeforePersonDisappearsAsync() throws CallError {
+        return ALFuture.of(service().<Float>call("getTimeBeforePersonDisappears"));
     }
 
     /**
@@ -33,7 +44,17 @@ public class ALPeoplePerception extends ALModule {
     * @return True if movement detection is enabled, False otherwise.
     */
     public Boolean isMovementDetectionEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isMovementDetectionEnabled").get();
+        return (Boolean)service().call("isMovementDetectionEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isMovementDetectionEnabled}.
+    * Gets the current status of movement detection in Choregraphe.
+    * 
+    * @return True if movement detection is enabled, False otherwise.
+    */
+    public ALFuture<Boolean> isMovementDetectionEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isMovementDetectionEnabled"));
     }
 
     /**
@@ -42,7 +63,17 @@ public class ALPeoplePerception extends ALModule {
     * @return True if the extractor is currently processing images, False if not
     */
     public Boolean isProcessing() throws CallError, InterruptedException {
-        return (Boolean)service.call("isProcessing").get();
+        return (Boolean)service().call("isProcessing").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isProcessing}.
+    * Gets extractor running status
+    * 
+    * @return True if the extractor is currently processing images, False if not
+    */
+    public ALFuture<Boolean> isProcessingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isProcessing"));
     }
 
     /**
@@ -52,9 +83,19 @@ public class ALPeoplePerception extends ALModule {
     */
     public void setFastModeEnabled(Boolean enable) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setFastModeEnabled", enable);
+            service().call("setFastModeEnabled", enable);
         else
-            service.call("setFastModeEnabled", enable).get();
+            service().call("setFastModeEnabled", enable).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setFastModeEnabled}.
+    * Turns fast mode on or off.
+    * 
+    * @param enable  True to turn it on, False to turn it off.
+    */
+    public ALFuture<Void> setFastModeEnabledAsync(Boolean enable) throws CallError {
+        return ALFuture.of(service().<Void>call("setFastModeEnabled", enable));
     }
 
     /**
@@ -64,9 +105,19 @@ public class ALPeoplePerception extends ALModule {
     */
     public void setGraphicalDisplayEnabled(Boolean enable) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setGraphicalDisplayEnabled", enable);
+            service().call("setGraphicalDisplayEnabled", enable);
         else
-            service.call("setGraphicalDisplayEnabled", enable).get();
+            service().call("setGraphicalDisplayEnabled", enable).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setGraphicalDisplayEnabled}.
+    * Turns graphical display in Choregraphe on or off.
+    * 
+    * @param enable  True to turn it on, False to turn it off.
+    */
+    public ALFuture<Void> setGraphicalDisplayEnabledAsync(Boolean enable) throws CallError {
+        return ALFuture.of(service().<Void>call("setGraphicalDisplayEnabled", enable));
     }
 
     /**
@@ -75,7 +126,17 @@ public class ALPeoplePerception extends ALModule {
     * @return Minimum height in meters.
     */
     public Float getMinimumBodyHeight() throws CallError, InterruptedException {
-        return (Float)service.call("getMinimumBodyHeight").get();
+        return (Float)service().call("getMinimumBodyHeight").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMinimumBodyHeight}.
+    * Gets the current minimum body height used for human detection (3D mode only).
+    * 
+    * @return Minimum height in meters.
+    */
+    public ALFuture<Float> getMinimumBodyHeightAsync() throws CallError {
+        return ALFuture.of(service().<Float>call("getMinimumBodyHeight"));
     }
 
     /**
@@ -85,9 +146,19 @@ public class ALPeoplePerception extends ALModule {
     */
     public void setMinimumBodyHeight(Float height) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setMinimumBodyHeight", height);
+            service().call("setMinimumBodyHeight", height);
         else
-            service.call("setMinimumBodyHeight", height).get();
+            service().call("setMinimumBodyHeight", height).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setMinimumBodyHeight}.
+    * Sets the minimum human body height (3D mode only).
+    * 
+    * @param height  Minimum height in meters.
+    */
+    public ALFuture<Void> setMinimumBodyHeightAsync(Float height) throws CallError {
+        return ALFuture.of(service().<Void>call("setMinimumBodyHeight", height));
     }
 
     /**
@@ -97,9 +168,19 @@ public class ALPeoplePerception extends ALModule {
     */
     public void setMaximumBodyHeight(Float height) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setMaximumBodyHeight", height);
+            service().call("setMaximumBodyHeight", height);
         else
-            service.call("setMaximumBodyHeight", height).get();
+            service().call("setMaximumBodyHeight", height).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setMaximumBodyHeight}.
+    * Sets the maximum human body height (3D mode only).
+    * 
+    * @param height  Maximum height in meters.
+    */
+    public ALFuture<Void> setMaximumBodyHeightAsync(Float height) throws CallError {
+        return ALFuture.of(service().<Void>call("setMaximumBodyHeight", height));
     }
 
     /**
@@ -109,9 +190,19 @@ public class ALPeoplePerception extends ALModule {
     */
     public void setMovementDetectionEnabled(Boolean enable) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setMovementDetectionEnabled", enable);
+            service().call("setMovementDetectionEnabled", enable);
         else
-            service.call("setMovementDetectionEnabled", enable).get();
+            service().call("setMovementDetectionEnabled", enable).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setMovementDetectionEnabled}.
+    * Turns movement detection on or off.
+    * 
+    * @param enable  True to turn it on, False to turn it off.
+    */
+    public ALFuture<Void> setMovementDetectionEnabledAsync(Boolean enable) throws CallError {
+        return ALFuture.of(service().<Void>call("setMovementDetectionEnabled", enable));
     }
 
     /**
@@ -121,9 +212,19 @@ public class ALPeoplePerception extends ALModule {
     */
     public void setTimeBeforePersonDisappears(Float seconds) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setTimeBeforePersonDisappears", seconds);
+            service().call("setTimeBeforePersonDisappears", seconds);
         else
-            service.call("setTimeBeforePersonDisappears", seconds).get();
+            service().call("setTimeBeforePersonDisappears", seconds).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setTimeBeforePersonDisappears}.
+    * Sets the time after which a person, supposed not to be in the field of view of the camera disappears if it has not been detected.
+    * 
+    * @param seconds  Time in seconds.
+    */
+    public ALFuture<Void> setTimeBeforePersonDisappearsAsync(Float seconds) throws CallError {
+        return ALFuture.of(service().<Void>call("setTimeBeforePersonDisappears", seconds));
     }
 
     /**
@@ -133,9 +234,19 @@ public class ALPeoplePerception extends ALModule {
     */
     public void setTimeBeforeVisiblePersonDisappears(Float seconds) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setTimeBeforeVisiblePersonDisappears", seconds);
+            service().call("setTimeBeforeVisiblePersonDisappears", seconds);
         else
-            service.call("setTimeBeforeVisiblePersonDisappears", seconds).get();
+            service().call("setTimeBeforeVisiblePersonDisappears", seconds).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setTimeBeforeVisiblePersonDisappears}.
+    * Sets the time after which a person, supposed to be in the field of view of the camera disappears if it has not been detected.
+    * 
+    * @param seconds  Time in seconds.
+    */
+    public ALFuture<Void> setTimeBeforeVisiblePersonDisappearsAsync(Float seconds) throws CallError {
+        return ALFuture.of(service().<Void>call("setTimeBeforeVisiblePersonDisappears", seconds));
     }
 
     /**
@@ -144,7 +255,17 @@ public class ALPeoplePerception extends ALModule {
     * @return Maximum height in meters.
     */
     public Float getMaximumBodyHeight() throws CallError, InterruptedException {
-        return (Float)service.call("getMaximumBodyHeight").get();
+        return (Float)service().call("getMaximumBodyHeight").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMaximumBodyHeight}.
+    * Gets the current maximum body height used for human detection (3D mode only).
+    * 
+    * @return Maximum height in meters.
+    */
+    public ALFuture<Float> getMaximumBodyHeightAsync() throws CallError {
+        return ALFuture.of(service().<Float>call("getMaximumBodyHeight"));
     }
 
     /**
@@ -154,9 +275,19 @@ public class ALPeoplePerception extends ALModule {
     */
     public void _setTimeBeforeMTMPruning(Float seconds) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setTimeBeforeMTMPruning", seconds);
+            service().call("_setTimeBeforeMTMPruning", seconds);
         else
-            service.call("_setTimeBeforeMTMPruning", seconds).get();
+            service().call("_setTimeBeforeMTMPruning", seconds).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setTimeBeforeMTMPruning}.
+    * Sets the timeout before someone is removed from the MTM.
+    * 
+    * @param seconds  Time in seconds.
+    */
+    public ALFuture<Void> _setTimeBeforeMTMPruningAsync(Float seconds) throws CallError {
+        return ALFuture.of(service().<Void>call("_setTimeBeforeMTMPruning", seconds));
     }
 
     /**
@@ -165,7 +296,17 @@ public class ALPeoplePerception extends ALModule {
     * @return Current mode.
     */
     public String _getDetectionMode() throws CallError, InterruptedException {
-        return (String)service.call("_getDetectionMode").get();
+        return (String)service().call("_getDetectionMode").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getDetectionMode}.
+    * Gets the mode (2D/3D) used for the people detection.
+    * 
+    * @return Current mode.
+    */
+    public ALFuture<String> _getDetectionModeAsync() throws CallError {
+        return ALFuture.of(service().<String>call("_getDetectionMode"));
     }
 
     /**
@@ -175,9 +316,19 @@ public class ALPeoplePerception extends ALModule {
     */
     public void setFaceDetectionEnabled(Boolean enable) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setFaceDetectionEnabled", enable);
+            service().call("setFaceDetectionEnabled", enable);
         else
-            service.call("setFaceDetectionEnabled", enable).get();
+            service().call("setFaceDetectionEnabled", enable).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setFaceDetectionEnabled}.
+    * Turns face detection on or off.
+    * 
+    * @param enable  True to turn it on, False to turn it off.
+    */
+    public ALFuture<Void> setFaceDetectionEnabledAsync(Boolean enable) throws CallError {
+        return ALFuture.of(service().<Void>call("setFaceDetectionEnabled", enable));
     }
 
     /**
@@ -186,7 +337,17 @@ public class ALPeoplePerception extends ALModule {
     * @return Time in seconds.
     */
     public Float getTimeBeforeVisiblePersonDisappears() throws CallError, InterruptedException {
-        return (Float)service.call("getTimeBeforeVisiblePersonDisappears").get();
+        return (Float)service().call("getTimeBeforeVisiblePersonDisappears").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getTimeBeforeVisiblePersonDisappears}.
+    * Gets the time after which a person, supposed to be in the field of view of the camera disappears if it has not been detected.
+    * 
+    * @return Time in seconds.
+    */
+    public ALFuture<Float> getTimeBeforeVisiblePersonDisappearsAsync() throws CallError {
+        return ALFuture.of(service().<Float>call("getTimeBeforeVisiblePersonDisappears"));
     }
 
     /**
@@ -195,7 +356,17 @@ public class ALPeoplePerception extends ALModule {
     * @return True if face detection is enabled, False otherwise.
     */
     public Boolean isFaceDetectionEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isFaceDetectionEnabled").get();
+        return (Boolean)service().call("isFaceDetectionEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isFaceDetectionEnabled}.
+    * Gets the current status of face detection.
+    * 
+    * @return True if face detection is enabled, False otherwise.
+    */
+    public ALFuture<Boolean> isFaceDetectionEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isFaceDetectionEnabled"));
     }
 
     /**
@@ -204,7 +375,17 @@ public class ALPeoplePerception extends ALModule {
     * @return Maximum range in meters.
     */
     public Float getMaximumDetectionRange() throws CallError, InterruptedException {
-        return (Float)service.call("getMaximumDetectionRange").get();
+        return (Float)service().call("getMaximumDetectionRange").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMaximumDetectionRange}.
+    * Gets the current maximum detection and tracking range.
+    * 
+    * @return Maximum range in meters.
+    */
+    public ALFuture<Float> getMaximumDetectionRangeAsync() throws CallError {
+        return ALFuture.of(service().<Float>call("getMaximumDetectionRange"));
     }
 
     /**
@@ -213,7 +394,17 @@ public class ALPeoplePerception extends ALModule {
     * @return True if fast mode is enabled, False otherwise.
     */
     public Boolean isFastModeEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isFastModeEnabled").get();
+        return (Boolean)service().call("isFastModeEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isFastModeEnabled}.
+    * Gets the current status of fast mode.
+    * 
+    * @return True if fast mode is enabled, False otherwise.
+    */
+    public ALFuture<Boolean> isFastModeEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isFastModeEnabled"));
     }
 
     /**
@@ -222,7 +413,17 @@ public class ALPeoplePerception extends ALModule {
     * @return True if graphical display is enabled, False otherwise.
     */
     public Boolean isGraphicalDisplayEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isGraphicalDisplayEnabled").get();
+        return (Boolean)service().call("isGraphicalDisplayEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isGraphicalDisplayEnabled}.
+    * Gets the current status of graphical display in Choregraphe.
+    * 
+    * @return True if graphical display is enabled, False otherwise.
+    */
+    public ALFuture<Boolean> isGraphicalDisplayEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isGraphicalDisplayEnabled"));
     }
 
     /**
@@ -231,9 +432,18 @@ public class ALPeoplePerception extends ALModule {
     */
     public void resetPopulation() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("resetPopulation");
+            service().call("resetPopulation");
         else
-            service.call("resetPopulation").get();
+            service().call("resetPopulation").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #resetPopulation}.
+    * Empties the tracked population.
+    * 
+    */
+    public ALFuture<Void> resetPopulationAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("resetPopulation"));
     }
 
     /**
@@ -242,7 +452,17 @@ public class ALPeoplePerception extends ALModule {
     * @return Time in seconds.
     */
     public Float _getTimeBeforeMTMPruning() throws CallError, InterruptedException {
-        return (Float)service.call("_getTimeBeforeMTMPruning").get();
+        return (Float)service().call("_getTimeBeforeMTMPruning").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getTimeBeforeMTMPruning}.
+    * Gets the current time before someone is removed from the MTM.
+    * 
+    * @return Time in seconds.
+    */
+    public ALFuture<Float> _getTimeBeforeMTMPruningAsync() throws CallError {
+        return ALFuture.of(service().<Float>call("_getTimeBeforeMTMPruning"));
     }
 
     /**
@@ -252,9 +472,19 @@ public class ALPeoplePerception extends ALModule {
     */
     public void setMaximumDetectionRange(Float range) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setMaximumDetectionRange", range);
+            service().call("setMaximumDetectionRange", range);
         else
-            service.call("setMaximumDetectionRange", range).get();
+            service().call("setMaximumDetectionRange", range).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setMaximumDetectionRange}.
+    * Sets the maximum range for human detection and tracking.
+    * 
+    * @param range  Maximum range in meters.
+    */
+    public ALFuture<Void> setMaximumDetectionRangeAsync(Float range) throws CallError {
+        return ALFuture.of(service().<Void>call("setMaximumDetectionRange", range));
     }
 
     /**
@@ -262,7 +492,16 @@ public class ALPeoplePerception extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -271,9 +510,18 @@ public class ALPeoplePerception extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -281,7 +529,16 @@ public class ALPeoplePerception extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -290,9 +547,18 @@ public class ALPeoplePerception extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -301,7 +567,17 @@ public class ALPeoplePerception extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -310,7 +586,17 @@ public class ALPeoplePerception extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -319,7 +605,17 @@ public class ALPeoplePerception extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -329,7 +625,18 @@ public class ALPeoplePerception extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -338,7 +645,17 @@ public class ALPeoplePerception extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -349,7 +666,19 @@ public class ALPeoplePerception extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -359,7 +688,18 @@ public class ALPeoplePerception extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -369,9 +709,19 @@ public class ALPeoplePerception extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -380,7 +730,17 @@ public class ALPeoplePerception extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -390,7 +750,18 @@ public class ALPeoplePerception extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -401,10 +772,24 @@ public class ALPeoplePerception extends ALModule {
     * @param precision  Precision of the extractor if relevant.
     */
     public void subscribe(String name, Integer period, Float precision) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("subscribe", name, period, precision);
-        else
-            service.call("subscribe", name, period, precision).get();
+        if (isAsynchronous) {
+            recordSubscription(ALFuture.of(service().<Void>call("subscribe", name, period, precision)), "unsubscribe", name);
+            return;
+        }
+        service().call("subscribe", name, period, precision).get();
+        recordSubscription("unsubscribe", name);
+    }
+
+    /**
+    * Asynchronous version of {@link #subscribe}.
+    * Subscribes to the extractor. This causes the extractor to start writing information to memory using the keys described by getOutputNames(). These can be accessed in memory using ALMemory.getData("keyName"). In many cases you can avoid calling subscribe on the extractor by just calling ALMemory.subscribeToEvent() supplying a callback method. This will automatically subscribe to the extractor for you.
+    * 
+    * @param name  Name of the module which subscribes.
+    * @param period  Refresh period (in milliseconds) if relevant.
+    * @param precision  Precision of the extractor if relevant.
+    */
+    public ALFuture<Void> subscribeAsync(String name, Integer period, Float precision) throws CallError {
+        return recordSubscription(ALFuture.of(service().<Void>call("subscribe", name, period, precision)), "unsubscribe", name);
     }
 
     /**
@@ -413,10 +798,22 @@ public class ALPeoplePerception extends ALModule {
     * @param name  Name of the module which subscribes.
     */
     public void subscribe(String name) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("subscribe", name);
-        else
-            service.call("subscribe", name).get();
+        if (isAsynchronous) {
+            recordSubscription(ALFuture.of(service().<Void>call("subscribe", name)), "unsubscribe", name);
+            return;
+        }
+        service().call("subscribe", name).get();
+        recordSubscription("unsubscribe", name);
+    }
+
+    /**
+    * Asynchronous version of {@link #subscribe}.
+    * Subscribes to the extractor. This causes the extractor to start writing information to memory using the keys described by getOutputNames(). These can be accessed in memory using ALMemory.getData("keyName"). In many cases you can avoid calling subscribe on the extractor by just calling ALMemory.subscribeToEvent() supplying a callback method. This will automatically subscribe to the extractor for you.
+    * 
+    * @param name  Name of the module which subscribes.
+    */
+    public ALFuture<Void> subscribeAsync(String name) throws CallError {
+        return recordSubscription(ALFuture.of(service().<Void>call("subscribe", name)), "unsubscribe", name);
     }
 
     /**
@@ -425,10 +822,22 @@ public class ALPeoplePerception extends ALModule {
     * @param name  Name of the module which had subscribed.
     */
     public void unsubscribe(String name) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("unsubscribe", name);
-        else
-            service.call("unsubscribe", name).get();
+        if (isAsynchronous) {
+            forgetSubscription(ALFuture.of(service().<Void>call("unsubscribe", name)), "unsubscribe", name);
+            return;
+        }
+        service().call("unsubscribe", name).get();
+        forgetSubscription("unsubscribe", name);
+    }
+
+    /**
+    * Asynchronous version of {@link #unsubscribe}.
+    * Unsubscribes from the extractor.
+    * 
+    * @param name  Name of the module which had subscribed.
+    */
+    public ALFuture<Void> unsubscribeAsync(String name) throws CallError {
+        return forgetSubscription(ALFuture.of(service().<Void>call("unsubscribe", name)), "unsubscribe", name);
     }
 
     /**
@@ -439,9 +848,20 @@ public class ALPeoplePerception extends ALModule {
     */
     public void updatePeriod(String name, Integer period) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("updatePeriod", name, period);
+            service().call("updatePeriod", name, period);
         else
-            service.call("updatePeriod", name, period).get();
+            service().call("updatePeriod", name, period).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #updatePeriod}.
+    * Updates the period if relevant.
+    * 
+    * @param name  Name of the module which has subscribed.
+    * @param period  Refresh period (in milliseconds).
+    */
+    public ALFuture<Void> updatePeriodAsync(String name, Integer period) throws CallError {
+        return ALFuture.of(service().<Void>call("updatePeriod", name, period));
     }
 
     /**
@@ -452,9 +872,20 @@ public class ALPeoplePerception extends ALModule {
     */
     public void updatePrecision(String name, Float precision) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("updatePrecision", name, precision);
+            service().call("updatePrecision", name, precision);
         else
-            service.call("updatePrecision", name, precision).get();
+            service().call("updatePrecision", name, precision).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #updatePrecision}.
+    * Updates the precision if relevant.
+    * 
+    * @param name  Name of the module which has subscribed.
+    * @param precision  Precision of the extractor.
+    */
+    public ALFuture<Void> updatePrecisionAsync(String name, Float precision) throws CallError {
+        return ALFuture.of(service().<Void>call("updatePrecision", name, precision));
     }
 
     /**
@@ -463,7 +894,17 @@ public class ALPeoplePerception extends ALModule {
     * @return Refresh period (in milliseconds).
     */
     public Integer getCurrentPeriod() throws CallError, InterruptedException {
-        return (Integer)service.call("getCurrentPeriod").get();
+        return (Integer)service().call("getCurrentPeriod").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getCurrentPeriod}.
+    * Gets the current period.
+    * 
+    * @return Refresh period (in milliseconds).
+    */
+    public ALFuture<Integer> getCurrentPeriodAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("getCurrentPeriod"));
     }
 
     /**
@@ -472,7 +913,17 @@ public class ALPeoplePerception extends ALModule {
     * @return Precision of the extractor.
     */
     public Float getCurrentPrecision() throws CallError, InterruptedException {
-        return (Float)service.call("getCurrentPrecision").get();
+        return (Float)service().call("getCurrentPrecision").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getCurrentPrecision}.
+    * Gets the current precision.
+    * 
+    * @return Precision of the extractor.
+    */
+    public ALFuture<Float> getCurrentPrecisionAsync() throws CallError {
+        return ALFuture.of(service().<Float>call("getCurrentPrecision"));
     }
 
     /**
@@ -482,7 +933,18 @@ public class ALPeoplePerception extends ALModule {
     * @return Refresh period (in milliseconds).
     */
     public Integer getMyPeriod(String name) throws CallError, InterruptedException {
-        return (Integer)service.call("getMyPeriod", name).get();
+        return (Integer)service().call("getMyPeriod", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMyPeriod}.
+    * Gets the period for a specific subscription.
+    * 
+    * @param name  Name of the module which has subscribed.
+    * @return Refresh period (in milliseconds).
+    */
+    public ALFuture<Integer> getMyPeriodAsync(String name) throws CallError {
+        return ALFuture.of(service().<Integer>call("getMyPeriod", name));
     }
 
     /**
@@ -492,7 +954,18 @@ public class ALPeoplePerception extends ALModule {
     * @return precision of the extractor
     */
     public Float getMyPrecision(String name) throws CallError, InterruptedException {
-        return (Float)service.call("getMyPrecision", name).get();
+        return (Float)service().call("getMyPrecision", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMyPrecision}.
+    * Gets the precision for a specific subscription.
+    * 
+    * @param name  name of the module which has subscribed
+    * @return precision of the extractor
+    */
+    public ALFuture<Float> getMyPrecisionAsync(String name) throws CallError {
+        return ALFuture.of(service().<Float>call("getMyPrecision", name));
     }
 
     /**
@@ -501,7 +974,17 @@ public class ALPeoplePerception extends ALModule {
     * @return Array of names and parameters of all subscribers.
     */
     public java.lang.Object getSubscribersInfo() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getSubscribersInfo").get();
+        return (java.lang.Object)service().call("getSubscribersInfo").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getSubscribersInfo}.
+    * Gets the parameters given by the module.
+    * 
+    * @return Array of names and parameters of all subscribers.
+    */
+    public ALFuture<java.lang.Object> getSubscribersInfoAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getSubscribersInfo"));
     }
 
     /**
@@ -510,7 +993,17 @@ public class ALPeoplePerception extends ALModule {
     * @return Array of values updated by this extractor in ALMemory
     */
     public List<String> getOutputNames() throws CallError, InterruptedException {
-        return (List<String>)service.call("getOutputNames").get();
+        return (List<String>)service().call("getOutputNames").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getOutputNames}.
+    * Get the list of values updated in ALMemory.
+    * 
+    * @return Array of values updated by this extractor in ALMemory
+    */
+    public ALFuture<List<String>> getOutputNamesAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getOutputNames"));
     }
 
     /**
@@ -519,7 +1012,17 @@ public class ALPeoplePerception extends ALModule {
     * @return Array of events updated by this extractor in ALMemory
     */
     public List<String> getEventList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getEventList").get();
+        return (List<String>)service().call("getEventList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getEventList}.
+    * Get the list of events updated in ALMemory.
+    * 
+    * @return Array of events updated by this extractor in ALMemory
+    */
+    public ALFuture<List<String>> getEventListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getEventList"));
     }
 
     /**
@@ -528,7 +1031,17 @@ public class ALPeoplePerception extends ALModule {
     * @return Array of events updated by this extractor in ALMemory
     */
     public List<String> getMemoryKeyList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMemoryKeyList").get();
+        return (List<String>)service().call("getMemoryKeyList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMemoryKeyList}.
+    * Get the list of events updated in ALMemory.
+    * 
+    * @return Array of events updated by this extractor in ALMemory
+    */
+    public ALFuture<List<String>> getMemoryKeyListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMemoryKeyList"));
     }
 
     /**
@@ -537,7 +1050,17 @@ public class ALPeoplePerception extends ALModule {
     * @return True if the extractor is paused, False if not
     */
     public Boolean isPaused() throws CallError, InterruptedException {
-        return (Boolean)service.call("isPaused").get();
+        return (Boolean)service().call("isPaused").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isPaused}.
+    * Gets extractor pause status
+    * 
+    * @return True if the extractor is paused, False if not
+    */
+    public ALFuture<Boolean> isPausedAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isPaused"));
     }
 
     /**
@@ -547,9 +1070,19 @@ public class ALPeoplePerception extends ALModule {
     */
     public void pause(Boolean status) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("pause", status);
+            service().call("pause", status);
         else
-            service.call("pause", status).get();
+            service().call("pause", status).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #pause}.
+    * Changes the pause status of the extractor
+    * 
+    * @param status  New pause satus
+    */
+    public ALFuture<Void> pauseAsync(Boolean status) throws CallError {
+        return ALFuture.of(service().<Void>call("pause", status));
     }
 
 }
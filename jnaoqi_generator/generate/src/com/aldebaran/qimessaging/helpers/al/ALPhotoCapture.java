@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -24,7 +25,17 @@ public class ALPhotoCapture extends ALModule {
     * @return Current picture format.
     */
     public String getPictureFormat() throws CallError, InterruptedException {
-        return (String)service.call("getPictureFormat").get();
+        return (String)service().call("getPictureFormat").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getPictureFormat}.
+    * Returns current picture format.
+    * 
+    * @return Current picture format.
+    */
+    public ALFuture<String> getPictureFormatAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getPictureFormat"));
     }
 
     /**
@@ -33,7 +44,17 @@ public class ALPhotoCapture extends ALModule {
     * @return True or False.
     */
     public Boolean isHalfPressed() throws CallError, InterruptedException {
-        return (Boolean)service.call("isHalfPressed").get();
+        return (Boolean)service().call("isHalfPressed").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isHalfPressed}.
+    * Returns True if the "half press" mode is on.
+    * 
+    * @return True or False.
+    */
+    public ALFuture<Boolean> isHalfPressedAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isHalfPressed"));
     }
 
     /**
@@ -42,7 +63,17 @@ public class ALPhotoCapture extends ALModule {
     * @return True or False.
     */
     public Boolean isHalfPressEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isHalfPressEnabled").get();
+        return (Boolean)service().call("isHalfPressEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isHalfPressEnabled}.
+    * Returns True if the "half press" mode is on.
+    * 
+    * @return True or False.
+    */
+    public ALFuture<Boolean> isHalfPressEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isHalfPressEnabled"));
     }
 
     /**
@@ -50,7 +81,16 @@ public class ALPhotoCapture extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -59,9 +99,18 @@ public class ALPhotoCapture extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -69,7 +118,16 @@ public class ALPhotoCapture extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -78,9 +136,18 @@ public class ALPhotoCapture extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -89,7 +156,17 @@ public class ALPhotoCapture extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -98,7 +175,17 @@ public class ALPhotoCapture extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -107,7 +194,17 @@ public class ALPhotoCapture extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -117,7 +214,18 @@ public class ALPhotoCapture extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -126,7 +234,17 @@ public class ALPhotoCapture extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -137,7 +255,19 @@ public class ALPhotoCapture extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -147,7 +277,18 @@ public class ALPhotoCapture extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -157,9 +298,19 @@ public class ALPhotoCapture extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -168,7 +319,17 @@ public class ALPhotoCapture extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -178,7 +339,18 @@ public class ALPhotoCapture extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -188,9 +360,19 @@ public class ALPhotoCapture extends ALModule {
     */
     public void setHalfPressEnabled(Boolean enable) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setHalfPressEnabled", enable);
+            service().call("setHalfPressEnabled", enable);
         else
-            service.call("setHalfPressEnabled", enable).get();
+            service().call("setHalfPressEnabled", enable).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setHalfPressEnabled}.
+    * Enables or disables the half-press mode.
+    * 
+    * @param enable  True to enable, false to disable.
+    */
+    public ALFuture<Void> setHalfPressEnabledAsync(Boolean enable) throws CallError {
+        return ALFuture.of(service().<Void>call("setHalfPressEnabled", enable));
     }
 
     /**
@@ -199,7 +381,17 @@ public class ALPhotoCapture extends ALModule {
     * @return True if eveything went well, False otherwise.
     */
     public Boolean halfPress() throws CallError, InterruptedException {
-        return (Boolean)service.call("halfPress").get();
+        return (Boolean)service().call("halfPress").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #halfPress}.
+    * Manually (un)subscribes to ALVideoDevice.
+    * 
+    * @return True if eveything went well, False otherwise.
+    */
+    public ALFuture<Boolean> halfPressAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("halfPress"));
     }
 
     /**
@@ -210,7 +402,19 @@ public class ALPhotoCapture extends ALModule {
     * @return Full file name of the picture saved on the disk: [filename]
     */
     public java.lang.Object takePicture(String folderPath, String fileName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("takePicture", folderPath, fileName).get();
+        return (java.lang.Object)service().call("takePicture", folderPath, fileName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #takePicture}.
+    * Takes one picture.
+    * 
+    * @param folderPath  Folder where the picture is saved.
+    * @param fileName  Filename used to save the picture.
+    * @return Full file name of the picture saved on the disk: [filename]
+    */
+    public ALFuture<java.lang.Object> takePictureAsync(String folderPath, String fileName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("takePicture", folderPath, fileName));
     }
 
     /**
@@ -222,7 +426,20 @@ public class ALPhotoCapture extends ALModule {
     * @return Full file name of the picture saved on the disk: [filename]
     */
     public java.lang.Object takePicture(String folderPath, String fileName, Boolean overwrite) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("takePicture", folderPath, fileName, overwrite).get();
+        return (java.lang.Object)service().call("takePicture", folderPath, fileName, overwrite).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #takePicture}.
+    * Takes one picture.
+    * 
+    * @param folderPath  Folder where the picture is saved.
+    * @param fileName  Filename used to save the picture.
+    * @param overwrite  If false and the filename already exists, an error is thrown.
+    * @return Full file name of the picture saved on the disk: [filename]
+    */
+    public ALFuture<java.lang.Object> takePictureAsync(String folderPath, String fileName, Boolean overwrite) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("takePicture", folderPath, fileName, overwrite));
     }
 
     /**
@@ -234,7 +451,20 @@ public class ALPhotoCapture extends ALModule {
     * @return List of all saved files: [[filename1, filename2...]]
     */
     public java.lang.Object takePictures(Integer numberOfPictures, String folderPath, String fileName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("takePictures", numberOfPictures, folderPath, fileName).get();
+        return (java.lang.Object)service().call("takePictures", numberOfPictures, folderPath, fileName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #takePictures}.
+    * Takes several pictures as quickly as possible
+    * 
+    * @param numberOfPictures  Number of pictures to take
+    * @param folderPath  Folder where the pictures are saved.
+    * @param fileName  Filename used to save the pictures.
+    * @return List of all saved files: [[filename1, filename2...]]
+    */
+    public ALFuture<java.lang.Object> takePicturesAsync(Integer numberOfPictures, String folderPath, String fileName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("takePictures", numberOfPictures, folderPath, fileName));
     }
 
     /**
@@ -247,7 +477,21 @@ public class ALPhotoCapture extends ALModule {
     * @return List of all saved files: [[filename1, filename2...]]
     */
     public java.lang.Object takePictures(Integer numberOfPictures, String folderPath, String fileName, Boolean overwrite) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("takePictures", numberOfPictures, folderPath, fileName, overwrite).get();
+        return (java.lang.Object)service().call("takePictures", numberOfPictures, folderPath, fileName, overwrite).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #takePictures}.
+    * Takes several pictures as quickly as possible
+    * 
+    * @param numberOfPictures  Number of pictures to take
+    * @param folderPath  Folder where the pictures are saved.
+    * @param fileName  Filename used to save the pictures.
+    * @param overwrite  If false and the filename already exists, an error is thrown.
+    * @return List of all saved files: [[filename1, filename2...]]
+    */
+    public ALFuture<java.lang.Object> takePicturesAsync(Integer numberOfPictures, String folderPath, String fileName, Boolean overwrite) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("takePictures", numberOfPictures, folderPath, fileName, overwrite));
     }
 
     /**
@@ -257,9 +501,19 @@ public class ALPhotoCapture extends ALModule {
     */
     public void setCameraID(Integer cameraID) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setCameraID", cameraID);
+            service().call("setCameraID", cameraID);
         else
-            service.call("setCameraID", cameraID).get();
+            service().call("setCameraID", cameraID).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setCameraID}.
+    * Sets camera ID.
+    * 
+    * @param cameraID  ID of the camera to use.
+    */
+    public ALFuture<Void> setCameraIDAsync(Integer cameraID) throws CallError {
+        return ALFuture.of(service().<Void>call("setCameraID", cameraID));
     }
 
     /**
@@ -269,9 +523,19 @@ public class ALPhotoCapture extends ALModule {
     */
     public void setResolution(Integer resolution) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setResolution", resolution);
+            service().call("setResolution", resolution);
         else
-            service.call("setResolution", resolution).get();
+            service().call("setResolution", resolution).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setResolution}.
+    * Sets resolution.
+    * 
+    * @param resolution  New frame resolution.
+    */
+    public ALFuture<Void> setResolutionAsync(Integer resolution) throws CallError {
+        return ALFuture.of(service().<Void>call("setResolution", resolution));
     }
 
     /**
@@ -281,9 +545,19 @@ public class ALPhotoCapture extends ALModule {
     */
     public void setColorSpace(Integer colorSpace) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setColorSpace", colorSpace);
+            service().call("setColorSpace", colorSpace);
         else
-            service.call("setColorSpace", colorSpace).get();
+            service().call("setColorSpace", colorSpace).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setColorSpace}.
+    * Sets color space.
+    * 
+    * @param colorSpace  New color space.
+    */
+    public ALFuture<Void> setColorSpaceAsync(Integer colorSpace) throws CallError {
+        return ALFuture.of(service().<Void>call("setColorSpace", colorSpace));
     }
 
     /**
@@ -293,9 +567,19 @@ public class ALPhotoCapture extends ALModule {
     */
     public void setCaptureInterval(Integer captureInterval) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setCaptureInterval", captureInterval);
+            service().call("setCaptureInterval", captureInterval);
         else
-            service.call("setCaptureInterval", captureInterval).get();
+            service().call("setCaptureInterval", captureInterval).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setCaptureInterval}.
+    * Sets delay between two captures.
+    * 
+    * @param captureInterval  New delay (in ms) between two pictures.
+    */
+    public ALFuture<Void> setCaptureIntervalAsync(Integer captureInterval) throws CallError {
+        return ALFuture.of(service().<Void>call("setCaptureInterval", captureInterval));
     }
 
     /**
@@ -305,9 +589,19 @@ public class ALPhotoCapture extends ALModule {
     */
     public void setPictureFormat(String pictureFormat) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setPictureFormat", pictureFormat);
+            service().call("setPictureFormat", pictureFormat);
         else
-            service.call("setPictureFormat", pictureFormat).get();
+            service().call("setPictureFormat", pictureFormat).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setPictureFormat}.
+    * Sets picture extension.
+    * 
+    * @param pictureFormat  New extension used to save pictures.
+    */
+    public ALFuture<Void> setPictureFormatAsync(String pictureFormat) throws CallError {
+        return ALFuture.of(service().<Void>call("setPictureFormat", pictureFormat));
     }
 
     /**
@@ -316,7 +610,17 @@ public class ALPhotoCapture extends ALModule {
     * @return Current camera ID.
     */
     public Integer getCameraID() throws CallError, InterruptedException {
-        return (Integer)service.call("getCameraID").get();
+        return (Integer)service().call("getCameraID").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getCameraID}.
+    * Returns current camera ID.
+    * 
+    * @return Current camera ID.
+    */
+    public ALFuture<Integer> getCameraIDAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("getCameraID"));
     }
 
     /**
@@ -325,7 +629,17 @@ public class ALPhotoCapture extends ALModule {
     * @return Current frame resolution.
     */
     public Integer getResolution() throws CallError, InterruptedException {
-        return (Integer)service.call("getResolution").get();
+        return (Integer)service().call("getResolution").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getResolution}.
+    * Returns current resolution.
+    * 
+    * @return Current frame resolution.
+    */
+    public ALFuture<Integer> getResolutionAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("getResolution"));
     }
 
     /**
@@ -334,7 +648,17 @@ public class ALPhotoCapture extends ALModule {
     * @return Current color space.
     */
     public Integer getColorSpace() throws CallError, InterruptedException {
-        return (Integer)service.call("getColorSpace").get();
+        return (Integer)service().call("getColorSpace").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getColorSpace}.
+    * Returns current color space.
+    * 
+    * @return Current color space.
+    */
+    public ALFuture<Integer> getColorSpaceAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("getColorSpace"));
     }
 
     /**
@@ -343,7 +667,17 @@ public class ALPhotoCapture extends ALModule {
     * @return Current delay (in ms) between two pictures.
     */
     public Integer getCaptureInterval() throws CallError, InterruptedException {
-        return (Integer)service.call("getCaptureInterval").get();
+        return (Integer)service().call("getCaptureInterval").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getCaptureInterval}.
+    * Returns current delay between captures.
+    * 
+    * @return Current delay (in ms) between two pictures.
+    */
+    public ALFuture<Integer> getCaptureIntervalAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("getCaptureInterval"));
     }
 
 }
@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -23,7 +24,16 @@ public class ALPreferenceManager extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -32,9 +42,18 @@ public class ALPreferenceManager extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -42,7 +61,16 @@ public class ALPreferenceManager extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -51,9 +79,18 @@ public class ALPreferenceManager extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -62,7 +99,17 @@ public class ALPreferenceManager extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -71,7 +118,17 @@ public class ALPreferenceManager extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -80,7 +137,17 @@ public class ALPreferenceManager extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -90,7 +157,18 @@ public class ALPreferenceManager extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -99,7 +177,17 @@ public class ALPreferenceManager extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -110,7 +198,19 @@ public class ALPreferenceManager extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -120,7 +220,18 @@ public class ALPreferenceManager extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -130,9 +241,19 @@ public class ALPreferenceManager extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -141,7 +262,17 @@ public class ALPreferenceManager extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -151,7 +282,18 @@ public class ALPreferenceManager extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -162,7 +304,19 @@ public class ALPreferenceManager extends ALModule {
     * @return corresponding preferences value
     */
     public java.lang.Object getValue(String domain, String setting) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getValue", domain, setting).get();
+        return (java.lang.Object)service().call("getValue", domain, setting).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getValue}.
+    * Get specified preference
+    * 
+    * @param domain  Preference domain
+    * @param setting  Preference setting
+    * @return corresponding preferences value
+    */
+    public ALFuture<java.lang.Object> getValueAsync(String domain, String setting) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getValue", domain, setting));
     }
 
     /**
@@ -174,9 +328,21 @@ public class ALPreferenceManager extends ALModule {
     */
     public void setValue(String domain, String setting, java.lang.Object value) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setValue", domain, setting, value);
+            service().call("setValue", domain, setting, value);
         else
-            service.call("setValue", domain, setting, value).get();
+            service().call("setValue", domain, setting, value).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setValue}.
+    * Set specified preference
+    * 
+    * @param domain  Preference domain
+    * @param setting  Preference setting
+    * @param value  Preference value
+    */
+    public ALFuture<Void> setValueAsync(String domain, String setting, java.lang.Object value) throws CallError {
+        return ALFuture.of(service().<Void>call("setValue", domain, setting, value));
     }
 
     /**
@@ -186,7 +352,18 @@ public class ALPreferenceManager extends ALModule {
     * @return a list of preferences names and values associated to the domain
     */
     public List<List<java.lang.Object>> getValueList(String domain) throws CallError, InterruptedException {
-        return (List<List<java.lang.Object>>)service.call("getValueList", domain).get();
+        return (List<List<java.lang.Object>>)service().call("getValueList", domain).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getValueList}.
+    * Get preferences names and values for a given domain
+    * 
+    * @param domain  Preference domain
+    * @return a list of preferences names and values associated to the domain
+    */
+    public ALFuture<List<List<java.lang.Object>>> getValueListAsync(String domain) throws CallError {
+        return ALFuture.of(service().<List<List<java.lang.Object>>>call("getValueList", domain));
     }
 
     /**
@@ -195,7 +372,17 @@ public class ALPreferenceManager extends ALModule {
     * @return a list containing all the available domain names
     */
     public List<String> getDomainList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getDomainList").get();
+        return (List<String>)service().call("getDomainList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getDomainList}.
+    * Get available preferences domain
+    * 
+    * @return a list containing all the available domain names
+    */
+    public ALFuture<List<String>> getDomainListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getDomainList"));
     }
 
     /**
@@ -206,9 +393,20 @@ public class ALPreferenceManager extends ALModule {
     */
     public void removeValue(String domain, String setting) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("removeValue", domain, setting);
+            service().call("removeValue", domain, setting);
         else
-            service.call("removeValue", domain, setting).get();
+            service().call("removeValue", domain, setting).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #removeValue}.
+    * Remove specified preference
+    * 
+    * @param domain  Preference domain
+    * @param setting  Preference setting
+    */
+    public ALFuture<Void> removeValueAsync(String domain, String setting) throws CallError {
+        return ALFuture.of(service().<Void>call("removeValue", domain, setting));
     }
 
     /**
@@ -218,9 +416,19 @@ public class ALPreferenceManager extends ALModule {
     */
     public void removeDomainValues(String domain) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("removeDomainValues", domain);
+            service().call("removeDomainValues", domain);
         else
-            service.call("removeDomainValues", domain).get();
+            service().call("removeDomainValues", domain).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #removeDomainValues}.
+    * Remove an entire preference domain
+    * 
+    * @param domain  Preference domain
+    */
+    public ALFuture<Void> removeDomainValuesAsync(String domain) throws CallError {
+        return ALFuture.of(service().<Void>call("removeDomainValues", domain));
     }
 
     /**
@@ -233,9 +441,22 @@ public class ALPreferenceManager extends ALModule {
     */
     public void importPrefFile(String domain, String applicationName, String filename, Boolean override) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("importPrefFile", domain, applicationName, filename, override);
+            service().call("importPrefFile", domain, applicationName, filename, override);
         else
-            service.call("importPrefFile", domain, applicationName, filename, override).get();
+            service().call("importPrefFile", domain, applicationName, filename, override).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #importPrefFile}.
+    * Import a preferences XML file
+    * 
+    * @param domain  Preference domain: all preferences values found in XML file will be imported in that domain.
+    * @param applicationName  Application name: will be used to search for preference file on disk (in location of type <configurationdirectory>/applicationName/filename).
+    * @param filename  Preference XML filename
+    * @param override  Set this to true if you want to override preferences that already exist with preferences in imported XML file
+    */
+    public ALFuture<Void> importPrefFileAsync(String domain, String applicationName, String filename, Boolean override) throws CallError {
+        return ALFuture.of(service().<Void>call("importPrefFile", domain, applicationName, filename, override));
     }
 
     /**
@@ -244,9 +465,18 @@ public class ALPreferenceManager extends ALModule {
     */
     public void update() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("update");
+            service().call("update");
         else
-            service.call("update").get();
+            service().call("update").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #update}.
+    * Synchronizes local preferences with preferences stored on a server.
+    * 
+    */
+    public ALFuture<Void> updateAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("update"));
     }
 
     /**
@@ -258,9 +488,21 @@ public class ALPreferenceManager extends ALModule {
     */
     public void _setFromCloud(String domain, String setting, java.lang.Object value) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setFromCloud", domain, setting, value);
+            service().call("_setFromCloud", domain, setting, value);
         else
-            service.call("_setFromCloud", domain, setting, value).get();
+            service().call("_setFromCloud", domain, setting, value).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setFromCloud}.
+    * Update local preference from version store on Cloud (usefull when preference was updated on Cloud)
+    * 
+    * @param domain  Preference domain
+    * @param setting  Preference setting
+    * @param value  Preference value
+    */
+    public ALFuture<Void> _setFromCloudAsync(String domain, String setting, java.lang.Object value) throws CallError {
+        return ALFuture.of(service().<Void>call("_setFromCloud", domain, setting, value));
     }
 
     /**
@@ -271,9 +513,20 @@ public class ALPreferenceManager extends ALModule {
     */
     public void _restart(String url, String path) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_restart", url, path);
+            service().call("_restart", url, path);
         else
-            service.call("_restart", url, path).get();
+            service().call("_restart", url, path).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_restart}.
+    * Restart preferences module
+    * 
+    * @param url  Preference server url
+    * @param path  Path to sqlite database
+    */
+    public ALFuture<Void> _restartAsync(String url, String path) throws CallError {
+        return ALFuture.of(service().<Void>call("_restart", url, path));
     }
 
 }
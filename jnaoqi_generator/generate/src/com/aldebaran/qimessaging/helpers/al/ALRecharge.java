@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -24,9 +25,18 @@ public class ALRecharge extends ALModule {
     */
     public void _eventBatteryChargingCallback(String param1, java.lang.Object param2, String param3) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_eventBatteryChargingCallback", param1, param2, param3);
+            service().call("_eventBatteryChargingCallback", param1, param2, param3);
         else
-            service.call("_eventBatteryChargingCallback", param1, param2, param3).get();
+            service().call("_eventBatteryChargingCallback", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_eventBatteryChargingCallback}.
+    * .
+    * 
+    */
+    public ALFuture<Void> _eventBatteryChargingCallbackAsync(String param1, java.lang.Object param2, String param3) throws CallError {
+        return ALFuture.of(service().<Void>call("_eventBatteryChargingCallback", param1, param2, param3));
     }
 
     /**
@@ -35,9 +45,18 @@ public class ALRecharge extends ALModule {
     */
     public void _eventTrackerTargetLostCallback() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_eventTrackerTargetLostCallback");
+            service().call("_eventTrackerTargetLostCallback");
         else
-            service.call("_eventTrackerTargetLostCallback").get();
+            service().call("_eventTrackerTargetLostCallback").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_eventTrackerTargetLostCallback}.
+    * .
+    * 
+    */
+    public ALFuture<Void> _eventTrackerTargetLostCallbackAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_eventTrackerTargetLostCallback"));
     }
 
     /**
@@ -46,9 +65,18 @@ public class ALRecharge extends ALModule {
     */
     public void _eventMoveFailedCallback() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_eventMoveFailedCallback");
+            service().call("_eventMoveFailedCallback");
         else
-            service.call("_eventMoveFailedCallback").get();
+            service().call("_eventMoveFailedCallback").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_eventMoveFailedCallback}.
+    * .
+    * 
+    */
+    public ALFuture<Void> _eventMoveFailedCallbackAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_eventMoveFailedCallback"));
     }
 
     /**
@@ -57,9 +85,18 @@ public class ALRecharge extends ALModule {
     */
     public void _eventBatteryConnectedToChargingStationCallback(String param1, java.lang.Object param2, String param3) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_eventBatteryConnectedToChargingStationCallback", param1, param2, param3);
+            service().call("_eventBatteryConnectedToChargingStationCallback", param1, param2, param3);
         else
-            service.call("_eventBatteryConnectedToChargingStationCallback", param1, param2, param3).get();
+            service().call("_eventBatteryConnectedToChargingStationCallback", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_eventBatteryConnectedToChargingStationCallback}.
+    * .
+    * 
+    */
+    public ALFuture<Void> _eventBatteryConnectedToChargingStationCallbackAsync(String param1, java.lang.Object param2, String param3) throws CallError {
+        return ALFuture.of(service().<Void>call("_eventBatteryConnectedToChargingStationCallback", param1, param2, param3));
     }
 
     /**
@@ -68,9 +105,18 @@ public class ALRecharge extends ALModule {
     */
     public void _eventTrackerActiveTargetChangedCallback(String param1, java.lang.Object param2, String param3) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_eventTrackerActiveTargetChangedCallback", param1, param2, param3);
+            service().call("_eventTrackerActiveTargetChangedCallback", param1, param2, param3);
         else
-            service.call("_eventTrackerActiveTargetChangedCallback", param1, param2, param3).get();
+            service().call("_eventTrackerActiveTargetChangedCallback", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_eventTrackerActiveTargetChangedCallback}.
+    * .
+    * 
+    */
+    public ALFuture<Void> _eventTrackerActiveTargetChangedCallbackAsync(String param1, java.lang.Object param2, String param3) throws CallError {
+        return ALFuture.of(service().<Void>call("_eventTrackerActiveTargetChangedCallback", param1, param2, param3));
     }
 
     /**
@@ -78,7 +124,16 @@ public class ALRecharge extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -87,9 +142,18 @@ public class ALRecharge extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -97,7 +161,16 @@ public class ALRecharge extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -106,9 +179,18 @@ public class ALRecharge extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -117,7 +199,17 @@ public class ALRecharge extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -126,7 +218,17 @@ public class ALRecharge extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -135,7 +237,17 @@ public class ALRecharge extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -145,7 +257,18 @@ public class ALRecharge extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -154,7 +277,17 @@ public class ALRecharge extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -165,7 +298,19 @@ public class ALRecharge extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -175,7 +320,18 @@ public class ALRecharge extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -185,9 +341,19 @@ public class ALRecharge extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -196,7 +362,17 @@ public class ALRecharge extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -206,7 +382,18 @@ public class ALRecharge extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -215,9 +402,18 @@ public class ALRecharge extends ALModule {
     */
     public void goToStation() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("goToStation");
+            service().call("goToStation");
         else
-            service.call("goToStation").get();
+            service().call("goToStation").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #goToStation}.
+    * .
+    * 
+    */
+    public ALFuture<Void> goToStationAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("goToStation"));
     }
 
     /**
@@ -226,9 +422,18 @@ public class ALRecharge extends ALModule {
     */
     public void leaveStation() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("leaveStation");
+            service().call("leaveStation");
         else
-            service.call("leaveStation").get();
+            service().call("leaveStation").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #leaveStation}.
+    * .
+    * 
+    */
+    public ALFuture<Void> leaveStationAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("leaveStation"));
     }
 
     /**
@@ -236,7 +441,34 @@ public class ALRecharge extends ALModule {
     * 
     */
     public List<Float> getStationPosition() throws CallError, InterruptedException {
-        return (List<Float>)service.call("getStationPosition").get();
+        return (List<Float>)service().call("getStationPosition").get();
+    }
+
+    /**
+    * Primitive version of {@link #getStationPosition}, values are returned unboxed.
+    * .
+    * 
+    */
+    public float[] getStationPositionF() throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("getStationPosition").get());
+    }
+
+    /**
+    * Primitive version of {@link #getStationPosition}, values are written into dst and their count is returned.
+    * .
+    * 
+    */
+    public int getStationPositionInto(float[] dst) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("getStationPosition").get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #getStationPosition}.
+    * .
+    * 
+    */
+    public ALFuture<List<Float>> getStationPositionAsync() throws CallError {
+        return ALFuture.of(service().<List<Float>>call("getStationPosition"));
     }
 
     /**
@@ -245,9 +477,18 @@ public class ALRecharge extends ALModule {
     */
     public void stopAll() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stopAll");
+            service().call("stopAll");
         else
-            service.call("stopAll").get();
+            service().call("stopAll").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stopAll}.
+    * .
+    * 
+    */
+    public ALFuture<Void> stopAllAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("stopAll"));
     }
 
     /**
@@ -255,10 +496,21 @@ public class ALRecharge extends ALModule {
     * 
     */
     public void subscribe() throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("subscribe");
-        else
-            service.call("subscribe").get();
+        if (isAsynchronous) {
+            recordSubscription(ALFuture.of(service().<Void>call("subscribe")), "unsubscribe");
+            return;
+        }
+        service().call("subscribe").get();
+        recordSubscription("unsubscribe");
+    }
+
+    /**
+    * Asynchronous version of {@link #subscribe}.
+    * .
+    * 
+    */
+    public ALFuture<Void> subscribeAsync() throws CallError {
+        return recordSubscription(ALFuture.of(service().<Void>call("subscribe")), "unsubscribe");
     }
 
     /**
@@ -266,10 +518,21 @@ public class ALRecharge extends ALModule {
     * 
     */
     public void unsubscribe() throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("unsubscribe");
-        else
-            service.call("unsubscribe").get();
+        if (isAsynchronous) {
+            forgetSubscription(ALFuture.of(service().<Void>call("unsubscribe")), "unsubscribe");
+            return;
+        }
+        service().call("unsubscribe").get();
+        forgetSubscription("unsubscribe");
+    }
+
+    /**
+    * Asynchronous version of {@link #unsubscribe}.
+    * .
+    * 
+    */
+    public ALFuture<Void> unsubscribeAsync() throws CallError {
+        return forgetSubscription(ALFuture.of(service().<Void>call("unsubscribe")), "unsubscribe");
     }
 
     /**
@@ -277,7 +540,16 @@ public class ALRecharge extends ALModule {
     * 
     */
     public Integer getStatus() throws CallError, InterruptedException {
-        return (Integer)service.call("getStatus").get();
+        return (Integer)service().call("getStatus").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getStatus}.
+    * .
+    * 
+    */
+    public ALFuture<Integer> getStatusAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("getStatus"));
     }
 
     /**
@@ -285,7 +557,16 @@ public class ALRecharge extends ALModule {
     * 
     */
     public java.lang.Object lookForStation() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("lookForStation").get();
+        return (java.lang.Object)service().call("lookForStation").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #lookForStation}.
+    * .
+    * 
+    */
+    public ALFuture<java.lang.Object> lookForStationAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("lookForStation"));
     }
 
     /**
@@ -293,7 +574,16 @@ public class ALRecharge extends ALModule {
     * 
     */
     public Boolean moveInFrontOfStation() throws CallError, InterruptedException {
-        return (Boolean)service.call("moveInFrontOfStation").get();
+        return (Boolean)service().call("moveInFrontOfStation").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #moveInFrontOfStation}.
+    * .
+    * 
+    */
+    public ALFuture<Boolean> moveInFrontOfStationAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("moveInFrontOfStation"));
     }
 
     /**
@@ -301,7 +591,16 @@ public class ALRecharge extends ALModule {
     * 
     */
     public Boolean dockOnStation() throws CallError, InterruptedException {
-        return (Boolean)service.call("dockOnStation").get();
+        return (Boolean)service().call("dockOnStation").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #dockOnStation}.
+    * .
+    * 
+    */
+    public ALFuture<Boolean> dockOnStationAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("dockOnStation"));
     }
 
     /**
@@ -309,7 +608,16 @@ public class ALRecharge extends ALModule {
     * 
     */
     public Float _getConfidenceIndex() throws CallError, InterruptedException {
-        return (Float)service.call("_getConfidenceIndex").get();
+        return (Float)service().call("_getConfidenceIndex").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getConfidenceIndex}.
+    * .
+    * 
+    */
+    public ALFuture<Float> _getConfidenceIndexAsync() throws CallError {
+        return ALFuture.of(service().<Float>call("_getConfidenceIndex"));
     }
 
     /**
@@ -318,9 +626,18 @@ public class ALRecharge extends ALModule {
     */
     public void _setUseMoveALTracker(Boolean param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setUseMoveALTracker", param1);
+            service().call("_setUseMoveALTracker", param1);
         else
-            service.call("_setUseMoveALTracker", param1).get();
+            service().call("_setUseMoveALTracker", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setUseMoveALTracker}.
+    * .
+    * 
+    */
+    public ALFuture<Void> _setUseMoveALTrackerAsync(Boolean param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_setUseMoveALTracker", param1));
     }
 
     /**
@@ -329,9 +646,18 @@ public class ALRecharge extends ALModule {
     */
     public void _updateStationDetection(String param1, java.lang.Object param2, String param3) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_updateStationDetection", param1, param2, param3);
+            service().call("_updateStationDetection", param1, param2, param3);
         else
-            service.call("_updateStationDetection", param1, param2, param3).get();
+            service().call("_updateStationDetection", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_updateStationDetection}.
+    * .
+    * 
+    */
+    public ALFuture<Void> _updateStationDetectionAsync(String param1, java.lang.Object param2, String param3) throws CallError {
+        return ALFuture.of(service().<Void>call("_updateStationDetection", param1, param2, param3));
     }
 
     /**
@@ -340,9 +666,18 @@ public class ALRecharge extends ALModule {
     */
     public void _eventTrackerSearcherLoopCallback() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_eventTrackerSearcherLoopCallback");
+            service().call("_eventTrackerSearcherLoopCallback");
         else
-            service.call("_eventTrackerSearcherLoopCallback").get();
+            service().call("_eventTrackerSearcherLoopCallback").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_eventTrackerSearcherLoopCallback}.
+    * .
+    * 
+    */
+    public ALFuture<Void> _eventTrackerSearcherLoopCallbackAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_eventTrackerSearcherLoopCallback"));
     }
 
     /**
@@ -351,9 +686,18 @@ public class ALRecharge extends ALModule {
     */
     public void _eventTrackerTargetReachedCallback() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_eventTrackerTargetReachedCallback");
+            service().call("_eventTrackerTargetReachedCallback");
         else
-            service.call("_eventTrackerTargetReachedCallback").get();
+            service().call("_eventTrackerTargetReachedCallback").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_eventTrackerTargetReachedCallback}.
+    * .
+    * 
+    */
+    public ALFuture<Void> _eventTrackerTargetReachedCallbackAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_eventTrackerTargetReachedCallback"));
     }
 
 }
@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -26,9 +27,20 @@ public class ALResourceManager extends ALModule {
     */
     public void createResourcesList(List<String> resourceGroupName, String resourceName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("createResourcesList", resourceGroupName, resourceName);
+            service().call("createResourcesList", resourceGroupName, resourceName);
         else
-            service.call("createResourcesList", resourceGroupName, resourceName).get();
+            service().call("createResourcesList", resourceGroupName, resourceName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #createResourcesList}.
+    * True if a resource is in another parent resource
+    * 
+    * @param resourceGroupName  Group name. Ex: Arm
+    * @param resourceName  Resource name
+    */
+    public ALFuture<Void> createResourcesListAsync(List<String> resourceGroupName, String resourceName) throws CallError {
+        return ALFuture.of(service().<Void>call("createResourcesList", resourceGroupName, resourceName));
     }
 
     /**
@@ -36,7 +48,16 @@ public class ALResourceManager extends ALModule {
     * 
     */
     public java.lang.Object ownersGet() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("ownersGet").get();
+        return (java.lang.Object)service().call("ownersGet").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ownersGet}.
+    * The tree of the resources owners.
+    * 
+    */
+    public ALFuture<java.lang.Object> ownersGetAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("ownersGet"));
     }
 
     /**
@@ -44,7 +65,16 @@ public class ALResourceManager extends ALModule {
     * 
     */
     public java.lang.Object getResources() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getResources").get();
+        return (java.lang.Object)service().call("getResources").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getResources}.
+    * Get tree of resources
+    * 
+    */
+    public ALFuture<java.lang.Object> getResourcesAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getResources"));
     }
 
     /**
@@ -52,7 +82,16 @@ public class ALResourceManager extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -61,9 +100,18 @@ public class ALResourceManager extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -71,7 +119,16 @@ public class ALResourceManager extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -80,9 +137,18 @@ public class ALResourceManager extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -91,7 +157,17 @@ public class ALResourceManager extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -100,7 +176,17 @@ public class ALResourceManager extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -109,7 +195,17 @@ public class ALResourceManager extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -119,7 +215,18 @@ public class ALResourceManager extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -128,7 +235,17 @@ public class ALResourceManager extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -139,7 +256,19 @@ public class ALResourceManager extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -149,7 +278,18 @@ public class ALResourceManager extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -159,9 +299,19 @@ public class ALResourceManager extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -170,7 +320,17 @@ public class ALResourceManager extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -180,7 +340,18 @@ public class ALResourceManager extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -193,9 +364,22 @@ public class ALResourceManager extends ALModule {
     */
     public void waitForResource(String resourceName, String ownerName, String callbackName, Integer timeoutSeconds) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("waitForResource", resourceName, ownerName, callbackName, timeoutSeconds);
+            service().call("waitForResource", resourceName, ownerName, callbackName, timeoutSeconds);
         else
-            service.call("waitForResource", resourceName, ownerName, callbackName, timeoutSeconds).get();
+            service().call("waitForResource", resourceName, ownerName, callbackName, timeoutSeconds).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #waitForResource}.
+    * Wait resource
+    * 
+    * @param resourceName  Resource name
+    * @param ownerName  Module name
+    * @param callbackName  callback name
+    * @param timeoutSeconds  Timeout in seconds
+    */
+    public ALFuture<Void> waitForResourceAsync(String resourceName, String ownerName, String callbackName, Integer timeoutSeconds) throws CallError {
+        return ALFuture.of(service().<Void>call("waitForResource", resourceName, ownerName, callbackName, timeoutSeconds));
     }
 
     /**
@@ -208,9 +392,22 @@ public class ALResourceManager extends ALModule {
     */
     public void acquireResource(String resourceName, String moduleName, String callbackName, Integer timeoutSeconds) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("acquireResource", resourceName, moduleName, callbackName, timeoutSeconds);
+            service().call("acquireResource", resourceName, moduleName, callbackName, timeoutSeconds);
         else
-            service.call("acquireResource", resourceName, moduleName, callbackName, timeoutSeconds).get();
+            service().call("acquireResource", resourceName, moduleName, callbackName, timeoutSeconds).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #acquireResource}.
+    * Wait and acquire a resource
+    * 
+    * @param resourceName  Resource name
+    * @param moduleName  Module name
+    * @param callbackName  callback name
+    * @param timeoutSeconds  Timeout in seconds
+    */
+    public ALFuture<Void> acquireResourceAsync(String resourceName, String moduleName, String callbackName, Integer timeoutSeconds) throws CallError {
+        return ALFuture.of(service().<Void>call("acquireResource", resourceName, moduleName, callbackName, timeoutSeconds));
     }
 
     /**
@@ -218,7 +415,16 @@ public class ALResourceManager extends ALModule {
     * 
     */
     public List<String> waitForOptionalResourcesTree(List<String> param1, String param2, String param3, Integer param4, List<String> param5) throws CallError, InterruptedException {
-        return (List<String>)service.call("waitForOptionalResourcesTree", param1, param2, param3, param4, param5).get();
+        return (List<String>)service().call("waitForOptionalResourcesTree", param1, param2, param3, param4, param5).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #waitForOptionalResourcesTree}.
+    * Wait resource
+    * 
+    */
+    public ALFuture<List<String>> waitForOptionalResourcesTreeAsync(List<String> param1, String param2, String param3, Integer param4, List<String> param5) throws CallError {
+        return ALFuture.of(service().<List<String>>call("waitForOptionalResourcesTree", param1, param2, param3, param4, param5));
     }
 
     /**
@@ -231,9 +437,22 @@ public class ALResourceManager extends ALModule {
     */
     public void waitForResourcesTree(List<String> resourceName, String moduleName, String callbackName, Integer timeoutSeconds) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("waitForResourcesTree", resourceName, moduleName, callbackName, timeoutSeconds);
+            service().call("waitForResourcesTree", resourceName, moduleName, callbackName, timeoutSeconds);
         else
-            service.call("waitForResourcesTree", resourceName, moduleName, callbackName, timeoutSeconds).get();
+            service().call("waitForResourcesTree", resourceName, moduleName, callbackName, timeoutSeconds).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #waitForResourcesTree}.
+    * Wait for resource tree. Parent and children are not in conflict. Local function
+    * 
+    * @param resourceName  Resource name
+    * @param moduleName  Module name
+    * @param callbackName  callback name
+    * @param timeoutSeconds  Timeout in seconds
+    */
+    public ALFuture<Void> waitForResourcesTreeAsync(List<String> resourceName, String moduleName, String callbackName, Integer timeoutSeconds) throws CallError {
+        return ALFuture.of(service().<Void>call("waitForResourcesTree", resourceName, moduleName, callbackName, timeoutSeconds));
     }
 
     /**
@@ -246,9 +465,22 @@ public class ALResourceManager extends ALModule {
     */
     public void acquireResourcesTree(List<String> resourceName, String moduleName, String callbackName, Integer timeoutSeconds) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("acquireResourcesTree", resourceName, moduleName, callbackName, timeoutSeconds);
+            service().call("acquireResourcesTree", resourceName, moduleName, callbackName, timeoutSeconds);
         else
-            service.call("acquireResourcesTree", resourceName, moduleName, callbackName, timeoutSeconds).get();
+            service().call("acquireResourcesTree", resourceName, moduleName, callbackName, timeoutSeconds).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #acquireResourcesTree}.
+    * Wait for resource tree. Parent and children are not in conflict. Local function
+    * 
+    * @param resourceName  Resource name
+    * @param moduleName  Module name
+    * @param callbackName  callback name
+    * @param timeoutSeconds  Timeout in seconds
+    */
+    public ALFuture<Void> acquireResourcesTreeAsync(List<String> resourceName, String moduleName, String callbackName, Integer timeoutSeconds) throws CallError {
+        return ALFuture.of(service().<Void>call("acquireResourcesTree", resourceName, moduleName, callbackName, timeoutSeconds));
     }
 
     /**
@@ -259,7 +491,19 @@ public class ALResourceManager extends ALModule {
     * @return True if all the specify resources are owned by the owner
     */
     public Boolean areResourcesOwnedBy(List<String> resourceNameList, String ownerName) throws CallError, InterruptedException {
-        return (Boolean)service.call("areResourcesOwnedBy", resourceNameList, ownerName).get();
+        return (Boolean)service().call("areResourcesOwnedBy", resourceNameList, ownerName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #areResourcesOwnedBy}.
+    * True if all the specified resources are owned by the owner
+    * 
+    * @param resourceNameList  Resource name
+    * @param ownerName  Owner pointer with hierarchy
+    * @return True if all the specify resources are owned by the owner
+    */
+    public ALFuture<Boolean> areResourcesOwnedByAsync(List<String> resourceNameList, String ownerName) throws CallError {
+        return ALFuture.of(service().<Boolean>call("areResourcesOwnedBy", resourceNameList, ownerName));
     }
 
     /**
@@ -270,9 +514,20 @@ public class ALResourceManager extends ALModule {
     */
     public void releaseResource(String resourceName, String ownerName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("releaseResource", resourceName, ownerName);
+            service().call("releaseResource", resourceName, ownerName);
         else
-            service.call("releaseResource", resourceName, ownerName).get();
+            service().call("releaseResource", resourceName, ownerName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #releaseResource}.
+    * Release resource
+    * 
+    * @param resourceName  Resource name
+    * @param ownerName  Existing owner name
+    */
+    public ALFuture<Void> releaseResourceAsync(String resourceName, String ownerName) throws CallError {
+        return ALFuture.of(service().<Void>call("releaseResource", resourceName, ownerName));
     }
 
     /**
@@ -283,9 +538,20 @@ public class ALResourceManager extends ALModule {
     */
     public void releaseResources(List<String> resourceNames, String ownerName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("releaseResources", resourceNames, ownerName);
+            service().call("releaseResources", resourceNames, ownerName);
         else
-            service.call("releaseResources", resourceNames, ownerName).get();
+            service().call("releaseResources", resourceNames, ownerName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #releaseResources}.
+    * Release  resources list
+    * 
+    * @param resourceNames  Resource names
+    * @param ownerName  Owner name
+    */
+    public ALFuture<Void> releaseResourcesAsync(List<String> resourceNames, String ownerName) throws CallError {
+        return ALFuture.of(service().<Void>call("releaseResources", resourceNames, ownerName));
     }
 
     /**
@@ -296,9 +562,20 @@ public class ALResourceManager extends ALModule {
     */
     public void enableStateResource(String resourceName, Boolean enabled) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("enableStateResource", resourceName, enabled);
+            service().call("enableStateResource", resourceName, enabled);
         else
-            service.call("enableStateResource", resourceName, enabled).get();
+            service().call("enableStateResource", resourceName, enabled).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #enableStateResource}.
+    * Enable or disable a state resource
+    * 
+    * @param resourceName  The name of the resource that you wish enable of disable. e.g. Standing
+    * @param enabled  True to enable, false to disable
+    */
+    public ALFuture<Void> enableStateResourceAsync(String resourceName, Boolean enabled) throws CallError {
+        return ALFuture.of(service().<Void>call("enableStateResource", resourceName, enabled));
     }
 
     /**
@@ -307,7 +584,17 @@ public class ALResourceManager extends ALModule {
     * @param resourceName  Resource name
     */
     public Boolean checkStateResourceFree(List<String> resourceName) throws CallError, InterruptedException {
-        return (Boolean)service.call("checkStateResourceFree", resourceName).get();
+        return (Boolean)service().call("checkStateResourceFree", resourceName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #checkStateResourceFree}.
+    * check if all the state resource in the list are free
+    * 
+    * @param resourceName  Resource name
+    */
+    public ALFuture<Boolean> checkStateResourceFreeAsync(List<String> resourceName) throws CallError {
+        return ALFuture.of(service().<Boolean>call("checkStateResourceFree", resourceName));
     }
 
     /**
@@ -317,7 +604,18 @@ public class ALResourceManager extends ALModule {
     * @return True if all the specify resources are free
     */
     public Boolean areResourcesFree(List<String> resourceNames) throws CallError, InterruptedException {
-        return (Boolean)service.call("areResourcesFree", resourceNames).get();
+        return (Boolean)service().call("areResourcesFree", resourceNames).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #areResourcesFree}.
+    * True if all resources are free
+    * 
+    * @param resourceNames  Resource names
+    * @return True if all the specify resources are free
+    */
+    public ALFuture<Boolean> areResourcesFreeAsync(List<String> resourceNames) throws CallError {
+        return ALFuture.of(service().<Boolean>call("areResourcesFree", resourceNames));
     }
 
     /**
@@ -327,7 +625,18 @@ public class ALResourceManager extends ALModule {
     * @return True if the specify resources is free
     */
     public Boolean isResourceFree(String resourceNames) throws CallError, InterruptedException {
-        return (Boolean)service.call("isResourceFree", resourceNames).get();
+        return (Boolean)service().call("isResourceFree", resourceNames).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isResourceFree}.
+    * True if the resource is free
+    * 
+    * @param resourceNames  Resource name
+    * @return True if the specify resources is free
+    */
+    public ALFuture<Boolean> isResourceFreeAsync(String resourceNames) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isResourceFree", resourceNames));
     }
 
     /**
@@ -338,9 +647,20 @@ public class ALResourceManager extends ALModule {
     */
     public void createResource(String resourceName, String parentResourceName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("createResource", resourceName, parentResourceName);
+            service().call("createResource", resourceName, parentResourceName);
         else
-            service.call("createResource", resourceName, parentResourceName).get();
+            service().call("createResource", resourceName, parentResourceName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #createResource}.
+    * Create a resource
+    * 
+    * @param resourceName  Resource name to create
+    * @param parentResourceName  Parent resource name or empty string for root resource
+    */
+    public ALFuture<Void> createResourceAsync(String resourceName, String parentResourceName) throws CallError {
+        return ALFuture.of(service().<Void>call("createResource", resourceName, parentResourceName));
     }
 
     /**
@@ -351,9 +671,20 @@ public class ALResourceManager extends ALModule {
     */
     public void deleteResource(String resourceName, Boolean deleteChildResources) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("deleteResource", resourceName, deleteChildResources);
+            service().call("deleteResource", resourceName, deleteChildResources);
         else
-            service.call("deleteResource", resourceName, deleteChildResources).get();
+            service().call("deleteResource", resourceName, deleteChildResources).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #deleteResource}.
+    * Delete a root resource
+    * 
+    * @param resourceName  Resource name to delete
+    * @param deleteChildResources  DEPRECATED: Delete child resources if true
+    */
+    public ALFuture<Void> deleteResourceAsync(String resourceName, Boolean deleteChildResources) throws CallError {
+        return ALFuture.of(service().<Void>call("deleteResource", resourceName, deleteChildResources));
     }
 
     /**
@@ -363,7 +694,18 @@ public class ALResourceManager extends ALModule {
     * @param resourceName  Resource name
     */
     public Boolean isInGroup(String resourceGroupName, String resourceName) throws CallError, InterruptedException {
-        return (Boolean)service.call("isInGroup", resourceGroupName, resourceName).get();
+        return (Boolean)service().call("isInGroup", resourceGroupName, resourceName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isInGroup}.
+    * True if a resource is in another parent resource
+    * 
+    * @param resourceGroupName  Group name. Ex: Arm
+    * @param resourceName  Resource name
+    */
+    public ALFuture<Boolean> isInGroupAsync(String resourceGroupName, String resourceName) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isInGroup", resourceGroupName, resourceName));
     }
 
 }
@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -24,9 +25,18 @@ public class ALRobotHealthMonitor extends ALModule {
     */
     public void _uploadActiveDiagnosis() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_uploadActiveDiagnosis");
+            service().call("_uploadActiveDiagnosis");
         else
-            service.call("_uploadActiveDiagnosis").get();
+            service().call("_uploadActiveDiagnosis").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_uploadActiveDiagnosis}.
+    * Called when an active diagnosis error is triggered
+    * 
+    */
+    public ALFuture<Void> _uploadActiveDiagnosisAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_uploadActiveDiagnosis"));
     }
 
     /**
@@ -34,7 +44,16 @@ public class ALRobotHealthMonitor extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -43,9 +62,18 @@ public class ALRobotHealthMonitor extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -53,7 +81,16 @@ public class ALRobotHealthMonitor extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -62,9 +99,18 @@ public class ALRobotHealthMonitor extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -73,7 +119,17 @@ public class ALRobotHealthMonitor extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -82,7 +138,17 @@ public class ALRobotHealthMonitor extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -91,7 +157,17 @@ public class ALRobotHealthMonitor extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -101,7 +177,18 @@ public class ALRobotHealthMonitor extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -110,7 +197,17 @@ public class ALRobotHealthMonitor extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -121,7 +218,19 @@ public class ALRobotHealthMonitor extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -131,7 +240,18 @@ public class ALRobotHealthMonitor extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -141,9 +261,19 @@ public class ALRobotHealthMonitor extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -152,7 +282,17 @@ public class ALRobotHealthMonitor extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -162,7 +302,18 @@ public class ALRobotHealthMonitor extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -172,9 +323,19 @@ public class ALRobotHealthMonitor extends ALModule {
     */
     public void _start() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_start");
+            service().call("_start");
         else
-            service.call("_start").get();
+            service().call("_start").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_start}.
+    * start this module.
+    * 
+    * @param conffile  Path to the configuration file.
+    */
+    public ALFuture<Void> _startAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_start"));
     }
 
     /**
@@ -183,9 +344,18 @@ public class ALRobotHealthMonitor extends ALModule {
     */
     public void _stop() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_stop");
+            service().call("_stop");
         else
-            service.call("_stop").get();
+            service().call("_stop").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_stop}.
+    * stop this module.
+    * 
+    */
+    public ALFuture<Void> _stopAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_stop"));
     }
 
     /**
@@ -194,9 +364,18 @@ public class ALRobotHealthMonitor extends ALModule {
     */
     public void _mainThread() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_mainThread");
+            service().call("_mainThread");
         else
-            service.call("_mainThread").get();
+            service().call("_mainThread").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_mainThread}.
+    * simple loop calling buffer update every "period" milliseconds
+    * 
+    */
+    public ALFuture<Void> _mainThreadAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_mainThread"));
     }
 
     /**
@@ -205,9 +384,18 @@ public class ALRobotHealthMonitor extends ALModule {
     */
     public void _enableNetwork(Boolean param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_enableNetwork", param1);
+            service().call("_enableNetwork", param1);
         else
-            service.call("_enableNetwork", param1).get();
+            service().call("_enableNetwork", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_enableNetwork}.
+    * enable storage of collected data on remote servers.
+    * 
+    */
+    public ALFuture<Void> _enableNetworkAsync(Boolean param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_enableNetwork", param1));
     }
 
     /**
@@ -216,9 +404,18 @@ public class ALRobotHealthMonitor extends ALModule {
     */
     public void _setNetworkVerboseLevel(Integer param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setNetworkVerboseLevel", param1);
+            service().call("_setNetworkVerboseLevel", param1);
         else
-            service.call("_setNetworkVerboseLevel", param1).get();
+            service().call("_setNetworkVerboseLevel", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setNetworkVerboseLevel}.
+    * used for debugging. Set verbose level.
+    * 
+    */
+    public ALFuture<Void> _setNetworkVerboseLevelAsync(Integer param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_setNetworkVerboseLevel", param1));
     }
 
     /**
@@ -228,9 +425,19 @@ public class ALRobotHealthMonitor extends ALModule {
     */
     public void _setTimeInMinutePassiveDiagLoop(Integer timeInMinutePassiveDiagLoop) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setTimeInMinutePassiveDiagLoop", timeInMinutePassiveDiagLoop);
+            service().call("_setTimeInMinutePassiveDiagLoop", timeInMinutePassiveDiagLoop);
         else
-            service.call("_setTimeInMinutePassiveDiagLoop", timeInMinutePassiveDiagLoop).get();
+            service().call("_setTimeInMinutePassiveDiagLoop", timeInMinutePassiveDiagLoop).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setTimeInMinutePassiveDiagLoop}.
+    * Set passive diagnosis loop sleep duration in minute.
+    * 
+    * @param timeInMinutePassiveDiagLoop  Duration in minute.
+    */
+    public ALFuture<Void> _setTimeInMinutePassiveDiagLoopAsync(Integer timeInMinutePassiveDiagLoop) throws CallError {
+        return ALFuture.of(service().<Void>call("_setTimeInMinutePassiveDiagLoop", timeInMinutePassiveDiagLoop));
     }
 
     /**
@@ -238,7 +445,16 @@ public class ALRobotHealthMonitor extends ALModule {
     * 
     */
     public Integer _getTimeInMinutePassiveDiagLoop() throws CallError, InterruptedException {
-        return (Integer)service.call("_getTimeInMinutePassiveDiagLoop").get();
+        return (Integer)service().call("_getTimeInMinutePassiveDiagLoop").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getTimeInMinutePassiveDiagLoop}.
+    * Get passive diagnosis loop sleep duration in minute.
+    * 
+    */
+    public ALFuture<Integer> _getTimeInMinutePassiveDiagLoopAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("_getTimeInMinutePassiveDiagLoop"));
     }
 
     /**
@@ -250,9 +466,21 @@ public class ALRobotHealthMonitor extends ALModule {
     */
     public void _onConnectivityChanged(String param1, java.lang.Object param2, String param3) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onConnectivityChanged", param1, param2, param3);
+            service().call("_onConnectivityChanged", param1, param2, param3);
         else
-            service.call("_onConnectivityChanged", param1, param2, param3).get();
+            service().call("_onConnectivityChanged", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onConnectivityChanged}.
+    * Internal callback
+    * 
+    * @param string  variable
+    * @param string  value
+    * @param string  message
+    */
+    public ALFuture<Void> _onConnectivityChangedAsync(String param1, java.lang.Object param2, String param3) throws CallError {
+        return ALFuture.of(service().<Void>call("_onConnectivityChanged", param1, param2, param3));
     }
 
     /**
@@ -264,9 +492,21 @@ public class ALRobotHealthMonitor extends ALModule {
     */
     public void _onEventNotify(String dataName, java.lang.Object dataValue, java.lang.Object message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onEventNotify", dataName, dataValue, message);
+            service().call("_onEventNotify", dataName, dataValue, message);
         else
-            service.call("_onEventNotify", dataName, dataValue, message).get();
+            service().call("_onEventNotify", dataName, dataValue, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onEventNotify}.
+    * Be notified when an event we have subscribed to has changed in ALMemory
+    * 
+    * @param dataName  name of the data
+    * @param dataValue  value of the data
+    * @param message  callback message
+    */
+    public ALFuture<Void> _onEventNotifyAsync(String dataName, java.lang.Object dataValue, java.lang.Object message) throws CallError {
+        return ALFuture.of(service().<Void>call("_onEventNotify", dataName, dataValue, message));
     }
 
     /**
@@ -278,9 +518,21 @@ public class ALRobotHealthMonitor extends ALModule {
     */
     public void _onKeyAdded(String dataName, java.lang.Object dataValue, java.lang.Object message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onKeyAdded", dataName, dataValue, message);
+            service().call("_onKeyAdded", dataName, dataValue, message);
         else
-            service.call("_onKeyAdded", dataName, dataValue, message).get();
+            service().call("_onKeyAdded", dataName, dataValue, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onKeyAdded}.
+    * Be notified when an event we have subscribed to has changed in ALMemory
+    * 
+    * @param dataName  name of the data
+    * @param dataValue  value of the data
+    * @param message  callback message
+    */
+    public ALFuture<Void> _onKeyAddedAsync(String dataName, java.lang.Object dataValue, java.lang.Object message) throws CallError {
+        return ALFuture.of(service().<Void>call("_onKeyAdded", dataName, dataValue, message));
     }
 
     /**
@@ -292,9 +544,21 @@ public class ALRobotHealthMonitor extends ALModule {
     */
     public void _onKeyRemoved(String dataName, java.lang.Object dataValue, java.lang.Object message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onKeyRemoved", dataName, dataValue, message);
+            service().call("_onKeyRemoved", dataName, dataValue, message);
         else
-            service.call("_onKeyRemoved", dataName, dataValue, message).get();
+            service().call("_onKeyRemoved", dataName, dataValue, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onKeyRemoved}.
+    * Be notified when a key is removed in ALMemory
+    * 
+    * @param dataName  name of the data
+    * @param dataValue  value of the data
+    * @param message  callback message
+    */
+    public ALFuture<Void> _onKeyRemovedAsync(String dataName, java.lang.Object dataValue, java.lang.Object message) throws CallError {
+        return ALFuture.of(service().<Void>call("_onKeyRemoved", dataName, dataValue, message));
     }
 
     /**
@@ -306,9 +570,21 @@ public class ALRobotHealthMonitor extends ALModule {
     */
     public void _onKeyTypeChanged(String dataName, java.lang.Object dataValue, java.lang.Object message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onKeyTypeChanged", dataName, dataValue, message);
+            service().call("_onKeyTypeChanged", dataName, dataValue, message);
         else
-            service.call("_onKeyTypeChanged", dataName, dataValue, message).get();
+            service().call("_onKeyTypeChanged", dataName, dataValue, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onKeyTypeChanged}.
+    * Be notified when an event we have subscribe to has changed in ALMemory
+    * 
+    * @param dataName  name of the data
+    * @param dataValue  value of the data
+    * @param message  callback message
+    */
+    public ALFuture<Void> _onKeyTypeChangedAsync(String dataName, java.lang.Object dataValue, java.lang.Object message) throws CallError {
+        return ALFuture.of(service().<Void>call("_onKeyTypeChanged", dataName, dataValue, message));
     }
 
     /**
@@ -320,9 +596,21 @@ public class ALRobotHealthMonitor extends ALModule {
     */
     public void _onNetworkServiceAdded(String eventName, java.lang.Object serviceId, String subscriberIdentifier) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onNetworkServiceAdded", eventName, serviceId, subscriberIdentifier);
+            service().call("_onNetworkServiceAdded", eventName, serviceId, subscriberIdentifier);
         else
-            service.call("_onNetworkServiceAdded", eventName, serviceId, subscriberIdentifier).get();
+            service().call("_onNetworkServiceAdded", eventName, serviceId, subscriberIdentifier).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onNetworkServiceAdded}.
+    * Called when a service is added to the service list.
+    * 
+    * @param eventName  NetworkServiceAdded
+    * @param serviceId  The service identifier of the added service.
+    * @param subscriberIdentifier  -
+    */
+    public ALFuture<Void> _onNetworkServiceAddedAsync(String eventName, java.lang.Object serviceId, String subscriberIdentifier) throws CallError {
+        return ALFuture.of(service().<Void>call("_onNetworkServiceAdded", eventName, serviceId, subscriberIdentifier));
     }
 
     /**
@@ -334,9 +622,21 @@ public class ALRobotHealthMonitor extends ALModule {
     */
     public void _onNetworkServiceRemoved(String eventName, java.lang.Object serviceId, String subscriberIdentifier) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onNetworkServiceRemoved", eventName, serviceId, subscriberIdentifier);
+            service().call("_onNetworkServiceRemoved", eventName, serviceId, subscriberIdentifier);
         else
-            service.call("_onNetworkServiceRemoved", eventName, serviceId, subscriberIdentifier).get();
+            service().call("_onNetworkServiceRemoved", eventName, serviceId, subscriberIdentifier).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onNetworkServiceRemoved}.
+    * Called when a service is removed from the service list.
+    * 
+    * @param eventName  NetworkServiceRemoved
+    * @param serviceId  The service identifier of the removed service.
+    * @param subscriberIdentifier  -
+    */
+    public ALFuture<Void> _onNetworkServiceRemovedAsync(String eventName, java.lang.Object serviceId, String subscriberIdentifier) throws CallError {
+        return ALFuture.of(service().<Void>call("_onNetworkServiceRemoved", eventName, serviceId, subscriberIdentifier));
     }
 
     /**
@@ -348,9 +648,21 @@ public class ALRobotHealthMonitor extends ALModule {
     */
     public void _onNetworkServiceStateChanged(String eventName, java.lang.Object serviceState, String subscriberIdentifier) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onNetworkServiceStateChanged", eventName, serviceState, subscriberIdentifier);
+            service().call("_onNetworkServiceStateChanged", eventName, serviceState, subscriberIdentifier);
         else
-            service.call("_onNetworkServiceStateChanged", eventName, serviceState, subscriberIdentifier).get();
+            service().call("_onNetworkServiceStateChanged", eventName, serviceState, subscriberIdentifier).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onNetworkServiceStateChanged}.
+    * Called when a service is removed from the service list.
+    * 
+    * @param eventName  NetworkServiceStateChanged
+    * @param serviceState  A pair which contains the serviceId and the state of the service.
+    * @param subscriberIdentifier  -
+    */
+    public ALFuture<Void> _onNetworkServiceStateChangedAsync(String eventName, java.lang.Object serviceState, String subscriberIdentifier) throws CallError {
+        return ALFuture.of(service().<Void>call("_onNetworkServiceStateChanged", eventName, serviceState, subscriberIdentifier));
     }
 
 }
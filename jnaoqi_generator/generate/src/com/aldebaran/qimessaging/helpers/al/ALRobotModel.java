@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -23,7 +24,16 @@ public class ALRobotModel extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -32,9 +42,18 @@ public class ALRobotModel extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -42,7 +61,16 @@ public class ALRobotModel extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -51,9 +79,18 @@ public class ALRobotModel extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -62,7 +99,17 @@ public class ALRobotModel extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -71,7 +118,17 @@ public class ALRobotModel extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -80,7 +137,17 @@ public class ALRobotModel extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -90,7 +157,18 @@ public class ALRobotModel extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -99,7 +177,17 @@ public class ALRobotModel extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -110,7 +198,19 @@ public class ALRobotModel extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -120,7 +220,18 @@ public class ALRobotModel extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -130,9 +241,19 @@ public class ALRobotModel extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -141,7 +262,17 @@ public class ALRobotModel extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -151,7 +282,18 @@ public class ALRobotModel extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -160,7 +302,17 @@ public class ALRobotModel extends ALModule {
     * @return the RobotConfig key/value pairs in xml format
     */
     public String getConfig() throws CallError, InterruptedException {
-        return (String)service.call("getConfig").get();
+        return (String)service().call("getConfig").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getConfig}.
+    * Return the RobotConfig key/value pairs serialized in xml format
+    * 
+    * @return the RobotConfig key/value pairs in xml format
+    */
+    public ALFuture<String> getConfigAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getConfig"));
     }
 
     /**
@@ -169,7 +321,17 @@ public class ALRobotModel extends ALModule {
     * @return the RobotConfig key/value pairs in a  std::map<std::string, AL::ALValue>
     */
     public Map<String, java.lang.Object> _getConfigMap() throws CallError, InterruptedException {
-        return (Map<String, java.lang.Object>)service.call("_getConfigMap").get();
+        return (Map<String, java.lang.Object>)service().call("_getConfigMap").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getConfigMap}.
+    * Return the RobotConfig key/value pairs
+    * 
+    * @return the RobotConfig key/value pairs in a  std::map<std::string, AL::ALValue>
+    */
+    public ALFuture<Map<String, java.lang.Object>> _getConfigMapAsync() throws CallError {
+        return ALFuture.of(service().<Map<String, java.lang.Object>>call("_getConfigMap"));
     }
 
     /**
@@ -178,7 +340,17 @@ public class ALRobotModel extends ALModule {
     * @return True if the robot is a robocup version.
     */
     public Boolean _isRobocup() throws CallError, InterruptedException {
-        return (Boolean)service.call("_isRobocup").get();
+        return (Boolean)service().call("_isRobocup").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_isRobocup}.
+    * Determine if the robot is a robocup version.
+    * 
+    * @return True if the robot is a robocup version.
+    */
+    public ALFuture<Boolean> _isRobocupAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("_isRobocup"));
     }
 
     /**
@@ -187,7 +359,17 @@ public class ALRobotModel extends ALModule {
     * @return The robot model.
     */
     public Integer _getRobotModel() throws CallError, InterruptedException {
-        return (Integer)service.call("_getRobotModel").get();
+        return (Integer)service().call("_getRobotModel").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getRobotModel}.
+    * Get the robot model. Could be : ROBOT_MODEL_H25, ROBOT_MODEL_H21, ....
+    * 
+    * @return The robot model.
+    */
+    public ALFuture<Integer> _getRobotModelAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("_getRobotModel"));
     }
 
     /**
@@ -196,7 +378,17 @@ public class ALRobotModel extends ALModule {
     * @return The robot type.
     */
     public Integer _getRobotType() throws CallError, InterruptedException {
-        return (Integer)service.call("_getRobotType").get();
+        return (Integer)service().call("_getRobotType").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getRobotType}.
+    * Get the robot type. Could be : ROBOT_TYPE_NAO, ROBOT_TYPE_ROMEO ....
+    * 
+    * @return The robot type.
+    */
+    public ALFuture<Integer> _getRobotTypeAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("_getRobotType"));
     }
 
     /**
@@ -205,7 +397,17 @@ public class ALRobotModel extends ALModule {
     * @return The robot type.
     */
     public String _getRobotTypeString() throws CallError, InterruptedException {
-        return (String)service.call("_getRobotTypeString").get();
+        return (String)service().call("_getRobotTypeString").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getRobotTypeString}.
+    * Get the robot type. Could be : nao, romeo, ....
+    * 
+    * @return The robot type.
+    */
+    public ALFuture<String> _getRobotTypeStringAsync() throws CallError {
+        return ALFuture.of(service().<String>call("_getRobotTypeString"));
     }
 
     /**
@@ -216,9 +418,20 @@ public class ALRobotModel extends ALModule {
     */
     public void _setConfigFromConfigXml(String fileName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setConfigFromConfigXml", fileName);
+            service().call("_setConfigFromConfigXml", fileName);
         else
-            service.call("_setConfigFromConfigXml", fileName).get();
+            service().call("_setConfigFromConfigXml", fileName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setConfigFromConfigXml}.
+    * Set config from model type name 
+
+    * 
+    * @param fileName  the file name of config XML (NAOT2V32.xml, NAOH25V40.xml, ...)
+    */
+    public ALFuture<Void> _setConfigFromConfigXmlAsync(String fileName) throws CallError {
+        return ALFuture.of(service().<Void>call("_setConfigFromConfigXml", fileName));
     }
 
     /**
@@ -227,7 +440,17 @@ public class ALRobotModel extends ALModule {
     * @return Integer value representing the config.
     */
     public Integer _getMicrophoneConfig() throws CallError, InterruptedException {
-        return (Integer)service.call("_getMicrophoneConfig").get();
+        return (Integer)service().call("_getMicrophoneConfig").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getMicrophoneConfig}.
+    * Get microphone configuration.
+    * 
+    * @return Integer value representing the config.
+    */
+    public ALFuture<Integer> _getMicrophoneConfigAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("_getMicrophoneConfig"));
     }
 
     /**
@@ -236,7 +459,17 @@ public class ALRobotModel extends ALModule {
     * @return True if the robot has the sensors.
     */
     public Boolean _hasTouchSensorInHands() throws CallError, InterruptedException {
-        return (Boolean)service.call("_hasTouchSensorInHands").get();
+        return (Boolean)service().call("_hasTouchSensorInHands").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_hasTouchSensorInHands}.
+    * Determine if the robot has touch sensor in the hands.
+    * 
+    * @return True if the robot has the sensors.
+    */
+    public ALFuture<Boolean> _hasTouchSensorInHandsAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("_hasTouchSensorInHands"));
     }
 
     /**
@@ -245,7 +478,17 @@ public class ALRobotModel extends ALModule {
     * @return True if the robot has the tablet.
     */
     public Boolean _hasTablet() throws CallError, InterruptedException {
-        return (Boolean)service.call("_hasTablet").get();
+        return (Boolean)service().call("_hasTablet").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_hasTablet}.
+    * Determine if the robot has a tablet.
+    * 
+    * @return True if the robot has the tablet.
+    */
+    public ALFuture<Boolean> _hasTabletAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("_hasTablet"));
     }
 
 }
@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -23,7 +24,16 @@ public class ALRobotPosture extends ALModule {
     * 
     */
     public Boolean _saveCurrentPosture(Integer param1) throws CallError, InterruptedException {
-        return (Boolean)service.call("_saveCurrentPosture", param1).get();
+        return (Boolean)service().call("_saveCurrentPosture", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_saveCurrentPosture}.
+    * Save current posture.
+    * 
+    */
+    public ALFuture<Boolean> _saveCurrentPostureAsync(Integer param1) throws CallError {
+        return ALFuture.of(service().<Boolean>call("_saveCurrentPosture", param1));
     }
 
     /**
@@ -31,7 +41,16 @@ public class ALRobotPosture extends ALModule {
     * 
     */
     public Boolean _addNeighbourToPosture(Integer param1, Integer param2, Float param3) throws CallError, InterruptedException {
-        return (Boolean)service.call("_addNeighbourToPosture", param1, param2, param3).get();
+        return (Boolean)service().call("_addNeighbourToPosture", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_addNeighbourToPosture}.
+    * Add a neighbour to a postures.
+    * 
+    */
+    public ALFuture<Boolean> _addNeighbourToPostureAsync(Integer param1, Integer param2, Float param3) throws CallError {
+        return ALFuture.of(service().<Boolean>call("_addNeighbourToPosture", param1, param2, param3));
     }
 
     /**
@@ -39,7 +58,16 @@ public class ALRobotPosture extends ALModule {
     * 
     */
     public Boolean _resavePosture(Integer param1) throws CallError, InterruptedException {
-        return (Boolean)service.call("_resavePosture", param1).get();
+        return (Boolean)service().call("_resavePosture", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_resavePosture}.
+    * Resave posture joints, inertial, family. Keep neighbours.
+    * 
+    */
+    public ALFuture<Boolean> _resavePostureAsync(Integer param1) throws CallError {
+        return ALFuture.of(service().<Boolean>call("_resavePosture", param1));
     }
 
     /**
@@ -47,7 +75,16 @@ public class ALRobotPosture extends ALModule {
     * 
     */
     public Boolean _unBindPostures(Integer param1, Integer param2) throws CallError, InterruptedException {
-        return (Boolean)service.call("_unBindPostures", param1, param2).get();
+        return (Boolean)service().call("_unBindPostures", param1, param2).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_unBindPostures}.
+    * Unbind two postures.
+    * 
+    */
+    public ALFuture<Boolean> _unBindPosturesAsync(Integer param1, Integer param2) throws CallError {
+        return ALFuture.of(service().<Boolean>call("_unBindPostures", param1, param2));
     }
 
     /**
@@ -55,7 +92,16 @@ public class ALRobotPosture extends ALModule {
     * 
     */
     public Boolean _erasePosture(Integer param1) throws CallError, InterruptedException {
-        return (Boolean)service.call("_erasePosture", param1).get();
+        return (Boolean)service().call("_erasePosture", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_erasePosture}.
+    * Erase the posture and unBind theneighbours.
+    * 
+    */
+    public ALFuture<Boolean> _erasePostureAsync(Integer param1) throws CallError {
+        return ALFuture.of(service().<Boolean>call("_erasePosture", param1));
     }
 
     /**
@@ -63,7 +109,16 @@ public class ALRobotPosture extends ALModule {
     * 
     */
     public Boolean _setAntiCollision(Integer param1, Boolean param2) throws CallError, InterruptedException {
-        return (Boolean)service.call("_setAntiCollision", param1, param2).get();
+        return (Boolean)service().call("_setAntiCollision", param1, param2).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setAntiCollision}.
+    * Set anti collisionbetween two postures.
+    * 
+    */
+    public ALFuture<Boolean> _setAntiCollisionAsync(Integer param1, Boolean param2) throws CallError {
+        return ALFuture.of(service().<Boolean>call("_setAntiCollision", param1, param2));
     }
 
     /**
@@ -71,7 +126,16 @@ public class ALRobotPosture extends ALModule {
     * 
     */
     public Boolean _loadPostureLibraryFromName(String param1) throws CallError, InterruptedException {
-        return (Boolean)service.call("_loadPostureLibraryFromName", param1).get();
+        return (Boolean)service().call("_loadPostureLibraryFromName", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_loadPostureLibraryFromName}.
+    * Load a new library file.
+    * 
+    */
+    public ALFuture<Boolean> _loadPostureLibraryFromNameAsync(String param1) throws CallError {
+        return ALFuture.of(service().<Boolean>call("_loadPostureLibraryFromName", param1));
     }
 
     /**
@@ -79,7 +143,34 @@ public class ALRobotPosture extends ALModule {
     * 
     */
     public List<Float> _getCurrentPath() throws CallError, InterruptedException {
-        return (List<Float>)service.call("_getCurrentPath").get();
+        return (List<Float>)service().call("_getCurrentPath").get();
+    }
+
+    /**
+    * Primitive version of {@link #_getCurrentPath}, values are returned unboxed.
+    * Get current graph path.
+    * 
+    */
+    public float[] _getCurrentPathF() throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("_getCurrentPath").get());
+    }
+
+    /**
+    * Primitive version of {@link #_getCurrentPath}, values are written into dst and their count is returned.
+    * Get current graph path.
+    * 
+    */
+    public int _getCurrentPathInto(float[] dst) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("_getCurrentPath").get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #_getCurrentPath}.
+    * Get current graph path.
+    * 
+    */
+    public ALFuture<List<Float>> _getCurrentPathAsync() throws CallError {
+        return ALFuture.of(service().<List<Float>>call("_getCurrentPath"));
     }
 
     /**
@@ -88,9 +179,18 @@ public class ALRobotPosture extends ALModule {
     */
     public void _isStandCallBack(String param1, java.lang.Object param2, String param3) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_isStandCallBack", param1, param2, param3);
+            service().call("_isStandCallBack", param1, param2, param3);
         else
-            service.call("_isStandCallBack", param1, param2, param3).get();
+            service().call("_isStandCallBack", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_isStandCallBack}.
+    * .
+    * 
+    */
+    public ALFuture<Void> _isStandCallBackAsync(String param1, java.lang.Object param2, String param3) throws CallError {
+        return ALFuture.of(service().<Void>call("_isStandCallBack", param1, param2, param3));
     }
 
     /**
@@ -98,7 +198,16 @@ public class ALRobotPosture extends ALModule {
     * 
     */
     public Boolean _savePostureLibrary(String param1) throws CallError, InterruptedException {
-        return (Boolean)service.call("_savePostureLibrary", param1).get();
+        return (Boolean)service().call("_savePostureLibrary", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_savePostureLibrary}.
+    * .
+    * 
+    */
+    public ALFuture<Boolean> _savePostureLibraryAsync(String param1) throws CallError {
+        return ALFuture.of(service().<Boolean>call("_savePostureLibrary", param1));
     }
 
     /**
@@ -106,7 +215,16 @@ public class ALRobotPosture extends ALModule {
     * 
     */
     public Float _getArticularDistanceToPosture(Integer param1) throws CallError, InterruptedException {
-        return (Float)service.call("_getArticularDistanceToPosture", param1).get();
+        return (Float)service().call("_getArticularDistanceToPosture", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getArticularDistanceToPosture}.
+    * .
+    * 
+    */
+    public ALFuture<Float> _getArticularDistanceToPostureAsync(Integer param1) throws CallError {
+        return ALFuture.of(service().<Float>call("_getArticularDistanceToPosture", param1));
     }
 
     /**
@@ -114,7 +232,16 @@ public class ALRobotPosture extends ALModule {
     * 
     */
     public Boolean _setCost(Integer param1, Float param2) throws CallError, InterruptedException {
-        return (Boolean)service.call("_setCost", param1, param2).get();
+        return (Boolean)service().call("_setCost", param1, param2).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setCost}.
+    * Set cost between two postures.
+    * 
+    */
+    public ALFuture<Boolean> _setCostAsync(Integer param1, Float param2) throws CallError {
+        return ALFuture.of(service().<Boolean>call("_setCost", param1, param2));
     }
 
     /**
@@ -122,7 +249,34 @@ public class ALRobotPosture extends ALModule {
     * 
     */
     public List<Float> _getCartesianDistanceVector(Integer param1) throws CallError, InterruptedException {
-        return (List<Float>)service.call("_getCartesianDistanceVector", param1).get();
+        return (List<Float>)service().call("_getCartesianDistanceVector", param1).get();
+    }
+
+    /**
+    * Primitive version of {@link #_getCartesianDistanceVector}, values are returned unboxed.
+    * .
+    * 
+    */
+    public float[] _getCartesianDistanceVectorF(Integer param1) throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("_getCartesianDistanceVector", param1).get());
+    }
+
+    /**
+    * Primitive version of {@link #_getCartesianDistanceVector}, values are written into dst and their count is returned.
+    * .
+    * 
+    */
+    public int _getCartesianDistanceVectorInto(float[] dst, Integer param1) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("_getCartesianDistanceVector", param1).get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #_getCartesianDistanceVector}.
+    * .
+    * 
+    */
+    public ALFuture<List<Float>> _getCartesianDistanceVectorAsync(Integer param1) throws CallError {
+        return ALFuture.of(service().<List<Float>>call("_getCartesianDistanceVector", param1));
     }
 
     /**
@@ -130,7 +284,34 @@ public class ALRobotPosture extends ALModule {
     * 
     */
     public List<Integer> _getPostureIdList() throws CallError, InterruptedException {
-        return (List<Integer>)service.call("_getPostureIdList").get();
+        return (List<Integer>)service().call("_getPostureIdList").get();
+    }
+
+    /**
+    * Primitive version of {@link #_getPostureIdList}, values are returned unboxed.
+    * .
+    * 
+    */
+    public int[] _getPostureIdListI() throws CallError, InterruptedException {
+        return toIntArray((List<Integer>)service().call("_getPostureIdList").get());
+    }
+
+    /**
+    * Primitive version of {@link #_getPostureIdList}, values are written into dst and their count is returned.
+    * .
+    * 
+    */
+    public int _getPostureIdListInto(int[] dst) throws CallError, InterruptedException {
+        return copyInto((List<Integer>)service().call("_getPostureIdList").get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #_getPostureIdList}.
+    * .
+    * 
+    */
+    public ALFuture<List<Integer>> _getPostureIdListAsync() throws CallError {
+        return ALFuture.of(service().<List<Integer>>call("_getPostureIdList"));
     }
 
     /**
@@ -138,7 +319,16 @@ public class ALRobotPosture extends ALModule {
     * 
     */
     public Boolean _isReachable(Integer param1) throws CallError, InterruptedException {
-        return (Boolean)service.call("_isReachable", param1).get();
+        return (Boolean)service().call("_isReachable", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_isReachable}.
+    * .
+    * 
+    */
+    public ALFuture<Boolean> _isReachableAsync(Integer param1) throws CallError {
+        return ALFuture.of(service().<Boolean>call("_isReachable", param1));
     }
 
     /**
@@ -147,9 +337,18 @@ public class ALRobotPosture extends ALModule {
     */
     public void _generateCartesianMap() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_generateCartesianMap");
+            service().call("_generateCartesianMap");
         else
-            service.call("_generateCartesianMap").get();
+            service().call("_generateCartesianMap").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_generateCartesianMap}.
+    * .
+    * 
+    */
+    public ALFuture<Void> _generateCartesianMapAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_generateCartesianMap"));
     }
 
     /**
@@ -157,7 +356,16 @@ public class ALRobotPosture extends ALModule {
     * 
     */
     public java.lang.Object _getPostureZ(Float param1) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_getPostureZ", param1).get();
+        return (java.lang.Object)service().call("_getPostureZ", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getPostureZ}.
+    * .
+    * 
+    */
+    public ALFuture<java.lang.Object> _getPostureZAsync(Float param1) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_getPostureZ", param1));
     }
 
     /**
@@ -165,7 +373,16 @@ public class ALRobotPosture extends ALModule {
     * 
     */
     public java.lang.Object _getPostureNoZ() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_getPostureNoZ").get();
+        return (java.lang.Object)service().call("_getPostureNoZ").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getPostureNoZ}.
+    * .
+    * 
+    */
+    public ALFuture<java.lang.Object> _getPostureNoZAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_getPostureNoZ"));
     }
 
     /**
@@ -173,7 +390,16 @@ public class ALRobotPosture extends ALModule {
     * 
     */
     public Boolean _saveCurrentPostureWithName(Integer param1, String param2) throws CallError, InterruptedException {
-        return (Boolean)service.call("_saveCurrentPostureWithName", param1, param2).get();
+        return (Boolean)service().call("_saveCurrentPostureWithName", param1, param2).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_saveCurrentPostureWithName}.
+    * Save with a namecurrent posture.
+    * 
+    */
+    public ALFuture<Boolean> _saveCurrentPostureWithNameAsync(Integer param1, String param2) throws CallError {
+        return ALFuture.of(service().<Boolean>call("_saveCurrentPostureWithName", param1, param2));
     }
 
     /**
@@ -181,7 +407,16 @@ public class ALRobotPosture extends ALModule {
     * 
     */
     public Boolean _applyPostures(List<Integer> param1, Float param2, Boolean param3, Boolean param4) throws CallError, InterruptedException {
-        return (Boolean)service.call("_applyPostures", param1, param2, param3, param4).get();
+        return (Boolean)service().call("_applyPostures", param1, param2, param3, param4).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_applyPostures}.
+    * Apply postures.
+    * 
+    */
+    public ALFuture<Boolean> _applyPosturesAsync(List<Integer> param1, Float param2, Boolean param3, Boolean param4) throws CallError {
+        return ALFuture.of(service().<Boolean>call("_applyPostures", param1, param2, param3, param4));
     }
 
     /**
@@ -189,7 +424,16 @@ public class ALRobotPosture extends ALModule {
     * 
     */
     public Boolean _setSlowFactor(Integer param1, Integer param2, Float param3) throws CallError, InterruptedException {
-        return (Boolean)service.call("_setSlowFactor", param1, param2, param3).get();
+        return (Boolean)service().call("_setSlowFactor", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setSlowFactor}.
+    * Set slow factorbetween two postures.
+    * 
+    */
+    public ALFuture<Boolean> _setSlowFactorAsync(Integer param1, Integer param2, Float param3) throws CallError {
+        return ALFuture.of(service().<Boolean>call("_setSlowFactor", param1, param2, param3));
     }
 
     /**
@@ -197,7 +441,16 @@ public class ALRobotPosture extends ALModule {
     * 
     */
     public Boolean _eraseAllPostures() throws CallError, InterruptedException {
-        return (Boolean)service.call("_eraseAllPostures").get();
+        return (Boolean)service().call("_eraseAllPostures").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_eraseAllPostures}.
+    * Erase all postures.
+    * 
+    */
+    public ALFuture<Boolean> _eraseAllPosturesAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("_eraseAllPostures"));
     }
 
     /**
@@ -205,7 +458,16 @@ public class ALRobotPosture extends ALModule {
     * 
     */
     public Boolean _bindPostures(Integer param1, Integer param2, Float param3, Float param4) throws CallError, InterruptedException {
-        return (Boolean)service.call("_bindPostures", param1, param2, param3, param4).get();
+        return (Boolean)service().call("_bindPostures", param1, param2, param3, param4).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_bindPostures}.
+    * Bind two postures.
+    * 
+    */
+    public ALFuture<Boolean> _bindPosturesAsync(Integer param1, Integer param2, Float param3, Float param4) throws CallError {
+        return ALFuture.of(service().<Boolean>call("_bindPostures", param1, param2, param3, param4));
     }
 
     /**
@@ -213,7 +475,16 @@ public class ALRobotPosture extends ALModule {
     * 
     */
     public Boolean _removeNeighbourFromPosture(Integer param1, Integer param2) throws CallError, InterruptedException {
-        return (Boolean)service.call("_removeNeighbourFromPosture", param1, param2).get();
+        return (Boolean)service().call("_removeNeighbourFromPosture", param1, param2).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_removeNeighbourFromPosture}.
+    * Remove a neighbour from postures.
+    * 
+    */
+    public ALFuture<Boolean> _removeNeighbourFromPostureAsync(Integer param1, Integer param2) throws CallError {
+        return ALFuture.of(service().<Boolean>call("_removeNeighbourFromPosture", param1, param2));
     }
 
     /**
@@ -221,7 +492,16 @@ public class ALRobotPosture extends ALModule {
     * 
     */
     public java.lang.Object _getCartesianDistanceToPosture(Integer param1) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_getCartesianDistanceToPosture", param1).get();
+        return (java.lang.Object)service().call("_getCartesianDistanceToPosture", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getCartesianDistanceToPosture}.
+    * .
+    * 
+    */
+    public ALFuture<java.lang.Object> _getCartesianDistanceToPostureAsync(Integer param1) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_getCartesianDistanceToPosture", param1));
     }
 
     /**
@@ -229,7 +509,16 @@ public class ALRobotPosture extends ALModule {
     * 
     */
     public Integer _getLibrarySize() throws CallError, InterruptedException {
-        return (Integer)service.call("_getLibrarySize").get();
+        return (Integer)service().call("_getLibrarySize").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getLibrarySize}.
+    * Get library size.
+    * 
+    */
+    public ALFuture<Integer> _getLibrarySizeAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("_getLibrarySize"));
     }
 
     /**
@@ -237,7 +526,16 @@ public class ALRobotPosture extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -246,9 +544,18 @@ public class ALRobotPosture extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -256,7 +563,16 @@ public class ALRobotPosture extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -265,9 +581,18 @@ public class ALRobotPosture extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -276,7 +601,17 @@ public class ALRobotPosture extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -285,7 +620,17 @@ public class ALRobotPosture extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -294,7 +639,17 @@ public class ALRobotPosture extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -304,7 +659,18 @@ public class ALRobotPosture extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -313,7 +679,17 @@ public class ALRobotPosture extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -324,7 +700,19 @@ public class ALRobotPosture extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -334,7 +722,18 @@ public class ALRobotPosture extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -344,9 +743,19 @@ public class ALRobotPosture extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -355,7 +764,17 @@ public class ALRobotPosture extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -365,7 +784,18 @@ public class ALRobotPosture extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -374,7 +804,17 @@ public class ALRobotPosture extends ALModule {
     * @return Returns the posture family, e.g. Standing.
     */
     public String getPostureFamily() throws CallError, InterruptedException {
-        return (String)service.call("getPostureFamily").get();
+        return (String)service().call("getPostureFamily").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getPostureFamily}.
+    * Returns the posture family for example Standing, LyingBelly,...
+    * 
+    * @return Returns the posture family, e.g. Standing.
+    */
+    public ALFuture<String> getPostureFamilyAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getPostureFamily"));
     }
 
     /**
@@ -385,7 +825,19 @@ public class ALRobotPosture extends ALModule {
     * @return Returns if the posture was reached or not.
     */
     public Boolean goToPosture(String postureName, Float maxSpeedFraction) throws CallError, InterruptedException {
-        return (Boolean)service.call("goToPosture", postureName, maxSpeedFraction).get();
+        return (Boolean)service().call("goToPosture", postureName, maxSpeedFraction).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #goToPosture}.
+    * Make the robot go to the choosenposture.
+    * 
+    * @param postureName  Name of the desired posture. Use getPostureList to get the list of posture name available.
+    * @param maxSpeedFraction  A fraction.
+    * @return Returns if the posture was reached or not.
+    */
+    public ALFuture<Boolean> goToPostureAsync(String postureName, Float maxSpeedFraction) throws CallError {
+        return ALFuture.of(service().<Boolean>call("goToPosture", postureName, maxSpeedFraction));
     }
 
     /**
@@ -396,7 +848,19 @@ public class ALRobotPosture extends ALModule {
     * @return Returns if the posture was reached or not.
     */
     public Boolean applyPosture(String postureName, Float maxSpeedFraction) throws CallError, InterruptedException {
-        return (Boolean)service.call("applyPosture", postureName, maxSpeedFraction).get();
+        return (Boolean)service().call("applyPosture", postureName, maxSpeedFraction).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #applyPosture}.
+    * Set the angle of the joints of the  robot to the choosen posture.
+    * 
+    * @param postureName  Name of the desired posture. Use getPostureList to get the list of posture name available.
+    * @param maxSpeedFraction  A fraction.
+    * @return Returns if the posture was reached or not.
+    */
+    public ALFuture<Boolean> applyPostureAsync(String postureName, Float maxSpeedFraction) throws CallError {
+        return ALFuture.of(service().<Boolean>call("applyPosture", postureName, maxSpeedFraction));
     }
 
     /**
@@ -405,9 +869,18 @@ public class ALRobotPosture extends ALModule {
     */
     public void stopMove() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stopMove");
+            service().call("stopMove");
         else
-            service.call("stopMove").get();
+            service().call("stopMove").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stopMove}.
+    * Stop the posture move.
+    * 
+    */
+    public ALFuture<Void> stopMoveAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("stopMove"));
     }
 
     /**
@@ -415,7 +888,16 @@ public class ALRobotPosture extends ALModule {
     * 
     */
     public List<String> getPostureList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getPostureList").get();
+        return (List<String>)service().call("getPostureList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getPostureList}.
+    * Get the list of posture names available.
+    * 
+    */
+    public ALFuture<List<String>> getPostureListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getPostureList"));
     }
 
     /**
@@ -423,7 +905,16 @@ public class ALRobotPosture extends ALModule {
     * 
     */
     public List<String> getPostureFamilyList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getPostureFamilyList").get();
+        return (List<String>)service().call("getPostureFamilyList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getPostureFamilyList}.
+    * Get the list of posture family names available.
+    * 
+    */
+    public ALFuture<List<String>> getPostureFamilyListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getPostureFamilyList"));
     }
 
     /**
@@ -433,9 +924,19 @@ public class ALRobotPosture extends ALModule {
     */
     public void setMaxTryNumber(Integer pMaxTryNumber) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setMaxTryNumber", pMaxTryNumber);
+            service().call("setMaxTryNumber", pMaxTryNumber);
         else
-            service.call("setMaxTryNumber", pMaxTryNumber).get();
+            service().call("setMaxTryNumber", pMaxTryNumber).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setMaxTryNumber}.
+    * Set maximum of tries ongoToPosture fail.
+    * 
+    * @param pMaxTryNumber  Number of retry if goToPosture fail.
+    */
+    public ALFuture<Void> setMaxTryNumberAsync(Integer pMaxTryNumber) throws CallError {
+        return ALFuture.of(service().<Void>call("setMaxTryNumber", pMaxTryNumber));
     }
 
     /**
@@ -443,7 +944,16 @@ public class ALRobotPosture extends ALModule {
     * 
     */
     public String getPosture() throws CallError, InterruptedException {
-        return (String)service.call("getPosture").get();
+        return (String)service().call("getPosture").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getPosture}.
+    * Determine posture.
+    * 
+    */
+    public ALFuture<String> getPostureAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getPosture"));
     }
 
     /**
@@ -451,7 +961,16 @@ public class ALRobotPosture extends ALModule {
     * 
     */
     public java.lang.Object _isRobotInPosture(String param1, Float param2, Float param3) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_isRobotInPosture", param1, param2, param3).get();
+        return (java.lang.Object)service().call("_isRobotInPosture", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_isRobotInPosture}.
+    * Articular distance
+    * 
+    */
+    public ALFuture<java.lang.Object> _isRobotInPostureAsync(String param1, Float param2, Float param3) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_isRobotInPosture", param1, param2, param3));
     }
 
     /**
@@ -459,7 +978,16 @@ public class ALRobotPosture extends ALModule {
     * 
     */
     public Boolean _isRobotInPostureId(Integer param1, Float param2, Float param3) throws CallError, InterruptedException {
-        return (Boolean)service.call("_isRobotInPostureId", param1, param2, param3).get();
+        return (Boolean)service().call("_isRobotInPostureId", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_isRobotInPostureId}.
+    * Articular distance
+    * 
+    */
+    public ALFuture<Boolean> _isRobotInPostureIdAsync(Integer param1, Float param2, Float param3) throws CallError {
+        return ALFuture.of(service().<Boolean>call("_isRobotInPostureId", param1, param2, param3));
     }
 
     /**
@@ -467,7 +995,16 @@ public class ALRobotPosture extends ALModule {
     * 
     */
     public java.lang.Object _getPosture() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_getPosture").get();
+        return (java.lang.Object)service().call("_getPosture").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getPosture}.
+    * Determine posture id.
+    * 
+    */
+    public ALFuture<java.lang.Object> _getPostureAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_getPosture"));
     }
 
     /**
@@ -475,7 +1012,16 @@ public class ALRobotPosture extends ALModule {
     * 
     */
     public Boolean _setPostureId(Integer param1, Float param2) throws CallError, InterruptedException {
-        return (Boolean)service.call("_setPostureId", param1, param2).get();
+        return (Boolean)service().call("_setPostureId", param1, param2).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setPostureId}.
+    * Set the angle of the joints.
+    * 
+    */
+    public ALFuture<Boolean> _setPostureIdAsync(Integer param1, Float param2) throws CallError {
+        return ALFuture.of(service().<Boolean>call("_setPostureId", param1, param2));
     }
 
     /**
@@ -483,7 +1029,16 @@ public class ALRobotPosture extends ALModule {
     * 
     */
     public Boolean _goToPostureId(Integer param1, Float param2) throws CallError, InterruptedException {
-        return (Boolean)service.call("_goToPostureId", param1, param2).get();
+        return (Boolean)service().call("_goToPostureId", param1, param2).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_goToPostureId}.
+    * Set the angle of thejoints and of the inertial unit
+    * 
+    */
+    public ALFuture<Boolean> _goToPostureIdAsync(Integer param1, Float param2) throws CallError {
+        return ALFuture.of(service().<Boolean>call("_goToPostureId", param1, param2));
     }
 
     /**
@@ -491,7 +1046,16 @@ public class ALRobotPosture extends ALModule {
     * 
     */
     public Boolean _namePosture(Integer param1, String param2) throws CallError, InterruptedException {
-        return (Boolean)service.call("_namePosture", param1, param2).get();
+        return (Boolean)service().call("_namePosture", param1, param2).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_namePosture}.
+    * Name posture from id.
+    * 
+    */
+    public ALFuture<Boolean> _namePostureAsync(Integer param1, String param2) throws CallError {
+        return ALFuture.of(service().<Boolean>call("_namePosture", param1, param2));
     }
 
     /**
@@ -499,7 +1063,16 @@ public class ALRobotPosture extends ALModule {
     * 
     */
     public Boolean _renamePosture(String param1, String param2) throws CallError, InterruptedException {
-        return (Boolean)service.call("_renamePosture", param1, param2).get();
+        return (Boolean)service().call("_renamePosture", param1, param2).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_renamePosture}.
+    * Rename posture from name.
+    * 
+    */
+    public ALFuture<Boolean> _renamePostureAsync(String param1, String param2) throws CallError {
+        return ALFuture.of(service().<Boolean>call("_renamePosture", param1, param2));
     }
 
 }
@@ -2,7 +2,10 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
+import com.aldebaran.qimessaging.helpers.event.ALEvent;
+import com.aldebaran.qimessaging.helpers.event.WordRecognized;
 import java.util.List;
 import java.util.Map;
 import com.aldebaran.qimessaging.*;
@@ -14,6 +17,11 @@ import java.util.List;
  */
 public class ALSpeechRecognition extends ALModule {
 
+    /**
+    * Raised when a word of the vocabulary is recognized, with the hypotheses and their confidence.
+    */
+    public static final ALEvent<WordRecognized> WORD_RECOGNIZED = new ALEvent<WordRecognized>("WordRecognized", WordRecognized.DECODER);
+
     public ALSpeechRecognition(Session session) {
         super(session);
     }
@@ -24,7 +32,17 @@ public class ALSpeechRecognition extends ALModule {
     * @return Current language used by the speech recognition engine.
     */
     public String getLanguage() throws CallError, InterruptedException {
-        return (String)service.call("getLanguage").get();
+        return (String)service().call("getLanguage").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getLanguage}.
+    * Returns the current language used by the speech recognition system.
+    * 
+    * @return Current language used by the speech recognition engine.
+    */
+    public ALFuture<String> getLanguageAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getLanguage"));
     }
 
     /**
@@ -34,9 +52,19 @@ public class ALSpeechRecognition extends ALModule {
     */
     public void setWordListAsVocabulary(List<String> vocabulary) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setWordListAsVocabulary", vocabulary);
+            service().call("setWordListAsVocabulary", vocabulary);
         else
-            service.call("setWordListAsVocabulary", vocabulary).get();
+            service().call("setWordListAsVocabulary", vocabulary).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setWordListAsVocabulary}.
+    * Sets the list of words (vocabulary) that should be recognized by the speech recognition engine.
+    * 
+    * @param vocabulary  List of words that should be recognized
+    */
+    public ALFuture<Void> setWordListAsVocabularyAsync(List<String> vocabulary) throws CallError {
+        return ALFuture.of(service().<Void>call("setWordListAsVocabulary", vocabulary));
     }
 
     /**
@@ -46,9 +74,19 @@ public class ALSpeechRecognition extends ALModule {
     */
     public void setAudioExpression(Boolean setOrNot) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setAudioExpression", setOrNot);
+            service().call("setAudioExpression", setOrNot);
         else
-            service.call("setAudioExpression", setOrNot).get();
+            service().call("setAudioExpression", setOrNot).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setAudioExpression}.
+    * Enables or disables the playing of sounds indicating the state of the recognition engine. If this option is enabled, a sound is played at the beginning of the recognition process (after a call to the subscribe method), and a sound is played when the user call the unsubscribe method
+    * 
+    * @param setOrNot  Enable (true) or disable it (false).
+    */
+    public ALFuture<Void> setAudioExpressionAsync(Boolean setOrNot) throws CallError {
+        return ALFuture.of(service().<Void>call("setAudioExpression", setOrNot));
     }
 
     /**
@@ -58,9 +96,19 @@ public class ALSpeechRecognition extends ALModule {
     */
     public void pause(Boolean pause) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("pause", pause);
+            service().call("pause", pause);
         else
-            service.call("pause", pause).get();
+            service().call("pause", pause).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #pause}.
+    * Stops and restarts the speech recognition engine according to the input parameter This can be used to add contexts, activate or deactivate rules of a contex, add a words to a slot.
+    * 
+    * @param pause  Boolean to enable or disable pause of the speech recognition engine.
+    */
+    public ALFuture<Void> pauseAsync(Boolean pause) throws CallError {
+        return ALFuture.of(service().<Void>call("pause", pause));
     }
 
     /**
@@ -69,9 +117,18 @@ public class ALSpeechRecognition extends ALModule {
     */
     public void compile(String param1, String param2, String param3) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("compile", param1, param2, param3);
+            service().call("compile", param1, param2, param3);
         else
-            service.call("compile", param1, param2, param3).get();
+            service().call("compile", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #compile}.
+    * 
+    * 
+    */
+    public ALFuture<Void> compileAsync(String param1, String param2, String param3) throws CallError {
+        return ALFuture.of(service().<Void>call("compile", param1, param2, param3));
     }
 
     /**
@@ -81,9 +138,19 @@ public class ALSpeechRecognition extends ALModule {
     */
     public void setLanguage(String languageName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setLanguage", languageName);
+            service().call("setLanguage", languageName);
         else
-            service.call("setLanguage", languageName).get();
+            service().call("setLanguage", languageName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setLanguage}.
+    * Sets the language used by the speech recognition engine. The list of the available languages can be collected through the getAvailableLanguages method. If you want to set a language as the default language (loading automatically at module launch), please refer to the web page of the robot.
+    * 
+    * @param languageName  Name of the language in English.
+    */
+    public ALFuture<Void> setLanguageAsync(String languageName) throws CallError {
+        return ALFuture.of(service().<Void>call("setLanguage", languageName));
     }
 
     /**
@@ -93,9 +160,19 @@ public class ALSpeechRecognition extends ALModule {
     */
     public void removeContext(String contextName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("removeContext", contextName);
+            service().call("removeContext", contextName);
         else
-            service.call("removeContext", contextName).get();
+            service().call("removeContext", contextName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #removeContext}.
+    * Remove one context from the speech recognition engine.
+    * 
+    * @param contextName  Name of the context to remove from the speech recognition engine.
+    */
+    public ALFuture<Void> removeContextAsync(String contextName) throws CallError {
+        return ALFuture.of(service().<Void>call("removeContext", contextName));
     }
 
     /**
@@ -104,9 +181,18 @@ public class ALSpeechRecognition extends ALModule {
     */
     public void removeAllContext() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("removeAllContext");
+            service().call("removeAllContext");
         else
-            service.call("removeAllContext").get();
+            service().call("removeAllContext").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #removeAllContext}.
+    * Remove all contexts from the speech recognition engine.
+    * 
+    */
+    public ALFuture<Void> removeAllContextAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("removeAllContext"));
     }
 
     /**
@@ -115,9 +201,18 @@ public class ALSpeechRecognition extends ALModule {
     */
     public void pushContexts() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("pushContexts");
+            service().call("pushContexts");
         else
-            service.call("pushContexts").get();
+            service().call("pushContexts").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #pushContexts}.
+    * Disable current contexts of the speech recognition engine and save them in a  stack.
+    * 
+    */
+    public ALFuture<Void> pushContextsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("pushContexts"));
     }
 
     /**
@@ -126,9 +221,18 @@ public class ALSpeechRecognition extends ALModule {
     */
     public void popContexts() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("popContexts");
+            service().call("popContexts");
         else
-            service.call("popContexts").get();
+            service().call("popContexts").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #popContexts}.
+    * Disable current contexts and restore saved contexts of the speech recognition engine.
+    * 
+    */
+    public ALFuture<Void> popContextsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("popContexts"));
     }
 
     /**
@@ -137,7 +241,17 @@ public class ALSpeechRecognition extends ALModule {
     * @param saveName  Name under which to save
     */
     public Boolean saveContextSet(String saveName) throws CallError, InterruptedException {
-        return (Boolean)service.call("saveContextSet", saveName).get();
+        return (Boolean)service().call("saveContextSet", saveName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #saveContextSet}.
+    * Save current context set of the speech recognition engine
+    * 
+    * @param saveName  Name under which to save
+    */
+    public ALFuture<Boolean> saveContextSetAsync(String saveName) throws CallError {
+        return ALFuture.of(service().<Boolean>call("saveContextSet", saveName));
     }
 
     /**
@@ -147,9 +261,19 @@ public class ALSpeechRecognition extends ALModule {
     */
     public void _setDefaultLanguage(String pLanguage) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setDefaultLanguage", pLanguage);
+            service().call("_setDefaultLanguage", pLanguage);
         else
-            service.call("_setDefaultLanguage", pLanguage).get();
+            service().call("_setDefaultLanguage", pLanguage).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setDefaultLanguage}.
+    * Set a language as the default language for the Speech Recognition engine
+    * 
+    * @param pLanguage  The language among those available on your robot as a String
+    */
+    public ALFuture<Void> _setDefaultLanguageAsync(String pLanguage) throws CallError {
+        return ALFuture.of(service().<Void>call("_setDefaultLanguage", pLanguage));
     }
 
     /**
@@ -159,9 +283,19 @@ public class ALSpeechRecognition extends ALModule {
     */
     public void eraseContextSet(String saveName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("eraseContextSet", saveName);
+            service().call("eraseContextSet", saveName);
         else
-            service.call("eraseContextSet", saveName).get();
+            service().call("eraseContextSet", saveName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #eraseContextSet}.
+    * Erase a saved context set of the speech recognition engine
+    * 
+    * @param saveName  Name under which the context set is saved
+    */
+    public ALFuture<Void> eraseContextSetAsync(String saveName) throws CallError {
+        return ALFuture.of(service().<Void>call("eraseContextSet", saveName));
     }
 
     /**
@@ -172,9 +306,20 @@ public class ALSpeechRecognition extends ALModule {
     */
     public void activateRule(String contextName, String ruleName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("activateRule", contextName, ruleName);
+            service().call("activateRule", contextName, ruleName);
         else
-            service.call("activateRule", contextName, ruleName).get();
+            service().call("activateRule", contextName, ruleName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #activateRule}.
+    * Activate a rule contained in the specified context.
+    * 
+    * @param contextName  Name of the context to modify.
+    * @param ruleName  Name of the rule to activate.
+    */
+    public ALFuture<Void> activateRuleAsync(String contextName, String ruleName) throws CallError {
+        return ALFuture.of(service().<Void>call("activateRule", contextName, ruleName));
     }
 
     /**
@@ -185,9 +330,20 @@ public class ALSpeechRecognition extends ALModule {
     */
     public void deactivateRule(String contextName, String ruleName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("deactivateRule", contextName, ruleName);
+            service().call("deactivateRule", contextName, ruleName);
         else
-            service.call("deactivateRule", contextName, ruleName).get();
+            service().call("deactivateRule", contextName, ruleName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #deactivateRule}.
+    * Deactivate a rule contained in the specified context.
+    * 
+    * @param contextName  Name of the context to modify.
+    * @param ruleName  Name of the rule to deactivate.
+    */
+    public ALFuture<Void> deactivateRuleAsync(String contextName, String ruleName) throws CallError {
+        return ALFuture.of(service().<Void>call("deactivateRule", contextName, ruleName));
     }
 
     /**
@@ -197,9 +353,19 @@ public class ALSpeechRecognition extends ALModule {
     */
     public void activateAllRules(String contextName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("activateAllRules", contextName);
+            service().call("activateAllRules", contextName);
         else
-            service.call("activateAllRules", contextName).get();
+            service().call("activateAllRules", contextName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #activateAllRules}.
+    * Activate all rules contained in the specified context.
+    * 
+    * @param contextName  Name of the context to modify.
+    */
+    public ALFuture<Void> activateAllRulesAsync(String contextName) throws CallError {
+        return ALFuture.of(service().<Void>call("activateAllRules", contextName));
     }
 
     /**
@@ -209,9 +375,19 @@ public class ALSpeechRecognition extends ALModule {
     */
     public void deactivateAllRules(String contextName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("deactivateAllRules", contextName);
+            service().call("deactivateAllRules", contextName);
         else
-            service.call("deactivateAllRules", contextName).get();
+            service().call("deactivateAllRules", contextName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #deactivateAllRules}.
+    * Deactivate all rules contained in the specified context.
+    * 
+    * @param contextName  Name of the context to modify.
+    */
+    public ALFuture<Void> deactivateAllRulesAsync(String contextName) throws CallError {
+        return ALFuture.of(service().<Void>call("deactivateAllRules", contextName));
     }
 
     /**
@@ -223,9 +399,21 @@ public class ALSpeechRecognition extends ALModule {
     */
     public void setContextParam(String contextName, String paramName, Float value) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setContextParam", contextName, paramName, value);
+            service().call("setContextParam", contextName, paramName, value);
         else
-            service.call("setContextParam", contextName, paramName, value).get();
+            service().call("setContextParam", contextName, paramName, value).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setContextParam}.
+    * Set the given parameter for the specified context.
+    * 
+    * @param contextName  Name of the context
+    * @param paramName  Name of the parameter to change
+    * @param value  New parameter value
+    */
+    public ALFuture<Void> setContextParamAsync(String contextName, String paramName, Float value) throws CallError {
+        return ALFuture.of(service().<Void>call("setContextParam", contextName, paramName, value));
     }
 
     /**
@@ -236,7 +424,19 @@ public class ALSpeechRecognition extends ALModule {
     * @return Value of the fetched parameter
     */
     public Float getContextParam(String contextName, String paramName) throws CallError, InterruptedException {
-        return (Float)service.call("getContextParam", contextName, paramName).get();
+        return (Float)service().call("getContextParam", contextName, paramName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getContextParam}.
+    * Get the given parameter for the specified context.
+    * 
+    * @param contextName  Name of the context
+    * @param paramName  Name of the parameter to get
+    * @return Value of the fetched parameter
+    */
+    public ALFuture<Float> getContextParamAsync(String contextName, String paramName) throws CallError {
+        return ALFuture.of(service().<Float>call("getContextParam", contextName, paramName));
     }
 
     /**
@@ -248,9 +448,21 @@ public class ALSpeechRecognition extends ALModule {
     */
     public void addWordListToSlot(String contextName, String slotName, List<String> wordList) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("addWordListToSlot", contextName, slotName, wordList);
+            service().call("addWordListToSlot", contextName, slotName, wordList);
         else
-            service.call("addWordListToSlot", contextName, slotName, wordList).get();
+            service().call("addWordListToSlot", contextName, slotName, wordList).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #addWordListToSlot}.
+    * Add a list of words in a slot. A slot is a part of a context which can be modified. You can add a list of words that should be recognized by the speech recognition engine
+    * 
+    * @param contextName  Name of the context to modify.
+    * @param slotName  Name of the slot to modify.
+    * @param wordList  List of words to insert in the slot.
+    */
+    public ALFuture<Void> addWordListToSlotAsync(String contextName, String slotName, List<String> wordList) throws CallError {
+        return ALFuture.of(service().<Void>call("addWordListToSlot", contextName, slotName, wordList));
     }
 
     /**
@@ -261,9 +473,20 @@ public class ALSpeechRecognition extends ALModule {
     */
     public void removeWordListFromSlot(String contextName, String slotName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("removeWordListFromSlot", contextName, slotName);
+            service().call("removeWordListFromSlot", contextName, slotName);
         else
-            service.call("removeWordListFromSlot", contextName, slotName).get();
+            service().call("removeWordListFromSlot", contextName, slotName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #removeWordListFromSlot}.
+    * Remove all words from a slot.
+    * 
+    * @param contextName  Name of the context to modify.
+    * @param slotName  Name of the slot to modify.
+    */
+    public ALFuture<Void> removeWordListFromSlotAsync(String contextName, String slotName) throws CallError {
+        return ALFuture.of(service().<Void>call("removeWordListFromSlot", contextName, slotName));
     }
 
     /**
@@ -273,7 +496,18 @@ public class ALSpeechRecognition extends ALModule {
     * @param typeName  Type of the required rules.
     */
     public List<String> getRules(String contextName, String typeName) throws CallError, InterruptedException {
-        return (List<String>)service.call("getRules", contextName, typeName).get();
+        return (List<String>)service().call("getRules", contextName, typeName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getRules}.
+    * Get all rules contained for a specific context.
+    * 
+    * @param contextName  Name of the context to analyze.
+    * @param typeName  Type of the required rules.
+    */
+    public ALFuture<List<String>> getRulesAsync(String contextName, String typeName) throws CallError {
+        return ALFuture.of(service().<List<String>>call("getRules", contextName, typeName));
     }
 
     /**
@@ -282,7 +516,17 @@ public class ALSpeechRecognition extends ALModule {
     * @return Boolean indicating whether free speech to text is available for the current language
     */
     public Boolean _isFreeSpeechToTextAvailable() throws CallError, InterruptedException {
-        return (Boolean)service.call("_isFreeSpeechToTextAvailable").get();
+        return (Boolean)service().call("_isFreeSpeechToTextAvailable").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_isFreeSpeechToTextAvailable}.
+    * Enable free speech to text.
+    * 
+    * @return Boolean indicating whether free speech to text is available for the current language
+    */
+    public ALFuture<Boolean> _isFreeSpeechToTextAvailableAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("_isFreeSpeechToTextAvailable"));
     }
 
     /**
@@ -291,7 +535,17 @@ public class ALSpeechRecognition extends ALModule {
     * @return Array of strings that contains the list of the installed languages.
     */
     public List<String> getAvailableLanguages() throws CallError, InterruptedException {
-        return (List<String>)service.call("getAvailableLanguages").get();
+        return (List<String>)service().call("getAvailableLanguages").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getAvailableLanguages}.
+    * Returns the list of the languages installed on the system.
+    * 
+    * @return Array of strings that contains the list of the installed languages.
+    */
+    public ALFuture<List<String>> getAvailableLanguagesAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getAvailableLanguages"));
     }
 
     /**
@@ -300,9 +554,18 @@ public class ALSpeechRecognition extends ALModule {
     */
     public void _disableFreeSpeechToText() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_disableFreeSpeechToText");
+            service().call("_disableFreeSpeechToText");
         else
-            service.call("_disableFreeSpeechToText").get();
+            service().call("_disableFreeSpeechToText").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_disableFreeSpeechToText}.
+    * Disable free speech to text.
+    * 
+    */
+    public ALFuture<Void> _disableFreeSpeechToTextAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_disableFreeSpeechToText"));
     }
 
     /**
@@ -311,7 +574,17 @@ public class ALSpeechRecognition extends ALModule {
     * @return Integer indicating whether to increase, decrease or keep the remote consumption speed
     */
     public Integer _remoteConsumptionOk() throws CallError, InterruptedException {
-        return (Integer)service.call("_remoteConsumptionOk").get();
+        return (Integer)service().call("_remoteConsumptionOk").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_remoteConsumptionOk}.
+    * Get a remote consumption speed change recommendation.
+    * 
+    * @return Integer indicating whether to increase, decrease or keep the remote consumption speed
+    */
+    public ALFuture<Integer> _remoteConsumptionOkAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("_remoteConsumptionOk"));
     }
 
     /**
@@ -321,9 +594,19 @@ public class ALSpeechRecognition extends ALModule {
     */
     public void loadVocabulary(String vocabularyFile) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("loadVocabulary", vocabularyFile);
+            service().call("loadVocabulary", vocabularyFile);
         else
-            service.call("loadVocabulary", vocabularyFile).get();
+            service().call("loadVocabulary", vocabularyFile).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #loadVocabulary}.
+    * Loads the vocabulary to recognized contained in a .lxd file. This method is not available with the ASR engine language set to Chinese. For more informations see the red documentation
+    * 
+    * @param vocabularyFile  Name of the lxd file containing the vocabulary
+    */
+    public ALFuture<Void> loadVocabularyAsync(String vocabularyFile) throws CallError {
+        return ALFuture.of(service().<Void>call("loadVocabulary", vocabularyFile));
     }
 
     /**
@@ -332,9 +615,18 @@ public class ALSpeechRecognition extends ALModule {
     */
     public void _naoStoreApplicationInstalled(String param1, java.lang.Object param2, String param3) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_naoStoreApplicationInstalled", param1, param2, param3);
+            service().call("_naoStoreApplicationInstalled", param1, param2, param3);
         else
-            service.call("_naoStoreApplicationInstalled", param1, param2, param3).get();
+            service().call("_naoStoreApplicationInstalled", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_naoStoreApplicationInstalled}.
+    * reload the engine if new application installed is a language
+    * 
+    */
+    public ALFuture<Void> _naoStoreApplicationInstalledAsync(String param1, java.lang.Object param2, String param3) throws CallError {
+        return ALFuture.of(service().<Void>call("_naoStoreApplicationInstalled", param1, param2, param3));
     }
 
     /**
@@ -343,9 +635,18 @@ public class ALSpeechRecognition extends ALModule {
     */
     public void _naoStoreApplicationUninstalled(String param1, java.lang.Object param2, String param3) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_naoStoreApplicationUninstalled", param1, param2, param3);
+            service().call("_naoStoreApplicationUninstalled", param1, param2, param3);
         else
-            service.call("_naoStoreApplicationUninstalled", param1, param2, param3).get();
+            service().call("_naoStoreApplicationUninstalled", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_naoStoreApplicationUninstalled}.
+    * reload the engine if application uninstalled is a language
+    * 
+    */
+    public ALFuture<Void> _naoStoreApplicationUninstalledAsync(String param1, java.lang.Object param2, String param3) throws CallError {
+        return ALFuture.of(service().<Void>call("_naoStoreApplicationUninstalled", param1, param2, param3));
     }
 
     /**
@@ -361,9 +662,25 @@ The parameters that can be set and the corresponding values are:
     */
     public void setParameter(String paramName, Float paramValue) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setParameter", paramName, paramValue);
+            service().call("setParameter", paramName, paramValue);
         else
-            service.call("setParameter", paramName, paramValue).get();
+            service().call("setParameter", paramName, paramValue).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setParameter}.
+    * Sets a parameter of the speech recognition engine. Note that when the ASR engine language is set to Chinese, no parameter can be set.
+The parameters that can be set and the corresponding values are:
+"Sensitivity" - Values : range is [0.0; 1.0].
+"Timeout" - Values :  default values 3000 ms. Timeout for the remote recognition
+"MinimumTrailingSilence" : Values : 0 (no) or 1 (yes) - Applies a High-Pass filter on the input signal - default value is 0.
+
+    * 
+    * @param paramName  Name of the parameter.
+    * @param paramValue  Value of the parameter.
+    */
+    public ALFuture<Void> setParameterAsync(String paramName, Float paramValue) throws CallError {
+        return ALFuture.of(service().<Void>call("setParameter", paramName, paramValue));
     }
 
     /**
@@ -373,9 +690,19 @@ The parameters that can be set and the corresponding values are:
     */
     public void _enableRealTimeThread(Boolean isRealTime) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_enableRealTimeThread", isRealTime);
+            service().call("_enableRealTimeThread", isRealTime);
         else
-            service.call("_enableRealTimeThread", isRealTime).get();
+            service().call("_enableRealTimeThread", isRealTime).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_enableRealTimeThread}.
+    * Set the ASR_Recognizer thread to real time priority. Be careful this could change the scheduling of the robot.
+    * 
+    * @param isRealTime  True or False to enable or disable real time priority.
+    */
+    public ALFuture<Void> _enableRealTimeThreadAsync(Boolean isRealTime) throws CallError {
+        return ALFuture.of(service().<Void>call("_enableRealTimeThread", isRealTime));
     }
 
     /**
@@ -384,9 +711,18 @@ The parameters that can be set and the corresponding values are:
     */
     public void _silentNextBipOn() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_silentNextBipOn");
+            service().call("_silentNextBipOn");
         else
-            service.call("_silentNextBipOn").get();
+            service().call("_silentNextBipOn").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_silentNextBipOn}.
+    * 
+    * 
+    */
+    public ALFuture<Void> _silentNextBipOnAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_silentNextBipOn"));
     }
 
     /**
@@ -394,7 +730,16 @@ The parameters that can be set and the corresponding values are:
     * 
     */
     public Boolean getAudioExpression() throws CallError, InterruptedException {
-        return (Boolean)service.call("getAudioExpression").get();
+        return (Boolean)service().call("getAudioExpression").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getAudioExpression}.
+    * To check if audio expression is enabled or disabled.
+    * 
+    */
+    public ALFuture<Boolean> getAudioExpressionAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("getAudioExpression"));
     }
 
     /**
@@ -404,9 +749,19 @@ The parameters that can be set and the corresponding values are:
     */
     public void _enableAudioLogging(String path) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_enableAudioLogging", path);
+            service().call("_enableAudioLogging", path);
         else
-            service.call("_enableAudioLogging", path).get();
+            service().call("_enableAudioLogging", path).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_enableAudioLogging}.
+    * Enable audio dumps.
+    * 
+    * @param path  Path to write the dump files to. Pass an empty string to deactivate audio logging
+    */
+    public ALFuture<Void> _enableAudioLoggingAsync(String path) throws CallError {
+        return ALFuture.of(service().<Void>call("_enableAudioLogging", path));
     }
 
     /**
@@ -415,7 +770,17 @@ The parameters that can be set and the corresponding values are:
     * @return Version
     */
     public String _getVersion() throws CallError, InterruptedException {
-        return (String)service.call("_getVersion").get();
+        return (String)service().call("_getVersion").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getVersion}.
+    * get vocon version
+    * 
+    * @return Version
+    */
+    public ALFuture<String> _getVersionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("_getVersion"));
     }
 
     /**
@@ -431,19 +796,46 @@ The parameters that can be set and the corresponding values are:
     */
     public void setParameter(String paramName, Boolean paramValue) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setParameter", paramName, paramValue);
+            service().call("setParameter", paramName, paramValue);
         else
-            service.call("setParameter", paramName, paramValue).get();
+            service().call("setParameter", paramName, paramValue).get();
     }
 
     /**
-    * Gets a parameter of the speech recognition engine. Note that when the ASR engine language is set to Chinese, no parameter can be retrieved
+    * Asynchronous version of {@link #setParameter}.
+    * Sets a parameter of the speech recognition engine. Note that when the ASR engine language is set to Chinese, no parameter can be set.
+The parameters that can be set and the corresponding values are:
+"Sensitivity" - Values : range is [0.0; 1.0].
+"Timeout" - Values :  default values 3000 ms. Timeout for the remote recognition
+"MinimumTrailingSilence" : Values : 0 (no) or 1 (yes) - Applies a High-Pass filter on the input signal - default value is 0.
+
+    * 
+    * @param paramName  Name of the parameter.
+    * @param paramValue  Value of the parameter.
+    */
+    public ALFuture<Void> setParameterAsync(String paramName, Boolean paramValue) throws CallError {
+        return ALFuture.of(service().<Void>call("setParameter", paramName, paramValue));
+    }
+
+    /**
+    * Gets a parameter of the speech recognition engine. Note that when the ASR engine language is set to Chinese, no parameter can be retrieved
     * 
     * @param paramName  Name of the parameter.
     * @return Value of the parameter.
     */
     public Float getParameter(String paramName) throws CallError, InterruptedException {
-        return (Float)service.call("getParameter", paramName).get();
+        return (Float)service().call("getParameter", paramName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getParameter}.
+    * Gets a parameter of the speech recognition engine. Note that when the ASR engine language is set to Chinese, no parameter can be retrieved
+    * 
+    * @param paramName  Name of the parameter.
+    * @return Value of the parameter.
+    */
+    public ALFuture<Float> getParameterAsync(String paramName) throws CallError {
+        return ALFuture.of(service().<Float>call("getParameter", paramName));
     }
 
     /**
@@ -452,9 +844,18 @@ The parameters that can be set and the corresponding values are:
     */
     public void _enableFreeSpeechToText() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_enableFreeSpeechToText");
+            service().call("_enableFreeSpeechToText");
         else
-            service.call("_enableFreeSpeechToText").get();
+            service().call("_enableFreeSpeechToText").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_enableFreeSpeechToText}.
+    * Enable free speech to text.
+    * 
+    */
+    public ALFuture<Void> _enableFreeSpeechToTextAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_enableFreeSpeechToText"));
     }
 
     /**
@@ -465,9 +866,20 @@ The parameters that can be set and the corresponding values are:
     */
     public void setVocabulary(List<String> vocabulary, Boolean enabledWordSpotting) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setVocabulary", vocabulary, enabledWordSpotting);
+            service().call("setVocabulary", vocabulary, enabledWordSpotting);
         else
-            service.call("setVocabulary", vocabulary, enabledWordSpotting).get();
+            service().call("setVocabulary", vocabulary, enabledWordSpotting).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setVocabulary}.
+    * Sets the list of words (vocabulary) that should be recognized by the speech recognition engine.
+    * 
+    * @param vocabulary  List of words that should be recognized
+    * @param enabledWordSpotting  If disabled, the engine expects to hear one of the specified words, nothing more, nothing less. If enabled, the specified words can be pronounced in the middle of a whole speech stream, the engine will try to spot them.
+    */
+    public ALFuture<Void> setVocabularyAsync(List<String> vocabulary, Boolean enabledWordSpotting) throws CallError {
+        return ALFuture.of(service().<Void>call("setVocabulary", vocabulary, enabledWordSpotting));
     }
 
     /**
@@ -477,9 +889,19 @@ The parameters that can be set and the corresponding values are:
     */
     public void loadContextSet(String saveName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("loadContextSet", saveName);
+            service().call("loadContextSet", saveName);
         else
-            service.call("loadContextSet", saveName).get();
+            service().call("loadContextSet", saveName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #loadContextSet}.
+    * Load a saved context set of the speech recognition engine
+    * 
+    * @param saveName  Name under which the context set is saved
+    */
+    public ALFuture<Void> loadContextSetAsync(String saveName) throws CallError {
+        return ALFuture.of(service().<Void>call("loadContextSet", saveName));
     }
 
     /**
@@ -488,9 +910,18 @@ The parameters that can be set and the corresponding values are:
     */
     public void _silentNextBipOff() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_silentNextBipOff");
+            service().call("_silentNextBipOff");
         else
-            service.call("_silentNextBipOff").get();
+            service().call("_silentNextBipOff").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_silentNextBipOff}.
+    * 
+    * 
+    */
+    public ALFuture<Void> _silentNextBipOffAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_silentNextBipOff"));
     }
 
     /**
@@ -501,9 +932,20 @@ The parameters that can be set and the corresponding values are:
     */
     public void addContext(String pathToLCFFile, String contextName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("addContext", pathToLCFFile, contextName);
+            service().call("addContext", pathToLCFFile, contextName);
         else
-            service.call("addContext", pathToLCFFile, contextName).get();
+            service().call("addContext", pathToLCFFile, contextName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #addContext}.
+    * Add a context from a LCF file.
+    * 
+    * @param pathToLCFFile  Path to a LCF file. This LCF file contains the set of rules that should be recognized by the speech recognition engine.
+    * @param contextName  Name of the context of your choice.
+    */
+    public ALFuture<Void> addContextAsync(String pathToLCFFile, String contextName) throws CallError {
+        return ALFuture.of(service().<Void>call("addContext", pathToLCFFile, contextName));
     }
 
     /**
@@ -511,7 +953,16 @@ The parameters that can be set and the corresponding values are:
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -520,9 +971,18 @@ The parameters that can be set and the corresponding values are:
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -530,7 +990,16 @@ The parameters that can be set and the corresponding values are:
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -539,9 +1008,18 @@ The parameters that can be set and the corresponding values are:
     */
     public void _systemSoundSetChanged() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_systemSoundSetChanged");
+            service().call("_systemSoundSetChanged");
         else
-            service.call("_systemSoundSetChanged").get();
+            service().call("_systemSoundSetChanged").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_systemSoundSetChanged}.
+    * 
+    * 
+    */
+    public ALFuture<Void> _systemSoundSetChangedAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_systemSoundSetChanged"));
     }
 
     /**
@@ -550,9 +1028,18 @@ The parameters that can be set and the corresponding values are:
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -561,7 +1048,17 @@ The parameters that can be set and the corresponding values are:
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -570,7 +1067,17 @@ The parameters that can be set and the corresponding values are:
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -579,7 +1086,17 @@ The parameters that can be set and the corresponding values are:
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -589,7 +1106,18 @@ The parameters that can be set and the corresponding values are:
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -598,7 +1126,17 @@ The parameters that can be set and the corresponding values are:
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -609,7 +1147,19 @@ The parameters that can be set and the corresponding values are:
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -619,7 +1169,18 @@ The parameters that can be set and the corresponding values are:
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -629,9 +1190,19 @@ The parameters that can be set and the corresponding values are:
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -640,7 +1211,17 @@ The parameters that can be set and the corresponding values are:
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -650,7 +1231,18 @@ The parameters that can be set and the corresponding values are:
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -661,10 +1253,24 @@ The parameters that can be set and the corresponding values are:
     * @param precision  Precision of the extractor if relevant.
     */
     public void subscribe(String name, Integer period, Float precision) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("subscribe", name, period, precision);
-        else
-            service.call("subscribe", name, period, precision).get();
+        if (isAsynchronous) {
+            recordSubscription(ALFuture.of(service().<Void>call("subscribe", name, period, precision)), "unsubscribe", name);
+            return;
+        }
+        service().call("subscribe", name, period, precision).get();
+        recordSubscription("unsubscribe", name);
+    }
+
+    /**
+    * Asynchronous version of {@link #subscribe}.
+    * Subscribes to the extractor. This causes the extractor to start writing information to memory using the keys described by getOutputNames(). These can be accessed in memory using ALMemory.getData("keyName"). In many cases you can avoid calling subscribe on the extractor by just calling ALMemory.subscribeToEvent() supplying a callback method. This will automatically subscribe to the extractor for you.
+    * 
+    * @param name  Name of the module which subscribes.
+    * @param period  Refresh period (in milliseconds) if relevant.
+    * @param precision  Precision of the extractor if relevant.
+    */
+    public ALFuture<Void> subscribeAsync(String name, Integer period, Float precision) throws CallError {
+        return recordSubscription(ALFuture.of(service().<Void>call("subscribe", name, period, precision)), "unsubscribe", name);
     }
 
     /**
@@ -673,10 +1279,22 @@ The parameters that can be set and the corresponding values are:
     * @param name  Name of the module which subscribes.
     */
     public void subscribe(String name) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("subscribe", name);
-        else
-            service.call("subscribe", name).get();
+        if (isAsynchronous) {
+            recordSubscription(ALFuture.of(service().<Void>call("subscribe", name)), "unsubscribe", name);
+            return;
+        }
+        service().call("subscribe", name).get();
+        recordSubscription("unsubscribe", name);
+    }
+
+    /**
+    * Asynchronous version of {@link #subscribe}.
+    * Subscribes to the extractor. This causes the extractor to start writing information to memory using the keys described by getOutputNames(). These can be accessed in memory using ALMemory.getData("keyName"). In many cases you can avoid calling subscribe on the extractor by just calling ALMemory.subscribeToEvent() supplying a callback method. This will automatically subscribe to the extractor for you.
+    * 
+    * @param name  Name of the module which subscribes.
+    */
+    public ALFuture<Void> subscribeAsync(String name) throws CallError {
+        return recordSubscription(ALFuture.of(service().<Void>call("subscribe", name)), "unsubscribe", name);
     }
 
     /**
@@ -685,10 +1303,22 @@ The parameters that can be set and the corresponding values are:
     * @param name  Name of the module which had subscribed.
     */
     public void unsubscribe(String name) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("unsubscribe", name);
-        else
-            service.call("unsubscribe", name).get();
+        if (isAsynchronous) {
+            forgetSubscription(ALFuture.of(service().<Void>call("unsubscribe", name)), "unsubscribe", name);
+            return;
+        }
+        service().call("unsubscribe", name).get();
+        forgetSubscription("unsubscribe", name);
+    }
+
+    /**
+    * Asynchronous version of {@link #unsubscribe}.
+    * Unsubscribes from the extractor.
+    * 
+    * @param name  Name of the module which had subscribed.
+    */
+    public ALFuture<Void> unsubscribeAsync(String name) throws CallError {
+        return forgetSubscription(ALFuture.of(service().<Void>call("unsubscribe", name)), "unsubscribe", name);
     }
 
     /**
@@ -699,9 +1329,20 @@ The parameters that can be set and the corresponding values are:
     */
     public void updatePeriod(String name, Integer period) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("updatePeriod", name, period);
+            service().call("updatePeriod", name, period);
         else
-            service.call("updatePeriod", name, period).get();
+            service().call("updatePeriod", name, period).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #updatePeriod}.
+    * Updates the period if relevant.
+    * 
+    * @param name  Name of the module which has subscribed.
+    * @param period  Refresh period (in milliseconds).
+    */
+    public ALFuture<Void> updatePeriodAsync(String name, Integer period) throws CallError {
+        return ALFuture.of(service().<Void>call("updatePeriod", name, period));
     }
 
     /**
@@ -712,9 +1353,20 @@ The parameters that can be set and the corresponding values are:
     */
     public void updatePrecision(String name, Float precision) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("updatePrecision", name, precision);
+            service().call("updatePrecision", name, precision);
         else
-            service.call("updatePrecision", name, precision).get();
+            service().call("updatePrecision", name, precision).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #updatePrecision}.
+    * Updates the precision if relevant.
+    * 
+    * @param name  Name of the module which has subscribed.
+    * @param precision  Precision of the extractor.
+    */
+    public ALFuture<Void> updatePrecisionAsync(String name, Float precision) throws CallError {
+        return ALFuture.of(service().<Void>call("updatePrecision", name, precision));
     }
 
     /**
@@ -723,7 +1375,17 @@ The parameters that can be set and the corresponding values are:
     * @return Refresh period (in milliseconds).
     */
     public Integer getCurrentPeriod() throws CallError, InterruptedException {
-        return (Integer)service.call("getCurrentPeriod").get();
+        return (Integer)service().call("getCurrentPeriod").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getCurrentPeriod}.
+    * Gets the current period.
+    * 
+    * @return Refresh period (in milliseconds).
+    */
+    public ALFuture<Integer> getCurrentPeriodAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("getCurrentPeriod"));
     }
 
     /**
@@ -732,7 +1394,17 @@ The parameters that can be set and the corresponding values are:
     * @return Precision of the extractor.
     */
     public Float getCurrentPrecision() throws CallError, InterruptedException {
-        return (Float)service.call("getCurrentPrecision").get();
+        return (Float)service().call("getCurrentPrecision").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getCurrentPrecision}.
+    * Gets the current precision.
+    * 
+    * @return Precision of the extractor.
+    */
+    public ALFuture<Float> getCurrentPrecisionAsync() throws CallError {
+        return ALFuture.of(service().<Float>call("getCurrentPrecision"));
     }
 
     /**
@@ -742,7 +1414,18 @@ The parameters that can be set and the corresponding values are:
     * @return Refresh period (in milliseconds).
     */
     public Integer getMyPeriod(String name) throws CallError, InterruptedException {
-        return (Integer)service.call("getMyPeriod", name).get();
+        return (Integer)service().call("getMyPeriod", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMyPeriod}.
+    * Gets the period for a specific subscription.
+    * 
+    * @param name  Name of the module which has subscribed.
+    * @return Refresh period (in milliseconds).
+    */
+    public ALFuture<Integer> getMyPeriodAsync(String name) throws CallError {
+        return ALFuture.of(service().<Integer>call("getMyPeriod", name));
     }
 
     /**
@@ -752,7 +1435,18 @@ The parameters that can be set and the corresponding values are:
     * @return precision of the extractor
     */
     public Float getMyPrecision(String name) throws CallError, InterruptedException {
-        return (Float)service.call("getMyPrecision", name).get();
+        return (Float)service().call("getMyPrecision", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMyPrecision}.
+    * Gets the precision for a specific subscription.
+    * 
+    * @param name  name of the module which has subscribed
+    * @return precision of the extractor
+    */
+    public ALFuture<Float> getMyPrecisionAsync(String name) throws CallError {
+        return ALFuture.of(service().<Float>call("getMyPrecision", name));
     }
 
     /**
@@ -761,7 +1455,17 @@ The parameters that can be set and the corresponding values are:
     * @return Array of names and parameters of all subscribers.
     */
     public java.lang.Object getSubscribersInfo() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getSubscribersInfo").get();
+        return (java.lang.Object)service().call("getSubscribersInfo").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getSubscribersInfo}.
+    * Gets the parameters given by the module.
+    * 
+    * @return Array of names and parameters of all subscribers.
+    */
+    public ALFuture<java.lang.Object> getSubscribersInfoAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getSubscribersInfo"));
     }
 
     /**
@@ -770,7 +1474,17 @@ The parameters that can be set and the corresponding values are:
     * @return Array of values updated by this extractor in ALMemory
     */
     public List<String> getOutputNames() throws CallError, InterruptedException {
-        return (List<String>)service.call("getOutputNames").get();
+        return (List<String>)service().call("getOutputNames").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getOutputNames}.
+    * Get the list of values updated in ALMemory.
+    * 
+    * @return Array of values updated by this extractor in ALMemory
+    */
+    public ALFuture<List<String>> getOutputNamesAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getOutputNames"));
     }
 
     /**
@@ -779,7 +1493,17 @@ The parameters that can be set and the corresponding values are:
     * @return Array of events updated by this extractor in ALMemory
     */
     public List<String> getEventList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getEventList").get();
+        return (List<String>)service().call("getEventList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getEventList}.
+    * Get the list of events updated in ALMemory.
+    * 
+    * @return Array of events updated by this extractor in ALMemory
+    */
+    public ALFuture<List<String>> getEventListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getEventList"));
     }
 
     /**
@@ -788,7 +1512,17 @@ The parameters that can be set and the corresponding values are:
     * @return Array of events updated by this extractor in ALMemory
     */
     public List<String> getMemoryKeyList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMemoryKeyList").get();
+        return (List<String>)service().call("getMemoryKeyList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMemoryKeyList}.
+    * Get the list of events updated in ALMemory.
+    * 
+    * @return Array of events updated by this extractor in ALMemory
+    */
+    public ALFuture<List<String>> getMemoryKeyListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMemoryKeyList"));
     }
 
     /**
@@ -798,9 +1532,19 @@ The parameters that can be set and the corresponding values are:
     */
     public void setVisualExpression(Boolean setOrNot) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setVisualExpression", setOrNot);
+            service().call("setVisualExpression", setOrNot);
         else
-            service.call("setVisualExpression", setOrNot).get();
+            service().call("setVisualExpression", setOrNot).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setVisualExpression}.
+    * Enables or disables the leds animations showing the state of the recognition engine during the recognition process.
+    * 
+    * @param setOrNot  Enable (true) or disable it (false).
+    */
+    public ALFuture<Void> setVisualExpressionAsync(Boolean setOrNot) throws CallError {
+        return ALFuture.of(service().<Void>call("setVisualExpression", setOrNot));
     }
 
     /**
@@ -810,9 +1554,19 @@ The parameters that can be set and the corresponding values are:
     */
     public void setVisualExpressionMode(Integer mode) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setVisualExpressionMode", mode);
+            service().call("setVisualExpressionMode", mode);
         else
-            service.call("setVisualExpressionMode", mode).get();
+            service().call("setVisualExpressionMode", mode).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setVisualExpressionMode}.
+    * Sets the LED animation mode
+    * 
+    * @param mode  animation mode: 0: deactivated, 1: eyes, 2: ears, 3: full
+    */
+    public ALFuture<Void> setVisualExpressionModeAsync(Integer mode) throws CallError {
+        return ALFuture.of(service().<Void>call("setVisualExpressionMode", mode));
     }
 
 }
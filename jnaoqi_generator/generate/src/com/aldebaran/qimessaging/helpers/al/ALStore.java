@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -23,7 +24,16 @@ public class ALStore extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -32,9 +42,18 @@ public class ALStore extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -42,7 +61,16 @@ public class ALStore extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -50,7 +78,16 @@ public class ALStore extends ALModule {
     * 
     */
     public java.lang.Object __init__(java.lang.Object param1) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("__init__", param1).get();
+        return (java.lang.Object)service().call("__init__", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #__init__}.
+    *  ALStore Init 
+    * 
+    */
+    public ALFuture<java.lang.Object> __init__Async(java.lang.Object param1) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("__init__", param1));
     }
 
     /**
@@ -58,7 +95,16 @@ public class ALStore extends ALModule {
     * 
     */
     public java.lang.Object _updateStoreList() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_updateStoreList").get();
+        return (java.lang.Object)service().call("_updateStoreList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_updateStoreList}.
+    *  Populate the Packages List the Robot Should Have 
+    * 
+    */
+    public ALFuture<java.lang.Object> _updateStoreListAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_updateStoreList"));
     }
 
     /**
@@ -66,7 +112,16 @@ public class ALStore extends ALModule {
     * 
     */
     public java.lang.Object add_notification(java.lang.Object param1) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("add_notification", param1).get();
+        return (java.lang.Object)service().call("add_notification", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #add_notification}.
+    *  Add a Robot Notification 
+    * 
+    */
+    public ALFuture<java.lang.Object> add_notificationAsync(java.lang.Object param1) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("add_notification", param1));
     }
 
     /**
@@ -74,7 +129,16 @@ public class ALStore extends ALModule {
     * 
     */
     public java.lang.Object analyse() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("analyse").get();
+        return (java.lang.Object)service().call("analyse").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #analyse}.
+    *  Analyse the actions to take 
+    * 
+    */
+    public ALFuture<java.lang.Object> analyseAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("analyse"));
     }
 
     /**
@@ -82,7 +146,16 @@ public class ALStore extends ALModule {
     * 
     */
     public java.lang.Object assign(java.lang.Object param1, java.lang.Object param2) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("assign", param1, param2).get();
+        return (java.lang.Object)service().call("assign", param1, param2).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #assign}.
+    *  Assign the Robot to a User 
+    * 
+    */
+    public ALFuture<java.lang.Object> assignAsync(java.lang.Object param1, java.lang.Object param2) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("assign", param1, param2));
     }
 
     /**
@@ -90,7 +163,16 @@ public class ALStore extends ALModule {
     * 
     */
     public java.lang.Object checkUpdate() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("checkUpdate").get();
+        return (java.lang.Object)service().call("checkUpdate").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #checkUpdate}.
+    *  Check Updates From the Store 
+    * 
+    */
+    public ALFuture<java.lang.Object> checkUpdateAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("checkUpdate"));
     }
 
     /**
@@ -98,7 +180,16 @@ public class ALStore extends ALModule {
     * 
     */
     public java.lang.Object download(java.lang.Object param1) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("download", param1).get();
+        return (java.lang.Object)service().call("download", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #download}.
+    *  Download a Package to a path if not already present 
+    * 
+    */
+    public ALFuture<java.lang.Object> downloadAsync(java.lang.Object param1) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("download", param1));
     }
 
     /**
@@ -106,7 +197,16 @@ public class ALStore extends ALModule {
     * 
     */
     public java.lang.Object getPackageInfo(java.lang.Object param1) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getPackageInfo", param1).get();
+        return (java.lang.Object)service().call("getPackageInfo", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getPackageInfo}.
+    *  Get a Package Info from the Packages List 
+    * 
+    */
+    public ALFuture<java.lang.Object> getPackageInfoAsync(java.lang.Object param1) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getPackageInfo", param1));
     }
 
     /**
@@ -114,7 +214,16 @@ public class ALStore extends ALModule {
     * 
     */
     public java.lang.Object install(java.lang.Object param1, java.lang.Object param2) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("install", param1, param2).get();
+        return (java.lang.Object)service().call("install", param1, param2).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #install}.
+    * Install the pkg with the PackageManager 
+    * 
+    */
+    public ALFuture<java.lang.Object> installAsync(java.lang.Object param1, java.lang.Object param2) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("install", param1, param2));
     }
 
     /**
@@ -122,7 +231,16 @@ public class ALStore extends ALModule {
     * 
     */
     public java.lang.Object log_debug(java.lang.Object param1) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("log_debug", param1).get();
+        return (java.lang.Object)service().call("log_debug", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #log_debug}.
+    *  Log a Debugging Message 
+    * 
+    */
+    public ALFuture<java.lang.Object> log_debugAsync(java.lang.Object param1) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("log_debug", param1));
     }
 
     /**
@@ -130,7 +248,16 @@ public class ALStore extends ALModule {
     * 
     */
     public java.lang.Object log_error(java.lang.Object param1) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("log_error", param1).get();
+        return (java.lang.Object)service().call("log_error", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #log_error}.
+    *  Log an Error Message 
+    * 
+    */
+    public ALFuture<java.lang.Object> log_errorAsync(java.lang.Object param1) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("log_error", param1));
     }
 
     /**
@@ -138,7 +265,16 @@ public class ALStore extends ALModule {
     * 
     */
     public java.lang.Object log_info(java.lang.Object param1) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("log_info", param1).get();
+        return (java.lang.Object)service().call("log_info", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #log_info}.
+    *  Log an Information Message 
+    * 
+    */
+    public ALFuture<java.lang.Object> log_infoAsync(java.lang.Object param1) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("log_info", param1));
     }
 
     /**
@@ -146,7 +282,16 @@ public class ALStore extends ALModule {
     * 
     */
     public java.lang.Object log_warning(java.lang.Object param1) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("log_warning", param1).get();
+        return (java.lang.Object)service().call("log_warning", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #log_warning}.
+    *  Log a Warning Message 
+    * 
+    */
+    public ALFuture<java.lang.Object> log_warningAsync(java.lang.Object param1) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("log_warning", param1));
     }
 
     /**
@@ -154,7 +299,16 @@ public class ALStore extends ALModule {
     * 
     */
     public java.lang.Object play_sound(java.lang.Object param1) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("play_sound", param1).get();
+        return (java.lang.Object)service().call("play_sound", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #play_sound}.
+    *  Play a Sound using the Audio Player 
+    * 
+    */
+    public ALFuture<java.lang.Object> play_soundAsync(java.lang.Object param1) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("play_sound", param1));
     }
 
     /**
@@ -162,7 +316,16 @@ public class ALStore extends ALModule {
     * 
     */
     public java.lang.Object status() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("status").get();
+        return (java.lang.Object)service().call("status").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #status}.
+    *  Get the status of the update 
+    * 
+    */
+    public ALFuture<java.lang.Object> statusAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("status"));
     }
 
     /**
@@ -170,7 +333,16 @@ public class ALStore extends ALModule {
     * 
     */
     public java.lang.Object stopUpdate() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("stopUpdate").get();
+        return (java.lang.Object)service().call("stopUpdate").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stopUpdate}.
+    *  Stop the current update process 
+    * 
+    */
+    public ALFuture<java.lang.Object> stopUpdateAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("stopUpdate"));
     }
 
     /**
@@ -178,7 +350,16 @@ public class ALStore extends ALModule {
     * 
     */
     public java.lang.Object translate(java.lang.Object param1) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("translate", param1).get();
+        return (java.lang.Object)service().call("translate", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #translate}.
+    *  Translate a massage using the Translator 
+    * 
+    */
+    public ALFuture<java.lang.Object> translateAsync(java.lang.Object param1) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("translate", param1));
     }
 
     /**
@@ -186,7 +367,16 @@ public class ALStore extends ALModule {
     * 
     */
     public java.lang.Object update() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("update").get();
+        return (java.lang.Object)service().call("update").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #update}.
+    *  Launch Update if not already running 
+    * 
+    */
+    public ALFuture<java.lang.Object> updateAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("update"));
     }
 
     /**
@@ -194,7 +384,16 @@ public class ALStore extends ALModule {
     * 
     */
     public java.lang.Object updateApps() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("updateApps").get();
+        return (java.lang.Object)service().call("updateApps").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #updateApps}.
+    *  Update the Applications 
+    * 
+    */
+    public ALFuture<java.lang.Object> updateAppsAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("updateApps"));
     }
 
     /**
@@ -202,7 +401,16 @@ public class ALStore extends ALModule {
     * 
     */
     public java.lang.Object updateOnConnect() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("updateOnConnect").get();
+        return (java.lang.Object)service().call("updateOnConnect").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #updateOnConnect}.
+    *  Subscribe to the Connect Event to Update just After 
+    * 
+    */
+    public ALFuture<java.lang.Object> updateOnConnectAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("updateOnConnect"));
     }
 
     /**
@@ -210,7 +418,16 @@ public class ALStore extends ALModule {
     * 
     */
     public java.lang.Object updateSystem() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("updateSystem").get();
+        return (java.lang.Object)service().call("updateSystem").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #updateSystem}.
+    *  Update the System 
+    * 
+    */
+    public ALFuture<java.lang.Object> updateSystemAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("updateSystem"));
     }
 
 }
@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -25,9 +26,19 @@ public class ALSystem extends ALModule {
     */
     public void _setStatusLed(Integer state) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setStatusLed", state);
+            service().call("_setStatusLed", state);
         else
-            service.call("_setStatusLed", state).get();
+            service().call("_setStatusLed", state).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setStatusLed}.
+    * Set the robot status LED
+    * 
+    * @param state  state to set
+    */
+    public ALFuture<Void> _setStatusLedAsync(Integer state) throws CallError {
+        return ALFuture.of(service().<Void>call("_setStatusLed", state));
     }
 
     /**
@@ -36,7 +47,17 @@ public class ALSystem extends ALModule {
     * @return A vector with the name of the faulty boards
     */
     public List<String> _boardFirmwareUpdateError() throws CallError, InterruptedException {
-        return (List<String>)service.call("_boardFirmwareUpdateError").get();
+        return (List<String>)service().call("_boardFirmwareUpdateError").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_boardFirmwareUpdateError}.
+    * List of the faulty boards
+    * 
+    * @return A vector with the name of the faulty boards
+    */
+    public ALFuture<List<String>> _boardFirmwareUpdateErrorAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("_boardFirmwareUpdateError"));
     }
 
     /**
@@ -45,9 +66,18 @@ public class ALSystem extends ALModule {
     */
     public void _prepareNaoqiStop() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_prepareNaoqiStop");
+            service().call("_prepareNaoqiStop");
         else
-            service.call("_prepareNaoqiStop").get();
+            service().call("_prepareNaoqiStop").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_prepareNaoqiStop}.
+    * Execute operations for safe naoqi stop
+    * 
+    */
+    public ALFuture<Void> _prepareNaoqiStopAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_prepareNaoqiStop"));
     }
 
     /**
@@ -56,9 +86,18 @@ public class ALSystem extends ALModule {
     */
     public void _initializeSystemNotification() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_initializeSystemNotification");
+            service().call("_initializeSystemNotification");
         else
-            service.call("_initializeSystemNotification").get();
+            service().call("_initializeSystemNotification").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_initializeSystemNotification}.
+    * Load system notification and data
+    * 
+    */
+    public ALFuture<Void> _initializeSystemNotificationAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_initializeSystemNotification"));
     }
 
     /**
@@ -66,7 +105,16 @@ public class ALSystem extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -75,9 +123,18 @@ public class ALSystem extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -85,7 +142,16 @@ public class ALSystem extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -94,9 +160,18 @@ public class ALSystem extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -105,7 +180,17 @@ public class ALSystem extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -114,7 +199,17 @@ public class ALSystem extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -123,7 +218,17 @@ public class ALSystem extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -133,7 +238,18 @@ public class ALSystem extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -142,7 +258,17 @@ public class ALSystem extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -153,7 +279,19 @@ public class ALSystem extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -163,7 +301,18 @@ public class ALSystem extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -173,9 +322,19 @@ public class ALSystem extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -184,7 +343,17 @@ public class ALSystem extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -194,7 +363,18 @@ public class ALSystem extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -204,7 +384,18 @@ public class ALSystem extends ALModule {
     * @return A vector with all partions' infos
     */
     public List<Tuple4<String, String, Long, Long>> diskFree(Boolean all) throws CallError, InterruptedException {
-        return (List<Tuple4<String, String, Long, Long>>)service.call("diskFree", all).get();
+        return (List<Tuple4<String, String, Long, Long>>)service().call("diskFree", all).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #diskFree}.
+    * Display free disk space
+    * 
+    * @param all  Show all mount partions.
+    * @return A vector with all partions' infos
+    */
+    public ALFuture<List<Tuple4<String, String, Long, Long>>> diskFreeAsync(Boolean all) throws CallError {
+        return ALFuture.of(service().<List<Tuple4<String, String, Long, Long>>>call("diskFree", all));
     }
 
     /**
@@ -213,7 +404,17 @@ public class ALSystem extends ALModule {
     * @return name of the robot
     */
     public String robotName() throws CallError, InterruptedException {
-        return (String)service.call("robotName").get();
+        return (String)service().call("robotName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #robotName}.
+    * System hostname
+    * 
+    * @return name of the robot
+    */
+    public ALFuture<String> robotNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("robotName"));
     }
 
     /**
@@ -223,7 +424,18 @@ public class ALSystem extends ALModule {
     * @return whether the operation was successful
     */
     public Boolean setRobotName(String name) throws CallError, InterruptedException {
-        return (Boolean)service.call("setRobotName", name).get();
+        return (Boolean)service().call("setRobotName", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setRobotName}.
+    * Set system hostname
+    * 
+    * @param name  name to use
+    * @return whether the operation was successful
+    */
+    public ALFuture<Boolean> setRobotNameAsync(String name) throws CallError {
+        return ALFuture.of(service().<Boolean>call("setRobotName", name));
     }
 
     /**
@@ -232,7 +444,17 @@ public class ALSystem extends ALModule {
     * @return icon of the robot
     */
     public java.lang.Object robotIcon() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("robotIcon").get();
+        return (java.lang.Object)service().call("robotIcon").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #robotIcon}.
+    * Robot icon
+    * 
+    * @return icon of the robot
+    */
+    public ALFuture<java.lang.Object> robotIconAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("robotIcon"));
     }
 
     /**
@@ -241,9 +463,18 @@ public class ALSystem extends ALModule {
     */
     public void shutdown() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("shutdown");
+            service().call("shutdown");
         else
-            service.call("shutdown").get();
+            service().call("shutdown").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #shutdown}.
+    * Shutdown robot
+    * 
+    */
+    public ALFuture<Void> shutdownAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("shutdown"));
     }
 
     /**
@@ -252,9 +483,18 @@ public class ALSystem extends ALModule {
     */
     public void reboot() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("reboot");
+            service().call("reboot");
         else
-            service.call("reboot").get();
+            service().call("reboot").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #reboot}.
+    * Reboot robot
+    * 
+    */
+    public ALFuture<Void> rebootAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("reboot"));
     }
 
     /**
@@ -263,7 +503,17 @@ public class ALSystem extends ALModule {
     * @return running system version
     */
     public String systemVersion() throws CallError, InterruptedException {
-        return (String)service.call("systemVersion").get();
+        return (String)service().call("systemVersion").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #systemVersion}.
+    * Running system version
+    * 
+    * @return running system version
+    */
+    public ALFuture<String> systemVersionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("systemVersion"));
     }
 
     /**
@@ -272,7 +522,17 @@ public class ALSystem extends ALModule {
     * @return information about the system version
     */
     public Tuple3<String, String, String> systemInfo() throws CallError, InterruptedException {
-        return (Tuple3<String, String, String>)service.call("systemInfo").get();
+        return (Tuple3<String, String, String>)service().call("systemInfo").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #systemInfo}.
+    * Running system version
+    * 
+    * @return information about the system version
+    */
+    public ALFuture<Tuple3<String, String, String>> systemInfoAsync() throws CallError {
+        return ALFuture.of(service().<Tuple3<String, String, String>>call("systemInfo"));
     }
 
     /**
@@ -281,7 +541,17 @@ public class ALSystem extends ALModule {
     * @return amount of available memory in heap
     */
     public Integer freeMemory() throws CallError, InterruptedException {
-        return (Integer)service.call("freeMemory").get();
+        return (Integer)service().call("freeMemory").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #freeMemory}.
+    * Amount of available memory in heap
+    * 
+    * @return amount of available memory in heap
+    */
+    public ALFuture<Integer> freeMemoryAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("freeMemory"));
     }
 
     /**
@@ -290,7 +560,17 @@ public class ALSystem extends ALModule {
     * @return amount of total memory in heap
     */
     public Integer totalMemory() throws CallError, InterruptedException {
-        return (Integer)service.call("totalMemory").get();
+        return (Integer)service().call("totalMemory").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #totalMemory}.
+    * Amount of total memory in heap
+    * 
+    * @return amount of total memory in heap
+    */
+    public ALFuture<Integer> totalMemoryAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("totalMemory"));
     }
 
     /**
@@ -299,7 +579,17 @@ public class ALSystem extends ALModule {
     * @return current timezone
     */
     public String timezone() throws CallError, InterruptedException {
-        return (String)service.call("timezone").get();
+        return (String)service().call("timezone").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #timezone}.
+    * Current timezone
+    * 
+    * @return current timezone
+    */
+    public ALFuture<String> timezoneAsync() throws CallError {
+        return ALFuture.of(service().<String>call("timezone"));
     }
 
     /**
@@ -309,7 +599,18 @@ public class ALSystem extends ALModule {
     * @return whether the operation was successful
     */
     public Boolean setTimezone(String timezone) throws CallError, InterruptedException {
-        return (Boolean)service.call("setTimezone", timezone).get();
+        return (Boolean)service().call("setTimezone", timezone).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setTimezone}.
+    * Set current timezone
+    * 
+    * @param timezone  timezone to use
+    * @return whether the operation was successful
+    */
+    public ALFuture<Boolean> setTimezoneAsync(String timezone) throws CallError {
+        return ALFuture.of(service().<Boolean>call("setTimezone", timezone));
     }
 
     /**
@@ -318,7 +619,17 @@ public class ALSystem extends ALModule {
     * @return Previous system version before software update.
     */
     public String previousSystemVersion() throws CallError, InterruptedException {
-        return (String)service.call("previousSystemVersion").get();
+        return (String)service().call("previousSystemVersion").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #previousSystemVersion}.
+    * Previous system version before software update (empty if this is not the 1st boot after a software update)
+    * 
+    * @return Previous system version before software update.
+    */
+    public ALFuture<String> previousSystemVersionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("previousSystemVersion"));
     }
 
     /**
@@ -329,9 +640,20 @@ public class ALSystem extends ALModule {
     */
     public void changePassword(String oldPassword, String newPassword) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("changePassword", oldPassword, newPassword);
+            service().call("changePassword", oldPassword, newPassword);
         else
-            service.call("changePassword", oldPassword, newPassword).get();
+            service().call("changePassword", oldPassword, newPassword).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #changePassword}.
+    * Change the user password.
+    * 
+    * @param old password  The current password of the user.
+    * @param new password  The new user password.
+    */
+    public ALFuture<Void> changePasswordAsync(String oldPassword, String newPassword) throws CallError {
+        return ALFuture.of(service().<Void>call("changePassword", oldPassword, newPassword));
     }
 
     /**
@@ -342,9 +664,20 @@ public class ALSystem extends ALModule {
     */
     public void upgrade(String image, String checksum) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("upgrade", image, checksum);
+            service().call("upgrade", image, checksum);
         else
-            service.call("upgrade", image, checksum).get();
+            service().call("upgrade", image, checksum).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #upgrade}.
+    * Change the user password.
+    * 
+    * @param image  Local path to a valid image.
+    * @param checksum  Local path to a md5 checksum file, or empty string for no verification
+    */
+    public ALFuture<Void> upgradeAsync(String image, String checksum) throws CallError {
+        return ALFuture.of(service().<Void>call("upgrade", image, checksum));
     }
 
 }
@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -25,9 +26,19 @@ Returns once connected. Throws runtime error otherwise.
     */
     public void connectNetwork() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("connectNetwork");
+            service().call("connectNetwork");
         else
-            service.call("connectNetwork").get();
+            service().call("connectNetwork").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #connectNetwork}.
+    * Connects the robot to the messaging network.
+Returns once connected. Throws runtime error otherwise.
+    * 
+    */
+    public ALFuture<Void> connectNetworkAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("connectNetwork"));
     }
 
     /**
@@ -39,9 +50,21 @@ Returns once connected. Throws runtime error otherwise.
     */
     public void _onConnectivityChanged(String param1, java.lang.Object param2, String param3) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onConnectivityChanged", param1, param2, param3);
+            service().call("_onConnectivityChanged", param1, param2, param3);
         else
-            service.call("_onConnectivityChanged", param1, param2, param3).get();
+            service().call("_onConnectivityChanged", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onConnectivityChanged}.
+    * Internal callback
+    * 
+    * @param string  variable
+    * @param string  value
+    * @param string  message
+    */
+    public ALFuture<Void> _onConnectivityChangedAsync(String param1, java.lang.Object param2, String param3) throws CallError {
+        return ALFuture.of(service().<Void>call("_onConnectivityChanged", param1, param2, param3));
     }
 
     /**
@@ -53,9 +76,21 @@ Returns once connected. Throws runtime error otherwise.
     */
     public void processSoundRemote(Integer nbOfChannels, Integer nbOfSamplesByChannel, java.lang.Object buffer) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("processSoundRemote", nbOfChannels, nbOfSamplesByChannel, buffer);
+            service().call("processSoundRemote", nbOfChannels, nbOfSamplesByChannel, buffer);
         else
-            service.call("processSoundRemote", nbOfChannels, nbOfSamplesByChannel, buffer).get();
+            service().call("processSoundRemote", nbOfChannels, nbOfSamplesByChannel, buffer).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #processSoundRemote}.
+    * enable/disable the printing of some debug information
+    * 
+    * @param nbOfChannels  Provides the number of channels of the buffer.
+    * @param nbOfSamplesByChannel  Provides the number of samples by channel.
+    * @param buffer  Provides the audio buffer as an ALValue.
+    */
+    public ALFuture<Void> processSoundRemoteAsync(Integer nbOfChannels, Integer nbOfSamplesByChannel, java.lang.Object buffer) throws CallError {
+        return ALFuture.of(service().<Void>call("processSoundRemote", nbOfChannels, nbOfSamplesByChannel, buffer));
     }
 
     /**
@@ -65,9 +100,19 @@ Returns once connected. Throws runtime error otherwise.
     */
     public void enableRPC(Boolean enabled) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("enableRPC", enabled);
+            service().call("enableRPC", enabled);
         else
-            service.call("enableRPC", enabled).get();
+            service().call("enableRPC", enabled).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #enableRPC}.
+    * Enable / disable RPC handling for received messages.
+    * 
+    * @param enabled  Whether to enable RPC
+    */
+    public ALFuture<Void> enableRPCAsync(Boolean enabled) throws CallError {
+        return ALFuture.of(service().<Void>call("enableRPC", enabled));
     }
 
     /**
@@ -76,7 +121,17 @@ Returns once connected. Throws runtime error otherwise.
     * @return Whether RPC is enabled
     */
     public Boolean isRPCEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isRPCEnabled").get();
+        return (Boolean)service().call("isRPCEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRPCEnabled}.
+    * Says whether RPC is enabled or not.
+    * 
+    * @return Whether RPC is enabled
+    */
+    public ALFuture<Boolean> isRPCEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRPCEnabled"));
     }
 
     /**
@@ -88,9 +143,21 @@ The associated user is recalled in ALMemory as ALTelepathe/User
     */
     public void associateUser(String login, String password) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("associateUser", login, password);
+            service().call("associateUser", login, password);
         else
-            service.call("associateUser", login, password).get();
+            service().call("associateUser", login, password).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #associateUser}.
+    * Associates the robot to the given Aldebaran Robotics user.
+The associated user is recalled in ALMemory as ALTelepathe/User
+    * 
+    * @param login  A valid Aldebaran Robotics user name.
+    * @param password  The matching password with the user name.
+    */
+    public ALFuture<Void> associateUserAsync(String login, String password) throws CallError {
+        return ALFuture.of(service().<Void>call("associateUser", login, password));
     }
 
     /**
@@ -105,7 +172,23 @@ Returns once call has been received.Throws runtime error otherwise.
     * @return RPC return value
     */
     public java.lang.Object sendRPC(String destination, String module, String method, java.lang.Object args, Integer timeout) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("sendRPC", destination, module, method, args, timeout).get();
+        return (java.lang.Object)service().call("sendRPC", destination, module, method, args, timeout).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #sendRPC}.
+    * Performs an Internet Remote Procedure Call.
+Returns once call has been received.Throws runtime error otherwise.
+    * 
+    * @param destination  Target contact id
+    * @param module  The target module
+    * @param method  The method to call
+    * @param args  The method arguments
+    * @param timeout  The timeout after which the call should be aborted
+    * @return RPC return value
+    */
+    public ALFuture<java.lang.Object> sendRPCAsync(String destination, String module, String method, java.lang.Object args, Integer timeout) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("sendRPC", destination, module, method, args, timeout));
     }
 
     /**
@@ -117,9 +200,21 @@ Returns once call has been received.Throws runtime error otherwise.
     */
     public void _rpcCallback(String key, java.lang.Object data, String message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_rpcCallback", key, data, message);
+            service().call("_rpcCallback", key, data, message);
         else
-            service.call("_rpcCallback", key, data, message).get();
+            service().call("_rpcCallback", key, data, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_rpcCallback}.
+    * Relays ALMemory callbacks to Internet remote peers.
+    * 
+    * @param key  The ALMemory key that was updated.
+    * @param data  The new value stored at the given key.
+    * @param message  Message will define the remote method to call (remoteModule.method)
+    */
+    public ALFuture<Void> _rpcCallbackAsync(String key, java.lang.Object data, String message) throws CallError {
+        return ALFuture.of(service().<Void>call("_rpcCallback", key, data, message));
     }
 
     /**
@@ -131,9 +226,21 @@ Returns once call has been received.Throws runtime error otherwise.
     */
     public void startCall(String contact, Boolean audio, Boolean video) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("startCall", contact, audio, video);
+            service().call("startCall", contact, audio, video);
         else
-            service.call("startCall", contact, audio, video).get();
+            service().call("startCall", contact, audio, video).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #startCall}.
+    * Starts a media call.Returns once the call is accepted remotely.Throws runtime error if the call can't be established.Timeouts after 30 seconds if call not accepted remotely.
+    * 
+    * @param contact  The contact id to call.
+    * @param audio  Whether audio is enabled for the call.
+    * @param video  Whether video is enabled for the call.
+    */
+    public ALFuture<Void> startCallAsync(String contact, Boolean audio, Boolean video) throws CallError {
+        return ALFuture.of(service().<Void>call("startCall", contact, audio, video));
     }
 
     /**
@@ -142,9 +249,18 @@ Returns once call has been received.Throws runtime error otherwise.
     */
     public void stopCall() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stopCall");
+            service().call("stopCall");
         else
-            service.call("stopCall").get();
+            service().call("stopCall").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stopCall}.
+    * Stops the current media call.
+    * 
+    */
+    public ALFuture<Void> stopCallAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("stopCall"));
     }
 
     /**
@@ -153,7 +269,17 @@ Returns once call has been received.Throws runtime error otherwise.
     * @return Whether ALTelepathe is calling or not.
     */
     public Boolean isCalling() throws CallError, InterruptedException {
-        return (Boolean)service.call("isCalling").get();
+        return (Boolean)service().call("isCalling").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isCalling}.
+    * Says whether a media call is currently established.
+    * 
+    * @return Whether ALTelepathe is calling or not.
+    */
+    public ALFuture<Boolean> isCallingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isCalling"));
     }
 
     /**
@@ -162,9 +288,18 @@ Returns once call has been received.Throws runtime error otherwise.
     */
     public void dissociateUser() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("dissociateUser");
+            service().call("dissociateUser");
         else
-            service.call("dissociateUser").get();
+            service().call("dissociateUser").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #dissociateUser}.
+    * Clears the login and password for accessing Aldebaran Robotics's network.Login can be tracked in the ALMemory key ALTelepathe/User
+    * 
+    */
+    public ALFuture<Void> dissociateUserAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("dissociateUser"));
     }
 
     /**
@@ -173,9 +308,18 @@ Returns once call has been received.Throws runtime error otherwise.
     */
     public void _stopLocalStreaming() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_stopLocalStreaming");
+            service().call("_stopLocalStreaming");
         else
-            service.call("_stopLocalStreaming").get();
+            service().call("_stopLocalStreaming").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_stopLocalStreaming}.
+    * Stop LAN stream test
+    * 
+    */
+    public ALFuture<Void> _stopLocalStreamingAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_stopLocalStreaming"));
     }
 
     /**
@@ -185,9 +329,19 @@ Returns once disconnected. Does not throw.
     */
     public void disconnectNetwork() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("disconnectNetwork");
+            service().call("disconnectNetwork");
         else
-            service.call("disconnectNetwork").get();
+            service().call("disconnectNetwork").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #disconnectNetwork}.
+    * Disconnects the robot from the messaging network.
+Returns once disconnected. Does not throw.
+    * 
+    */
+    public ALFuture<Void> disconnectNetworkAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("disconnectNetwork"));
     }
 
     /**
@@ -197,7 +351,18 @@ Value is the same as in the ALMemory key ALTelepathe/Connected
     * @return Whether ALTelepathe is online or not.
     */
     public Boolean isConnected() throws CallError, InterruptedException {
-        return (Boolean)service.call("isConnected").get();
+        return (Boolean)service().call("isConnected").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isConnected}.
+    * Gets the current connection status.
+Value is the same as in the ALMemory key ALTelepathe/Connected
+    * 
+    * @return Whether ALTelepathe is online or not.
+    */
+    public ALFuture<Boolean> isConnectedAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isConnected"));
     }
 
     /**
@@ -207,7 +372,18 @@ This simply accesses to the ALMemory key ALTelepathe/User
     * @return the name of the user, empty if none
     */
     public String associatedUser() throws CallError, InterruptedException {
-        return (String)service.call("associatedUser").get();
+        return (String)service().call("associatedUser").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #associatedUser}.
+    * Tells who is associated to the robot, if anyone.
+This simply accesses to the ALMemory key ALTelepathe/User
+    * 
+    * @return the name of the user, empty if none
+    */
+    public ALFuture<String> associatedUserAsync() throws CallError {
+        return ALFuture.of(service().<String>call("associatedUser"));
     }
 
     /**
@@ -218,9 +394,20 @@ This simply accesses to the ALMemory key ALTelepathe/User
     */
     public void enableAutoconnection(Boolean enabled) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("enableAutoconnection", enabled);
+            service().call("enableAutoconnection", enabled);
         else
-            service.call("enableAutoconnection", enabled).get();
+            service().call("enableAutoconnection", enabled).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #enableAutoconnection}.
+    * Enables autoconnection to the network, using the saved user login information if present.
+
+    * 
+    * @param enabled  Whether to connect automatically at startup.
+    */
+    public ALFuture<Void> enableAutoconnectionAsync(Boolean enabled) throws CallError {
+        return ALFuture.of(service().<Void>call("enableAutoconnection", enabled));
     }
 
     /**
@@ -229,7 +416,17 @@ This simply accesses to the ALMemory key ALTelepathe/User
     * @return Whether autoconnection is enabled
     */
     public Boolean isAutoconnectionEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isAutoconnectionEnabled").get();
+        return (Boolean)service().call("isAutoconnectionEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isAutoconnectionEnabled}.
+    * Says whether autoconnection is enabled or not.
+    * 
+    * @return Whether autoconnection is enabled
+    */
+    public ALFuture<Boolean> isAutoconnectionEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isAutoconnectionEnabled"));
     }
 
     /**
@@ -240,9 +437,20 @@ This simply accesses to the ALMemory key ALTelepathe/User
     */
     public void sendMessage(String destination, String message) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("sendMessage", destination, message);
+            service().call("sendMessage", destination, message);
         else
-            service.call("sendMessage", destination, message).get();
+            service().call("sendMessage", destination, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #sendMessage}.
+    * Sends a text message to the chosen destination.
+    * 
+    * @param destination  The id of the destination contact.
+    * @param message  The message to send to the contact.
+    */
+    public ALFuture<Void> sendMessageAsync(String destination, String message) throws CallError {
+        return ALFuture.of(service().<Void>call("sendMessage", destination, message));
     }
 
     /**
@@ -251,9 +459,18 @@ This simply accesses to the ALMemory key ALTelepathe/User
     */
     public void _startLocalStreaming() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_startLocalStreaming");
+            service().call("_startLocalStreaming");
         else
-            service.call("_startLocalStreaming").get();
+            service().call("_startLocalStreaming").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_startLocalStreaming}.
+    * Test LAN stream
+    * 
+    */
+    public ALFuture<Void> _startLocalStreamingAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_startLocalStreaming"));
     }
 
     /**
@@ -267,7 +484,22 @@ Returns once call has been received.Throws runtime error otherwise.
     * @return RPC return value
     */
     public java.lang.Object sendRPC(String destination, String module, String method, java.lang.Object args) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("sendRPC", destination, module, method, args).get();
+        return (java.lang.Object)service().call("sendRPC", destination, module, method, args).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #sendRPC}.
+    * Performs an Internet Remote Procedure Call.
+Returns once call has been received.Throws runtime error otherwise.
+    * 
+    * @param destination  Target contact id
+    * @param module  The target module
+    * @param method  The method to call
+    * @param args  The method arguments
+    * @return RPC return value
+    */
+    public ALFuture<java.lang.Object> sendRPCAsync(String destination, String module, String method, java.lang.Object args) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("sendRPC", destination, module, method, args));
     }
 
     /**
@@ -275,7 +507,16 @@ Returns once call has been received.Throws runtime error otherwise.
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -284,9 +525,18 @@ Returns once call has been received.Throws runtime error otherwise.
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -294,7 +544,16 @@ Returns once call has been received.Throws runtime error otherwise.
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -303,9 +562,18 @@ Returns once call has been received.Throws runtime error otherwise.
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -314,7 +582,17 @@ Returns once call has been received.Throws runtime error otherwise.
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -323,7 +601,17 @@ Returns once call has been received.Throws runtime error otherwise.
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -332,7 +620,17 @@ Returns once call has been received.Throws runtime error otherwise.
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -342,7 +640,18 @@ Returns once call has been received.Throws runtime error otherwise.
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -351,7 +660,17 @@ Returns once call has been received.Throws runtime error otherwise.
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -362,7 +681,19 @@ Returns once call has been received.Throws runtime error otherwise.
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -372,7 +703,18 @@ Returns once call has been received.Throws runtime error otherwise.
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -382,9 +724,19 @@ Returns once call has been received.Throws runtime error otherwise.
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -393,7 +745,17 @@ Returns once call has been received.Throws runtime error otherwise.
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -403,7 +765,18 @@ Returns once call has been received.Throws runtime error otherwise.
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -414,10 +787,24 @@ Returns once call has been received.Throws runtime error otherwise.
     * @param precision  Precision of the extractor if relevant.
     */
     public void subscribe(String name, Integer period, Float precision) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("subscribe", name, period, precision);
-        else
-            service.call("subscribe", name, period, precision).get();
+        if (isAsynchronous) {
+            recordSubscription(ALFuture.of(service().<Void>call("subscribe", name, period, precision)), "unsubscribe", name);
+            return;
+        }
+        service().call("subscribe", name, period, precision).get();
+        recordSubscription("unsubscribe", name);
+    }
+
+    /**
+    * Asynchronous version of {@link #subscribe}.
+    * Subscribes to the extractor. This causes the extractor to start writing information to memory using the keys described by getOutputNames(). These can be accessed in memory using ALMemory.getData("keyName"). In many cases you can avoid calling subscribe on the extractor by just calling ALMemory.subscribeToEvent() supplying a callback method. This will automatically subscribe to the extractor for you.
+    * 
+    * @param name  Name of the module which subscribes.
+    * @param period  Refresh period (in milliseconds) if relevant.
+    * @param precision  Precision of the extractor if relevant.
+    */
+    public ALFuture<Void> subscribeAsync(String name, Integer period, Float precision) throws CallError {
+        return recordSubscription(ALFuture.of(service().<Void>call("subscribe", name, period, precision)), "unsubscribe", name);
     }
 
     /**
@@ -426,10 +813,22 @@ Returns once call has been received.Throws runtime error otherwise.
     * @param name  Name of the module which subscribes.
     */
     public void subscribe(String name) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("subscribe", name);
-        else
-            service.call("subscribe", name).get();
+        if (isAsynchronous) {
+            recordSubscription(ALFuture.of(service().<Void>call("subscribe", name)), "unsubscribe", name);
+            return;
+        }
+        service().call("subscribe", name).get();
+        recordSubscription("unsubscribe", name);
+    }
+
+    /**
+    * Asynchronous version of {@link #subscribe}.
+    * Subscribes to the extractor. This causes the extractor to start writing information to memory using the keys described by getOutputNames(). These can be accessed in memory using ALMemory.getData("keyName"). In many cases you can avoid calling subscribe on the extractor by just calling ALMemory.subscribeToEvent() supplying a callback method. This will automatically subscribe to the extractor for you.
+    * 
+    * @param name  Name of the module which subscribes.
+    */
+    public ALFuture<Void> subscribeAsync(String name) throws CallError {
+        return recordSubscription(ALFuture.of(service().<Void>call("subscribe", name)), "unsubscribe", name);
     }
 
     /**
@@ -438,10 +837,22 @@ Returns once call has been received.Throws runtime error otherwise.
     * @param name  Name of the module which had subscribed.
     */
     public void unsubscribe(String name) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("unsubscribe", name);
-        else
-            service.call("unsubscribe", name).get();
+        if (isAsynchronous) {
+            forgetSubscription(ALFuture.of(service().<Void>call("unsubscribe", name)), "unsubscribe", name);
+            return;
+        }
+        service().call("unsubscribe", name).get();
+        forgetSubscription("unsubscribe", name);
+    }
+
+    /**
+    * Asynchronous version of {@link #unsubscribe}.
+    * Unsubscribes from the extractor.
+    * 
+    * @param name  Name of the module which had subscribed.
+    */
+    public ALFuture<Void> unsubscribeAsync(String name) throws CallError {
+        return forgetSubscription(ALFuture.of(service().<Void>call("unsubscribe", name)), "unsubscribe", name);
     }
 
     /**
@@ -452,9 +863,20 @@ Returns once call has been received.Throws runtime error otherwise.
     */
     public void updatePeriod(String name, Integer period) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("updatePeriod", name, period);
+            service().call("updatePeriod", name, period);
         else
-            service.call("updatePeriod", name, period).get();
+            service().call("updatePeriod", name, period).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #updatePeriod}.
+    * Updates the period if relevant.
+    * 
+    * @param name  Name of the module which has subscribed.
+    * @param period  Refresh period (in milliseconds).
+    */
+    public ALFuture<Void> updatePeriodAsync(String name, Integer period) throws CallError {
+        return ALFuture.of(service().<Void>call("updatePeriod", name, period));
     }
 
     /**
@@ -465,9 +887,20 @@ Returns once call has been received.Throws runtime error otherwise.
     */
     public void updatePrecision(String name, Float precision) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("updatePrecision", name, precision);
+            service().call("updatePrecision", name, precision);
         else
-            service.call("updatePrecision", name, precision).get();
+            service().call("updatePrecision", name, precision).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #updatePrecision}.
+    * Updates the precision if relevant.
+    * 
+    * @param name  Name of the module which has subscribed.
+    * @param precision  Precision of the extractor.
+    */
+    public ALFuture<Void> updatePrecisionAsync(String name, Float precision) throws CallError {
+        return ALFuture.of(service().<Void>call("updatePrecision", name, precision));
     }
 
     /**
@@ -476,7 +909,17 @@ Returns once call has been received.Throws runtime error otherwise.
     * @return Refresh period (in milliseconds).
     */
     public Integer getCurrentPeriod() throws CallError, InterruptedException {
-        return (Integer)service.call("getCurrentPeriod").get();
+        return (Integer)service().call("getCurrentPeriod").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getCurrentPeriod}.
+    * Gets the current period.
+    * 
+    * @return Refresh period (in milliseconds).
+    */
+    public ALFuture<Integer> getCurrentPeriodAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("getCurrentPeriod"));
     }
 
     /**
@@ -485,7 +928,17 @@ Returns once call has been received.Throws runtime error otherwise.
     * @return Precision of the extractor.
     */
     public Float getCurrentPrecision() throws CallError, InterruptedException {
-        return (Float)service.call("getCurrentPrecision").get();
+        return (Float)service().call("getCurrentPrecision").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getCurrentPrecision}.
+    * Gets the current precision.
+    * 
+    * @return Precision of the extractor.
+    */
+    public ALFuture<Float> getCurrentPrecisionAsync() throws CallError {
+        return ALFuture.of(service().<Float>call("getCurrentPrecision"));
     }
 
     /**
@@ -495,7 +948,18 @@ Returns once call has been received.Throws runtime error otherwise.
     * @return Refresh period (in milliseconds).
     */
     public Integer getMyPeriod(String name) throws CallError, InterruptedException {
-        return (Integer)service.call("getMyPeriod", name).get();
+        return (Integer)service().call("getMyPeriod", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMyPeriod}.
+    * Gets the period for a specific subscription.
+    * 
+    * @param name  Name of the module which has subscribed.
+    * @return Refresh period (in milliseconds).
+    */
+    public ALFuture<Integer> getMyPeriodAsync(String name) throws CallError {
+        return ALFuture.of(service().<Integer>call("getMyPeriod", name));
     }
 
     /**
@@ -505,7 +969,18 @@ Returns once call has been received.Throws runtime error otherwise.
     * @return precision of the extractor
     */
     public Float getMyPrecision(String name) throws CallError, InterruptedException {
-        return (Float)service.call("getMyPrecision", name).get();
+        return (Float)service().call("getMyPrecision", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMyPrecision}.
+    * Gets the precision for a specific subscription.
+    * 
+    * @param name  name of the module which has subscribed
+    * @return precision of the extractor
+    */
+    public ALFuture<Float> getMyPrecisionAsync(String name) throws CallError {
+        return ALFuture.of(service().<Float>call("getMyPrecision", name));
     }
 
     /**
@@ -514,7 +989,17 @@ Returns once call has been received.Throws runtime error otherwise.
     * @return Array of names and parameters of all subscribers.
     */
     public java.lang.Object getSubscribersInfo() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getSubscribersInfo").get();
+        return (java.lang.Object)service().call("getSubscribersInfo").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getSubscribersInfo}.
+    * Gets the parameters given by the module.
+    * 
+    * @return Array of names and parameters of all subscribers.
+    */
+    public ALFuture<java.lang.Object> getSubscribersInfoAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getSubscribersInfo"));
     }
 
     /**
@@ -523,7 +1008,17 @@ Returns once call has been received.Throws runtime error otherwise.
     * @return Array of values updated by this extractor in ALMemory
     */
     public List<String> getOutputNames() throws CallError, InterruptedException {
-        return (List<String>)service.call("getOutputNames").get();
+        return (List<String>)service().call("getOutputNames").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getOutputNames}.
+    * Get the list of values updated in ALMemory.
+    * 
+    * @return Array of values updated by this extractor in ALMemory
+    */
+    public ALFuture<List<String>> getOutputNamesAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getOutputNames"));
     }
 
     /**
@@ -532,7 +1027,17 @@ Returns once call has been received.Throws runtime error otherwise.
     * @return Array of events updated by this extractor in ALMemory
     */
     public List<String> getEventList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getEventList").get();
+        return (List<String>)service().call("getEventList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getEventList}.
+    * Get the list of events updated in ALMemory.
+    * 
+    * @return Array of events updated by this extractor in ALMemory
+    */
+    public ALFuture<List<String>> getEventListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getEventList"));
     }
 
     /**
@@ -541,7 +1046,17 @@ Returns once call has been received.Throws runtime error otherwise.
     * @return Array of events updated by this extractor in ALMemory
     */
     public List<String> getMemoryKeyList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMemoryKeyList").get();
+        return (List<String>)service().call("getMemoryKeyList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMemoryKeyList}.
+    * Get the list of events updated in ALMemory.
+    * 
+    * @return Array of events updated by this extractor in ALMemory
+    */
+    public ALFuture<List<String>> getMemoryKeyListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMemoryKeyList"));
     }
 
     /**
@@ -551,9 +1066,19 @@ Returns once call has been received.Throws runtime error otherwise.
     */
     public void setDebugMode(Boolean bSetOrUnset) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setDebugMode", bSetOrUnset);
+            service().call("setDebugMode", bSetOrUnset);
         else
-            service.call("setDebugMode", bSetOrUnset).get();
+            service().call("setDebugMode", bSetOrUnset).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setDebugMode}.
+    * enable/disable the printing of some debug information
+    * 
+    * @param bSetOrUnset  enable the functionnality when true.
+    */
+    public ALFuture<Void> setDebugModeAsync(Boolean bSetOrUnset) throws CallError {
+        return ALFuture.of(service().<Void>call("setDebugMode", bSetOrUnset));
     }
 
     /**
@@ -566,9 +1091,22 @@ Returns once call has been received.Throws runtime error otherwise.
     */
     public void processRemote(Integer nbOfChannels, Integer nbOfSamplesByChannel, java.lang.Object timestamp, java.lang.Object buffer) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("processRemote", nbOfChannels, nbOfSamplesByChannel, timestamp, buffer);
+            service().call("processRemote", nbOfChannels, nbOfSamplesByChannel, timestamp, buffer);
         else
-            service.call("processRemote", nbOfChannels, nbOfSamplesByChannel, timestamp, buffer).get();
+            service().call("processRemote", nbOfChannels, nbOfSamplesByChannel, timestamp, buffer).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #processRemote}.
+    * enable/disable the printing of some debug information
+    * 
+    * @param nbOfChannels  Provides the number of channels of the buffer.
+    * @param nbOfSamplesByChannel  Provides the number of samples by channel.
+    * @param timestamp  Provides the timestamp of the buffer.
+    * @param buffer  Provides the audio buffer as an ALValue.
+    */
+    public ALFuture<Void> processRemoteAsync(Integer nbOfChannels, Integer nbOfSamplesByChannel, java.lang.Object timestamp, java.lang.Object buffer) throws CallError {
+        return ALFuture.of(service().<Void>call("processRemote", nbOfChannels, nbOfSamplesByChannel, timestamp, buffer));
     }
 
 }
@@ -2,7 +2,10 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
+import com.aldebaran.qimessaging.helpers.event.ALEvent;
+import com.aldebaran.qimessaging.helpers.event.EventDecoders;
 import java.util.List;
 import java.util.Map;
 import com.aldebaran.qimessaging.*;
@@ -14,6 +17,16 @@ import java.util.List;
  */
 public class ALTextToSpeech extends ALModule {
 
+    /**
+    * Raised with 1 when a text starts being said, 0 otherwise.
+    */
+    public static final ALEvent<Integer> TEXT_STARTED = new ALEvent<Integer>("ALTextToSpeech/TextStarted", EventDecoders.INTEGER);
+
+    /**
+    * Raised with 1 when a text has been said, 0 otherwise.
+    */
+    public static final ALEvent<Integer> TEXT_DONE = new ALEvent<Integer>("ALTextToSpeech/TextDone", EventDecoders.INTEGER);
+
     public ALTextToSpeech(Session session) {
         super(session);
     }
@@ -25,9 +38,19 @@ public class ALTextToSpeech extends ALModule {
     */
     public void loadVoicePreference(String pPreferenceName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("loadVoicePreference", pPreferenceName);
+            service().call("loadVoicePreference", pPreferenceName);
         else
-            service.call("loadVoicePreference", pPreferenceName).get();
+            service().call("loadVoicePreference", pPreferenceName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #loadVoicePreference}.
+    * Loads a set of voice parameters defined in a xml file contained in the preferences folder.The name of the xml file must begin with ALTextToSpeech_Voice_ 
+    * 
+    * @param pPreferenceName  Name of the voice preference.
+    */
+    public ALFuture<Void> loadVoicePreferenceAsync(String pPreferenceName) throws CallError {
+        return ALFuture.of(service().<Void>call("loadVoicePreference", pPreferenceName));
     }
 
     /**
@@ -36,9 +59,18 @@ public class ALTextToSpeech extends ALModule {
     */
     public void _naoStoreApplicationInstalled(String param1, java.lang.Object param2, String param3) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_naoStoreApplicationInstalled", param1, param2, param3);
+            service().call("_naoStoreApplicationInstalled", param1, param2, param3);
         else
-            service.call("_naoStoreApplicationInstalled", param1, param2, param3).get();
+            service().call("_naoStoreApplicationInstalled", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_naoStoreApplicationInstalled}.
+    * reload the engine if new application installed is a language
+    * 
+    */
+    public ALFuture<Void> _naoStoreApplicationInstalledAsync(String param1, java.lang.Object param2, String param3) throws CallError {
+        return ALFuture.of(service().<Void>call("_naoStoreApplicationInstalled", param1, param2, param3));
     }
 
     /**
@@ -47,7 +79,17 @@ public class ALTextToSpeech extends ALModule {
     * @return  Array of std::string containing the voices installed on the system.
     */
     public List<String> getAvailableVoices() throws CallError, InterruptedException {
-        return (List<String>)service.call("getAvailableVoices").get();
+        return (List<String>)service().call("getAvailableVoices").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getAvailableVoices}.
+    * Outputs the available voices. The returned list contains the voice IDs.
+    * 
+    * @return  Array of std::string containing the voices installed on the system.
+    */
+    public ALFuture<List<String>> getAvailableVoicesAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getAvailableVoices"));
     }
 
     /**
@@ -56,9 +98,18 @@ public class ALTextToSpeech extends ALModule {
     */
     public void _pause() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_pause");
+            service().call("_pause");
         else
-            service.call("_pause").get();
+            service().call("_pause").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_pause}.
+    * Pause the current synthesis
+    * 
+    */
+    public ALFuture<Void> _pauseAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_pause"));
     }
 
     /**
@@ -67,9 +118,18 @@ public class ALTextToSpeech extends ALModule {
     */
     public void _resume() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_resume");
+            service().call("_resume");
         else
-            service.call("_resume").get();
+            service().call("_resume").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_resume}.
+    * Resume the current synthesis
+    * 
+    */
+    public ALFuture<Void> _resumeAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_resume"));
     }
 
     /**
@@ -78,7 +138,17 @@ public class ALTextToSpeech extends ALModule {
     * @return Volume (integer between 0 and 100).
     */
     public Float getVolume() throws CallError, InterruptedException {
-        return (Float)service.call("getVolume").get();
+        return (Float)service().call("getVolume").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getVolume}.
+    * Fetches the current volume the text to speech.
+    * 
+    * @return Volume (integer between 0 and 100).
+    */
+    public ALFuture<Float> getVolumeAsync() throws CallError {
+        return ALFuture.of(service().<Float>call("getVolume"));
     }
 
     /**
@@ -87,9 +157,18 @@ public class ALTextToSpeech extends ALModule {
     */
     public void _diagnosis() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_diagnosis");
+            service().call("_diagnosis");
         else
-            service.call("_diagnosis").get();
+            service().call("_diagnosis").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_diagnosis}.
+    * Logs info about the current state of the TTS.
+    * 
+    */
+    public ALFuture<Void> _diagnosisAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_diagnosis"));
     }
 
     /**
@@ -98,9 +177,18 @@ public class ALTextToSpeech extends ALModule {
     */
     public void _showVoiceSettings() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_showVoiceSettings");
+            service().call("_showVoiceSettings");
         else
-            service.call("_showVoiceSettings").get();
+            service().call("_showVoiceSettings").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_showVoiceSettings}.
+    * Logs voice settings.
+    * 
+    */
+    public ALFuture<Void> _showVoiceSettingsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_showVoiceSettings"));
     }
 
     /**
@@ -109,7 +197,17 @@ public class ALTextToSpeech extends ALModule {
     * @return A string with xx_XX format (region_country)
     */
     public String locale() throws CallError, InterruptedException {
-        return (String)service.call("locale").get();
+        return (String)service().call("locale").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #locale}.
+    * Get the locale associate to the current language.
+    * 
+    * @return A string with xx_XX format (region_country)
+    */
+    public ALFuture<String> localeAsync() throws CallError {
+        return ALFuture.of(service().<String>call("locale"));
     }
 
     /**
@@ -119,9 +217,19 @@ public class ALTextToSpeech extends ALModule {
     */
     public void _setDefaultLanguage(String Language) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setDefaultLanguage", Language);
+            service().call("_setDefaultLanguage", Language);
         else
-            service.call("_setDefaultLanguage", Language).get();
+            service().call("_setDefaultLanguage", Language).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setDefaultLanguage}.
+    * Sets a language as the default language for the synthesis engine
+    * 
+    * @param Language  The language among those available on your robot as a String
+    */
+    public ALFuture<Void> _setDefaultLanguageAsync(String Language) throws CallError {
+        return ALFuture.of(service().<Void>call("_setDefaultLanguage", Language));
     }
 
     /**
@@ -132,9 +240,20 @@ public class ALTextToSpeech extends ALModule {
     */
     public void setLanguageDefaultVoice(String Language, String Voice) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setLanguageDefaultVoice", Language, Voice);
+            service().call("setLanguageDefaultVoice", Language, Voice);
         else
-            service.call("setLanguageDefaultVoice", Language, Voice).get();
+            service().call("setLanguageDefaultVoice", Language, Voice).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setLanguageDefaultVoice}.
+    * Sets a voice as the default voice for the corresponding language
+    * 
+    * @param Language  The language among those available on your robot as a String
+    * @param Voice  The voice among those available on your robot as a String
+    */
+    public ALFuture<Void> setLanguageDefaultVoiceAsync(String Language, String Voice) throws CallError {
+        return ALFuture.of(service().<Void>call("setLanguageDefaultVoice", Language, Voice));
     }
 
     /**
@@ -144,9 +263,19 @@ public class ALTextToSpeech extends ALModule {
     */
     public void setVolume(Float volume) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setVolume", volume);
+            service().call("setVolume", volume);
         else
-            service.call("setVolume", volume).get();
+            service().call("setVolume", volume).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setVolume}.
+    * Sets the volume of text-to-speech output.
+    * 
+    * @param volume  Volume (between 0.0 and 1.0).
+    */
+    public ALFuture<Void> setVolumeAsync(Float volume) throws CallError {
+        return ALFuture.of(service().<Void>call("setVolume", volume));
     }
 
     /**
@@ -155,9 +284,18 @@ public class ALTextToSpeech extends ALModule {
     */
     public void enableNotifications() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("enableNotifications");
+            service().call("enableNotifications");
         else
-            service.call("enableNotifications").get();
+            service().call("enableNotifications").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #enableNotifications}.
+    * Enables the notifications puted in ALMemory during the synthesis (TextStarted, TextDone, CurrentBookMark, CurrentWord, ...)
+    * 
+    */
+    public ALFuture<Void> enableNotificationsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("enableNotifications"));
     }
 
     /**
@@ -166,9 +304,18 @@ public class ALTextToSpeech extends ALModule {
     */
     public void disableNotifications() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("disableNotifications");
+            service().call("disableNotifications");
         else
-            service.call("disableNotifications").get();
+            service().call("disableNotifications").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #disableNotifications}.
+    * Disables the notifications puted in ALMemory during the synthesis (TextStarted, TextDone, CurrentBookMark, CurrentWord, ...)
+    * 
+    */
+    public ALFuture<Void> disableNotificationsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("disableNotifications"));
     }
 
     /**
@@ -177,9 +324,18 @@ public class ALTextToSpeech extends ALModule {
     */
     public void _naoStoreApplicationUninstalled(String param1, java.lang.Object param2, String param3) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_naoStoreApplicationUninstalled", param1, param2, param3);
+            service().call("_naoStoreApplicationUninstalled", param1, param2, param3);
         else
-            service.call("_naoStoreApplicationUninstalled", param1, param2, param3).get();
+            service().call("_naoStoreApplicationUninstalled", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_naoStoreApplicationUninstalled}.
+    * reload the engine if application uninstalled is a language
+    * 
+    */
+    public ALFuture<Void> _naoStoreApplicationUninstalledAsync(String param1, java.lang.Object param2, String param3) throws CallError {
+        return ALFuture.of(service().<Void>call("_naoStoreApplicationUninstalled", param1, param2, param3));
     }
 
     /**
@@ -189,9 +345,19 @@ public class ALTextToSpeech extends ALModule {
     */
     public void _enableFilter(Boolean enable) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_enableFilter", enable);
+            service().call("_enableFilter", enable);
         else
-            service.call("_enableFilter", enable).get();
+            service().call("_enableFilter", enable).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_enableFilter}.
+    * Enables the filtering of audio output
+    * 
+    * @param enable  activate or not
+    */
+    public ALFuture<Void> _enableFilterAsync(Boolean enable) throws CallError {
+        return ALFuture.of(service().<Void>call("_enableFilter", enable));
     }
 
     /**
@@ -199,7 +365,16 @@ public class ALTextToSpeech extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -208,9 +383,18 @@ public class ALTextToSpeech extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -218,7 +402,16 @@ public class ALTextToSpeech extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -227,9 +420,18 @@ public class ALTextToSpeech extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -238,7 +440,17 @@ public class ALTextToSpeech extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -247,7 +459,17 @@ public class ALTextToSpeech extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -256,7 +478,17 @@ public class ALTextToSpeech extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -266,7 +498,18 @@ public class ALTextToSpeech extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -275,7 +518,17 @@ public class ALTextToSpeech extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -286,7 +539,19 @@ public class ALTextToSpeech extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -296,7 +561,18 @@ public class ALTextToSpeech extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -306,9 +582,19 @@ public class ALTextToSpeech extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -317,7 +603,17 @@ public class ALTextToSpeech extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -327,7 +623,18 @@ public class ALTextToSpeech extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -337,9 +644,19 @@ public class ALTextToSpeech extends ALModule {
     */
     public void say(String stringToSay) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("say", stringToSay);
+            service().call("say", stringToSay);
         else
-            service.call("say", stringToSay).get();
+            service().call("say", stringToSay).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #say}.
+    * Performs the text-to-speech operations : it takes a std::string as input and outputs a sound in both speakers. String encoding must be UTF8.
+    * 
+    * @param stringToSay  Text to say, encoded in UTF-8.
+    */
+    public ALFuture<Void> sayAsync(String stringToSay) throws CallError {
+        return ALFuture.of(service().<Void>call("say", stringToSay));
     }
 
     /**
@@ -350,9 +667,20 @@ public class ALTextToSpeech extends ALModule {
     */
     public void say(String stringToSay, String language) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("say", stringToSay, language);
+            service().call("say", stringToSay, language);
         else
-            service.call("say", stringToSay, language).get();
+            service().call("say", stringToSay, language).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #say}.
+    * Performs the text-to-speech operations in a specific language: it takes a std::string as input and outputs a sound in both speakers. String encoding must be UTF8. Once the text is said, the language is set back to its initial value.
+    * 
+    * @param stringToSay  Text to say, encoded in UTF-8.
+    * @param language  Language used to say the text.
+    */
+    public ALFuture<Void> sayAsync(String stringToSay, String language) throws CallError {
+        return ALFuture.of(service().<Void>call("say", stringToSay, language));
     }
 
     /**
@@ -363,9 +691,20 @@ public class ALTextToSpeech extends ALModule {
     */
     public void sayToFile(String pStringToSay, String pFileName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("sayToFile", pStringToSay, pFileName);
+            service().call("sayToFile", pStringToSay, pFileName);
         else
-            service.call("sayToFile", pStringToSay, pFileName).get();
+            service().call("sayToFile", pStringToSay, pFileName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #sayToFile}.
+    * Performs the text-to-speech operations: it takes a std::string as input and outputs the corresponding audio signal in the specified file.
+    * 
+    * @param pStringToSay  Text to say, encoded in UTF-8.
+    * @param pFileName  RAW file where to store the generated signal. The signal is encoded with a sample rate of 22050Hz, format S16_LE, 2 channels.
+    */
+    public ALFuture<Void> sayToFileAsync(String pStringToSay, String pFileName) throws CallError {
+        return ALFuture.of(service().<Void>call("sayToFile", pStringToSay, pFileName));
     }
 
     /**
@@ -375,9 +714,19 @@ public class ALTextToSpeech extends ALModule {
     */
     public void sayToFileAndPlay(String pStringToSay) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("sayToFileAndPlay", pStringToSay);
+            service().call("sayToFileAndPlay", pStringToSay);
         else
-            service.call("sayToFileAndPlay", pStringToSay).get();
+            service().call("sayToFileAndPlay", pStringToSay).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #sayToFileAndPlay}.
+    * This method performs the text-to-speech operations: it takes a std::string, outputs the synthesis resulting audio signal in a file, and then plays the audio file. The file is deleted afterwards. It is useful when you want to perform a short synthesis, when few CPU is available. Do not use it if you want a low-latency synthesis or to synthesize a long std::string.
+    * 
+    * @param pStringToSay  Text to say, encoded in UTF-8.
+    */
+    public ALFuture<Void> sayToFileAndPlayAsync(String pStringToSay) throws CallError {
+        return ALFuture.of(service().<Void>call("sayToFileAndPlay", pStringToSay));
     }
 
     /**
@@ -386,9 +735,18 @@ public class ALTextToSpeech extends ALModule {
     */
     public void stopAll() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stopAll");
+            service().call("stopAll");
         else
-            service.call("stopAll").get();
+            service().call("stopAll").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stopAll}.
+    * This method stops the current and all the pending tasks immediately.
+    * 
+    */
+    public ALFuture<Void> stopAllAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("stopAll"));
     }
 
     /**
@@ -398,9 +756,19 @@ public class ALTextToSpeech extends ALModule {
     */
     public void setLanguage(String pLanguage) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setLanguage", pLanguage);
+            service().call("setLanguage", pLanguage);
         else
-            service.call("setLanguage", pLanguage).get();
+            service().call("setLanguage", pLanguage).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setLanguage}.
+    * Changes the language used by the Text-to-Speech engine. It automatically changes the voice used since each of them is related to a unique language. If you want that change to take effect automatically after reboot of your robot, refer to the robot web page (setting page).
+    * 
+    * @param pLanguage  Language name. Must belong to the languages available in TTS (can be obtained with the getAvailableLanguages method).  It should be an identifier std::string.
+    */
+    public ALFuture<Void> setLanguageAsync(String pLanguage) throws CallError {
+        return ALFuture.of(service().<Void>call("setLanguage", pLanguage));
     }
 
     /**
@@ -409,7 +777,17 @@ public class ALTextToSpeech extends ALModule {
     * @return Language of the current voice.
     */
     public String getLanguage() throws CallError, InterruptedException {
-        return (String)service.call("getLanguage").get();
+        return (String)service().call("getLanguage").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getLanguage}.
+    * Returns the language currently used by the text-to-speech engine.
+    * 
+    * @return Language of the current voice.
+    */
+    public ALFuture<String> getLanguageAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getLanguage"));
     }
 
     /**
@@ -419,7 +797,18 @@ public class ALTextToSpeech extends ALModule {
     * @return Encoding of the specified language.
     */
     public String getLanguageEncoding(String pLanguage) throws CallError, InterruptedException {
-        return (String)service.call("getLanguageEncoding", pLanguage).get();
+        return (String)service().call("getLanguageEncoding", pLanguage).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getLanguageEncoding}.
+    * Returns the encoding that should be used with the specified language.
+    * 
+    * @param pLanguage  Language name (as a std::string). Must belong to the languages available in TTS.
+    * @return Encoding of the specified language.
+    */
+    public ALFuture<String> getLanguageEncodingAsync(String pLanguage) throws CallError {
+        return ALFuture.of(service().<String>call("getLanguageEncoding", pLanguage));
     }
 
     /**
@@ -428,7 +817,17 @@ public class ALTextToSpeech extends ALModule {
     * @return Array of std::string that contains the languages installed on the system.
     */
     public List<String> getAvailableLanguages() throws CallError, InterruptedException {
-        return (List<String>)service.call("getAvailableLanguages").get();
+        return (List<String>)service().call("getAvailableLanguages").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getAvailableLanguages}.
+    * Outputs the languages installed on the system.
+    * 
+    * @return Array of std::string that contains the languages installed on the system.
+    */
+    public ALFuture<List<String>> getAvailableLanguagesAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getAvailableLanguages"));
     }
 
     /**
@@ -437,7 +836,17 @@ public class ALTextToSpeech extends ALModule {
     * @return Array of std::string that contains all the supported languages (may be installed or not).
     */
     public List<String> getSupportedLanguages() throws CallError, InterruptedException {
-        return (List<String>)service.call("getSupportedLanguages").get();
+        return (List<String>)service().call("getSupportedLanguages").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getSupportedLanguages}.
+    * Outputs all the languages supported (may be installed or not).
+    * 
+    * @return Array of std::string that contains all the supported languages (may be installed or not).
+    */
+    public ALFuture<List<String>> getSupportedLanguagesAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getSupportedLanguages"));
     }
 
     /**
@@ -447,9 +856,19 @@ public class ALTextToSpeech extends ALModule {
     */
     public void resetSpeed() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("resetSpeed");
+            service().call("resetSpeed");
         else
-            service.call("resetSpeed").get();
+            service().call("resetSpeed").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #resetSpeed}.
+    * Changes the parameters of the voice. For now, it is only possible to reset the voice speed.
+    * 
+    * @param pEffectName  Name of the parameter.
+    */
+    public ALFuture<Void> resetSpeedAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("resetSpeed"));
     }
 
     /**
@@ -465,9 +884,25 @@ public class ALTextToSpeech extends ALModule {
     */
     public void setParameter(String pEffectName, Float pEffectValue) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setParameter", pEffectName, pEffectValue);
+            service().call("setParameter", pEffectName, pEffectValue);
         else
-            service.call("setParameter", pEffectName, pEffectValue).get();
+            service().call("setParameter", pEffectName, pEffectValue).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setParameter}.
+    * Changes the parameters of the voice. The available parameters are: 
+ 	 pitchShift: applies a pitch shifting to the voice. The value indicates the ratio between the new fundamental frequencies and the old ones (examples: 2.0: an octave above, 1.5: a quint above). Correct range is (1.0 -- 4), or 0 to disable effect.
+ 	 doubleVoice: adds a second voice to the first one. The value indicates the ratio between the second voice fundamental frequency and the first one. Correct range is (1.0 -- 4), or 0 to disable effect 
+ 	 doubleVoiceLevel: the corresponding value is the level of the double voice (1.0: equal to the main voice one). Correct range is (0 -- 4). 
+ 	 doubleVoiceTimeShift: the corresponding value is the delay between the double voice and the main one. Correct range is (0 -- 0.5) 
+ If the effect value is not available, the effect parameter remains unchanged.
+    * 
+    * @param pEffectName  Name of the parameter.
+    * @param pEffectValue  Value of the parameter.
+    */
+    public ALFuture<Void> setParameterAsync(String pEffectName, Float pEffectValue) throws CallError {
+        return ALFuture.of(service().<Void>call("setParameter", pEffectName, pEffectValue));
     }
 
     /**
@@ -477,7 +912,18 @@ public class ALTextToSpeech extends ALModule {
     * @return Value of the specified parameter
     */
     public Float getParameter(String pParameterName) throws CallError, InterruptedException {
-        return (Float)service.call("getParameter", pParameterName).get();
+        return (Float)service().call("getParameter", pParameterName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getParameter}.
+    * Returns the value of one of the voice parameters. The available parameters are: "pitchShift", "doubleVoice","doubleVoiceLevel" and "doubleVoiceTimeShift"
+    * 
+    * @param pParameterName  Name of the parameter.
+    * @return Value of the specified parameter
+    */
+    public ALFuture<Float> getParameterAsync(String pParameterName) throws CallError {
+        return ALFuture.of(service().<Float>call("getParameter", pParameterName));
     }
 
     /**
@@ -487,9 +933,19 @@ public class ALTextToSpeech extends ALModule {
     */
     public void setVoice(String pVoiceID) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setVoice", pVoiceID);
+            service().call("setVoice", pVoiceID);
         else
-            service.call("setVoice", pVoiceID).get();
+            service().call("setVoice", pVoiceID).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setVoice}.
+    * Changes the voice used by the text-to-speech engine. The voice identifier must belong to the installed voices, that can be listed using the 'getAvailableVoices' method. If the voice is not available, it remains unchanged. No exception is thrown in this case. For the time being, only two voices are available by default : Kenny22Enhanced (English voice) and Julie22Enhanced (French voice)
+    * 
+    * @param pVoiceID  The voice (as a std::string).
+    */
+    public ALFuture<Void> setVoiceAsync(String pVoiceID) throws CallError {
+        return ALFuture.of(service().<Void>call("setVoice", pVoiceID));
     }
 
     /**
@@ -498,7 +954,17 @@ public class ALTextToSpeech extends ALModule {
     * @return Name of the current voice
     */
     public String getVoice() throws CallError, InterruptedException {
-        return (String)service.call("getVoice").get();
+        return (String)service().call("getVoice").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getVoice}.
+    * Returns the voice currently used by the text-to-speech engine.
+    * 
+    * @return Name of the current voice
+    */
+    public ALFuture<String> getVoiceAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getVoice"));
     }
 
 }
@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -24,9 +25,18 @@ public class ALThinkingExpression extends ALModule {
     */
     public void _startActivity(String param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_startActivity", param1);
+            service().call("_startActivity", param1);
         else
-            service.call("_startActivity", param1).get();
+            service().call("_startActivity", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_startActivity}.
+    * 
+    * 
+    */
+    public ALFuture<Void> _startActivityAsync(String param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_startActivity", param1));
     }
 
     /**
@@ -35,9 +45,18 @@ public class ALThinkingExpression extends ALModule {
     */
     public void _onPreferenceSynchronized() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onPreferenceSynchronized");
+            service().call("_onPreferenceSynchronized");
         else
-            service.call("_onPreferenceSynchronized").get();
+            service().call("_onPreferenceSynchronized").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onPreferenceSynchronized}.
+    * 
+    * 
+    */
+    public ALFuture<Void> _onPreferenceSynchronizedAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_onPreferenceSynchronized"));
     }
 
     /**
@@ -45,7 +64,16 @@ public class ALThinkingExpression extends ALModule {
     * 
     */
     public Integer _refCount() throws CallError, InterruptedException {
-        return (Integer)service.call("_refCount").get();
+        return (Integer)service().call("_refCount").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_refCount}.
+    * 
+    * 
+    */
+    public ALFuture<Integer> _refCountAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("_refCount"));
     }
 
     /**
@@ -53,7 +81,16 @@ public class ALThinkingExpression extends ALModule {
     * 
     */
     public Boolean isRunning() throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning").get();
+        return (Boolean)service().call("isRunning").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isRunningAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning"));
     }
 
     /**
@@ -61,7 +98,16 @@ public class ALThinkingExpression extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -70,9 +116,18 @@ public class ALThinkingExpression extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -80,7 +135,16 @@ public class ALThinkingExpression extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -89,9 +153,18 @@ public class ALThinkingExpression extends ALModule {
     */
     public void _onPreferenceUpdated(java.lang.Object param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_onPreferenceUpdated", param1);
+            service().call("_onPreferenceUpdated", param1);
         else
-            service.call("_onPreferenceUpdated", param1).get();
+            service().call("_onPreferenceUpdated", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_onPreferenceUpdated}.
+    * 
+    * 
+    */
+    public ALFuture<Void> _onPreferenceUpdatedAsync(java.lang.Object param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_onPreferenceUpdated", param1));
     }
 
     /**
@@ -100,9 +173,18 @@ public class ALThinkingExpression extends ALModule {
     */
     public void stop() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop");
+            service().call("stop");
         else
-            service.call("stop").get();
+            service().call("stop").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * 
+    * 
+    */
+    public ALFuture<Void> stopAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("stop"));
     }
 
     /**
@@ -111,9 +193,18 @@ public class ALThinkingExpression extends ALModule {
     */
     public void start() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("start");
+            service().call("start");
         else
-            service.call("start").get();
+            service().call("start").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #start}.
+    * 
+    * 
+    */
+    public ALFuture<Void> startAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("start"));
     }
 
 }
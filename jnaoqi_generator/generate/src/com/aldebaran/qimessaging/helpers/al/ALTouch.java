@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -23,7 +24,16 @@ public class ALTouch extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -32,9 +42,18 @@ public class ALTouch extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -42,7 +61,16 @@ public class ALTouch extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -51,9 +79,18 @@ public class ALTouch extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -62,7 +99,17 @@ public class ALTouch extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -71,7 +118,17 @@ public class ALTouch extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -80,7 +137,17 @@ public class ALTouch extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -90,7 +157,18 @@ public class ALTouch extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -99,7 +177,17 @@ public class ALTouch extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -110,7 +198,19 @@ public class ALTouch extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -120,7 +220,18 @@ public class ALTouch extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -130,9 +241,19 @@ public class ALTouch extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -141,7 +262,17 @@ public class ALTouch extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -151,7 +282,18 @@ public class ALTouch extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -161,9 +303,19 @@ public class ALTouch extends ALModule {
     */
     public void _setTouchConfig(java.lang.Object config) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setTouchConfig", config);
+            service().call("_setTouchConfig", config);
         else
-            service.call("_setTouchConfig", config).get();
+            service().call("_setTouchConfig", config).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setTouchConfig}.
+    * Internal Use.
+    * 
+    * @param config  Internal: An array of ALValues [i][0]: name, [i][1]: value
+    */
+    public ALFuture<Void> _setTouchConfigAsync(java.lang.Object config) throws CallError {
+        return ALFuture.of(service().<Void>call("_setTouchConfig", config));
     }
 
     /**
@@ -172,7 +324,17 @@ public class ALTouch extends ALModule {
     * @return A vector<std::string> of sensor names manage by ALTouch.
     */
     public List<String> getSensorList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getSensorList").get();
+        return (List<String>)service().call("getSensorList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getSensorList}.
+    * Return the list of sensors managed by touch module and return by TouchChangedevent.
+    * 
+    * @return A vector<std::string> of sensor names manage by ALTouch.
+    */
+    public ALFuture<List<String>> getSensorListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getSensorList"));
     }
 
     /**
@@ -181,7 +343,17 @@ public class ALTouch extends ALModule {
     * @return A vector of pair [name, bool], similar to TouchChanged event.
     */
     public java.lang.Object getStatus() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getStatus").get();
+        return (java.lang.Object)service().call("getStatus").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getStatus}.
+    * Return the current status of all Touch groups.
+    * 
+    * @return A vector of pair [name, bool], similar to TouchChanged event.
+    */
+    public ALFuture<java.lang.Object> getStatusAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getStatus"));
     }
 
     /**
@@ -192,7 +364,19 @@ public class ALTouch extends ALModule {
     * @return true if the group was created, false otherwise.
     */
     public Boolean _createGroup(String groupName, List<String> jointNames) throws CallError, InterruptedException {
-        return (Boolean)service.call("_createGroup", groupName, jointNames).get();
+        return (Boolean)service().call("_createGroup", groupName, jointNames).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_createGroup}.
+    * Internal Use.
+    * 
+    * @param groupName  The name of the group to create.
+    * @param jointNames  A vector of joint and actuator names constituting the group.
+    * @return true if the group was created, false otherwise.
+    */
+    public ALFuture<Boolean> _createGroupAsync(String groupName, List<String> jointNames) throws CallError {
+        return ALFuture.of(service().<Boolean>call("_createGroup", groupName, jointNames));
     }
 
     /**
@@ -202,7 +386,18 @@ public class ALTouch extends ALModule {
     * @return true if the group was deleted, false otherwise
     */
     public Boolean _deleteGroup(String groupName) throws CallError, InterruptedException {
-        return (Boolean)service.call("_deleteGroup", groupName).get();
+        return (Boolean)service().call("_deleteGroup", groupName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_deleteGroup}.
+    * Internal Use.
+    * 
+    * @param groupName  The name of the group to delete
+    * @return true if the group was deleted, false otherwise
+    */
+    public ALFuture<Boolean> _deleteGroupAsync(String groupName) throws CallError {
+        return ALFuture.of(service().<Boolean>call("_deleteGroup", groupName));
     }
 
     /**
@@ -211,7 +406,17 @@ public class ALTouch extends ALModule {
     * @return The list of groups used for sending touch events
     */
     public List<String> _getGroupList() throws CallError, InterruptedException {
-        return (List<String>)service.call("_getGroupList").get();
+        return (List<String>)service().call("_getGroupList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getGroupList}.
+    * Internal Use.
+    * 
+    * @return The list of groups used for sending touch events
+    */
+    public ALFuture<List<String>> _getGroupListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("_getGroupList"));
     }
 
     /**
@@ -221,7 +426,18 @@ public class ALTouch extends ALModule {
     * @return The name of a touch detection type
     */
     public String _getDetectionTypeName(Integer type) throws CallError, InterruptedException {
-        return (String)service.call("_getDetectionTypeName", type).get();
+        return (String)service().call("_getDetectionTypeName", type).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getDetectionTypeName}.
+    * Internal Use.
+    * 
+    * @param type  Touch detection type enum
+    * @return The name of a touch detection type
+    */
+    public ALFuture<String> _getDetectionTypeNameAsync(Integer type) throws CallError {
+        return ALFuture.of(service().<String>call("_getDetectionTypeName", type));
     }
 
     /**
@@ -230,9 +446,18 @@ public class ALTouch extends ALModule {
     */
     public void _robotFallingCallback(String param1, java.lang.Object param2, java.lang.Object param3) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_robotFallingCallback", param1, param2, param3);
+            service().call("_robotFallingCallback", param1, param2, param3);
         else
-            service.call("_robotFallingCallback", param1, param2, param3).get();
+            service().call("_robotFallingCallback", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_robotFallingCallback}.
+    * Callback when robot is falling
+    * 
+    */
+    public ALFuture<Void> _robotFallingCallbackAsync(String param1, java.lang.Object param2, java.lang.Object param3) throws CallError {
+        return ALFuture.of(service().<Void>call("_robotFallingCallback", param1, param2, param3));
     }
 
     /**
@@ -241,9 +466,18 @@ public class ALTouch extends ALModule {
     */
     public void _robotFallenCallback(String param1, java.lang.Object param2, java.lang.Object param3) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_robotFallenCallback", param1, param2, param3);
+            service().call("_robotFallenCallback", param1, param2, param3);
         else
-            service.call("_robotFallenCallback", param1, param2, param3).get();
+            service().call("_robotFallenCallback", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_robotFallenCallback}.
+    * Callback when robot has fallen
+    * 
+    */
+    public ALFuture<Void> _robotFallenCallbackAsync(String param1, java.lang.Object param2, java.lang.Object param3) throws CallError {
+        return ALFuture.of(service().<Void>call("_robotFallenCallback", param1, param2, param3));
     }
 
     /**
@@ -252,9 +486,18 @@ public class ALTouch extends ALModule {
     */
     public void _diagnosisCallback(String param1, java.lang.Object param2, java.lang.Object param3) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_diagnosisCallback", param1, param2, param3);
+            service().call("_diagnosisCallback", param1, param2, param3);
         else
-            service.call("_diagnosisCallback", param1, param2, param3).get();
+            service().call("_diagnosisCallback", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_diagnosisCallback}.
+    * Callback when diagnosis change.
+    * 
+    */
+    public ALFuture<Void> _diagnosisCallbackAsync(String param1, java.lang.Object param2, java.lang.Object param3) throws CallError {
+        return ALFuture.of(service().<Void>call("_diagnosisCallback", param1, param2, param3));
     }
 
 }
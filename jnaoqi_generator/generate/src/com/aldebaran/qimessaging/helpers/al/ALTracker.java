@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -23,7 +24,16 @@ public class ALTracker extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -32,9 +42,18 @@ public class ALTracker extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -42,7 +61,16 @@ public class ALTracker extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -51,9 +79,18 @@ public class ALTracker extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -62,7 +99,17 @@ public class ALTracker extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -71,7 +118,17 @@ public class ALTracker extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -80,7 +137,17 @@ public class ALTracker extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -90,7 +157,18 @@ public class ALTracker extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -99,7 +177,17 @@ public class ALTracker extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -110,7 +198,19 @@ public class ALTracker extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -120,7 +220,18 @@ public class ALTracker extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -130,9 +241,19 @@ public class ALTracker extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -141,7 +262,17 @@ public class ALTracker extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -151,7 +282,18 @@ public class ALTracker extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -161,7 +303,40 @@ public class ALTracker extends ALModule {
     * @return Vector of 3 floats corresponding to the target position 3D. 
     */
     public List<Float> getTargetPosition(Integer pFrame) throws CallError, InterruptedException {
-        return (List<Float>)service.call("getTargetPosition", pFrame).get();
+        return (List<Float>)service().call("getTargetPosition", pFrame).get();
+    }
+
+    /**
+    * Primitive version of {@link #getTargetPosition}, values are returned unboxed.
+    * Returns the [x, y, z] position of the target in FRAME_TORSO. This is done assuming an average target size, so it might not be very accurate.
+    * 
+    * @param pFrame  target frame {FRAME_TORSO = 0, FRAME_WORLD = 1, FRAME_ROBOT = 2}.
+    * @return Vector of 3 floats corresponding to the target position 3D. 
+    */
+    public float[] getTargetPositionF(Integer pFrame) throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("getTargetPosition", pFrame).get());
+    }
+
+    /**
+    * Primitive version of {@link #getTargetPosition}, values are written into dst and their count is returned.
+    * Returns the [x, y, z] position of the target in FRAME_TORSO. This is done assuming an average target size, so it might not be very accurate.
+    * 
+    * @param pFrame  target frame {FRAME_TORSO = 0, FRAME_WORLD = 1, FRAME_ROBOT = 2}.
+    * @return Vector of 3 floats corresponding to the target position 3D. 
+    */
+    public int getTargetPositionInto(float[] dst, Integer pFrame) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("getTargetPosition", pFrame).get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #getTargetPosition}.
+    * Returns the [x, y, z] position of the target in FRAME_TORSO. This is done assuming an average target size, so it might not be very accurate.
+    * 
+    * @param pFrame  target frame {FRAME_TORSO = 0, FRAME_WORLD = 1, FRAME_ROBOT = 2}.
+    * @return Vector of 3 floats corresponding to the target position 3D. 
+    */
+    public ALFuture<List<Float>> getTargetPositionAsync(Integer pFrame) throws CallError {
+        return ALFuture.of(service().<List<Float>>call("getTargetPosition", pFrame));
     }
 
     /**
@@ -170,7 +345,37 @@ public class ALTracker extends ALModule {
     * @return Vector of 6 floats corresponding to the robot position 6D.
     */
     public List<Float> getRobotPosition() throws CallError, InterruptedException {
-        return (List<Float>)service.call("getRobotPosition").get();
+        return (List<Float>)service().call("getRobotPosition").get();
+    }
+
+    /**
+    * Primitive version of {@link #getRobotPosition}, values are returned unboxed.
+    * Only work with LandMarks target name. Returns the [x, y, z, wx, wy, wz] position of the robot in coordinate system setted with setMap API. This is done assuming an average target size, so it might not be very accurate.
+    * 
+    * @return Vector of 6 floats corresponding to the robot position 6D.
+    */
+    public float[] getRobotPositionF() throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("getRobotPosition").get());
+    }
+
+    /**
+    * Primitive version of {@link #getRobotPosition}, values are written into dst and their count is returned.
+    * Only work with LandMarks target name. Returns the [x, y, z, wx, wy, wz] position of the robot in coordinate system setted with setMap API. This is done assuming an average target size, so it might not be very accurate.
+    * 
+    * @return Vector of 6 floats corresponding to the robot position 6D.
+    */
+    public int getRobotPositionInto(float[] dst) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("getRobotPosition").get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #getRobotPosition}.
+    * Only work with LandMarks target name. Returns the [x, y, z, wx, wy, wz] position of the robot in coordinate system setted with setMap API. This is done assuming an average target size, so it might not be very accurate.
+    * 
+    * @return Vector of 6 floats corresponding to the robot position 6D.
+    */
+    public ALFuture<List<Float>> getRobotPositionAsync() throws CallError {
+        return ALFuture.of(service().<List<Float>>call("getRobotPosition"));
     }
 
     /**
@@ -179,7 +384,17 @@ public class ALTracker extends ALModule {
     * @return True if Tracker is running.
     */
     public Boolean isActive() throws CallError, InterruptedException {
-        return (Boolean)service.call("isActive").get();
+        return (Boolean)service().call("isActive").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isActive}.
+    * Return true if Tracker is running.
+    * 
+    * @return True if Tracker is running.
+    */
+    public ALFuture<Boolean> isActiveAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isActive"));
     }
 
     /**
@@ -188,7 +403,17 @@ public class ALTracker extends ALModule {
     * @return True if a new target was detected since the last getTargetPosition().
     */
     public Boolean isNewTargetDetected() throws CallError, InterruptedException {
-        return (Boolean)service.call("isNewTargetDetected").get();
+        return (Boolean)service().call("isNewTargetDetected").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isNewTargetDetected}.
+    * Return true if a new target was detected.
+    * 
+    * @return True if a new target was detected since the last getTargetPosition().
+    */
+    public ALFuture<Boolean> isNewTargetDetectedAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isNewTargetDetected"));
     }
 
     /**
@@ -198,9 +423,19 @@ public class ALTracker extends ALModule {
     */
     public void setRelativePosition(java.lang.Object target) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setRelativePosition", target);
+            service().call("setRelativePosition", target);
         else
-            service.call("setRelativePosition", target).get();
+            service().call("setRelativePosition", target).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setRelativePosition}.
+    * Set the robot position relative to target in Move mode.
+    * 
+    * @param target  Set the final goal of the tracking. Could be [distance, thresholdX, thresholdY] or with LandMarks target name [coordX, coordY, coordWz, thresholdX, thresholdY, thresholdWz].
+    */
+    public ALFuture<Void> setRelativePositionAsync(java.lang.Object target) throws CallError {
+        return ALFuture.of(service().<Void>call("setRelativePosition", target));
     }
 
     /**
@@ -209,7 +444,17 @@ public class ALTracker extends ALModule {
     * @return The final goal of the tracking. Could be [distance, thresholdX, thresholdY] or with LandMarks target name [coordX, coordY, coordWz, thresholdX, thresholdY, thresholdWz].
     */
     public java.lang.Object getRelativePosition() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getRelativePosition").get();
+        return (java.lang.Object)service().call("getRelativePosition").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getRelativePosition}.
+    * Get the robot position relative to target in Move mode.
+    * 
+    * @return The final goal of the tracking. Could be [distance, thresholdX, thresholdY] or with LandMarks target name [coordX, coordY, coordWz, thresholdX, thresholdY, thresholdWz].
+    */
+    public ALFuture<java.lang.Object> getRelativePositionAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getRelativePosition"));
     }
 
     /**
@@ -219,9 +464,19 @@ public class ALTracker extends ALModule {
     */
     public void setTargetCoordinates(java.lang.Object pCoord) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setTargetCoordinates", pCoord);
+            service().call("setTargetCoordinates", pCoord);
         else
-            service.call("setTargetCoordinates", pCoord).get();
+            service().call("setTargetCoordinates", pCoord).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setTargetCoordinates}.
+    * Only work with LandMarks target name. Set objects coordinates. Could be [[first object coordinate], [second object coordinate]] [[x1, y1, z1], [x2, y2, z2]]
+    * 
+    * @param pCoord  objects coordinates.
+    */
+    public ALFuture<Void> setTargetCoordinatesAsync(java.lang.Object pCoord) throws CallError {
+        return ALFuture.of(service().<Void>call("setTargetCoordinates", pCoord));
     }
 
     /**
@@ -230,7 +485,17 @@ public class ALTracker extends ALModule {
     * @return objects coordinates.
     */
     public java.lang.Object getTargetCoordinates() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getTargetCoordinates").get();
+        return (java.lang.Object)service().call("getTargetCoordinates").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getTargetCoordinates}.
+    * Only work with LandMarks target name. Get objects coordinates. Could be [[first object coordinate], [second object coordinate]] [[x1, y1, z1], [x2, y2, z2]]
+    * 
+    * @return objects coordinates.
+    */
+    public ALFuture<java.lang.Object> getTargetCoordinatesAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getTargetCoordinates"));
     }
 
     /**
@@ -240,9 +505,19 @@ public class ALTracker extends ALModule {
     */
     public void setMode(String pMode) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setMode", pMode);
+            service().call("setMode", pMode);
         else
-            service.call("setMode", pMode).get();
+            service().call("setMode", pMode).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setMode}.
+    * Set the tracker in the predefined mode.Could be "Head", "WholeBody" or "Move".
+    * 
+    * @param pMode  a predefined mode.
+    */
+    public ALFuture<Void> setModeAsync(String pMode) throws CallError {
+        return ALFuture.of(service().<Void>call("setMode", pMode));
     }
 
     /**
@@ -251,7 +526,17 @@ public class ALTracker extends ALModule {
     * @return The current tracker mode.
     */
     public String getMode() throws CallError, InterruptedException {
-        return (String)service.call("getMode").get();
+        return (String)service().call("getMode").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMode}.
+    * Get the tracker current mode.
+    * 
+    * @return The current tracker mode.
+    */
+    public ALFuture<String> getModeAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getMode"));
     }
 
     /**
@@ -260,7 +545,17 @@ public class ALTracker extends ALModule {
     * @return List of predefined mode.
     */
     public List<String> getAvailableModes() throws CallError, InterruptedException {
-        return (List<String>)service.call("getAvailableModes").get();
+        return (List<String>)service().call("getAvailableModes").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getAvailableModes}.
+    * Get the list of predefined mode.
+    * 
+    * @return List of predefined mode.
+    */
+    public ALFuture<List<String>> getAvailableModesAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getAvailableModes"));
     }
 
     /**
@@ -270,9 +565,19 @@ public class ALTracker extends ALModule {
     */
     public void toggleSearch(Boolean pSearch) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("toggleSearch", pSearch);
+            service().call("toggleSearch", pSearch);
         else
-            service.call("toggleSearch", pSearch).get();
+            service().call("toggleSearch", pSearch).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #toggleSearch}.
+    * Enables/disables the target search process. Target search process occurs only when the target is lost.
+    * 
+    * @param pSearch  If true and if the target is lost, the robot moves the head in order to find the target. If false and if the target is lost the robot does not move.
+    */
+    public ALFuture<Void> toggleSearchAsync(Boolean pSearch) throws CallError {
+        return ALFuture.of(service().<Void>call("toggleSearch", pSearch));
     }
 
     /**
@@ -282,9 +587,19 @@ public class ALTracker extends ALModule {
     */
     public void setSearchFractionMaxSpeed(Float pFractionMaxSpeed) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setSearchFractionMaxSpeed", pFractionMaxSpeed);
+            service().call("setSearchFractionMaxSpeed", pFractionMaxSpeed);
         else
-            service.call("setSearchFractionMaxSpeed", pFractionMaxSpeed).get();
+            service().call("setSearchFractionMaxSpeed", pFractionMaxSpeed).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setSearchFractionMaxSpeed}.
+    * Set search process fraction max speed.
+    * 
+    * @param pFractionMaxSpeed  a fraction max speed.
+    */
+    public ALFuture<Void> setSearchFractionMaxSpeedAsync(Float pFractionMaxSpeed) throws CallError {
+        return ALFuture.of(service().<Void>call("setSearchFractionMaxSpeed", pFractionMaxSpeed));
     }
 
     /**
@@ -293,7 +608,17 @@ public class ALTracker extends ALModule {
     * @return a fraction max speed.
     */
     public Float getSearchFractionMaxSpeed() throws CallError, InterruptedException {
-        return (Float)service.call("getSearchFractionMaxSpeed").get();
+        return (Float)service().call("getSearchFractionMaxSpeed").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getSearchFractionMaxSpeed}.
+    * Get search process fraction max speed.
+    * 
+    * @return a fraction max speed.
+    */
+    public ALFuture<Float> getSearchFractionMaxSpeedAsync() throws CallError {
+        return ALFuture.of(service().<Float>call("getSearchFractionMaxSpeed"));
     }
 
     /**
@@ -302,7 +627,17 @@ public class ALTracker extends ALModule {
     * @return If true the target search process is enabled.
     */
     public Boolean isSearchEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isSearchEnabled").get();
+        return (Boolean)service().call("isSearchEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isSearchEnabled}.
+    * Return true if the target search process is enabled.
+    * 
+    * @return If true the target search process is enabled.
+    */
+    public ALFuture<Boolean> isSearchEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isSearchEnabled"));
     }
 
     /**
@@ -311,9 +646,18 @@ public class ALTracker extends ALModule {
     */
     public void stopTracker() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stopTracker");
+            service().call("stopTracker");
         else
-            service.call("stopTracker").get();
+            service().call("stopTracker").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stopTracker}.
+    * Stop the tracker.
+    * 
+    */
+    public ALFuture<Void> stopTrackerAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("stopTracker"));
     }
 
     /**
@@ -322,7 +666,17 @@ public class ALTracker extends ALModule {
     * @return True if the target was lost.
     */
     public Boolean isTargetLost() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTargetLost").get();
+        return (Boolean)service().call("isTargetLost").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTargetLost}.
+    * Return true if the target was lost.
+    * 
+    * @return True if the target was lost.
+    */
+    public ALFuture<Boolean> isTargetLostAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTargetLost"));
     }
 
     /**
@@ -332,9 +686,19 @@ public class ALTracker extends ALModule {
     */
     public void track(String pTarget) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("track", pTarget);
+            service().call("track", pTarget);
         else
-            service.call("track", pTarget).get();
+            service().call("track", pTarget).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #track}.
+    * Set the predefided target to track and start the tracking process if not started.
+    * 
+    * @param pTarget  a predefined target to track.Could be "RedBall", "Face", "LandMark", "LandMarks", "People" or "Sound".
+    */
+    public ALFuture<Void> trackAsync(String pTarget) throws CallError {
+        return ALFuture.of(service().<Void>call("track", pTarget));
     }
 
     /**
@@ -344,9 +708,19 @@ public class ALTracker extends ALModule {
     */
     public void trackEvent(String pEventName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("trackEvent", pEventName);
+            service().call("trackEvent", pEventName);
         else
-            service.call("trackEvent", pEventName).get();
+            service().call("trackEvent", pEventName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #trackEvent}.
+    * Track event and start the tracking process if not started.
+    * 
+    * @param pEventName  a event name to track.
+    */
+    public ALFuture<Void> trackEventAsync(String pEventName) throws CallError {
+        return ALFuture.of(service().<Void>call("trackEvent", pEventName));
     }
 
     /**
@@ -357,9 +731,20 @@ public class ALTracker extends ALModule {
     */
     public void registerTarget(String pTarget, java.lang.Object pParams) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("registerTarget", pTarget, pParams);
+            service().call("registerTarget", pTarget, pParams);
         else
-            service.call("registerTarget", pTarget, pParams).get();
+            service().call("registerTarget", pTarget, pParams).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #registerTarget}.
+    * Register a predefined target. Subscribe to corresponding extractor if Tracker is running..
+    * 
+    * @param pTarget  a predefined target to track.Could be "RedBall", "Face", "LandMark", "LandMarks", "People" or "Sound".
+    * @param pParams  a target parameters. (RedBall : set diameter of ball.
+    */
+    public ALFuture<Void> registerTargetAsync(String pTarget, java.lang.Object pParams) throws CallError {
+        return ALFuture.of(service().<Void>call("registerTarget", pTarget, pParams));
     }
 
     /**
@@ -370,9 +755,20 @@ public class ALTracker extends ALModule {
     */
     public void setExtractorPeriod(String pTarget, Integer pPeriod) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setExtractorPeriod", pTarget, pPeriod);
+            service().call("setExtractorPeriod", pTarget, pPeriod);
         else
-            service.call("setExtractorPeriod", pTarget, pPeriod).get();
+            service().call("setExtractorPeriod", pTarget, pPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setExtractorPeriod}.
+    * Set a period for the corresponding target name extractor.
+    * 
+    * @param pTarget  a predefined target name.Could be "RedBall", "Face", "LandMark", "LandMarks", "People" or "Sound".
+    * @param pPeriod  a period in milliseconds
+    */
+    public ALFuture<Void> setExtractorPeriodAsync(String pTarget, Integer pPeriod) throws CallError {
+        return ALFuture.of(service().<Void>call("setExtractorPeriod", pTarget, pPeriod));
     }
 
     /**
@@ -382,7 +778,18 @@ public class ALTracker extends ALModule {
     * @return a period in milliseconds
     */
     public Integer getExtractorPeriod(String pTarget) throws CallError, InterruptedException {
-        return (Integer)service.call("getExtractorPeriod", pTarget).get();
+        return (Integer)service().call("getExtractorPeriod", pTarget).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getExtractorPeriod}.
+    * Get the period of corresponding target name extractor.
+    * 
+    * @param pTarget  a predefined target name.Could be "RedBall", "Face", "LandMark", "LandMarks", "People" or "Sound".
+    * @return a period in milliseconds
+    */
+    public ALFuture<Integer> getExtractorPeriodAsync(String pTarget) throws CallError {
+        return ALFuture.of(service().<Integer>call("getExtractorPeriod", pTarget));
     }
 
     /**
@@ -392,9 +799,19 @@ public class ALTracker extends ALModule {
     */
     public void unregisterTarget(String pTarget) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("unregisterTarget", pTarget);
+            service().call("unregisterTarget", pTarget);
         else
-            service.call("unregisterTarget", pTarget).get();
+            service().call("unregisterTarget", pTarget).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #unregisterTarget}.
+    * Unregister target name and stop corresponding extractor.
+    * 
+    * @param pTarget  a predefined target to remove.Could be "RedBall", "Face", "LandMark", "LandMarks", "People" or "Sound".
+    */
+    public ALFuture<Void> unregisterTargetAsync(String pTarget) throws CallError {
+        return ALFuture.of(service().<Void>call("unregisterTarget", pTarget));
     }
 
     /**
@@ -404,9 +821,19 @@ public class ALTracker extends ALModule {
     */
     public void unregisterTargets(List<String> pTarget) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("unregisterTargets", pTarget);
+            service().call("unregisterTargets", pTarget);
         else
-            service.call("unregisterTargets", pTarget).get();
+            service().call("unregisterTargets", pTarget).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #unregisterTargets}.
+    * Unregister a list of target names and stop corresponding extractor.
+    * 
+    * @param pTarget  a predefined target list to remove.Could be "RedBall", "Face", "LandMark", "LandMarks", "People" or "Sound".
+    */
+    public ALFuture<Void> unregisterTargetsAsync(List<String> pTarget) throws CallError {
+        return ALFuture.of(service().<Void>call("unregisterTargets", pTarget));
     }
 
     /**
@@ -415,9 +842,18 @@ public class ALTracker extends ALModule {
     */
     public void unregisterAllTargets() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("unregisterAllTargets");
+            service().call("unregisterAllTargets");
         else
-            service.call("unregisterAllTargets").get();
+            service().call("unregisterAllTargets").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #unregisterAllTargets}.
+    * Unregister all targets except active target and stop corresponding extractor.
+    * 
+    */
+    public ALFuture<Void> unregisterAllTargetsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("unregisterAllTargets"));
     }
 
     /**
@@ -426,7 +862,17 @@ public class ALTracker extends ALModule {
     * @return Tracked target name.
     */
     public String getActiveTarget() throws CallError, InterruptedException {
-        return (String)service.call("getActiveTarget").get();
+        return (String)service().call("getActiveTarget").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getActiveTarget}.
+    * Return active target name.
+    * 
+    * @return Tracked target name.
+    */
+    public ALFuture<String> getActiveTargetAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getActiveTarget"));
     }
 
     /**
@@ -435,7 +881,17 @@ public class ALTracker extends ALModule {
     * @return Supported targets names.
     */
     public List<String> getSupportedTargets() throws CallError, InterruptedException {
-        return (List<String>)service.call("getSupportedTargets").get();
+        return (List<String>)service().call("getSupportedTargets").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getSupportedTargets}.
+    * Return a list of supported targets names.
+    * 
+    * @return Supported targets names.
+    */
+    public ALFuture<List<String>> getSupportedTargetsAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getSupportedTargets"));
     }
 
     /**
@@ -444,7 +900,17 @@ public class ALTracker extends ALModule {
     * @return Registered targets names.
     */
     public List<String> getRegisteredTargets() throws CallError, InterruptedException {
-        return (List<String>)service.call("getRegisteredTargets").get();
+        return (List<String>)service().call("getRegisteredTargets").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getRegisteredTargets}.
+    * Return a list of registered targets names.
+    * 
+    * @return Registered targets names.
+    */
+    public ALFuture<List<String>> getRegisteredTargetsAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getRegisteredTargets"));
     }
 
     /**
@@ -458,9 +924,23 @@ public class ALTracker extends ALModule {
     */
     public void lookAt(List<Float> pPosition, Integer pFrame, Float pFractionMaxSpeed, Boolean pUseWholeBody) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("lookAt", pPosition, pFrame, pFractionMaxSpeed, pUseWholeBody);
+            service().call("lookAt", pPosition, pFrame, pFractionMaxSpeed, pUseWholeBody);
         else
-            service.call("lookAt", pPosition, pFrame, pFractionMaxSpeed, pUseWholeBody).get();
+            service().call("lookAt", pPosition, pFrame, pFractionMaxSpeed, pUseWholeBody).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #lookAt}.
+    * Look at the target position with head.
+
+    * 
+    * @param pPosition  position 3D [x, y, z] x position must be striclty positif.
+    * @param pFrame  target frame {FRAME_TORSO = 0, FRAME_WORLD = 1, FRAME_ROBOT = 2}.
+    * @param pFractionMaxSpeed  The fraction of maximum speed to use. Must be between 0 and 1.
+    * @param pUseWholeBody  If true, use whole body constraints.
+    */
+    public ALFuture<Void> lookAtAsync(List<Float> pPosition, Integer pFrame, Float pFractionMaxSpeed, Boolean pUseWholeBody) throws CallError {
+        return ALFuture.of(service().<Void>call("lookAt", pPosition, pFrame, pFractionMaxSpeed, pUseWholeBody));
     }
 
     /**
@@ -474,18 +954,42 @@ public class ALTracker extends ALModule {
     */
     public void pointAt(String pEffector, List<Float> pPosition, Integer pFrame, Float pFractionMaxSpeed) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("pointAt", pEffector, pPosition, pFrame, pFractionMaxSpeed);
+            service().call("pointAt", pEffector, pPosition, pFrame, pFractionMaxSpeed);
         else
-            service.call("pointAt", pEffector, pPosition, pFrame, pFractionMaxSpeed).get();
+            service().call("pointAt", pEffector, pPosition, pFrame, pFractionMaxSpeed).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #pointAt}.
+    * Point at the target position with arms.
+
+    * 
+    * @param pEffector  effector name. Could be "Arms", "LArm", "RArm".
+    * @param pPosition  position 3D [x, y, z] to point in FRAME_TORSO. x position must be striclty positif.
+    * @param pFrame  target frame {FRAME_TORSO = 0, FRAME_WORLD = 1, FRAME_ROBOT = 2}.
+    * @param pFractionMaxSpeed  The fraction of maximum speed to use. Must be between 0 and 1.
+    */
+    public ALFuture<Void> pointAtAsync(String pEffector, List<Float> pPosition, Integer pFrame, Float pFractionMaxSpeed) throws CallError {
+        return ALFuture.of(service().<Void>call("pointAt", pEffector, pPosition, pFrame, pFractionMaxSpeed));
+    }
+
+    /**
+    * Get the config for move modes.
+    * 
+    * @return ALMotion GaitConfig
+    */
+    public java.lang.Object getMoveConfig() throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("getMoveConfig").get();
     }
 
     /**
+    * Asynchronous version of {@link #getMoveConfig}.
     * Get the config for move modes.
     * 
     * @return ALMotion GaitConfig
     */
-    public java.lang.Object getMoveConfig() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMoveConfig").get();
+    public ALFuture<java.lang.Object> getMoveConfigAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMoveConfig"));
     }
 
     /**
@@ -495,9 +999,19 @@ public class ALTracker extends ALModule {
     */
     public void setMoveConfig(java.lang.Object config) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setMoveConfig", config);
+            service().call("setMoveConfig", config);
         else
-            service.call("setMoveConfig", config).get();
+            service().call("setMoveConfig", config).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setMoveConfig}.
+    * set a config for move modes.
+    * 
+    * @param config  ALMotion GaitConfig
+    */
+    public ALFuture<Void> setMoveConfigAsync(java.lang.Object config) throws CallError {
+        return ALFuture.of(service().<Void>call("setMoveConfig", config));
     }
 
     /**
@@ -506,7 +1020,17 @@ public class ALTracker extends ALModule {
     * @return time in milliseconds.
     */
     public Integer getTimeOut() throws CallError, InterruptedException {
-        return (Integer)service.call("getTimeOut").get();
+        return (Integer)service().call("getTimeOut").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getTimeOut}.
+    * get the timeout parameter for target lost.
+    * 
+    * @return time in milliseconds.
+    */
+    public ALFuture<Integer> getTimeOutAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("getTimeOut"));
     }
 
     /**
@@ -516,9 +1040,19 @@ public class ALTracker extends ALModule {
     */
     public void setTimeOut(Integer pTimeMs) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setTimeOut", pTimeMs);
+            service().call("setTimeOut", pTimeMs);
         else
-            service.call("setTimeOut", pTimeMs).get();
+            service().call("setTimeOut", pTimeMs).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setTimeOut}.
+    * set the timeout parameter for target lost.
+    * 
+    * @param pTimeMs  time in milliseconds.
+    */
+    public ALFuture<Void> setTimeOutAsync(Integer pTimeMs) throws CallError {
+        return ALFuture.of(service().<Void>call("setTimeOut", pTimeMs));
     }
 
     /**
@@ -527,7 +1061,17 @@ public class ALTracker extends ALModule {
     * @return The maximum distance for target detection in meter.
     */
     public Float getMaximumDistanceDetection() throws CallError, InterruptedException {
-        return (Float)service.call("getMaximumDistanceDetection").get();
+        return (Float)service().call("getMaximumDistanceDetection").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMaximumDistanceDetection}.
+    * get the maximum distance for target detection in meter.
+    * 
+    * @return The maximum distance for target detection in meter.
+    */
+    public ALFuture<Float> getMaximumDistanceDetectionAsync() throws CallError {
+        return ALFuture.of(service().<Float>call("getMaximumDistanceDetection"));
     }
 
     /**
@@ -537,9 +1081,19 @@ public class ALTracker extends ALModule {
     */
     public void setMaximumDistanceDetection(Float pMaxDistance) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setMaximumDistanceDetection", pMaxDistance);
+            service().call("setMaximumDistanceDetection", pMaxDistance);
         else
-            service.call("setMaximumDistanceDetection", pMaxDistance).get();
+            service().call("setMaximumDistanceDetection", pMaxDistance).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setMaximumDistanceDetection}.
+    * set the maximum target detection distance in meter.
+    * 
+    * @param pMaxDistance  The maximum distance for target detection in meter.
+    */
+    public ALFuture<Void> setMaximumDistanceDetectionAsync(Float pMaxDistance) throws CallError {
+        return ALFuture.of(service().<Void>call("setMaximumDistanceDetection", pMaxDistance));
     }
 
     /**
@@ -548,7 +1102,17 @@ public class ALTracker extends ALModule {
     * @return Active effector name. Could be: "Arms", "LArm", "RArm" or "None". 
     */
     public String getEffector() throws CallError, InterruptedException {
-        return (String)service.call("getEffector").get();
+        return (String)service().call("getEffector").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getEffector}.
+    * Get active effector.
+    * 
+    * @return Active effector name. Could be: "Arms", "LArm", "RArm" or "None". 
+    */
+    public ALFuture<String> getEffectorAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getEffector"));
     }
 
     /**
@@ -558,9 +1122,19 @@ public class ALTracker extends ALModule {
     */
     public void setEffector(String pEffector) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setEffector", pEffector);
+            service().call("setEffector", pEffector);
         else
-            service.call("setEffector", pEffector).get();
+            service().call("setEffector", pEffector).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setEffector}.
+    * Set an end-effector to move for tracking.
+    * 
+    * @param pEffector  Name of effector. Could be: "Arms", "LArm", "RArm" or "None". 
+    */
+    public ALFuture<Void> setEffectorAsync(String pEffector) throws CallError {
+        return ALFuture.of(service().<Void>call("setEffector", pEffector));
     }
 
     /**
@@ -573,9 +1147,22 @@ public class ALTracker extends ALModule {
     */
     public void lookAt(List<Float> pPosition, Float pFractionMaxSpeed, Boolean pUseWholeBody) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("lookAt", pPosition, pFractionMaxSpeed, pUseWholeBody);
+            service().call("lookAt", pPosition, pFractionMaxSpeed, pUseWholeBody);
         else
-            service.call("lookAt", pPosition, pFractionMaxSpeed, pUseWholeBody).get();
+            service().call("lookAt", pPosition, pFractionMaxSpeed, pUseWholeBody).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #lookAt}.
+    * DEPRECATED. Use lookAt with frame instead. Look at the target position with head.
+
+    * 
+    * @param pPosition  position 3D [x, y, z] to look in FRAME_TORSO. x position must be striclty positif.
+    * @param pFractionMaxSpeed  The fraction of maximum speed to use. Must be between 0 and 1.
+    * @param pUseWholeBody  If true, use whole body constraints.
+    */
+    public ALFuture<Void> lookAtAsync(List<Float> pPosition, Float pFractionMaxSpeed, Boolean pUseWholeBody) throws CallError {
+        return ALFuture.of(service().<Void>call("lookAt", pPosition, pFractionMaxSpeed, pUseWholeBody));
     }
 
     /**
@@ -588,9 +1175,22 @@ public class ALTracker extends ALModule {
     */
     public void pointAt(String pEffector, List<Float> pPosition, Float pFractionMaxSpeed) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("pointAt", pEffector, pPosition, pFractionMaxSpeed);
+            service().call("pointAt", pEffector, pPosition, pFractionMaxSpeed);
         else
-            service.call("pointAt", pEffector, pPosition, pFractionMaxSpeed).get();
+            service().call("pointAt", pEffector, pPosition, pFractionMaxSpeed).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #pointAt}.
+    * DEPRECATED. Use pointAt with frame instead. Point at the target position with arms.
+
+    * 
+    * @param pEffector  effector name. Could be "Arms", "LArm", "RArm".
+    * @param pPosition  position 3D [x, y, z] to point in FRAME_TORSO. x position must be striclty positif.
+    * @param pFractionMaxSpeed  The fraction of maximum speed to use. Must be between 0 and 1.
+    */
+    public ALFuture<Void> pointAtAsync(String pEffector, List<Float> pPosition, Float pFractionMaxSpeed) throws CallError {
+        return ALFuture.of(service().<Void>call("pointAt", pEffector, pPosition, pFractionMaxSpeed));
     }
 
     /**
@@ -599,7 +1199,37 @@ public class ALTracker extends ALModule {
     * @return Vector of 3 floats corresponding to the target position 3D. 
     */
     public List<Float> getTargetPosition() throws CallError, InterruptedException {
-        return (List<Float>)service.call("getTargetPosition").get();
+        return (List<Float>)service().call("getTargetPosition").get();
+    }
+
+    /**
+    * Primitive version of {@link #getTargetPosition}, values are returned unboxed.
+    * DEPRECATED. Use pointAt with frame instead. Returns the [x, y, z] position of the target in FRAME_TORSO. This is done assuming an average target size, so it might not be very accurate.
+    * 
+    * @return Vector of 3 floats corresponding to the target position 3D. 
+    */
+    public float[] getTargetPositionF() throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("getTargetPosition").get());
+    }
+
+    /**
+    * Primitive version of {@link #getTargetPosition}, values are written into dst and their count is returned.
+    * DEPRECATED. Use pointAt with frame instead. Returns the [x, y, z] position of the target in FRAME_TORSO. This is done assuming an average target size, so it might not be very accurate.
+    * 
+    * @return Vector of 3 floats corresponding to the target position 3D. 
+    */
+    public int getTargetPositionInto(float[] dst) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("getTargetPosition").get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #getTargetPosition}.
+    * DEPRECATED. Use pointAt with frame instead. Returns the [x, y, z] position of the target in FRAME_TORSO. This is done assuming an average target size, so it might not be very accurate.
+    * 
+    * @return Vector of 3 floats corresponding to the target position 3D. 
+    */
+    public ALFuture<List<Float>> getTargetPositionAsync() throws CallError {
+        return ALFuture.of(service().<List<Float>>call("getTargetPosition"));
     }
 
     /**
@@ -608,7 +1238,17 @@ public class ALTracker extends ALModule {
     * @return Valid targets names.
     */
     public List<String> getTargetNames() throws CallError, InterruptedException {
-        return (List<String>)service.call("getTargetNames").get();
+        return (List<String>)service().call("getTargetNames").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getTargetNames}.
+    * DEPRECATED. Use getSupportedTargets() instead. Return a list of targets names.
+    * 
+    * @return Valid targets names.
+    */
+    public ALFuture<List<String>> getTargetNamesAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getTargetNames"));
     }
 
     /**
@@ -617,7 +1257,17 @@ public class ALTracker extends ALModule {
     * @return Managed targets names.
     */
     public List<String> getManagedTargets() throws CallError, InterruptedException {
-        return (List<String>)service.call("getManagedTargets").get();
+        return (List<String>)service().call("getManagedTargets").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getManagedTargets}.
+    * DEPRECATED. Use getRegisteredTargets() instead. Return a list of managed targets names.
+    * 
+    * @return Managed targets names.
+    */
+    public ALFuture<List<String>> getManagedTargetsAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getManagedTargets"));
     }
 
     /**
@@ -628,9 +1278,20 @@ public class ALTracker extends ALModule {
     */
     public void addTarget(String pTarget, java.lang.Object pParams) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("addTarget", pTarget, pParams);
+            service().call("addTarget", pTarget, pParams);
         else
-            service.call("addTarget", pTarget, pParams).get();
+            service().call("addTarget", pTarget, pParams).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #addTarget}.
+    * DEPRECATED. Use registerTarget() instead. Add a predefined target. Subscribe to corresponding extractor if Tracker is running..
+    * 
+    * @param pTarget  a predefined target to track.Could be "RedBall", "Face", "LandMark", "LandMarks", "People" or "Sound".
+    * @param pParams  a target parameters. (RedBall : set diameter of ball.
+    */
+    public ALFuture<Void> addTargetAsync(String pTarget, java.lang.Object pParams) throws CallError {
+        return ALFuture.of(service().<Void>call("addTarget", pTarget, pParams));
     }
 
     /**
@@ -640,9 +1301,19 @@ public class ALTracker extends ALModule {
     */
     public void removeTarget(String pTarget) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("removeTarget", pTarget);
+            service().call("removeTarget", pTarget);
         else
-            service.call("removeTarget", pTarget).get();
+            service().call("removeTarget", pTarget).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #removeTarget}.
+    * DEPRECATED. Use unregisterTarget() instead. Remove target name and stop corresponding extractor.
+    * 
+    * @param pTarget  a predefined target to remove.Could be "RedBall", "Face", "LandMark", "LandMarks", "People" or "Sound".
+    */
+    public ALFuture<Void> removeTargetAsync(String pTarget) throws CallError {
+        return ALFuture.of(service().<Void>call("removeTarget", pTarget));
     }
 
     /**
@@ -652,9 +1323,19 @@ public class ALTracker extends ALModule {
     */
     public void removeTargets(List<String> pTarget) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("removeTargets", pTarget);
+            service().call("removeTargets", pTarget);
         else
-            service.call("removeTargets", pTarget).get();
+            service().call("removeTargets", pTarget).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #removeTargets}.
+    * DEPRECATED. Use unregisterTargets() instead. Remove a list of target names and stop corresponding extractor.
+    * 
+    * @param pTarget  a predefined target list to remove.Could be "RedBall", "Face", "LandMark", "LandMarks", "People" or "Sound".
+    */
+    public ALFuture<Void> removeTargetsAsync(List<String> pTarget) throws CallError {
+        return ALFuture.of(service().<Void>call("removeTargets", pTarget));
     }
 
     /**
@@ -663,9 +1344,18 @@ public class ALTracker extends ALModule {
     */
     public void removeAllTargets() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("removeAllTargets");
+            service().call("removeAllTargets");
         else
-            service.call("removeAllTargets").get();
+            service().call("removeAllTargets").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #removeAllTargets}.
+    * DEPRECATED. Use unregisterAllTargets() instead. Remove all managed targets except active target and stop corresponding extractor.
+    * 
+    */
+    public ALFuture<Void> removeAllTargetsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("removeAllTargets"));
     }
 
     /**
@@ -675,9 +1365,19 @@ public class ALTracker extends ALModule {
     */
     public void addEffector(String pEffector) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("addEffector", pEffector);
+            service().call("addEffector", pEffector);
         else
-            service.call("addEffector", pEffector).get();
+            service().call("addEffector", pEffector).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #addEffector}.
+    * DEPRECATED. Use setEffector instead. Add an end-effector to move for tracking.
+    * 
+    * @param pEffector  Name of effector. Could be: "Arms", "LArm" or "RArm". 
+    */
+    public ALFuture<Void> addEffectorAsync(String pEffector) throws CallError {
+        return ALFuture.of(service().<Void>call("addEffector", pEffector));
     }
 
     /**
@@ -687,9 +1387,19 @@ public class ALTracker extends ALModule {
     */
     public void removeEffector(String pEffector) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("removeEffector", pEffector);
+            service().call("removeEffector", pEffector);
         else
-            service.call("removeEffector", pEffector).get();
+            service().call("removeEffector", pEffector).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #removeEffector}.
+    * DEPRECATED. Use setEffector("None") instead. Remove an end-effector from tracking.
+    * 
+    * @param pEffector  Name of effector. Could be: "Arms", "LArm" or "RArm". 
+    */
+    public ALFuture<Void> removeEffectorAsync(String pEffector) throws CallError {
+        return ALFuture.of(service().<Void>call("removeEffector", pEffector));
     }
 
     /**
@@ -698,9 +1408,18 @@ public class ALTracker extends ALModule {
     */
     public void _pause() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_pause");
+            service().call("_pause");
         else
-            service.call("_pause").get();
+            service().call("_pause").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_pause}.
+    * Pause the tracking process.
+    * 
+    */
+    public ALFuture<Void> _pauseAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_pause"));
     }
 
     /**
@@ -709,9 +1428,18 @@ public class ALTracker extends ALModule {
     */
     public void _restart() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_restart");
+            service().call("_restart");
         else
-            service.call("_restart").get();
+            service().call("_restart").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_restart}.
+    * Restart the tracking process.
+    * 
+    */
+    public ALFuture<Void> _restartAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_restart"));
     }
 
     /**
@@ -721,9 +1449,19 @@ public class ALTracker extends ALModule {
     */
     public void _setTrackerConfig(java.lang.Object config) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setTrackerConfig", config);
+            service().call("_setTrackerConfig", config);
         else
-            service.call("_setTrackerConfig", config).get();
+            service().call("_setTrackerConfig", config).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setTrackerConfig}.
+    * Internal Use.
+    * 
+    * @param config  Internal: An array of ALValues [i][0]: name, [i][1]: value
+    */
+    public ALFuture<Void> _setTrackerConfigAsync(java.lang.Object config) throws CallError {
+        return ALFuture.of(service().<Void>call("_setTrackerConfig", config));
     }
 
     /**
@@ -732,7 +1470,17 @@ public class ALTracker extends ALModule {
     * @return map contraining all the information.
     */
     public Map<String, Float> _getTrackerConfig() throws CallError, InterruptedException {
-        return (Map<String, Float>)service.call("_getTrackerConfig").get();
+        return (Map<String, Float>)service().call("_getTrackerConfig").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getTrackerConfig}.
+    * Get the tracker configuration.
+    * 
+    * @return map contraining all the information.
+    */
+    public ALFuture<Map<String, Float>> _getTrackerConfigAsync() throws CallError {
+        return ALFuture.of(service().<Map<String, Float>>call("_getTrackerConfig"));
     }
 
     /**
@@ -741,7 +1489,17 @@ public class ALTracker extends ALModule {
     * @return string contraining all the information.
     */
     public String _getTrackerConfigStr() throws CallError, InterruptedException {
-        return (String)service.call("_getTrackerConfigStr").get();
+        return (String)service().call("_getTrackerConfigStr").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getTrackerConfigStr}.
+    * Get the tracker configuration.
+    * 
+    * @return string contraining all the information.
+    */
+    public ALFuture<String> _getTrackerConfigStrAsync() throws CallError {
+        return ALFuture.of(service().<String>call("_getTrackerConfigStr"));
     }
 
     /**
@@ -750,9 +1508,18 @@ public class ALTracker extends ALModule {
     */
     public void _lostEvent() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_lostEvent");
+            service().call("_lostEvent");
         else
-            service.call("_lostEvent").get();
+            service().call("_lostEvent").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_lostEvent}.
+    * Lost event callback.
+    * 
+    */
+    public ALFuture<Void> _lostEventAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_lostEvent"));
     }
 
     /**
@@ -761,9 +1528,18 @@ public class ALTracker extends ALModule {
     */
     public void _detectedEvent(String param1, java.lang.Object param2) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_detectedEvent", param1, param2);
+            service().call("_detectedEvent", param1, param2);
         else
-            service.call("_detectedEvent", param1, param2).get();
+            service().call("_detectedEvent", param1, param2).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_detectedEvent}.
+    * Detected event callback.
+    * 
+    */
+    public ALFuture<Void> _detectedEventAsync(String param1, java.lang.Object param2) throws CallError {
+        return ALFuture.of(service().<Void>call("_detectedEvent", param1, param2));
     }
 
     /**
@@ -772,9 +1548,18 @@ public class ALTracker extends ALModule {
     */
     public void _setDebugInView3D(Boolean param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setDebugInView3D", param1);
+            service().call("_setDebugInView3D", param1);
         else
-            service.call("_setDebugInView3D", param1).get();
+            service().call("_setDebugInView3D", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setDebugInView3D}.
+    * Active debug in choregraphe 3D view.
+    * 
+    */
+    public ALFuture<Void> _setDebugInView3DAsync(Boolean param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_setDebugInView3D", param1));
     }
 
     /**
@@ -783,9 +1568,18 @@ public class ALTracker extends ALModule {
     */
     public void _debugCallbackEvent(String param1, java.lang.Object param2) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_debugCallbackEvent", param1, param2);
+            service().call("_debugCallbackEvent", param1, param2);
         else
-            service.call("_debugCallbackEvent", param1, param2).get();
+            service().call("_debugCallbackEvent", param1, param2).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_debugCallbackEvent}.
+    * debug event callback.
+    * 
+    */
+    public ALFuture<Void> _debugCallbackEventAsync(String param1, java.lang.Object param2) throws CallError {
+        return ALFuture.of(service().<Void>call("_debugCallbackEvent", param1, param2));
     }
 
     /**
@@ -799,9 +1593,23 @@ public class ALTracker extends ALModule {
     */
     public void _lookAtWithMove(List<Float> pPosition, Float pFractionMaxSpeed, Boolean pUseWholeBody, Boolean pUseMove) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_lookAtWithMove", pPosition, pFractionMaxSpeed, pUseWholeBody, pUseMove);
+            service().call("_lookAtWithMove", pPosition, pFractionMaxSpeed, pUseWholeBody, pUseMove);
         else
-            service.call("_lookAtWithMove", pPosition, pFractionMaxSpeed, pUseWholeBody, pUseMove).get();
+            service().call("_lookAtWithMove", pPosition, pFractionMaxSpeed, pUseWholeBody, pUseMove).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_lookAtWithMove}.
+    * Look at the target position with head.
+
+    * 
+    * @param pPosition  position 3D [x, y, z] to look in FRAME_TORSO.x position must be striclty positif.
+    * @param pFractionMaxSpeed  The fraction of maximum speed to use.Must be between 0 and 1.
+    * @param pUseWholeBody  If true, use whole body constraints.
+    * @param pUseMove  If true, use move to look at target behind.
+    */
+    public ALFuture<Void> _lookAtWithMoveAsync(List<Float> pPosition, Float pFractionMaxSpeed, Boolean pUseWholeBody, Boolean pUseMove) throws CallError {
+        return ALFuture.of(service().<Void>call("_lookAtWithMove", pPosition, pFractionMaxSpeed, pUseWholeBody, pUseMove));
     }
 
     /**
@@ -816,9 +1624,24 @@ public class ALTracker extends ALModule {
     */
     public void _lookAtWithEffector(List<Float> pPosition, Integer pFrame, Integer pEffectorId, Float pFractionMaxSpeed, Boolean pUseWholeBody) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_lookAtWithEffector", pPosition, pFrame, pEffectorId, pFractionMaxSpeed, pUseWholeBody);
+            service().call("_lookAtWithEffector", pPosition, pFrame, pEffectorId, pFractionMaxSpeed, pUseWholeBody);
         else
-            service.call("_lookAtWithEffector", pPosition, pFrame, pEffectorId, pFractionMaxSpeed, pUseWholeBody).get();
+            service().call("_lookAtWithEffector", pPosition, pFrame, pEffectorId, pFractionMaxSpeed, pUseWholeBody).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_lookAtWithEffector}.
+    * Look at the target position with head.
+
+    * 
+    * @param pPosition  position 3D [x, y, z] x position must be striclty positif.
+    * @param pFrame  target frame {FRAME_TORSO = 0, FRAME_WORLD = 1, FRAME_ROBOT = 2}.
+    * @param pEffectorId  effector id {Middle of eyes = 0, Camera Top = 1, Camera Bottom = 2}.
+    * @param pFractionMaxSpeed  The fraction of maximum speed to use. Must be between 0 and 1.
+    * @param pUseWholeBody  If true, use whole body constraints.
+    */
+    public ALFuture<Void> _lookAtWithEffectorAsync(List<Float> pPosition, Integer pFrame, Integer pEffectorId, Float pFractionMaxSpeed, Boolean pUseWholeBody) throws CallError {
+        return ALFuture.of(service().<Void>call("_lookAtWithEffector", pPosition, pFrame, pEffectorId, pFractionMaxSpeed, pUseWholeBody));
     }
 
     /**
@@ -828,9 +1651,19 @@ public class ALTracker extends ALModule {
     */
     public void _stopLookAt() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_stopLookAt");
+            service().call("_stopLookAt");
         else
-            service.call("_stopLookAt").get();
+            service().call("_stopLookAt").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_stopLookAt}.
+    * Stop current look at
+
+    * 
+    */
+    public ALFuture<Void> _stopLookAtAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_stopLookAt"));
     }
 
     /**
@@ -840,9 +1673,19 @@ public class ALTracker extends ALModule {
     */
     public void _stopPointAt() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_stopPointAt");
+            service().call("_stopPointAt");
         else
-            service.call("_stopPointAt").get();
+            service().call("_stopPointAt").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_stopPointAt}.
+    * Stop current point at
+
+    * 
+    */
+    public ALFuture<Void> _stopPointAtAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_stopPointAt"));
     }
 
     /**
@@ -852,9 +1695,19 @@ public class ALTracker extends ALModule {
     */
     public void _searcherSetUseWholeBodyLookAt(Boolean param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_searcherSetUseWholeBodyLookAt", param1);
+            service().call("_searcherSetUseWholeBodyLookAt", param1);
         else
-            service.call("_searcherSetUseWholeBodyLookAt", param1).get();
+            service().call("_searcherSetUseWholeBodyLookAt", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_searcherSetUseWholeBodyLookAt}.
+    * Enable whole body look at during search
+
+    * 
+    */
+    public ALFuture<Void> _searcherSetUseWholeBodyLookAtAsync(Boolean param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_searcherSetUseWholeBodyLookAt", param1));
     }
 
     /**
@@ -863,9 +1716,18 @@ public class ALTracker extends ALModule {
     */
     public void _setMoveEvent(String param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setMoveEvent", param1);
+            service().call("_setMoveEvent", param1);
         else
-            service.call("_setMoveEvent", param1).get();
+            service().call("_setMoveEvent", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setMoveEvent}.
+    * Set a specific event for move.
+    * 
+    */
+    public ALFuture<Void> _setMoveEventAsync(String param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_setMoveEvent", param1));
     }
 
 }
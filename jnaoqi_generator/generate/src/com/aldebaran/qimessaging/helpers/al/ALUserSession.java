@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -26,9 +27,20 @@ public class ALUserSession extends ALModule {
     */
     public void _registerUserDataSource(String source_name, String proxy_name) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_registerUserDataSource", source_name, proxy_name);
+            service().call("_registerUserDataSource", source_name, proxy_name);
         else
-            service.call("_registerUserDataSource", source_name, proxy_name).get();
+            service().call("_registerUserDataSource", source_name, proxy_name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_registerUserDataSource}.
+    * Declare a source of data that is querialbe with user session.
+    * 
+    * @param source_name  The string name of the data source.
+    * @param proxy_name  The string name of the module that will answer the query callback
+    */
+    public ALFuture<Void> _registerUserDataSourceAsync(String source_name, String proxy_name) throws CallError {
+        return ALFuture.of(service().<Void>call("_registerUserDataSource", source_name, proxy_name));
     }
 
     /**
@@ -39,7 +51,19 @@ public class ALUserSession extends ALModule {
     * @return A map keyed by source_name of ALValues of the data.
     */
     public Map<String, java.lang.Object> getUserData(Integer uid, String data_name) throws CallError, InterruptedException {
-        return (Map<String, java.lang.Object>)service.call("getUserData", uid, data_name).get();
+        return (Map<String, java.lang.Object>)service().call("getUserData", uid, data_name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUserData}.
+    * Get some data about a user.  Will throw if it does not exist
+    * 
+    * @param uid  The int ID of the user whose data to get.
+    * @param data_name  The key of the data to get.
+    * @return A map keyed by source_name of ALValues of the data.
+    */
+    public ALFuture<Map<String, java.lang.Object>> getUserDataAsync(Integer uid, String data_name) throws CallError {
+        return ALFuture.of(service().<Map<String, java.lang.Object>>call("getUserData", uid, data_name));
     }
 
     /**
@@ -50,9 +74,20 @@ public class ALUserSession extends ALModule {
     */
     public void _unbindUser(Integer uid, String binding_name) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_unbindUser", uid, binding_name);
+            service().call("_unbindUser", uid, binding_name);
         else
-            service.call("_unbindUser", uid, binding_name).get();
+            service().call("_unbindUser", uid, binding_name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_unbindUser}.
+    * Unbind a user from another source.
+    * 
+    * @param uid  The int ID of the user
+    * @param binding_name  The string name of the binding source.
+    */
+    public ALFuture<Void> _unbindUserAsync(Integer uid, String binding_name) throws CallError {
+        return ALFuture.of(service().<Void>call("_unbindUser", uid, binding_name));
     }
 
     /**
@@ -63,7 +98,19 @@ public class ALUserSession extends ALModule {
     * @return The string value of the binding ID for the user.
     */
     public String getUserBinding(Integer uid, String binding_name) throws CallError, InterruptedException {
-        return (String)service.call("getUserBinding", uid, binding_name).get();
+        return (String)service().call("getUserBinding", uid, binding_name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUserBinding}.
+    * Get the a specific source a user is bound to.
+    * 
+    * @param uid  The int ID of the user.
+    * @param binding_name  The string name of the binding source.
+    * @return The string value of the binding ID for the user.
+    */
+    public ALFuture<String> getUserBindingAsync(Integer uid, String binding_name) throws CallError {
+        return ALFuture.of(service().<String>call("getUserBinding", uid, binding_name));
     }
 
     /**
@@ -74,7 +121,43 @@ public class ALUserSession extends ALModule {
     * @return The int IDs of the users with the passed binding_value.
     */
     public List<Integer> findUsersWithBinding(String binding_name, String binding_value) throws CallError, InterruptedException {
-        return (List<Integer>)service.call("findUsersWithBinding", binding_name, binding_value).get();
+        return (List<Integer>)service().call("findUsersWithBinding", binding_name, binding_value).get();
+    }
+
+    /**
+    * Primitive version of {@link #findUsersWithBinding}, values are returned unboxed.
+    * Get the sources a user is bound to.
+    * 
+    * @param binding_name  The string name of the binding source.
+    * @param binding_value  The string ID of the user at the binding source.
+    * @return The int IDs of the users with the passed binding_value.
+    */
+    public int[] findUsersWithBindingI(String binding_name, String binding_value) throws CallError, InterruptedException {
+        return toIntArray((List<Integer>)service().call("findUsersWithBinding", binding_name, binding_value).get());
+    }
+
+    /**
+    * Primitive version of {@link #findUsersWithBinding}, values are written into dst and their count is returned.
+    * Get the sources a user is bound to.
+    * 
+    * @param binding_name  The string name of the binding source.
+    * @param binding_value  The string ID of the user at the binding source.
+    * @return The int IDs of the users with the passed binding_value.
+    */
+    public int findUsersWithBindingInto(int[] dst, String binding_name, String binding_value) throws CallError, InterruptedException {
+        return copyInto((List<Integer>)service().call("findUsersWithBinding", binding_name, binding_value).get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #findUsersWithBinding}.
+    * Get the sources a user is bound to.
+    * 
+    * @param binding_name  The string name of the binding source.
+    * @param binding_value  The string ID of the user at the binding source.
+    * @return The int IDs of the users with the passed binding_value.
+    */
+    public ALFuture<List<Integer>> findUsersWithBindingAsync(String binding_name, String binding_value) throws CallError {
+        return ALFuture.of(service().<List<Integer>>call("findUsersWithBinding", binding_name, binding_value));
     }
 
     /**
@@ -84,9 +167,19 @@ public class ALUserSession extends ALModule {
     */
     public void _unregisterUserDataSource(String source_name) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_unregisterUserDataSource", source_name);
+            service().call("_unregisterUserDataSource", source_name);
         else
-            service.call("_unregisterUserDataSource", source_name).get();
+            service().call("_unregisterUserDataSource", source_name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_unregisterUserDataSource}.
+    * Undeclare a source of data, the query callback will no longer be raised for it.
+    * 
+    * @param source_name  The string name of the data source.
+    */
+    public ALFuture<Void> _unregisterUserDataSourceAsync(String source_name) throws CallError {
+        return ALFuture.of(service().<Void>call("_unregisterUserDataSource", source_name));
     }
 
     /**
@@ -96,7 +189,18 @@ public class ALUserSession extends ALModule {
     * @return A bool, true if the source has been registered
     */
     public Boolean doesUserDataSourceExist(String source_name) throws CallError, InterruptedException {
-        return (Boolean)service.call("doesUserDataSourceExist", source_name).get();
+        return (Boolean)service().call("doesUserDataSourceExist", source_name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #doesUserDataSourceExist}.
+    * Check if a data source has been registered.
+    * 
+    * @param source_name  The string name of the data source.
+    * @return A bool, true if the source has been registered
+    */
+    public ALFuture<Boolean> doesUserDataSourceExistAsync(String source_name) throws CallError {
+        return ALFuture.of(service().<Boolean>call("doesUserDataSourceExist", source_name));
     }
 
     /**
@@ -106,7 +210,18 @@ public class ALUserSession extends ALModule {
     * @return A map of string binding names and their string values.
     */
     public Map<String, String> getUserBindings(Integer uid) throws CallError, InterruptedException {
-        return (Map<String, String>)service.call("getUserBindings", uid).get();
+        return (Map<String, String>)service().call("getUserBindings", uid).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUserBindings}.
+    * Get the sources a user is bound to.
+    * 
+    * @param uid  The int ID of the user.
+    * @return A map of string binding names and their string values.
+    */
+    public ALFuture<Map<String, String>> getUserBindingsAsync(Integer uid) throws CallError {
+        return ALFuture.of(service().<Map<String, String>>call("getUserBindings", uid));
     }
 
     /**
@@ -115,7 +230,17 @@ public class ALUserSession extends ALModule {
     * @return A list of strings of each registered data source.
     */
     public List<String> getUserDataSources() throws CallError, InterruptedException {
-        return (List<String>)service.call("getUserDataSources").get();
+        return (List<String>)service().call("getUserDataSources").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUserDataSources}.
+    * Check what data sources have been registered.
+    * 
+    * @return A list of strings of each registered data source.
+    */
+    public ALFuture<List<String>> getUserDataSourcesAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getUserDataSources"));
     }
 
     /**
@@ -127,7 +252,20 @@ public class ALUserSession extends ALModule {
     * @return ALValue of the data.
     */
     public java.lang.Object getUserData(Integer uid, String data_name, String source_name) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getUserData", uid, data_name, source_name).get();
+        return (java.lang.Object)service().call("getUserData", uid, data_name, source_name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUserData}.
+    * Get some data about a user.  Will throw if it does not exist
+    * 
+    * @param uid  The int ID of the user whose data to get.
+    * @param data_name  The key of the data to get.
+    * @param source_name  The string name of the data source.
+    * @return ALValue of the data.
+    */
+    public ALFuture<java.lang.Object> getUserDataAsync(Integer uid, String data_name, String source_name) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getUserData", uid, data_name, source_name));
     }
 
     /**
@@ -140,9 +278,22 @@ public class ALUserSession extends ALModule {
     */
     public void setUserData(Integer uid, String data_name, String source_name, java.lang.Object data) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setUserData", uid, data_name, source_name, data);
+            service().call("setUserData", uid, data_name, source_name, data);
         else
-            service.call("setUserData", uid, data_name, source_name, data).get();
+            service().call("setUserData", uid, data_name, source_name, data).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setUserData}.
+    * Set some data about a user.  Will throw if user does not exist
+    * 
+    * @param uid  The int ID of the user whose data to set.
+    * @param data_name  The key of the data to set.
+    * @param source_name  The string name of the data source.
+    * @param data  ALValue of the data.
+    */
+    public ALFuture<Void> setUserDataAsync(Integer uid, String data_name, String source_name, java.lang.Object data) throws CallError {
+        return ALFuture.of(service().<Void>call("setUserData", uid, data_name, source_name, data));
     }
 
     /**
@@ -150,7 +301,16 @@ public class ALUserSession extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -159,9 +319,18 @@ public class ALUserSession extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -169,7 +338,16 @@ public class ALUserSession extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -178,9 +356,18 @@ public class ALUserSession extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -189,7 +376,17 @@ public class ALUserSession extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -198,7 +395,17 @@ public class ALUserSession extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -207,7 +414,17 @@ public class ALUserSession extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -217,7 +434,18 @@ public class ALUserSession extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -226,7 +454,17 @@ public class ALUserSession extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -237,7 +475,19 @@ public class ALUserSession extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -247,7 +497,18 @@ public class ALUserSession extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -257,9 +518,19 @@ public class ALUserSession extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -268,7 +539,17 @@ public class ALUserSession extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -278,7 +559,18 @@ public class ALUserSession extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -287,7 +579,17 @@ public class ALUserSession extends ALModule {
     * @return The int version of the database.
     */
     public Integer _getDatabaseVersion() throws CallError, InterruptedException {
-        return (Integer)service.call("_getDatabaseVersion").get();
+        return (Integer)service().call("_getDatabaseVersion").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getDatabaseVersion}.
+    * Get the version of the database.
+    * 
+    * @return The int version of the database.
+    */
+    public ALFuture<Integer> _getDatabaseVersionAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("_getDatabaseVersion"));
     }
 
     /**
@@ -297,7 +599,40 @@ public class ALUserSession extends ALModule {
     * @return A list of the int ID of each user created.
     */
     public List<Integer> _createUsers(Integer num_users) throws CallError, InterruptedException {
-        return (List<Integer>)service.call("_createUsers", num_users).get();
+        return (List<Integer>)service().call("_createUsers", num_users).get();
+    }
+
+    /**
+    * Primitive version of {@link #_createUsers}, values are returned unboxed.
+    * Create new users in the database.
+    * 
+    * @param num_users  An int to specify how many users to create.
+    * @return A list of the int ID of each user created.
+    */
+    public int[] _createUsersI(Integer num_users) throws CallError, InterruptedException {
+        return toIntArray((List<Integer>)service().call("_createUsers", num_users).get());
+    }
+
+    /**
+    * Primitive version of {@link #_createUsers}, values are written into dst and their count is returned.
+    * Create new users in the database.
+    * 
+    * @param num_users  An int to specify how many users to create.
+    * @return A list of the int ID of each user created.
+    */
+    public int _createUsersInto(int[] dst, Integer num_users) throws CallError, InterruptedException {
+        return copyInto((List<Integer>)service().call("_createUsers", num_users).get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #_createUsers}.
+    * Create new users in the database.
+    * 
+    * @param num_users  An int to specify how many users to create.
+    * @return A list of the int ID of each user created.
+    */
+    public ALFuture<List<Integer>> _createUsersAsync(Integer num_users) throws CallError {
+        return ALFuture.of(service().<List<Integer>>call("_createUsers", num_users));
     }
 
     /**
@@ -307,9 +642,19 @@ public class ALUserSession extends ALModule {
     */
     public void _deleteUsers(List<Integer> user_list) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_deleteUsers", user_list);
+            service().call("_deleteUsers", user_list);
         else
-            service.call("_deleteUsers", user_list).get();
+            service().call("_deleteUsers", user_list).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_deleteUsers}.
+    * Delete users from the database.
+    * 
+    * @param user_list  A list of the int ID of each user to delete.
+    */
+    public ALFuture<Void> _deleteUsersAsync(List<Integer> user_list) throws CallError {
+        return ALFuture.of(service().<Void>call("_deleteUsers", user_list));
     }
 
     /**
@@ -319,7 +664,18 @@ public class ALUserSession extends ALModule {
     * @return A bool, true if all users exist.
     */
     public Boolean doUsersExist(List<Integer> user_list) throws CallError, InterruptedException {
-        return (Boolean)service.call("doUsersExist", user_list).get();
+        return (Boolean)service().call("doUsersExist", user_list).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #doUsersExist}.
+    * Check if users exist in db.
+    * 
+    * @param user_list  A list of int ID of the users to check.
+    * @return A bool, true if all users exist.
+    */
+    public ALFuture<Boolean> doUsersExistAsync(List<Integer> user_list) throws CallError {
+        return ALFuture.of(service().<Boolean>call("doUsersExist", user_list));
     }
 
     /**
@@ -328,7 +684,37 @@ public class ALUserSession extends ALModule {
     * @return A list of int user IDs.
     */
     public List<Integer> getUserList() throws CallError, InterruptedException {
-        return (List<Integer>)service.call("getUserList").get();
+        return (List<Integer>)service().call("getUserList").get();
+    }
+
+    /**
+    * Primitive version of {@link #getUserList}, values are returned unboxed.
+    * Get a full list of the users.
+    * 
+    * @return A list of int user IDs.
+    */
+    public int[] getUserListI() throws CallError, InterruptedException {
+        return toIntArray((List<Integer>)service().call("getUserList").get());
+    }
+
+    /**
+    * Primitive version of {@link #getUserList}, values are written into dst and their count is returned.
+    * Get a full list of the users.
+    * 
+    * @return A list of int user IDs.
+    */
+    public int getUserListInto(int[] dst) throws CallError, InterruptedException {
+        return copyInto((List<Integer>)service().call("getUserList").get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #getUserList}.
+    * Get a full list of the users.
+    * 
+    * @return A list of int user IDs.
+    */
+    public ALFuture<List<Integer>> getUserListAsync() throws CallError {
+        return ALFuture.of(service().<List<Integer>>call("getUserList"));
     }
 
     /**
@@ -337,7 +723,17 @@ public class ALUserSession extends ALModule {
     * @return An int of how many users exist
     */
     public Integer getNumUsers() throws CallError, InterruptedException {
-        return (Integer)service.call("getNumUsers").get();
+        return (Integer)service().call("getNumUsers").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getNumUsers}.
+    * Get the count of users in db.
+    * 
+    * @return An int of how many users exist
+    */
+    public ALFuture<Integer> getNumUsersAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("getNumUsers"));
     }
 
     /**
@@ -346,7 +742,17 @@ public class ALUserSession extends ALModule {
     * @return The int ID of the focused user. -1 if no focused user.
     */
     public Integer getFocusedUser() throws CallError, InterruptedException {
-        return (Integer)service.call("getFocusedUser").get();
+        return (Integer)service().call("getFocusedUser").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getFocusedUser}.
+    * Get which user has the robot's focus.
+    * 
+    * @return The int ID of the focused user. -1 if no focused user.
+    */
+    public ALFuture<Integer> getFocusedUserAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("getFocusedUser"));
     }
 
     /**
@@ -356,9 +762,19 @@ public class ALUserSession extends ALModule {
     */
     public void _setFocusedUser(Integer focused_user) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setFocusedUser", focused_user);
+            service().call("_setFocusedUser", focused_user);
         else
-            service.call("_setFocusedUser", focused_user).get();
+            service().call("_setFocusedUser", focused_user).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setFocusedUser}.
+    * Set which user has the robot's focus.
+    * 
+    * @param focused_user  The int ID of the focused user. -1 if no focused user. Will throw if the user does not exist.
+    */
+    public ALFuture<Void> _setFocusedUserAsync(Integer focused_user) throws CallError {
+        return ALFuture.of(service().<Void>call("_setFocusedUser", focused_user));
     }
 
     /**
@@ -367,7 +783,37 @@ public class ALUserSession extends ALModule {
     * @return A list of int IDs of each user with an open session.
     */
     public List<Integer> getOpenUserSessions() throws CallError, InterruptedException {
-        return (List<Integer>)service.call("getOpenUserSessions").get();
+        return (List<Integer>)service().call("getOpenUserSessions").get();
+    }
+
+    /**
+    * Primitive version of {@link #getOpenUserSessions}, values are returned unboxed.
+    * Get which users have an open session.
+    * 
+    * @return A list of int IDs of each user with an open session.
+    */
+    public int[] getOpenUserSessionsI() throws CallError, InterruptedException {
+        return toIntArray((List<Integer>)service().call("getOpenUserSessions").get());
+    }
+
+    /**
+    * Primitive version of {@link #getOpenUserSessions}, values are written into dst and their count is returned.
+    * Get which users have an open session.
+    * 
+    * @return A list of int IDs of each user with an open session.
+    */
+    public int getOpenUserSessionsInto(int[] dst) throws CallError, InterruptedException {
+        return copyInto((List<Integer>)service().call("getOpenUserSessions").get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #getOpenUserSessions}.
+    * Get which users have an open session.
+    * 
+    * @return A list of int IDs of each user with an open session.
+    */
+    public ALFuture<List<Integer>> getOpenUserSessionsAsync() throws CallError {
+        return ALFuture.of(service().<List<Integer>>call("getOpenUserSessions"));
     }
 
     /**
@@ -377,7 +823,18 @@ public class ALUserSession extends ALModule {
     * @return A bool, true if all users have open sessions.
     */
     public Boolean areUserSessionsOpen(List<Integer> user_list) throws CallError, InterruptedException {
-        return (Boolean)service.call("areUserSessionsOpen", user_list).get();
+        return (Boolean)service().call("areUserSessionsOpen", user_list).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #areUserSessionsOpen}.
+    * Check if users have an open session.
+    * 
+    * @param user_list  A list of int IDs of each user to check.
+    * @return A bool, true if all users have open sessions.
+    */
+    public ALFuture<Boolean> areUserSessionsOpenAsync(List<Integer> user_list) throws CallError {
+        return ALFuture.of(service().<Boolean>call("areUserSessionsOpen", user_list));
     }
 
     /**
@@ -387,7 +844,40 @@ public class ALUserSession extends ALModule {
     * @return A list of int IDs of each user whose session changed from closed to open.
     */
     public List<Integer> _openUserSessions(List<Integer> user_list) throws CallError, InterruptedException {
-        return (List<Integer>)service.call("_openUserSessions", user_list).get();
+        return (List<Integer>)service().call("_openUserSessions", user_list).get();
+    }
+
+    /**
+    * Primitive version of {@link #_openUserSessions}, values are returned unboxed.
+    * Open sessions for users.
+    * 
+    * @param user_list  A list of int ID of users to open sessions for. UserSession/SessionsOpened will be raised with the list of int IDs of each user whose session changed. Already open users are ignored. Will throw if the user does not exist.
+    * @return A list of int IDs of each user whose session changed from closed to open.
+    */
+    public int[] _openUserSessionsI(List<Integer> user_list) throws CallError, InterruptedException {
+        return toIntArray((List<Integer>)service().call("_openUserSessions", user_list).get());
+    }
+
+    /**
+    * Primitive version of {@link #_openUserSessions}, values are written into dst and their count is returned.
+    * Open sessions for users.
+    * 
+    * @param user_list  A list of int ID of users to open sessions for. UserSession/SessionsOpened will be raised with the list of int IDs of each user whose session changed. Already open users are ignored. Will throw if the user does not exist.
+    * @return A list of int IDs of each user whose session changed from closed to open.
+    */
+    public int _openUserSessionsInto(int[] dst, List<Integer> user_list) throws CallError, InterruptedException {
+        return copyInto((List<Integer>)service().call("_openUserSessions", user_list).get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #_openUserSessions}.
+    * Open sessions for users.
+    * 
+    * @param user_list  A list of int ID of users to open sessions for. UserSession/SessionsOpened will be raised with the list of int IDs of each user whose session changed. Already open users are ignored. Will throw if the user does not exist.
+    * @return A list of int IDs of each user whose session changed from closed to open.
+    */
+    public ALFuture<List<Integer>> _openUserSessionsAsync(List<Integer> user_list) throws CallError {
+        return ALFuture.of(service().<List<Integer>>call("_openUserSessions", user_list));
     }
 
     /**
@@ -397,7 +887,40 @@ public class ALUserSession extends ALModule {
     * @return A list of int IDs of each user whose session changed from open to closed.
     */
     public List<Integer> _closeUserSessions(List<Integer> user_list) throws CallError, InterruptedException {
-        return (List<Integer>)service.call("_closeUserSessions", user_list).get();
+        return (List<Integer>)service().call("_closeUserSessions", user_list).get();
+    }
+
+    /**
+    * Primitive version of {@link #_closeUserSessions}, values are returned unboxed.
+    * Close sessions for users.
+    * 
+    * @param user_list  A list of int ID of users to close sessions for. UserSession/SessionsClosed will be raised with the list of int IDs of each user whose session changed. Already closed users are ignored. Will throw if the user does not exist.
+    * @return A list of int IDs of each user whose session changed from open to closed.
+    */
+    public int[] _closeUserSessionsI(List<Integer> user_list) throws CallError, InterruptedException {
+        return toIntArray((List<Integer>)service().call("_closeUserSessions", user_list).get());
+    }
+
+    /**
+    * Primitive version of {@link #_closeUserSessions}, values are written into dst and their count is returned.
+    * Close sessions for users.
+    * 
+    * @param user_list  A list of int ID of users to close sessions for. UserSession/SessionsClosed will be raised with the list of int IDs of each user whose session changed. Already closed users are ignored. Will throw if the user does not exist.
+    * @return A list of int IDs of each user whose session changed from open to closed.
+    */
+    public int _closeUserSessionsInto(int[] dst, List<Integer> user_list) throws CallError, InterruptedException {
+        return copyInto((List<Integer>)service().call("_closeUserSessions", user_list).get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #_closeUserSessions}.
+    * Close sessions for users.
+    * 
+    * @param user_list  A list of int ID of users to close sessions for. UserSession/SessionsClosed will be raised with the list of int IDs of each user whose session changed. Already closed users are ignored. Will throw if the user does not exist.
+    * @return A list of int IDs of each user whose session changed from open to closed.
+    */
+    public ALFuture<List<Integer>> _closeUserSessionsAsync(List<Integer> user_list) throws CallError {
+        return ALFuture.of(service().<List<Integer>>call("_closeUserSessions", user_list));
     }
 
     /**
@@ -406,7 +929,17 @@ public class ALUserSession extends ALModule {
     * @return A list of strings, one for each binding source.
     */
     public List<String> getBindingSources() throws CallError, InterruptedException {
-        return (List<String>)service.call("getBindingSources").get();
+        return (List<String>)service().call("getBindingSources").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBindingSources}.
+    * The list of binding sources  that have been applied to UserSession
+    * 
+    * @return A list of strings, one for each binding source.
+    */
+    public ALFuture<List<String>> getBindingSourcesAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getBindingSources"));
     }
 
     /**
@@ -416,7 +949,18 @@ public class ALUserSession extends ALModule {
     * @return A bool, true if a binding source exists.
     */
     public Boolean doesBindingSourceExist(String binding_name) throws CallError, InterruptedException {
-        return (Boolean)service.call("doesBindingSourceExist", binding_name).get();
+        return (Boolean)service().call("doesBindingSourceExist", binding_name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #doesBindingSourceExist}.
+    * Query if a particular has been applied to UserSession
+    * 
+    * @param binding_name  The string name of the binding source.
+    * @return A bool, true if a binding source exists.
+    */
+    public ALFuture<Boolean> doesBindingSourceExistAsync(String binding_name) throws CallError {
+        return ALFuture.of(service().<Boolean>call("doesBindingSourceExist", binding_name));
     }
 
     /**
@@ -428,9 +972,21 @@ public class ALUserSession extends ALModule {
     */
     public void _bindUser(Integer uid, String binding_name, String binding_value) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_bindUser", uid, binding_name, binding_value);
+            service().call("_bindUser", uid, binding_name, binding_value);
         else
-            service.call("_bindUser", uid, binding_name, binding_value).get();
+            service().call("_bindUser", uid, binding_name, binding_value).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_bindUser}.
+    * Bind a user to another source.
+    * 
+    * @param uid  The int ID of the user
+    * @param binding_name  The string name of the binding source.
+    * @param binding_value  The string ID of the user at the binding source.
+    */
+    public ALFuture<Void> _bindUserAsync(Integer uid, String binding_name, String binding_value) throws CallError {
+        return ALFuture.of(service().<Void>call("_bindUser", uid, binding_name, binding_value));
     }
 
 }
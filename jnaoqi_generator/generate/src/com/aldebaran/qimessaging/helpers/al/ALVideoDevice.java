@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -23,7 +24,16 @@ public class ALVideoDevice extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -32,9 +42,18 @@ public class ALVideoDevice extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -42,7 +61,16 @@ public class ALVideoDevice extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -51,9 +79,18 @@ public class ALVideoDevice extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -62,7 +99,17 @@ public class ALVideoDevice extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -71,7 +118,17 @@ public class ALVideoDevice extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -80,7 +137,17 @@ public class ALVideoDevice extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -90,7 +157,18 @@ public class ALVideoDevice extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -99,7 +177,17 @@ public class ALVideoDevice extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -110,7 +198,19 @@ public class ALVideoDevice extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -120,7 +220,18 @@ public class ALVideoDevice extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -130,9 +241,19 @@ public class ALVideoDevice extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -141,7 +262,17 @@ public class ALVideoDevice extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -151,7 +282,18 @@ public class ALVideoDevice extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -165,7 +307,24 @@ public class ALVideoDevice extends ALModule {
     * @return Name under which the vision module is known from ALVideoDevice
     */
     public String subscribeCamera(String name, Integer cameraIndex, Integer resolution, Integer colorSpace, Integer fps) throws CallError, InterruptedException {
-        return (String)service.call("subscribeCamera", name, cameraIndex, resolution, colorSpace, fps).get();
+        String handle = (String)service().call("subscribeCamera", name, cameraIndex, resolution, colorSpace, fps).get();
+        recordSubscription("unsubscribe", handle);
+        return handle;
+    }
+
+    /**
+    * Asynchronous version of {@link #subscribeCamera}.
+    * 
+    * 
+    * @param name  Name of the subscribing vision module
+    * @param cameraIndex  Camera requested.
+    * @param resolution  Resolution requested.{0=kQQVGA, 1=kQVGA, 2=kVGA, 3=k4VGA}
+    * @param colorSpace  Colorspace requested.{0=kYuv, 9=kYUV422, 10=kYUV, 11=kRGB, 12=kHSY, 13=kBGR}
+    * @param fps  Fps (frames per second) requested.{5, 10, 15, 30}
+    * @return Name under which the vision module is known from ALVideoDevice
+    */
+    public ALFuture<String> subscribeCameraAsync(String name, Integer cameraIndex, Integer resolution, Integer colorSpace, Integer fps) throws CallError {
+        return recordSubscriptionHandle(ALFuture.of(service().<String>call("subscribeCamera", name, cameraIndex, resolution, colorSpace, fps)), "unsubscribe");
     }
 
     /**
@@ -179,7 +338,24 @@ public class ALVideoDevice extends ALModule {
     * @return Name under which the vision module is known from ALVideoDevice
     */
     public String subscribeCameras(String name, java.lang.Object cameraIndexes, java.lang.Object resolutions, java.lang.Object colorSpaces, Integer fps) throws CallError, InterruptedException {
-        return (String)service.call("subscribeCameras", name, cameraIndexes, resolutions, colorSpaces, fps).get();
+        String handle = (String)service().call("subscribeCameras", name, cameraIndexes, resolutions, colorSpaces, fps).get();
+        recordSubscription("unsubscribe", handle);
+        return handle;
+    }
+
+    /**
+    * Asynchronous version of {@link #subscribeCameras}.
+    * 
+    * 
+    * @param name  Name of the subscribing vision module
+    * @param cameraIndexes  Cameras requested.
+    * @param resolutions  Resolutions requested.{0=kQQVGA, 1=kQVGA, 2=kVGA, 3=k4VGA}
+    * @param colorSpaces  Colorspaces requested.{0=kYuv, 9=kYUV422, 10=kYUV, 11=kRGB, 12=kHSY, 13=kBGR}
+    * @param fps  Fps (frames per second) requested.{5, 10, 15, 30}
+    * @return Name under which the vision module is known from ALVideoDevice
+    */
+    public ALFuture<String> subscribeCamerasAsync(String name, java.lang.Object cameraIndexes, java.lang.Object resolutions, java.lang.Object colorSpaces, Integer fps) throws CallError {
+        return recordSubscriptionHandle(ALFuture.of(service().<String>call("subscribeCameras", name, cameraIndexes, resolutions, colorSpaces, fps)), "unsubscribe");
     }
 
     /**
@@ -189,7 +365,20 @@ public class ALVideoDevice extends ALModule {
     * @return True if success, false otherwise
     */
     public Boolean unsubscribe(String nameId) throws CallError, InterruptedException {
-        return (Boolean)service.call("unsubscribe", nameId).get();
+        Boolean result = (Boolean)service().call("unsubscribe", nameId).get();
+        forgetSubscription("unsubscribe", nameId);
+        return result;
+    }
+
+    /**
+    * Asynchronous version of {@link #unsubscribe}.
+    * 
+    * 
+    * @param nameId  Name under which the vision module is known from ALVideoDevice.
+    * @return True if success, false otherwise
+    */
+    public ALFuture<Boolean> unsubscribeAsync(String nameId) throws CallError {
+        return forgetSubscription(ALFuture.of(service().<Boolean>call("unsubscribe", nameId)), "unsubscribe", nameId);
     }
 
     /**
@@ -197,7 +386,16 @@ public class ALVideoDevice extends ALModule {
     * 
     */
     public java.lang.Object getSubscribers() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getSubscribers").get();
+        return (java.lang.Object)service().call("getSubscribers").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getSubscribers}.
+    * 
+    * 
+    */
+    public ALFuture<java.lang.Object> getSubscribersAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getSubscribers"));
     }
 
     /**
@@ -205,7 +403,16 @@ public class ALVideoDevice extends ALModule {
     * 
     */
     public java.lang.Object getCameraIndexes() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getCameraIndexes").get();
+        return (java.lang.Object)service().call("getCameraIndexes").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getCameraIndexes}.
+    * 
+    * 
+    */
+    public ALFuture<java.lang.Object> getCameraIndexesAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getCameraIndexes"));
     }
 
     /**
@@ -214,7 +421,17 @@ public class ALVideoDevice extends ALModule {
     * @return  0: top camera - 1: bottom camera
     */
     public Integer getActiveCamera() throws CallError, InterruptedException {
-        return (Integer)service.call("getActiveCamera").get();
+        return (Integer)service().call("getActiveCamera").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getActiveCamera}.
+    * Tells which camera is the default one
+    * 
+    * @return  0: top camera - 1: bottom camera
+    */
+    public ALFuture<Integer> getActiveCameraAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("getActiveCamera"));
     }
 
     /**
@@ -223,7 +440,17 @@ public class ALVideoDevice extends ALModule {
     * @param activeCamera   0: top camera - 1: bottom camera
     */
     public Boolean setActiveCamera(Integer activeCamera) throws CallError, InterruptedException {
-        return (Boolean)service.call("setActiveCamera", activeCamera).get();
+        return (Boolean)service().call("setActiveCamera", activeCamera).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setActiveCamera}.
+    * Set the active camera
+    * 
+    * @param activeCamera   0: top camera - 1: bottom camera
+    */
+    public ALFuture<Boolean> setActiveCameraAsync(Integer activeCamera) throws CallError {
+        return ALFuture.of(service().<Boolean>call("setActiveCamera", activeCamera));
     }
 
     /**
@@ -233,35 +460,39 @@ public class ALVideoDevice extends ALModule {
     * @return  1(kOV7670): VGA camera - 2(kMT9M114): HD camera
     */
     public Integer getCameraModel(Integer cameraIndex) throws CallError, InterruptedException {
-        return (Integer)service.call("getCameraModel", cameraIndex).get();
+        return (Integer)service().call("getCameraModel", cameraIndex).get();
     }
 
     /**
+    * Asynchronous version of {@link #getCameraModel}.
     * 
     * 
     * @param cameraIndex  Camera requested.
-    * @return CameraTop - CameraBottom - CameraDepth
+    * @return  1(kOV7670): VGA camera - 2(kMT9M114): HD camera
     */
-    public String getCameraName(Integer cameraIndex) throws CallError, InterruptedException {
-        return (String)service.call("getCameraName", cameraIndex).get();
+    public ALFuture<Integer> getCameraModelAsync(Integer cameraIndex) throws CallError {
+        return ALFuture.of(service().<Integer>call("getCameraModel", cameraIndex));
     }
 
     /**
     * 
     * 
     * @param cameraIndex  Camera requested.
+    * @return CameraTop - CameraBottom - CameraDepth
     */
-    public Integer getFrameRate(Integer cameraIndex) throws CallError, InterruptedException {
-        return (Integer)service.call("getFrameRate", cameraIndex).get();
+    public String getCameraName(Integer cameraIndex) throws CallError, InterruptedException {
+        return (String)service().call("getCameraName", cameraIndex).get();
     }
 
     /**
+    * Asynchronous version of {@link #getCameraName}.
     * 
     * 
     * @param cameraIndex  Camera requested.
+    * @return CameraTop - CameraBottom - CameraDepth
     */
-    public Integer getResolution(Integer cameraIndex) throws CallError, InterruptedException {
-        return (Integer)service.call("getResolution", cameraIndex).get();
+    public ALFuture<String> getCameraNameAsync(Integer cameraIndex) throws CallError {
+        return ALFuture.of(service().<String>call("getCameraName", cameraIndex));
     }
 
     /**
@@ -269,17 +500,18 @@ public class ALVideoDevice extends ALModule {
     * 
     * @param cameraIndex  Camera requested.
     */
-    public Integer getColorSpace(Integer cameraIndex) throws CallError, InterruptedException {
-        return (Integer)service.call("getColorSpace", cameraIndex).get();
+    public Integer getFrameRate(Integer cameraIndex) throws CallError, InterruptedException {
+        return (Integer)service().call("getFrameRate", cameraIndex).get();
     }
 
     /**
+    * Asynchronous version of {@link #getFrameRate}.
     * 
     * 
     * @param cameraIndex  Camera requested.
     */
-    public Float getHorizontalFOV(Integer cameraIndex) throws CallError, InterruptedException {
-        return (Float)service.call("getHorizontalFOV", cameraIndex).get();
+    public ALFuture<Integer> getFrameRateAsync(Integer cameraIndex) throws CallError {
+        return ALFuture.of(service().<Integer>call("getFrameRate", cameraIndex));
     }
 
     /**
@@ -287,59 +519,56 @@ public class ALVideoDevice extends ALModule {
     * 
     * @param cameraIndex  Camera requested.
     */
-    public Float getVerticalFOV(Integer cameraIndex) throws CallError, InterruptedException {
-        return (Float)service.call("getVerticalFOV", cameraIndex).get();
+    public Integer getResolution(Integer cameraIndex) throws CallError, InterruptedException {
+        return (Integer)service().call("getResolution", cameraIndex).get();
     }
 
     /**
+    * Asynchronous version of {@link #getResolution}.
     * 
     * 
     * @param cameraIndex  Camera requested.
-    * @param parameterId  Camera parameter requested.
     */
-    public Integer getParameter(Integer cameraIndex, Integer parameterId) throws CallError, InterruptedException {
-        return (Integer)service.call("getParameter", cameraIndex, parameterId).get();
+    public ALFuture<Integer> getResolutionAsync(Integer cameraIndex) throws CallError {
+        return ALFuture.of(service().<Integer>call("getResolution", cameraIndex));
     }
 
     /**
     * 
     * 
     * @param cameraIndex  Camera requested.
-    * @param parameterId  Camera parameter requested.
     */
-    public java.lang.Object getParameterRange(Integer cameraIndex, Integer parameterId) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getParameterRange", cameraIndex, parameterId).get();
+    public Integer getColorSpace(Integer cameraIndex) throws CallError, InterruptedException {
+        return (Integer)service().call("getColorSpace", cameraIndex).get();
     }
 
     /**
+    * Asynchronous version of {@link #getColorSpace}.
     * 
     * 
     * @param cameraIndex  Camera requested.
-    * @param parameterId  Camera parameter requested.
     */
-    public java.lang.Object getParameterInfo(Integer cameraIndex, Integer parameterId) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getParameterInfo", cameraIndex, parameterId).get();
+    public ALFuture<Integer> getColorSpaceAsync(Integer cameraIndex) throws CallError {
+        return ALFuture.of(service().<Integer>call("getColorSpace", cameraIndex));
     }
 
     /**
     * 
     * 
     * @param cameraIndex  Camera requested.
-    * @param parameterId  Camera parameter requested.
-    * @param value  value requested.
     */
-    public Boolean setParameter(Integer cameraIndex, Integer parameterId, Integer value) throws CallError, InterruptedException {
-        return (Boolean)service.call("setParameter", cameraIndex, parameterId, value).get();
+    public Float getHorizontalFOV(Integer cameraIndex) throws CallError, InterruptedException {
+        return (Float)service().call("getHorizontalFOV", cameraIndex).get();
     }
 
     /**
+    * Asynchronous version of {@link #getHorizontalFOV}.
     * 
     * 
     * @param cameraIndex  Camera requested.
-    * @param parameterId  Camera parameter requested.
     */
-    public Boolean setParameterToDefault(Integer cameraIndex, Integer parameterId) throws CallError, InterruptedException {
-        return (Boolean)service.call("setParameterToDefault", cameraIndex, parameterId).get();
+    public ALFuture<Float> getHorizontalFOVAsync(Integer cameraIndex) throws CallError {
+        return ALFuture.of(service().<Float>call("getHorizontalFOV", cameraIndex));
     }
 
     /**
@@ -347,398 +576,560 @@ public class ALVideoDevice extends ALModule {
     * 
     * @param cameraIndex  Camera requested.
     */
-    public Boolean setAllParametersToDefault(Integer cameraIndex) throws CallError, InterruptedException {
-        return (Boolean)service.call("setAllParametersToDefault", cameraIndex).get();
+    public Float getVerticalFOV(Integer cameraIndex) throws CallError, InterruptedException {
+        return (Float)service().call("getVerticalFOV", cameraIndex).get();
     }
 
     /**
+    * Asynchronous version of {@link #getVerticalFOV}.
     * 
     * 
+    * @param cameraIndex  Camera requested.
     */
-    public Boolean openCamera(Integer param1) throws CallError, InterruptedException {
-        return (Boolean)service.call("openCamera", param1).get();
+    public ALFuture<Float> getVerticalFOVAsync(Integer cameraIndex) throws CallError {
+        return ALFuture.of(service().<Float>call("getVerticalFOV", cameraIndex));
     }
 
     /**
     * 
     * 
+    * @param cameraIndex  Camera requested.
+    * @param parameterId  Camera parameter requested.
     */
-    public Boolean closeCamera(Integer param1) throws CallError, InterruptedException {
-        return (Boolean)service.call("closeCamera", param1).get();
+    public Integer getParameter(Integer cameraIndex, Integer parameterId) throws CallError, InterruptedException {
+        return (Integer)service().call("getParameter", cameraIndex, parameterId).get();
     }
 
     /**
+    * Asynchronous version of {@link #getParameter}.
     * 
     * 
+    * @param cameraIndex  Camera requested.
+    * @param parameterId  Camera parameter requested.
     */
-    public Boolean isCameraOpen(Integer param1) throws CallError, InterruptedException {
-        return (Boolean)service.call("isCameraOpen", param1).get();
+    public ALFuture<Integer> getParameterAsync(Integer cameraIndex, Integer parameterId) throws CallError {
+        return ALFuture.of(service().<Integer>call("getParameter", cameraIndex, parameterId));
     }
 
     /**
     * 
     * 
+    * @param cameraIndex  Camera requested.
+    * @param parameterId  Camera parameter requested.
     */
-    public Boolean startCamera(Integer param1) throws CallError, InterruptedException {
-        return (Boolean)service.call("startCamera", param1).get();
+    public java.lang.Object getParameterRange(Integer cameraIndex, Integer parameterId) throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("getParameterRange", cameraIndex, parameterId).get();
     }
 
     /**
+    * Asynchronous version of {@link #getParameterRange}.
     * 
     * 
+    * @param cameraIndex  Camera requested.
+    * @param parameterId  Camera parameter requested.
     */
-    public Boolean stopCamera(Integer param1) throws CallError, InterruptedException {
-        return (Boolean)service.call("stopCamera", param1).get();
+    public ALFuture<java.lang.Object> getParameterRangeAsync(Integer cameraIndex, Integer parameterId) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getParameterRange", cameraIndex, parameterId));
     }
 
     /**
     * 
     * 
+    * @param cameraIndex  Camera requested.
+    * @param parameterId  Camera parameter requested.
     */
-    public Boolean isCameraStarted(Integer param1) throws CallError, InterruptedException {
-        return (Boolean)service.call("isCameraStarted", param1).get();
+    public java.lang.Object getParameterInfo(Integer cameraIndex, Integer parameterId) throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("getParameterInfo", cameraIndex, parameterId).get();
     }
 
     /**
+    * Asynchronous version of {@link #getParameterInfo}.
     * 
     * 
+    * @param cameraIndex  Camera requested.
+    * @param parameterId  Camera parameter requested.
     */
-    public Boolean resetCamera(Integer param1) throws CallError, InterruptedException {
-        return (Boolean)service.call("resetCamera", param1).get();
+    public ALFuture<java.lang.Object> getParameterInfoAsync(Integer cameraIndex, Integer parameterId) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getParameterInfo", cameraIndex, parameterId));
     }
 
     /**
     * 
     * 
     * @param cameraIndex  Camera requested.
+    * @param parameterId  Camera parameter requested.
+    * @param value  value requested.
     */
-    public Boolean startFrameGrabber(Integer cameraIndex) throws CallError, InterruptedException {
-        return (Boolean)service.call("startFrameGrabber", cameraIndex).get();
+    public Boolean setParameter(Integer cameraIndex, Integer parameterId, Integer value) throws CallError, InterruptedException {
+        return (Boolean)service().call("setParameter", cameraIndex, parameterId, value).get();
     }
 
     /**
+    * Asynchronous version of {@link #setParameter}.
     * 
     * 
     * @param cameraIndex  Camera requested.
+    * @param parameterId  Camera parameter requested.
+    * @param value  value requested.
     */
-    public Boolean stopFrameGrabber(Integer cameraIndex) throws CallError, InterruptedException {
-        return (Boolean)service.call("stopFrameGrabber", cameraIndex).get();
+    public ALFuture<Boolean> setParameterAsync(Integer cameraIndex, Integer parameterId, Integer value) throws CallError {
+        return ALFuture.of(service().<Boolean>call("setParameter", cameraIndex, parameterId, value));
     }
 
     /**
     * 
     * 
     * @param cameraIndex  Camera requested.
+    * @param parameterId  Camera parameter requested.
     */
-    public Boolean isFrameGrabberOff(Integer cameraIndex) throws CallError, InterruptedException {
-        return (Boolean)service.call("isFrameGrabberOff", cameraIndex).get();
+    public Boolean setParameterToDefault(Integer cameraIndex, Integer parameterId) throws CallError, InterruptedException {
+        return (Boolean)service().call("setParameterToDefault", cameraIndex, parameterId).get();
     }
 
     /**
+    * Asynchronous version of {@link #setParameterToDefault}.
     * 
     * 
+    * @param cameraIndex  Camera requested.
+    * @param parameterId  Camera parameter requested.
     */
-    public Boolean hasDepthCamera() throws CallError, InterruptedException {
-        return (Boolean)service.call("hasDepthCamera").get();
+    public ALFuture<Boolean> setParameterToDefaultAsync(Integer cameraIndex, Integer parameterId) throws CallError {
+        return ALFuture.of(service().<Boolean>call("setParameterToDefault", cameraIndex, parameterId));
     }
 
     /**
     * 
     * 
-    * @param name  Name of the subscribing vision module
+    * @param cameraIndex  Camera requested.
     */
-    public Integer getFrameRate(String name) throws CallError, InterruptedException {
-        return (Integer)service.call("getFrameRate", name).get();
+    public Boolean setAllParametersToDefault(Integer cameraIndex) throws CallError, InterruptedException {
+        return (Boolean)service().call("setAllParametersToDefault", cameraIndex).get();
     }
 
     /**
+    * Asynchronous version of {@link #setAllParametersToDefault}.
     * 
     * 
-    * @param name  Name of the subscribing vision module
-    * @param frameRate  Frame Rate requested.
+    * @param cameraIndex  Camera requested.
     */
-    public Boolean setFrameRate(String name, Integer frameRate) throws CallError, InterruptedException {
-        return (Boolean)service.call("setFrameRate", name, frameRate).get();
+    public ALFuture<Boolean> setAllParametersToDefaultAsync(Integer cameraIndex) throws CallError {
+        return ALFuture.of(service().<Boolean>call("setAllParametersToDefault", cameraIndex));
     }
 
     /**
     * 
     * 
-    * @param name  Name of the subscribing vision module
     */
-    public Integer getActiveCamera(String name) throws CallError, InterruptedException {
-        return (Integer)service.call("getActiveCamera", name).get();
+    public Boolean openCamera(Integer param1) throws CallError, InterruptedException {
+        return (Boolean)service().call("openCamera", param1).get();
     }
 
     /**
+    * Asynchronous version of {@link #openCamera}.
     * 
     * 
-    * @param name  Name of the subscribing vision module
-    * @param cameraIndex  Camera requested.
     */
-    public Boolean setActiveCamera(String name, Integer cameraIndex) throws CallError, InterruptedException {
-        return (Boolean)service.call("setActiveCamera", name, cameraIndex).get();
+    public ALFuture<Boolean> openCameraAsync(Integer param1) throws CallError {
+        return ALFuture.of(service().<Boolean>call("openCamera", param1));
     }
 
     /**
     * 
     * 
-    * @param name  Name of the subscribing vision module
     */
-    public Integer getResolution(String name) throws CallError, InterruptedException {
-        return (Integer)service.call("getResolution", name).get();
+    public Boolean closeCamera(Integer param1) throws CallError, InterruptedException {
+        return (Boolean)service().call("closeCamera", param1).get();
     }
 
     /**
+    * Asynchronous version of {@link #closeCamera}.
     * 
     * 
-    * @param name  Name of the subscribing vision module
-    * @param resolution  Resolution requested.
     */
-    public Boolean setResolution(String name, Integer resolution) throws CallError, InterruptedException {
-        return (Boolean)service.call("setResolution", name, resolution).get();
+    public ALFuture<Boolean> closeCameraAsync(Integer param1) throws CallError {
+        return ALFuture.of(service().<Boolean>call("closeCamera", param1));
     }
 
     /**
     * 
     * 
-    * @param name  Name of the subscribing vision module
     */
-    public Integer getColorSpace(String name) throws CallError, InterruptedException {
-        return (Integer)service.call("getColorSpace", name).get();
+    public Boolean isCameraOpen(Integer param1) throws CallError, InterruptedException {
+        return (Boolean)service().call("isCameraOpen", param1).get();
     }
 
     /**
+    * Asynchronous version of {@link #isCameraOpen}.
     * 
     * 
-    * @param name  Name of the subscribing vision module
-    * @param colorSpace  Color Space requested.
     */
-    public Boolean setColorSpace(String name, Integer colorSpace) throws CallError, InterruptedException {
-        return (Boolean)service.call("setColorSpace", name, colorSpace).get();
+    public ALFuture<Boolean> isCameraOpenAsync(Integer param1) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isCameraOpen", param1));
     }
 
     /**
     * 
     * 
-    * @param name  Name of the subscribing vision module
-    * @param parameterId  Camera parameter requested.
     */
-    public Integer getCameraParameter(String name, Integer parameterId) throws CallError, InterruptedException {
-        return (Integer)service.call("getCameraParameter", name, parameterId).get();
+    public Boolean startCamera(Integer param1) throws CallError, InterruptedException {
+        return (Boolean)service().call("startCamera", param1).get();
     }
 
     /**
+    * Asynchronous version of {@link #startCamera}.
     * 
     * 
-    * @param name  Name of the subscribing vision module
-    * @param parameterId  Camera parameter requested.
     */
-    public java.lang.Object getCameraParameterRange(String name, Integer parameterId) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getCameraParameterRange", name, parameterId).get();
+    public ALFuture<Boolean> startCameraAsync(Integer param1) throws CallError {
+        return ALFuture.of(service().<Boolean>call("startCamera", param1));
     }
 
     /**
     * 
     * 
-    * @param name  Name of the subscribing vision module
-    * @param parameterId  Camera parameter requested.
     */
-    public java.lang.Object getCameraParameterInfo(String name, Integer parameterId) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getCameraParameterInfo", name, parameterId).get();
+    public Boolean stopCamera(Integer param1) throws CallError, InterruptedException {
+        return (Boolean)service().call("stopCamera", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stopCamera}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> stopCameraAsync(Integer param1) throws CallError {
+        return ALFuture.of(service().<Boolean>call("stopCamera", param1));
+    }
+
+    /**
+    * 
+    * 
+    */
+    public Boolean isCameraStarted(Integer param1) throws CallError, InterruptedException {
+        return (Boolean)service().call("isCameraStarted", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isCameraStarted}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isCameraStartedAsync(Integer param1) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isCameraStarted", param1));
+    }
+
+    /**
+    * 
+    * 
+    */
+    public Boolean resetCamera(Integer param1) throws CallError, InterruptedException {
+        return (Boolean)service().call("resetCamera", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #resetCamera}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> resetCameraAsync(Integer param1) throws CallError {
+        return ALFuture.of(service().<Boolean>call("resetCamera", param1));
+    }
+
+    /**
+    * 
+    * 
+    * @param cameraIndex  Camera requested.
+    */
+    public Boolean startFrameGrabber(Integer cameraIndex) throws CallError, InterruptedException {
+        return (Boolean)service().call("startFrameGrabber", cameraIndex).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #startFrameGrabber}.
+    * 
+    * 
+    * @param cameraIndex  Camera requested.
+    */
+    public ALFuture<Boolean> startFrameGrabberAsync(Integer cameraIndex) throws CallError {
+        return ALFuture.of(service().<Boolean>call("startFrameGrabber", cameraIndex));
+    }
+
+    /**
+    * 
+    * 
+    * @param cameraIndex  Camera requested.
+    */
+    public Boolean stopFrameGrabber(Integer cameraIndex) throws CallError, InterruptedException {
+        return (Boolean)service().call("stopFrameGrabber", cameraIndex).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stopFrameGrabber}.
+    * 
+    * 
+    * @param cameraIndex  Camera requested.
+    */
+    public ALFuture<Boolean> stopFrameGrabberAsync(Integer cameraIndex) throws CallError {
+        return ALFuture.of(service().<Boolean>call("stopFrameGrabber", cameraIndex));
+    }
+
+    /**
+    * 
+    * 
+    * @param cameraIndex  Camera requested.
+    */
+    public Boolean isFrameGrabberOff(Integer cameraIndex) throws CallError, InterruptedException {
+        return (Boolean)service().call("isFrameGrabberOff", cameraIndex).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isFrameGrabberOff}.
+    * 
+    * 
+    * @param cameraIndex  Camera requested.
+    */
+    public ALFuture<Boolean> isFrameGrabberOffAsync(Integer cameraIndex) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isFrameGrabberOff", cameraIndex));
+    }
+
+    /**
+    * 
+    * 
+    */
+    public Boolean hasDepthCamera() throws CallError, InterruptedException {
+        return (Boolean)service().call("hasDepthCamera").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #hasDepthCamera}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> hasDepthCameraAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("hasDepthCamera"));
     }
 
     /**
     * 
     * 
     * @param name  Name of the subscribing vision module
-    * @param parameterId  Camera parameter requested.
-    * @param value  value requested.
     */
-    public Boolean setCameraParameter(String name, Integer parameterId, Integer value) throws CallError, InterruptedException {
-        return (Boolean)service.call("setCameraParameter", name, parameterId, value).get();
+    public Integer getFrameRate(String name) throws CallError, InterruptedException {
+        return (Integer)service().call("getFrameRate", name).get();
     }
 
     /**
+    * Asynchronous version of {@link #getFrameRate}.
     * 
     * 
     * @param name  Name of the subscribing vision module
-    * @param parameterId  Camera parameter requested.
     */
-    public Boolean setCameraParameterToDefault(String name, Integer parameterId) throws CallError, InterruptedException {
-        return (Boolean)service.call("setCameraParameterToDefault", name, parameterId).get();
+    public ALFuture<Integer> getFrameRateAsync(String name) throws CallError {
+        return ALFuture.of(service().<Integer>call("getFrameRate", name));
     }
 
     /**
     * 
     * 
     * @param name  Name of the subscribing vision module
+    * @param frameRate  Frame Rate requested.
     */
-    public Boolean setAllCameraParametersToDefault(String name) throws CallError, InterruptedException {
-        return (Boolean)service.call("setAllCameraParametersToDefault", name).get();
+    public Boolean setFrameRate(String name, Integer frameRate) throws CallError, InterruptedException {
+        return (Boolean)service().call("setFrameRate", name, frameRate).get();
     }
 
     /**
-    * Retrieves the latest image from the video source and returns a pointer to the locked ALImage, with data array pointing directly to raw data. There is no format conversion and no copy of the raw buffer.
-Warning: When image is not necessary anymore, a call to releaseDirectRawImage() is requested.
-Warning: When using this mode for several vision module, if they need raw data for more than 25ms check that you have strictly less modules in this mode than the amount of kernel buffers!!
-Warning: Release all kernel buffers before any action requesting a modification in camera running mode (e.g. resolution, switch between cameras).
+    * Asynchronous version of {@link #setFrameRate}.
+    * 
     * 
     * @param name  Name of the subscribing vision module
-    * @return Pointer to the locked image buffer, NULL if error.
-Warning, image pointer is valid only for C++ dynamic library.
+    * @param frameRate  Frame Rate requested.
     */
-    public java.lang.Object getDirectRawImageLocal(String name) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getDirectRawImageLocal", name).get();
+    public ALFuture<Boolean> setFrameRateAsync(String name, Integer frameRate) throws CallError {
+        return ALFuture.of(service().<Boolean>call("setFrameRate", name, frameRate));
     }
 
     /**
-    * Fills an ALValue with data coming directly from raw buffer (no format conversion).
+    * 
+    * 
+    * @param name  Name of the subscribing vision module
+    */
+    public Integer getActiveCamera(String name) throws CallError, InterruptedException {
+        return (Integer)service().call("getActiveCamera", name).get();
+    }
 
+    /**
+    * Asynchronous version of {@link #getActiveCamera}.
+    * 
     * 
     * @param name  Name of the subscribing vision module
-    * @return Array containing image informations : 
-    [0] : width;
-    [1] : height;
-    [2] : number of layers;
-    [3] : ColorSpace;
-    [4] : time stamp (highest 32 bits);
-    [5] : time stamp (lowest 32 bits);
-    [6] : array of size height * width * nblayers containing image data;
-    [7] : cameraID;
-    [8] : left angle;
-    [9] : top angle;
-    [10] : right angle;
-    [11] : bottom angle;
+    */
+    public ALFuture<Integer> getActiveCameraAsync(String name) throws CallError {
+        return ALFuture.of(service().<Integer>call("getActiveCamera", name));
+    }
 
+    /**
+    * 
+    * 
+    * @param name  Name of the subscribing vision module
+    * @param cameraIndex  Camera requested.
     */
-    public java.lang.Object getDirectRawImageRemote(String name) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getDirectRawImageRemote", name).get();
+    public Boolean setActiveCamera(String name, Integer cameraIndex) throws CallError, InterruptedException {
+        return (Boolean)service().call("setActiveCamera", name, cameraIndex).get();
     }
 
     /**
-    * Release image buffer locked by getDirectRawImageLocal().
+    * Asynchronous version of {@link #setActiveCamera}.
+    * 
+    * 
+    * @param name  Name of the subscribing vision module
+    * @param cameraIndex  Camera requested.
+    */
+    public ALFuture<Boolean> setActiveCameraAsync(String name, Integer cameraIndex) throws CallError {
+        return ALFuture.of(service().<Boolean>call("setActiveCamera", name, cameraIndex));
+    }
 
+    /**
+    * 
     * 
     * @param name  Name of the subscribing vision module
-    * @return true if success
     */
-    public Boolean releaseDirectRawImage(String name) throws CallError, InterruptedException {
-        return (Boolean)service.call("releaseDirectRawImage", name).get();
+    public Integer getResolution(String name) throws CallError, InterruptedException {
+        return (Integer)service().call("getResolution", name).get();
     }
 
     /**
-    * Applies transformations to the last image from video source and returns a pointer to a locked ALImage.
-When image is not necessary anymore, a call to releaseImage() is requested.
+    * Asynchronous version of {@link #getResolution}.
+    * 
+    * 
+    * @param name  Name of the subscribing vision module
+    */
+    public ALFuture<Integer> getResolutionAsync(String name) throws CallError {
+        return ALFuture.of(service().<Integer>call("getResolution", name));
+    }
 
+    /**
+    * 
     * 
     * @param name  Name of the subscribing vision module
-    * @return Pointer of the locked image buffer, NULL if error.Warning, image pointer is valid only for C++ dynamic library.
+    * @param resolution  Resolution requested.
     */
-    public java.lang.Object getImageLocal(String name) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getImageLocal", name).get();
+    public Boolean setResolution(String name, Integer resolution) throws CallError, InterruptedException {
+        return (Boolean)service().call("setResolution", name, resolution).get();
     }
 
     /**
-    * Applies transformations to the last image from video source and fills pFrameOut.
+    * Asynchronous version of {@link #setResolution}.
+    * 
+    * 
+    * @param name  Name of the subscribing vision module
+    * @param resolution  Resolution requested.
+    */
+    public ALFuture<Boolean> setResolutionAsync(String name, Integer resolution) throws CallError {
+        return ALFuture.of(service().<Boolean>call("setResolution", name, resolution));
+    }
 
+    /**
+    * 
     * 
     * @param name  Name of the subscribing vision module
-    * @return Array containing image informations : 
-    [0] : width;
-    [1] : height;
-    [2] : number of layers;
-    [3] : ColorSpace;
-    [4] : time stamp (highest 32 bits);
-    [5] : time stamp (lowest 32 bits);
-    [6] : array of size height * width * nblayers containing image data;
-    [7] : cameraID;
-    [8] : left angle;
-    [9] : top angle;
-    [10] : right angle;
-    [11] : bottom angle;
+    */
+    public Integer getColorSpace(String name) throws CallError, InterruptedException {
+        return (Integer)service().call("getColorSpace", name).get();
+    }
 
+    /**
+    * Asynchronous version of {@link #getColorSpace}.
+    * 
+    * 
+    * @param name  Name of the subscribing vision module
     */
-    public java.lang.Object getImageRemote(String name) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getImageRemote", name).get();
+    public ALFuture<Integer> getColorSpaceAsync(String name) throws CallError {
+        return ALFuture.of(service().<Integer>call("getColorSpace", name));
     }
 
     /**
-    * Release image buffer locked by getImageLocal().
-If G.V.M. had no locked image buffer, does nothing.
+    * 
     * 
     * @param name  Name of the subscribing vision module
-    * @return true if success
+    * @param colorSpace  Color Space requested.
     */
-    public Boolean releaseImage(String name) throws CallError, InterruptedException {
-        return (Boolean)service.call("releaseImage", name).get();
+    public Boolean setColorSpace(String name, Integer colorSpace) throws CallError, InterruptedException {
+        return (Boolean)service().call("setColorSpace", name, colorSpace).get();
     }
 
     /**
+    * Asynchronous version of {@link #setColorSpace}.
     * 
     * 
     * @param name  Name of the subscribing vision module
+    * @param colorSpace  Color Space requested.
     */
-    public java.lang.Object getActiveCameras(String name) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getActiveCameras", name).get();
+    public ALFuture<Boolean> setColorSpaceAsync(String name, Integer colorSpace) throws CallError {
+        return ALFuture.of(service().<Boolean>call("setColorSpace", name, colorSpace));
     }
 
     /**
     * 
     * 
     * @param name  Name of the subscribing vision module
-    * @param cameraIndexes  Cameras requested.
+    * @param parameterId  Camera parameter requested.
     */
-    public java.lang.Object setActiveCameras(String name, java.lang.Object cameraIndexes) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("setActiveCameras", name, cameraIndexes).get();
+    public Integer getCameraParameter(String name, Integer parameterId) throws CallError, InterruptedException {
+        return (Integer)service().call("getCameraParameter", name, parameterId).get();
     }
 
     /**
+    * Asynchronous version of {@link #getCameraParameter}.
     * 
     * 
     * @param name  Name of the subscribing vision module
+    * @param parameterId  Camera parameter requested.
     */
-    public java.lang.Object getResolutions(String name) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getResolutions", name).get();
+    public ALFuture<Integer> getCameraParameterAsync(String name, Integer parameterId) throws CallError {
+        return ALFuture.of(service().<Integer>call("getCameraParameter", name, parameterId));
     }
 
     /**
     * 
     * 
     * @param name  Name of the subscribing vision module
-    * @param resolutions  Resolutions requested.
+    * @param parameterId  Camera parameter requested.
     */
-    public java.lang.Object setResolutions(String name, java.lang.Object resolutions) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("setResolutions", name, resolutions).get();
+    public java.lang.Object getCameraParameterRange(String name, Integer parameterId) throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("getCameraParameterRange", name, parameterId).get();
     }
 
     /**
+    * Asynchronous version of {@link #getCameraParameterRange}.
     * 
     * 
     * @param name  Name of the subscribing vision module
+    * @param parameterId  Camera parameter requested.
     */
-    public java.lang.Object getColorSpaces(String name) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getColorSpaces", name).get();
+    public ALFuture<java.lang.Object> getCameraParameterRangeAsync(String name, Integer parameterId) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getCameraParameterRange", name, parameterId));
     }
 
     /**
     * 
     * 
     * @param name  Name of the subscribing vision module
-    * @param colorSpaces  Color Spaces requested.
+    * @param parameterId  Camera parameter requested.
     */
-    public java.lang.Object setColorSpaces(String name, java.lang.Object colorSpaces) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("setColorSpaces", name, colorSpaces).get();
+    public java.lang.Object getCameraParameterInfo(String name, Integer parameterId) throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("getCameraParameterInfo", name, parameterId).get();
     }
 
     /**
+    * Asynchronous version of {@link #getCameraParameterInfo}.
     * 
     * 
     * @param name  Name of the subscribing vision module
     * @param parameterId  Camera parameter requested.
     */
-    public java.lang.Object getCamerasParameter(String name, Integer parameterId) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getCamerasParameter", name, parameterId).get();
+    public ALFuture<java.lang.Object> getCameraParameterInfoAsync(String name, Integer parameterId) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getCameraParameterInfo", name, parameterId));
     }
 
     /**
@@ -746,422 +1137,1490 @@ If G.V.M. had no locked image buffer, does nothing.
     * 
     * @param name  Name of the subscribing vision module
     * @param parameterId  Camera parameter requested.
-    * @param values  values requested.
+    * @param value  value requested.
     */
-    public java.lang.Object setCamerasParameter(String name, Integer parameterId, java.lang.Object values) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("setCamerasParameter", name, parameterId, values).get();
+    public Boolean setCameraParameter(String name, Integer parameterId, Integer value) throws CallError, InterruptedException {
+        return (Boolean)service().call("setCameraParameter", name, parameterId, value).get();
     }
 
     /**
+    * Asynchronous version of {@link #setCameraParameter}.
     * 
     * 
     * @param name  Name of the subscribing vision module
     * @param parameterId  Camera parameter requested.
+    * @param value  value requested.
     */
-    public java.lang.Object setCamerasParameterToDefault(String name, Integer parameterId) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("setCamerasParameterToDefault", name, parameterId).get();
+    public ALFuture<Boolean> setCameraParameterAsync(String name, Integer parameterId, Integer value) throws CallError {
+        return ALFuture.of(service().<Boolean>call("setCameraParameter", name, parameterId, value));
     }
 
     /**
-    * Retrieves the latest image from the video source and returns a pointer to the locked ALImage, with data array pointing directly to raw data. There is no format conversion and no copy of the raw buffer.
-Warning: When image is not necessary anymore, a call to releaseDirectRawImage() is requested.
-Warning: When using this mode for several vision module, if they need raw data for more than 25ms check that you have strictly less modules in this mode than the amount of kernel buffers!!
-Warning: Release all kernel buffers before any action requesting a modification in camera running mode (e.g. resolution, switch between cameras).
+    * 
     * 
     * @param name  Name of the subscribing vision module
-    * @return Array of pointer to the locked image buffer, NULL if error.
-Warning, image pointer is valid only for C++ dynamic library.
+    * @param parameterId  Camera parameter requested.
     */
-    public java.lang.Object getDirectRawImagesLocal(String name) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getDirectRawImagesLocal", name).get();
+    public Boolean setCameraParameterToDefault(String name, Integer parameterId) throws CallError, InterruptedException {
+        return (Boolean)service().call("setCameraParameterToDefault", name, parameterId).get();
     }
 
     /**
-    * Fills an ALValue with data coming directly from raw buffer (no format conversion).
+    * Asynchronous version of {@link #setCameraParameterToDefault}.
+    * 
+    * 
+    * @param name  Name of the subscribing vision module
+    * @param parameterId  Camera parameter requested.
+    */
+    public ALFuture<Boolean> setCameraParameterToDefaultAsync(String name, Integer parameterId) throws CallError {
+        return ALFuture.of(service().<Boolean>call("setCameraParameterToDefault", name, parameterId));
+    }
 
+    /**
+    * 
     * 
     * @param name  Name of the subscribing vision module
-    * @return Array containing image informations : 
-    [0] : width;
-    [1] : height;
-    [2] : number of layers;
-    [3] : ColorSpace;
-    [4] : time stamp (highest 32 bits);
-    [5] : time stamp (lowest 32 bits);
-    [6] : array of size height * width * nblayers containing image data;
-    [7] : cameraID;
+    */
+    public Boolean setAllCameraParametersToDefault(String name) throws CallError, InterruptedException {
+        return (Boolean)service().call("setAllCameraParametersToDefault", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setAllCameraParametersToDefault}.
+    * 
+    * 
+    * @param name  Name of the subscribing vision module
+    */
+    public ALFuture<Boolean> setAllCameraParametersToDefaultAsync(String name) throws CallError {
+        return ALFuture.of(service().<Boolean>call("setAllCameraParametersToDefault", name));
+    }
+
+    /**
+    * Retrieves the latest image from the video source and returns a pointer to the locked ALImage, with data array pointing directly to raw data. There is no format conversion and no copy of the raw buffer.
+Warning: When image is not necessary anymore, a call to releaseDirectRawImage() is requested.
+Warning: When using this mode for several vision module, if they need raw data for more than 25ms check that you have strictly less modules in this mode than the amount of kernel buffers!!
+Warning: Release all kernel buffers before any action requesting a modification in camera running mode (e.g. resolution, switch between cameras).
+    * 
+    * @param name  Name of the subscribing vision module
+    * @return Pointer to the locked image buffer, NULL if error.
+Warning, image pointer is valid only for C++ dynamic library.
+    */
+    public java.lang.Object getDirectRawImageLocal(String name) throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("getDirectRawImageLocal", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getDirectRawImageLocal}.
+    * Retrieves the latest image from the video source and returns a pointer to the locked ALImage, with data array pointing directly to raw data. There is no format conversion and no copy of the raw buffer.
+Warning: When image is not necessary anymore, a call to releaseDirectRawImage() is requested.
+Warning: When using this mode for several vision module, if they need raw data for more than 25ms check that you have strictly less modules in this mode than the amount of kernel buffers!!
+Warning: Release all kernel buffers before any action requesting a modification in camera running mode (e.g. resolution, switch between cameras).
+    * 
+    * @param name  Name of the subscribing vision module
+    * @return Pointer to the locked image buffer, NULL if error.
+Warning, image pointer is valid only for C++ dynamic library.
+    */
+    public ALFuture<java.lang.Object> getDirectRawImageLocalAsync(String name) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getDirectRawImageLocal", name));
+    }
+
+    /**
+    * Fills an ALValue with data coming directly from raw buffer (no format conversion).
+
+    * 
+    * @param name  Name of the subscribing vision module
+    * @return Array containing image informations : 
+    [0] : width;
+    [1] : height;
+    [2] : number of layers;
+    [3] : ColorSpace;
+    [4] : time stamp (highest 32 bits);
+    [5] : time stamp (lowest 32 bits);
+    [6] : array of size height * width * nblayers containing image data;
+    [7] : cameraID;
+    [8] : left angle;
+    [9] : top angle;
+    [10] : right angle;
+    [11] : bottom angle;
+
+    */
+    public java.lang.Object getDirectRawImageRemote(String name) throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("getDirectRawImageRemote", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getDirectRawImageRemote}.
+    * Fills an ALValue with data coming directly from raw buffer (no format conversion).
+
+    * 
+    * @param name  Name of the subscribing vision module
+    * @return Array containing image informations : 
+    [0] : width;
+    [1] : height;
+    [2] : number of layers;
+    [3] : ColorSpace;
+    [4] : time stamp (highest 32 bits);
+    [5] : time stamp (lowest 32 bits);
+    [6] : array of size height * width * nblayers containing image data;
+    [7] : cameraID;
+    [8] : left angle;
+    [9] : top angle;
+    [10] : right angle;
+    [11] : bottom angle;
+
+    */
+    public ALFuture<java.lang.Object> getDirectRawImageRemoteAsync(String name) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getDirectRawImageRemote", name));
+    }
+
+    /**
+    * Release image buffer locked by getDirectRawImageLocal().
+
+    * 
+    * @param name  Name of the subscribing vision module
+    * @return true if success
+    */
+    public Boolean releaseDirectRawImage(String name) throws CallError, InterruptedException {
+        return (Boolean)service().call("releaseDirectRawImage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #releaseDirectRawImage}.
+    * Release image buffer locked by getDirectRawImageLocal().
+
+    * 
+    * @param name  Name of the subscribing vision module
+    * @return true if success
+    */
+    public ALFuture<Boolean> releaseDirectRawImageAsync(String name) throws CallError {
+        return ALFuture.of(service().<Boolean>call("releaseDirectRawImage", name));
+    }
+
+    /**
+    * Applies transformations to the last image from video source and returns a pointer to a locked ALImage.
+When image is not necessary anymore, a call to releaseImage() is requested.
+
+    * 
+    * @param name  Name of the subscribing vision module
+    * @return Pointer of the locked image buffer, NULL if error.Warning, image pointer is valid only for C++ dynamic library.
+    */
+    public java.lang.Object getImageLocal(String name) throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("getImageLocal", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getImageLocal}.
+    * Applies transformations to the last image from video source and returns a pointer to a locked ALImage.
+When image is not necessary anymore, a call to releaseImage() is requested.
+
+    * 
+    * @param name  Name of the subscribing vision module
+    * @return Pointer of the locked image buffer, NULL if error.Warning, image pointer is valid only for C++ dynamic library.
+    */
+    public ALFuture<java.lang.Object> getImageLocalAsync(String name) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getImageLocal", name));
+    }
+
+    /**
+    * Applies transformations to the last image from video source and fills pFrameOut.
+
+    * 
+    * @param name  Name of the subscribing vision module
+    * @return Array containing image informations : 
+    [0] : width;
+    [1] : height;
+    [2] : number of layers;
+    [3] : ColorSpace;
+    [4] : time stamp (highest 32 bits);
+    [5] : time stamp (lowest 32 bits);
+    [6] : array of size height * width * nblayers containing image data;
+    [7] : cameraID;
+    [8] : left angle;
+    [9] : top angle;
+    [10] : right angle;
+    [11] : bottom angle;
+
+    */
+    public java.lang.Object getImageRemote(String name) throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("getImageRemote", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getImageRemote}.
+    * Applies transformations to the last image from video source and fills pFrameOut.
+
+    * 
+    * @param name  Name of the subscribing vision module
+    * @return Array containing image informations : 
+    [0] : width;
+    [1] : height;
+    [2] : number of layers;
+    [3] : ColorSpace;
+    [4] : time stamp (highest 32 bits);
+    [5] : time stamp (lowest 32 bits);
+    [6] : array of size height * width * nblayers containing image data;
+    [7] : cameraID;
     [8] : left angle;
     [9] : top angle;
     [10] : right angle;
     [11] : bottom angle;
 
     */
-    public java.lang.Object getDirectRawImagesRemote(String name) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getDirectRawImagesRemote", name).get();
+    public ALFuture<java.lang.Object> getImageRemoteAsync(String name) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getImageRemote", name));
+    }
+
+    /**
+    * Release image buffer locked by getImageLocal().
+If G.V.M. had no locked image buffer, does nothing.
+    * 
+    * @param name  Name of the subscribing vision module
+    * @return true if success
+    */
+    public Boolean releaseImage(String name) throws CallError, InterruptedException {
+        return (Boolean)service().call("releaseImage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #releaseImage}.
+    * Release image buffer locked by getImageLocal().
+If G.V.M. had no locked image buffer, does nothing.
+    * 
+    * @param name  Name of the subscribing vision module
+    * @return true if success
+    */
+    public ALFuture<Boolean> releaseImageAsync(String name) throws CallError {
+        return ALFuture.of(service().<Boolean>call("releaseImage", name));
+    }
+
+    /**
+    * 
+    * 
+    * @param name  Name of the subscribing vision module
+    */
+    public java.lang.Object getActiveCameras(String name) throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("getActiveCameras", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getActiveCameras}.
+    * 
+    * 
+    * @param name  Name of the subscribing vision module
+    */
+    public ALFuture<java.lang.Object> getActiveCamerasAsync(String name) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getActiveCameras", name));
+    }
+
+    /**
+    * 
+    * 
+    * @param name  Name of the subscribing vision module
+    * @param cameraIndexes  Cameras requested.
+    */
+    public java.lang.Object setActiveCameras(String name, java.lang.Object cameraIndexes) throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("setActiveCameras", name, cameraIndexes).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setActiveCameras}.
+    * 
+    * 
+    * @param name  Name of the subscribing vision module
+    * @param cameraIndexes  Cameras requested.
+    */
+    public ALFuture<java.lang.Object> setActiveCamerasAsync(String name, java.lang.Object cameraIndexes) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("setActiveCameras", name, cameraIndexes));
+    }
+
+    /**
+    * 
+    * 
+    * @param name  Name of the subscribing vision module
+    */
+    public java.lang.Object getResolutions(String name) throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("getResolutions", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getResolutions}.
+    * 
+    * 
+    * @param name  Name of the subscribing vision module
+    */
+    public ALFuture<java.lang.Object> getResolutionsAsync(String name) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getResolutions", name));
+    }
+
+    /**
+    * 
+    * 
+    * @param name  Name of the subscribing vision module
+    * @param resolutions  Resolutions requested.
+    */
+    public java.lang.Object setResolutions(String name, java.lang.Object resolutions) throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("setResolutions", name, resolutions).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setResolutions}.
+    * 
+    * 
+    * @param name  Name of the subscribing vision module
+    * @param resolutions  Resolutions requested.
+    */
+    public ALFuture<java.lang.Object> setResolutionsAsync(String name, java.lang.Object resolutions) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("setResolutions", name, resolutions));
+    }
+
+    /**
+    * 
+    * 
+    * @param name  Name of the subscribing vision module
+    */
+    public java.lang.Object getColorSpaces(String name) throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("getColorSpaces", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getColorSpaces}.
+    * 
+    * 
+    * @param name  Name of the subscribing vision module
+    */
+    public ALFuture<java.lang.Object> getColorSpacesAsync(String name) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getColorSpaces", name));
+    }
+
+    /**
+    * 
+    * 
+    * @param name  Name of the subscribing vision module
+    * @param colorSpaces  Color Spaces requested.
+    */
+    public java.lang.Object setColorSpaces(String name, java.lang.Object colorSpaces) throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("setColorSpaces", name, colorSpaces).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setColorSpaces}.
+    * 
+    * 
+    * @param name  Name of the subscribing vision module
+    * @param colorSpaces  Color Spaces requested.
+    */
+    public ALFuture<java.lang.Object> setColorSpacesAsync(String name, java.lang.Object colorSpaces) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("setColorSpaces", name, colorSpaces));
+    }
+
+    /**
+    * 
+    * 
+    * @param name  Name of the subscribing vision module
+    * @param parameterId  Camera parameter requested.
+    */
+    public java.lang.Object getCamerasParameter(String name, Integer parameterId) throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("getCamerasParameter", name, parameterId).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getCamerasParameter}.
+    * 
+    * 
+    * @param name  Name of the subscribing vision module
+    * @param parameterId  Camera parameter requested.
+    */
+    public ALFuture<java.lang.Object> getCamerasParameterAsync(String name, Integer parameterId) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getCamerasParameter", name, parameterId));
+    }
+
+    /**
+    * 
+    * 
+    * @param name  Name of the subscribing vision module
+    * @param parameterId  Camera parameter requested.
+    * @param values  values requested.
+    */
+    public java.lang.Object setCamerasParameter(String name, Integer parameterId, java.lang.Object values) throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("setCamerasParameter", name, parameterId, values).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setCamerasParameter}.
+    * 
+    * 
+    * @param name  Name of the subscribing vision module
+    * @param parameterId  Camera parameter requested.
+    * @param values  values requested.
+    */
+    public ALFuture<java.lang.Object> setCamerasParameterAsync(String name, Integer parameterId, java.lang.Object values) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("setCamerasParameter", name, parameterId, values));
+    }
+
+    /**
+    * 
+    * 
+    * @param name  Name of the subscribing vision module
+    * @param parameterId  Camera parameter requested.
+    */
+    public java.lang.Object setCamerasParameterToDefault(String name, Integer parameterId) throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("setCamerasParameterToDefault", name, parameterId).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setCamerasParameterToDefault}.
+    * 
+    * 
+    * @param name  Name of the subscribing vision module
+    * @param parameterId  Camera parameter requested.
+    */
+    public ALFuture<java.lang.Object> setCamerasParameterToDefaultAsync(String name, Integer parameterId) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("setCamerasParameterToDefault", name, parameterId));
+    }
+
+    /**
+    * Retrieves the latest image from the video source and returns a pointer to the locked ALImage, with data array pointing directly to raw data. There is no format conversion and no copy of the raw buffer.
+Warning: When image is not necessary anymore, a call to releaseDirectRawImage() is requested.
+Warning: When using this mode for several vision module, if they need raw data for more than 25ms check that you have strictly less modules in this mode than the amount of kernel buffers!!
+Warning: Release all kernel buffers before any action requesting a modification in camera running mode (e.g. resolution, switch between cameras).
+    * 
+    * @param name  Name of the subscribing vision module
+    * @return Array of pointer to the locked image buffer, NULL if error.
+Warning, image pointer is valid only for C++ dynamic library.
+    */
+    public java.lang.Object getDirectRawImagesLocal(String name) throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("getDirectRawImagesLocal", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getDirectRawImagesLocal}.
+    * Retrieves the latest image from the video source and returns a pointer to the locked ALImage, with data array pointing directly to raw data. There is no format conversion and no copy of the raw buffer.
+Warning: When image is not necessary anymore, a call to releaseDirectRawImage() is requested.
+Warning: When using this mode for several vision module, if they need raw data for more than 25ms check that you have strictly less modules in this mode than the amount of kernel buffers!!
+Warning: Release all kernel buffers before any action requesting a modification in camera running mode (e.g. resolution, switch between cameras).
+    * 
+    * @param name  Name of the subscribing vision module
+    * @return Array of pointer to the locked image buffer, NULL if error.
+Warning, image pointer is valid only for C++ dynamic library.
+    */
+    public ALFuture<java.lang.Object> getDirectRawImagesLocalAsync(String name) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getDirectRawImagesLocal", name));
+    }
+
+    /**
+    * Fills an ALValue with data coming directly from raw buffer (no format conversion).
+
+    * 
+    * @param name  Name of the subscribing vision module
+    * @return Array containing image informations : 
+    [0] : width;
+    [1] : height;
+    [2] : number of layers;
+    [3] : ColorSpace;
+    [4] : time stamp (highest 32 bits);
+    [5] : time stamp (lowest 32 bits);
+    [6] : array of size height * width * nblayers containing image data;
+    [7] : cameraID;
+    [8] : left angle;
+    [9] : top angle;
+    [10] : right angle;
+    [11] : bottom angle;
+
+    */
+    public java.lang.Object getDirectRawImagesRemote(String name) throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("getDirectRawImagesRemote", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getDirectRawImagesRemote}.
+    * Fills an ALValue with data coming directly from raw buffer (no format conversion).
+
+    * 
+    * @param name  Name of the subscribing vision module
+    * @return Array containing image informations : 
+    [0] : width;
+    [1] : height;
+    [2] : number of layers;
+    [3] : ColorSpace;
+    [4] : time stamp (highest 32 bits);
+    [5] : time stamp (lowest 32 bits);
+    [6] : array of size height * width * nblayers containing image data;
+    [7] : cameraID;
+    [8] : left angle;
+    [9] : top angle;
+    [10] : right angle;
+    [11] : bottom angle;
+
+    */
+    public ALFuture<java.lang.Object> getDirectRawImagesRemoteAsync(String name) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getDirectRawImagesRemote", name));
+    }
+
+    /**
+    * Release image buffer locked by getDirectRawImagesLocal().
+
+    * 
+    * @param name  Name of the subscribing vision module
+    * @return true if success
+    */
+    public java.lang.Object releaseDirectRawImages(String name) throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("releaseDirectRawImages", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #releaseDirectRawImages}.
+    * Release image buffer locked by getDirectRawImagesLocal().
+
+    * 
+    * @param name  Name of the subscribing vision module
+    * @return true if success
+    */
+    public ALFuture<java.lang.Object> releaseDirectRawImagesAsync(String name) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("releaseDirectRawImages", name));
+    }
+
+    /**
+    * Applies transformations to the last image from video source and returns a pointer to a locked ALImage.
+When image is not necessary anymore, a call to releaseImage() is requested.
+
+    * 
+    * @param name  Name of the subscribing vision module
+    * @return Array of pointer of the locked image buffer, NULL if error.Warning, image pointer is valid only for C++ dynamic library.
+    */
+    public java.lang.Object getImagesLocal(String name) throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("getImagesLocal", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getImagesLocal}.
+    * Applies transformations to the last image from video source and returns a pointer to a locked ALImage.
+When image is not necessary anymore, a call to releaseImage() is requested.
+
+    * 
+    * @param name  Name of the subscribing vision module
+    * @return Array of pointer of the locked image buffer, NULL if error.Warning, image pointer is valid only for C++ dynamic library.
+    */
+    public ALFuture<java.lang.Object> getImagesLocalAsync(String name) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getImagesLocal", name));
+    }
+
+    /**
+    * Applies transformations to the last image from video source and fills pFrameOut.
+
+    * 
+    * @param name  Name of the subscribing vision module
+    * @return Array containing image informations : 
+    [0] : width;
+    [1] : height;
+    [2] : number of layers;
+    [3] : ColorSpace;
+    [4] : time stamp (highest 32 bits);
+    [5] : time stamp (lowest 32 bits);
+    [6] : array of size height * width * nblayers containing image data;
+    [7] : cameraID;
+    [8] : left angle;
+    [9] : top angle;
+    [10] : right angle;
+    [11] : bottom angle;
+
+    */
+    public java.lang.Object getImagesRemote(String name) throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("getImagesRemote", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getImagesRemote}.
+    * Applies transformations to the last image from video source and fills pFrameOut.
+
+    * 
+    * @param name  Name of the subscribing vision module
+    * @return Array containing image informations : 
+    [0] : width;
+    [1] : height;
+    [2] : number of layers;
+    [3] : ColorSpace;
+    [4] : time stamp (highest 32 bits);
+    [5] : time stamp (lowest 32 bits);
+    [6] : array of size height * width * nblayers containing image data;
+    [7] : cameraID;
+    [8] : left angle;
+    [9] : top angle;
+    [10] : right angle;
+    [11] : bottom angle;
+
+    */
+    public ALFuture<java.lang.Object> getImagesRemoteAsync(String name) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getImagesRemote", name));
+    }
+
+    /**
+    * Release image buffer locked by getImageLocal().
+If G.V.M. had no locked image buffer, does nothing.
+    * 
+    * @param name  Name of the subscribing vision module
+    * @return true if success
+    */
+    public java.lang.Object releaseImages(String name) throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("releaseImages", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #releaseImages}.
+    * Release image buffer locked by getImageLocal().
+If G.V.M. had no locked image buffer, does nothing.
+    * 
+    * @param name  Name of the subscribing vision module
+    * @return true if success
+    */
+    public ALFuture<java.lang.Object> releaseImagesAsync(String name) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("releaseImages", name));
+    }
+
+    /**
+    * Background record of an .arv raw format video from the images processed by a vision module
+Actualy it take picture each time the vision module call getDirectRawImageRemote().
+    * 
+    * @param id  Name under which the G.V.M. is known from the V.I.M.
+    * @param path  path/name of the video to be recorded
+    * @param totalNumber  number of images to be recorded. 0xFFFFFFFF for "unlimited"
+    * @param period  one image recorded every pPeriod images
+    * @return true if success
+    */
+    public Boolean recordVideo(String id, String path, Integer totalNumber, Integer period) throws CallError, InterruptedException {
+        return (Boolean)service().call("recordVideo", id, path, totalNumber, period).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #recordVideo}.
+    * Background record of an .arv raw format video from the images processed by a vision module
+Actualy it take picture each time the vision module call getDirectRawImageRemote().
+    * 
+    * @param id  Name under which the G.V.M. is known from the V.I.M.
+    * @param path  path/name of the video to be recorded
+    * @param totalNumber  number of images to be recorded. 0xFFFFFFFF for "unlimited"
+    * @param period  one image recorded every pPeriod images
+    * @return true if success
+    */
+    public ALFuture<Boolean> recordVideoAsync(String id, String path, Integer totalNumber, Integer period) throws CallError {
+        return ALFuture.of(service().<Boolean>call("recordVideo", id, path, totalNumber, period));
+    }
+
+    /**
+    * Stop writing the video sequence
+    * 
+    * @param id  Name under which the G.V.M. is known from ALVideoDevice.
+    * @return true if success
+    */
+    public Boolean stopVideo(String id) throws CallError, InterruptedException {
+        return (Boolean)service().call("stopVideo", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stopVideo}.
+    * Stop writing the video sequence
+    * 
+    * @param id  Name under which the G.V.M. is known from ALVideoDevice.
+    * @return true if success
+    */
+    public ALFuture<Boolean> stopVideoAsync(String id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("stopVideo", id));
+    }
+
+    /**
+    * 
+    * 
+    */
+    public List<Float> getAngularPositionFromImagePosition(Integer param1, List<Float> param2) throws CallError, InterruptedException {
+        return (List<Float>)service().call("getAngularPositionFromImagePosition", param1, param2).get();
+    }
+
+    /**
+    * Primitive version of {@link #getAngularPositionFromImagePosition}, values are returned unboxed.
+    * 
+    * 
+    */
+    public float[] getAngularPositionFromImagePositionF(Integer param1, List<Float> param2) throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("getAngularPositionFromImagePosition", param1, param2).get());
+    }
+
+    /**
+    * Primitive version of {@link #getAngularPositionFromImagePosition}, values are written into dst and their count is returned.
+    * 
+    * 
+    */
+    public int getAngularPositionFromImagePositionInto(float[] dst, Integer param1, List<Float> param2) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("getAngularPositionFromImagePosition", param1, param2).get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #getAngularPositionFromImagePosition}.
+    * 
+    * 
+    */
+    public ALFuture<List<Float>> getAngularPositionFromImagePositionAsync(Integer param1, List<Float> param2) throws CallError {
+        return ALFuture.of(service().<List<Float>>call("getAngularPositionFromImagePosition", param1, param2));
+    }
+
+    /**
+    * 
+    * 
+    */
+    public List<Float> getImagePositionFromAngularPosition(Integer param1, List<Float> param2) throws CallError, InterruptedException {
+        return (List<Float>)service().call("getImagePositionFromAngularPosition", param1, param2).get();
+    }
+
+    /**
+    * Primitive version of {@link #getImagePositionFromAngularPosition}, values are returned unboxed.
+    * 
+    * 
+    */
+    public float[] getImagePositionFromAngularPositionF(Integer param1, List<Float> param2) throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("getImagePositionFromAngularPosition", param1, param2).get());
+    }
+
+    /**
+    * Primitive version of {@link #getImagePositionFromAngularPosition}, values are written into dst and their count is returned.
+    * 
+    * 
+    */
+    public int getImagePositionFromAngularPositionInto(float[] dst, Integer param1, List<Float> param2) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("getImagePositionFromAngularPosition", param1, param2).get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #getImagePositionFromAngularPosition}.
+    * 
+    * 
+    */
+    public ALFuture<List<Float>> getImagePositionFromAngularPositionAsync(Integer param1, List<Float> param2) throws CallError {
+        return ALFuture.of(service().<List<Float>>call("getImagePositionFromAngularPosition", param1, param2));
+    }
+
+    /**
+    * 
+    * 
+    */
+    public List<Float> getAngularSizeFromImageSize(Integer param1, List<Float> param2) throws CallError, InterruptedException {
+        return (List<Float>)service().call("getAngularSizeFromImageSize", param1, param2).get();
+    }
+
+    /**
+    * Primitive version of {@link #getAngularSizeFromImageSize}, values are returned unboxed.
+    * 
+    * 
+    */
+    public float[] getAngularSizeFromImageSizeF(Integer param1, List<Float> param2) throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("getAngularSizeFromImageSize", param1, param2).get());
+    }
+
+    /**
+    * Primitive version of {@link #getAngularSizeFromImageSize}, values are written into dst and their count is returned.
+    * 
+    * 
+    */
+    public int getAngularSizeFromImageSizeInto(float[] dst, Integer param1, List<Float> param2) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("getAngularSizeFromImageSize", param1, param2).get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #getAngularSizeFromImageSize}.
+    * 
+    * 
+    */
+    public ALFuture<List<Float>> getAngularSizeFromImageSizeAsync(Integer param1, List<Float> param2) throws CallError {
+        return ALFuture.of(service().<List<Float>>call("getAngularSizeFromImageSize", param1, param2));
+    }
+
+    /**
+    * 
+    * 
+    */
+    public List<Float> getImageSizeFromAngularSize(Integer param1, List<Float> param2) throws CallError, InterruptedException {
+        return (List<Float>)service().call("getImageSizeFromAngularSize", param1, param2).get();
+    }
+
+    /**
+    * Primitive version of {@link #getImageSizeFromAngularSize}, values are returned unboxed.
+    * 
+    * 
+    */
+    public float[] getImageSizeFromAngularSizeF(Integer param1, List<Float> param2) throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("getImageSizeFromAngularSize", param1, param2).get());
+    }
+
+    /**
+    * Primitive version of {@link #getImageSizeFromAngularSize}, values are written into dst and their count is returned.
+    * 
+    * 
+    */
+    public int getImageSizeFromAngularSizeInto(float[] dst, Integer param1, List<Float> param2) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("getImageSizeFromAngularSize", param1, param2).get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #getImageSizeFromAngularSize}.
+    * 
+    * 
+    */
+    public ALFuture<List<Float>> getImageSizeFromAngularSizeAsync(Integer param1, List<Float> param2) throws CallError {
+        return ALFuture.of(service().<List<Float>>call("getImageSizeFromAngularSize", param1, param2));
+    }
+
+    /**
+    * 
+    * 
+    */
+    public List<Float> getImageInfoFromAngularInfo(Integer param1, List<Float> param2) throws CallError, InterruptedException {
+        return (List<Float>)service().call("getImageInfoFromAngularInfo", param1, param2).get();
+    }
+
+    /**
+    * Primitive version of {@link #getImageInfoFromAngularInfo}, values are returned unboxed.
+    * 
+    * 
+    */
+    public float[] getImageInfoFromAngularInfoF(Integer param1, List<Float> param2) throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("getImageInfoFromAngularInfo", param1, param2).get());
+    }
+
+    /**
+    * Primitive version of {@link #getImageInfoFromAngularInfo}, values are written into dst and their count is returned.
+    * 
+    * 
+    */
+    public int getImageInfoFromAngularInfoInto(float[] dst, Integer param1, List<Float> param2) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("getImageInfoFromAngularInfo", param1, param2).get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #getImageInfoFromAngularInfo}.
+    * 
+    * 
+    */
+    public ALFuture<List<Float>> getImageInfoFromAngularInfoAsync(Integer param1, List<Float> param2) throws CallError {
+        return ALFuture.of(service().<List<Float>>call("getImageInfoFromAngularInfo", param1, param2));
+    }
+
+    /**
+    * 
+    * 
+    */
+    public List<Float> getImageInfoFromAngularInfoWithResolution(Integer param1, List<Float> param2, Integer param3) throws CallError, InterruptedException {
+        return (List<Float>)service().call("getImageInfoFromAngularInfoWithResolution", param1, param2, param3).get();
+    }
+
+    /**
+    * Primitive version of {@link #getImageInfoFromAngularInfoWithResolution}, values are returned unboxed.
+    * 
+    * 
+    */
+    public float[] getImageInfoFromAngularInfoWithResolutionF(Integer param1, List<Float> param2, Integer param3) throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("getImageInfoFromAngularInfoWithResolution", param1, param2, param3).get());
+    }
+
+    /**
+    * Primitive version of {@link #getImageInfoFromAngularInfoWithResolution}, values are written into dst and their count is returned.
+    * 
+    * 
+    */
+    public int getImageInfoFromAngularInfoWithResolutionInto(float[] dst, Integer param1, List<Float> param2, Integer param3) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("getImageInfoFromAngularInfoWithResolution", param1, param2, param3).get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #getImageInfoFromAngularInfoWithResolution}.
+    * 
+    * 
+    */
+    public ALFuture<List<Float>> getImageInfoFromAngularInfoWithResolutionAsync(Integer param1, List<Float> param2, Integer param3) throws CallError {
+        return ALFuture.of(service().<List<Float>>call("getImageInfoFromAngularInfoWithResolution", param1, param2, param3));
+    }
+
+    /**
+    * Allow image buffer pushing
+    * 
+    * @param cameraIndex  Camera requested.
+    * @param width  int width of image among 1280*960, 640*480, 320*240, 240*160
+    * @param height  int height of image
+    * @param imageBuffer  Image buffer in bitmap form
+    * @return true if the put succeeded
+    */
+    public Boolean putImage(Integer cameraIndex, Integer width, Integer height, java.lang.Object imageBuffer) throws CallError, InterruptedException {
+        return (Boolean)service().call("putImage", cameraIndex, width, height, imageBuffer).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #putImage}.
+    * Allow image buffer pushing
+    * 
+    * @param cameraIndex  Camera requested.
+    * @param width  int width of image among 1280*960, 640*480, 320*240, 240*160
+    * @param height  int height of image
+    * @param imageBuffer  Image buffer in bitmap form
+    * @return true if the put succeeded
+    */
+    public ALFuture<Boolean> putImageAsync(Integer cameraIndex, Integer width, Integer height, java.lang.Object imageBuffer) throws CallError {
+        return ALFuture.of(service().<Boolean>call("putImage", cameraIndex, width, height, imageBuffer));
+    }
+
+    /**
+    * called by the simulator to know expected image parameters
+    * 
+    * @param cameraIndex  Camera requested.
+    * @return ALValue of expected parameters, [int resolution, int framerate]
+    */
+    public java.lang.Object getExpectedImageParameters(Integer cameraIndex) throws CallError, InterruptedException {
+        return (java.lang.Object)service().call("getExpectedImageParameters", cameraIndex).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getExpectedImageParameters}.
+    * called by the simulator to know expected image parameters
+    * 
+    * @param cameraIndex  Camera requested.
+    * @return ALValue of expected parameters, [int resolution, int framerate]
+    */
+    public ALFuture<java.lang.Object> getExpectedImageParametersAsync(Integer cameraIndex) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getExpectedImageParameters", cameraIndex));
+    }
+
+    /**
+    * Get average environment luminance.
+    * 
+    * @param cameraIndex  Camera requested.
+    * @return The average brightness luminance == (15680-Texposure)*256+AverageLuminance
+    */
+    public Integer _getExternalBrightness(Integer cameraIndex) throws CallError, InterruptedException {
+        return (Integer)service().call("_getExternalBrightness", cameraIndex).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getExternalBrightness}.
+    * Get average environment luminance.
+    * 
+    * @param cameraIndex  Camera requested.
+    * @return The average brightness luminance == (15680-Texposure)*256+AverageLuminance
+    */
+    public ALFuture<Integer> _getExternalBrightnessAsync(Integer cameraIndex) throws CallError {
+        return ALFuture.of(service().<Integer>call("_getExternalBrightness", cameraIndex));
+    }
+
+    /**
+    * Callback when client is disconnected
+    * 
+    * @param eventName  The echoed event name
+    * @param eventContents  The name of the client that has disconnected
+    * @param message  The message give when subscribing.
+    */
+    public void onClientDisconnected(String eventName, java.lang.Object eventContents, String message) throws CallError, InterruptedException{
+        if (isAsynchronous)
+            service().call("onClientDisconnected", eventName, eventContents, message);
+        else
+            service().call("onClientDisconnected", eventName, eventContents, message).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #onClientDisconnected}.
+    * Callback when client is disconnected
+    * 
+    * @param eventName  The echoed event name
+    * @param eventContents  The name of the client that has disconnected
+    * @param message  The message give when subscribing.
+    */
+    public ALFuture<Void> onClientDisconnectedAsync(String eventName, java.lang.Object eventContents, String message) throws CallError {
+        return ALFuture.of(service().<Void>call("onClientDisconnected", eventName, eventContents, message));
+    }
+
+    /**
+    * Register to ALVideoDevice (formerly Video Input Module/V.I.M.). When a General Video Module(G.V.M.) registers to ALVideoDevice, a buffer of the requested image format is added to the buffers list.
+Returns the name under which the G.V.M. is registered to ALVideoDevice (useful when two G.V.M. try to register using the same name
+    * 
+    * @param gvmName  Name of the subscribing G.V.M.
+    * @param resolution  Resolution requested. { 0 = kQQVGA, 1 = kQVGA, 2 = kVGA } 
+    * @param colorSpace  Colorspace requested. { 0 = kYuv, 9 = kYUV422, 10 = kYUV, 11 = kRGB, 12 = kHSY, 13 = kBGR } 
+    * @param fps  Fps (frames per second) requested. { 5, 10, 15, 30 } 
+    * @return Name under which the G.V.M. is known from ALVideoDevice, 0 if failed.
+    */
+    public String subscribe(String gvmName, Integer resolution, Integer colorSpace, Integer fps) throws CallError, InterruptedException {
+        String handle = (String)service().call("subscribe", gvmName, resolution, colorSpace, fps).get();
+        recordSubscription("unsubscribe", handle);
+        return handle;
+    }
+
+    /**
+    * Asynchronous version of {@link #subscribe}.
+    * Register to ALVideoDevice (formerly Video Input Module/V.I.M.). When a General Video Module(G.V.M.) registers to ALVideoDevice, a buffer of the requested image format is added to the buffers list.
+Returns the name under which the G.V.M. is registered to ALVideoDevice (useful when two G.V.M. try to register using the same name
+    * 
+    * @param gvmName  Name of the subscribing G.V.M.
+    * @param resolution  Resolution requested. { 0 = kQQVGA, 1 = kQVGA, 2 = kVGA } 
+    * @param colorSpace  Colorspace requested. { 0 = kYuv, 9 = kYUV422, 10 = kYUV, 11 = kRGB, 12 = kHSY, 13 = kBGR } 
+    * @param fps  Fps (frames per second) requested. { 5, 10, 15, 30 } 
+    * @return Name under which the G.V.M. is known from ALVideoDevice, 0 if failed.
+    */
+    public ALFuture<String> subscribeAsync(String gvmName, Integer resolution, Integer colorSpace, Integer fps) throws CallError {
+        return recordSubscriptionHandle(ALFuture.of(service().<String>call("subscribe", gvmName, resolution, colorSpace, fps)), "unsubscribe");
+    }
+
+    /**
+    * Used to unsubscribe all instances for a given G.V.M. (e.g. VisionModule and VisionModule_5) from ALVideoDevice.
+    * 
+    * @param id  Root name of the G.V.M. (e.g. with the example above this will be VisionModule).
+    */
+    public void unsubscribeAllInstances(String id) throws CallError, InterruptedException{
+        if (isAsynchronous)
+            service().call("unsubscribeAllInstances", id);
+        else
+            service().call("unsubscribeAllInstances", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #unsubscribeAllInstances}.
+    * Used to unsubscribe all instances for a given G.V.M. (e.g. VisionModule and VisionModule_5) from ALVideoDevice.
+    * 
+    * @param id  Root name of the G.V.M. (e.g. with the example above this will be VisionModule).
+    */
+    public ALFuture<Void> unsubscribeAllInstancesAsync(String id) throws CallError {
+        return ALFuture.of(service().<Void>call("unsubscribeAllInstances", id));
+    }
+
+    /**
+    * 
+    * 
+    */
+    public Integer getVIMResolution() throws CallError, InterruptedException {
+        return (Integer)service().call("getVIMResolution").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getVIMResolution}.
+    * 
+    * 
+    */
+    public ALFuture<Integer> getVIMResolutionAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("getVIMResolution"));
+    }
+
+    /**
+    * 
+    * 
+    */
+    public Integer getVIMColorSpace() throws CallError, InterruptedException {
+        return (Integer)service().call("getVIMColorSpace").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getVIMColorSpace}.
+    * 
+    * 
+    */
+    public ALFuture<Integer> getVIMColorSpaceAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("getVIMColorSpace"));
+    }
+
+    /**
+    * 
+    * 
+    */
+    public Integer getVIMFrameRate() throws CallError, InterruptedException {
+        return (Integer)service().call("getVIMFrameRate").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getVIMFrameRate}.
+    * 
+    * 
+    */
+    public ALFuture<Integer> getVIMFrameRateAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("getVIMFrameRate"));
+    }
+
+    /**
+    * 
+    * 
+    */
+    public Integer getGVMResolution(String param1) throws CallError, InterruptedException {
+        return (Integer)service().call("getGVMResolution", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getGVMResolution}.
+    * 
+    * 
+    */
+    public ALFuture<Integer> getGVMResolutionAsync(String param1) throws CallError {
+        return ALFuture.of(service().<Integer>call("getGVMResolution", param1));
+    }
+
+    /**
+    * 
+    * 
+    */
+    public Integer getGVMColorSpace(String param1) throws CallError, InterruptedException {
+        return (Integer)service().call("getGVMColorSpace", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getGVMColorSpace}.
+    * 
+    * 
+    */
+    public ALFuture<Integer> getGVMColorSpaceAsync(String param1) throws CallError {
+        return ALFuture.of(service().<Integer>call("getGVMColorSpace", param1));
     }
 
     /**
-    * Release image buffer locked by getDirectRawImagesLocal().
-
     * 
-    * @param name  Name of the subscribing vision module
-    * @return true if success
+    * 
     */
-    public java.lang.Object releaseDirectRawImages(String name) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("releaseDirectRawImages", name).get();
+    public Integer getGVMFrameRate(String param1) throws CallError, InterruptedException {
+        return (Integer)service().call("getGVMFrameRate", param1).get();
     }
 
     /**
-    * Applies transformations to the last image from video source and returns a pointer to a locked ALImage.
-When image is not necessary anymore, a call to releaseImage() is requested.
-
+    * Asynchronous version of {@link #getGVMFrameRate}.
+    * 
     * 
-    * @param name  Name of the subscribing vision module
-    * @return Array of pointer of the locked image buffer, NULL if error.Warning, image pointer is valid only for C++ dynamic library.
     */
-    public java.lang.Object getImagesLocal(String name) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getImagesLocal", name).get();
+    public ALFuture<Integer> getGVMFrameRateAsync(String param1) throws CallError {
+        return ALFuture.of(service().<Integer>call("getGVMFrameRate", param1));
     }
 
     /**
-    * Applies transformations to the last image from video source and fills pFrameOut.
+    * 
+    * 
+    */
+    public Integer getCameraModelID() throws CallError, InterruptedException {
+        return (Integer)service().call("getCameraModelID").get();
+    }
 
+    /**
+    * Asynchronous version of {@link #getCameraModelID}.
     * 
-    * @param name  Name of the subscribing vision module
-    * @return Array containing image informations : 
-    [0] : width;
-    [1] : height;
-    [2] : number of layers;
-    [3] : ColorSpace;
-    [4] : time stamp (highest 32 bits);
-    [5] : time stamp (lowest 32 bits);
-    [6] : array of size height * width * nblayers containing image data;
-    [7] : cameraID;
-    [8] : left angle;
-    [9] : top angle;
-    [10] : right angle;
-    [11] : bottom angle;
+    * 
+    */
+    public ALFuture<Integer> getCameraModelIDAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("getCameraModelID"));
+    }
 
+    /**
+    * Sets the value of a specific parameter for the video source.
+    * 
+    * @param pParam  Camera parameter requested.
+    * @param pNewValue  value requested.
     */
-    public java.lang.Object getImagesRemote(String name) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getImagesRemote", name).get();
+    public void setParam(Integer pParam, Integer pNewValue) throws CallError, InterruptedException{
+        if (isAsynchronous)
+            service().call("setParam", pParam, pNewValue);
+        else
+            service().call("setParam", pParam, pNewValue).get();
     }
 
     /**
-    * Release image buffer locked by getImageLocal().
-If G.V.M. had no locked image buffer, does nothing.
+    * Asynchronous version of {@link #setParam}.
+    * Sets the value of a specific parameter for the video source.
     * 
-    * @param name  Name of the subscribing vision module
-    * @return true if success
+    * @param pParam  Camera parameter requested.
+    * @param pNewValue  value requested.
     */
-    public java.lang.Object releaseImages(String name) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("releaseImages", name).get();
+    public ALFuture<Void> setParamAsync(Integer pParam, Integer pNewValue) throws CallError {
+        return ALFuture.of(service().<Void>call("setParam", pParam, pNewValue));
     }
 
     /**
-    * Background record of an .arv raw format video from the images processed by a vision module
-Actualy it take picture each time the vision module call getDirectRawImageRemote().
+    * Sets the value of a specific parameter for the video source.
     * 
-    * @param id  Name under which the G.V.M. is known from the V.I.M.
-    * @param path  path/name of the video to be recorded
-    * @param totalNumber  number of images to be recorded. 0xFFFFFFFF for "unlimited"
-    * @param period  one image recorded every pPeriod images
-    * @return true if success
+    * @param pParam  Camera parameter requested.
+    * @param pNewValue  value requested.
+    * @param pCameraIndex  Camera requested.
     */
-    public Boolean recordVideo(String id, String path, Integer totalNumber, Integer period) throws CallError, InterruptedException {
-        return (Boolean)service.call("recordVideo", id, path, totalNumber, period).get();
+    public void setParam(Integer pParam, Integer pNewValue, Integer pCameraIndex) throws CallError, InterruptedException{
+        if (isAsynchronous)
+            service().call("setParam", pParam, pNewValue, pCameraIndex);
+        else
+            service().call("setParam", pParam, pNewValue, pCameraIndex).get();
     }
 
     /**
-    * Stop writing the video sequence
+    * Asynchronous version of {@link #setParam}.
+    * Sets the value of a specific parameter for the video source.
     * 
-    * @param id  Name under which the G.V.M. is known from ALVideoDevice.
-    * @return true if success
+    * @param pParam  Camera parameter requested.
+    * @param pNewValue  value requested.
+    * @param pCameraIndex  Camera requested.
     */
-    public Boolean stopVideo(String id) throws CallError, InterruptedException {
-        return (Boolean)service.call("stopVideo", id).get();
+    public ALFuture<Void> setParamAsync(Integer pParam, Integer pNewValue, Integer pCameraIndex) throws CallError {
+        return ALFuture.of(service().<Void>call("setParam", pParam, pNewValue, pCameraIndex));
     }
 
     /**
     * 
     * 
+    * @param pParam  Camera parameter requested.
     */
-    public List<Float> getAngularPositionFromImagePosition(Integer param1, List<Float> param2) throws CallError, InterruptedException {
-        return (List<Float>)service.call("getAngularPositionFromImagePosition", param1, param2).get();
+    public Integer getParam(Integer pParam) throws CallError, InterruptedException {
+        return (Integer)service().call("getParam", pParam).get();
     }
 
     /**
+    * Asynchronous version of {@link #getParam}.
     * 
     * 
+    * @param pParam  Camera parameter requested.
     */
-    public List<Float> getImagePositionFromAngularPosition(Integer param1, List<Float> param2) throws CallError, InterruptedException {
-        return (List<Float>)service.call("getImagePositionFromAngularPosition", param1, param2).get();
+    public ALFuture<Integer> getParamAsync(Integer pParam) throws CallError {
+        return ALFuture.of(service().<Integer>call("getParam", pParam));
     }
 
     /**
     * 
     * 
+    * @param pParam  Camera parameter requested.
+    * @param pCameraIndex  Camera requested.
     */
-    public List<Float> getAngularSizeFromImageSize(Integer param1, List<Float> param2) throws CallError, InterruptedException {
-        return (List<Float>)service.call("getAngularSizeFromImageSize", param1, param2).get();
+    public Integer getParam(Integer pParam, Integer pCameraIndex) throws CallError, InterruptedException {
+        return (Integer)service().call("getParam", pParam, pCameraIndex).get();
     }
 
     /**
+    * Asynchronous version of {@link #getParam}.
     * 
     * 
+    * @param pParam  Camera parameter requested.
+    * @param pCameraIndex  Camera requested.
     */
-    public List<Float> getImageSizeFromAngularSize(Integer param1, List<Float> param2) throws CallError, InterruptedException {
-        return (List<Float>)service.call("getImageSizeFromAngularSize", param1, param2).get();
+    public ALFuture<Integer> getParamAsync(Integer pParam, Integer pCameraIndex) throws CallError {
+        return ALFuture.of(service().<Integer>call("getParam", pParam, pCameraIndex));
     }
 
     /**
     * 
     * 
     */
-    public List<Float> getImageInfoFromAngularInfo(Integer param1, List<Float> param2) throws CallError, InterruptedException {
-        return (List<Float>)service.call("getImageInfoFromAngularInfo", param1, param2).get();
+    public void setParamDefault(Integer param1) throws CallError, InterruptedException{
+        if (isAsynchronous)
+            service().call("setParamDefault", param1);
+        else
+            service().call("setParamDefault", param1).get();
     }
 
     /**
+    * Asynchronous version of {@link #setParamDefault}.
     * 
     * 
     */
-    public List<Float> getImageInfoFromAngularInfoWithResolution(Integer param1, List<Float> param2, Integer param3) throws CallError, InterruptedException {
-        return (List<Float>)service.call("getImageInfoFromAngularInfoWithResolution", param1, param2, param3).get();
+    public ALFuture<Void> setParamDefaultAsync(Integer param1) throws CallError {
+        return ALFuture.of(service().<Void>call("setParamDefault", param1));
     }
 
     /**
-    * Allow image buffer pushing
     * 
-    * @param cameraIndex  Camera requested.
-    * @param width  int width of image among 1280*960, 640*480, 320*240, 240*160
-    * @param height  int height of image
-    * @param imageBuffer  Image buffer in bitmap form
-    * @return true if the put succeeded
+    * 
     */
-    public Boolean putImage(Integer cameraIndex, Integer width, Integer height, java.lang.Object imageBuffer) throws CallError, InterruptedException {
-        return (Boolean)service.call("putImage", cameraIndex, width, height, imageBuffer).get();
+    public List<Float> getAngPosFromImgPos(List<Float> param1) throws CallError, InterruptedException {
+        return (List<Float>)service().call("getAngPosFromImgPos", param1).get();
     }
 
     /**
-    * called by the simulator to know expected image parameters
+    * Primitive version of {@link #getAngPosFromImgPos}, values are returned unboxed.
+    * 
     * 
-    * @param cameraIndex  Camera requested.
-    * @return ALValue of expected parameters, [int resolution, int framerate]
     */
-    public java.lang.Object getExpectedImageParameters(Integer cameraIndex) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getExpectedImageParameters", cameraIndex).get();
+    public float[] getAngPosFromImgPosF(List<Float> param1) throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("getAngPosFromImgPos", param1).get());
     }
 
     /**
-    * Get average environment luminance.
+    * Primitive version of {@link #getAngPosFromImgPos}, values are written into dst and their count is returned.
+    * 
     * 
-    * @param cameraIndex  Camera requested.
-    * @return The average brightness luminance == (15680-Texposure)*256+AverageLuminance
     */
-    public Integer _getExternalBrightness(Integer cameraIndex) throws CallError, InterruptedException {
-        return (Integer)service.call("_getExternalBrightness", cameraIndex).get();
+    public int getAngPosFromImgPosInto(float[] dst, List<Float> param1) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("getAngPosFromImgPos", param1).get(), dst);
     }
 
     /**
-    * Callback when client is disconnected
+    * Asynchronous version of {@link #getAngPosFromImgPos}.
+    * 
     * 
-    * @param eventName  The echoed event name
-    * @param eventContents  The name of the client that has disconnected
-    * @param message  The message give when subscribing.
     */
-    public void onClientDisconnected(String eventName, java.lang.Object eventContents, String message) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("onClientDisconnected", eventName, eventContents, message);
-        else
-            service.call("onClientDisconnected", eventName, eventContents, message).get();
+    public ALFuture<List<Float>> getAngPosFromImgPosAsync(List<Float> param1) throws CallError {
+        return ALFuture.of(service().<List<Float>>call("getAngPosFromImgPos", param1));
     }
 
     /**
-    * Register to ALVideoDevice (formerly Video Input Module/V.I.M.). When a General Video Module(G.V.M.) registers to ALVideoDevice, a buffer of the requested image format is added to the buffers list.
-Returns the name under which the G.V.M. is registered to ALVideoDevice (useful when two G.V.M. try to register using the same name
     * 
-    * @param gvmName  Name of the subscribing G.V.M.
-    * @param resolution  Resolution requested. { 0 = kQQVGA, 1 = kQVGA, 2 = kVGA } 
-    * @param colorSpace  Colorspace requested. { 0 = kYuv, 9 = kYUV422, 10 = kYUV, 11 = kRGB, 12 = kHSY, 13 = kBGR } 
-    * @param fps  Fps (frames per second) requested. { 5, 10, 15, 30 } 
-    * @return Name under which the G.V.M. is known from ALVideoDevice, 0 if failed.
+    * 
     */
-    public String subscribe(String gvmName, Integer resolution, Integer colorSpace, Integer fps) throws CallError, InterruptedException {
-        return (String)service.call("subscribe", gvmName, resolution, colorSpace, fps).get();
+    public List<Float> getImgPosFromAngPos(List<Float> param1) throws CallError, InterruptedException {
+        return (List<Float>)service().call("getImgPosFromAngPos", param1).get();
     }
 
     /**
-    * Used to unsubscribe all instances for a given G.V.M. (e.g. VisionModule and VisionModule_5) from ALVideoDevice.
+    * Primitive version of {@link #getImgPosFromAngPos}, values are returned unboxed.
+    * 
     * 
-    * @param id  Root name of the G.V.M. (e.g. with the example above this will be VisionModule).
     */
-    public void unsubscribeAllInstances(String id) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("unsubscribeAllInstances", id);
-        else
-            service.call("unsubscribeAllInstances", id).get();
+    public float[] getImgPosFromAngPosF(List<Float> param1) throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("getImgPosFromAngPos", param1).get());
     }
 
     /**
+    * Primitive version of {@link #getImgPosFromAngPos}, values are written into dst and their count is returned.
     * 
     * 
     */
-    public Integer getVIMResolution() throws CallError, InterruptedException {
-        return (Integer)service.call("getVIMResolution").get();
+    public int getImgPosFromAngPosInto(float[] dst, List<Float> param1) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("getImgPosFromAngPos", param1).get(), dst);
     }
 
     /**
+    * Asynchronous version of {@link #getImgPosFromAngPos}.
     * 
     * 
     */
-    public Integer getVIMColorSpace() throws CallError, InterruptedException {
-        return (Integer)service.call("getVIMColorSpace").get();
+    public ALFuture<List<Float>> getImgPosFromAngPosAsync(List<Float> param1) throws CallError {
+        return ALFuture.of(service().<List<Float>>call("getImgPosFromAngPos", param1));
     }
 
     /**
     * 
     * 
     */
-    public Integer getVIMFrameRate() throws CallError, InterruptedException {
-        return (Integer)service.call("getVIMFrameRate").get();
+    public List<Float> getAngSizeFromImgSize(List<Float> param1) throws CallError, InterruptedException {
+        return (List<Float>)service().call("getAngSizeFromImgSize", param1).get();
     }
 
     /**
+    * Primitive version of {@link #getAngSizeFromImgSize}, values are returned unboxed.
     * 
     * 
     */
-    public Integer getGVMResolution(String param1) throws CallError, InterruptedException {
-        return (Integer)service.call("getGVMResolution", param1).get();
+    public float[] getAngSizeFromImgSizeF(List<Float> param1) throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("getAngSizeFromImgSize", param1).get());
     }
 
     /**
+    * Primitive version of {@link #getAngSizeFromImgSize}, values are written into dst and their count is returned.
     * 
     * 
     */
-    public Integer getGVMColorSpace(String param1) throws CallError, InterruptedException {
-        return (Integer)service.call("getGVMColorSpace", param1).get();
+    public int getAngSizeFromImgSizeInto(float[] dst, List<Float> param1) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("getAngSizeFromImgSize", param1).get(), dst);
     }
 
     /**
+    * Asynchronous version of {@link #getAngSizeFromImgSize}.
     * 
     * 
     */
-    public Integer getGVMFrameRate(String param1) throws CallError, InterruptedException {
-        return (Integer)service.call("getGVMFrameRate", param1).get();
+    public ALFuture<List<Float>> getAngSizeFromImgSizeAsync(List<Float> param1) throws CallError {
+        return ALFuture.of(service().<List<Float>>call("getAngSizeFromImgSize", param1));
     }
 
     /**
     * 
     * 
     */
-    public Integer getCameraModelID() throws CallError, InterruptedException {
-        return (Integer)service.call("getCameraModelID").get();
+    public List<Float> getImgSizeFromAngSize(List<Float> param1) throws CallError, InterruptedException {
+        return (List<Float>)service().call("getImgSizeFromAngSize", param1).get();
     }
 
     /**
-    * Sets the value of a specific parameter for the video source.
+    * Primitive version of {@link #getImgSizeFromAngSize}, values are returned unboxed.
+    * 
     * 
-    * @param pParam  Camera parameter requested.
-    * @param pNewValue  value requested.
     */
-    public void setParam(Integer pParam, Integer pNewValue) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("setParam", pParam, pNewValue);
-        else
-            service.call("setParam", pParam, pNewValue).get();
+    public float[] getImgSizeFromAngSizeF(List<Float> param1) throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("getImgSizeFromAngSize", param1).get());
     }
 
     /**
-    * Sets the value of a specific parameter for the video source.
+    * Primitive version of {@link #getImgSizeFromAngSize}, values are written into dst and their count is returned.
+    * 
     * 
-    * @param pParam  Camera parameter requested.
-    * @param pNewValue  value requested.
-    * @param pCameraIndex  Camera requested.
     */
-    public void setParam(Integer pParam, Integer pNewValue, Integer pCameraIndex) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("setParam", pParam, pNewValue, pCameraIndex);
-        else
-            service.call("setParam", pParam, pNewValue, pCameraIndex).get();
+    public int getImgSizeFromAngSizeInto(float[] dst, List<Float> param1) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("getImgSizeFromAngSize", param1).get(), dst);
     }
 
     /**
+    * Asynchronous version of {@link #getImgSizeFromAngSize}.
     * 
     * 
-    * @param pParam  Camera parameter requested.
     */
-    public Integer getParam(Integer pParam) throws CallError, InterruptedException {
-        return (Integer)service.call("getParam", pParam).get();
+    public ALFuture<List<Float>> getImgSizeFromAngSizeAsync(List<Float> param1) throws CallError {
+        return ALFuture.of(service().<List<Float>>call("getImgSizeFromAngSize", param1));
     }
 
     /**
     * 
     * 
-    * @param pParam  Camera parameter requested.
-    * @param pCameraIndex  Camera requested.
     */
-    public Integer getParam(Integer pParam, Integer pCameraIndex) throws CallError, InterruptedException {
-        return (Integer)service.call("getParam", pParam, pCameraIndex).get();
+    public List<Float> getImgInfoFromAngInfo(List<Float> param1) throws CallError, InterruptedException {
+        return (List<Float>)service().call("getImgInfoFromAngInfo", param1).get();
     }
 
     /**
+    * Primitive version of {@link #getImgInfoFromAngInfo}, values are returned unboxed.
     * 
     * 
     */
-    public void setParamDefault(Integer param1) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("setParamDefault", param1);
-        else
-            service.call("setParamDefault", param1).get();
+    public float[] getImgInfoFromAngInfoF(List<Float> param1) throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("getImgInfoFromAngInfo", param1).get());
     }
 
     /**
+    * Primitive version of {@link #getImgInfoFromAngInfo}, values are written into dst and their count is returned.
     * 
     * 
     */
-    public List<Float> getAngPosFromImgPos(List<Float> param1) throws CallError, InterruptedException {
-        return (List<Float>)service.call("getAngPosFromImgPos", param1).get();
+    public int getImgInfoFromAngInfoInto(float[] dst, List<Float> param1) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("getImgInfoFromAngInfo", param1).get(), dst);
     }
 
     /**
+    * Asynchronous version of {@link #getImgInfoFromAngInfo}.
     * 
     * 
     */
-    public List<Float> getImgPosFromAngPos(List<Float> param1) throws CallError, InterruptedException {
-        return (List<Float>)service.call("getImgPosFromAngPos", param1).get();
+    public ALFuture<List<Float>> getImgInfoFromAngInfoAsync(List<Float> param1) throws CallError {
+        return ALFuture.of(service().<List<Float>>call("getImgInfoFromAngInfo", param1));
     }
 
     /**
     * 
     * 
     */
-    public List<Float> getAngSizeFromImgSize(List<Float> param1) throws CallError, InterruptedException {
-        return (List<Float>)service.call("getAngSizeFromImgSize", param1).get();
+    public List<Float> getImgInfoFromAngInfoWithRes(List<Float> param1, Integer param2) throws CallError, InterruptedException {
+        return (List<Float>)service().call("getImgInfoFromAngInfoWithRes", param1, param2).get();
     }
 
     /**
+    * Primitive version of {@link #getImgInfoFromAngInfoWithRes}, values are returned unboxed.
     * 
     * 
     */
-    public List<Float> getImgSizeFromAngSize(List<Float> param1) throws CallError, InterruptedException {
-        return (List<Float>)service.call("getImgSizeFromAngSize", param1).get();
+    public float[] getImgInfoFromAngInfoWithResF(List<Float> param1, Integer param2) throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("getImgInfoFromAngInfoWithRes", param1, param2).get());
     }
 
     /**
+    * Primitive version of {@link #getImgInfoFromAngInfoWithRes}, values are written into dst and their count is returned.
     * 
     * 
     */
-    public List<Float> getImgInfoFromAngInfo(List<Float> param1) throws CallError, InterruptedException {
-        return (List<Float>)service.call("getImgInfoFromAngInfo", param1).get();
+    public int getImgInfoFromAngInfoWithResInto(float[] dst, List<Float> param1, Integer param2) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("getImgInfoFromAngInfoWithRes", param1, param2).get(), dst);
     }
 
     /**
+    * Asynchronous version of {@link #getImgInfoFromAngInfoWithRes}.
     * 
     * 
     */
-    public List<Float> getImgInfoFromAngInfoWithRes(List<Float> param1, Integer param2) throws CallError, InterruptedException {
-        return (List<Float>)service.call("getImgInfoFromAngInfoWithRes", param1, param2).get();
+    public ALFuture<List<Float>> getImgInfoFromAngInfoWithResAsync(List<Float> param1, Integer param2) throws CallError {
+        return ALFuture.of(service().<List<Float>>call("getImgInfoFromAngInfoWithRes", param1, param2));
     }
 
     /**
@@ -1169,7 +2628,16 @@ Returns the name under which the G.V.M. is registered to ALVideoDevice (useful w
     * 
     */
     public java.lang.Object resolutionToSizes(Integer param1) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("resolutionToSizes", param1).get();
+        return (java.lang.Object)service().call("resolutionToSizes", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #resolutionToSizes}.
+    * 
+    * 
+    */
+    public ALFuture<java.lang.Object> resolutionToSizesAsync(Integer param1) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("resolutionToSizes", param1));
     }
 
     /**
@@ -1177,7 +2645,16 @@ Returns the name under which the G.V.M. is registered to ALVideoDevice (useful w
     * 
     */
     public Integer sizesToResolution(Integer param1, Integer param2) throws CallError, InterruptedException {
-        return (Integer)service.call("sizesToResolution", param1, param2).get();
+        return (Integer)service().call("sizesToResolution", param1, param2).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #sizesToResolution}.
+    * 
+    * 
+    */
+    public ALFuture<Integer> sizesToResolutionAsync(Integer param1, Integer param2) throws CallError {
+        return ALFuture.of(service().<Integer>call("sizesToResolution", param1, param2));
     }
 
     /**
@@ -1186,7 +2663,17 @@ Returns the name under which the G.V.M. is registered to ALVideoDevice (useful w
     * @return ALValue of expected parameters, [int resolution, int framerate]
     */
     public java.lang.Object getExpectedImageParameters() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getExpectedImageParameters").get();
+        return (java.lang.Object)service().call("getExpectedImageParameters").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getExpectedImageParameters}.
+    * called by the simulator to know expected image parameters
+    * 
+    * @return ALValue of expected parameters, [int resolution, int framerate]
+    */
+    public ALFuture<java.lang.Object> getExpectedImageParametersAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getExpectedImageParameters"));
     }
 
     /**
@@ -1197,7 +2684,19 @@ Returns the name under which the G.V.M. is registered to ALVideoDevice (useful w
     * @return true if setSize worked
     */
     public Boolean setSimCamInputSize(Integer width, Integer height) throws CallError, InterruptedException {
-        return (Boolean)service.call("setSimCamInputSize", width, height).get();
+        return (Boolean)service().call("setSimCamInputSize", width, height).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setSimCamInputSize}.
+    * called by the simulator to know expected image parameters
+    * 
+    * @param width  int width of image among 1280*960, 640*480, 320*240, 240*160
+    * @param height  int height of image among 1280*960, 640*480, 320*240, 240*160
+    * @return true if setSize worked
+    */
+    public ALFuture<Boolean> setSimCamInputSizeAsync(Integer width, Integer height) throws CallError {
+        return ALFuture.of(service().<Boolean>call("setSimCamInputSize", width, height));
     }
 
     /**
@@ -1207,7 +2706,18 @@ Returns the name under which the G.V.M. is registered to ALVideoDevice (useful w
     * @return true if the put succeeded
     */
     public Boolean putImage(java.lang.Object imageBuffer) throws CallError, InterruptedException {
-        return (Boolean)service.call("putImage", imageBuffer).get();
+        return (Boolean)service().call("putImage", imageBuffer).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #putImage}.
+    * Allow image buffer pushing
+    * 
+    * @param imageBuffer  Image buffer in bitmap form
+    * @return true if the put succeeded
+    */
+    public ALFuture<Boolean> putImageAsync(java.lang.Object imageBuffer) throws CallError {
+        return ALFuture.of(service().<Boolean>call("putImage", imageBuffer));
     }
 
     /**
@@ -1217,7 +2727,18 @@ Note that the first module subscribing to ALVideoDevice will launch it automatic
     * @return true if success
     */
     public Boolean startFrameGrabber() throws CallError, InterruptedException {
-        return (Boolean)service.call("startFrameGrabber").get();
+        return (Boolean)service().call("startFrameGrabber").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #startFrameGrabber}.
+    * Advanced method that opens and initialize video source device if it was not before.
+Note that the first module subscribing to ALVideoDevice will launch it automatically.
+    * 
+    * @return true if success
+    */
+    public ALFuture<Boolean> startFrameGrabberAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("startFrameGrabber"));
     }
 
     /**
@@ -1227,7 +2748,18 @@ Note that the last module unsubscribing to ALVideoDevice will launch it automati
     * @return true if success
     */
     public Boolean stopFrameGrabber() throws CallError, InterruptedException {
-        return (Boolean)service.call("stopFrameGrabber").get();
+        return (Boolean)service().call("stopFrameGrabber").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stopFrameGrabber}.
+    * Advanced method that close video source device.
+Note that the last module unsubscribing to ALVideoDevice will launch it automatically.
+    * 
+    * @return true if success
+    */
+    public ALFuture<Boolean> stopFrameGrabberAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("stopFrameGrabber"));
     }
 
     /**
@@ -1236,7 +2768,17 @@ Note that the last module unsubscribing to ALVideoDevice will launch it automati
     * @return true if off
     */
     public Integer isFrameGrabberOff() throws CallError, InterruptedException {
-        return (Integer)service.call("isFrameGrabberOff").get();
+        return (Integer)service().call("isFrameGrabberOff").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isFrameGrabberOff}.
+    * Advanced method that asks if the framegrabber is off.
+    * 
+    * @return true if off
+    */
+    public ALFuture<Integer> isFrameGrabberOffAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("isFrameGrabberOff"));
     }
 
     /**
@@ -1245,7 +2787,17 @@ Note that the last module unsubscribing to ALVideoDevice will launch it automati
     * @param cameraIndex  Camera requested.
     */
     public Float getHorizontalAperture(Integer cameraIndex) throws CallError, InterruptedException {
-        return (Float)service.call("getHorizontalAperture", cameraIndex).get();
+        return (Float)service().call("getHorizontalAperture", cameraIndex).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getHorizontalAperture}.
+    * 
+    * 
+    * @param cameraIndex  Camera requested.
+    */
+    public ALFuture<Float> getHorizontalApertureAsync(Integer cameraIndex) throws CallError {
+        return ALFuture.of(service().<Float>call("getHorizontalAperture", cameraIndex));
     }
 
     /**
@@ -1254,7 +2806,17 @@ Note that the last module unsubscribing to ALVideoDevice will launch it automati
     * @param cameraIndex  Camera requested.
     */
     public Float getVerticalAperture(Integer cameraIndex) throws CallError, InterruptedException {
-        return (Float)service.call("getVerticalAperture", cameraIndex).get();
+        return (Float)service().call("getVerticalAperture", cameraIndex).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getVerticalAperture}.
+    * 
+    * 
+    * @param cameraIndex  Camera requested.
+    */
+    public ALFuture<Float> getVerticalApertureAsync(Integer cameraIndex) throws CallError {
+        return ALFuture.of(service().<Float>call("getVerticalAperture", cameraIndex));
     }
 
 }
@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -23,7 +24,16 @@ public class ALVideoRecorder extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -32,9 +42,18 @@ public class ALVideoRecorder extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -42,7 +61,16 @@ public class ALVideoRecorder extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -51,9 +79,18 @@ public class ALVideoRecorder extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -62,7 +99,17 @@ public class ALVideoRecorder extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -71,7 +118,17 @@ public class ALVideoRecorder extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -80,7 +137,17 @@ public class ALVideoRecorder extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -90,7 +157,18 @@ public class ALVideoRecorder extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -99,7 +177,17 @@ public class ALVideoRecorder extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -110,7 +198,19 @@ public class ALVideoRecorder extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -120,7 +220,18 @@ public class ALVideoRecorder extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -130,9 +241,19 @@ public class ALVideoRecorder extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -141,7 +262,17 @@ public class ALVideoRecorder extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -151,7 +282,18 @@ public class ALVideoRecorder extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -162,9 +304,20 @@ public class ALVideoRecorder extends ALModule {
     */
     public void startRecording(String folderPath, String fileName) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("startRecording", folderPath, fileName);
+            service().call("startRecording", folderPath, fileName);
         else
-            service.call("startRecording", folderPath, fileName).get();
+            service().call("startRecording", folderPath, fileName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #startRecording}.
+    * Starts recording a video. Please note that only one record at a time can be made.
+    * 
+    * @param folderPath  Folder where the video is saved.
+    * @param fileName  Filename used to save the video.
+    */
+    public ALFuture<Void> startRecordingAsync(String folderPath, String fileName) throws CallError {
+        return ALFuture.of(service().<Void>call("startRecording", folderPath, fileName));
     }
 
     /**
@@ -176,9 +329,21 @@ public class ALVideoRecorder extends ALModule {
     */
     public void startRecording(String folderPath, String fileName, Boolean overwrite) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("startRecording", folderPath, fileName, overwrite);
+            service().call("startRecording", folderPath, fileName, overwrite);
         else
-            service.call("startRecording", folderPath, fileName, overwrite).get();
+            service().call("startRecording", folderPath, fileName, overwrite).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #startRecording}.
+    * Starts recording a video. Please note that only one record at a time can be made.
+    * 
+    * @param folderPath  Folder where the video is saved.
+    * @param fileName  Filename used to save the video.
+    * @param overwrite  If false and the filename already exists, an exception is thrown.
+    */
+    public ALFuture<Void> startRecordingAsync(String folderPath, String fileName, Boolean overwrite) throws CallError {
+        return ALFuture.of(service().<Void>call("startRecording", folderPath, fileName, overwrite));
     }
 
     /**
@@ -187,7 +352,17 @@ public class ALVideoRecorder extends ALModule {
     * @return Array of two elements [numRecordedFrames, recordAbsolutePath]
     */
     public java.lang.Object stopRecording() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("stopRecording").get();
+        return (java.lang.Object)service().call("stopRecording").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stopRecording}.
+    * Stops a video record that was launched with startRecording(). The function returns the number of frames that were recorded, as well as the video absolute file name.
+    * 
+    * @return Array of two elements [numRecordedFrames, recordAbsolutePath]
+    */
+    public ALFuture<java.lang.Object> stopRecordingAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("stopRecording"));
     }
 
     /**
@@ -196,7 +371,17 @@ public class ALVideoRecorder extends ALModule {
     * @return True/False
     */
     public Boolean isRecording() throws CallError, InterruptedException {
-        return (Boolean)service.call("isRecording").get();
+        return (Boolean)service().call("isRecording").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRecording}.
+    * Are we currently recording a video
+    * 
+    * @return True/False
+    */
+    public ALFuture<Boolean> isRecordingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRecording"));
     }
 
     /**
@@ -205,9 +390,18 @@ public class ALVideoRecorder extends ALModule {
     */
     public void _recordVideo(String param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_recordVideo", param1);
+            service().call("_recordVideo", param1);
         else
-            service.call("_recordVideo", param1).get();
+            service().call("_recordVideo", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_recordVideo}.
+    * private
+    * 
+    */
+    public ALFuture<Void> _recordVideoAsync(String param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_recordVideo", param1));
     }
 
     /**
@@ -217,9 +411,19 @@ public class ALVideoRecorder extends ALModule {
     */
     public void setCameraID(Integer cameraID) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setCameraID", cameraID);
+            service().call("setCameraID", cameraID);
         else
-            service.call("setCameraID", cameraID).get();
+            service().call("setCameraID", cameraID).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setCameraID}.
+    * Sets camera ID.
+    * 
+    * @param cameraID  ID of the camera to use.
+    */
+    public ALFuture<Void> setCameraIDAsync(Integer cameraID) throws CallError {
+        return ALFuture.of(service().<Void>call("setCameraID", cameraID));
     }
 
     /**
@@ -229,9 +433,19 @@ public class ALVideoRecorder extends ALModule {
     */
     public void setResolution(Integer resolution) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setResolution", resolution);
+            service().call("setResolution", resolution);
         else
-            service.call("setResolution", resolution).get();
+            service().call("setResolution", resolution).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setResolution}.
+    * Sets resolution.
+    * 
+    * @param resolution  New frame resolution.
+    */
+    public ALFuture<Void> setResolutionAsync(Integer resolution) throws CallError {
+        return ALFuture.of(service().<Void>call("setResolution", resolution));
     }
 
     /**
@@ -241,9 +455,19 @@ public class ALVideoRecorder extends ALModule {
     */
     public void setColorSpace(Integer colorSpace) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setColorSpace", colorSpace);
+            service().call("setColorSpace", colorSpace);
         else
-            service.call("setColorSpace", colorSpace).get();
+            service().call("setColorSpace", colorSpace).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setColorSpace}.
+    * Sets color space.
+    * 
+    * @param colorSpace  New color space.
+    */
+    public ALFuture<Void> setColorSpaceAsync(Integer colorSpace) throws CallError {
+        return ALFuture.of(service().<Void>call("setColorSpace", colorSpace));
     }
 
     /**
@@ -253,9 +477,19 @@ public class ALVideoRecorder extends ALModule {
     */
     public void setFrameRate(Float frameRate) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setFrameRate", frameRate);
+            service().call("setFrameRate", frameRate);
         else
-            service.call("setFrameRate", frameRate).get();
+            service().call("setFrameRate", frameRate).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setFrameRate}.
+    * Sets frame rate.
+    * 
+    * @param frameRate  New frame rate.
+    */
+    public ALFuture<Void> setFrameRateAsync(Float frameRate) throws CallError {
+        return ALFuture.of(service().<Void>call("setFrameRate", frameRate));
     }
 
     /**
@@ -265,9 +499,19 @@ public class ALVideoRecorder extends ALModule {
     */
     public void setVideoFormat(String videoFormat) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setVideoFormat", videoFormat);
+            service().call("setVideoFormat", videoFormat);
         else
-            service.call("setVideoFormat", videoFormat).get();
+            service().call("setVideoFormat", videoFormat).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setVideoFormat}.
+    * Sets video format.
+    * 
+    * @param videoFormat  New video format.
+    */
+    public ALFuture<Void> setVideoFormatAsync(String videoFormat) throws CallError {
+        return ALFuture.of(service().<Void>call("setVideoFormat", videoFormat));
     }
 
     /**
@@ -276,7 +520,17 @@ public class ALVideoRecorder extends ALModule {
     * @return Current camera ID.
     */
     public Integer getCameraID() throws CallError, InterruptedException {
-        return (Integer)service.call("getCameraID").get();
+        return (Integer)service().call("getCameraID").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getCameraID}.
+    * Returns current camera ID.
+    * 
+    * @return Current camera ID.
+    */
+    public ALFuture<Integer> getCameraIDAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("getCameraID"));
     }
 
     /**
@@ -285,7 +539,17 @@ public class ALVideoRecorder extends ALModule {
     * @return Current resolution.
     */
     public Integer getResolution() throws CallError, InterruptedException {
-        return (Integer)service.call("getResolution").get();
+        return (Integer)service().call("getResolution").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getResolution}.
+    * Returns current resolution.
+    * 
+    * @return Current resolution.
+    */
+    public ALFuture<Integer> getResolutionAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("getResolution"));
     }
 
     /**
@@ -294,7 +558,17 @@ public class ALVideoRecorder extends ALModule {
     * @return Current color space.
     */
     public Integer getColorSpace() throws CallError, InterruptedException {
-        return (Integer)service.call("getColorSpace").get();
+        return (Integer)service().call("getColorSpace").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getColorSpace}.
+    * Returns current color space.
+    * 
+    * @return Current color space.
+    */
+    public ALFuture<Integer> getColorSpaceAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("getColorSpace"));
     }
 
     /**
@@ -303,7 +577,17 @@ public class ALVideoRecorder extends ALModule {
     * @return Current frame rate.
     */
     public Integer getFrameRate() throws CallError, InterruptedException {
-        return (Integer)service.call("getFrameRate").get();
+        return (Integer)service().call("getFrameRate").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getFrameRate}.
+    * Returns current frame rate.
+    * 
+    * @return Current frame rate.
+    */
+    public ALFuture<Integer> getFrameRateAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("getFrameRate"));
     }
 
     /**
@@ -312,7 +596,17 @@ public class ALVideoRecorder extends ALModule {
     * @return Current video format.
     */
     public String getVideoFormat() throws CallError, InterruptedException {
-        return (String)service.call("getVideoFormat").get();
+        return (String)service().call("getVideoFormat").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getVideoFormat}.
+    * Returns current video format.
+    * 
+    * @return Current video format.
+    */
+    public ALFuture<String> getVideoFormatAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getVideoFormat"));
     }
 
 }
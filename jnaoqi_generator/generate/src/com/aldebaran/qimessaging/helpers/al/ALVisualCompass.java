@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -24,7 +25,17 @@ public class ALVisualCompass extends ALModule {
     * @return Current value of the resolution of the extractor
     */
     public Integer getResolution() throws CallError, InterruptedException {
-        return (Integer)service.call("getResolution").get();
+        return (Integer)service().call("getResolution").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getResolution}.
+    * Gets extractor resolution
+    * 
+    * @return Current value of the resolution of the extractor
+    */
+    public ALFuture<Integer> getResolutionAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("getResolution"));
     }
 
     /**
@@ -33,9 +44,18 @@ public class ALVisualCompass extends ALModule {
     */
     public void _run() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_run");
+            service().call("_run");
         else
-            service.call("_run").get();
+            service().call("_run").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_run}.
+    * 
+    * 
+    */
+    public ALFuture<Void> _runAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_run"));
     }
 
     /**
@@ -45,7 +65,18 @@ public class ALVisualCompass extends ALModule {
     * @return True if the update succeeded, False if not
     */
     public Boolean setResolution(Integer resolution) throws CallError, InterruptedException {
-        return (Boolean)service.call("setResolution", resolution).get();
+        return (Boolean)service().call("setResolution", resolution).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setResolution}.
+    * Sets extractor resolution
+    * 
+    * @param resolution  New resolution
+    * @return True if the update succeeded, False if not
+    */
+    public ALFuture<Boolean> setResolutionAsync(Integer resolution) throws CallError {
+        return ALFuture.of(service().<Boolean>call("setResolution", resolution));
     }
 
     /**
@@ -55,9 +86,19 @@ public class ALVisualCompass extends ALModule {
     */
     public void enableReferenceRefresh(Boolean refresh) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("enableReferenceRefresh", refresh);
+            service().call("enableReferenceRefresh", refresh);
         else
-            service.call("enableReferenceRefresh", refresh).get();
+            service().call("enableReferenceRefresh", refresh).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #enableReferenceRefresh}.
+    * 
+    * 
+    * @param refresh  True if the reference is automatically refreshed at extractor startup; false to use the manually set reference image.
+    */
+    public ALFuture<Void> enableReferenceRefreshAsync(Boolean refresh) throws CallError {
+        return ALFuture.of(service().<Void>call("enableReferenceRefresh", refresh));
     }
 
     /**
@@ -67,7 +108,18 @@ public class ALVisualCompass extends ALModule {
  [1]: Number of keypoints matching.
     */
     public java.lang.Object getMatchingQuality() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMatchingQuality").get();
+        return (java.lang.Object)service().call("getMatchingQuality").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMatchingQuality}.
+    * Returns the reliability of the matching and the compass deviation computations.
+    * 
+    * @return [0]: Percentage of the matched keypoints that are used to compute the deviation (significant if over 50%) 
+ [1]: Number of keypoints matching.
+    */
+    public ALFuture<java.lang.Object> getMatchingQualityAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMatchingQuality"));
     }
 
     /**
@@ -78,9 +130,20 @@ public class ALVisualCompass extends ALModule {
     */
     public void setParameter(String paramName, java.lang.Object value) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setParameter", paramName, value);
+            service().call("setParameter", paramName, value);
         else
-            service.call("setParameter", paramName, value).get();
+            service().call("setParameter", paramName, value).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setParameter}.
+    * DEPRECATED: Sets pause and resolution
+    * 
+    * @param paramName  Name of the parameter to set
+    * @param value  New value
+    */
+    public ALFuture<Void> setParameterAsync(String paramName, java.lang.Object value) throws CallError {
+        return ALFuture.of(service().<Void>call("setParameter", paramName, value));
     }
 
     /**
@@ -91,7 +154,19 @@ public class ALVisualCompass extends ALModule {
     * @param theta  Rotation around the Z axis in radians [-3.1415 to 3.1415].
     */
     public Boolean moveTo(Float x, Float y, Float theta) throws CallError, InterruptedException {
-        return (Boolean)service.call("moveTo", x, y, theta).get();
+        return (Boolean)service().call("moveTo", x, y, theta).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #moveTo}.
+    * Go to input pose (in robot referential).
+    * 
+    * @param x  Distance along the X axis in meters.
+    * @param y  Distance along the Y axis in meters.
+    * @param theta  Rotation around the Z axis in radians [-3.1415 to 3.1415].
+    */
+    public ALFuture<Boolean> moveToAsync(Float x, Float y, Float theta) throws CallError {
+        return ALFuture.of(service().<Boolean>call("moveTo", x, y, theta));
     }
 
     /**
@@ -100,7 +175,17 @@ public class ALVisualCompass extends ALModule {
     * @param x  Algebric distance along the X axis in meters.
     */
     public Boolean moveStraightTo(Float x) throws CallError, InterruptedException {
-        return (Boolean)service.call("moveStraightTo", x).get();
+        return (Boolean)service().call("moveStraightTo", x).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #moveStraightTo}.
+    * Move along the robot X axis.
+    * 
+    * @param x  Algebric distance along the X axis in meters.
+    */
+    public ALFuture<Boolean> moveStraightToAsync(Float x) throws CallError {
+        return ALFuture.of(service().<Boolean>call("moveStraightTo", x));
     }
 
     /**
@@ -109,9 +194,18 @@ public class ALVisualCompass extends ALModule {
     */
     public void _xOnMoveFailed() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_xOnMoveFailed");
+            service().call("_xOnMoveFailed");
         else
-            service.call("_xOnMoveFailed").get();
+            service().call("_xOnMoveFailed").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_xOnMoveFailed}.
+    * 
+    * 
+    */
+    public ALFuture<Void> _xOnMoveFailedAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_xOnMoveFailed"));
     }
 
     /**
@@ -120,9 +214,18 @@ public class ALVisualCompass extends ALModule {
     */
     public void _xOnFootContactChanged(String param1, java.lang.Object param2, String param3) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_xOnFootContactChanged", param1, param2, param3);
+            service().call("_xOnFootContactChanged", param1, param2, param3);
         else
-            service.call("_xOnFootContactChanged", param1, param2, param3).get();
+            service().call("_xOnFootContactChanged", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_xOnFootContactChanged}.
+    * 
+    * 
+    */
+    public ALFuture<Void> _xOnFootContactChangedAsync(String param1, java.lang.Object param2, String param3) throws CallError {
+        return ALFuture.of(service().<Void>call("_xOnFootContactChanged", param1, param2, param3));
     }
 
     /**
@@ -131,9 +234,18 @@ public class ALVisualCompass extends ALModule {
     */
     public void _stopControllers() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_stopControllers");
+            service().call("_stopControllers");
         else
-            service.call("_stopControllers").get();
+            service().call("_stopControllers").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_stopControllers}.
+    * Stops the robot
+    * 
+    */
+    public ALFuture<Void> _stopControllersAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_stopControllers"));
     }
 
     /**
@@ -142,7 +254,17 @@ public class ALVisualCompass extends ALModule {
     * @return Current value of the framerate of the extractor
     */
     public Integer getFrameRate() throws CallError, InterruptedException {
-        return (Integer)service.call("getFrameRate").get();
+        return (Integer)service().call("getFrameRate").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getFrameRate}.
+    * Gets extractor framerate
+    * 
+    * @return Current value of the framerate of the extractor
+    */
+    public ALFuture<Integer> getFrameRateAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("getFrameRate"));
     }
 
     /**
@@ -151,9 +273,18 @@ public class ALVisualCompass extends ALModule {
     */
     public void _resume() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_resume");
+            service().call("_resume");
         else
-            service.call("_resume").get();
+            service().call("_resume").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_resume}.
+    * Allows the robot to resume after stopping.
+    * 
+    */
+    public ALFuture<Void> _resumeAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_resume"));
     }
 
     /**
@@ -164,9 +295,20 @@ public class ALVisualCompass extends ALModule {
     */
     public void _setTranslationParameters(Float pCoefficient, Float thetaThreshold, Float param1, Float param2) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setTranslationParameters", pCoefficient, thetaThreshold, param1, param2);
+            service().call("_setTranslationParameters", pCoefficient, thetaThreshold, param1, param2);
         else
-            service.call("_setTranslationParameters", pCoefficient, thetaThreshold, param1, param2).get();
+            service().call("_setTranslationParameters", pCoefficient, thetaThreshold, param1, param2).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setTranslationParameters}.
+    * Set the rotation controller parameters.
+    * 
+    * @param pCoefficient  Proportional gain of the controller.
+    * @param thetaThreshold  Threshold to consider the gap on theta as error.
+    */
+    public ALFuture<Void> _setTranslationParametersAsync(Float pCoefficient, Float thetaThreshold, Float param1, Float param2) throws CallError {
+        return ALFuture.of(service().<Void>call("_setTranslationParameters", pCoefficient, thetaThreshold, param1, param2));
     }
 
     /**
@@ -178,9 +320,21 @@ public class ALVisualCompass extends ALModule {
     */
     public void _setRotationParameters(java.lang.Object pCoefficient, Float maxRotationSpeed, Float thetaThreshold, Float param1, Float param2, Integer param3) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setRotationParameters", pCoefficient, maxRotationSpeed, thetaThreshold, param1, param2, param3);
+            service().call("_setRotationParameters", pCoefficient, maxRotationSpeed, thetaThreshold, param1, param2, param3);
         else
-            service.call("_setRotationParameters", pCoefficient, maxRotationSpeed, thetaThreshold, param1, param2, param3).get();
+            service().call("_setRotationParameters", pCoefficient, maxRotationSpeed, thetaThreshold, param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setRotationParameters}.
+    * Set the rotation controller parameters.
+    * 
+    * @param pCoefficient  Proportional gain of the controller.
+    * @param maxRotationSpeed  Max robot rotation speed.
+    * @param thetaThreshold  Threshold to consider the gap on theta as an error.
+    */
+    public ALFuture<Void> _setRotationParametersAsync(java.lang.Object pCoefficient, Float maxRotationSpeed, Float thetaThreshold, Float param1, Float param2, Integer param3) throws CallError {
+        return ALFuture.of(service().<Void>call("_setRotationParameters", pCoefficient, maxRotationSpeed, thetaThreshold, param1, param2, param3));
     }
 
     /**
@@ -189,9 +343,18 @@ public class ALVisualCompass extends ALModule {
     */
     public void waitUntilTargetReached() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("waitUntilTargetReached");
+            service().call("waitUntilTargetReached");
         else
-            service.call("waitUntilTargetReached").get();
+            service().call("waitUntilTargetReached").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #waitUntilTargetReached}.
+    * Block the current thread until the target is reached.
+    * 
+    */
+    public ALFuture<Void> waitUntilTargetReachedAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("waitUntilTargetReached"));
     }
 
     /**
@@ -200,9 +363,18 @@ public class ALVisualCompass extends ALModule {
     */
     public void _setOdometryMode(Boolean param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_setOdometryMode", param1);
+            service().call("_setOdometryMode", param1);
         else
-            service.call("_setOdometryMode", param1).get();
+            service().call("_setOdometryMode", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_setOdometryMode}.
+    * 
+    * 
+    */
+    public ALFuture<Void> _setOdometryModeAsync(Boolean param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_setOdometryMode", param1));
     }
 
     /**
@@ -211,7 +383,17 @@ public class ALVisualCompass extends ALModule {
     * @return Id of the current active camera of the extractor
     */
     public Integer getActiveCamera() throws CallError, InterruptedException {
-        return (Integer)service.call("getActiveCamera").get();
+        return (Integer)service().call("getActiveCamera").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getActiveCamera}.
+    * Gets extractor active camera
+    * 
+    * @return Id of the current active camera of the extractor
+    */
+    public ALFuture<Integer> getActiveCameraAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("getActiveCamera"));
     }
 
     /**
@@ -220,7 +402,17 @@ public class ALVisualCompass extends ALModule {
     * @return True if the extractor is paused, False if not
     */
     public Boolean isPaused() throws CallError, InterruptedException {
-        return (Boolean)service.call("isPaused").get();
+        return (Boolean)service().call("isPaused").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isPaused}.
+    * Gets extractor pause status
+    * 
+    * @return True if the extractor is paused, False if not
+    */
+    public ALFuture<Boolean> isPausedAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isPaused"));
     }
 
     /**
@@ -230,7 +422,18 @@ public class ALVisualCompass extends ALModule {
     * @return True if the update succeeded, False if not
     */
     public Boolean setActiveCamera(Integer cameraId) throws CallError, InterruptedException {
-        return (Boolean)service.call("setActiveCamera", cameraId).get();
+        return (Boolean)service().call("setActiveCamera", cameraId).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setActiveCamera}.
+    * Sets extractor active camera
+    * 
+    * @param cameraId  Id of the camera that will become the active camera
+    * @return True if the update succeeded, False if not
+    */
+    public ALFuture<Boolean> setActiveCameraAsync(Integer cameraId) throws CallError {
+        return ALFuture.of(service().<Boolean>call("setActiveCamera", cameraId));
     }
 
     /**
@@ -239,7 +442,17 @@ public class ALVisualCompass extends ALModule {
     * @return True if the extractor is currently processing images, False if not
     */
     public Boolean isProcessing() throws CallError, InterruptedException {
-        return (Boolean)service.call("isProcessing").get();
+        return (Boolean)service().call("isProcessing").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isProcessing}.
+    * Gets extractor running status
+    * 
+    * @return True if the extractor is currently processing images, False if not
+    */
+    public ALFuture<Boolean> isProcessingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isProcessing"));
     }
 
     /**
@@ -249,9 +462,19 @@ public class ALVisualCompass extends ALModule {
     */
     public void pause(Boolean paused) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("pause", paused);
+            service().call("pause", paused);
         else
-            service.call("pause", paused).get();
+            service().call("pause", paused).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #pause}.
+    * Changes the pause status of the extractor
+    * 
+    * @param paused  New pause satus
+    */
+    public ALFuture<Void> pauseAsync(Boolean paused) throws CallError {
+        return ALFuture.of(service().<Void>call("pause", paused));
     }
 
     /**
@@ -260,7 +483,17 @@ public class ALVisualCompass extends ALModule {
     * @return Reference image (formatted as the ALValue from getImageRemote of ALVideoDevice)
     */
     public java.lang.Object getReferenceImage() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getReferenceImage").get();
+        return (java.lang.Object)service().call("getReferenceImage").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getReferenceImage}.
+    * Returns an ALValue containing the image used as a reference.
+    * 
+    * @return Reference image (formatted as the ALValue from getImageRemote of ALVideoDevice)
+    */
+    public ALFuture<java.lang.Object> getReferenceImageAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getReferenceImage"));
     }
 
     /**
@@ -270,9 +503,19 @@ public class ALVisualCompass extends ALModule {
     */
     public void _resumeControllers(Boolean resumeControllers) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_resumeControllers", resumeControllers);
+            service().call("_resumeControllers", resumeControllers);
         else
-            service.call("_resumeControllers", resumeControllers).get();
+            service().call("_resumeControllers", resumeControllers).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_resumeControllers}.
+    * Stops the robot
+    * 
+    * @param resumeControllers  Resume after stopping
+    */
+    public ALFuture<Void> _resumeControllersAsync(Boolean resumeControllers) throws CallError {
+        return ALFuture.of(service().<Void>call("_resumeControllers", resumeControllers));
     }
 
     /**
@@ -281,7 +524,17 @@ public class ALVisualCompass extends ALModule {
     * @return True if the reference image has been successfully set
     */
     public Boolean setCurrentImageAsReference() throws CallError, InterruptedException {
-        return (Boolean)service.call("setCurrentImageAsReference").get();
+        return (Boolean)service().call("setCurrentImageAsReference").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setCurrentImageAsReference}.
+    * Sets the reference image for the compass.
+    * 
+    * @return True if the reference image has been successfully set
+    */
+    public ALFuture<Boolean> setCurrentImageAsReferenceAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("setCurrentImageAsReference"));
     }
 
     /**
@@ -289,7 +542,16 @@ public class ALVisualCompass extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -298,9 +560,18 @@ public class ALVisualCompass extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -308,7 +579,16 @@ public class ALVisualCompass extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -317,9 +597,18 @@ public class ALVisualCompass extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -328,7 +617,17 @@ public class ALVisualCompass extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -337,7 +636,17 @@ public class ALVisualCompass extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -346,7 +655,17 @@ public class ALVisualCompass extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -356,7 +675,18 @@ public class ALVisualCompass extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -365,7 +695,17 @@ public class ALVisualCompass extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -376,7 +716,19 @@ public class ALVisualCompass extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -386,7 +738,18 @@ public class ALVisualCompass extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -396,9 +759,19 @@ public class ALVisualCompass extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -407,7 +780,17 @@ public class ALVisualCompass extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -417,7 +800,18 @@ public class ALVisualCompass extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -428,10 +822,24 @@ public class ALVisualCompass extends ALModule {
     * @param precision  Precision of the extractor if relevant.
     */
     public void subscribe(String name, Integer period, Float precision) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("subscribe", name, period, precision);
-        else
-            service.call("subscribe", name, period, precision).get();
+        if (isAsynchronous) {
+            recordSubscription(ALFuture.of(service().<Void>call("subscribe", name, period, precision)), "unsubscribe", name);
+            return;
+        }
+        service().call("subscribe", name, period, precision).get();
+        recordSubscription("unsubscribe", name);
+    }
+
+    /**
+    * Asynchronous version of {@link #subscribe}.
+    * Subscribes to the extractor. This causes the extractor to start writing information to memory using the keys described by getOutputNames(). These can be accessed in memory using ALMemory.getData("keyName"). In many cases you can avoid calling subscribe on the extractor by just calling ALMemory.subscribeToEvent() supplying a callback method. This will automatically subscribe to the extractor for you.
+    * 
+    * @param name  Name of the module which subscribes.
+    * @param period  Refresh period (in milliseconds) if relevant.
+    * @param precision  Precision of the extractor if relevant.
+    */
+    public ALFuture<Void> subscribeAsync(String name, Integer period, Float precision) throws CallError {
+        return recordSubscription(ALFuture.of(service().<Void>call("subscribe", name, period, precision)), "unsubscribe", name);
     }
 
     /**
@@ -440,10 +848,22 @@ public class ALVisualCompass extends ALModule {
     * @param name  Name of the module which subscribes.
     */
     public void subscribe(String name) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("subscribe", name);
-        else
-            service.call("subscribe", name).get();
+        if (isAsynchronous) {
+            recordSubscription(ALFuture.of(service().<Void>call("subscribe", name)), "unsubscribe", name);
+            return;
+        }
+        service().call("subscribe", name).get();
+        recordSubscription("unsubscribe", name);
+    }
+
+    /**
+    * Asynchronous version of {@link #subscribe}.
+    * Subscribes to the extractor. This causes the extractor to start writing information to memory using the keys described by getOutputNames(). These can be accessed in memory using ALMemory.getData("keyName"). In many cases you can avoid calling subscribe on the extractor by just calling ALMemory.subscribeToEvent() supplying a callback method. This will automatically subscribe to the extractor for you.
+    * 
+    * @param name  Name of the module which subscribes.
+    */
+    public ALFuture<Void> subscribeAsync(String name) throws CallError {
+        return recordSubscription(ALFuture.of(service().<Void>call("subscribe", name)), "unsubscribe", name);
     }
 
     /**
@@ -452,10 +872,22 @@ public class ALVisualCompass extends ALModule {
     * @param name  Name of the module which had subscribed.
     */
     public void unsubscribe(String name) throws CallError, InterruptedException{
-        if (isAsynchronous)
-            service.call("unsubscribe", name);
-        else
-            service.call("unsubscribe", name).get();
+        if (isAsynchronous) {
+            forgetSubscription(ALFuture.of(service().<Void>call("unsubscribe", name)), "unsubscribe", name);
+            return;
+        }
+        service().call("unsubscribe", name).get();
+        forgetSubscription("unsubscribe", name);
+    }
+
+    /**
+    * Asynchronous version of {@link #unsubscribe}.
+    * Unsubscribes from the extractor.
+    * 
+    * @param name  Name of the module which had subscribed.
+    */
+    public ALFuture<Void> unsubscribeAsync(String name) throws CallError {
+        return forgetSubscription(ALFuture.of(service().<Void>call("unsubscribe", name)), "unsubscribe", name);
     }
 
     /**
@@ -466,9 +898,20 @@ public class ALVisualCompass extends ALModule {
     */
     public void updatePeriod(String name, Integer period) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("updatePeriod", name, period);
+            service().call("updatePeriod", name, period);
         else
-            service.call("updatePeriod", name, period).get();
+            service().call("updatePeriod", name, period).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #updatePeriod}.
+    * Updates the period if relevant.
+    * 
+    * @param name  Name of the module which has subscribed.
+    * @param period  Refresh period (in milliseconds).
+    */
+    public ALFuture<Void> updatePeriodAsync(String name, Integer period) throws CallError {
+        return ALFuture.of(service().<Void>call("updatePeriod", name, period));
     }
 
     /**
@@ -479,9 +922,20 @@ public class ALVisualCompass extends ALModule {
     */
     public void updatePrecision(String name, Float precision) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("updatePrecision", name, precision);
+            service().call("updatePrecision", name, precision);
         else
-            service.call("updatePrecision", name, precision).get();
+            service().call("updatePrecision", name, precision).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #updatePrecision}.
+    * Updates the precision if relevant.
+    * 
+    * @param name  Name of the module which has subscribed.
+    * @param precision  Precision of the extractor.
+    */
+    public ALFuture<Void> updatePrecisionAsync(String name, Float precision) throws CallError {
+        return ALFuture.of(service().<Void>call("updatePrecision", name, precision));
     }
 
     /**
@@ -490,7 +944,17 @@ public class ALVisualCompass extends ALModule {
     * @return Refresh period (in milliseconds).
     */
     public Integer getCurrentPeriod() throws CallError, InterruptedException {
-        return (Integer)service.call("getCurrentPeriod").get();
+        return (Integer)service().call("getCurrentPeriod").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getCurrentPeriod}.
+    * Gets the current period.
+    * 
+    * @return Refresh period (in milliseconds).
+    */
+    public ALFuture<Integer> getCurrentPeriodAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("getCurrentPeriod"));
     }
 
     /**
@@ -499,7 +963,17 @@ public class ALVisualCompass extends ALModule {
     * @return Precision of the extractor.
     */
     public Float getCurrentPrecision() throws CallError, InterruptedException {
-        return (Float)service.call("getCurrentPrecision").get();
+        return (Float)service().call("getCurrentPrecision").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getCurrentPrecision}.
+    * Gets the current precision.
+    * 
+    * @return Precision of the extractor.
+    */
+    public ALFuture<Float> getCurrentPrecisionAsync() throws CallError {
+        return ALFuture.of(service().<Float>call("getCurrentPrecision"));
     }
 
     /**
@@ -509,7 +983,18 @@ public class ALVisualCompass extends ALModule {
     * @return Refresh period (in milliseconds).
     */
     public Integer getMyPeriod(String name) throws CallError, InterruptedException {
-        return (Integer)service.call("getMyPeriod", name).get();
+        return (Integer)service().call("getMyPeriod", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMyPeriod}.
+    * Gets the period for a specific subscription.
+    * 
+    * @param name  Name of the module which has subscribed.
+    * @return Refresh period (in milliseconds).
+    */
+    public ALFuture<Integer> getMyPeriodAsync(String name) throws CallError {
+        return ALFuture.of(service().<Integer>call("getMyPeriod", name));
     }
 
     /**
@@ -519,7 +1004,18 @@ public class ALVisualCompass extends ALModule {
     * @return precision of the extractor
     */
     public Float getMyPrecision(String name) throws CallError, InterruptedException {
-        return (Float)service.call("getMyPrecision", name).get();
+        return (Float)service().call("getMyPrecision", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMyPrecision}.
+    * Gets the precision for a specific subscription.
+    * 
+    * @param name  name of the module which has subscribed
+    * @return precision of the extractor
+    */
+    public ALFuture<Float> getMyPrecisionAsync(String name) throws CallError {
+        return ALFuture.of(service().<Float>call("getMyPrecision", name));
     }
 
     /**
@@ -528,7 +1024,17 @@ public class ALVisualCompass extends ALModule {
     * @return Array of names and parameters of all subscribers.
     */
     public java.lang.Object getSubscribersInfo() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getSubscribersInfo").get();
+        return (java.lang.Object)service().call("getSubscribersInfo").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getSubscribersInfo}.
+    * Gets the parameters given by the module.
+    * 
+    * @return Array of names and parameters of all subscribers.
+    */
+    public ALFuture<java.lang.Object> getSubscribersInfoAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getSubscribersInfo"));
     }
 
     /**
@@ -537,7 +1043,17 @@ public class ALVisualCompass extends ALModule {
     * @return Array of values updated by this extractor in ALMemory
     */
     public List<String> getOutputNames() throws CallError, InterruptedException {
-        return (List<String>)service.call("getOutputNames").get();
+        return (List<String>)service().call("getOutputNames").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getOutputNames}.
+    * Get the list of values updated in ALMemory.
+    * 
+    * @return Array of values updated by this extractor in ALMemory
+    */
+    public ALFuture<List<String>> getOutputNamesAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getOutputNames"));
     }
 
     /**
@@ -546,7 +1062,17 @@ public class ALVisualCompass extends ALModule {
     * @return Array of events updated by this extractor in ALMemory
     */
     public List<String> getEventList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getEventList").get();
+        return (List<String>)service().call("getEventList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getEventList}.
+    * Get the list of events updated in ALMemory.
+    * 
+    * @return Array of events updated by this extractor in ALMemory
+    */
+    public ALFuture<List<String>> getEventListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getEventList"));
     }
 
     /**
@@ -555,7 +1081,17 @@ public class ALVisualCompass extends ALModule {
     * @return Array of events updated by this extractor in ALMemory
     */
     public List<String> getMemoryKeyList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMemoryKeyList").get();
+        return (List<String>)service().call("getMemoryKeyList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMemoryKeyList}.
+    * Get the list of events updated in ALMemory.
+    * 
+    * @return Array of events updated by this extractor in ALMemory
+    */
+    public ALFuture<List<String>> getMemoryKeyListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMemoryKeyList"));
     }
 
     /**
@@ -566,7 +1102,19 @@ public class ALVisualCompass extends ALModule {
     * @return True if the update succeeded, False if not
     */
     public Boolean setFrameRate(String subscriberName, Integer framerate) throws CallError, InterruptedException {
-        return (Boolean)service.call("setFrameRate", subscriberName, framerate).get();
+        return (Boolean)service().call("setFrameRate", subscriberName, framerate).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setFrameRate}.
+    * Sets the extractor framerate for a chosen subscriber
+    * 
+    * @param subscriberName  Name of the subcriber
+    * @param framerate  New framerate
+    * @return True if the update succeeded, False if not
+    */
+    public ALFuture<Boolean> setFrameRateAsync(String subscriberName, Integer framerate) throws CallError {
+        return ALFuture.of(service().<Boolean>call("setFrameRate", subscriberName, framerate));
     }
 
     /**
@@ -576,7 +1124,18 @@ public class ALVisualCompass extends ALModule {
     * @return True if the update succeeded, False if not
     */
     public Boolean setFrameRate(Integer framerate) throws CallError, InterruptedException {
-        return (Boolean)service.call("setFrameRate", framerate).get();
+        return (Boolean)service().call("setFrameRate", framerate).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setFrameRate}.
+    * Sets the extractor framerate for all the subscribers
+    * 
+    * @param framerate  New framerate
+    * @return True if the update succeeded, False if not
+    */
+    public ALFuture<Boolean> setFrameRateAsync(Integer framerate) throws CallError {
+        return ALFuture.of(service().<Boolean>call("setFrameRate", framerate));
     }
 
 }
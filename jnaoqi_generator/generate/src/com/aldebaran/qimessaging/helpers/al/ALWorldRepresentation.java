@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -23,7 +24,34 @@ public class ALWorldRepresentation extends ALModule {
     * 
     */
     public List<Float> getPosition6D(String param1, String param2) throws CallError, InterruptedException {
-        return (List<Float>)service.call("getPosition6D", param1, param2).get();
+        return (List<Float>)service().call("getPosition6D", param1, param2).get();
+    }
+
+    /**
+    * Primitive version of {@link #getPosition6D}, values are returned unboxed.
+    * Get the position from one object to another.
+    * 
+    */
+    public float[] getPosition6DF(String param1, String param2) throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("getPosition6D", param1, param2).get());
+    }
+
+    /**
+    * Primitive version of {@link #getPosition6D}, values are written into dst and their count is returned.
+    * Get the position from one object to another.
+    * 
+    */
+    public int getPosition6DInto(float[] dst, String param1, String param2) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("getPosition6D", param1, param2).get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #getPosition6D}.
+    * Get the position from one object to another.
+    * 
+    */
+    public ALFuture<List<Float>> getPosition6DAsync(String param1, String param2) throws CallError {
+        return ALFuture.of(service().<List<Float>>call("getPosition6D", param1, param2));
     }
 
     /**
@@ -31,7 +59,16 @@ public class ALWorldRepresentation extends ALModule {
     * 
     */
     public java.lang.Object selectWithOrder(String param1, String param2, String param3, String param4, String param5) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("selectWithOrder", param1, param2, param3, param4, param5).get();
+        return (java.lang.Object)service().call("selectWithOrder", param1, param2, param3, param4, param5).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #selectWithOrder}.
+    * Select ordered information from a database.
+    * 
+    */
+    public ALFuture<java.lang.Object> selectWithOrderAsync(String param1, String param2, String param3, String param4, String param5) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("selectWithOrder", param1, param2, param3, param4, param5));
     }
 
     /**
@@ -39,7 +76,16 @@ public class ALWorldRepresentation extends ALModule {
     * 
     */
     public String getObjectParentName(String param1) throws CallError, InterruptedException {
-        return (String)service.call("getObjectParentName", param1).get();
+        return (String)service().call("getObjectParentName", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getObjectParentName}.
+    * 
+    * 
+    */
+    public ALFuture<String> getObjectParentNameAsync(String param1) throws CallError {
+        return ALFuture.of(service().<String>call("getObjectParentName", param1));
     }
 
     /**
@@ -47,7 +93,16 @@ public class ALWorldRepresentation extends ALModule {
     * 
     */
     public Integer storeObjectWithReference(String param1, String param2, String param3, List<Float> param4, String param5, java.lang.Object param6) throws CallError, InterruptedException {
-        return (Integer)service.call("storeObjectWithReference", param1, param2, param3, param4, param5, param6).get();
+        return (Integer)service().call("storeObjectWithReference", param1, param2, param3, param4, param5, param6).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #storeObjectWithReference}.
+    * 
+    * 
+    */
+    public ALFuture<Integer> storeObjectWithReferenceAsync(String param1, String param2, String param3, List<Float> param4, String param5, java.lang.Object param6) throws CallError {
+        return ALFuture.of(service().<Integer>call("storeObjectWithReference", param1, param2, param3, param4, param5, param6));
     }
 
     /**
@@ -55,7 +110,16 @@ public class ALWorldRepresentation extends ALModule {
     * 
     */
     public Integer storeObjectAttribute(String param1, String param2, java.lang.Object param3) throws CallError, InterruptedException {
-        return (Integer)service.call("storeObjectAttribute", param1, param2, param3).get();
+        return (Integer)service().call("storeObjectAttribute", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #storeObjectAttribute}.
+    * 
+    * 
+    */
+    public ALFuture<Integer> storeObjectAttributeAsync(String param1, String param2, java.lang.Object param3) throws CallError {
+        return ALFuture.of(service().<Integer>call("storeObjectAttribute", param1, param2, param3));
     }
 
     /**
@@ -63,7 +127,16 @@ public class ALWorldRepresentation extends ALModule {
     * 
     */
     public String getObjectCategory(String param1) throws CallError, InterruptedException {
-        return (String)service.call("getObjectCategory", param1).get();
+        return (String)service().call("getObjectCategory", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getObjectCategory}.
+    * Get the name of the database where the object is stored.
+    * 
+    */
+    public ALFuture<String> getObjectCategoryAsync(String param1) throws CallError {
+        return ALFuture.of(service().<String>call("getObjectCategory", param1));
     }
 
     /**
@@ -71,7 +144,16 @@ public class ALWorldRepresentation extends ALModule {
     * 
     */
     public Integer updatePositionWithReference(String param1, String param2, List<Float> param3, Boolean param4) throws CallError, InterruptedException {
-        return (Integer)service.call("updatePositionWithReference", param1, param2, param3, param4).get();
+        return (Integer)service().call("updatePositionWithReference", param1, param2, param3, param4).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #updatePositionWithReference}.
+    * Update the position of an object relative to another.
+    * 
+    */
+    public ALFuture<Integer> updatePositionWithReferenceAsync(String param1, String param2, List<Float> param3, Boolean param4) throws CallError {
+        return ALFuture.of(service().<Integer>call("updatePositionWithReference", param1, param2, param3, param4));
     }
 
     /**
@@ -79,7 +161,16 @@ public class ALWorldRepresentation extends ALModule {
     * 
     */
     public Integer updateAttribute(String param1, String param2, String param3, java.lang.Object param4) throws CallError, InterruptedException {
-        return (Integer)service.call("updateAttribute", param1, param2, param3, param4).get();
+        return (Integer)service().call("updateAttribute", param1, param2, param3, param4).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #updateAttribute}.
+    * 
+    * 
+    */
+    public ALFuture<Integer> updateAttributeAsync(String param1, String param2, String param3, java.lang.Object param4) throws CallError {
+        return ALFuture.of(service().<Integer>call("updateAttribute", param1, param2, param3, param4));
     }
 
     /**
@@ -88,9 +179,18 @@ public class ALWorldRepresentation extends ALModule {
     */
     public void _startMemoryCheck(Integer param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_startMemoryCheck", param1);
+            service().call("_startMemoryCheck", param1);
         else
-            service.call("_startMemoryCheck", param1).get();
+            service().call("_startMemoryCheck", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_startMemoryCheck}.
+    * 
+    * 
+    */
+    public ALFuture<Void> _startMemoryCheckAsync(Integer param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_startMemoryCheck", param1));
     }
 
     /**
@@ -99,9 +199,18 @@ public class ALWorldRepresentation extends ALModule {
     */
     public void _stopMemoryCheck() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_stopMemoryCheck");
+            service().call("_stopMemoryCheck");
         else
-            service.call("_stopMemoryCheck").get();
+            service().call("_stopMemoryCheck").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_stopMemoryCheck}.
+    * 
+    * 
+    */
+    public ALFuture<Void> _stopMemoryCheckAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("_stopMemoryCheck"));
     }
 
     /**
@@ -109,7 +218,16 @@ public class ALWorldRepresentation extends ALModule {
     * 
     */
     public Integer _beginTransaction(String param1) throws CallError, InterruptedException {
-        return (Integer)service.call("_beginTransaction", param1).get();
+        return (Integer)service().call("_beginTransaction", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_beginTransaction}.
+    * 
+    * 
+    */
+    public ALFuture<Integer> _beginTransactionAsync(String param1) throws CallError {
+        return ALFuture.of(service().<Integer>call("_beginTransaction", param1));
     }
 
     /**
@@ -117,7 +235,16 @@ public class ALWorldRepresentation extends ALModule {
     * 
     */
     public java.lang.Object getPosition(String param1, String param2) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getPosition", param1, param2).get();
+        return (java.lang.Object)service().call("getPosition", param1, param2).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getPosition}.
+    * Get the position of an object with quaternion / translation.
+    * 
+    */
+    public ALFuture<java.lang.Object> getPositionAsync(String param1, String param2) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getPosition", param1, param2));
     }
 
     /**
@@ -125,7 +252,34 @@ public class ALWorldRepresentation extends ALModule {
     * 
     */
     public List<Float> getPosition6DAtTime(String param1, String param2, Integer param3, Integer param4) throws CallError, InterruptedException {
-        return (List<Float>)service.call("getPosition6DAtTime", param1, param2, param3, param4).get();
+        return (List<Float>)service().call("getPosition6DAtTime", param1, param2, param3, param4).get();
+    }
+
+    /**
+    * Primitive version of {@link #getPosition6DAtTime}, values are returned unboxed.
+    * Get the interpolated position of an object
+    * 
+    */
+    public float[] getPosition6DAtTimeF(String param1, String param2, Integer param3, Integer param4) throws CallError, InterruptedException {
+        return toFloatArray((List<Float>)service().call("getPosition6DAtTime", param1, param2, param3, param4).get());
+    }
+
+    /**
+    * Primitive version of {@link #getPosition6DAtTime}, values are written into dst and their count is returned.
+    * Get the interpolated position of an object
+    * 
+    */
+    public int getPosition6DAtTimeInto(float[] dst, String param1, String param2, Integer param3, Integer param4) throws CallError, InterruptedException {
+        return copyInto((List<Float>)service().call("getPosition6DAtTime", param1, param2, param3, param4).get(), dst);
+    }
+
+    /**
+    * Asynchronous version of {@link #getPosition6DAtTime}.
+    * Get the interpolated position of an object
+    * 
+    */
+    public ALFuture<List<Float>> getPosition6DAtTimeAsync(String param1, String param2, Integer param3, Integer param4) throws CallError {
+        return ALFuture.of(service().<List<Float>>call("getPosition6DAtTime", param1, param2, param3, param4));
     }
 
     /**
@@ -133,7 +287,16 @@ public class ALWorldRepresentation extends ALModule {
     * 
     */
     public String getRootName() throws CallError, InterruptedException {
-        return (String)service.call("getRootName").get();
+        return (String)service().call("getRootName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getRootName}.
+    * 
+    * 
+    */
+    public ALFuture<String> getRootNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getRootName"));
     }
 
     /**
@@ -141,7 +304,16 @@ public class ALWorldRepresentation extends ALModule {
     * 
     */
     public List<String> getObjectsInCategory(String param1) throws CallError, InterruptedException {
-        return (List<String>)service.call("getObjectsInCategory", param1).get();
+        return (List<String>)service().call("getObjectsInCategory", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getObjectsInCategory}.
+    * Get the name of the objects stored in the database.
+    * 
+    */
+    public ALFuture<List<String>> getObjectsInCategoryAsync(String param1) throws CallError {
+        return ALFuture.of(service().<List<String>>call("getObjectsInCategory", param1));
     }
 
     /**
@@ -149,7 +321,16 @@ public class ALWorldRepresentation extends ALModule {
     * 
     */
     public Integer save() throws CallError, InterruptedException {
-        return (Integer)service.call("save").get();
+        return (Integer)service().call("save").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #save}.
+    * 
+    * 
+    */
+    public ALFuture<Integer> saveAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("save"));
     }
 
     /**
@@ -157,7 +338,16 @@ public class ALWorldRepresentation extends ALModule {
     * 
     */
     public java.lang.Object select(String param1, String param2, String param3, String param4) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("select", param1, param2, param3, param4).get();
+        return (java.lang.Object)service().call("select", param1, param2, param3, param4).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #select}.
+    * Select information from a database.
+    * 
+    */
+    public ALFuture<java.lang.Object> selectAsync(String param1, String param2, String param3, String param4) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("select", param1, param2, param3, param4));
     }
 
     /**
@@ -165,7 +355,16 @@ public class ALWorldRepresentation extends ALModule {
     * 
     */
     public Integer storeObject(String param1, String param2, List<Float> param3, String param4, java.lang.Object param5) throws CallError, InterruptedException {
-        return (Integer)service.call("storeObject", param1, param2, param3, param4, param5).get();
+        return (Integer)service().call("storeObject", param1, param2, param3, param4, param5).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #storeObject}.
+    * 
+    * 
+    */
+    public ALFuture<Integer> storeObjectAsync(String param1, String param2, List<Float> param3, String param4, java.lang.Object param5) throws CallError {
+        return ALFuture.of(service().<Integer>call("storeObject", param1, param2, param3, param4, param5));
     }
 
     /**
@@ -173,7 +372,16 @@ public class ALWorldRepresentation extends ALModule {
     * 
     */
     public Integer _endTransaction(String param1) throws CallError, InterruptedException {
-        return (Integer)service.call("_endTransaction", param1).get();
+        return (Integer)service().call("_endTransaction", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_endTransaction}.
+    * 
+    * 
+    */
+    public ALFuture<Integer> _endTransactionAsync(String param1) throws CallError {
+        return ALFuture.of(service().<Integer>call("_endTransaction", param1));
     }
 
     /**
@@ -181,7 +389,16 @@ public class ALWorldRepresentation extends ALModule {
     * 
     */
     public Integer updatePosition(String param1, List<Float> param2, Boolean param3) throws CallError, InterruptedException {
-        return (Integer)service.call("updatePosition", param1, param2, param3).get();
+        return (Integer)service().call("updatePosition", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #updatePosition}.
+    * Update the position of an object.
+    * 
+    */
+    public ALFuture<Integer> updatePositionAsync(String param1, List<Float> param2, Boolean param3) throws CallError {
+        return ALFuture.of(service().<Integer>call("updatePosition", param1, param2, param3));
     }
 
     /**
@@ -189,7 +406,16 @@ public class ALWorldRepresentation extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -198,9 +424,18 @@ public class ALWorldRepresentation extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -208,7 +443,16 @@ public class ALWorldRepresentation extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -217,9 +461,18 @@ public class ALWorldRepresentation extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -228,7 +481,17 @@ public class ALWorldRepresentation extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -237,7 +500,17 @@ public class ALWorldRepresentation extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -246,7 +519,17 @@ public class ALWorldRepresentation extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -256,7 +539,18 @@ public class ALWorldRepresentation extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -265,7 +559,17 @@ public class ALWorldRepresentation extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -276,7 +580,19 @@ public class ALWorldRepresentation extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -286,7 +602,18 @@ public class ALWorldRepresentation extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -296,9 +623,19 @@ public class ALWorldRepresentation extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -307,7 +644,17 @@ public class ALWorldRepresentation extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -317,7 +664,18 @@ public class ALWorldRepresentation extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -325,7 +683,16 @@ public class ALWorldRepresentation extends ALModule {
     * 
     */
     public Integer addAttributeToCategory(String param1, String param2, java.lang.Object param3) throws CallError, InterruptedException {
-        return (Integer)service.call("addAttributeToCategory", param1, param2, param3).get();
+        return (Integer)service().call("addAttributeToCategory", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #addAttributeToCategory}.
+    * Add an attribute to a category.
+    * 
+    */
+    public ALFuture<Integer> addAttributeToCategoryAsync(String param1, String param2, java.lang.Object param3) throws CallError {
+        return ALFuture.of(service().<Integer>call("addAttributeToCategory", param1, param2, param3));
     }
 
     /**
@@ -333,7 +700,16 @@ public class ALWorldRepresentation extends ALModule {
     * 
     */
     public Integer clearObject(String param1) throws CallError, InterruptedException {
-        return (Integer)service.call("clearObject", param1).get();
+        return (Integer)service().call("clearObject", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearObject}.
+    * Clear an object.
+    * 
+    */
+    public ALFuture<Integer> clearObjectAsync(String param1) throws CallError {
+        return ALFuture.of(service().<Integer>call("clearObject", param1));
     }
 
     /**
@@ -341,7 +717,16 @@ public class ALWorldRepresentation extends ALModule {
     * 
     */
     public Integer clearOldPositions(String param1, Integer param2) throws CallError, InterruptedException {
-        return (Integer)service.call("clearOldPositions", param1, param2).get();
+        return (Integer)service().call("clearOldPositions", param1, param2).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearOldPositions}.
+    * Clear recording of old positions.
+    * 
+    */
+    public ALFuture<Integer> clearOldPositionsAsync(String param1, Integer param2) throws CallError {
+        return ALFuture.of(service().<Integer>call("clearOldPositions", param1, param2));
     }
 
     /**
@@ -349,7 +734,16 @@ public class ALWorldRepresentation extends ALModule {
     * 
     */
     public Integer createObjectCategory(String param1, Boolean param2) throws CallError, InterruptedException {
-        return (Integer)service.call("createObjectCategory", param1, param2).get();
+        return (Integer)service().call("createObjectCategory", param1, param2).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #createObjectCategory}.
+    * Create a new object category
+    * 
+    */
+    public ALFuture<Integer> createObjectCategoryAsync(String param1, Boolean param2) throws CallError {
+        return ALFuture.of(service().<Integer>call("createObjectCategory", param1, param2));
     }
 
     /**
@@ -357,7 +751,16 @@ public class ALWorldRepresentation extends ALModule {
     * 
     */
     public Integer removeObjectCategory(String param1) throws CallError, InterruptedException {
-        return (Integer)service.call("removeObjectCategory", param1).get();
+        return (Integer)service().call("removeObjectCategory", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #removeObjectCategory}.
+    * Remove an object category
+    * 
+    */
+    public ALFuture<Integer> removeObjectCategoryAsync(String param1) throws CallError {
+        return ALFuture.of(service().<Integer>call("removeObjectCategory", param1));
     }
 
     /**
@@ -365,7 +768,16 @@ public class ALWorldRepresentation extends ALModule {
     * 
     */
     public Boolean objectCategoryExists(String param1) throws CallError, InterruptedException {
-        return (Boolean)service.call("objectCategoryExists", param1).get();
+        return (Boolean)service().call("objectCategoryExists", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #objectCategoryExists}.
+    * Tells if an object category exists
+    * 
+    */
+    public ALFuture<Boolean> objectCategoryExistsAsync(String param1) throws CallError {
+        return ALFuture.of(service().<Boolean>call("objectCategoryExists", param1));
     }
 
     /**
@@ -373,7 +785,16 @@ public class ALWorldRepresentation extends ALModule {
     * 
     */
     public Integer deleteObjectAttribute(String param1, String param2, String param3) throws CallError, InterruptedException {
-        return (Integer)service.call("deleteObjectAttribute", param1, param2, param3).get();
+        return (Integer)service().call("deleteObjectAttribute", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #deleteObjectAttribute}.
+    * Delete an object attribute
+    * 
+    */
+    public ALFuture<Integer> deleteObjectAttributeAsync(String param1, String param2, String param3) throws CallError {
+        return ALFuture.of(service().<Integer>call("deleteObjectAttribute", param1, param2, param3));
     }
 
     /**
@@ -381,7 +802,16 @@ public class ALWorldRepresentation extends ALModule {
     * 
     */
     public Boolean findObject(String param1) throws CallError, InterruptedException {
-        return (Boolean)service.call("findObject", param1).get();
+        return (Boolean)service().call("findObject", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #findObject}.
+    * Check that an object is present.
+    * 
+    */
+    public ALFuture<Boolean> findObjectAsync(String param1) throws CallError {
+        return ALFuture.of(service().<Boolean>call("findObject", param1));
     }
 
     /**
@@ -389,7 +819,16 @@ public class ALWorldRepresentation extends ALModule {
     * 
     */
     public Integer load() throws CallError, InterruptedException {
-        return (Integer)service.call("load").get();
+        return (Integer)service().call("load").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #load}.
+    * 
+    * 
+    */
+    public ALFuture<Integer> loadAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("load"));
     }
 
     /**
@@ -397,7 +836,16 @@ public class ALWorldRepresentation extends ALModule {
     * 
     */
     public java.lang.Object getAttributesFromCategory(String param1) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getAttributesFromCategory", param1).get();
+        return (java.lang.Object)service().call("getAttributesFromCategory", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getAttributesFromCategory}.
+    * Get all attributes from a category if it exists.
+    * 
+    */
+    public ALFuture<java.lang.Object> getAttributesFromCategoryAsync(String param1) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getAttributesFromCategory", param1));
     }
 
     /**
@@ -405,7 +853,16 @@ public class ALWorldRepresentation extends ALModule {
     * 
     */
     public List<String> getChildrenNames(String param1) throws CallError, InterruptedException {
-        return (List<String>)service.call("getChildrenNames", param1).get();
+        return (List<String>)service().call("getChildrenNames", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getChildrenNames}.
+    * Get the direct children of an object.
+    * 
+    */
+    public ALFuture<List<String>> getChildrenNamesAsync(String param1) throws CallError {
+        return ALFuture.of(service().<List<String>>call("getChildrenNames", param1));
     }
 
     /**
@@ -413,7 +870,16 @@ public class ALWorldRepresentation extends ALModule {
     * 
     */
     public List<String> getObjectNames() throws CallError, InterruptedException {
-        return (List<String>)service.call("getObjectNames").get();
+        return (List<String>)service().call("getObjectNames").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getObjectNames}.
+    * Get the name of the objects.
+    * 
+    */
+    public ALFuture<List<String>> getObjectNamesAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getObjectNames"));
     }
 
     /**
@@ -421,7 +887,16 @@ public class ALWorldRepresentation extends ALModule {
     * 
     */
     public java.lang.Object getObjectAttributes(String param1) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getObjectAttributes", param1).get();
+        return (java.lang.Object)service().call("getObjectAttributes", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getObjectAttributes}.
+    * 
+    * 
+    */
+    public ALFuture<java.lang.Object> getObjectAttributesAsync(String param1) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getObjectAttributes", param1));
     }
 
     /**
@@ -429,7 +904,16 @@ public class ALWorldRepresentation extends ALModule {
     * 
     */
     public java.lang.Object getObjectAttributeValues(String param1, String param2, Integer param3) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getObjectAttributeValues", param1, param2, param3).get();
+        return (java.lang.Object)service().call("getObjectAttributeValues", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getObjectAttributeValues}.
+    * 
+    * 
+    */
+    public ALFuture<java.lang.Object> getObjectAttributeValuesAsync(String param1, String param2, Integer param3) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getObjectAttributeValues", param1, param2, param3));
     }
 
     /**
@@ -437,7 +921,16 @@ public class ALWorldRepresentation extends ALModule {
     * 
     */
     public java.lang.Object getObjectLatestAttributes(String param1, Integer param2) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getObjectLatestAttributes", param1, param2).get();
+        return (java.lang.Object)service().call("getObjectLatestAttributes", param1, param2).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getObjectLatestAttributes}.
+    * 
+    * 
+    */
+    public ALFuture<java.lang.Object> getObjectLatestAttributesAsync(String param1, Integer param2) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getObjectLatestAttributes", param1, param2));
     }
 
 }
@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -23,7 +24,16 @@ public class DCM extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -32,9 +42,18 @@ public class DCM extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -42,7 +61,16 @@ public class DCM extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -51,9 +79,18 @@ public class DCM extends ALModule {
     */
     public void exit() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("exit");
+            service().call("exit");
         else
-            service.call("exit").get();
+            service().call("exit").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #exit}.
+    * Exits and unregisters the module.
+    * 
+    */
+    public ALFuture<Void> exitAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("exit"));
     }
 
     /**
@@ -62,7 +99,17 @@ public class DCM extends ALModule {
     * @return A string containing the version of the module.
     */
     public String version() throws CallError, InterruptedException {
-        return (String)service.call("version").get();
+        return (String)service().call("version").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #version}.
+    * Returns the version of the module.
+    * 
+    * @return A string containing the version of the module.
+    */
+    public ALFuture<String> versionAsync() throws CallError {
+        return ALFuture.of(service().<String>call("version"));
     }
 
     /**
@@ -71,7 +118,17 @@ public class DCM extends ALModule {
     * @return returns true
     */
     public Boolean ping() throws CallError, InterruptedException {
-        return (Boolean)service.call("ping").get();
+        return (Boolean)service().call("ping").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #ping}.
+    * Just a ping. Always returns true
+    * 
+    * @return returns true
+    */
+    public ALFuture<Boolean> pingAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("ping"));
     }
 
     /**
@@ -80,7 +137,17 @@ public class DCM extends ALModule {
     * @return An array of method names.
     */
     public List<String> getMethodList() throws CallError, InterruptedException {
-        return (List<String>)service.call("getMethodList").get();
+        return (List<String>)service().call("getMethodList").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodList}.
+    * Retrieves the module's method list.
+    * 
+    * @return An array of method names.
+    */
+    public ALFuture<List<String>> getMethodListAsync() throws CallError {
+        return ALFuture.of(service().<List<String>>call("getMethodList"));
     }
 
     /**
@@ -90,7 +157,18 @@ public class DCM extends ALModule {
     * @return A structure containing the method's description.
     */
     public java.lang.Object getMethodHelp(String methodName) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getMethodHelp", methodName).get();
+        return (java.lang.Object)service().call("getMethodHelp", methodName).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getMethodHelp}.
+    * Retrieves a method's description.
+    * 
+    * @param methodName  The name of the method.
+    * @return A structure containing the method's description.
+    */
+    public ALFuture<java.lang.Object> getMethodHelpAsync(String methodName) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getMethodHelp", methodName));
     }
 
     /**
@@ -99,7 +177,17 @@ public class DCM extends ALModule {
     * @return A structure describing the module.
     */
     public java.lang.Object getModuleHelp() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getModuleHelp").get();
+        return (java.lang.Object)service().call("getModuleHelp").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getModuleHelp}.
+    * Retrieves the module's description.
+    * 
+    * @return A structure describing the module.
+    */
+    public ALFuture<java.lang.Object> getModuleHelpAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getModuleHelp"));
     }
 
     /**
@@ -110,7 +198,19 @@ public class DCM extends ALModule {
     * @return True if the timeout period terminated. False if the method returned.
     */
     public Boolean wait(Integer id, Integer timeoutPeriod) throws CallError, InterruptedException {
-        return (Boolean)service.call("wait", id, timeoutPeriod).get();
+        return (Boolean)service().call("wait", id, timeoutPeriod).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #wait}.
+    * Wait for the end of a long running method that was called using 'post'
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @param timeoutPeriod  The timeout period in ms. To wait indefinately, use a timeoutPeriod of zero.
+    * @return True if the timeout period terminated. False if the method returned.
+    */
+    public ALFuture<Boolean> waitAsync(Integer id, Integer timeoutPeriod) throws CallError {
+        return ALFuture.of(service().<Boolean>call("wait", id, timeoutPeriod));
     }
 
     /**
@@ -120,7 +220,18 @@ public class DCM extends ALModule {
     * @return True if the method is currently running
     */
     public Boolean isRunning(Integer id) throws CallError, InterruptedException {
-        return (Boolean)service.call("isRunning", id).get();
+        return (Boolean)service().call("isRunning", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isRunning}.
+    * Returns true if the method is currently running.
+    * 
+    * @param id  The ID of the method that was returned when calling the method using 'post'
+    * @return True if the method is currently running
+    */
+    public ALFuture<Boolean> isRunningAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Boolean>call("isRunning", id));
     }
 
     /**
@@ -130,9 +241,19 @@ public class DCM extends ALModule {
     */
     public void stop(Integer id) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("stop", id);
+            service().call("stop", id);
         else
-            service.call("stop", id).get();
+            service().call("stop", id).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #stop}.
+    * returns true if the method is currently running
+    * 
+    * @param id  the ID of the method to wait for
+    */
+    public ALFuture<Void> stopAsync(Integer id) throws CallError {
+        return ALFuture.of(service().<Void>call("stop", id));
     }
 
     /**
@@ -141,7 +262,17 @@ public class DCM extends ALModule {
     * @return The name of the parent broker.
     */
     public String getBrokerName() throws CallError, InterruptedException {
-        return (String)service.call("getBrokerName").get();
+        return (String)service().call("getBrokerName").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getBrokerName}.
+    * Gets the name of the parent broker.
+    * 
+    * @return The name of the parent broker.
+    */
+    public ALFuture<String> getBrokerNameAsync() throws CallError {
+        return ALFuture.of(service().<String>call("getBrokerName"));
     }
 
     /**
@@ -151,7 +282,18 @@ public class DCM extends ALModule {
     * @return A string that summarises the usage of the method.
     */
     public String getUsage(String name) throws CallError, InterruptedException {
-        return (String)service.call("getUsage", name).get();
+        return (String)service().call("getUsage", name).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getUsage}.
+    * Gets the method usage string. This summarises how to use the method.
+    * 
+    * @param name  The name of the method.
+    * @return A string that summarises the usage of the method.
+    */
+    public ALFuture<String> getUsageAsync(String name) throws CallError {
+        return ALFuture.of(service().<String>call("getUsage", name));
     }
 
     /**
@@ -161,9 +303,19 @@ public class DCM extends ALModule {
     */
     public void set(java.lang.Object commands) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("set", commands);
+            service().call("set", commands);
         else
-            service.call("set", commands).get();
+            service().call("set", commands).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #set}.
+    * Call this function to send a timed-command list to an actuator
+    * 
+    * @param commands  AL::ALValue with all data
+    */
+    public ALFuture<Void> setAsync(java.lang.Object commands) throws CallError {
+        return ALFuture.of(service().<Void>call("set", commands));
     }
 
     /**
@@ -173,9 +325,19 @@ public class DCM extends ALModule {
     */
     public void setAlias(java.lang.Object commands) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setAlias", commands);
+            service().call("setAlias", commands);
         else
-            service.call("setAlias", commands).get();
+            service().call("setAlias", commands).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setAlias}.
+    * Call this function to send timed-command list to an alias (list of actuators)
+    * 
+    * @param commands  AL::ALValue with all data
+    */
+    public ALFuture<Void> setAliasAsync(java.lang.Object commands) throws CallError {
+        return ALFuture.of(service().<Void>call("setAlias", commands));
     }
 
     /**
@@ -187,9 +349,21 @@ public class DCM extends ALModule {
     */
     public void setAlias(String name, Integer time, List<Float> commands) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setAlias", name, time, commands);
+            service().call("setAlias", name, time, commands);
         else
-            service.call("setAlias", name, time, commands).get();
+            service().call("setAlias", name, time, commands).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setAlias}.
+    * Call this function to send timed-command list to an alias (list of actuators) with "ClearAll" merge startegy
+    * 
+    * @param name  alias name
+    * @param time  time for the timed command
+    * @param commands  std::vector<float> with all commands
+    */
+    public ALFuture<Void> setAliasAsync(String name, Integer time, List<Float> commands) throws CallError {
+        return ALFuture.of(service().<Void>call("setAlias", name, time, commands));
     }
 
     /**
@@ -199,7 +373,18 @@ public class DCM extends ALModule {
     * @return An integer (could be signed) with the DCM time
     */
     public Integer getTime(Integer offset) throws CallError, InterruptedException {
-        return (Integer)service.call("getTime", offset).get();
+        return (Integer)service().call("getTime", offset).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getTime}.
+    * Return the DCM time
+    * 
+    * @param offset  optional time in ms (signed) to add/remove
+    * @return An integer (could be signed) with the DCM time
+    */
+    public ALFuture<Integer> getTimeAsync(Integer offset) throws CallError {
+        return ALFuture.of(service().<Integer>call("getTime", offset));
     }
 
     /**
@@ -209,7 +394,18 @@ public class DCM extends ALModule {
     * @return Same as pParams, but with the name removed if the actuator is not found
     */
     public java.lang.Object createAlias(java.lang.Object alias) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("createAlias", alias).get();
+        return (java.lang.Object)service().call("createAlias", alias).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #createAlias}.
+    * Create or change an alias (list of actuators)
+    * 
+    * @param alias  Alias name and description
+    * @return Same as pParams, but with the name removed if the actuator is not found
+    */
+    public ALFuture<java.lang.Object> createAliasAsync(java.lang.Object alias) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("createAlias", alias));
     }
 
     /**
@@ -218,7 +414,17 @@ public class DCM extends ALModule {
     * @return the STM base name for all device/sensors (1st string in the array) and all devices (2nd string in the array)
     */
     public java.lang.Object getPrefix() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getPrefix").get();
+        return (java.lang.Object)service().call("getPrefix").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getPrefix}.
+    * Return the STM base name
+    * 
+    * @return the STM base name for all device/sensors (1st string in the array) and all devices (2nd string in the array)
+    */
+    public ALFuture<java.lang.Object> getPrefixAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getPrefix"));
     }
 
     /**
@@ -228,9 +434,19 @@ public class DCM extends ALModule {
     */
     public void special(String result) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("special", result);
+            service().call("special", result);
         else
-            service.call("special", result).get();
+            service().call("special", result).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #special}.
+    * Special DCM commands
+    * 
+    * @param result  one string and could be Reset, Version, Chain, Diagnostic, Config
+    */
+    public ALFuture<Void> specialAsync(String result) throws CallError {
+        return ALFuture.of(service().<Void>call("special", result));
     }
 
     /**
@@ -240,9 +456,19 @@ public class DCM extends ALModule {
     */
     public void calibration(java.lang.Object calibrationInput) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("calibration", calibrationInput);
+            service().call("calibration", calibrationInput);
         else
-            service.call("calibration", calibrationInput).get();
+            service().call("calibration", calibrationInput).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #calibration}.
+    * Calibration of a joint
+    * 
+    * @param calibrationInput  A complex ALValue. See red documentation
+    */
+    public ALFuture<Void> calibrationAsync(java.lang.Object calibrationInput) throws CallError {
+        return ALFuture.of(service().<Void>call("calibration", calibrationInput));
     }
 
     /**
@@ -255,7 +481,21 @@ public class DCM extends ALModule {
     * @return Nothing
     */
     public Integer preferences(String action, String target, String keyName, java.lang.Object keyValue) throws CallError, InterruptedException {
-        return (Integer)service.call("preferences", action, target, keyName, keyValue).get();
+        return (Integer)service().call("preferences", action, target, keyName, keyValue).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #preferences}.
+    * Save updated value from DCM in XML pref file
+    * 
+    * @param action  string : 'Save' 'Load' 'Add'
+    * @param target  string : 'Chest' 'Head' 'Main' 'All' 
+    * @param keyName  The name of the key if action = 'Add'.
+    * @param keyValue  The ALVAlue of the key to add
+    * @return Nothing
+    */
+    public ALFuture<Integer> preferencesAsync(String action, String target, String keyName, java.lang.Object keyValue) throws CallError {
+        return ALFuture.of(service().<Integer>call("preferences", action, target, keyName, keyValue));
     }
 
 }
@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -24,9 +25,18 @@ public class LogManager extends ALModule {
     */
     public void log(List<Tuple7<String, Integer, Tuple2<Long, Long>, String, String, String, Integer>> param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("log", param1);
+            service().call("log", param1);
         else
-            service.call("log", param1).get();
+            service().call("log", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #log}.
+    * 
+    * 
+    */
+    public ALFuture<Void> logAsync(List<Tuple7<String, Integer, Tuple2<Long, Long>, String, String, String, Integer>> param1) throws CallError {
+        return ALFuture.of(service().<Void>call("log", param1));
     }
 
     /**
@@ -35,9 +45,18 @@ public class LogManager extends ALModule {
     */
     public void removeProvider(Integer param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("removeProvider", param1);
+            service().call("removeProvider", param1);
         else
-            service.call("removeProvider", param1).get();
+            service().call("removeProvider", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #removeProvider}.
+    * 
+    * 
+    */
+    public ALFuture<Void> removeProviderAsync(Integer param1) throws CallError {
+        return ALFuture.of(service().<Void>call("removeProvider", param1));
     }
 
     /**
@@ -45,7 +64,16 @@ public class LogManager extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -54,9 +82,18 @@ public class LogManager extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -64,7 +101,16 @@ public class LogManager extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -72,7 +118,16 @@ public class LogManager extends ALModule {
     * 
     */
     public Integer addProvider(com.aldebaran.qimessaging.Object param1) throws CallError, InterruptedException {
-        return (Integer)service.call("addProvider", param1).get();
+        return (Integer)service().call("addProvider", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #addProvider}.
+    * 
+    * 
+    */
+    public ALFuture<Integer> addProviderAsync(com.aldebaran.qimessaging.Object param1) throws CallError {
+        return ALFuture.of(service().<Integer>call("addProvider", param1));
     }
 
     /**
@@ -80,7 +135,16 @@ public class LogManager extends ALModule {
     * 
     */
     public com.aldebaran.qimessaging.Object getListener() throws CallError, InterruptedException {
-        return (com.aldebaran.qimessaging.Object)service.call("getListener").get();
+        return (com.aldebaran.qimessaging.Object)service().call("getListener").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getListener}.
+    * 
+    * 
+    */
+    public ALFuture<com.aldebaran.qimessaging.Object> getListenerAsync() throws CallError {
+        return ALFuture.of(service().<com.aldebaran.qimessaging.Object>call("getListener"));
     }
 
 }
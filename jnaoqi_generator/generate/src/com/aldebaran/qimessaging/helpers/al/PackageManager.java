@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -23,7 +24,16 @@ public class PackageManager extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -32,9 +42,18 @@ public class PackageManager extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -42,7 +61,16 @@ public class PackageManager extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -50,7 +78,16 @@ public class PackageManager extends ALModule {
     * 
     */
     public Boolean install(String param1) throws CallError, InterruptedException {
-        return (Boolean)service.call("install", param1).get();
+        return (Boolean)service().call("install", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #install}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> installAsync(String param1) throws CallError {
+        return ALFuture.of(service().<Boolean>call("install", param1));
     }
 
     /**
@@ -58,7 +95,16 @@ public class PackageManager extends ALModule {
     * 
     */
     public Boolean installCheckMd5(String param1, String param2) throws CallError, InterruptedException {
-        return (Boolean)service.call("installCheckMd5", param1, param2).get();
+        return (Boolean)service().call("installCheckMd5", param1, param2).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #installCheckMd5}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> installCheckMd5Async(String param1, String param2) throws CallError {
+        return ALFuture.of(service().<Boolean>call("installCheckMd5", param1, param2));
     }
 
     /**
@@ -66,7 +112,16 @@ public class PackageManager extends ALModule {
     * 
     */
     public Boolean _install(String param1, String param2) throws CallError, InterruptedException {
-        return (Boolean)service.call("_install", param1, param2).get();
+        return (Boolean)service().call("_install", param1, param2).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_install}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> _installAsync(String param1, String param2) throws CallError {
+        return ALFuture.of(service().<Boolean>call("_install", param1, param2));
     }
 
     /**
@@ -74,7 +129,16 @@ public class PackageManager extends ALModule {
     * 
     */
     public Boolean _install(String param1, String param2, String param3) throws CallError, InterruptedException {
-        return (Boolean)service.call("_install", param1, param2, param3).get();
+        return (Boolean)service().call("_install", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_install}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> _installAsync(String param1, String param2, String param3) throws CallError {
+        return ALFuture.of(service().<Boolean>call("_install", param1, param2, param3));
     }
 
     /**
@@ -82,7 +146,16 @@ public class PackageManager extends ALModule {
     * 
     */
     public Boolean _install(String param1, String param2, String param3, Boolean param4) throws CallError, InterruptedException {
-        return (Boolean)service.call("_install", param1, param2, param3, param4).get();
+        return (Boolean)service().call("_install", param1, param2, param3, param4).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_install}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> _installAsync(String param1, String param2, String param3, Boolean param4) throws CallError {
+        return ALFuture.of(service().<Boolean>call("_install", param1, param2, param3, param4));
     }
 
     /**
@@ -91,9 +164,18 @@ public class PackageManager extends ALModule {
     */
     public void setServiceDirectory(String param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("setServiceDirectory", param1);
+            service().call("setServiceDirectory", param1);
         else
-            service.call("setServiceDirectory", param1).get();
+            service().call("setServiceDirectory", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #setServiceDirectory}.
+    * 
+    * 
+    */
+    public ALFuture<Void> setServiceDirectoryAsync(String param1) throws CallError {
+        return ALFuture.of(service().<Void>call("setServiceDirectory", param1));
     }
 
     /**
@@ -101,7 +183,16 @@ public class PackageManager extends ALModule {
     * 
     */
     public Boolean hasPackage(String param1) throws CallError, InterruptedException {
-        return (Boolean)service.call("hasPackage", param1).get();
+        return (Boolean)service().call("hasPackage", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #hasPackage}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> hasPackageAsync(String param1) throws CallError {
+        return ALFuture.of(service().<Boolean>call("hasPackage", param1));
     }
 
     /**
@@ -109,7 +200,16 @@ public class PackageManager extends ALModule {
     * 
     */
     public List<Tuple10<String, String, String, String, String, String, String, String, String, Map<String, java.lang.Object>>> packages2() throws CallError, InterruptedException {
-        return (List<Tuple10<String, String, String, String, String, String, String, String, String, Map<String, java.lang.Object>>>)service.call("packages2").get();
+        return (List<Tuple10<String, String, String, String, String, String, String, String, String, Map<String, java.lang.Object>>>)service().call("packages2").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #packages2}.
+    * 
+    * 
+    */
+    public ALFuture<List<Tuple10<String, String, String, String, String, String, String, String, String, Map<String, java.lang.Object>>>> packages2Async() throws CallError {
+        return ALFuture.of(service().<List<Tuple10<String, String, String, String, String, String, String, String, String, Map<String, java.lang.Object>>>>call("packages2"));
     }
 
     /**
@@ -117,7 +217,16 @@ public class PackageManager extends ALModule {
     * 
     */
     public Tuple10<String, String, String, String, String, String, String, String, String, Map<String, java.lang.Object>> package2(String param1) throws CallError, InterruptedException {
-        return (Tuple10<String, String, String, String, String, String, String, String, String, Map<String, java.lang.Object>>)service.call("package2", param1).get();
+        return (Tuple10<String, String, String, String, String, String, String, String, String, Map<String, java.lang.Object>>)service().call("package2", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #package2}.
+    * 
+    * 
+    */
+    public ALFuture<Tuple10<String, String, String, String, String, String, String, String, String, Map<String, java.lang.Object>>> package2Async(String param1) throws CallError {
+        return ALFuture.of(service().<Tuple10<String, String, String, String, String, String, String, String, String, Map<String, java.lang.Object>>>call("package2", param1));
     }
 
     /**
@@ -125,7 +234,16 @@ public class PackageManager extends ALModule {
     * 
     */
     public String packageIcon(String param1) throws CallError, InterruptedException {
-        return (String)service.call("packageIcon", param1).get();
+        return (String)service().call("packageIcon", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #packageIcon}.
+    * 
+    * 
+    */
+    public ALFuture<String> packageIconAsync(String param1) throws CallError {
+        return ALFuture.of(service().<String>call("packageIcon", param1));
     }
 
     /**
@@ -134,9 +252,18 @@ public class PackageManager extends ALModule {
     */
     public void removePkg(String param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("removePkg", param1);
+            service().call("removePkg", param1);
         else
-            service.call("removePkg", param1).get();
+            service().call("removePkg", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #removePkg}.
+    * 
+    * 
+    */
+    public ALFuture<Void> removePkgAsync(String param1) throws CallError {
+        return ALFuture.of(service().<Void>call("removePkg", param1));
     }
 
     /**
@@ -144,7 +271,16 @@ public class PackageManager extends ALModule {
     * 
     */
     public Integer _getHttpTransferPort() throws CallError, InterruptedException {
-        return (Integer)service.call("_getHttpTransferPort").get();
+        return (Integer)service().call("_getHttpTransferPort").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_getHttpTransferPort}.
+    * 
+    * 
+    */
+    public ALFuture<Integer> _getHttpTransferPortAsync() throws CallError {
+        return ALFuture.of(service().<Integer>call("_getHttpTransferPort"));
     }
 
     /**
@@ -152,7 +288,16 @@ public class PackageManager extends ALModule {
     * 
     */
     public java.lang.Object _openFileTransferSession(String param1) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("_openFileTransferSession", param1).get();
+        return (java.lang.Object)service().call("_openFileTransferSession", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_openFileTransferSession}.
+    * 
+    * 
+    */
+    public ALFuture<java.lang.Object> _openFileTransferSessionAsync(String param1) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("_openFileTransferSession", param1));
     }
 
     /**
@@ -161,9 +306,18 @@ public class PackageManager extends ALModule {
     */
     public void _closeFileTransferSession(String param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("_closeFileTransferSession", param1);
+            service().call("_closeFileTransferSession", param1);
         else
-            service.call("_closeFileTransferSession", param1).get();
+            service().call("_closeFileTransferSession", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_closeFileTransferSession}.
+    * 
+    * 
+    */
+    public ALFuture<Void> _closeFileTransferSessionAsync(String param1) throws CallError {
+        return ALFuture.of(service().<Void>call("_closeFileTransferSession", param1));
     }
 
     /**
@@ -171,7 +325,16 @@ public class PackageManager extends ALModule {
     * 
     */
     public java.lang.Object getPackages() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getPackages").get();
+        return (java.lang.Object)service().call("getPackages").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getPackages}.
+    * 
+    * 
+    */
+    public ALFuture<java.lang.Object> getPackagesAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getPackages"));
     }
 
     /**
@@ -179,7 +342,16 @@ public class PackageManager extends ALModule {
     * 
     */
     public List<Tuple20<String, String, String, String, String, String, String, String, Map<String, String>, Map<String, String>, List<String>, List<Tuple10<String, String, Map<String, String>, Map<String, String>, String, Map<String, List<String>>, Map<String, List<String>>, Map<String, List<String>>, Map<String, List<String>>, List<String>>>, List<Tuple5<String, String, String, String, Map<String, String>>>, String, List<Tuple5<String, String, String, String, String>>, List<Tuple2<String, String>>, List<Tuple3<String, String, Boolean>>, List<String>, List<Tuple3<String, String, Map<String, String>>>, List<String>>> packages() throws CallError, InterruptedException {
-        return (List<Tuple20<String, String, String, String, String, String, String, String, Map<String, String>, Map<String, String>, List<String>, List<Tuple10<String, String, Map<String, String>, Map<String, String>, String, Map<String, List<String>>, Map<String, List<String>>, Map<String, List<String>>, Map<String, List<String>>, List<String>>>, List<Tuple5<String, String, String, String, Map<String, String>>>, String, List<Tuple5<String, String, String, String, String>>, List<Tuple2<String, String>>, List<Tuple3<String, String, Boolean>>, List<String>, List<Tuple3<String, String, Map<String, String>>>, List<String>>>)service.call("packages").get();
+        return (List<Tuple20<String, String, String, String, String, String, String, String, Map<String, String>, Map<String, String>, List<String>, List<Tuple10<String, String, Map<String, String>, Map<String, String>, String, Map<String, List<String>>, Map<String, List<String>>, Map<String, List<String>>, Map<String, List<String>>, List<String>>>, List<Tuple5<String, String, String, String, Map<String, String>>>, String, List<Tuple5<String, String, String, String, String>>, List<Tuple2<String, String>>, List<Tuple3<String, String, Boolean>>, List<String>, List<Tuple3<String, String, Map<String, String>>>, List<String>>>)service().call("packages").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #packages}.
+    * 
+    * 
+    */
+    public ALFuture<List<Tuple20<String, String, String, String, String, String, String, String, Map<String, String>, Map<String, String>, List<String>, List<Tuple10<String, String, Map<String, String>, Map<String, String>, String, Map<String, List<String>>, Map<String, List<String>>, Map<String, List<String>>, Map<String, List<String>>, List<String>>>, List<Tuple5<String, String, String, String, Map<String, String>>>, String, List<Tuple5<String, String, String, String, String>>, List<Tuple2<String, String>>, List<Tuple3<String, String, Boolean>>, List<String>, List<Tuple3<String, String, Map<String, String>>>, List<String>>>> packagesAsync() throws CallError {
+        return ALFuture.of(service().<List<Tuple20<String, String, String, String, String, String, String, String, Map<String, String>, Map<String, String>, List<String>, List<Tuple10<String, String, Map<String, String>, Map<String, String>, String, Map<String, List<String>>, Map<String, List<String>>, Map<String, List<String>>, Map<String, List<String>>, List<String>>>, List<Tuple5<String, String, String, String, Map<String, String>>>, String, List<Tuple5<String, String, String, String, String>>, List<Tuple2<String, String>>, List<Tuple3<String, String, Boolean>>, List<String>, List<Tuple3<String, String, Map<String, String>>>, List<String>>>>call("packages"));
     }
 
     /**
@@ -187,7 +359,16 @@ public class PackageManager extends ALModule {
     * 
     */
     public Tuple20<String, String, String, String, String, String, String, String, Map<String, String>, Map<String, String>, List<String>, List<Tuple10<String, String, Map<String, String>, Map<String, String>, String, Map<String, List<String>>, Map<String, List<String>>, Map<String, List<String>>, Map<String, List<String>>, List<String>>>, List<Tuple5<String, String, String, String, Map<String, String>>>, String, List<Tuple5<String, String, String, String, String>>, List<Tuple2<String, String>>, List<Tuple3<String, String, Boolean>>, List<String>, List<Tuple3<String, String, Map<String, String>>>, List<String>> getPackage2(String param1) throws CallError, InterruptedException {
-        return (Tuple20<String, String, String, String, String, String, String, String, Map<String, String>, Map<String, String>, List<String>, List<Tuple10<String, String, Map<String, String>, Map<String, String>, String, Map<String, List<String>>, Map<String, List<String>>, Map<String, List<String>>, Map<String, List<String>>, List<String>>>, List<Tuple5<String, String, String, String, Map<String, String>>>, String, List<Tuple5<String, String, String, String, String>>, List<Tuple2<String, String>>, List<Tuple3<String, String, Boolean>>, List<String>, List<Tuple3<String, String, Map<String, String>>>, List<String>>)service.call("package", param1).get();
+        return (Tuple20<String, String, String, String, String, String, String, String, Map<String, String>, Map<String, String>, List<String>, List<Tuple10<String, String, Map<String, String>, Map<String, String>, String, Map<String, List<String>>, Map<String, List<String>>, Map<String, List<String>>, Map<String, List<String>>, List<String>>>, List<Tuple5<String, String, String, String, Map<String, String>>>, String, List<Tuple5<String, String, String, String, String>>, List<Tuple2<String, String>>, List<Tuple3<String, String, Boolean>>, List<String>, List<Tuple3<String, String, Map<String, String>>>, List<String>>)service().call("package", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getPackage2}.
+    * 
+    * 
+    */
+    public ALFuture<Tuple20<String, String, String, String, String, String, String, String, Map<String, String>, Map<String, String>, List<String>, List<Tuple10<String, String, Map<String, String>, Map<String, String>, String, Map<String, List<String>>, Map<String, List<String>>, Map<String, List<String>>, Map<String, List<String>>, List<String>>>, List<Tuple5<String, String, String, String, Map<String, String>>>, String, List<Tuple5<String, String, String, String, String>>, List<Tuple2<String, String>>, List<Tuple3<String, String, Boolean>>, List<String>, List<Tuple3<String, String, Map<String, String>>>, List<String>>> getPackage2Async(String param1) throws CallError {
+        return ALFuture.of(service().<Tuple20<String, String, String, String, String, String, String, String, Map<String, String>, Map<String, String>, List<String>, List<Tuple10<String, String, Map<String, String>, Map<String, String>, String, Map<String, List<String>>, Map<String, List<String>>, Map<String, List<String>>, Map<String, List<String>>, List<String>>>, List<Tuple5<String, String, String, String, Map<String, String>>>, String, List<Tuple5<String, String, String, String, String>>, List<Tuple2<String, String>>, List<Tuple3<String, String, Boolean>>, List<String>, List<Tuple3<String, String, Map<String, String>>>, List<String>>>call("package", param1));
     }
 
     /**
@@ -195,7 +376,16 @@ public class PackageManager extends ALModule {
     * 
     */
     public java.lang.Object getPackage(String param1) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getPackage", param1).get();
+        return (java.lang.Object)service().call("getPackage", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getPackage}.
+    * 
+    * 
+    */
+    public ALFuture<java.lang.Object> getPackageAsync(String param1) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getPackage", param1));
     }
 
     /**
@@ -203,7 +393,16 @@ public class PackageManager extends ALModule {
     * 
     */
     public java.lang.Object getPackageIcon(String param1) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("getPackageIcon", param1).get();
+        return (java.lang.Object)service().call("getPackageIcon", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #getPackageIcon}.
+    * 
+    * 
+    */
+    public ALFuture<java.lang.Object> getPackageIconAsync(String param1) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("getPackageIcon", param1));
     }
 
     /**
@@ -211,7 +410,16 @@ public class PackageManager extends ALModule {
     * 
     */
     public Integer install(String param1, String param2) throws CallError, InterruptedException {
-        return (Integer)service.call("install", param1, param2).get();
+        return (Integer)service().call("install", param1, param2).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #install}.
+    * 
+    * 
+    */
+    public ALFuture<Integer> installAsync(String param1, String param2) throws CallError {
+        return ALFuture.of(service().<Integer>call("install", param1, param2));
     }
 
     /**
@@ -219,7 +427,16 @@ public class PackageManager extends ALModule {
     * 
     */
     public Integer install(String param1, String param2, String param3) throws CallError, InterruptedException {
-        return (Integer)service.call("install", param1, param2, param3).get();
+        return (Integer)service().call("install", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #install}.
+    * 
+    * 
+    */
+    public ALFuture<Integer> installAsync(String param1, String param2, String param3) throws CallError {
+        return ALFuture.of(service().<Integer>call("install", param1, param2, param3));
     }
 
     /**
@@ -227,7 +444,16 @@ public class PackageManager extends ALModule {
     * 
     */
     public Integer remove(String param1) throws CallError, InterruptedException {
-        return (Integer)service.call("remove", param1).get();
+        return (Integer)service().call("remove", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #remove}.
+    * 
+    * 
+    */
+    public ALFuture<Integer> removeAsync(String param1) throws CallError {
+        return ALFuture.of(service().<Integer>call("remove", param1));
     }
 
 }
@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -23,7 +24,16 @@ public class ServiceDirectory extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -32,9 +42,18 @@ public class ServiceDirectory extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -42,7 +61,16 @@ public class ServiceDirectory extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -50,7 +78,16 @@ public class ServiceDirectory extends ALModule {
     * 
     */
     public Tuple6<String, Integer, String, Integer, List<String>, String> serviceName(String param1) throws CallError, InterruptedException {
-        return (Tuple6<String, Integer, String, Integer, List<String>, String>)service.call("service", param1).get();
+        return (Tuple6<String, Integer, String, Integer, List<String>, String>)service().call("service", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #serviceName}.
+    * 
+    * 
+    */
+    public ALFuture<Tuple6<String, Integer, String, Integer, List<String>, String>> serviceNameAsync(String param1) throws CallError {
+        return ALFuture.of(service().<Tuple6<String, Integer, String, Integer, List<String>, String>>call("service", param1));
     }
 
     /**
@@ -58,7 +95,16 @@ public class ServiceDirectory extends ALModule {
     * 
     */
     public List<Tuple6<String, Integer, String, Integer, List<String>, String>> services() throws CallError, InterruptedException {
-        return (List<Tuple6<String, Integer, String, Integer, List<String>, String>>)service.call("services").get();
+        return (List<Tuple6<String, Integer, String, Integer, List<String>, String>>)service().call("services").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #services}.
+    * 
+    * 
+    */
+    public ALFuture<List<Tuple6<String, Integer, String, Integer, List<String>, String>>> servicesAsync() throws CallError {
+        return ALFuture.of(service().<List<Tuple6<String, Integer, String, Integer, List<String>, String>>>call("services"));
     }
 
     /**
@@ -66,7 +112,16 @@ public class ServiceDirectory extends ALModule {
     * 
     */
     public Integer registerService(Tuple6<String, Integer, String, Integer, List<String>, String> param1) throws CallError, InterruptedException {
-        return (Integer)service.call("registerService", param1).get();
+        return (Integer)service().call("registerService", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #registerService}.
+    * 
+    * 
+    */
+    public ALFuture<Integer> registerServiceAsync(Tuple6<String, Integer, String, Integer, List<String>, String> param1) throws CallError {
+        return ALFuture.of(service().<Integer>call("registerService", param1));
     }
 
     /**
@@ -75,9 +130,18 @@ public class ServiceDirectory extends ALModule {
     */
     public void unregisterService(Integer param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("unregisterService", param1);
+            service().call("unregisterService", param1);
         else
-            service.call("unregisterService", param1).get();
+            service().call("unregisterService", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #unregisterService}.
+    * 
+    * 
+    */
+    public ALFuture<Void> unregisterServiceAsync(Integer param1) throws CallError {
+        return ALFuture.of(service().<Void>call("unregisterService", param1));
     }
 
     /**
@@ -86,9 +150,18 @@ public class ServiceDirectory extends ALModule {
     */
     public void serviceReady(Integer param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("serviceReady", param1);
+            service().call("serviceReady", param1);
         else
-            service.call("serviceReady", param1).get();
+            service().call("serviceReady", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #serviceReady}.
+    * 
+    * 
+    */
+    public ALFuture<Void> serviceReadyAsync(Integer param1) throws CallError {
+        return ALFuture.of(service().<Void>call("serviceReady", param1));
     }
 
     /**
@@ -97,9 +170,18 @@ public class ServiceDirectory extends ALModule {
     */
     public void updateServiceInfo(Tuple6<String, Integer, String, Integer, List<String>, String> param1) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("updateServiceInfo", param1);
+            service().call("updateServiceInfo", param1);
         else
-            service.call("updateServiceInfo", param1).get();
+            service().call("updateServiceInfo", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #updateServiceInfo}.
+    * 
+    * 
+    */
+    public ALFuture<Void> updateServiceInfoAsync(Tuple6<String, Integer, String, Integer, List<String>, String> param1) throws CallError {
+        return ALFuture.of(service().<Void>call("updateServiceInfo", param1));
     }
 
     /**
@@ -107,7 +189,16 @@ public class ServiceDirectory extends ALModule {
     * 
     */
     public String machineId() throws CallError, InterruptedException {
-        return (String)service.call("machineId").get();
+        return (String)service().call("machineId").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #machineId}.
+    * 
+    * 
+    */
+    public ALFuture<String> machineIdAsync() throws CallError {
+        return ALFuture.of(service().<String>call("machineId"));
     }
 
     /**
@@ -115,7 +206,16 @@ public class ServiceDirectory extends ALModule {
     * 
     */
     public com.aldebaran.qimessaging.Object _socketOfService(Integer param1) throws CallError, InterruptedException {
-        return (com.aldebaran.qimessaging.Object)service.call("_socketOfService", param1).get();
+        return (com.aldebaran.qimessaging.Object)service().call("_socketOfService", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #_socketOfService}.
+    * 
+    * 
+    */
+    public ALFuture<com.aldebaran.qimessaging.Object> _socketOfServiceAsync(Integer param1) throws CallError {
+        return ALFuture.of(service().<com.aldebaran.qimessaging.Object>call("_socketOfService", param1));
     }
 
 }
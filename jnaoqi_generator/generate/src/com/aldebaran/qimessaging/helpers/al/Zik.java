@@ -2,6 +2,7 @@ package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
 import java.util.List;
 import java.util.Map;
@@ -23,7 +24,16 @@ public class Zik extends ALModule {
     * 
     */
     public Boolean isStatsEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isStatsEnabled").get();
+        return (Boolean)service().call("isStatsEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isStatsEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isStatsEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isStatsEnabled"));
     }
 
     /**
@@ -32,9 +42,18 @@ public class Zik extends ALModule {
     */
     public void clearStats() throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("clearStats");
+            service().call("clearStats");
         else
-            service.call("clearStats").get();
+            service().call("clearStats").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #clearStats}.
+    * 
+    * 
+    */
+    public ALFuture<Void> clearStatsAsync() throws CallError {
+        return ALFuture.of(service().<Void>call("clearStats"));
     }
 
     /**
@@ -42,7 +61,16 @@ public class Zik extends ALModule {
     * 
     */
     public Boolean isTraceEnabled() throws CallError, InterruptedException {
-        return (Boolean)service.call("isTraceEnabled").get();
+        return (Boolean)service().call("isTraceEnabled").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #isTraceEnabled}.
+    * 
+    * 
+    */
+    public ALFuture<Boolean> isTraceEnabledAsync() throws CallError {
+        return ALFuture.of(service().<Boolean>call("isTraceEnabled"));
     }
 
     /**
@@ -50,7 +78,16 @@ public class Zik extends ALModule {
     * 
     */
     public java.lang.Object __init__(java.lang.Object param1) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("__init__", param1).get();
+        return (java.lang.Object)service().call("__init__", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #__init__}.
+    * Create a ZikService object and its associated audio sink.
+    * 
+    */
+    public ALFuture<java.lang.Object> __init__Async(java.lang.Object param1) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("__init__", param1));
     }
 
     /**
@@ -64,7 +101,22 @@ public class Zik extends ALModule {
     * 
     */
     public java.lang.Object fade(java.lang.Object param1, java.lang.Object param2) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("fade", param1, param2).get();
+        return (java.lang.Object)service().call("fade", param1, param2).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #fade}.
+    * 
+        Fade playback output volume to `target', in `duration' seconds.
+
+        Keyword arguments:
+        target -- targeted volume, an integer in [0, 100]
+        duration -- fading duration, in seconds
+        
+    * 
+    */
+    public ALFuture<java.lang.Object> fadeAsync(java.lang.Object param1, java.lang.Object param2) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("fade", param1, param2));
     }
 
     /**
@@ -77,7 +129,21 @@ public class Zik extends ALModule {
     * 
     */
     public java.lang.Object fade_out(java.lang.Object param1) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("fade_out", param1).get();
+        return (java.lang.Object)service().call("fade_out", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #fade_out}.
+    * 
+        Fade playback output volume to 0, in `duration' seconds.
+
+        Keyword arguments:
+        duration -- fading duration, in seconds
+        
+    * 
+    */
+    public ALFuture<java.lang.Object> fade_outAsync(java.lang.Object param1) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("fade_out", param1));
     }
 
     /**
@@ -89,7 +155,20 @@ public class Zik extends ALModule {
     * 
     */
     public java.lang.Object get_artist_name(java.lang.Object param1) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("get_artist_name", param1).get();
+        return (java.lang.Object)service().call("get_artist_name", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #get_artist_name}.
+    * 
+        Return the artist full name.
+
+        artist_id -- artist identifier
+        
+    * 
+    */
+    public ALFuture<java.lang.Object> get_artist_nameAsync(java.lang.Object param1) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("get_artist_name", param1));
     }
 
     /**
@@ -101,7 +180,20 @@ public class Zik extends ALModule {
     * 
     */
     public java.lang.Object get_track_artists(java.lang.Object param1) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("get_track_artists", param1).get();
+        return (java.lang.Object)service().call("get_track_artists", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #get_track_artists}.
+    * 
+        Return a list of artist ids for the track.
+
+        track_id -- track identifier
+        
+    * 
+    */
+    public ALFuture<java.lang.Object> get_track_artistsAsync(java.lang.Object param1) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("get_track_artists", param1));
     }
 
     /**
@@ -113,7 +205,20 @@ public class Zik extends ALModule {
     * 
     */
     public java.lang.Object get_track_duration(java.lang.Object param1) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("get_track_duration", param1).get();
+        return (java.lang.Object)service().call("get_track_duration", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #get_track_duration}.
+    * 
+        Return the duration of the track, in milliseconds.
+
+        track_id -- track identifier
+        
+    * 
+    */
+    public ALFuture<java.lang.Object> get_track_durationAsync(java.lang.Object param1) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("get_track_duration", param1));
     }
 
     /**
@@ -125,7 +230,20 @@ public class Zik extends ALModule {
     * 
     */
     public java.lang.Object get_track_title(java.lang.Object param1) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("get_track_title", param1).get();
+        return (java.lang.Object)service().call("get_track_title", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #get_track_title}.
+    * 
+        Return the title of the track.
+
+        track_id -- track identifier
+        
+    * 
+    */
+    public ALFuture<java.lang.Object> get_track_titleAsync(java.lang.Object param1) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("get_track_title", param1));
     }
 
     /**
@@ -133,7 +251,16 @@ public class Zik extends ALModule {
     * 
     */
     public java.lang.Object get_volume() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("get_volume").get();
+        return (java.lang.Object)service().call("get_volume").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #get_volume}.
+    * Get the current playback output volume, in [0, 100].
+    * 
+    */
+    public ALFuture<java.lang.Object> get_volumeAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("get_volume"));
     }
 
     /**
@@ -141,7 +268,16 @@ public class Zik extends ALModule {
     * 
     */
     public java.lang.Object halt() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("halt").get();
+        return (java.lang.Object)service().call("halt").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #halt}.
+    * Stop the currently playing track, if any.
+    * 
+    */
+    public ALFuture<java.lang.Object> haltAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("halt"));
     }
 
     /**
@@ -156,7 +292,23 @@ public class Zik extends ALModule {
     * 
     */
     public java.lang.Object login(java.lang.Object param1, java.lang.Object param2, java.lang.Object param3) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("login", param1, param2, param3).get();
+        return (java.lang.Object)service().call("login", param1, param2, param3).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #login}.
+    * 
+        Login to a music provider.
+
+        Keyword arguments:
+        provider -- the music provider identifier, in ['spotify']
+        login -- the music provider login
+        password -- the associated password
+        
+    * 
+    */
+    public ALFuture<java.lang.Object> loginAsync(java.lang.Object param1, java.lang.Object param2, java.lang.Object param3) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("login", param1, param2, param3));
     }
 
     /**
@@ -164,7 +316,16 @@ public class Zik extends ALModule {
     * 
     */
     public java.lang.Object logout() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("logout").get();
+        return (java.lang.Object)service().call("logout").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #logout}.
+    * Logout, if logged in.
+    * 
+    */
+    public ALFuture<java.lang.Object> logoutAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("logout"));
     }
 
     /**
@@ -172,7 +333,16 @@ public class Zik extends ALModule {
     * 
     */
     public java.lang.Object pause() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("pause").get();
+        return (java.lang.Object)service().call("pause").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #pause}.
+    * Pause the current track playback, and pause streaming as well.
+    * 
+    */
+    public ALFuture<java.lang.Object> pauseAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("pause"));
     }
 
     /**
@@ -185,7 +355,21 @@ public class Zik extends ALModule {
     * 
     */
     public java.lang.Object play(java.lang.Object param1) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("play", param1).get();
+        return (java.lang.Object)service().call("play", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #play}.
+    * 
+        Play a track by its id, obtained via the search_tracks method.
+
+        Keyword arguments:
+        track_id -- a valid track id
+        
+    * 
+    */
+    public ALFuture<java.lang.Object> playAsync(java.lang.Object param1) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("play", param1));
     }
 
     /**
@@ -193,7 +377,16 @@ public class Zik extends ALModule {
     * 
     */
     public java.lang.Object resume() throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("resume").get();
+        return (java.lang.Object)service().call("resume").get();
+    }
+
+    /**
+    * Asynchronous version of {@link #resume}.
+    * Resume the current track playback, and resume streaming as well.
+    * 
+    */
+    public ALFuture<java.lang.Object> resumeAsync() throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("resume"));
     }
 
     /**
@@ -206,7 +399,21 @@ public class Zik extends ALModule {
     * 
     */
     public java.lang.Object search_tracks(java.lang.Object param1) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("search_tracks", param1).get();
+        return (java.lang.Object)service().call("search_tracks", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #search_tracks}.
+    * 
+        Search for a track by title, artist, or both.
+
+        Keyword arguments:
+        query -- a query string, e.g. `daft punk get happy'
+        
+    * 
+    */
+    public ALFuture<java.lang.Object> search_tracksAsync(java.lang.Object param1) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("search_tracks", param1));
     }
 
     /**
@@ -219,7 +426,21 @@ public class Zik extends ALModule {
     * 
     */
     public java.lang.Object set_volume(java.lang.Object param1) throws CallError, InterruptedException {
-        return (java.lang.Object)service.call("set_volume", param1).get();
+        return (java.lang.Object)service().call("set_volume", param1).get();
+    }
+
+    /**
+    * Asynchronous version of {@link #set_volume}.
+    * 
+        Set the playback output volume.
+
+        Keyword arguments:
+        volume -- an integer in [0, 100]
+        
+    * 
+    */
+    public ALFuture<java.lang.Object> set_volumeAsync(java.lang.Object param1) throws CallError {
+        return ALFuture.of(service().<java.lang.Object>call("set_volume", param1));
     }
 
 }
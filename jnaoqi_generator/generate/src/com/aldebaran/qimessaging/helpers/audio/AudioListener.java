@@ -0,0 +1,15 @@
+package com.aldebaran.qimessaging.helpers.audio;
+
+/**
+ * Receives microphone buffers pushed by a {@link MicrophoneCapture}, on the
+ * qimessaging thread that delivered them. The samples array is reused for
+ * the next buffer, copy what must be kept.
+ */
+public interface AudioListener {
+
+    /**
+     * @param samples  interleaved 16 bit samples, frames * channels of them
+     * @param timestamp  robot time of the first frame in microseconds, -1 if unknown
+     */
+    public void onAudio(short[] samples, int frames, int channels, long timestamp);
+}
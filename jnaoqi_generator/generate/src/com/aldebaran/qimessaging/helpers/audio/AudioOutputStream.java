@@ -0,0 +1,251 @@
+package com.aldebaran.qimessaging.helpers.audio;
+
+import com.aldebaran.qimessaging.CallError;
+import com.aldebaran.qimessaging.helpers.ALFutureListener;
+import com.aldebaran.qimessaging.helpers.al.ALAudioDevice;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Plays PCM on the robot loudspeakers through sendRemoteBufferToOutput.
+ *
+ * Bytes written are interleaved stereo 16 bit little endian samples at the
+ * output sample rate of ALAudioDevice. They are cut into buffers sent
+ * asynchronously, a few of them in flight to hide the network jitter.
+ * The first buffer is small so that playback starts early, the following
+ * ones double up to the maximum size. Buffers are pooled, so memory stays
+ * constant whatever the length of the clip.
+ *
+ * <pre>
+ * AudioOutputStream out = new AudioOutputStream(audio);
+ * out.play(new FileInputStream("hello.raw"));
+ * out.close();
+ * </pre>
+ */
+public class AudioOutputStream extends OutputStream {
+
+    /** Largest number of frames accepted by sendRemoteBufferToOutput */
+    public static final int MAX_FRAMES = 16384;
+
+    private static final int FRAME_BYTES = 4;
+
+    private final ALAudioDevice audio;
+    private final int firstFrames;
+    private final int maxFrames;
+    private final Semaphore inFlight;
+    private final BlockingQueue<ByteBuffer> free;
+    private final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+    private final int maxInFlight;
+    private ByteBuffer current;
+    private int chunkFrames;
+    private final AtomicInteger generation = new AtomicInteger();
+    private int bufferGeneration;
+    private boolean closed;
+
+    /**
+     * Sends buffers from 2048 up to 8192 frames, two in flight.
+     */
+    public AudioOutputStream(ALAudioDevice audio) {
+        this(audio, 2048, 8192, 2);
+    }
+
+    /**
+     * @param firstFrames  frames in the first buffer of a clip
+     * @param maxFrames  frames in the following buffers, at most {@link #MAX_FRAMES}
+     * @param maxInFlight  buffers sent and not yet acknowledged
+     */
+    public AudioOutputStream(ALAudioDevice audio, int firstFrames, int maxFrames, int maxInFlight) {
+        this.audio = audio;
+        this.maxFrames = Math.min(MAX_FRAMES, maxFrames);
+        this.firstFrames = Math.min(firstFrames, this.maxFrames);
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.free = new ArrayBlockingQueue<ByteBuffer>(maxInFlight + 1);
+        this.chunkFrames = this.firstFrames;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public synchronized void write(byte[] data, int offset, int length) throws IOException {
+        checkOpen();
+        while (length > 0) {
+            ByteBuffer buffer = buffer();
+            int count = Math.min(length, buffer.remaining());
+            buffer.put(data, offset, count);
+            offset += count;
+            length -= count;
+            if (!buffer.hasRemaining())
+                send();
+        }
+    }
+
+    /**
+     * Plays a whole stream, returning once its last buffer is sent.
+     */
+    public void play(InputStream in) throws IOException {
+        byte[] chunk = new byte[4096];
+        int count;
+        while ((count = in.read(chunk)) >= 0)
+            write(chunk, 0, count);
+        flush();
+    }
+
+    /**
+     * Plays a whole channel, returning once its last buffer is sent.
+     */
+    public void play(ReadableByteChannel in) throws IOException {
+        while (true) {
+            synchronized (this) {
+                checkOpen();
+                ByteBuffer buffer = buffer();
+                if (in.read(buffer) < 0)
+                    break;
+                if (!buffer.hasRemaining())
+                    send();
+            }
+        }
+        flush();
+    }
+
+    /**
+     * Sends the buffered samples without waiting for a full buffer. The
+     * next buffer is small again, as for the start of a new clip.
+     */
+    @Override
+    public synchronized void flush() throws IOException {
+        checkOpen();
+        if (current != null && current.position() >= FRAME_BYTES)
+            send();
+        chunkFrames = firstFrames;
+    }
+
+    /**
+     * Stops playback right away, for barge-in: flushAudioOutputs empties
+     * the robot side queue, answers of the buffers in flight are ignored and
+     * samples buffered on the client are dropped by the next write. Can be
+     * called from any thread, also while a writer waits for a buffer slot.
+     */
+    public void interrupt() throws IOException {
+        generation.incrementAndGet();
+        try {
+            audio.flushAudioOutputs();
+        } catch (CallError e) {
+            throw new IOException("flushAudioOutputs failed: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted during flushAudioOutputs");
+        }
+    }
+
+    /**
+     * Sends the remaining samples and waits until every buffer is acknowledged.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed)
+            return;
+        flush();
+        closed = true;
+        try {
+            inFlight.acquire(maxInFlight);
+            inFlight.release(maxInFlight);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while draining");
+        }
+        checkFailure();
+    }
+
+    private ByteBuffer buffer() {
+        int latest = generation.get();
+        if (bufferGeneration != latest) {
+            bufferGeneration = latest;
+            chunkFrames = firstFrames;
+            if (current != null) {
+                free.offer(current);
+                current = null;
+            }
+        }
+        if (current == null) {
+            current = free.poll();
+            if (current == null)
+                current = ByteBuffer.allocate(maxFrames * FRAME_BYTES);
+            current.clear();
+            current.limit(chunkFrames * FRAME_BYTES);
+        }
+        return current;
+    }
+
+    private void send() throws IOException {
+        checkFailure();
+        final ByteBuffer buffer = current;
+        current = null;
+        int frames = buffer.position() / FRAME_BYTES;
+        buffer.limit(frames * FRAME_BYTES);
+        buffer.position(0);
+        chunkFrames = Math.min(maxFrames, chunkFrames * 2);
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            free.offer(buffer);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while sending audio");
+        }
+        final int sent = generation.get();
+        if (sent != bufferGeneration) {
+            // Filled before an interrupt
+            done(buffer);
+            return;
+        }
+        try {
+            audio.sendRemoteBufferToOutputAsync(frames, buffer).addListener(new ALFutureListener<Boolean>() {
+                public void onSuccess(Boolean accepted) {
+                    if (!Boolean.TRUE.equals(accepted) && sent == generation.get())
+                        failure.compareAndSet(null, new IOException("Buffer refused by ALAudioDevice"));
+                    done(buffer);
+                }
+
+                public void onFailure(Throwable error) {
+                    if (sent == generation.get())
+                        failure.compareAndSet(null, error);
+                    done(buffer);
+                }
+            });
+        } catch (CallError e) {
+            done(buffer);
+            throw new IOException("sendRemoteBufferToOutput failed: " + e.getMessage());
+        }
+    }
+
+    private void done(ByteBuffer buffer) {
+        free.offer(buffer);
+        inFlight.release();
+    }
+
+    private void checkOpen() throws IOException {
+        if (closed)
+            throw new IOException("Stream closed");
+    }
+
+    private void checkFailure() throws IOException {
+        Throwable error = failure.getAndSet(null);
+        if (error instanceof IOException)
+            throw (IOException) error;
+        if (error != null)
+            throw new IOException("Audio output failed: " + error.getMessage());
+    }
+}
@@ -0,0 +1,175 @@
+package com.aldebaran.qimessaging.helpers.audio;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock free ring of interleaved 16 bit samples, for one writer and one
+ * reader.
+ *
+ * Positions count frames, a frame holding one sample per channel, since
+ * the start of the capture. When the reader falls behind the writer drops
+ * the oldest frames: a read racing with such an overwrite notices it and
+ * starts again from the new oldest frame. Each written block carries the
+ * robot time of its first frame, so every frame position maps to a
+ * timestamp.
+ */
+public class AudioRingBuffer {
+
+    private final short[] samples;
+    private final int channels;
+    private final int capacity;
+    private final int sampleRate;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong overruns = new AtomicLong();
+    private final Object signal = new Object();
+    private volatile boolean waiting;
+    private volatile long[] anchor;
+
+    /**
+     * @param frames  number of frames held before the oldest are dropped
+     */
+    public AudioRingBuffer(int channels, int sampleRate, int frames) {
+        this.channels = channels;
+        this.sampleRate = sampleRate;
+        this.capacity = frames;
+        this.samples = new short[frames * channels];
+    }
+
+    public int getChannels() {
+        return channels;
+    }
+
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * @return position of the next frame to be written
+     */
+    public long getWritePosition() {
+        return head.get();
+    }
+
+    /**
+     * @return position of the next frame to be read
+     */
+    public long getReadPosition() {
+        return tail.get();
+    }
+
+    /**
+     * @return frames waiting to be read
+     */
+    public int available() {
+        return (int) (head.get() - tail.get());
+    }
+
+    /**
+     * @return frames dropped because the reader was late
+     */
+    public long getOverrunCount() {
+        return overruns.get();
+    }
+
+    /**
+     * @return robot time of a frame in microseconds, -1 before the first write
+     */
+    public long timestampOf(long position) {
+        long[] frameAndTime = anchor;
+        if (frameAndTime == null)
+            return -1;
+        return frameAndTime[1] + (position - frameAndTime[0]) * 1000000L / sampleRate;
+    }
+
+    /**
+     * Appends frames, dropping the oldest unread ones if needed.
+     * @param timestamp  robot time of the first frame in microseconds, -1 if unknown
+     */
+    public void write(short[] src, int offset, int frames, long timestamp) {
+        if (frames > capacity) {
+            offset += (frames - capacity) * channels;
+            if (timestamp >= 0)
+                timestamp += (long) (frames - capacity) * 1000000L / sampleRate;
+            frames = capacity;
+        }
+        long start = head.get();
+        long end = start + frames;
+        long oldest;
+        while ((oldest = tail.get()) < end - capacity) {
+            if (tail.compareAndSet(oldest, end - capacity))
+                overruns.addAndGet(end - capacity - oldest);
+        }
+        int index = (int) (start % capacity);
+        int first = Math.min(frames, capacity - index);
+        System.arraycopy(src, offset, samples, index * channels, first * channels);
+        if (first < frames)
+            System.arraycopy(src, offset + first * channels, samples, 0, (frames - first) * channels);
+        if (timestamp >= 0)
+            anchor = new long[] {start, timestamp};
+        head.set(end);
+        if (waiting) {
+            synchronized (signal) {
+                signal.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Reads the frames available, without waiting.
+     * @param maxFrames  largest number of frames copied into dst
+     * @return number of frames read
+     */
+    public int read(short[] dst, int offset, int maxFrames) {
+        while (true) {
+            long start = tail.get();
+            int frames = (int) Math.min(maxFrames, head.get() - start);
+            if (frames <= 0)
+                return 0;
+            int index = (int) (start % capacity);
+            int first = Math.min(frames, capacity - index);
+            System.arraycopy(samples, index * channels, dst, offset, first * channels);
+            if (first < frames)
+                System.arraycopy(samples, 0, dst, offset + first * channels, (frames - first) * channels);
+            // Fails if the writer dropped these frames while they were copied
+            if (tail.compareAndSet(start, start + frames))
+                return frames;
+        }
+    }
+
+    /**
+     * Reads at least one frame, waiting for it if needed.
+     * @return number of frames read, 0 if none arrived in time
+     */
+    public int read(short[] dst, int offset, int maxFrames, long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (true) {
+            int frames = read(dst, offset, maxFrames);
+            if (frames > 0)
+                return frames;
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0)
+                return 0;
+            synchronized (signal) {
+                waiting = true;
+                try {
+                    if (available() == 0)
+                        TimeUnit.NANOSECONDS.timedWait(signal, remaining);
+                } finally {
+                    waiting = false;
+                }
+            }
+        }
+    }
+
+    /**
+     * Drops every unread frame.
+     */
+    public void skipAll() {
+        long start;
+        do {
+            start = tail.get();
+        } while (!tail.compareAndSet(start, Math.max(start, head.get())));
+    }
+}
@@ -0,0 +1,185 @@
+package com.aldebaran.qimessaging.helpers.audio;
+
+import com.aldebaran.qimessaging.CallError;
+import com.aldebaran.qimessaging.helpers.ALFuture;
+import com.aldebaran.qimessaging.helpers.DaemonThreadFactory;
+import com.aldebaran.qimessaging.helpers.al.ALAudioDevice;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Follows the microphone energy and detects voice activity.
+ *
+ * The energy comes either from ALAudioDevice, the four getters being sent
+ * together once per period so that a cycle costs a single round trip, or
+ * from the buffers of a {@link MicrophoneCapture} when the monitor is added
+ * as one of its listeners, computed locally as the RMS of each channel.
+ * The two sources have different scales, thresholds must be tuned for the
+ * one in use.
+ *
+ * Voice starts once the loudest channel stays above the start level for
+ * the start delay, and stops once it stays below the stop level for the
+ * stop delay.
+ *
+ * <pre>
+ * EnergyMonitor monitor = new EnergyMonitor(audio);
+ * monitor.setThresholds(600, 400);
+ * monitor.addVoiceActivityListener(listener);
+ * monitor.start(100, TimeUnit.MILLISECONDS);
+ * </pre>
+ */
+public class EnergyMonitor implements AudioListener {
+
+    private final ALAudioDevice audio;
+    private final List<VoiceActivityListener> listeners = new CopyOnWriteArrayList<VoiceActivityListener>();
+    private volatile float[] energies = new float[0];
+    private float startLevel = 600;
+    private float stopLevel = 400;
+    private long startDelay = TimeUnit.MILLISECONDS.toNanos(100);
+    private long stopDelay = TimeUnit.MILLISECONDS.toNanos(500);
+    private volatile boolean active;
+    private long crossedAt = -1;
+    private ScheduledExecutorService poller;
+
+    public EnergyMonitor(ALAudioDevice audio) {
+        this.audio = audio;
+    }
+
+    /**
+     * Sets the level voice must exceed to start and fall under to stop.
+     */
+    public synchronized void setThresholds(float startLevel, float stopLevel) {
+        this.startLevel = startLevel;
+        this.stopLevel = Math.min(stopLevel, startLevel);
+    }
+
+    /**
+     * Sets how long a level must hold before a start or a stop is reported,
+     * 100 and 500 ms by default.
+     */
+    public synchronized void setDelays(long startDelay, long stopDelay, TimeUnit unit) {
+        this.startDelay = unit.toNanos(startDelay);
+        this.stopDelay = unit.toNanos(stopDelay);
+    }
+
+    public void addVoiceActivityListener(VoiceActivityListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeVoiceActivityListener(VoiceActivityListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * @return latest energy of each channel, left, right, front and rear
+     * when polling, in capture order when fed by a {@link MicrophoneCapture}
+     */
+    public float[] getEnergies() {
+        return energies.clone();
+    }
+
+    public boolean isVoiceActive() {
+        return active;
+    }
+
+    /**
+     * Enables the energy computation on the robot and polls the four
+     * microphones at the given period.
+     */
+    public synchronized void start(long period, TimeUnit unit) throws CallError, InterruptedException {
+        if (poller != null)
+            throw new IllegalStateException("Monitor already started");
+        audio.enableEnergyComputation();
+        poller = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("EnergyMonitor"));
+        poller.scheduleWithFixedDelay(new Runnable() {
+            public void run() {
+                poll();
+            }
+        }, 0, period, unit);
+    }
+
+    public synchronized void stop() throws CallError, InterruptedException {
+        if (poller == null)
+            return;
+        poller.shutdownNow();
+        poller = null;
+        audio.disableEnergyComputation();
+    }
+
+    /**
+     * Computes the energy of a captured buffer, see {@link MicrophoneCapture#addAudioListener}.
+     */
+    public void onAudio(short[] samples, int frames, int channels, long timestamp) {
+        if (frames == 0)
+            return;
+        float[] levels = new float[channels];
+        for (int channel = 0; channel < channels; channel++) {
+            double sum = 0;
+            for (int i = channel; i < frames * channels; i += channels)
+                sum += (double) samples[i] * samples[i];
+            levels[channel] = (float) Math.sqrt(sum / frames);
+        }
+        update(levels, timestamp);
+    }
+
+    private void poll() {
+        try {
+            List<ALFuture<Float>> requests = new ArrayList<ALFuture<Float>>(4);
+            requests.add(audio.getLeftMicEnergyAsync());
+            requests.add(audio.getRightMicEnergyAsync());
+            requests.add(audio.getFrontMicEnergyAsync());
+            requests.add(audio.getRearMicEnergyAsync());
+            List<Object> values = ALFuture.all(requests).get();
+            float[] levels = new float[values.size()];
+            for (int i = 0; i < levels.length; i++)
+                levels[i] = values.get(i) instanceof Number ? ((Number) values.get(i)).floatValue() : 0f;
+            update(levels, -1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // Missed cycle, the next one retries
+        }
+    }
+
+    private void update(float[] levels, long timestamp) {
+        energies = levels;
+        float level = 0;
+        for (float value : levels)
+            level = Math.max(level, value);
+        boolean started;
+        synchronized (this) {
+            if (!detect(level, System.nanoTime()))
+                return;
+            started = active;
+        }
+        for (VoiceActivityListener listener : listeners) {
+            if (started)
+                listener.onVoiceStart(level, timestamp);
+            else
+                listener.onVoiceStop(level, timestamp);
+        }
+    }
+
+    /**
+     * @return true if the voice state changed
+     */
+    private boolean detect(float level, long now) {
+        boolean crossing = active ? level < stopLevel : level > startLevel;
+        if (!crossing) {
+            crossedAt = -1;
+            return false;
+        }
+        if (crossedAt < 0)
+            crossedAt = now;
+        if (now - crossedAt < (active ? stopDelay : startDelay))
+            return false;
+        crossedAt = -1;
+        active = !active;
+        return true;
+    }
+}
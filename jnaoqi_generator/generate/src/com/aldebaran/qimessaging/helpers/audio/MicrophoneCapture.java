@@ -0,0 +1,202 @@
+package com.aldebaran.qimessaging.helpers.audio;
+
+import com.aldebaran.qimessaging.CallError;
+import com.aldebaran.qimessaging.DynamicObjectBuilder;
+import com.aldebaran.qimessaging.QimessagingException;
+import com.aldebaran.qimessaging.QimessagingService;
+import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.al.ALAudioDevice;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams the robot microphones to the client.
+ *
+ * The capture registers a service on the session under its name and
+ * subscribes it to ALAudioDevice, which then calls its processRemote
+ * method with every microphone buffer. Samples are kept in an
+ * {@link AudioRingBuffer} for {@link #read} and pushed to the registered
+ * {@link AudioListener}s.
+ *
+ * <pre>
+ * MicrophoneCapture capture = new MicrophoneCapture(audio, "KeywordSpotter");
+ * capture.setChannels(MicrophoneCapture.FRONT_CHANNEL, 16000);
+ * capture.start();
+ * short[] samples = new short[1600];
+ * int frames = capture.read(samples, 0, 1600, 1, TimeUnit.SECONDS);
+ * </pre>
+ */
+public class MicrophoneCapture {
+
+    /** All four microphones, only available at 48000 Hz */
+    public static final int ALL_CHANNELS = 0;
+    public static final int LEFT_CHANNEL = 1;
+    public static final int RIGHT_CHANNEL = 2;
+    public static final int FRONT_CHANNEL = 3;
+    public static final int REAR_CHANNEL = 4;
+
+    private final ALAudioDevice audio;
+    private final String name;
+    private final List<AudioListener> listeners = new CopyOnWriteArrayList<AudioListener>();
+    private int channelsConfiguration = FRONT_CHANNEL;
+    private int sampleRate = 16000;
+    private float bufferSeconds = 2f;
+    private volatile AudioRingBuffer ring;
+    private int serviceId = -1;
+
+    public MicrophoneCapture(ALAudioDevice audio, String name) {
+        this.audio = audio;
+        this.name = name;
+    }
+
+    /**
+     * Selects the microphones, one of the *_CHANNEL constants, and the
+     * sample rate, 16000 or 48000. Front channel at 16000 Hz by default.
+     * Must be set before {@link #start()}.
+     */
+    public void setChannels(int channelsConfiguration, int sampleRate) {
+        this.channelsConfiguration = channelsConfiguration;
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * Sets how much audio the ring buffer keeps for a late reader, two
+     * seconds by default. Must be set before {@link #start()}.
+     */
+    public void setBufferDuration(long duration, TimeUnit unit) {
+        this.bufferSeconds = unit.toMillis(duration) / 1000f;
+    }
+
+    public void addAudioListener(AudioListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeAudioListener(AudioListener listener) {
+        listeners.remove(listener);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the buffer filled by the capture, null before {@link #start()}
+     */
+    public AudioRingBuffer getRingBuffer() {
+        return ring;
+    }
+
+    public synchronized void start() throws CallError, InterruptedException {
+        if (serviceId >= 0)
+            throw new IllegalStateException("Capture already started");
+        int channels = channelsConfiguration == ALL_CHANNELS ? 4 : 1;
+        ring = new AudioRingBuffer(channels, sampleRate, Math.max(1, (int) (bufferSeconds * sampleRate)));
+        Session session = audio.getRegistry().getSession();
+        Sink sink = new Sink(this);
+        try {
+            DynamicObjectBuilder builder = new DynamicObjectBuilder();
+            builder.setThreadingModel(DynamicObjectBuilder.ObjectThreadingModel.SingleThread);
+            builder.advertiseMethod("processRemote::v(iimm)", sink, "Receives microphone buffers");
+            com.aldebaran.qimessaging.Object object = builder.object();
+            sink.init(object);
+            serviceId = session.registerService(name, object);
+        } catch (QimessagingException e) {
+            throw new CallError("Unable to register " + name + ": " + e.getMessage());
+        }
+        if (serviceId <= 0) {
+            serviceId = -1;
+            throw new CallError("Unable to register " + name);
+        }
+        try {
+            audio.setClientPreferences(name, sampleRate, channelsConfiguration, 0);
+            audio.subscribe(name);
+        } catch (CallError e) {
+            session.unregisterService(serviceId);
+            serviceId = -1;
+            throw e;
+        }
+    }
+
+    /**
+     * Unsubscribes from ALAudioDevice and unregisters the service. Samples
+     * still in the ring buffer can be read afterwards.
+     */
+    public synchronized void stop() throws CallError, InterruptedException {
+        if (serviceId < 0)
+            return;
+        try {
+            audio.unsubscribe(name);
+        } finally {
+            audio.getRegistry().getSession().unregisterService(serviceId);
+            serviceId = -1;
+        }
+    }
+
+    /**
+     * Reads at least one frame, waiting for it if needed.
+     * @param dst  receives maxFrames * channels interleaved samples at most
+     * @return number of frames read, 0 if none arrived in time
+     */
+    public int read(short[] dst, int offset, int maxFrames, long timeout, TimeUnit unit) throws InterruptedException {
+        AudioRingBuffer buffer = ring;
+        if (buffer == null)
+            throw new IllegalStateException("Capture not started");
+        return buffer.read(dst, offset, maxFrames, timeout, unit);
+    }
+
+    void process(int channels, int frames, Object timestamp, Object buffer, Sink sink) {
+        ByteBuffer bytes;
+        if (buffer instanceof ByteBuffer)
+            bytes = ((ByteBuffer) buffer).duplicate();
+        else if (buffer instanceof byte[])
+            bytes = ByteBuffer.wrap((byte[]) buffer);
+        else
+            return;
+        bytes.rewind();
+        frames = Math.min(frames, bytes.remaining() / 2 / Math.max(1, channels));
+        int count = frames * channels;
+        if (sink.samples.length < count)
+            sink.samples = new short[count];
+        bytes.order(ByteOrder.LITTLE_ENDIAN).asShortBuffer().get(sink.samples, 0, count);
+        long time = timestampOf(timestamp);
+        AudioRingBuffer target = ring;
+        if (target != null && channels == target.getChannels())
+            target.write(sink.samples, 0, frames, time);
+        for (AudioListener listener : listeners)
+            listener.onAudio(sink.samples, frames, channels, time);
+    }
+
+    /**
+     * processRemote gives the time of the buffer as [seconds, microseconds].
+     */
+    private static long timestampOf(Object timestamp) {
+        if (!(timestamp instanceof List))
+            return -1;
+        List<?> values = (List<?>) timestamp;
+        if (values.size() < 2 || !(values.get(0) instanceof Number) || !(values.get(1) instanceof Number))
+            return -1;
+        return ((Number) values.get(0)).longValue() * 1000000L + ((Number) values.get(1)).longValue();
+    }
+
+    /**
+     * Service object called by ALAudioDevice. Public so that qimessaging can
+     * reach processRemote.
+     */
+    public static class Sink extends QimessagingService {
+
+        private final MicrophoneCapture capture;
+        short[] samples = new short[0];
+
+        Sink(MicrophoneCapture capture) {
+            this.capture = capture;
+        }
+
+        public void processRemote(Integer nbOfChannels, Integer nbOfSamplesByChannel, Object timestamp, Object buffer) {
+            capture.process(nbOfChannels, nbOfSamplesByChannel, timestamp, buffer, this);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.aldebaran.qimessaging.helpers.audio;
+
+/**
+ * Receives the voice activity transitions detected by an {@link EnergyMonitor}.
+ */
+public interface VoiceActivityListener {
+
+    /**
+     * @param energy  level that confirmed the start
+     * @param timestamp  robot time in microseconds when known, -1 otherwise
+     */
+    public void onVoiceStart(float energy, long timestamp);
+
+    /**
+     * @param energy  level that confirmed the stop
+     * @param timestamp  robot time in microseconds when known, -1 otherwise
+     */
+    public void onVoiceStop(float energy, long timestamp);
+}
@@ -0,0 +1,208 @@
+package com.aldebaran.qimessaging.helpers.dcm;
+
+import com.aldebaran.qimessaging.CallError;
+import com.aldebaran.qimessaging.helpers.DaemonThreadFactory;
+import com.aldebaran.qimessaging.helpers.al.DCM;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local estimate of the DCM clock.
+ *
+ * DCM.getTime is sampled periodically. Each sample gives the offset
+ * between the DCM time and the local time at the middle of the round trip.
+ * Only the samples with the shortest round trips are kept, since their
+ * middle is the most accurate, and a line fitted through them gives the
+ * offset and the drift of the DCM clock. {@link #robotNow()} is then a local
+ * computation, saving the getTime round trip of every timed command.
+ *
+ * <pre>
+ * DcmClock clock = new DcmClock(dcm);
+ * clock.start(1, TimeUnit.SECONDS);
+ * buffer.addFrame(clock.robotNow() + 20);
+ * </pre>
+ */
+public class DcmClock {
+
+    private final DCM dcm;
+    private final List<Sample> samples = new ArrayList<Sample>();
+    private int window = 16;
+    private volatile Estimate estimate;
+    private ScheduledExecutorService sampler;
+
+    public DcmClock(DCM dcm) {
+        this.dcm = dcm;
+    }
+
+    /**
+     * Sets the number of recent samples the estimate is fitted on, 16 by default.
+     */
+    public synchronized void setWindow(int window) {
+        this.window = Math.max(2, window);
+    }
+
+    /**
+     * Samples the DCM clock at the given period, starting with a quick burst
+     * so that the clock is usable right away.
+     */
+    public synchronized void start(long period, TimeUnit unit) {
+        if (sampler != null)
+            throw new IllegalStateException("Clock already started");
+        sampler = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("DcmClock"));
+        sampler.execute(new Runnable() {
+            public void run() {
+                for (int i = 0; i < 4; i++)
+                    trySample();
+            }
+        });
+        sampler.scheduleWithFixedDelay(new Runnable() {
+            public void run() {
+                trySample();
+            }
+        }, period, period, unit);
+    }
+
+    public synchronized void stop() {
+        if (sampler != null) {
+            sampler.shutdownNow();
+            sampler = null;
+        }
+    }
+
+    /**
+     * Measures the DCM clock once and updates the estimate.
+     */
+    public void sample() throws CallError, InterruptedException {
+        long sent = System.nanoTime();
+        int robot = dcm.getTime(0);
+        long received = System.nanoTime();
+        long middle = sent + (received - sent) / 2;
+        synchronized (this) {
+            samples.add(new Sample(middle, robot - middle / 1e6, received - sent));
+            while (samples.size() > window)
+                samples.remove(0);
+            estimate = fit(samples);
+        }
+    }
+
+    /**
+     * @return true once at least one sample was taken
+     */
+    public boolean isSynchronized() {
+        return estimate != null;
+    }
+
+    /**
+     * @return estimated current DCM time in milliseconds
+     */
+    public int robotNow() {
+        return robotTime(System.nanoTime());
+    }
+
+    /**
+     * Converts a local {@link System#nanoTime()} value into DCM time.
+     * @return DCM time in milliseconds
+     */
+    public int robotTime(long nanoTime) {
+        Estimate current = estimate;
+        if (current == null)
+            throw new IllegalStateException("Clock not synchronized yet");
+        return (int) Math.round(nanoTime / 1e6 + current.offset + current.drift * (nanoTime - current.reference));
+    }
+
+    /**
+     * @return shortest round trip among the kept samples
+     */
+    public long getRoundTrip(TimeUnit unit) {
+        Estimate current = estimate;
+        return current == null ? -1 : unit.convert(current.roundTrip, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return drift of the DCM clock relative to the local clock, in parts per million
+     */
+    public double getDrift() {
+        Estimate current = estimate;
+        return current == null ? 0 : current.drift * 1e12;
+    }
+
+    private void trySample() {
+        try {
+            sample();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (CallError e) {
+            // Keep the previous estimate
+        }
+    }
+
+    /**
+     * Least squares line through the samples whose round trip is within
+     * half again of the shortest one.
+     */
+    private static Estimate fit(List<Sample> samples) {
+        long best = Long.MAX_VALUE;
+        for (Sample sample : samples)
+            best = Math.min(best, sample.roundTrip);
+        List<Sample> kept = new ArrayList<Sample>();
+        for (Sample sample : samples) {
+            if (sample.roundTrip <= best + best / 2)
+                kept.add(sample);
+        }
+        long reference = kept.get(kept.size() - 1).localNanos;
+        double meanX = 0;
+        double meanY = 0;
+        for (Sample sample : kept) {
+            meanX += sample.localNanos - reference;
+            meanY += sample.offset;
+        }
+        meanX /= kept.size();
+        meanY /= kept.size();
+        double covariance = 0;
+        double variance = 0;
+        for (Sample sample : kept) {
+            double dx = sample.localNanos - reference - meanX;
+            covariance += dx * (sample.offset - meanY);
+            variance += dx * dx;
+        }
+        // Drift needs samples spread over at least a second to be meaningful
+        long span = reference - kept.get(0).localNanos;
+        double drift = kept.size() > 2 && span > 1000000000L ? covariance / variance : 0;
+        return new Estimate(reference, meanY - drift * meanX, drift, best);
+    }
+
+    private static class Sample {
+
+        final long localNanos;
+        final double offset;
+        final long roundTrip;
+
+        Sample(long localNanos, double offset, long roundTrip) {
+            this.localNanos = localNanos;
+            this.offset = offset;
+            this.roundTrip = roundTrip;
+        }
+    }
+
+    private static class Estimate {
+
+        /** Local time the line is expressed around */
+        final long reference;
+        /** DCM minus local time at the reference, in milliseconds */
+        final double offset;
+        /** Change of the offset in milliseconds per local nanosecond */
+        final double drift;
+        final long roundTrip;
+
+        Estimate(long reference, double offset, double drift, long roundTrip) {
+            this.reference = reference;
+            this.offset = offset;
+            this.drift = drift;
+            this.roundTrip = roundTrip;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.aldebaran.qimessaging.helpers.dcm;
+
+import com.aldebaran.qimessaging.CallError;
+import com.aldebaran.qimessaging.helpers.ALFuture;
+import com.aldebaran.qimessaging.helpers.al.DCM;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Timed commands for a DCM alias, stored in primitive arrays.
+ *
+ * The alias is created once with createAlias. Each cycle the caller fills
+ * up to maxFrames rows of actuator values, each stamped with a DCM time,
+ * and sends them with a single "time-separate" setAlias call. Rows are
+ * kept in primitive arrays and copied at each send into a fixed set of
+ * ArrayLists, the only list type the qimessaging bindings marshal, sized
+ * for maxFrames and overwritten in place, so refilling the buffer
+ * allocates nothing besides the boxing of the values. The buffer can be
+ * refilled as soon as {@link #send} returns.
+ *
+ * <pre>
+ * DcmCommandBuffer buffer = new DcmCommandBuffer(dcm, "HeadAlias", actuators, 10);
+ * buffer.createAlias();
+ * buffer.clear();
+ * float[] row = buffer.addFrame(dcm.getTime(20));
+ * row[0] = 0.2f;
+ * row[1] = -0.1f;
+ * buffer.send(DcmCommandBuffer.Merge.CLEAR_AFTER);
+ * </pre>
+ */
+public class DcmCommandBuffer {
+
+    /**
+     * How the commands merge with those already queued in the DCM.
+     */
+    public enum Merge {
+        CLEAR_ALL("ClearAll"),
+        MERGE("Merge"),
+        CLEAR_AFTER("ClearAfter"),
+        CLEAR_BEFORE("ClearBefore");
+
+        private final String value;
+
+        Merge(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+
+    private final DCM dcm;
+    private final String alias;
+    private final List<String> actuators;
+    private final int[] times;
+    private final float[][] values;
+    private final ArrayList<Integer> timeList;
+    private final ArrayList<ArrayList<Float>> columns;
+    private final ArrayList<Object> command;
+    private int frames;
+
+    /**
+     * @param actuators  DCM device names of the alias, giving the column order of the rows
+     * @param maxFrames  largest number of timed rows sent at once
+     */
+    public DcmCommandBuffer(DCM dcm, String alias, List<String> actuators, int maxFrames) {
+        this.dcm = dcm;
+        this.alias = alias;
+        this.actuators = Collections.unmodifiableList(new ArrayList<String>(actuators));
+        this.times = new int[maxFrames];
+        this.values = new float[maxFrames][actuators.size()];
+        this.timeList = new ArrayList<Integer>(maxFrames);
+        this.columns = new ArrayList<ArrayList<Float>>(actuators.size());
+        for (int i = 0; i < actuators.size(); i++)
+            columns.add(new ArrayList<Float>(maxFrames));
+        this.command = new ArrayList<Object>(Arrays.asList(alias, Merge.CLEAR_ALL.value, "time-separate", 0, timeList, columns));
+    }
+
+    public String getAlias() {
+        return alias;
+    }
+
+    public List<String> getActuators() {
+        return actuators;
+    }
+
+    public int getMaxFrames() {
+        return times.length;
+    }
+
+    /**
+     * @return number of rows filled since the last {@link #clear()}
+     */
+    public int size() {
+        return frames;
+    }
+
+    /**
+     * Creates or updates the alias on the DCM.
+     */
+    public void createAlias() throws CallError, InterruptedException {
+        ArrayList<Object> definition = new ArrayList<Object>(2);
+        definition.add(alias);
+        definition.add(new ArrayList<String>(actuators));
+        dcm.createAlias(definition);
+    }
+
+    public void clear() {
+        frames = 0;
+    }
+
+    /**
+     * Adds a row of actuator values.
+     * @param dcmTime  DCM time of the row in milliseconds, rows must be added in increasing time
+     * @return the row, to fill in place in actuator order
+     */
+    public float[] addFrame(int dcmTime) {
+        if (frames == times.length)
+            throw new IllegalStateException("Buffer full: " + frames + " frames");
+        if (frames > 0 && dcmTime <= times[frames - 1])
+            throw new IllegalArgumentException("Rows must be added in increasing time");
+        times[frames] = dcmTime;
+        return values[frames++];
+    }
+
+    /**
+     * @return the row at the given position, to read or change in place
+     */
+    public float[] getFrame(int frame) {
+        if (frame >= frames)
+            throw new IndexOutOfBoundsException("Frame " + frame + " of " + frames);
+        return values[frame];
+    }
+
+    public int getTime(int frame) {
+        if (frame >= frames)
+            throw new IndexOutOfBoundsException("Frame " + frame + " of " + frames);
+        return times[frame];
+    }
+
+    /**
+     * Sends the rows filled so far and waits for the DCM to accept them.
+     */
+    public void send(Merge merge) throws CallError, InterruptedException {
+        if (frames > 0)
+            dcm.setAlias(prepare(merge));
+    }
+
+    /**
+     * Sends the rows filled so far without waiting.
+     */
+    public ALFuture<Void> sendAsync(Merge merge) throws CallError {
+        if (frames == 0)
+            return ALFuture.completed(null);
+        return dcm.setAliasAsync(prepare(merge));
+    }
+
+    private List<Object> prepare(Merge merge) {
+        command.set(1, merge.value);
+        for (int frame = 0; frame < frames; frame++)
+            put(timeList, frame, times[frame]);
+        truncate(timeList, frames);
+        for (int actuator = 0; actuator < columns.size(); actuator++) {
+            ArrayList<Float> column = columns.get(actuator);
+            for (int frame = 0; frame < frames; frame++)
+                put(column, frame, values[frame][actuator]);
+            truncate(column, frames);
+        }
+        return command;
+    }
+
+    private static <T> void put(ArrayList<T> list, int index, T value) {
+        if (index < list.size())
+            list.set(index, value);
+        else
+            list.add(value);
+    }
+
+    private static void truncate(ArrayList<?> list, int size) {
+        while (list.size() > size)
+            list.remove(list.size() - 1);
+    }
+}
@@ -0,0 +1,14 @@
+package com.aldebaran.qimessaging.helpers.dcm;
+
+/**
+ * Produces the actuator values sent by a {@link DcmScheduler}.
+ */
+public interface DcmCommandSource {
+
+    /**
+     * Fills the values of one row.
+     * @param dcmTime  DCM time the values apply at, in milliseconds
+     * @param values  row to fill in place, in the actuator order of the buffer
+     */
+    public void fill(int dcmTime, float[] values);
+}
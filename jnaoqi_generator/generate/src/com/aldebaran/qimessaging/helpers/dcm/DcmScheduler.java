@@ -0,0 +1,153 @@
+package com.aldebaran.qimessaging.helpers.dcm;
+
+import com.aldebaran.qimessaging.CallError;
+import com.aldebaran.qimessaging.helpers.ALFutureListener;
+import com.aldebaran.qimessaging.helpers.DaemonThreadFactory;
+import com.aldebaran.qimessaging.helpers.al.DCM;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Streams timed commands to a DCM alias ahead of the DCM cycle.
+ *
+ * Every batch fills all the rows of a {@link DcmCommandBuffer} from a
+ * {@link DcmCommandSource}, one row per step, and sends them with a single
+ * setAlias call. Rows are stamped with DCM times continuing the previous
+ * batch, the first one starting the lead time ahead of the DCM clock, so
+ * the DCM interpolates a continuous stream while network jitter stays
+ * hidden in the lead. A batch that would start less than one step ahead
+ * restarts the stream at the lead time and counts as late. A batch the
+ * DCM rejects is counted as failed and also restarts the stream.
+ *
+ * <pre>
+ * DcmScheduler scheduler = new DcmScheduler(dcm, buffer, source);
+ * scheduler.setTiming(10, 30);
+ * scheduler.start();
+ * </pre>
+ */
+public class DcmScheduler {
+
+    private final DCM dcm;
+    private final DcmCommandBuffer buffer;
+    private final DcmCommandSource source;
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong late = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private int step = 10;
+    private int lead = 20;
+    private volatile DcmClock clock;
+    private int nextTime;
+    private volatile boolean started;
+    private ScheduledExecutorService scheduler;
+
+    public DcmScheduler(DCM dcm, DcmCommandBuffer buffer, DcmCommandSource source) {
+        this.dcm = dcm;
+        this.buffer = buffer;
+        this.source = source;
+    }
+
+    /**
+     * Sets the time between rows and how far ahead of the DCM clock rows
+     * are sent, in milliseconds, 10 and 20 by default. Must be set before
+     * {@link #start()}.
+     */
+    public void setTiming(int step, int lead) {
+        this.step = step;
+        this.lead = lead;
+    }
+
+    /**
+     * Stamps batches from a local clock estimate instead of asking the DCM
+     * for its time before each batch.
+     */
+    public void setClock(DcmClock clock) {
+        this.clock = clock;
+    }
+
+    public long getBatchCount() {
+        return batches.get();
+    }
+
+    /**
+     * @return batches that were sent too late to continue the stream
+     */
+    public long getLateCount() {
+        return late.get();
+    }
+
+    /**
+     * @return batches that could not be sent or were rejected by the DCM
+     */
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    /**
+     * Starts sending, one batch every rows * step milliseconds.
+     */
+    public synchronized void start() {
+        if (scheduler != null)
+            throw new IllegalStateException("Scheduler already started");
+        started = false;
+        long period = (long) buffer.getMaxFrames() * step;
+        scheduler = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("DcmScheduler"));
+        scheduler.scheduleAtFixedRate(new Runnable() {
+            public void run() {
+                sendBatch();
+            }
+        }, 0, period, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * @return current DCM time in milliseconds
+     */
+    protected int dcmTime() throws CallError, InterruptedException {
+        DcmClock local = clock;
+        if (local != null && local.isSynchronized())
+            return local.robotNow();
+        return dcm.getTime(0);
+    }
+
+    private void sendBatch() {
+        try {
+            int now = dcmTime();
+            if (!started || nextTime - now < step) {
+                if (started)
+                    late.incrementAndGet();
+                nextTime = now + lead;
+                started = true;
+            }
+            buffer.clear();
+            for (int i = 0; i < buffer.getMaxFrames(); i++) {
+                source.fill(nextTime, buffer.addFrame(nextTime));
+                nextTime += step;
+            }
+            buffer.sendAsync(DcmCommandBuffer.Merge.CLEAR_AFTER).addListener(new ALFutureListener<Void>() {
+                public void onSuccess(Void result) {
+                }
+
+                public void onFailure(Throwable error) {
+                    failed.incrementAndGet();
+                    started = false;
+                }
+            });
+            batches.incrementAndGet();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (CallError e) {
+            failed.incrementAndGet();
+            // Restart the stream from the DCM clock on the next batch
+            started = false;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.aldebaran.qimessaging.helpers.event;
+
+/**
+ * Typed descriptor of an ALMemory event: its key and the decoder of its
+ * values. The generated wrappers declare the known events of their module,
+ * such as {@code ALSoundLocalization.SOUND_LOCATED}.
+ *
+ * <pre>
+ * memory.subscribeToEvent(ALSoundLocalization.SOUND_LOCATED, new EventConsumer&lt;SoundLocated&gt;() {
+ *     public void accept(SoundLocated sound) {
+ *         System.out.println(sound.getAzimuth());
+ *     }
+ * });
+ * </pre>
+ */
+public final class ALEvent<T> {
+
+    private final String name;
+    private final EventDecoder<T> decoder;
+
+    public ALEvent(String name, EventDecoder<T> decoder) {
+        this.name = name;
+        this.decoder = decoder;
+    }
+
+    /**
+     * @return an event whose values are passed as received
+     */
+    public static ALEvent<Object> of(String name) {
+        return new ALEvent<Object>(name, EventDecoders.RAW);
+    }
+
+    /**
+     * @return ALMemory key of the event
+     */
+    public String getName() {
+        return name;
+    }
+
+    public EventDecoder<T> getDecoder() {
+        return decoder;
+    }
+
+    public T decode(Object value) {
+        return decoder.decode(value);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,10 @@
+package com.aldebaran.qimessaging.helpers.event;
+
+/**
+ * Receives the decoded values of an {@link ALEvent}. A single method
+ * interface, so a lambda can be used where the language level allows it.
+ */
+public interface EventConsumer<T> {
+
+    public void accept(T value);
+}
@@ -0,0 +1,13 @@
+package com.aldebaran.qimessaging.helpers.event;
+
+/**
+ * Converts the raw value of an ALMemory event into its typed form.
+ */
+public interface EventDecoder<T> {
+
+    /**
+     * @throws IllegalArgumentException if the value does not have the
+     * expected layout
+     */
+    public T decode(Object value);
+}
@@ -0,0 +1,77 @@
+package com.aldebaran.qimessaging.helpers.event;
+
+import java.util.List;
+
+/**
+ * Decoders of the simple event values, and the helpers used by the
+ * decoders of structured events.
+ */
+public final class EventDecoders {
+
+    public static final EventDecoder<Object> RAW = new EventDecoder<Object>() {
+        public Object decode(Object value) {
+            return value;
+        }
+    };
+
+    public static final EventDecoder<Float> FLOAT = new EventDecoder<Float>() {
+        public Float decode(Object value) {
+            return toFloat(value);
+        }
+    };
+
+    public static final EventDecoder<Integer> INTEGER = new EventDecoder<Integer>() {
+        public Integer decode(Object value) {
+            if (value instanceof Boolean)
+                return (Boolean) value ? 1 : 0;
+            return number(value).intValue();
+        }
+    };
+
+    public static final EventDecoder<String> STRING = new EventDecoder<String>() {
+        public String decode(Object value) {
+            if (!(value instanceof String))
+                throw new IllegalArgumentException("Expected a string, got " + value);
+            return (String) value;
+        }
+    };
+
+    private EventDecoders() {
+    }
+
+    static float toFloat(Object value) {
+        return number(value).floatValue();
+    }
+
+    static List<?> list(Object value, int minSize) {
+        if (!(value instanceof List))
+            throw new IllegalArgumentException("Expected a list, got " + value);
+        List<?> list = (List<?>) value;
+        if (list.size() < minSize)
+            throw new IllegalArgumentException("Expected at least " + minSize + " values, got " + list.size());
+        return list;
+    }
+
+    static float[] floats(Object value) {
+        List<?> values = list(value, 0);
+        float[] result = new float[values.size()];
+        for (int i = 0; i < result.length; i++)
+            result[i] = toFloat(values.get(i));
+        return result;
+    }
+
+    /**
+     * Timestamps of events are [seconds, microseconds].
+     * @return the timestamp in microseconds
+     */
+    static long timestamp(Object value) {
+        List<?> time = list(value, 2);
+        return number(time.get(0)).longValue() * 1000000L + number(time.get(1)).longValue();
+    }
+
+    private static Number number(Object value) {
+        if (!(value instanceof Number))
+            throw new IllegalArgumentException("Expected a number, got " + value);
+        return (Number) value;
+    }
+}
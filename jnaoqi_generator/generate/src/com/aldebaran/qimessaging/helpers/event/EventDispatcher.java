@@ -0,0 +1,182 @@
+package com.aldebaran.qimessaging.helpers.event;
+
+import com.aldebaran.qimessaging.helpers.DaemonThreadFactory;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Moves event handlers off the qimessaging threads.
+ *
+ * Each consumer gets a bounded {@link EventQueue}, filled by the signal
+ * thread and drained on the executor. Queues of the same event name share
+ * a lane: their values are handled one at a time, in arrival order,
+ * whatever the executor. A slow handler therefore delays every subscriber
+ * of its event name, but not the other events. Any executor fits, a
+ * thread per task one included. A lane is dropped once all its queues are
+ * closed.
+ *
+ * <pre>
+ * EventDispatcher dispatcher = new EventDispatcher();
+ * EventQueue&lt;SoundLocated&gt; queue = dispatcher.queue(ALSoundLocalization.SOUND_LOCATED, consumer,
+ *         4, EventDispatcher.Policy.CONFLATE_LATEST);
+ * memory.subscribeToEvent(ALSoundLocalization.SOUND_LOCATED, queue);
+ * ...
+ * queue.close();
+ * dispatcher.shutdown();
+ * </pre>
+ */
+public class EventDispatcher {
+
+    /**
+     * What a full queue does with a new value.
+     */
+    public enum Policy {
+        /** Drops the oldest pending value */
+        DROP_OLDEST,
+        /** Replaces the newest pending value, the older ones are kept */
+        CONFLATE_LATEST,
+        /** Blocks the signal thread until a value is handled */
+        BLOCK
+    }
+
+    private final Executor executor;
+    /** Pool created by this dispatcher, null when the executor was given */
+    private final ExecutorService pool;
+    private final Map<String, Lane> lanes = new HashMap<String, Lane>();
+
+    /**
+     * Creates a dispatcher running handlers on a cached pool of daemon
+     * threads, stopped by {@link #shutdown()}.
+     */
+    public EventDispatcher() {
+        this(null, Executors.newCachedThreadPool(new DaemonThreadFactory("EventDispatcher")));
+    }
+
+    /**
+     * Creates a dispatcher running handlers on the given executor, which
+     * stays owned by the caller.
+     */
+    public EventDispatcher(Executor executor) {
+        this(executor, null);
+    }
+
+    private EventDispatcher(Executor executor, ExecutorService pool) {
+        this.executor = executor != null ? executor : pool;
+        this.pool = pool;
+    }
+
+    /**
+     * @return a consumer queuing the values of an event for the given consumer
+     */
+    public <T> EventQueue<T> queue(ALEvent<T> event, EventConsumer<? super T> consumer, int capacity, Policy policy) {
+        return queue(event.getName(), consumer, capacity, policy);
+    }
+
+    /**
+     * @return a consumer queuing the values of the named event for the
+     * given consumer
+     */
+    public synchronized <T> EventQueue<T> queue(String name, EventConsumer<? super T> consumer, int capacity, Policy policy) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        Lane lane = lanes.get(name);
+        if (lane == null) {
+            lane = new Lane(this, name);
+            lanes.put(name, lane);
+        }
+        lane.queues++;
+        return new EventQueue<T>(lane, consumer, capacity, policy);
+    }
+
+    /**
+     * @return number of event names with open queues
+     */
+    public synchronized int getLaneCount() {
+        return lanes.size();
+    }
+
+    /**
+     * Stops the default pool once the values already queued are handled,
+     * later values are rejected. An executor given to the constructor is
+     * left running.
+     */
+    public void shutdown() {
+        if (pool != null)
+            pool.shutdown();
+    }
+
+    /**
+     * Called once per closed queue, drops the lane after its last queue.
+     */
+    synchronized void closed(Lane lane) {
+        if (--lane.queues == 0 && lanes.get(lane.name) == lane)
+            lanes.remove(lane.name);
+    }
+
+    /**
+     * Queues of one event name with values to handle, drained by a single
+     * task at a time.
+     */
+    static class Lane implements Runnable {
+
+        private final EventDispatcher dispatcher;
+        private final String name;
+        private final ArrayDeque<EventQueue<?>> ready = new ArrayDeque<EventQueue<?>>();
+        private boolean running;
+        /** Open queues, guarded by the dispatcher */
+        private int queues;
+
+        Lane(EventDispatcher dispatcher, String name) {
+            this.dispatcher = dispatcher;
+            this.name = name;
+        }
+
+        void close() {
+            dispatcher.closed(this);
+        }
+
+        void schedule(EventQueue<?> queue) {
+            synchronized (this) {
+                if (!ready.contains(queue))
+                    ready.add(queue);
+                if (running)
+                    return;
+                running = true;
+            }
+            try {
+                dispatcher.executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                synchronized (this) {
+                    running = false;
+                }
+                throw e;
+            }
+        }
+
+        public void run() {
+            while (true) {
+                EventQueue<?> queue;
+                synchronized (this) {
+                    queue = ready.poll();
+                    if (queue == null) {
+                        running = false;
+                        return;
+                    }
+                }
+                // Round robin between the queues of the lane
+                if (queue.handleOne()) {
+                    synchronized (this) {
+                        if (!ready.contains(queue))
+                            ready.add(queue);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.aldebaran.qimessaging.helpers.event;
+
+/**
+ * Publisher, subscriber and subscription with the contract of
+ * java.util.concurrent.Flow, for platforms without it. A subscriber gets
+ * values only as far as it asked for them with {@link Subscription#request}.
+ */
+public final class EventFlow {
+
+    private EventFlow() {
+    }
+
+    public interface Publisher<T> {
+
+        public void subscribe(Subscriber<? super T> subscriber);
+    }
+
+    public interface Subscriber<T> {
+
+        public void onSubscribe(Subscription subscription);
+
+        public void onNext(T item);
+
+        public void onError(Throwable error);
+
+        public void onComplete();
+    }
+
+    public interface Subscription {
+
+        /**
+         * Adds n values to the demand, Long.MAX_VALUE asks for every value.
+         */
+        public void request(long n);
+
+        public void cancel();
+    }
+}
@@ -0,0 +1,216 @@
+package com.aldebaran.qimessaging.helpers.event;
+
+import com.aldebaran.qimessaging.CallError;
+import com.aldebaran.qimessaging.DynamicObjectBuilder;
+import com.aldebaran.qimessaging.QimessagingException;
+import com.aldebaran.qimessaging.QimessagingService;
+import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
+import com.aldebaran.qimessaging.helpers.ALFutureListener;
+import com.aldebaran.qimessaging.helpers.al.ALMemory;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Service receiving ALMemory events through module callbacks.
+ *
+ * Unlike subscriber signals, module subscriptions accept a time policy:
+ * {@link #setTimePolicy} makes ALMemory skip the values of an event raised
+ * less than the given interval after the previous one, so the robot does
+ * not send what the client would drop.
+ *
+ * <pre>
+ * EventModule module = new EventModule(memory, "MyEvents");
+ * module.start();
+ * module.subscribe(ALFaceDetection.FACE_DETECTED, consumer);
+ * module.setTimePolicy(ALFaceDetection.FACE_DETECTED, 200, TimeUnit.MILLISECONDS);
+ * </pre>
+ */
+public class EventModule {
+
+    private static final AtomicInteger COUNT = new AtomicInteger();
+    private static final String PROCESS = Long.toHexString(new Random().nextLong() & 0xffffffffL);
+
+    private final ALMemory memory;
+    private final String name;
+    private final Map<String, Handler<?>> handlers = new ConcurrentHashMap<String, Handler<?>>();
+    private final Map<String, Integer> timePolicies = new ConcurrentHashMap<String, Integer>();
+    private int serviceId = -1;
+
+    public EventModule(ALMemory memory, String name) {
+        this.memory = memory;
+        this.name = name;
+    }
+
+    /**
+     * @return a service name unique to this process and to the robot
+     * clients, made of the prefix and a random suffix
+     */
+    public static String uniqueName(String prefix) {
+        return prefix + "_" + PROCESS + "_" + COUNT.incrementAndGet();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Registers the service on the session of the memory wrapper.
+     */
+    public synchronized void start() throws CallError {
+        if (serviceId >= 0)
+            throw new IllegalStateException("Module already started");
+        Session session = memory.getRegistry().getSession();
+        Callback callback = new Callback(this);
+        try {
+            DynamicObjectBuilder builder = new DynamicObjectBuilder();
+            builder.setThreadingModel(DynamicObjectBuilder.ObjectThreadingModel.SingleThread);
+            builder.advertiseMethod("onEvent::v(sms)", callback, "Receives ALMemory events");
+            com.aldebaran.qimessaging.Object object = builder.object();
+            callback.init(object);
+            serviceId = session.registerService(name, object);
+        } catch (QimessagingException e) {
+            throw new CallError("Unable to register " + name + ": " + e.getMessage());
+        }
+        if (serviceId <= 0) {
+            serviceId = -1;
+            throw new CallError("Unable to register " + name);
+        }
+    }
+
+    /**
+     * Unsubscribes from every event and unregisters the service.
+     */
+    public synchronized void stop() {
+        if (serviceId < 0)
+            return;
+        for (String event : handlers.keySet()) {
+            try {
+                memory.unsubscribeToEvent(event, name);
+            } catch (Exception e) {
+                // The service goes away anyway
+            }
+        }
+        handlers.clear();
+        timePolicies.clear();
+        memory.getRegistry().getSession().unregisterService(serviceId);
+        serviceId = -1;
+    }
+
+    public synchronized boolean isStarted() {
+        return serviceId >= 0;
+    }
+
+    /**
+     * Subscribes the module to an event, replacing the consumer of a
+     * previous subscription to the same event.
+     */
+    public <T> void subscribe(ALEvent<T> event, EventConsumer<? super T> consumer) throws CallError, InterruptedException {
+        synchronized (this) {
+            if (serviceId < 0)
+                throw new IllegalStateException("Module not started");
+        }
+        boolean subscribed = handlers.containsKey(event.getName());
+        handlers.put(event.getName(), new Handler<T>(event, consumer));
+        if (subscribed)
+            return;
+        try {
+            memory.subscribeToEvent(event.getName(), name, "onEvent");
+        } catch (CallError e) {
+            handlers.remove(event.getName());
+            throw e;
+        }
+    }
+
+    public void unsubscribe(ALEvent<?> event) throws CallError, InterruptedException {
+        if (handlers.remove(event.getName()) == null)
+            return;
+        timePolicies.remove(event.getName());
+        memory.unsubscribeToEvent(event.getName(), name);
+    }
+
+    /**
+     * Sets the shortest interval between two values of an event, 0 to get
+     * every value. The call is only sent when the interval differs from the
+     * one applied, which is recorded once ALMemory accepted it, so a failed
+     * call is sent again by the next request.
+     * @return the pending call, completed at once when nothing changed
+     */
+    public ALFuture<Void> setTimePolicy(ALEvent<?> event, long interval, TimeUnit unit) throws CallError {
+        final String key = event.getName();
+        final int milliseconds = (int) Math.min(Integer.MAX_VALUE, unit.toMillis(interval));
+        Integer previous = timePolicies.get(key);
+        if (previous != null ? previous == milliseconds : milliseconds == 0)
+            return ALFuture.completed(null);
+        ALFuture<Void> call = memory._subscribeOnDataSetTimePolicyAsync(key, name, milliseconds);
+        call.addListener(new ALFutureListener<Void>() {
+            public void onSuccess(Void result) {
+                // An event unsubscribed meanwhile has no policy any more
+                if (handlers.containsKey(key))
+                    timePolicies.put(key, milliseconds);
+            }
+
+            public void onFailure(Throwable error) {
+                // The previous policy still applies
+            }
+        });
+        return call;
+    }
+
+    /**
+     * @return time policy of an event in milliseconds as last accepted by
+     * ALMemory, 0 when none is set
+     */
+    public int getTimePolicy(ALEvent<?> event) {
+        Integer milliseconds = timePolicies.get(event.getName());
+        return milliseconds == null ? 0 : milliseconds;
+    }
+
+    void dispatch(String key, Object value) {
+        Handler<?> handler = handlers.get(key);
+        if (handler != null)
+            handler.handle(value);
+    }
+
+    private static class Handler<T> {
+
+        final ALEvent<T> event;
+        final EventConsumer<? super T> consumer;
+
+        Handler(ALEvent<T> event, EventConsumer<? super T> consumer) {
+            this.event = event;
+            this.consumer = consumer;
+        }
+
+        void handle(Object value) {
+            T decoded;
+            try {
+                decoded = event.decode(value);
+            } catch (RuntimeException e) {
+                return;
+            }
+            consumer.accept(decoded);
+        }
+    }
+
+    /**
+     * Service object called by ALMemory. Public so that qimessaging can
+     * reach onEvent.
+     */
+    public static class Callback extends QimessagingService {
+
+        private final EventModule module;
+
+        Callback(EventModule module) {
+            this.module = module;
+        }
+
+        public void onEvent(String key, Object value, String message) {
+            module.dispatch(key, value);
+        }
+    }
+}
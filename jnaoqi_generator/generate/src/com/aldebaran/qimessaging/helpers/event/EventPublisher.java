@@ -0,0 +1,219 @@
+package com.aldebaran.qimessaging.helpers.event;
+
+import com.aldebaran.qimessaging.CallError;
+import com.aldebaran.qimessaging.helpers.al.ALMemory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the values of an ALMemory event to {@link EventFlow.Subscriber}s,
+ * delivering no more values than they requested.
+ *
+ * The event is subscribed through an {@link EventModule} while the
+ * publisher has subscribers. The time a subscriber takes to ask for more
+ * after receiving a value is its pace, and the pace of the fastest
+ * subscriber becomes the time policy of the event: ALMemory skips the
+ * values raised faster than that, so a slow client is not flooded. A
+ * subscriber asking for Long.MAX_VALUE lifts the policy. Values arriving
+ * with no demand are conflated, the latest one being delivered on the
+ * next request.
+ *
+ * <pre>
+ * EventPublisher&lt;FaceDetected&gt; faces = new EventPublisher&lt;FaceDetected&gt;(memory, ALFaceDetection.FACE_DETECTED);
+ * faces.subscribe(subscriber);
+ * </pre>
+ */
+public class EventPublisher<T> implements EventFlow.Publisher<T> {
+
+    private final ALEvent<T> event;
+    private final EventModule module;
+    private final List<Slot> slots = new CopyOnWriteArrayList<Slot>();
+    private long minInterval = TimeUnit.MILLISECONDS.toNanos(10);
+
+    public EventPublisher(ALMemory memory, ALEvent<T> event) {
+        this.event = event;
+        this.module = new EventModule(memory, EventModule.uniqueName("EventPublisher"));
+    }
+
+    public ALEvent<T> getEvent() {
+        return event;
+    }
+
+    /**
+     * Sets the interval below which no time policy is set, 10 ms by default.
+     */
+    public synchronized void setMinInterval(long interval, TimeUnit unit) {
+        minInterval = unit.toNanos(interval);
+    }
+
+    /**
+     * @return time policy currently applied to the event, in milliseconds
+     */
+    public int getTimePolicy() {
+        return module.getTimePolicy(event);
+    }
+
+    public void subscribe(EventFlow.Subscriber<? super T> subscriber) {
+        Slot slot = new Slot(subscriber);
+        try {
+            synchronized (this) {
+                if (slots.isEmpty()) {
+                    module.start();
+                    boolean subscribed = false;
+                    try {
+                        module.subscribe(event, new EventConsumer<T>() {
+                            public void accept(T value) {
+                                for (Slot slot : slots)
+                                    slot.offer(value);
+                            }
+                        });
+                        subscribed = true;
+                    } finally {
+                        // Also when interrupted, the service would stay registered
+                        if (!subscribed)
+                            module.stop();
+                    }
+                }
+                slots.add(slot);
+            }
+        } catch (Exception e) {
+            if (e instanceof InterruptedException)
+                Thread.currentThread().interrupt();
+            subscriber.onSubscribe(slot);
+            subscriber.onError(e);
+            return;
+        }
+        subscriber.onSubscribe(slot);
+    }
+
+    /**
+     * Completes every subscriber and unsubscribes from the event.
+     */
+    public void close() {
+        List<Slot> closed;
+        synchronized (this) {
+            closed = new ArrayList<Slot>(slots);
+            slots.clear();
+            module.stop();
+        }
+        for (Slot slot : closed)
+            slot.complete();
+    }
+
+    private synchronized void remove(Slot slot) {
+        if (!slots.remove(slot) || !slots.isEmpty())
+            return;
+        module.stop();
+    }
+
+    /**
+     * Sets the time policy to the pace of the fastest subscriber.
+     */
+    private void adjust() {
+        long interval = Long.MAX_VALUE;
+        for (Slot slot : slots)
+            interval = Math.min(interval, slot.getInterval());
+        long threshold;
+        synchronized (this) {
+            threshold = minInterval;
+        }
+        if (interval < threshold || interval == Long.MAX_VALUE)
+            interval = 0;
+        int current = module.getTimePolicy(event);
+        long milliseconds = TimeUnit.NANOSECONDS.toMillis(interval);
+        // Skip changes under a fifth, every request would send a call otherwise
+        if (Math.abs(milliseconds - current) * 5 <= current || (milliseconds == 0 && current == 0))
+            return;
+        try {
+            module.setTimePolicy(event, milliseconds, TimeUnit.MILLISECONDS);
+        } catch (CallError e) {
+            // Values keep coming at the event rate and are conflated locally
+        }
+    }
+
+    private class Slot implements EventFlow.Subscription {
+
+        private final EventFlow.Subscriber<? super T> subscriber;
+        private long demand;
+        private boolean hasPending;
+        private T pending;
+        private boolean done;
+        private long lastDelivery = -1;
+        /** Average time the subscriber takes to ask for more, 0 when unbounded */
+        private long interval = Long.MAX_VALUE;
+
+        Slot(EventFlow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                subscriber.onError(new IllegalArgumentException("Request must be positive: " + n));
+                return;
+            }
+            synchronized (this) {
+                if (done)
+                    return;
+                long now = System.nanoTime();
+                if (n == Long.MAX_VALUE || demand == Long.MAX_VALUE)
+                    interval = 0;
+                else if (lastDelivery >= 0) {
+                    long sample = (now - lastDelivery) / n;
+                    interval = interval == Long.MAX_VALUE ? sample : interval + (sample - interval) / 4;
+                }
+                lastDelivery = -1;
+                demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                if (hasPending) {
+                    T value = pending;
+                    hasPending = false;
+                    pending = null;
+                    deliver(value);
+                }
+            }
+            adjust();
+        }
+
+        public void cancel() {
+            synchronized (this) {
+                if (done)
+                    return;
+                done = true;
+                pending = null;
+            }
+            remove(this);
+        }
+
+        synchronized long getInterval() {
+            return interval;
+        }
+
+        synchronized void offer(T value) {
+            if (done)
+                return;
+            if (demand == 0) {
+                pending = value;
+                hasPending = true;
+                return;
+            }
+            deliver(value);
+        }
+
+        synchronized void complete() {
+            if (done)
+                return;
+            done = true;
+            subscriber.onComplete();
+        }
+
+        private void deliver(T value) {
+            if (demand != Long.MAX_VALUE)
+                demand--;
+            lastDelivery = System.nanoTime();
+            subscriber.onNext(value);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.aldebaran.qimessaging.helpers.event;
+
+import com.aldebaran.qimessaging.helpers.LatencyHistogram;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded queue of the values of one subscription, created by an
+ * {@link EventDispatcher}. Values are handed to the consumer in arrival
+ * order, never concurrently. Close the queue once its subscription is
+ * gone so that the dispatcher can forget the event.
+ */
+public class EventQueue<T> implements EventConsumer<T> {
+
+    private final EventDispatcher.Lane lane;
+    private final EventConsumer<? super T> consumer;
+    private final int capacity;
+    private final EventDispatcher.Policy policy;
+    private final ArrayDeque<Pending<T>> pending;
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final LatencyHistogram queueLatency = new LatencyHistogram();
+    private final LatencyHistogram handlerLatency = new LatencyHistogram();
+    private int maxDepth;
+    private boolean closed;
+
+    EventQueue(EventDispatcher.Lane lane, EventConsumer<? super T> consumer, int capacity, EventDispatcher.Policy policy) {
+        this.lane = lane;
+        this.consumer = consumer;
+        this.capacity = capacity;
+        this.policy = policy;
+        this.pending = new ArrayDeque<Pending<T>>(capacity);
+    }
+
+    /**
+     * Queues a value, applying the policy when the queue is full.
+     */
+    public void accept(T value) {
+        synchronized (this) {
+            if (closed)
+                return;
+            if (policy == EventDispatcher.Policy.BLOCK) {
+                try {
+                    while (pending.size() >= capacity && !closed)
+                        wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    dropped.incrementAndGet();
+                    return;
+                }
+                if (closed)
+                    return;
+            } else if (pending.size() >= capacity) {
+                if (policy == EventDispatcher.Policy.DROP_OLDEST)
+                    pending.pollFirst();
+                else
+                    pending.pollLast();
+                dropped.incrementAndGet();
+            }
+            pending.add(new Pending<T>(value, System.nanoTime()));
+            maxDepth = Math.max(maxDepth, pending.size());
+        }
+        lane.schedule(this);
+    }
+
+    /**
+     * @return values waiting to be handled
+     */
+    public synchronized int getDepth() {
+        return pending.size();
+    }
+
+    /**
+     * @return largest number of values that waited at once
+     */
+    public synchronized int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return values dropped or replaced because the queue was full
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * @return values whose handler threw
+     */
+    public long getFailureCount() {
+        return failures.get();
+    }
+
+    /**
+     * @return time values waited before their handler started
+     */
+    public LatencyHistogram getQueueLatency() {
+        return queueLatency;
+    }
+
+    /**
+     * @return time spent in the handler
+     */
+    public LatencyHistogram getHandlerLatency() {
+        return handlerLatency;
+    }
+
+    /**
+     * Drops the pending values.
+     */
+    public synchronized void clear() {
+        pending.clear();
+        notifyAll();
+    }
+
+    /**
+     * Drops the pending values and ignores later ones.
+     */
+    public void close() {
+        synchronized (this) {
+            if (closed)
+                return;
+            closed = true;
+            pending.clear();
+            notifyAll();
+        }
+        lane.close();
+    }
+
+    /**
+     * Handles the oldest pending value, if any.
+     * @return true if values remain
+     */
+    boolean handleOne() {
+        Pending<T> next;
+        synchronized (this) {
+            next = pending.poll();
+            notifyAll();
+        }
+        if (next == null)
+            return false;
+        long start = System.nanoTime();
+        queueLatency.record(start - next.queuedNanos, TimeUnit.NANOSECONDS);
+        try {
+            consumer.accept(next.value);
+        } catch (RuntimeException e) {
+            failures.incrementAndGet();
+        }
+        handlerLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        synchronized (this) {
+            return !pending.isEmpty();
+        }
+    }
+
+    private static class Pending<T> {
+
+        final T value;
+        final long queuedNanos;
+
+        Pending(T value, long queuedNanos) {
+            this.value = value;
+            this.queuedNanos = queuedNanos;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.aldebaran.qimessaging.helpers.event;
+
+import com.aldebaran.qimessaging.CallError;
+import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ServiceRegistry;
+import com.aldebaran.qimessaging.helpers.al.ALMemory;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Connection of an {@link EventConsumer} to the subscriber signal of an
+ * ALMemory event.
+ *
+ * Every value goes through the same {@link Sink} callback, which decodes it
+ * with the event decoder and hands it to the consumer, so no callback
+ * signature or per event reflection is involved. Values that fail to
+ * decode are counted and dropped, the delivered count only includes the
+ * values that reached the consumer.
+ *
+ * A throttled subscription goes through an {@link EventModule} instead, so
+ * that ALMemory applies the interval with its time policy and skips the
+ * values in between on the robot. When the module or the policy is not
+ * available, the signal is used and values are coalesced locally by an
+ * {@link EventThrottle}.
+ */
+public class EventSubscription<T> {
+
+    private final ALEvent<T> event;
+    private final AtomicLong delivered = new AtomicLong();
+    private final EventConsumer<T> delivery;
+    private Sink<T> sink;
+    private com.aldebaran.qimessaging.Object subscriber;
+    private long link;
+    private EventModule module;
+    private EventThrottle<T> throttle;
+
+    EventSubscription(ALEvent<T> event, final EventConsumer<? super T> consumer) {
+        this.event = event;
+        this.delivery = new EventConsumer<T>() {
+            public void accept(T value) {
+                delivered.incrementAndGet();
+                consumer.accept(value);
+            }
+        };
+    }
+
+    /**
+     * Connects a consumer to the subscriber object of its event, as
+     * returned by ALMemory.subscriber.
+     */
+    public static <T> EventSubscription<T> connect(com.aldebaran.qimessaging.Object subscriber, ALEvent<T> event,
+            EventConsumer<? super T> consumer) throws Exception {
+        EventSubscription<T> subscription = new EventSubscription<T>(event, consumer);
+        subscription.connect(subscriber, subscription.delivery);
+        return subscription;
+    }
+
+    /**
+     * Connects a consumer receiving at most one value of an event per
+     * interval, throttled by ALMemory when possible.
+     */
+    public static <T> EventSubscription<T> connect(ALMemory memory, ALEvent<T> event, EventConsumer<? super T> consumer,
+            long minInterval, TimeUnit unit) throws Exception {
+        final EventSubscription<T> subscription = new EventSubscription<T>(event, consumer);
+        subscription.sink = new Sink<T>(event, subscription.delivery);
+        EventModule module = new EventModule(memory, EventModule.uniqueName("EventSubscription"));
+        boolean throttled = false;
+        try {
+            module.start();
+            module.subscribe(ALEvent.of(event.getName()), new EventConsumer<Object>() {
+                public void accept(Object value) {
+                    subscription.sink.onEvent(value);
+                }
+            });
+            module.setTimePolicy(event, minInterval, unit).get();
+            subscription.module = module;
+            throttled = true;
+            return subscription;
+        } catch (CallError e) {
+            // No time policy, coalesced below
+        } catch (ExecutionException e) {
+            // No time policy, coalesced below
+        } finally {
+            if (!throttled)
+                module.stop();
+        }
+        subscription.throttle = new EventThrottle<T>(subscription.delivery, minInterval, unit);
+        subscription.connect(memory.subscriber(event.getName()), subscription.throttle);
+        return subscription;
+    }
+
+    /**
+     * Same as {@link #connect(ALMemory, ALEvent, EventConsumer, long, TimeUnit)}
+     * with the ALMemory of the session of a registry.
+     */
+    public static <T> EventSubscription<T> connect(ServiceRegistry registry, ALEvent<T> event,
+            EventConsumer<? super T> consumer, long minInterval, TimeUnit unit) throws Exception {
+        Session session = registry.getSession();
+        if (session == null)
+            throw new CallError("Session of ALMemory was closed");
+        return connect(new ALMemory(session), event, consumer, minInterval, unit);
+    }
+
+    private void connect(com.aldebaran.qimessaging.Object subscriber, EventConsumer<? super T> target) throws Exception {
+        sink = new Sink<T>(event, target);
+        link = subscriber.connect("signal", "onEvent::(m)", sink);
+        this.subscriber = subscriber;
+    }
+
+    public ALEvent<T> getEvent() {
+        return event;
+    }
+
+    /**
+     * @return values delivered to the consumer
+     */
+    public long getDeliveredCount() {
+        return delivered.get();
+    }
+
+    /**
+     * @return values dropped because they could not be decoded
+     */
+    public long getMalformedCount() {
+        return sink.malformed.get();
+    }
+
+    /**
+     * @return true if the values are throttled by ALMemory, false if they
+     * are coalesced locally or not throttled
+     */
+    public boolean isThrottledOnRobot() {
+        return module != null;
+    }
+
+    /**
+     * @return values coalesced locally, when ALMemory could not throttle them
+     */
+    public long getCoalescedCount() {
+        return throttle == null ? 0 : throttle.getCoalescedCount();
+    }
+
+    /**
+     * Disconnects the consumer, later values are ignored.
+     */
+    public synchronized void unsubscribe() {
+        sink.active = false;
+        if (subscriber != null) {
+            subscriber.disconnect(link);
+            subscriber = null;
+        }
+        if (module != null) {
+            module.stop();
+            module = null;
+        }
+        if (throttle != null)
+            throttle.cancel();
+    }
+
+    /**
+     * Signal callback. Public so that qimessaging can reach it.
+     */
+    public static class Sink<T> {
+
+        private final ALEvent<T> event;
+        private final EventConsumer<? super T> consumer;
+        private final AtomicLong malformed = new AtomicLong();
+        private volatile boolean active = true;
+
+        Sink(ALEvent<T> event, EventConsumer<? super T> consumer) {
+            this.event = event;
+            this.consumer = consumer;
+        }
+
+        public void onEvent(Object value) {
+            if (!active)
+                return;
+            T decoded;
+            try {
+                decoded = event.decode(value);
+            } catch (RuntimeException e) {
+                malformed.incrementAndGet();
+                return;
+            }
+            consumer.accept(decoded);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.aldebaran.qimessaging.helpers.event;
+
+import com.aldebaran.qimessaging.helpers.DaemonThreadFactory;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Passes at most one value per interval to a consumer. Values arriving
+ * sooner are coalesced, the latest one being delivered once the interval
+ * has elapsed, so the consumer always ends up with the last value.
+ * Once canceled, the pending value is dropped and later ones are ignored.
+ */
+public class EventThrottle<T> implements EventConsumer<T> {
+
+    private static ScheduledExecutorService timer;
+
+    private final EventConsumer<? super T> consumer;
+    private final long interval;
+    private final AtomicLong coalesced = new AtomicLong();
+    private long lastDelivery;
+    private T pending;
+    private ScheduledFuture<?> scheduled;
+    private boolean canceled;
+
+    public EventThrottle(EventConsumer<? super T> consumer, long interval, TimeUnit unit) {
+        this.consumer = consumer;
+        this.interval = unit.toNanos(interval);
+        this.lastDelivery = System.nanoTime() - this.interval;
+    }
+
+    public void accept(T value) {
+        synchronized (this) {
+            if (canceled)
+                return;
+            long wait = lastDelivery + interval - System.nanoTime();
+            if (scheduled != null || wait > 0) {
+                if (scheduled != null)
+                    coalesced.incrementAndGet();
+                pending = value;
+                if (scheduled == null) {
+                    scheduled = timer().schedule(new Runnable() {
+                        public void run() {
+                            flush();
+                        }
+                    }, wait, TimeUnit.NANOSECONDS);
+                }
+                return;
+            }
+            lastDelivery = System.nanoTime();
+        }
+        consumer.accept(value);
+    }
+
+    /**
+     * Drops the pending value and ignores the later ones.
+     */
+    public synchronized void cancel() {
+        canceled = true;
+        pending = null;
+        if (scheduled != null) {
+            scheduled.cancel(false);
+            scheduled = null;
+        }
+    }
+
+    /**
+     * @return values replaced by a later one before being delivered
+     */
+    public long getCoalescedCount() {
+        return coalesced.get();
+    }
+
+    private void flush() {
+        T value;
+        synchronized (this) {
+            if (canceled)
+                return;
+            value = pending;
+            pending = null;
+            scheduled = null;
+            lastDelivery = System.nanoTime();
+        }
+        consumer.accept(value);
+    }
+
+    private static synchronized ScheduledExecutorService timer() {
+        if (timer == null)
+            timer = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("EventThrottle"));
+        return timer;
+    }
+}
@@ -0,0 +1,115 @@
+package com.aldebaran.qimessaging.helpers.event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Value of FaceDetected: [[seconds, microseconds], [face..., recognition],
+ * camera position in FRAME_TORSO, camera position in FRAME_ROBOT, camera].
+ * Each face starts with its shape [0, alpha, beta, sizeX, sizeY]. An empty
+ * value, sent when the faces are lost, decodes into no face.
+ */
+public class FaceDetected {
+
+    public static final EventDecoder<FaceDetected> DECODER = new EventDecoder<FaceDetected>() {
+        public FaceDetected decode(Object value) {
+            List<?> values = EventDecoders.list(value, 0);
+            if (values.size() < 5)
+                return new FaceDetected(-1, Collections.<Face>emptyList(), new float[0], new float[0], -1);
+            List<?> info = EventDecoders.list(values.get(1), 0);
+            List<Face> faces = new ArrayList<Face>();
+            // The last entry is the time filtered recognition, not a face
+            for (int i = 0; i < info.size() - 1; i++) {
+                List<?> face = EventDecoders.list(info.get(i), 1);
+                float[] shape = EventDecoders.floats(face.get(0));
+                if (shape.length < 5)
+                    throw new IllegalArgumentException("Expected 5 shape values, got " + shape.length);
+                faces.add(new Face(shape[1], shape[2], shape[3], shape[4]));
+            }
+            return new FaceDetected(EventDecoders.timestamp(values.get(0)), Collections.unmodifiableList(faces),
+                    EventDecoders.floats(values.get(2)), EventDecoders.floats(values.get(3)),
+                    EventDecoders.INTEGER.decode(values.get(4)));
+        }
+    };
+
+    /**
+     * Position and size of a face in the camera image, in radians.
+     */
+    public static class Face {
+
+        private final float alpha;
+        private final float beta;
+        private final float sizeX;
+        private final float sizeY;
+
+        Face(float alpha, float beta, float sizeX, float sizeY) {
+            this.alpha = alpha;
+            this.beta = beta;
+            this.sizeX = sizeX;
+            this.sizeY = sizeY;
+        }
+
+        public float getAlpha() {
+            return alpha;
+        }
+
+        public float getBeta() {
+            return beta;
+        }
+
+        public float getSizeX() {
+            return sizeX;
+        }
+
+        public float getSizeY() {
+            return sizeY;
+        }
+    }
+
+    private final long timestamp;
+    private final List<Face> faces;
+    private final float[] torsoCamera;
+    private final float[] robotCamera;
+    private final int camera;
+
+    FaceDetected(long timestamp, List<Face> faces, float[] torsoCamera, float[] robotCamera, int camera) {
+        this.timestamp = timestamp;
+        this.faces = faces;
+        this.torsoCamera = torsoCamera;
+        this.robotCamera = robotCamera;
+        this.camera = camera;
+    }
+
+    /**
+     * @return robot time of the detection in microseconds, -1 when no face
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public List<Face> getFaces() {
+        return faces;
+    }
+
+    /**
+     * @return camera position as x, y, z, wx, wy, wz in FRAME_TORSO
+     */
+    public float[] getTorsoCamera() {
+        return torsoCamera.clone();
+    }
+
+    /**
+     * @return camera position as x, y, z, wx, wy, wz in FRAME_ROBOT
+     */
+    public float[] getRobotCamera() {
+        return robotCamera.clone();
+    }
+
+    /**
+     * @return index of the camera, -1 when no face
+     */
+    public int getCamera() {
+        return camera;
+    }
+}
@@ -0,0 +1,77 @@
+package com.aldebaran.qimessaging.helpers.event;
+
+import java.util.List;
+
+/**
+ * Value of ALSoundLocalization/SoundLocated:
+ * [[seconds, microseconds], [azimuth, elevation, confidence, energy],
+ * head position in FRAME_TORSO, head position in FRAME_ROBOT].
+ */
+public class SoundLocated {
+
+    public static final EventDecoder<SoundLocated> DECODER = new EventDecoder<SoundLocated>() {
+        public SoundLocated decode(Object value) {
+            List<?> values = EventDecoders.list(value, 4);
+            float[] location = EventDecoders.floats(values.get(1));
+            if (location.length < 4)
+                throw new IllegalArgumentException("Expected 4 location values, got " + location.length);
+            return new SoundLocated(EventDecoders.timestamp(values.get(0)), location,
+                    EventDecoders.floats(values.get(2)), EventDecoders.floats(values.get(3)));
+        }
+    };
+
+    private final long timestamp;
+    private final float[] location;
+    private final float[] torsoPosition;
+    private final float[] robotPosition;
+
+    SoundLocated(long timestamp, float[] location, float[] torsoPosition, float[] robotPosition) {
+        this.timestamp = timestamp;
+        this.location = location;
+        this.torsoPosition = torsoPosition;
+        this.robotPosition = robotPosition;
+    }
+
+    /**
+     * @return robot time of the detection in microseconds
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * @return azimuth of the sound relative to the head, in radians
+     */
+    public float getAzimuth() {
+        return location[0];
+    }
+
+    /**
+     * @return elevation of the sound relative to the head, in radians
+     */
+    public float getElevation() {
+        return location[1];
+    }
+
+    public float getConfidence() {
+        return location[2];
+    }
+
+    public float getEnergy() {
+        return location[3];
+    }
+
+    /**
+     * @return head position as x, y, z, wx, wy, wz in FRAME_TORSO
+     */
+    public float[] getTorsoPosition() {
+        return torsoPosition.clone();
+    }
+
+    /**
+     * @return head position as x, y, z, wx, wy, wz in FRAME_ROBOT
+     */
+    public float[] getRobotPosition() {
+        return robotPosition.clone();
+    }
+}
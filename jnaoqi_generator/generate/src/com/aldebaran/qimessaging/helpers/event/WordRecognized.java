@@ -0,0 +1,55 @@
+package com.aldebaran.qimessaging.helpers.event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Value of WordRecognized: [word, confidence, word, confidence...], best
+ * hypothesis first.
+ */
+public class WordRecognized {
+
+    public static final EventDecoder<WordRecognized> DECODER = new EventDecoder<WordRecognized>() {
+        public WordRecognized decode(Object value) {
+            List<?> values = EventDecoders.list(value, 0);
+            List<String> words = new ArrayList<String>(values.size() / 2);
+            float[] confidences = new float[values.size() / 2];
+            for (int i = 0; i < confidences.length; i++) {
+                words.add(EventDecoders.STRING.decode(values.get(2 * i)));
+                confidences[i] = EventDecoders.toFloat(values.get(2 * i + 1));
+            }
+            return new WordRecognized(Collections.unmodifiableList(words), confidences);
+        }
+    };
+
+    private final List<String> words;
+    private final float[] confidences;
+
+    WordRecognized(List<String> words, float[] confidences) {
+        this.words = words;
+        this.confidences = confidences;
+    }
+
+    /**
+     * @return the best hypothesis, null if nothing was recognized
+     */
+    public String getWord() {
+        return words.isEmpty() ? null : words.get(0);
+    }
+
+    /**
+     * @return confidence of the best hypothesis, 0 if nothing was recognized
+     */
+    public float getConfidence() {
+        return confidences.length == 0 ? 0 : confidences[0];
+    }
+
+    public List<String> getWords() {
+        return words;
+    }
+
+    public float getConfidence(int index) {
+        return confidences[index];
+    }
+}
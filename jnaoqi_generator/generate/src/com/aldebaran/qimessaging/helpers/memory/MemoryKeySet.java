@@ -0,0 +1,138 @@
+package com.aldebaran.qimessaging.helpers.memory;
+
+import com.aldebaran.qimessaging.CallError;
+import com.aldebaran.qimessaging.helpers.ALFuture;
+import com.aldebaran.qimessaging.helpers.ALFutureListener;
+import com.aldebaran.qimessaging.helpers.al.ALMemory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Ordered set of ALMemory keys read together with one getListData call.
+ *
+ * The request list is built once and the values are decoded straight into
+ * caller owned arrays, so sampling the same keys every cycle does not
+ * rebuild the request nor box the results into new lists on the client side.
+ *
+ * <pre>
+ * MemoryKeySet sensors = new MemoryKeySet(memory, keys);
+ * float[] values = new float[sensors.size()];
+ * while (running)
+ *     sensors.readInto(values);
+ * </pre>
+ */
+public class MemoryKeySet {
+
+    private final ALMemory memory;
+    /** Sent with every call, qimessaging only marshals ArrayList */
+    private final ArrayList<String> request;
+    private final List<String> keys;
+
+    public MemoryKeySet(ALMemory memory, List<String> keys) {
+        this.memory = memory;
+        this.request = new ArrayList<String>(keys);
+        this.keys = Collections.unmodifiableList(request);
+    }
+
+    public MemoryKeySet(ALMemory memory, String... keys) {
+        this(memory, Arrays.asList(keys));
+    }
+
+    public List<String> getKeys() {
+        return keys;
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    /**
+     * Reads every key as a float. Values that are not numbers read as NaN,
+     * booleans read as 0 or 1.
+     * @param dst  receives the values in key order, at least {@link #size()} long
+     * @return number of values written
+     */
+    public int readInto(float[] dst) throws CallError, InterruptedException {
+        checkLength(dst.length);
+        return decode(memory.getListData(request), dst);
+    }
+
+    /**
+     * Reads every key without conversion.
+     * @param dst  receives the values in key order, at least {@link #size()} long
+     * @return number of values written
+     */
+    public int readInto(Object[] dst) throws CallError, InterruptedException {
+        checkLength(dst.length);
+        return decode(memory.getListData(request), dst);
+    }
+
+    /**
+     * Reads every key as a float without waiting for the answer.
+     * @param dst  receives the values once the returned future succeeds
+     */
+    public ALFuture<float[]> readAsync(final float[] dst) throws CallError {
+        checkLength(dst.length);
+        final ALFuture<float[]> result = new ALFuture<float[]>();
+        memory.getListDataAsync(request).addListener(new ALFutureListener<Object>() {
+            public void onSuccess(Object values) {
+                try {
+                    decode(values, dst);
+                    result.set(dst);
+                } catch (CallError e) {
+                    result.setException(e);
+                }
+            }
+
+            public void onFailure(Throwable error) {
+                result.setException(error);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Reads every key as a float into a new array without waiting for the answer.
+     */
+    public ALFuture<float[]> readAsync() throws CallError {
+        return readAsync(new float[keys.size()]);
+    }
+
+    private void checkLength(int length) {
+        if (length < keys.size())
+            throw new IllegalArgumentException("Buffer too small: " + length + " < " + keys.size());
+    }
+
+    private int decode(Object result, float[] dst) throws CallError {
+        List<?> values = asList(result);
+        for (int i = 0; i < values.size(); i++) {
+            Object value = values.get(i);
+            if (value instanceof Number)
+                dst[i] = ((Number) value).floatValue();
+            else if (value instanceof Boolean)
+                dst[i] = ((Boolean) value) ? 1f : 0f;
+            else
+                dst[i] = Float.NaN;
+        }
+        return values.size();
+    }
+
+    private int decode(Object result, Object[] dst) throws CallError {
+        List<?> values = asList(result);
+        for (int i = 0; i < values.size(); i++)
+            dst[i] = values.get(i);
+        return values.size();
+    }
+
+    private List<?> asList(Object result) throws CallError {
+        if (!(result instanceof List))
+            throw new CallError("Unexpected getListData answer: " + result);
+        List<?> values = (List<?>) result;
+        if (values.size() != keys.size())
+            throw new CallError("Expected " + keys.size() + " values, got " + values.size());
+        return values;
+    }
+}
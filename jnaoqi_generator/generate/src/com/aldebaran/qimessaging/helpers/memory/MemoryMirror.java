@@ -0,0 +1,295 @@
+package com.aldebaran.qimessaging.helpers.memory;
+
+import com.aldebaran.qimessaging.helpers.ALFuture;
+import com.aldebaran.qimessaging.helpers.ALFutureListener;
+import com.aldebaran.qimessaging.helpers.DaemonThreadFactory;
+import com.aldebaran.qimessaging.helpers.al.ALMemory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Local copy of a set of ALMemory keys, kept up to date in the background
+ * so that reads never leave the client.
+ *
+ * Keys are either followed through their ALMemory subscriber signal, for
+ * events and data written with insertData, or refreshed with a single
+ * getListData call at a fixed period, for sensor values updated without
+ * notification. Keys whose subscriber cannot be created are polled.
+ *
+ * <pre>
+ * MemoryMirror mirror = new MemoryMirror(memory, keys);
+ * mirror.start(MemoryMirror.Mode.POLL, 20, TimeUnit.MILLISECONDS);
+ * float angle = mirror.getFloat(0);
+ * </pre>
+ */
+public class MemoryMirror {
+
+    public enum Mode {
+        /** Follow the subscriber signal of each key, poll the keys that have none */
+        SUBSCRIBE,
+        /** Poll every key */
+        POLL
+    }
+
+    /**
+     * Value of a key together with the time it was produced and mirrored.
+     */
+    public static class Entry {
+
+        private final Object value;
+        private final long robotTimestamp;
+        private final long updateNanos;
+
+        Entry(Object value, long robotTimestamp, long updateNanos) {
+            this.value = value;
+            this.robotTimestamp = robotTimestamp;
+            this.updateNanos = updateNanos;
+        }
+
+        public Object getValue() {
+            return value;
+        }
+
+        /**
+         * @return robot time of the value in microseconds, -1 if unknown
+         */
+        public long getRobotTimestamp() {
+            return robotTimestamp;
+        }
+
+        /**
+         * @return time elapsed since the value was mirrored
+         */
+        public long getAge(TimeUnit unit) {
+            return unit.convert(System.nanoTime() - updateNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private final ALMemory memory;
+    private final List<String> keys;
+    private final Map<String, Integer> indexes = new HashMap<String, Integer>();
+    private final AtomicReferenceArray<Entry> entries;
+    /** Indexes of the polled keys, replaced as a whole on start */
+    private volatile List<Integer> polled = Collections.emptyList();
+    private final List<Subscription> subscriptions = new ArrayList<Subscription>();
+    private volatile boolean fetchTimestamps;
+    private ScheduledExecutorService poller;
+
+    public MemoryMirror(ALMemory memory, List<String> keys) {
+        this.memory = memory;
+        this.keys = Collections.unmodifiableList(new ArrayList<String>(keys));
+        this.entries = new AtomicReferenceArray<Entry>(keys.size());
+        for (int i = 0; i < keys.size(); i++)
+            indexes.put(keys.get(i), i);
+    }
+
+    public List<String> getKeys() {
+        return keys;
+    }
+
+    /**
+     * @return position of a key in the mirror, -1 if it is not mirrored
+     */
+    public int indexOf(String key) {
+        Integer index = indexes.get(key);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Also fetches the robot timestamp of the values through getTimestamp.
+     * Costs one extra call per key and update, pipelined, so it is disabled
+     * by default. Must be set before {@link #start}.
+     */
+    public void setFetchTimestamps(boolean fetchTimestamps) {
+        this.fetchTimestamps = fetchTimestamps;
+    }
+
+    /**
+     * Starts mirroring.
+     * @param period  polling period of the keys that are not followed through signals
+     */
+    public synchronized void start(Mode mode, long period, TimeUnit unit) {
+        if (poller != null || !subscriptions.isEmpty())
+            throw new IllegalStateException("Mirror already started");
+        List<Integer> indexes = new ArrayList<Integer>();
+        for (int i = 0; i < keys.size(); i++) {
+            if (mode != Mode.SUBSCRIBE || !subscribe(i))
+                indexes.add(i);
+        }
+        polled = Collections.unmodifiableList(indexes);
+        if (!indexes.isEmpty()) {
+            final List<String> pollKeys = new ArrayList<String>(indexes.size());
+            for (int index : indexes)
+                pollKeys.add(keys.get(index));
+            poller = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("MemoryMirror"));
+            poller.scheduleAtFixedRate(new Runnable() {
+                public void run() {
+                    poll(pollKeys);
+                }
+            }, 0, period, unit);
+        }
+    }
+
+    /**
+     * Stops polling and disconnects every signal.
+     */
+    public synchronized void stop() {
+        if (poller != null) {
+            poller.shutdownNow();
+            poller = null;
+        }
+        for (Subscription subscription : subscriptions)
+            subscription.disconnect();
+        subscriptions.clear();
+    }
+
+    /**
+     * @return latest mirrored entry of a key, null before its first update
+     */
+    public Entry getEntry(int index) {
+        return entries.get(index);
+    }
+
+    public Object get(int index) {
+        Entry entry = entries.get(index);
+        return entry == null ? null : entry.value;
+    }
+
+    public Object get(String key) {
+        int index = indexOf(key);
+        if (index < 0)
+            throw new IllegalArgumentException("Key not mirrored: " + key);
+        return get(index);
+    }
+
+    /**
+     * @return numeric value of a key, NaN when it is missing or not a number
+     */
+    public float getFloat(int index) {
+        Object value = get(index);
+        return value instanceof Number ? ((Number) value).floatValue() : Float.NaN;
+    }
+
+    /**
+     * @return robot time of a key value in microseconds, -1 if unknown
+     */
+    public long getTimestamp(int index) {
+        Entry entry = entries.get(index);
+        return entry == null ? -1 : entry.robotTimestamp;
+    }
+
+    /**
+     * @return true if the key was updated within the given delay
+     */
+    public boolean isFresh(int index, long maxAge, TimeUnit unit) {
+        Entry entry = entries.get(index);
+        return entry != null && entry.getAge(unit) <= maxAge;
+    }
+
+    private boolean subscribe(int index) {
+        try {
+            com.aldebaran.qimessaging.Object subscriber = memory.subscriber(keys.get(index));
+            Watcher watcher = new Watcher(this, index);
+            long link = subscriber.connect("signal", "onValueChanged::(m)", watcher);
+            subscriptions.add(new Subscription(subscriber, link));
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private void poll(List<String> pollKeys) {
+        try {
+            Object result = memory.getListData(pollKeys);
+            if (!(result instanceof List))
+                return;
+            List<?> values = (List<?>) result;
+            List<Integer> indexes = polled;
+            int count = Math.min(values.size(), indexes.size());
+            for (int i = 0; i < count; i++)
+                update(indexes.get(i), values.get(i));
+        } catch (Exception e) {
+            // Keep the previous values, their age tells how stale they are
+        }
+    }
+
+    void update(final int index, Object value) {
+        // The robot time of a new value stays unknown until its own getTimestamp returns
+        Entry entry = new Entry(value, -1, System.nanoTime());
+        entries.set(index, entry);
+        if (fetchTimestamps)
+            fetchTimestamp(index, entry);
+    }
+
+    private void fetchTimestamp(final int index, final Entry entry) {
+        try {
+            ALFuture<java.lang.Object> future = memory.getTimestampAsync(keys.get(index));
+            future.addListener(new ALFutureListener<Object>() {
+                public void onSuccess(Object result) {
+                    long timestamp = parseTimestamp(result);
+                    // Dropped if a newer value replaced the entry meanwhile
+                    if (timestamp >= 0)
+                        entries.compareAndSet(index, entry, new Entry(entry.value, timestamp, entry.updateNanos));
+                }
+
+                public void onFailure(Throwable error) {
+                }
+            });
+        } catch (Exception e) {
+            // Timestamp stays unknown
+        }
+    }
+
+    /**
+     * getTimestamp answers [value, seconds, microseconds].
+     */
+    private static long parseTimestamp(Object result) {
+        if (!(result instanceof List))
+            return -1;
+        List<?> values = (List<?>) result;
+        if (values.size() < 3 || !(values.get(1) instanceof Number) || !(values.get(2) instanceof Number))
+            return -1;
+        return ((Number) values.get(1)).longValue() * 1000000L + ((Number) values.get(2)).longValue();
+    }
+
+    private static class Subscription {
+
+        final com.aldebaran.qimessaging.Object subscriber;
+        final long link;
+
+        Subscription(com.aldebaran.qimessaging.Object subscriber, long link) {
+            this.subscriber = subscriber;
+            this.link = link;
+        }
+
+        void disconnect() {
+            subscriber.disconnect(link);
+        }
+    }
+
+    /**
+     * Signal callback of one key. Public so that qimessaging can reach it.
+     */
+    public static class Watcher {
+
+        private final MemoryMirror mirror;
+        private final int index;
+
+        Watcher(MemoryMirror mirror, int index) {
+            this.mirror = mirror;
+            this.index = index;
+        }
+
+        public void onValueChanged(Object value) {
+            mirror.update(index, value);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.aldebaran.qimessaging.helpers.motion;
+
+import com.aldebaran.qimessaging.CallError;
+import com.aldebaran.qimessaging.helpers.al.ALMotion;
+import com.aldebaran.qimessaging.helpers.al.ALRobotModel;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Joint chains of a robot, used to compute effector transforms locally.
+ *
+ * Each chain starts in the torso frame and lists its joints with their
+ * offset from the previous joint and their rotation axis, followed by the
+ * offset of the effector. Lengths are in meters.
+ */
+public class KinematicModel {
+
+    private static final double SQRT_HALF = Math.sqrt(0.5);
+
+    /**
+     * Joint of a chain.
+     */
+    static class Joint {
+
+        final String name;
+        final double[] offset;
+        final double[] axis;
+
+        Joint(String name, double[] offset, double[] axis) {
+            this.name = name;
+            this.offset = offset;
+            this.axis = axis;
+        }
+    }
+
+    /**
+     * Joints from the torso to an effector.
+     */
+    static class Chain {
+
+        final List<Joint> joints = new ArrayList<Joint>();
+        double[] effector = {0, 0, 0};
+    }
+
+    private final Map<String, Chain> chains = new LinkedHashMap<String, Chain>();
+    private final Map<String, float[]> limits = new HashMap<String, float[]>();
+
+    /**
+     * @return the model of a NAO H25, the body names and limits being read
+     * from the robot
+     * @throws CallError if the robot is not a NAO
+     */
+    public static KinematicModel load(ALRobotModel robotModel, ALMotion motion) throws CallError, InterruptedException {
+        String type = robotModel._getRobotTypeString();
+        if (type == null || !type.toLowerCase().startsWith("nao"))
+            throw new CallError("No kinematic model for robot type " + type);
+        KinematicModel model = nao();
+        List<String> names = motion.getBodyNames("Body");
+        Object values = motion.getLimits("Body");
+        if (values instanceof List) {
+            List<?> rows = (List<?>) values;
+            for (int i = 0; i < Math.min(rows.size(), names.size()); i++) {
+                if (!(rows.get(i) instanceof List))
+                    continue;
+                List<?> row = (List<?>) rows.get(i);
+                if (row.size() >= 2 && row.get(0) instanceof Number && row.get(1) instanceof Number)
+                    model.limits.put(names.get(i), new float[] {((Number) row.get(0)).floatValue(), ((Number) row.get(1)).floatValue()});
+            }
+        }
+        return model;
+    }
+
+    /**
+     * @return the NAO H25 chains, as documented for the V4 and V5 bodies
+     */
+    public static KinematicModel nao() {
+        KinematicModel model = new KinematicModel();
+        Chain head = model.chain("Head");
+        head.joints.add(joint("HeadYaw", 0, 0, 0.1265, 'z'));
+        head.joints.add(joint("HeadPitch", 0, 0, 0, 'y'));
+        for (int side = 0; side < 2; side++) {
+            String prefix = side == 0 ? "L" : "R";
+            double sign = side == 0 ? 1 : -1;
+            Chain arm = model.chain(prefix + "Arm");
+            arm.joints.add(joint(prefix + "ShoulderPitch", 0, sign * 0.098, 0.100, 'y'));
+            arm.joints.add(joint(prefix + "ShoulderRoll", 0, 0, 0, 'z'));
+            arm.joints.add(joint(prefix + "ElbowYaw", 0.105, sign * 0.015, 0, 'x'));
+            arm.joints.add(joint(prefix + "ElbowRoll", 0, 0, 0, 'z'));
+            arm.joints.add(joint(prefix + "WristYaw", 0.05595, 0, 0, 'x'));
+            arm.effector = new double[] {0.05775, 0, -0.01231};
+            Chain leg = model.chain(prefix + "Leg");
+            leg.joints.add(new Joint(prefix + "HipYawPitch", new double[] {0, sign * 0.050, -0.085},
+                    new double[] {0, SQRT_HALF, -sign * SQRT_HALF}));
+            leg.joints.add(joint(prefix + "HipRoll", 0, 0, 0, 'x'));
+            leg.joints.add(joint(prefix + "HipPitch", 0, 0, 0, 'y'));
+            leg.joints.add(joint(prefix + "KneePitch", 0, 0, -0.100, 'y'));
+            leg.joints.add(joint(prefix + "AnklePitch", 0, 0, -0.1029, 'y'));
+            leg.joints.add(joint(prefix + "AnkleRoll", 0, 0, 0, 'x'));
+            leg.effector = new double[] {0, 0, -0.04519};
+        }
+        return model;
+    }
+
+    /**
+     * @return names of the chains, Head, LArm, RArm, LLeg and RLeg for a NAO
+     */
+    public List<String> getChainNames() {
+        return Collections.unmodifiableList(new ArrayList<String>(chains.keySet()));
+    }
+
+    /**
+     * @return joints of a chain from the torso outwards
+     */
+    public List<String> getJointNames(String chain) {
+        List<String> names = new ArrayList<String>();
+        for (Joint joint : getChain(chain).joints)
+            names.add(joint.name);
+        return names;
+    }
+
+    /**
+     * @return [min, max] of a joint in radians, null when unknown
+     */
+    public float[] getLimits(String joint) {
+        return limits.get(joint);
+    }
+
+    Chain getChain(String name) {
+        Chain chain = chains.get(name);
+        if (chain == null)
+            throw new IllegalArgumentException("Unknown chain " + name);
+        return chain;
+    }
+
+    private Chain chain(String name) {
+        Chain chain = new Chain();
+        chains.put(name, chain);
+        return chain;
+    }
+
+    private static Joint joint(String name, double x, double y, double z, char axis) {
+        double[] vector = {axis == 'x' ? 1 : 0, axis == 'y' ? 1 : 0, axis == 'z' ? 1 : 0};
+        return new Joint(name, new double[] {x, y, z}, vector);
+    }
+}
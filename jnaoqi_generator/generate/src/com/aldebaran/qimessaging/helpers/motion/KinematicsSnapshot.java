@@ -0,0 +1,150 @@
+package com.aldebaran.qimessaging.helpers.motion;
+
+import com.aldebaran.qimessaging.CallError;
+import com.aldebaran.qimessaging.helpers.al.ALMotion;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Effector transforms computed locally from one read of the joint angles.
+ *
+ * {@link #update()} fetches every body angle with a single getAngles call,
+ * then {@link #getTransform(String)} and {@link #getPosition(String)} give
+ * the effectors of a {@link KinematicModel} in FRAME_TORSO without further
+ * calls, instead of one getTransform or getPosition round trip each. Results
+ * can be checked against ALMotion with {@link #validate(String)}.
+ *
+ * <pre>
+ * KinematicsSnapshot snapshot = new KinematicsSnapshot(motion, KinematicModel.load(robotModel, motion));
+ * snapshot.update();
+ * float[] hand = snapshot.getPosition("LArm");
+ * float[] head = snapshot.getTransform("Head");
+ * </pre>
+ */
+public class KinematicsSnapshot {
+
+    private final ALMotion motion;
+    private final KinematicModel model;
+    private final Map<String, Integer> indexes = new HashMap<String, Integer>();
+    private final Map<String, float[]> transforms = new HashMap<String, float[]>();
+    private float[] angles;
+
+    public KinematicsSnapshot(ALMotion motion, KinematicModel model) throws CallError, InterruptedException {
+        this.motion = motion;
+        this.model = model;
+        List<String> names = motion.getBodyNames("Body");
+        for (int i = 0; i < names.size(); i++)
+            indexes.put(names.get(i), i);
+        this.angles = new float[names.size()];
+    }
+
+    /**
+     * Reads the sensed angles of every joint, in one call.
+     */
+    public synchronized void update() throws CallError, InterruptedException {
+        motion.getAnglesInto(angles, "Body", true);
+        transforms.clear();
+    }
+
+    /**
+     * @return sensed angle of a joint at the last update, in radians
+     */
+    public synchronized float getAngle(String joint) {
+        Integer index = indexes.get(joint);
+        if (index == null)
+            throw new IllegalArgumentException("Unknown joint " + joint);
+        return angles[index];
+    }
+
+    /**
+     * @return homogenous transform of a chain effector in FRAME_TORSO, 16
+     * floats line by line as returned by ALMotion.getTransform
+     */
+    public synchronized float[] getTransform(String chain) {
+        float[] transform = transforms.get(chain);
+        if (transform == null) {
+            transform = compute(model.getChain(chain));
+            transforms.put(chain, transform);
+        }
+        return transform.clone();
+    }
+
+    /**
+     * @return position of a chain effector in FRAME_TORSO as x, y, z, wx, wy,
+     * wz, as returned by ALMotion.getPosition
+     */
+    public float[] getPosition(String chain) {
+        float[] t = getTransform(chain);
+        double wy = Math.atan2(-t[8], Math.sqrt(t[9] * t[9] + t[10] * t[10]));
+        double wx = Math.atan2(t[9], t[10]);
+        double wz = Math.atan2(t[4], t[0]);
+        return new float[] {t[3], t[7], t[11], (float) wx, (float) wy, (float) wz};
+    }
+
+    /**
+     * Compares the local transform of a chain with the one computed by
+     * ALMotion from the current sensor values. Call right after
+     * {@link #update()} on a still robot.
+     * @return largest difference between the two transforms, in meters for
+     * the translation and unitless for the rotation terms
+     */
+    public float validate(String chain) throws CallError, InterruptedException {
+        float[] remote = motion.getTransformF(chain, 0, true);
+        float[] local = getTransform(chain);
+        float error = 0;
+        for (int i = 0; i < Math.min(remote.length, local.length); i++)
+            error = Math.max(error, Math.abs(remote[i] - local[i]));
+        return error;
+    }
+
+    private float[] compute(KinematicModel.Chain chain) {
+        double[] transform = {1, 0, 0, 0, 0, 1, 0, 0, 0, 0, 1, 0, 0, 0, 0, 1};
+        for (KinematicModel.Joint joint : chain.joints) {
+            Integer index = indexes.get(joint.name);
+            double angle = index == null ? 0 : angles[index];
+            transform = multiply(transform, translation(joint.offset));
+            transform = multiply(transform, rotation(joint.axis, angle));
+        }
+        transform = multiply(transform, translation(chain.effector));
+        float[] result = new float[16];
+        for (int i = 0; i < 16; i++)
+            result[i] = (float) transform[i];
+        return result;
+    }
+
+    private static double[] translation(double[] offset) {
+        return new double[] {1, 0, 0, offset[0], 0, 1, 0, offset[1], 0, 0, 1, offset[2], 0, 0, 0, 1};
+    }
+
+    /**
+     * Rodrigues rotation around a unit axis.
+     */
+    private static double[] rotation(double[] axis, double angle) {
+        double x = axis[0];
+        double y = axis[1];
+        double z = axis[2];
+        double c = Math.cos(angle);
+        double s = Math.sin(angle);
+        double t = 1 - c;
+        return new double[] {
+                t * x * x + c, t * x * y - s * z, t * x * z + s * y, 0,
+                t * x * y + s * z, t * y * y + c, t * y * z - s * x, 0,
+                t * x * z - s * y, t * y * z + s * x, t * z * z + c, 0,
+                0, 0, 0, 1};
+    }
+
+    private static double[] multiply(double[] a, double[] b) {
+        double[] result = new double[16];
+        for (int row = 0; row < 4; row++) {
+            for (int column = 0; column < 4; column++) {
+                double sum = 0;
+                for (int k = 0; k < 4; k++)
+                    sum += a[row * 4 + k] * b[k * 4 + column];
+                result[row * 4 + column] = sum;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,196 @@
+package com.aldebaran.qimessaging.helpers.motion;
+
+import com.aldebaran.qimessaging.CallError;
+import com.aldebaran.qimessaging.helpers.ALFuture;
+import com.aldebaran.qimessaging.helpers.DaemonThreadFactory;
+import com.aldebaran.qimessaging.helpers.al.ALMotion;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Coalesces joint and walk commands issued faster than the robot uses them.
+ *
+ * Commands only update pending targets: the latest setAngles target of
+ * each joint, the changeAngles steps of a joint summed up, the latest
+ * moveToward velocity. Pending targets are flushed at a fixed rate, every
+ * joint in a single setAngles call, and a flush is skipped while the
+ * previous one is still in flight. A burst of UI events therefore costs at
+ * most one call per flush instead of a backlog of stale motions.
+ *
+ * Joints are keyed by the name given, a chain name such as "Head" and one
+ * of its joints are two different keys.
+ *
+ * <pre>
+ * MotionChannel channel = new MotionChannel(motion);
+ * channel.start(20, TimeUnit.MILLISECONDS);
+ * channel.setAngle("HeadYaw", yaw, 0.2f);
+ * channel.moveToward(x, 0f, theta);
+ * </pre>
+ */
+public class MotionChannel {
+
+    private final ALMotion motion;
+    private final Map<String, Target> targets = new LinkedHashMap<String, Target>();
+    private final AtomicLong commands = new AtomicLong();
+    private final AtomicLong calls = new AtomicLong();
+    private final List<ALFuture<Void>> inFlight = new ArrayList<ALFuture<Void>>();
+    private float[] walk;
+    private ScheduledExecutorService flusher;
+
+    public MotionChannel(ALMotion motion) {
+        this.motion = motion;
+    }
+
+    /**
+     * Sets the target of a joint or chain, replacing any pending command.
+     */
+    public synchronized void setAngle(String name, float angle, float fractionMaxSpeed) {
+        targets.put(name, new Target(angle, fractionMaxSpeed, false));
+        commands.incrementAndGet();
+    }
+
+    /**
+     * Sets the targets of several joints, replacing their pending commands.
+     */
+    public synchronized void setAngles(List<String> names, float[] angles, float fractionMaxSpeed) {
+        for (int i = 0; i < names.size(); i++)
+            targets.put(names.get(i), new Target(angles[i], fractionMaxSpeed, false));
+        commands.incrementAndGet();
+    }
+
+    /**
+     * Moves a joint by the given step, added to its pending command.
+     */
+    public synchronized void changeAngle(String name, float change, float fractionMaxSpeed) {
+        Target pending = targets.get(name);
+        if (pending == null)
+            targets.put(name, new Target(change, fractionMaxSpeed, true));
+        else
+            targets.put(name, new Target(pending.angle + change, fractionMaxSpeed, pending.relative));
+        commands.incrementAndGet();
+    }
+
+    /**
+     * Moves several joints by the given steps, added to their pending commands.
+     */
+    public synchronized void changeAngles(List<String> names, float[] changes, float fractionMaxSpeed) {
+        for (int i = 0; i < names.size(); i++)
+            changeAngle(names.get(i), changes[i], fractionMaxSpeed);
+        commands.addAndGet(1 - names.size());
+    }
+
+    /**
+     * Sets the walk velocity, replacing the pending one.
+     */
+    public synchronized void moveToward(float x, float y, float theta) {
+        walk = new float[] {x, y, theta};
+        commands.incrementAndGet();
+    }
+
+    /**
+     * @return commands received
+     */
+    public long getCommandCount() {
+        return commands.get();
+    }
+
+    /**
+     * @return calls sent to ALMotion
+     */
+    public long getCallCount() {
+        return calls.get();
+    }
+
+    /**
+     * Flushes pending targets at the given period.
+     */
+    public synchronized void start(long period, TimeUnit unit) {
+        if (flusher != null)
+            throw new IllegalStateException("Channel already started");
+        flusher = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("MotionChannel"));
+        flusher.scheduleAtFixedRate(new Runnable() {
+            public void run() {
+                try {
+                    flush();
+                } catch (CallError e) {
+                    // Targets sent are lost, the next commands replace them
+                }
+            }
+        }, period, period, unit);
+    }
+
+    public synchronized void stop() {
+        if (flusher != null) {
+            flusher.shutdownNow();
+            flusher = null;
+        }
+    }
+
+    /**
+     * Sends the pending targets, unless the previous flush is still in flight.
+     * @return false if the flush was skipped
+     */
+    public synchronized boolean flush() throws CallError {
+        for (ALFuture<Void> call : inFlight) {
+            if (!call.isDone())
+                return false;
+        }
+        inFlight.clear();
+        List<String> names = new ArrayList<String>();
+        List<Float> angles = new ArrayList<Float>();
+        List<Float> speeds = new ArrayList<Float>();
+        Map<Float, List<String>> changeNames = new LinkedHashMap<Float, List<String>>();
+        Map<Float, List<Float>> changes = new LinkedHashMap<Float, List<Float>>();
+        for (Map.Entry<String, Target> entry : targets.entrySet()) {
+            Target target = entry.getValue();
+            if (!target.relative) {
+                names.add(entry.getKey());
+                angles.add(target.angle);
+                speeds.add(target.speed);
+                continue;
+            }
+            // changeAngles takes a single speed, one call per speed
+            if (!changes.containsKey(target.speed)) {
+                changeNames.put(target.speed, new ArrayList<String>());
+                changes.put(target.speed, new ArrayList<Float>());
+            }
+            changeNames.get(target.speed).add(entry.getKey());
+            changes.get(target.speed).add(target.angle);
+        }
+        targets.clear();
+        if (!names.isEmpty())
+            send(motion.setAnglesAsync(names, angles, speeds));
+        for (Float speed : changes.keySet())
+            send(motion.changeAnglesAsync(changeNames.get(speed), changes.get(speed), speed));
+        if (walk != null) {
+            send(motion.moveTowardAsync(walk[0], walk[1], walk[2]));
+            walk = null;
+        }
+        return true;
+    }
+
+    private void send(ALFuture<Void> call) {
+        inFlight.add(call);
+        calls.incrementAndGet();
+    }
+
+    private static class Target {
+
+        final float angle;
+        final float speed;
+        final boolean relative;
+
+        Target(float angle, float speed, boolean relative) {
+            this.angle = angle;
+            this.speed = speed;
+            this.relative = relative;
+        }
+    }
+}
@@ -0,0 +1,365 @@
+package com.aldebaran.qimessaging.helpers.motion;
+
+import com.aldebaran.qimessaging.CallError;
+import com.aldebaran.qimessaging.helpers.ALFuture;
+import com.aldebaran.qimessaging.helpers.ALFutureListener;
+import com.aldebaran.qimessaging.helpers.LatencyHistogram;
+import com.aldebaran.qimessaging.helpers.al.ALMotion;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plays a long stream of joint keyframes with angleInterpolation.
+ *
+ * Keyframes are sent in windows covering the look-ahead duration. The next
+ * window is sent while the robot still plays the previous one and replaces
+ * it, so playback never waits for a round trip between keyframes. Each
+ * window is timed from the playback clock, shifted by the expected
+ * latency, so the error does not accumulate from one window to the next.
+ *
+ * Keyframes can be added while playing. Playback can be paused, resumed,
+ * moved to another time and canceled, the running motion being stopped
+ * with killTasksUsingResources.
+ *
+ * <pre>
+ * TrajectoryPlayer player = new TrajectoryPlayer(motion, names);
+ * player.add(0.5f, angles0);
+ * player.add(1.0f, angles1);
+ * player.finish();
+ * player.play();
+ * player.awaitEnd();
+ * </pre>
+ */
+public class TrajectoryPlayer {
+
+    /** Smallest time accepted by angleInterpolation for the first keyframe */
+    private static final float MIN_LEAD = 0.02f;
+
+    private final ALMotion motion;
+    private final List<String> names;
+    /** Names sent to the robot, the bindings only marshal ArrayList */
+    private final ArrayList<String> request;
+    private final List<Keyframe> keyframes = new ArrayList<Keyframe>();
+    private final LatencyHistogram sendLateness = new LatencyHistogram();
+    private float lookAhead = 1f;
+    private float overlap = 0.5f;
+    private float latency = 0.05f;
+    private boolean finished;
+    private float position;
+    private long startNanos;
+    private boolean playing;
+    private boolean ended;
+    private volatile float endError = Float.NaN;
+    private ALFuture<Void> lastWindow;
+    private Thread thread;
+
+    public TrajectoryPlayer(ALMotion motion, List<String> names) {
+        this.motion = motion;
+        this.request = new ArrayList<String>(names);
+        this.names = Collections.unmodifiableList(request);
+    }
+
+    /**
+     * Sets the duration covered by each window and how long before the end
+     * of a window the next one is sent, in seconds, 1 and 0.5 by default.
+     */
+    public synchronized void setLookAhead(float lookAhead, float overlap) {
+        this.lookAhead = lookAhead;
+        this.overlap = Math.min(overlap, lookAhead);
+    }
+
+    /**
+     * Sets the expected time for a window to reach the robot, 50 ms by default.
+     */
+    public synchronized void setLatency(long latency, TimeUnit unit) {
+        this.latency = unit.toMicros(latency) / 1e6f;
+    }
+
+    public List<String> getNames() {
+        return names;
+    }
+
+    /**
+     * Appends a keyframe.
+     * @param time  playback time in seconds, after the previous keyframe
+     * @param angles  one angle per joint, in radians
+     */
+    public synchronized void add(float time, float... angles) {
+        if (angles.length != names.size())
+            throw new IllegalArgumentException("Expected " + names.size() + " angles, got " + angles.length);
+        if (!keyframes.isEmpty() && time <= keyframes.get(keyframes.size() - 1).time)
+            throw new IllegalArgumentException("Keyframes must be added in increasing time");
+        if (finished)
+            throw new IllegalStateException("Stream already finished");
+        keyframes.add(new Keyframe(time, angles.clone()));
+        notifyAll();
+    }
+
+    /**
+     * Marks the end of the stream, playback then ends after the last keyframe.
+     */
+    public synchronized void finish() {
+        finished = true;
+        notifyAll();
+    }
+
+    /**
+     * Starts or resumes playback from the current position.
+     */
+    public synchronized void play() {
+        if (playing)
+            return;
+        playing = true;
+        ended = false;
+        startNanos = System.nanoTime();
+        thread = new Thread(new Runnable() {
+            public void run() {
+                playLoop();
+            }
+        }, "TrajectoryPlayer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the motion and keeps the position for {@link #play()}.
+     */
+    public void pause() throws CallError, InterruptedException {
+        Thread toJoin;
+        synchronized (this) {
+            if (!playing)
+                return;
+            position = elapsed();
+            playing = false;
+            toJoin = thread;
+            thread = null;
+            notifyAll();
+        }
+        toJoin.interrupt();
+        toJoin.join();
+        motion.killTasksUsingResources(request);
+    }
+
+    /**
+     * Moves playback to the given time, in seconds.
+     */
+    public void seek(float time) throws CallError, InterruptedException {
+        boolean resume;
+        synchronized (this) {
+            resume = playing;
+        }
+        pause();
+        synchronized (this) {
+            position = time;
+        }
+        if (resume)
+            play();
+    }
+
+    /**
+     * Stops the motion and drops every keyframe.
+     */
+    public void cancel() throws CallError, InterruptedException {
+        pause();
+        synchronized (this) {
+            keyframes.clear();
+            finished = false;
+            position = 0;
+            notifyAll();
+        }
+    }
+
+    public synchronized boolean isPlaying() {
+        return playing;
+    }
+
+    /**
+     * @return current playback time in seconds
+     */
+    public synchronized float getPosition() {
+        return playing ? elapsed() : position;
+    }
+
+    /**
+     * Waits until the last keyframe is reached or playback stops.
+     */
+    public synchronized void awaitEnd() throws InterruptedException {
+        while (playing && !ended)
+            wait();
+    }
+
+    /**
+     * @return how late windows were sent compared to their schedule
+     */
+    public LatencyHistogram getSendLateness() {
+        return sendLateness;
+    }
+
+    /**
+     * @return time between the planned end of the stream and the end of the
+     * robot motion, positive when late, NaN until a stream played to its end
+     */
+    public float getEndError(TimeUnit unit) {
+        return endError * unit.convert(1000000, TimeUnit.MICROSECONDS);
+    }
+
+    private float elapsed() {
+        return position + (System.nanoTime() - startNanos) / 1e9f;
+    }
+
+    private void playLoop() {
+        try {
+            float planned = -1;
+            while (true) {
+                Window window;
+                synchronized (this) {
+                    if (!playing)
+                        return;
+                    float now = elapsed();
+                    if (planned >= 0)
+                        sendLateness.record((long) ((now - planned) * 1e6f), TimeUnit.MICROSECONDS);
+                    float arrival = now + latency;
+                    window = collect(arrival);
+                    if (window == null) {
+                        if (finished && firstAfter(arrival) == keyframes.size()) {
+                            awaitLast(arrival);
+                            return;
+                        }
+                        planned = -1;
+                        wait(50);
+                        continue;
+                    }
+                }
+                final float end = window.end;
+                final float sentAt;
+                final ALFuture<Void> done;
+                synchronized (this) {
+                    sentAt = elapsed();
+                    done = motion.angleInterpolationAsync(request, window.angles, window.times, true);
+                    lastWindow = done;
+                }
+                done.addListener(new ALFutureListener<Void>() {
+                    public void onSuccess(Void result) {
+                        windowDone(done, end);
+                    }
+
+                    public void onFailure(Throwable error) {
+                        windowDone(done, end);
+                    }
+                });
+                planned = Math.max(sentAt, end - overlap - latency);
+                synchronized (this) {
+                    long delay;
+                    while (playing && (delay = (long) ((planned - elapsed()) * 1000)) > 0)
+                        wait(delay);
+                }
+            }
+        } catch (InterruptedException e) {
+            // Paused
+        } catch (CallError e) {
+            synchronized (this) {
+                position = elapsed();
+                playing = false;
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Records the end error once the window holding the last keyframe,
+     * and not replaced by a later one, is done.
+     */
+    private synchronized void windowDone(ALFuture<Void> window, float end) {
+        if (window == lastWindow && finished && !keyframes.isEmpty() && end == keyframes.get(keyframes.size() - 1).time) {
+            endError = elapsed() - end;
+            notifyAll();
+        }
+    }
+
+    /**
+     * Called with the lock held once every keyframe was sent, waits for the
+     * last window to complete.
+     */
+    private void awaitLast(float arrival) throws InterruptedException {
+        while (playing && lastWindow != null && !lastWindow.isDone())
+            wait(50);
+        if (!playing)
+            return;
+        ended = true;
+        playing = false;
+        position = keyframes.isEmpty() ? arrival : keyframes.get(keyframes.size() - 1).time;
+        thread = null;
+        lastWindow = null;
+        notifyAll();
+    }
+
+    /**
+     * @return the keyframes to send for a window reaching the robot at the
+     * given time, null if there is none
+     */
+    private Window collect(float arrival) {
+        int from = firstAfter(arrival + MIN_LEAD);
+        int to = from;
+        while (to < keyframes.size() && keyframes.get(to).time <= arrival + lookAhead)
+            to++;
+        if (to == from)
+            return null;
+        ArrayList<ArrayList<Float>> angles = new ArrayList<ArrayList<Float>>(names.size());
+        ArrayList<ArrayList<Float>> times = new ArrayList<ArrayList<Float>>(names.size());
+        ArrayList<Float> shared = new ArrayList<Float>(to - from);
+        for (int i = from; i < to; i++)
+            shared.add(keyframes.get(i).time - arrival);
+        for (int joint = 0; joint < names.size(); joint++) {
+            ArrayList<Float> values = new ArrayList<Float>(to - from);
+            for (int i = from; i < to; i++)
+                values.add(keyframes.get(i).angles[joint]);
+            angles.add(values);
+            times.add(shared);
+        }
+        return new Window(angles, times, keyframes.get(to - 1).time);
+    }
+
+    /**
+     * @return index of the first keyframe strictly after the given time
+     */
+    private int firstAfter(float time) {
+        int low = 0;
+        int high = keyframes.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keyframes.get(middle).time <= time)
+                low = middle + 1;
+            else
+                high = middle;
+        }
+        return low;
+    }
+
+    private static class Keyframe {
+
+        final float time;
+        final float[] angles;
+
+        Keyframe(float time, float[] angles) {
+            this.time = time;
+            this.angles = angles;
+        }
+    }
+
+    private static class Window {
+
+        final ArrayList<ArrayList<Float>> angles;
+        final ArrayList<ArrayList<Float>> times;
+        /** Playback time of the last keyframe */
+        final float end;
+
+        Window(ArrayList<ArrayList<Float>> angles, ArrayList<ArrayList<Float>> times, float end) {
+            this.angles = angles;
+            this.times = times;
+            this.end = end;
+        }
+    }
+}
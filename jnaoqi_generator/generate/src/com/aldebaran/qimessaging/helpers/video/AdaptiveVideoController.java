@@ -0,0 +1,236 @@
+package com.aldebaran.qimessaging.helpers.video;
+
+import com.aldebaran.qimessaging.CallError;
+import com.aldebaran.qimessaging.helpers.DaemonThreadFactory;
+import com.aldebaran.qimessaging.helpers.al.ALVideoDevice;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adjusts the subscription of a {@link FrameGrabber} to the link quality.
+ *
+ * At every control period the smoothed getImageRemote fetch time is
+ * compared to a target latency. When it stays above the target the
+ * subscription moves one step down a ladder of {@link VideoSettings}, when
+ * it stays well below the subscription moves one step back up. Settings
+ * are changed in place with setResolution, setColorSpace and setFrameRate,
+ * and the grabber requests are paced to the new frame rate. When one of
+ * those calls fails the changes already made are undone, so that
+ * {@link #getActiveSettings()} always describes the camera. The
+ * FakeVideoDevice of the test sources runs the loop offline over a
+ * limited link.
+ *
+ * <pre>
+ * FrameGrabber grabber = new FrameGrabber(video, "remote", 0, 2, 11, 10);
+ * grabber.start();
+ * AdaptiveVideoController controller = new AdaptiveVideoController(grabber, video,
+ *         VideoSettings.ladder(2, 11, 10, false));
+ * controller.setTargetLatency(150, TimeUnit.MILLISECONDS);
+ * controller.start(1, TimeUnit.SECONDS);
+ * </pre>
+ */
+public class AdaptiveVideoController {
+
+    private final FrameGrabber grabber;
+    private final ALVideoDevice video;
+    private final List<VideoSettings> levels;
+    private long targetNanos = TimeUnit.MILLISECONDS.toNanos(200);
+    private float upRatio = 0.5f;
+    private int downAfter = 2;
+    private int upAfter = 5;
+    private volatile int level;
+    private volatile VideoSettings active;
+    private volatile float throughput;
+    private volatile float measuredFps;
+    private int above;
+    private int below;
+    private long lastBytes;
+    private long lastFrames;
+    private long lastNanos;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * @param levels  settings from the richest to the cheapest, the grabber
+     *                must have been subscribed with the first one
+     */
+    public AdaptiveVideoController(FrameGrabber grabber, ALVideoDevice video, List<VideoSettings> levels) {
+        if (levels.isEmpty())
+            throw new IllegalArgumentException("No settings to choose from");
+        this.grabber = grabber;
+        this.video = video;
+        this.levels = new ArrayList<VideoSettings>(levels);
+        this.active = this.levels.get(0);
+    }
+
+    /**
+     * Sets the fetch time to stay under, 200 ms by default.
+     */
+    public void setTargetLatency(long latency, TimeUnit unit) {
+        this.targetNanos = unit.toNanos(latency);
+    }
+
+    /**
+     * Sets how many consecutive periods the latency must stay above the
+     * target before stepping down, and below upRatio times the target
+     * before stepping up. Defaults to 2, 5 and 0.5.
+     */
+    public void setHysteresis(int downAfter, int upAfter, float upRatio) {
+        this.downAfter = downAfter;
+        this.upAfter = upAfter;
+        this.upRatio = upRatio;
+    }
+
+    public synchronized void start(long period, TimeUnit unit) {
+        if (scheduler != null)
+            throw new IllegalStateException("Controller already started");
+        lastNanos = System.nanoTime();
+        lastBytes = grabber.getGrabbedBytes();
+        lastFrames = grabber.getGrabbedCount();
+        scheduler = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("AdaptiveVideoController"));
+        scheduler.scheduleWithFixedDelay(new Runnable() {
+            public void run() {
+                adapt();
+            }
+        }, period, period, unit);
+    }
+
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * @return position of the active settings in the ladder, 0 being the richest
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * @return settings of the camera, which are the ones of the level unless
+     * a failed change could not be undone
+     */
+    public VideoSettings getActiveSettings() {
+        return active;
+    }
+
+    /**
+     * @return bytes received per second over the last control period
+     */
+    public float getThroughput() {
+        return throughput;
+    }
+
+    /**
+     * @return frames received per second over the last control period
+     */
+    public float getMeasuredFps() {
+        return measuredFps;
+    }
+
+    /**
+     * Runs one control step. Called at every period once started, can be
+     * called by hand when the controller is not started.
+     */
+    public synchronized void adapt() {
+        long now = System.nanoTime();
+        long bytes = grabber.getGrabbedBytes();
+        long frames = grabber.getGrabbedCount();
+        float seconds = (now - lastNanos) / 1e9f;
+        if (seconds > 0) {
+            throughput = (bytes - lastBytes) / seconds;
+            measuredFps = (frames - lastFrames) / seconds;
+        }
+        lastNanos = now;
+        lastBytes = bytes;
+        lastFrames = frames;
+        int next = decide(grabber.getFetchTime(TimeUnit.NANOSECONDS));
+        if (next != level && apply(levels.get(next)))
+            level = next;
+    }
+
+    private int decide(long fetchNanos) {
+        if (fetchNanos == 0)
+            return level;
+        if (fetchNanos > targetNanos) {
+            below = 0;
+            if (++above >= downAfter && level < levels.size() - 1) {
+                above = 0;
+                return level + 1;
+            }
+        } else if (fetchNanos < targetNanos * upRatio) {
+            above = 0;
+            if (++below >= upAfter && level > 0) {
+                below = 0;
+                return level - 1;
+            }
+        } else {
+            above = 0;
+            below = 0;
+        }
+        return level;
+    }
+
+    /**
+     * Moves the camera to the next settings, or back to the active ones if
+     * a call fails.
+     * @return true if the camera now uses the next settings
+     */
+    private boolean apply(VideoSettings next) {
+        String handle = grabber.getHandle();
+        if (handle == null)
+            return false;
+        VideoSettings previous = active;
+        try {
+            change(handle, next);
+            return true;
+        } catch (CallError e) {
+            // Undone below
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        boolean interrupted = Thread.interrupted();
+        try {
+            change(handle, previous);
+        } catch (CallError e) {
+            // The active settings keep what could not be undone
+        } catch (InterruptedException e) {
+            interrupted = true;
+        }
+        if (interrupted)
+            Thread.currentThread().interrupt();
+        return false;
+    }
+
+    /**
+     * Changes one setting at a time, updating the active settings after
+     * each call so that they follow the camera.
+     */
+    private void change(String handle, VideoSettings target) throws CallError, InterruptedException {
+        VideoSettings current = active;
+        if (target.getResolution() != current.getResolution()) {
+            if (!video.setResolution(handle, target.getResolution()))
+                throw new CallError("setResolution refused " + target.getResolution());
+            current = new VideoSettings(target.getResolution(), current.getColorSpace(), current.getFps());
+            active = current;
+        }
+        if (target.getColorSpace() != current.getColorSpace()) {
+            if (!video.setColorSpace(handle, target.getColorSpace()))
+                throw new CallError("setColorSpace refused " + target.getColorSpace());
+            current = new VideoSettings(current.getResolution(), target.getColorSpace(), current.getFps());
+            active = current;
+        }
+        if (target.getFps() != current.getFps()) {
+            if (!video.setFrameRate(handle, target.getFps()))
+                throw new CallError("setFrameRate refused " + target.getFps());
+            grabber.setFrameRate(target.getFps());
+        }
+        active = target;
+    }
+}
@@ -0,0 +1,197 @@
+package com.aldebaran.qimessaging.helpers.video;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Converts NAOqi images into packed ARGB pixels.
+ *
+ * The source buffer is copied once in bulk into a reusable scratch array
+ * and converted row by row with integer arithmetic, optionally splitting
+ * the rows across an executor. The target is a caller owned int array, on
+ * the desktop it can be the raster of a TYPE_INT_ARGB BufferedImage:
+ * <pre>
+ * int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+ * converter.toArgb(frame, pixels);
+ * </pre>
+ *
+ * Supported colorspaces are the single layer ones (rendered as gray),
+ * kYUV422, kYUV, kRGB, kBGR, kHSY and kDepth. A converter is not thread
+ * safe, use one per grab loop.
+ */
+public class ColorConverter {
+
+    private final Executor executor;
+    private final int parts;
+    private byte[] scratch = new byte[0];
+    private int maxDepth = 4000;
+
+    /**
+     * Creates a converter working on the calling thread.
+     */
+    public ColorConverter() {
+        this(null, 1);
+    }
+
+    /**
+     * Creates a converter splitting each image into parts converted on the
+     * given executor, typically one part per core.
+     */
+    public ColorConverter(Executor executor, int parts) {
+        this.executor = executor;
+        this.parts = executor == null ? 1 : Math.max(1, parts);
+    }
+
+    /**
+     * Sets the depth rendered as white for kDepth images, in millimeters.
+     */
+    public void setMaxDepth(int maxDepth) {
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Converts a frame.
+     * @param dst  receives width * height pixels, a new array is allocated when null or too small
+     * @return the array holding the pixels
+     */
+    public int[] toArgb(Frame frame, int[] dst) {
+        return toArgb(frame.getData(), frame.getWidth(), frame.getHeight(), frame.getColorSpace(), dst);
+    }
+
+    /**
+     * Converts raw pixels, read from the position of src without moving it.
+     * @param dst  receives width * height pixels, a new array is allocated when null or too small
+     * @return the array holding the pixels
+     */
+    public int[] toArgb(ByteBuffer src, final int width, int height, final int colorSpace, int[] dst) {
+        int size = width * height * ColorSpace.layers(colorSpace);
+        if (src.remaining() < size)
+            throw new IllegalArgumentException("Expected " + size + " bytes, got " + src.remaining());
+        if (scratch.length < size)
+            scratch = new byte[size];
+        src.duplicate().get(scratch, 0, size);
+        final int[] pixels = dst != null && dst.length >= width * height ? dst : new int[width * height];
+        if (parts == 1 || height < parts) {
+            convert(scratch, width, colorSpace, pixels, 0, height);
+            return pixels;
+        }
+        final byte[] source = scratch;
+        final CountDownLatch done = new CountDownLatch(parts);
+        final AtomicReference<RuntimeException> failure = new AtomicReference<RuntimeException>();
+        for (int i = 0; i < parts; i++) {
+            final int rowStart = height * i / parts;
+            final int rowEnd = height * (i + 1) / parts;
+            executor.execute(new Runnable() {
+                public void run() {
+                    try {
+                        convert(source, width, colorSpace, pixels, rowStart, rowEnd);
+                    } catch (RuntimeException e) {
+                        failure.set(e);
+                    } finally {
+                        done.countDown();
+                    }
+                }
+            });
+        }
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during conversion");
+        }
+        if (failure.get() != null)
+            throw failure.get();
+        return pixels;
+    }
+
+    private void convert(byte[] src, int width, int colorSpace, int[] dst, int rowStart, int rowEnd) {
+        int start = rowStart * width;
+        int end = rowEnd * width;
+        switch (colorSpace) {
+            case ColorSpace.kRGB:
+                for (int i = start, s = start * 3; i < end; i++, s += 3)
+                    dst[i] = 0xFF000000 | (src[s] & 0xFF) << 16 | (src[s + 1] & 0xFF) << 8 | (src[s + 2] & 0xFF);
+                break;
+            case ColorSpace.kBGR:
+                for (int i = start, s = start * 3; i < end; i++, s += 3)
+                    dst[i] = 0xFF000000 | (src[s + 2] & 0xFF) << 16 | (src[s + 1] & 0xFF) << 8 | (src[s] & 0xFF);
+                break;
+            case ColorSpace.kYUV:
+                for (int i = start, s = start * 3; i < end; i++, s += 3)
+                    dst[i] = yuv(src[s] & 0xFF, src[s + 1] & 0xFF, src[s + 2] & 0xFF);
+                break;
+            case ColorSpace.kYUV422:
+                // Pixel pairs packed as Y0 U Y1 V, rows always hold an even number of pixels
+                for (int i = start, s = start * 2; i < end; i += 2, s += 4) {
+                    int u = src[s + 1] & 0xFF;
+                    int v = src[s + 3] & 0xFF;
+                    dst[i] = yuv(src[s] & 0xFF, u, v);
+                    dst[i + 1] = yuv(src[s + 2] & 0xFF, u, v);
+                }
+                break;
+            case ColorSpace.kHSY:
+                for (int i = start, s = start * 3; i < end; i++, s += 3)
+                    dst[i] = hsy(src[s] & 0xFF, src[s + 1] & 0xFF, src[s + 2] & 0xFF);
+                break;
+            case ColorSpace.kDepth:
+                int range = Math.max(1, maxDepth);
+                for (int i = start, s = start * 2; i < end; i++, s += 2) {
+                    int depth = (src[s] & 0xFF) | (src[s + 1] & 0xFF) << 8;
+                    dst[i] = gray(depth >= range ? 255 : depth * 255 / range);
+                }
+                break;
+            default:
+                if (ColorSpace.layers(colorSpace) != 1)
+                    throw new IllegalArgumentException("Unsupported colorspace " + colorSpace);
+                for (int i = start; i < end; i++)
+                    dst[i] = gray(src[i] & 0xFF);
+                break;
+        }
+    }
+
+    private static int gray(int level) {
+        return 0xFF000000 | level << 16 | level << 8 | level;
+    }
+
+    /**
+     * BT.601 full range YUV to RGB, fixed point on 8 bits.
+     */
+    private static int yuv(int y, int u, int v) {
+        int d = u - 128;
+        int e = v - 128;
+        int r = clamp(y + ((359 * e) >> 8));
+        int g = clamp(y - ((88 * d + 183 * e) >> 8));
+        int b = clamp(y + ((454 * d) >> 8));
+        return 0xFF000000 | r << 16 | g << 8 | b;
+    }
+
+    /**
+     * Hue, saturation and luma on 8 bits each, rendered through the six
+     * sectors of the color wheel with luma as the brightest component.
+     */
+    private static int hsy(int h, int s, int y) {
+        if (s == 0)
+            return gray(y);
+        int sector = h * 6 / 256;
+        int fraction = h * 6 - sector * 256;
+        int p = y * (255 - s) / 255;
+        int q = y * (255 - s * fraction / 256) / 255;
+        int t = y * (255 - s * (255 - fraction) / 256) / 255;
+        int r, g, b;
+        switch (sector) {
+            case 0: r = y; g = t; b = p; break;
+            case 1: r = q; g = y; b = p; break;
+            case 2: r = p; g = y; b = t; break;
+            case 3: r = p; g = q; b = y; break;
+            case 4: r = t; g = p; b = y; break;
+            default: r = y; g = p; b = q; break;
+        }
+        return 0xFF000000 | r << 16 | g << 8 | b;
+    }
+
+    private static int clamp(int value) {
+        return value < 0 ? 0 : value > 255 ? 255 : value;
+    }
+}
@@ -0,0 +1,51 @@
+package com.aldebaran.qimessaging.helpers.video;
+
+/**
+ * NAOqi colorspace identifiers, as passed to subscribeCamera and found in
+ * field 3 of an ALImage.
+ */
+public final class ColorSpace {
+
+    public static final int kYuv = 0;
+    public static final int kyUv = 1;
+    public static final int kyuV = 2;
+    public static final int kRgb = 3;
+    public static final int krGb = 4;
+    public static final int krgB = 5;
+    public static final int kHsy = 6;
+    public static final int khSy = 7;
+    public static final int khsY = 8;
+    public static final int kYUV422 = 9;
+    public static final int kYUV = 10;
+    public static final int kRGB = 11;
+    public static final int kHSY = 12;
+    public static final int kBGR = 13;
+    public static final int kYYCbCr = 14;
+    public static final int kH2RGB = 15;
+    public static final int kHSMixed = 16;
+    public static final int kDepth = 17;
+
+    private ColorSpace() {
+    }
+
+    /**
+     * @return bytes per pixel of a colorspace
+     */
+    public static int layers(int colorSpace) {
+        switch (colorSpace) {
+            case kYUV422:
+            case kDepth:
+            case kYYCbCr:
+                return 2;
+            case kYUV:
+            case kRGB:
+            case kHSY:
+            case kBGR:
+            case kH2RGB:
+            case kHSMixed:
+                return 3;
+            default:
+                return 1;
+        }
+    }
+}
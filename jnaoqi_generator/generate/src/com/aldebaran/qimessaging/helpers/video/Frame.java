@@ -0,0 +1,134 @@
+package com.aldebaran.qimessaging.helpers.video;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Camera image held in a reusable direct buffer.
+ *
+ * Frames handed out by a {@link FrameGrabber} or a {@link StereoFrameSource}
+ * belong to its pool: call {@link #release()} once the pixels are consumed
+ * and do not keep the buffer afterwards, it will be overwritten by a later
+ * frame.
+ */
+public class Frame {
+
+    private final FramePool pool;
+    private final AtomicBoolean released = new AtomicBoolean();
+    private ByteBuffer data;
+    private int width;
+    private int height;
+    private int layers;
+    private int colorSpace;
+    private int cameraId;
+    private long timestamp;
+
+    Frame(FramePool pool) {
+        this.pool = pool;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * @return number of bytes per pixel
+     */
+    public int getLayers() {
+        return layers;
+    }
+
+    /**
+     * @return NAOqi colorspace identifier, see {@link ColorSpace}
+     */
+    public int getColorSpace() {
+        return colorSpace;
+    }
+
+    public int getCameraId() {
+        return cameraId;
+    }
+
+    /**
+     * @return robot time of the image in microseconds
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * @return the pixels, from position 0 to width * height * layers
+     */
+    public ByteBuffer getData() {
+        return data;
+    }
+
+    /**
+     * Gives the frame back to its pool. Releasing a frame twice has no
+     * effect, the pool would otherwise hand the same buffer out twice.
+     */
+    public void release() {
+        if (pool != null && released.compareAndSet(false, true))
+            pool.recycle(this);
+    }
+
+    /**
+     * Marks the frame as handed out by its pool.
+     */
+    void reuse() {
+        released.set(false);
+    }
+
+    void ensureCapacity(int size) {
+        if (data == null || data.capacity() < size)
+            data = ByteBuffer.allocateDirect(size);
+    }
+
+    static int size(List<?> image) {
+        return intAt(image, 0) * intAt(image, 1) * intAt(image, 2);
+    }
+
+    static long timestampOf(List<?> image) {
+        return ((Number) image.get(4)).longValue() * 1000000L + ((Number) image.get(5)).longValue();
+    }
+
+    /**
+     * Copies an ALImage answered by getImageRemote, or one element of
+     * getImagesRemote: [width, height, layers, colorspace, seconds,
+     * microseconds, pixels, cameraID, ...].
+     */
+    void fill(List<?> image) {
+        if (image.size() < 7)
+            throw new IllegalArgumentException("Not an image: " + image.size() + " fields");
+        width = intAt(image, 0);
+        height = intAt(image, 1);
+        layers = intAt(image, 2);
+        colorSpace = intAt(image, 3);
+        timestamp = timestampOf(image);
+        cameraId = image.size() > 7 ? intAt(image, 7) : -1;
+        int size = width * height * layers;
+        ensureCapacity(size);
+        data.clear();
+        Object pixels = image.get(6);
+        if (pixels instanceof ByteBuffer) {
+            ByteBuffer source = ((ByteBuffer) pixels).duplicate();
+            source.rewind();
+            source.limit(Math.min(source.limit(), size));
+            data.put(source);
+        } else if (pixels instanceof byte[]) {
+            data.put((byte[]) pixels, 0, Math.min(size, ((byte[]) pixels).length));
+        } else {
+            throw new IllegalArgumentException("Unexpected pixel container: " + pixels);
+        }
+        data.flip();
+    }
+
+    private static int intAt(List<?> image, int index) {
+        return ((Number) image.get(index)).intValue();
+    }
+}
@@ -0,0 +1,25 @@
+package com.aldebaran.qimessaging.helpers.video;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Encodes frames into an image file format for a {@link FrameWriter}.
+ *
+ * Encoders are called from several worker threads at once. The library
+ * only ships {@link PnmEncoder}, which has no platform dependency. The
+ * jnaoqi-desktop module adds ImageIoEncoder writing PNG or JPEG through
+ * javax.imageio; Android applications can wrap Bitmap.compress.
+ */
+public interface FrameEncoder {
+
+    /**
+     * @return file extension of the encoded images, without the dot
+     */
+    public String getExtension();
+
+    /**
+     * Writes one frame. The frame data must not be modified.
+     */
+    public void encode(Frame frame, WritableByteChannel channel) throws IOException;
+}
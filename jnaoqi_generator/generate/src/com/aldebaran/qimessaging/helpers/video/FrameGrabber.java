@@ -0,0 +1,306 @@
+package com.aldebaran.qimessaging.helpers.video;
+
+import com.aldebaran.qimessaging.CallError;
+import com.aldebaran.qimessaging.helpers.ALFuture;
+import com.aldebaran.qimessaging.helpers.al.ALVideoDevice;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Grabs images of one camera on a dedicated thread into a pool of reusable
+ * direct buffers.
+ *
+ * Requests are paced to the subscribed frame rate: the next getImageRemote
+ * is sent one frame period after the previous one, so that images the
+ * camera has not refreshed yet are not fetched again. When an answer takes
+ * longer than a period, the next request is sent before the current answer
+ * is copied, so the network transfer overlaps the client side work. Frames
+ * are either pushed to a {@link FrameListener} or queued for
+ * {@link #take()}, in which case the oldest queued frame is dropped when
+ * the consumer falls behind. Every frame handed out must be released.
+ *
+ * <pre>
+ * FrameGrabber grabber = new FrameGrabber(video, "dashboard", 0, 2, 11, 30);
+ * grabber.start();
+ * Frame frame = grabber.take();
+ * ...
+ * frame.release();
+ * grabber.stop();
+ * </pre>
+ */
+public class FrameGrabber {
+
+    private final ALVideoDevice video;
+    private final String name;
+    private final int cameraIndex;
+    private final int resolution;
+    private final int colorSpace;
+    private volatile int fps;
+    private final AtomicLong grabbed = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong grabbedBytes = new AtomicLong();
+    private volatile long fetchNanos;
+    private int poolSize = 4;
+    private int queueSize = 2;
+    private boolean releaseOnRobot;
+    private volatile FrameListener listener;
+    private FramePool pool;
+    private BlockingQueue<Frame> ready;
+    private volatile String handle;
+    private volatile boolean running;
+    private Thread thread;
+
+    public FrameGrabber(ALVideoDevice video, String name, int cameraIndex, int resolution, int colorSpace, int fps) {
+        this.video = video;
+        this.name = name;
+        this.cameraIndex = cameraIndex;
+        this.resolution = resolution;
+        this.colorSpace = colorSpace;
+        this.fps = fps;
+    }
+
+    /**
+     * Sets the number of frames allocated, shared by the grab loop and the
+     * consumer. Must be set before {@link #start()}.
+     */
+    public void setPoolSize(int poolSize) {
+        this.poolSize = poolSize;
+    }
+
+    /**
+     * Sets how many grabbed frames wait for {@link #take()} before the
+     * oldest is dropped. Must be set before {@link #start()}.
+     */
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    /**
+     * Sets the rate requests are paced to, to follow a setFrameRate made on
+     * the subscription.
+     */
+    public void setFrameRate(int fps) {
+        this.fps = fps;
+    }
+
+    /**
+     * Pushes frames to a listener instead of queuing them.
+     */
+    public void setFrameListener(FrameListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Also calls releaseImage on the robot after each grab. Only needed when
+     * the video device keeps a buffer locked for the subscriber, it costs
+     * one extra message per frame.
+     */
+    public void setReleaseOnRobot(boolean releaseOnRobot) {
+        this.releaseOnRobot = releaseOnRobot;
+    }
+
+    /**
+     * @return the subscriber name returned by subscribeCamera, null when stopped
+     */
+    public String getHandle() {
+        return handle;
+    }
+
+    public long getGrabbedCount() {
+        return grabbed.get();
+    }
+
+    /**
+     * @return frames dropped because no buffer was free or the consumer was late
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * @return total size of the grabbed pixels in bytes
+     */
+    public long getGrabbedBytes() {
+        return grabbedBytes.get();
+    }
+
+    /**
+     * @return smoothed time between sending a getImageRemote request and
+     * receiving its answer, 0 before the first answer
+     */
+    public long getFetchTime(TimeUnit unit) {
+        return unit.convert(fetchNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public synchronized void start() throws CallError, InterruptedException {
+        if (running)
+            throw new IllegalStateException("Grabber already started");
+        pool = new FramePool(poolSize);
+        ready = new ArrayBlockingQueue<Frame>(queueSize);
+        handle = video.subscribeCamera(name, cameraIndex, resolution, colorSpace, fps);
+        running = true;
+        thread = new Thread(new Runnable() {
+            public void run() {
+                grabLoop();
+            }
+        }, "FrameGrabber-" + name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the grab loop and unsubscribes from the camera. Frames still
+     * queued are released.
+     */
+    public void stop() throws CallError, InterruptedException {
+        Thread toJoin;
+        synchronized (this) {
+            if (!running)
+                return;
+            running = false;
+            toJoin = thread;
+            thread = null;
+        }
+        toJoin.interrupt();
+        toJoin.join();
+        Frame frame;
+        while ((frame = ready.poll()) != null)
+            frame.release();
+        String subscriber = handle;
+        handle = null;
+        video.unsubscribe(subscriber);
+    }
+
+    /**
+     * Waits for the next grabbed frame.
+     */
+    public Frame take() throws InterruptedException {
+        return ready.take();
+    }
+
+    /**
+     * @return the next grabbed frame, null if none arrived in time
+     */
+    public Frame poll(long timeout, TimeUnit unit) throws InterruptedException {
+        return ready.poll(timeout, unit);
+    }
+
+    private void grabLoop() {
+        long lastTimestamp = -1;
+        long sent = System.nanoTime() - framePeriod();
+        ALFuture<java.lang.Object> pending = null;
+        while (running) {
+            try {
+                if (pending == null) {
+                    sent = waitUntil(sent + framePeriod());
+                    pending = video.getImageRemoteAsync(handle);
+                }
+                java.lang.Object image = pending.get();
+                long received = System.nanoTime();
+                recordFetch(received - sent);
+                pending = null;
+                // Late answer, the next frame is already due
+                if (received - sent >= framePeriod()) {
+                    sent = received;
+                    pending = video.getImageRemoteAsync(handle);
+                }
+                if (releaseOnRobot)
+                    video.releaseImageAsync(handle);
+                if (!(image instanceof List))
+                    continue;
+                List<?> fields = (List<?>) image;
+                long timestamp = Frame.timestampOf(fields);
+                // Two requests in flight may answer the same image
+                if (timestamp == lastTimestamp)
+                    continue;
+                lastTimestamp = timestamp;
+                Frame frame = pool.acquire(Frame.size(fields));
+                if (frame == null) {
+                    dropped.incrementAndGet();
+                    continue;
+                }
+                try {
+                    frame.fill(fields);
+                } catch (RuntimeException e) {
+                    frame.release();
+                    throw e;
+                }
+                grabbed.incrementAndGet();
+                grabbedBytes.addAndGet(frame.getData().remaining());
+                deliver(frame);
+            } catch (InterruptedException e) {
+                break;
+            } catch (ExecutionException e) {
+                pending = null;
+                if (!backOff())
+                    break;
+            } catch (CallError e) {
+                pending = null;
+                if (!backOff())
+                    break;
+            } catch (RuntimeException e) {
+                // Malformed image, skip it
+            }
+        }
+        if (pending != null)
+            pending.cancel(true);
+    }
+
+    private long framePeriod() {
+        return TimeUnit.SECONDS.toNanos(1) / Math.max(1, fps);
+    }
+
+    /**
+     * Sleeps until a System.nanoTime deadline.
+     * @return the time at wake up
+     */
+    private static long waitUntil(long deadline) throws InterruptedException {
+        long now = System.nanoTime();
+        while (deadline - now > 0) {
+            TimeUnit.NANOSECONDS.sleep(deadline - now);
+            now = System.nanoTime();
+        }
+        return now;
+    }
+
+    /**
+     * Exponential moving average over about eight answers.
+     */
+    private void recordFetch(long nanos) {
+        long previous = fetchNanos;
+        fetchNanos = previous == 0 ? nanos : previous + (nanos - previous) / 8;
+    }
+
+    /**
+     * Waits one frame period before retrying a failed grab.
+     * @return false if interrupted
+     */
+    private boolean backOff() {
+        try {
+            Thread.sleep(1000 / Math.max(1, fps));
+            return true;
+        } catch (InterruptedException e) {
+            return false;
+        }
+    }
+
+    private void deliver(Frame frame) {
+        FrameListener target = listener;
+        if (target != null) {
+            target.onFrame(frame);
+            return;
+        }
+        while (!ready.offer(frame)) {
+            Frame oldest = ready.poll();
+            if (oldest != null) {
+                oldest.release();
+                dropped.incrementAndGet();
+            }
+        }
+    }
+}
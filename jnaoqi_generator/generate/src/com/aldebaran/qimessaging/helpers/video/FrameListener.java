@@ -0,0 +1,10 @@
+package com.aldebaran.qimessaging.helpers.video;
+
+/**
+ * Receives frames pushed by a {@link FrameGrabber}. The listener owns the
+ * frame and must call {@link Frame#release()} once done with it.
+ */
+public interface FrameListener {
+
+    public void onFrame(Frame frame);
+}
@@ -0,0 +1,41 @@
+package com.aldebaran.qimessaging.helpers.video;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Bounded set of reusable frames backed by direct buffers.
+ */
+class FramePool {
+
+    private final int maxFrames;
+    private final BlockingQueue<Frame> free;
+    private int created;
+
+    FramePool(int maxFrames) {
+        this.maxFrames = maxFrames;
+        this.free = new ArrayBlockingQueue<Frame>(maxFrames);
+    }
+
+    /**
+     * @return a frame able to hold size bytes, null when every frame is in use
+     */
+    Frame acquire(int size) {
+        Frame frame = free.poll();
+        if (frame == null) {
+            synchronized (this) {
+                if (created >= maxFrames)
+                    return null;
+                created++;
+            }
+            frame = new Frame(this);
+        }
+        frame.reuse();
+        frame.ensureCapacity(size);
+        return frame;
+    }
+
+    void recycle(Frame frame) {
+        free.offer(frame);
+    }
+}
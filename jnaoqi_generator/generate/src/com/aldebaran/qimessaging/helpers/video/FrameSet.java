@@ -0,0 +1,78 @@
+package com.aldebaran.qimessaging.helpers.video;
+
+/**
+ * Frames of several cameras captured together by a {@link StereoFrameSource}.
+ *
+ * Slots follow the order of the camera indexes given to the source. A slot
+ * is empty when its camera produced no new image for this set, or one too
+ * far apart in time from the others.
+ */
+public class FrameSet {
+
+    private final Frame[] frames;
+
+    FrameSet(Frame[] frames) {
+        this.frames = frames;
+    }
+
+    public int size() {
+        return frames.length;
+    }
+
+    /**
+     * @return frame of the given slot, null when the slot is empty
+     */
+    public Frame getFrame(int slot) {
+        return frames[slot];
+    }
+
+    /**
+     * @return true if every camera contributed a frame
+     */
+    public boolean isComplete() {
+        for (Frame frame : frames) {
+            if (frame == null)
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return robot time of the most recent frame in microseconds, -1 if empty
+     */
+    public long getTimestamp() {
+        long timestamp = -1;
+        for (Frame frame : frames) {
+            if (frame != null && frame.getTimestamp() > timestamp)
+                timestamp = frame.getTimestamp();
+        }
+        return timestamp;
+    }
+
+    /**
+     * @return time between the oldest and the most recent frame in microseconds
+     */
+    public long getSkew() {
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (Frame frame : frames) {
+            if (frame == null)
+                continue;
+            min = Math.min(min, frame.getTimestamp());
+            max = Math.max(max, frame.getTimestamp());
+        }
+        return max < min ? 0 : max - min;
+    }
+
+    /**
+     * Gives every frame back to its pool.
+     */
+    public void release() {
+        for (int i = 0; i < frames.length; i++) {
+            if (frames[i] != null) {
+                frames[i].release();
+                frames[i] = null;
+            }
+        }
+    }
+}
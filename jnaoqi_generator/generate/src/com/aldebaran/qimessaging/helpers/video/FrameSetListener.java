@@ -0,0 +1,10 @@
+package com.aldebaran.qimessaging.helpers.video;
+
+/**
+ * Receives frame sets pushed by a {@link StereoFrameSource}. The listener
+ * owns the set and must call {@link FrameSet#release()} once done with it.
+ */
+public interface FrameSetListener {
+
+    public void onFrameSet(FrameSet frames);
+}
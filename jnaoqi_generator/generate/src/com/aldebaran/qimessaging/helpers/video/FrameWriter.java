@@ -0,0 +1,193 @@
+package com.aldebaran.qimessaging.helpers.video;
+
+import com.aldebaran.qimessaging.helpers.ALFuture;
+import com.aldebaran.qimessaging.helpers.DaemonThreadFactory;
+import com.aldebaran.qimessaging.helpers.LatencyHistogram;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Encodes and writes frames to files on a bounded pool of worker threads.
+ *
+ * At most threads + queueSize frames are accepted at once. Past that,
+ * {@link #submit} drops the frame right away, or waits for a slot when
+ * blocking is enabled, so a burst never piles up pooled buffers behind
+ * a slow disk. Frames are released once written.
+ *
+ * Only frames grabbed on the client are written. Pictures taken with
+ * ALPhotoCapture.takePictures are encoded and saved on the robot, and
+ * are not brought back by this writer.
+ *
+ * <pre>
+ * FrameWriter writer = new FrameWriter(new PnmEncoder(), 2, 8);
+ * grabber.setFrameListener(writer.listener(new File("shots"), "shot"));
+ * </pre>
+ */
+public class FrameWriter {
+
+    private final FrameEncoder encoder;
+    private final ExecutorService workers;
+    private final Semaphore slots;
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final LatencyHistogram queueLatency = new LatencyHistogram();
+    private final LatencyHistogram encodeLatency = new LatencyHistogram();
+    private final LatencyHistogram writeLatency = new LatencyHistogram();
+    private final ThreadLocal<Buffer> buffers = new ThreadLocal<Buffer>() {
+        @Override
+        protected Buffer initialValue() {
+            return new Buffer();
+        }
+    };
+    private volatile boolean blockWhenFull;
+
+    public FrameWriter(FrameEncoder encoder, int threads, int queueSize) {
+        this.encoder = encoder;
+        this.slots = new Semaphore(threads + queueSize);
+        this.workers = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<Runnable>(), new DaemonThreadFactory("FrameWriter"));
+    }
+
+    /**
+     * Makes {@link #submit} wait for a free slot instead of dropping the frame.
+     */
+    public void setBlockWhenFull(boolean blockWhenFull) {
+        this.blockWhenFull = blockWhenFull;
+    }
+
+    /**
+     * Queues a frame for writing. The writer owns the frame from now on,
+     * even when it is dropped.
+     * @return future completed with the file once written, failed with a
+     * RejectedExecutionException if the frame was dropped
+     */
+    public ALFuture<File> submit(final Frame frame, final File file) throws InterruptedException {
+        if (blockWhenFull)
+            slots.acquire();
+        else if (!slots.tryAcquire())
+            return reject(frame, "Writer queue full");
+        final ALFuture<File> result = new ALFuture<File>();
+        final long queued = System.nanoTime();
+        try {
+            workers.execute(new Runnable() {
+                public void run() {
+                    try {
+                        write(frame, file, queued);
+                        written.incrementAndGet();
+                        result.set(file);
+                    } catch (Exception e) {
+                        result.setException(e);
+                    } finally {
+                        frame.release();
+                        slots.release();
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            slots.release();
+            return reject(frame, "Writer shut down");
+        }
+        return result;
+    }
+
+    /**
+     * @return a listener writing every frame into the given directory, named
+     * with the prefix and a sequence number
+     */
+    public FrameListener listener(final File directory, final String prefix) {
+        final AtomicLong sequence = new AtomicLong();
+        return new FrameListener() {
+            public void onFrame(Frame frame) {
+                File file = new File(directory, prefix + "-" + sequence.incrementAndGet() + "." + encoder.getExtension());
+                try {
+                    submit(frame, file);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+    }
+
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * @return time frames wait for a worker
+     */
+    public LatencyHistogram getQueueLatency() {
+        return queueLatency;
+    }
+
+    public LatencyHistogram getEncodeLatency() {
+        return encodeLatency;
+    }
+
+    public LatencyHistogram getWriteLatency() {
+        return writeLatency;
+    }
+
+    /**
+     * Writes the frames already accepted, then stops the workers.
+     */
+    public void shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+        workers.shutdown();
+        workers.awaitTermination(timeout, unit);
+    }
+
+    private void write(Frame frame, File file, long queued) throws IOException {
+        long start = System.nanoTime();
+        queueLatency.record(start - queued, TimeUnit.NANOSECONDS);
+        Buffer buffer = buffers.get();
+        buffer.reset();
+        encoder.encode(frame, buffer.channel);
+        long encoded = System.nanoTime();
+        encodeLatency.record(encoded - start, TimeUnit.NANOSECONDS);
+        FileOutputStream stream = new FileOutputStream(file);
+        try {
+            FileChannel channel = stream.getChannel();
+            ByteBuffer contents = buffer.contents();
+            while (contents.hasRemaining())
+                channel.write(contents);
+        } finally {
+            stream.close();
+        }
+        writeLatency.record(System.nanoTime() - encoded, TimeUnit.NANOSECONDS);
+    }
+
+    private ALFuture<File> reject(Frame frame, String reason) {
+        frame.release();
+        dropped.incrementAndGet();
+        return ALFuture.failed(new RejectedExecutionException(reason));
+    }
+
+    /**
+     * Per worker encoding buffer, grown once to the largest image.
+     */
+    private static class Buffer extends ByteArrayOutputStream {
+
+        final WritableByteChannel channel = Channels.newChannel(this);
+
+        ByteBuffer contents() {
+            return ByteBuffer.wrap(buf, 0, count);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.aldebaran.qimessaging.helpers.video;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Writes frames as binary PGM or PPM images, without compression.
+ *
+ * kRGB and single layer frames are written straight from the frame buffer,
+ * other colorspaces go through a {@link ColorConverter} first.
+ */
+public class PnmEncoder implements FrameEncoder {
+
+    private final ThreadLocal<Scratch> scratch = new ThreadLocal<Scratch>() {
+        @Override
+        protected Scratch initialValue() {
+            return new Scratch();
+        }
+    };
+
+    public String getExtension() {
+        return "pnm";
+    }
+
+    public void encode(Frame frame, WritableByteChannel channel) throws IOException {
+        int colorSpace = frame.getColorSpace();
+        boolean gray = ColorSpace.layers(colorSpace) == 1;
+        String header = (gray ? "P5\n" : "P6\n") + frame.getWidth() + " " + frame.getHeight() + "\n255\n";
+        writeFully(channel, ByteBuffer.wrap(header.getBytes("US-ASCII")));
+        if (gray || colorSpace == ColorSpace.kRGB) {
+            writeFully(channel, frame.getData().duplicate());
+            return;
+        }
+        Scratch local = scratch.get();
+        local.pixels = local.converter.toArgb(frame, local.pixels);
+        int count = frame.getWidth() * frame.getHeight();
+        if (local.rgb == null || local.rgb.capacity() < count * 3)
+            local.rgb = ByteBuffer.allocate(count * 3);
+        ByteBuffer rgb = local.rgb;
+        rgb.clear();
+        for (int i = 0; i < count; i++) {
+            int pixel = local.pixels[i];
+            rgb.put((byte) (pixel >> 16)).put((byte) (pixel >> 8)).put((byte) pixel);
+        }
+        rgb.flip();
+        writeFully(channel, rgb);
+    }
+
+    private static void writeFully(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+    }
+
+    private static class Scratch {
+
+        final ColorConverter converter = new ColorConverter();
+        int[] pixels;
+        ByteBuffer rgb;
+    }
+}
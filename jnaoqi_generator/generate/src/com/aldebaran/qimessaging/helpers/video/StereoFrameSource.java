@@ -0,0 +1,333 @@
+package com.aldebaran.qimessaging.helpers.video;
+
+import com.aldebaran.qimessaging.CallError;
+import com.aldebaran.qimessaging.helpers.ALFuture;
+import com.aldebaran.qimessaging.helpers.al.ALVideoDevice;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Grabs several cameras with a single subscribeCameras subscription, one
+ * getImagesRemote request bringing the images of every camera at once.
+ *
+ * Requests are paced to the subscribed frame rate like the ones of a
+ * {@link FrameGrabber}, with at most two in flight when an answer takes
+ * longer than a frame period. Each answer becomes a {@link FrameSet}. Cameras whose image did not change
+ * since the previous set, or whose image is further than the skew tolerance
+ * from the most recent one, leave their slot empty, so a stalled camera does
+ * not hold back the others. Incomplete sets can be dropped instead with
+ * {@link #setRequireComplete(boolean)}.
+ *
+ * <pre>
+ * StereoFrameSource source = new StereoFrameSource(video, "stereo",
+ *         new int[] {0, 1}, new int[] {1, 1}, new int[] {11, 11}, 15);
+ * source.start();
+ * FrameSet frames = source.take();
+ * ...
+ * frames.release();
+ * source.stop();
+ * </pre>
+ */
+public class StereoFrameSource {
+
+    private final ALVideoDevice video;
+    private final String name;
+    private final List<Integer> cameraIndexes;
+    private final List<Integer> resolutions;
+    private final List<Integer> colorSpaces;
+    private final int fps;
+    private final AtomicLong grabbed = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private long skewTolerance;
+    private boolean requireComplete;
+    private int poolSize = 4;
+    private int queueSize = 2;
+    private volatile FrameSetListener listener;
+    private FramePool[] pools;
+    private BlockingQueue<FrameSet> ready;
+    private volatile String handle;
+    private volatile boolean running;
+    private Thread thread;
+
+    /**
+     * @param cameraIndexes  cameras to grab, giving the slot order of the sets
+     * @param resolutions  resolution of each camera
+     * @param colorSpaces  colorspace of each camera
+     */
+    public StereoFrameSource(ALVideoDevice video, String name, int[] cameraIndexes, int[] resolutions, int[] colorSpaces, int fps) {
+        if (resolutions.length != cameraIndexes.length || colorSpaces.length != cameraIndexes.length)
+            throw new IllegalArgumentException("Expected one resolution and colorspace per camera");
+        this.video = video;
+        this.name = name;
+        this.cameraIndexes = toList(cameraIndexes);
+        this.resolutions = toList(resolutions);
+        this.colorSpaces = toList(colorSpaces);
+        this.fps = fps;
+        this.skewTolerance = 500000L / Math.max(1, fps);
+    }
+
+    /**
+     * Sets the largest time allowed between the frames of a set, half a
+     * frame period by default.
+     */
+    public void setSkewTolerance(long tolerance, TimeUnit unit) {
+        this.skewTolerance = unit.toMicros(tolerance);
+    }
+
+    /**
+     * Drops the sets missing a camera instead of delivering them with an
+     * empty slot.
+     */
+    public void setRequireComplete(boolean requireComplete) {
+        this.requireComplete = requireComplete;
+    }
+
+    /**
+     * Sets the number of frames allocated per camera, shared by the grab
+     * loop and the consumer. Must be set before {@link #start()}.
+     */
+    public void setPoolSize(int poolSize) {
+        this.poolSize = poolSize;
+    }
+
+    /**
+     * Sets how many sets wait for {@link #take()} before the oldest is
+     * dropped. Must be set before {@link #start()}.
+     */
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    /**
+     * Pushes sets to a listener instead of queuing them.
+     */
+    public void setFrameSetListener(FrameSetListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * @return the subscriber name returned by subscribeCameras, null when stopped
+     */
+    public String getHandle() {
+        return handle;
+    }
+
+    public long getGrabbedCount() {
+        return grabbed.get();
+    }
+
+    /**
+     * @return sets dropped because they were incomplete or the consumer was late
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public synchronized void start() throws CallError, InterruptedException {
+        if (running)
+            throw new IllegalStateException("Source already started");
+        pools = new FramePool[cameraIndexes.size()];
+        for (int i = 0; i < pools.length; i++)
+            pools[i] = new FramePool(poolSize);
+        ready = new ArrayBlockingQueue<FrameSet>(queueSize);
+        handle = video.subscribeCameras(name, cameraIndexes, resolutions, colorSpaces, fps);
+        running = true;
+        thread = new Thread(new Runnable() {
+            public void run() {
+                grabLoop();
+            }
+        }, "StereoFrameSource-" + name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the grab loop and unsubscribes from the cameras. Sets still
+     * queued are released.
+     */
+    public void stop() throws CallError, InterruptedException {
+        Thread toJoin;
+        synchronized (this) {
+            if (!running)
+                return;
+            running = false;
+            toJoin = thread;
+            thread = null;
+        }
+        toJoin.interrupt();
+        toJoin.join();
+        FrameSet frames;
+        while ((frames = ready.poll()) != null)
+            frames.release();
+        String subscriber = handle;
+        handle = null;
+        video.unsubscribe(subscriber);
+    }
+
+    /**
+     * Waits for the next set.
+     */
+    public FrameSet take() throws InterruptedException {
+        return ready.take();
+    }
+
+    /**
+     * @return the next set, null if none arrived in time
+     */
+    public FrameSet poll(long timeout, TimeUnit unit) throws InterruptedException {
+        return ready.poll(timeout, unit);
+    }
+
+    private void grabLoop() {
+        long[] lastTimestamps = new long[cameraIndexes.size()];
+        for (int i = 0; i < lastTimestamps.length; i++)
+            lastTimestamps[i] = -1;
+        long sent = System.nanoTime() - framePeriod();
+        ALFuture<java.lang.Object> pending = null;
+        while (running) {
+            try {
+                if (pending == null) {
+                    sent = waitUntil(sent + framePeriod());
+                    pending = video.getImagesRemoteAsync(handle);
+                }
+                java.lang.Object images = pending.get();
+                long received = System.nanoTime();
+                pending = null;
+                // Late answer, the next sets are already due
+                if (received - sent >= framePeriod()) {
+                    sent = received;
+                    pending = video.getImagesRemoteAsync(handle);
+                }
+                if (images instanceof List)
+                    decode((List<?>) images, lastTimestamps);
+            } catch (InterruptedException e) {
+                break;
+            } catch (ExecutionException e) {
+                pending = null;
+                if (!backOff())
+                    break;
+            } catch (CallError e) {
+                pending = null;
+                if (!backOff())
+                    break;
+            } catch (RuntimeException e) {
+                // Malformed answer, skip it
+            }
+        }
+        if (pending != null)
+            pending.cancel(true);
+    }
+
+    private void decode(List<?> images, long[] lastTimestamps) {
+        int count = Math.min(images.size(), lastTimestamps.length);
+        long[] timestamps = new long[lastTimestamps.length];
+        long newest = -1;
+        for (int i = 0; i < lastTimestamps.length; i++) {
+            timestamps[i] = -1;
+            if (i < count && images.get(i) instanceof List) {
+                List<?> image = (List<?>) images.get(i);
+                if (image.size() >= 7)
+                    timestamps[i] = Frame.timestampOf(image);
+            }
+            if (timestamps[i] == lastTimestamps[i])
+                timestamps[i] = -1;
+            newest = Math.max(newest, timestamps[i]);
+        }
+        if (newest < 0)
+            return;
+        boolean complete = true;
+        for (int i = 0; i < timestamps.length; i++) {
+            if (timestamps[i] < 0 || newest - timestamps[i] > skewTolerance) {
+                timestamps[i] = -1;
+                complete = false;
+            }
+        }
+        if (requireComplete && !complete) {
+            dropped.incrementAndGet();
+            return;
+        }
+        Frame[] frames = new Frame[timestamps.length];
+        try {
+            for (int i = 0; i < timestamps.length; i++) {
+                if (timestamps[i] < 0)
+                    continue;
+                List<?> image = (List<?>) images.get(i);
+                frames[i] = pools[i].acquire(Frame.size(image));
+                if (frames[i] == null) {
+                    new FrameSet(frames).release();
+                    dropped.incrementAndGet();
+                    return;
+                }
+                frames[i].fill(image);
+            }
+        } catch (RuntimeException e) {
+            // Malformed image, give back the frames of the set
+            new FrameSet(frames).release();
+            throw e;
+        }
+        for (int i = 0; i < timestamps.length; i++) {
+            if (timestamps[i] >= 0)
+                lastTimestamps[i] = timestamps[i];
+        }
+        grabbed.incrementAndGet();
+        deliver(new FrameSet(frames));
+    }
+
+    private long framePeriod() {
+        return TimeUnit.SECONDS.toNanos(1) / Math.max(1, fps);
+    }
+
+    /**
+     * Sleeps until a System.nanoTime deadline.
+     * @return the time at wake up
+     */
+    private static long waitUntil(long deadline) throws InterruptedException {
+        long now = System.nanoTime();
+        while (deadline - now > 0) {
+            TimeUnit.NANOSECONDS.sleep(deadline - now);
+            now = System.nanoTime();
+        }
+        return now;
+    }
+
+    /**
+     * Waits one frame period before retrying a failed grab.
+     * @return false if interrupted
+     */
+    private boolean backOff() {
+        try {
+            Thread.sleep(1000 / Math.max(1, fps));
+            return true;
+        } catch (InterruptedException e) {
+            return false;
+        }
+    }
+
+    private void deliver(FrameSet frames) {
+        FrameSetListener target = listener;
+        if (target != null) {
+            target.onFrameSet(frames);
+            return;
+        }
+        while (!ready.offer(frames)) {
+            FrameSet oldest = ready.poll();
+            if (oldest != null) {
+                oldest.release();
+                dropped.incrementAndGet();
+            }
+        }
+    }
+
+    private static List<Integer> toList(int[] values) {
+        List<Integer> list = new ArrayList<Integer>(values.length);
+        for (int value : values)
+            list.add(value);
+        return list;
+    }
+}
@@ -0,0 +1,96 @@
+package com.aldebaran.qimessaging.helpers.video;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Resolution, colorspace and frame rate of a camera subscription.
+ */
+public class VideoSettings {
+
+    private static final int[] FRAME_RATES = {30, 15, 10, 5};
+
+    private final int resolution;
+    private final int colorSpace;
+    private final int fps;
+
+    public VideoSettings(int resolution, int colorSpace, int fps) {
+        this.resolution = resolution;
+        this.colorSpace = colorSpace;
+        this.fps = fps;
+    }
+
+    /**
+     * @return NAOqi resolution identifier, 0=kQQVGA, 1=kQVGA, 2=kVGA, 3=k4VGA
+     */
+    public int getResolution() {
+        return resolution;
+    }
+
+    /**
+     * @return NAOqi colorspace identifier, see {@link ColorSpace}
+     */
+    public int getColorSpace() {
+        return colorSpace;
+    }
+
+    public int getFps() {
+        return fps;
+    }
+
+    /**
+     * @return bytes sent per second at these settings
+     */
+    public long getBandwidth() {
+        int pixels = 160 * 120;
+        for (int i = 0; i < resolution; i++)
+            pixels *= 4;
+        return (long) pixels * ColorSpace.layers(colorSpace) * fps;
+    }
+
+    /**
+     * Builds a ladder of settings from the given ones down to 5 fps at
+     * kQQVGA, every lower resolution and frame rate sorted by decreasing
+     * bandwidth. When allowGray is set a last single layer kYuv step is
+     * added.
+     */
+    public static List<VideoSettings> ladder(int resolution, int colorSpace, int fps, boolean allowGray) {
+        List<VideoSettings> levels = new ArrayList<VideoSettings>();
+        for (int res = resolution; res >= 0; res--) {
+            levels.add(new VideoSettings(res, colorSpace, fps));
+            for (int rate : FRAME_RATES) {
+                if (rate < fps)
+                    levels.add(new VideoSettings(res, colorSpace, rate));
+            }
+        }
+        Collections.sort(levels, new Comparator<VideoSettings>() {
+            public int compare(VideoSettings a, VideoSettings b) {
+                long diff = b.getBandwidth() - a.getBandwidth();
+                return diff > 0 ? 1 : diff < 0 ? -1 : 0;
+            }
+        });
+        if (allowGray && ColorSpace.layers(colorSpace) > 1)
+            levels.add(new VideoSettings(0, ColorSpace.kYuv, FRAME_RATES[FRAME_RATES.length - 1]));
+        return levels;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof VideoSettings))
+            return false;
+        VideoSettings settings = (VideoSettings) other;
+        return resolution == settings.resolution && colorSpace == settings.colorSpace && fps == settings.fps;
+    }
+
+    @Override
+    public int hashCode() {
+        return (resolution * 31 + colorSpace) * 31 + fps;
+    }
+
+    @Override
+    public String toString() {
+        return "VideoSettings[resolution=" + resolution + ", colorSpace=" + colorSpace + ", fps=" + fps + "]";
+    }
+}
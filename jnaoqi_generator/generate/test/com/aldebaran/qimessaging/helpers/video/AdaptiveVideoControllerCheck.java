@@ -0,0 +1,86 @@
+package com.aldebaran.qimessaging.helpers.video;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drives an {@link AdaptiveVideoController} over a {@link FakeVideoDevice}:
+ * a slow link must step the camera down, a failed change must be undone,
+ * and a fast link must step it back up to the richest settings. Throws an
+ * AssertionError on the first step that does not happen in time.
+ *
+ * Run from the generate directory with the qimessaging jar of the
+ * platform, which carries the native libraries:
+ * <pre>
+ * javac -cp $QI -d test-out $(find src test -name '*.java')
+ * java -cp test-out:$QI com.aldebaran.qimessaging.helpers.video.AdaptiveVideoControllerCheck
+ * </pre>
+ */
+public class AdaptiveVideoControllerCheck {
+
+    private static final long TIMEOUT = TimeUnit.SECONDS.toMillis(20);
+
+    public static void main(String[] args) throws Exception {
+        // kQVGA kRGB at 10 fps, then 5 fps, then kQQVGA at 10 and 5 fps
+        List<VideoSettings> levels = VideoSettings.ladder(1, ColorSpace.kRGB, 10, false);
+        VideoSettings richest = levels.get(0);
+        FakeVideoDevice video = new FakeVideoDevice();
+        FrameGrabber grabber = new FrameGrabber(video, "check", 0,
+                richest.getResolution(), richest.getColorSpace(), richest.getFps());
+        AdaptiveVideoController controller = new AdaptiveVideoController(grabber, video, levels);
+        controller.setTargetLatency(100, TimeUnit.MILLISECONDS);
+        controller.setHysteresis(2, 3, 0.5f);
+        try {
+            // A kQVGA image takes 230 ms, a kQQVGA one 58 ms
+            video.setBandwidth(1000000);
+            grabber.start();
+            controller.start(200, TimeUnit.MILLISECONDS);
+            awaitLevel(controller, video, grabber, 2);
+
+            // Stepping up to level 1 changes the resolution, then fails on the frame rate
+            video.setFailing("setFrameRate", true);
+            video.setBandwidth(100000000);
+            video.setLatency(5, TimeUnit.MILLISECONDS);
+            Thread.sleep(TimeUnit.SECONDS.toMillis(3));
+            check(controller.getLevel() == 2, "Level changed by a failed step: " + controller.getLevel());
+            checkCamera(controller, video, grabber);
+            check(levels.get(2).equals(controller.getActiveSettings()),
+                    "Failed step not undone: " + controller.getActiveSettings());
+
+            video.setFailing("setFrameRate", false);
+            awaitLevel(controller, video, grabber, 0);
+            check(richest.equals(controller.getActiveSettings()),
+                    "Not back to the richest settings: " + controller.getActiveSettings());
+        } finally {
+            controller.stop();
+            grabber.stop();
+            video.close();
+        }
+        System.out.println("AdaptiveVideoController stepped down, undid a failed step and stepped up");
+    }
+
+    private static void awaitLevel(AdaptiveVideoController controller, FakeVideoDevice video, FrameGrabber grabber,
+            int level) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+        while (controller.getLevel() != level) {
+            check(System.currentTimeMillis() < deadline, "Level " + controller.getLevel() + " instead of " + level
+                    + ", fetch time " + grabber.getFetchTime(TimeUnit.MILLISECONDS) + " ms");
+            Thread.sleep(50);
+        }
+        checkCamera(controller, video, grabber);
+    }
+
+    /**
+     * Checks that the controller describes the settings the device applies.
+     */
+    private static void checkCamera(AdaptiveVideoController controller, FakeVideoDevice video, FrameGrabber grabber) {
+        VideoSettings camera = video.getSettings(grabber.getHandle());
+        check(controller.getActiveSettings().equals(camera),
+                "Controller has " + controller.getActiveSettings() + ", camera has " + camera);
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition)
+            throw new AssertionError(message);
+    }
+}
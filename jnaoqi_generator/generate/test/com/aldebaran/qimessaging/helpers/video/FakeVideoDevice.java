@@ -0,0 +1,228 @@
+package com.aldebaran.qimessaging.helpers.video;
+
+import com.aldebaran.qimessaging.CallError;
+import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
+import com.aldebaran.qimessaging.helpers.DaemonThreadFactory;
+import com.aldebaran.qimessaging.helpers.al.ALVideoDevice;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In process ALVideoDevice behind a link of limited bandwidth, to run a
+ * {@link FrameGrabber} and an {@link AdaptiveVideoController} without a
+ * robot.
+ *
+ * Only the calls made by those two are answered: subscribeCamera,
+ * unsubscribe, the setters and getters of resolution, colorspace and frame
+ * rate, getImageRemoteAsync and releaseImageAsync. Images are sent one
+ * after the other over the link, each one taking the configured latency
+ * plus its size divided by the bandwidth, and are refreshed by the camera
+ * at the subscribed frame rate. Setters named with {@link #setFailing}
+ * throw a CallError instead of applying the change. The device has a
+ * session of its own, never connected, so that it does not share service
+ * proxies with the wrappers of any other session.
+ *
+ * <pre>
+ * FakeVideoDevice video = new FakeVideoDevice();
+ * video.setBandwidth(500000);
+ * FrameGrabber grabber = new FrameGrabber(video, "test", 0, 2, 11, 30);
+ * grabber.start();
+ * AdaptiveVideoController controller = new AdaptiveVideoController(grabber, video,
+ *         VideoSettings.ladder(2, 11, 30, false));
+ * controller.start(1, TimeUnit.SECONDS);
+ * </pre>
+ */
+public class FakeVideoDevice extends ALVideoDevice {
+
+    private final Session session;
+    private final Map<String, VideoSettings> subscribers = new HashMap<String, VideoSettings>();
+    private final Set<String> failing = new HashSet<String>();
+    private final ScheduledExecutorService link =
+            Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("FakeVideoDevice"));
+    private final long start = System.nanoTime();
+    private volatile long bandwidth = Long.MAX_VALUE;
+    private volatile long latencyNanos;
+    private long linkFree = start;
+    private int count;
+
+    /**
+     * Creates a device that is not attached to any robot.
+     */
+    public FakeVideoDevice() {
+        this(new Session());
+    }
+
+    private FakeVideoDevice(Session session) {
+        super(session);
+        this.session = session;
+    }
+
+    /**
+     * Sets the bytes per second the link carries, unlimited by default.
+     */
+    public void setBandwidth(long bytesPerSecond) {
+        this.bandwidth = bytesPerSecond;
+    }
+
+    /**
+     * Sets the time added to every answer, 0 by default.
+     */
+    public void setLatency(long latency, TimeUnit unit) {
+        this.latencyNanos = unit.toNanos(latency);
+    }
+
+    /**
+     * Makes one of setResolution, setColorSpace or setFrameRate throw a
+     * CallError until called again with false.
+     */
+    public synchronized void setFailing(String method, boolean fail) {
+        if (fail)
+            failing.add(method);
+        else
+            failing.remove(method);
+    }
+
+    /**
+     * @return the settings a subscriber currently receives, null if unknown
+     */
+    public synchronized VideoSettings getSettings(String name) {
+        return subscribers.get(name);
+    }
+
+    /**
+     * Stops the link thread and closes the session. Pending images are not
+     * answered.
+     */
+    public void close() {
+        link.shutdownNow();
+        session.close();
+    }
+
+    @Override
+    public synchronized String subscribeCamera(String name, Integer cameraIndex, Integer resolution,
+            Integer colorSpace, Integer fps) throws CallError {
+        String handle = name + "_" + count++;
+        subscribers.put(handle, new VideoSettings(resolution, colorSpace, fps));
+        return handle;
+    }
+
+    @Override
+    public synchronized Boolean unsubscribe(String nameId) {
+        return subscribers.remove(nameId) != null;
+    }
+
+    @Override
+    public synchronized Integer getResolution(String name) throws CallError {
+        return settings(name).getResolution();
+    }
+
+    @Override
+    public synchronized Integer getColorSpace(String name) throws CallError {
+        return settings(name).getColorSpace();
+    }
+
+    @Override
+    public synchronized Integer getFrameRate(String name) throws CallError {
+        return settings(name).getFps();
+    }
+
+    @Override
+    public synchronized Boolean setResolution(String name, Integer resolution) throws CallError {
+        VideoSettings current = change("setResolution", name);
+        subscribers.put(name, new VideoSettings(resolution, current.getColorSpace(), current.getFps()));
+        return true;
+    }
+
+    @Override
+    public synchronized Boolean setColorSpace(String name, Integer colorSpace) throws CallError {
+        VideoSettings current = change("setColorSpace", name);
+        subscribers.put(name, new VideoSettings(current.getResolution(), colorSpace, current.getFps()));
+        return true;
+    }
+
+    @Override
+    public synchronized Boolean setFrameRate(String name, Integer frameRate) throws CallError {
+        VideoSettings current = change("setFrameRate", name);
+        subscribers.put(name, new VideoSettings(current.getResolution(), current.getColorSpace(), frameRate));
+        return true;
+    }
+
+    @Override
+    public ALFuture<java.lang.Object> getImageRemoteAsync(final String name) throws CallError {
+        final VideoSettings settings;
+        long delay;
+        synchronized (this) {
+            settings = settings(name);
+            long now = System.nanoTime();
+            long size = (long) width(settings) * height(settings) * ColorSpace.layers(settings.getColorSpace());
+            long transfer = bandwidth == Long.MAX_VALUE ? 0 : TimeUnit.SECONDS.toNanos(size) / Math.max(1, bandwidth);
+            // Images of every request share the link, one after the other
+            linkFree = Math.max(linkFree, now) + transfer;
+            delay = linkFree - now + latencyNanos;
+        }
+        final ALFuture<java.lang.Object> result = new ALFuture<java.lang.Object>();
+        link.schedule(new Runnable() {
+            public void run() {
+                result.set(image(settings));
+            }
+        }, delay, TimeUnit.NANOSECONDS);
+        return result;
+    }
+
+    @Override
+    public ALFuture<Boolean> releaseImageAsync(String name) {
+        return ALFuture.completed(true);
+    }
+
+    private VideoSettings settings(String name) throws CallError {
+        VideoSettings settings = subscribers.get(name);
+        if (settings == null)
+            throw new CallError("Unknown subscriber " + name);
+        return settings;
+    }
+
+    private VideoSettings change(String method, String name) throws CallError {
+        if (failing.contains(method))
+            throw new CallError(method + " failed");
+        return settings(name);
+    }
+
+    /**
+     * Builds the answer of getImageRemote, stamped with the last time the
+     * camera refreshed at the subscribed frame rate.
+     */
+    private java.lang.Object image(VideoSettings settings) {
+        int width = width(settings);
+        int height = height(settings);
+        int layers = ColorSpace.layers(settings.getColorSpace());
+        long period = TimeUnit.SECONDS.toMicros(1) / Math.max(1, settings.getFps());
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start) / period * period;
+        List<java.lang.Object> image = new ArrayList<java.lang.Object>();
+        image.add(width);
+        image.add(height);
+        image.add(layers);
+        image.add(settings.getColorSpace());
+        image.add((int) (micros / 1000000L));
+        image.add((int) (micros % 1000000L));
+        image.add(new byte[width * height * layers]);
+        image.add(0);
+        return image;
+    }
+
+    private static int width(VideoSettings settings) {
+        return 160 << settings.getResolution();
+    }
+
+    private static int height(VideoSettings settings) {
+        return 120 << settings.getResolution();
+    }
+}
@@ -13,9 +13,24 @@ TEMPLATE_VOID = """
     */
     public %(outtype)s %(methodName)s(%(args)s) throws CallError, InterruptedException{
         if (isAsynchronous)
-            service.call("%(method)s"%(extraparams)s);
+            service().call("%(method)s"%(extraparams)s);
         else
-            service.call("%(method)s"%(extraparams)s).get();
+            service().call("%(method)s"%(extraparams)s).get();
+    }"""
+
+# Void methods subscribing or unsubscribing, the bookkeeping only happens
+# once the call succeeds, also when the wrapper is asynchronous
+TEMPLATE_VOID_TRACKED = """
+    /**
+    * %(method_desc)s
+    * %(method_params)s
+    */
+    public %(outtype)s %(methodName)s(%(args)s) throws CallError, InterruptedException{
+        if (isAsynchronous) {
+            %(asyncopen)sALFuture.of(service().<Void>call("%(method)s"%(extraparams)s))%(asyncclose)s;
+            return;
+        }
+        service().call("%(method)s"%(extraparams)s).get();%(bookkeeping)s
     }"""
 
 TEMPLATE_RETURN = """
@@ -24,15 +39,66 @@ TEMPLATE_RETURN = """
     * %(method_params)s
     */
     public %(outtype)s %(methodName)s(%(args)s) throws CallError, InterruptedException {
-        return (%(outtype)s)service.call("%(method)s"%(extraparams)s).get();
+        return (%(outtype)s)service().call("%(method)s"%(extraparams)s).get();
+    }"""
+
+TEMPLATE_RETURN_TRACKED = """
+    /**
+    * %(method_desc)s
+    * %(method_params)s
+    */
+    public %(outtype)s %(methodName)s(%(args)s) throws CallError, InterruptedException {
+        %(outtype)s result = (%(outtype)s)service().call("%(method)s"%(extraparams)s).get();%(bookkeeping)s
+        return result;
+    }"""
+
+TEMPLATE_HANDLE = """
+    /**
+    * %(method_desc)s
+    * %(method_params)s
+    */
+    public %(outtype)s %(methodName)s(%(args)s) throws CallError, InterruptedException {
+        %(outtype)s handle = (%(outtype)s)service().call("%(method)s"%(extraparams)s).get();
+        recordSubscription("%(undo)s", handle);
+        return handle;
+    }"""
+
+TEMPLATE_PRIMITIVE = """
+    /**
+    * Primitive version of {@link #%(methodName)s}, values are returned unboxed.
+    * %(method_desc)s
+    * %(method_params)s
+    */
+    public %(primtype)s[] %(methodName)s%(primsuffix)s(%(args)s) throws CallError, InterruptedException {
+        return %(primconvert)s((%(outtype)s)service().call("%(method)s"%(extraparams)s).get());
+    }
+
+    /**
+    * Primitive version of {@link #%(methodName)s}, values are written into dst and their count is returned.
+    * %(method_desc)s
+    * %(method_params)s
+    */
+    public int %(methodName)sInto(%(intoargs)s) throws CallError, InterruptedException {
+        return copyInto((%(outtype)s)service().call("%(method)s"%(extraparams)s).get(), dst);
+    }"""
+
+TEMPLATE_ASYNC = """
+    /**
+    * Asynchronous version of {@link #%(methodName)s}.
+    * %(method_desc)s
+    * %(method_params)s
+    */
+    public ALFuture<%(asynctype)s> %(methodName)sAsync(%(args)s) throws CallError {
+        return %(asyncopen)sALFuture.of(service().<%(asynctype)s>call("%(method)s"%(extraparams)s))%(asyncclose)s;
     }"""
 
 TEMPLATE_CLASS = """package com.aldebaran.qimessaging.helpers.al;
 
 import com.aldebaran.qimessaging.CallError;
 import com.aldebaran.qimessaging.Session;
+import com.aldebaran.qimessaging.helpers.ALFuture;
 import com.aldebaran.qimessaging.helpers.ALModule;
-import java.util.List;
+%(event_imports)simport java.util.List;
 import java.util.Map;
 import com.aldebaran.qimessaging.*;
 
@@ -42,23 +108,81 @@ import java.util.List;
  * Created by erwan and emile on 01/05/2014.
  */
 public class %(module_name)s extends ALModule {
-
+%(events)s
     public %(module_name)s(Session session) {
         super(session);
     }
 %(content)s
 }
     """
+TEMPLATE_EVENT = """
+    /**
+    * %(event_desc)s
+    */
+    public static final ALEvent<%(event_type)s> %(event_const)s = new ALEvent<%(event_type)s>("%(event_key)s", %(event_decoder)s);
+"""
+
 ALMEMORY_BUG = """public void addMapping(String param1, Map<String param2, String> param3) throws CallError, InterruptedException{
-          service.call("addMapping", param1, param2, param3).get();
+          service().call("addMapping", param1, param2, param3).get();
     }"""
 ALMEMORY_FIX = """public void addMapping(String param1, Map<String,String> param2) throws CallError, InterruptedException{
-          service.call("addMapping", param1, param2).get();
+          service().call("addMapping", param1, param2).get();
     }"""
 
 
 
 
+# ALMemory events raised by each module, they are not part of its metaObject.
+# module: [(constant, key, java type, decoder, description)]
+KNOWN_EVENTS = {
+    "ALSoundLocalization": [
+        ("SOUND_LOCATED", "ALSoundLocalization/SoundLocated", "SoundLocated", "SoundLocated.DECODER",
+         "Raised when a sound is located, with its direction, confidence and energy."),
+    ],
+    "ALFaceDetection": [
+        ("FACE_DETECTED", "FaceDetected", "FaceDetected", "FaceDetected.DECODER",
+         "Raised for every processed image holding faces, then once empty when they are lost."),
+    ],
+    "ALSpeechRecognition": [
+        ("WORD_RECOGNIZED", "WordRecognized", "WordRecognized", "WordRecognized.DECODER",
+         "Raised when a word of the vocabulary is recognized, with the hypotheses and their confidence."),
+    ],
+    "ALBasicAwareness": [
+        ("HUMAN_TRACKED", "ALBasicAwareness/HumanTracked", "Integer", "EventDecoders.INTEGER",
+         "Raised when a human is tracked, with its people id, or -1 when none is."),
+    ],
+    "ALTextToSpeech": [
+        ("TEXT_STARTED", "ALTextToSpeech/TextStarted", "Integer", "EventDecoders.INTEGER",
+         "Raised with 1 when a text starts being said, 0 otherwise."),
+        ("TEXT_DONE", "ALTextToSpeech/TextDone", "Integer", "EventDecoders.INTEGER",
+         "Raised with 1 when a text has been said, 0 otherwise."),
+    ],
+    "ALSensors": [
+        ("FRONT_TACTIL_TOUCHED", "FrontTactilTouched", "Float", "EventDecoders.FLOAT",
+         "Raised with 1 when the front head sensor is touched, 0 when released."),
+        ("MIDDLE_TACTIL_TOUCHED", "MiddleTactilTouched", "Float", "EventDecoders.FLOAT",
+         "Raised with 1 when the middle head sensor is touched, 0 when released."),
+        ("REAR_TACTIL_TOUCHED", "RearTactilTouched", "Float", "EventDecoders.FLOAT",
+         "Raised with 1 when the rear head sensor is touched, 0 when released."),
+        ("LEFT_BUMPER_PRESSED", "LeftBumperPressed", "Float", "EventDecoders.FLOAT",
+         "Raised with 1 when the left foot bumper is pressed, 0 when released."),
+        ("RIGHT_BUMPER_PRESSED", "RightBumperPressed", "Float", "EventDecoders.FLOAT",
+         "Raised with 1 when the right foot bumper is pressed, 0 when released."),
+    ],
+}
+
+# Subscribing methods, recorded in the open SubscriptionScopes with the call
+# undoing them: method: (undo method, indexes of the arguments it takes)
+# Methods returning a handle are undone by passing the handle instead.
+SUBSCRIBE_METHODS = {
+    "subscribe": ("unsubscribe", [0]),
+    "subscribeCamera": ("unsubscribe", []),
+    "subscribeCameras": ("unsubscribe", []),
+    "subscribeToEvent": ("unsubscribeToEvent", [0, 1]),
+    "subscribeToMicroEvent": ("unsubscribeToMicroEvent", [0, 1]),
+}
+UNSUBSCRIBE_METHODS = set(["unsubscribe", "unsubscribeToEvent", "unsubscribeToMicroEvent"])
+
 BLACKLIST_METHODS = set("registerEvent, unregisterEvent, metaObject, terminate, property, setProperty, registerEventWithSignature, _setDetectionMode, enableStats, enableTrace, __pCall, pCall, stats, properties".split(", "))
 BLACKLIST_MODULES = set("ALTabletService")
 
@@ -113,6 +237,11 @@ BASIC_TYPE = {
 
 COMPLEX_TYPE = ()
 
+PRIMITIVE_TYPE = {
+        "List<Float>": ("float", "F", "toFloatArray"),
+        "List<Integer>": ("int", "I", "toIntArray")
+}
+
 def parseTree(trees, names, level):
     result = ""
 
@@ -199,19 +328,60 @@ def translateFunc(methodData):
     method_desc = methodData["description"]
     methodName = cleanJavaName(method)
     args, extraparams = translateArgument(methodData["parametersSignature"], methodData["parameters"])
+    argnames = extraparams.split(", ") if extraparams else []
     if extraparams :
         extraparams = ", "+extraparams
 
+    bookkeeping = asyncopen = asyncclose = ""
+    handle = False
+    if method in SUBSCRIBE_METHODS:
+        undo, kept = SUBSCRIBE_METHODS[method]
+        handle = outtype == "String"
+        if handle:
+            asyncopen = "recordSubscriptionHandle("
+            asyncclose = ', "%s")' % undo
+        else:
+            undoargs = "".join([", " + argnames[i] for i in kept if i < len(argnames)])
+            bookkeeping = '\n        recordSubscription("%s"%s);' % (undo, undoargs)
+            asyncopen = "recordSubscription("
+            asyncclose = ', "%s"%s)' % (undo, undoargs)
+    elif method in UNSUBSCRIBE_METHODS:
+        bookkeeping = '\n        forgetSubscription("%s"%s);' % (method, extraparams)
+        asyncopen = "forgetSubscription("
+        asyncclose = ', "%s"%s)' % (method, extraparams)
+
     method_params = ""
     for param in methodData["parameters"]:
         method_params += "\n    * @param "+param["name"]+"  "+param["description"]
 
     if outtype == "void":
-        return TEMPLATE_VOID % locals()
+        asynctype = "Void"
+        sync = (TEMPLATE_VOID_TRACKED if bookkeeping else TEMPLATE_VOID) % locals()
     else:
+        asynctype = outtype
         if methodData["returnDescription"]:
             method_params += "\n    * @return "+methodData["returnDescription"]
-        return TEMPLATE_RETURN % locals()
+        if handle:
+            sync = TEMPLATE_HANDLE % locals()
+        else:
+            sync = (TEMPLATE_RETURN_TRACKED if bookkeeping else TEMPLATE_RETURN) % locals()
+        if outtype in PRIMITIVE_TYPE:
+            primtype, primsuffix, primconvert = PRIMITIVE_TYPE[outtype]
+            intoargs = primtype + "[] dst"
+            if args:
+                intoargs += ", " + args
+            sync += "\n" + TEMPLATE_PRIMITIVE % locals()
+    return sync + "\n" + TEMPLATE_ASYNC % locals()
+
+def translateEvents(module_name):
+    events = ""
+    imports = set()
+    for event_const, event_key, event_type, event_decoder, event_desc in KNOWN_EVENTS.get(module_name, ()):
+        events += TEMPLATE_EVENT % locals()
+        imports.add("ALEvent")
+        imports.add(event_decoder.split(".")[0])
+    event_imports = "".join(["import com.aldebaran.qimessaging.helpers.event.%s;\n" % name for name in sorted(imports)])
+    return events, event_imports
 
 def native(method):
     return "     " + method["returnSignature"] + " " + method["name"] +  method["parametersSignature"]
@@ -235,6 +405,7 @@ def generate_java(address):
 
         if module_name not in BLACKLIST_MODULES:
             content = ""
+            events, event_imports = translateEvents(module_name)
             meta = service.metaObject()
             desc = meta["description"]
             methods = meta["methods"]